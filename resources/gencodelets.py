@@ -0,0 +1,556 @@
+"""Generates the straight-line codelets of JTransforms:
+
+    src/edu/emory/mathcs/jtransforms/fft/DoubleFFTCodelets.java
+    src/edu/emory/mathcs/jtransforms/fft/FloatFFTCodelets.java
+    src/edu/emory/mathcs/jtransforms/dct/DoubleDCTCodelets.java
+    src/edu/emory/mathcs/jtransforms/dct/FloatDCTCodelets.java
+
+Usage (from the root of the project):
+
+    python resources/gencodelets.py
+
+Each transform is built as an expression DAG over the input values, with
+constant folding, hash-consing (common subexpression elimination) and dead
+code elimination, and is emitted as a sequence of assignments to local
+variables. The FFT is a decimation in time FFT that splits off the factor 4
+(except for n = 8), 2 or the smallest odd prime; the prime factors are
+computed directly, pairing the terms j and p-j. The real FFTs are the complex
+FFT of real input (or of Hermitian input for the inverse) with the zero and
+the redundant terms folded away. The DCT-II is Makhoul's algorithm, an n-point
+FFT of the reordered input followed by a twiddle, and the DCT-III is its
+transpose. The output depends only on this script, so running it again
+reproduces the committed sources byte for byte. Edit this script rather
+than the generated classes.
+"""
+import math
+import os
+from fractions import Fraction
+
+SIZES = list(range(2, 17)) + [18, 20, 24, 32]
+
+ROOT = os.path.join(os.path.dirname(os.path.abspath(__file__)), '..', 'src', 'edu', 'emory', 'mathcs')
+
+
+# ------------------------------------------------------------ expression DAG
+
+class Node(object):
+    __slots__ = ('op', 'a', 'b', 'c', 'id', 'name')
+
+    def __init__(self, op, a=None, b=None, c=None, name=None):
+        self.op = op
+        self.a = a
+        self.b = b
+        self.c = c
+        self.name = name
+
+
+class Dag(object):
+    """Nodes are hash-consed: building the same expression twice returns the
+    same node, which is what shares the common subexpressions."""
+
+    def __init__(self):
+        self.table = {}
+        self.nodes = []
+        self.zero = self._mk(('const', 0.0), lambda: Node('const', c=0.0))
+
+    def _mk(self, key, f):
+        n = self.table.get(key)
+        if n is None:
+            n = f()
+            n.id = len(self.nodes)
+            self.nodes.append(n)
+            self.table[key] = n
+        return n
+
+    def var(self, name):
+        return self._mk(('var', name), lambda: Node('var', name=name))
+
+    def const(self, v):
+        return self._mk(('const', v), lambda: Node('const', c=v))
+
+    def is0(self, x):
+        return x.op == 'const' and x.c == 0.0
+
+    def neg(self, x):
+        if x.op == 'const':
+            return self.const(-x.c) if x.c != 0.0 else x
+        if x.op == 'neg':
+            return x.a
+        if x.op == 'sub':
+            return self.sub(x.b, x.a)
+        return self._mk(('neg', x.id), lambda: Node('neg', a=x))
+
+    def add(self, x, y):
+        if self.is0(x):
+            return y
+        if self.is0(y):
+            return x
+        if y.op == 'neg':
+            return self.sub(x, y.a)
+        if x.op == 'neg':
+            return self.sub(y, x.a)
+        if x.id > y.id:
+            x, y = y, x
+        return self._mk(('add', x.id, y.id), lambda: Node('add', a=x, b=y))
+
+    def sub(self, x, y):
+        if self.is0(y):
+            return x
+        if self.is0(x):
+            return self.neg(y)
+        if x is y:
+            return self.zero
+        if y.op == 'neg':
+            return self.add(x, y.a)
+        if x.op == 'neg':
+            return self.neg(self.add(x.a, y))
+        return self._mk(('sub', x.id, y.id), lambda: Node('sub', a=x, b=y))
+
+    def mul(self, c, x):
+        """constant c times x; signs are moved out of the constants"""
+        c = snap(c)
+        if c == 0.0 or self.is0(x):
+            return self.zero
+        if c == 1.0:
+            return x
+        if c == -1.0:
+            return self.neg(x)
+        if x.op == 'neg':
+            return self.mul(-c, x.a)
+        if x.op == 'mul':
+            return self.mul(c * x.c, x.a)
+        if c < 0:
+            return self.neg(self.mul(-c, x))
+        key = ('mul', repr(c), x.id)
+        return self._mk(key, lambda: Node('mul', a=x, c=c))
+
+
+def snap(v):
+    for t in (0.0, 1.0, -1.0, 0.5, -0.5, 2.0, -2.0):
+        if abs(v - t) < 1e-15:
+            return t
+    return v
+
+
+def cis(num, den):
+    """exp(2*pi*i*num/den), exact at the multiples of pi/4"""
+    f = Fraction(num, den) % 1
+    if (f * 4).denominator == 1:
+        return [complex(1, 0), complex(0, 1), complex(-1, 0), complex(0, -1)][int(f * 4)]
+    if (f * 8).denominator == 1:
+        r = math.sqrt(0.5)
+        k = int(f * 8)
+        return complex([r, -r, -r, r][k // 2], [r, r, -r, -r][k // 2])
+    ang = 2 * math.pi * float(f)
+    return complex(math.cos(ang), math.sin(ang))
+
+
+# ----------------------------------------------------------------------- FFT
+# a complex value is a pair (re, im) of nodes
+
+def cadd(d, x, y):
+    return (d.add(x[0], y[0]), d.add(x[1], y[1]))
+
+
+def csub(d, x, y):
+    return (d.sub(x[0], y[0]), d.sub(x[1], y[1]))
+
+
+def cmulc(d, w, x):
+    """constant w times complex x"""
+    c, s = snap(w.real), snap(w.imag)
+    if s == 0.0:
+        return (d.mul(c, x[0]), d.mul(c, x[1]))
+    if c == 0.0:
+        return (d.mul(-s, x[1]), d.mul(s, x[0]))
+    if abs(abs(c) - abs(s)) < 1e-15:
+        # c*(1 +- i): (c*(xr -+ xi), c*(xi +- xr))
+        if (c > 0) == (s > 0):
+            return (d.mul(c, d.sub(x[0], x[1])), d.mul(c, d.add(x[1], x[0])))
+        return (d.mul(c, d.add(x[0], x[1])), d.mul(c, d.sub(x[1], x[0])))
+    return (d.sub(d.mul(c, x[0]), d.mul(s, x[1])), d.add(d.mul(c, x[1]), d.mul(s, x[0])))
+
+
+def smallest_factor(n):
+    if n % 4 == 0 and n != 8:
+        return 4
+    if n % 2 == 0:
+        return 2
+    p = 3
+    while n % p:
+        p += 2
+    return p
+
+
+def pdft(d, xs, sign):
+    """direct DFT of a prime number of points (or of 4 points)"""
+    p = len(xs)
+    if p == 1:
+        return list(xs)
+    if p == 2:
+        return [cadd(d, xs[0], xs[1]), csub(d, xs[0], xs[1])]
+    if p == 4:
+        a = cadd(d, xs[0], xs[2])
+        b = csub(d, xs[0], xs[2])
+        c = cadd(d, xs[1], xs[3])
+        e = csub(d, xs[1], xs[3])
+        je = cmulc(d, complex(0, sign), e)
+        return [cadd(d, a, c), cadd(d, b, je), csub(d, a, c), csub(d, b, je)]
+    h = (p - 1) // 2
+    t = [None] + [cadd(d, xs[j], xs[p - j]) for j in range(1, h + 1)]
+    u = [None] + [csub(d, xs[j], xs[p - j]) for j in range(1, h + 1)]
+    out = [None] * p
+    s0 = xs[0]
+    for j in range(1, h + 1):
+        s0 = cadd(d, s0, t[j])
+    out[0] = s0
+    for m in range(1, h + 1):
+        cr, ci = xs[0]
+        sr, si = d.zero, d.zero
+        for j in range(1, h + 1):
+            w = cis(sign * j * m, p)
+            cr = d.add(cr, d.mul(w.real, t[j][0]))
+            ci = d.add(ci, d.mul(w.real, t[j][1]))
+            sr = d.add(sr, d.mul(w.imag, u[j][1]))
+            si = d.add(si, d.mul(w.imag, u[j][0]))
+        out[m] = (d.sub(cr, sr), d.add(ci, si))
+        out[p - m] = (d.add(cr, sr), d.sub(ci, si))
+    return out
+
+
+def dft(d, xs, sign):
+    """decimation in time FFT; sign = -1 forward, +1 backward"""
+    n = len(xs)
+    if n == 1:
+        return list(xs)
+    p = smallest_factor(n)
+    if p == n:
+        return pdft(d, xs, sign)
+    m = n // p
+    subs = [dft(d, xs[r::p], sign) for r in range(p)]
+    out = [None] * n
+    for k1 in range(m):
+        ts = [cmulc(d, cis(sign * r * k1, n), subs[r][k1]) for r in range(p)]
+        ys = pdft(d, ts, sign)
+        for q in range(p):
+            out[k1 + m * q] = ys[q]
+    return out
+
+
+# ---------------------------------------------------------------- transforms
+# each builder returns (dag, loads, stores): loads are (variable, index) and
+# stores are (index, node)
+
+def at(base, k):
+    return base if k == 0 else '%s + %d' % (base, k)
+
+
+def idx(k):
+    return at('offa', k)
+
+
+def complex_codelet(n):
+    """forward FFT; the inverse swaps offr and offi"""
+    d = Dag()
+    xs = [(d.var('x%dr' % j), d.var('x%di' % j)) for j in range(n)]
+    ys = dft(d, xs, -1)
+    loads = []
+    for j in range(n):
+        loads.append(('x%dr' % j, at('offr', 2 * j)))
+        loads.append(('x%di' % j, at('offi', 2 * j)))
+    stores = []
+    for k in range(n):
+        stores.append((at('offr', 2 * k), ys[k][0]))
+        stores.append((at('offi', 2 * k), ys[k][1]))
+    return d, loads, stores
+
+
+def packed_positions(n):
+    """(position in the packed array, k, part) of the layout of realForward"""
+    pos = [(0, 0, 0)]
+    if n % 2 == 0:
+        pos.append((1, n // 2, 0))
+        for k in range(1, n // 2):
+            pos.append((2 * k, k, 0))
+            pos.append((2 * k + 1, k, 1))
+    else:
+        h = (n - 1) // 2
+        pos.append((1, h, 1))
+        for k in range(1, h + 1):
+            pos.append((2 * k, k, 0))
+            if 2 * k + 1 < n:
+                pos.append((2 * k + 1, k, 1))
+    return pos
+
+
+def real_forward_codelet(n):
+    d = Dag()
+    xs = [(d.var('x%d' % j), d.zero) for j in range(n)]
+    ys = dft(d, xs, -1)
+    loads = [('x%d' % j, idx(j)) for j in range(n)]
+    stores = sorted([(p, ys[k][part]) for p, k, part in packed_positions(n)], key=lambda s: s[0])
+    return d, loads, [(idx(p), v) for p, v in stores]
+
+
+def real_inverse_codelet(n):
+    d = Dag()
+    X = [[d.zero, d.zero] for k in range(n)]
+    loads = []
+    for p, k, part in packed_positions(n):
+        v = d.var('x%d' % p)
+        loads.append(('x%d' % p, idx(p)))
+        X[k][part] = v
+    for k in range(1, (n + 1) // 2):
+        X[n - k] = [X[k][0], d.neg(X[k][1])]
+    ys = dft(d, [tuple(x) for x in X], 1)
+    loads.sort(key=lambda l: int(l[0][1:]))
+    return d, loads, [(idx(j), ys[j][0]) for j in range(n)]
+
+
+def dct2_codelet(n):
+    """y_k = sum_j x_j cos(pi*(2j+1)*k/(2n)) (Makhoul)"""
+    d = Dag()
+    v = [None] * n
+    for j in range((n + 1) // 2):
+        v[j] = (d.var('x%d' % (2 * j)), d.zero)
+    for j in range(n // 2):
+        v[n - 1 - j] = (d.var('x%d' % (2 * j + 1)), d.zero)
+    V = dft(d, v, -1)
+    stores = []
+    for k in range(n):
+        w = cis(-k, 4 * n)
+        stores.append((idx(k), d.sub(d.mul(w.real, V[k][0]), d.mul(w.imag, V[k][1]))))
+    return d, [('x%d' % j, idx(j)) for j in range(n)], stores
+
+
+def dct3_codelet(n):
+    """x_m = sum_k y_k cos(pi*(2m+1)*k/(2n))"""
+    d = Dag()
+    y = [d.var('x%d' % k) for k in range(n)] + [d.zero]
+    V = []
+    for k in range(n):
+        w = cis(k, 4 * n) * (0.5 if k > 0 else 1.0)
+        # (y_k - i y_{n-k}) * w
+        V.append(cmulc(d, w, (y[k], d.neg(y[n - k]))))
+    v = dft(d, V, 1)
+    stores = [None] * n
+    for j in range((n + 1) // 2):
+        stores[2 * j] = (idx(2 * j), v[j][0])
+    for j in range(n // 2):
+        stores[2 * j + 1] = (idx(2 * j + 1), v[n - 1 - j][0])
+    return d, [('x%d' % j, idx(j)) for j in range(n)], stores
+
+
+# ---------------------------------------------------------------------- Java
+
+def jlit(c, t):
+    s = repr(float(c))
+    if 'e' in s or 'E' in s:
+        s = '%.17g' % c
+        if '.' not in s and 'e' not in s:
+            s += '.0'
+    return s + ('f' if t == 'float' else '')
+
+
+def emit(d, loads, stores, t, ind):
+    """Java statements: the loads, one temporary per reachable operation in
+    dependency order, and the stores."""
+    lines = []
+    for name, i in loads:
+        lines.append('%s%s %s = a[%s];' % (ind, t, name, i))
+    order = []
+    seen = set()
+
+    def visit(x):
+        if x.id in seen or x.op in ('var', 'const'):
+            return
+        seen.add(x.id)
+        for y in (x.a, x.b):
+            if y is not None:
+                visit(y)
+        order.append(x)
+    for i, node in stores:
+        visit(node)
+    names = {}
+
+    def ref(x):
+        if x.op == 'var':
+            return x.name
+        if x.op == 'const':
+            return jlit(x.c, t)
+        return names[x.id]
+    k = 0
+    for x in order:
+        if x.op == 'neg':
+            expr = '-' + ref(x.a)
+        elif x.op == 'add':
+            expr = '%s + %s' % (ref(x.a), ref(x.b))
+        elif x.op == 'sub':
+            expr = '%s - %s' % (ref(x.a), ref(x.b))
+        elif x.op == 'mul':
+            expr = '%s * %s' % (jlit(x.c, t), ref(x.a))
+        names[x.id] = 't%d' % k
+        lines.append('%s%s t%d = %s;' % (ind, t, k, expr))
+        k += 1
+    for i, node in stores:
+        lines.append('%sa[%s] = %s;' % (ind, i, ref(node)))
+    return lines
+
+
+KINDS = {
+    'cf': (complex_codelet, '(%s[] a, int offr, int offi)'),
+    'rf': (real_forward_codelet, '(%s[] a, int offa)'),
+    'rb': (real_inverse_codelet, '(%s[] a, int offa)'),
+    'dct2_': (dct2_codelet, '(%s[] a, int offa)'),
+    'dct3_': (dct3_codelet, '(%s[] a, int offa)'),
+}
+
+
+def method(kind, n, t):
+    builder, sig = KINDS[kind]
+    d, loads, stores = builder(n)
+    out = ['    static void %s%d%s {' % (kind, n, sig % t)]
+    out += emit(d, loads, stores, t, '        ')
+    out.append('    }')
+    return out
+
+
+def dispatch(name, kernel, callargs, t, doc):
+    out = doc + ['    static void %s(int n, %s[] a, int offa) {' % (name, t),
+                 '        switch (n) {']
+    for n in SIZES:
+        out.append('        case %d:' % n)
+        out.append('            %s%d(a, %s);' % (kernel, n, callargs))
+        out.append('            break;')
+    out.append('        default:')
+    out.append('            throw new IllegalArgumentException("n = " + n + " is not supported");')
+    out += ['        }', '    }', '']
+    return out
+
+
+def supported(what):
+    out = ['    /**',
+           '     * Returns true if there is a codelet for %s of size n.' % what,
+           '     * ',
+           '     * @param n',
+           '     *            size of the transform',
+           '     * @return true if there is a codelet for the given size',
+           '     */',
+           '    static boolean isSupported(int n) {',
+           '        switch (n) {']
+    for n in SIZES:
+        out.append('        case %d:' % n)
+    out += ['            return true;', '        default:', '            return false;', '        }', '    }', '']
+    return out
+
+
+def header():
+    f = open(os.path.join(ROOT, 'utils', 'PlanCache.java'), 'rb')
+    s = f.read().decode('ascii')
+    f.close()
+    return s.split('package ')[0].replace('\r\n', '\n')
+
+
+def write(path, lines):
+    src = header() + '\n'.join(lines) + '\n'
+    f = open(path, 'wb')
+    f.write(src.replace('\n', '\r\n').encode('ascii'))
+    f.close()
+
+
+def fft_class(t):
+    T = 'Double' if t == 'double' else 'Float'
+    cls = T + 'FFTCodelets'
+    L = ['package edu.emory.mathcs.jtransforms.fft;', '',
+         '/**',
+         ' * Straight-line kernels computing FFTs of small sizes (used by',
+         ' * {@link %sFFT_1D}). Every kernel loads its input into local variables,' % T,
+         ' * evaluates the transform with all twiddle factors folded into constants and',
+         ' * common subexpressions shared, and then stores the result, so there are no',
+         ' * loops, no tables and no index arithmetic. The kernels are generated by',
+         ' * resources/gencodelets.py. Sizes whose kernels would exceed the bytecode',
+         ' * size that the JIT is willing to compile (8000 bytes) are left to the',
+         ' * table-driven plans.',
+         ' * ',
+         ' */',
+         'final class %s {' % cls, '',
+         '    private %s() {' % cls, '    }', '']
+    L += supported('the complex and the real FFT')
+
+    def doc(s, extra):
+        return ['    /**', '     * %s' % s] + extra + [
+            '     * ',
+            '     * @param n',
+            '     *            size of the transform',
+            '     * @param a',
+            '     *            data to transform',
+            '     * @param offa',
+            '     *            index of the first element in array <code>a</code>',
+            '     */']
+    L += dispatch('complexForward', 'cf', 'offa, offa + 1', t,
+                  doc('Computes the forward DFT of n complex numbers.', []))
+    L += dispatch('complexInverse', 'cf', 'offa + 1, offa', t,
+                  doc('Computes the unscaled inverse DFT of n complex numbers. The inverse',
+                      ['     * transform is the forward transform with the real and the imaginary',
+                       '     * parts swapped.']))
+    L += dispatch('realForward', 'rf', 'offa', t,
+                  doc('Computes the forward DFT of n real numbers. The layout of the output',
+                      ['     * is the same as in <code>%sFFT_1D.realForward</code>.' % T]))
+    L += dispatch('realInverse', 'rb', 'offa', t,
+                  doc('Computes the unscaled inverse DFT of n real numbers. The layout of',
+                      ['     * the input is the same as in <code>%sFFT_1D.realInverse</code>.' % T]))
+    for kind in ('cf', 'rf', 'rb'):
+        for n in SIZES:
+            L += method(kind, n, t)
+            L.append('')
+    L.pop()
+    L.append('}')
+    write(os.path.join(ROOT, 'jtransforms', 'fft', '%s.java' % cls), L)
+
+
+def dct_class(t):
+    T = 'Double' if t == 'double' else 'Float'
+    cls = T + 'DCTCodelets'
+    L = ['package edu.emory.mathcs.jtransforms.dct;', '',
+         '/**',
+         ' * Straight-line kernels computing DCTs of small sizes (used by',
+         ' * {@link %sDCT_1D}, and through it by <code>%sDST_1D</code>). The DCT-II' % (T, T),
+         ' * is computed with Makhoul\'s algorithm, i.e. as an n-point FFT of the',
+         ' * reordered input followed by a twiddle, and the DCT-III is its transpose.',
+         ' * The FFT is fully unrolled, so there are no loops, no tables and no',
+         ' * temporary arrays. The kernels are generated by resources/gencodelets.py.',
+         ' * ',
+         ' */',
+         'final class %s {' % cls, '',
+         '    private %s() {' % cls, '    }', '']
+    L += supported('the DCT')
+
+    def doc(s, f):
+        return ['    /**', '     * %s' % s, '     * ', '     * <pre>', '     * %s' % f, '     * </pre>',
+                '     * ',
+                '     * @param n',
+                '     *            size of the transform',
+                '     * @param a',
+                '     *            data to transform',
+                '     * @param offa',
+                '     *            index of the first element in array <code>a</code>',
+                '     */']
+    L += dispatch('forward', 'dct2_', 'offa', t,
+                  doc('Computes the unscaled DCT-II of n real numbers:',
+                      'y[k] = sum_j x[j] * cos(pi * (2 * j + 1) * k / (2 * n)), 0&lt;=k&lt;n'))
+    L += dispatch('inverse', 'dct3_', 'offa', t,
+                  doc('Computes the unscaled DCT-III (the transpose of the DCT-II) of n real\n     * numbers:',
+                      'x[j] = sum_k y[k] * cos(pi * (2 * j + 1) * k / (2 * n)), 0&lt;=j&lt;n'))
+    for kind in ('dct2_', 'dct3_'):
+        for n in SIZES:
+            L += method(kind, n, t)
+            L.append('')
+    L.pop()
+    L.append('}')
+    write(os.path.join(ROOT, 'jtransforms', 'dct', '%s.java' % cls), L)
+
+
+if __name__ == '__main__':
+    for t in ('double', 'float'):
+        fft_class(t)
+        dct_class(t)
@@ -0,0 +1,7452 @@
+/* ***** BEGIN LICENSE BLOCK *****
+ * Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License
+ * for the specific language governing rights and limitations under the
+ * License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is
+ * Piotr Wendykier, Emory University.
+ * Portions created by the Initial Developer are Copyright (C) 2007-2009
+ * the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or
+ * the GNU Lesser General Public License Version 2.1 or later (the "LGPL"),
+ * in which case the provisions of the GPL or the LGPL are applicable instead
+ * of those above. If you wish to allow use of your version of this file only
+ * under the terms of either the GPL or the LGPL, and not to allow others to
+ * use your version of this file under the terms of the MPL, indicate your
+ * decision by deleting the provisions above and replace them with the notice
+ * and other provisions required by the GPL or the LGPL. If you do not delete
+ * the provisions above, a recipient may use your version of this file under
+ * the terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK ***** */
+package edu.emory.mathcs.jtransforms.dct;
+
+/**
+ * Straight-line kernels computing DCTs of small sizes (used by
+ * {@link DoubleDCT_1D}, and through it by <code>DoubleDST_1D</code>). The DCT-II
+ * is computed with Makhoul's algorithm, i.e. as an n-point FFT of the
+ * reordered input followed by a twiddle, and the DCT-III is its transpose.
+ * The FFT is fully unrolled, so there are no loops, no tables and no
+ * temporary arrays. The kernels are generated by resources/gencodelets.py.
+ * 
+ */
+final class DoubleDCTCodelets {
+
+    private DoubleDCTCodelets() {
+    }
+
+    /**
+     * Returns true if there is a codelet for the DCT of size n.
+     * 
+     * @param n
+     *            size of the transform
+     * @return true if there is a codelet for the given size
+     */
+    static boolean isSupported(int n) {
+        switch (n) {
+        case 2:
+        case 3:
+        case 4:
+        case 5:
+        case 6:
+        case 7:
+        case 8:
+        case 9:
+        case 10:
+        case 11:
+        case 12:
+        case 13:
+        case 14:
+        case 15:
+        case 16:
+        case 18:
+        case 20:
+        case 24:
+        case 32:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Computes the unscaled DCT-II of n real numbers:
+     * 
+     * <pre>
+     * y[k] = sum_j x[j] * cos(pi * (2 * j + 1) * k / (2 * n)), 0&lt;=k&lt;n
+     * </pre>
+     * 
+     * @param n
+     *            size of the transform
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element in array <code>a</code>
+     */
+    static void forward(int n, double[] a, int offa) {
+        switch (n) {
+        case 2:
+            dct2_2(a, offa);
+            break;
+        case 3:
+            dct2_3(a, offa);
+            break;
+        case 4:
+            dct2_4(a, offa);
+            break;
+        case 5:
+            dct2_5(a, offa);
+            break;
+        case 6:
+            dct2_6(a, offa);
+            break;
+        case 7:
+            dct2_7(a, offa);
+            break;
+        case 8:
+            dct2_8(a, offa);
+            break;
+        case 9:
+            dct2_9(a, offa);
+            break;
+        case 10:
+            dct2_10(a, offa);
+            break;
+        case 11:
+            dct2_11(a, offa);
+            break;
+        case 12:
+            dct2_12(a, offa);
+            break;
+        case 13:
+            dct2_13(a, offa);
+            break;
+        case 14:
+            dct2_14(a, offa);
+            break;
+        case 15:
+            dct2_15(a, offa);
+            break;
+        case 16:
+            dct2_16(a, offa);
+            break;
+        case 18:
+            dct2_18(a, offa);
+            break;
+        case 20:
+            dct2_20(a, offa);
+            break;
+        case 24:
+            dct2_24(a, offa);
+            break;
+        case 32:
+            dct2_32(a, offa);
+            break;
+        default:
+            throw new IllegalArgumentException("n = " + n + " is not supported");
+        }
+    }
+
+    /**
+     * Computes the unscaled DCT-III (the transpose of the DCT-II) of n real
+     * numbers:
+     * 
+     * <pre>
+     * x[j] = sum_k y[k] * cos(pi * (2 * j + 1) * k / (2 * n)), 0&lt;=j&lt;n
+     * </pre>
+     * 
+     * @param n
+     *            size of the transform
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element in array <code>a</code>
+     */
+    static void inverse(int n, double[] a, int offa) {
+        switch (n) {
+        case 2:
+            dct3_2(a, offa);
+            break;
+        case 3:
+            dct3_3(a, offa);
+            break;
+        case 4:
+            dct3_4(a, offa);
+            break;
+        case 5:
+            dct3_5(a, offa);
+            break;
+        case 6:
+            dct3_6(a, offa);
+            break;
+        case 7:
+            dct3_7(a, offa);
+            break;
+        case 8:
+            dct3_8(a, offa);
+            break;
+        case 9:
+            dct3_9(a, offa);
+            break;
+        case 10:
+            dct3_10(a, offa);
+            break;
+        case 11:
+            dct3_11(a, offa);
+            break;
+        case 12:
+            dct3_12(a, offa);
+            break;
+        case 13:
+            dct3_13(a, offa);
+            break;
+        case 14:
+            dct3_14(a, offa);
+            break;
+        case 15:
+            dct3_15(a, offa);
+            break;
+        case 16:
+            dct3_16(a, offa);
+            break;
+        case 18:
+            dct3_18(a, offa);
+            break;
+        case 20:
+            dct3_20(a, offa);
+            break;
+        case 24:
+            dct3_24(a, offa);
+            break;
+        case 32:
+            dct3_32(a, offa);
+            break;
+        default:
+            throw new IllegalArgumentException("n = " + n + " is not supported");
+        }
+    }
+
+    static void dct2_2(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double t0 = x0 + x1;
+        double t1 = x0 - x1;
+        double t2 = 0.7071067811865476 * t1;
+        a[offa] = t0;
+        a[offa + 1] = t2;
+    }
+
+    static void dct2_3(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double t0 = x2 + x1;
+        double t1 = x0 + t0;
+        double t2 = 0.5 * t0;
+        double t3 = x0 - t2;
+        double t4 = 0.8660254037844384 * t3;
+        double t5 = x2 - x1;
+        double t6 = 0.4330127018922192 * t5;
+        double t7 = t4 - t6;
+        double t8 = 0.5 * t3;
+        double t9 = 0.7499999999999997 * t5;
+        double t10 = t8 + t9;
+        a[offa] = t1;
+        a[offa + 1] = t7;
+        a[offa + 2] = t10;
+    }
+
+    static void dct2_4(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double t0 = x0 + x3;
+        double t1 = x2 + x1;
+        double t2 = t0 + t1;
+        double t3 = x0 - x3;
+        double t4 = 0.9238795325112865 * t3;
+        double t5 = x1 - x2;
+        double t6 = 0.3826834323650904 * t5;
+        double t7 = t4 + t6;
+        double t8 = t0 - t1;
+        double t9 = 0.7071067811865476 * t8;
+        double t10 = 0.38268343236509 * t3;
+        double t11 = x2 - x1;
+        double t12 = 0.9238795325112866 * t11;
+        double t13 = t10 + t12;
+        a[offa] = t2;
+        a[offa + 1] = t7;
+        a[offa + 2] = t9;
+        a[offa + 3] = t13;
+    }
+
+    static void dct2_5(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double t0 = x4 + x3;
+        double t1 = x2 + x1;
+        double t2 = x0 + t1;
+        double t3 = t0 + t2;
+        double t4 = 0.30901699437494723 * t1;
+        double t5 = x0 + t4;
+        double t6 = 0.8090169943749476 * t0;
+        double t7 = t5 - t6;
+        double t8 = 0.9510565162951535 * t7;
+        double t9 = x2 - x1;
+        double t10 = 0.9510565162951536 * t9;
+        double t11 = x4 - x3;
+        double t12 = 0.587785252292473 * t11;
+        double t13 = t10 + t12;
+        double t14 = 0.3090169943749476 * t13;
+        double t15 = t8 - t14;
+        double t16 = 0.8090169943749476 * t1;
+        double t17 = x0 - t16;
+        double t18 = 0.30901699437494745 * t0;
+        double t19 = t17 + t18;
+        double t20 = 0.8090169943749473 * t19;
+        double t21 = 0.9510565162951535 * t11;
+        double t22 = 0.587785252292473 * t9;
+        double t23 = t21 - t22;
+        double t24 = 0.5877852522924734 * t23;
+        double t25 = t20 + t24;
+        double t26 = 0.5877852522924729 * t19;
+        double t27 = t22 - t21;
+        double t28 = 0.8090169943749476 * t27;
+        double t29 = t26 + t28;
+        double t30 = 0.30901699437494723 * t7;
+        double t31 = 0.9510565162951536 * t13;
+        double t32 = t30 + t31;
+        a[offa] = t3;
+        a[offa + 1] = t15;
+        a[offa + 2] = t25;
+        a[offa + 3] = t29;
+        a[offa + 4] = t32;
+    }
+
+    static void dct2_6(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double t0 = x4 + x3;
+        double t1 = x0 + t0;
+        double t2 = x1 + x5;
+        double t3 = x2 + t2;
+        double t4 = t1 + t3;
+        double t5 = 0.5 * t0;
+        double t6 = x0 - t5;
+        double t7 = 0.5 * t2;
+        double t8 = x2 - t7;
+        double t9 = 0.5 * t8;
+        double t10 = x5 - x1;
+        double t11 = 0.7499999999999997 * t10;
+        double t12 = t9 - t11;
+        double t13 = t6 + t12;
+        double t14 = 0.9659258262890683 * t13;
+        double t15 = x4 - x3;
+        double t16 = 0.8660254037844384 * t15;
+        double t17 = 0.4330127018922192 * t10;
+        double t18 = 0.8660254037844386 * t8;
+        double t19 = t17 + t18;
+        double t20 = t16 + t19;
+        double t21 = 0.2588190451025207 * t20;
+        double t22 = t14 - t21;
+        double t23 = 0.7499999999999996 * t10;
+        double t24 = t23 - t9;
+        double t25 = t6 + t24;
+        double t26 = 0.8660254037844384 * t25;
+        double t27 = 0.8660254037844384 * t8;
+        double t28 = t17 + t27;
+        double t29 = t16 - t28;
+        double t30 = 0.5 * t29;
+        double t31 = t26 + t30;
+        double t32 = t1 - t3;
+        double t33 = 0.7071067811865476 * t32;
+        double t34 = t6 - t12;
+        double t35 = 0.5 * t34;
+        double t36 = t19 - t16;
+        double t37 = 0.8660254037844386 * t36;
+        double t38 = t35 + t37;
+        double t39 = t6 - t24;
+        double t40 = 0.2588190451025203 * t39;
+        double t41 = t16 + t28;
+        double t42 = 0.9659258262890684 * t41;
+        double t43 = t40 + t42;
+        a[offa] = t4;
+        a[offa + 1] = t22;
+        a[offa + 2] = t31;
+        a[offa + 3] = t33;
+        a[offa + 4] = t38;
+        a[offa + 5] = t43;
+    }
+
+    static void dct2_7(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double t0 = x6 + x5;
+        double t1 = x4 + x3;
+        double t2 = x2 + x1;
+        double t3 = x0 + t2;
+        double t4 = t1 + t3;
+        double t5 = t0 + t4;
+        double t6 = 0.6234898018587334 * t2;
+        double t7 = x0 + t6;
+        double t8 = 0.2225209339563146 * t1;
+        double t9 = t7 - t8;
+        double t10 = 0.9009688679024191 * t0;
+        double t11 = t9 - t10;
+        double t12 = 0.9749279121818235 * t11;
+        double t13 = x2 - x1;
+        double t14 = 0.7818314824680299 * t13;
+        double t15 = x4 - x3;
+        double t16 = 0.9749279121818236 * t15;
+        double t17 = t14 + t16;
+        double t18 = x6 - x5;
+        double t19 = 0.433883739117558 * t18;
+        double t20 = t17 + t19;
+        double t21 = 0.22252093395631464 * t20;
+        double t22 = t12 - t21;
+        double t23 = 0.2225209339563146 * t2;
+        double t24 = x0 - t23;
+        double t25 = 0.900968867902419 * t1;
+        double t26 = t24 - t25;
+        double t27 = 0.6234898018587336 * t0;
+        double t28 = t26 + t27;
+        double t29 = 0.900968867902419 * t28;
+        double t30 = 0.43388373911755823 * t15;
+        double t31 = 0.9749279121818236 * t13;
+        double t32 = t30 - t31;
+        double t33 = 0.7818314824680298 * t18;
+        double t34 = t32 + t33;
+        double t35 = 0.43388373911755834 * t34;
+        double t36 = t29 + t35;
+        double t37 = 0.9009688679024191 * t2;
+        double t38 = x0 - t37;
+        double t39 = 0.6234898018587336 * t1;
+        double t40 = t38 + t39;
+        double t41 = 0.2225209339563146 * t0;
+        double t42 = t40 - t41;
+        double t43 = 0.7818314824680297 * t42;
+        double t44 = 0.7818314824680298 * t15;
+        double t45 = 0.433883739117558 * t13;
+        double t46 = t44 - t45;
+        double t47 = 0.9749279121818236 * t18;
+        double t48 = t46 - t47;
+        double t49 = 0.6234898018587337 * t48;
+        double t50 = t43 + t49;
+        double t51 = 0.6234898018587334 * t42;
+        double t52 = t47 - t46;
+        double t53 = 0.7818314824680299 * t52;
+        double t54 = t51 + t53;
+        double t55 = 0.43388373911755795 * t28;
+        double t56 = 0.9009688679024193 * t34;
+        double t57 = t55 - t56;
+        double t58 = 0.22252093395631423 * t11;
+        double t59 = 0.9749279121818236 * t20;
+        double t60 = t58 + t59;
+        a[offa] = t5;
+        a[offa + 1] = t22;
+        a[offa + 2] = t36;
+        a[offa + 3] = t50;
+        a[offa + 4] = t54;
+        a[offa + 5] = t57;
+        a[offa + 6] = t60;
+    }
+
+    static void dct2_8(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double t0 = x0 + x7;
+        double t1 = x4 + x3;
+        double t2 = t0 + t1;
+        double t3 = x2 + x5;
+        double t4 = x6 + x1;
+        double t5 = t3 + t4;
+        double t6 = t2 + t5;
+        double t7 = x0 - x7;
+        double t8 = x2 - x5;
+        double t9 = x1 - x6;
+        double t10 = t8 + t9;
+        double t11 = 0.7071067811865476 * t10;
+        double t12 = t7 + t11;
+        double t13 = 0.9807852804032303 * t12;
+        double t14 = x3 - x4;
+        double t15 = t9 - t8;
+        double t16 = 0.7071067811865476 * t15;
+        double t17 = t14 + t16;
+        double t18 = 0.19509032201612872 * t17;
+        double t19 = t13 + t18;
+        double t20 = t0 - t1;
+        double t21 = 0.9238795325112865 * t20;
+        double t22 = t4 - t3;
+        double t23 = 0.3826834323650904 * t22;
+        double t24 = t21 + t23;
+        double t25 = x6 - x1;
+        double t26 = t8 - t25;
+        double t27 = 0.7071067811865476 * t26;
+        double t28 = t7 - t27;
+        double t29 = 0.8314696123025452 * t28;
+        double t30 = x4 - x3;
+        double t31 = t8 + t25;
+        double t32 = 0.7071067811865476 * t31;
+        double t33 = t30 - t32;
+        double t34 = 0.5555702330196022 * t33;
+        double t35 = t29 + t34;
+        double t36 = t2 - t5;
+        double t37 = 0.7071067811865476 * t36;
+        double t38 = t7 - t11;
+        double t39 = 0.5555702330196018 * t38;
+        double t40 = t14 - t16;
+        double t41 = 0.8314696123025455 * t40;
+        double t42 = t39 + t41;
+        double t43 = 0.38268343236509 * t20;
+        double t44 = t3 - t4;
+        double t45 = 0.9238795325112866 * t44;
+        double t46 = t43 + t45;
+        double t47 = t7 + t27;
+        double t48 = 0.1950903220161283 * t47;
+        double t49 = t30 + t32;
+        double t50 = 0.9807852804032304 * t49;
+        double t51 = t48 + t50;
+        a[offa] = t6;
+        a[offa + 1] = t19;
+        a[offa + 2] = t24;
+        a[offa + 3] = t35;
+        a[offa + 4] = t37;
+        a[offa + 5] = t42;
+        a[offa + 6] = t46;
+        a[offa + 7] = t51;
+    }
+
+    static void dct2_9(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double t0 = x6 + x5;
+        double t1 = x0 + t0;
+        double t2 = x8 + x3;
+        double t3 = x2 + t2;
+        double t4 = x1 + x7;
+        double t5 = x4 + t4;
+        double t6 = t3 + t5;
+        double t7 = t1 + t6;
+        double t8 = 0.5 * t0;
+        double t9 = x0 - t8;
+        double t10 = 0.5 * t2;
+        double t11 = x2 - t10;
+        double t12 = 0.7660444431189778 * t11;
+        double t13 = x8 - x3;
+        double t14 = 0.5566703992264194 * t13;
+        double t15 = t12 - t14;
+        double t16 = 0.5 * t4;
+        double t17 = x4 - t16;
+        double t18 = 0.17364817766692997 * t17;
+        double t19 = x7 - x1;
+        double t20 = 0.852868531952443 * t19;
+        double t21 = t18 - t20;
+        double t22 = t15 + t21;
+        double t23 = t9 + t22;
+        double t24 = 0.984807753012208 * t23;
+        double t25 = x6 - x5;
+        double t26 = 0.8660254037844384 * t25;
+        double t27 = 0.663413948168938 * t13;
+        double t28 = 0.6427876096865396 * t11;
+        double t29 = t27 + t28;
+        double t30 = 0.1503837331804349 * t19;
+        double t31 = 0.9848077530122081 * t17;
+        double t32 = t30 + t31;
+        double t33 = t29 + t32;
+        double t34 = t26 + t33;
+        double t35 = 0.1736481776669304 * t34;
+        double t36 = t24 - t35;
+        double t37 = 0.17364817766692997 * t11;
+        double t38 = 0.852868531952443 * t13;
+        double t39 = t37 + t38;
+        double t40 = 0.2961981327260237 * t19;
+        double t41 = 0.9396926207859084 * t17;
+        double t42 = t40 - t41;
+        double t43 = t39 + t42;
+        double t44 = t9 + t43;
+        double t45 = 0.9396926207859081 * t44;
+        double t46 = 0.1503837331804349 * t13;
+        double t47 = 0.9848077530122081 * t11;
+        double t48 = t46 - t47;
+        double t49 = 0.8137976813493735 * t19;
+        double t50 = 0.34202014332566866 * t17;
+        double t51 = t49 + t50;
+        double t52 = t48 - t51;
+        double t53 = t26 + t52;
+        double t54 = 0.34202014332566943 * t53;
+        double t55 = t45 + t54;
+        double t56 = 0.5 * t6;
+        double t57 = t1 - t56;
+        double t58 = 0.8660254037844384 * t57;
+        double t59 = t3 - t5;
+        double t60 = 0.4330127018922192 * t59;
+        double t61 = t58 - t60;
+        double t62 = 0.5 * t22;
+        double t63 = t9 - t62;
+        double t64 = t32 - t29;
+        double t65 = 0.8660254037844384 * t64;
+        double t66 = t63 + t65;
+        double t67 = 0.7660444431189778 * t66;
+        double t68 = 0.5 * t33;
+        double t69 = t68 - t26;
+        double t70 = t15 - t21;
+        double t71 = 0.8660254037844384 * t70;
+        double t72 = t69 - t71;
+        double t73 = 0.6427876096865396 * t72;
+        double t74 = t67 + t73;
+        double t75 = 0.5 * t43;
+        double t76 = t9 - t75;
+        double t77 = t48 + t51;
+        double t78 = 0.8660254037844384 * t77;
+        double t79 = t76 + t78;
+        double t80 = 0.6427876096865393 * t79;
+        double t81 = 0.5 * t52;
+        double t82 = t26 - t81;
+        double t83 = t39 - t42;
+        double t84 = 0.8660254037844384 * t83;
+        double t85 = t82 - t84;
+        double t86 = 0.7660444431189781 * t85;
+        double t87 = t80 + t86;
+        double t88 = 0.5 * t57;
+        double t89 = 0.7499999999999997 * t59;
+        double t90 = t88 + t89;
+        double t91 = t63 - t65;
+        double t92 = 0.342020143325669 * t91;
+        double t93 = t69 + t71;
+        double t94 = 0.9396926207859083 * t93;
+        double t95 = t92 + t94;
+        double t96 = t76 - t78;
+        double t97 = 0.17364817766692997 * t96;
+        double t98 = t82 + t84;
+        double t99 = 0.9848077530122081 * t98;
+        double t100 = t97 + t99;
+        a[offa] = t7;
+        a[offa + 1] = t36;
+        a[offa + 2] = t55;
+        a[offa + 3] = t61;
+        a[offa + 4] = t74;
+        a[offa + 5] = t87;
+        a[offa + 6] = t90;
+        a[offa + 7] = t95;
+        a[offa + 8] = t100;
+    }
+
+    static void dct2_10(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double t0 = x8 + x7;
+        double t1 = x4 + x3;
+        double t2 = x0 + t1;
+        double t3 = t0 + t2;
+        double t4 = x5 + x9;
+        double t5 = x6 + x1;
+        double t6 = x2 + t5;
+        double t7 = t4 + t6;
+        double t8 = t3 + t7;
+        double t9 = 0.30901699437494723 * t1;
+        double t10 = x0 + t9;
+        double t11 = 0.8090169943749476 * t0;
+        double t12 = t10 - t11;
+        double t13 = 0.30901699437494723 * t5;
+        double t14 = x2 + t13;
+        double t15 = 0.8090169943749476 * t4;
+        double t16 = t14 - t15;
+        double t17 = 0.8090169943749473 * t16;
+        double t18 = x6 - x1;
+        double t19 = 0.9510565162951536 * t18;
+        double t20 = x9 - x5;
+        double t21 = 0.587785252292473 * t20;
+        double t22 = t19 + t21;
+        double t23 = 0.5877852522924734 * t22;
+        double t24 = t17 - t23;
+        double t25 = t12 + t24;
+        double t26 = 0.9876883405951377 * t25;
+        double t27 = x4 - x3;
+        double t28 = 0.9510565162951536 * t27;
+        double t29 = x8 - x7;
+        double t30 = 0.587785252292473 * t29;
+        double t31 = t28 + t30;
+        double t32 = 0.8090169943749473 * t22;
+        double t33 = 0.5877852522924734 * t16;
+        double t34 = t32 + t33;
+        double t35 = t31 + t34;
+        double t36 = 0.15643446504023112 * t35;
+        double t37 = t26 - t36;
+        double t38 = 0.8090169943749476 * t1;
+        double t39 = x0 - t38;
+        double t40 = 0.30901699437494745 * t0;
+        double t41 = t39 + t40;
+        double t42 = 0.8090169943749476 * t5;
+        double t43 = x2 - t42;
+        double t44 = 0.30901699437494745 * t4;
+        double t45 = t43 + t44;
+        double t46 = 0.30901699437494723 * t45;
+        double t47 = 0.9510565162951535 * t20;
+        double t48 = 0.587785252292473 * t18;
+        double t49 = t47 - t48;
+        double t50 = 0.9510565162951536 * t49;
+        double t51 = t46 + t50;
+        double t52 = t41 + t51;
+        double t53 = 0.9510565162951535 * t52;
+        double t54 = 0.9510565162951535 * t29;
+        double t55 = 0.587785252292473 * t27;
+        double t56 = t54 - t55;
+        double t57 = 0.30901699437494723 * t49;
+        double t58 = 0.9510565162951536 * t45;
+        double t59 = t57 - t58;
+        double t60 = t56 + t59;
+        double t61 = 0.3090169943749476 * t60;
+        double t62 = t53 + t61;
+        double t63 = t48 - t47;
+        double t64 = 0.9510565162951535 * t63;
+        double t65 = 0.30901699437494756 * t45;
+        double t66 = t64 - t65;
+        double t67 = t41 + t66;
+        double t68 = 0.8910065241883678 * t67;
+        double t69 = t55 - t54;
+        double t70 = 0.30901699437494756 * t63;
+        double t71 = 0.9510565162951535 * t45;
+        double t72 = t70 + t71;
+        double t73 = t69 - t72;
+        double t74 = 0.45399049973954697 * t73;
+        double t75 = t68 + t74;
+        double t76 = 0.587785252292473 * t22;
+        double t77 = 0.8090169943749476 * t16;
+        double t78 = t76 - t77;
+        double t79 = t12 + t78;
+        double t80 = 0.8090169943749473 * t79;
+        double t81 = 0.8090169943749476 * t22;
+        double t82 = 0.587785252292473 * t16;
+        double t83 = t81 + t82;
+        double t84 = t31 - t83;
+        double t85 = 0.5877852522924734 * t84;
+        double t86 = t80 + t85;
+        double t87 = t3 - t7;
+        double t88 = 0.7071067811865476 * t87;
+        double t89 = t12 - t24;
+        double t90 = 0.5877852522924729 * t89;
+        double t91 = t34 - t31;
+        double t92 = 0.8090169943749476 * t91;
+        double t93 = t90 + t92;
+        double t94 = t41 - t51;
+        double t95 = 0.45399049973954664 * t94;
+        double t96 = t56 - t59;
+        double t97 = 0.891006524188368 * t96;
+        double t98 = t95 + t97;
+        double t99 = t41 - t66;
+        double t100 = 0.30901699437494723 * t99;
+        double t101 = t69 + t72;
+        double t102 = 0.9510565162951536 * t101;
+        double t103 = t100 + t102;
+        double t104 = t12 - t78;
+        double t105 = 0.15643446504023067 * t104;
+        double t106 = t31 + t83;
+        double t107 = 0.9876883405951378 * t106;
+        double t108 = t105 + t107;
+        a[offa] = t8;
+        a[offa + 1] = t37;
+        a[offa + 2] = t62;
+        a[offa + 3] = t75;
+        a[offa + 4] = t86;
+        a[offa + 5] = t88;
+        a[offa + 6] = t93;
+        a[offa + 7] = t98;
+        a[offa + 8] = t103;
+        a[offa + 9] = t108;
+    }
+
+    static void dct2_11(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double t0 = x10 + x9;
+        double t1 = x8 + x7;
+        double t2 = x6 + x5;
+        double t3 = x4 + x3;
+        double t4 = x2 + x1;
+        double t5 = x0 + t4;
+        double t6 = t3 + t5;
+        double t7 = t2 + t6;
+        double t8 = t1 + t7;
+        double t9 = t0 + t8;
+        double t10 = 0.8412535328311808 * t4;
+        double t11 = x0 + t10;
+        double t12 = 0.4154150130018868 * t3;
+        double t13 = t11 + t12;
+        double t14 = 0.14231483827328523 * t2;
+        double t15 = t13 - t14;
+        double t16 = 0.6548607339452852 * t1;
+        double t17 = t15 - t16;
+        double t18 = 0.9594929736144975 * t0;
+        double t19 = t17 - t18;
+        double t20 = 0.9898214418809327 * t19;
+        double t21 = x2 - x1;
+        double t22 = 0.5406408174555982 * t21;
+        double t23 = x4 - x3;
+        double t24 = 0.9096319953545182 * t23;
+        double t25 = t22 + t24;
+        double t26 = x6 - x5;
+        double t27 = 0.9898214418809327 * t26;
+        double t28 = t25 + t27;
+        double t29 = x8 - x7;
+        double t30 = 0.7557495743542582 * t29;
+        double t31 = t28 + t30;
+        double t32 = x10 - x9;
+        double t33 = 0.2817325568414294 * t32;
+        double t34 = t31 + t33;
+        double t35 = 0.1423148382732853 * t34;
+        double t36 = t20 - t35;
+        double t37 = 0.4154150130018868 * t4;
+        double t38 = x0 + t37;
+        double t39 = 0.6548607339452852 * t3;
+        double t40 = t38 - t39;
+        double t41 = 0.9594929736144973 * t2;
+        double t42 = t40 - t41;
+        double t43 = 0.142314838273285 * t1;
+        double t44 = t42 - t43;
+        double t45 = 0.8412535328311812 * t0;
+        double t46 = t44 + t45;
+        double t47 = 0.9594929736144974 * t46;
+        double t48 = 0.28173255684143006 * t26;
+        double t49 = 0.9096319953545182 * t21;
+        double t50 = 0.7557495743542582 * t23;
+        double t51 = t49 + t50;
+        double t52 = t48 - t51;
+        double t53 = 0.9898214418809328 * t29;
+        double t54 = t52 + t53;
+        double t55 = 0.5406408174555976 * t32;
+        double t56 = t54 + t55;
+        double t57 = 0.2817325568414298 * t56;
+        double t58 = t47 + t57;
+        double t59 = 0.14231483827328523 * t4;
+        double t60 = x0 - t59;
+        double t61 = 0.9594929736144973 * t3;
+        double t62 = t60 - t61;
+        double t63 = 0.41541501300188644 * t2;
+        double t64 = t62 + t63;
+        double t65 = 0.8412535328311808 * t1;
+        double t66 = t64 + t65;
+        double t67 = 0.6548607339452852 * t0;
+        double t68 = t66 - t67;
+        double t69 = 0.909631995354518 * t68;
+        double t70 = 0.28173255684143006 * t23;
+        double t71 = 0.9898214418809327 * t21;
+        double t72 = t70 - t71;
+        double t73 = 0.9096319953545183 * t26;
+        double t74 = t72 + t73;
+        double t75 = 0.5406408174555982 * t29;
+        double t76 = t74 - t75;
+        double t77 = 0.7557495743542582 * t32;
+        double t78 = t76 - t77;
+        double t79 = 0.4154150130018872 * t78;
+        double t80 = t69 + t79;
+        double t81 = 0.6548607339452852 * t4;
+        double t82 = x0 - t81;
+        double t83 = 0.142314838273285 * t3;
+        double t84 = t82 - t83;
+        double t85 = 0.8412535328311808 * t2;
+        double t86 = t84 + t85;
+        double t87 = 0.9594929736144975 * t1;
+        double t88 = t86 - t87;
+        double t89 = 0.41541501300188644 * t0;
+        double t90 = t88 + t89;
+        double t91 = 0.8412535328311808 * t90;
+        double t92 = 0.9898214418809328 * t23;
+        double t93 = 0.7557495743542582 * t21;
+        double t94 = t92 - t93;
+        double t95 = 0.5406408174555982 * t26;
+        double t96 = t94 - t95;
+        double t97 = 0.2817325568414294 * t29;
+        double t98 = t96 - t97;
+        double t99 = 0.9096319953545183 * t32;
+        double t100 = t98 + t99;
+        double t101 = 0.5406408174555982 * t100;
+        double t102 = t91 + t101;
+        double t103 = 0.9594929736144975 * t4;
+        double t104 = x0 - t103;
+        double t105 = 0.8412535328311812 * t3;
+        double t106 = t104 + t105;
+        double t107 = 0.6548607339452852 * t2;
+        double t108 = t106 - t107;
+        double t109 = 0.41541501300188644 * t1;
+        double t110 = t108 + t109;
+        double t111 = 0.14231483827328523 * t0;
+        double t112 = t110 - t111;
+        double t113 = 0.7557495743542578 * t112;
+        double t114 = 0.5406408174555976 * t23;
+        double t115 = 0.2817325568414294 * t21;
+        double t116 = t114 - t115;
+        double t117 = 0.7557495743542582 * t26;
+        double t118 = t116 - t117;
+        double t119 = 0.9096319953545183 * t29;
+        double t120 = t118 + t119;
+        double t121 = 0.9898214418809327 * t32;
+        double t122 = t120 - t121;
+        double t123 = 0.6548607339452855 * t122;
+        double t124 = t113 + t123;
+        double t125 = 0.6548607339452853 * t112;
+        double t126 = t121 - t120;
+        double t127 = 0.7557495743542582 * t126;
+        double t128 = t125 + t127;
+        double t129 = 0.5406408174555979 * t90;
+        double t130 = 0.841253532831181 * t100;
+        double t131 = t129 - t130;
+        double t132 = 0.4154150130018868 * t68;
+        double t133 = t77 - t76;
+        double t134 = 0.9096319953545182 * t133;
+        double t135 = t132 + t134;
+        double t136 = 0.28173255684142934 * t46;
+        double t137 = 0.9594929736144975 * t56;
+        double t138 = t136 - t137;
+        double t139 = 0.14231483827328487 * t19;
+        double t140 = 0.9898214418809328 * t34;
+        double t141 = t139 + t140;
+        a[offa] = t9;
+        a[offa + 1] = t36;
+        a[offa + 2] = t58;
+        a[offa + 3] = t80;
+        a[offa + 4] = t102;
+        a[offa + 5] = t124;
+        a[offa + 6] = t128;
+        a[offa + 7] = t131;
+        a[offa + 8] = t135;
+        a[offa + 9] = t138;
+        a[offa + 10] = t141;
+    }
+
+    static void dct2_12(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double t0 = x8 + x7;
+        double t1 = x0 + t0;
+        double t2 = x3 + x11;
+        double t3 = x4 + t2;
+        double t4 = t1 + t3;
+        double t5 = x10 + x5;
+        double t6 = x2 + t5;
+        double t7 = x1 + x9;
+        double t8 = x6 + t7;
+        double t9 = t6 + t8;
+        double t10 = t4 + t9;
+        double t11 = 0.5 * t0;
+        double t12 = x0 - t11;
+        double t13 = 0.5 * t2;
+        double t14 = x4 - t13;
+        double t15 = 0.5 * t14;
+        double t16 = x11 - x3;
+        double t17 = 0.7499999999999997 * t16;
+        double t18 = t15 - t17;
+        double t19 = t12 + t18;
+        double t20 = 0.5 * t5;
+        double t21 = x2 - t20;
+        double t22 = 0.8660254037844384 * t21;
+        double t23 = x10 - x5;
+        double t24 = 0.4330127018922192 * t23;
+        double t25 = t22 - t24;
+        double t26 = x9 - x1;
+        double t27 = 0.8660254037844384 * t26;
+        double t28 = t25 - t27;
+        double t29 = t19 + t28;
+        double t30 = 0.9914448613738104 * t29;
+        double t31 = 0.5 * t7;
+        double t32 = t31 - x6;
+        double t33 = 0.7499999999999996 * t23;
+        double t34 = 0.5 * t21;
+        double t35 = t33 + t34;
+        double t36 = t32 - t35;
+        double t37 = x8 - x7;
+        double t38 = 0.8660254037844384 * t37;
+        double t39 = 0.4330127018922192 * t16;
+        double t40 = 0.8660254037844386 * t14;
+        double t41 = t39 + t40;
+        double t42 = t38 + t41;
+        double t43 = t36 - t42;
+        double t44 = 0.13052619222005168 * t43;
+        double t45 = t30 + t44;
+        double t46 = 0.7499999999999996 * t16;
+        double t47 = t46 - t15;
+        double t48 = t12 + t47;
+        double t49 = 0.7499999999999997 * t23;
+        double t50 = t34 + t49;
+        double t51 = t32 + t50;
+        double t52 = t48 + t51;
+        double t53 = 0.9659258262890683 * t52;
+        double t54 = 0.8660254037844384 * t14;
+        double t55 = t39 + t54;
+        double t56 = t38 - t55;
+        double t57 = 0.8660254037844386 * t21;
+        double t58 = t24 - t57;
+        double t59 = t58 - t27;
+        double t60 = t56 + t59;
+        double t61 = 0.2588190451025207 * t60;
+        double t62 = t53 + t61;
+        double t63 = t1 - t3;
+        double t64 = 0.9238795325112865 * t63;
+        double t65 = t8 - t6;
+        double t66 = 0.3826834323650904 * t65;
+        double t67 = t64 + t66;
+        double t68 = t12 - t18;
+        double t69 = t35 + t32;
+        double t70 = t68 - t69;
+        double t71 = 0.8660254037844384 * t70;
+        double t72 = t41 - t38;
+        double t73 = t27 + t25;
+        double t74 = t72 - t73;
+        double t75 = 0.5 * t74;
+        double t76 = t71 + t75;
+        double t77 = t12 - t47;
+        double t78 = t27 + t58;
+        double t79 = t77 + t78;
+        double t80 = 0.7933533402912349 * t79;
+        double t81 = t38 + t55;
+        double t82 = t32 - t50;
+        double t83 = t81 + t82;
+        double t84 = 0.6087614290087209 * t83;
+        double t85 = t80 + t84;
+        double t86 = t4 - t9;
+        double t87 = 0.7071067811865476 * t86;
+        double t88 = t19 - t28;
+        double t89 = 0.6087614290087205 * t88;
+        double t90 = t42 + t36;
+        double t91 = 0.7933533402912352 * t90;
+        double t92 = t89 - t91;
+        double t93 = t48 - t51;
+        double t94 = 0.5 * t93;
+        double t95 = t56 - t59;
+        double t96 = 0.8660254037844386 * t95;
+        double t97 = t94 + t96;
+        double t98 = 0.38268343236509 * t63;
+        double t99 = t6 - t8;
+        double t100 = 0.9238795325112866 * t99;
+        double t101 = t98 + t100;
+        double t102 = t68 + t69;
+        double t103 = 0.2588190451025203 * t102;
+        double t104 = t72 + t73;
+        double t105 = 0.9659258262890684 * t104;
+        double t106 = t103 + t105;
+        double t107 = t77 - t78;
+        double t108 = 0.13052619222005127 * t107;
+        double t109 = t81 - t82;
+        double t110 = 0.9914448613738105 * t109;
+        double t111 = t108 + t110;
+        a[offa] = t10;
+        a[offa + 1] = t45;
+        a[offa + 2] = t62;
+        a[offa + 3] = t67;
+        a[offa + 4] = t76;
+        a[offa + 5] = t85;
+        a[offa + 6] = t87;
+        a[offa + 7] = t92;
+        a[offa + 8] = t97;
+        a[offa + 9] = t101;
+        a[offa + 10] = t106;
+        a[offa + 11] = t111;
+    }
+
+    static void dct2_13(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double t0 = x12 + x11;
+        double t1 = x10 + x9;
+        double t2 = x8 + x7;
+        double t3 = x6 + x5;
+        double t4 = x4 + x3;
+        double t5 = x2 + x1;
+        double t6 = x0 + t5;
+        double t7 = t4 + t6;
+        double t8 = t3 + t7;
+        double t9 = t2 + t8;
+        double t10 = t1 + t9;
+        double t11 = t0 + t10;
+        double t12 = 0.88545602565321 * t5;
+        double t13 = x0 + t12;
+        double t14 = 0.5680647467311556 * t4;
+        double t15 = t13 + t14;
+        double t16 = 0.1205366802553232 * t3;
+        double t17 = t15 + t16;
+        double t18 = 0.3546048870425359 * t2;
+        double t19 = t17 - t18;
+        double t20 = 0.748510748171101 * t1;
+        double t21 = t19 - t20;
+        double t22 = 0.9709418174260521 * t0;
+        double t23 = t21 - t22;
+        double t24 = 0.992708874098054 * t23;
+        double t25 = x2 - x1;
+        double t26 = 0.4647231720437684 * t25;
+        double t27 = x4 - x3;
+        double t28 = 0.8229838658936566 * t27;
+        double t29 = t26 + t28;
+        double t30 = x6 - x5;
+        double t31 = 0.992708874098054 * t30;
+        double t32 = t29 + t31;
+        double t33 = x8 - x7;
+        double t34 = 0.9350162426854147 * t33;
+        double t35 = t32 + t34;
+        double t36 = x10 - x9;
+        double t37 = 0.6631226582407953 * t36;
+        double t38 = t35 + t37;
+        double t39 = x12 - x11;
+        double t40 = 0.23931566428755743 * t39;
+        double t41 = t38 + t40;
+        double t42 = 0.12053668025532363 * t41;
+        double t43 = t24 - t42;
+        double t44 = 0.5680647467311556 * t5;
+        double t45 = x0 + t44;
+        double t46 = 0.3546048870425359 * t4;
+        double t47 = t45 - t46;
+        double t48 = 0.9709418174260521 * t3;
+        double t49 = t47 - t48;
+        double t50 = 0.7485107481711012 * t2;
+        double t51 = t49 - t50;
+        double t52 = 0.120536680255323 * t1;
+        double t53 = t51 + t52;
+        double t54 = 0.8854560256532099 * t0;
+        double t55 = t53 + t54;
+        double t56 = 0.970941817426052 * t55;
+        double t57 = 0.6631226582407952 * t33;
+        double t58 = 0.8229838658936566 * t25;
+        double t59 = 0.9350162426854147 * t27;
+        double t60 = t58 + t59;
+        double t61 = 0.23931566428755743 * t30;
+        double t62 = t60 + t61;
+        double t63 = t57 - t62;
+        double t64 = 0.992708874098054 * t36;
+        double t65 = t63 + t64;
+        double t66 = 0.46472317204376856 * t39;
+        double t67 = t65 + t66;
+        double t68 = 0.2393156642875578 * t67;
+        double t69 = t56 + t68;
+        double t70 = 0.1205366802553232 * t5;
+        double t71 = x0 + t70;
+        double t72 = 0.9709418174260521 * t4;
+        double t73 = t71 - t72;
+        double t74 = 0.3546048870425357 * t3;
+        double t75 = t73 - t74;
+        double t76 = 0.8854560256532099 * t2;
+        double t77 = t75 + t76;
+        double t78 = 0.5680647467311556 * t1;
+        double t79 = t77 + t78;
+        double t80 = 0.748510748171101 * t0;
+        double t81 = t79 - t80;
+        double t82 = 0.9350162426854147 * t81;
+        double t83 = 0.9350162426854148 * t30;
+        double t84 = 0.992708874098054 * t25;
+        double t85 = 0.23931566428755743 * t27;
+        double t86 = t84 + t85;
+        double t87 = t83 - t86;
+        double t88 = 0.46472317204376856 * t33;
+        double t89 = t87 + t88;
+        double t90 = 0.8229838658936566 * t36;
+        double t91 = t89 - t90;
+        double t92 = 0.6631226582407953 * t39;
+        double t93 = t91 - t92;
+        double t94 = 0.35460488704253595 * t93;
+        double t95 = t82 + t94;
+        double t96 = 0.3546048870425359 * t5;
+        double t97 = x0 - t96;
+        double t98 = 0.7485107481711012 * t4;
+        double t99 = t97 - t98;
+        double t100 = 0.8854560256532099 * t3;
+        double t101 = t99 + t100;
+        double t102 = 0.1205366802553232 * t2;
+        double t103 = t101 + t102;
+        double t104 = 0.970941817426052 * t1;
+        double t105 = t103 - t104;
+        double t106 = 0.5680647467311558 * t0;
+        double t107 = t105 + t106;
+        double t108 = 0.88545602565321 * t107;
+        double t109 = 0.6631226582407952 * t27;
+        double t110 = 0.9350162426854147 * t25;
+        double t111 = t109 - t110;
+        double t112 = 0.46472317204376856 * t30;
+        double t113 = t111 + t112;
+        double t114 = 0.992708874098054 * t33;
+        double t115 = t113 - t114;
+        double t116 = 0.23931566428755768 * t36;
+        double t117 = t115 + t116;
+        double t118 = 0.8229838658936565 * t39;
+        double t119 = t117 + t118;
+        double t120 = 0.4647231720437684 * t119;
+        double t121 = t108 + t120;
+        double t122 = 0.748510748171101 * t5;
+        double t123 = x0 - t122;
+        double t124 = 0.120536680255323 * t4;
+        double t125 = t123 + t124;
+        double t126 = 0.5680647467311556 * t3;
+        double t127 = t125 + t126;
+        double t128 = 0.970941817426052 * t2;
+        double t129 = t127 - t128;
+        double t130 = 0.8854560256532099 * t1;
+        double t131 = t129 + t130;
+        double t132 = 0.3546048870425359 * t0;
+        double t133 = t131 - t132;
+        double t134 = 0.8229838658936564 * t133;
+        double t135 = 0.992708874098054 * t27;
+        double t136 = 0.6631226582407953 * t25;
+        double t137 = t135 - t136;
+        double t138 = 0.8229838658936566 * t30;
+        double t139 = t137 - t138;
+        double t140 = 0.23931566428755768 * t33;
+        double t141 = t139 + t140;
+        double t142 = 0.46472317204376856 * t36;
+        double t143 = t141 + t142;
+        double t144 = 0.9350162426854147 * t39;
+        double t145 = t143 - t144;
+        double t146 = 0.5680647467311559 * t145;
+        double t147 = t134 + t146;
+        double t148 = 0.9709418174260521 * t5;
+        double t149 = x0 - t148;
+        double t150 = 0.8854560256532099 * t4;
+        double t151 = t149 + t150;
+        double t152 = 0.748510748171101 * t3;
+        double t153 = t151 - t152;
+        double t154 = 0.5680647467311558 * t2;
+        double t155 = t153 + t154;
+        double t156 = 0.3546048870425359 * t1;
+        double t157 = t155 - t156;
+        double t158 = 0.120536680255323 * t0;
+        double t159 = t157 + t158;
+        double t160 = 0.7485107481711007 * t159;
+        double t161 = 0.46472317204376856 * t27;
+        double t162 = 0.23931566428755743 * t25;
+        double t163 = t161 - t162;
+        double t164 = 0.6631226582407953 * t30;
+        double t165 = t163 - t164;
+        double t166 = 0.8229838658936565 * t33;
+        double t167 = t165 + t166;
+        double t168 = 0.9350162426854147 * t36;
+        double t169 = t167 - t168;
+        double t170 = 0.992708874098054 * t39;
+        double t171 = t169 + t170;
+        double t172 = 0.6631226582407955 * t171;
+        double t173 = t160 + t172;
+        double t174 = 0.6631226582407952 * t159;
+        double t175 = 0.7485107481711011 * t171;
+        double t176 = t174 - t175;
+        double t177 = 0.5680647467311556 * t133;
+        double t178 = t144 - t143;
+        double t179 = 0.8229838658936566 * t178;
+        double t180 = t177 + t179;
+        double t181 = 0.464723172043768 * t107;
+        double t182 = 0.8854560256532101 * t119;
+        double t183 = t181 - t182;
+        double t184 = 0.35460488704253557 * t81;
+        double t185 = t92 - t91;
+        double t186 = 0.9350162426854148 * t185;
+        double t187 = t184 + t186;
+        double t188 = 0.23931566428755738 * t55;
+        double t189 = 0.9709418174260521 * t67;
+        double t190 = t188 - t189;
+        double t191 = 0.1205366802553232 * t23;
+        double t192 = 0.992708874098054 * t41;
+        double t193 = t191 + t192;
+        a[offa] = t11;
+        a[offa + 1] = t43;
+        a[offa + 2] = t69;
+        a[offa + 3] = t95;
+        a[offa + 4] = t121;
+        a[offa + 5] = t147;
+        a[offa + 6] = t173;
+        a[offa + 7] = t176;
+        a[offa + 8] = t180;
+        a[offa + 9] = t183;
+        a[offa + 10] = t187;
+        a[offa + 11] = t190;
+        a[offa + 12] = t193;
+    }
+
+    static void dct2_14(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double x13 = a[offa + 13];
+        double t0 = x12 + x11;
+        double t1 = x8 + x7;
+        double t2 = x4 + x3;
+        double t3 = x0 + t2;
+        double t4 = t1 + t3;
+        double t5 = t0 + t4;
+        double t6 = x9 + x13;
+        double t7 = x10 + x5;
+        double t8 = x6 + x1;
+        double t9 = x2 + t8;
+        double t10 = t7 + t9;
+        double t11 = t6 + t10;
+        double t12 = t5 + t11;
+        double t13 = 0.6234898018587334 * t2;
+        double t14 = x0 + t13;
+        double t15 = 0.2225209339563146 * t1;
+        double t16 = t14 - t15;
+        double t17 = 0.9009688679024191 * t0;
+        double t18 = t16 - t17;
+        double t19 = 0.6234898018587334 * t8;
+        double t20 = x2 + t19;
+        double t21 = 0.2225209339563146 * t7;
+        double t22 = t20 - t21;
+        double t23 = 0.9009688679024191 * t6;
+        double t24 = t22 - t23;
+        double t25 = 0.900968867902419 * t24;
+        double t26 = x6 - x1;
+        double t27 = 0.7818314824680299 * t26;
+        double t28 = x10 - x5;
+        double t29 = 0.9749279121818236 * t28;
+        double t30 = t27 + t29;
+        double t31 = x13 - x9;
+        double t32 = 0.433883739117558 * t31;
+        double t33 = t30 + t32;
+        double t34 = 0.43388373911755834 * t33;
+        double t35 = t25 - t34;
+        double t36 = t18 + t35;
+        double t37 = 0.9937122098932426 * t36;
+        double t38 = x4 - x3;
+        double t39 = 0.7818314824680299 * t38;
+        double t40 = x8 - x7;
+        double t41 = 0.9749279121818236 * t40;
+        double t42 = t39 + t41;
+        double t43 = x12 - x11;
+        double t44 = 0.433883739117558 * t43;
+        double t45 = t42 + t44;
+        double t46 = 0.900968867902419 * t33;
+        double t47 = 0.43388373911755834 * t24;
+        double t48 = t46 + t47;
+        double t49 = t45 + t48;
+        double t50 = 0.11196447610330809 * t49;
+        double t51 = t37 - t50;
+        double t52 = 0.2225209339563146 * t2;
+        double t53 = x0 - t52;
+        double t54 = 0.900968867902419 * t1;
+        double t55 = t53 - t54;
+        double t56 = 0.6234898018587336 * t0;
+        double t57 = t55 + t56;
+        double t58 = 0.2225209339563146 * t8;
+        double t59 = x2 - t58;
+        double t60 = 0.900968867902419 * t7;
+        double t61 = t59 - t60;
+        double t62 = 0.6234898018587336 * t6;
+        double t63 = t61 + t62;
+        double t64 = 0.6234898018587334 * t63;
+        double t65 = 0.43388373911755823 * t28;
+        double t66 = 0.9749279121818236 * t26;
+        double t67 = t65 - t66;
+        double t68 = 0.7818314824680298 * t31;
+        double t69 = t67 + t68;
+        double t70 = 0.7818314824680299 * t69;
+        double t71 = t64 + t70;
+        double t72 = t57 + t71;
+        double t73 = 0.9749279121818235 * t72;
+        double t74 = 0.43388373911755823 * t40;
+        double t75 = 0.9749279121818236 * t38;
+        double t76 = t74 - t75;
+        double t77 = 0.7818314824680298 * t43;
+        double t78 = t76 + t77;
+        double t79 = 0.6234898018587334 * t69;
+        double t80 = 0.7818314824680299 * t63;
+        double t81 = t79 - t80;
+        double t82 = t78 + t81;
+        double t83 = 0.22252093395631464 * t82;
+        double t84 = t73 + t83;
+        double t85 = 0.9009688679024191 * t2;
+        double t86 = x0 - t85;
+        double t87 = 0.6234898018587336 * t1;
+        double t88 = t86 + t87;
+        double t89 = 0.2225209339563146 * t0;
+        double t90 = t88 - t89;
+        double t91 = 0.9009688679024191 * t8;
+        double t92 = x2 - t91;
+        double t93 = 0.6234898018587336 * t7;
+        double t94 = t92 + t93;
+        double t95 = 0.2225209339563146 * t6;
+        double t96 = t94 - t95;
+        double t97 = 0.22252093395631423 * t96;
+        double t98 = 0.7818314824680298 * t28;
+        double t99 = 0.433883739117558 * t26;
+        double t100 = t98 - t99;
+        double t101 = 0.9749279121818236 * t31;
+        double t102 = t100 - t101;
+        double t103 = 0.9749279121818236 * t102;
+        double t104 = t97 + t103;
+        double t105 = t90 + t104;
+        double t106 = 0.9438833303083675 * t105;
+        double t107 = 0.7818314824680298 * t40;
+        double t108 = 0.433883739117558 * t38;
+        double t109 = t107 - t108;
+        double t110 = 0.9749279121818236 * t43;
+        double t111 = t109 - t110;
+        double t112 = 0.22252093395631423 * t102;
+        double t113 = 0.9749279121818236 * t96;
+        double t114 = t112 - t113;
+        double t115 = t111 + t114;
+        double t116 = 0.3302790619551673 * t115;
+        double t117 = t106 + t116;
+        double t118 = t101 - t100;
+        double t119 = 0.9749279121818236 * t118;
+        double t120 = 0.2225209339563146 * t96;
+        double t121 = t119 - t120;
+        double t122 = t90 + t121;
+        double t123 = 0.900968867902419 * t122;
+        double t124 = t110 - t109;
+        double t125 = 0.2225209339563146 * t118;
+        double t126 = t113 + t125;
+        double t127 = t124 - t126;
+        double t128 = 0.43388373911755834 * t127;
+        double t129 = t123 + t128;
+        double t130 = 0.6234898018587337 * t63;
+        double t131 = 0.7818314824680297 * t69;
+        double t132 = t130 + t131;
+        double t133 = t57 - t132;
+        double t134 = 0.846724199228284 * t133;
+        double t135 = 0.6234898018587337 * t69;
+        double t136 = 0.7818314824680297 * t63;
+        double t137 = t135 - t136;
+        double t138 = t137 - t78;
+        double t139 = 0.5320320765153368 * t138;
+        double t140 = t134 + t139;
+        double t141 = 0.433883739117558 * t33;
+        double t142 = 0.9009688679024191 * t24;
+        double t143 = t141 - t142;
+        double t144 = t18 + t143;
+        double t145 = 0.7818314824680297 * t144;
+        double t146 = 0.9009688679024191 * t33;
+        double t147 = 0.433883739117558 * t24;
+        double t148 = t146 + t147;
+        double t149 = t45 - t148;
+        double t150 = 0.6234898018587337 * t149;
+        double t151 = t145 + t150;
+        double t152 = t5 - t11;
+        double t153 = 0.7071067811865476 * t152;
+        double t154 = t18 - t35;
+        double t155 = 0.6234898018587334 * t154;
+        double t156 = t48 - t45;
+        double t157 = 0.7818314824680299 * t156;
+        double t158 = t155 + t157;
+        double t159 = t57 - t71;
+        double t160 = 0.5320320765153363 * t159;
+        double t161 = t78 - t81;
+        double t162 = 0.8467241992282842 * t161;
+        double t163 = t160 + t162;
+        double t164 = t90 - t104;
+        double t165 = 0.43388373911755795 * t164;
+        double t166 = t111 - t114;
+        double t167 = 0.9009688679024193 * t166;
+        double t168 = t165 + t167;
+        double t169 = t90 - t121;
+        double t170 = 0.3302790619551669 * t169;
+        double t171 = t124 + t126;
+        double t172 = 0.9438833303083676 * t171;
+        double t173 = t170 + t172;
+        double t174 = t57 + t132;
+        double t175 = 0.22252093395631423 * t174;
+        double t176 = t78 + t137;
+        double t177 = 0.9749279121818236 * t176;
+        double t178 = t175 - t177;
+        double t179 = t18 - t143;
+        double t180 = 0.11196447610330768 * t179;
+        double t181 = t45 + t148;
+        double t182 = 0.9937122098932426 * t181;
+        double t183 = t180 + t182;
+        a[offa] = t12;
+        a[offa + 1] = t51;
+        a[offa + 2] = t84;
+        a[offa + 3] = t117;
+        a[offa + 4] = t129;
+        a[offa + 5] = t140;
+        a[offa + 6] = t151;
+        a[offa + 7] = t153;
+        a[offa + 8] = t158;
+        a[offa + 9] = t163;
+        a[offa + 10] = t168;
+        a[offa + 11] = t173;
+        a[offa + 12] = t178;
+        a[offa + 13] = t183;
+    }
+
+    static void dct2_15(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double x13 = a[offa + 13];
+        double x14 = a[offa + 14];
+        double t0 = x12 + x11;
+        double t1 = x6 + x5;
+        double t2 = x0 + t1;
+        double t3 = t0 + t2;
+        double t4 = x14 + x9;
+        double t5 = x8 + x3;
+        double t6 = x2 + t5;
+        double t7 = t4 + t6;
+        double t8 = x7 + x13;
+        double t9 = x10 + x1;
+        double t10 = x4 + t9;
+        double t11 = t8 + t10;
+        double t12 = t7 + t11;
+        double t13 = t3 + t12;
+        double t14 = 0.30901699437494723 * t1;
+        double t15 = x0 + t14;
+        double t16 = 0.8090169943749476 * t0;
+        double t17 = t15 - t16;
+        double t18 = 0.30901699437494723 * t5;
+        double t19 = x2 + t18;
+        double t20 = 0.8090169943749476 * t4;
+        double t21 = t19 - t20;
+        double t22 = 0.913545457642601 * t21;
+        double t23 = x8 - x3;
+        double t24 = 0.9510565162951536 * t23;
+        double t25 = x14 - x9;
+        double t26 = 0.587785252292473 * t25;
+        double t27 = t24 + t26;
+        double t28 = 0.40673664307580015 * t27;
+        double t29 = t22 - t28;
+        double t30 = 0.30901699437494723 * t9;
+        double t31 = x4 + t30;
+        double t32 = 0.8090169943749476 * t8;
+        double t33 = t31 - t32;
+        double t34 = 0.6691306063588585 * t33;
+        double t35 = x10 - x1;
+        double t36 = 0.9510565162951536 * t35;
+        double t37 = x13 - x7;
+        double t38 = 0.587785252292473 * t37;
+        double t39 = t36 + t38;
+        double t40 = 0.743144825477394 * t39;
+        double t41 = t34 - t40;
+        double t42 = t29 + t41;
+        double t43 = t17 + t42;
+        double t44 = 0.9945218953682733 * t43;
+        double t45 = x6 - x5;
+        double t46 = 0.9510565162951536 * t45;
+        double t47 = x12 - x11;
+        double t48 = 0.587785252292473 * t47;
+        double t49 = t46 + t48;
+        double t50 = 0.913545457642601 * t27;
+        double t51 = 0.40673664307580015 * t21;
+        double t52 = t50 + t51;
+        double t53 = 0.6691306063588585 * t39;
+        double t54 = 0.743144825477394 * t33;
+        double t55 = t53 + t54;
+        double t56 = t52 + t55;
+        double t57 = t49 + t56;
+        double t58 = 0.1045284632676543 * t57;
+        double t59 = t44 - t58;
+        double t60 = 0.8090169943749476 * t1;
+        double t61 = x0 - t60;
+        double t62 = 0.30901699437494745 * t0;
+        double t63 = t61 + t62;
+        double t64 = 0.8090169943749476 * t5;
+        double t65 = x2 - t64;
+        double t66 = 0.30901699437494745 * t4;
+        double t67 = t65 + t66;
+        double t68 = 0.6691306063588585 * t67;
+        double t69 = 0.9510565162951535 * t25;
+        double t70 = 0.587785252292473 * t23;
+        double t71 = t69 - t70;
+        double t72 = 0.743144825477394 * t71;
+        double t73 = t68 + t72;
+        double t74 = 0.9510565162951535 * t37;
+        double t75 = 0.587785252292473 * t35;
+        double t76 = t74 - t75;
+        double t77 = 0.9945218953682733 * t76;
+        double t78 = 0.8090169943749476 * t9;
+        double t79 = x4 - t78;
+        double t80 = 0.30901699437494745 * t8;
+        double t81 = t79 + t80;
+        double t82 = 0.10452846326765423 * t81;
+        double t83 = t77 - t82;
+        double t84 = t73 + t83;
+        double t85 = t63 + t84;
+        double t86 = 0.9781476007338056 * t85;
+        double t87 = 0.9510565162951535 * t47;
+        double t88 = 0.587785252292473 * t45;
+        double t89 = t87 - t88;
+        double t90 = 0.6691306063588585 * t71;
+        double t91 = 0.743144825477394 * t67;
+        double t92 = t90 - t91;
+        double t93 = 0.10452846326765423 * t76;
+        double t94 = 0.9945218953682733 * t81;
+        double t95 = t93 + t94;
+        double t96 = t92 - t95;
+        double t97 = t89 + t96;
+        double t98 = 0.20791169081775987 * t97;
+        double t99 = t86 + t98;
+        double t100 = 0.30901699437494723 * t67;
+        double t101 = t70 - t69;
+        double t102 = 0.9510565162951536 * t101;
+        double t103 = t100 + t102;
+        double t104 = t75 - t74;
+        double t105 = 0.587785252292473 * t104;
+        double t106 = 0.8090169943749476 * t81;
+        double t107 = t105 - t106;
+        double t108 = t103 + t107;
+        double t109 = t63 + t108;
+        double t110 = 0.9510565162951535 * t109;
+        double t111 = t88 - t87;
+        double t112 = 0.30901699437494723 * t101;
+        double t113 = 0.9510565162951536 * t67;
+        double t114 = t112 - t113;
+        double t115 = 0.8090169943749476 * t104;
+        double t116 = 0.587785252292473 * t81;
+        double t117 = t115 + t116;
+        double t118 = t114 - t117;
+        double t119 = t111 + t118;
+        double t120 = 0.3090169943749476 * t119;
+        double t121 = t110 + t120;
+        double t122 = 0.9945218953682733 * t27;
+        double t123 = 0.10452846326765423 * t21;
+        double t124 = t122 - t123;
+        double t125 = 0.9781476007338057 * t33;
+        double t126 = 0.20791169081775931 * t39;
+        double t127 = t125 + t126;
+        double t128 = t124 - t127;
+        double t129 = t17 + t128;
+        double t130 = 0.913545457642601 * t129;
+        double t131 = 0.20791169081775931 * t33;
+        double t132 = 0.9781476007338057 * t39;
+        double t133 = t131 - t132;
+        double t134 = 0.10452846326765423 * t27;
+        double t135 = 0.9945218953682733 * t21;
+        double t136 = t134 + t135;
+        double t137 = t133 - t136;
+        double t138 = t49 + t137;
+        double t139 = 0.40673664307580015 * t138;
+        double t140 = t130 + t139;
+        double t141 = 0.5 * t12;
+        double t142 = t3 - t141;
+        double t143 = 0.8660254037844384 * t142;
+        double t144 = t7 - t11;
+        double t145 = 0.4330127018922192 * t144;
+        double t146 = t143 - t145;
+        double t147 = 0.5 * t42;
+        double t148 = t17 - t147;
+        double t149 = t55 - t52;
+        double t150 = 0.8660254037844384 * t149;
+        double t151 = t148 + t150;
+        double t152 = 0.8090169943749473 * t151;
+        double t153 = 0.5 * t56;
+        double t154 = t153 - t49;
+        double t155 = t29 - t41;
+        double t156 = 0.8660254037844384 * t155;
+        double t157 = t154 - t156;
+        double t158 = 0.5877852522924734 * t157;
+        double t159 = t152 + t158;
+        double t160 = 0.5 * t84;
+        double t161 = t63 - t160;
+        double t162 = t92 + t95;
+        double t163 = 0.8660254037844384 * t162;
+        double t164 = t161 + t163;
+        double t165 = 0.7431448254773937 * t164;
+        double t166 = 0.5 * t96;
+        double t167 = t89 - t166;
+        double t168 = t73 - t83;
+        double t169 = 0.8660254037844384 * t168;
+        double t170 = t167 - t169;
+        double t171 = 0.6691306063588588 * t170;
+        double t172 = t165 + t171;
+        double t173 = 0.5 * t108;
+        double t174 = t63 - t173;
+        double t175 = t114 + t117;
+        double t176 = 0.8660254037844384 * t175;
+        double t177 = t174 + t176;
+        double t178 = 0.6691306063588585 * t177;
+        double t179 = 0.5 * t118;
+        double t180 = t111 - t179;
+        double t181 = t103 - t107;
+        double t182 = 0.8660254037844384 * t181;
+        double t183 = t180 - t182;
+        double t184 = 0.743144825477394 * t183;
+        double t185 = t178 + t184;
+        double t186 = 0.5 * t128;
+        double t187 = t17 - t186;
+        double t188 = t136 + t133;
+        double t189 = 0.8660254037844384 * t188;
+        double t190 = t187 - t189;
+        double t191 = 0.5877852522924729 * t190;
+        double t192 = 0.5 * t137;
+        double t193 = t49 - t192;
+        double t194 = t124 + t127;
+        double t195 = 0.8660254037844384 * t194;
+        double t196 = t193 - t195;
+        double t197 = 0.8090169943749476 * t196;
+        double t198 = t191 + t197;
+        double t199 = 0.5 * t142;
+        double t200 = 0.7499999999999997 * t144;
+        double t201 = t199 + t200;
+        double t202 = t148 - t150;
+        double t203 = 0.40673664307579976 * t202;
+        double t204 = t154 + t156;
+        double t205 = 0.9135454576426011 * t204;
+        double t206 = t203 + t205;
+        double t207 = t161 - t163;
+        double t208 = 0.30901699437494723 * t207;
+        double t209 = t167 + t169;
+        double t210 = 0.9510565162951536 * t209;
+        double t211 = t208 + t210;
+        double t212 = t174 - t176;
+        double t213 = 0.20791169081775943 * t212;
+        double t214 = t180 + t182;
+        double t215 = 0.9781476007338056 * t214;
+        double t216 = t213 + t215;
+        double t217 = t187 + t189;
+        double t218 = 0.10452846326765387 * t217;
+        double t219 = t193 + t195;
+        double t220 = 0.9945218953682733 * t219;
+        double t221 = t218 + t220;
+        a[offa] = t13;
+        a[offa + 1] = t59;
+        a[offa + 2] = t99;
+        a[offa + 3] = t121;
+        a[offa + 4] = t140;
+        a[offa + 5] = t146;
+        a[offa + 6] = t159;
+        a[offa + 7] = t172;
+        a[offa + 8] = t185;
+        a[offa + 9] = t198;
+        a[offa + 10] = t201;
+        a[offa + 11] = t206;
+        a[offa + 12] = t211;
+        a[offa + 13] = t216;
+        a[offa + 14] = t221;
+    }
+
+    static void dct2_16(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double x13 = a[offa + 13];
+        double x14 = a[offa + 14];
+        double x15 = a[offa + 15];
+        double t0 = x0 + x15;
+        double t1 = x8 + x7;
+        double t2 = t0 + t1;
+        double t3 = x4 + x11;
+        double t4 = x12 + x3;
+        double t5 = t3 + t4;
+        double t6 = t2 + t5;
+        double t7 = x2 + x13;
+        double t8 = x10 + x5;
+        double t9 = t7 + t8;
+        double t10 = x6 + x9;
+        double t11 = x14 + x1;
+        double t12 = t10 + t11;
+        double t13 = t9 + t12;
+        double t14 = t6 + t13;
+        double t15 = x0 - x15;
+        double t16 = x4 - x11;
+        double t17 = x3 - x12;
+        double t18 = t16 + t17;
+        double t19 = 0.7071067811865476 * t18;
+        double t20 = t15 + t19;
+        double t21 = x2 - x13;
+        double t22 = 0.9238795325112865 * t21;
+        double t23 = x5 - x10;
+        double t24 = 0.3826834323650904 * t23;
+        double t25 = t22 + t24;
+        double t26 = x6 - x9;
+        double t27 = 0.38268343236509 * t26;
+        double t28 = x1 - x14;
+        double t29 = 0.9238795325112866 * t28;
+        double t30 = t27 + t29;
+        double t31 = t25 + t30;
+        double t32 = t20 + t31;
+        double t33 = 0.9951847266721969 * t32;
+        double t34 = x7 - x8;
+        double t35 = t17 - t16;
+        double t36 = 0.7071067811865476 * t35;
+        double t37 = t34 + t36;
+        double t38 = 0.9238795325112865 * t23;
+        double t39 = 0.3826834323650904 * t21;
+        double t40 = t38 - t39;
+        double t41 = 0.38268343236509 * t28;
+        double t42 = 0.9238795325112866 * t26;
+        double t43 = t41 - t42;
+        double t44 = t40 + t43;
+        double t45 = t37 + t44;
+        double t46 = 0.0980171403295605 * t45;
+        double t47 = t33 + t46;
+        double t48 = t0 - t1;
+        double t49 = t7 - t8;
+        double t50 = 0.7071067811865476 * t49;
+        double t51 = t10 - t11;
+        double t52 = 0.7071067811865476 * t51;
+        double t53 = t50 - t52;
+        double t54 = t48 + t53;
+        double t55 = 0.9807852804032303 * t54;
+        double t56 = t4 - t3;
+        double t57 = t8 - t7;
+        double t58 = 0.7071067811865476 * t57;
+        double t59 = t58 - t52;
+        double t60 = t56 + t59;
+        double t61 = 0.19509032201612872 * t60;
+        double t62 = t55 + t61;
+        double t63 = x12 - x3;
+        double t64 = t16 - t63;
+        double t65 = 0.7071067811865476 * t64;
+        double t66 = t15 - t65;
+        double t67 = 0.38268343236509 * t21;
+        double t68 = x10 - x5;
+        double t69 = 0.9238795325112866 * t68;
+        double t70 = t67 + t69;
+        double t71 = 0.9238795325112867 * t26;
+        double t72 = x14 - x1;
+        double t73 = 0.3826834323650899 * t72;
+        double t74 = t71 + t73;
+        double t75 = t70 - t74;
+        double t76 = t66 + t75;
+        double t77 = 0.9569403357322088 * t76;
+        double t78 = x8 - x7;
+        double t79 = t16 + t63;
+        double t80 = 0.7071067811865476 * t79;
+        double t81 = t78 - t80;
+        double t82 = 0.38268343236509 * t68;
+        double t83 = 0.9238795325112866 * t21;
+        double t84 = t82 - t83;
+        double t85 = 0.3826834323650899 * t26;
+        double t86 = 0.9238795325112867 * t72;
+        double t87 = t85 - t86;
+        double t88 = t84 + t87;
+        double t89 = t81 + t88;
+        double t90 = 0.2902846772544625 * t89;
+        double t91 = t77 + t90;
+        double t92 = t2 - t5;
+        double t93 = 0.9238795325112865 * t92;
+        double t94 = t12 - t9;
+        double t95 = 0.3826834323650904 * t94;
+        double t96 = t93 + t95;
+        double t97 = t15 - t19;
+        double t98 = t40 - t43;
+        double t99 = t97 + t98;
+        double t100 = 0.8819212643483548 * t99;
+        double t101 = t34 - t36;
+        double t102 = t30 - t25;
+        double t103 = t101 + t102;
+        double t104 = 0.4713967368259979 * t103;
+        double t105 = t100 + t104;
+        double t106 = t58 + t52;
+        double t107 = t48 + t106;
+        double t108 = 0.8314696123025452 * t107;
+        double t109 = t3 - t4;
+        double t110 = t50 + t52;
+        double t111 = t109 - t110;
+        double t112 = 0.5555702330196022 * t111;
+        double t113 = t108 + t112;
+        double t114 = t15 + t65;
+        double t115 = t84 - t87;
+        double t116 = t114 + t115;
+        double t117 = 0.7730104533627367 * t116;
+        double t118 = t78 + t80;
+        double t119 = t70 + t74;
+        double t120 = t118 - t119;
+        double t121 = 0.6343932841636459 * t120;
+        double t122 = t117 + t121;
+        double t123 = t6 - t13;
+        double t124 = 0.7071067811865476 * t123;
+        double t125 = t20 - t31;
+        double t126 = 0.6343932841636456 * t125;
+        double t127 = t37 - t44;
+        double t128 = 0.7730104533627369 * t127;
+        double t129 = t126 + t128;
+        double t130 = t48 - t53;
+        double t131 = 0.5555702330196018 * t130;
+        double t132 = t56 - t59;
+        double t133 = 0.8314696123025455 * t132;
+        double t134 = t131 + t133;
+        double t135 = t66 - t75;
+        double t136 = 0.4713967368259976 * t135;
+        double t137 = t81 - t88;
+        double t138 = 0.881921264348355 * t137;
+        double t139 = t136 + t138;
+        double t140 = 0.38268343236509 * t92;
+        double t141 = t9 - t12;
+        double t142 = 0.9238795325112866 * t141;
+        double t143 = t140 + t142;
+        double t144 = t97 - t98;
+        double t145 = 0.29028467725446205 * t144;
+        double t146 = t101 - t102;
+        double t147 = 0.9569403357322089 * t146;
+        double t148 = t145 + t147;
+        double t149 = t48 - t106;
+        double t150 = 0.1950903220161283 * t149;
+        double t151 = t109 + t110;
+        double t152 = 0.9807852804032304 * t151;
+        double t153 = t150 + t152;
+        double t154 = t114 - t115;
+        double t155 = 0.09801714032956009 * t154;
+        double t156 = t118 + t119;
+        double t157 = 0.9951847266721969 * t156;
+        double t158 = t155 + t157;
+        a[offa] = t14;
+        a[offa + 1] = t47;
+        a[offa + 2] = t62;
+        a[offa + 3] = t91;
+        a[offa + 4] = t96;
+        a[offa + 5] = t105;
+        a[offa + 6] = t113;
+        a[offa + 7] = t122;
+        a[offa + 8] = t124;
+        a[offa + 9] = t129;
+        a[offa + 10] = t134;
+        a[offa + 11] = t139;
+        a[offa + 12] = t143;
+        a[offa + 13] = t148;
+        a[offa + 14] = t153;
+        a[offa + 15] = t158;
+    }
+
+    static void dct2_18(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double x13 = a[offa + 13];
+        double x14 = a[offa + 14];
+        double x15 = a[offa + 15];
+        double x16 = a[offa + 16];
+        double x17 = a[offa + 17];
+        double t0 = x12 + x11;
+        double t1 = x0 + t0;
+        double t2 = x16 + x7;
+        double t3 = x4 + t2;
+        double t4 = x3 + x15;
+        double t5 = x8 + t4;
+        double t6 = t3 + t5;
+        double t7 = t1 + t6;
+        double t8 = x14 + x9;
+        double t9 = x2 + t8;
+        double t10 = x5 + x17;
+        double t11 = x6 + t10;
+        double t12 = x1 + x13;
+        double t13 = x10 + t12;
+        double t14 = t11 + t13;
+        double t15 = t9 + t14;
+        double t16 = t7 + t15;
+        double t17 = 0.5 * t0;
+        double t18 = x0 - t17;
+        double t19 = 0.5 * t2;
+        double t20 = x4 - t19;
+        double t21 = 0.7660444431189778 * t20;
+        double t22 = x16 - x7;
+        double t23 = 0.5566703992264194 * t22;
+        double t24 = t21 - t23;
+        double t25 = 0.5 * t4;
+        double t26 = x8 - t25;
+        double t27 = 0.17364817766692997 * t26;
+        double t28 = x15 - x3;
+        double t29 = 0.852868531952443 * t28;
+        double t30 = t27 - t29;
+        double t31 = t24 + t30;
+        double t32 = t18 + t31;
+        double t33 = 0.5 * t8;
+        double t34 = x2 - t33;
+        double t35 = 0.5 * t10;
+        double t36 = x6 - t35;
+        double t37 = 0.7660444431189778 * t36;
+        double t38 = x17 - x5;
+        double t39 = 0.5566703992264194 * t38;
+        double t40 = t37 - t39;
+        double t41 = 0.5 * t12;
+        double t42 = x10 - t41;
+        double t43 = 0.17364817766692997 * t42;
+        double t44 = x13 - x1;
+        double t45 = 0.852868531952443 * t44;
+        double t46 = t43 - t45;
+        double t47 = t40 + t46;
+        double t48 = t34 + t47;
+        double t49 = 0.9396926207859081 * t48;
+        double t50 = x14 - x9;
+        double t51 = 0.8660254037844384 * t50;
+        double t52 = 0.663413948168938 * t38;
+        double t53 = 0.6427876096865396 * t36;
+        double t54 = t52 + t53;
+        double t55 = 0.1503837331804349 * t44;
+        double t56 = 0.9848077530122081 * t42;
+        double t57 = t55 + t56;
+        double t58 = t54 + t57;
+        double t59 = t51 + t58;
+        double t60 = 0.34202014332566943 * t59;
+        double t61 = t49 - t60;
+        double t62 = t32 + t61;
+        double t63 = 0.9961946980917455 * t62;
+        double t64 = x12 - x11;
+        double t65 = 0.8660254037844384 * t64;
+        double t66 = 0.663413948168938 * t22;
+        double t67 = 0.6427876096865396 * t20;
+        double t68 = t66 + t67;
+        double t69 = 0.1503837331804349 * t28;
+        double t70 = 0.9848077530122081 * t26;
+        double t71 = t69 + t70;
+        double t72 = t68 + t71;
+        double t73 = t65 + t72;
+        double t74 = 0.9396926207859081 * t59;
+        double t75 = 0.34202014332566943 * t48;
+        double t76 = t74 + t75;
+        double t77 = t73 + t76;
+        double t78 = 0.08715574274765832 * t77;
+        double t79 = t63 - t78;
+        double t80 = 0.17364817766692997 * t20;
+        double t81 = 0.852868531952443 * t22;
+        double t82 = t80 + t81;
+        double t83 = 0.2961981327260237 * t28;
+        double t84 = 0.9396926207859084 * t26;
+        double t85 = t83 - t84;
+        double t86 = t82 + t85;
+        double t87 = t18 + t86;
+        double t88 = 0.17364817766692997 * t36;
+        double t89 = 0.852868531952443 * t38;
+        double t90 = t88 + t89;
+        double t91 = 0.2961981327260237 * t44;
+        double t92 = 0.9396926207859084 * t42;
+        double t93 = t91 - t92;
+        double t94 = t90 + t93;
+        double t95 = t34 + t94;
+        double t96 = 0.7660444431189778 * t95;
+        double t97 = 0.1503837331804349 * t38;
+        double t98 = 0.9848077530122081 * t36;
+        double t99 = t97 - t98;
+        double t100 = 0.8137976813493735 * t44;
+        double t101 = 0.34202014332566866 * t42;
+        double t102 = t100 + t101;
+        double t103 = t99 - t102;
+        double t104 = t51 + t103;
+        double t105 = 0.6427876096865396 * t104;
+        double t106 = t96 + t105;
+        double t107 = t87 + t106;
+        double t108 = 0.984807753012208 * t107;
+        double t109 = 0.1503837331804349 * t22;
+        double t110 = 0.9848077530122081 * t20;
+        double t111 = t109 - t110;
+        double t112 = 0.8137976813493735 * t28;
+        double t113 = 0.34202014332566866 * t26;
+        double t114 = t112 + t113;
+        double t115 = t111 - t114;
+        double t116 = t65 + t115;
+        double t117 = 0.7660444431189778 * t104;
+        double t118 = 0.6427876096865396 * t95;
+        double t119 = t117 - t118;
+        double t120 = t116 + t119;
+        double t121 = 0.1736481776669304 * t120;
+        double t122 = t108 + t121;
+        double t123 = 0.5 * t6;
+        double t124 = t1 - t123;
+        double t125 = 0.5 * t14;
+        double t126 = t9 - t125;
+        double t127 = 0.5 * t126;
+        double t128 = t11 - t13;
+        double t129 = 0.7499999999999997 * t128;
+        double t130 = t127 - t129;
+        double t131 = t124 + t130;
+        double t132 = 0.9659258262890683 * t131;
+        double t133 = t3 - t5;
+        double t134 = 0.8660254037844384 * t133;
+        double t135 = 0.4330127018922192 * t128;
+        double t136 = 0.8660254037844386 * t126;
+        double t137 = t135 + t136;
+        double t138 = t134 + t137;
+        double t139 = 0.2588190451025207 * t138;
+        double t140 = t132 - t139;
+        double t141 = 0.5 * t31;
+        double t142 = t18 - t141;
+        double t143 = t71 - t68;
+        double t144 = 0.8660254037844384 * t143;
+        double t145 = t142 + t144;
+        double t146 = 0.5 * t47;
+        double t147 = t34 - t146;
+        double t148 = t57 - t54;
+        double t149 = 0.8660254037844384 * t148;
+        double t150 = t147 + t149;
+        double t151 = 0.17364817766692997 * t150;
+        double t152 = 0.5 * t58;
+        double t153 = t152 - t51;
+        double t154 = t40 - t46;
+        double t155 = 0.8660254037844384 * t154;
+        double t156 = t153 - t155;
+        double t157 = 0.9848077530122081 * t156;
+        double t158 = t151 + t157;
+        double t159 = t145 + t158;
+        double t160 = 0.9396926207859081 * t159;
+        double t161 = 0.5 * t72;
+        double t162 = t161 - t65;
+        double t163 = t24 - t30;
+        double t164 = 0.8660254037844384 * t163;
+        double t165 = t162 - t164;
+        double t166 = 0.17364817766692997 * t156;
+        double t167 = 0.9848077530122081 * t150;
+        double t168 = t166 - t167;
+        double t169 = t165 + t168;
+        double t170 = 0.34202014332566943 * t169;
+        double t171 = t160 + t170;
+        double t172 = 0.5 * t86;
+        double t173 = t18 - t172;
+        double t174 = t111 + t114;
+        double t175 = 0.8660254037844384 * t174;
+        double t176 = t173 + t175;
+        double t177 = 0.5 * t103;
+        double t178 = t51 - t177;
+        double t179 = t90 - t93;
+        double t180 = 0.8660254037844384 * t179;
+        double t181 = t178 - t180;
+        double t182 = 0.984807753012208 * t181;
+        double t183 = 0.5 * t94;
+        double t184 = t34 - t183;
+        double t185 = t99 + t102;
+        double t186 = 0.8660254037844384 * t185;
+        double t187 = t184 + t186;
+        double t188 = 0.17364817766693033 * t187;
+        double t189 = t182 - t188;
+        double t190 = t176 + t189;
+        double t191 = 0.90630778703665 * t190;
+        double t192 = 0.5 * t115;
+        double t193 = t65 - t192;
+        double t194 = t82 - t85;
+        double t195 = 0.8660254037844384 * t194;
+        double t196 = t193 - t195;
+        double t197 = 0.17364817766693033 * t181;
+        double t198 = 0.984807753012208 * t187;
+        double t199 = t197 + t198;
+        double t200 = t196 - t199;
+        double t201 = 0.4226182617406992 * t200;
+        double t202 = t191 + t201;
+        double t203 = 0.7499999999999996 * t128;
+        double t204 = t203 - t127;
+        double t205 = t124 + t204;
+        double t206 = 0.8660254037844384 * t205;
+        double t207 = 0.8660254037844384 * t126;
+        double t208 = t135 + t207;
+        double t209 = t134 - t208;
+        double t210 = 0.5 * t209;
+        double t211 = t206 + t210;
+        double t212 = t142 - t144;
+        double t213 = t153 + t155;
+        double t214 = 0.6427876096865393 * t213;
+        double t215 = t147 - t149;
+        double t216 = 0.766044443118978 * t215;
+        double t217 = t214 - t216;
+        double t218 = t212 + t217;
+        double t219 = 0.8191520442889916 * t218;
+        double t220 = t162 + t164;
+        double t221 = 0.766044443118978 * t213;
+        double t222 = 0.6427876096865393 * t215;
+        double t223 = t221 + t222;
+        double t224 = t220 - t223;
+        double t225 = 0.5735764363510465 * t224;
+        double t226 = t219 + t225;
+        double t227 = t173 - t175;
+        double t228 = t178 + t180;
+        double t229 = 0.34202014332566866 * t228;
+        double t230 = t184 - t186;
+        double t231 = 0.9396926207859084 * t230;
+        double t232 = t229 - t231;
+        double t233 = t227 + t232;
+        double t234 = 0.7660444431189778 * t233;
+        double t235 = t193 + t195;
+        double t236 = 0.9396926207859084 * t228;
+        double t237 = 0.34202014332566866 * t230;
+        double t238 = t236 + t237;
+        double t239 = t235 - t238;
+        double t240 = 0.6427876096865396 * t239;
+        double t241 = t234 + t240;
+        double t242 = t7 - t15;
+        double t243 = 0.7071067811865476 * t242;
+        double t244 = t32 - t61;
+        double t245 = 0.6427876096865393 * t244;
+        double t246 = t76 - t73;
+        double t247 = 0.7660444431189781 * t246;
+        double t248 = t245 + t247;
+        double t249 = t87 - t106;
+        double t250 = 0.573576436351046 * t249;
+        double t251 = t116 - t119;
+        double t252 = 0.8191520442889918 * t251;
+        double t253 = t250 + t252;
+        double t254 = t124 - t130;
+        double t255 = 0.5 * t254;
+        double t256 = t137 - t134;
+        double t257 = 0.8660254037844386 * t256;
+        double t258 = t255 + t257;
+        double t259 = t145 - t158;
+        double t260 = 0.42261826174069883 * t259;
+        double t261 = t165 - t168;
+        double t262 = 0.9063077870366503 * t261;
+        double t263 = t260 + t262;
+        double t264 = t176 - t189;
+        double t265 = 0.342020143325669 * t264;
+        double t266 = t196 + t199;
+        double t267 = 0.9396926207859083 * t266;
+        double t268 = t265 + t267;
+        double t269 = t124 - t204;
+        double t270 = 0.2588190451025203 * t269;
+        double t271 = t134 + t208;
+        double t272 = 0.9659258262890684 * t271;
+        double t273 = t270 + t272;
+        double t274 = t212 - t217;
+        double t275 = 0.17364817766692997 * t274;
+        double t276 = t220 + t223;
+        double t277 = 0.9848077530122081 * t276;
+        double t278 = t275 + t277;
+        double t279 = t227 - t232;
+        double t280 = 0.08715574274765789 * t279;
+        double t281 = t235 + t238;
+        double t282 = 0.9961946980917455 * t281;
+        double t283 = t280 + t282;
+        a[offa] = t16;
+        a[offa + 1] = t79;
+        a[offa + 2] = t122;
+        a[offa + 3] = t140;
+        a[offa + 4] = t171;
+        a[offa + 5] = t202;
+        a[offa + 6] = t211;
+        a[offa + 7] = t226;
+        a[offa + 8] = t241;
+        a[offa + 9] = t243;
+        a[offa + 10] = t248;
+        a[offa + 11] = t253;
+        a[offa + 12] = t258;
+        a[offa + 13] = t263;
+        a[offa + 14] = t268;
+        a[offa + 15] = t273;
+        a[offa + 16] = t278;
+        a[offa + 17] = t283;
+    }
+
+    static void dct2_20(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double x13 = a[offa + 13];
+        double x14 = a[offa + 14];
+        double x15 = a[offa + 15];
+        double x16 = a[offa + 16];
+        double x17 = a[offa + 17];
+        double x18 = a[offa + 18];
+        double x19 = a[offa + 19];
+        double t0 = x16 + x15;
+        double t1 = x8 + x7;
+        double t2 = x0 + t1;
+        double t3 = t0 + t2;
+        double t4 = x11 + x19;
+        double t5 = x12 + x3;
+        double t6 = x4 + t5;
+        double t7 = t4 + t6;
+        double t8 = t3 + t7;
+        double t9 = x18 + x13;
+        double t10 = x10 + x5;
+        double t11 = x2 + t10;
+        double t12 = t9 + t11;
+        double t13 = x9 + x17;
+        double t14 = x14 + x1;
+        double t15 = x6 + t14;
+        double t16 = t13 + t15;
+        double t17 = t12 + t16;
+        double t18 = t8 + t17;
+        double t19 = 0.30901699437494723 * t1;
+        double t20 = x0 + t19;
+        double t21 = 0.8090169943749476 * t0;
+        double t22 = t20 - t21;
+        double t23 = 0.30901699437494723 * t5;
+        double t24 = x4 + t23;
+        double t25 = 0.8090169943749476 * t4;
+        double t26 = t24 - t25;
+        double t27 = 0.8090169943749473 * t26;
+        double t28 = x12 - x3;
+        double t29 = 0.9510565162951536 * t28;
+        double t30 = x19 - x11;
+        double t31 = 0.587785252292473 * t30;
+        double t32 = t29 + t31;
+        double t33 = 0.5877852522924734 * t32;
+        double t34 = t27 - t33;
+        double t35 = t22 + t34;
+        double t36 = 0.30901699437494723 * t10;
+        double t37 = x2 + t36;
+        double t38 = 0.8090169943749476 * t9;
+        double t39 = t37 - t38;
+        double t40 = 0.9510565162951535 * t39;
+        double t41 = x10 - x5;
+        double t42 = 0.9510565162951536 * t41;
+        double t43 = x18 - x13;
+        double t44 = 0.587785252292473 * t43;
+        double t45 = t42 + t44;
+        double t46 = 0.3090169943749476 * t45;
+        double t47 = t40 - t46;
+        double t48 = 0.30901699437494723 * t14;
+        double t49 = x6 + t48;
+        double t50 = 0.8090169943749476 * t13;
+        double t51 = t49 - t50;
+        double t52 = 0.5877852522924729 * t51;
+        double t53 = x14 - x1;
+        double t54 = 0.9510565162951536 * t53;
+        double t55 = x17 - x9;
+        double t56 = 0.587785252292473 * t55;
+        double t57 = t54 + t56;
+        double t58 = 0.8090169943749476 * t57;
+        double t59 = t52 - t58;
+        double t60 = t47 + t59;
+        double t61 = t35 + t60;
+        double t62 = 0.996917333733128 * t61;
+        double t63 = x8 - x7;
+        double t64 = 0.9510565162951536 * t63;
+        double t65 = x16 - x15;
+        double t66 = 0.587785252292473 * t65;
+        double t67 = t64 + t66;
+        double t68 = 0.8090169943749473 * t32;
+        double t69 = 0.5877852522924734 * t26;
+        double t70 = t68 + t69;
+        double t71 = t67 + t70;
+        double t72 = 0.9510565162951535 * t45;
+        double t73 = 0.3090169943749476 * t39;
+        double t74 = t72 + t73;
+        double t75 = 0.5877852522924729 * t57;
+        double t76 = 0.8090169943749476 * t51;
+        double t77 = t75 + t76;
+        double t78 = t74 + t77;
+        double t79 = t71 + t78;
+        double t80 = 0.07845909572784475 * t79;
+        double t81 = t62 - t80;
+        double t82 = 0.8090169943749476 * t1;
+        double t83 = x0 - t82;
+        double t84 = 0.30901699437494745 * t0;
+        double t85 = t83 + t84;
+        double t86 = 0.8090169943749476 * t5;
+        double t87 = x4 - t86;
+        double t88 = 0.30901699437494745 * t4;
+        double t89 = t87 + t88;
+        double t90 = 0.30901699437494723 * t89;
+        double t91 = 0.9510565162951535 * t30;
+        double t92 = 0.587785252292473 * t28;
+        double t93 = t91 - t92;
+        double t94 = 0.9510565162951536 * t93;
+        double t95 = t90 + t94;
+        double t96 = t85 + t95;
+        double t97 = 0.8090169943749476 * t10;
+        double t98 = x2 - t97;
+        double t99 = 0.30901699437494745 * t9;
+        double t100 = t98 + t99;
+        double t101 = 0.8090169943749473 * t100;
+        double t102 = 0.9510565162951535 * t43;
+        double t103 = 0.587785252292473 * t41;
+        double t104 = t102 - t103;
+        double t105 = 0.5877852522924734 * t104;
+        double t106 = t101 + t105;
+        double t107 = 0.9510565162951535 * t55;
+        double t108 = 0.587785252292473 * t53;
+        double t109 = t107 - t108;
+        double t110 = 0.9510565162951535 * t109;
+        double t111 = 0.8090169943749476 * t14;
+        double t112 = x6 - t111;
+        double t113 = 0.30901699437494745 * t13;
+        double t114 = t112 + t113;
+        double t115 = 0.30901699437494756 * t114;
+        double t116 = t110 - t115;
+        double t117 = t106 + t116;
+        double t118 = t96 + t117;
+        double t119 = 0.9876883405951377 * t118;
+        double t120 = 0.9510565162951535 * t65;
+        double t121 = 0.587785252292473 * t63;
+        double t122 = t120 - t121;
+        double t123 = 0.30901699437494723 * t93;
+        double t124 = 0.9510565162951536 * t89;
+        double t125 = t123 - t124;
+        double t126 = t122 + t125;
+        double t127 = 0.8090169943749473 * t104;
+        double t128 = 0.5877852522924734 * t100;
+        double t129 = t127 - t128;
+        double t130 = 0.30901699437494756 * t109;
+        double t131 = 0.9510565162951535 * t114;
+        double t132 = t130 + t131;
+        double t133 = t129 - t132;
+        double t134 = t126 + t133;
+        double t135 = 0.15643446504023112 * t134;
+        double t136 = t119 + t135;
+        double t137 = t92 - t91;
+        double t138 = 0.9510565162951535 * t137;
+        double t139 = 0.30901699437494756 * t89;
+        double t140 = t138 - t139;
+        double t141 = t85 + t140;
+        double t142 = 0.5877852522924729 * t100;
+        double t143 = t103 - t102;
+        double t144 = 0.8090169943749476 * t143;
+        double t145 = t142 + t144;
+        double t146 = t108 - t107;
+        double t147 = 0.30901699437494773 * t146;
+        double t148 = t147 - t131;
+        double t149 = t145 + t148;
+        double t150 = t141 + t149;
+        double t151 = 0.9723699203976767 * t150;
+        double t152 = t121 - t120;
+        double t153 = 0.30901699437494756 * t137;
+        double t154 = 0.9510565162951535 * t89;
+        double t155 = t153 + t154;
+        double t156 = t152 - t155;
+        double t157 = 0.5877852522924729 * t143;
+        double t158 = 0.8090169943749476 * t100;
+        double t159 = t157 - t158;
+        double t160 = 0.9510565162951535 * t146;
+        double t161 = 0.30901699437494773 * t114;
+        double t162 = t160 + t161;
+        double t163 = t159 - t162;
+        double t164 = t156 + t163;
+        double t165 = 0.2334453638559052 * t164;
+        double t166 = t151 + t165;
+        double t167 = 0.587785252292473 * t32;
+        double t168 = 0.8090169943749476 * t26;
+        double t169 = t167 - t168;
+        double t170 = t22 + t169;
+        double t171 = 0.30901699437494723 * t39;
+        double t172 = 0.9510565162951536 * t45;
+        double t173 = t171 + t172;
+        double t174 = 0.8090169943749473 * t51;
+        double t175 = 0.5877852522924732 * t57;
+        double t176 = t174 + t175;
+        double t177 = t173 - t176;
+        double t178 = t170 + t177;
+        double t179 = 0.9510565162951535 * t178;
+        double t180 = 0.8090169943749476 * t32;
+        double t181 = 0.587785252292473 * t26;
+        double t182 = t180 + t181;
+        double t183 = t67 - t182;
+        double t184 = 0.30901699437494723 * t45;
+        double t185 = 0.9510565162951536 * t39;
+        double t186 = t184 - t185;
+        double t187 = 0.5877852522924732 * t51;
+        double t188 = 0.8090169943749473 * t57;
+        double t189 = t187 - t188;
+        double t190 = t186 + t189;
+        double t191 = t183 + t190;
+        double t192 = 0.3090169943749476 * t191;
+        double t193 = t179 + t192;
+        double t194 = t3 - t7;
+        double t195 = 0.9238795325112865 * t194;
+        double t196 = t16 - t12;
+        double t197 = 0.3826834323650904 * t196;
+        double t198 = t195 + t197;
+        double t199 = t22 - t34;
+        double t200 = t77 - t74;
+        double t201 = t199 + t200;
+        double t202 = 0.8910065241883678 * t201;
+        double t203 = t70 - t67;
+        double t204 = t59 - t47;
+        double t205 = t203 + t204;
+        double t206 = 0.45399049973954697 * t205;
+        double t207 = t202 + t206;
+        double t208 = t85 - t95;
+        double t209 = t129 + t132;
+        double t210 = t208 + t209;
+        double t211 = 0.8526401643540918 * t210;
+        double t212 = t122 - t125;
+        double t213 = t116 - t106;
+        double t214 = t212 + t213;
+        double t215 = 0.5224985647159495 * t214;
+        double t216 = t211 + t215;
+        double t217 = t85 - t140;
+        double t218 = t159 + t162;
+        double t219 = t217 + t218;
+        double t220 = 0.8090169943749473 * t219;
+        double t221 = t152 + t155;
+        double t222 = t148 - t145;
+        double t223 = t221 + t222;
+        double t224 = 0.5877852522924734 * t223;
+        double t225 = t220 + t224;
+        double t226 = t22 - t169;
+        double t227 = t186 - t189;
+        double t228 = t226 + t227;
+        double t229 = 0.7604059656000305 * t228;
+        double t230 = t67 + t182;
+        double t231 = t173 + t176;
+        double t232 = t230 - t231;
+        double t233 = 0.6494480483301842 * t232;
+        double t234 = t229 + t233;
+        double t235 = t8 - t17;
+        double t236 = 0.7071067811865476 * t235;
+        double t237 = t35 - t60;
+        double t238 = 0.6494480483301839 * t237;
+        double t239 = t78 - t71;
+        double t240 = 0.7604059656000308 * t239;
+        double t241 = t238 + t240;
+        double t242 = t96 - t117;
+        double t243 = 0.5877852522924729 * t242;
+        double t244 = t126 - t133;
+        double t245 = 0.8090169943749476 * t244;
+        double t246 = t243 + t245;
+        double t247 = t141 - t149;
+        double t248 = 0.522498564715949 * t247;
+        double t249 = t156 - t163;
+        double t250 = 0.8526401643540921 * t249;
+        double t251 = t248 + t250;
+        double t252 = t170 - t177;
+        double t253 = 0.45399049973954664 * t252;
+        double t254 = t183 - t190;
+        double t255 = 0.891006524188368 * t254;
+        double t256 = t253 + t255;
+        double t257 = 0.38268343236509 * t194;
+        double t258 = t12 - t16;
+        double t259 = 0.9238795325112866 * t258;
+        double t260 = t257 + t259;
+        double t261 = t199 - t200;
+        double t262 = 0.30901699437494723 * t261;
+        double t263 = t203 - t204;
+        double t264 = 0.9510565162951536 * t263;
+        double t265 = t262 + t264;
+        double t266 = t208 - t209;
+        double t267 = 0.23344536385590478 * t266;
+        double t268 = t212 - t213;
+        double t269 = 0.9723699203976768 * t268;
+        double t270 = t267 + t269;
+        double t271 = t217 - t218;
+        double t272 = 0.15643446504023067 * t271;
+        double t273 = t221 - t222;
+        double t274 = 0.9876883405951378 * t273;
+        double t275 = t272 + t274;
+        double t276 = t226 - t227;
+        double t277 = 0.07845909572784432 * t276;
+        double t278 = t230 + t231;
+        double t279 = 0.9969173337331281 * t278;
+        double t280 = t277 + t279;
+        a[offa] = t18;
+        a[offa + 1] = t81;
+        a[offa + 2] = t136;
+        a[offa + 3] = t166;
+        a[offa + 4] = t193;
+        a[offa + 5] = t198;
+        a[offa + 6] = t207;
+        a[offa + 7] = t216;
+        a[offa + 8] = t225;
+        a[offa + 9] = t234;
+        a[offa + 10] = t236;
+        a[offa + 11] = t241;
+        a[offa + 12] = t246;
+        a[offa + 13] = t251;
+        a[offa + 14] = t256;
+        a[offa + 15] = t260;
+        a[offa + 16] = t265;
+        a[offa + 17] = t270;
+        a[offa + 18] = t275;
+        a[offa + 19] = t280;
+    }
+
+    static void dct2_24(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double x13 = a[offa + 13];
+        double x14 = a[offa + 14];
+        double x15 = a[offa + 15];
+        double x16 = a[offa + 16];
+        double x17 = a[offa + 17];
+        double x18 = a[offa + 18];
+        double x19 = a[offa + 19];
+        double x20 = a[offa + 20];
+        double x21 = a[offa + 21];
+        double x22 = a[offa + 22];
+        double x23 = a[offa + 23];
+        double t0 = x16 + x15;
+        double t1 = x0 + t0;
+        double t2 = x7 + x23;
+        double t3 = x8 + t2;
+        double t4 = t1 + t3;
+        double t5 = x20 + x11;
+        double t6 = x4 + t5;
+        double t7 = x3 + x19;
+        double t8 = x12 + t7;
+        double t9 = t6 + t8;
+        double t10 = t4 + t9;
+        double t11 = x18 + x13;
+        double t12 = x2 + t11;
+        double t13 = x5 + x21;
+        double t14 = x10 + t13;
+        double t15 = t12 + t14;
+        double t16 = x22 + x9;
+        double t17 = x6 + t16;
+        double t18 = x1 + x17;
+        double t19 = x14 + t18;
+        double t20 = t17 + t19;
+        double t21 = t15 + t20;
+        double t22 = t10 + t21;
+        double t23 = 0.5 * t0;
+        double t24 = x0 - t23;
+        double t25 = 0.5 * t2;
+        double t26 = x8 - t25;
+        double t27 = 0.5 * t26;
+        double t28 = x23 - x7;
+        double t29 = 0.7499999999999997 * t28;
+        double t30 = t27 - t29;
+        double t31 = t24 + t30;
+        double t32 = 0.5 * t5;
+        double t33 = x4 - t32;
+        double t34 = 0.5 * t7;
+        double t35 = x12 - t34;
+        double t36 = 0.5 * t35;
+        double t37 = x19 - x3;
+        double t38 = 0.7499999999999997 * t37;
+        double t39 = t36 - t38;
+        double t40 = t33 + t39;
+        double t41 = 0.8660254037844384 * t40;
+        double t42 = x20 - x11;
+        double t43 = 0.8660254037844384 * t42;
+        double t44 = 0.4330127018922192 * t37;
+        double t45 = 0.8660254037844386 * t35;
+        double t46 = t44 + t45;
+        double t47 = t43 + t46;
+        double t48 = 0.5 * t47;
+        double t49 = t41 - t48;
+        double t50 = t31 + t49;
+        double t51 = 0.5 * t11;
+        double t52 = x2 - t51;
+        double t53 = 0.5 * t13;
+        double t54 = x10 - t53;
+        double t55 = 0.5 * t54;
+        double t56 = x21 - x5;
+        double t57 = 0.7499999999999997 * t56;
+        double t58 = t55 - t57;
+        double t59 = t52 + t58;
+        double t60 = 0.9659258262890683 * t59;
+        double t61 = x18 - x13;
+        double t62 = 0.8660254037844384 * t61;
+        double t63 = 0.4330127018922192 * t56;
+        double t64 = 0.8660254037844386 * t54;
+        double t65 = t63 + t64;
+        double t66 = t62 + t65;
+        double t67 = 0.2588190451025207 * t66;
+        double t68 = t60 - t67;
+        double t69 = 0.5 * t16;
+        double t70 = x6 - t69;
+        double t71 = 0.5 * t18;
+        double t72 = x14 - t71;
+        double t73 = 0.5 * t72;
+        double t74 = x17 - x1;
+        double t75 = 0.7499999999999997 * t74;
+        double t76 = t73 - t75;
+        double t77 = t70 + t76;
+        double t78 = x22 - x9;
+        double t79 = 0.8660254037844384 * t78;
+        double t80 = 0.4330127018922192 * t74;
+        double t81 = 0.8660254037844386 * t72;
+        double t82 = t80 + t81;
+        double t83 = t79 + t82;
+        double t84 = t77 - t83;
+        double t85 = 0.7071067811865476 * t84;
+        double t86 = t68 + t85;
+        double t87 = t50 + t86;
+        double t88 = 0.9978589232386035 * t87;
+        double t89 = x16 - x15;
+        double t90 = 0.8660254037844384 * t89;
+        double t91 = 0.4330127018922192 * t28;
+        double t92 = 0.8660254037844386 * t26;
+        double t93 = t91 + t92;
+        double t94 = t90 + t93;
+        double t95 = 0.8660254037844384 * t47;
+        double t96 = 0.5 * t40;
+        double t97 = t95 + t96;
+        double t98 = t94 + t97;
+        double t99 = 0.9659258262890683 * t66;
+        double t100 = 0.2588190451025207 * t59;
+        double t101 = t99 + t100;
+        double t102 = t77 + t83;
+        double t103 = 0.7071067811865476 * t102;
+        double t104 = t101 + t103;
+        double t105 = t98 + t104;
+        double t106 = 0.0654031292301428 * t105;
+        double t107 = t88 - t106;
+        double t108 = 0.7499999999999996 * t28;
+        double t109 = t108 - t27;
+        double t110 = t24 + t109;
+        double t111 = 0.7499999999999996 * t37;
+        double t112 = t111 - t36;
+        double t113 = t33 + t112;
+        double t114 = 0.5 * t113;
+        double t115 = 0.8660254037844384 * t35;
+        double t116 = t44 + t115;
+        double t117 = t43 - t116;
+        double t118 = 0.8660254037844386 * t117;
+        double t119 = t114 + t118;
+        double t120 = t110 + t119;
+        double t121 = 0.8660254037844384 * t72;
+        double t122 = t80 + t121;
+        double t123 = t79 - t122;
+        double t124 = 0.7499999999999996 * t56;
+        double t125 = t124 - t55;
+        double t126 = t52 + t125;
+        double t127 = 0.8660254037844384 * t126;
+        double t128 = 0.8660254037844384 * t54;
+        double t129 = t63 + t128;
+        double t130 = t62 - t129;
+        double t131 = 0.5 * t130;
+        double t132 = t127 + t131;
+        double t133 = t123 + t132;
+        double t134 = t120 + t133;
+        double t135 = 0.9914448613738104 * t134;
+        double t136 = 0.8660254037844384 * t26;
+        double t137 = t91 + t136;
+        double t138 = t90 - t137;
+        double t139 = 0.5 * t117;
+        double t140 = 0.8660254037844386 * t113;
+        double t141 = t139 - t140;
+        double t142 = t138 + t141;
+        double t143 = 0.8660254037844384 * t130;
+        double t144 = 0.5 * t126;
+        double t145 = t143 - t144;
+        double t146 = 0.7499999999999996 * t74;
+        double t147 = t146 - t73;
+        double t148 = t70 + t147;
+        double t149 = t145 - t148;
+        double t150 = t142 + t149;
+        double t151 = 0.13052619222005168 * t150;
+        double t152 = t135 + t151;
+        double t153 = t1 - t3;
+        double t154 = t12 - t14;
+        double t155 = 0.7071067811865476 * t154;
+        double t156 = t17 - t19;
+        double t157 = 0.7071067811865476 * t156;
+        double t158 = t155 - t157;
+        double t159 = t153 + t158;
+        double t160 = 0.9807852804032303 * t159;
+        double t161 = t8 - t6;
+        double t162 = t14 - t12;
+        double t163 = 0.7071067811865476 * t162;
+        double t164 = t163 - t157;
+        double t165 = t161 + t164;
+        double t166 = 0.19509032201612872 * t165;
+        double t167 = t160 + t166;
+        double t168 = t24 - t30;
+        double t169 = t46 - t43;
+        double t170 = 0.8660254037844384 * t169;
+        double t171 = t33 - t39;
+        double t172 = 0.5 * t171;
+        double t173 = t170 - t172;
+        double t174 = t168 + t173;
+        double t175 = t52 - t58;
+        double t176 = 0.5 * t175;
+        double t177 = t65 - t62;
+        double t178 = 0.8660254037844386 * t177;
+        double t179 = t176 + t178;
+        double t180 = t76 - t70;
+        double t181 = t179 + t180;
+        double t182 = t174 + t181;
+        double t183 = 0.9659258262890683 * t182;
+        double t184 = t93 - t90;
+        double t185 = 0.5 * t169;
+        double t186 = 0.8660254037844384 * t171;
+        double t187 = t185 + t186;
+        double t188 = t184 - t187;
+        double t189 = 0.5 * t177;
+        double t190 = 0.8660254037844386 * t175;
+        double t191 = t189 - t190;
+        double t192 = t79 - t82;
+        double t193 = t191 + t192;
+        double t194 = t188 + t193;
+        double t195 = 0.2588190451025207 * t194;
+        double t196 = t183 + t195;
+        double t197 = t24 - t109;
+        double t198 = t43 + t116;
+        double t199 = 0.5 * t198;
+        double t200 = t33 - t112;
+        double t201 = 0.8660254037844386 * t200;
+        double t202 = t199 - t201;
+        double t203 = t197 + t202;
+        double t204 = t52 - t125;
+        double t205 = 0.2588190451025203 * t204;
+        double t206 = t62 + t129;
+        double t207 = 0.9659258262890684 * t206;
+        double t208 = t205 + t207;
+        double t209 = t70 - t147;
+        double t210 = t79 + t122;
+        double t211 = t209 + t210;
+        double t212 = 0.7071067811865476 * t211;
+        double t213 = t208 - t212;
+        double t214 = t203 + t213;
+        double t215 = 0.9469301294951056 * t214;
+        double t216 = t90 + t137;
+        double t217 = 0.8660254037844386 * t198;
+        double t218 = 0.5 * t200;
+        double t219 = t217 + t218;
+        double t220 = t216 - t219;
+        double t221 = 0.2588190451025203 * t206;
+        double t222 = 0.9659258262890684 * t204;
+        double t223 = t221 - t222;
+        double t224 = t210 - t209;
+        double t225 = 0.7071067811865476 * t224;
+        double t226 = t223 - t225;
+        double t227 = t220 + t226;
+        double t228 = 0.32143946530316186 * t227;
+        double t229 = t215 + t228;
+        double t230 = t4 - t9;
+        double t231 = 0.9238795325112865 * t230;
+        double t232 = t20 - t15;
+        double t233 = 0.3826834323650904 * t232;
+        double t234 = t231 + t233;
+        double t235 = t31 - t49;
+        double t236 = t103 - t101;
+        double t237 = t235 + t236;
+        double t238 = 0.8968727415326883 * t237;
+        double t239 = t97 - t94;
+        double t240 = t85 - t68;
+        double t241 = t239 + t240;
+        double t242 = 0.4422886902190014 * t241;
+        double t243 = t238 + t242;
+        double t244 = t110 - t119;
+        double t245 = t148 + t145;
+        double t246 = t244 + t245;
+        double t247 = 0.8660254037844384 * t246;
+        double t248 = t138 - t141;
+        double t249 = t123 - t132;
+        double t250 = t248 + t249;
+        double t251 = 0.5 * t250;
+        double t252 = t247 + t251;
+        double t253 = t163 + t157;
+        double t254 = t153 + t253;
+        double t255 = 0.8314696123025452 * t254;
+        double t256 = t6 - t8;
+        double t257 = t155 + t157;
+        double t258 = t256 - t257;
+        double t259 = 0.5555702330196022 * t258;
+        double t260 = t255 + t259;
+        double t261 = t168 - t173;
+        double t262 = t191 - t192;
+        double t263 = t261 + t262;
+        double t264 = 0.7933533402912349 * t263;
+        double t265 = t184 + t187;
+        double t266 = t180 - t179;
+        double t267 = t265 + t266;
+        double t268 = 0.6087614290087209 * t267;
+        double t269 = t264 + t268;
+        double t270 = t197 - t202;
+        double t271 = t223 + t225;
+        double t272 = t270 + t271;
+        double t273 = 0.7518398074789769 * t272;
+        double t274 = t216 + t219;
+        double t275 = t208 + t212;
+        double t276 = t274 - t275;
+        double t277 = 0.6593458151000694 * t276;
+        double t278 = t273 + t277;
+        double t279 = t10 - t21;
+        double t280 = 0.7071067811865476 * t279;
+        double t281 = t50 - t86;
+        double t282 = 0.6593458151000691 * t281;
+        double t283 = t104 - t98;
+        double t284 = 0.7518398074789772 * t283;
+        double t285 = t282 + t284;
+        double t286 = t120 - t133;
+        double t287 = 0.6087614290087205 * t286;
+        double t288 = t142 - t149;
+        double t289 = 0.7933533402912352 * t288;
+        double t290 = t287 + t289;
+        double t291 = t153 - t158;
+        double t292 = 0.5555702330196018 * t291;
+        double t293 = t161 - t164;
+        double t294 = 0.8314696123025455 * t293;
+        double t295 = t292 + t294;
+        double t296 = t174 - t181;
+        double t297 = 0.5 * t296;
+        double t298 = t188 - t193;
+        double t299 = 0.8660254037844386 * t298;
+        double t300 = t297 + t299;
+        double t301 = t203 - t213;
+        double t302 = 0.442288690219001 * t301;
+        double t303 = t220 - t226;
+        double t304 = 0.8968727415326885 * t303;
+        double t305 = t302 + t304;
+        double t306 = 0.38268343236509 * t230;
+        double t307 = t15 - t20;
+        double t308 = 0.9238795325112866 * t307;
+        double t309 = t306 + t308;
+        double t310 = t235 - t236;
+        double t311 = 0.3214394653031615 * t310;
+        double t312 = t239 - t240;
+        double t313 = 0.9469301294951057 * t312;
+        double t314 = t311 + t313;
+        double t315 = t244 - t245;
+        double t316 = 0.2588190451025203 * t315;
+        double t317 = t248 - t249;
+        double t318 = 0.9659258262890684 * t317;
+        double t319 = t316 + t318;
+        double t320 = t153 - t253;
+        double t321 = 0.1950903220161283 * t320;
+        double t322 = t256 + t257;
+        double t323 = 0.9807852804032304 * t322;
+        double t324 = t321 + t323;
+        double t325 = t261 - t262;
+        double t326 = 0.13052619222005127 * t325;
+        double t327 = t265 - t266;
+        double t328 = 0.9914448613738105 * t327;
+        double t329 = t326 + t328;
+        double t330 = t270 - t271;
+        double t331 = 0.06540312923014237 * t330;
+        double t332 = t274 + t275;
+        double t333 = 0.9978589232386036 * t332;
+        double t334 = t331 + t333;
+        a[offa] = t22;
+        a[offa + 1] = t107;
+        a[offa + 2] = t152;
+        a[offa + 3] = t167;
+        a[offa + 4] = t196;
+        a[offa + 5] = t229;
+        a[offa + 6] = t234;
+        a[offa + 7] = t243;
+        a[offa + 8] = t252;
+        a[offa + 9] = t260;
+        a[offa + 10] = t269;
+        a[offa + 11] = t278;
+        a[offa + 12] = t280;
+        a[offa + 13] = t285;
+        a[offa + 14] = t290;
+        a[offa + 15] = t295;
+        a[offa + 16] = t300;
+        a[offa + 17] = t305;
+        a[offa + 18] = t309;
+        a[offa + 19] = t314;
+        a[offa + 20] = t319;
+        a[offa + 21] = t324;
+        a[offa + 22] = t329;
+        a[offa + 23] = t334;
+    }
+
+    static void dct2_32(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double x13 = a[offa + 13];
+        double x14 = a[offa + 14];
+        double x15 = a[offa + 15];
+        double x16 = a[offa + 16];
+        double x17 = a[offa + 17];
+        double x18 = a[offa + 18];
+        double x19 = a[offa + 19];
+        double x20 = a[offa + 20];
+        double x21 = a[offa + 21];
+        double x22 = a[offa + 22];
+        double x23 = a[offa + 23];
+        double x24 = a[offa + 24];
+        double x25 = a[offa + 25];
+        double x26 = a[offa + 26];
+        double x27 = a[offa + 27];
+        double x28 = a[offa + 28];
+        double x29 = a[offa + 29];
+        double x30 = a[offa + 30];
+        double x31 = a[offa + 31];
+        double t0 = x0 + x31;
+        double t1 = x16 + x15;
+        double t2 = t0 + t1;
+        double t3 = x8 + x23;
+        double t4 = x24 + x7;
+        double t5 = t3 + t4;
+        double t6 = t2 + t5;
+        double t7 = x4 + x27;
+        double t8 = x20 + x11;
+        double t9 = t7 + t8;
+        double t10 = x12 + x19;
+        double t11 = x28 + x3;
+        double t12 = t10 + t11;
+        double t13 = t9 + t12;
+        double t14 = t6 + t13;
+        double t15 = x2 + x29;
+        double t16 = x18 + x13;
+        double t17 = t15 + t16;
+        double t18 = x10 + x21;
+        double t19 = x26 + x5;
+        double t20 = t18 + t19;
+        double t21 = t17 + t20;
+        double t22 = x6 + x25;
+        double t23 = x22 + x9;
+        double t24 = t22 + t23;
+        double t25 = x14 + x17;
+        double t26 = x30 + x1;
+        double t27 = t25 + t26;
+        double t28 = t24 + t27;
+        double t29 = t21 + t28;
+        double t30 = t14 + t29;
+        double t31 = x0 - x31;
+        double t32 = x8 - x23;
+        double t33 = x7 - x24;
+        double t34 = t32 + t33;
+        double t35 = 0.7071067811865476 * t34;
+        double t36 = t31 + t35;
+        double t37 = x4 - x27;
+        double t38 = x12 - x19;
+        double t39 = x3 - x28;
+        double t40 = t38 + t39;
+        double t41 = 0.7071067811865476 * t40;
+        double t42 = t37 + t41;
+        double t43 = 0.9238795325112865 * t42;
+        double t44 = x11 - x20;
+        double t45 = t39 - t38;
+        double t46 = 0.7071067811865476 * t45;
+        double t47 = t44 + t46;
+        double t48 = 0.3826834323650904 * t47;
+        double t49 = t43 + t48;
+        double t50 = t36 + t49;
+        double t51 = x2 - x29;
+        double t52 = x10 - x21;
+        double t53 = x5 - x26;
+        double t54 = t52 + t53;
+        double t55 = 0.7071067811865476 * t54;
+        double t56 = t51 + t55;
+        double t57 = 0.9807852804032303 * t56;
+        double t58 = x13 - x18;
+        double t59 = t53 - t52;
+        double t60 = 0.7071067811865476 * t59;
+        double t61 = t58 + t60;
+        double t62 = 0.19509032201612872 * t61;
+        double t63 = t57 + t62;
+        double t64 = x6 - x25;
+        double t65 = x14 - x17;
+        double t66 = x1 - x30;
+        double t67 = t65 + t66;
+        double t68 = 0.7071067811865476 * t67;
+        double t69 = t64 + t68;
+        double t70 = 0.8314696123025452 * t69;
+        double t71 = x9 - x22;
+        double t72 = t66 - t65;
+        double t73 = 0.7071067811865476 * t72;
+        double t74 = t71 + t73;
+        double t75 = 0.5555702330196022 * t74;
+        double t76 = t70 + t75;
+        double t77 = t63 + t76;
+        double t78 = t50 + t77;
+        double t79 = 0.9987954562051724 * t78;
+        double t80 = x15 - x16;
+        double t81 = t33 - t32;
+        double t82 = 0.7071067811865476 * t81;
+        double t83 = t80 + t82;
+        double t84 = 0.9238795325112865 * t47;
+        double t85 = 0.3826834323650904 * t42;
+        double t86 = t84 - t85;
+        double t87 = t83 + t86;
+        double t88 = 0.9807852804032303 * t61;
+        double t89 = 0.19509032201612872 * t56;
+        double t90 = t88 - t89;
+        double t91 = 0.8314696123025452 * t74;
+        double t92 = 0.5555702330196022 * t69;
+        double t93 = t91 - t92;
+        double t94 = t90 + t93;
+        double t95 = t87 + t94;
+        double t96 = 0.04906767432741809 * t95;
+        double t97 = t79 + t96;
+        double t98 = t0 - t1;
+        double t99 = t7 - t8;
+        double t100 = t11 - t10;
+        double t101 = t99 + t100;
+        double t102 = 0.7071067811865476 * t101;
+        double t103 = t98 + t102;
+        double t104 = t15 - t16;
+        double t105 = 0.9238795325112865 * t104;
+        double t106 = t19 - t18;
+        double t107 = 0.3826834323650904 * t106;
+        double t108 = t105 + t107;
+        double t109 = t22 - t23;
+        double t110 = 0.38268343236509 * t109;
+        double t111 = t26 - t25;
+        double t112 = 0.9238795325112866 * t111;
+        double t113 = t110 + t112;
+        double t114 = t108 + t113;
+        double t115 = t103 + t114;
+        double t116 = 0.9951847266721969 * t115;
+        double t117 = t4 - t3;
+        double t118 = t100 - t99;
+        double t119 = 0.7071067811865476 * t118;
+        double t120 = t117 + t119;
+        double t121 = 0.9238795325112865 * t106;
+        double t122 = 0.3826834323650904 * t104;
+        double t123 = t121 - t122;
+        double t124 = 0.38268343236509 * t111;
+        double t125 = 0.9238795325112866 * t109;
+        double t126 = t124 - t125;
+        double t127 = t123 + t126;
+        double t128 = t120 + t127;
+        double t129 = 0.0980171403295605 * t128;
+        double t130 = t116 + t129;
+        double t131 = x24 - x7;
+        double t132 = t32 - t131;
+        double t133 = 0.7071067811865476 * t132;
+        double t134 = t31 - t133;
+        double t135 = x28 - x3;
+        double t136 = t38 - t135;
+        double t137 = 0.7071067811865476 * t136;
+        double t138 = t37 - t137;
+        double t139 = 0.38268343236509 * t138;
+        double t140 = x20 - x11;
+        double t141 = t38 + t135;
+        double t142 = 0.7071067811865476 * t141;
+        double t143 = t140 - t142;
+        double t144 = 0.9238795325112866 * t143;
+        double t145 = t139 + t144;
+        double t146 = t134 + t145;
+        double t147 = x26 - x5;
+        double t148 = t52 - t147;
+        double t149 = 0.7071067811865476 * t148;
+        double t150 = t51 - t149;
+        double t151 = 0.8314696123025452 * t150;
+        double t152 = x18 - x13;
+        double t153 = t52 + t147;
+        double t154 = 0.7071067811865476 * t153;
+        double t155 = t152 - t154;
+        double t156 = 0.5555702330196022 * t155;
+        double t157 = t151 + t156;
+        double t158 = x22 - x9;
+        double t159 = x30 - x1;
+        double t160 = t65 + t159;
+        double t161 = 0.7071067811865476 * t160;
+        double t162 = t158 - t161;
+        double t163 = 0.9807852804032303 * t162;
+        double t164 = t65 - t159;
+        double t165 = 0.7071067811865476 * t164;
+        double t166 = t64 - t165;
+        double t167 = 0.19509032201612866 * t166;
+        double t168 = t163 - t167;
+        double t169 = t157 + t168;
+        double t170 = t146 + t169;
+        double t171 = 0.9891765099647809 * t170;
+        double t172 = x16 - x15;
+        double t173 = t32 + t131;
+        double t174 = 0.7071067811865476 * t173;
+        double t175 = t172 - t174;
+        double t176 = 0.38268343236509 * t143;
+        double t177 = 0.9238795325112866 * t138;
+        double t178 = t176 - t177;
+        double t179 = t175 + t178;
+        double t180 = 0.8314696123025452 * t155;
+        double t181 = 0.5555702330196022 * t150;
+        double t182 = t180 - t181;
+        double t183 = 0.19509032201612866 * t162;
+        double t184 = 0.9807852804032303 * t166;
+        double t185 = t183 + t184;
+        double t186 = t182 - t185;
+        double t187 = t179 + t186;
+        double t188 = 0.1467304744553624 * t187;
+        double t189 = t171 + t188;
+        double t190 = t2 - t5;
+        double t191 = t17 - t20;
+        double t192 = 0.7071067811865476 * t191;
+        double t193 = t24 - t27;
+        double t194 = 0.7071067811865476 * t193;
+        double t195 = t192 - t194;
+        double t196 = t190 + t195;
+        double t197 = 0.9807852804032303 * t196;
+        double t198 = t12 - t9;
+        double t199 = t20 - t17;
+        double t200 = 0.7071067811865476 * t199;
+        double t201 = t200 - t194;
+        double t202 = t198 + t201;
+        double t203 = 0.19509032201612872 * t202;
+        double t204 = t197 + t203;
+        double t205 = t31 - t35;
+        double t206 = t44 - t46;
+        double t207 = 0.9238795325112865 * t206;
+        double t208 = t37 - t41;
+        double t209 = 0.38268343236509034 * t208;
+        double t210 = t207 - t209;
+        double t211 = t205 + t210;
+        double t212 = t51 - t55;
+        double t213 = 0.5555702330196018 * t212;
+        double t214 = t58 - t60;
+        double t215 = 0.8314696123025455 * t214;
+        double t216 = t213 + t215;
+        double t217 = t71 - t73;
+        double t218 = 0.19509032201612836 * t217;
+        double t219 = t64 - t68;
+        double t220 = 0.9807852804032304 * t219;
+        double t221 = t218 - t220;
+        double t222 = t216 + t221;
+        double t223 = t211 + t222;
+        double t224 = 0.970031253194544 * t223;
+        double t225 = t80 - t82;
+        double t226 = 0.38268343236509034 * t206;
+        double t227 = 0.9238795325112865 * t208;
+        double t228 = t226 + t227;
+        double t229 = t225 - t228;
+        double t230 = 0.5555702330196018 * t214;
+        double t231 = 0.8314696123025455 * t212;
+        double t232 = t230 - t231;
+        double t233 = 0.9807852804032304 * t217;
+        double t234 = 0.19509032201612836 * t219;
+        double t235 = t233 + t234;
+        double t236 = t232 - t235;
+        double t237 = t229 + t236;
+        double t238 = 0.24298017990326418 * t237;
+        double t239 = t224 + t238;
+        double t240 = t10 - t11;
+        double t241 = t99 - t240;
+        double t242 = 0.7071067811865476 * t241;
+        double t243 = t98 - t242;
+        double t244 = 0.38268343236509 * t104;
+        double t245 = t18 - t19;
+        double t246 = 0.9238795325112866 * t245;
+        double t247 = t244 + t246;
+        double t248 = 0.9238795325112867 * t109;
+        double t249 = t25 - t26;
+        double t250 = 0.3826834323650899 * t249;
+        double t251 = t248 + t250;
+        double t252 = t247 - t251;
+        double t253 = t243 + t252;
+        double t254 = 0.9569403357322088 * t253;
+        double t255 = t3 - t4;
+        double t256 = t99 + t240;
+        double t257 = 0.7071067811865476 * t256;
+        double t258 = t255 - t257;
+        double t259 = 0.38268343236509 * t245;
+        double t260 = 0.9238795325112866 * t104;
+        double t261 = t259 - t260;
+        double t262 = 0.3826834323650899 * t109;
+        double t263 = 0.9238795325112867 * t249;
+        double t264 = t262 - t263;
+        double t265 = t261 + t264;
+        double t266 = t258 + t265;
+        double t267 = 0.2902846772544625 * t266;
+        double t268 = t254 + t267;
+        double t269 = t31 + t133;
+        double t270 = t140 + t142;
+        double t271 = 0.38268343236508967 * t270;
+        double t272 = t37 + t137;
+        double t273 = 0.9238795325112868 * t272;
+        double t274 = t271 - t273;
+        double t275 = t269 + t274;
+        double t276 = t51 + t149;
+        double t277 = 0.1950903220161283 * t276;
+        double t278 = t152 + t154;
+        double t279 = 0.9807852804032304 * t278;
+        double t280 = t277 + t279;
+        double t281 = t64 + t165;
+        double t282 = 0.555570233019602 * t281;
+        double t283 = t158 + t161;
+        double t284 = 0.8314696123025455 * t283;
+        double t285 = t282 + t284;
+        double t286 = t280 - t285;
+        double t287 = t275 + t286;
+        double t288 = 0.9415440651830208 * t287;
+        double t289 = t172 + t174;
+        double t290 = 0.9238795325112868 * t270;
+        double t291 = 0.38268343236508967 * t272;
+        double t292 = t290 + t291;
+        double t293 = t289 - t292;
+        double t294 = 0.1950903220161283 * t278;
+        double t295 = 0.9807852804032304 * t276;
+        double t296 = t294 - t295;
+        double t297 = 0.8314696123025455 * t281;
+        double t298 = 0.555570233019602 * t283;
+        double t299 = t297 - t298;
+        double t300 = t296 + t299;
+        double t301 = t293 + t300;
+        double t302 = 0.33688985339222 * t301;
+        double t303 = t288 + t302;
+        double t304 = t6 - t13;
+        double t305 = 0.9238795325112865 * t304;
+        double t306 = t28 - t21;
+        double t307 = 0.3826834323650904 * t306;
+        double t308 = t305 + t307;
+        double t309 = t36 - t49;
+        double t310 = t90 - t93;
+        double t311 = t309 + t310;
+        double t312 = 0.9039892931234431 * t311;
+        double t313 = t83 - t86;
+        double t314 = t76 - t63;
+        double t315 = t313 + t314;
+        double t316 = 0.42755509343028253 * t315;
+        double t317 = t312 + t316;
+        double t318 = t98 - t102;
+        double t319 = t123 - t126;
+        double t320 = t318 + t319;
+        double t321 = 0.8819212643483548 * t320;
+        double t322 = t117 - t119;
+        double t323 = t113 - t108;
+        double t324 = t322 + t323;
+        double t325 = 0.4713967368259979 * t324;
+        double t326 = t321 + t325;
+        double t327 = t134 - t145;
+        double t328 = t182 + t185;
+        double t329 = t327 + t328;
+        double t330 = 0.857728610000272 * t329;
+        double t331 = t175 - t178;
+        double t332 = t168 - t157;
+        double t333 = t331 + t332;
+        double t334 = 0.5141027441932219 * t333;
+        double t335 = t330 + t334;
+        double t336 = t200 + t194;
+        double t337 = t190 + t336;
+        double t338 = 0.8314696123025452 * t337;
+        double t339 = t9 - t12;
+        double t340 = t192 + t194;
+        double t341 = t339 - t340;
+        double t342 = 0.5555702330196022 * t341;
+        double t343 = t338 + t342;
+        double t344 = t205 - t210;
+        double t345 = t232 + t235;
+        double t346 = t344 + t345;
+        double t347 = 0.803207531480645 * t346;
+        double t348 = t225 + t228;
+        double t349 = t221 - t216;
+        double t350 = t348 + t349;
+        double t351 = 0.5956993044924332 * t350;
+        double t352 = t347 + t351;
+        double t353 = t98 + t242;
+        double t354 = t261 - t264;
+        double t355 = t353 + t354;
+        double t356 = 0.7730104533627367 * t355;
+        double t357 = t255 + t257;
+        double t358 = t247 + t251;
+        double t359 = t357 - t358;
+        double t360 = 0.6343932841636459 * t359;
+        double t361 = t356 + t360;
+        double t362 = t269 - t274;
+        double t363 = t296 - t299;
+        double t364 = t362 + t363;
+        double t365 = 0.7409511253549589 * t364;
+        double t366 = t289 + t292;
+        double t367 = t280 + t285;
+        double t368 = t366 - t367;
+        double t369 = 0.6715589548470187 * t368;
+        double t370 = t365 + t369;
+        double t371 = t14 - t29;
+        double t372 = 0.7071067811865476 * t371;
+        double t373 = t50 - t77;
+        double t374 = 0.6715589548470183 * t373;
+        double t375 = t87 - t94;
+        double t376 = 0.7409511253549591 * t375;
+        double t377 = t374 + t376;
+        double t378 = t103 - t114;
+        double t379 = 0.6343932841636456 * t378;
+        double t380 = t120 - t127;
+        double t381 = 0.7730104533627369 * t380;
+        double t382 = t379 + t381;
+        double t383 = t146 - t169;
+        double t384 = 0.5956993044924329 * t383;
+        double t385 = t179 - t186;
+        double t386 = 0.8032075314806453 * t385;
+        double t387 = t384 + t386;
+        double t388 = t190 - t195;
+        double t389 = 0.5555702330196018 * t388;
+        double t390 = t198 - t201;
+        double t391 = 0.8314696123025455 * t390;
+        double t392 = t389 + t391;
+        double t393 = t211 - t222;
+        double t394 = 0.5141027441932216 * t393;
+        double t395 = t229 - t236;
+        double t396 = 0.8577286100002722 * t395;
+        double t397 = t394 + t396;
+        double t398 = t243 - t252;
+        double t399 = 0.4713967368259976 * t398;
+        double t400 = t258 - t265;
+        double t401 = 0.881921264348355 * t400;
+        double t402 = t399 + t401;
+        double t403 = t275 - t286;
+        double t404 = 0.42755509343028214 * t403;
+        double t405 = t293 - t300;
+        double t406 = 0.9039892931234433 * t405;
+        double t407 = t404 + t406;
+        double t408 = 0.38268343236509 * t304;
+        double t409 = t21 - t28;
+        double t410 = 0.9238795325112866 * t409;
+        double t411 = t408 + t410;
+        double t412 = t309 - t310;
+        double t413 = 0.3368898533922196 * t412;
+        double t414 = t313 - t314;
+        double t415 = 0.9415440651830209 * t414;
+        double t416 = t413 + t415;
+        double t417 = t318 - t319;
+        double t418 = 0.29028467725446205 * t417;
+        double t419 = t322 - t323;
+        double t420 = 0.9569403357322089 * t419;
+        double t421 = t418 + t420;
+        double t422 = t327 - t328;
+        double t423 = 0.24298017990326376 * t422;
+        double t424 = t331 - t332;
+        double t425 = 0.970031253194544 * t424;
+        double t426 = t423 + t425;
+        double t427 = t190 - t336;
+        double t428 = 0.1950903220161283 * t427;
+        double t429 = t339 + t340;
+        double t430 = 0.9807852804032304 * t429;
+        double t431 = t428 + t430;
+        double t432 = t344 - t345;
+        double t433 = 0.14673047445536194 * t432;
+        double t434 = t348 - t349;
+        double t435 = 0.9891765099647809 * t434;
+        double t436 = t433 + t435;
+        double t437 = t353 - t354;
+        double t438 = 0.09801714032956009 * t437;
+        double t439 = t357 + t358;
+        double t440 = 0.9951847266721969 * t439;
+        double t441 = t438 + t440;
+        double t442 = t362 - t363;
+        double t443 = 0.04906767432741766 * t442;
+        double t444 = t366 + t367;
+        double t445 = 0.9987954562051724 * t444;
+        double t446 = t443 + t445;
+        a[offa] = t30;
+        a[offa + 1] = t97;
+        a[offa + 2] = t130;
+        a[offa + 3] = t189;
+        a[offa + 4] = t204;
+        a[offa + 5] = t239;
+        a[offa + 6] = t268;
+        a[offa + 7] = t303;
+        a[offa + 8] = t308;
+        a[offa + 9] = t317;
+        a[offa + 10] = t326;
+        a[offa + 11] = t335;
+        a[offa + 12] = t343;
+        a[offa + 13] = t352;
+        a[offa + 14] = t361;
+        a[offa + 15] = t370;
+        a[offa + 16] = t372;
+        a[offa + 17] = t377;
+        a[offa + 18] = t382;
+        a[offa + 19] = t387;
+        a[offa + 20] = t392;
+        a[offa + 21] = t397;
+        a[offa + 22] = t402;
+        a[offa + 23] = t407;
+        a[offa + 24] = t411;
+        a[offa + 25] = t416;
+        a[offa + 26] = t421;
+        a[offa + 27] = t426;
+        a[offa + 28] = t431;
+        a[offa + 29] = t436;
+        a[offa + 30] = t441;
+        a[offa + 31] = t446;
+    }
+
+    static void dct3_2(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double t0 = x1 + x1;
+        double t1 = 0.3535533905932738 * t0;
+        double t2 = x0 + t1;
+        double t3 = x0 - t1;
+        a[offa] = t2;
+        a[offa + 1] = t3;
+    }
+
+    static void dct3_3(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double t0 = 0.43301270189221935 * x1;
+        double t1 = 0.24999999999999997 * x2;
+        double t2 = t0 + t1;
+        double t3 = 0.25000000000000006 * x2;
+        double t4 = 0.4330127018922193 * x1;
+        double t5 = t3 + t4;
+        double t6 = t2 + t5;
+        double t7 = x0 + t6;
+        double t8 = 0.5 * t6;
+        double t9 = x0 - t8;
+        double t10 = 0.24999999999999997 * x1;
+        double t11 = 0.43301270189221935 * x2;
+        double t12 = t10 - t11;
+        double t13 = 0.4330127018922193 * x2;
+        double t14 = 0.25000000000000006 * x1;
+        double t15 = t13 - t14;
+        double t16 = t12 - t15;
+        double t17 = 0.8660254037844387 * t16;
+        double t18 = t9 + t17;
+        double t19 = t9 - t17;
+        a[offa] = t7;
+        a[offa + 1] = t18;
+        a[offa + 2] = t19;
+    }
+
+    static void dct3_4(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double t0 = x2 + x2;
+        double t1 = 0.3535533905932738 * t0;
+        double t2 = x0 + t1;
+        double t3 = 0.46193976625564337 * x1;
+        double t4 = 0.1913417161825449 * x3;
+        double t5 = t3 + t4;
+        double t6 = 0.19134171618254492 * x3;
+        double t7 = t3 + t6;
+        double t8 = t5 + t7;
+        double t9 = t2 + t8;
+        double t10 = x0 - t1;
+        double t11 = 0.46193976625564337 * x3;
+        double t12 = 0.19134171618254492 * x1;
+        double t13 = t11 - t12;
+        double t14 = 0.1913417161825449 * x1;
+        double t15 = t14 - t11;
+        double t16 = t13 - t15;
+        double t17 = t10 - t16;
+        double t18 = t10 + t16;
+        double t19 = t2 - t8;
+        a[offa] = t9;
+        a[offa + 1] = t17;
+        a[offa + 2] = t18;
+        a[offa + 3] = t19;
+    }
+
+    static void dct3_5(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double t0 = 0.4045084971874737 * x2;
+        double t1 = 0.29389262614623657 * x3;
+        double t2 = t0 + t1;
+        double t3 = t2 + t2;
+        double t4 = 0.47552825814757677 * x1;
+        double t5 = 0.1545084971874737 * x4;
+        double t6 = t4 + t5;
+        double t7 = 0.15450849718747373 * x4;
+        double t8 = t4 + t7;
+        double t9 = t6 + t8;
+        double t10 = x0 + t9;
+        double t11 = t3 + t10;
+        double t12 = 0.30901699437494745 * t9;
+        double t13 = x0 + t12;
+        double t14 = 0.8090169943749473 * t3;
+        double t15 = t13 - t14;
+        double t16 = 0.1545084971874737 * x1;
+        double t17 = 0.47552825814757677 * x4;
+        double t18 = t16 - t17;
+        double t19 = 0.15450849718747373 * x1;
+        double t20 = t17 - t19;
+        double t21 = t18 - t20;
+        double t22 = 0.9510565162951535 * t21;
+        double t23 = 0.29389262614623657 * x2;
+        double t24 = 0.4045084971874737 * x3;
+        double t25 = t23 - t24;
+        double t26 = t24 - t23;
+        double t27 = t25 - t26;
+        double t28 = 0.5877852522924732 * t27;
+        double t29 = t22 + t28;
+        double t30 = t15 + t29;
+        double t31 = t15 - t29;
+        double t32 = 0.8090169943749473 * t9;
+        double t33 = x0 - t32;
+        double t34 = 0.30901699437494723 * t3;
+        double t35 = t33 + t34;
+        double t36 = 0.5877852522924732 * t21;
+        double t37 = 0.9510565162951536 * t27;
+        double t38 = t36 - t37;
+        double t39 = t35 + t38;
+        double t40 = t35 - t38;
+        a[offa] = t11;
+        a[offa + 1] = t30;
+        a[offa + 2] = t31;
+        a[offa + 3] = t39;
+        a[offa + 4] = t40;
+    }
+
+    static void dct3_6(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double t0 = 0.43301270189221935 * x2;
+        double t1 = 0.24999999999999997 * x4;
+        double t2 = t0 + t1;
+        double t3 = 0.25000000000000006 * x4;
+        double t4 = 0.4330127018922193 * x2;
+        double t5 = t3 + t4;
+        double t6 = t2 + t5;
+        double t7 = x0 + t6;
+        double t8 = 0.48296291314453416 * x1;
+        double t9 = 0.12940952255126037 * x5;
+        double t10 = t8 + t9;
+        double t11 = x3 + x3;
+        double t12 = 0.3535533905932738 * t11;
+        double t13 = t10 + t12;
+        double t14 = t10 + t13;
+        double t15 = t7 + t14;
+        double t16 = 0.5 * t6;
+        double t17 = x0 - t16;
+        double t18 = 0.24999999999999997 * x2;
+        double t19 = 0.43301270189221935 * x4;
+        double t20 = t18 - t19;
+        double t21 = 0.4330127018922193 * x4;
+        double t22 = 0.25000000000000006 * x2;
+        double t23 = t21 - t22;
+        double t24 = t20 - t23;
+        double t25 = 0.8660254037844387 * t24;
+        double t26 = t17 + t25;
+        double t27 = 0.5 * t13;
+        double t28 = t10 - t27;
+        double t29 = 0.12940952255126037 * x1;
+        double t30 = 0.48296291314453416 * x5;
+        double t31 = t29 - t30;
+        double t32 = 0.8660254037844387 * t31;
+        double t33 = t28 + t32;
+        double t34 = 0.5 * t33;
+        double t35 = t30 - t29;
+        double t36 = 0.5 * t35;
+        double t37 = t31 - t36;
+        double t38 = t12 - t10;
+        double t39 = 0.8660254037844387 * t38;
+        double t40 = t37 - t39;
+        double t41 = 0.8660254037844387 * t40;
+        double t42 = t34 + t41;
+        double t43 = t26 + t42;
+        double t44 = t17 - t25;
+        double t45 = t28 - t32;
+        double t46 = 0.5 * t45;
+        double t47 = t37 + t39;
+        double t48 = 0.8660254037844386 * t47;
+        double t49 = t46 - t48;
+        double t50 = t44 + t49;
+        double t51 = t44 - t49;
+        double t52 = t26 - t42;
+        double t53 = t7 - t14;
+        a[offa] = t15;
+        a[offa + 1] = t43;
+        a[offa + 2] = t50;
+        a[offa + 3] = t51;
+        a[offa + 4] = t52;
+        a[offa + 5] = t53;
+    }
+
+    static void dct3_7(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double t0 = 0.3909157412340149 * x3;
+        double t1 = 0.31174490092936674 * x4;
+        double t2 = t0 + t1;
+        double t3 = 0.3117449009293668 * x4;
+        double t4 = t0 + t3;
+        double t5 = t2 + t4;
+        double t6 = 0.4504844339512096 * x2;
+        double t7 = 0.21694186955877906 * x5;
+        double t8 = t6 + t7;
+        double t9 = 0.2169418695587791 * x5;
+        double t10 = t6 + t9;
+        double t11 = t8 + t10;
+        double t12 = 0.4874639560909118 * x1;
+        double t13 = 0.1112604669781572 * x6;
+        double t14 = t12 + t13;
+        double t15 = 0.11126046697815722 * x6;
+        double t16 = t12 + t15;
+        double t17 = t14 + t16;
+        double t18 = x0 + t17;
+        double t19 = t11 + t18;
+        double t20 = t5 + t19;
+        double t21 = 0.6234898018587336 * t17;
+        double t22 = x0 + t21;
+        double t23 = 0.22252093395631434 * t11;
+        double t24 = t22 - t23;
+        double t25 = 0.900968867902419 * t5;
+        double t26 = t24 - t25;
+        double t27 = 0.1112604669781572 * x1;
+        double t28 = 0.4874639560909118 * x6;
+        double t29 = t27 - t28;
+        double t30 = 0.11126046697815722 * x1;
+        double t31 = t28 - t30;
+        double t32 = t29 - t31;
+        double t33 = 0.7818314824680298 * t32;
+        double t34 = 0.21694186955877906 * x2;
+        double t35 = 0.4504844339512096 * x5;
+        double t36 = t34 - t35;
+        double t37 = 0.2169418695587791 * x2;
+        double t38 = t35 - t37;
+        double t39 = t36 - t38;
+        double t40 = 0.9749279121818236 * t39;
+        double t41 = t33 + t40;
+        double t42 = 0.31174490092936674 * x3;
+        double t43 = 0.3909157412340149 * x4;
+        double t44 = t42 - t43;
+        double t45 = 0.3117449009293668 * x3;
+        double t46 = t43 - t45;
+        double t47 = t44 - t46;
+        double t48 = 0.43388373911755823 * t47;
+        double t49 = t41 + t48;
+        double t50 = t26 + t49;
+        double t51 = t26 - t49;
+        double t52 = 0.22252093395631434 * t17;
+        double t53 = x0 - t52;
+        double t54 = 0.9009688679024191 * t11;
+        double t55 = t53 - t54;
+        double t56 = 0.6234898018587334 * t5;
+        double t57 = t55 + t56;
+        double t58 = 0.9749279121818236 * t32;
+        double t59 = 0.433883739117558 * t39;
+        double t60 = t58 - t59;
+        double t61 = 0.7818314824680299 * t47;
+        double t62 = t60 - t61;
+        double t63 = t57 + t62;
+        double t64 = t57 - t62;
+        double t65 = 0.900968867902419 * t17;
+        double t66 = x0 - t65;
+        double t67 = 0.6234898018587334 * t11;
+        double t68 = t66 + t67;
+        double t69 = 0.22252093395631434 * t5;
+        double t70 = t68 - t69;
+        double t71 = 0.43388373911755823 * t32;
+        double t72 = 0.7818314824680299 * t39;
+        double t73 = t71 - t72;
+        double t74 = 0.9749279121818236 * t47;
+        double t75 = t73 + t74;
+        double t76 = t70 + t75;
+        double t77 = t70 - t75;
+        a[offa] = t20;
+        a[offa + 1] = t50;
+        a[offa + 2] = t51;
+        a[offa + 3] = t63;
+        a[offa + 4] = t64;
+        a[offa + 5] = t76;
+        a[offa + 6] = t77;
+    }
+
+    static void dct3_8(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double t0 = x4 + x4;
+        double t1 = 0.3535533905932738 * t0;
+        double t2 = x0 + t1;
+        double t3 = 0.46193976625564337 * x2;
+        double t4 = 0.1913417161825449 * x6;
+        double t5 = t3 + t4;
+        double t6 = 0.19134171618254492 * x6;
+        double t7 = t3 + t6;
+        double t8 = t5 + t7;
+        double t9 = t2 + t8;
+        double t10 = 0.4903926402016152 * x1;
+        double t11 = 0.09754516100806412 * x7;
+        double t12 = t10 + t11;
+        double t13 = 0.4157348061512726 * x3;
+        double t14 = 0.27778511650980114 * x5;
+        double t15 = t13 + t14;
+        double t16 = t12 + t15;
+        double t17 = 0.2777851165098011 * x5;
+        double t18 = t13 + t17;
+        double t19 = 0.09754516100806417 * x7;
+        double t20 = t10 + t19;
+        double t21 = t18 + t20;
+        double t22 = t16 + t21;
+        double t23 = t9 + t22;
+        double t24 = x0 - t1;
+        double t25 = 0.46193976625564337 * x6;
+        double t26 = 0.19134171618254492 * x2;
+        double t27 = t25 - t26;
+        double t28 = 0.1913417161825449 * x2;
+        double t29 = t28 - t25;
+        double t30 = t27 - t29;
+        double t31 = t24 - t30;
+        double t32 = t12 - t15;
+        double t33 = 0.4903926402016152 * x7;
+        double t34 = 0.09754516100806417 * x1;
+        double t35 = t33 - t34;
+        double t36 = 0.2777851165098011 * x3;
+        double t37 = 0.4157348061512726 * x5;
+        double t38 = t36 - t37;
+        double t39 = t35 - t38;
+        double t40 = t32 - t39;
+        double t41 = 0.09754516100806412 * x1;
+        double t42 = t41 - t33;
+        double t43 = 0.27778511650980114 * x3;
+        double t44 = t37 - t43;
+        double t45 = t42 - t44;
+        double t46 = t18 - t20;
+        double t47 = t45 - t46;
+        double t48 = t40 + t47;
+        double t49 = 0.7071067811865476 * t48;
+        double t50 = t31 + t49;
+        double t51 = t24 + t30;
+        double t52 = t32 + t39;
+        double t53 = t45 + t46;
+        double t54 = t52 - t53;
+        double t55 = 0.7071067811865476 * t54;
+        double t56 = t51 + t55;
+        double t57 = t2 - t8;
+        double t58 = t38 + t35;
+        double t59 = t42 + t44;
+        double t60 = t58 - t59;
+        double t61 = t57 - t60;
+        double t62 = t57 + t60;
+        double t63 = t51 - t55;
+        double t64 = t31 - t49;
+        double t65 = t9 - t22;
+        a[offa] = t23;
+        a[offa + 1] = t50;
+        a[offa + 2] = t56;
+        a[offa + 3] = t61;
+        a[offa + 4] = t62;
+        a[offa + 5] = t63;
+        a[offa + 6] = t64;
+        a[offa + 7] = t65;
+    }
+
+    static void dct3_9(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double t0 = 0.43301270189221935 * x3;
+        double t1 = 0.24999999999999997 * x6;
+        double t2 = t0 + t1;
+        double t3 = 0.25000000000000006 * x6;
+        double t4 = 0.4330127018922193 * x3;
+        double t5 = t3 + t4;
+        double t6 = t2 + t5;
+        double t7 = x0 + t6;
+        double t8 = 0.492403876506104 * x1;
+        double t9 = 0.08682408883346517 * x8;
+        double t10 = t8 + t9;
+        double t11 = 0.383022221559489 * x4;
+        double t12 = 0.3213938048432696 * x5;
+        double t13 = t11 + t12;
+        double t14 = 0.1710100716628344 * x7;
+        double t15 = 0.46984631039295416 * x2;
+        double t16 = t14 + t15;
+        double t17 = t13 + t16;
+        double t18 = t10 + t17;
+        double t19 = 0.4698463103929542 * x2;
+        double t20 = 0.17101007166283436 * x7;
+        double t21 = t19 + t20;
+        double t22 = 0.3213938048432697 * x5;
+        double t23 = t11 + t22;
+        double t24 = 0.08682408883346521 * x8;
+        double t25 = t8 + t24;
+        double t26 = t23 + t25;
+        double t27 = t21 + t26;
+        double t28 = t18 + t27;
+        double t29 = t7 + t28;
+        double t30 = 0.5 * t6;
+        double t31 = x0 - t30;
+        double t32 = 0.24999999999999997 * x3;
+        double t33 = 0.43301270189221935 * x6;
+        double t34 = t32 - t33;
+        double t35 = 0.4330127018922193 * x6;
+        double t36 = 0.25000000000000006 * x3;
+        double t37 = t35 - t36;
+        double t38 = t34 - t37;
+        double t39 = 0.8660254037844387 * t38;
+        double t40 = t31 + t39;
+        double t41 = 0.5 * t17;
+        double t42 = t10 - t41;
+        double t43 = 0.3213938048432696 * x4;
+        double t44 = 0.383022221559489 * x5;
+        double t45 = t43 - t44;
+        double t46 = 0.46984631039295416 * x7;
+        double t47 = 0.1710100716628344 * x2;
+        double t48 = t46 - t47;
+        double t49 = t45 - t48;
+        double t50 = 0.8660254037844387 * t49;
+        double t51 = t42 + t50;
+        double t52 = 0.17364817766693041 * t51;
+        double t53 = 0.08682408883346517 * x1;
+        double t54 = 0.492403876506104 * x8;
+        double t55 = t53 - t54;
+        double t56 = t45 + t48;
+        double t57 = 0.5 * t56;
+        double t58 = t55 - t57;
+        double t59 = t13 - t16;
+        double t60 = 0.8660254037844387 * t59;
+        double t61 = t58 - t60;
+        double t62 = 0.984807753012208 * t61;
+        double t63 = t52 - t62;
+        double t64 = 0.5 * t26;
+        double t65 = t21 - t64;
+        double t66 = 0.3213938048432697 * x4;
+        double t67 = t44 - t66;
+        double t68 = 0.08682408883346521 * x1;
+        double t69 = t54 - t68;
+        double t70 = t67 - t69;
+        double t71 = 0.8660254037844387 * t70;
+        double t72 = t65 + t71;
+        double t73 = 0.9396926207859083 * t72;
+        double t74 = 0.17101007166283436 * x2;
+        double t75 = 0.4698463103929542 * x7;
+        double t76 = t74 - t75;
+        double t77 = t67 + t69;
+        double t78 = 0.5 * t77;
+        double t79 = t76 - t78;
+        double t80 = t23 - t25;
+        double t81 = 0.8660254037844387 * t80;
+        double t82 = t79 - t81;
+        double t83 = 0.3420201433256689 * t82;
+        double t84 = t73 + t83;
+        double t85 = t63 - t84;
+        double t86 = 0.5 * t85;
+        double t87 = t40 - t86;
+        double t88 = 0.17364817766693041 * t61;
+        double t89 = 0.984807753012208 * t51;
+        double t90 = t88 + t89;
+        double t91 = 0.3420201433256689 * t72;
+        double t92 = 0.9396926207859083 * t82;
+        double t93 = t91 - t92;
+        double t94 = t90 - t93;
+        double t95 = 0.8660254037844387 * t94;
+        double t96 = t87 + t95;
+        double t97 = t31 - t39;
+        double t98 = t42 - t50;
+        double t99 = 0.766044443118978 * t98;
+        double t100 = t58 + t60;
+        double t101 = 0.6427876096865393 * t100;
+        double t102 = t99 - t101;
+        double t103 = t65 - t71;
+        double t104 = 0.17364817766693041 * t103;
+        double t105 = t79 + t81;
+        double t106 = 0.984807753012208 * t105;
+        double t107 = t104 - t106;
+        double t108 = t102 + t107;
+        double t109 = t97 + t108;
+        double t110 = 0.5 * t108;
+        double t111 = t97 - t110;
+        double t112 = 0.766044443118978 * t100;
+        double t113 = 0.6427876096865393 * t98;
+        double t114 = t112 + t113;
+        double t115 = 0.17364817766693041 * t105;
+        double t116 = 0.984807753012208 * t103;
+        double t117 = t115 + t116;
+        double t118 = t114 - t117;
+        double t119 = 0.8660254037844387 * t118;
+        double t120 = t111 + t119;
+        double t121 = t40 + t85;
+        double t122 = 0.5 * t28;
+        double t123 = t7 - t122;
+        double t124 = t55 + t56;
+        double t125 = t76 + t77;
+        double t126 = t124 - t125;
+        double t127 = 0.8660254037844387 * t126;
+        double t128 = t123 + t127;
+        double t129 = t123 - t127;
+        double t130 = t87 - t95;
+        double t131 = t111 - t119;
+        a[offa] = t29;
+        a[offa + 1] = t96;
+        a[offa + 2] = t109;
+        a[offa + 3] = t120;
+        a[offa + 4] = t121;
+        a[offa + 5] = t128;
+        a[offa + 6] = t129;
+        a[offa + 7] = t130;
+        a[offa + 8] = t131;
+    }
+
+    static void dct3_10(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double t0 = 0.4045084971874737 * x4;
+        double t1 = 0.29389262614623657 * x6;
+        double t2 = t0 + t1;
+        double t3 = t2 + t2;
+        double t4 = 0.47552825814757677 * x2;
+        double t5 = 0.1545084971874737 * x8;
+        double t6 = t4 + t5;
+        double t7 = 0.15450849718747373 * x8;
+        double t8 = t4 + t7;
+        double t9 = t6 + t8;
+        double t10 = x0 + t9;
+        double t11 = t3 + t10;
+        double t12 = x5 + x5;
+        double t13 = 0.3535533905932738 * t12;
+        double t14 = 0.2269952498697734 * x7;
+        double t15 = 0.4455032620941839 * x3;
+        double t16 = t14 + t15;
+        double t17 = t13 + t16;
+        double t18 = 0.4938441702975689 * x1;
+        double t19 = 0.07821723252011543 * x9;
+        double t20 = t18 + t19;
+        double t21 = 0.44550326209418395 * x3;
+        double t22 = 0.22699524986977337 * x7;
+        double t23 = t21 + t22;
+        double t24 = 0.07821723252011546 * x9;
+        double t25 = t18 + t24;
+        double t26 = t23 + t25;
+        double t27 = t20 + t26;
+        double t28 = t17 + t27;
+        double t29 = t11 + t28;
+        double t30 = 0.30901699437494745 * t9;
+        double t31 = x0 + t30;
+        double t32 = 0.8090169943749473 * t3;
+        double t33 = t31 - t32;
+        double t34 = 0.1545084971874737 * x2;
+        double t35 = 0.47552825814757677 * x8;
+        double t36 = t34 - t35;
+        double t37 = 0.15450849718747373 * x2;
+        double t38 = t35 - t37;
+        double t39 = t36 - t38;
+        double t40 = 0.9510565162951535 * t39;
+        double t41 = 0.29389262614623657 * x4;
+        double t42 = 0.4045084971874737 * x6;
+        double t43 = t41 - t42;
+        double t44 = t42 - t41;
+        double t45 = t43 - t44;
+        double t46 = 0.5877852522924732 * t45;
+        double t47 = t40 + t46;
+        double t48 = t33 + t47;
+        double t49 = 0.30901699437494745 * t26;
+        double t50 = t20 + t49;
+        double t51 = 0.8090169943749473 * t17;
+        double t52 = t50 - t51;
+        double t53 = 0.22699524986977337 * x3;
+        double t54 = 0.44550326209418395 * x7;
+        double t55 = t53 - t54;
+        double t56 = 0.4938441702975689 * x9;
+        double t57 = 0.07821723252011546 * x1;
+        double t58 = t56 - t57;
+        double t59 = t55 - t58;
+        double t60 = 0.9510565162951535 * t59;
+        double t61 = 0.2269952498697734 * x3;
+        double t62 = 0.4455032620941839 * x7;
+        double t63 = t61 - t62;
+        double t64 = 0.5877852522924732 * t63;
+        double t65 = t60 + t64;
+        double t66 = t52 + t65;
+        double t67 = 0.8090169943749473 * t66;
+        double t68 = 0.07821723252011543 * x1;
+        double t69 = t68 - t56;
+        double t70 = t55 + t58;
+        double t71 = 0.30901699437494745 * t70;
+        double t72 = t69 + t71;
+        double t73 = t62 - t61;
+        double t74 = 0.8090169943749473 * t73;
+        double t75 = t72 - t74;
+        double t76 = t23 - t25;
+        double t77 = 0.9510565162951535 * t76;
+        double t78 = t13 - t16;
+        double t79 = 0.5877852522924732 * t78;
+        double t80 = t77 + t79;
+        double t81 = t75 - t80;
+        double t82 = 0.5877852522924732 * t81;
+        double t83 = t67 + t82;
+        double t84 = t48 + t83;
+        double t85 = t33 - t47;
+        double t86 = t52 - t65;
+        double t87 = 0.8090169943749475 * t86;
+        double t88 = t75 + t80;
+        double t89 = 0.5877852522924731 * t88;
+        double t90 = t87 - t89;
+        double t91 = t85 + t90;
+        double t92 = 0.8090169943749473 * t9;
+        double t93 = x0 - t92;
+        double t94 = 0.30901699437494723 * t3;
+        double t95 = t93 + t94;
+        double t96 = 0.5877852522924732 * t39;
+        double t97 = 0.9510565162951536 * t45;
+        double t98 = t96 - t97;
+        double t99 = t95 + t98;
+        double t100 = 0.8090169943749473 * t26;
+        double t101 = t20 - t100;
+        double t102 = 0.30901699437494723 * t17;
+        double t103 = t101 + t102;
+        double t104 = 0.5877852522924732 * t59;
+        double t105 = 0.9510565162951536 * t63;
+        double t106 = t104 - t105;
+        double t107 = t103 + t106;
+        double t108 = 0.30901699437494734 * t107;
+        double t109 = 0.8090169943749473 * t70;
+        double t110 = t69 - t109;
+        double t111 = 0.30901699437494723 * t73;
+        double t112 = t110 + t111;
+        double t113 = 0.5877852522924732 * t76;
+        double t114 = 0.9510565162951536 * t78;
+        double t115 = t113 - t114;
+        double t116 = t112 - t115;
+        double t117 = 0.9510565162951536 * t116;
+        double t118 = t108 + t117;
+        double t119 = t99 + t118;
+        double t120 = t95 - t98;
+        double t121 = t103 - t106;
+        double t122 = 0.30901699437494745 * t121;
+        double t123 = t112 + t115;
+        double t124 = 0.9510565162951535 * t123;
+        double t125 = t122 - t124;
+        double t126 = t120 + t125;
+        double t127 = t120 - t125;
+        double t128 = t99 - t118;
+        double t129 = t85 - t90;
+        double t130 = t48 - t83;
+        double t131 = t11 - t28;
+        a[offa] = t29;
+        a[offa + 1] = t84;
+        a[offa + 2] = t91;
+        a[offa + 3] = t119;
+        a[offa + 4] = t126;
+        a[offa + 5] = t127;
+        a[offa + 6] = t128;
+        a[offa + 7] = t129;
+        a[offa + 8] = t130;
+        a[offa + 9] = t131;
+    }
+
+    static void dct3_11(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double t0 = 0.3778747871771292 * x5;
+        double t1 = 0.3274303669726425 * x6;
+        double t2 = t0 + t1;
+        double t3 = 0.32743036697264255 * x6;
+        double t4 = 0.37787478717712913 * x5;
+        double t5 = t3 + t4;
+        double t6 = t2 + t5;
+        double t7 = 0.4206267664155906 * x4;
+        double t8 = 0.2703204087277988 * x7;
+        double t9 = t7 + t8;
+        double t10 = 0.27032040872779883 * x7;
+        double t11 = 0.42062676641559055 * x4;
+        double t12 = t10 + t11;
+        double t13 = t9 + t12;
+        double t14 = 0.4548159976772592 * x3;
+        double t15 = 0.2077075065009432 * x8;
+        double t16 = t14 + t15;
+        double t17 = 0.20770750650094322 * x8;
+        double t18 = 0.45481599767725917 * x3;
+        double t19 = t17 + t18;
+        double t20 = t16 + t19;
+        double t21 = 0.4797464868072487 * x2;
+        double t22 = 0.14086627842071484 * x9;
+        double t23 = t21 + t22;
+        double t24 = 0.1408662784207148 * x9;
+        double t25 = t21 + t24;
+        double t26 = t23 + t25;
+        double t27 = 0.49491072094046634 * x1;
+        double t28 = 0.07115741913664257 * x10;
+        double t29 = t27 + t28;
+        double t30 = 0.07115741913664267 * x10;
+        double t31 = t27 + t30;
+        double t32 = t29 + t31;
+        double t33 = x0 + t32;
+        double t34 = t26 + t33;
+        double t35 = t20 + t34;
+        double t36 = t13 + t35;
+        double t37 = t6 + t36;
+        double t38 = 0.8412535328311812 * t32;
+        double t39 = x0 + t38;
+        double t40 = 0.41541501300188644 * t26;
+        double t41 = t39 + t40;
+        double t42 = 0.142314838273285 * t20;
+        double t43 = t41 - t42;
+        double t44 = 0.654860733945285 * t13;
+        double t45 = t43 - t44;
+        double t46 = 0.9594929736144973 * t6;
+        double t47 = t45 - t46;
+        double t48 = 0.07115741913664257 * x1;
+        double t49 = 0.49491072094046634 * x10;
+        double t50 = t48 - t49;
+        double t51 = 0.07115741913664267 * x1;
+        double t52 = t49 - t51;
+        double t53 = t50 - t52;
+        double t54 = 0.5406408174555976 * t53;
+        double t55 = 0.14086627842071484 * x2;
+        double t56 = 0.4797464868072487 * x9;
+        double t57 = t55 - t56;
+        double t58 = 0.1408662784207148 * x2;
+        double t59 = t56 - t58;
+        double t60 = t57 - t59;
+        double t61 = 0.9096319953545183 * t60;
+        double t62 = t54 + t61;
+        double t63 = 0.2077075065009432 * x3;
+        double t64 = 0.4548159976772592 * x8;
+        double t65 = t63 - t64;
+        double t66 = 0.45481599767725917 * x8;
+        double t67 = 0.20770750650094322 * x3;
+        double t68 = t66 - t67;
+        double t69 = t65 - t68;
+        double t70 = 0.9898214418809328 * t69;
+        double t71 = t62 + t70;
+        double t72 = 0.2703204087277988 * x4;
+        double t73 = 0.4206267664155906 * x7;
+        double t74 = t72 - t73;
+        double t75 = 0.42062676641559055 * x7;
+        double t76 = 0.27032040872779883 * x4;
+        double t77 = t75 - t76;
+        double t78 = t74 - t77;
+        double t79 = 0.7557495743542583 * t78;
+        double t80 = t71 + t79;
+        double t81 = 0.3274303669726425 * x5;
+        double t82 = 0.3778747871771292 * x6;
+        double t83 = t81 - t82;
+        double t84 = 0.37787478717712913 * x6;
+        double t85 = 0.32743036697264255 * x5;
+        double t86 = t84 - t85;
+        double t87 = t83 - t86;
+        double t88 = 0.28173255684143006 * t87;
+        double t89 = t80 + t88;
+        double t90 = t47 + t89;
+        double t91 = t47 - t89;
+        double t92 = 0.41541501300188644 * t32;
+        double t93 = x0 + t92;
+        double t94 = 0.654860733945285 * t26;
+        double t95 = t93 - t94;
+        double t96 = 0.9594929736144975 * t20;
+        double t97 = t95 - t96;
+        double t98 = 0.14231483827328523 * t13;
+        double t99 = t97 - t98;
+        double t100 = 0.8412535328311808 * t6;
+        double t101 = t99 + t100;
+        double t102 = 0.9096319953545183 * t53;
+        double t103 = 0.7557495743542583 * t60;
+        double t104 = t102 + t103;
+        double t105 = 0.2817325568414294 * t69;
+        double t106 = t104 - t105;
+        double t107 = 0.9898214418809327 * t78;
+        double t108 = t106 - t107;
+        double t109 = 0.5406408174555982 * t87;
+        double t110 = t108 - t109;
+        double t111 = t101 + t110;
+        double t112 = t101 - t110;
+        double t113 = 0.142314838273285 * t32;
+        double t114 = x0 - t113;
+        double t115 = 0.9594929736144975 * t26;
+        double t116 = t114 - t115;
+        double t117 = 0.4154150130018868 * t20;
+        double t118 = t116 + t117;
+        double t119 = 0.8412535328311812 * t13;
+        double t120 = t118 + t119;
+        double t121 = 0.654860733945285 * t6;
+        double t122 = t120 - t121;
+        double t123 = 0.9898214418809328 * t53;
+        double t124 = 0.2817325568414294 * t60;
+        double t125 = t123 - t124;
+        double t126 = 0.9096319953545182 * t69;
+        double t127 = t125 - t126;
+        double t128 = 0.5406408174555976 * t78;
+        double t129 = t127 + t128;
+        double t130 = 0.7557495743542583 * t87;
+        double t131 = t129 + t130;
+        double t132 = t122 + t131;
+        double t133 = t122 - t131;
+        double t134 = 0.654860733945285 * t32;
+        double t135 = x0 - t134;
+        double t136 = 0.14231483827328523 * t26;
+        double t137 = t135 - t136;
+        double t138 = 0.8412535328311812 * t20;
+        double t139 = t137 + t138;
+        double t140 = 0.9594929736144973 * t13;
+        double t141 = t139 - t140;
+        double t142 = 0.4154150130018868 * t6;
+        double t143 = t141 + t142;
+        double t144 = 0.7557495743542583 * t53;
+        double t145 = 0.9898214418809327 * t60;
+        double t146 = t144 - t145;
+        double t147 = 0.5406408174555976 * t69;
+        double t148 = t146 + t147;
+        double t149 = 0.28173255684143006 * t78;
+        double t150 = t148 + t149;
+        double t151 = 0.9096319953545182 * t87;
+        double t152 = t150 - t151;
+        double t153 = t143 + t152;
+        double t154 = t143 - t152;
+        double t155 = 0.9594929736144973 * t32;
+        double t156 = x0 - t155;
+        double t157 = 0.8412535328311808 * t26;
+        double t158 = t156 + t157;
+        double t159 = 0.654860733945285 * t20;
+        double t160 = t158 - t159;
+        double t161 = 0.4154150130018868 * t13;
+        double t162 = t160 + t161;
+        double t163 = 0.142314838273285 * t6;
+        double t164 = t162 - t163;
+        double t165 = 0.28173255684143006 * t53;
+        double t166 = 0.5406408174555982 * t60;
+        double t167 = t165 - t166;
+        double t168 = 0.7557495743542583 * t69;
+        double t169 = t167 + t168;
+        double t170 = 0.9096319953545182 * t78;
+        double t171 = t169 - t170;
+        double t172 = 0.9898214418809328 * t87;
+        double t173 = t171 + t172;
+        double t174 = t164 + t173;
+        double t175 = t164 - t173;
+        a[offa] = t37;
+        a[offa + 1] = t90;
+        a[offa + 2] = t91;
+        a[offa + 3] = t111;
+        a[offa + 4] = t112;
+        a[offa + 5] = t132;
+        a[offa + 6] = t133;
+        a[offa + 7] = t153;
+        a[offa + 8] = t154;
+        a[offa + 9] = t174;
+        a[offa + 10] = t175;
+    }
+
+    static void dct3_12(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double t0 = 0.43301270189221935 * x4;
+        double t1 = 0.24999999999999997 * x8;
+        double t2 = t0 + t1;
+        double t3 = 0.25000000000000006 * x8;
+        double t4 = 0.4330127018922193 * x4;
+        double t5 = t3 + t4;
+        double t6 = t2 + t5;
+        double t7 = x0 + t6;
+        double t8 = 0.48296291314453416 * x2;
+        double t9 = 0.12940952255126037 * x10;
+        double t10 = t8 + t9;
+        double t11 = x6 + x6;
+        double t12 = 0.3535533905932738 * t11;
+        double t13 = t10 + t12;
+        double t14 = t10 + t13;
+        double t15 = t7 + t14;
+        double t16 = 0.4957224306869052 * x1;
+        double t17 = 0.06526309611002579 * x11;
+        double t18 = t16 + t17;
+        double t19 = 0.3966766701456176 * x5;
+        double t20 = 0.30438071450436033 * x7;
+        double t21 = t19 + t20;
+        double t22 = 0.46193976625564337 * x3;
+        double t23 = 0.19134171618254492 * x9;
+        double t24 = t22 + t23;
+        double t25 = t21 + t24;
+        double t26 = t18 + t25;
+        double t27 = 0.1913417161825449 * x9;
+        double t28 = t22 + t27;
+        double t29 = 0.06526309611002586 * x11;
+        double t30 = t16 + t29;
+        double t31 = t21 + t30;
+        double t32 = t28 + t31;
+        double t33 = t26 + t32;
+        double t34 = t15 + t33;
+        double t35 = 0.5 * t6;
+        double t36 = x0 - t35;
+        double t37 = 0.24999999999999997 * x4;
+        double t38 = 0.43301270189221935 * x8;
+        double t39 = t37 - t38;
+        double t40 = 0.4330127018922193 * x8;
+        double t41 = 0.25000000000000006 * x4;
+        double t42 = t40 - t41;
+        double t43 = t39 - t42;
+        double t44 = 0.8660254037844387 * t43;
+        double t45 = t36 + t44;
+        double t46 = 0.5 * t13;
+        double t47 = t10 - t46;
+        double t48 = 0.12940952255126037 * x2;
+        double t49 = 0.48296291314453416 * x10;
+        double t50 = t48 - t49;
+        double t51 = 0.8660254037844387 * t50;
+        double t52 = t47 + t51;
+        double t53 = 0.5 * t52;
+        double t54 = t49 - t48;
+        double t55 = 0.5 * t54;
+        double t56 = t50 - t55;
+        double t57 = t12 - t10;
+        double t58 = 0.8660254037844387 * t57;
+        double t59 = t56 - t58;
+        double t60 = 0.8660254037844387 * t59;
+        double t61 = t53 + t60;
+        double t62 = t45 + t61;
+        double t63 = t21 - t30;
+        double t64 = 0.8660254037844387 * t63;
+        double t65 = 0.1913417161825449 * x3;
+        double t66 = 0.46193976625564337 * x9;
+        double t67 = t65 - t66;
+        double t68 = 0.3966766701456176 * x7;
+        double t69 = 0.30438071450436033 * x5;
+        double t70 = t68 - t69;
+        double t71 = 0.4957224306869052 * x11;
+        double t72 = 0.06526309611002586 * x1;
+        double t73 = t71 - t72;
+        double t74 = t70 + t73;
+        double t75 = 0.5 * t74;
+        double t76 = t67 - t75;
+        double t77 = t64 - t76;
+        double t78 = 0.06526309611002579 * x1;
+        double t79 = t78 - t71;
+        double t80 = t69 - t68;
+        double t81 = 0.19134171618254492 * x3;
+        double t82 = t66 - t81;
+        double t83 = t80 + t82;
+        double t84 = 0.5 * t83;
+        double t85 = t79 - t84;
+        double t86 = t21 - t24;
+        double t87 = 0.8660254037844387 * t86;
+        double t88 = t85 - t87;
+        double t89 = 0.5 * t88;
+        double t90 = 0.5 * t25;
+        double t91 = t18 - t90;
+        double t92 = t80 - t82;
+        double t93 = 0.8660254037844387 * t92;
+        double t94 = t91 + t93;
+        double t95 = 0.8660254037844386 * t94;
+        double t96 = t89 + t95;
+        double t97 = t77 - t96;
+        double t98 = t62 - t97;
+        double t99 = t36 - t44;
+        double t100 = t47 - t51;
+        double t101 = 0.5 * t100;
+        double t102 = t56 + t58;
+        double t103 = 0.8660254037844386 * t102;
+        double t104 = t101 - t103;
+        double t105 = t99 + t104;
+        double t106 = t91 - t93;
+        double t107 = 0.8660254037844387 * t106;
+        double t108 = t85 + t87;
+        double t109 = 0.5 * t108;
+        double t110 = t107 - t109;
+        double t111 = t76 + t64;
+        double t112 = t110 - t111;
+        double t113 = t105 + t112;
+        double t114 = t99 - t104;
+        double t115 = 0.5 * t31;
+        double t116 = t28 - t115;
+        double t117 = t70 - t73;
+        double t118 = 0.8660254037844387 * t117;
+        double t119 = t116 - t118;
+        double t120 = 0.8660254037844387 * t108;
+        double t121 = 0.5 * t106;
+        double t122 = t120 + t121;
+        double t123 = t119 - t122;
+        double t124 = t114 - t123;
+        double t125 = t45 - t61;
+        double t126 = 0.5 * t94;
+        double t127 = 0.8660254037844386 * t88;
+        double t128 = t126 - t127;
+        double t129 = t116 + t118;
+        double t130 = t128 - t129;
+        double t131 = t125 + t130;
+        double t132 = t7 - t14;
+        double t133 = t67 + t74;
+        double t134 = t79 + t83;
+        double t135 = t133 - t134;
+        double t136 = t132 - t135;
+        double t137 = t132 + t135;
+        double t138 = t125 - t130;
+        double t139 = t114 + t123;
+        double t140 = t105 - t112;
+        double t141 = t62 + t97;
+        double t142 = t15 - t33;
+        a[offa] = t34;
+        a[offa + 1] = t98;
+        a[offa + 2] = t113;
+        a[offa + 3] = t124;
+        a[offa + 4] = t131;
+        a[offa + 5] = t136;
+        a[offa + 6] = t137;
+        a[offa + 7] = t138;
+        a[offa + 8] = t139;
+        a[offa + 9] = t140;
+        a[offa + 10] = t141;
+        a[offa + 11] = t142;
+    }
+
+    static void dct3_13(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double t0 = 0.37425537408555054 * x6;
+        double t1 = 0.3315613291203976 * x7;
+        double t2 = t0 + t1;
+        double t3 = 0.33156132912039765 * x7;
+        double t4 = t0 + t3;
+        double t5 = t2 + t4;
+        double t6 = 0.4114919329468282 * x5;
+        double t7 = 0.2840323733655779 * x8;
+        double t8 = t6 + t7;
+        double t9 = 0.41149193294682823 * x5;
+        double t10 = t7 + t9;
+        double t11 = t8 + t10;
+        double t12 = 0.44272801282660496 * x4;
+        double t13 = 0.23236158602188428 * x9;
+        double t14 = t12 + t13;
+        double t15 = 0.2323615860218843 * x9;
+        double t16 = t12 + t15;
+        double t17 = t14 + t16;
+        double t18 = 0.4675081213427074 * x3;
+        double t19 = 0.1773024435212678 * x10;
+        double t20 = t18 + t19;
+        double t21 = 0.17730244352126778 * x10;
+        double t22 = t18 + t21;
+        double t23 = t20 + t22;
+        double t24 = 0.485470908713026 * x2;
+        double t25 = 0.11965783214377888 * x11;
+        double t26 = t24 + t25;
+        double t27 = 0.11965783214377891 * x11;
+        double t28 = t24 + t27;
+        double t29 = t26 + t28;
+        double t30 = 0.496354437049027 * x1;
+        double t31 = 0.06026834012766153 * x12;
+        double t32 = t30 + t31;
+        double t33 = 0.0602683401276615 * x12;
+        double t34 = t30 + t33;
+        double t35 = t32 + t34;
+        double t36 = x0 + t35;
+        double t37 = t29 + t36;
+        double t38 = t23 + t37;
+        double t39 = t17 + t38;
+        double t40 = t11 + t39;
+        double t41 = t5 + t40;
+        double t42 = 0.8854560256532099 * t35;
+        double t43 = x0 + t42;
+        double t44 = 0.5680647467311558 * t29;
+        double t45 = t43 + t44;
+        double t46 = 0.120536680255323 * t23;
+        double t47 = t45 + t46;
+        double t48 = 0.3546048870425357 * t17;
+        double t49 = t47 - t48;
+        double t50 = 0.7485107481711012 * t11;
+        double t51 = t49 - t50;
+        double t52 = 0.970941817426052 * t5;
+        double t53 = t51 - t52;
+        double t54 = 0.06026834012766153 * x1;
+        double t55 = 0.496354437049027 * x12;
+        double t56 = t54 - t55;
+        double t57 = 0.0602683401276615 * x1;
+        double t58 = t55 - t57;
+        double t59 = t56 - t58;
+        double t60 = 0.46472317204376856 * t59;
+        double t61 = 0.11965783214377888 * x2;
+        double t62 = 0.485470908713026 * x11;
+        double t63 = t61 - t62;
+        double t64 = 0.11965783214377891 * x2;
+        double t65 = t62 - t64;
+        double t66 = t63 - t65;
+        double t67 = 0.8229838658936565 * t66;
+        double t68 = t60 + t67;
+        double t69 = 0.1773024435212678 * x3;
+        double t70 = 0.4675081213427074 * x10;
+        double t71 = t69 - t70;
+        double t72 = 0.17730244352126778 * x3;
+        double t73 = t70 - t72;
+        double t74 = t71 - t73;
+        double t75 = 0.992708874098054 * t74;
+        double t76 = t68 + t75;
+        double t77 = 0.23236158602188428 * x4;
+        double t78 = 0.44272801282660496 * x9;
+        double t79 = t77 - t78;
+        double t80 = 0.2323615860218843 * x4;
+        double t81 = t78 - t80;
+        double t82 = t79 - t81;
+        double t83 = 0.9350162426854148 * t82;
+        double t84 = t76 + t83;
+        double t85 = 0.2840323733655779 * x5;
+        double t86 = 0.4114919329468282 * x8;
+        double t87 = t85 - t86;
+        double t88 = 0.41149193294682823 * x8;
+        double t89 = t88 - t85;
+        double t90 = t87 - t89;
+        double t91 = 0.6631226582407952 * t90;
+        double t92 = t84 + t91;
+        double t93 = 0.3315613291203976 * x6;
+        double t94 = 0.37425537408555054 * x7;
+        double t95 = t93 - t94;
+        double t96 = 0.33156132912039765 * x6;
+        double t97 = t94 - t96;
+        double t98 = t95 - t97;
+        double t99 = 0.23931566428755768 * t98;
+        double t100 = t92 + t99;
+        double t101 = t53 + t100;
+        double t102 = t53 - t100;
+        double t103 = 0.5680647467311558 * t35;
+        double t104 = x0 + t103;
+        double t105 = 0.3546048870425357 * t29;
+        double t106 = t104 - t105;
+        double t107 = 0.970941817426052 * t23;
+        double t108 = t106 - t107;
+        double t109 = 0.748510748171101 * t17;
+        double t110 = t108 - t109;
+        double t111 = 0.1205366802553232 * t11;
+        double t112 = t110 + t111;
+        double t113 = 0.88545602565321 * t5;
+        double t114 = t112 + t113;
+        double t115 = 0.8229838658936565 * t59;
+        double t116 = 0.9350162426854148 * t66;
+        double t117 = t115 + t116;
+        double t118 = 0.23931566428755768 * t74;
+        double t119 = t117 + t118;
+        double t120 = 0.6631226582407953 * t82;
+        double t121 = t119 - t120;
+        double t122 = 0.992708874098054 * t90;
+        double t123 = t121 - t122;
+        double t124 = 0.4647231720437684 * t98;
+        double t125 = t123 - t124;
+        double t126 = t114 + t125;
+        double t127 = t114 - t125;
+        double t128 = 0.120536680255323 * t35;
+        double t129 = x0 + t128;
+        double t130 = 0.970941817426052 * t29;
+        double t131 = t129 - t130;
+        double t132 = 0.3546048870425359 * t23;
+        double t133 = t131 - t132;
+        double t134 = 0.88545602565321 * t17;
+        double t135 = t133 + t134;
+        double t136 = 0.5680647467311558 * t11;
+        double t137 = t135 + t136;
+        double t138 = 0.7485107481711012 * t5;
+        double t139 = t137 - t138;
+        double t140 = 0.992708874098054 * t59;
+        double t141 = 0.23931566428755768 * t66;
+        double t142 = t140 + t141;
+        double t143 = 0.9350162426854147 * t74;
+        double t144 = t142 - t143;
+        double t145 = 0.4647231720437684 * t82;
+        double t146 = t144 - t145;
+        double t147 = 0.8229838658936565 * t90;
+        double t148 = t146 + t147;
+        double t149 = 0.6631226582407952 * t98;
+        double t150 = t148 + t149;
+        double t151 = t139 + t150;
+        double t152 = t139 - t150;
+        double t153 = 0.3546048870425357 * t35;
+        double t154 = x0 - t153;
+        double t155 = 0.748510748171101 * t29;
+        double t156 = t154 - t155;
+        double t157 = 0.88545602565321 * t23;
+        double t158 = t156 + t157;
+        double t159 = 0.120536680255323 * t17;
+        double t160 = t158 + t159;
+        double t161 = 0.9709418174260521 * t11;
+        double t162 = t160 - t161;
+        double t163 = 0.5680647467311556 * t5;
+        double t164 = t162 + t163;
+        double t165 = 0.9350162426854148 * t59;
+        double t166 = 0.6631226582407953 * t66;
+        double t167 = t165 - t166;
+        double t168 = 0.4647231720437684 * t74;
+        double t169 = t167 - t168;
+        double t170 = 0.992708874098054 * t82;
+        double t171 = t169 + t170;
+        double t172 = 0.23931566428755743 * t90;
+        double t173 = t171 - t172;
+        double t174 = 0.8229838658936566 * t98;
+        double t175 = t173 - t174;
+        double t176 = t164 + t175;
+        double t177 = t164 - t175;
+        double t178 = 0.7485107481711012 * t35;
+        double t179 = x0 - t178;
+        double t180 = 0.1205366802553232 * t29;
+        double t181 = t179 + t180;
+        double t182 = 0.5680647467311558 * t23;
+        double t183 = t181 + t182;
+        double t184 = 0.9709418174260521 * t17;
+        double t185 = t183 - t184;
+        double t186 = 0.88545602565321 * t11;
+        double t187 = t185 + t186;
+        double t188 = 0.3546048870425357 * t5;
+        double t189 = t187 - t188;
+        double t190 = 0.6631226582407952 * t59;
+        double t191 = 0.992708874098054 * t66;
+        double t192 = t190 - t191;
+        double t193 = 0.8229838658936565 * t74;
+        double t194 = t192 + t193;
+        double t195 = 0.23931566428755743 * t82;
+        double t196 = t194 - t195;
+        double t197 = 0.4647231720437684 * t90;
+        double t198 = t196 - t197;
+        double t199 = 0.9350162426854148 * t98;
+        double t200 = t198 + t199;
+        double t201 = t189 + t200;
+        double t202 = t189 - t200;
+        double t203 = 0.970941817426052 * t35;
+        double t204 = x0 - t203;
+        double t205 = 0.88545602565321 * t29;
+        double t206 = t204 + t205;
+        double t207 = 0.7485107481711012 * t23;
+        double t208 = t206 - t207;
+        double t209 = 0.5680647467311556 * t17;
+        double t210 = t208 + t209;
+        double t211 = 0.3546048870425357 * t11;
+        double t212 = t210 - t211;
+        double t213 = 0.1205366802553232 * t5;
+        double t214 = t212 + t213;
+        double t215 = 0.23931566428755768 * t59;
+        double t216 = 0.4647231720437684 * t66;
+        double t217 = t215 - t216;
+        double t218 = 0.6631226582407952 * t74;
+        double t219 = t217 + t218;
+        double t220 = 0.8229838658936566 * t82;
+        double t221 = t219 - t220;
+        double t222 = 0.9350162426854148 * t90;
+        double t223 = t221 + t222;
+        double t224 = 0.992708874098054 * t98;
+        double t225 = t223 - t224;
+        double t226 = t214 + t225;
+        double t227 = t214 - t225;
+        a[offa] = t41;
+        a[offa + 1] = t101;
+        a[offa + 2] = t102;
+        a[offa + 3] = t126;
+        a[offa + 4] = t127;
+        a[offa + 5] = t151;
+        a[offa + 6] = t152;
+        a[offa + 7] = t176;
+        a[offa + 8] = t177;
+        a[offa + 9] = t201;
+        a[offa + 10] = t202;
+        a[offa + 11] = t226;
+        a[offa + 12] = t227;
+    }
+
+    static void dct3_14(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double x13 = a[offa + 13];
+        double t0 = 0.3909157412340149 * x6;
+        double t1 = 0.31174490092936674 * x8;
+        double t2 = t0 + t1;
+        double t3 = 0.3117449009293668 * x8;
+        double t4 = t0 + t3;
+        double t5 = t2 + t4;
+        double t6 = 0.4504844339512096 * x4;
+        double t7 = 0.21694186955877906 * x10;
+        double t8 = t6 + t7;
+        double t9 = 0.2169418695587791 * x10;
+        double t10 = t6 + t9;
+        double t11 = t8 + t10;
+        double t12 = 0.4874639560909118 * x2;
+        double t13 = 0.1112604669781572 * x12;
+        double t14 = t12 + t13;
+        double t15 = 0.11126046697815722 * x12;
+        double t16 = t12 + t15;
+        double t17 = t14 + t16;
+        double t18 = x0 + t17;
+        double t19 = t11 + t18;
+        double t20 = t5 + t19;
+        double t21 = 0.42336209961414206 * x5;
+        double t22 = 0.2660160382576683 * x9;
+        double t23 = t21 + t22;
+        double t24 = x7 + x7;
+        double t25 = 0.3535533905932738 * t24;
+        double t26 = t23 + t25;
+        double t27 = 0.4719416651541838 * x3;
+        double t28 = 0.16513953097758358 * x11;
+        double t29 = t27 + t28;
+        double t30 = t23 + t29;
+        double t31 = 0.4968561049466213 * x1;
+        double t32 = 0.05598223805165393 * x13;
+        double t33 = t31 + t32;
+        double t34 = 0.16513953097758355 * x11;
+        double t35 = t27 + t34;
+        double t36 = 0.055982238051653956 * x13;
+        double t37 = t31 + t36;
+        double t38 = t35 + t37;
+        double t39 = t33 + t38;
+        double t40 = t30 + t39;
+        double t41 = t26 + t40;
+        double t42 = t20 + t41;
+        double t43 = 0.6234898018587336 * t17;
+        double t44 = x0 + t43;
+        double t45 = 0.22252093395631434 * t11;
+        double t46 = t44 - t45;
+        double t47 = 0.900968867902419 * t5;
+        double t48 = t46 - t47;
+        double t49 = 0.1112604669781572 * x2;
+        double t50 = 0.4874639560909118 * x12;
+        double t51 = t49 - t50;
+        double t52 = 0.11126046697815722 * x2;
+        double t53 = t50 - t52;
+        double t54 = t51 - t53;
+        double t55 = 0.7818314824680298 * t54;
+        double t56 = 0.21694186955877906 * x4;
+        double t57 = 0.4504844339512096 * x10;
+        double t58 = t56 - t57;
+        double t59 = 0.2169418695587791 * x4;
+        double t60 = t57 - t59;
+        double t61 = t58 - t60;
+        double t62 = 0.9749279121818236 * t61;
+        double t63 = t55 + t62;
+        double t64 = 0.31174490092936674 * x6;
+        double t65 = 0.3909157412340149 * x8;
+        double t66 = t64 - t65;
+        double t67 = 0.3117449009293668 * x6;
+        double t68 = t65 - t67;
+        double t69 = t66 - t68;
+        double t70 = 0.43388373911755823 * t69;
+        double t71 = t63 + t70;
+        double t72 = t48 + t71;
+        double t73 = 0.6234898018587336 * t38;
+        double t74 = t33 + t73;
+        double t75 = 0.22252093395631434 * t30;
+        double t76 = t74 - t75;
+        double t77 = 0.900968867902419 * t26;
+        double t78 = t76 - t77;
+        double t79 = 0.16513953097758355 * x3;
+        double t80 = 0.4719416651541838 * x11;
+        double t81 = t79 - t80;
+        double t82 = 0.4968561049466213 * x13;
+        double t83 = 0.055982238051653956 * x1;
+        double t84 = t82 - t83;
+        double t85 = t81 - t84;
+        double t86 = 0.7818314824680298 * t85;
+        double t87 = 0.2660160382576683 * x5;
+        double t88 = 0.42336209961414206 * x9;
+        double t89 = t87 - t88;
+        double t90 = 0.16513953097758358 * x3;
+        double t91 = t80 - t90;
+        double t92 = t89 - t91;
+        double t93 = 0.9749279121818236 * t92;
+        double t94 = t86 + t93;
+        double t95 = 0.43388373911755823 * t89;
+        double t96 = t94 + t95;
+        double t97 = t78 + t96;
+        double t98 = 0.900968867902419 * t97;
+        double t99 = 0.05598223805165393 * x1;
+        double t100 = t99 - t82;
+        double t101 = t81 + t84;
+        double t102 = 0.6234898018587336 * t101;
+        double t103 = t100 + t102;
+        double t104 = t89 + t91;
+        double t105 = 0.22252093395631434 * t104;
+        double t106 = t103 - t105;
+        double t107 = t88 - t87;
+        double t108 = 0.900968867902419 * t107;
+        double t109 = t106 - t108;
+        double t110 = t35 - t37;
+        double t111 = 0.7818314824680298 * t110;
+        double t112 = t23 - t29;
+        double t113 = 0.9749279121818236 * t112;
+        double t114 = t111 + t113;
+        double t115 = t25 - t23;
+        double t116 = 0.43388373911755823 * t115;
+        double t117 = t114 + t116;
+        double t118 = t109 - t117;
+        double t119 = 0.43388373911755823 * t118;
+        double t120 = t98 + t119;
+        double t121 = t72 + t120;
+        double t122 = t48 - t71;
+        double t123 = t78 - t96;
+        double t124 = 0.9009688679024191 * t123;
+        double t125 = t109 + t117;
+        double t126 = 0.4338837391175581 * t125;
+        double t127 = t124 - t126;
+        double t128 = t122 + t127;
+        double t129 = 0.22252093395631434 * t17;
+        double t130 = x0 - t129;
+        double t131 = 0.9009688679024191 * t11;
+        double t132 = t130 - t131;
+        double t133 = 0.6234898018587334 * t5;
+        double t134 = t132 + t133;
+        double t135 = 0.9749279121818236 * t54;
+        double t136 = 0.433883739117558 * t61;
+        double t137 = t135 - t136;
+        double t138 = 0.7818314824680299 * t69;
+        double t139 = t137 - t138;
+        double t140 = t134 + t139;
+        double t141 = 0.22252093395631434 * t38;
+        double t142 = t33 - t141;
+        double t143 = 0.9009688679024191 * t30;
+        double t144 = t142 - t143;
+        double t145 = 0.6234898018587334 * t26;
+        double t146 = t144 + t145;
+        double t147 = 0.9749279121818236 * t85;
+        double t148 = 0.433883739117558 * t92;
+        double t149 = t147 - t148;
+        double t150 = 0.7818314824680299 * t89;
+        double t151 = t149 - t150;
+        double t152 = t146 + t151;
+        double t153 = 0.6234898018587335 * t152;
+        double t154 = 0.22252093395631434 * t101;
+        double t155 = t100 - t154;
+        double t156 = 0.9009688679024191 * t104;
+        double t157 = t155 - t156;
+        double t158 = 0.6234898018587334 * t107;
+        double t159 = t157 + t158;
+        double t160 = 0.9749279121818236 * t110;
+        double t161 = 0.433883739117558 * t112;
+        double t162 = t160 - t161;
+        double t163 = 0.7818314824680299 * t115;
+        double t164 = t162 - t163;
+        double t165 = t159 - t164;
+        double t166 = 0.7818314824680299 * t165;
+        double t167 = t153 + t166;
+        double t168 = t140 + t167;
+        double t169 = t134 - t139;
+        double t170 = t146 - t151;
+        double t171 = 0.6234898018587336 * t170;
+        double t172 = t159 + t164;
+        double t173 = 0.7818314824680298 * t172;
+        double t174 = t171 - t173;
+        double t175 = t169 + t174;
+        double t176 = 0.900968867902419 * t17;
+        double t177 = x0 - t176;
+        double t178 = 0.6234898018587334 * t11;
+        double t179 = t177 + t178;
+        double t180 = 0.22252093395631434 * t5;
+        double t181 = t179 - t180;
+        double t182 = 0.43388373911755823 * t54;
+        double t183 = 0.7818314824680299 * t61;
+        double t184 = t182 - t183;
+        double t185 = 0.9749279121818236 * t69;
+        double t186 = t184 + t185;
+        double t187 = t181 + t186;
+        double t188 = 0.900968867902419 * t38;
+        double t189 = t33 - t188;
+        double t190 = 0.6234898018587334 * t30;
+        double t191 = t189 + t190;
+        double t192 = 0.22252093395631434 * t26;
+        double t193 = t191 - t192;
+        double t194 = 0.43388373911755823 * t85;
+        double t195 = 0.7818314824680299 * t92;
+        double t196 = t194 - t195;
+        double t197 = 0.9749279121818236 * t89;
+        double t198 = t196 + t197;
+        double t199 = t193 + t198;
+        double t200 = 0.22252093395631434 * t199;
+        double t201 = 0.900968867902419 * t101;
+        double t202 = t100 - t201;
+        double t203 = 0.6234898018587334 * t104;
+        double t204 = t202 + t203;
+        double t205 = 0.22252093395631434 * t107;
+        double t206 = t204 - t205;
+        double t207 = 0.43388373911755823 * t110;
+        double t208 = 0.7818314824680299 * t112;
+        double t209 = t207 - t208;
+        double t210 = 0.9749279121818236 * t115;
+        double t211 = t209 + t210;
+        double t212 = t206 - t211;
+        double t213 = 0.9749279121818236 * t212;
+        double t214 = t200 + t213;
+        double t215 = t187 + t214;
+        double t216 = t181 - t186;
+        double t217 = t193 - t198;
+        double t218 = 0.22252093395631445 * t217;
+        double t219 = t206 + t211;
+        double t220 = 0.9749279121818236 * t219;
+        double t221 = t218 - t220;
+        double t222 = t216 + t221;
+        double t223 = t216 - t221;
+        double t224 = t187 - t214;
+        double t225 = t169 - t174;
+        double t226 = t140 - t167;
+        double t227 = t122 - t127;
+        double t228 = t72 - t120;
+        double t229 = t20 - t41;
+        a[offa] = t42;
+        a[offa + 1] = t121;
+        a[offa + 2] = t128;
+        a[offa + 3] = t168;
+        a[offa + 4] = t175;
+        a[offa + 5] = t215;
+        a[offa + 6] = t222;
+        a[offa + 7] = t223;
+        a[offa + 8] = t224;
+        a[offa + 9] = t225;
+        a[offa + 10] = t226;
+        a[offa + 11] = t227;
+        a[offa + 12] = t228;
+        a[offa + 13] = t229;
+    }
+
+    static void dct3_15(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double x13 = a[offa + 13];
+        double x14 = a[offa + 14];
+        double t0 = 0.4045084971874737 * x6;
+        double t1 = 0.29389262614623657 * x9;
+        double t2 = t0 + t1;
+        double t3 = t2 + t2;
+        double t4 = 0.47552825814757677 * x3;
+        double t5 = 0.1545084971874737 * x12;
+        double t6 = t4 + t5;
+        double t7 = 0.15450849718747373 * x12;
+        double t8 = t4 + t7;
+        double t9 = t6 + t8;
+        double t10 = x0 + t9;
+        double t11 = t3 + t10;
+        double t12 = 0.3715724127386971 * x7;
+        double t13 = 0.3345653031794291 * x8;
+        double t14 = t12 + t13;
+        double t15 = 0.25000000000000006 * x10;
+        double t16 = 0.4330127018922193 * x5;
+        double t17 = t15 + t16;
+        double t18 = t14 + t17;
+        double t19 = 0.49726094768413664 * x1;
+        double t20 = 0.05226423163382673 * x14;
+        double t21 = t19 + t20;
+        double t22 = 0.45677272882130043 * x4;
+        double t23 = 0.20336832153790008 * x11;
+        double t24 = t22 + t23;
+        double t25 = 0.48907380036690284 * x2;
+        double t26 = 0.10395584540887962 * x13;
+        double t27 = t25 + t26;
+        double t28 = t24 + t27;
+        double t29 = t21 + t28;
+        double t30 = t18 + t29;
+        double t31 = 0.37157241273869707 * x7;
+        double t32 = t13 + t31;
+        double t33 = 0.2033683215379002 * x11;
+        double t34 = t22 + t33;
+        double t35 = t32 + t34;
+        double t36 = 0.10395584540887966 * x13;
+        double t37 = t25 + t36;
+        double t38 = 0.43301270189221935 * x5;
+        double t39 = 0.24999999999999997 * x10;
+        double t40 = t38 + t39;
+        double t41 = t21 + t40;
+        double t42 = t37 + t41;
+        double t43 = t35 + t42;
+        double t44 = t30 + t43;
+        double t45 = t11 + t44;
+        double t46 = 0.30901699437494745 * t9;
+        double t47 = x0 + t46;
+        double t48 = 0.8090169943749473 * t3;
+        double t49 = t47 - t48;
+        double t50 = 0.1545084971874737 * x3;
+        double t51 = 0.47552825814757677 * x12;
+        double t52 = t50 - t51;
+        double t53 = 0.15450849718747373 * x3;
+        double t54 = t51 - t53;
+        double t55 = t52 - t54;
+        double t56 = 0.9510565162951535 * t55;
+        double t57 = 0.29389262614623657 * x6;
+        double t58 = 0.4045084971874737 * x9;
+        double t59 = t57 - t58;
+        double t60 = t58 - t57;
+        double t61 = t59 - t60;
+        double t62 = 0.5877852522924732 * t61;
+        double t63 = t56 + t62;
+        double t64 = t49 + t63;
+        double t65 = 0.10395584540887966 * x2;
+        double t66 = 0.48907380036690284 * x13;
+        double t67 = t65 - t66;
+        double t68 = 0.24999999999999997 * x5;
+        double t69 = 0.43301270189221935 * x10;
+        double t70 = t68 - t69;
+        double t71 = 0.49726094768413664 * x14;
+        double t72 = 0.05226423163382673 * x1;
+        double t73 = t71 - t72;
+        double t74 = t70 + t73;
+        double t75 = 0.30901699437494745 * t74;
+        double t76 = t67 + t75;
+        double t77 = 0.37157241273869707 * x8;
+        double t78 = 0.3345653031794291 * x7;
+        double t79 = t77 - t78;
+        double t80 = 0.45677272882130043 * x11;
+        double t81 = 0.2033683215379002 * x4;
+        double t82 = t80 - t81;
+        double t83 = t79 + t82;
+        double t84 = 0.8090169943749473 * t83;
+        double t85 = t76 - t84;
+        double t86 = t40 - t21;
+        double t87 = 0.9510565162951535 * t86;
+        double t88 = t32 - t34;
+        double t89 = 0.5877852522924732 * t88;
+        double t90 = t87 + t89;
+        double t91 = t85 - t90;
+        double t92 = 0.20791169081775907 * t91;
+        double t93 = 0.30901699437494745 * t41;
+        double t94 = t37 + t93;
+        double t95 = 0.8090169943749473 * t35;
+        double t96 = t94 - t95;
+        double t97 = t70 - t73;
+        double t98 = 0.9510565162951535 * t97;
+        double t99 = t79 - t82;
+        double t100 = 0.5877852522924732 * t99;
+        double t101 = t98 + t100;
+        double t102 = t96 + t101;
+        double t103 = 0.9781476007338057 * t102;
+        double t104 = t92 - t103;
+        double t105 = 0.30901699437494745 * t28;
+        double t106 = t21 + t105;
+        double t107 = 0.8090169943749473 * t18;
+        double t108 = t106 - t107;
+        double t109 = 0.20336832153790008 * x4;
+        double t110 = t109 - t80;
+        double t111 = 0.10395584540887962 * x2;
+        double t112 = t66 - t111;
+        double t113 = t110 - t112;
+        double t114 = 0.9510565162951535 * t113;
+        double t115 = 0.3715724127386971 * x8;
+        double t116 = t78 - t115;
+        double t117 = 0.4330127018922193 * x10;
+        double t118 = 0.25000000000000006 * x5;
+        double t119 = t117 - t118;
+        double t120 = t116 - t119;
+        double t121 = 0.5877852522924732 * t120;
+        double t122 = t114 + t121;
+        double t123 = t108 + t122;
+        double t124 = 0.10452846326765333 * t123;
+        double t125 = t72 - t71;
+        double t126 = t110 + t112;
+        double t127 = 0.30901699437494745 * t126;
+        double t128 = t125 + t127;
+        double t129 = t116 + t119;
+        double t130 = 0.8090169943749473 * t129;
+        double t131 = t128 - t130;
+        double t132 = t24 - t27;
+        double t133 = 0.9510565162951535 * t132;
+        double t134 = t14 - t17;
+        double t135 = 0.5877852522924732 * t134;
+        double t136 = t133 + t135;
+        double t137 = t131 - t136;
+        double t138 = 0.9945218953682734 * t137;
+        double t139 = t124 + t138;
+        double t140 = t104 - t139;
+        double t141 = 0.5 * t140;
+        double t142 = t64 - t141;
+        double t143 = 0.9945218953682734 * t123;
+        double t144 = 0.10452846326765333 * t137;
+        double t145 = t143 - t144;
+        double t146 = 0.9781476007338057 * t91;
+        double t147 = 0.20791169081775907 * t102;
+        double t148 = t146 + t147;
+        double t149 = t145 + t148;
+        double t150 = 0.8660254037844387 * t149;
+        double t151 = t142 + t150;
+        double t152 = t49 - t63;
+        double t153 = t108 - t122;
+        double t154 = 0.9135454576426009 * t153;
+        double t155 = t131 + t136;
+        double t156 = 0.40673664307580015 * t155;
+        double t157 = t154 - t156;
+        double t158 = t96 - t101;
+        double t159 = 0.6691306063588582 * t158;
+        double t160 = t85 + t90;
+        double t161 = 0.7431448254773941 * t160;
+        double t162 = t159 - t161;
+        double t163 = t157 + t162;
+        double t164 = t152 + t163;
+        double t165 = 0.8090169943749473 * t9;
+        double t166 = x0 - t165;
+        double t167 = 0.30901699437494723 * t3;
+        double t168 = t166 + t167;
+        double t169 = 0.5877852522924732 * t55;
+        double t170 = 0.9510565162951536 * t61;
+        double t171 = t169 - t170;
+        double t172 = t168 + t171;
+        double t173 = 0.8090169943749473 * t28;
+        double t174 = t21 - t173;
+        double t175 = 0.30901699437494723 * t18;
+        double t176 = t174 + t175;
+        double t177 = 0.5877852522924732 * t113;
+        double t178 = 0.9510565162951536 * t120;
+        double t179 = t177 - t178;
+        double t180 = t176 + t179;
+        double t181 = 0.30901699437494745 * t180;
+        double t182 = 0.8090169943749473 * t126;
+        double t183 = t125 - t182;
+        double t184 = 0.30901699437494723 * t129;
+        double t185 = t183 + t184;
+        double t186 = 0.5877852522924732 * t132;
+        double t187 = 0.9510565162951536 * t134;
+        double t188 = t186 - t187;
+        double t189 = t185 - t188;
+        double t190 = 0.9510565162951535 * t189;
+        double t191 = t181 - t190;
+        double t192 = 0.8090169943749473 * t41;
+        double t193 = t37 - t192;
+        double t194 = 0.30901699437494723 * t35;
+        double t195 = t193 + t194;
+        double t196 = 0.5877852522924732 * t97;
+        double t197 = 0.9510565162951536 * t99;
+        double t198 = t196 - t197;
+        double t199 = t195 + t198;
+        double t200 = 0.8090169943749473 * t199;
+        double t201 = 0.8090169943749473 * t74;
+        double t202 = t67 - t201;
+        double t203 = 0.30901699437494723 * t83;
+        double t204 = t202 + t203;
+        double t205 = 0.5877852522924732 * t86;
+        double t206 = 0.9510565162951536 * t88;
+        double t207 = t205 - t206;
+        double t208 = t204 - t207;
+        double t209 = 0.5877852522924732 * t208;
+        double t210 = t200 + t209;
+        double t211 = t191 - t210;
+        double t212 = 0.5 * t211;
+        double t213 = t172 - t212;
+        double t214 = 0.30901699437494745 * t189;
+        double t215 = 0.9510565162951535 * t180;
+        double t216 = t214 + t215;
+        double t217 = 0.5877852522924732 * t199;
+        double t218 = 0.8090169943749473 * t208;
+        double t219 = t217 - t218;
+        double t220 = t216 - t219;
+        double t221 = 0.8660254037844387 * t220;
+        double t222 = t213 + t221;
+        double t223 = t168 - t171;
+        double t224 = t176 - t179;
+        double t225 = 0.6691306063588582 * t224;
+        double t226 = t185 + t188;
+        double t227 = 0.7431448254773941 * t226;
+        double t228 = t225 - t227;
+        double t229 = t195 - t198;
+        double t230 = 0.10452846326765333 * t229;
+        double t231 = t204 + t207;
+        double t232 = 0.9945218953682734 * t231;
+        double t233 = t230 + t232;
+        double t234 = t228 - t233;
+        double t235 = t223 + t234;
+        double t236 = 0.5 * t234;
+        double t237 = t223 - t236;
+        double t238 = 0.6691306063588582 * t226;
+        double t239 = 0.7431448254773941 * t224;
+        double t240 = t238 + t239;
+        double t241 = 0.9945218953682734 * t229;
+        double t242 = 0.10452846326765333 * t231;
+        double t243 = t241 - t242;
+        double t244 = t240 - t243;
+        double t245 = 0.8660254037844387 * t244;
+        double t246 = t237 + t245;
+        double t247 = t172 + t211;
+        double t248 = 0.5 * t163;
+        double t249 = t152 - t248;
+        double t250 = 0.9135454576426009 * t155;
+        double t251 = 0.40673664307580015 * t153;
+        double t252 = t250 + t251;
+        double t253 = 0.6691306063588582 * t160;
+        double t254 = 0.7431448254773941 * t158;
+        double t255 = t253 + t254;
+        double t256 = t252 - t255;
+        double t257 = 0.8660254037844387 * t256;
+        double t258 = t249 + t257;
+        double t259 = t64 + t140;
+        double t260 = 0.5 * t44;
+        double t261 = t11 - t260;
+        double t262 = t125 + t126;
+        double t263 = t129 + t262;
+        double t264 = t67 + t74;
+        double t265 = t83 + t264;
+        double t266 = t263 - t265;
+        double t267 = 0.8660254037844387 * t266;
+        double t268 = t261 + t267;
+        double t269 = t261 - t267;
+        double t270 = t142 - t150;
+        double t271 = t249 - t257;
+        double t272 = t213 - t221;
+        double t273 = t237 - t245;
+        a[offa] = t45;
+        a[offa + 1] = t151;
+        a[offa + 2] = t164;
+        a[offa + 3] = t222;
+        a[offa + 4] = t235;
+        a[offa + 5] = t246;
+        a[offa + 6] = t247;
+        a[offa + 7] = t258;
+        a[offa + 8] = t259;
+        a[offa + 9] = t268;
+        a[offa + 10] = t269;
+        a[offa + 11] = t270;
+        a[offa + 12] = t271;
+        a[offa + 13] = t272;
+        a[offa + 14] = t273;
+    }
+
+    static void dct3_16(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double x13 = a[offa + 13];
+        double x14 = a[offa + 14];
+        double x15 = a[offa + 15];
+        double t0 = x8 + x8;
+        double t1 = 0.3535533905932738 * t0;
+        double t2 = x0 + t1;
+        double t3 = 0.46193976625564337 * x4;
+        double t4 = 0.1913417161825449 * x12;
+        double t5 = t3 + t4;
+        double t6 = 0.19134171618254492 * x12;
+        double t7 = t3 + t6;
+        double t8 = t5 + t7;
+        double t9 = t2 + t8;
+        double t10 = 0.4903926402016152 * x2;
+        double t11 = 0.09754516100806412 * x14;
+        double t12 = t10 + t11;
+        double t13 = 0.4157348061512726 * x6;
+        double t14 = 0.27778511650980114 * x10;
+        double t15 = t13 + t14;
+        double t16 = t12 + t15;
+        double t17 = 0.2777851165098011 * x10;
+        double t18 = t13 + t17;
+        double t19 = 0.09754516100806417 * x14;
+        double t20 = t10 + t19;
+        double t21 = t18 + t20;
+        double t22 = t16 + t21;
+        double t23 = t9 + t22;
+        double t24 = 0.49759236333609846 * x1;
+        double t25 = 0.0490085701647803 * x15;
+        double t26 = t24 + t25;
+        double t27 = 0.3865052266813685 * x7;
+        double t28 = 0.31719664208182274 * x9;
+        double t29 = t27 + t28;
+        double t30 = t26 + t29;
+        double t31 = 0.4409606321741775 * x5;
+        double t32 = 0.23569836841299882 * x11;
+        double t33 = t31 + t32;
+        double t34 = 0.14514233862723117 * x13;
+        double t35 = 0.47847016786610447 * x3;
+        double t36 = t34 + t35;
+        double t37 = t33 + t36;
+        double t38 = t30 + t37;
+        double t39 = 0.4784701678661044 * x3;
+        double t40 = t39 + t34;
+        double t41 = 0.2356983684129989 * x11;
+        double t42 = 0.44096063217417747 * x5;
+        double t43 = t41 + t42;
+        double t44 = t40 + t43;
+        double t45 = 0.049008570164780385 * x15;
+        double t46 = 0.4975923633360984 * x1;
+        double t47 = t45 + t46;
+        double t48 = t29 + t47;
+        double t49 = t44 + t48;
+        double t50 = t38 + t49;
+        double t51 = t23 + t50;
+        double t52 = x0 - t1;
+        double t53 = 0.46193976625564337 * x12;
+        double t54 = 0.19134171618254492 * x4;
+        double t55 = t53 - t54;
+        double t56 = 0.1913417161825449 * x4;
+        double t57 = t56 - t53;
+        double t58 = t55 - t57;
+        double t59 = t52 - t58;
+        double t60 = t12 - t15;
+        double t61 = 0.4903926402016152 * x14;
+        double t62 = 0.09754516100806417 * x2;
+        double t63 = t61 - t62;
+        double t64 = 0.2777851165098011 * x6;
+        double t65 = 0.4157348061512726 * x10;
+        double t66 = t64 - t65;
+        double t67 = t63 - t66;
+        double t68 = t60 - t67;
+        double t69 = 0.09754516100806412 * x2;
+        double t70 = t69 - t61;
+        double t71 = 0.27778511650980114 * x6;
+        double t72 = t65 - t71;
+        double t73 = t70 - t72;
+        double t74 = t18 - t20;
+        double t75 = t73 - t74;
+        double t76 = t68 + t75;
+        double t77 = 0.7071067811865476 * t76;
+        double t78 = t59 + t77;
+        double t79 = 0.0490085701647803 * x1;
+        double t80 = 0.49759236333609846 * x15;
+        double t81 = t79 - t80;
+        double t82 = 0.3865052266813685 * x9;
+        double t83 = 0.31719664208182274 * x7;
+        double t84 = t82 - t83;
+        double t85 = t81 - t84;
+        double t86 = t33 - t36;
+        double t87 = t85 - t86;
+        double t88 = 0.38268343236508984 * t87;
+        double t89 = t26 - t29;
+        double t90 = 0.47847016786610447 * x13;
+        double t91 = 0.14514233862723117 * x3;
+        double t92 = t90 - t91;
+        double t93 = 0.23569836841299882 * x5;
+        double t94 = 0.4409606321741775 * x11;
+        double t95 = t93 - t94;
+        double t96 = t92 - t95;
+        double t97 = t89 - t96;
+        double t98 = 0.9238795325112867 * t97;
+        double t99 = t88 + t98;
+        double t100 = 0.4784701678661044 * x13;
+        double t101 = t91 - t100;
+        double t102 = 0.44096063217417747 * x11;
+        double t103 = 0.2356983684129989 * x5;
+        double t104 = t102 - t103;
+        double t105 = t101 - t104;
+        double t106 = t29 - t47;
+        double t107 = t105 - t106;
+        double t108 = 0.9238795325112868 * t107;
+        double t109 = t40 - t43;
+        double t110 = 0.4975923633360984 * x15;
+        double t111 = 0.049008570164780385 * x1;
+        double t112 = t110 - t111;
+        double t113 = t83 - t82;
+        double t114 = t112 - t113;
+        double t115 = t109 - t114;
+        double t116 = 0.38268343236508967 * t115;
+        double t117 = t108 + t116;
+        double t118 = t99 + t117;
+        double t119 = t78 + t118;
+        double t120 = t52 + t58;
+        double t121 = t60 + t67;
+        double t122 = t73 + t74;
+        double t123 = t121 - t122;
+        double t124 = 0.7071067811865476 * t123;
+        double t125 = t120 + t124;
+        double t126 = t89 + t96;
+        double t127 = 0.9238795325112867 * t126;
+        double t128 = t85 + t86;
+        double t129 = 0.3826834323650898 * t128;
+        double t130 = t127 - t129;
+        double t131 = t109 + t114;
+        double t132 = 0.38268343236508984 * t131;
+        double t133 = t105 + t106;
+        double t134 = 0.9238795325112867 * t133;
+        double t135 = t132 - t134;
+        double t136 = t130 + t135;
+        double t137 = t125 + t136;
+        double t138 = t2 - t8;
+        double t139 = t66 + t63;
+        double t140 = t70 + t72;
+        double t141 = t139 - t140;
+        double t142 = t138 - t141;
+        double t143 = t30 - t37;
+        double t144 = t81 + t84;
+        double t145 = t95 + t92;
+        double t146 = t144 - t145;
+        double t147 = t143 + t146;
+        double t148 = 0.7071067811865476 * t147;
+        double t149 = t101 + t104;
+        double t150 = t113 + t112;
+        double t151 = t149 - t150;
+        double t152 = t44 - t48;
+        double t153 = t151 - t152;
+        double t154 = 0.7071067811865476 * t153;
+        double t155 = t148 + t154;
+        double t156 = t142 + t155;
+        double t157 = t138 + t141;
+        double t158 = t143 - t146;
+        double t159 = 0.7071067811865476 * t158;
+        double t160 = t152 + t151;
+        double t161 = 0.7071067811865476 * t160;
+        double t162 = t159 - t161;
+        double t163 = t157 + t162;
+        double t164 = t120 - t124;
+        double t165 = 0.38268343236508984 * t133;
+        double t166 = 0.9238795325112867 * t131;
+        double t167 = t165 + t166;
+        double t168 = 0.9238795325112867 * t128;
+        double t169 = 0.3826834323650898 * t126;
+        double t170 = t168 + t169;
+        double t171 = t167 - t170;
+        double t172 = t164 - t171;
+        double t173 = t59 - t77;
+        double t174 = 0.38268343236508984 * t97;
+        double t175 = 0.9238795325112867 * t87;
+        double t176 = t174 - t175;
+        double t177 = 0.38268343236508967 * t107;
+        double t178 = 0.9238795325112868 * t115;
+        double t179 = t177 - t178;
+        double t180 = t176 + t179;
+        double t181 = t173 + t180;
+        double t182 = t9 - t22;
+        double t183 = t149 + t150;
+        double t184 = t144 + t145;
+        double t185 = t183 - t184;
+        double t186 = t182 - t185;
+        double t187 = t182 + t185;
+        double t188 = t173 - t180;
+        double t189 = t164 + t171;
+        double t190 = t157 - t162;
+        double t191 = t142 - t155;
+        double t192 = t125 - t136;
+        double t193 = t78 - t118;
+        double t194 = t23 - t50;
+        a[offa] = t51;
+        a[offa + 1] = t119;
+        a[offa + 2] = t137;
+        a[offa + 3] = t156;
+        a[offa + 4] = t163;
+        a[offa + 5] = t172;
+        a[offa + 6] = t181;
+        a[offa + 7] = t186;
+        a[offa + 8] = t187;
+        a[offa + 9] = t188;
+        a[offa + 10] = t189;
+        a[offa + 11] = t190;
+        a[offa + 12] = t191;
+        a[offa + 13] = t192;
+        a[offa + 14] = t193;
+        a[offa + 15] = t194;
+    }
+
+    static void dct3_18(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double x13 = a[offa + 13];
+        double x14 = a[offa + 14];
+        double x15 = a[offa + 15];
+        double x16 = a[offa + 16];
+        double x17 = a[offa + 17];
+        double t0 = 0.43301270189221935 * x6;
+        double t1 = 0.24999999999999997 * x12;
+        double t2 = t0 + t1;
+        double t3 = 0.25000000000000006 * x12;
+        double t4 = 0.4330127018922193 * x6;
+        double t5 = t3 + t4;
+        double t6 = t2 + t5;
+        double t7 = x0 + t6;
+        double t8 = 0.492403876506104 * x2;
+        double t9 = 0.08682408883346517 * x16;
+        double t10 = t8 + t9;
+        double t11 = 0.383022221559489 * x8;
+        double t12 = 0.3213938048432696 * x10;
+        double t13 = t11 + t12;
+        double t14 = 0.1710100716628344 * x14;
+        double t15 = 0.46984631039295416 * x4;
+        double t16 = t14 + t15;
+        double t17 = t13 + t16;
+        double t18 = t10 + t17;
+        double t19 = 0.4698463103929542 * x4;
+        double t20 = 0.17101007166283436 * x14;
+        double t21 = t19 + t20;
+        double t22 = 0.3213938048432697 * x10;
+        double t23 = t11 + t22;
+        double t24 = 0.08682408883346521 * x16;
+        double t25 = t8 + t24;
+        double t26 = t23 + t25;
+        double t27 = t21 + t26;
+        double t28 = t18 + t27;
+        double t29 = t7 + t28;
+        double t30 = 0.4980973490458728 * x1;
+        double t31 = 0.04357787137382908 * x17;
+        double t32 = t30 + t31;
+        double t33 = 0.45315389351832497 * x5;
+        double t34 = 0.21130913087034972 * x13;
+        double t35 = t33 + t34;
+        double t36 = 0.4095760221444959 * x7;
+        double t37 = 0.286788218175523 * x11;
+        double t38 = t36 + t37;
+        double t39 = t35 + t38;
+        double t40 = t32 + t39;
+        double t41 = 0.48296291314453416 * x3;
+        double t42 = 0.12940952255126037 * x15;
+        double t43 = t41 + t42;
+        double t44 = x9 + x9;
+        double t45 = 0.3535533905932738 * t44;
+        double t46 = t43 + t45;
+        double t47 = t43 + t46;
+        double t48 = 0.2867882181755231 * x11;
+        double t49 = t36 + t48;
+        double t50 = 0.04357787137382918 * x17;
+        double t51 = t30 + t50;
+        double t52 = t49 + t51;
+        double t53 = t35 + t52;
+        double t54 = t47 + t53;
+        double t55 = t40 + t54;
+        double t56 = t29 + t55;
+        double t57 = 0.5 * t6;
+        double t58 = x0 - t57;
+        double t59 = 0.24999999999999997 * x6;
+        double t60 = 0.43301270189221935 * x12;
+        double t61 = t59 - t60;
+        double t62 = 0.4330127018922193 * x12;
+        double t63 = 0.25000000000000006 * x6;
+        double t64 = t62 - t63;
+        double t65 = t61 - t64;
+        double t66 = 0.8660254037844387 * t65;
+        double t67 = t58 + t66;
+        double t68 = 0.5 * t17;
+        double t69 = t10 - t68;
+        double t70 = 0.3213938048432696 * x8;
+        double t71 = 0.383022221559489 * x10;
+        double t72 = t70 - t71;
+        double t73 = 0.46984631039295416 * x14;
+        double t74 = 0.1710100716628344 * x4;
+        double t75 = t73 - t74;
+        double t76 = t72 - t75;
+        double t77 = 0.8660254037844387 * t76;
+        double t78 = t69 + t77;
+        double t79 = 0.17364817766693041 * t78;
+        double t80 = 0.08682408883346517 * x2;
+        double t81 = 0.492403876506104 * x16;
+        double t82 = t80 - t81;
+        double t83 = t72 + t75;
+        double t84 = 0.5 * t83;
+        double t85 = t82 - t84;
+        double t86 = t13 - t16;
+        double t87 = 0.8660254037844387 * t86;
+        double t88 = t85 - t87;
+        double t89 = 0.984807753012208 * t88;
+        double t90 = t79 - t89;
+        double t91 = 0.5 * t26;
+        double t92 = t21 - t91;
+        double t93 = 0.3213938048432697 * x8;
+        double t94 = t71 - t93;
+        double t95 = 0.08682408883346521 * x2;
+        double t96 = t81 - t95;
+        double t97 = t94 - t96;
+        double t98 = 0.8660254037844387 * t97;
+        double t99 = t92 + t98;
+        double t100 = 0.9396926207859083 * t99;
+        double t101 = 0.17101007166283436 * x4;
+        double t102 = 0.4698463103929542 * x14;
+        double t103 = t101 - t102;
+        double t104 = t94 + t96;
+        double t105 = 0.5 * t104;
+        double t106 = t103 - t105;
+        double t107 = t23 - t25;
+        double t108 = 0.8660254037844387 * t107;
+        double t109 = t106 - t108;
+        double t110 = 0.3420201433256689 * t109;
+        double t111 = t100 + t110;
+        double t112 = t90 - t111;
+        double t113 = 0.5 * t112;
+        double t114 = t67 - t113;
+        double t115 = 0.17364817766693041 * t88;
+        double t116 = 0.984807753012208 * t78;
+        double t117 = t115 + t116;
+        double t118 = 0.3420201433256689 * t99;
+        double t119 = 0.9396926207859083 * t109;
+        double t120 = t118 - t119;
+        double t121 = t117 - t120;
+        double t122 = 0.8660254037844387 * t121;
+        double t123 = t114 + t122;
+        double t124 = 0.5 * t39;
+        double t125 = t32 - t124;
+        double t126 = 0.286788218175523 * x7;
+        double t127 = 0.4095760221444959 * x11;
+        double t128 = t126 - t127;
+        double t129 = 0.45315389351832497 * x13;
+        double t130 = 0.21130913087034972 * x5;
+        double t131 = t129 - t130;
+        double t132 = t128 - t131;
+        double t133 = 0.8660254037844387 * t132;
+        double t134 = t125 + t133;
+        double t135 = 0.5 * t46;
+        double t136 = t43 - t135;
+        double t137 = 0.12940952255126037 * x3;
+        double t138 = 0.48296291314453416 * x15;
+        double t139 = t137 - t138;
+        double t140 = 0.8660254037844387 * t139;
+        double t141 = t136 + t140;
+        double t142 = 0.17364817766693041 * t141;
+        double t143 = t138 - t137;
+        double t144 = 0.5 * t143;
+        double t145 = t139 - t144;
+        double t146 = t45 - t43;
+        double t147 = 0.8660254037844387 * t146;
+        double t148 = t145 - t147;
+        double t149 = 0.984807753012208 * t148;
+        double t150 = t142 - t149;
+        double t151 = 0.5 * t52;
+        double t152 = t35 - t151;
+        double t153 = 0.2867882181755231 * x7;
+        double t154 = t127 - t153;
+        double t155 = 0.4980973490458728 * x17;
+        double t156 = 0.04357787137382918 * x1;
+        double t157 = t155 - t156;
+        double t158 = t154 - t157;
+        double t159 = 0.8660254037844387 * t158;
+        double t160 = t152 + t159;
+        double t161 = 0.9396926207859083 * t160;
+        double t162 = t130 - t129;
+        double t163 = t154 + t157;
+        double t164 = 0.5 * t163;
+        double t165 = t162 - t164;
+        double t166 = t49 - t51;
+        double t167 = 0.8660254037844387 * t166;
+        double t168 = t165 - t167;
+        double t169 = 0.3420201433256689 * t168;
+        double t170 = t161 + t169;
+        double t171 = t150 - t170;
+        double t172 = 0.5 * t171;
+        double t173 = t134 - t172;
+        double t174 = 0.17364817766693041 * t148;
+        double t175 = 0.984807753012208 * t141;
+        double t176 = t174 + t175;
+        double t177 = 0.3420201433256689 * t160;
+        double t178 = 0.9396926207859083 * t168;
+        double t179 = t177 - t178;
+        double t180 = t176 - t179;
+        double t181 = 0.8660254037844387 * t180;
+        double t182 = t173 + t181;
+        double t183 = 0.9396926207859083 * t182;
+        double t184 = 0.04357787137382908 * x1;
+        double t185 = t184 - t155;
+        double t186 = t128 + t131;
+        double t187 = 0.5 * t186;
+        double t188 = t185 - t187;
+        double t189 = t38 - t35;
+        double t190 = 0.8660254037844387 * t189;
+        double t191 = t188 - t190;
+        double t192 = t176 + t179;
+        double t193 = 0.5 * t192;
+        double t194 = t191 - t193;
+        double t195 = t150 + t170;
+        double t196 = 0.8660254037844387 * t195;
+        double t197 = t194 - t196;
+        double t198 = 0.3420201433256689 * t197;
+        double t199 = t183 + t198;
+        double t200 = t123 + t199;
+        double t201 = t58 - t66;
+        double t202 = t69 - t77;
+        double t203 = 0.766044443118978 * t202;
+        double t204 = t85 + t87;
+        double t205 = 0.6427876096865393 * t204;
+        double t206 = t203 - t205;
+        double t207 = t92 - t98;
+        double t208 = 0.17364817766693041 * t207;
+        double t209 = t106 + t108;
+        double t210 = 0.984807753012208 * t209;
+        double t211 = t208 - t210;
+        double t212 = t206 + t211;
+        double t213 = t201 + t212;
+        double t214 = t125 - t133;
+        double t215 = t136 - t140;
+        double t216 = 0.766044443118978 * t215;
+        double t217 = t145 + t147;
+        double t218 = 0.6427876096865393 * t217;
+        double t219 = t216 - t218;
+        double t220 = t152 - t159;
+        double t221 = 0.17364817766693041 * t220;
+        double t222 = t165 + t167;
+        double t223 = 0.984807753012208 * t222;
+        double t224 = t221 - t223;
+        double t225 = t219 + t224;
+        double t226 = t214 + t225;
+        double t227 = 0.9396926207859084 * t226;
+        double t228 = t188 + t190;
+        double t229 = 0.766044443118978 * t217;
+        double t230 = 0.6427876096865393 * t215;
+        double t231 = t229 + t230;
+        double t232 = 0.17364817766693041 * t222;
+        double t233 = 0.984807753012208 * t220;
+        double t234 = t232 + t233;
+        double t235 = t231 + t234;
+        double t236 = t228 + t235;
+        double t237 = 0.3420201433256687 * t236;
+        double t238 = t227 - t237;
+        double t239 = t213 + t238;
+        double t240 = 0.5 * t212;
+        double t241 = t201 - t240;
+        double t242 = 0.766044443118978 * t204;
+        double t243 = 0.6427876096865393 * t202;
+        double t244 = t242 + t243;
+        double t245 = 0.17364817766693041 * t209;
+        double t246 = 0.984807753012208 * t207;
+        double t247 = t245 + t246;
+        double t248 = t244 - t247;
+        double t249 = 0.8660254037844387 * t248;
+        double t250 = t241 + t249;
+        double t251 = 0.5 * t225;
+        double t252 = t214 - t251;
+        double t253 = t231 - t234;
+        double t254 = 0.8660254037844387 * t253;
+        double t255 = t252 + t254;
+        double t256 = 0.7660444431189779 * t255;
+        double t257 = 0.5 * t235;
+        double t258 = t228 - t257;
+        double t259 = t219 - t224;
+        double t260 = 0.8660254037844387 * t259;
+        double t261 = t258 - t260;
+        double t262 = 0.6427876096865395 * t261;
+        double t263 = t256 + t262;
+        double t264 = t250 + t263;
+        double t265 = t67 + t112;
+        double t266 = t134 + t171;
+        double t267 = 0.766044443118978 * t266;
+        double t268 = t191 + t192;
+        double t269 = 0.6427876096865393 * t268;
+        double t270 = t267 - t269;
+        double t271 = t265 + t270;
+        double t272 = 0.5 * t28;
+        double t273 = t7 - t272;
+        double t274 = t82 + t83;
+        double t275 = t103 + t104;
+        double t276 = t274 - t275;
+        double t277 = 0.8660254037844387 * t276;
+        double t278 = t273 + t277;
+        double t279 = 0.5 * t54;
+        double t280 = t40 - t279;
+        double t281 = t139 + t143;
+        double t282 = t162 + t163;
+        double t283 = t281 - t282;
+        double t284 = 0.8660254037844387 * t283;
+        double t285 = t280 + t284;
+        double t286 = 0.5 * t285;
+        double t287 = t185 + t186;
+        double t288 = t281 + t282;
+        double t289 = 0.5 * t288;
+        double t290 = t287 - t289;
+        double t291 = t47 - t53;
+        double t292 = 0.8660254037844387 * t291;
+        double t293 = t290 - t292;
+        double t294 = 0.8660254037844387 * t293;
+        double t295 = t286 + t294;
+        double t296 = t278 + t295;
+        double t297 = t273 - t277;
+        double t298 = t280 - t284;
+        double t299 = 0.5 * t298;
+        double t300 = t290 + t292;
+        double t301 = 0.8660254037844386 * t300;
+        double t302 = t299 - t301;
+        double t303 = t297 + t302;
+        double t304 = t114 - t122;
+        double t305 = t173 - t181;
+        double t306 = 0.1736481776669303 * t305;
+        double t307 = t194 + t196;
+        double t308 = 0.984807753012208 * t307;
+        double t309 = t306 + t308;
+        double t310 = t304 + t309;
+        double t311 = t241 - t249;
+        double t312 = t252 - t254;
+        double t313 = 0.17364817766693041 * t312;
+        double t314 = t258 + t260;
+        double t315 = 0.984807753012208 * t314;
+        double t316 = t313 - t315;
+        double t317 = t311 + t316;
+        double t318 = t311 - t316;
+        double t319 = t304 - t309;
+        double t320 = t297 - t302;
+        double t321 = t278 - t295;
+        double t322 = t265 - t270;
+        double t323 = t250 - t263;
+        double t324 = t213 - t238;
+        double t325 = t123 - t199;
+        double t326 = t29 - t55;
+        a[offa] = t56;
+        a[offa + 1] = t200;
+        a[offa + 2] = t239;
+        a[offa + 3] = t264;
+        a[offa + 4] = t271;
+        a[offa + 5] = t296;
+        a[offa + 6] = t303;
+        a[offa + 7] = t310;
+        a[offa + 8] = t317;
+        a[offa + 9] = t318;
+        a[offa + 10] = t319;
+        a[offa + 11] = t320;
+        a[offa + 12] = t321;
+        a[offa + 13] = t322;
+        a[offa + 14] = t323;
+        a[offa + 15] = t324;
+        a[offa + 16] = t325;
+        a[offa + 17] = t326;
+    }
+
+    static void dct3_20(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double x13 = a[offa + 13];
+        double x14 = a[offa + 14];
+        double x15 = a[offa + 15];
+        double x16 = a[offa + 16];
+        double x17 = a[offa + 17];
+        double x18 = a[offa + 18];
+        double x19 = a[offa + 19];
+        double t0 = 0.4045084971874737 * x8;
+        double t1 = 0.29389262614623657 * x12;
+        double t2 = t0 + t1;
+        double t3 = t2 + t2;
+        double t4 = 0.47552825814757677 * x4;
+        double t5 = 0.1545084971874737 * x16;
+        double t6 = t4 + t5;
+        double t7 = 0.15450849718747373 * x16;
+        double t8 = t4 + t7;
+        double t9 = t6 + t8;
+        double t10 = x0 + t9;
+        double t11 = t3 + t10;
+        double t12 = x10 + x10;
+        double t13 = 0.3535533905932738 * t12;
+        double t14 = 0.2269952498697734 * x14;
+        double t15 = 0.4455032620941839 * x6;
+        double t16 = t14 + t15;
+        double t17 = t13 + t16;
+        double t18 = 0.4938441702975689 * x2;
+        double t19 = 0.07821723252011543 * x18;
+        double t20 = t18 + t19;
+        double t21 = 0.44550326209418395 * x6;
+        double t22 = 0.22699524986977337 * x14;
+        double t23 = t21 + t22;
+        double t24 = 0.07821723252011546 * x18;
+        double t25 = t18 + t24;
+        double t26 = t23 + t25;
+        double t27 = t20 + t26;
+        double t28 = t17 + t27;
+        double t29 = t11 + t28;
+        double t30 = 0.38020298280001547 * x9;
+        double t31 = 0.32472402416509183 * x11;
+        double t32 = t30 + t31;
+        double t33 = 0.4263200821770461 * x7;
+        double t34 = 0.26124928235797445 * x13;
+        double t35 = t33 + t34;
+        double t36 = t32 + t35;
+        double t37 = 0.498458666866564 * x1;
+        double t38 = 0.03922954786392247 * x19;
+        double t39 = t37 + t38;
+        double t40 = 0.46193976625564337 * x5;
+        double t41 = 0.1913417161825449 * x15;
+        double t42 = t40 + t41;
+        double t43 = 0.4861849601988383 * x3;
+        double t44 = 0.11672268192795274 * x17;
+        double t45 = t43 + t44;
+        double t46 = t42 + t45;
+        double t47 = t39 + t46;
+        double t48 = t36 + t47;
+        double t49 = 0.3247240241650918 * x11;
+        double t50 = 0.3802029828000155 * x9;
+        double t51 = t49 + t50;
+        double t52 = 0.19134171618254492 * x15;
+        double t53 = t40 + t52;
+        double t54 = t51 + t53;
+        double t55 = 0.1167226819279527 * x17;
+        double t56 = t43 + t55;
+        double t57 = 0.2612492823579744 * x13;
+        double t58 = t33 + t57;
+        double t59 = 0.0392295478639225 * x19;
+        double t60 = t37 + t59;
+        double t61 = t58 + t60;
+        double t62 = t56 + t61;
+        double t63 = t54 + t62;
+        double t64 = t48 + t63;
+        double t65 = t29 + t64;
+        double t66 = 0.30901699437494745 * t9;
+        double t67 = x0 + t66;
+        double t68 = 0.8090169943749473 * t3;
+        double t69 = t67 - t68;
+        double t70 = 0.1545084971874737 * x4;
+        double t71 = 0.47552825814757677 * x16;
+        double t72 = t70 - t71;
+        double t73 = 0.15450849718747373 * x4;
+        double t74 = t71 - t73;
+        double t75 = t72 - t74;
+        double t76 = 0.9510565162951535 * t75;
+        double t77 = 0.29389262614623657 * x8;
+        double t78 = 0.4045084971874737 * x12;
+        double t79 = t77 - t78;
+        double t80 = t78 - t77;
+        double t81 = t79 - t80;
+        double t82 = 0.5877852522924732 * t81;
+        double t83 = t76 + t82;
+        double t84 = t69 + t83;
+        double t85 = 0.30901699437494745 * t26;
+        double t86 = t20 + t85;
+        double t87 = 0.8090169943749473 * t17;
+        double t88 = t86 - t87;
+        double t89 = 0.22699524986977337 * x6;
+        double t90 = 0.44550326209418395 * x14;
+        double t91 = t89 - t90;
+        double t92 = 0.4938441702975689 * x18;
+        double t93 = 0.07821723252011546 * x2;
+        double t94 = t92 - t93;
+        double t95 = t91 - t94;
+        double t96 = 0.9510565162951535 * t95;
+        double t97 = 0.2269952498697734 * x6;
+        double t98 = 0.4455032620941839 * x14;
+        double t99 = t97 - t98;
+        double t100 = 0.5877852522924732 * t99;
+        double t101 = t96 + t100;
+        double t102 = t88 + t101;
+        double t103 = 0.8090169943749473 * t102;
+        double t104 = 0.07821723252011543 * x2;
+        double t105 = t104 - t92;
+        double t106 = t91 + t94;
+        double t107 = 0.30901699437494745 * t106;
+        double t108 = t105 + t107;
+        double t109 = t98 - t97;
+        double t110 = 0.8090169943749473 * t109;
+        double t111 = t108 - t110;
+        double t112 = t23 - t25;
+        double t113 = 0.9510565162951535 * t112;
+        double t114 = t13 - t16;
+        double t115 = 0.5877852522924732 * t114;
+        double t116 = t113 + t115;
+        double t117 = t111 - t116;
+        double t118 = 0.5877852522924732 * t117;
+        double t119 = t103 + t118;
+        double t120 = t84 + t119;
+        double t121 = 0.03922954786392247 * x1;
+        double t122 = 0.498458666866564 * x19;
+        double t123 = t121 - t122;
+        double t124 = 0.1913417161825449 * x5;
+        double t125 = 0.46193976625564337 * x15;
+        double t126 = t124 - t125;
+        double t127 = 0.4861849601988383 * x17;
+        double t128 = 0.11672268192795274 * x3;
+        double t129 = t127 - t128;
+        double t130 = t126 + t129;
+        double t131 = 0.30901699437494745 * t130;
+        double t132 = t123 + t131;
+        double t133 = 0.32472402416509183 * x9;
+        double t134 = 0.38020298280001547 * x11;
+        double t135 = t133 - t134;
+        double t136 = 0.4263200821770461 * x13;
+        double t137 = 0.26124928235797445 * x7;
+        double t138 = t136 - t137;
+        double t139 = t135 + t138;
+        double t140 = 0.8090169943749473 * t139;
+        double t141 = t132 - t140;
+        double t142 = t42 - t45;
+        double t143 = 0.9510565162951535 * t142;
+        double t144 = t32 - t35;
+        double t145 = 0.5877852522924732 * t144;
+        double t146 = t143 + t145;
+        double t147 = t141 - t146;
+        double t148 = 0.30901699437494745 * t147;
+        double t149 = 0.30901699437494745 * t46;
+        double t150 = t39 + t149;
+        double t151 = 0.8090169943749473 * t36;
+        double t152 = t150 - t151;
+        double t153 = t126 - t129;
+        double t154 = 0.9510565162951535 * t153;
+        double t155 = t135 - t138;
+        double t156 = 0.5877852522924732 * t155;
+        double t157 = t154 + t156;
+        double t158 = t152 + t157;
+        double t159 = 0.9510565162951535 * t158;
+        double t160 = t148 + t159;
+        double t161 = 0.1167226819279527 * x3;
+        double t162 = t161 - t127;
+        double t163 = 0.2612492823579744 * x7;
+        double t164 = t163 - t136;
+        double t165 = 0.0392295478639225 * x1;
+        double t166 = t122 - t165;
+        double t167 = t164 + t166;
+        double t168 = 0.30901699437494745 * t167;
+        double t169 = t162 + t168;
+        double t170 = 0.3802029828000155 * x11;
+        double t171 = 0.3247240241650918 * x9;
+        double t172 = t170 - t171;
+        double t173 = 0.19134171618254492 * x5;
+        double t174 = t125 - t173;
+        double t175 = t172 + t174;
+        double t176 = 0.8090169943749473 * t175;
+        double t177 = t169 - t176;
+        double t178 = t58 - t60;
+        double t179 = 0.9510565162951535 * t178;
+        double t180 = t51 - t53;
+        double t181 = 0.5877852522924732 * t180;
+        double t182 = t179 + t181;
+        double t183 = t177 - t182;
+        double t184 = 0.8090169943749476 * t183;
+        double t185 = 0.30901699437494745 * t61;
+        double t186 = t56 + t185;
+        double t187 = 0.8090169943749473 * t54;
+        double t188 = t186 - t187;
+        double t189 = t164 - t166;
+        double t190 = 0.9510565162951535 * t189;
+        double t191 = t172 - t174;
+        double t192 = 0.5877852522924732 * t191;
+        double t193 = t190 + t192;
+        double t194 = t188 + t193;
+        double t195 = 0.587785252292473 * t194;
+        double t196 = t184 + t195;
+        double t197 = t160 + t196;
+        double t198 = t120 + t197;
+        double t199 = t69 - t83;
+        double t200 = t88 - t101;
+        double t201 = 0.8090169943749475 * t200;
+        double t202 = t111 + t116;
+        double t203 = 0.5877852522924731 * t202;
+        double t204 = t201 - t203;
+        double t205 = t199 + t204;
+        double t206 = t152 - t157;
+        double t207 = 0.9510565162951535 * t206;
+        double t208 = t141 + t146;
+        double t209 = 0.3090169943749474 * t208;
+        double t210 = t207 - t209;
+        double t211 = t188 - t193;
+        double t212 = 0.5877852522924731 * t211;
+        double t213 = t177 + t182;
+        double t214 = 0.8090169943749475 * t213;
+        double t215 = t212 - t214;
+        double t216 = t210 + t215;
+        double t217 = t205 + t216;
+        double t218 = 0.8090169943749473 * t9;
+        double t219 = x0 - t218;
+        double t220 = 0.30901699437494723 * t3;
+        double t221 = t219 + t220;
+        double t222 = 0.5877852522924732 * t75;
+        double t223 = 0.9510565162951536 * t81;
+        double t224 = t222 - t223;
+        double t225 = t221 + t224;
+        double t226 = 0.8090169943749473 * t26;
+        double t227 = t20 - t226;
+        double t228 = 0.30901699437494723 * t17;
+        double t229 = t227 + t228;
+        double t230 = 0.5877852522924732 * t95;
+        double t231 = 0.9510565162951536 * t99;
+        double t232 = t230 - t231;
+        double t233 = t229 + t232;
+        double t234 = 0.30901699437494734 * t233;
+        double t235 = 0.8090169943749473 * t106;
+        double t236 = t105 - t235;
+        double t237 = 0.30901699437494723 * t109;
+        double t238 = t236 + t237;
+        double t239 = 0.5877852522924732 * t112;
+        double t240 = 0.9510565162951536 * t114;
+        double t241 = t239 - t240;
+        double t242 = t238 - t241;
+        double t243 = 0.9510565162951536 * t242;
+        double t244 = t234 + t243;
+        double t245 = t225 + t244;
+        double t246 = 0.8090169943749473 * t61;
+        double t247 = t56 - t246;
+        double t248 = 0.30901699437494723 * t54;
+        double t249 = t247 + t248;
+        double t250 = 0.5877852522924732 * t189;
+        double t251 = 0.9510565162951536 * t191;
+        double t252 = t250 - t251;
+        double t253 = t249 + t252;
+        double t254 = 0.3090169943749475 * t253;
+        double t255 = 0.8090169943749473 * t167;
+        double t256 = t162 - t255;
+        double t257 = 0.30901699437494723 * t175;
+        double t258 = t256 + t257;
+        double t259 = 0.5877852522924732 * t178;
+        double t260 = 0.9510565162951536 * t180;
+        double t261 = t259 - t260;
+        double t262 = t258 - t261;
+        double t263 = 0.9510565162951535 * t262;
+        double t264 = t254 - t263;
+        double t265 = 0.8090169943749473 * t130;
+        double t266 = t123 - t265;
+        double t267 = 0.30901699437494723 * t139;
+        double t268 = t266 + t267;
+        double t269 = 0.5877852522924732 * t142;
+        double t270 = 0.9510565162951536 * t144;
+        double t271 = t269 - t270;
+        double t272 = t268 - t271;
+        double t273 = 0.5877852522924731 * t272;
+        double t274 = 0.8090169943749473 * t46;
+        double t275 = t39 - t274;
+        double t276 = 0.30901699437494723 * t36;
+        double t277 = t275 + t276;
+        double t278 = 0.5877852522924732 * t153;
+        double t279 = 0.9510565162951536 * t155;
+        double t280 = t278 - t279;
+        double t281 = t277 + t280;
+        double t282 = 0.8090169943749475 * t281;
+        double t283 = t273 + t282;
+        double t284 = t264 - t283;
+        double t285 = t245 - t284;
+        double t286 = t221 - t224;
+        double t287 = t229 - t232;
+        double t288 = 0.30901699437494745 * t287;
+        double t289 = t238 + t241;
+        double t290 = 0.9510565162951535 * t289;
+        double t291 = t288 - t290;
+        double t292 = t286 + t291;
+        double t293 = t277 - t280;
+        double t294 = 0.8090169943749475 * t293;
+        double t295 = t268 + t271;
+        double t296 = 0.5877852522924731 * t295;
+        double t297 = t294 - t296;
+        double t298 = t249 - t252;
+        double t299 = 0.30901699437494734 * t298;
+        double t300 = t258 + t261;
+        double t301 = 0.9510565162951536 * t300;
+        double t302 = t299 + t301;
+        double t303 = t297 - t302;
+        double t304 = t292 + t303;
+        double t305 = t286 - t291;
+        double t306 = 0.9510565162951536 * t298;
+        double t307 = 0.30901699437494734 * t300;
+        double t308 = t306 - t307;
+        double t309 = 0.8090169943749475 * t295;
+        double t310 = 0.5877852522924731 * t293;
+        double t311 = t309 + t310;
+        double t312 = t308 - t311;
+        double t313 = t305 - t312;
+        double t314 = t225 - t244;
+        double t315 = 0.5877852522924731 * t281;
+        double t316 = 0.8090169943749475 * t272;
+        double t317 = t315 - t316;
+        double t318 = 0.9510565162951535 * t253;
+        double t319 = 0.3090169943749475 * t262;
+        double t320 = t318 + t319;
+        double t321 = t317 - t320;
+        double t322 = t314 + t321;
+        double t323 = t199 - t204;
+        double t324 = 0.5877852522924731 * t213;
+        double t325 = 0.8090169943749475 * t211;
+        double t326 = t324 + t325;
+        double t327 = 0.9510565162951535 * t208;
+        double t328 = 0.3090169943749474 * t206;
+        double t329 = t327 + t328;
+        double t330 = t326 - t329;
+        double t331 = t323 - t330;
+        double t332 = t84 - t119;
+        double t333 = 0.30901699437494745 * t158;
+        double t334 = 0.9510565162951535 * t147;
+        double t335 = t333 - t334;
+        double t336 = 0.587785252292473 * t183;
+        double t337 = 0.8090169943749476 * t194;
+        double t338 = t336 - t337;
+        double t339 = t335 + t338;
+        double t340 = t332 + t339;
+        double t341 = t11 - t28;
+        double t342 = t162 + t167;
+        double t343 = t175 + t342;
+        double t344 = t123 + t130;
+        double t345 = t139 + t344;
+        double t346 = t343 - t345;
+        double t347 = t341 - t346;
+        double t348 = t341 + t346;
+        double t349 = t332 - t339;
+        double t350 = t323 + t330;
+        double t351 = t314 - t321;
+        double t352 = t305 + t312;
+        double t353 = t292 - t303;
+        double t354 = t245 + t284;
+        double t355 = t205 - t216;
+        double t356 = t120 - t197;
+        double t357 = t29 - t64;
+        a[offa] = t65;
+        a[offa + 1] = t198;
+        a[offa + 2] = t217;
+        a[offa + 3] = t285;
+        a[offa + 4] = t304;
+        a[offa + 5] = t313;
+        a[offa + 6] = t322;
+        a[offa + 7] = t331;
+        a[offa + 8] = t340;
+        a[offa + 9] = t347;
+        a[offa + 10] = t348;
+        a[offa + 11] = t349;
+        a[offa + 12] = t350;
+        a[offa + 13] = t351;
+        a[offa + 14] = t352;
+        a[offa + 15] = t353;
+        a[offa + 16] = t354;
+        a[offa + 17] = t355;
+        a[offa + 18] = t356;
+        a[offa + 19] = t357;
+    }
+
+    static void dct3_24(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double x13 = a[offa + 13];
+        double x14 = a[offa + 14];
+        double x15 = a[offa + 15];
+        double x16 = a[offa + 16];
+        double x17 = a[offa + 17];
+        double x18 = a[offa + 18];
+        double x19 = a[offa + 19];
+        double x20 = a[offa + 20];
+        double x21 = a[offa + 21];
+        double x22 = a[offa + 22];
+        double x23 = a[offa + 23];
+        double t0 = 0.43301270189221935 * x8;
+        double t1 = 0.24999999999999997 * x16;
+        double t2 = t0 + t1;
+        double t3 = 0.25000000000000006 * x16;
+        double t4 = 0.4330127018922193 * x8;
+        double t5 = t3 + t4;
+        double t6 = t2 + t5;
+        double t7 = x0 + t6;
+        double t8 = 0.48296291314453416 * x4;
+        double t9 = 0.12940952255126037 * x20;
+        double t10 = t8 + t9;
+        double t11 = x12 + x12;
+        double t12 = 0.3535533905932738 * t11;
+        double t13 = t10 + t12;
+        double t14 = t10 + t13;
+        double t15 = t7 + t14;
+        double t16 = 0.4957224306869052 * x2;
+        double t17 = 0.06526309611002579 * x22;
+        double t18 = t16 + t17;
+        double t19 = 0.3966766701456176 * x10;
+        double t20 = 0.30438071450436033 * x14;
+        double t21 = t19 + t20;
+        double t22 = 0.46193976625564337 * x6;
+        double t23 = 0.19134171618254492 * x18;
+        double t24 = t22 + t23;
+        double t25 = t21 + t24;
+        double t26 = t18 + t25;
+        double t27 = 0.1913417161825449 * x18;
+        double t28 = t22 + t27;
+        double t29 = 0.06526309611002586 * x22;
+        double t30 = t16 + t29;
+        double t31 = t21 + t30;
+        double t32 = t28 + t31;
+        double t33 = t26 + t32;
+        double t34 = t15 + t33;
+        double t35 = 0.49892946161930174 * x1;
+        double t36 = 0.03270156461507153 * x23;
+        double t37 = t35 + t36;
+        double t38 = 0.4157348061512726 * x9;
+        double t39 = 0.2777851165098011 * x15;
+        double t40 = t38 + t39;
+        double t41 = 0.22114434510950062 * x17;
+        double t42 = 0.4484363707663442 * x7;
+        double t43 = t41 + t42;
+        double t44 = t40 + t43;
+        double t45 = t37 + t44;
+        double t46 = 0.47346506474755284 * x5;
+        double t47 = 0.1607197326515808 * x19;
+        double t48 = t46 + t47;
+        double t49 = 0.3296729075500345 * x13;
+        double t50 = 0.37591990373948864 * x11;
+        double t51 = t49 + t50;
+        double t52 = 0.4903926402016152 * x3;
+        double t53 = 0.09754516100806417 * x21;
+        double t54 = t52 + t53;
+        double t55 = t51 + t54;
+        double t56 = t48 + t55;
+        double t57 = t45 + t56;
+        double t58 = 0.09754516100806412 * x21;
+        double t59 = t52 + t58;
+        double t60 = 0.3759199037394887 * x11;
+        double t61 = 0.3296729075500344 * x13;
+        double t62 = t60 + t61;
+        double t63 = 0.16071973265158085 * x19;
+        double t64 = 0.4734650647475528 * x5;
+        double t65 = t63 + t64;
+        double t66 = t62 + t65;
+        double t67 = t59 + t66;
+        double t68 = 0.44843637076634413 * x7;
+        double t69 = 0.22114434510950065 * x17;
+        double t70 = t68 + t69;
+        double t71 = 0.27778511650980114 * x15;
+        double t72 = t38 + t71;
+        double t73 = 0.032701564615071524 * x23;
+        double t74 = t35 + t73;
+        double t75 = t72 + t74;
+        double t76 = t70 + t75;
+        double t77 = t67 + t76;
+        double t78 = t57 + t77;
+        double t79 = t34 + t78;
+        double t80 = 0.5 * t6;
+        double t81 = x0 - t80;
+        double t82 = 0.24999999999999997 * x8;
+        double t83 = 0.43301270189221935 * x16;
+        double t84 = t82 - t83;
+        double t85 = 0.4330127018922193 * x16;
+        double t86 = 0.25000000000000006 * x8;
+        double t87 = t85 - t86;
+        double t88 = t84 - t87;
+        double t89 = 0.8660254037844387 * t88;
+        double t90 = t81 + t89;
+        double t91 = 0.5 * t13;
+        double t92 = t10 - t91;
+        double t93 = 0.12940952255126037 * x4;
+        double t94 = 0.48296291314453416 * x20;
+        double t95 = t93 - t94;
+        double t96 = 0.8660254037844387 * t95;
+        double t97 = t92 + t96;
+        double t98 = 0.5 * t97;
+        double t99 = t94 - t93;
+        double t100 = 0.5 * t99;
+        double t101 = t95 - t100;
+        double t102 = t12 - t10;
+        double t103 = 0.8660254037844387 * t102;
+        double t104 = t101 - t103;
+        double t105 = 0.8660254037844387 * t104;
+        double t106 = t98 + t105;
+        double t107 = t90 + t106;
+        double t108 = 0.5 * t25;
+        double t109 = t18 - t108;
+        double t110 = 0.30438071450436033 * x10;
+        double t111 = 0.3966766701456176 * x14;
+        double t112 = t110 - t111;
+        double t113 = 0.46193976625564337 * x18;
+        double t114 = 0.19134171618254492 * x6;
+        double t115 = t113 - t114;
+        double t116 = t112 - t115;
+        double t117 = 0.8660254037844387 * t116;
+        double t118 = t109 + t117;
+        double t119 = 0.5 * t31;
+        double t120 = t28 - t119;
+        double t121 = t111 - t110;
+        double t122 = 0.4957224306869052 * x22;
+        double t123 = 0.06526309611002586 * x2;
+        double t124 = t122 - t123;
+        double t125 = t121 - t124;
+        double t126 = 0.8660254037844387 * t125;
+        double t127 = t120 + t126;
+        double t128 = 0.5 * t127;
+        double t129 = 0.1913417161825449 * x6;
+        double t130 = t129 - t113;
+        double t131 = t121 + t124;
+        double t132 = 0.5 * t131;
+        double t133 = t130 - t132;
+        double t134 = t21 - t30;
+        double t135 = 0.8660254037844387 * t134;
+        double t136 = t133 - t135;
+        double t137 = 0.8660254037844387 * t136;
+        double t138 = t128 + t137;
+        double t139 = t118 + t138;
+        double t140 = 0.8660254037844387 * t139;
+        double t141 = 0.06526309611002579 * x2;
+        double t142 = t141 - t122;
+        double t143 = t112 + t115;
+        double t144 = 0.5 * t143;
+        double t145 = t142 - t144;
+        double t146 = t21 - t24;
+        double t147 = 0.8660254037844387 * t146;
+        double t148 = t145 - t147;
+        double t149 = 0.8660254037844387 * t127;
+        double t150 = 0.5 * t136;
+        double t151 = t149 - t150;
+        double t152 = t148 - t151;
+        double t153 = 0.5 * t152;
+        double t154 = t140 + t153;
+        double t155 = t107 + t154;
+        double t156 = 0.03270156461507153 * x1;
+        double t157 = 0.49892946161930174 * x23;
+        double t158 = t156 - t157;
+        double t159 = 0.2777851165098011 * x9;
+        double t160 = 0.4157348061512726 * x15;
+        double t161 = t159 - t160;
+        double t162 = 0.4484363707663442 * x17;
+        double t163 = 0.22114434510950062 * x7;
+        double t164 = t162 - t163;
+        double t165 = t161 + t164;
+        double t166 = 0.5 * t165;
+        double t167 = t158 - t166;
+        double t168 = t40 - t43;
+        double t169 = 0.8660254037844387 * t168;
+        double t170 = t167 - t169;
+        double t171 = 0.5 * t55;
+        double t172 = t48 - t171;
+        double t173 = 0.37591990373948864 * x13;
+        double t174 = 0.3296729075500345 * x11;
+        double t175 = t173 - t174;
+        double t176 = 0.4903926402016152 * x21;
+        double t177 = 0.09754516100806417 * x3;
+        double t178 = t176 - t177;
+        double t179 = t175 - t178;
+        double t180 = 0.8660254037844387 * t179;
+        double t181 = t172 + t180;
+        double t182 = 0.8660254037844387 * t181;
+        double t183 = 0.1607197326515808 * x5;
+        double t184 = 0.47346506474755284 * x19;
+        double t185 = t183 - t184;
+        double t186 = t175 + t178;
+        double t187 = 0.5 * t186;
+        double t188 = t185 - t187;
+        double t189 = t51 - t54;
+        double t190 = 0.8660254037844387 * t189;
+        double t191 = t188 - t190;
+        double t192 = 0.5 * t191;
+        double t193 = t182 - t192;
+        double t194 = t170 - t193;
+        double t195 = 0.25881904510252074 * t194;
+        double t196 = 0.5 * t44;
+        double t197 = t37 - t196;
+        double t198 = t161 - t164;
+        double t199 = 0.8660254037844387 * t198;
+        double t200 = t197 + t199;
+        double t201 = 0.5 * t181;
+        double t202 = 0.8660254037844387 * t191;
+        double t203 = t201 + t202;
+        double t204 = t200 + t203;
+        double t205 = 0.9659258262890683 * t204;
+        double t206 = t195 + t205;
+        double t207 = 0.5 * t66;
+        double t208 = t59 - t207;
+        double t209 = 0.3296729075500344 * x11;
+        double t210 = 0.3759199037394887 * x13;
+        double t211 = t209 - t210;
+        double t212 = 0.4734650647475528 * x19;
+        double t213 = 0.16071973265158085 * x5;
+        double t214 = t212 - t213;
+        double t215 = t211 - t214;
+        double t216 = 0.8660254037844387 * t215;
+        double t217 = t208 + t216;
+        double t218 = 0.5 * t75;
+        double t219 = t70 - t218;
+        double t220 = 0.27778511650980114 * x9;
+        double t221 = t160 - t220;
+        double t222 = 0.032701564615071524 * x1;
+        double t223 = t157 - t222;
+        double t224 = t221 - t223;
+        double t225 = 0.8660254037844387 * t224;
+        double t226 = t219 + t225;
+        double t227 = 0.5 * t226;
+        double t228 = 0.22114434510950065 * x7;
+        double t229 = 0.44843637076634413 * x17;
+        double t230 = t228 - t229;
+        double t231 = t221 + t223;
+        double t232 = 0.5 * t231;
+        double t233 = t230 - t232;
+        double t234 = t72 - t74;
+        double t235 = 0.8660254037844387 * t234;
+        double t236 = t233 - t235;
+        double t237 = 0.8660254037844387 * t236;
+        double t238 = t227 + t237;
+        double t239 = t217 + t238;
+        double t240 = 0.09754516100806412 * x3;
+        double t241 = t240 - t176;
+        double t242 = t211 + t214;
+        double t243 = 0.5 * t242;
+        double t244 = t241 - t243;
+        double t245 = t62 - t65;
+        double t246 = 0.8660254037844387 * t245;
+        double t247 = t244 - t246;
+        double t248 = 0.8660254037844387 * t226;
+        double t249 = 0.5 * t236;
+        double t250 = t248 - t249;
+        double t251 = t247 - t250;
+        double t252 = t239 + t251;
+        double t253 = 0.7071067811865476 * t252;
+        double t254 = t206 + t253;
+        double t255 = t155 + t254;
+        double t256 = t81 - t89;
+        double t257 = t92 - t96;
+        double t258 = 0.5 * t257;
+        double t259 = t101 + t103;
+        double t260 = 0.8660254037844386 * t259;
+        double t261 = t258 - t260;
+        double t262 = t256 + t261;
+        double t263 = t109 - t117;
+        double t264 = t120 - t126;
+        double t265 = 0.5 * t264;
+        double t266 = t133 + t135;
+        double t267 = 0.8660254037844386 * t266;
+        double t268 = t265 - t267;
+        double t269 = t263 + t268;
+        double t270 = 0.8660254037844387 * t269;
+        double t271 = t145 + t147;
+        double t272 = 0.5 * t266;
+        double t273 = 0.8660254037844386 * t264;
+        double t274 = t272 + t273;
+        double t275 = t271 + t274;
+        double t276 = 0.5 * t275;
+        double t277 = t270 - t276;
+        double t278 = t262 + t277;
+        double t279 = t197 - t199;
+        double t280 = t172 - t180;
+        double t281 = 0.5 * t280;
+        double t282 = t188 + t190;
+        double t283 = 0.8660254037844386 * t282;
+        double t284 = t281 - t283;
+        double t285 = t279 + t284;
+        double t286 = 0.9659258262890683 * t285;
+        double t287 = t167 + t169;
+        double t288 = 0.5 * t282;
+        double t289 = 0.8660254037844386 * t280;
+        double t290 = t288 + t289;
+        double t291 = t287 + t290;
+        double t292 = 0.25881904510252074 * t291;
+        double t293 = t286 - t292;
+        double t294 = t208 - t216;
+        double t295 = t219 - t225;
+        double t296 = 0.5 * t295;
+        double t297 = t233 + t235;
+        double t298 = 0.8660254037844386 * t297;
+        double t299 = t296 - t298;
+        double t300 = t294 + t299;
+        double t301 = t244 + t246;
+        double t302 = 0.5 * t297;
+        double t303 = 0.8660254037844386 * t295;
+        double t304 = t302 + t303;
+        double t305 = t301 + t304;
+        double t306 = t300 - t305;
+        double t307 = 0.7071067811865476 * t306;
+        double t308 = t293 + t307;
+        double t309 = t278 + t308;
+        double t310 = t256 - t261;
+        double t311 = t263 - t268;
+        double t312 = 0.5 * t311;
+        double t313 = t271 - t274;
+        double t314 = 0.8660254037844387 * t313;
+        double t315 = t312 + t314;
+        double t316 = t310 + t315;
+        double t317 = t304 - t301;
+        double t318 = t287 - t290;
+        double t319 = 0.5 * t318;
+        double t320 = t279 - t284;
+        double t321 = 0.8660254037844386 * t320;
+        double t322 = t319 + t321;
+        double t323 = t317 - t322;
+        double t324 = t316 - t323;
+        double t325 = t90 - t106;
+        double t326 = t118 - t138;
+        double t327 = 0.5 * t326;
+        double t328 = t148 + t151;
+        double t329 = 0.8660254037844386 * t328;
+        double t330 = t327 - t329;
+        double t331 = t325 + t330;
+        double t332 = t200 - t203;
+        double t333 = 0.8660254037844387 * t332;
+        double t334 = t170 + t193;
+        double t335 = 0.5 * t334;
+        double t336 = t333 - t335;
+        double t337 = t247 + t250;
+        double t338 = t336 - t337;
+        double t339 = t331 + t338;
+        double t340 = t7 - t14;
+        double t341 = t130 + t131;
+        double t342 = t142 + t143;
+        double t343 = t341 - t342;
+        double t344 = t340 - t343;
+        double t345 = t45 - t56;
+        double t346 = t158 + t165;
+        double t347 = t185 + t186;
+        double t348 = t346 - t347;
+        double t349 = t345 + t348;
+        double t350 = 0.7071067811865476 * t349;
+        double t351 = t241 + t242;
+        double t352 = t230 + t231;
+        double t353 = t351 - t352;
+        double t354 = t67 - t76;
+        double t355 = t353 - t354;
+        double t356 = 0.7071067811865476 * t355;
+        double t357 = t350 + t356;
+        double t358 = t344 + t357;
+        double t359 = t340 + t343;
+        double t360 = t345 - t348;
+        double t361 = 0.7071067811865476 * t360;
+        double t362 = t354 + t353;
+        double t363 = 0.7071067811865476 * t362;
+        double t364 = t361 - t363;
+        double t365 = t359 + t364;
+        double t366 = t325 - t330;
+        double t367 = t217 - t238;
+        double t368 = 0.8660254037844387 * t334;
+        double t369 = 0.5 * t332;
+        double t370 = t368 + t369;
+        double t371 = t367 - t370;
+        double t372 = t366 - t371;
+        double t373 = t310 - t315;
+        double t374 = 0.5 * t320;
+        double t375 = 0.8660254037844386 * t318;
+        double t376 = t374 - t375;
+        double t377 = t299 - t294;
+        double t378 = t376 + t377;
+        double t379 = t373 + t378;
+        double t380 = t262 - t277;
+        double t381 = t300 + t305;
+        double t382 = 0.7071067811865476 * t381;
+        double t383 = 0.9659258262890683 * t291;
+        double t384 = 0.25881904510252074 * t285;
+        double t385 = t383 + t384;
+        double t386 = t382 - t385;
+        double t387 = t380 - t386;
+        double t388 = t107 - t154;
+        double t389 = 0.25881904510252074 * t204;
+        double t390 = 0.9659258262890683 * t194;
+        double t391 = t389 - t390;
+        double t392 = t239 - t251;
+        double t393 = 0.7071067811865476 * t392;
+        double t394 = t391 - t393;
+        double t395 = t388 + t394;
+        double t396 = t15 - t33;
+        double t397 = t351 + t352;
+        double t398 = t346 + t347;
+        double t399 = t397 - t398;
+        double t400 = t396 - t399;
+        double t401 = t396 + t399;
+        double t402 = t388 - t394;
+        double t403 = t380 + t386;
+        double t404 = t373 - t378;
+        double t405 = t366 + t371;
+        double t406 = t359 - t364;
+        double t407 = t344 - t357;
+        double t408 = t331 - t338;
+        double t409 = t316 + t323;
+        double t410 = t278 - t308;
+        double t411 = t155 - t254;
+        double t412 = t34 - t78;
+        a[offa] = t79;
+        a[offa + 1] = t255;
+        a[offa + 2] = t309;
+        a[offa + 3] = t324;
+        a[offa + 4] = t339;
+        a[offa + 5] = t358;
+        a[offa + 6] = t365;
+        a[offa + 7] = t372;
+        a[offa + 8] = t379;
+        a[offa + 9] = t387;
+        a[offa + 10] = t395;
+        a[offa + 11] = t400;
+        a[offa + 12] = t401;
+        a[offa + 13] = t402;
+        a[offa + 14] = t403;
+        a[offa + 15] = t404;
+        a[offa + 16] = t405;
+        a[offa + 17] = t406;
+        a[offa + 18] = t407;
+        a[offa + 19] = t408;
+        a[offa + 20] = t409;
+        a[offa + 21] = t410;
+        a[offa + 22] = t411;
+        a[offa + 23] = t412;
+    }
+
+    static void dct3_32(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double x13 = a[offa + 13];
+        double x14 = a[offa + 14];
+        double x15 = a[offa + 15];
+        double x16 = a[offa + 16];
+        double x17 = a[offa + 17];
+        double x18 = a[offa + 18];
+        double x19 = a[offa + 19];
+        double x20 = a[offa + 20];
+        double x21 = a[offa + 21];
+        double x22 = a[offa + 22];
+        double x23 = a[offa + 23];
+        double x24 = a[offa + 24];
+        double x25 = a[offa + 25];
+        double x26 = a[offa + 26];
+        double x27 = a[offa + 27];
+        double x28 = a[offa + 28];
+        double x29 = a[offa + 29];
+        double x30 = a[offa + 30];
+        double x31 = a[offa + 31];
+        double t0 = x16 + x16;
+        double t1 = 0.3535533905932738 * t0;
+        double t2 = x0 + t1;
+        double t3 = 0.46193976625564337 * x8;
+        double t4 = 0.1913417161825449 * x24;
+        double t5 = t3 + t4;
+        double t6 = 0.19134171618254492 * x24;
+        double t7 = t3 + t6;
+        double t8 = t5 + t7;
+        double t9 = t2 + t8;
+        double t10 = 0.4903926402016152 * x4;
+        double t11 = 0.09754516100806412 * x28;
+        double t12 = t10 + t11;
+        double t13 = 0.4157348061512726 * x12;
+        double t14 = 0.27778511650980114 * x20;
+        double t15 = t13 + t14;
+        double t16 = t12 + t15;
+        double t17 = 0.2777851165098011 * x20;
+        double t18 = t13 + t17;
+        double t19 = 0.09754516100806417 * x28;
+        double t20 = t10 + t19;
+        double t21 = t18 + t20;
+        double t22 = t16 + t21;
+        double t23 = t9 + t22;
+        double t24 = 0.49759236333609846 * x2;
+        double t25 = 0.0490085701647803 * x30;
+        double t26 = t24 + t25;
+        double t27 = 0.3865052266813685 * x14;
+        double t28 = 0.31719664208182274 * x18;
+        double t29 = t27 + t28;
+        double t30 = t26 + t29;
+        double t31 = 0.4409606321741775 * x10;
+        double t32 = 0.23569836841299882 * x22;
+        double t33 = t31 + t32;
+        double t34 = 0.14514233862723117 * x26;
+        double t35 = 0.47847016786610447 * x6;
+        double t36 = t34 + t35;
+        double t37 = t33 + t36;
+        double t38 = t30 + t37;
+        double t39 = 0.4784701678661044 * x6;
+        double t40 = t39 + t34;
+        double t41 = 0.2356983684129989 * x22;
+        double t42 = 0.44096063217417747 * x10;
+        double t43 = t41 + t42;
+        double t44 = t40 + t43;
+        double t45 = 0.049008570164780385 * x30;
+        double t46 = 0.4975923633360984 * x2;
+        double t47 = t45 + t46;
+        double t48 = t29 + t47;
+        double t49 = t44 + t48;
+        double t50 = t38 + t49;
+        double t51 = t23 + t50;
+        double t52 = 0.4993977281025862 * x1;
+        double t53 = 0.024533837163709007 * x31;
+        double t54 = t52 + t53;
+        double t55 = 0.37047556267747955 * x15;
+        double t56 = 0.33577947742350917 * x17;
+        double t57 = t55 + t56;
+        double t58 = t54 + t57;
+        double t59 = 0.4707720325915104 * x7;
+        double t60 = 0.16844492669611003 * x25;
+        double t61 = t59 + t60;
+        double t62 = 0.45199464656172167 * x9;
+        double t63 = 0.21377754671514104 * x23;
+        double t64 = t62 + t63;
+        double t65 = t61 + t64;
+        double t66 = t58 + t65;
+        double t67 = 0.485015626597272 * x5;
+        double t68 = 0.12149008995163194 * x27;
+        double t69 = t67 + t68;
+        double t70 = 0.42886430500013606 * x11;
+        double t71 = 0.25705137209661083 * x21;
+        double t72 = t70 + t71;
+        double t73 = t69 + t72;
+        double t74 = 0.4945882549823905 * x3;
+        double t75 = 0.07336523722768087 * x29;
+        double t76 = t74 + t75;
+        double t77 = 0.40160376574032247 * x13;
+        double t78 = 0.2978496522462167 * x19;
+        double t79 = t77 + t78;
+        double t80 = t76 + t79;
+        double t81 = t73 + t80;
+        double t82 = t66 + t81;
+        double t83 = 0.29784965224621673 * x19;
+        double t84 = 0.4016037657403224 * x13;
+        double t85 = t83 + t84;
+        double t86 = t76 + t85;
+        double t87 = 0.12149008995163199 * x27;
+        double t88 = t67 + t87;
+        double t89 = t72 + t88;
+        double t90 = t86 + t89;
+        double t91 = 0.2137775467151411 * x23;
+        double t92 = t62 + t91;
+        double t93 = t61 + t92;
+        double t94 = 0.024533837163709063 * x31;
+        double t95 = t52 + t94;
+        double t96 = t57 + t95;
+        double t97 = t93 + t96;
+        double t98 = t90 + t97;
+        double t99 = t82 + t98;
+        double t100 = t51 + t99;
+        double t101 = x0 - t1;
+        double t102 = 0.46193976625564337 * x24;
+        double t103 = 0.19134171618254492 * x8;
+        double t104 = t102 - t103;
+        double t105 = 0.1913417161825449 * x8;
+        double t106 = t105 - t102;
+        double t107 = t104 - t106;
+        double t108 = t101 - t107;
+        double t109 = t12 - t15;
+        double t110 = 0.4903926402016152 * x28;
+        double t111 = 0.09754516100806417 * x4;
+        double t112 = t110 - t111;
+        double t113 = 0.2777851165098011 * x12;
+        double t114 = 0.4157348061512726 * x20;
+        double t115 = t113 - t114;
+        double t116 = t112 - t115;
+        double t117 = t109 - t116;
+        double t118 = 0.09754516100806412 * x4;
+        double t119 = t118 - t110;
+        double t120 = 0.27778511650980114 * x12;
+        double t121 = t114 - t120;
+        double t122 = t119 - t121;
+        double t123 = t18 - t20;
+        double t124 = t122 - t123;
+        double t125 = t117 + t124;
+        double t126 = 0.7071067811865476 * t125;
+        double t127 = t108 + t126;
+        double t128 = t26 - t29;
+        double t129 = 0.47847016786610447 * x26;
+        double t130 = 0.14514233862723117 * x6;
+        double t131 = t129 - t130;
+        double t132 = 0.23569836841299882 * x10;
+        double t133 = 0.4409606321741775 * x22;
+        double t134 = t132 - t133;
+        double t135 = t131 - t134;
+        double t136 = t128 - t135;
+        double t137 = t40 - t43;
+        double t138 = 0.4975923633360984 * x30;
+        double t139 = 0.049008570164780385 * x2;
+        double t140 = t138 - t139;
+        double t141 = 0.31719664208182274 * x14;
+        double t142 = 0.3865052266813685 * x18;
+        double t143 = t141 - t142;
+        double t144 = t140 - t143;
+        double t145 = t137 - t144;
+        double t146 = 0.4784701678661044 * x26;
+        double t147 = t130 - t146;
+        double t148 = 0.44096063217417747 * x22;
+        double t149 = 0.2356983684129989 * x10;
+        double t150 = t148 - t149;
+        double t151 = t147 - t150;
+        double t152 = t29 - t47;
+        double t153 = t151 - t152;
+        double t154 = t145 + t153;
+        double t155 = 0.7071067811865476 * t154;
+        double t156 = t136 + t155;
+        double t157 = 0.9238795325112867 * t156;
+        double t158 = 0.0490085701647803 * x2;
+        double t159 = 0.49759236333609846 * x30;
+        double t160 = t158 - t159;
+        double t161 = t142 - t141;
+        double t162 = t160 - t161;
+        double t163 = t33 - t36;
+        double t164 = t162 - t163;
+        double t165 = t153 - t145;
+        double t166 = 0.7071067811865476 * t165;
+        double t167 = t164 + t166;
+        double t168 = 0.3826834323650899 * t167;
+        double t169 = t157 + t168;
+        double t170 = t127 + t169;
+        double t171 = 0.024533837163709007 * x1;
+        double t172 = 0.4993977281025862 * x31;
+        double t173 = t171 - t172;
+        double t174 = 0.37047556267747955 * x17;
+        double t175 = 0.33577947742350917 * x15;
+        double t176 = t174 - t175;
+        double t177 = t173 - t176;
+        double t178 = t64 - t61;
+        double t179 = t177 - t178;
+        double t180 = 0.12149008995163194 * x5;
+        double t181 = 0.485015626597272 * x27;
+        double t182 = t180 - t181;
+        double t183 = 0.42886430500013606 * x21;
+        double t184 = 0.25705137209661083 * x11;
+        double t185 = t183 - t184;
+        double t186 = t182 - t185;
+        double t187 = t79 - t76;
+        double t188 = t186 - t187;
+        double t189 = t69 - t72;
+        double t190 = 0.4945882549823905 * x29;
+        double t191 = 0.07336523722768087 * x3;
+        double t192 = t190 - t191;
+        double t193 = 0.2978496522462167 * x13;
+        double t194 = 0.40160376574032247 * x19;
+        double t195 = t193 - t194;
+        double t196 = t192 - t195;
+        double t197 = t189 - t196;
+        double t198 = t188 - t197;
+        double t199 = 0.7071067811865476 * t198;
+        double t200 = t179 + t199;
+        double t201 = 0.19509032201612833 * t200;
+        double t202 = t54 - t57;
+        double t203 = 0.4707720325915104 * x25;
+        double t204 = 0.16844492669611003 * x7;
+        double t205 = t203 - t204;
+        double t206 = 0.21377754671514104 * x9;
+        double t207 = 0.45199464656172167 * x23;
+        double t208 = t206 - t207;
+        double t209 = t205 - t208;
+        double t210 = t202 - t209;
+        double t211 = t197 + t188;
+        double t212 = 0.7071067811865476 * t211;
+        double t213 = t210 + t212;
+        double t214 = 0.9807852804032304 * t213;
+        double t215 = t201 + t214;
+        double t216 = t191 - t190;
+        double t217 = 0.4016037657403224 * x19;
+        double t218 = 0.29784965224621673 * x13;
+        double t219 = t217 - t218;
+        double t220 = t216 - t219;
+        double t221 = t72 - t88;
+        double t222 = t220 - t221;
+        double t223 = t204 - t203;
+        double t224 = 0.2137775467151411 * x9;
+        double t225 = t207 - t224;
+        double t226 = t223 - t225;
+        double t227 = t57 - t95;
+        double t228 = t226 - t227;
+        double t229 = t61 - t92;
+        double t230 = 0.024533837163709063 * x1;
+        double t231 = t172 - t230;
+        double t232 = t175 - t174;
+        double t233 = t231 - t232;
+        double t234 = t229 - t233;
+        double t235 = t228 - t234;
+        double t236 = 0.7071067811865476 * t235;
+        double t237 = t222 + t236;
+        double t238 = 0.5555702330196022 * t237;
+        double t239 = t76 - t85;
+        double t240 = 0.12149008995163199 * x5;
+        double t241 = t181 - t240;
+        double t242 = t184 - t183;
+        double t243 = t241 - t242;
+        double t244 = t239 - t243;
+        double t245 = t234 + t228;
+        double t246 = 0.7071067811865476 * t245;
+        double t247 = t244 + t246;
+        double t248 = 0.8314696123025452 * t247;
+        double t249 = t238 + t248;
+        double t250 = t215 + t249;
+        double t251 = t170 + t250;
+        double t252 = t101 + t107;
+        double t253 = t109 + t116;
+        double t254 = t122 + t123;
+        double t255 = t253 - t254;
+        double t256 = 0.7071067811865476 * t255;
+        double t257 = t252 + t256;
+        double t258 = t128 + t135;
+        double t259 = t137 + t144;
+        double t260 = t151 + t152;
+        double t261 = t259 - t260;
+        double t262 = 0.7071067811865476 * t261;
+        double t263 = t258 + t262;
+        double t264 = 0.9238795325112867 * t263;
+        double t265 = t162 + t163;
+        double t266 = t259 + t260;
+        double t267 = 0.7071067811865476 * t266;
+        double t268 = t265 + t267;
+        double t269 = 0.3826834323650898 * t268;
+        double t270 = t264 - t269;
+        double t271 = t257 + t270;
+        double t272 = t202 + t209;
+        double t273 = t189 + t196;
+        double t274 = t186 + t187;
+        double t275 = t273 - t274;
+        double t276 = 0.7071067811865476 * t275;
+        double t277 = t272 + t276;
+        double t278 = 0.9807852804032304 * t277;
+        double t279 = t177 + t178;
+        double t280 = t273 + t274;
+        double t281 = 0.7071067811865476 * t280;
+        double t282 = t279 + t281;
+        double t283 = 0.19509032201612825 * t282;
+        double t284 = t278 - t283;
+        double t285 = t239 + t243;
+        double t286 = t229 + t233;
+        double t287 = t226 + t227;
+        double t288 = t286 - t287;
+        double t289 = 0.7071067811865476 * t288;
+        double t290 = t285 + t289;
+        double t291 = 0.8314696123025452 * t290;
+        double t292 = t220 + t221;
+        double t293 = t286 + t287;
+        double t294 = 0.7071067811865476 * t293;
+        double t295 = t292 + t294;
+        double t296 = 0.5555702330196022 * t295;
+        double t297 = t291 - t296;
+        double t298 = t284 + t297;
+        double t299 = t271 + t298;
+        double t300 = t2 - t8;
+        double t301 = t115 + t112;
+        double t302 = t119 + t121;
+        double t303 = t301 - t302;
+        double t304 = t300 - t303;
+        double t305 = t30 - t37;
+        double t306 = t143 + t140;
+        double t307 = t147 + t150;
+        double t308 = t306 - t307;
+        double t309 = t305 - t308;
+        double t310 = t160 + t161;
+        double t311 = t134 + t131;
+        double t312 = t310 - t311;
+        double t313 = t44 - t48;
+        double t314 = t312 - t313;
+        double t315 = t309 + t314;
+        double t316 = 0.7071067811865476 * t315;
+        double t317 = t304 + t316;
+        double t318 = t173 + t176;
+        double t319 = t208 + t205;
+        double t320 = t318 - t319;
+        double t321 = t73 - t80;
+        double t322 = t320 - t321;
+        double t323 = 0.38268343236508984 * t322;
+        double t324 = t58 - t65;
+        double t325 = t195 + t192;
+        double t326 = t182 + t185;
+        double t327 = t325 - t326;
+        double t328 = t324 - t327;
+        double t329 = 0.9238795325112867 * t328;
+        double t330 = t323 + t329;
+        double t331 = t216 + t219;
+        double t332 = t242 + t241;
+        double t333 = t331 - t332;
+        double t334 = t93 - t96;
+        double t335 = t333 - t334;
+        double t336 = 0.9238795325112868 * t335;
+        double t337 = t86 - t89;
+        double t338 = t232 + t231;
+        double t339 = t223 + t225;
+        double t340 = t338 - t339;
+        double t341 = t337 - t340;
+        double t342 = 0.38268343236508967 * t341;
+        double t343 = t336 + t342;
+        double t344 = t330 + t343;
+        double t345 = t317 + t344;
+        double t346 = t300 + t303;
+        double t347 = t305 + t308;
+        double t348 = t312 + t313;
+        double t349 = t347 - t348;
+        double t350 = 0.7071067811865476 * t349;
+        double t351 = t346 + t350;
+        double t352 = t324 + t327;
+        double t353 = 0.9238795325112867 * t352;
+        double t354 = t320 + t321;
+        double t355 = 0.3826834323650898 * t354;
+        double t356 = t353 - t355;
+        double t357 = t337 + t340;
+        double t358 = 0.38268343236508984 * t357;
+        double t359 = t333 + t334;
+        double t360 = 0.9238795325112867 * t359;
+        double t361 = t358 - t360;
+        double t362 = t356 + t361;
+        double t363 = t351 + t362;
+        double t364 = t252 - t256;
+        double t365 = t258 - t262;
+        double t366 = 0.3826834323650897 * t365;
+        double t367 = t265 - t267;
+        double t368 = 0.9238795325112867 * t367;
+        double t369 = t366 + t368;
+        double t370 = t364 + t369;
+        double t371 = t285 - t289;
+        double t372 = 0.1950903220161286 * t371;
+        double t373 = t292 - t294;
+        double t374 = 0.9807852804032304 * t373;
+        double t375 = t372 - t374;
+        double t376 = t279 - t281;
+        double t377 = 0.5555702330196023 * t376;
+        double t378 = t272 - t276;
+        double t379 = 0.8314696123025452 * t378;
+        double t380 = t377 + t379;
+        double t381 = t375 - t380;
+        double t382 = t370 - t381;
+        double t383 = t108 - t126;
+        double t384 = t136 - t155;
+        double t385 = 0.38268343236508984 * t384;
+        double t386 = t164 - t166;
+        double t387 = 0.9238795325112867 * t386;
+        double t388 = t385 - t387;
+        double t389 = t383 + t388;
+        double t390 = t210 - t212;
+        double t391 = 0.8314696123025452 * t390;
+        double t392 = t179 - t199;
+        double t393 = 0.5555702330196022 * t392;
+        double t394 = t391 - t393;
+        double t395 = t244 - t246;
+        double t396 = 0.1950903220161282 * t395;
+        double t397 = t222 - t236;
+        double t398 = 0.9807852804032304 * t397;
+        double t399 = t396 + t398;
+        double t400 = t394 - t399;
+        double t401 = t389 + t400;
+        double t402 = t9 - t22;
+        double t403 = t307 + t306;
+        double t404 = t310 + t311;
+        double t405 = t403 - t404;
+        double t406 = t402 - t405;
+        double t407 = t66 - t81;
+        double t408 = t318 + t319;
+        double t409 = t326 + t325;
+        double t410 = t408 - t409;
+        double t411 = t407 + t410;
+        double t412 = 0.7071067811865476 * t411;
+        double t413 = t331 + t332;
+        double t414 = t339 + t338;
+        double t415 = t413 - t414;
+        double t416 = t90 - t97;
+        double t417 = t415 - t416;
+        double t418 = 0.7071067811865476 * t417;
+        double t419 = t412 + t418;
+        double t420 = t406 + t419;
+        double t421 = t402 + t405;
+        double t422 = t407 - t410;
+        double t423 = 0.7071067811865476 * t422;
+        double t424 = t416 + t415;
+        double t425 = 0.7071067811865476 * t424;
+        double t426 = t423 - t425;
+        double t427 = t421 + t426;
+        double t428 = t383 - t388;
+        double t429 = 0.9807852804032304 * t395;
+        double t430 = 0.1950903220161282 * t397;
+        double t431 = t429 - t430;
+        double t432 = 0.8314696123025452 * t392;
+        double t433 = 0.5555702330196022 * t390;
+        double t434 = t432 + t433;
+        double t435 = t431 - t434;
+        double t436 = t428 - t435;
+        double t437 = t364 - t369;
+        double t438 = 0.5555702330196023 * t378;
+        double t439 = 0.8314696123025452 * t376;
+        double t440 = t438 - t439;
+        double t441 = 0.9807852804032304 * t371;
+        double t442 = 0.1950903220161286 * t373;
+        double t443 = t441 + t442;
+        double t444 = t440 - t443;
+        double t445 = t437 + t444;
+        double t446 = t346 - t350;
+        double t447 = 0.38268343236508984 * t359;
+        double t448 = 0.9238795325112867 * t357;
+        double t449 = t447 + t448;
+        double t450 = 0.9238795325112867 * t354;
+        double t451 = 0.3826834323650898 * t352;
+        double t452 = t450 + t451;
+        double t453 = t449 - t452;
+        double t454 = t446 - t453;
+        double t455 = t304 - t316;
+        double t456 = 0.38268343236508984 * t328;
+        double t457 = 0.9238795325112867 * t322;
+        double t458 = t456 - t457;
+        double t459 = 0.38268343236508967 * t335;
+        double t460 = 0.9238795325112868 * t341;
+        double t461 = t459 - t460;
+        double t462 = t458 + t461;
+        double t463 = t455 + t462;
+        double t464 = t257 - t270;
+        double t465 = 0.8314696123025452 * t295;
+        double t466 = 0.5555702330196022 * t290;
+        double t467 = t465 + t466;
+        double t468 = 0.9807852804032304 * t282;
+        double t469 = 0.19509032201612825 * t277;
+        double t470 = t468 + t469;
+        double t471 = t467 - t470;
+        double t472 = t464 - t471;
+        double t473 = t127 - t169;
+        double t474 = 0.19509032201612833 * t213;
+        double t475 = 0.9807852804032304 * t200;
+        double t476 = t474 - t475;
+        double t477 = 0.8314696123025452 * t237;
+        double t478 = 0.5555702330196022 * t247;
+        double t479 = t477 - t478;
+        double t480 = t476 + t479;
+        double t481 = t473 + t480;
+        double t482 = t23 - t50;
+        double t483 = t413 + t414;
+        double t484 = t408 + t409;
+        double t485 = t483 - t484;
+        double t486 = t482 - t485;
+        double t487 = t482 + t485;
+        double t488 = t473 - t480;
+        double t489 = t464 + t471;
+        double t490 = t455 - t462;
+        double t491 = t446 + t453;
+        double t492 = t437 - t444;
+        double t493 = t428 + t435;
+        double t494 = t421 - t426;
+        double t495 = t406 - t419;
+        double t496 = t389 - t400;
+        double t497 = t370 + t381;
+        double t498 = t351 - t362;
+        double t499 = t317 - t344;
+        double t500 = t271 - t298;
+        double t501 = t170 - t250;
+        double t502 = t51 - t99;
+        a[offa] = t100;
+        a[offa + 1] = t251;
+        a[offa + 2] = t299;
+        a[offa + 3] = t345;
+        a[offa + 4] = t363;
+        a[offa + 5] = t382;
+        a[offa + 6] = t401;
+        a[offa + 7] = t420;
+        a[offa + 8] = t427;
+        a[offa + 9] = t436;
+        a[offa + 10] = t445;
+        a[offa + 11] = t454;
+        a[offa + 12] = t463;
+        a[offa + 13] = t472;
+        a[offa + 14] = t481;
+        a[offa + 15] = t486;
+        a[offa + 16] = t487;
+        a[offa + 17] = t488;
+        a[offa + 18] = t489;
+        a[offa + 19] = t490;
+        a[offa + 20] = t491;
+        a[offa + 21] = t492;
+        a[offa + 22] = t493;
+        a[offa + 23] = t494;
+        a[offa + 24] = t495;
+        a[offa + 25] = t496;
+        a[offa + 26] = t497;
+        a[offa + 27] = t498;
+        a[offa + 28] = t499;
+        a[offa + 29] = t500;
+        a[offa + 30] = t501;
+        a[offa + 31] = t502;
+    }
+}
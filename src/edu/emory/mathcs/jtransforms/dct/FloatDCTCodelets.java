@@ -0,0 +1,7452 @@
+/* ***** BEGIN LICENSE BLOCK *****
+ * Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License
+ * for the specific language governing rights and limitations under the
+ * License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is
+ * Piotr Wendykier, Emory University.
+ * Portions created by the Initial Developer are Copyright (C) 2007-2009
+ * the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or
+ * the GNU Lesser General Public License Version 2.1 or later (the "LGPL"),
+ * in which case the provisions of the GPL or the LGPL are applicable instead
+ * of those above. If you wish to allow use of your version of this file only
+ * under the terms of either the GPL or the LGPL, and not to allow others to
+ * use your version of this file under the terms of the MPL, indicate your
+ * decision by deleting the provisions above and replace them with the notice
+ * and other provisions required by the GPL or the LGPL. If you do not delete
+ * the provisions above, a recipient may use your version of this file under
+ * the terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK ***** */
+package edu.emory.mathcs.jtransforms.dct;
+
+/**
+ * Straight-line kernels computing DCTs of small sizes (used by
+ * {@link FloatDCT_1D}, and through it by <code>FloatDST_1D</code>). The DCT-II
+ * is computed with Makhoul's algorithm, i.e. as an n-point FFT of the
+ * reordered input followed by a twiddle, and the DCT-III is its transpose.
+ * The FFT is fully unrolled, so there are no loops, no tables and no
+ * temporary arrays. The kernels are generated by resources/gencodelets.py.
+ * 
+ */
+final class FloatDCTCodelets {
+
+    private FloatDCTCodelets() {
+    }
+
+    /**
+     * Returns true if there is a codelet for the DCT of size n.
+     * 
+     * @param n
+     *            size of the transform
+     * @return true if there is a codelet for the given size
+     */
+    static boolean isSupported(int n) {
+        switch (n) {
+        case 2:
+        case 3:
+        case 4:
+        case 5:
+        case 6:
+        case 7:
+        case 8:
+        case 9:
+        case 10:
+        case 11:
+        case 12:
+        case 13:
+        case 14:
+        case 15:
+        case 16:
+        case 18:
+        case 20:
+        case 24:
+        case 32:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Computes the unscaled DCT-II of n real numbers:
+     * 
+     * <pre>
+     * y[k] = sum_j x[j] * cos(pi * (2 * j + 1) * k / (2 * n)), 0&lt;=k&lt;n
+     * </pre>
+     * 
+     * @param n
+     *            size of the transform
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element in array <code>a</code>
+     */
+    static void forward(int n, float[] a, int offa) {
+        switch (n) {
+        case 2:
+            dct2_2(a, offa);
+            break;
+        case 3:
+            dct2_3(a, offa);
+            break;
+        case 4:
+            dct2_4(a, offa);
+            break;
+        case 5:
+            dct2_5(a, offa);
+            break;
+        case 6:
+            dct2_6(a, offa);
+            break;
+        case 7:
+            dct2_7(a, offa);
+            break;
+        case 8:
+            dct2_8(a, offa);
+            break;
+        case 9:
+            dct2_9(a, offa);
+            break;
+        case 10:
+            dct2_10(a, offa);
+            break;
+        case 11:
+            dct2_11(a, offa);
+            break;
+        case 12:
+            dct2_12(a, offa);
+            break;
+        case 13:
+            dct2_13(a, offa);
+            break;
+        case 14:
+            dct2_14(a, offa);
+            break;
+        case 15:
+            dct2_15(a, offa);
+            break;
+        case 16:
+            dct2_16(a, offa);
+            break;
+        case 18:
+            dct2_18(a, offa);
+            break;
+        case 20:
+            dct2_20(a, offa);
+            break;
+        case 24:
+            dct2_24(a, offa);
+            break;
+        case 32:
+            dct2_32(a, offa);
+            break;
+        default:
+            throw new IllegalArgumentException("n = " + n + " is not supported");
+        }
+    }
+
+    /**
+     * Computes the unscaled DCT-III (the transpose of the DCT-II) of n real
+     * numbers:
+     * 
+     * <pre>
+     * x[j] = sum_k y[k] * cos(pi * (2 * j + 1) * k / (2 * n)), 0&lt;=j&lt;n
+     * </pre>
+     * 
+     * @param n
+     *            size of the transform
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element in array <code>a</code>
+     */
+    static void inverse(int n, float[] a, int offa) {
+        switch (n) {
+        case 2:
+            dct3_2(a, offa);
+            break;
+        case 3:
+            dct3_3(a, offa);
+            break;
+        case 4:
+            dct3_4(a, offa);
+            break;
+        case 5:
+            dct3_5(a, offa);
+            break;
+        case 6:
+            dct3_6(a, offa);
+            break;
+        case 7:
+            dct3_7(a, offa);
+            break;
+        case 8:
+            dct3_8(a, offa);
+            break;
+        case 9:
+            dct3_9(a, offa);
+            break;
+        case 10:
+            dct3_10(a, offa);
+            break;
+        case 11:
+            dct3_11(a, offa);
+            break;
+        case 12:
+            dct3_12(a, offa);
+            break;
+        case 13:
+            dct3_13(a, offa);
+            break;
+        case 14:
+            dct3_14(a, offa);
+            break;
+        case 15:
+            dct3_15(a, offa);
+            break;
+        case 16:
+            dct3_16(a, offa);
+            break;
+        case 18:
+            dct3_18(a, offa);
+            break;
+        case 20:
+            dct3_20(a, offa);
+            break;
+        case 24:
+            dct3_24(a, offa);
+            break;
+        case 32:
+            dct3_32(a, offa);
+            break;
+        default:
+            throw new IllegalArgumentException("n = " + n + " is not supported");
+        }
+    }
+
+    static void dct2_2(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float t0 = x0 + x1;
+        float t1 = x0 - x1;
+        float t2 = 0.7071067811865476f * t1;
+        a[offa] = t0;
+        a[offa + 1] = t2;
+    }
+
+    static void dct2_3(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float t0 = x2 + x1;
+        float t1 = x0 + t0;
+        float t2 = 0.5f * t0;
+        float t3 = x0 - t2;
+        float t4 = 0.8660254037844384f * t3;
+        float t5 = x2 - x1;
+        float t6 = 0.4330127018922192f * t5;
+        float t7 = t4 - t6;
+        float t8 = 0.5f * t3;
+        float t9 = 0.7499999999999997f * t5;
+        float t10 = t8 + t9;
+        a[offa] = t1;
+        a[offa + 1] = t7;
+        a[offa + 2] = t10;
+    }
+
+    static void dct2_4(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float t0 = x0 + x3;
+        float t1 = x2 + x1;
+        float t2 = t0 + t1;
+        float t3 = x0 - x3;
+        float t4 = 0.9238795325112865f * t3;
+        float t5 = x1 - x2;
+        float t6 = 0.3826834323650904f * t5;
+        float t7 = t4 + t6;
+        float t8 = t0 - t1;
+        float t9 = 0.7071067811865476f * t8;
+        float t10 = 0.38268343236509f * t3;
+        float t11 = x2 - x1;
+        float t12 = 0.9238795325112866f * t11;
+        float t13 = t10 + t12;
+        a[offa] = t2;
+        a[offa + 1] = t7;
+        a[offa + 2] = t9;
+        a[offa + 3] = t13;
+    }
+
+    static void dct2_5(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float t0 = x4 + x3;
+        float t1 = x2 + x1;
+        float t2 = x0 + t1;
+        float t3 = t0 + t2;
+        float t4 = 0.30901699437494723f * t1;
+        float t5 = x0 + t4;
+        float t6 = 0.8090169943749476f * t0;
+        float t7 = t5 - t6;
+        float t8 = 0.9510565162951535f * t7;
+        float t9 = x2 - x1;
+        float t10 = 0.9510565162951536f * t9;
+        float t11 = x4 - x3;
+        float t12 = 0.587785252292473f * t11;
+        float t13 = t10 + t12;
+        float t14 = 0.3090169943749476f * t13;
+        float t15 = t8 - t14;
+        float t16 = 0.8090169943749476f * t1;
+        float t17 = x0 - t16;
+        float t18 = 0.30901699437494745f * t0;
+        float t19 = t17 + t18;
+        float t20 = 0.8090169943749473f * t19;
+        float t21 = 0.9510565162951535f * t11;
+        float t22 = 0.587785252292473f * t9;
+        float t23 = t21 - t22;
+        float t24 = 0.5877852522924734f * t23;
+        float t25 = t20 + t24;
+        float t26 = 0.5877852522924729f * t19;
+        float t27 = t22 - t21;
+        float t28 = 0.8090169943749476f * t27;
+        float t29 = t26 + t28;
+        float t30 = 0.30901699437494723f * t7;
+        float t31 = 0.9510565162951536f * t13;
+        float t32 = t30 + t31;
+        a[offa] = t3;
+        a[offa + 1] = t15;
+        a[offa + 2] = t25;
+        a[offa + 3] = t29;
+        a[offa + 4] = t32;
+    }
+
+    static void dct2_6(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float t0 = x4 + x3;
+        float t1 = x0 + t0;
+        float t2 = x1 + x5;
+        float t3 = x2 + t2;
+        float t4 = t1 + t3;
+        float t5 = 0.5f * t0;
+        float t6 = x0 - t5;
+        float t7 = 0.5f * t2;
+        float t8 = x2 - t7;
+        float t9 = 0.5f * t8;
+        float t10 = x5 - x1;
+        float t11 = 0.7499999999999997f * t10;
+        float t12 = t9 - t11;
+        float t13 = t6 + t12;
+        float t14 = 0.9659258262890683f * t13;
+        float t15 = x4 - x3;
+        float t16 = 0.8660254037844384f * t15;
+        float t17 = 0.4330127018922192f * t10;
+        float t18 = 0.8660254037844386f * t8;
+        float t19 = t17 + t18;
+        float t20 = t16 + t19;
+        float t21 = 0.2588190451025207f * t20;
+        float t22 = t14 - t21;
+        float t23 = 0.7499999999999996f * t10;
+        float t24 = t23 - t9;
+        float t25 = t6 + t24;
+        float t26 = 0.8660254037844384f * t25;
+        float t27 = 0.8660254037844384f * t8;
+        float t28 = t17 + t27;
+        float t29 = t16 - t28;
+        float t30 = 0.5f * t29;
+        float t31 = t26 + t30;
+        float t32 = t1 - t3;
+        float t33 = 0.7071067811865476f * t32;
+        float t34 = t6 - t12;
+        float t35 = 0.5f * t34;
+        float t36 = t19 - t16;
+        float t37 = 0.8660254037844386f * t36;
+        float t38 = t35 + t37;
+        float t39 = t6 - t24;
+        float t40 = 0.2588190451025203f * t39;
+        float t41 = t16 + t28;
+        float t42 = 0.9659258262890684f * t41;
+        float t43 = t40 + t42;
+        a[offa] = t4;
+        a[offa + 1] = t22;
+        a[offa + 2] = t31;
+        a[offa + 3] = t33;
+        a[offa + 4] = t38;
+        a[offa + 5] = t43;
+    }
+
+    static void dct2_7(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float t0 = x6 + x5;
+        float t1 = x4 + x3;
+        float t2 = x2 + x1;
+        float t3 = x0 + t2;
+        float t4 = t1 + t3;
+        float t5 = t0 + t4;
+        float t6 = 0.6234898018587334f * t2;
+        float t7 = x0 + t6;
+        float t8 = 0.2225209339563146f * t1;
+        float t9 = t7 - t8;
+        float t10 = 0.9009688679024191f * t0;
+        float t11 = t9 - t10;
+        float t12 = 0.9749279121818235f * t11;
+        float t13 = x2 - x1;
+        float t14 = 0.7818314824680299f * t13;
+        float t15 = x4 - x3;
+        float t16 = 0.9749279121818236f * t15;
+        float t17 = t14 + t16;
+        float t18 = x6 - x5;
+        float t19 = 0.433883739117558f * t18;
+        float t20 = t17 + t19;
+        float t21 = 0.22252093395631464f * t20;
+        float t22 = t12 - t21;
+        float t23 = 0.2225209339563146f * t2;
+        float t24 = x0 - t23;
+        float t25 = 0.900968867902419f * t1;
+        float t26 = t24 - t25;
+        float t27 = 0.6234898018587336f * t0;
+        float t28 = t26 + t27;
+        float t29 = 0.900968867902419f * t28;
+        float t30 = 0.43388373911755823f * t15;
+        float t31 = 0.9749279121818236f * t13;
+        float t32 = t30 - t31;
+        float t33 = 0.7818314824680298f * t18;
+        float t34 = t32 + t33;
+        float t35 = 0.43388373911755834f * t34;
+        float t36 = t29 + t35;
+        float t37 = 0.9009688679024191f * t2;
+        float t38 = x0 - t37;
+        float t39 = 0.6234898018587336f * t1;
+        float t40 = t38 + t39;
+        float t41 = 0.2225209339563146f * t0;
+        float t42 = t40 - t41;
+        float t43 = 0.7818314824680297f * t42;
+        float t44 = 0.7818314824680298f * t15;
+        float t45 = 0.433883739117558f * t13;
+        float t46 = t44 - t45;
+        float t47 = 0.9749279121818236f * t18;
+        float t48 = t46 - t47;
+        float t49 = 0.6234898018587337f * t48;
+        float t50 = t43 + t49;
+        float t51 = 0.6234898018587334f * t42;
+        float t52 = t47 - t46;
+        float t53 = 0.7818314824680299f * t52;
+        float t54 = t51 + t53;
+        float t55 = 0.43388373911755795f * t28;
+        float t56 = 0.9009688679024193f * t34;
+        float t57 = t55 - t56;
+        float t58 = 0.22252093395631423f * t11;
+        float t59 = 0.9749279121818236f * t20;
+        float t60 = t58 + t59;
+        a[offa] = t5;
+        a[offa + 1] = t22;
+        a[offa + 2] = t36;
+        a[offa + 3] = t50;
+        a[offa + 4] = t54;
+        a[offa + 5] = t57;
+        a[offa + 6] = t60;
+    }
+
+    static void dct2_8(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float t0 = x0 + x7;
+        float t1 = x4 + x3;
+        float t2 = t0 + t1;
+        float t3 = x2 + x5;
+        float t4 = x6 + x1;
+        float t5 = t3 + t4;
+        float t6 = t2 + t5;
+        float t7 = x0 - x7;
+        float t8 = x2 - x5;
+        float t9 = x1 - x6;
+        float t10 = t8 + t9;
+        float t11 = 0.7071067811865476f * t10;
+        float t12 = t7 + t11;
+        float t13 = 0.9807852804032303f * t12;
+        float t14 = x3 - x4;
+        float t15 = t9 - t8;
+        float t16 = 0.7071067811865476f * t15;
+        float t17 = t14 + t16;
+        float t18 = 0.19509032201612872f * t17;
+        float t19 = t13 + t18;
+        float t20 = t0 - t1;
+        float t21 = 0.9238795325112865f * t20;
+        float t22 = t4 - t3;
+        float t23 = 0.3826834323650904f * t22;
+        float t24 = t21 + t23;
+        float t25 = x6 - x1;
+        float t26 = t8 - t25;
+        float t27 = 0.7071067811865476f * t26;
+        float t28 = t7 - t27;
+        float t29 = 0.8314696123025452f * t28;
+        float t30 = x4 - x3;
+        float t31 = t8 + t25;
+        float t32 = 0.7071067811865476f * t31;
+        float t33 = t30 - t32;
+        float t34 = 0.5555702330196022f * t33;
+        float t35 = t29 + t34;
+        float t36 = t2 - t5;
+        float t37 = 0.7071067811865476f * t36;
+        float t38 = t7 - t11;
+        float t39 = 0.5555702330196018f * t38;
+        float t40 = t14 - t16;
+        float t41 = 0.8314696123025455f * t40;
+        float t42 = t39 + t41;
+        float t43 = 0.38268343236509f * t20;
+        float t44 = t3 - t4;
+        float t45 = 0.9238795325112866f * t44;
+        float t46 = t43 + t45;
+        float t47 = t7 + t27;
+        float t48 = 0.1950903220161283f * t47;
+        float t49 = t30 + t32;
+        float t50 = 0.9807852804032304f * t49;
+        float t51 = t48 + t50;
+        a[offa] = t6;
+        a[offa + 1] = t19;
+        a[offa + 2] = t24;
+        a[offa + 3] = t35;
+        a[offa + 4] = t37;
+        a[offa + 5] = t42;
+        a[offa + 6] = t46;
+        a[offa + 7] = t51;
+    }
+
+    static void dct2_9(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float t0 = x6 + x5;
+        float t1 = x0 + t0;
+        float t2 = x8 + x3;
+        float t3 = x2 + t2;
+        float t4 = x1 + x7;
+        float t5 = x4 + t4;
+        float t6 = t3 + t5;
+        float t7 = t1 + t6;
+        float t8 = 0.5f * t0;
+        float t9 = x0 - t8;
+        float t10 = 0.5f * t2;
+        float t11 = x2 - t10;
+        float t12 = 0.7660444431189778f * t11;
+        float t13 = x8 - x3;
+        float t14 = 0.5566703992264194f * t13;
+        float t15 = t12 - t14;
+        float t16 = 0.5f * t4;
+        float t17 = x4 - t16;
+        float t18 = 0.17364817766692997f * t17;
+        float t19 = x7 - x1;
+        float t20 = 0.852868531952443f * t19;
+        float t21 = t18 - t20;
+        float t22 = t15 + t21;
+        float t23 = t9 + t22;
+        float t24 = 0.984807753012208f * t23;
+        float t25 = x6 - x5;
+        float t26 = 0.8660254037844384f * t25;
+        float t27 = 0.663413948168938f * t13;
+        float t28 = 0.6427876096865396f * t11;
+        float t29 = t27 + t28;
+        float t30 = 0.1503837331804349f * t19;
+        float t31 = 0.9848077530122081f * t17;
+        float t32 = t30 + t31;
+        float t33 = t29 + t32;
+        float t34 = t26 + t33;
+        float t35 = 0.1736481776669304f * t34;
+        float t36 = t24 - t35;
+        float t37 = 0.17364817766692997f * t11;
+        float t38 = 0.852868531952443f * t13;
+        float t39 = t37 + t38;
+        float t40 = 0.2961981327260237f * t19;
+        float t41 = 0.9396926207859084f * t17;
+        float t42 = t40 - t41;
+        float t43 = t39 + t42;
+        float t44 = t9 + t43;
+        float t45 = 0.9396926207859081f * t44;
+        float t46 = 0.1503837331804349f * t13;
+        float t47 = 0.9848077530122081f * t11;
+        float t48 = t46 - t47;
+        float t49 = 0.8137976813493735f * t19;
+        float t50 = 0.34202014332566866f * t17;
+        float t51 = t49 + t50;
+        float t52 = t48 - t51;
+        float t53 = t26 + t52;
+        float t54 = 0.34202014332566943f * t53;
+        float t55 = t45 + t54;
+        float t56 = 0.5f * t6;
+        float t57 = t1 - t56;
+        float t58 = 0.8660254037844384f * t57;
+        float t59 = t3 - t5;
+        float t60 = 0.4330127018922192f * t59;
+        float t61 = t58 - t60;
+        float t62 = 0.5f * t22;
+        float t63 = t9 - t62;
+        float t64 = t32 - t29;
+        float t65 = 0.8660254037844384f * t64;
+        float t66 = t63 + t65;
+        float t67 = 0.7660444431189778f * t66;
+        float t68 = 0.5f * t33;
+        float t69 = t68 - t26;
+        float t70 = t15 - t21;
+        float t71 = 0.8660254037844384f * t70;
+        float t72 = t69 - t71;
+        float t73 = 0.6427876096865396f * t72;
+        float t74 = t67 + t73;
+        float t75 = 0.5f * t43;
+        float t76 = t9 - t75;
+        float t77 = t48 + t51;
+        float t78 = 0.8660254037844384f * t77;
+        float t79 = t76 + t78;
+        float t80 = 0.6427876096865393f * t79;
+        float t81 = 0.5f * t52;
+        float t82 = t26 - t81;
+        float t83 = t39 - t42;
+        float t84 = 0.8660254037844384f * t83;
+        float t85 = t82 - t84;
+        float t86 = 0.7660444431189781f * t85;
+        float t87 = t80 + t86;
+        float t88 = 0.5f * t57;
+        float t89 = 0.7499999999999997f * t59;
+        float t90 = t88 + t89;
+        float t91 = t63 - t65;
+        float t92 = 0.342020143325669f * t91;
+        float t93 = t69 + t71;
+        float t94 = 0.9396926207859083f * t93;
+        float t95 = t92 + t94;
+        float t96 = t76 - t78;
+        float t97 = 0.17364817766692997f * t96;
+        float t98 = t82 + t84;
+        float t99 = 0.9848077530122081f * t98;
+        float t100 = t97 + t99;
+        a[offa] = t7;
+        a[offa + 1] = t36;
+        a[offa + 2] = t55;
+        a[offa + 3] = t61;
+        a[offa + 4] = t74;
+        a[offa + 5] = t87;
+        a[offa + 6] = t90;
+        a[offa + 7] = t95;
+        a[offa + 8] = t100;
+    }
+
+    static void dct2_10(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float t0 = x8 + x7;
+        float t1 = x4 + x3;
+        float t2 = x0 + t1;
+        float t3 = t0 + t2;
+        float t4 = x5 + x9;
+        float t5 = x6 + x1;
+        float t6 = x2 + t5;
+        float t7 = t4 + t6;
+        float t8 = t3 + t7;
+        float t9 = 0.30901699437494723f * t1;
+        float t10 = x0 + t9;
+        float t11 = 0.8090169943749476f * t0;
+        float t12 = t10 - t11;
+        float t13 = 0.30901699437494723f * t5;
+        float t14 = x2 + t13;
+        float t15 = 0.8090169943749476f * t4;
+        float t16 = t14 - t15;
+        float t17 = 0.8090169943749473f * t16;
+        float t18 = x6 - x1;
+        float t19 = 0.9510565162951536f * t18;
+        float t20 = x9 - x5;
+        float t21 = 0.587785252292473f * t20;
+        float t22 = t19 + t21;
+        float t23 = 0.5877852522924734f * t22;
+        float t24 = t17 - t23;
+        float t25 = t12 + t24;
+        float t26 = 0.9876883405951377f * t25;
+        float t27 = x4 - x3;
+        float t28 = 0.9510565162951536f * t27;
+        float t29 = x8 - x7;
+        float t30 = 0.587785252292473f * t29;
+        float t31 = t28 + t30;
+        float t32 = 0.8090169943749473f * t22;
+        float t33 = 0.5877852522924734f * t16;
+        float t34 = t32 + t33;
+        float t35 = t31 + t34;
+        float t36 = 0.15643446504023112f * t35;
+        float t37 = t26 - t36;
+        float t38 = 0.8090169943749476f * t1;
+        float t39 = x0 - t38;
+        float t40 = 0.30901699437494745f * t0;
+        float t41 = t39 + t40;
+        float t42 = 0.8090169943749476f * t5;
+        float t43 = x2 - t42;
+        float t44 = 0.30901699437494745f * t4;
+        float t45 = t43 + t44;
+        float t46 = 0.30901699437494723f * t45;
+        float t47 = 0.9510565162951535f * t20;
+        float t48 = 0.587785252292473f * t18;
+        float t49 = t47 - t48;
+        float t50 = 0.9510565162951536f * t49;
+        float t51 = t46 + t50;
+        float t52 = t41 + t51;
+        float t53 = 0.9510565162951535f * t52;
+        float t54 = 0.9510565162951535f * t29;
+        float t55 = 0.587785252292473f * t27;
+        float t56 = t54 - t55;
+        float t57 = 0.30901699437494723f * t49;
+        float t58 = 0.9510565162951536f * t45;
+        float t59 = t57 - t58;
+        float t60 = t56 + t59;
+        float t61 = 0.3090169943749476f * t60;
+        float t62 = t53 + t61;
+        float t63 = t48 - t47;
+        float t64 = 0.9510565162951535f * t63;
+        float t65 = 0.30901699437494756f * t45;
+        float t66 = t64 - t65;
+        float t67 = t41 + t66;
+        float t68 = 0.8910065241883678f * t67;
+        float t69 = t55 - t54;
+        float t70 = 0.30901699437494756f * t63;
+        float t71 = 0.9510565162951535f * t45;
+        float t72 = t70 + t71;
+        float t73 = t69 - t72;
+        float t74 = 0.45399049973954697f * t73;
+        float t75 = t68 + t74;
+        float t76 = 0.587785252292473f * t22;
+        float t77 = 0.8090169943749476f * t16;
+        float t78 = t76 - t77;
+        float t79 = t12 + t78;
+        float t80 = 0.8090169943749473f * t79;
+        float t81 = 0.8090169943749476f * t22;
+        float t82 = 0.587785252292473f * t16;
+        float t83 = t81 + t82;
+        float t84 = t31 - t83;
+        float t85 = 0.5877852522924734f * t84;
+        float t86 = t80 + t85;
+        float t87 = t3 - t7;
+        float t88 = 0.7071067811865476f * t87;
+        float t89 = t12 - t24;
+        float t90 = 0.5877852522924729f * t89;
+        float t91 = t34 - t31;
+        float t92 = 0.8090169943749476f * t91;
+        float t93 = t90 + t92;
+        float t94 = t41 - t51;
+        float t95 = 0.45399049973954664f * t94;
+        float t96 = t56 - t59;
+        float t97 = 0.891006524188368f * t96;
+        float t98 = t95 + t97;
+        float t99 = t41 - t66;
+        float t100 = 0.30901699437494723f * t99;
+        float t101 = t69 + t72;
+        float t102 = 0.9510565162951536f * t101;
+        float t103 = t100 + t102;
+        float t104 = t12 - t78;
+        float t105 = 0.15643446504023067f * t104;
+        float t106 = t31 + t83;
+        float t107 = 0.9876883405951378f * t106;
+        float t108 = t105 + t107;
+        a[offa] = t8;
+        a[offa + 1] = t37;
+        a[offa + 2] = t62;
+        a[offa + 3] = t75;
+        a[offa + 4] = t86;
+        a[offa + 5] = t88;
+        a[offa + 6] = t93;
+        a[offa + 7] = t98;
+        a[offa + 8] = t103;
+        a[offa + 9] = t108;
+    }
+
+    static void dct2_11(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float t0 = x10 + x9;
+        float t1 = x8 + x7;
+        float t2 = x6 + x5;
+        float t3 = x4 + x3;
+        float t4 = x2 + x1;
+        float t5 = x0 + t4;
+        float t6 = t3 + t5;
+        float t7 = t2 + t6;
+        float t8 = t1 + t7;
+        float t9 = t0 + t8;
+        float t10 = 0.8412535328311808f * t4;
+        float t11 = x0 + t10;
+        float t12 = 0.4154150130018868f * t3;
+        float t13 = t11 + t12;
+        float t14 = 0.14231483827328523f * t2;
+        float t15 = t13 - t14;
+        float t16 = 0.6548607339452852f * t1;
+        float t17 = t15 - t16;
+        float t18 = 0.9594929736144975f * t0;
+        float t19 = t17 - t18;
+        float t20 = 0.9898214418809327f * t19;
+        float t21 = x2 - x1;
+        float t22 = 0.5406408174555982f * t21;
+        float t23 = x4 - x3;
+        float t24 = 0.9096319953545182f * t23;
+        float t25 = t22 + t24;
+        float t26 = x6 - x5;
+        float t27 = 0.9898214418809327f * t26;
+        float t28 = t25 + t27;
+        float t29 = x8 - x7;
+        float t30 = 0.7557495743542582f * t29;
+        float t31 = t28 + t30;
+        float t32 = x10 - x9;
+        float t33 = 0.2817325568414294f * t32;
+        float t34 = t31 + t33;
+        float t35 = 0.1423148382732853f * t34;
+        float t36 = t20 - t35;
+        float t37 = 0.4154150130018868f * t4;
+        float t38 = x0 + t37;
+        float t39 = 0.6548607339452852f * t3;
+        float t40 = t38 - t39;
+        float t41 = 0.9594929736144973f * t2;
+        float t42 = t40 - t41;
+        float t43 = 0.142314838273285f * t1;
+        float t44 = t42 - t43;
+        float t45 = 0.8412535328311812f * t0;
+        float t46 = t44 + t45;
+        float t47 = 0.9594929736144974f * t46;
+        float t48 = 0.28173255684143006f * t26;
+        float t49 = 0.9096319953545182f * t21;
+        float t50 = 0.7557495743542582f * t23;
+        float t51 = t49 + t50;
+        float t52 = t48 - t51;
+        float t53 = 0.9898214418809328f * t29;
+        float t54 = t52 + t53;
+        float t55 = 0.5406408174555976f * t32;
+        float t56 = t54 + t55;
+        float t57 = 0.2817325568414298f * t56;
+        float t58 = t47 + t57;
+        float t59 = 0.14231483827328523f * t4;
+        float t60 = x0 - t59;
+        float t61 = 0.9594929736144973f * t3;
+        float t62 = t60 - t61;
+        float t63 = 0.41541501300188644f * t2;
+        float t64 = t62 + t63;
+        float t65 = 0.8412535328311808f * t1;
+        float t66 = t64 + t65;
+        float t67 = 0.6548607339452852f * t0;
+        float t68 = t66 - t67;
+        float t69 = 0.909631995354518f * t68;
+        float t70 = 0.28173255684143006f * t23;
+        float t71 = 0.9898214418809327f * t21;
+        float t72 = t70 - t71;
+        float t73 = 0.9096319953545183f * t26;
+        float t74 = t72 + t73;
+        float t75 = 0.5406408174555982f * t29;
+        float t76 = t74 - t75;
+        float t77 = 0.7557495743542582f * t32;
+        float t78 = t76 - t77;
+        float t79 = 0.4154150130018872f * t78;
+        float t80 = t69 + t79;
+        float t81 = 0.6548607339452852f * t4;
+        float t82 = x0 - t81;
+        float t83 = 0.142314838273285f * t3;
+        float t84 = t82 - t83;
+        float t85 = 0.8412535328311808f * t2;
+        float t86 = t84 + t85;
+        float t87 = 0.9594929736144975f * t1;
+        float t88 = t86 - t87;
+        float t89 = 0.41541501300188644f * t0;
+        float t90 = t88 + t89;
+        float t91 = 0.8412535328311808f * t90;
+        float t92 = 0.9898214418809328f * t23;
+        float t93 = 0.7557495743542582f * t21;
+        float t94 = t92 - t93;
+        float t95 = 0.5406408174555982f * t26;
+        float t96 = t94 - t95;
+        float t97 = 0.2817325568414294f * t29;
+        float t98 = t96 - t97;
+        float t99 = 0.9096319953545183f * t32;
+        float t100 = t98 + t99;
+        float t101 = 0.5406408174555982f * t100;
+        float t102 = t91 + t101;
+        float t103 = 0.9594929736144975f * t4;
+        float t104 = x0 - t103;
+        float t105 = 0.8412535328311812f * t3;
+        float t106 = t104 + t105;
+        float t107 = 0.6548607339452852f * t2;
+        float t108 = t106 - t107;
+        float t109 = 0.41541501300188644f * t1;
+        float t110 = t108 + t109;
+        float t111 = 0.14231483827328523f * t0;
+        float t112 = t110 - t111;
+        float t113 = 0.7557495743542578f * t112;
+        float t114 = 0.5406408174555976f * t23;
+        float t115 = 0.2817325568414294f * t21;
+        float t116 = t114 - t115;
+        float t117 = 0.7557495743542582f * t26;
+        float t118 = t116 - t117;
+        float t119 = 0.9096319953545183f * t29;
+        float t120 = t118 + t119;
+        float t121 = 0.9898214418809327f * t32;
+        float t122 = t120 - t121;
+        float t123 = 0.6548607339452855f * t122;
+        float t124 = t113 + t123;
+        float t125 = 0.6548607339452853f * t112;
+        float t126 = t121 - t120;
+        float t127 = 0.7557495743542582f * t126;
+        float t128 = t125 + t127;
+        float t129 = 0.5406408174555979f * t90;
+        float t130 = 0.841253532831181f * t100;
+        float t131 = t129 - t130;
+        float t132 = 0.4154150130018868f * t68;
+        float t133 = t77 - t76;
+        float t134 = 0.9096319953545182f * t133;
+        float t135 = t132 + t134;
+        float t136 = 0.28173255684142934f * t46;
+        float t137 = 0.9594929736144975f * t56;
+        float t138 = t136 - t137;
+        float t139 = 0.14231483827328487f * t19;
+        float t140 = 0.9898214418809328f * t34;
+        float t141 = t139 + t140;
+        a[offa] = t9;
+        a[offa + 1] = t36;
+        a[offa + 2] = t58;
+        a[offa + 3] = t80;
+        a[offa + 4] = t102;
+        a[offa + 5] = t124;
+        a[offa + 6] = t128;
+        a[offa + 7] = t131;
+        a[offa + 8] = t135;
+        a[offa + 9] = t138;
+        a[offa + 10] = t141;
+    }
+
+    static void dct2_12(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float t0 = x8 + x7;
+        float t1 = x0 + t0;
+        float t2 = x3 + x11;
+        float t3 = x4 + t2;
+        float t4 = t1 + t3;
+        float t5 = x10 + x5;
+        float t6 = x2 + t5;
+        float t7 = x1 + x9;
+        float t8 = x6 + t7;
+        float t9 = t6 + t8;
+        float t10 = t4 + t9;
+        float t11 = 0.5f * t0;
+        float t12 = x0 - t11;
+        float t13 = 0.5f * t2;
+        float t14 = x4 - t13;
+        float t15 = 0.5f * t14;
+        float t16 = x11 - x3;
+        float t17 = 0.7499999999999997f * t16;
+        float t18 = t15 - t17;
+        float t19 = t12 + t18;
+        float t20 = 0.5f * t5;
+        float t21 = x2 - t20;
+        float t22 = 0.8660254037844384f * t21;
+        float t23 = x10 - x5;
+        float t24 = 0.4330127018922192f * t23;
+        float t25 = t22 - t24;
+        float t26 = x9 - x1;
+        float t27 = 0.8660254037844384f * t26;
+        float t28 = t25 - t27;
+        float t29 = t19 + t28;
+        float t30 = 0.9914448613738104f * t29;
+        float t31 = 0.5f * t7;
+        float t32 = t31 - x6;
+        float t33 = 0.7499999999999996f * t23;
+        float t34 = 0.5f * t21;
+        float t35 = t33 + t34;
+        float t36 = t32 - t35;
+        float t37 = x8 - x7;
+        float t38 = 0.8660254037844384f * t37;
+        float t39 = 0.4330127018922192f * t16;
+        float t40 = 0.8660254037844386f * t14;
+        float t41 = t39 + t40;
+        float t42 = t38 + t41;
+        float t43 = t36 - t42;
+        float t44 = 0.13052619222005168f * t43;
+        float t45 = t30 + t44;
+        float t46 = 0.7499999999999996f * t16;
+        float t47 = t46 - t15;
+        float t48 = t12 + t47;
+        float t49 = 0.7499999999999997f * t23;
+        float t50 = t34 + t49;
+        float t51 = t32 + t50;
+        float t52 = t48 + t51;
+        float t53 = 0.9659258262890683f * t52;
+        float t54 = 0.8660254037844384f * t14;
+        float t55 = t39 + t54;
+        float t56 = t38 - t55;
+        float t57 = 0.8660254037844386f * t21;
+        float t58 = t24 - t57;
+        float t59 = t58 - t27;
+        float t60 = t56 + t59;
+        float t61 = 0.2588190451025207f * t60;
+        float t62 = t53 + t61;
+        float t63 = t1 - t3;
+        float t64 = 0.9238795325112865f * t63;
+        float t65 = t8 - t6;
+        float t66 = 0.3826834323650904f * t65;
+        float t67 = t64 + t66;
+        float t68 = t12 - t18;
+        float t69 = t35 + t32;
+        float t70 = t68 - t69;
+        float t71 = 0.8660254037844384f * t70;
+        float t72 = t41 - t38;
+        float t73 = t27 + t25;
+        float t74 = t72 - t73;
+        float t75 = 0.5f * t74;
+        float t76 = t71 + t75;
+        float t77 = t12 - t47;
+        float t78 = t27 + t58;
+        float t79 = t77 + t78;
+        float t80 = 0.7933533402912349f * t79;
+        float t81 = t38 + t55;
+        float t82 = t32 - t50;
+        float t83 = t81 + t82;
+        float t84 = 0.6087614290087209f * t83;
+        float t85 = t80 + t84;
+        float t86 = t4 - t9;
+        float t87 = 0.7071067811865476f * t86;
+        float t88 = t19 - t28;
+        float t89 = 0.6087614290087205f * t88;
+        float t90 = t42 + t36;
+        float t91 = 0.7933533402912352f * t90;
+        float t92 = t89 - t91;
+        float t93 = t48 - t51;
+        float t94 = 0.5f * t93;
+        float t95 = t56 - t59;
+        float t96 = 0.8660254037844386f * t95;
+        float t97 = t94 + t96;
+        float t98 = 0.38268343236509f * t63;
+        float t99 = t6 - t8;
+        float t100 = 0.9238795325112866f * t99;
+        float t101 = t98 + t100;
+        float t102 = t68 + t69;
+        float t103 = 0.2588190451025203f * t102;
+        float t104 = t72 + t73;
+        float t105 = 0.9659258262890684f * t104;
+        float t106 = t103 + t105;
+        float t107 = t77 - t78;
+        float t108 = 0.13052619222005127f * t107;
+        float t109 = t81 - t82;
+        float t110 = 0.9914448613738105f * t109;
+        float t111 = t108 + t110;
+        a[offa] = t10;
+        a[offa + 1] = t45;
+        a[offa + 2] = t62;
+        a[offa + 3] = t67;
+        a[offa + 4] = t76;
+        a[offa + 5] = t85;
+        a[offa + 6] = t87;
+        a[offa + 7] = t92;
+        a[offa + 8] = t97;
+        a[offa + 9] = t101;
+        a[offa + 10] = t106;
+        a[offa + 11] = t111;
+    }
+
+    static void dct2_13(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float t0 = x12 + x11;
+        float t1 = x10 + x9;
+        float t2 = x8 + x7;
+        float t3 = x6 + x5;
+        float t4 = x4 + x3;
+        float t5 = x2 + x1;
+        float t6 = x0 + t5;
+        float t7 = t4 + t6;
+        float t8 = t3 + t7;
+        float t9 = t2 + t8;
+        float t10 = t1 + t9;
+        float t11 = t0 + t10;
+        float t12 = 0.88545602565321f * t5;
+        float t13 = x0 + t12;
+        float t14 = 0.5680647467311556f * t4;
+        float t15 = t13 + t14;
+        float t16 = 0.1205366802553232f * t3;
+        float t17 = t15 + t16;
+        float t18 = 0.3546048870425359f * t2;
+        float t19 = t17 - t18;
+        float t20 = 0.748510748171101f * t1;
+        float t21 = t19 - t20;
+        float t22 = 0.9709418174260521f * t0;
+        float t23 = t21 - t22;
+        float t24 = 0.992708874098054f * t23;
+        float t25 = x2 - x1;
+        float t26 = 0.4647231720437684f * t25;
+        float t27 = x4 - x3;
+        float t28 = 0.8229838658936566f * t27;
+        float t29 = t26 + t28;
+        float t30 = x6 - x5;
+        float t31 = 0.992708874098054f * t30;
+        float t32 = t29 + t31;
+        float t33 = x8 - x7;
+        float t34 = 0.9350162426854147f * t33;
+        float t35 = t32 + t34;
+        float t36 = x10 - x9;
+        float t37 = 0.6631226582407953f * t36;
+        float t38 = t35 + t37;
+        float t39 = x12 - x11;
+        float t40 = 0.23931566428755743f * t39;
+        float t41 = t38 + t40;
+        float t42 = 0.12053668025532363f * t41;
+        float t43 = t24 - t42;
+        float t44 = 0.5680647467311556f * t5;
+        float t45 = x0 + t44;
+        float t46 = 0.3546048870425359f * t4;
+        float t47 = t45 - t46;
+        float t48 = 0.9709418174260521f * t3;
+        float t49 = t47 - t48;
+        float t50 = 0.7485107481711012f * t2;
+        float t51 = t49 - t50;
+        float t52 = 0.120536680255323f * t1;
+        float t53 = t51 + t52;
+        float t54 = 0.8854560256532099f * t0;
+        float t55 = t53 + t54;
+        float t56 = 0.970941817426052f * t55;
+        float t57 = 0.6631226582407952f * t33;
+        float t58 = 0.8229838658936566f * t25;
+        float t59 = 0.9350162426854147f * t27;
+        float t60 = t58 + t59;
+        float t61 = 0.23931566428755743f * t30;
+        float t62 = t60 + t61;
+        float t63 = t57 - t62;
+        float t64 = 0.992708874098054f * t36;
+        float t65 = t63 + t64;
+        float t66 = 0.46472317204376856f * t39;
+        float t67 = t65 + t66;
+        float t68 = 0.2393156642875578f * t67;
+        float t69 = t56 + t68;
+        float t70 = 0.1205366802553232f * t5;
+        float t71 = x0 + t70;
+        float t72 = 0.9709418174260521f * t4;
+        float t73 = t71 - t72;
+        float t74 = 0.3546048870425357f * t3;
+        float t75 = t73 - t74;
+        float t76 = 0.8854560256532099f * t2;
+        float t77 = t75 + t76;
+        float t78 = 0.5680647467311556f * t1;
+        float t79 = t77 + t78;
+        float t80 = 0.748510748171101f * t0;
+        float t81 = t79 - t80;
+        float t82 = 0.9350162426854147f * t81;
+        float t83 = 0.9350162426854148f * t30;
+        float t84 = 0.992708874098054f * t25;
+        float t85 = 0.23931566428755743f * t27;
+        float t86 = t84 + t85;
+        float t87 = t83 - t86;
+        float t88 = 0.46472317204376856f * t33;
+        float t89 = t87 + t88;
+        float t90 = 0.8229838658936566f * t36;
+        float t91 = t89 - t90;
+        float t92 = 0.6631226582407953f * t39;
+        float t93 = t91 - t92;
+        float t94 = 0.35460488704253595f * t93;
+        float t95 = t82 + t94;
+        float t96 = 0.3546048870425359f * t5;
+        float t97 = x0 - t96;
+        float t98 = 0.7485107481711012f * t4;
+        float t99 = t97 - t98;
+        float t100 = 0.8854560256532099f * t3;
+        float t101 = t99 + t100;
+        float t102 = 0.1205366802553232f * t2;
+        float t103 = t101 + t102;
+        float t104 = 0.970941817426052f * t1;
+        float t105 = t103 - t104;
+        float t106 = 0.5680647467311558f * t0;
+        float t107 = t105 + t106;
+        float t108 = 0.88545602565321f * t107;
+        float t109 = 0.6631226582407952f * t27;
+        float t110 = 0.9350162426854147f * t25;
+        float t111 = t109 - t110;
+        float t112 = 0.46472317204376856f * t30;
+        float t113 = t111 + t112;
+        float t114 = 0.992708874098054f * t33;
+        float t115 = t113 - t114;
+        float t116 = 0.23931566428755768f * t36;
+        float t117 = t115 + t116;
+        float t118 = 0.8229838658936565f * t39;
+        float t119 = t117 + t118;
+        float t120 = 0.4647231720437684f * t119;
+        float t121 = t108 + t120;
+        float t122 = 0.748510748171101f * t5;
+        float t123 = x0 - t122;
+        float t124 = 0.120536680255323f * t4;
+        float t125 = t123 + t124;
+        float t126 = 0.5680647467311556f * t3;
+        float t127 = t125 + t126;
+        float t128 = 0.970941817426052f * t2;
+        float t129 = t127 - t128;
+        float t130 = 0.8854560256532099f * t1;
+        float t131 = t129 + t130;
+        float t132 = 0.3546048870425359f * t0;
+        float t133 = t131 - t132;
+        float t134 = 0.8229838658936564f * t133;
+        float t135 = 0.992708874098054f * t27;
+        float t136 = 0.6631226582407953f * t25;
+        float t137 = t135 - t136;
+        float t138 = 0.8229838658936566f * t30;
+        float t139 = t137 - t138;
+        float t140 = 0.23931566428755768f * t33;
+        float t141 = t139 + t140;
+        float t142 = 0.46472317204376856f * t36;
+        float t143 = t141 + t142;
+        float t144 = 0.9350162426854147f * t39;
+        float t145 = t143 - t144;
+        float t146 = 0.5680647467311559f * t145;
+        float t147 = t134 + t146;
+        float t148 = 0.9709418174260521f * t5;
+        float t149 = x0 - t148;
+        float t150 = 0.8854560256532099f * t4;
+        float t151 = t149 + t150;
+        float t152 = 0.748510748171101f * t3;
+        float t153 = t151 - t152;
+        float t154 = 0.5680647467311558f * t2;
+        float t155 = t153 + t154;
+        float t156 = 0.3546048870425359f * t1;
+        float t157 = t155 - t156;
+        float t158 = 0.120536680255323f * t0;
+        float t159 = t157 + t158;
+        float t160 = 0.7485107481711007f * t159;
+        float t161 = 0.46472317204376856f * t27;
+        float t162 = 0.23931566428755743f * t25;
+        float t163 = t161 - t162;
+        float t164 = 0.6631226582407953f * t30;
+        float t165 = t163 - t164;
+        float t166 = 0.8229838658936565f * t33;
+        float t167 = t165 + t166;
+        float t168 = 0.9350162426854147f * t36;
+        float t169 = t167 - t168;
+        float t170 = 0.992708874098054f * t39;
+        float t171 = t169 + t170;
+        float t172 = 0.6631226582407955f * t171;
+        float t173 = t160 + t172;
+        float t174 = 0.6631226582407952f * t159;
+        float t175 = 0.7485107481711011f * t171;
+        float t176 = t174 - t175;
+        float t177 = 0.5680647467311556f * t133;
+        float t178 = t144 - t143;
+        float t179 = 0.8229838658936566f * t178;
+        float t180 = t177 + t179;
+        float t181 = 0.464723172043768f * t107;
+        float t182 = 0.8854560256532101f * t119;
+        float t183 = t181 - t182;
+        float t184 = 0.35460488704253557f * t81;
+        float t185 = t92 - t91;
+        float t186 = 0.9350162426854148f * t185;
+        float t187 = t184 + t186;
+        float t188 = 0.23931566428755738f * t55;
+        float t189 = 0.9709418174260521f * t67;
+        float t190 = t188 - t189;
+        float t191 = 0.1205366802553232f * t23;
+        float t192 = 0.992708874098054f * t41;
+        float t193 = t191 + t192;
+        a[offa] = t11;
+        a[offa + 1] = t43;
+        a[offa + 2] = t69;
+        a[offa + 3] = t95;
+        a[offa + 4] = t121;
+        a[offa + 5] = t147;
+        a[offa + 6] = t173;
+        a[offa + 7] = t176;
+        a[offa + 8] = t180;
+        a[offa + 9] = t183;
+        a[offa + 10] = t187;
+        a[offa + 11] = t190;
+        a[offa + 12] = t193;
+    }
+
+    static void dct2_14(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float x13 = a[offa + 13];
+        float t0 = x12 + x11;
+        float t1 = x8 + x7;
+        float t2 = x4 + x3;
+        float t3 = x0 + t2;
+        float t4 = t1 + t3;
+        float t5 = t0 + t4;
+        float t6 = x9 + x13;
+        float t7 = x10 + x5;
+        float t8 = x6 + x1;
+        float t9 = x2 + t8;
+        float t10 = t7 + t9;
+        float t11 = t6 + t10;
+        float t12 = t5 + t11;
+        float t13 = 0.6234898018587334f * t2;
+        float t14 = x0 + t13;
+        float t15 = 0.2225209339563146f * t1;
+        float t16 = t14 - t15;
+        float t17 = 0.9009688679024191f * t0;
+        float t18 = t16 - t17;
+        float t19 = 0.6234898018587334f * t8;
+        float t20 = x2 + t19;
+        float t21 = 0.2225209339563146f * t7;
+        float t22 = t20 - t21;
+        float t23 = 0.9009688679024191f * t6;
+        float t24 = t22 - t23;
+        float t25 = 0.900968867902419f * t24;
+        float t26 = x6 - x1;
+        float t27 = 0.7818314824680299f * t26;
+        float t28 = x10 - x5;
+        float t29 = 0.9749279121818236f * t28;
+        float t30 = t27 + t29;
+        float t31 = x13 - x9;
+        float t32 = 0.433883739117558f * t31;
+        float t33 = t30 + t32;
+        float t34 = 0.43388373911755834f * t33;
+        float t35 = t25 - t34;
+        float t36 = t18 + t35;
+        float t37 = 0.9937122098932426f * t36;
+        float t38 = x4 - x3;
+        float t39 = 0.7818314824680299f * t38;
+        float t40 = x8 - x7;
+        float t41 = 0.9749279121818236f * t40;
+        float t42 = t39 + t41;
+        float t43 = x12 - x11;
+        float t44 = 0.433883739117558f * t43;
+        float t45 = t42 + t44;
+        float t46 = 0.900968867902419f * t33;
+        float t47 = 0.43388373911755834f * t24;
+        float t48 = t46 + t47;
+        float t49 = t45 + t48;
+        float t50 = 0.11196447610330809f * t49;
+        float t51 = t37 - t50;
+        float t52 = 0.2225209339563146f * t2;
+        float t53 = x0 - t52;
+        float t54 = 0.900968867902419f * t1;
+        float t55 = t53 - t54;
+        float t56 = 0.6234898018587336f * t0;
+        float t57 = t55 + t56;
+        float t58 = 0.2225209339563146f * t8;
+        float t59 = x2 - t58;
+        float t60 = 0.900968867902419f * t7;
+        float t61 = t59 - t60;
+        float t62 = 0.6234898018587336f * t6;
+        float t63 = t61 + t62;
+        float t64 = 0.6234898018587334f * t63;
+        float t65 = 0.43388373911755823f * t28;
+        float t66 = 0.9749279121818236f * t26;
+        float t67 = t65 - t66;
+        float t68 = 0.7818314824680298f * t31;
+        float t69 = t67 + t68;
+        float t70 = 0.7818314824680299f * t69;
+        float t71 = t64 + t70;
+        float t72 = t57 + t71;
+        float t73 = 0.9749279121818235f * t72;
+        float t74 = 0.43388373911755823f * t40;
+        float t75 = 0.9749279121818236f * t38;
+        float t76 = t74 - t75;
+        float t77 = 0.7818314824680298f * t43;
+        float t78 = t76 + t77;
+        float t79 = 0.6234898018587334f * t69;
+        float t80 = 0.7818314824680299f * t63;
+        float t81 = t79 - t80;
+        float t82 = t78 + t81;
+        float t83 = 0.22252093395631464f * t82;
+        float t84 = t73 + t83;
+        float t85 = 0.9009688679024191f * t2;
+        float t86 = x0 - t85;
+        float t87 = 0.6234898018587336f * t1;
+        float t88 = t86 + t87;
+        float t89 = 0.2225209339563146f * t0;
+        float t90 = t88 - t89;
+        float t91 = 0.9009688679024191f * t8;
+        float t92 = x2 - t91;
+        float t93 = 0.6234898018587336f * t7;
+        float t94 = t92 + t93;
+        float t95 = 0.2225209339563146f * t6;
+        float t96 = t94 - t95;
+        float t97 = 0.22252093395631423f * t96;
+        float t98 = 0.7818314824680298f * t28;
+        float t99 = 0.433883739117558f * t26;
+        float t100 = t98 - t99;
+        float t101 = 0.9749279121818236f * t31;
+        float t102 = t100 - t101;
+        float t103 = 0.9749279121818236f * t102;
+        float t104 = t97 + t103;
+        float t105 = t90 + t104;
+        float t106 = 0.9438833303083675f * t105;
+        float t107 = 0.7818314824680298f * t40;
+        float t108 = 0.433883739117558f * t38;
+        float t109 = t107 - t108;
+        float t110 = 0.9749279121818236f * t43;
+        float t111 = t109 - t110;
+        float t112 = 0.22252093395631423f * t102;
+        float t113 = 0.9749279121818236f * t96;
+        float t114 = t112 - t113;
+        float t115 = t111 + t114;
+        float t116 = 0.3302790619551673f * t115;
+        float t117 = t106 + t116;
+        float t118 = t101 - t100;
+        float t119 = 0.9749279121818236f * t118;
+        float t120 = 0.2225209339563146f * t96;
+        float t121 = t119 - t120;
+        float t122 = t90 + t121;
+        float t123 = 0.900968867902419f * t122;
+        float t124 = t110 - t109;
+        float t125 = 0.2225209339563146f * t118;
+        float t126 = t113 + t125;
+        float t127 = t124 - t126;
+        float t128 = 0.43388373911755834f * t127;
+        float t129 = t123 + t128;
+        float t130 = 0.6234898018587337f * t63;
+        float t131 = 0.7818314824680297f * t69;
+        float t132 = t130 + t131;
+        float t133 = t57 - t132;
+        float t134 = 0.846724199228284f * t133;
+        float t135 = 0.6234898018587337f * t69;
+        float t136 = 0.7818314824680297f * t63;
+        float t137 = t135 - t136;
+        float t138 = t137 - t78;
+        float t139 = 0.5320320765153368f * t138;
+        float t140 = t134 + t139;
+        float t141 = 0.433883739117558f * t33;
+        float t142 = 0.9009688679024191f * t24;
+        float t143 = t141 - t142;
+        float t144 = t18 + t143;
+        float t145 = 0.7818314824680297f * t144;
+        float t146 = 0.9009688679024191f * t33;
+        float t147 = 0.433883739117558f * t24;
+        float t148 = t146 + t147;
+        float t149 = t45 - t148;
+        float t150 = 0.6234898018587337f * t149;
+        float t151 = t145 + t150;
+        float t152 = t5 - t11;
+        float t153 = 0.7071067811865476f * t152;
+        float t154 = t18 - t35;
+        float t155 = 0.6234898018587334f * t154;
+        float t156 = t48 - t45;
+        float t157 = 0.7818314824680299f * t156;
+        float t158 = t155 + t157;
+        float t159 = t57 - t71;
+        float t160 = 0.5320320765153363f * t159;
+        float t161 = t78 - t81;
+        float t162 = 0.8467241992282842f * t161;
+        float t163 = t160 + t162;
+        float t164 = t90 - t104;
+        float t165 = 0.43388373911755795f * t164;
+        float t166 = t111 - t114;
+        float t167 = 0.9009688679024193f * t166;
+        float t168 = t165 + t167;
+        float t169 = t90 - t121;
+        float t170 = 0.3302790619551669f * t169;
+        float t171 = t124 + t126;
+        float t172 = 0.9438833303083676f * t171;
+        float t173 = t170 + t172;
+        float t174 = t57 + t132;
+        float t175 = 0.22252093395631423f * t174;
+        float t176 = t78 + t137;
+        float t177 = 0.9749279121818236f * t176;
+        float t178 = t175 - t177;
+        float t179 = t18 - t143;
+        float t180 = 0.11196447610330768f * t179;
+        float t181 = t45 + t148;
+        float t182 = 0.9937122098932426f * t181;
+        float t183 = t180 + t182;
+        a[offa] = t12;
+        a[offa + 1] = t51;
+        a[offa + 2] = t84;
+        a[offa + 3] = t117;
+        a[offa + 4] = t129;
+        a[offa + 5] = t140;
+        a[offa + 6] = t151;
+        a[offa + 7] = t153;
+        a[offa + 8] = t158;
+        a[offa + 9] = t163;
+        a[offa + 10] = t168;
+        a[offa + 11] = t173;
+        a[offa + 12] = t178;
+        a[offa + 13] = t183;
+    }
+
+    static void dct2_15(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float x13 = a[offa + 13];
+        float x14 = a[offa + 14];
+        float t0 = x12 + x11;
+        float t1 = x6 + x5;
+        float t2 = x0 + t1;
+        float t3 = t0 + t2;
+        float t4 = x14 + x9;
+        float t5 = x8 + x3;
+        float t6 = x2 + t5;
+        float t7 = t4 + t6;
+        float t8 = x7 + x13;
+        float t9 = x10 + x1;
+        float t10 = x4 + t9;
+        float t11 = t8 + t10;
+        float t12 = t7 + t11;
+        float t13 = t3 + t12;
+        float t14 = 0.30901699437494723f * t1;
+        float t15 = x0 + t14;
+        float t16 = 0.8090169943749476f * t0;
+        float t17 = t15 - t16;
+        float t18 = 0.30901699437494723f * t5;
+        float t19 = x2 + t18;
+        float t20 = 0.8090169943749476f * t4;
+        float t21 = t19 - t20;
+        float t22 = 0.913545457642601f * t21;
+        float t23 = x8 - x3;
+        float t24 = 0.9510565162951536f * t23;
+        float t25 = x14 - x9;
+        float t26 = 0.587785252292473f * t25;
+        float t27 = t24 + t26;
+        float t28 = 0.40673664307580015f * t27;
+        float t29 = t22 - t28;
+        float t30 = 0.30901699437494723f * t9;
+        float t31 = x4 + t30;
+        float t32 = 0.8090169943749476f * t8;
+        float t33 = t31 - t32;
+        float t34 = 0.6691306063588585f * t33;
+        float t35 = x10 - x1;
+        float t36 = 0.9510565162951536f * t35;
+        float t37 = x13 - x7;
+        float t38 = 0.587785252292473f * t37;
+        float t39 = t36 + t38;
+        float t40 = 0.743144825477394f * t39;
+        float t41 = t34 - t40;
+        float t42 = t29 + t41;
+        float t43 = t17 + t42;
+        float t44 = 0.9945218953682733f * t43;
+        float t45 = x6 - x5;
+        float t46 = 0.9510565162951536f * t45;
+        float t47 = x12 - x11;
+        float t48 = 0.587785252292473f * t47;
+        float t49 = t46 + t48;
+        float t50 = 0.913545457642601f * t27;
+        float t51 = 0.40673664307580015f * t21;
+        float t52 = t50 + t51;
+        float t53 = 0.6691306063588585f * t39;
+        float t54 = 0.743144825477394f * t33;
+        float t55 = t53 + t54;
+        float t56 = t52 + t55;
+        float t57 = t49 + t56;
+        float t58 = 0.1045284632676543f * t57;
+        float t59 = t44 - t58;
+        float t60 = 0.8090169943749476f * t1;
+        float t61 = x0 - t60;
+        float t62 = 0.30901699437494745f * t0;
+        float t63 = t61 + t62;
+        float t64 = 0.8090169943749476f * t5;
+        float t65 = x2 - t64;
+        float t66 = 0.30901699437494745f * t4;
+        float t67 = t65 + t66;
+        float t68 = 0.6691306063588585f * t67;
+        float t69 = 0.9510565162951535f * t25;
+        float t70 = 0.587785252292473f * t23;
+        float t71 = t69 - t70;
+        float t72 = 0.743144825477394f * t71;
+        float t73 = t68 + t72;
+        float t74 = 0.9510565162951535f * t37;
+        float t75 = 0.587785252292473f * t35;
+        float t76 = t74 - t75;
+        float t77 = 0.9945218953682733f * t76;
+        float t78 = 0.8090169943749476f * t9;
+        float t79 = x4 - t78;
+        float t80 = 0.30901699437494745f * t8;
+        float t81 = t79 + t80;
+        float t82 = 0.10452846326765423f * t81;
+        float t83 = t77 - t82;
+        float t84 = t73 + t83;
+        float t85 = t63 + t84;
+        float t86 = 0.9781476007338056f * t85;
+        float t87 = 0.9510565162951535f * t47;
+        float t88 = 0.587785252292473f * t45;
+        float t89 = t87 - t88;
+        float t90 = 0.6691306063588585f * t71;
+        float t91 = 0.743144825477394f * t67;
+        float t92 = t90 - t91;
+        float t93 = 0.10452846326765423f * t76;
+        float t94 = 0.9945218953682733f * t81;
+        float t95 = t93 + t94;
+        float t96 = t92 - t95;
+        float t97 = t89 + t96;
+        float t98 = 0.20791169081775987f * t97;
+        float t99 = t86 + t98;
+        float t100 = 0.30901699437494723f * t67;
+        float t101 = t70 - t69;
+        float t102 = 0.9510565162951536f * t101;
+        float t103 = t100 + t102;
+        float t104 = t75 - t74;
+        float t105 = 0.587785252292473f * t104;
+        float t106 = 0.8090169943749476f * t81;
+        float t107 = t105 - t106;
+        float t108 = t103 + t107;
+        float t109 = t63 + t108;
+        float t110 = 0.9510565162951535f * t109;
+        float t111 = t88 - t87;
+        float t112 = 0.30901699437494723f * t101;
+        float t113 = 0.9510565162951536f * t67;
+        float t114 = t112 - t113;
+        float t115 = 0.8090169943749476f * t104;
+        float t116 = 0.587785252292473f * t81;
+        float t117 = t115 + t116;
+        float t118 = t114 - t117;
+        float t119 = t111 + t118;
+        float t120 = 0.3090169943749476f * t119;
+        float t121 = t110 + t120;
+        float t122 = 0.9945218953682733f * t27;
+        float t123 = 0.10452846326765423f * t21;
+        float t124 = t122 - t123;
+        float t125 = 0.9781476007338057f * t33;
+        float t126 = 0.20791169081775931f * t39;
+        float t127 = t125 + t126;
+        float t128 = t124 - t127;
+        float t129 = t17 + t128;
+        float t130 = 0.913545457642601f * t129;
+        float t131 = 0.20791169081775931f * t33;
+        float t132 = 0.9781476007338057f * t39;
+        float t133 = t131 - t132;
+        float t134 = 0.10452846326765423f * t27;
+        float t135 = 0.9945218953682733f * t21;
+        float t136 = t134 + t135;
+        float t137 = t133 - t136;
+        float t138 = t49 + t137;
+        float t139 = 0.40673664307580015f * t138;
+        float t140 = t130 + t139;
+        float t141 = 0.5f * t12;
+        float t142 = t3 - t141;
+        float t143 = 0.8660254037844384f * t142;
+        float t144 = t7 - t11;
+        float t145 = 0.4330127018922192f * t144;
+        float t146 = t143 - t145;
+        float t147 = 0.5f * t42;
+        float t148 = t17 - t147;
+        float t149 = t55 - t52;
+        float t150 = 0.8660254037844384f * t149;
+        float t151 = t148 + t150;
+        float t152 = 0.8090169943749473f * t151;
+        float t153 = 0.5f * t56;
+        float t154 = t153 - t49;
+        float t155 = t29 - t41;
+        float t156 = 0.8660254037844384f * t155;
+        float t157 = t154 - t156;
+        float t158 = 0.5877852522924734f * t157;
+        float t159 = t152 + t158;
+        float t160 = 0.5f * t84;
+        float t161 = t63 - t160;
+        float t162 = t92 + t95;
+        float t163 = 0.8660254037844384f * t162;
+        float t164 = t161 + t163;
+        float t165 = 0.7431448254773937f * t164;
+        float t166 = 0.5f * t96;
+        float t167 = t89 - t166;
+        float t168 = t73 - t83;
+        float t169 = 0.8660254037844384f * t168;
+        float t170 = t167 - t169;
+        float t171 = 0.6691306063588588f * t170;
+        float t172 = t165 + t171;
+        float t173 = 0.5f * t108;
+        float t174 = t63 - t173;
+        float t175 = t114 + t117;
+        float t176 = 0.8660254037844384f * t175;
+        float t177 = t174 + t176;
+        float t178 = 0.6691306063588585f * t177;
+        float t179 = 0.5f * t118;
+        float t180 = t111 - t179;
+        float t181 = t103 - t107;
+        float t182 = 0.8660254037844384f * t181;
+        float t183 = t180 - t182;
+        float t184 = 0.743144825477394f * t183;
+        float t185 = t178 + t184;
+        float t186 = 0.5f * t128;
+        float t187 = t17 - t186;
+        float t188 = t136 + t133;
+        float t189 = 0.8660254037844384f * t188;
+        float t190 = t187 - t189;
+        float t191 = 0.5877852522924729f * t190;
+        float t192 = 0.5f * t137;
+        float t193 = t49 - t192;
+        float t194 = t124 + t127;
+        float t195 = 0.8660254037844384f * t194;
+        float t196 = t193 - t195;
+        float t197 = 0.8090169943749476f * t196;
+        float t198 = t191 + t197;
+        float t199 = 0.5f * t142;
+        float t200 = 0.7499999999999997f * t144;
+        float t201 = t199 + t200;
+        float t202 = t148 - t150;
+        float t203 = 0.40673664307579976f * t202;
+        float t204 = t154 + t156;
+        float t205 = 0.9135454576426011f * t204;
+        float t206 = t203 + t205;
+        float t207 = t161 - t163;
+        float t208 = 0.30901699437494723f * t207;
+        float t209 = t167 + t169;
+        float t210 = 0.9510565162951536f * t209;
+        float t211 = t208 + t210;
+        float t212 = t174 - t176;
+        float t213 = 0.20791169081775943f * t212;
+        float t214 = t180 + t182;
+        float t215 = 0.9781476007338056f * t214;
+        float t216 = t213 + t215;
+        float t217 = t187 + t189;
+        float t218 = 0.10452846326765387f * t217;
+        float t219 = t193 + t195;
+        float t220 = 0.9945218953682733f * t219;
+        float t221 = t218 + t220;
+        a[offa] = t13;
+        a[offa + 1] = t59;
+        a[offa + 2] = t99;
+        a[offa + 3] = t121;
+        a[offa + 4] = t140;
+        a[offa + 5] = t146;
+        a[offa + 6] = t159;
+        a[offa + 7] = t172;
+        a[offa + 8] = t185;
+        a[offa + 9] = t198;
+        a[offa + 10] = t201;
+        a[offa + 11] = t206;
+        a[offa + 12] = t211;
+        a[offa + 13] = t216;
+        a[offa + 14] = t221;
+    }
+
+    static void dct2_16(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float x13 = a[offa + 13];
+        float x14 = a[offa + 14];
+        float x15 = a[offa + 15];
+        float t0 = x0 + x15;
+        float t1 = x8 + x7;
+        float t2 = t0 + t1;
+        float t3 = x4 + x11;
+        float t4 = x12 + x3;
+        float t5 = t3 + t4;
+        float t6 = t2 + t5;
+        float t7 = x2 + x13;
+        float t8 = x10 + x5;
+        float t9 = t7 + t8;
+        float t10 = x6 + x9;
+        float t11 = x14 + x1;
+        float t12 = t10 + t11;
+        float t13 = t9 + t12;
+        float t14 = t6 + t13;
+        float t15 = x0 - x15;
+        float t16 = x4 - x11;
+        float t17 = x3 - x12;
+        float t18 = t16 + t17;
+        float t19 = 0.7071067811865476f * t18;
+        float t20 = t15 + t19;
+        float t21 = x2 - x13;
+        float t22 = 0.9238795325112865f * t21;
+        float t23 = x5 - x10;
+        float t24 = 0.3826834323650904f * t23;
+        float t25 = t22 + t24;
+        float t26 = x6 - x9;
+        float t27 = 0.38268343236509f * t26;
+        float t28 = x1 - x14;
+        float t29 = 0.9238795325112866f * t28;
+        float t30 = t27 + t29;
+        float t31 = t25 + t30;
+        float t32 = t20 + t31;
+        float t33 = 0.9951847266721969f * t32;
+        float t34 = x7 - x8;
+        float t35 = t17 - t16;
+        float t36 = 0.7071067811865476f * t35;
+        float t37 = t34 + t36;
+        float t38 = 0.9238795325112865f * t23;
+        float t39 = 0.3826834323650904f * t21;
+        float t40 = t38 - t39;
+        float t41 = 0.38268343236509f * t28;
+        float t42 = 0.9238795325112866f * t26;
+        float t43 = t41 - t42;
+        float t44 = t40 + t43;
+        float t45 = t37 + t44;
+        float t46 = 0.0980171403295605f * t45;
+        float t47 = t33 + t46;
+        float t48 = t0 - t1;
+        float t49 = t7 - t8;
+        float t50 = 0.7071067811865476f * t49;
+        float t51 = t10 - t11;
+        float t52 = 0.7071067811865476f * t51;
+        float t53 = t50 - t52;
+        float t54 = t48 + t53;
+        float t55 = 0.9807852804032303f * t54;
+        float t56 = t4 - t3;
+        float t57 = t8 - t7;
+        float t58 = 0.7071067811865476f * t57;
+        float t59 = t58 - t52;
+        float t60 = t56 + t59;
+        float t61 = 0.19509032201612872f * t60;
+        float t62 = t55 + t61;
+        float t63 = x12 - x3;
+        float t64 = t16 - t63;
+        float t65 = 0.7071067811865476f * t64;
+        float t66 = t15 - t65;
+        float t67 = 0.38268343236509f * t21;
+        float t68 = x10 - x5;
+        float t69 = 0.9238795325112866f * t68;
+        float t70 = t67 + t69;
+        float t71 = 0.9238795325112867f * t26;
+        float t72 = x14 - x1;
+        float t73 = 0.3826834323650899f * t72;
+        float t74 = t71 + t73;
+        float t75 = t70 - t74;
+        float t76 = t66 + t75;
+        float t77 = 0.9569403357322088f * t76;
+        float t78 = x8 - x7;
+        float t79 = t16 + t63;
+        float t80 = 0.7071067811865476f * t79;
+        float t81 = t78 - t80;
+        float t82 = 0.38268343236509f * t68;
+        float t83 = 0.9238795325112866f * t21;
+        float t84 = t82 - t83;
+        float t85 = 0.3826834323650899f * t26;
+        float t86 = 0.9238795325112867f * t72;
+        float t87 = t85 - t86;
+        float t88 = t84 + t87;
+        float t89 = t81 + t88;
+        float t90 = 0.2902846772544625f * t89;
+        float t91 = t77 + t90;
+        float t92 = t2 - t5;
+        float t93 = 0.9238795325112865f * t92;
+        float t94 = t12 - t9;
+        float t95 = 0.3826834323650904f * t94;
+        float t96 = t93 + t95;
+        float t97 = t15 - t19;
+        float t98 = t40 - t43;
+        float t99 = t97 + t98;
+        float t100 = 0.8819212643483548f * t99;
+        float t101 = t34 - t36;
+        float t102 = t30 - t25;
+        float t103 = t101 + t102;
+        float t104 = 0.4713967368259979f * t103;
+        float t105 = t100 + t104;
+        float t106 = t58 + t52;
+        float t107 = t48 + t106;
+        float t108 = 0.8314696123025452f * t107;
+        float t109 = t3 - t4;
+        float t110 = t50 + t52;
+        float t111 = t109 - t110;
+        float t112 = 0.5555702330196022f * t111;
+        float t113 = t108 + t112;
+        float t114 = t15 + t65;
+        float t115 = t84 - t87;
+        float t116 = t114 + t115;
+        float t117 = 0.7730104533627367f * t116;
+        float t118 = t78 + t80;
+        float t119 = t70 + t74;
+        float t120 = t118 - t119;
+        float t121 = 0.6343932841636459f * t120;
+        float t122 = t117 + t121;
+        float t123 = t6 - t13;
+        float t124 = 0.7071067811865476f * t123;
+        float t125 = t20 - t31;
+        float t126 = 0.6343932841636456f * t125;
+        float t127 = t37 - t44;
+        float t128 = 0.7730104533627369f * t127;
+        float t129 = t126 + t128;
+        float t130 = t48 - t53;
+        float t131 = 0.5555702330196018f * t130;
+        float t132 = t56 - t59;
+        float t133 = 0.8314696123025455f * t132;
+        float t134 = t131 + t133;
+        float t135 = t66 - t75;
+        float t136 = 0.4713967368259976f * t135;
+        float t137 = t81 - t88;
+        float t138 = 0.881921264348355f * t137;
+        float t139 = t136 + t138;
+        float t140 = 0.38268343236509f * t92;
+        float t141 = t9 - t12;
+        float t142 = 0.9238795325112866f * t141;
+        float t143 = t140 + t142;
+        float t144 = t97 - t98;
+        float t145 = 0.29028467725446205f * t144;
+        float t146 = t101 - t102;
+        float t147 = 0.9569403357322089f * t146;
+        float t148 = t145 + t147;
+        float t149 = t48 - t106;
+        float t150 = 0.1950903220161283f * t149;
+        float t151 = t109 + t110;
+        float t152 = 0.9807852804032304f * t151;
+        float t153 = t150 + t152;
+        float t154 = t114 - t115;
+        float t155 = 0.09801714032956009f * t154;
+        float t156 = t118 + t119;
+        float t157 = 0.9951847266721969f * t156;
+        float t158 = t155 + t157;
+        a[offa] = t14;
+        a[offa + 1] = t47;
+        a[offa + 2] = t62;
+        a[offa + 3] = t91;
+        a[offa + 4] = t96;
+        a[offa + 5] = t105;
+        a[offa + 6] = t113;
+        a[offa + 7] = t122;
+        a[offa + 8] = t124;
+        a[offa + 9] = t129;
+        a[offa + 10] = t134;
+        a[offa + 11] = t139;
+        a[offa + 12] = t143;
+        a[offa + 13] = t148;
+        a[offa + 14] = t153;
+        a[offa + 15] = t158;
+    }
+
+    static void dct2_18(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float x13 = a[offa + 13];
+        float x14 = a[offa + 14];
+        float x15 = a[offa + 15];
+        float x16 = a[offa + 16];
+        float x17 = a[offa + 17];
+        float t0 = x12 + x11;
+        float t1 = x0 + t0;
+        float t2 = x16 + x7;
+        float t3 = x4 + t2;
+        float t4 = x3 + x15;
+        float t5 = x8 + t4;
+        float t6 = t3 + t5;
+        float t7 = t1 + t6;
+        float t8 = x14 + x9;
+        float t9 = x2 + t8;
+        float t10 = x5 + x17;
+        float t11 = x6 + t10;
+        float t12 = x1 + x13;
+        float t13 = x10 + t12;
+        float t14 = t11 + t13;
+        float t15 = t9 + t14;
+        float t16 = t7 + t15;
+        float t17 = 0.5f * t0;
+        float t18 = x0 - t17;
+        float t19 = 0.5f * t2;
+        float t20 = x4 - t19;
+        float t21 = 0.7660444431189778f * t20;
+        float t22 = x16 - x7;
+        float t23 = 0.5566703992264194f * t22;
+        float t24 = t21 - t23;
+        float t25 = 0.5f * t4;
+        float t26 = x8 - t25;
+        float t27 = 0.17364817766692997f * t26;
+        float t28 = x15 - x3;
+        float t29 = 0.852868531952443f * t28;
+        float t30 = t27 - t29;
+        float t31 = t24 + t30;
+        float t32 = t18 + t31;
+        float t33 = 0.5f * t8;
+        float t34 = x2 - t33;
+        float t35 = 0.5f * t10;
+        float t36 = x6 - t35;
+        float t37 = 0.7660444431189778f * t36;
+        float t38 = x17 - x5;
+        float t39 = 0.5566703992264194f * t38;
+        float t40 = t37 - t39;
+        float t41 = 0.5f * t12;
+        float t42 = x10 - t41;
+        float t43 = 0.17364817766692997f * t42;
+        float t44 = x13 - x1;
+        float t45 = 0.852868531952443f * t44;
+        float t46 = t43 - t45;
+        float t47 = t40 + t46;
+        float t48 = t34 + t47;
+        float t49 = 0.9396926207859081f * t48;
+        float t50 = x14 - x9;
+        float t51 = 0.8660254037844384f * t50;
+        float t52 = 0.663413948168938f * t38;
+        float t53 = 0.6427876096865396f * t36;
+        float t54 = t52 + t53;
+        float t55 = 0.1503837331804349f * t44;
+        float t56 = 0.9848077530122081f * t42;
+        float t57 = t55 + t56;
+        float t58 = t54 + t57;
+        float t59 = t51 + t58;
+        float t60 = 0.34202014332566943f * t59;
+        float t61 = t49 - t60;
+        float t62 = t32 + t61;
+        float t63 = 0.9961946980917455f * t62;
+        float t64 = x12 - x11;
+        float t65 = 0.8660254037844384f * t64;
+        float t66 = 0.663413948168938f * t22;
+        float t67 = 0.6427876096865396f * t20;
+        float t68 = t66 + t67;
+        float t69 = 0.1503837331804349f * t28;
+        float t70 = 0.9848077530122081f * t26;
+        float t71 = t69 + t70;
+        float t72 = t68 + t71;
+        float t73 = t65 + t72;
+        float t74 = 0.9396926207859081f * t59;
+        float t75 = 0.34202014332566943f * t48;
+        float t76 = t74 + t75;
+        float t77 = t73 + t76;
+        float t78 = 0.08715574274765832f * t77;
+        float t79 = t63 - t78;
+        float t80 = 0.17364817766692997f * t20;
+        float t81 = 0.852868531952443f * t22;
+        float t82 = t80 + t81;
+        float t83 = 0.2961981327260237f * t28;
+        float t84 = 0.9396926207859084f * t26;
+        float t85 = t83 - t84;
+        float t86 = t82 + t85;
+        float t87 = t18 + t86;
+        float t88 = 0.17364817766692997f * t36;
+        float t89 = 0.852868531952443f * t38;
+        float t90 = t88 + t89;
+        float t91 = 0.2961981327260237f * t44;
+        float t92 = 0.9396926207859084f * t42;
+        float t93 = t91 - t92;
+        float t94 = t90 + t93;
+        float t95 = t34 + t94;
+        float t96 = 0.7660444431189778f * t95;
+        float t97 = 0.1503837331804349f * t38;
+        float t98 = 0.9848077530122081f * t36;
+        float t99 = t97 - t98;
+        float t100 = 0.8137976813493735f * t44;
+        float t101 = 0.34202014332566866f * t42;
+        float t102 = t100 + t101;
+        float t103 = t99 - t102;
+        float t104 = t51 + t103;
+        float t105 = 0.6427876096865396f * t104;
+        float t106 = t96 + t105;
+        float t107 = t87 + t106;
+        float t108 = 0.984807753012208f * t107;
+        float t109 = 0.1503837331804349f * t22;
+        float t110 = 0.9848077530122081f * t20;
+        float t111 = t109 - t110;
+        float t112 = 0.8137976813493735f * t28;
+        float t113 = 0.34202014332566866f * t26;
+        float t114 = t112 + t113;
+        float t115 = t111 - t114;
+        float t116 = t65 + t115;
+        float t117 = 0.7660444431189778f * t104;
+        float t118 = 0.6427876096865396f * t95;
+        float t119 = t117 - t118;
+        float t120 = t116 + t119;
+        float t121 = 0.1736481776669304f * t120;
+        float t122 = t108 + t121;
+        float t123 = 0.5f * t6;
+        float t124 = t1 - t123;
+        float t125 = 0.5f * t14;
+        float t126 = t9 - t125;
+        float t127 = 0.5f * t126;
+        float t128 = t11 - t13;
+        float t129 = 0.7499999999999997f * t128;
+        float t130 = t127 - t129;
+        float t131 = t124 + t130;
+        float t132 = 0.9659258262890683f * t131;
+        float t133 = t3 - t5;
+        float t134 = 0.8660254037844384f * t133;
+        float t135 = 0.4330127018922192f * t128;
+        float t136 = 0.8660254037844386f * t126;
+        float t137 = t135 + t136;
+        float t138 = t134 + t137;
+        float t139 = 0.2588190451025207f * t138;
+        float t140 = t132 - t139;
+        float t141 = 0.5f * t31;
+        float t142 = t18 - t141;
+        float t143 = t71 - t68;
+        float t144 = 0.8660254037844384f * t143;
+        float t145 = t142 + t144;
+        float t146 = 0.5f * t47;
+        float t147 = t34 - t146;
+        float t148 = t57 - t54;
+        float t149 = 0.8660254037844384f * t148;
+        float t150 = t147 + t149;
+        float t151 = 0.17364817766692997f * t150;
+        float t152 = 0.5f * t58;
+        float t153 = t152 - t51;
+        float t154 = t40 - t46;
+        float t155 = 0.8660254037844384f * t154;
+        float t156 = t153 - t155;
+        float t157 = 0.9848077530122081f * t156;
+        float t158 = t151 + t157;
+        float t159 = t145 + t158;
+        float t160 = 0.9396926207859081f * t159;
+        float t161 = 0.5f * t72;
+        float t162 = t161 - t65;
+        float t163 = t24 - t30;
+        float t164 = 0.8660254037844384f * t163;
+        float t165 = t162 - t164;
+        float t166 = 0.17364817766692997f * t156;
+        float t167 = 0.9848077530122081f * t150;
+        float t168 = t166 - t167;
+        float t169 = t165 + t168;
+        float t170 = 0.34202014332566943f * t169;
+        float t171 = t160 + t170;
+        float t172 = 0.5f * t86;
+        float t173 = t18 - t172;
+        float t174 = t111 + t114;
+        float t175 = 0.8660254037844384f * t174;
+        float t176 = t173 + t175;
+        float t177 = 0.5f * t103;
+        float t178 = t51 - t177;
+        float t179 = t90 - t93;
+        float t180 = 0.8660254037844384f * t179;
+        float t181 = t178 - t180;
+        float t182 = 0.984807753012208f * t181;
+        float t183 = 0.5f * t94;
+        float t184 = t34 - t183;
+        float t185 = t99 + t102;
+        float t186 = 0.8660254037844384f * t185;
+        float t187 = t184 + t186;
+        float t188 = 0.17364817766693033f * t187;
+        float t189 = t182 - t188;
+        float t190 = t176 + t189;
+        float t191 = 0.90630778703665f * t190;
+        float t192 = 0.5f * t115;
+        float t193 = t65 - t192;
+        float t194 = t82 - t85;
+        float t195 = 0.8660254037844384f * t194;
+        float t196 = t193 - t195;
+        float t197 = 0.17364817766693033f * t181;
+        float t198 = 0.984807753012208f * t187;
+        float t199 = t197 + t198;
+        float t200 = t196 - t199;
+        float t201 = 0.4226182617406992f * t200;
+        float t202 = t191 + t201;
+        float t203 = 0.7499999999999996f * t128;
+        float t204 = t203 - t127;
+        float t205 = t124 + t204;
+        float t206 = 0.8660254037844384f * t205;
+        float t207 = 0.8660254037844384f * t126;
+        float t208 = t135 + t207;
+        float t209 = t134 - t208;
+        float t210 = 0.5f * t209;
+        float t211 = t206 + t210;
+        float t212 = t142 - t144;
+        float t213 = t153 + t155;
+        float t214 = 0.6427876096865393f * t213;
+        float t215 = t147 - t149;
+        float t216 = 0.766044443118978f * t215;
+        float t217 = t214 - t216;
+        float t218 = t212 + t217;
+        float t219 = 0.8191520442889916f * t218;
+        float t220 = t162 + t164;
+        float t221 = 0.766044443118978f * t213;
+        float t222 = 0.6427876096865393f * t215;
+        float t223 = t221 + t222;
+        float t224 = t220 - t223;
+        float t225 = 0.5735764363510465f * t224;
+        float t226 = t219 + t225;
+        float t227 = t173 - t175;
+        float t228 = t178 + t180;
+        float t229 = 0.34202014332566866f * t228;
+        float t230 = t184 - t186;
+        float t231 = 0.9396926207859084f * t230;
+        float t232 = t229 - t231;
+        float t233 = t227 + t232;
+        float t234 = 0.7660444431189778f * t233;
+        float t235 = t193 + t195;
+        float t236 = 0.9396926207859084f * t228;
+        float t237 = 0.34202014332566866f * t230;
+        float t238 = t236 + t237;
+        float t239 = t235 - t238;
+        float t240 = 0.6427876096865396f * t239;
+        float t241 = t234 + t240;
+        float t242 = t7 - t15;
+        float t243 = 0.7071067811865476f * t242;
+        float t244 = t32 - t61;
+        float t245 = 0.6427876096865393f * t244;
+        float t246 = t76 - t73;
+        float t247 = 0.7660444431189781f * t246;
+        float t248 = t245 + t247;
+        float t249 = t87 - t106;
+        float t250 = 0.573576436351046f * t249;
+        float t251 = t116 - t119;
+        float t252 = 0.8191520442889918f * t251;
+        float t253 = t250 + t252;
+        float t254 = t124 - t130;
+        float t255 = 0.5f * t254;
+        float t256 = t137 - t134;
+        float t257 = 0.8660254037844386f * t256;
+        float t258 = t255 + t257;
+        float t259 = t145 - t158;
+        float t260 = 0.42261826174069883f * t259;
+        float t261 = t165 - t168;
+        float t262 = 0.9063077870366503f * t261;
+        float t263 = t260 + t262;
+        float t264 = t176 - t189;
+        float t265 = 0.342020143325669f * t264;
+        float t266 = t196 + t199;
+        float t267 = 0.9396926207859083f * t266;
+        float t268 = t265 + t267;
+        float t269 = t124 - t204;
+        float t270 = 0.2588190451025203f * t269;
+        float t271 = t134 + t208;
+        float t272 = 0.9659258262890684f * t271;
+        float t273 = t270 + t272;
+        float t274 = t212 - t217;
+        float t275 = 0.17364817766692997f * t274;
+        float t276 = t220 + t223;
+        float t277 = 0.9848077530122081f * t276;
+        float t278 = t275 + t277;
+        float t279 = t227 - t232;
+        float t280 = 0.08715574274765789f * t279;
+        float t281 = t235 + t238;
+        float t282 = 0.9961946980917455f * t281;
+        float t283 = t280 + t282;
+        a[offa] = t16;
+        a[offa + 1] = t79;
+        a[offa + 2] = t122;
+        a[offa + 3] = t140;
+        a[offa + 4] = t171;
+        a[offa + 5] = t202;
+        a[offa + 6] = t211;
+        a[offa + 7] = t226;
+        a[offa + 8] = t241;
+        a[offa + 9] = t243;
+        a[offa + 10] = t248;
+        a[offa + 11] = t253;
+        a[offa + 12] = t258;
+        a[offa + 13] = t263;
+        a[offa + 14] = t268;
+        a[offa + 15] = t273;
+        a[offa + 16] = t278;
+        a[offa + 17] = t283;
+    }
+
+    static void dct2_20(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float x13 = a[offa + 13];
+        float x14 = a[offa + 14];
+        float x15 = a[offa + 15];
+        float x16 = a[offa + 16];
+        float x17 = a[offa + 17];
+        float x18 = a[offa + 18];
+        float x19 = a[offa + 19];
+        float t0 = x16 + x15;
+        float t1 = x8 + x7;
+        float t2 = x0 + t1;
+        float t3 = t0 + t2;
+        float t4 = x11 + x19;
+        float t5 = x12 + x3;
+        float t6 = x4 + t5;
+        float t7 = t4 + t6;
+        float t8 = t3 + t7;
+        float t9 = x18 + x13;
+        float t10 = x10 + x5;
+        float t11 = x2 + t10;
+        float t12 = t9 + t11;
+        float t13 = x9 + x17;
+        float t14 = x14 + x1;
+        float t15 = x6 + t14;
+        float t16 = t13 + t15;
+        float t17 = t12 + t16;
+        float t18 = t8 + t17;
+        float t19 = 0.30901699437494723f * t1;
+        float t20 = x0 + t19;
+        float t21 = 0.8090169943749476f * t0;
+        float t22 = t20 - t21;
+        float t23 = 0.30901699437494723f * t5;
+        float t24 = x4 + t23;
+        float t25 = 0.8090169943749476f * t4;
+        float t26 = t24 - t25;
+        float t27 = 0.8090169943749473f * t26;
+        float t28 = x12 - x3;
+        float t29 = 0.9510565162951536f * t28;
+        float t30 = x19 - x11;
+        float t31 = 0.587785252292473f * t30;
+        float t32 = t29 + t31;
+        float t33 = 0.5877852522924734f * t32;
+        float t34 = t27 - t33;
+        float t35 = t22 + t34;
+        float t36 = 0.30901699437494723f * t10;
+        float t37 = x2 + t36;
+        float t38 = 0.8090169943749476f * t9;
+        float t39 = t37 - t38;
+        float t40 = 0.9510565162951535f * t39;
+        float t41 = x10 - x5;
+        float t42 = 0.9510565162951536f * t41;
+        float t43 = x18 - x13;
+        float t44 = 0.587785252292473f * t43;
+        float t45 = t42 + t44;
+        float t46 = 0.3090169943749476f * t45;
+        float t47 = t40 - t46;
+        float t48 = 0.30901699437494723f * t14;
+        float t49 = x6 + t48;
+        float t50 = 0.8090169943749476f * t13;
+        float t51 = t49 - t50;
+        float t52 = 0.5877852522924729f * t51;
+        float t53 = x14 - x1;
+        float t54 = 0.9510565162951536f * t53;
+        float t55 = x17 - x9;
+        float t56 = 0.587785252292473f * t55;
+        float t57 = t54 + t56;
+        float t58 = 0.8090169943749476f * t57;
+        float t59 = t52 - t58;
+        float t60 = t47 + t59;
+        float t61 = t35 + t60;
+        float t62 = 0.996917333733128f * t61;
+        float t63 = x8 - x7;
+        float t64 = 0.9510565162951536f * t63;
+        float t65 = x16 - x15;
+        float t66 = 0.587785252292473f * t65;
+        float t67 = t64 + t66;
+        float t68 = 0.8090169943749473f * t32;
+        float t69 = 0.5877852522924734f * t26;
+        float t70 = t68 + t69;
+        float t71 = t67 + t70;
+        float t72 = 0.9510565162951535f * t45;
+        float t73 = 0.3090169943749476f * t39;
+        float t74 = t72 + t73;
+        float t75 = 0.5877852522924729f * t57;
+        float t76 = 0.8090169943749476f * t51;
+        float t77 = t75 + t76;
+        float t78 = t74 + t77;
+        float t79 = t71 + t78;
+        float t80 = 0.07845909572784475f * t79;
+        float t81 = t62 - t80;
+        float t82 = 0.8090169943749476f * t1;
+        float t83 = x0 - t82;
+        float t84 = 0.30901699437494745f * t0;
+        float t85 = t83 + t84;
+        float t86 = 0.8090169943749476f * t5;
+        float t87 = x4 - t86;
+        float t88 = 0.30901699437494745f * t4;
+        float t89 = t87 + t88;
+        float t90 = 0.30901699437494723f * t89;
+        float t91 = 0.9510565162951535f * t30;
+        float t92 = 0.587785252292473f * t28;
+        float t93 = t91 - t92;
+        float t94 = 0.9510565162951536f * t93;
+        float t95 = t90 + t94;
+        float t96 = t85 + t95;
+        float t97 = 0.8090169943749476f * t10;
+        float t98 = x2 - t97;
+        float t99 = 0.30901699437494745f * t9;
+        float t100 = t98 + t99;
+        float t101 = 0.8090169943749473f * t100;
+        float t102 = 0.9510565162951535f * t43;
+        float t103 = 0.587785252292473f * t41;
+        float t104 = t102 - t103;
+        float t105 = 0.5877852522924734f * t104;
+        float t106 = t101 + t105;
+        float t107 = 0.9510565162951535f * t55;
+        float t108 = 0.587785252292473f * t53;
+        float t109 = t107 - t108;
+        float t110 = 0.9510565162951535f * t109;
+        float t111 = 0.8090169943749476f * t14;
+        float t112 = x6 - t111;
+        float t113 = 0.30901699437494745f * t13;
+        float t114 = t112 + t113;
+        float t115 = 0.30901699437494756f * t114;
+        float t116 = t110 - t115;
+        float t117 = t106 + t116;
+        float t118 = t96 + t117;
+        float t119 = 0.9876883405951377f * t118;
+        float t120 = 0.9510565162951535f * t65;
+        float t121 = 0.587785252292473f * t63;
+        float t122 = t120 - t121;
+        float t123 = 0.30901699437494723f * t93;
+        float t124 = 0.9510565162951536f * t89;
+        float t125 = t123 - t124;
+        float t126 = t122 + t125;
+        float t127 = 0.8090169943749473f * t104;
+        float t128 = 0.5877852522924734f * t100;
+        float t129 = t127 - t128;
+        float t130 = 0.30901699437494756f * t109;
+        float t131 = 0.9510565162951535f * t114;
+        float t132 = t130 + t131;
+        float t133 = t129 - t132;
+        float t134 = t126 + t133;
+        float t135 = 0.15643446504023112f * t134;
+        float t136 = t119 + t135;
+        float t137 = t92 - t91;
+        float t138 = 0.9510565162951535f * t137;
+        float t139 = 0.30901699437494756f * t89;
+        float t140 = t138 - t139;
+        float t141 = t85 + t140;
+        float t142 = 0.5877852522924729f * t100;
+        float t143 = t103 - t102;
+        float t144 = 0.8090169943749476f * t143;
+        float t145 = t142 + t144;
+        float t146 = t108 - t107;
+        float t147 = 0.30901699437494773f * t146;
+        float t148 = t147 - t131;
+        float t149 = t145 + t148;
+        float t150 = t141 + t149;
+        float t151 = 0.9723699203976767f * t150;
+        float t152 = t121 - t120;
+        float t153 = 0.30901699437494756f * t137;
+        float t154 = 0.9510565162951535f * t89;
+        float t155 = t153 + t154;
+        float t156 = t152 - t155;
+        float t157 = 0.5877852522924729f * t143;
+        float t158 = 0.8090169943749476f * t100;
+        float t159 = t157 - t158;
+        float t160 = 0.9510565162951535f * t146;
+        float t161 = 0.30901699437494773f * t114;
+        float t162 = t160 + t161;
+        float t163 = t159 - t162;
+        float t164 = t156 + t163;
+        float t165 = 0.2334453638559052f * t164;
+        float t166 = t151 + t165;
+        float t167 = 0.587785252292473f * t32;
+        float t168 = 0.8090169943749476f * t26;
+        float t169 = t167 - t168;
+        float t170 = t22 + t169;
+        float t171 = 0.30901699437494723f * t39;
+        float t172 = 0.9510565162951536f * t45;
+        float t173 = t171 + t172;
+        float t174 = 0.8090169943749473f * t51;
+        float t175 = 0.5877852522924732f * t57;
+        float t176 = t174 + t175;
+        float t177 = t173 - t176;
+        float t178 = t170 + t177;
+        float t179 = 0.9510565162951535f * t178;
+        float t180 = 0.8090169943749476f * t32;
+        float t181 = 0.587785252292473f * t26;
+        float t182 = t180 + t181;
+        float t183 = t67 - t182;
+        float t184 = 0.30901699437494723f * t45;
+        float t185 = 0.9510565162951536f * t39;
+        float t186 = t184 - t185;
+        float t187 = 0.5877852522924732f * t51;
+        float t188 = 0.8090169943749473f * t57;
+        float t189 = t187 - t188;
+        float t190 = t186 + t189;
+        float t191 = t183 + t190;
+        float t192 = 0.3090169943749476f * t191;
+        float t193 = t179 + t192;
+        float t194 = t3 - t7;
+        float t195 = 0.9238795325112865f * t194;
+        float t196 = t16 - t12;
+        float t197 = 0.3826834323650904f * t196;
+        float t198 = t195 + t197;
+        float t199 = t22 - t34;
+        float t200 = t77 - t74;
+        float t201 = t199 + t200;
+        float t202 = 0.8910065241883678f * t201;
+        float t203 = t70 - t67;
+        float t204 = t59 - t47;
+        float t205 = t203 + t204;
+        float t206 = 0.45399049973954697f * t205;
+        float t207 = t202 + t206;
+        float t208 = t85 - t95;
+        float t209 = t129 + t132;
+        float t210 = t208 + t209;
+        float t211 = 0.8526401643540918f * t210;
+        float t212 = t122 - t125;
+        float t213 = t116 - t106;
+        float t214 = t212 + t213;
+        float t215 = 0.5224985647159495f * t214;
+        float t216 = t211 + t215;
+        float t217 = t85 - t140;
+        float t218 = t159 + t162;
+        float t219 = t217 + t218;
+        float t220 = 0.8090169943749473f * t219;
+        float t221 = t152 + t155;
+        float t222 = t148 - t145;
+        float t223 = t221 + t222;
+        float t224 = 0.5877852522924734f * t223;
+        float t225 = t220 + t224;
+        float t226 = t22 - t169;
+        float t227 = t186 - t189;
+        float t228 = t226 + t227;
+        float t229 = 0.7604059656000305f * t228;
+        float t230 = t67 + t182;
+        float t231 = t173 + t176;
+        float t232 = t230 - t231;
+        float t233 = 0.6494480483301842f * t232;
+        float t234 = t229 + t233;
+        float t235 = t8 - t17;
+        float t236 = 0.7071067811865476f * t235;
+        float t237 = t35 - t60;
+        float t238 = 0.6494480483301839f * t237;
+        float t239 = t78 - t71;
+        float t240 = 0.7604059656000308f * t239;
+        float t241 = t238 + t240;
+        float t242 = t96 - t117;
+        float t243 = 0.5877852522924729f * t242;
+        float t244 = t126 - t133;
+        float t245 = 0.8090169943749476f * t244;
+        float t246 = t243 + t245;
+        float t247 = t141 - t149;
+        float t248 = 0.522498564715949f * t247;
+        float t249 = t156 - t163;
+        float t250 = 0.8526401643540921f * t249;
+        float t251 = t248 + t250;
+        float t252 = t170 - t177;
+        float t253 = 0.45399049973954664f * t252;
+        float t254 = t183 - t190;
+        float t255 = 0.891006524188368f * t254;
+        float t256 = t253 + t255;
+        float t257 = 0.38268343236509f * t194;
+        float t258 = t12 - t16;
+        float t259 = 0.9238795325112866f * t258;
+        float t260 = t257 + t259;
+        float t261 = t199 - t200;
+        float t262 = 0.30901699437494723f * t261;
+        float t263 = t203 - t204;
+        float t264 = 0.9510565162951536f * t263;
+        float t265 = t262 + t264;
+        float t266 = t208 - t209;
+        float t267 = 0.23344536385590478f * t266;
+        float t268 = t212 - t213;
+        float t269 = 0.9723699203976768f * t268;
+        float t270 = t267 + t269;
+        float t271 = t217 - t218;
+        float t272 = 0.15643446504023067f * t271;
+        float t273 = t221 - t222;
+        float t274 = 0.9876883405951378f * t273;
+        float t275 = t272 + t274;
+        float t276 = t226 - t227;
+        float t277 = 0.07845909572784432f * t276;
+        float t278 = t230 + t231;
+        float t279 = 0.9969173337331281f * t278;
+        float t280 = t277 + t279;
+        a[offa] = t18;
+        a[offa + 1] = t81;
+        a[offa + 2] = t136;
+        a[offa + 3] = t166;
+        a[offa + 4] = t193;
+        a[offa + 5] = t198;
+        a[offa + 6] = t207;
+        a[offa + 7] = t216;
+        a[offa + 8] = t225;
+        a[offa + 9] = t234;
+        a[offa + 10] = t236;
+        a[offa + 11] = t241;
+        a[offa + 12] = t246;
+        a[offa + 13] = t251;
+        a[offa + 14] = t256;
+        a[offa + 15] = t260;
+        a[offa + 16] = t265;
+        a[offa + 17] = t270;
+        a[offa + 18] = t275;
+        a[offa + 19] = t280;
+    }
+
+    static void dct2_24(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float x13 = a[offa + 13];
+        float x14 = a[offa + 14];
+        float x15 = a[offa + 15];
+        float x16 = a[offa + 16];
+        float x17 = a[offa + 17];
+        float x18 = a[offa + 18];
+        float x19 = a[offa + 19];
+        float x20 = a[offa + 20];
+        float x21 = a[offa + 21];
+        float x22 = a[offa + 22];
+        float x23 = a[offa + 23];
+        float t0 = x16 + x15;
+        float t1 = x0 + t0;
+        float t2 = x7 + x23;
+        float t3 = x8 + t2;
+        float t4 = t1 + t3;
+        float t5 = x20 + x11;
+        float t6 = x4 + t5;
+        float t7 = x3 + x19;
+        float t8 = x12 + t7;
+        float t9 = t6 + t8;
+        float t10 = t4 + t9;
+        float t11 = x18 + x13;
+        float t12 = x2 + t11;
+        float t13 = x5 + x21;
+        float t14 = x10 + t13;
+        float t15 = t12 + t14;
+        float t16 = x22 + x9;
+        float t17 = x6 + t16;
+        float t18 = x1 + x17;
+        float t19 = x14 + t18;
+        float t20 = t17 + t19;
+        float t21 = t15 + t20;
+        float t22 = t10 + t21;
+        float t23 = 0.5f * t0;
+        float t24 = x0 - t23;
+        float t25 = 0.5f * t2;
+        float t26 = x8 - t25;
+        float t27 = 0.5f * t26;
+        float t28 = x23 - x7;
+        float t29 = 0.7499999999999997f * t28;
+        float t30 = t27 - t29;
+        float t31 = t24 + t30;
+        float t32 = 0.5f * t5;
+        float t33 = x4 - t32;
+        float t34 = 0.5f * t7;
+        float t35 = x12 - t34;
+        float t36 = 0.5f * t35;
+        float t37 = x19 - x3;
+        float t38 = 0.7499999999999997f * t37;
+        float t39 = t36 - t38;
+        float t40 = t33 + t39;
+        float t41 = 0.8660254037844384f * t40;
+        float t42 = x20 - x11;
+        float t43 = 0.8660254037844384f * t42;
+        float t44 = 0.4330127018922192f * t37;
+        float t45 = 0.8660254037844386f * t35;
+        float t46 = t44 + t45;
+        float t47 = t43 + t46;
+        float t48 = 0.5f * t47;
+        float t49 = t41 - t48;
+        float t50 = t31 + t49;
+        float t51 = 0.5f * t11;
+        float t52 = x2 - t51;
+        float t53 = 0.5f * t13;
+        float t54 = x10 - t53;
+        float t55 = 0.5f * t54;
+        float t56 = x21 - x5;
+        float t57 = 0.7499999999999997f * t56;
+        float t58 = t55 - t57;
+        float t59 = t52 + t58;
+        float t60 = 0.9659258262890683f * t59;
+        float t61 = x18 - x13;
+        float t62 = 0.8660254037844384f * t61;
+        float t63 = 0.4330127018922192f * t56;
+        float t64 = 0.8660254037844386f * t54;
+        float t65 = t63 + t64;
+        float t66 = t62 + t65;
+        float t67 = 0.2588190451025207f * t66;
+        float t68 = t60 - t67;
+        float t69 = 0.5f * t16;
+        float t70 = x6 - t69;
+        float t71 = 0.5f * t18;
+        float t72 = x14 - t71;
+        float t73 = 0.5f * t72;
+        float t74 = x17 - x1;
+        float t75 = 0.7499999999999997f * t74;
+        float t76 = t73 - t75;
+        float t77 = t70 + t76;
+        float t78 = x22 - x9;
+        float t79 = 0.8660254037844384f * t78;
+        float t80 = 0.4330127018922192f * t74;
+        float t81 = 0.8660254037844386f * t72;
+        float t82 = t80 + t81;
+        float t83 = t79 + t82;
+        float t84 = t77 - t83;
+        float t85 = 0.7071067811865476f * t84;
+        float t86 = t68 + t85;
+        float t87 = t50 + t86;
+        float t88 = 0.9978589232386035f * t87;
+        float t89 = x16 - x15;
+        float t90 = 0.8660254037844384f * t89;
+        float t91 = 0.4330127018922192f * t28;
+        float t92 = 0.8660254037844386f * t26;
+        float t93 = t91 + t92;
+        float t94 = t90 + t93;
+        float t95 = 0.8660254037844384f * t47;
+        float t96 = 0.5f * t40;
+        float t97 = t95 + t96;
+        float t98 = t94 + t97;
+        float t99 = 0.9659258262890683f * t66;
+        float t100 = 0.2588190451025207f * t59;
+        float t101 = t99 + t100;
+        float t102 = t77 + t83;
+        float t103 = 0.7071067811865476f * t102;
+        float t104 = t101 + t103;
+        float t105 = t98 + t104;
+        float t106 = 0.0654031292301428f * t105;
+        float t107 = t88 - t106;
+        float t108 = 0.7499999999999996f * t28;
+        float t109 = t108 - t27;
+        float t110 = t24 + t109;
+        float t111 = 0.7499999999999996f * t37;
+        float t112 = t111 - t36;
+        float t113 = t33 + t112;
+        float t114 = 0.5f * t113;
+        float t115 = 0.8660254037844384f * t35;
+        float t116 = t44 + t115;
+        float t117 = t43 - t116;
+        float t118 = 0.8660254037844386f * t117;
+        float t119 = t114 + t118;
+        float t120 = t110 + t119;
+        float t121 = 0.8660254037844384f * t72;
+        float t122 = t80 + t121;
+        float t123 = t79 - t122;
+        float t124 = 0.7499999999999996f * t56;
+        float t125 = t124 - t55;
+        float t126 = t52 + t125;
+        float t127 = 0.8660254037844384f * t126;
+        float t128 = 0.8660254037844384f * t54;
+        float t129 = t63 + t128;
+        float t130 = t62 - t129;
+        float t131 = 0.5f * t130;
+        float t132 = t127 + t131;
+        float t133 = t123 + t132;
+        float t134 = t120 + t133;
+        float t135 = 0.9914448613738104f * t134;
+        float t136 = 0.8660254037844384f * t26;
+        float t137 = t91 + t136;
+        float t138 = t90 - t137;
+        float t139 = 0.5f * t117;
+        float t140 = 0.8660254037844386f * t113;
+        float t141 = t139 - t140;
+        float t142 = t138 + t141;
+        float t143 = 0.8660254037844384f * t130;
+        float t144 = 0.5f * t126;
+        float t145 = t143 - t144;
+        float t146 = 0.7499999999999996f * t74;
+        float t147 = t146 - t73;
+        float t148 = t70 + t147;
+        float t149 = t145 - t148;
+        float t150 = t142 + t149;
+        float t151 = 0.13052619222005168f * t150;
+        float t152 = t135 + t151;
+        float t153 = t1 - t3;
+        float t154 = t12 - t14;
+        float t155 = 0.7071067811865476f * t154;
+        float t156 = t17 - t19;
+        float t157 = 0.7071067811865476f * t156;
+        float t158 = t155 - t157;
+        float t159 = t153 + t158;
+        float t160 = 0.9807852804032303f * t159;
+        float t161 = t8 - t6;
+        float t162 = t14 - t12;
+        float t163 = 0.7071067811865476f * t162;
+        float t164 = t163 - t157;
+        float t165 = t161 + t164;
+        float t166 = 0.19509032201612872f * t165;
+        float t167 = t160 + t166;
+        float t168 = t24 - t30;
+        float t169 = t46 - t43;
+        float t170 = 0.8660254037844384f * t169;
+        float t171 = t33 - t39;
+        float t172 = 0.5f * t171;
+        float t173 = t170 - t172;
+        float t174 = t168 + t173;
+        float t175 = t52 - t58;
+        float t176 = 0.5f * t175;
+        float t177 = t65 - t62;
+        float t178 = 0.8660254037844386f * t177;
+        float t179 = t176 + t178;
+        float t180 = t76 - t70;
+        float t181 = t179 + t180;
+        float t182 = t174 + t181;
+        float t183 = 0.9659258262890683f * t182;
+        float t184 = t93 - t90;
+        float t185 = 0.5f * t169;
+        float t186 = 0.8660254037844384f * t171;
+        float t187 = t185 + t186;
+        float t188 = t184 - t187;
+        float t189 = 0.5f * t177;
+        float t190 = 0.8660254037844386f * t175;
+        float t191 = t189 - t190;
+        float t192 = t79 - t82;
+        float t193 = t191 + t192;
+        float t194 = t188 + t193;
+        float t195 = 0.2588190451025207f * t194;
+        float t196 = t183 + t195;
+        float t197 = t24 - t109;
+        float t198 = t43 + t116;
+        float t199 = 0.5f * t198;
+        float t200 = t33 - t112;
+        float t201 = 0.8660254037844386f * t200;
+        float t202 = t199 - t201;
+        float t203 = t197 + t202;
+        float t204 = t52 - t125;
+        float t205 = 0.2588190451025203f * t204;
+        float t206 = t62 + t129;
+        float t207 = 0.9659258262890684f * t206;
+        float t208 = t205 + t207;
+        float t209 = t70 - t147;
+        float t210 = t79 + t122;
+        float t211 = t209 + t210;
+        float t212 = 0.7071067811865476f * t211;
+        float t213 = t208 - t212;
+        float t214 = t203 + t213;
+        float t215 = 0.9469301294951056f * t214;
+        float t216 = t90 + t137;
+        float t217 = 0.8660254037844386f * t198;
+        float t218 = 0.5f * t200;
+        float t219 = t217 + t218;
+        float t220 = t216 - t219;
+        float t221 = 0.2588190451025203f * t206;
+        float t222 = 0.9659258262890684f * t204;
+        float t223 = t221 - t222;
+        float t224 = t210 - t209;
+        float t225 = 0.7071067811865476f * t224;
+        float t226 = t223 - t225;
+        float t227 = t220 + t226;
+        float t228 = 0.32143946530316186f * t227;
+        float t229 = t215 + t228;
+        float t230 = t4 - t9;
+        float t231 = 0.9238795325112865f * t230;
+        float t232 = t20 - t15;
+        float t233 = 0.3826834323650904f * t232;
+        float t234 = t231 + t233;
+        float t235 = t31 - t49;
+        float t236 = t103 - t101;
+        float t237 = t235 + t236;
+        float t238 = 0.8968727415326883f * t237;
+        float t239 = t97 - t94;
+        float t240 = t85 - t68;
+        float t241 = t239 + t240;
+        float t242 = 0.4422886902190014f * t241;
+        float t243 = t238 + t242;
+        float t244 = t110 - t119;
+        float t245 = t148 + t145;
+        float t246 = t244 + t245;
+        float t247 = 0.8660254037844384f * t246;
+        float t248 = t138 - t141;
+        float t249 = t123 - t132;
+        float t250 = t248 + t249;
+        float t251 = 0.5f * t250;
+        float t252 = t247 + t251;
+        float t253 = t163 + t157;
+        float t254 = t153 + t253;
+        float t255 = 0.8314696123025452f * t254;
+        float t256 = t6 - t8;
+        float t257 = t155 + t157;
+        float t258 = t256 - t257;
+        float t259 = 0.5555702330196022f * t258;
+        float t260 = t255 + t259;
+        float t261 = t168 - t173;
+        float t262 = t191 - t192;
+        float t263 = t261 + t262;
+        float t264 = 0.7933533402912349f * t263;
+        float t265 = t184 + t187;
+        float t266 = t180 - t179;
+        float t267 = t265 + t266;
+        float t268 = 0.6087614290087209f * t267;
+        float t269 = t264 + t268;
+        float t270 = t197 - t202;
+        float t271 = t223 + t225;
+        float t272 = t270 + t271;
+        float t273 = 0.7518398074789769f * t272;
+        float t274 = t216 + t219;
+        float t275 = t208 + t212;
+        float t276 = t274 - t275;
+        float t277 = 0.6593458151000694f * t276;
+        float t278 = t273 + t277;
+        float t279 = t10 - t21;
+        float t280 = 0.7071067811865476f * t279;
+        float t281 = t50 - t86;
+        float t282 = 0.6593458151000691f * t281;
+        float t283 = t104 - t98;
+        float t284 = 0.7518398074789772f * t283;
+        float t285 = t282 + t284;
+        float t286 = t120 - t133;
+        float t287 = 0.6087614290087205f * t286;
+        float t288 = t142 - t149;
+        float t289 = 0.7933533402912352f * t288;
+        float t290 = t287 + t289;
+        float t291 = t153 - t158;
+        float t292 = 0.5555702330196018f * t291;
+        float t293 = t161 - t164;
+        float t294 = 0.8314696123025455f * t293;
+        float t295 = t292 + t294;
+        float t296 = t174 - t181;
+        float t297 = 0.5f * t296;
+        float t298 = t188 - t193;
+        float t299 = 0.8660254037844386f * t298;
+        float t300 = t297 + t299;
+        float t301 = t203 - t213;
+        float t302 = 0.442288690219001f * t301;
+        float t303 = t220 - t226;
+        float t304 = 0.8968727415326885f * t303;
+        float t305 = t302 + t304;
+        float t306 = 0.38268343236509f * t230;
+        float t307 = t15 - t20;
+        float t308 = 0.9238795325112866f * t307;
+        float t309 = t306 + t308;
+        float t310 = t235 - t236;
+        float t311 = 0.3214394653031615f * t310;
+        float t312 = t239 - t240;
+        float t313 = 0.9469301294951057f * t312;
+        float t314 = t311 + t313;
+        float t315 = t244 - t245;
+        float t316 = 0.2588190451025203f * t315;
+        float t317 = t248 - t249;
+        float t318 = 0.9659258262890684f * t317;
+        float t319 = t316 + t318;
+        float t320 = t153 - t253;
+        float t321 = 0.1950903220161283f * t320;
+        float t322 = t256 + t257;
+        float t323 = 0.9807852804032304f * t322;
+        float t324 = t321 + t323;
+        float t325 = t261 - t262;
+        float t326 = 0.13052619222005127f * t325;
+        float t327 = t265 - t266;
+        float t328 = 0.9914448613738105f * t327;
+        float t329 = t326 + t328;
+        float t330 = t270 - t271;
+        float t331 = 0.06540312923014237f * t330;
+        float t332 = t274 + t275;
+        float t333 = 0.9978589232386036f * t332;
+        float t334 = t331 + t333;
+        a[offa] = t22;
+        a[offa + 1] = t107;
+        a[offa + 2] = t152;
+        a[offa + 3] = t167;
+        a[offa + 4] = t196;
+        a[offa + 5] = t229;
+        a[offa + 6] = t234;
+        a[offa + 7] = t243;
+        a[offa + 8] = t252;
+        a[offa + 9] = t260;
+        a[offa + 10] = t269;
+        a[offa + 11] = t278;
+        a[offa + 12] = t280;
+        a[offa + 13] = t285;
+        a[offa + 14] = t290;
+        a[offa + 15] = t295;
+        a[offa + 16] = t300;
+        a[offa + 17] = t305;
+        a[offa + 18] = t309;
+        a[offa + 19] = t314;
+        a[offa + 20] = t319;
+        a[offa + 21] = t324;
+        a[offa + 22] = t329;
+        a[offa + 23] = t334;
+    }
+
+    static void dct2_32(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float x13 = a[offa + 13];
+        float x14 = a[offa + 14];
+        float x15 = a[offa + 15];
+        float x16 = a[offa + 16];
+        float x17 = a[offa + 17];
+        float x18 = a[offa + 18];
+        float x19 = a[offa + 19];
+        float x20 = a[offa + 20];
+        float x21 = a[offa + 21];
+        float x22 = a[offa + 22];
+        float x23 = a[offa + 23];
+        float x24 = a[offa + 24];
+        float x25 = a[offa + 25];
+        float x26 = a[offa + 26];
+        float x27 = a[offa + 27];
+        float x28 = a[offa + 28];
+        float x29 = a[offa + 29];
+        float x30 = a[offa + 30];
+        float x31 = a[offa + 31];
+        float t0 = x0 + x31;
+        float t1 = x16 + x15;
+        float t2 = t0 + t1;
+        float t3 = x8 + x23;
+        float t4 = x24 + x7;
+        float t5 = t3 + t4;
+        float t6 = t2 + t5;
+        float t7 = x4 + x27;
+        float t8 = x20 + x11;
+        float t9 = t7 + t8;
+        float t10 = x12 + x19;
+        float t11 = x28 + x3;
+        float t12 = t10 + t11;
+        float t13 = t9 + t12;
+        float t14 = t6 + t13;
+        float t15 = x2 + x29;
+        float t16 = x18 + x13;
+        float t17 = t15 + t16;
+        float t18 = x10 + x21;
+        float t19 = x26 + x5;
+        float t20 = t18 + t19;
+        float t21 = t17 + t20;
+        float t22 = x6 + x25;
+        float t23 = x22 + x9;
+        float t24 = t22 + t23;
+        float t25 = x14 + x17;
+        float t26 = x30 + x1;
+        float t27 = t25 + t26;
+        float t28 = t24 + t27;
+        float t29 = t21 + t28;
+        float t30 = t14 + t29;
+        float t31 = x0 - x31;
+        float t32 = x8 - x23;
+        float t33 = x7 - x24;
+        float t34 = t32 + t33;
+        float t35 = 0.7071067811865476f * t34;
+        float t36 = t31 + t35;
+        float t37 = x4 - x27;
+        float t38 = x12 - x19;
+        float t39 = x3 - x28;
+        float t40 = t38 + t39;
+        float t41 = 0.7071067811865476f * t40;
+        float t42 = t37 + t41;
+        float t43 = 0.9238795325112865f * t42;
+        float t44 = x11 - x20;
+        float t45 = t39 - t38;
+        float t46 = 0.7071067811865476f * t45;
+        float t47 = t44 + t46;
+        float t48 = 0.3826834323650904f * t47;
+        float t49 = t43 + t48;
+        float t50 = t36 + t49;
+        float t51 = x2 - x29;
+        float t52 = x10 - x21;
+        float t53 = x5 - x26;
+        float t54 = t52 + t53;
+        float t55 = 0.7071067811865476f * t54;
+        float t56 = t51 + t55;
+        float t57 = 0.9807852804032303f * t56;
+        float t58 = x13 - x18;
+        float t59 = t53 - t52;
+        float t60 = 0.7071067811865476f * t59;
+        float t61 = t58 + t60;
+        float t62 = 0.19509032201612872f * t61;
+        float t63 = t57 + t62;
+        float t64 = x6 - x25;
+        float t65 = x14 - x17;
+        float t66 = x1 - x30;
+        float t67 = t65 + t66;
+        float t68 = 0.7071067811865476f * t67;
+        float t69 = t64 + t68;
+        float t70 = 0.8314696123025452f * t69;
+        float t71 = x9 - x22;
+        float t72 = t66 - t65;
+        float t73 = 0.7071067811865476f * t72;
+        float t74 = t71 + t73;
+        float t75 = 0.5555702330196022f * t74;
+        float t76 = t70 + t75;
+        float t77 = t63 + t76;
+        float t78 = t50 + t77;
+        float t79 = 0.9987954562051724f * t78;
+        float t80 = x15 - x16;
+        float t81 = t33 - t32;
+        float t82 = 0.7071067811865476f * t81;
+        float t83 = t80 + t82;
+        float t84 = 0.9238795325112865f * t47;
+        float t85 = 0.3826834323650904f * t42;
+        float t86 = t84 - t85;
+        float t87 = t83 + t86;
+        float t88 = 0.9807852804032303f * t61;
+        float t89 = 0.19509032201612872f * t56;
+        float t90 = t88 - t89;
+        float t91 = 0.8314696123025452f * t74;
+        float t92 = 0.5555702330196022f * t69;
+        float t93 = t91 - t92;
+        float t94 = t90 + t93;
+        float t95 = t87 + t94;
+        float t96 = 0.04906767432741809f * t95;
+        float t97 = t79 + t96;
+        float t98 = t0 - t1;
+        float t99 = t7 - t8;
+        float t100 = t11 - t10;
+        float t101 = t99 + t100;
+        float t102 = 0.7071067811865476f * t101;
+        float t103 = t98 + t102;
+        float t104 = t15 - t16;
+        float t105 = 0.9238795325112865f * t104;
+        float t106 = t19 - t18;
+        float t107 = 0.3826834323650904f * t106;
+        float t108 = t105 + t107;
+        float t109 = t22 - t23;
+        float t110 = 0.38268343236509f * t109;
+        float t111 = t26 - t25;
+        float t112 = 0.9238795325112866f * t111;
+        float t113 = t110 + t112;
+        float t114 = t108 + t113;
+        float t115 = t103 + t114;
+        float t116 = 0.9951847266721969f * t115;
+        float t117 = t4 - t3;
+        float t118 = t100 - t99;
+        float t119 = 0.7071067811865476f * t118;
+        float t120 = t117 + t119;
+        float t121 = 0.9238795325112865f * t106;
+        float t122 = 0.3826834323650904f * t104;
+        float t123 = t121 - t122;
+        float t124 = 0.38268343236509f * t111;
+        float t125 = 0.9238795325112866f * t109;
+        float t126 = t124 - t125;
+        float t127 = t123 + t126;
+        float t128 = t120 + t127;
+        float t129 = 0.0980171403295605f * t128;
+        float t130 = t116 + t129;
+        float t131 = x24 - x7;
+        float t132 = t32 - t131;
+        float t133 = 0.7071067811865476f * t132;
+        float t134 = t31 - t133;
+        float t135 = x28 - x3;
+        float t136 = t38 - t135;
+        float t137 = 0.7071067811865476f * t136;
+        float t138 = t37 - t137;
+        float t139 = 0.38268343236509f * t138;
+        float t140 = x20 - x11;
+        float t141 = t38 + t135;
+        float t142 = 0.7071067811865476f * t141;
+        float t143 = t140 - t142;
+        float t144 = 0.9238795325112866f * t143;
+        float t145 = t139 + t144;
+        float t146 = t134 + t145;
+        float t147 = x26 - x5;
+        float t148 = t52 - t147;
+        float t149 = 0.7071067811865476f * t148;
+        float t150 = t51 - t149;
+        float t151 = 0.8314696123025452f * t150;
+        float t152 = x18 - x13;
+        float t153 = t52 + t147;
+        float t154 = 0.7071067811865476f * t153;
+        float t155 = t152 - t154;
+        float t156 = 0.5555702330196022f * t155;
+        float t157 = t151 + t156;
+        float t158 = x22 - x9;
+        float t159 = x30 - x1;
+        float t160 = t65 + t159;
+        float t161 = 0.7071067811865476f * t160;
+        float t162 = t158 - t161;
+        float t163 = 0.9807852804032303f * t162;
+        float t164 = t65 - t159;
+        float t165 = 0.7071067811865476f * t164;
+        float t166 = t64 - t165;
+        float t167 = 0.19509032201612866f * t166;
+        float t168 = t163 - t167;
+        float t169 = t157 + t168;
+        float t170 = t146 + t169;
+        float t171 = 0.9891765099647809f * t170;
+        float t172 = x16 - x15;
+        float t173 = t32 + t131;
+        float t174 = 0.7071067811865476f * t173;
+        float t175 = t172 - t174;
+        float t176 = 0.38268343236509f * t143;
+        float t177 = 0.9238795325112866f * t138;
+        float t178 = t176 - t177;
+        float t179 = t175 + t178;
+        float t180 = 0.8314696123025452f * t155;
+        float t181 = 0.5555702330196022f * t150;
+        float t182 = t180 - t181;
+        float t183 = 0.19509032201612866f * t162;
+        float t184 = 0.9807852804032303f * t166;
+        float t185 = t183 + t184;
+        float t186 = t182 - t185;
+        float t187 = t179 + t186;
+        float t188 = 0.1467304744553624f * t187;
+        float t189 = t171 + t188;
+        float t190 = t2 - t5;
+        float t191 = t17 - t20;
+        float t192 = 0.7071067811865476f * t191;
+        float t193 = t24 - t27;
+        float t194 = 0.7071067811865476f * t193;
+        float t195 = t192 - t194;
+        float t196 = t190 + t195;
+        float t197 = 0.9807852804032303f * t196;
+        float t198 = t12 - t9;
+        float t199 = t20 - t17;
+        float t200 = 0.7071067811865476f * t199;
+        float t201 = t200 - t194;
+        float t202 = t198 + t201;
+        float t203 = 0.19509032201612872f * t202;
+        float t204 = t197 + t203;
+        float t205 = t31 - t35;
+        float t206 = t44 - t46;
+        float t207 = 0.9238795325112865f * t206;
+        float t208 = t37 - t41;
+        float t209 = 0.38268343236509034f * t208;
+        float t210 = t207 - t209;
+        float t211 = t205 + t210;
+        float t212 = t51 - t55;
+        float t213 = 0.5555702330196018f * t212;
+        float t214 = t58 - t60;
+        float t215 = 0.8314696123025455f * t214;
+        float t216 = t213 + t215;
+        float t217 = t71 - t73;
+        float t218 = 0.19509032201612836f * t217;
+        float t219 = t64 - t68;
+        float t220 = 0.9807852804032304f * t219;
+        float t221 = t218 - t220;
+        float t222 = t216 + t221;
+        float t223 = t211 + t222;
+        float t224 = 0.970031253194544f * t223;
+        float t225 = t80 - t82;
+        float t226 = 0.38268343236509034f * t206;
+        float t227 = 0.9238795325112865f * t208;
+        float t228 = t226 + t227;
+        float t229 = t225 - t228;
+        float t230 = 0.5555702330196018f * t214;
+        float t231 = 0.8314696123025455f * t212;
+        float t232 = t230 - t231;
+        float t233 = 0.9807852804032304f * t217;
+        float t234 = 0.19509032201612836f * t219;
+        float t235 = t233 + t234;
+        float t236 = t232 - t235;
+        float t237 = t229 + t236;
+        float t238 = 0.24298017990326418f * t237;
+        float t239 = t224 + t238;
+        float t240 = t10 - t11;
+        float t241 = t99 - t240;
+        float t242 = 0.7071067811865476f * t241;
+        float t243 = t98 - t242;
+        float t244 = 0.38268343236509f * t104;
+        float t245 = t18 - t19;
+        float t246 = 0.9238795325112866f * t245;
+        float t247 = t244 + t246;
+        float t248 = 0.9238795325112867f * t109;
+        float t249 = t25 - t26;
+        float t250 = 0.3826834323650899f * t249;
+        float t251 = t248 + t250;
+        float t252 = t247 - t251;
+        float t253 = t243 + t252;
+        float t254 = 0.9569403357322088f * t253;
+        float t255 = t3 - t4;
+        float t256 = t99 + t240;
+        float t257 = 0.7071067811865476f * t256;
+        float t258 = t255 - t257;
+        float t259 = 0.38268343236509f * t245;
+        float t260 = 0.9238795325112866f * t104;
+        float t261 = t259 - t260;
+        float t262 = 0.3826834323650899f * t109;
+        float t263 = 0.9238795325112867f * t249;
+        float t264 = t262 - t263;
+        float t265 = t261 + t264;
+        float t266 = t258 + t265;
+        float t267 = 0.2902846772544625f * t266;
+        float t268 = t254 + t267;
+        float t269 = t31 + t133;
+        float t270 = t140 + t142;
+        float t271 = 0.38268343236508967f * t270;
+        float t272 = t37 + t137;
+        float t273 = 0.9238795325112868f * t272;
+        float t274 = t271 - t273;
+        float t275 = t269 + t274;
+        float t276 = t51 + t149;
+        float t277 = 0.1950903220161283f * t276;
+        float t278 = t152 + t154;
+        float t279 = 0.9807852804032304f * t278;
+        float t280 = t277 + t279;
+        float t281 = t64 + t165;
+        float t282 = 0.555570233019602f * t281;
+        float t283 = t158 + t161;
+        float t284 = 0.8314696123025455f * t283;
+        float t285 = t282 + t284;
+        float t286 = t280 - t285;
+        float t287 = t275 + t286;
+        float t288 = 0.9415440651830208f * t287;
+        float t289 = t172 + t174;
+        float t290 = 0.9238795325112868f * t270;
+        float t291 = 0.38268343236508967f * t272;
+        float t292 = t290 + t291;
+        float t293 = t289 - t292;
+        float t294 = 0.1950903220161283f * t278;
+        float t295 = 0.9807852804032304f * t276;
+        float t296 = t294 - t295;
+        float t297 = 0.8314696123025455f * t281;
+        float t298 = 0.555570233019602f * t283;
+        float t299 = t297 - t298;
+        float t300 = t296 + t299;
+        float t301 = t293 + t300;
+        float t302 = 0.33688985339222f * t301;
+        float t303 = t288 + t302;
+        float t304 = t6 - t13;
+        float t305 = 0.9238795325112865f * t304;
+        float t306 = t28 - t21;
+        float t307 = 0.3826834323650904f * t306;
+        float t308 = t305 + t307;
+        float t309 = t36 - t49;
+        float t310 = t90 - t93;
+        float t311 = t309 + t310;
+        float t312 = 0.9039892931234431f * t311;
+        float t313 = t83 - t86;
+        float t314 = t76 - t63;
+        float t315 = t313 + t314;
+        float t316 = 0.42755509343028253f * t315;
+        float t317 = t312 + t316;
+        float t318 = t98 - t102;
+        float t319 = t123 - t126;
+        float t320 = t318 + t319;
+        float t321 = 0.8819212643483548f * t320;
+        float t322 = t117 - t119;
+        float t323 = t113 - t108;
+        float t324 = t322 + t323;
+        float t325 = 0.4713967368259979f * t324;
+        float t326 = t321 + t325;
+        float t327 = t134 - t145;
+        float t328 = t182 + t185;
+        float t329 = t327 + t328;
+        float t330 = 0.857728610000272f * t329;
+        float t331 = t175 - t178;
+        float t332 = t168 - t157;
+        float t333 = t331 + t332;
+        float t334 = 0.5141027441932219f * t333;
+        float t335 = t330 + t334;
+        float t336 = t200 + t194;
+        float t337 = t190 + t336;
+        float t338 = 0.8314696123025452f * t337;
+        float t339 = t9 - t12;
+        float t340 = t192 + t194;
+        float t341 = t339 - t340;
+        float t342 = 0.5555702330196022f * t341;
+        float t343 = t338 + t342;
+        float t344 = t205 - t210;
+        float t345 = t232 + t235;
+        float t346 = t344 + t345;
+        float t347 = 0.803207531480645f * t346;
+        float t348 = t225 + t228;
+        float t349 = t221 - t216;
+        float t350 = t348 + t349;
+        float t351 = 0.5956993044924332f * t350;
+        float t352 = t347 + t351;
+        float t353 = t98 + t242;
+        float t354 = t261 - t264;
+        float t355 = t353 + t354;
+        float t356 = 0.7730104533627367f * t355;
+        float t357 = t255 + t257;
+        float t358 = t247 + t251;
+        float t359 = t357 - t358;
+        float t360 = 0.6343932841636459f * t359;
+        float t361 = t356 + t360;
+        float t362 = t269 - t274;
+        float t363 = t296 - t299;
+        float t364 = t362 + t363;
+        float t365 = 0.7409511253549589f * t364;
+        float t366 = t289 + t292;
+        float t367 = t280 + t285;
+        float t368 = t366 - t367;
+        float t369 = 0.6715589548470187f * t368;
+        float t370 = t365 + t369;
+        float t371 = t14 - t29;
+        float t372 = 0.7071067811865476f * t371;
+        float t373 = t50 - t77;
+        float t374 = 0.6715589548470183f * t373;
+        float t375 = t87 - t94;
+        float t376 = 0.7409511253549591f * t375;
+        float t377 = t374 + t376;
+        float t378 = t103 - t114;
+        float t379 = 0.6343932841636456f * t378;
+        float t380 = t120 - t127;
+        float t381 = 0.7730104533627369f * t380;
+        float t382 = t379 + t381;
+        float t383 = t146 - t169;
+        float t384 = 0.5956993044924329f * t383;
+        float t385 = t179 - t186;
+        float t386 = 0.8032075314806453f * t385;
+        float t387 = t384 + t386;
+        float t388 = t190 - t195;
+        float t389 = 0.5555702330196018f * t388;
+        float t390 = t198 - t201;
+        float t391 = 0.8314696123025455f * t390;
+        float t392 = t389 + t391;
+        float t393 = t211 - t222;
+        float t394 = 0.5141027441932216f * t393;
+        float t395 = t229 - t236;
+        float t396 = 0.8577286100002722f * t395;
+        float t397 = t394 + t396;
+        float t398 = t243 - t252;
+        float t399 = 0.4713967368259976f * t398;
+        float t400 = t258 - t265;
+        float t401 = 0.881921264348355f * t400;
+        float t402 = t399 + t401;
+        float t403 = t275 - t286;
+        float t404 = 0.42755509343028214f * t403;
+        float t405 = t293 - t300;
+        float t406 = 0.9039892931234433f * t405;
+        float t407 = t404 + t406;
+        float t408 = 0.38268343236509f * t304;
+        float t409 = t21 - t28;
+        float t410 = 0.9238795325112866f * t409;
+        float t411 = t408 + t410;
+        float t412 = t309 - t310;
+        float t413 = 0.3368898533922196f * t412;
+        float t414 = t313 - t314;
+        float t415 = 0.9415440651830209f * t414;
+        float t416 = t413 + t415;
+        float t417 = t318 - t319;
+        float t418 = 0.29028467725446205f * t417;
+        float t419 = t322 - t323;
+        float t420 = 0.9569403357322089f * t419;
+        float t421 = t418 + t420;
+        float t422 = t327 - t328;
+        float t423 = 0.24298017990326376f * t422;
+        float t424 = t331 - t332;
+        float t425 = 0.970031253194544f * t424;
+        float t426 = t423 + t425;
+        float t427 = t190 - t336;
+        float t428 = 0.1950903220161283f * t427;
+        float t429 = t339 + t340;
+        float t430 = 0.9807852804032304f * t429;
+        float t431 = t428 + t430;
+        float t432 = t344 - t345;
+        float t433 = 0.14673047445536194f * t432;
+        float t434 = t348 - t349;
+        float t435 = 0.9891765099647809f * t434;
+        float t436 = t433 + t435;
+        float t437 = t353 - t354;
+        float t438 = 0.09801714032956009f * t437;
+        float t439 = t357 + t358;
+        float t440 = 0.9951847266721969f * t439;
+        float t441 = t438 + t440;
+        float t442 = t362 - t363;
+        float t443 = 0.04906767432741766f * t442;
+        float t444 = t366 + t367;
+        float t445 = 0.9987954562051724f * t444;
+        float t446 = t443 + t445;
+        a[offa] = t30;
+        a[offa + 1] = t97;
+        a[offa + 2] = t130;
+        a[offa + 3] = t189;
+        a[offa + 4] = t204;
+        a[offa + 5] = t239;
+        a[offa + 6] = t268;
+        a[offa + 7] = t303;
+        a[offa + 8] = t308;
+        a[offa + 9] = t317;
+        a[offa + 10] = t326;
+        a[offa + 11] = t335;
+        a[offa + 12] = t343;
+        a[offa + 13] = t352;
+        a[offa + 14] = t361;
+        a[offa + 15] = t370;
+        a[offa + 16] = t372;
+        a[offa + 17] = t377;
+        a[offa + 18] = t382;
+        a[offa + 19] = t387;
+        a[offa + 20] = t392;
+        a[offa + 21] = t397;
+        a[offa + 22] = t402;
+        a[offa + 23] = t407;
+        a[offa + 24] = t411;
+        a[offa + 25] = t416;
+        a[offa + 26] = t421;
+        a[offa + 27] = t426;
+        a[offa + 28] = t431;
+        a[offa + 29] = t436;
+        a[offa + 30] = t441;
+        a[offa + 31] = t446;
+    }
+
+    static void dct3_2(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float t0 = x1 + x1;
+        float t1 = 0.3535533905932738f * t0;
+        float t2 = x0 + t1;
+        float t3 = x0 - t1;
+        a[offa] = t2;
+        a[offa + 1] = t3;
+    }
+
+    static void dct3_3(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float t0 = 0.43301270189221935f * x1;
+        float t1 = 0.24999999999999997f * x2;
+        float t2 = t0 + t1;
+        float t3 = 0.25000000000000006f * x2;
+        float t4 = 0.4330127018922193f * x1;
+        float t5 = t3 + t4;
+        float t6 = t2 + t5;
+        float t7 = x0 + t6;
+        float t8 = 0.5f * t6;
+        float t9 = x0 - t8;
+        float t10 = 0.24999999999999997f * x1;
+        float t11 = 0.43301270189221935f * x2;
+        float t12 = t10 - t11;
+        float t13 = 0.4330127018922193f * x2;
+        float t14 = 0.25000000000000006f * x1;
+        float t15 = t13 - t14;
+        float t16 = t12 - t15;
+        float t17 = 0.8660254037844387f * t16;
+        float t18 = t9 + t17;
+        float t19 = t9 - t17;
+        a[offa] = t7;
+        a[offa + 1] = t18;
+        a[offa + 2] = t19;
+    }
+
+    static void dct3_4(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float t0 = x2 + x2;
+        float t1 = 0.3535533905932738f * t0;
+        float t2 = x0 + t1;
+        float t3 = 0.46193976625564337f * x1;
+        float t4 = 0.1913417161825449f * x3;
+        float t5 = t3 + t4;
+        float t6 = 0.19134171618254492f * x3;
+        float t7 = t3 + t6;
+        float t8 = t5 + t7;
+        float t9 = t2 + t8;
+        float t10 = x0 - t1;
+        float t11 = 0.46193976625564337f * x3;
+        float t12 = 0.19134171618254492f * x1;
+        float t13 = t11 - t12;
+        float t14 = 0.1913417161825449f * x1;
+        float t15 = t14 - t11;
+        float t16 = t13 - t15;
+        float t17 = t10 - t16;
+        float t18 = t10 + t16;
+        float t19 = t2 - t8;
+        a[offa] = t9;
+        a[offa + 1] = t17;
+        a[offa + 2] = t18;
+        a[offa + 3] = t19;
+    }
+
+    static void dct3_5(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float t0 = 0.4045084971874737f * x2;
+        float t1 = 0.29389262614623657f * x3;
+        float t2 = t0 + t1;
+        float t3 = t2 + t2;
+        float t4 = 0.47552825814757677f * x1;
+        float t5 = 0.1545084971874737f * x4;
+        float t6 = t4 + t5;
+        float t7 = 0.15450849718747373f * x4;
+        float t8 = t4 + t7;
+        float t9 = t6 + t8;
+        float t10 = x0 + t9;
+        float t11 = t3 + t10;
+        float t12 = 0.30901699437494745f * t9;
+        float t13 = x0 + t12;
+        float t14 = 0.8090169943749473f * t3;
+        float t15 = t13 - t14;
+        float t16 = 0.1545084971874737f * x1;
+        float t17 = 0.47552825814757677f * x4;
+        float t18 = t16 - t17;
+        float t19 = 0.15450849718747373f * x1;
+        float t20 = t17 - t19;
+        float t21 = t18 - t20;
+        float t22 = 0.9510565162951535f * t21;
+        float t23 = 0.29389262614623657f * x2;
+        float t24 = 0.4045084971874737f * x3;
+        float t25 = t23 - t24;
+        float t26 = t24 - t23;
+        float t27 = t25 - t26;
+        float t28 = 0.5877852522924732f * t27;
+        float t29 = t22 + t28;
+        float t30 = t15 + t29;
+        float t31 = t15 - t29;
+        float t32 = 0.8090169943749473f * t9;
+        float t33 = x0 - t32;
+        float t34 = 0.30901699437494723f * t3;
+        float t35 = t33 + t34;
+        float t36 = 0.5877852522924732f * t21;
+        float t37 = 0.9510565162951536f * t27;
+        float t38 = t36 - t37;
+        float t39 = t35 + t38;
+        float t40 = t35 - t38;
+        a[offa] = t11;
+        a[offa + 1] = t30;
+        a[offa + 2] = t31;
+        a[offa + 3] = t39;
+        a[offa + 4] = t40;
+    }
+
+    static void dct3_6(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float t0 = 0.43301270189221935f * x2;
+        float t1 = 0.24999999999999997f * x4;
+        float t2 = t0 + t1;
+        float t3 = 0.25000000000000006f * x4;
+        float t4 = 0.4330127018922193f * x2;
+        float t5 = t3 + t4;
+        float t6 = t2 + t5;
+        float t7 = x0 + t6;
+        float t8 = 0.48296291314453416f * x1;
+        float t9 = 0.12940952255126037f * x5;
+        float t10 = t8 + t9;
+        float t11 = x3 + x3;
+        float t12 = 0.3535533905932738f * t11;
+        float t13 = t10 + t12;
+        float t14 = t10 + t13;
+        float t15 = t7 + t14;
+        float t16 = 0.5f * t6;
+        float t17 = x0 - t16;
+        float t18 = 0.24999999999999997f * x2;
+        float t19 = 0.43301270189221935f * x4;
+        float t20 = t18 - t19;
+        float t21 = 0.4330127018922193f * x4;
+        float t22 = 0.25000000000000006f * x2;
+        float t23 = t21 - t22;
+        float t24 = t20 - t23;
+        float t25 = 0.8660254037844387f * t24;
+        float t26 = t17 + t25;
+        float t27 = 0.5f * t13;
+        float t28 = t10 - t27;
+        float t29 = 0.12940952255126037f * x1;
+        float t30 = 0.48296291314453416f * x5;
+        float t31 = t29 - t30;
+        float t32 = 0.8660254037844387f * t31;
+        float t33 = t28 + t32;
+        float t34 = 0.5f * t33;
+        float t35 = t30 - t29;
+        float t36 = 0.5f * t35;
+        float t37 = t31 - t36;
+        float t38 = t12 - t10;
+        float t39 = 0.8660254037844387f * t38;
+        float t40 = t37 - t39;
+        float t41 = 0.8660254037844387f * t40;
+        float t42 = t34 + t41;
+        float t43 = t26 + t42;
+        float t44 = t17 - t25;
+        float t45 = t28 - t32;
+        float t46 = 0.5f * t45;
+        float t47 = t37 + t39;
+        float t48 = 0.8660254037844386f * t47;
+        float t49 = t46 - t48;
+        float t50 = t44 + t49;
+        float t51 = t44 - t49;
+        float t52 = t26 - t42;
+        float t53 = t7 - t14;
+        a[offa] = t15;
+        a[offa + 1] = t43;
+        a[offa + 2] = t50;
+        a[offa + 3] = t51;
+        a[offa + 4] = t52;
+        a[offa + 5] = t53;
+    }
+
+    static void dct3_7(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float t0 = 0.3909157412340149f * x3;
+        float t1 = 0.31174490092936674f * x4;
+        float t2 = t0 + t1;
+        float t3 = 0.3117449009293668f * x4;
+        float t4 = t0 + t3;
+        float t5 = t2 + t4;
+        float t6 = 0.4504844339512096f * x2;
+        float t7 = 0.21694186955877906f * x5;
+        float t8 = t6 + t7;
+        float t9 = 0.2169418695587791f * x5;
+        float t10 = t6 + t9;
+        float t11 = t8 + t10;
+        float t12 = 0.4874639560909118f * x1;
+        float t13 = 0.1112604669781572f * x6;
+        float t14 = t12 + t13;
+        float t15 = 0.11126046697815722f * x6;
+        float t16 = t12 + t15;
+        float t17 = t14 + t16;
+        float t18 = x0 + t17;
+        float t19 = t11 + t18;
+        float t20 = t5 + t19;
+        float t21 = 0.6234898018587336f * t17;
+        float t22 = x0 + t21;
+        float t23 = 0.22252093395631434f * t11;
+        float t24 = t22 - t23;
+        float t25 = 0.900968867902419f * t5;
+        float t26 = t24 - t25;
+        float t27 = 0.1112604669781572f * x1;
+        float t28 = 0.4874639560909118f * x6;
+        float t29 = t27 - t28;
+        float t30 = 0.11126046697815722f * x1;
+        float t31 = t28 - t30;
+        float t32 = t29 - t31;
+        float t33 = 0.7818314824680298f * t32;
+        float t34 = 0.21694186955877906f * x2;
+        float t35 = 0.4504844339512096f * x5;
+        float t36 = t34 - t35;
+        float t37 = 0.2169418695587791f * x2;
+        float t38 = t35 - t37;
+        float t39 = t36 - t38;
+        float t40 = 0.9749279121818236f * t39;
+        float t41 = t33 + t40;
+        float t42 = 0.31174490092936674f * x3;
+        float t43 = 0.3909157412340149f * x4;
+        float t44 = t42 - t43;
+        float t45 = 0.3117449009293668f * x3;
+        float t46 = t43 - t45;
+        float t47 = t44 - t46;
+        float t48 = 0.43388373911755823f * t47;
+        float t49 = t41 + t48;
+        float t50 = t26 + t49;
+        float t51 = t26 - t49;
+        float t52 = 0.22252093395631434f * t17;
+        float t53 = x0 - t52;
+        float t54 = 0.9009688679024191f * t11;
+        float t55 = t53 - t54;
+        float t56 = 0.6234898018587334f * t5;
+        float t57 = t55 + t56;
+        float t58 = 0.9749279121818236f * t32;
+        float t59 = 0.433883739117558f * t39;
+        float t60 = t58 - t59;
+        float t61 = 0.7818314824680299f * t47;
+        float t62 = t60 - t61;
+        float t63 = t57 + t62;
+        float t64 = t57 - t62;
+        float t65 = 0.900968867902419f * t17;
+        float t66 = x0 - t65;
+        float t67 = 0.6234898018587334f * t11;
+        float t68 = t66 + t67;
+        float t69 = 0.22252093395631434f * t5;
+        float t70 = t68 - t69;
+        float t71 = 0.43388373911755823f * t32;
+        float t72 = 0.7818314824680299f * t39;
+        float t73 = t71 - t72;
+        float t74 = 0.9749279121818236f * t47;
+        float t75 = t73 + t74;
+        float t76 = t70 + t75;
+        float t77 = t70 - t75;
+        a[offa] = t20;
+        a[offa + 1] = t50;
+        a[offa + 2] = t51;
+        a[offa + 3] = t63;
+        a[offa + 4] = t64;
+        a[offa + 5] = t76;
+        a[offa + 6] = t77;
+    }
+
+    static void dct3_8(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float t0 = x4 + x4;
+        float t1 = 0.3535533905932738f * t0;
+        float t2 = x0 + t1;
+        float t3 = 0.46193976625564337f * x2;
+        float t4 = 0.1913417161825449f * x6;
+        float t5 = t3 + t4;
+        float t6 = 0.19134171618254492f * x6;
+        float t7 = t3 + t6;
+        float t8 = t5 + t7;
+        float t9 = t2 + t8;
+        float t10 = 0.4903926402016152f * x1;
+        float t11 = 0.09754516100806412f * x7;
+        float t12 = t10 + t11;
+        float t13 = 0.4157348061512726f * x3;
+        float t14 = 0.27778511650980114f * x5;
+        float t15 = t13 + t14;
+        float t16 = t12 + t15;
+        float t17 = 0.2777851165098011f * x5;
+        float t18 = t13 + t17;
+        float t19 = 0.09754516100806417f * x7;
+        float t20 = t10 + t19;
+        float t21 = t18 + t20;
+        float t22 = t16 + t21;
+        float t23 = t9 + t22;
+        float t24 = x0 - t1;
+        float t25 = 0.46193976625564337f * x6;
+        float t26 = 0.19134171618254492f * x2;
+        float t27 = t25 - t26;
+        float t28 = 0.1913417161825449f * x2;
+        float t29 = t28 - t25;
+        float t30 = t27 - t29;
+        float t31 = t24 - t30;
+        float t32 = t12 - t15;
+        float t33 = 0.4903926402016152f * x7;
+        float t34 = 0.09754516100806417f * x1;
+        float t35 = t33 - t34;
+        float t36 = 0.2777851165098011f * x3;
+        float t37 = 0.4157348061512726f * x5;
+        float t38 = t36 - t37;
+        float t39 = t35 - t38;
+        float t40 = t32 - t39;
+        float t41 = 0.09754516100806412f * x1;
+        float t42 = t41 - t33;
+        float t43 = 0.27778511650980114f * x3;
+        float t44 = t37 - t43;
+        float t45 = t42 - t44;
+        float t46 = t18 - t20;
+        float t47 = t45 - t46;
+        float t48 = t40 + t47;
+        float t49 = 0.7071067811865476f * t48;
+        float t50 = t31 + t49;
+        float t51 = t24 + t30;
+        float t52 = t32 + t39;
+        float t53 = t45 + t46;
+        float t54 = t52 - t53;
+        float t55 = 0.7071067811865476f * t54;
+        float t56 = t51 + t55;
+        float t57 = t2 - t8;
+        float t58 = t38 + t35;
+        float t59 = t42 + t44;
+        float t60 = t58 - t59;
+        float t61 = t57 - t60;
+        float t62 = t57 + t60;
+        float t63 = t51 - t55;
+        float t64 = t31 - t49;
+        float t65 = t9 - t22;
+        a[offa] = t23;
+        a[offa + 1] = t50;
+        a[offa + 2] = t56;
+        a[offa + 3] = t61;
+        a[offa + 4] = t62;
+        a[offa + 5] = t63;
+        a[offa + 6] = t64;
+        a[offa + 7] = t65;
+    }
+
+    static void dct3_9(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float t0 = 0.43301270189221935f * x3;
+        float t1 = 0.24999999999999997f * x6;
+        float t2 = t0 + t1;
+        float t3 = 0.25000000000000006f * x6;
+        float t4 = 0.4330127018922193f * x3;
+        float t5 = t3 + t4;
+        float t6 = t2 + t5;
+        float t7 = x0 + t6;
+        float t8 = 0.492403876506104f * x1;
+        float t9 = 0.08682408883346517f * x8;
+        float t10 = t8 + t9;
+        float t11 = 0.383022221559489f * x4;
+        float t12 = 0.3213938048432696f * x5;
+        float t13 = t11 + t12;
+        float t14 = 0.1710100716628344f * x7;
+        float t15 = 0.46984631039295416f * x2;
+        float t16 = t14 + t15;
+        float t17 = t13 + t16;
+        float t18 = t10 + t17;
+        float t19 = 0.4698463103929542f * x2;
+        float t20 = 0.17101007166283436f * x7;
+        float t21 = t19 + t20;
+        float t22 = 0.3213938048432697f * x5;
+        float t23 = t11 + t22;
+        float t24 = 0.08682408883346521f * x8;
+        float t25 = t8 + t24;
+        float t26 = t23 + t25;
+        float t27 = t21 + t26;
+        float t28 = t18 + t27;
+        float t29 = t7 + t28;
+        float t30 = 0.5f * t6;
+        float t31 = x0 - t30;
+        float t32 = 0.24999999999999997f * x3;
+        float t33 = 0.43301270189221935f * x6;
+        float t34 = t32 - t33;
+        float t35 = 0.4330127018922193f * x6;
+        float t36 = 0.25000000000000006f * x3;
+        float t37 = t35 - t36;
+        float t38 = t34 - t37;
+        float t39 = 0.8660254037844387f * t38;
+        float t40 = t31 + t39;
+        float t41 = 0.5f * t17;
+        float t42 = t10 - t41;
+        float t43 = 0.3213938048432696f * x4;
+        float t44 = 0.383022221559489f * x5;
+        float t45 = t43 - t44;
+        float t46 = 0.46984631039295416f * x7;
+        float t47 = 0.1710100716628344f * x2;
+        float t48 = t46 - t47;
+        float t49 = t45 - t48;
+        float t50 = 0.8660254037844387f * t49;
+        float t51 = t42 + t50;
+        float t52 = 0.17364817766693041f * t51;
+        float t53 = 0.08682408883346517f * x1;
+        float t54 = 0.492403876506104f * x8;
+        float t55 = t53 - t54;
+        float t56 = t45 + t48;
+        float t57 = 0.5f * t56;
+        float t58 = t55 - t57;
+        float t59 = t13 - t16;
+        float t60 = 0.8660254037844387f * t59;
+        float t61 = t58 - t60;
+        float t62 = 0.984807753012208f * t61;
+        float t63 = t52 - t62;
+        float t64 = 0.5f * t26;
+        float t65 = t21 - t64;
+        float t66 = 0.3213938048432697f * x4;
+        float t67 = t44 - t66;
+        float t68 = 0.08682408883346521f * x1;
+        float t69 = t54 - t68;
+        float t70 = t67 - t69;
+        float t71 = 0.8660254037844387f * t70;
+        float t72 = t65 + t71;
+        float t73 = 0.9396926207859083f * t72;
+        float t74 = 0.17101007166283436f * x2;
+        float t75 = 0.4698463103929542f * x7;
+        float t76 = t74 - t75;
+        float t77 = t67 + t69;
+        float t78 = 0.5f * t77;
+        float t79 = t76 - t78;
+        float t80 = t23 - t25;
+        float t81 = 0.8660254037844387f * t80;
+        float t82 = t79 - t81;
+        float t83 = 0.3420201433256689f * t82;
+        float t84 = t73 + t83;
+        float t85 = t63 - t84;
+        float t86 = 0.5f * t85;
+        float t87 = t40 - t86;
+        float t88 = 0.17364817766693041f * t61;
+        float t89 = 0.984807753012208f * t51;
+        float t90 = t88 + t89;
+        float t91 = 0.3420201433256689f * t72;
+        float t92 = 0.9396926207859083f * t82;
+        float t93 = t91 - t92;
+        float t94 = t90 - t93;
+        float t95 = 0.8660254037844387f * t94;
+        float t96 = t87 + t95;
+        float t97 = t31 - t39;
+        float t98 = t42 - t50;
+        float t99 = 0.766044443118978f * t98;
+        float t100 = t58 + t60;
+        float t101 = 0.6427876096865393f * t100;
+        float t102 = t99 - t101;
+        float t103 = t65 - t71;
+        float t104 = 0.17364817766693041f * t103;
+        float t105 = t79 + t81;
+        float t106 = 0.984807753012208f * t105;
+        float t107 = t104 - t106;
+        float t108 = t102 + t107;
+        float t109 = t97 + t108;
+        float t110 = 0.5f * t108;
+        float t111 = t97 - t110;
+        float t112 = 0.766044443118978f * t100;
+        float t113 = 0.6427876096865393f * t98;
+        float t114 = t112 + t113;
+        float t115 = 0.17364817766693041f * t105;
+        float t116 = 0.984807753012208f * t103;
+        float t117 = t115 + t116;
+        float t118 = t114 - t117;
+        float t119 = 0.8660254037844387f * t118;
+        float t120 = t111 + t119;
+        float t121 = t40 + t85;
+        float t122 = 0.5f * t28;
+        float t123 = t7 - t122;
+        float t124 = t55 + t56;
+        float t125 = t76 + t77;
+        float t126 = t124 - t125;
+        float t127 = 0.8660254037844387f * t126;
+        float t128 = t123 + t127;
+        float t129 = t123 - t127;
+        float t130 = t87 - t95;
+        float t131 = t111 - t119;
+        a[offa] = t29;
+        a[offa + 1] = t96;
+        a[offa + 2] = t109;
+        a[offa + 3] = t120;
+        a[offa + 4] = t121;
+        a[offa + 5] = t128;
+        a[offa + 6] = t129;
+        a[offa + 7] = t130;
+        a[offa + 8] = t131;
+    }
+
+    static void dct3_10(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float t0 = 0.4045084971874737f * x4;
+        float t1 = 0.29389262614623657f * x6;
+        float t2 = t0 + t1;
+        float t3 = t2 + t2;
+        float t4 = 0.47552825814757677f * x2;
+        float t5 = 0.1545084971874737f * x8;
+        float t6 = t4 + t5;
+        float t7 = 0.15450849718747373f * x8;
+        float t8 = t4 + t7;
+        float t9 = t6 + t8;
+        float t10 = x0 + t9;
+        float t11 = t3 + t10;
+        float t12 = x5 + x5;
+        float t13 = 0.3535533905932738f * t12;
+        float t14 = 0.2269952498697734f * x7;
+        float t15 = 0.4455032620941839f * x3;
+        float t16 = t14 + t15;
+        float t17 = t13 + t16;
+        float t18 = 0.4938441702975689f * x1;
+        float t19 = 0.07821723252011543f * x9;
+        float t20 = t18 + t19;
+        float t21 = 0.44550326209418395f * x3;
+        float t22 = 0.22699524986977337f * x7;
+        float t23 = t21 + t22;
+        float t24 = 0.07821723252011546f * x9;
+        float t25 = t18 + t24;
+        float t26 = t23 + t25;
+        float t27 = t20 + t26;
+        float t28 = t17 + t27;
+        float t29 = t11 + t28;
+        float t30 = 0.30901699437494745f * t9;
+        float t31 = x0 + t30;
+        float t32 = 0.8090169943749473f * t3;
+        float t33 = t31 - t32;
+        float t34 = 0.1545084971874737f * x2;
+        float t35 = 0.47552825814757677f * x8;
+        float t36 = t34 - t35;
+        float t37 = 0.15450849718747373f * x2;
+        float t38 = t35 - t37;
+        float t39 = t36 - t38;
+        float t40 = 0.9510565162951535f * t39;
+        float t41 = 0.29389262614623657f * x4;
+        float t42 = 0.4045084971874737f * x6;
+        float t43 = t41 - t42;
+        float t44 = t42 - t41;
+        float t45 = t43 - t44;
+        float t46 = 0.5877852522924732f * t45;
+        float t47 = t40 + t46;
+        float t48 = t33 + t47;
+        float t49 = 0.30901699437494745f * t26;
+        float t50 = t20 + t49;
+        float t51 = 0.8090169943749473f * t17;
+        float t52 = t50 - t51;
+        float t53 = 0.22699524986977337f * x3;
+        float t54 = 0.44550326209418395f * x7;
+        float t55 = t53 - t54;
+        float t56 = 0.4938441702975689f * x9;
+        float t57 = 0.07821723252011546f * x1;
+        float t58 = t56 - t57;
+        float t59 = t55 - t58;
+        float t60 = 0.9510565162951535f * t59;
+        float t61 = 0.2269952498697734f * x3;
+        float t62 = 0.4455032620941839f * x7;
+        float t63 = t61 - t62;
+        float t64 = 0.5877852522924732f * t63;
+        float t65 = t60 + t64;
+        float t66 = t52 + t65;
+        float t67 = 0.8090169943749473f * t66;
+        float t68 = 0.07821723252011543f * x1;
+        float t69 = t68 - t56;
+        float t70 = t55 + t58;
+        float t71 = 0.30901699437494745f * t70;
+        float t72 = t69 + t71;
+        float t73 = t62 - t61;
+        float t74 = 0.8090169943749473f * t73;
+        float t75 = t72 - t74;
+        float t76 = t23 - t25;
+        float t77 = 0.9510565162951535f * t76;
+        float t78 = t13 - t16;
+        float t79 = 0.5877852522924732f * t78;
+        float t80 = t77 + t79;
+        float t81 = t75 - t80;
+        float t82 = 0.5877852522924732f * t81;
+        float t83 = t67 + t82;
+        float t84 = t48 + t83;
+        float t85 = t33 - t47;
+        float t86 = t52 - t65;
+        float t87 = 0.8090169943749475f * t86;
+        float t88 = t75 + t80;
+        float t89 = 0.5877852522924731f * t88;
+        float t90 = t87 - t89;
+        float t91 = t85 + t90;
+        float t92 = 0.8090169943749473f * t9;
+        float t93 = x0 - t92;
+        float t94 = 0.30901699437494723f * t3;
+        float t95 = t93 + t94;
+        float t96 = 0.5877852522924732f * t39;
+        float t97 = 0.9510565162951536f * t45;
+        float t98 = t96 - t97;
+        float t99 = t95 + t98;
+        float t100 = 0.8090169943749473f * t26;
+        float t101 = t20 - t100;
+        float t102 = 0.30901699437494723f * t17;
+        float t103 = t101 + t102;
+        float t104 = 0.5877852522924732f * t59;
+        float t105 = 0.9510565162951536f * t63;
+        float t106 = t104 - t105;
+        float t107 = t103 + t106;
+        float t108 = 0.30901699437494734f * t107;
+        float t109 = 0.8090169943749473f * t70;
+        float t110 = t69 - t109;
+        float t111 = 0.30901699437494723f * t73;
+        float t112 = t110 + t111;
+        float t113 = 0.5877852522924732f * t76;
+        float t114 = 0.9510565162951536f * t78;
+        float t115 = t113 - t114;
+        float t116 = t112 - t115;
+        float t117 = 0.9510565162951536f * t116;
+        float t118 = t108 + t117;
+        float t119 = t99 + t118;
+        float t120 = t95 - t98;
+        float t121 = t103 - t106;
+        float t122 = 0.30901699437494745f * t121;
+        float t123 = t112 + t115;
+        float t124 = 0.9510565162951535f * t123;
+        float t125 = t122 - t124;
+        float t126 = t120 + t125;
+        float t127 = t120 - t125;
+        float t128 = t99 - t118;
+        float t129 = t85 - t90;
+        float t130 = t48 - t83;
+        float t131 = t11 - t28;
+        a[offa] = t29;
+        a[offa + 1] = t84;
+        a[offa + 2] = t91;
+        a[offa + 3] = t119;
+        a[offa + 4] = t126;
+        a[offa + 5] = t127;
+        a[offa + 6] = t128;
+        a[offa + 7] = t129;
+        a[offa + 8] = t130;
+        a[offa + 9] = t131;
+    }
+
+    static void dct3_11(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float t0 = 0.3778747871771292f * x5;
+        float t1 = 0.3274303669726425f * x6;
+        float t2 = t0 + t1;
+        float t3 = 0.32743036697264255f * x6;
+        float t4 = 0.37787478717712913f * x5;
+        float t5 = t3 + t4;
+        float t6 = t2 + t5;
+        float t7 = 0.4206267664155906f * x4;
+        float t8 = 0.2703204087277988f * x7;
+        float t9 = t7 + t8;
+        float t10 = 0.27032040872779883f * x7;
+        float t11 = 0.42062676641559055f * x4;
+        float t12 = t10 + t11;
+        float t13 = t9 + t12;
+        float t14 = 0.4548159976772592f * x3;
+        float t15 = 0.2077075065009432f * x8;
+        float t16 = t14 + t15;
+        float t17 = 0.20770750650094322f * x8;
+        float t18 = 0.45481599767725917f * x3;
+        float t19 = t17 + t18;
+        float t20 = t16 + t19;
+        float t21 = 0.4797464868072487f * x2;
+        float t22 = 0.14086627842071484f * x9;
+        float t23 = t21 + t22;
+        float t24 = 0.1408662784207148f * x9;
+        float t25 = t21 + t24;
+        float t26 = t23 + t25;
+        float t27 = 0.49491072094046634f * x1;
+        float t28 = 0.07115741913664257f * x10;
+        float t29 = t27 + t28;
+        float t30 = 0.07115741913664267f * x10;
+        float t31 = t27 + t30;
+        float t32 = t29 + t31;
+        float t33 = x0 + t32;
+        float t34 = t26 + t33;
+        float t35 = t20 + t34;
+        float t36 = t13 + t35;
+        float t37 = t6 + t36;
+        float t38 = 0.8412535328311812f * t32;
+        float t39 = x0 + t38;
+        float t40 = 0.41541501300188644f * t26;
+        float t41 = t39 + t40;
+        float t42 = 0.142314838273285f * t20;
+        float t43 = t41 - t42;
+        float t44 = 0.654860733945285f * t13;
+        float t45 = t43 - t44;
+        float t46 = 0.9594929736144973f * t6;
+        float t47 = t45 - t46;
+        float t48 = 0.07115741913664257f * x1;
+        float t49 = 0.49491072094046634f * x10;
+        float t50 = t48 - t49;
+        float t51 = 0.07115741913664267f * x1;
+        float t52 = t49 - t51;
+        float t53 = t50 - t52;
+        float t54 = 0.5406408174555976f * t53;
+        float t55 = 0.14086627842071484f * x2;
+        float t56 = 0.4797464868072487f * x9;
+        float t57 = t55 - t56;
+        float t58 = 0.1408662784207148f * x2;
+        float t59 = t56 - t58;
+        float t60 = t57 - t59;
+        float t61 = 0.9096319953545183f * t60;
+        float t62 = t54 + t61;
+        float t63 = 0.2077075065009432f * x3;
+        float t64 = 0.4548159976772592f * x8;
+        float t65 = t63 - t64;
+        float t66 = 0.45481599767725917f * x8;
+        float t67 = 0.20770750650094322f * x3;
+        float t68 = t66 - t67;
+        float t69 = t65 - t68;
+        float t70 = 0.9898214418809328f * t69;
+        float t71 = t62 + t70;
+        float t72 = 0.2703204087277988f * x4;
+        float t73 = 0.4206267664155906f * x7;
+        float t74 = t72 - t73;
+        float t75 = 0.42062676641559055f * x7;
+        float t76 = 0.27032040872779883f * x4;
+        float t77 = t75 - t76;
+        float t78 = t74 - t77;
+        float t79 = 0.7557495743542583f * t78;
+        float t80 = t71 + t79;
+        float t81 = 0.3274303669726425f * x5;
+        float t82 = 0.3778747871771292f * x6;
+        float t83 = t81 - t82;
+        float t84 = 0.37787478717712913f * x6;
+        float t85 = 0.32743036697264255f * x5;
+        float t86 = t84 - t85;
+        float t87 = t83 - t86;
+        float t88 = 0.28173255684143006f * t87;
+        float t89 = t80 + t88;
+        float t90 = t47 + t89;
+        float t91 = t47 - t89;
+        float t92 = 0.41541501300188644f * t32;
+        float t93 = x0 + t92;
+        float t94 = 0.654860733945285f * t26;
+        float t95 = t93 - t94;
+        float t96 = 0.9594929736144975f * t20;
+        float t97 = t95 - t96;
+        float t98 = 0.14231483827328523f * t13;
+        float t99 = t97 - t98;
+        float t100 = 0.8412535328311808f * t6;
+        float t101 = t99 + t100;
+        float t102 = 0.9096319953545183f * t53;
+        float t103 = 0.7557495743542583f * t60;
+        float t104 = t102 + t103;
+        float t105 = 0.2817325568414294f * t69;
+        float t106 = t104 - t105;
+        float t107 = 0.9898214418809327f * t78;
+        float t108 = t106 - t107;
+        float t109 = 0.5406408174555982f * t87;
+        float t110 = t108 - t109;
+        float t111 = t101 + t110;
+        float t112 = t101 - t110;
+        float t113 = 0.142314838273285f * t32;
+        float t114 = x0 - t113;
+        float t115 = 0.9594929736144975f * t26;
+        float t116 = t114 - t115;
+        float t117 = 0.4154150130018868f * t20;
+        float t118 = t116 + t117;
+        float t119 = 0.8412535328311812f * t13;
+        float t120 = t118 + t119;
+        float t121 = 0.654860733945285f * t6;
+        float t122 = t120 - t121;
+        float t123 = 0.9898214418809328f * t53;
+        float t124 = 0.2817325568414294f * t60;
+        float t125 = t123 - t124;
+        float t126 = 0.9096319953545182f * t69;
+        float t127 = t125 - t126;
+        float t128 = 0.5406408174555976f * t78;
+        float t129 = t127 + t128;
+        float t130 = 0.7557495743542583f * t87;
+        float t131 = t129 + t130;
+        float t132 = t122 + t131;
+        float t133 = t122 - t131;
+        float t134 = 0.654860733945285f * t32;
+        float t135 = x0 - t134;
+        float t136 = 0.14231483827328523f * t26;
+        float t137 = t135 - t136;
+        float t138 = 0.8412535328311812f * t20;
+        float t139 = t137 + t138;
+        float t140 = 0.9594929736144973f * t13;
+        float t141 = t139 - t140;
+        float t142 = 0.4154150130018868f * t6;
+        float t143 = t141 + t142;
+        float t144 = 0.7557495743542583f * t53;
+        float t145 = 0.9898214418809327f * t60;
+        float t146 = t144 - t145;
+        float t147 = 0.5406408174555976f * t69;
+        float t148 = t146 + t147;
+        float t149 = 0.28173255684143006f * t78;
+        float t150 = t148 + t149;
+        float t151 = 0.9096319953545182f * t87;
+        float t152 = t150 - t151;
+        float t153 = t143 + t152;
+        float t154 = t143 - t152;
+        float t155 = 0.9594929736144973f * t32;
+        float t156 = x0 - t155;
+        float t157 = 0.8412535328311808f * t26;
+        float t158 = t156 + t157;
+        float t159 = 0.654860733945285f * t20;
+        float t160 = t158 - t159;
+        float t161 = 0.4154150130018868f * t13;
+        float t162 = t160 + t161;
+        float t163 = 0.142314838273285f * t6;
+        float t164 = t162 - t163;
+        float t165 = 0.28173255684143006f * t53;
+        float t166 = 0.5406408174555982f * t60;
+        float t167 = t165 - t166;
+        float t168 = 0.7557495743542583f * t69;
+        float t169 = t167 + t168;
+        float t170 = 0.9096319953545182f * t78;
+        float t171 = t169 - t170;
+        float t172 = 0.9898214418809328f * t87;
+        float t173 = t171 + t172;
+        float t174 = t164 + t173;
+        float t175 = t164 - t173;
+        a[offa] = t37;
+        a[offa + 1] = t90;
+        a[offa + 2] = t91;
+        a[offa + 3] = t111;
+        a[offa + 4] = t112;
+        a[offa + 5] = t132;
+        a[offa + 6] = t133;
+        a[offa + 7] = t153;
+        a[offa + 8] = t154;
+        a[offa + 9] = t174;
+        a[offa + 10] = t175;
+    }
+
+    static void dct3_12(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float t0 = 0.43301270189221935f * x4;
+        float t1 = 0.24999999999999997f * x8;
+        float t2 = t0 + t1;
+        float t3 = 0.25000000000000006f * x8;
+        float t4 = 0.4330127018922193f * x4;
+        float t5 = t3 + t4;
+        float t6 = t2 + t5;
+        float t7 = x0 + t6;
+        float t8 = 0.48296291314453416f * x2;
+        float t9 = 0.12940952255126037f * x10;
+        float t10 = t8 + t9;
+        float t11 = x6 + x6;
+        float t12 = 0.3535533905932738f * t11;
+        float t13 = t10 + t12;
+        float t14 = t10 + t13;
+        float t15 = t7 + t14;
+        float t16 = 0.4957224306869052f * x1;
+        float t17 = 0.06526309611002579f * x11;
+        float t18 = t16 + t17;
+        float t19 = 0.3966766701456176f * x5;
+        float t20 = 0.30438071450436033f * x7;
+        float t21 = t19 + t20;
+        float t22 = 0.46193976625564337f * x3;
+        float t23 = 0.19134171618254492f * x9;
+        float t24 = t22 + t23;
+        float t25 = t21 + t24;
+        float t26 = t18 + t25;
+        float t27 = 0.1913417161825449f * x9;
+        float t28 = t22 + t27;
+        float t29 = 0.06526309611002586f * x11;
+        float t30 = t16 + t29;
+        float t31 = t21 + t30;
+        float t32 = t28 + t31;
+        float t33 = t26 + t32;
+        float t34 = t15 + t33;
+        float t35 = 0.5f * t6;
+        float t36 = x0 - t35;
+        float t37 = 0.24999999999999997f * x4;
+        float t38 = 0.43301270189221935f * x8;
+        float t39 = t37 - t38;
+        float t40 = 0.4330127018922193f * x8;
+        float t41 = 0.25000000000000006f * x4;
+        float t42 = t40 - t41;
+        float t43 = t39 - t42;
+        float t44 = 0.8660254037844387f * t43;
+        float t45 = t36 + t44;
+        float t46 = 0.5f * t13;
+        float t47 = t10 - t46;
+        float t48 = 0.12940952255126037f * x2;
+        float t49 = 0.48296291314453416f * x10;
+        float t50 = t48 - t49;
+        float t51 = 0.8660254037844387f * t50;
+        float t52 = t47 + t51;
+        float t53 = 0.5f * t52;
+        float t54 = t49 - t48;
+        float t55 = 0.5f * t54;
+        float t56 = t50 - t55;
+        float t57 = t12 - t10;
+        float t58 = 0.8660254037844387f * t57;
+        float t59 = t56 - t58;
+        float t60 = 0.8660254037844387f * t59;
+        float t61 = t53 + t60;
+        float t62 = t45 + t61;
+        float t63 = t21 - t30;
+        float t64 = 0.8660254037844387f * t63;
+        float t65 = 0.1913417161825449f * x3;
+        float t66 = 0.46193976625564337f * x9;
+        float t67 = t65 - t66;
+        float t68 = 0.3966766701456176f * x7;
+        float t69 = 0.30438071450436033f * x5;
+        float t70 = t68 - t69;
+        float t71 = 0.4957224306869052f * x11;
+        float t72 = 0.06526309611002586f * x1;
+        float t73 = t71 - t72;
+        float t74 = t70 + t73;
+        float t75 = 0.5f * t74;
+        float t76 = t67 - t75;
+        float t77 = t64 - t76;
+        float t78 = 0.06526309611002579f * x1;
+        float t79 = t78 - t71;
+        float t80 = t69 - t68;
+        float t81 = 0.19134171618254492f * x3;
+        float t82 = t66 - t81;
+        float t83 = t80 + t82;
+        float t84 = 0.5f * t83;
+        float t85 = t79 - t84;
+        float t86 = t21 - t24;
+        float t87 = 0.8660254037844387f * t86;
+        float t88 = t85 - t87;
+        float t89 = 0.5f * t88;
+        float t90 = 0.5f * t25;
+        float t91 = t18 - t90;
+        float t92 = t80 - t82;
+        float t93 = 0.8660254037844387f * t92;
+        float t94 = t91 + t93;
+        float t95 = 0.8660254037844386f * t94;
+        float t96 = t89 + t95;
+        float t97 = t77 - t96;
+        float t98 = t62 - t97;
+        float t99 = t36 - t44;
+        float t100 = t47 - t51;
+        float t101 = 0.5f * t100;
+        float t102 = t56 + t58;
+        float t103 = 0.8660254037844386f * t102;
+        float t104 = t101 - t103;
+        float t105 = t99 + t104;
+        float t106 = t91 - t93;
+        float t107 = 0.8660254037844387f * t106;
+        float t108 = t85 + t87;
+        float t109 = 0.5f * t108;
+        float t110 = t107 - t109;
+        float t111 = t76 + t64;
+        float t112 = t110 - t111;
+        float t113 = t105 + t112;
+        float t114 = t99 - t104;
+        float t115 = 0.5f * t31;
+        float t116 = t28 - t115;
+        float t117 = t70 - t73;
+        float t118 = 0.8660254037844387f * t117;
+        float t119 = t116 - t118;
+        float t120 = 0.8660254037844387f * t108;
+        float t121 = 0.5f * t106;
+        float t122 = t120 + t121;
+        float t123 = t119 - t122;
+        float t124 = t114 - t123;
+        float t125 = t45 - t61;
+        float t126 = 0.5f * t94;
+        float t127 = 0.8660254037844386f * t88;
+        float t128 = t126 - t127;
+        float t129 = t116 + t118;
+        float t130 = t128 - t129;
+        float t131 = t125 + t130;
+        float t132 = t7 - t14;
+        float t133 = t67 + t74;
+        float t134 = t79 + t83;
+        float t135 = t133 - t134;
+        float t136 = t132 - t135;
+        float t137 = t132 + t135;
+        float t138 = t125 - t130;
+        float t139 = t114 + t123;
+        float t140 = t105 - t112;
+        float t141 = t62 + t97;
+        float t142 = t15 - t33;
+        a[offa] = t34;
+        a[offa + 1] = t98;
+        a[offa + 2] = t113;
+        a[offa + 3] = t124;
+        a[offa + 4] = t131;
+        a[offa + 5] = t136;
+        a[offa + 6] = t137;
+        a[offa + 7] = t138;
+        a[offa + 8] = t139;
+        a[offa + 9] = t140;
+        a[offa + 10] = t141;
+        a[offa + 11] = t142;
+    }
+
+    static void dct3_13(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float t0 = 0.37425537408555054f * x6;
+        float t1 = 0.3315613291203976f * x7;
+        float t2 = t0 + t1;
+        float t3 = 0.33156132912039765f * x7;
+        float t4 = t0 + t3;
+        float t5 = t2 + t4;
+        float t6 = 0.4114919329468282f * x5;
+        float t7 = 0.2840323733655779f * x8;
+        float t8 = t6 + t7;
+        float t9 = 0.41149193294682823f * x5;
+        float t10 = t7 + t9;
+        float t11 = t8 + t10;
+        float t12 = 0.44272801282660496f * x4;
+        float t13 = 0.23236158602188428f * x9;
+        float t14 = t12 + t13;
+        float t15 = 0.2323615860218843f * x9;
+        float t16 = t12 + t15;
+        float t17 = t14 + t16;
+        float t18 = 0.4675081213427074f * x3;
+        float t19 = 0.1773024435212678f * x10;
+        float t20 = t18 + t19;
+        float t21 = 0.17730244352126778f * x10;
+        float t22 = t18 + t21;
+        float t23 = t20 + t22;
+        float t24 = 0.485470908713026f * x2;
+        float t25 = 0.11965783214377888f * x11;
+        float t26 = t24 + t25;
+        float t27 = 0.11965783214377891f * x11;
+        float t28 = t24 + t27;
+        float t29 = t26 + t28;
+        float t30 = 0.496354437049027f * x1;
+        float t31 = 0.06026834012766153f * x12;
+        float t32 = t30 + t31;
+        float t33 = 0.0602683401276615f * x12;
+        float t34 = t30 + t33;
+        float t35 = t32 + t34;
+        float t36 = x0 + t35;
+        float t37 = t29 + t36;
+        float t38 = t23 + t37;
+        float t39 = t17 + t38;
+        float t40 = t11 + t39;
+        float t41 = t5 + t40;
+        float t42 = 0.8854560256532099f * t35;
+        float t43 = x0 + t42;
+        float t44 = 0.5680647467311558f * t29;
+        float t45 = t43 + t44;
+        float t46 = 0.120536680255323f * t23;
+        float t47 = t45 + t46;
+        float t48 = 0.3546048870425357f * t17;
+        float t49 = t47 - t48;
+        float t50 = 0.7485107481711012f * t11;
+        float t51 = t49 - t50;
+        float t52 = 0.970941817426052f * t5;
+        float t53 = t51 - t52;
+        float t54 = 0.06026834012766153f * x1;
+        float t55 = 0.496354437049027f * x12;
+        float t56 = t54 - t55;
+        float t57 = 0.0602683401276615f * x1;
+        float t58 = t55 - t57;
+        float t59 = t56 - t58;
+        float t60 = 0.46472317204376856f * t59;
+        float t61 = 0.11965783214377888f * x2;
+        float t62 = 0.485470908713026f * x11;
+        float t63 = t61 - t62;
+        float t64 = 0.11965783214377891f * x2;
+        float t65 = t62 - t64;
+        float t66 = t63 - t65;
+        float t67 = 0.8229838658936565f * t66;
+        float t68 = t60 + t67;
+        float t69 = 0.1773024435212678f * x3;
+        float t70 = 0.4675081213427074f * x10;
+        float t71 = t69 - t70;
+        float t72 = 0.17730244352126778f * x3;
+        float t73 = t70 - t72;
+        float t74 = t71 - t73;
+        float t75 = 0.992708874098054f * t74;
+        float t76 = t68 + t75;
+        float t77 = 0.23236158602188428f * x4;
+        float t78 = 0.44272801282660496f * x9;
+        float t79 = t77 - t78;
+        float t80 = 0.2323615860218843f * x4;
+        float t81 = t78 - t80;
+        float t82 = t79 - t81;
+        float t83 = 0.9350162426854148f * t82;
+        float t84 = t76 + t83;
+        float t85 = 0.2840323733655779f * x5;
+        float t86 = 0.4114919329468282f * x8;
+        float t87 = t85 - t86;
+        float t88 = 0.41149193294682823f * x8;
+        float t89 = t88 - t85;
+        float t90 = t87 - t89;
+        float t91 = 0.6631226582407952f * t90;
+        float t92 = t84 + t91;
+        float t93 = 0.3315613291203976f * x6;
+        float t94 = 0.37425537408555054f * x7;
+        float t95 = t93 - t94;
+        float t96 = 0.33156132912039765f * x6;
+        float t97 = t94 - t96;
+        float t98 = t95 - t97;
+        float t99 = 0.23931566428755768f * t98;
+        float t100 = t92 + t99;
+        float t101 = t53 + t100;
+        float t102 = t53 - t100;
+        float t103 = 0.5680647467311558f * t35;
+        float t104 = x0 + t103;
+        float t105 = 0.3546048870425357f * t29;
+        float t106 = t104 - t105;
+        float t107 = 0.970941817426052f * t23;
+        float t108 = t106 - t107;
+        float t109 = 0.748510748171101f * t17;
+        float t110 = t108 - t109;
+        float t111 = 0.1205366802553232f * t11;
+        float t112 = t110 + t111;
+        float t113 = 0.88545602565321f * t5;
+        float t114 = t112 + t113;
+        float t115 = 0.8229838658936565f * t59;
+        float t116 = 0.9350162426854148f * t66;
+        float t117 = t115 + t116;
+        float t118 = 0.23931566428755768f * t74;
+        float t119 = t117 + t118;
+        float t120 = 0.6631226582407953f * t82;
+        float t121 = t119 - t120;
+        float t122 = 0.992708874098054f * t90;
+        float t123 = t121 - t122;
+        float t124 = 0.4647231720437684f * t98;
+        float t125 = t123 - t124;
+        float t126 = t114 + t125;
+        float t127 = t114 - t125;
+        float t128 = 0.120536680255323f * t35;
+        float t129 = x0 + t128;
+        float t130 = 0.970941817426052f * t29;
+        float t131 = t129 - t130;
+        float t132 = 0.3546048870425359f * t23;
+        float t133 = t131 - t132;
+        float t134 = 0.88545602565321f * t17;
+        float t135 = t133 + t134;
+        float t136 = 0.5680647467311558f * t11;
+        float t137 = t135 + t136;
+        float t138 = 0.7485107481711012f * t5;
+        float t139 = t137 - t138;
+        float t140 = 0.992708874098054f * t59;
+        float t141 = 0.23931566428755768f * t66;
+        float t142 = t140 + t141;
+        float t143 = 0.9350162426854147f * t74;
+        float t144 = t142 - t143;
+        float t145 = 0.4647231720437684f * t82;
+        float t146 = t144 - t145;
+        float t147 = 0.8229838658936565f * t90;
+        float t148 = t146 + t147;
+        float t149 = 0.6631226582407952f * t98;
+        float t150 = t148 + t149;
+        float t151 = t139 + t150;
+        float t152 = t139 - t150;
+        float t153 = 0.3546048870425357f * t35;
+        float t154 = x0 - t153;
+        float t155 = 0.748510748171101f * t29;
+        float t156 = t154 - t155;
+        float t157 = 0.88545602565321f * t23;
+        float t158 = t156 + t157;
+        float t159 = 0.120536680255323f * t17;
+        float t160 = t158 + t159;
+        float t161 = 0.9709418174260521f * t11;
+        float t162 = t160 - t161;
+        float t163 = 0.5680647467311556f * t5;
+        float t164 = t162 + t163;
+        float t165 = 0.9350162426854148f * t59;
+        float t166 = 0.6631226582407953f * t66;
+        float t167 = t165 - t166;
+        float t168 = 0.4647231720437684f * t74;
+        float t169 = t167 - t168;
+        float t170 = 0.992708874098054f * t82;
+        float t171 = t169 + t170;
+        float t172 = 0.23931566428755743f * t90;
+        float t173 = t171 - t172;
+        float t174 = 0.8229838658936566f * t98;
+        float t175 = t173 - t174;
+        float t176 = t164 + t175;
+        float t177 = t164 - t175;
+        float t178 = 0.7485107481711012f * t35;
+        float t179 = x0 - t178;
+        float t180 = 0.1205366802553232f * t29;
+        float t181 = t179 + t180;
+        float t182 = 0.5680647467311558f * t23;
+        float t183 = t181 + t182;
+        float t184 = 0.9709418174260521f * t17;
+        float t185 = t183 - t184;
+        float t186 = 0.88545602565321f * t11;
+        float t187 = t185 + t186;
+        float t188 = 0.3546048870425357f * t5;
+        float t189 = t187 - t188;
+        float t190 = 0.6631226582407952f * t59;
+        float t191 = 0.992708874098054f * t66;
+        float t192 = t190 - t191;
+        float t193 = 0.8229838658936565f * t74;
+        float t194 = t192 + t193;
+        float t195 = 0.23931566428755743f * t82;
+        float t196 = t194 - t195;
+        float t197 = 0.4647231720437684f * t90;
+        float t198 = t196 - t197;
+        float t199 = 0.9350162426854148f * t98;
+        float t200 = t198 + t199;
+        float t201 = t189 + t200;
+        float t202 = t189 - t200;
+        float t203 = 0.970941817426052f * t35;
+        float t204 = x0 - t203;
+        float t205 = 0.88545602565321f * t29;
+        float t206 = t204 + t205;
+        float t207 = 0.7485107481711012f * t23;
+        float t208 = t206 - t207;
+        float t209 = 0.5680647467311556f * t17;
+        float t210 = t208 + t209;
+        float t211 = 0.3546048870425357f * t11;
+        float t212 = t210 - t211;
+        float t213 = 0.1205366802553232f * t5;
+        float t214 = t212 + t213;
+        float t215 = 0.23931566428755768f * t59;
+        float t216 = 0.4647231720437684f * t66;
+        float t217 = t215 - t216;
+        float t218 = 0.6631226582407952f * t74;
+        float t219 = t217 + t218;
+        float t220 = 0.8229838658936566f * t82;
+        float t221 = t219 - t220;
+        float t222 = 0.9350162426854148f * t90;
+        float t223 = t221 + t222;
+        float t224 = 0.992708874098054f * t98;
+        float t225 = t223 - t224;
+        float t226 = t214 + t225;
+        float t227 = t214 - t225;
+        a[offa] = t41;
+        a[offa + 1] = t101;
+        a[offa + 2] = t102;
+        a[offa + 3] = t126;
+        a[offa + 4] = t127;
+        a[offa + 5] = t151;
+        a[offa + 6] = t152;
+        a[offa + 7] = t176;
+        a[offa + 8] = t177;
+        a[offa + 9] = t201;
+        a[offa + 10] = t202;
+        a[offa + 11] = t226;
+        a[offa + 12] = t227;
+    }
+
+    static void dct3_14(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float x13 = a[offa + 13];
+        float t0 = 0.3909157412340149f * x6;
+        float t1 = 0.31174490092936674f * x8;
+        float t2 = t0 + t1;
+        float t3 = 0.3117449009293668f * x8;
+        float t4 = t0 + t3;
+        float t5 = t2 + t4;
+        float t6 = 0.4504844339512096f * x4;
+        float t7 = 0.21694186955877906f * x10;
+        float t8 = t6 + t7;
+        float t9 = 0.2169418695587791f * x10;
+        float t10 = t6 + t9;
+        float t11 = t8 + t10;
+        float t12 = 0.4874639560909118f * x2;
+        float t13 = 0.1112604669781572f * x12;
+        float t14 = t12 + t13;
+        float t15 = 0.11126046697815722f * x12;
+        float t16 = t12 + t15;
+        float t17 = t14 + t16;
+        float t18 = x0 + t17;
+        float t19 = t11 + t18;
+        float t20 = t5 + t19;
+        float t21 = 0.42336209961414206f * x5;
+        float t22 = 0.2660160382576683f * x9;
+        float t23 = t21 + t22;
+        float t24 = x7 + x7;
+        float t25 = 0.3535533905932738f * t24;
+        float t26 = t23 + t25;
+        float t27 = 0.4719416651541838f * x3;
+        float t28 = 0.16513953097758358f * x11;
+        float t29 = t27 + t28;
+        float t30 = t23 + t29;
+        float t31 = 0.4968561049466213f * x1;
+        float t32 = 0.05598223805165393f * x13;
+        float t33 = t31 + t32;
+        float t34 = 0.16513953097758355f * x11;
+        float t35 = t27 + t34;
+        float t36 = 0.055982238051653956f * x13;
+        float t37 = t31 + t36;
+        float t38 = t35 + t37;
+        float t39 = t33 + t38;
+        float t40 = t30 + t39;
+        float t41 = t26 + t40;
+        float t42 = t20 + t41;
+        float t43 = 0.6234898018587336f * t17;
+        float t44 = x0 + t43;
+        float t45 = 0.22252093395631434f * t11;
+        float t46 = t44 - t45;
+        float t47 = 0.900968867902419f * t5;
+        float t48 = t46 - t47;
+        float t49 = 0.1112604669781572f * x2;
+        float t50 = 0.4874639560909118f * x12;
+        float t51 = t49 - t50;
+        float t52 = 0.11126046697815722f * x2;
+        float t53 = t50 - t52;
+        float t54 = t51 - t53;
+        float t55 = 0.7818314824680298f * t54;
+        float t56 = 0.21694186955877906f * x4;
+        float t57 = 0.4504844339512096f * x10;
+        float t58 = t56 - t57;
+        float t59 = 0.2169418695587791f * x4;
+        float t60 = t57 - t59;
+        float t61 = t58 - t60;
+        float t62 = 0.9749279121818236f * t61;
+        float t63 = t55 + t62;
+        float t64 = 0.31174490092936674f * x6;
+        float t65 = 0.3909157412340149f * x8;
+        float t66 = t64 - t65;
+        float t67 = 0.3117449009293668f * x6;
+        float t68 = t65 - t67;
+        float t69 = t66 - t68;
+        float t70 = 0.43388373911755823f * t69;
+        float t71 = t63 + t70;
+        float t72 = t48 + t71;
+        float t73 = 0.6234898018587336f * t38;
+        float t74 = t33 + t73;
+        float t75 = 0.22252093395631434f * t30;
+        float t76 = t74 - t75;
+        float t77 = 0.900968867902419f * t26;
+        float t78 = t76 - t77;
+        float t79 = 0.16513953097758355f * x3;
+        float t80 = 0.4719416651541838f * x11;
+        float t81 = t79 - t80;
+        float t82 = 0.4968561049466213f * x13;
+        float t83 = 0.055982238051653956f * x1;
+        float t84 = t82 - t83;
+        float t85 = t81 - t84;
+        float t86 = 0.7818314824680298f * t85;
+        float t87 = 0.2660160382576683f * x5;
+        float t88 = 0.42336209961414206f * x9;
+        float t89 = t87 - t88;
+        float t90 = 0.16513953097758358f * x3;
+        float t91 = t80 - t90;
+        float t92 = t89 - t91;
+        float t93 = 0.9749279121818236f * t92;
+        float t94 = t86 + t93;
+        float t95 = 0.43388373911755823f * t89;
+        float t96 = t94 + t95;
+        float t97 = t78 + t96;
+        float t98 = 0.900968867902419f * t97;
+        float t99 = 0.05598223805165393f * x1;
+        float t100 = t99 - t82;
+        float t101 = t81 + t84;
+        float t102 = 0.6234898018587336f * t101;
+        float t103 = t100 + t102;
+        float t104 = t89 + t91;
+        float t105 = 0.22252093395631434f * t104;
+        float t106 = t103 - t105;
+        float t107 = t88 - t87;
+        float t108 = 0.900968867902419f * t107;
+        float t109 = t106 - t108;
+        float t110 = t35 - t37;
+        float t111 = 0.7818314824680298f * t110;
+        float t112 = t23 - t29;
+        float t113 = 0.9749279121818236f * t112;
+        float t114 = t111 + t113;
+        float t115 = t25 - t23;
+        float t116 = 0.43388373911755823f * t115;
+        float t117 = t114 + t116;
+        float t118 = t109 - t117;
+        float t119 = 0.43388373911755823f * t118;
+        float t120 = t98 + t119;
+        float t121 = t72 + t120;
+        float t122 = t48 - t71;
+        float t123 = t78 - t96;
+        float t124 = 0.9009688679024191f * t123;
+        float t125 = t109 + t117;
+        float t126 = 0.4338837391175581f * t125;
+        float t127 = t124 - t126;
+        float t128 = t122 + t127;
+        float t129 = 0.22252093395631434f * t17;
+        float t130 = x0 - t129;
+        float t131 = 0.9009688679024191f * t11;
+        float t132 = t130 - t131;
+        float t133 = 0.6234898018587334f * t5;
+        float t134 = t132 + t133;
+        float t135 = 0.9749279121818236f * t54;
+        float t136 = 0.433883739117558f * t61;
+        float t137 = t135 - t136;
+        float t138 = 0.7818314824680299f * t69;
+        float t139 = t137 - t138;
+        float t140 = t134 + t139;
+        float t141 = 0.22252093395631434f * t38;
+        float t142 = t33 - t141;
+        float t143 = 0.9009688679024191f * t30;
+        float t144 = t142 - t143;
+        float t145 = 0.6234898018587334f * t26;
+        float t146 = t144 + t145;
+        float t147 = 0.9749279121818236f * t85;
+        float t148 = 0.433883739117558f * t92;
+        float t149 = t147 - t148;
+        float t150 = 0.7818314824680299f * t89;
+        float t151 = t149 - t150;
+        float t152 = t146 + t151;
+        float t153 = 0.6234898018587335f * t152;
+        float t154 = 0.22252093395631434f * t101;
+        float t155 = t100 - t154;
+        float t156 = 0.9009688679024191f * t104;
+        float t157 = t155 - t156;
+        float t158 = 0.6234898018587334f * t107;
+        float t159 = t157 + t158;
+        float t160 = 0.9749279121818236f * t110;
+        float t161 = 0.433883739117558f * t112;
+        float t162 = t160 - t161;
+        float t163 = 0.7818314824680299f * t115;
+        float t164 = t162 - t163;
+        float t165 = t159 - t164;
+        float t166 = 0.7818314824680299f * t165;
+        float t167 = t153 + t166;
+        float t168 = t140 + t167;
+        float t169 = t134 - t139;
+        float t170 = t146 - t151;
+        float t171 = 0.6234898018587336f * t170;
+        float t172 = t159 + t164;
+        float t173 = 0.7818314824680298f * t172;
+        float t174 = t171 - t173;
+        float t175 = t169 + t174;
+        float t176 = 0.900968867902419f * t17;
+        float t177 = x0 - t176;
+        float t178 = 0.6234898018587334f * t11;
+        float t179 = t177 + t178;
+        float t180 = 0.22252093395631434f * t5;
+        float t181 = t179 - t180;
+        float t182 = 0.43388373911755823f * t54;
+        float t183 = 0.7818314824680299f * t61;
+        float t184 = t182 - t183;
+        float t185 = 0.9749279121818236f * t69;
+        float t186 = t184 + t185;
+        float t187 = t181 + t186;
+        float t188 = 0.900968867902419f * t38;
+        float t189 = t33 - t188;
+        float t190 = 0.6234898018587334f * t30;
+        float t191 = t189 + t190;
+        float t192 = 0.22252093395631434f * t26;
+        float t193 = t191 - t192;
+        float t194 = 0.43388373911755823f * t85;
+        float t195 = 0.7818314824680299f * t92;
+        float t196 = t194 - t195;
+        float t197 = 0.9749279121818236f * t89;
+        float t198 = t196 + t197;
+        float t199 = t193 + t198;
+        float t200 = 0.22252093395631434f * t199;
+        float t201 = 0.900968867902419f * t101;
+        float t202 = t100 - t201;
+        float t203 = 0.6234898018587334f * t104;
+        float t204 = t202 + t203;
+        float t205 = 0.22252093395631434f * t107;
+        float t206 = t204 - t205;
+        float t207 = 0.43388373911755823f * t110;
+        float t208 = 0.7818314824680299f * t112;
+        float t209 = t207 - t208;
+        float t210 = 0.9749279121818236f * t115;
+        float t211 = t209 + t210;
+        float t212 = t206 - t211;
+        float t213 = 0.9749279121818236f * t212;
+        float t214 = t200 + t213;
+        float t215 = t187 + t214;
+        float t216 = t181 - t186;
+        float t217 = t193 - t198;
+        float t218 = 0.22252093395631445f * t217;
+        float t219 = t206 + t211;
+        float t220 = 0.9749279121818236f * t219;
+        float t221 = t218 - t220;
+        float t222 = t216 + t221;
+        float t223 = t216 - t221;
+        float t224 = t187 - t214;
+        float t225 = t169 - t174;
+        float t226 = t140 - t167;
+        float t227 = t122 - t127;
+        float t228 = t72 - t120;
+        float t229 = t20 - t41;
+        a[offa] = t42;
+        a[offa + 1] = t121;
+        a[offa + 2] = t128;
+        a[offa + 3] = t168;
+        a[offa + 4] = t175;
+        a[offa + 5] = t215;
+        a[offa + 6] = t222;
+        a[offa + 7] = t223;
+        a[offa + 8] = t224;
+        a[offa + 9] = t225;
+        a[offa + 10] = t226;
+        a[offa + 11] = t227;
+        a[offa + 12] = t228;
+        a[offa + 13] = t229;
+    }
+
+    static void dct3_15(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float x13 = a[offa + 13];
+        float x14 = a[offa + 14];
+        float t0 = 0.4045084971874737f * x6;
+        float t1 = 0.29389262614623657f * x9;
+        float t2 = t0 + t1;
+        float t3 = t2 + t2;
+        float t4 = 0.47552825814757677f * x3;
+        float t5 = 0.1545084971874737f * x12;
+        float t6 = t4 + t5;
+        float t7 = 0.15450849718747373f * x12;
+        float t8 = t4 + t7;
+        float t9 = t6 + t8;
+        float t10 = x0 + t9;
+        float t11 = t3 + t10;
+        float t12 = 0.3715724127386971f * x7;
+        float t13 = 0.3345653031794291f * x8;
+        float t14 = t12 + t13;
+        float t15 = 0.25000000000000006f * x10;
+        float t16 = 0.4330127018922193f * x5;
+        float t17 = t15 + t16;
+        float t18 = t14 + t17;
+        float t19 = 0.49726094768413664f * x1;
+        float t20 = 0.05226423163382673f * x14;
+        float t21 = t19 + t20;
+        float t22 = 0.45677272882130043f * x4;
+        float t23 = 0.20336832153790008f * x11;
+        float t24 = t22 + t23;
+        float t25 = 0.48907380036690284f * x2;
+        float t26 = 0.10395584540887962f * x13;
+        float t27 = t25 + t26;
+        float t28 = t24 + t27;
+        float t29 = t21 + t28;
+        float t30 = t18 + t29;
+        float t31 = 0.37157241273869707f * x7;
+        float t32 = t13 + t31;
+        float t33 = 0.2033683215379002f * x11;
+        float t34 = t22 + t33;
+        float t35 = t32 + t34;
+        float t36 = 0.10395584540887966f * x13;
+        float t37 = t25 + t36;
+        float t38 = 0.43301270189221935f * x5;
+        float t39 = 0.24999999999999997f * x10;
+        float t40 = t38 + t39;
+        float t41 = t21 + t40;
+        float t42 = t37 + t41;
+        float t43 = t35 + t42;
+        float t44 = t30 + t43;
+        float t45 = t11 + t44;
+        float t46 = 0.30901699437494745f * t9;
+        float t47 = x0 + t46;
+        float t48 = 0.8090169943749473f * t3;
+        float t49 = t47 - t48;
+        float t50 = 0.1545084971874737f * x3;
+        float t51 = 0.47552825814757677f * x12;
+        float t52 = t50 - t51;
+        float t53 = 0.15450849718747373f * x3;
+        float t54 = t51 - t53;
+        float t55 = t52 - t54;
+        float t56 = 0.9510565162951535f * t55;
+        float t57 = 0.29389262614623657f * x6;
+        float t58 = 0.4045084971874737f * x9;
+        float t59 = t57 - t58;
+        float t60 = t58 - t57;
+        float t61 = t59 - t60;
+        float t62 = 0.5877852522924732f * t61;
+        float t63 = t56 + t62;
+        float t64 = t49 + t63;
+        float t65 = 0.10395584540887966f * x2;
+        float t66 = 0.48907380036690284f * x13;
+        float t67 = t65 - t66;
+        float t68 = 0.24999999999999997f * x5;
+        float t69 = 0.43301270189221935f * x10;
+        float t70 = t68 - t69;
+        float t71 = 0.49726094768413664f * x14;
+        float t72 = 0.05226423163382673f * x1;
+        float t73 = t71 - t72;
+        float t74 = t70 + t73;
+        float t75 = 0.30901699437494745f * t74;
+        float t76 = t67 + t75;
+        float t77 = 0.37157241273869707f * x8;
+        float t78 = 0.3345653031794291f * x7;
+        float t79 = t77 - t78;
+        float t80 = 0.45677272882130043f * x11;
+        float t81 = 0.2033683215379002f * x4;
+        float t82 = t80 - t81;
+        float t83 = t79 + t82;
+        float t84 = 0.8090169943749473f * t83;
+        float t85 = t76 - t84;
+        float t86 = t40 - t21;
+        float t87 = 0.9510565162951535f * t86;
+        float t88 = t32 - t34;
+        float t89 = 0.5877852522924732f * t88;
+        float t90 = t87 + t89;
+        float t91 = t85 - t90;
+        float t92 = 0.20791169081775907f * t91;
+        float t93 = 0.30901699437494745f * t41;
+        float t94 = t37 + t93;
+        float t95 = 0.8090169943749473f * t35;
+        float t96 = t94 - t95;
+        float t97 = t70 - t73;
+        float t98 = 0.9510565162951535f * t97;
+        float t99 = t79 - t82;
+        float t100 = 0.5877852522924732f * t99;
+        float t101 = t98 + t100;
+        float t102 = t96 + t101;
+        float t103 = 0.9781476007338057f * t102;
+        float t104 = t92 - t103;
+        float t105 = 0.30901699437494745f * t28;
+        float t106 = t21 + t105;
+        float t107 = 0.8090169943749473f * t18;
+        float t108 = t106 - t107;
+        float t109 = 0.20336832153790008f * x4;
+        float t110 = t109 - t80;
+        float t111 = 0.10395584540887962f * x2;
+        float t112 = t66 - t111;
+        float t113 = t110 - t112;
+        float t114 = 0.9510565162951535f * t113;
+        float t115 = 0.3715724127386971f * x8;
+        float t116 = t78 - t115;
+        float t117 = 0.4330127018922193f * x10;
+        float t118 = 0.25000000000000006f * x5;
+        float t119 = t117 - t118;
+        float t120 = t116 - t119;
+        float t121 = 0.5877852522924732f * t120;
+        float t122 = t114 + t121;
+        float t123 = t108 + t122;
+        float t124 = 0.10452846326765333f * t123;
+        float t125 = t72 - t71;
+        float t126 = t110 + t112;
+        float t127 = 0.30901699437494745f * t126;
+        float t128 = t125 + t127;
+        float t129 = t116 + t119;
+        float t130 = 0.8090169943749473f * t129;
+        float t131 = t128 - t130;
+        float t132 = t24 - t27;
+        float t133 = 0.9510565162951535f * t132;
+        float t134 = t14 - t17;
+        float t135 = 0.5877852522924732f * t134;
+        float t136 = t133 + t135;
+        float t137 = t131 - t136;
+        float t138 = 0.9945218953682734f * t137;
+        float t139 = t124 + t138;
+        float t140 = t104 - t139;
+        float t141 = 0.5f * t140;
+        float t142 = t64 - t141;
+        float t143 = 0.9945218953682734f * t123;
+        float t144 = 0.10452846326765333f * t137;
+        float t145 = t143 - t144;
+        float t146 = 0.9781476007338057f * t91;
+        float t147 = 0.20791169081775907f * t102;
+        float t148 = t146 + t147;
+        float t149 = t145 + t148;
+        float t150 = 0.8660254037844387f * t149;
+        float t151 = t142 + t150;
+        float t152 = t49 - t63;
+        float t153 = t108 - t122;
+        float t154 = 0.9135454576426009f * t153;
+        float t155 = t131 + t136;
+        float t156 = 0.40673664307580015f * t155;
+        float t157 = t154 - t156;
+        float t158 = t96 - t101;
+        float t159 = 0.6691306063588582f * t158;
+        float t160 = t85 + t90;
+        float t161 = 0.7431448254773941f * t160;
+        float t162 = t159 - t161;
+        float t163 = t157 + t162;
+        float t164 = t152 + t163;
+        float t165 = 0.8090169943749473f * t9;
+        float t166 = x0 - t165;
+        float t167 = 0.30901699437494723f * t3;
+        float t168 = t166 + t167;
+        float t169 = 0.5877852522924732f * t55;
+        float t170 = 0.9510565162951536f * t61;
+        float t171 = t169 - t170;
+        float t172 = t168 + t171;
+        float t173 = 0.8090169943749473f * t28;
+        float t174 = t21 - t173;
+        float t175 = 0.30901699437494723f * t18;
+        float t176 = t174 + t175;
+        float t177 = 0.5877852522924732f * t113;
+        float t178 = 0.9510565162951536f * t120;
+        float t179 = t177 - t178;
+        float t180 = t176 + t179;
+        float t181 = 0.30901699437494745f * t180;
+        float t182 = 0.8090169943749473f * t126;
+        float t183 = t125 - t182;
+        float t184 = 0.30901699437494723f * t129;
+        float t185 = t183 + t184;
+        float t186 = 0.5877852522924732f * t132;
+        float t187 = 0.9510565162951536f * t134;
+        float t188 = t186 - t187;
+        float t189 = t185 - t188;
+        float t190 = 0.9510565162951535f * t189;
+        float t191 = t181 - t190;
+        float t192 = 0.8090169943749473f * t41;
+        float t193 = t37 - t192;
+        float t194 = 0.30901699437494723f * t35;
+        float t195 = t193 + t194;
+        float t196 = 0.5877852522924732f * t97;
+        float t197 = 0.9510565162951536f * t99;
+        float t198 = t196 - t197;
+        float t199 = t195 + t198;
+        float t200 = 0.8090169943749473f * t199;
+        float t201 = 0.8090169943749473f * t74;
+        float t202 = t67 - t201;
+        float t203 = 0.30901699437494723f * t83;
+        float t204 = t202 + t203;
+        float t205 = 0.5877852522924732f * t86;
+        float t206 = 0.9510565162951536f * t88;
+        float t207 = t205 - t206;
+        float t208 = t204 - t207;
+        float t209 = 0.5877852522924732f * t208;
+        float t210 = t200 + t209;
+        float t211 = t191 - t210;
+        float t212 = 0.5f * t211;
+        float t213 = t172 - t212;
+        float t214 = 0.30901699437494745f * t189;
+        float t215 = 0.9510565162951535f * t180;
+        float t216 = t214 + t215;
+        float t217 = 0.5877852522924732f * t199;
+        float t218 = 0.8090169943749473f * t208;
+        float t219 = t217 - t218;
+        float t220 = t216 - t219;
+        float t221 = 0.8660254037844387f * t220;
+        float t222 = t213 + t221;
+        float t223 = t168 - t171;
+        float t224 = t176 - t179;
+        float t225 = 0.6691306063588582f * t224;
+        float t226 = t185 + t188;
+        float t227 = 0.7431448254773941f * t226;
+        float t228 = t225 - t227;
+        float t229 = t195 - t198;
+        float t230 = 0.10452846326765333f * t229;
+        float t231 = t204 + t207;
+        float t232 = 0.9945218953682734f * t231;
+        float t233 = t230 + t232;
+        float t234 = t228 - t233;
+        float t235 = t223 + t234;
+        float t236 = 0.5f * t234;
+        float t237 = t223 - t236;
+        float t238 = 0.6691306063588582f * t226;
+        float t239 = 0.7431448254773941f * t224;
+        float t240 = t238 + t239;
+        float t241 = 0.9945218953682734f * t229;
+        float t242 = 0.10452846326765333f * t231;
+        float t243 = t241 - t242;
+        float t244 = t240 - t243;
+        float t245 = 0.8660254037844387f * t244;
+        float t246 = t237 + t245;
+        float t247 = t172 + t211;
+        float t248 = 0.5f * t163;
+        float t249 = t152 - t248;
+        float t250 = 0.9135454576426009f * t155;
+        float t251 = 0.40673664307580015f * t153;
+        float t252 = t250 + t251;
+        float t253 = 0.6691306063588582f * t160;
+        float t254 = 0.7431448254773941f * t158;
+        float t255 = t253 + t254;
+        float t256 = t252 - t255;
+        float t257 = 0.8660254037844387f * t256;
+        float t258 = t249 + t257;
+        float t259 = t64 + t140;
+        float t260 = 0.5f * t44;
+        float t261 = t11 - t260;
+        float t262 = t125 + t126;
+        float t263 = t129 + t262;
+        float t264 = t67 + t74;
+        float t265 = t83 + t264;
+        float t266 = t263 - t265;
+        float t267 = 0.8660254037844387f * t266;
+        float t268 = t261 + t267;
+        float t269 = t261 - t267;
+        float t270 = t142 - t150;
+        float t271 = t249 - t257;
+        float t272 = t213 - t221;
+        float t273 = t237 - t245;
+        a[offa] = t45;
+        a[offa + 1] = t151;
+        a[offa + 2] = t164;
+        a[offa + 3] = t222;
+        a[offa + 4] = t235;
+        a[offa + 5] = t246;
+        a[offa + 6] = t247;
+        a[offa + 7] = t258;
+        a[offa + 8] = t259;
+        a[offa + 9] = t268;
+        a[offa + 10] = t269;
+        a[offa + 11] = t270;
+        a[offa + 12] = t271;
+        a[offa + 13] = t272;
+        a[offa + 14] = t273;
+    }
+
+    static void dct3_16(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float x13 = a[offa + 13];
+        float x14 = a[offa + 14];
+        float x15 = a[offa + 15];
+        float t0 = x8 + x8;
+        float t1 = 0.3535533905932738f * t0;
+        float t2 = x0 + t1;
+        float t3 = 0.46193976625564337f * x4;
+        float t4 = 0.1913417161825449f * x12;
+        float t5 = t3 + t4;
+        float t6 = 0.19134171618254492f * x12;
+        float t7 = t3 + t6;
+        float t8 = t5 + t7;
+        float t9 = t2 + t8;
+        float t10 = 0.4903926402016152f * x2;
+        float t11 = 0.09754516100806412f * x14;
+        float t12 = t10 + t11;
+        float t13 = 0.4157348061512726f * x6;
+        float t14 = 0.27778511650980114f * x10;
+        float t15 = t13 + t14;
+        float t16 = t12 + t15;
+        float t17 = 0.2777851165098011f * x10;
+        float t18 = t13 + t17;
+        float t19 = 0.09754516100806417f * x14;
+        float t20 = t10 + t19;
+        float t21 = t18 + t20;
+        float t22 = t16 + t21;
+        float t23 = t9 + t22;
+        float t24 = 0.49759236333609846f * x1;
+        float t25 = 0.0490085701647803f * x15;
+        float t26 = t24 + t25;
+        float t27 = 0.3865052266813685f * x7;
+        float t28 = 0.31719664208182274f * x9;
+        float t29 = t27 + t28;
+        float t30 = t26 + t29;
+        float t31 = 0.4409606321741775f * x5;
+        float t32 = 0.23569836841299882f * x11;
+        float t33 = t31 + t32;
+        float t34 = 0.14514233862723117f * x13;
+        float t35 = 0.47847016786610447f * x3;
+        float t36 = t34 + t35;
+        float t37 = t33 + t36;
+        float t38 = t30 + t37;
+        float t39 = 0.4784701678661044f * x3;
+        float t40 = t39 + t34;
+        float t41 = 0.2356983684129989f * x11;
+        float t42 = 0.44096063217417747f * x5;
+        float t43 = t41 + t42;
+        float t44 = t40 + t43;
+        float t45 = 0.049008570164780385f * x15;
+        float t46 = 0.4975923633360984f * x1;
+        float t47 = t45 + t46;
+        float t48 = t29 + t47;
+        float t49 = t44 + t48;
+        float t50 = t38 + t49;
+        float t51 = t23 + t50;
+        float t52 = x0 - t1;
+        float t53 = 0.46193976625564337f * x12;
+        float t54 = 0.19134171618254492f * x4;
+        float t55 = t53 - t54;
+        float t56 = 0.1913417161825449f * x4;
+        float t57 = t56 - t53;
+        float t58 = t55 - t57;
+        float t59 = t52 - t58;
+        float t60 = t12 - t15;
+        float t61 = 0.4903926402016152f * x14;
+        float t62 = 0.09754516100806417f * x2;
+        float t63 = t61 - t62;
+        float t64 = 0.2777851165098011f * x6;
+        float t65 = 0.4157348061512726f * x10;
+        float t66 = t64 - t65;
+        float t67 = t63 - t66;
+        float t68 = t60 - t67;
+        float t69 = 0.09754516100806412f * x2;
+        float t70 = t69 - t61;
+        float t71 = 0.27778511650980114f * x6;
+        float t72 = t65 - t71;
+        float t73 = t70 - t72;
+        float t74 = t18 - t20;
+        float t75 = t73 - t74;
+        float t76 = t68 + t75;
+        float t77 = 0.7071067811865476f * t76;
+        float t78 = t59 + t77;
+        float t79 = 0.0490085701647803f * x1;
+        float t80 = 0.49759236333609846f * x15;
+        float t81 = t79 - t80;
+        float t82 = 0.3865052266813685f * x9;
+        float t83 = 0.31719664208182274f * x7;
+        float t84 = t82 - t83;
+        float t85 = t81 - t84;
+        float t86 = t33 - t36;
+        float t87 = t85 - t86;
+        float t88 = 0.38268343236508984f * t87;
+        float t89 = t26 - t29;
+        float t90 = 0.47847016786610447f * x13;
+        float t91 = 0.14514233862723117f * x3;
+        float t92 = t90 - t91;
+        float t93 = 0.23569836841299882f * x5;
+        float t94 = 0.4409606321741775f * x11;
+        float t95 = t93 - t94;
+        float t96 = t92 - t95;
+        float t97 = t89 - t96;
+        float t98 = 0.9238795325112867f * t97;
+        float t99 = t88 + t98;
+        float t100 = 0.4784701678661044f * x13;
+        float t101 = t91 - t100;
+        float t102 = 0.44096063217417747f * x11;
+        float t103 = 0.2356983684129989f * x5;
+        float t104 = t102 - t103;
+        float t105 = t101 - t104;
+        float t106 = t29 - t47;
+        float t107 = t105 - t106;
+        float t108 = 0.9238795325112868f * t107;
+        float t109 = t40 - t43;
+        float t110 = 0.4975923633360984f * x15;
+        float t111 = 0.049008570164780385f * x1;
+        float t112 = t110 - t111;
+        float t113 = t83 - t82;
+        float t114 = t112 - t113;
+        float t115 = t109 - t114;
+        float t116 = 0.38268343236508967f * t115;
+        float t117 = t108 + t116;
+        float t118 = t99 + t117;
+        float t119 = t78 + t118;
+        float t120 = t52 + t58;
+        float t121 = t60 + t67;
+        float t122 = t73 + t74;
+        float t123 = t121 - t122;
+        float t124 = 0.7071067811865476f * t123;
+        float t125 = t120 + t124;
+        float t126 = t89 + t96;
+        float t127 = 0.9238795325112867f * t126;
+        float t128 = t85 + t86;
+        float t129 = 0.3826834323650898f * t128;
+        float t130 = t127 - t129;
+        float t131 = t109 + t114;
+        float t132 = 0.38268343236508984f * t131;
+        float t133 = t105 + t106;
+        float t134 = 0.9238795325112867f * t133;
+        float t135 = t132 - t134;
+        float t136 = t130 + t135;
+        float t137 = t125 + t136;
+        float t138 = t2 - t8;
+        float t139 = t66 + t63;
+        float t140 = t70 + t72;
+        float t141 = t139 - t140;
+        float t142 = t138 - t141;
+        float t143 = t30 - t37;
+        float t144 = t81 + t84;
+        float t145 = t95 + t92;
+        float t146 = t144 - t145;
+        float t147 = t143 + t146;
+        float t148 = 0.7071067811865476f * t147;
+        float t149 = t101 + t104;
+        float t150 = t113 + t112;
+        float t151 = t149 - t150;
+        float t152 = t44 - t48;
+        float t153 = t151 - t152;
+        float t154 = 0.7071067811865476f * t153;
+        float t155 = t148 + t154;
+        float t156 = t142 + t155;
+        float t157 = t138 + t141;
+        float t158 = t143 - t146;
+        float t159 = 0.7071067811865476f * t158;
+        float t160 = t152 + t151;
+        float t161 = 0.7071067811865476f * t160;
+        float t162 = t159 - t161;
+        float t163 = t157 + t162;
+        float t164 = t120 - t124;
+        float t165 = 0.38268343236508984f * t133;
+        float t166 = 0.9238795325112867f * t131;
+        float t167 = t165 + t166;
+        float t168 = 0.9238795325112867f * t128;
+        float t169 = 0.3826834323650898f * t126;
+        float t170 = t168 + t169;
+        float t171 = t167 - t170;
+        float t172 = t164 - t171;
+        float t173 = t59 - t77;
+        float t174 = 0.38268343236508984f * t97;
+        float t175 = 0.9238795325112867f * t87;
+        float t176 = t174 - t175;
+        float t177 = 0.38268343236508967f * t107;
+        float t178 = 0.9238795325112868f * t115;
+        float t179 = t177 - t178;
+        float t180 = t176 + t179;
+        float t181 = t173 + t180;
+        float t182 = t9 - t22;
+        float t183 = t149 + t150;
+        float t184 = t144 + t145;
+        float t185 = t183 - t184;
+        float t186 = t182 - t185;
+        float t187 = t182 + t185;
+        float t188 = t173 - t180;
+        float t189 = t164 + t171;
+        float t190 = t157 - t162;
+        float t191 = t142 - t155;
+        float t192 = t125 - t136;
+        float t193 = t78 - t118;
+        float t194 = t23 - t50;
+        a[offa] = t51;
+        a[offa + 1] = t119;
+        a[offa + 2] = t137;
+        a[offa + 3] = t156;
+        a[offa + 4] = t163;
+        a[offa + 5] = t172;
+        a[offa + 6] = t181;
+        a[offa + 7] = t186;
+        a[offa + 8] = t187;
+        a[offa + 9] = t188;
+        a[offa + 10] = t189;
+        a[offa + 11] = t190;
+        a[offa + 12] = t191;
+        a[offa + 13] = t192;
+        a[offa + 14] = t193;
+        a[offa + 15] = t194;
+    }
+
+    static void dct3_18(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float x13 = a[offa + 13];
+        float x14 = a[offa + 14];
+        float x15 = a[offa + 15];
+        float x16 = a[offa + 16];
+        float x17 = a[offa + 17];
+        float t0 = 0.43301270189221935f * x6;
+        float t1 = 0.24999999999999997f * x12;
+        float t2 = t0 + t1;
+        float t3 = 0.25000000000000006f * x12;
+        float t4 = 0.4330127018922193f * x6;
+        float t5 = t3 + t4;
+        float t6 = t2 + t5;
+        float t7 = x0 + t6;
+        float t8 = 0.492403876506104f * x2;
+        float t9 = 0.08682408883346517f * x16;
+        float t10 = t8 + t9;
+        float t11 = 0.383022221559489f * x8;
+        float t12 = 0.3213938048432696f * x10;
+        float t13 = t11 + t12;
+        float t14 = 0.1710100716628344f * x14;
+        float t15 = 0.46984631039295416f * x4;
+        float t16 = t14 + t15;
+        float t17 = t13 + t16;
+        float t18 = t10 + t17;
+        float t19 = 0.4698463103929542f * x4;
+        float t20 = 0.17101007166283436f * x14;
+        float t21 = t19 + t20;
+        float t22 = 0.3213938048432697f * x10;
+        float t23 = t11 + t22;
+        float t24 = 0.08682408883346521f * x16;
+        float t25 = t8 + t24;
+        float t26 = t23 + t25;
+        float t27 = t21 + t26;
+        float t28 = t18 + t27;
+        float t29 = t7 + t28;
+        float t30 = 0.4980973490458728f * x1;
+        float t31 = 0.04357787137382908f * x17;
+        float t32 = t30 + t31;
+        float t33 = 0.45315389351832497f * x5;
+        float t34 = 0.21130913087034972f * x13;
+        float t35 = t33 + t34;
+        float t36 = 0.4095760221444959f * x7;
+        float t37 = 0.286788218175523f * x11;
+        float t38 = t36 + t37;
+        float t39 = t35 + t38;
+        float t40 = t32 + t39;
+        float t41 = 0.48296291314453416f * x3;
+        float t42 = 0.12940952255126037f * x15;
+        float t43 = t41 + t42;
+        float t44 = x9 + x9;
+        float t45 = 0.3535533905932738f * t44;
+        float t46 = t43 + t45;
+        float t47 = t43 + t46;
+        float t48 = 0.2867882181755231f * x11;
+        float t49 = t36 + t48;
+        float t50 = 0.04357787137382918f * x17;
+        float t51 = t30 + t50;
+        float t52 = t49 + t51;
+        float t53 = t35 + t52;
+        float t54 = t47 + t53;
+        float t55 = t40 + t54;
+        float t56 = t29 + t55;
+        float t57 = 0.5f * t6;
+        float t58 = x0 - t57;
+        float t59 = 0.24999999999999997f * x6;
+        float t60 = 0.43301270189221935f * x12;
+        float t61 = t59 - t60;
+        float t62 = 0.4330127018922193f * x12;
+        float t63 = 0.25000000000000006f * x6;
+        float t64 = t62 - t63;
+        float t65 = t61 - t64;
+        float t66 = 0.8660254037844387f * t65;
+        float t67 = t58 + t66;
+        float t68 = 0.5f * t17;
+        float t69 = t10 - t68;
+        float t70 = 0.3213938048432696f * x8;
+        float t71 = 0.383022221559489f * x10;
+        float t72 = t70 - t71;
+        float t73 = 0.46984631039295416f * x14;
+        float t74 = 0.1710100716628344f * x4;
+        float t75 = t73 - t74;
+        float t76 = t72 - t75;
+        float t77 = 0.8660254037844387f * t76;
+        float t78 = t69 + t77;
+        float t79 = 0.17364817766693041f * t78;
+        float t80 = 0.08682408883346517f * x2;
+        float t81 = 0.492403876506104f * x16;
+        float t82 = t80 - t81;
+        float t83 = t72 + t75;
+        float t84 = 0.5f * t83;
+        float t85 = t82 - t84;
+        float t86 = t13 - t16;
+        float t87 = 0.8660254037844387f * t86;
+        float t88 = t85 - t87;
+        float t89 = 0.984807753012208f * t88;
+        float t90 = t79 - t89;
+        float t91 = 0.5f * t26;
+        float t92 = t21 - t91;
+        float t93 = 0.3213938048432697f * x8;
+        float t94 = t71 - t93;
+        float t95 = 0.08682408883346521f * x2;
+        float t96 = t81 - t95;
+        float t97 = t94 - t96;
+        float t98 = 0.8660254037844387f * t97;
+        float t99 = t92 + t98;
+        float t100 = 0.9396926207859083f * t99;
+        float t101 = 0.17101007166283436f * x4;
+        float t102 = 0.4698463103929542f * x14;
+        float t103 = t101 - t102;
+        float t104 = t94 + t96;
+        float t105 = 0.5f * t104;
+        float t106 = t103 - t105;
+        float t107 = t23 - t25;
+        float t108 = 0.8660254037844387f * t107;
+        float t109 = t106 - t108;
+        float t110 = 0.3420201433256689f * t109;
+        float t111 = t100 + t110;
+        float t112 = t90 - t111;
+        float t113 = 0.5f * t112;
+        float t114 = t67 - t113;
+        float t115 = 0.17364817766693041f * t88;
+        float t116 = 0.984807753012208f * t78;
+        float t117 = t115 + t116;
+        float t118 = 0.3420201433256689f * t99;
+        float t119 = 0.9396926207859083f * t109;
+        float t120 = t118 - t119;
+        float t121 = t117 - t120;
+        float t122 = 0.8660254037844387f * t121;
+        float t123 = t114 + t122;
+        float t124 = 0.5f * t39;
+        float t125 = t32 - t124;
+        float t126 = 0.286788218175523f * x7;
+        float t127 = 0.4095760221444959f * x11;
+        float t128 = t126 - t127;
+        float t129 = 0.45315389351832497f * x13;
+        float t130 = 0.21130913087034972f * x5;
+        float t131 = t129 - t130;
+        float t132 = t128 - t131;
+        float t133 = 0.8660254037844387f * t132;
+        float t134 = t125 + t133;
+        float t135 = 0.5f * t46;
+        float t136 = t43 - t135;
+        float t137 = 0.12940952255126037f * x3;
+        float t138 = 0.48296291314453416f * x15;
+        float t139 = t137 - t138;
+        float t140 = 0.8660254037844387f * t139;
+        float t141 = t136 + t140;
+        float t142 = 0.17364817766693041f * t141;
+        float t143 = t138 - t137;
+        float t144 = 0.5f * t143;
+        float t145 = t139 - t144;
+        float t146 = t45 - t43;
+        float t147 = 0.8660254037844387f * t146;
+        float t148 = t145 - t147;
+        float t149 = 0.984807753012208f * t148;
+        float t150 = t142 - t149;
+        float t151 = 0.5f * t52;
+        float t152 = t35 - t151;
+        float t153 = 0.2867882181755231f * x7;
+        float t154 = t127 - t153;
+        float t155 = 0.4980973490458728f * x17;
+        float t156 = 0.04357787137382918f * x1;
+        float t157 = t155 - t156;
+        float t158 = t154 - t157;
+        float t159 = 0.8660254037844387f * t158;
+        float t160 = t152 + t159;
+        float t161 = 0.9396926207859083f * t160;
+        float t162 = t130 - t129;
+        float t163 = t154 + t157;
+        float t164 = 0.5f * t163;
+        float t165 = t162 - t164;
+        float t166 = t49 - t51;
+        float t167 = 0.8660254037844387f * t166;
+        float t168 = t165 - t167;
+        float t169 = 0.3420201433256689f * t168;
+        float t170 = t161 + t169;
+        float t171 = t150 - t170;
+        float t172 = 0.5f * t171;
+        float t173 = t134 - t172;
+        float t174 = 0.17364817766693041f * t148;
+        float t175 = 0.984807753012208f * t141;
+        float t176 = t174 + t175;
+        float t177 = 0.3420201433256689f * t160;
+        float t178 = 0.9396926207859083f * t168;
+        float t179 = t177 - t178;
+        float t180 = t176 - t179;
+        float t181 = 0.8660254037844387f * t180;
+        float t182 = t173 + t181;
+        float t183 = 0.9396926207859083f * t182;
+        float t184 = 0.04357787137382908f * x1;
+        float t185 = t184 - t155;
+        float t186 = t128 + t131;
+        float t187 = 0.5f * t186;
+        float t188 = t185 - t187;
+        float t189 = t38 - t35;
+        float t190 = 0.8660254037844387f * t189;
+        float t191 = t188 - t190;
+        float t192 = t176 + t179;
+        float t193 = 0.5f * t192;
+        float t194 = t191 - t193;
+        float t195 = t150 + t170;
+        float t196 = 0.8660254037844387f * t195;
+        float t197 = t194 - t196;
+        float t198 = 0.3420201433256689f * t197;
+        float t199 = t183 + t198;
+        float t200 = t123 + t199;
+        float t201 = t58 - t66;
+        float t202 = t69 - t77;
+        float t203 = 0.766044443118978f * t202;
+        float t204 = t85 + t87;
+        float t205 = 0.6427876096865393f * t204;
+        float t206 = t203 - t205;
+        float t207 = t92 - t98;
+        float t208 = 0.17364817766693041f * t207;
+        float t209 = t106 + t108;
+        float t210 = 0.984807753012208f * t209;
+        float t211 = t208 - t210;
+        float t212 = t206 + t211;
+        float t213 = t201 + t212;
+        float t214 = t125 - t133;
+        float t215 = t136 - t140;
+        float t216 = 0.766044443118978f * t215;
+        float t217 = t145 + t147;
+        float t218 = 0.6427876096865393f * t217;
+        float t219 = t216 - t218;
+        float t220 = t152 - t159;
+        float t221 = 0.17364817766693041f * t220;
+        float t222 = t165 + t167;
+        float t223 = 0.984807753012208f * t222;
+        float t224 = t221 - t223;
+        float t225 = t219 + t224;
+        float t226 = t214 + t225;
+        float t227 = 0.9396926207859084f * t226;
+        float t228 = t188 + t190;
+        float t229 = 0.766044443118978f * t217;
+        float t230 = 0.6427876096865393f * t215;
+        float t231 = t229 + t230;
+        float t232 = 0.17364817766693041f * t222;
+        float t233 = 0.984807753012208f * t220;
+        float t234 = t232 + t233;
+        float t235 = t231 + t234;
+        float t236 = t228 + t235;
+        float t237 = 0.3420201433256687f * t236;
+        float t238 = t227 - t237;
+        float t239 = t213 + t238;
+        float t240 = 0.5f * t212;
+        float t241 = t201 - t240;
+        float t242 = 0.766044443118978f * t204;
+        float t243 = 0.6427876096865393f * t202;
+        float t244 = t242 + t243;
+        float t245 = 0.17364817766693041f * t209;
+        float t246 = 0.984807753012208f * t207;
+        float t247 = t245 + t246;
+        float t248 = t244 - t247;
+        float t249 = 0.8660254037844387f * t248;
+        float t250 = t241 + t249;
+        float t251 = 0.5f * t225;
+        float t252 = t214 - t251;
+        float t253 = t231 - t234;
+        float t254 = 0.8660254037844387f * t253;
+        float t255 = t252 + t254;
+        float t256 = 0.7660444431189779f * t255;
+        float t257 = 0.5f * t235;
+        float t258 = t228 - t257;
+        float t259 = t219 - t224;
+        float t260 = 0.8660254037844387f * t259;
+        float t261 = t258 - t260;
+        float t262 = 0.6427876096865395f * t261;
+        float t263 = t256 + t262;
+        float t264 = t250 + t263;
+        float t265 = t67 + t112;
+        float t266 = t134 + t171;
+        float t267 = 0.766044443118978f * t266;
+        float t268 = t191 + t192;
+        float t269 = 0.6427876096865393f * t268;
+        float t270 = t267 - t269;
+        float t271 = t265 + t270;
+        float t272 = 0.5f * t28;
+        float t273 = t7 - t272;
+        float t274 = t82 + t83;
+        float t275 = t103 + t104;
+        float t276 = t274 - t275;
+        float t277 = 0.8660254037844387f * t276;
+        float t278 = t273 + t277;
+        float t279 = 0.5f * t54;
+        float t280 = t40 - t279;
+        float t281 = t139 + t143;
+        float t282 = t162 + t163;
+        float t283 = t281 - t282;
+        float t284 = 0.8660254037844387f * t283;
+        float t285 = t280 + t284;
+        float t286 = 0.5f * t285;
+        float t287 = t185 + t186;
+        float t288 = t281 + t282;
+        float t289 = 0.5f * t288;
+        float t290 = t287 - t289;
+        float t291 = t47 - t53;
+        float t292 = 0.8660254037844387f * t291;
+        float t293 = t290 - t292;
+        float t294 = 0.8660254037844387f * t293;
+        float t295 = t286 + t294;
+        float t296 = t278 + t295;
+        float t297 = t273 - t277;
+        float t298 = t280 - t284;
+        float t299 = 0.5f * t298;
+        float t300 = t290 + t292;
+        float t301 = 0.8660254037844386f * t300;
+        float t302 = t299 - t301;
+        float t303 = t297 + t302;
+        float t304 = t114 - t122;
+        float t305 = t173 - t181;
+        float t306 = 0.1736481776669303f * t305;
+        float t307 = t194 + t196;
+        float t308 = 0.984807753012208f * t307;
+        float t309 = t306 + t308;
+        float t310 = t304 + t309;
+        float t311 = t241 - t249;
+        float t312 = t252 - t254;
+        float t313 = 0.17364817766693041f * t312;
+        float t314 = t258 + t260;
+        float t315 = 0.984807753012208f * t314;
+        float t316 = t313 - t315;
+        float t317 = t311 + t316;
+        float t318 = t311 - t316;
+        float t319 = t304 - t309;
+        float t320 = t297 - t302;
+        float t321 = t278 - t295;
+        float t322 = t265 - t270;
+        float t323 = t250 - t263;
+        float t324 = t213 - t238;
+        float t325 = t123 - t199;
+        float t326 = t29 - t55;
+        a[offa] = t56;
+        a[offa + 1] = t200;
+        a[offa + 2] = t239;
+        a[offa + 3] = t264;
+        a[offa + 4] = t271;
+        a[offa + 5] = t296;
+        a[offa + 6] = t303;
+        a[offa + 7] = t310;
+        a[offa + 8] = t317;
+        a[offa + 9] = t318;
+        a[offa + 10] = t319;
+        a[offa + 11] = t320;
+        a[offa + 12] = t321;
+        a[offa + 13] = t322;
+        a[offa + 14] = t323;
+        a[offa + 15] = t324;
+        a[offa + 16] = t325;
+        a[offa + 17] = t326;
+    }
+
+    static void dct3_20(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float x13 = a[offa + 13];
+        float x14 = a[offa + 14];
+        float x15 = a[offa + 15];
+        float x16 = a[offa + 16];
+        float x17 = a[offa + 17];
+        float x18 = a[offa + 18];
+        float x19 = a[offa + 19];
+        float t0 = 0.4045084971874737f * x8;
+        float t1 = 0.29389262614623657f * x12;
+        float t2 = t0 + t1;
+        float t3 = t2 + t2;
+        float t4 = 0.47552825814757677f * x4;
+        float t5 = 0.1545084971874737f * x16;
+        float t6 = t4 + t5;
+        float t7 = 0.15450849718747373f * x16;
+        float t8 = t4 + t7;
+        float t9 = t6 + t8;
+        float t10 = x0 + t9;
+        float t11 = t3 + t10;
+        float t12 = x10 + x10;
+        float t13 = 0.3535533905932738f * t12;
+        float t14 = 0.2269952498697734f * x14;
+        float t15 = 0.4455032620941839f * x6;
+        float t16 = t14 + t15;
+        float t17 = t13 + t16;
+        float t18 = 0.4938441702975689f * x2;
+        float t19 = 0.07821723252011543f * x18;
+        float t20 = t18 + t19;
+        float t21 = 0.44550326209418395f * x6;
+        float t22 = 0.22699524986977337f * x14;
+        float t23 = t21 + t22;
+        float t24 = 0.07821723252011546f * x18;
+        float t25 = t18 + t24;
+        float t26 = t23 + t25;
+        float t27 = t20 + t26;
+        float t28 = t17 + t27;
+        float t29 = t11 + t28;
+        float t30 = 0.38020298280001547f * x9;
+        float t31 = 0.32472402416509183f * x11;
+        float t32 = t30 + t31;
+        float t33 = 0.4263200821770461f * x7;
+        float t34 = 0.26124928235797445f * x13;
+        float t35 = t33 + t34;
+        float t36 = t32 + t35;
+        float t37 = 0.498458666866564f * x1;
+        float t38 = 0.03922954786392247f * x19;
+        float t39 = t37 + t38;
+        float t40 = 0.46193976625564337f * x5;
+        float t41 = 0.1913417161825449f * x15;
+        float t42 = t40 + t41;
+        float t43 = 0.4861849601988383f * x3;
+        float t44 = 0.11672268192795274f * x17;
+        float t45 = t43 + t44;
+        float t46 = t42 + t45;
+        float t47 = t39 + t46;
+        float t48 = t36 + t47;
+        float t49 = 0.3247240241650918f * x11;
+        float t50 = 0.3802029828000155f * x9;
+        float t51 = t49 + t50;
+        float t52 = 0.19134171618254492f * x15;
+        float t53 = t40 + t52;
+        float t54 = t51 + t53;
+        float t55 = 0.1167226819279527f * x17;
+        float t56 = t43 + t55;
+        float t57 = 0.2612492823579744f * x13;
+        float t58 = t33 + t57;
+        float t59 = 0.0392295478639225f * x19;
+        float t60 = t37 + t59;
+        float t61 = t58 + t60;
+        float t62 = t56 + t61;
+        float t63 = t54 + t62;
+        float t64 = t48 + t63;
+        float t65 = t29 + t64;
+        float t66 = 0.30901699437494745f * t9;
+        float t67 = x0 + t66;
+        float t68 = 0.8090169943749473f * t3;
+        float t69 = t67 - t68;
+        float t70 = 0.1545084971874737f * x4;
+        float t71 = 0.47552825814757677f * x16;
+        float t72 = t70 - t71;
+        float t73 = 0.15450849718747373f * x4;
+        float t74 = t71 - t73;
+        float t75 = t72 - t74;
+        float t76 = 0.9510565162951535f * t75;
+        float t77 = 0.29389262614623657f * x8;
+        float t78 = 0.4045084971874737f * x12;
+        float t79 = t77 - t78;
+        float t80 = t78 - t77;
+        float t81 = t79 - t80;
+        float t82 = 0.5877852522924732f * t81;
+        float t83 = t76 + t82;
+        float t84 = t69 + t83;
+        float t85 = 0.30901699437494745f * t26;
+        float t86 = t20 + t85;
+        float t87 = 0.8090169943749473f * t17;
+        float t88 = t86 - t87;
+        float t89 = 0.22699524986977337f * x6;
+        float t90 = 0.44550326209418395f * x14;
+        float t91 = t89 - t90;
+        float t92 = 0.4938441702975689f * x18;
+        float t93 = 0.07821723252011546f * x2;
+        float t94 = t92 - t93;
+        float t95 = t91 - t94;
+        float t96 = 0.9510565162951535f * t95;
+        float t97 = 0.2269952498697734f * x6;
+        float t98 = 0.4455032620941839f * x14;
+        float t99 = t97 - t98;
+        float t100 = 0.5877852522924732f * t99;
+        float t101 = t96 + t100;
+        float t102 = t88 + t101;
+        float t103 = 0.8090169943749473f * t102;
+        float t104 = 0.07821723252011543f * x2;
+        float t105 = t104 - t92;
+        float t106 = t91 + t94;
+        float t107 = 0.30901699437494745f * t106;
+        float t108 = t105 + t107;
+        float t109 = t98 - t97;
+        float t110 = 0.8090169943749473f * t109;
+        float t111 = t108 - t110;
+        float t112 = t23 - t25;
+        float t113 = 0.9510565162951535f * t112;
+        float t114 = t13 - t16;
+        float t115 = 0.5877852522924732f * t114;
+        float t116 = t113 + t115;
+        float t117 = t111 - t116;
+        float t118 = 0.5877852522924732f * t117;
+        float t119 = t103 + t118;
+        float t120 = t84 + t119;
+        float t121 = 0.03922954786392247f * x1;
+        float t122 = 0.498458666866564f * x19;
+        float t123 = t121 - t122;
+        float t124 = 0.1913417161825449f * x5;
+        float t125 = 0.46193976625564337f * x15;
+        float t126 = t124 - t125;
+        float t127 = 0.4861849601988383f * x17;
+        float t128 = 0.11672268192795274f * x3;
+        float t129 = t127 - t128;
+        float t130 = t126 + t129;
+        float t131 = 0.30901699437494745f * t130;
+        float t132 = t123 + t131;
+        float t133 = 0.32472402416509183f * x9;
+        float t134 = 0.38020298280001547f * x11;
+        float t135 = t133 - t134;
+        float t136 = 0.4263200821770461f * x13;
+        float t137 = 0.26124928235797445f * x7;
+        float t138 = t136 - t137;
+        float t139 = t135 + t138;
+        float t140 = 0.8090169943749473f * t139;
+        float t141 = t132 - t140;
+        float t142 = t42 - t45;
+        float t143 = 0.9510565162951535f * t142;
+        float t144 = t32 - t35;
+        float t145 = 0.5877852522924732f * t144;
+        float t146 = t143 + t145;
+        float t147 = t141 - t146;
+        float t148 = 0.30901699437494745f * t147;
+        float t149 = 0.30901699437494745f * t46;
+        float t150 = t39 + t149;
+        float t151 = 0.8090169943749473f * t36;
+        float t152 = t150 - t151;
+        float t153 = t126 - t129;
+        float t154 = 0.9510565162951535f * t153;
+        float t155 = t135 - t138;
+        float t156 = 0.5877852522924732f * t155;
+        float t157 = t154 + t156;
+        float t158 = t152 + t157;
+        float t159 = 0.9510565162951535f * t158;
+        float t160 = t148 + t159;
+        float t161 = 0.1167226819279527f * x3;
+        float t162 = t161 - t127;
+        float t163 = 0.2612492823579744f * x7;
+        float t164 = t163 - t136;
+        float t165 = 0.0392295478639225f * x1;
+        float t166 = t122 - t165;
+        float t167 = t164 + t166;
+        float t168 = 0.30901699437494745f * t167;
+        float t169 = t162 + t168;
+        float t170 = 0.3802029828000155f * x11;
+        float t171 = 0.3247240241650918f * x9;
+        float t172 = t170 - t171;
+        float t173 = 0.19134171618254492f * x5;
+        float t174 = t125 - t173;
+        float t175 = t172 + t174;
+        float t176 = 0.8090169943749473f * t175;
+        float t177 = t169 - t176;
+        float t178 = t58 - t60;
+        float t179 = 0.9510565162951535f * t178;
+        float t180 = t51 - t53;
+        float t181 = 0.5877852522924732f * t180;
+        float t182 = t179 + t181;
+        float t183 = t177 - t182;
+        float t184 = 0.8090169943749476f * t183;
+        float t185 = 0.30901699437494745f * t61;
+        float t186 = t56 + t185;
+        float t187 = 0.8090169943749473f * t54;
+        float t188 = t186 - t187;
+        float t189 = t164 - t166;
+        float t190 = 0.9510565162951535f * t189;
+        float t191 = t172 - t174;
+        float t192 = 0.5877852522924732f * t191;
+        float t193 = t190 + t192;
+        float t194 = t188 + t193;
+        float t195 = 0.587785252292473f * t194;
+        float t196 = t184 + t195;
+        float t197 = t160 + t196;
+        float t198 = t120 + t197;
+        float t199 = t69 - t83;
+        float t200 = t88 - t101;
+        float t201 = 0.8090169943749475f * t200;
+        float t202 = t111 + t116;
+        float t203 = 0.5877852522924731f * t202;
+        float t204 = t201 - t203;
+        float t205 = t199 + t204;
+        float t206 = t152 - t157;
+        float t207 = 0.9510565162951535f * t206;
+        float t208 = t141 + t146;
+        float t209 = 0.3090169943749474f * t208;
+        float t210 = t207 - t209;
+        float t211 = t188 - t193;
+        float t212 = 0.5877852522924731f * t211;
+        float t213 = t177 + t182;
+        float t214 = 0.8090169943749475f * t213;
+        float t215 = t212 - t214;
+        float t216 = t210 + t215;
+        float t217 = t205 + t216;
+        float t218 = 0.8090169943749473f * t9;
+        float t219 = x0 - t218;
+        float t220 = 0.30901699437494723f * t3;
+        float t221 = t219 + t220;
+        float t222 = 0.5877852522924732f * t75;
+        float t223 = 0.9510565162951536f * t81;
+        float t224 = t222 - t223;
+        float t225 = t221 + t224;
+        float t226 = 0.8090169943749473f * t26;
+        float t227 = t20 - t226;
+        float t228 = 0.30901699437494723f * t17;
+        float t229 = t227 + t228;
+        float t230 = 0.5877852522924732f * t95;
+        float t231 = 0.9510565162951536f * t99;
+        float t232 = t230 - t231;
+        float t233 = t229 + t232;
+        float t234 = 0.30901699437494734f * t233;
+        float t235 = 0.8090169943749473f * t106;
+        float t236 = t105 - t235;
+        float t237 = 0.30901699437494723f * t109;
+        float t238 = t236 + t237;
+        float t239 = 0.5877852522924732f * t112;
+        float t240 = 0.9510565162951536f * t114;
+        float t241 = t239 - t240;
+        float t242 = t238 - t241;
+        float t243 = 0.9510565162951536f * t242;
+        float t244 = t234 + t243;
+        float t245 = t225 + t244;
+        float t246 = 0.8090169943749473f * t61;
+        float t247 = t56 - t246;
+        float t248 = 0.30901699437494723f * t54;
+        float t249 = t247 + t248;
+        float t250 = 0.5877852522924732f * t189;
+        float t251 = 0.9510565162951536f * t191;
+        float t252 = t250 - t251;
+        float t253 = t249 + t252;
+        float t254 = 0.3090169943749475f * t253;
+        float t255 = 0.8090169943749473f * t167;
+        float t256 = t162 - t255;
+        float t257 = 0.30901699437494723f * t175;
+        float t258 = t256 + t257;
+        float t259 = 0.5877852522924732f * t178;
+        float t260 = 0.9510565162951536f * t180;
+        float t261 = t259 - t260;
+        float t262 = t258 - t261;
+        float t263 = 0.9510565162951535f * t262;
+        float t264 = t254 - t263;
+        float t265 = 0.8090169943749473f * t130;
+        float t266 = t123 - t265;
+        float t267 = 0.30901699437494723f * t139;
+        float t268 = t266 + t267;
+        float t269 = 0.5877852522924732f * t142;
+        float t270 = 0.9510565162951536f * t144;
+        float t271 = t269 - t270;
+        float t272 = t268 - t271;
+        float t273 = 0.5877852522924731f * t272;
+        float t274 = 0.8090169943749473f * t46;
+        float t275 = t39 - t274;
+        float t276 = 0.30901699437494723f * t36;
+        float t277 = t275 + t276;
+        float t278 = 0.5877852522924732f * t153;
+        float t279 = 0.9510565162951536f * t155;
+        float t280 = t278 - t279;
+        float t281 = t277 + t280;
+        float t282 = 0.8090169943749475f * t281;
+        float t283 = t273 + t282;
+        float t284 = t264 - t283;
+        float t285 = t245 - t284;
+        float t286 = t221 - t224;
+        float t287 = t229 - t232;
+        float t288 = 0.30901699437494745f * t287;
+        float t289 = t238 + t241;
+        float t290 = 0.9510565162951535f * t289;
+        float t291 = t288 - t290;
+        float t292 = t286 + t291;
+        float t293 = t277 - t280;
+        float t294 = 0.8090169943749475f * t293;
+        float t295 = t268 + t271;
+        float t296 = 0.5877852522924731f * t295;
+        float t297 = t294 - t296;
+        float t298 = t249 - t252;
+        float t299 = 0.30901699437494734f * t298;
+        float t300 = t258 + t261;
+        float t301 = 0.9510565162951536f * t300;
+        float t302 = t299 + t301;
+        float t303 = t297 - t302;
+        float t304 = t292 + t303;
+        float t305 = t286 - t291;
+        float t306 = 0.9510565162951536f * t298;
+        float t307 = 0.30901699437494734f * t300;
+        float t308 = t306 - t307;
+        float t309 = 0.8090169943749475f * t295;
+        float t310 = 0.5877852522924731f * t293;
+        float t311 = t309 + t310;
+        float t312 = t308 - t311;
+        float t313 = t305 - t312;
+        float t314 = t225 - t244;
+        float t315 = 0.5877852522924731f * t281;
+        float t316 = 0.8090169943749475f * t272;
+        float t317 = t315 - t316;
+        float t318 = 0.9510565162951535f * t253;
+        float t319 = 0.3090169943749475f * t262;
+        float t320 = t318 + t319;
+        float t321 = t317 - t320;
+        float t322 = t314 + t321;
+        float t323 = t199 - t204;
+        float t324 = 0.5877852522924731f * t213;
+        float t325 = 0.8090169943749475f * t211;
+        float t326 = t324 + t325;
+        float t327 = 0.9510565162951535f * t208;
+        float t328 = 0.3090169943749474f * t206;
+        float t329 = t327 + t328;
+        float t330 = t326 - t329;
+        float t331 = t323 - t330;
+        float t332 = t84 - t119;
+        float t333 = 0.30901699437494745f * t158;
+        float t334 = 0.9510565162951535f * t147;
+        float t335 = t333 - t334;
+        float t336 = 0.587785252292473f * t183;
+        float t337 = 0.8090169943749476f * t194;
+        float t338 = t336 - t337;
+        float t339 = t335 + t338;
+        float t340 = t332 + t339;
+        float t341 = t11 - t28;
+        float t342 = t162 + t167;
+        float t343 = t175 + t342;
+        float t344 = t123 + t130;
+        float t345 = t139 + t344;
+        float t346 = t343 - t345;
+        float t347 = t341 - t346;
+        float t348 = t341 + t346;
+        float t349 = t332 - t339;
+        float t350 = t323 + t330;
+        float t351 = t314 - t321;
+        float t352 = t305 + t312;
+        float t353 = t292 - t303;
+        float t354 = t245 + t284;
+        float t355 = t205 - t216;
+        float t356 = t120 - t197;
+        float t357 = t29 - t64;
+        a[offa] = t65;
+        a[offa + 1] = t198;
+        a[offa + 2] = t217;
+        a[offa + 3] = t285;
+        a[offa + 4] = t304;
+        a[offa + 5] = t313;
+        a[offa + 6] = t322;
+        a[offa + 7] = t331;
+        a[offa + 8] = t340;
+        a[offa + 9] = t347;
+        a[offa + 10] = t348;
+        a[offa + 11] = t349;
+        a[offa + 12] = t350;
+        a[offa + 13] = t351;
+        a[offa + 14] = t352;
+        a[offa + 15] = t353;
+        a[offa + 16] = t354;
+        a[offa + 17] = t355;
+        a[offa + 18] = t356;
+        a[offa + 19] = t357;
+    }
+
+    static void dct3_24(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float x13 = a[offa + 13];
+        float x14 = a[offa + 14];
+        float x15 = a[offa + 15];
+        float x16 = a[offa + 16];
+        float x17 = a[offa + 17];
+        float x18 = a[offa + 18];
+        float x19 = a[offa + 19];
+        float x20 = a[offa + 20];
+        float x21 = a[offa + 21];
+        float x22 = a[offa + 22];
+        float x23 = a[offa + 23];
+        float t0 = 0.43301270189221935f * x8;
+        float t1 = 0.24999999999999997f * x16;
+        float t2 = t0 + t1;
+        float t3 = 0.25000000000000006f * x16;
+        float t4 = 0.4330127018922193f * x8;
+        float t5 = t3 + t4;
+        float t6 = t2 + t5;
+        float t7 = x0 + t6;
+        float t8 = 0.48296291314453416f * x4;
+        float t9 = 0.12940952255126037f * x20;
+        float t10 = t8 + t9;
+        float t11 = x12 + x12;
+        float t12 = 0.3535533905932738f * t11;
+        float t13 = t10 + t12;
+        float t14 = t10 + t13;
+        float t15 = t7 + t14;
+        float t16 = 0.4957224306869052f * x2;
+        float t17 = 0.06526309611002579f * x22;
+        float t18 = t16 + t17;
+        float t19 = 0.3966766701456176f * x10;
+        float t20 = 0.30438071450436033f * x14;
+        float t21 = t19 + t20;
+        float t22 = 0.46193976625564337f * x6;
+        float t23 = 0.19134171618254492f * x18;
+        float t24 = t22 + t23;
+        float t25 = t21 + t24;
+        float t26 = t18 + t25;
+        float t27 = 0.1913417161825449f * x18;
+        float t28 = t22 + t27;
+        float t29 = 0.06526309611002586f * x22;
+        float t30 = t16 + t29;
+        float t31 = t21 + t30;
+        float t32 = t28 + t31;
+        float t33 = t26 + t32;
+        float t34 = t15 + t33;
+        float t35 = 0.49892946161930174f * x1;
+        float t36 = 0.03270156461507153f * x23;
+        float t37 = t35 + t36;
+        float t38 = 0.4157348061512726f * x9;
+        float t39 = 0.2777851165098011f * x15;
+        float t40 = t38 + t39;
+        float t41 = 0.22114434510950062f * x17;
+        float t42 = 0.4484363707663442f * x7;
+        float t43 = t41 + t42;
+        float t44 = t40 + t43;
+        float t45 = t37 + t44;
+        float t46 = 0.47346506474755284f * x5;
+        float t47 = 0.1607197326515808f * x19;
+        float t48 = t46 + t47;
+        float t49 = 0.3296729075500345f * x13;
+        float t50 = 0.37591990373948864f * x11;
+        float t51 = t49 + t50;
+        float t52 = 0.4903926402016152f * x3;
+        float t53 = 0.09754516100806417f * x21;
+        float t54 = t52 + t53;
+        float t55 = t51 + t54;
+        float t56 = t48 + t55;
+        float t57 = t45 + t56;
+        float t58 = 0.09754516100806412f * x21;
+        float t59 = t52 + t58;
+        float t60 = 0.3759199037394887f * x11;
+        float t61 = 0.3296729075500344f * x13;
+        float t62 = t60 + t61;
+        float t63 = 0.16071973265158085f * x19;
+        float t64 = 0.4734650647475528f * x5;
+        float t65 = t63 + t64;
+        float t66 = t62 + t65;
+        float t67 = t59 + t66;
+        float t68 = 0.44843637076634413f * x7;
+        float t69 = 0.22114434510950065f * x17;
+        float t70 = t68 + t69;
+        float t71 = 0.27778511650980114f * x15;
+        float t72 = t38 + t71;
+        float t73 = 0.032701564615071524f * x23;
+        float t74 = t35 + t73;
+        float t75 = t72 + t74;
+        float t76 = t70 + t75;
+        float t77 = t67 + t76;
+        float t78 = t57 + t77;
+        float t79 = t34 + t78;
+        float t80 = 0.5f * t6;
+        float t81 = x0 - t80;
+        float t82 = 0.24999999999999997f * x8;
+        float t83 = 0.43301270189221935f * x16;
+        float t84 = t82 - t83;
+        float t85 = 0.4330127018922193f * x16;
+        float t86 = 0.25000000000000006f * x8;
+        float t87 = t85 - t86;
+        float t88 = t84 - t87;
+        float t89 = 0.8660254037844387f * t88;
+        float t90 = t81 + t89;
+        float t91 = 0.5f * t13;
+        float t92 = t10 - t91;
+        float t93 = 0.12940952255126037f * x4;
+        float t94 = 0.48296291314453416f * x20;
+        float t95 = t93 - t94;
+        float t96 = 0.8660254037844387f * t95;
+        float t97 = t92 + t96;
+        float t98 = 0.5f * t97;
+        float t99 = t94 - t93;
+        float t100 = 0.5f * t99;
+        float t101 = t95 - t100;
+        float t102 = t12 - t10;
+        float t103 = 0.8660254037844387f * t102;
+        float t104 = t101 - t103;
+        float t105 = 0.8660254037844387f * t104;
+        float t106 = t98 + t105;
+        float t107 = t90 + t106;
+        float t108 = 0.5f * t25;
+        float t109 = t18 - t108;
+        float t110 = 0.30438071450436033f * x10;
+        float t111 = 0.3966766701456176f * x14;
+        float t112 = t110 - t111;
+        float t113 = 0.46193976625564337f * x18;
+        float t114 = 0.19134171618254492f * x6;
+        float t115 = t113 - t114;
+        float t116 = t112 - t115;
+        float t117 = 0.8660254037844387f * t116;
+        float t118 = t109 + t117;
+        float t119 = 0.5f * t31;
+        float t120 = t28 - t119;
+        float t121 = t111 - t110;
+        float t122 = 0.4957224306869052f * x22;
+        float t123 = 0.06526309611002586f * x2;
+        float t124 = t122 - t123;
+        float t125 = t121 - t124;
+        float t126 = 0.8660254037844387f * t125;
+        float t127 = t120 + t126;
+        float t128 = 0.5f * t127;
+        float t129 = 0.1913417161825449f * x6;
+        float t130 = t129 - t113;
+        float t131 = t121 + t124;
+        float t132 = 0.5f * t131;
+        float t133 = t130 - t132;
+        float t134 = t21 - t30;
+        float t135 = 0.8660254037844387f * t134;
+        float t136 = t133 - t135;
+        float t137 = 0.8660254037844387f * t136;
+        float t138 = t128 + t137;
+        float t139 = t118 + t138;
+        float t140 = 0.8660254037844387f * t139;
+        float t141 = 0.06526309611002579f * x2;
+        float t142 = t141 - t122;
+        float t143 = t112 + t115;
+        float t144 = 0.5f * t143;
+        float t145 = t142 - t144;
+        float t146 = t21 - t24;
+        float t147 = 0.8660254037844387f * t146;
+        float t148 = t145 - t147;
+        float t149 = 0.8660254037844387f * t127;
+        float t150 = 0.5f * t136;
+        float t151 = t149 - t150;
+        float t152 = t148 - t151;
+        float t153 = 0.5f * t152;
+        float t154 = t140 + t153;
+        float t155 = t107 + t154;
+        float t156 = 0.03270156461507153f * x1;
+        float t157 = 0.49892946161930174f * x23;
+        float t158 = t156 - t157;
+        float t159 = 0.2777851165098011f * x9;
+        float t160 = 0.4157348061512726f * x15;
+        float t161 = t159 - t160;
+        float t162 = 0.4484363707663442f * x17;
+        float t163 = 0.22114434510950062f * x7;
+        float t164 = t162 - t163;
+        float t165 = t161 + t164;
+        float t166 = 0.5f * t165;
+        float t167 = t158 - t166;
+        float t168 = t40 - t43;
+        float t169 = 0.8660254037844387f * t168;
+        float t170 = t167 - t169;
+        float t171 = 0.5f * t55;
+        float t172 = t48 - t171;
+        float t173 = 0.37591990373948864f * x13;
+        float t174 = 0.3296729075500345f * x11;
+        float t175 = t173 - t174;
+        float t176 = 0.4903926402016152f * x21;
+        float t177 = 0.09754516100806417f * x3;
+        float t178 = t176 - t177;
+        float t179 = t175 - t178;
+        float t180 = 0.8660254037844387f * t179;
+        float t181 = t172 + t180;
+        float t182 = 0.8660254037844387f * t181;
+        float t183 = 0.1607197326515808f * x5;
+        float t184 = 0.47346506474755284f * x19;
+        float t185 = t183 - t184;
+        float t186 = t175 + t178;
+        float t187 = 0.5f * t186;
+        float t188 = t185 - t187;
+        float t189 = t51 - t54;
+        float t190 = 0.8660254037844387f * t189;
+        float t191 = t188 - t190;
+        float t192 = 0.5f * t191;
+        float t193 = t182 - t192;
+        float t194 = t170 - t193;
+        float t195 = 0.25881904510252074f * t194;
+        float t196 = 0.5f * t44;
+        float t197 = t37 - t196;
+        float t198 = t161 - t164;
+        float t199 = 0.8660254037844387f * t198;
+        float t200 = t197 + t199;
+        float t201 = 0.5f * t181;
+        float t202 = 0.8660254037844387f * t191;
+        float t203 = t201 + t202;
+        float t204 = t200 + t203;
+        float t205 = 0.9659258262890683f * t204;
+        float t206 = t195 + t205;
+        float t207 = 0.5f * t66;
+        float t208 = t59 - t207;
+        float t209 = 0.3296729075500344f * x11;
+        float t210 = 0.3759199037394887f * x13;
+        float t211 = t209 - t210;
+        float t212 = 0.4734650647475528f * x19;
+        float t213 = 0.16071973265158085f * x5;
+        float t214 = t212 - t213;
+        float t215 = t211 - t214;
+        float t216 = 0.8660254037844387f * t215;
+        float t217 = t208 + t216;
+        float t218 = 0.5f * t75;
+        float t219 = t70 - t218;
+        float t220 = 0.27778511650980114f * x9;
+        float t221 = t160 - t220;
+        float t222 = 0.032701564615071524f * x1;
+        float t223 = t157 - t222;
+        float t224 = t221 - t223;
+        float t225 = 0.8660254037844387f * t224;
+        float t226 = t219 + t225;
+        float t227 = 0.5f * t226;
+        float t228 = 0.22114434510950065f * x7;
+        float t229 = 0.44843637076634413f * x17;
+        float t230 = t228 - t229;
+        float t231 = t221 + t223;
+        float t232 = 0.5f * t231;
+        float t233 = t230 - t232;
+        float t234 = t72 - t74;
+        float t235 = 0.8660254037844387f * t234;
+        float t236 = t233 - t235;
+        float t237 = 0.8660254037844387f * t236;
+        float t238 = t227 + t237;
+        float t239 = t217 + t238;
+        float t240 = 0.09754516100806412f * x3;
+        float t241 = t240 - t176;
+        float t242 = t211 + t214;
+        float t243 = 0.5f * t242;
+        float t244 = t241 - t243;
+        float t245 = t62 - t65;
+        float t246 = 0.8660254037844387f * t245;
+        float t247 = t244 - t246;
+        float t248 = 0.8660254037844387f * t226;
+        float t249 = 0.5f * t236;
+        float t250 = t248 - t249;
+        float t251 = t247 - t250;
+        float t252 = t239 + t251;
+        float t253 = 0.7071067811865476f * t252;
+        float t254 = t206 + t253;
+        float t255 = t155 + t254;
+        float t256 = t81 - t89;
+        float t257 = t92 - t96;
+        float t258 = 0.5f * t257;
+        float t259 = t101 + t103;
+        float t260 = 0.8660254037844386f * t259;
+        float t261 = t258 - t260;
+        float t262 = t256 + t261;
+        float t263 = t109 - t117;
+        float t264 = t120 - t126;
+        float t265 = 0.5f * t264;
+        float t266 = t133 + t135;
+        float t267 = 0.8660254037844386f * t266;
+        float t268 = t265 - t267;
+        float t269 = t263 + t268;
+        float t270 = 0.8660254037844387f * t269;
+        float t271 = t145 + t147;
+        float t272 = 0.5f * t266;
+        float t273 = 0.8660254037844386f * t264;
+        float t274 = t272 + t273;
+        float t275 = t271 + t274;
+        float t276 = 0.5f * t275;
+        float t277 = t270 - t276;
+        float t278 = t262 + t277;
+        float t279 = t197 - t199;
+        float t280 = t172 - t180;
+        float t281 = 0.5f * t280;
+        float t282 = t188 + t190;
+        float t283 = 0.8660254037844386f * t282;
+        float t284 = t281 - t283;
+        float t285 = t279 + t284;
+        float t286 = 0.9659258262890683f * t285;
+        float t287 = t167 + t169;
+        float t288 = 0.5f * t282;
+        float t289 = 0.8660254037844386f * t280;
+        float t290 = t288 + t289;
+        float t291 = t287 + t290;
+        float t292 = 0.25881904510252074f * t291;
+        float t293 = t286 - t292;
+        float t294 = t208 - t216;
+        float t295 = t219 - t225;
+        float t296 = 0.5f * t295;
+        float t297 = t233 + t235;
+        float t298 = 0.8660254037844386f * t297;
+        float t299 = t296 - t298;
+        float t300 = t294 + t299;
+        float t301 = t244 + t246;
+        float t302 = 0.5f * t297;
+        float t303 = 0.8660254037844386f * t295;
+        float t304 = t302 + t303;
+        float t305 = t301 + t304;
+        float t306 = t300 - t305;
+        float t307 = 0.7071067811865476f * t306;
+        float t308 = t293 + t307;
+        float t309 = t278 + t308;
+        float t310 = t256 - t261;
+        float t311 = t263 - t268;
+        float t312 = 0.5f * t311;
+        float t313 = t271 - t274;
+        float t314 = 0.8660254037844387f * t313;
+        float t315 = t312 + t314;
+        float t316 = t310 + t315;
+        float t317 = t304 - t301;
+        float t318 = t287 - t290;
+        float t319 = 0.5f * t318;
+        float t320 = t279 - t284;
+        float t321 = 0.8660254037844386f * t320;
+        float t322 = t319 + t321;
+        float t323 = t317 - t322;
+        float t324 = t316 - t323;
+        float t325 = t90 - t106;
+        float t326 = t118 - t138;
+        float t327 = 0.5f * t326;
+        float t328 = t148 + t151;
+        float t329 = 0.8660254037844386f * t328;
+        float t330 = t327 - t329;
+        float t331 = t325 + t330;
+        float t332 = t200 - t203;
+        float t333 = 0.8660254037844387f * t332;
+        float t334 = t170 + t193;
+        float t335 = 0.5f * t334;
+        float t336 = t333 - t335;
+        float t337 = t247 + t250;
+        float t338 = t336 - t337;
+        float t339 = t331 + t338;
+        float t340 = t7 - t14;
+        float t341 = t130 + t131;
+        float t342 = t142 + t143;
+        float t343 = t341 - t342;
+        float t344 = t340 - t343;
+        float t345 = t45 - t56;
+        float t346 = t158 + t165;
+        float t347 = t185 + t186;
+        float t348 = t346 - t347;
+        float t349 = t345 + t348;
+        float t350 = 0.7071067811865476f * t349;
+        float t351 = t241 + t242;
+        float t352 = t230 + t231;
+        float t353 = t351 - t352;
+        float t354 = t67 - t76;
+        float t355 = t353 - t354;
+        float t356 = 0.7071067811865476f * t355;
+        float t357 = t350 + t356;
+        float t358 = t344 + t357;
+        float t359 = t340 + t343;
+        float t360 = t345 - t348;
+        float t361 = 0.7071067811865476f * t360;
+        float t362 = t354 + t353;
+        float t363 = 0.7071067811865476f * t362;
+        float t364 = t361 - t363;
+        float t365 = t359 + t364;
+        float t366 = t325 - t330;
+        float t367 = t217 - t238;
+        float t368 = 0.8660254037844387f * t334;
+        float t369 = 0.5f * t332;
+        float t370 = t368 + t369;
+        float t371 = t367 - t370;
+        float t372 = t366 - t371;
+        float t373 = t310 - t315;
+        float t374 = 0.5f * t320;
+        float t375 = 0.8660254037844386f * t318;
+        float t376 = t374 - t375;
+        float t377 = t299 - t294;
+        float t378 = t376 + t377;
+        float t379 = t373 + t378;
+        float t380 = t262 - t277;
+        float t381 = t300 + t305;
+        float t382 = 0.7071067811865476f * t381;
+        float t383 = 0.9659258262890683f * t291;
+        float t384 = 0.25881904510252074f * t285;
+        float t385 = t383 + t384;
+        float t386 = t382 - t385;
+        float t387 = t380 - t386;
+        float t388 = t107 - t154;
+        float t389 = 0.25881904510252074f * t204;
+        float t390 = 0.9659258262890683f * t194;
+        float t391 = t389 - t390;
+        float t392 = t239 - t251;
+        float t393 = 0.7071067811865476f * t392;
+        float t394 = t391 - t393;
+        float t395 = t388 + t394;
+        float t396 = t15 - t33;
+        float t397 = t351 + t352;
+        float t398 = t346 + t347;
+        float t399 = t397 - t398;
+        float t400 = t396 - t399;
+        float t401 = t396 + t399;
+        float t402 = t388 - t394;
+        float t403 = t380 + t386;
+        float t404 = t373 - t378;
+        float t405 = t366 + t371;
+        float t406 = t359 - t364;
+        float t407 = t344 - t357;
+        float t408 = t331 - t338;
+        float t409 = t316 + t323;
+        float t410 = t278 - t308;
+        float t411 = t155 - t254;
+        float t412 = t34 - t78;
+        a[offa] = t79;
+        a[offa + 1] = t255;
+        a[offa + 2] = t309;
+        a[offa + 3] = t324;
+        a[offa + 4] = t339;
+        a[offa + 5] = t358;
+        a[offa + 6] = t365;
+        a[offa + 7] = t372;
+        a[offa + 8] = t379;
+        a[offa + 9] = t387;
+        a[offa + 10] = t395;
+        a[offa + 11] = t400;
+        a[offa + 12] = t401;
+        a[offa + 13] = t402;
+        a[offa + 14] = t403;
+        a[offa + 15] = t404;
+        a[offa + 16] = t405;
+        a[offa + 17] = t406;
+        a[offa + 18] = t407;
+        a[offa + 19] = t408;
+        a[offa + 20] = t409;
+        a[offa + 21] = t410;
+        a[offa + 22] = t411;
+        a[offa + 23] = t412;
+    }
+
+    static void dct3_32(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float x13 = a[offa + 13];
+        float x14 = a[offa + 14];
+        float x15 = a[offa + 15];
+        float x16 = a[offa + 16];
+        float x17 = a[offa + 17];
+        float x18 = a[offa + 18];
+        float x19 = a[offa + 19];
+        float x20 = a[offa + 20];
+        float x21 = a[offa + 21];
+        float x22 = a[offa + 22];
+        float x23 = a[offa + 23];
+        float x24 = a[offa + 24];
+        float x25 = a[offa + 25];
+        float x26 = a[offa + 26];
+        float x27 = a[offa + 27];
+        float x28 = a[offa + 28];
+        float x29 = a[offa + 29];
+        float x30 = a[offa + 30];
+        float x31 = a[offa + 31];
+        float t0 = x16 + x16;
+        float t1 = 0.3535533905932738f * t0;
+        float t2 = x0 + t1;
+        float t3 = 0.46193976625564337f * x8;
+        float t4 = 0.1913417161825449f * x24;
+        float t5 = t3 + t4;
+        float t6 = 0.19134171618254492f * x24;
+        float t7 = t3 + t6;
+        float t8 = t5 + t7;
+        float t9 = t2 + t8;
+        float t10 = 0.4903926402016152f * x4;
+        float t11 = 0.09754516100806412f * x28;
+        float t12 = t10 + t11;
+        float t13 = 0.4157348061512726f * x12;
+        float t14 = 0.27778511650980114f * x20;
+        float t15 = t13 + t14;
+        float t16 = t12 + t15;
+        float t17 = 0.2777851165098011f * x20;
+        float t18 = t13 + t17;
+        float t19 = 0.09754516100806417f * x28;
+        float t20 = t10 + t19;
+        float t21 = t18 + t20;
+        float t22 = t16 + t21;
+        float t23 = t9 + t22;
+        float t24 = 0.49759236333609846f * x2;
+        float t25 = 0.0490085701647803f * x30;
+        float t26 = t24 + t25;
+        float t27 = 0.3865052266813685f * x14;
+        float t28 = 0.31719664208182274f * x18;
+        float t29 = t27 + t28;
+        float t30 = t26 + t29;
+        float t31 = 0.4409606321741775f * x10;
+        float t32 = 0.23569836841299882f * x22;
+        float t33 = t31 + t32;
+        float t34 = 0.14514233862723117f * x26;
+        float t35 = 0.47847016786610447f * x6;
+        float t36 = t34 + t35;
+        float t37 = t33 + t36;
+        float t38 = t30 + t37;
+        float t39 = 0.4784701678661044f * x6;
+        float t40 = t39 + t34;
+        float t41 = 0.2356983684129989f * x22;
+        float t42 = 0.44096063217417747f * x10;
+        float t43 = t41 + t42;
+        float t44 = t40 + t43;
+        float t45 = 0.049008570164780385f * x30;
+        float t46 = 0.4975923633360984f * x2;
+        float t47 = t45 + t46;
+        float t48 = t29 + t47;
+        float t49 = t44 + t48;
+        float t50 = t38 + t49;
+        float t51 = t23 + t50;
+        float t52 = 0.4993977281025862f * x1;
+        float t53 = 0.024533837163709007f * x31;
+        float t54 = t52 + t53;
+        float t55 = 0.37047556267747955f * x15;
+        float t56 = 0.33577947742350917f * x17;
+        float t57 = t55 + t56;
+        float t58 = t54 + t57;
+        float t59 = 0.4707720325915104f * x7;
+        float t60 = 0.16844492669611003f * x25;
+        float t61 = t59 + t60;
+        float t62 = 0.45199464656172167f * x9;
+        float t63 = 0.21377754671514104f * x23;
+        float t64 = t62 + t63;
+        float t65 = t61 + t64;
+        float t66 = t58 + t65;
+        float t67 = 0.485015626597272f * x5;
+        float t68 = 0.12149008995163194f * x27;
+        float t69 = t67 + t68;
+        float t70 = 0.42886430500013606f * x11;
+        float t71 = 0.25705137209661083f * x21;
+        float t72 = t70 + t71;
+        float t73 = t69 + t72;
+        float t74 = 0.4945882549823905f * x3;
+        float t75 = 0.07336523722768087f * x29;
+        float t76 = t74 + t75;
+        float t77 = 0.40160376574032247f * x13;
+        float t78 = 0.2978496522462167f * x19;
+        float t79 = t77 + t78;
+        float t80 = t76 + t79;
+        float t81 = t73 + t80;
+        float t82 = t66 + t81;
+        float t83 = 0.29784965224621673f * x19;
+        float t84 = 0.4016037657403224f * x13;
+        float t85 = t83 + t84;
+        float t86 = t76 + t85;
+        float t87 = 0.12149008995163199f * x27;
+        float t88 = t67 + t87;
+        float t89 = t72 + t88;
+        float t90 = t86 + t89;
+        float t91 = 0.2137775467151411f * x23;
+        float t92 = t62 + t91;
+        float t93 = t61 + t92;
+        float t94 = 0.024533837163709063f * x31;
+        float t95 = t52 + t94;
+        float t96 = t57 + t95;
+        float t97 = t93 + t96;
+        float t98 = t90 + t97;
+        float t99 = t82 + t98;
+        float t100 = t51 + t99;
+        float t101 = x0 - t1;
+        float t102 = 0.46193976625564337f * x24;
+        float t103 = 0.19134171618254492f * x8;
+        float t104 = t102 - t103;
+        float t105 = 0.1913417161825449f * x8;
+        float t106 = t105 - t102;
+        float t107 = t104 - t106;
+        float t108 = t101 - t107;
+        float t109 = t12 - t15;
+        float t110 = 0.4903926402016152f * x28;
+        float t111 = 0.09754516100806417f * x4;
+        float t112 = t110 - t111;
+        float t113 = 0.2777851165098011f * x12;
+        float t114 = 0.4157348061512726f * x20;
+        float t115 = t113 - t114;
+        float t116 = t112 - t115;
+        float t117 = t109 - t116;
+        float t118 = 0.09754516100806412f * x4;
+        float t119 = t118 - t110;
+        float t120 = 0.27778511650980114f * x12;
+        float t121 = t114 - t120;
+        float t122 = t119 - t121;
+        float t123 = t18 - t20;
+        float t124 = t122 - t123;
+        float t125 = t117 + t124;
+        float t126 = 0.7071067811865476f * t125;
+        float t127 = t108 + t126;
+        float t128 = t26 - t29;
+        float t129 = 0.47847016786610447f * x26;
+        float t130 = 0.14514233862723117f * x6;
+        float t131 = t129 - t130;
+        float t132 = 0.23569836841299882f * x10;
+        float t133 = 0.4409606321741775f * x22;
+        float t134 = t132 - t133;
+        float t135 = t131 - t134;
+        float t136 = t128 - t135;
+        float t137 = t40 - t43;
+        float t138 = 0.4975923633360984f * x30;
+        float t139 = 0.049008570164780385f * x2;
+        float t140 = t138 - t139;
+        float t141 = 0.31719664208182274f * x14;
+        float t142 = 0.3865052266813685f * x18;
+        float t143 = t141 - t142;
+        float t144 = t140 - t143;
+        float t145 = t137 - t144;
+        float t146 = 0.4784701678661044f * x26;
+        float t147 = t130 - t146;
+        float t148 = 0.44096063217417747f * x22;
+        float t149 = 0.2356983684129989f * x10;
+        float t150 = t148 - t149;
+        float t151 = t147 - t150;
+        float t152 = t29 - t47;
+        float t153 = t151 - t152;
+        float t154 = t145 + t153;
+        float t155 = 0.7071067811865476f * t154;
+        float t156 = t136 + t155;
+        float t157 = 0.9238795325112867f * t156;
+        float t158 = 0.0490085701647803f * x2;
+        float t159 = 0.49759236333609846f * x30;
+        float t160 = t158 - t159;
+        float t161 = t142 - t141;
+        float t162 = t160 - t161;
+        float t163 = t33 - t36;
+        float t164 = t162 - t163;
+        float t165 = t153 - t145;
+        float t166 = 0.7071067811865476f * t165;
+        float t167 = t164 + t166;
+        float t168 = 0.3826834323650899f * t167;
+        float t169 = t157 + t168;
+        float t170 = t127 + t169;
+        float t171 = 0.024533837163709007f * x1;
+        float t172 = 0.4993977281025862f * x31;
+        float t173 = t171 - t172;
+        float t174 = 0.37047556267747955f * x17;
+        float t175 = 0.33577947742350917f * x15;
+        float t176 = t174 - t175;
+        float t177 = t173 - t176;
+        float t178 = t64 - t61;
+        float t179 = t177 - t178;
+        float t180 = 0.12149008995163194f * x5;
+        float t181 = 0.485015626597272f * x27;
+        float t182 = t180 - t181;
+        float t183 = 0.42886430500013606f * x21;
+        float t184 = 0.25705137209661083f * x11;
+        float t185 = t183 - t184;
+        float t186 = t182 - t185;
+        float t187 = t79 - t76;
+        float t188 = t186 - t187;
+        float t189 = t69 - t72;
+        float t190 = 0.4945882549823905f * x29;
+        float t191 = 0.07336523722768087f * x3;
+        float t192 = t190 - t191;
+        float t193 = 0.2978496522462167f * x13;
+        float t194 = 0.40160376574032247f * x19;
+        float t195 = t193 - t194;
+        float t196 = t192 - t195;
+        float t197 = t189 - t196;
+        float t198 = t188 - t197;
+        float t199 = 0.7071067811865476f * t198;
+        float t200 = t179 + t199;
+        float t201 = 0.19509032201612833f * t200;
+        float t202 = t54 - t57;
+        float t203 = 0.4707720325915104f * x25;
+        float t204 = 0.16844492669611003f * x7;
+        float t205 = t203 - t204;
+        float t206 = 0.21377754671514104f * x9;
+        float t207 = 0.45199464656172167f * x23;
+        float t208 = t206 - t207;
+        float t209 = t205 - t208;
+        float t210 = t202 - t209;
+        float t211 = t197 + t188;
+        float t212 = 0.7071067811865476f * t211;
+        float t213 = t210 + t212;
+        float t214 = 0.9807852804032304f * t213;
+        float t215 = t201 + t214;
+        float t216 = t191 - t190;
+        float t217 = 0.4016037657403224f * x19;
+        float t218 = 0.29784965224621673f * x13;
+        float t219 = t217 - t218;
+        float t220 = t216 - t219;
+        float t221 = t72 - t88;
+        float t222 = t220 - t221;
+        float t223 = t204 - t203;
+        float t224 = 0.2137775467151411f * x9;
+        float t225 = t207 - t224;
+        float t226 = t223 - t225;
+        float t227 = t57 - t95;
+        float t228 = t226 - t227;
+        float t229 = t61 - t92;
+        float t230 = 0.024533837163709063f * x1;
+        float t231 = t172 - t230;
+        float t232 = t175 - t174;
+        float t233 = t231 - t232;
+        float t234 = t229 - t233;
+        float t235 = t228 - t234;
+        float t236 = 0.7071067811865476f * t235;
+        float t237 = t222 + t236;
+        float t238 = 0.5555702330196022f * t237;
+        float t239 = t76 - t85;
+        float t240 = 0.12149008995163199f * x5;
+        float t241 = t181 - t240;
+        float t242 = t184 - t183;
+        float t243 = t241 - t242;
+        float t244 = t239 - t243;
+        float t245 = t234 + t228;
+        float t246 = 0.7071067811865476f * t245;
+        float t247 = t244 + t246;
+        float t248 = 0.8314696123025452f * t247;
+        float t249 = t238 + t248;
+        float t250 = t215 + t249;
+        float t251 = t170 + t250;
+        float t252 = t101 + t107;
+        float t253 = t109 + t116;
+        float t254 = t122 + t123;
+        float t255 = t253 - t254;
+        float t256 = 0.7071067811865476f * t255;
+        float t257 = t252 + t256;
+        float t258 = t128 + t135;
+        float t259 = t137 + t144;
+        float t260 = t151 + t152;
+        float t261 = t259 - t260;
+        float t262 = 0.7071067811865476f * t261;
+        float t263 = t258 + t262;
+        float t264 = 0.9238795325112867f * t263;
+        float t265 = t162 + t163;
+        float t266 = t259 + t260;
+        float t267 = 0.7071067811865476f * t266;
+        float t268 = t265 + t267;
+        float t269 = 0.3826834323650898f * t268;
+        float t270 = t264 - t269;
+        float t271 = t257 + t270;
+        float t272 = t202 + t209;
+        float t273 = t189 + t196;
+        float t274 = t186 + t187;
+        float t275 = t273 - t274;
+        float t276 = 0.7071067811865476f * t275;
+        float t277 = t272 + t276;
+        float t278 = 0.9807852804032304f * t277;
+        float t279 = t177 + t178;
+        float t280 = t273 + t274;
+        float t281 = 0.7071067811865476f * t280;
+        float t282 = t279 + t281;
+        float t283 = 0.19509032201612825f * t282;
+        float t284 = t278 - t283;
+        float t285 = t239 + t243;
+        float t286 = t229 + t233;
+        float t287 = t226 + t227;
+        float t288 = t286 - t287;
+        float t289 = 0.7071067811865476f * t288;
+        float t290 = t285 + t289;
+        float t291 = 0.8314696123025452f * t290;
+        float t292 = t220 + t221;
+        float t293 = t286 + t287;
+        float t294 = 0.7071067811865476f * t293;
+        float t295 = t292 + t294;
+        float t296 = 0.5555702330196022f * t295;
+        float t297 = t291 - t296;
+        float t298 = t284 + t297;
+        float t299 = t271 + t298;
+        float t300 = t2 - t8;
+        float t301 = t115 + t112;
+        float t302 = t119 + t121;
+        float t303 = t301 - t302;
+        float t304 = t300 - t303;
+        float t305 = t30 - t37;
+        float t306 = t143 + t140;
+        float t307 = t147 + t150;
+        float t308 = t306 - t307;
+        float t309 = t305 - t308;
+        float t310 = t160 + t161;
+        float t311 = t134 + t131;
+        float t312 = t310 - t311;
+        float t313 = t44 - t48;
+        float t314 = t312 - t313;
+        float t315 = t309 + t314;
+        float t316 = 0.7071067811865476f * t315;
+        float t317 = t304 + t316;
+        float t318 = t173 + t176;
+        float t319 = t208 + t205;
+        float t320 = t318 - t319;
+        float t321 = t73 - t80;
+        float t322 = t320 - t321;
+        float t323 = 0.38268343236508984f * t322;
+        float t324 = t58 - t65;
+        float t325 = t195 + t192;
+        float t326 = t182 + t185;
+        float t327 = t325 - t326;
+        float t328 = t324 - t327;
+        float t329 = 0.9238795325112867f * t328;
+        float t330 = t323 + t329;
+        float t331 = t216 + t219;
+        float t332 = t242 + t241;
+        float t333 = t331 - t332;
+        float t334 = t93 - t96;
+        float t335 = t333 - t334;
+        float t336 = 0.9238795325112868f * t335;
+        float t337 = t86 - t89;
+        float t338 = t232 + t231;
+        float t339 = t223 + t225;
+        float t340 = t338 - t339;
+        float t341 = t337 - t340;
+        float t342 = 0.38268343236508967f * t341;
+        float t343 = t336 + t342;
+        float t344 = t330 + t343;
+        float t345 = t317 + t344;
+        float t346 = t300 + t303;
+        float t347 = t305 + t308;
+        float t348 = t312 + t313;
+        float t349 = t347 - t348;
+        float t350 = 0.7071067811865476f * t349;
+        float t351 = t346 + t350;
+        float t352 = t324 + t327;
+        float t353 = 0.9238795325112867f * t352;
+        float t354 = t320 + t321;
+        float t355 = 0.3826834323650898f * t354;
+        float t356 = t353 - t355;
+        float t357 = t337 + t340;
+        float t358 = 0.38268343236508984f * t357;
+        float t359 = t333 + t334;
+        float t360 = 0.9238795325112867f * t359;
+        float t361 = t358 - t360;
+        float t362 = t356 + t361;
+        float t363 = t351 + t362;
+        float t364 = t252 - t256;
+        float t365 = t258 - t262;
+        float t366 = 0.3826834323650897f * t365;
+        float t367 = t265 - t267;
+        float t368 = 0.9238795325112867f * t367;
+        float t369 = t366 + t368;
+        float t370 = t364 + t369;
+        float t371 = t285 - t289;
+        float t372 = 0.1950903220161286f * t371;
+        float t373 = t292 - t294;
+        float t374 = 0.9807852804032304f * t373;
+        float t375 = t372 - t374;
+        float t376 = t279 - t281;
+        float t377 = 0.5555702330196023f * t376;
+        float t378 = t272 - t276;
+        float t379 = 0.8314696123025452f * t378;
+        float t380 = t377 + t379;
+        float t381 = t375 - t380;
+        float t382 = t370 - t381;
+        float t383 = t108 - t126;
+        float t384 = t136 - t155;
+        float t385 = 0.38268343236508984f * t384;
+        float t386 = t164 - t166;
+        float t387 = 0.9238795325112867f * t386;
+        float t388 = t385 - t387;
+        float t389 = t383 + t388;
+        float t390 = t210 - t212;
+        float t391 = 0.8314696123025452f * t390;
+        float t392 = t179 - t199;
+        float t393 = 0.5555702330196022f * t392;
+        float t394 = t391 - t393;
+        float t395 = t244 - t246;
+        float t396 = 0.1950903220161282f * t395;
+        float t397 = t222 - t236;
+        float t398 = 0.9807852804032304f * t397;
+        float t399 = t396 + t398;
+        float t400 = t394 - t399;
+        float t401 = t389 + t400;
+        float t402 = t9 - t22;
+        float t403 = t307 + t306;
+        float t404 = t310 + t311;
+        float t405 = t403 - t404;
+        float t406 = t402 - t405;
+        float t407 = t66 - t81;
+        float t408 = t318 + t319;
+        float t409 = t326 + t325;
+        float t410 = t408 - t409;
+        float t411 = t407 + t410;
+        float t412 = 0.7071067811865476f * t411;
+        float t413 = t331 + t332;
+        float t414 = t339 + t338;
+        float t415 = t413 - t414;
+        float t416 = t90 - t97;
+        float t417 = t415 - t416;
+        float t418 = 0.7071067811865476f * t417;
+        float t419 = t412 + t418;
+        float t420 = t406 + t419;
+        float t421 = t402 + t405;
+        float t422 = t407 - t410;
+        float t423 = 0.7071067811865476f * t422;
+        float t424 = t416 + t415;
+        float t425 = 0.7071067811865476f * t424;
+        float t426 = t423 - t425;
+        float t427 = t421 + t426;
+        float t428 = t383 - t388;
+        float t429 = 0.9807852804032304f * t395;
+        float t430 = 0.1950903220161282f * t397;
+        float t431 = t429 - t430;
+        float t432 = 0.8314696123025452f * t392;
+        float t433 = 0.5555702330196022f * t390;
+        float t434 = t432 + t433;
+        float t435 = t431 - t434;
+        float t436 = t428 - t435;
+        float t437 = t364 - t369;
+        float t438 = 0.5555702330196023f * t378;
+        float t439 = 0.8314696123025452f * t376;
+        float t440 = t438 - t439;
+        float t441 = 0.9807852804032304f * t371;
+        float t442 = 0.1950903220161286f * t373;
+        float t443 = t441 + t442;
+        float t444 = t440 - t443;
+        float t445 = t437 + t444;
+        float t446 = t346 - t350;
+        float t447 = 0.38268343236508984f * t359;
+        float t448 = 0.9238795325112867f * t357;
+        float t449 = t447 + t448;
+        float t450 = 0.9238795325112867f * t354;
+        float t451 = 0.3826834323650898f * t352;
+        float t452 = t450 + t451;
+        float t453 = t449 - t452;
+        float t454 = t446 - t453;
+        float t455 = t304 - t316;
+        float t456 = 0.38268343236508984f * t328;
+        float t457 = 0.9238795325112867f * t322;
+        float t458 = t456 - t457;
+        float t459 = 0.38268343236508967f * t335;
+        float t460 = 0.9238795325112868f * t341;
+        float t461 = t459 - t460;
+        float t462 = t458 + t461;
+        float t463 = t455 + t462;
+        float t464 = t257 - t270;
+        float t465 = 0.8314696123025452f * t295;
+        float t466 = 0.5555702330196022f * t290;
+        float t467 = t465 + t466;
+        float t468 = 0.9807852804032304f * t282;
+        float t469 = 0.19509032201612825f * t277;
+        float t470 = t468 + t469;
+        float t471 = t467 - t470;
+        float t472 = t464 - t471;
+        float t473 = t127 - t169;
+        float t474 = 0.19509032201612833f * t213;
+        float t475 = 0.9807852804032304f * t200;
+        float t476 = t474 - t475;
+        float t477 = 0.8314696123025452f * t237;
+        float t478 = 0.5555702330196022f * t247;
+        float t479 = t477 - t478;
+        float t480 = t476 + t479;
+        float t481 = t473 + t480;
+        float t482 = t23 - t50;
+        float t483 = t413 + t414;
+        float t484 = t408 + t409;
+        float t485 = t483 - t484;
+        float t486 = t482 - t485;
+        float t487 = t482 + t485;
+        float t488 = t473 - t480;
+        float t489 = t464 + t471;
+        float t490 = t455 - t462;
+        float t491 = t446 + t453;
+        float t492 = t437 - t444;
+        float t493 = t428 + t435;
+        float t494 = t421 - t426;
+        float t495 = t406 - t419;
+        float t496 = t389 - t400;
+        float t497 = t370 + t381;
+        float t498 = t351 - t362;
+        float t499 = t317 - t344;
+        float t500 = t271 - t298;
+        float t501 = t170 - t250;
+        float t502 = t51 - t99;
+        a[offa] = t100;
+        a[offa + 1] = t251;
+        a[offa + 2] = t299;
+        a[offa + 3] = t345;
+        a[offa + 4] = t363;
+        a[offa + 5] = t382;
+        a[offa + 6] = t401;
+        a[offa + 7] = t420;
+        a[offa + 8] = t427;
+        a[offa + 9] = t436;
+        a[offa + 10] = t445;
+        a[offa + 11] = t454;
+        a[offa + 12] = t463;
+        a[offa + 13] = t472;
+        a[offa + 14] = t481;
+        a[offa + 15] = t486;
+        a[offa + 16] = t487;
+        a[offa + 17] = t488;
+        a[offa + 18] = t489;
+        a[offa + 19] = t490;
+        a[offa + 20] = t491;
+        a[offa + 21] = t492;
+        a[offa + 22] = t493;
+        a[offa + 23] = t494;
+        a[offa + 24] = t495;
+        a[offa + 25] = t496;
+        a[offa + 26] = t497;
+        a[offa + 27] = t498;
+        a[offa + 28] = t499;
+        a[offa + 29] = t500;
+        a[offa + 30] = t501;
+        a[offa + 31] = t502;
+    }
+}
@@ -34,10 +34,15 @@
 
 package edu.emory.mathcs.jtransforms.dct;
 
+import java.nio.FloatBuffer;
 import java.util.concurrent.Future;
 
 import edu.emory.mathcs.jtransforms.fft.FloatFFT_1D;
+import edu.emory.mathcs.utils.BufferUtils;
+import edu.emory.mathcs.utils.ConcurrencyContext;
 import edu.emory.mathcs.utils.ConcurrencyUtils;
+import edu.emory.mathcs.utils.IndexRange;
+import edu.emory.mathcs.utils.PlanCache;
 
 /**
  * Computes 1D Discrete Cosine Transform (DCT) of single precision data. The size
@@ -64,10 +69,61 @@ public class FloatDCT_1D {
 
     private boolean isPowerOfTwo = false;
 
+    private boolean useCodelets = false;
+
     private FloatFFT_1D fft;
 
+    private ConcurrencyContext context;
+
     private static final double PI = 3.14159265358979311599796346854418516;
 
+    /**
+     * Precomputed tables of a transform. Instances are never modified after
+     * construction and are shared (through {@link PlanCache}) by all
+     * transforms of the same size, including the DSTs computed with them.
+     */
+    private static final class Tables {
+        final int[] ip;
+
+        final float[] w;
+
+        final int nw;
+
+        final int nc;
+
+        Tables(int[] ip, float[] w, int nw, int nc) {
+            this.ip = ip;
+            this.w = w;
+            this.nw = nw;
+            this.nc = nc;
+        }
+
+        long sizeInBytes() {
+            return 4L * (ip == null ? 0 : ip.length) + 4L * w.length;
+        }
+    }
+
+    /**
+     * Scratch arrays of a transform. A workspace is created by
+     * {@link FloatDCT_1D#createWorkspace()} and can be reused by any number of
+     * calls of the transform that created it. Calls that are given a workspace
+     * do not allocate memory when the transform is computed by one thread. A
+     * workspace must not be used by two calls at the same time.
+     */
+    public static final class Workspace {
+        final int n;
+
+        final float[] t;
+
+        final FloatFFT_1D.Workspace fft;
+
+        Workspace(int n, float[] t, FloatFFT_1D.Workspace fft) {
+            this.n = n;
+            this.t = t;
+            this.fft = fft;
+        }
+    }
+
     /**
      * Creates new instance of FloatDCT_1D.
      * 
@@ -75,12 +131,71 @@ public class FloatDCT_1D {
      *            size of data
      */
     public FloatDCT_1D(int n) {
+        this(n, ConcurrencyContext.getDefault());
+    }
+
+    /**
+     * Creates new instance of FloatDCT_1D that uses the executor and number of
+     * threads of the specified context.
+     * 
+     * @param n
+     *            size of data
+     * @param context
+     *            executor and number of threads used by this transform
+     */
+    public FloatDCT_1D(int n, ConcurrencyContext context) {
+        this(n, context, true);
+    }
+
+    /**
+     * Creates new instance of FloatDCT_1D that uses the codelets for the sizes
+     * they support only if <code>codelets</code> is true, so that they can be
+     * compared with the table-driven algorithms.
+     * 
+     * @param n
+     *            size of data
+     * @param context
+     *            executor and number of threads used by this transform
+     * @param codelets
+     *            if false then the codelets are not used
+     */
+    FloatDCT_1D(int n, ConcurrencyContext context, boolean codelets) {
+        if (context == null) {
+            throw new IllegalArgumentException("context cannot be null");
+        }
+        this.context = context;
         if (n < 1) {
             throw new IllegalArgumentException("n must be greater than 0");
         }
         this.n = n;
-        if (ConcurrencyUtils.isPowerOf2(n)) {
-            this.isPowerOfTwo = true;
+        this.isPowerOfTwo = ConcurrencyUtils.isPowerOf2(n);
+        if (codelets && FloatDCTCodelets.isSupported(n)) {
+            this.useCodelets = true;
+        } else {
+            init();
+            if (!isPowerOfTwo) {
+                fft = new FloatFFT_1D(n, context);
+            }
+        }
+    }
+
+    private void init() {
+        String key = "FloatDCT_1D:" + n;
+        PlanCache cache = PlanCache.getDefault();
+        Tables tables = (Tables) cache.get(key);
+        if (tables == null) {
+            makeTables();
+            tables = new Tables(ip, w, nw, nc);
+            tables = (Tables) cache.put(key, tables, tables.sizeInBytes());
+        }
+        ip = tables.ip;
+        w = tables.w;
+        nw = tables.nw;
+        nc = tables.nc;
+    }
+
+    private void makeTables() {
+        if (isPowerOfTwo) {
             this.ip = new int[(int) Math.ceil(2 + (1 << (int) (Math.log(n / 2 + 0.5) / Math.log(2)) / 2))];
             this.w = new float[n * 5 / 4];
             nw = ip[0];
@@ -95,10 +210,43 @@ public class FloatDCT_1D {
             }
         } else {
             this.w = makect(n);
-            fft = new FloatFFT_1D(2 * n);
         }
     }
 
+    /**
+     * Creates scratch arrays for this transform. The workspace can be passed
+     * to the methods that take one, so that steady-state calls do not
+     * allocate memory.
+     * 
+     * @return new workspace
+     */
+    public Workspace createWorkspace() {
+        if (fft == null) {
+            return new Workspace(n, null, null);
+        }
+        return new Workspace(n, new float[n], fft.createWorkspace());
+    }
+
+    /**
+     * Returns the number of float values allocated by
+     * {@link #createWorkspace()}.
+     * 
+     * @return size of the workspace
+     */
+    public long getWorkspaceSize() {
+        return (fft == null) ? 0 : n + fft.getWorkspaceSize();
+    }
+
+    private Workspace workspace(Workspace ws) {
+        if (ws == null) {
+            return createWorkspace();
+        }
+        if (ws.n != n) {
+            throw new IllegalArgumentException("workspace was created by a transform of different size");
+        }
+        return ws;
+    }
+
     /**
      * Computes 1D forward DCT (DCT-II) leaving the result in <code>a</code>.
      * 
@@ -111,6 +259,29 @@ public class FloatDCT_1D {
         forward(a, 0, scale);
     }
 
+    /**
+     * Computes 1D forward DCT (DCT-II) leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #forward(float[], boolean)}; the position is not changed.
+     * Heap buffers are transformed in their backing array, other buffers are
+     * copied to a temporary array and back.
+     * 
+     * @param a
+     *            data to transform
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void forward(FloatBuffer a, boolean scale) {
+        int offa = BufferUtils.getArrayOffset(a, n);
+        if (offa >= 0) {
+            forward(a.array(), offa, scale);
+            return;
+        }
+        float[] array = BufferUtils.getArray(a, n);
+        forward(array, scale);
+        BufferUtils.putArray(a, array, n);
+    }
+
     /**
      * Computes 1D forward DCT (DCT-II) leaving the result in <code>a</code>.
      * 
@@ -122,9 +293,37 @@ public class FloatDCT_1D {
      *            if true then scaling is performed
      */
     public void forward(final float[] a, final int offa, boolean scale) {
+        forward(a, offa, scale, null);
+    }
+
+    /**
+     * Computes 1D forward DCT (DCT-II) leaving the result in <code>a</code>.
+     * 
+     * The scratch arrays are taken from <code>ws</code>, or allocated by this
+     * call if <code>ws</code> is null.
+     * 
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element in array <code>a</code>
+     * @param scale
+     *            if true then scaling is performed
+     * @param ws
+     *            workspace created by {@link #createWorkspace()}, or null
+     */
+    public void forward(final float[] a, final int offa, boolean scale, Workspace ws) {
         if (n == 1)
             return;
-        if (isPowerOfTwo) {
+        if (useCodelets) {
+            FloatDCTCodelets.forward(n, a, offa);
+            if (scale) {
+                scale((float) Math.sqrt(2.0 / n), a, offa);
+                a[offa] = (float) (a[offa] / Math.sqrt(2.0));
+            } else if (!isPowerOfTwo) {
+                // same result as the FFT based algorithm
+                scale(2.0f, a, offa);
+            }
+        } else if (isPowerOfTwo) {
             float xr = a[offa + n - 1];
             for (int j = n - 2; j >= 2; j -= 2) {
                 a[offa + j + 1] = a[offa + j] - a[offa + j - 1];
@@ -144,42 +343,52 @@ public class FloatDCT_1D {
                 a[offa] = (float) (a[offa] / Math.sqrt(2.0));
             }
         } else {
-            final int twon = 2 * n;
-            final float[] t = new float[twon];
-            System.arraycopy(a, offa, t, 0, n);
-            int nthreads = ConcurrencyUtils.getNumberOfThreads();
-            for (int i = n; i < twon; i++) {
-                t[i] = t[twon - i - 1];
+            ws = workspace(ws);
+            final float[] t = ws.t;
+            for (int j = 0; 2 * j < n; j++) {
+                t[j] = a[offa + 2 * j];
+            }
+            for (int j = 0; 2 * j + 1 < n; j++) {
+                t[n - 1 - j] = a[offa + 2 * j + 1];
             }
-            fft.realForward(t);
+            fft.realForward(t, 0, ws.fft);
+            a[offa] = 2 * t[0];
+            if (n % 2 == 0) {
+                a[offa + n / 2] = 2 * w[n] * t[1];
+            }
+            final int m = (n + 1) / 2;
+            int nthreads = context.getNumberOfThreads();
             if ((nthreads > 1) && (n > ConcurrencyUtils.getThreadsBeginN_1D_FFT_2Threads())) {
                 nthreads = 2;
-                final int k = n / nthreads;
+                final int k = (m - 1) / nthreads;
                 Future<?>[] futures = new Future[nthreads];
                 for (int j = 0; j < nthreads; j++) {
-                    final int firstIdx = j * k;
-                    final int lastIdx = (j == (nthreads - 1)) ? n : firstIdx + k;
-                    futures[j] = ConcurrencyUtils.submit(new Runnable() {
+                    final int firstIdx = 1 + j * k;
+                    final int lastIdx = (j == (nthreads - 1)) ? m : firstIdx + k;
+                    futures[j] = context.submit(new Runnable() {
                         public void run() {
                             for (int i = firstIdx; i < lastIdx; i++) {
                                 int twoi = 2 * i;
-                                int idx = offa + i;
-                                a[idx] = w[twoi] * t[twoi] - w[twoi + 1] * t[twoi + 1];
+                                float re = t[twoi];
+                                float im = (twoi + 1 < n) ? t[twoi + 1] : t[1];
+                                a[offa + i] = 2 * (w[twoi] * re - w[twoi + 1] * im);
+                                a[offa + n - i] = -2 * (w[twoi + 1] * re + w[twoi] * im);
                             }
-
                         }
                     });
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
             } else {
-                for (int i = 0; i < n; i++) {
+                for (int i = 1; i < m; i++) {
                     int twoi = 2 * i;
-                    int idx = offa + i;
-                    a[idx] = w[twoi] * t[twoi] - w[twoi + 1] * t[twoi + 1];
+                    float re = t[twoi];
+                    float im = (twoi + 1 < n) ? t[twoi + 1] : t[1];
+                    a[offa + i] = 2 * (w[twoi] * re - w[twoi + 1] * im);
+                    a[offa + n - i] = -2 * (w[twoi + 1] * re + w[twoi] * im);
                 }
             }
             if (scale) {
-                scale((float) (1.0 / Math.sqrt(twon)), a, offa);
+                scale((float) (1.0 / Math.sqrt(2 * n)), a, offa);
                 a[offa] = (float) (a[offa] / Math.sqrt(2.0));
             }
         }
@@ -198,6 +407,29 @@ public class FloatDCT_1D {
         inverse(a, 0, scale);
     }
 
+    /**
+     * Computes 1D inverse DCT (DCT-III) leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #inverse(float[], boolean)}; the position is not changed.
+     * Heap buffers are transformed in their backing array, other buffers are
+     * copied to a temporary array and back.
+     * 
+     * @param a
+     *            data to transform
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void inverse(FloatBuffer a, boolean scale) {
+        int offa = BufferUtils.getArrayOffset(a, n);
+        if (offa >= 0) {
+            inverse(a.array(), offa, scale);
+            return;
+        }
+        float[] array = BufferUtils.getArray(a, n);
+        inverse(array, scale);
+        BufferUtils.putArray(a, array, n);
+    }
+
     /**
      * Computes 1D inverse DCT (DCT-III) leaving the result in <code>a</code>.
      * 
@@ -209,9 +441,38 @@ public class FloatDCT_1D {
      *            if true then scaling is performed
      */
     public void inverse(final float[] a, final int offa, boolean scale) {
+        inverse(a, offa, scale, null);
+    }
+
+    /**
+     * Computes 1D inverse DCT (DCT-III) leaving the result in <code>a</code>.
+     * 
+     * The scratch arrays are taken from <code>ws</code>, or allocated by this
+     * call if <code>ws</code> is null.
+     * 
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element in array <code>a</code>
+     * @param scale
+     *            if true then scaling is performed
+     * @param ws
+     *            workspace created by {@link #createWorkspace()}, or null
+     */
+    public void inverse(final float[] a, final int offa, boolean scale, Workspace ws) {
         if (n == 1)
             return;
-        if (isPowerOfTwo) {
+        if (useCodelets) {
+            if (scale) {
+                scale((float) Math.sqrt(2.0 / n), a, offa);
+                a[offa] = (float) (a[offa] / Math.sqrt(2.0));
+            } else if (!isPowerOfTwo) {
+                // same result as the FFT based algorithm
+                scale(1.0f / n, a, offa);
+                a[offa] = 0.5f * a[offa];
+            }
+            FloatDCTCodelets.inverse(n, a, offa);
+        } else if (isPowerOfTwo) {
             float xr;
             if (scale) {
                 scale((float) Math.sqrt(2.0 / n), a, offa);
@@ -232,42 +493,160 @@ public class FloatDCT_1D {
             }
             a[offa + n - 1] = xr;
         } else {
-            final int twon = 2 * n;
             if (scale) {
-                scale((float) Math.sqrt(twon), a, offa);
+                scale((float) Math.sqrt(2 * n), a, offa);
                 a[offa] = (float) (a[offa] * Math.sqrt(2.0));
             }
-            final float[] t = new float[twon];
-            int nthreads = ConcurrencyUtils.getNumberOfThreads();
+            ws = workspace(ws);
+            final float[] t = ws.t;
+            t[0] = 0.5f * a[offa];
+            if (n % 2 == 0) {
+                t[1] = w[n] * a[offa + n / 2];
+            }
+            final int m = (n + 1) / 2;
+            int nthreads = context.getNumberOfThreads();
             if ((nthreads > 1) && (n > ConcurrencyUtils.getThreadsBeginN_1D_FFT_2Threads())) {
                 nthreads = 2;
-                final int k = n / nthreads;
+                final int k = (m - 1) / nthreads;
                 Future<?>[] futures = new Future[nthreads];
                 for (int j = 0; j < nthreads; j++) {
-                    final int firstIdx = j * k;
-                    final int lastIdx = (j == (nthreads - 1)) ? n : firstIdx + k;
-                    futures[j] = ConcurrencyUtils.submit(new Runnable() {
+                    final int firstIdx = 1 + j * k;
+                    final int lastIdx = (j == (nthreads - 1)) ? m : firstIdx + k;
+                    futures[j] = context.submit(new Runnable() {
                         public void run() {
                             for (int i = firstIdx; i < lastIdx; i++) {
                                 int twoi = 2 * i;
-                                float elem = a[offa + i];
-                                t[twoi] = w[twoi] * elem;
-                                t[twoi + 1] = -w[twoi + 1] * elem;
+                                float yr = a[offa + i];
+                                float yi = a[offa + n - i];
+                                t[twoi] = 0.5f * (w[twoi] * yr - w[twoi + 1] * yi);
+                                t[(twoi + 1 < n) ? twoi + 1 : 1] = -0.5f * (w[twoi + 1] * yr + w[twoi] * yi);
                             }
                         }
                     });
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
             } else {
-                for (int i = 0; i < n; i++) {
+                for (int i = 1; i < m; i++) {
                     int twoi = 2 * i;
-                    float elem = a[offa + i];
-                    t[twoi] = w[twoi] * elem;
-                    t[twoi + 1] = -w[twoi + 1] * elem;
+                    float yr = a[offa + i];
+                    float yi = a[offa + n - i];
+                    t[twoi] = 0.5f * (w[twoi] * yr - w[twoi + 1] * yi);
+                    t[(twoi + 1 < n) ? twoi + 1 : 1] = -0.5f * (w[twoi + 1] * yr + w[twoi] * yi);
                 }
             }
-            fft.realInverse(t, true);
-            System.arraycopy(t, 0, a, offa, n);
+            fft.realInverse(t, 0, true, ws.fft);
+            for (int j = 0; 2 * j < n; j++) {
+                a[offa + 2 * j] = t[j];
+            }
+            for (int j = 0; 2 * j + 1 < n; j++) {
+                a[offa + 2 * j + 1] = t[n - 1 - j];
+            }
+        }
+    }
+
+    /**
+     * Computes 1D forward DCT (DCT-II) of <code>howmany</code> sequences of
+     * size n leaving the result in <code>a</code>. The sequences are
+     * transformed in parallel. Element k of sequence j is stored in
+     * <code>a[offa+j*dist+k*stride]</code>. The sequences must not overlap.
+     * 
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element of the first sequence
+     * @param howmany
+     *            number of sequences
+     * @param stride
+     *            distance (in array elements) between consecutive elements of
+     *            a sequence; 1 for contiguous sequences
+     * @param dist
+     *            distance (in array elements) between the first elements of
+     *            consecutive sequences
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void forwardBatch(float[] a, int offa, int howmany, int stride, int dist, boolean scale) {
+        batch(a, offa, howmany, stride, dist, true, scale);
+    }
+
+    /**
+     * Computes 1D inverse DCT (DCT-III) of <code>howmany</code> sequences of
+     * size n leaving the result in <code>a</code>. The sequences are
+     * transformed in parallel. Element k of sequence j is stored in
+     * <code>a[offa+j*dist+k*stride]</code>. The sequences must not overlap.
+     * 
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element of the first sequence
+     * @param howmany
+     *            number of sequences
+     * @param stride
+     *            distance (in array elements) between consecutive elements of
+     *            a sequence; 1 for contiguous sequences
+     * @param dist
+     *            distance (in array elements) between the first elements of
+     *            consecutive sequences
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void inverseBatch(float[] a, int offa, int howmany, int stride, int dist, boolean scale) {
+        batch(a, offa, howmany, stride, dist, false, scale);
+    }
+
+    private void batch(final float[] a, final int offa, int howmany, final int stride, final int dist, final boolean forward, final boolean scale) {
+        if (howmany < 0) {
+            throw new IllegalArgumentException("howmany must be greater or equal 0");
+        }
+        if (stride < 1) {
+            throw new IllegalArgumentException("stride must be greater or equal 1");
+        }
+        int nthreads = context.getNumberOfThreads();
+        if ((nthreads > 1) && (howmany > 1) && ((long) howmany * n >= ConcurrencyUtils.getThreadsBeginN_2D())) {
+            nthreads = Math.min(nthreads, howmany);
+            Future<?>[] futures = new Future[nthreads];
+            final IndexRange range = new IndexRange(0, howmany, nthreads);
+            for (int l = 0; l < nthreads; l++) {
+                futures[l] = context.submit(new Runnable() {
+                    public void run() {
+                        batch(a, offa, range.cursor(), stride, dist, forward, scale);
+                    }
+                });
+            }
+            ConcurrencyUtils.waitForCompletion(futures);
+        } else {
+            batch(a, offa, new IndexRange(0, howmany, 1).cursor(), stride, dist, forward, scale);
+        }
+    }
+
+    /*
+     * Transforms the sequences taken from the cursor. Sequences that are not
+     * contiguous are copied to a temporary array.
+     */
+    private void batch(float[] a, int offa, IndexRange.Cursor cursor, int stride, int dist, boolean forward, boolean scale) {
+        Workspace ws = createWorkspace();
+        float[] t = (stride == 1) ? null : new float[n];
+        for (int j = cursor.next(); j >= 0; j = cursor.next()) {
+            int offj = offa + j * dist;
+            if (t == null) {
+                batchTransform(a, offj, forward, scale, ws);
+            } else {
+                for (int k = 0; k < n; k++) {
+                    t[k] = a[offj + k * stride];
+                }
+                batchTransform(t, 0, forward, scale, ws);
+                for (int k = 0; k < n; k++) {
+                    a[offj + k * stride] = t[k];
+                }
+            }
+        }
+    }
+
+    private void batchTransform(float[] a, int offa, boolean forward, boolean scale, Workspace ws) {
+        if (forward) {
+            forward(a, offa, scale, ws);
+        } else {
+            inverse(a, offa, scale, ws);
         }
     }
 
@@ -393,7 +772,7 @@ public class FloatDCT_1D {
         if (n > 8) {
             if (n > 32) {
                 cftf1st(n, a, offa, w, nw - (n >> 2));
-                if ((ConcurrencyUtils.getNumberOfThreads() > 1) && (n > ConcurrencyUtils.getThreadsBeginN_1D_FFT_2Threads())) {
+                if ((context.getNumberOfThreads() > 1) && (n > ConcurrencyUtils.getThreadsBeginN_1D_FFT_2Threads())) {
                     cftrec4_th(n, a, offa, nw, w);
                 } else if (n > 512) {
                     cftrec4(n, a, offa, nw, w);
@@ -421,7 +800,7 @@ public class FloatDCT_1D {
         if (n > 8) {
             if (n > 32) {
                 cftb1st(n, a, offa, w, nw - (n >> 2));
-                if ((ConcurrencyUtils.getNumberOfThreads() > 1) && (n > ConcurrencyUtils.getThreadsBeginN_1D_FFT_2Threads())) {
+                if ((context.getNumberOfThreads() > 1) && (n > ConcurrencyUtils.getThreadsBeginN_1D_FFT_2Threads())) {
                     cftrec4_th(n, a, offa, nw, w);
                 } else if (n > 512) {
                     cftrec4(n, a, offa, nw, w);
@@ -1882,68 +2261,103 @@ public class FloatDCT_1D {
         a[idx3 + 3] = wk3i * x0i - wk3r * x0r;
     }
 
-    private void cftrec4_th(final int n, final float[] a, final int offa, final int nw, final float[] w) {
-        int idiv4, m, nthread;
-        int idx = 0;
-        nthread = 2;
-        idiv4 = 0;
-        m = n >> 1;
-        if (n > ConcurrencyUtils.getThreadsBeginN_1D_FFT_4Threads()) {
-            nthread = 4;
-            idiv4 = 1;
-            m >>= 1;
+    /**
+     * Returns the number of tasks used for data of length n: two above the
+     * two-thread threshold and, above the four-thread threshold, up to one per
+     * thread as long as each task gets a quarter of that threshold.
+     */
+    private int getNumberOfTasks(int n) {
+        int threads = context.getNumberOfThreads();
+        if ((threads < 2) || (n <= ConcurrencyUtils.getThreadsBeginN_1D_FFT_2Threads())) {
+            return 1;
         }
-        Future<?>[] futures = new Future[nthread];
-        final int mf = m;
-        for (int i = 0; i < nthread; i++) {
-            final int firstIdx = offa + i * m;
-            if (i != idiv4) {
-                futures[idx++] = ConcurrencyUtils.submit(new Runnable() {
-                    public void run() {
-                        int isplt, k, m;
-                        int idx1 = firstIdx + mf;
-                        m = n;
-                        while (m > 512) {
-                            m >>= 2;
-                            cftmdl1(m, a, idx1 - m, w, nw - (m >> 1));
-                        }
-                        cftleaf(m, 1, a, idx1 - m, nw, w);
-                        k = 0;
-                        int idx2 = firstIdx - m;
-                        for (int j = mf - m; j > 0; j -= m) {
-                            k++;
-                            isplt = cfttree(m, j, k, a, firstIdx, nw, w);
-                            cftleaf(m, isplt, a, idx2 + j, nw, w);
-                        }
-                    }
-                });
-            } else {
-                futures[idx++] = ConcurrencyUtils.submit(new Runnable() {
+        if ((threads < 4) || (n <= ConcurrencyUtils.getThreadsBeginN_1D_FFT_4Threads())) {
+            return 2;
+        }
+        return (int) Math.max(4, Math.min(threads, 4L * n / ConcurrencyUtils.getThreadsBeginN_1D_FFT_4Threads()));
+    }
+
+    private void cftrec4_th(final int n, final float[] a, final int offa, final int nw, final float[] w) {
+        final int nthreads = getNumberOfTasks(n);
+        Future<?>[] futures = new Future[nthreads];
+        // The nodes of a level are processed by the tasks one level at a time
+        // until there are enough of them, then each task computes whole
+        // subtrees.
+        int m = n >> 2;
+        int count = 4;
+        while ((count < nthreads) && (m > 512)) {
+            final int mf = m;
+            final int countf = count;
+            for (int i = 0; i < nthreads; i++) {
+                final int firstNode = i * countf / nthreads;
+                final int lastNode = (i + 1) * countf / nthreads;
+                futures[i] = context.submit(new Runnable() {
                     public void run() {
-                        int isplt, k, m;
-                        int idx1 = firstIdx + mf;
-                        k = 1;
-                        m = n;
-                        while (m > 512) {
-                            m >>= 2;
-                            k <<= 2;
-                            cftmdl2(m, a, idx1 - m, w, nw - m);
-                        }
-                        cftleaf(m, 0, a, idx1 - m, nw, w);
-                        k >>= 1;
-                        int idx2 = firstIdx - m;
-                        for (int j = mf - m; j > 0; j -= m) {
-                            k++;
-                            isplt = cfttree(m, j, k, a, firstIdx, nw, w);
-                            cftleaf(m, isplt, a, idx2 + j, nw, w);
+                        for (int q = firstNode; q < lastNode; q++) {
+                            if (cftnodetype(q) != 0) {
+                                cftmdl1(mf, a, offa + q * mf, w, nw - (mf >> 1));
+                            } else {
+                                cftmdl2(mf, a, offa + q * mf, w, nw - mf);
+                            }
                         }
                     }
                 });
             }
+            ConcurrencyUtils.waitForCompletion(futures);
+            m >>= 2;
+            count <<= 2;
+        }
+        final int mf = m;
+        final int countf = count;
+        int ntasks = Math.min(nthreads, count);
+        for (int i = 0; i < ntasks; i++) {
+            final int firstNode = i * countf / ntasks;
+            final int lastNode = (i + 1) * countf / ntasks;
+            futures[i] = context.submit(new Runnable() {
+                public void run() {
+                    for (int q = firstNode; q < lastNode; q++) {
+                        cftrec(mf, cftnodetype(q), a, offa + q * mf, nw, w);
+                    }
+                }
+            });
+        }
+        if (ntasks < nthreads) {
+            Future<?>[] started = new Future[ntasks];
+            System.arraycopy(futures, 0, started, 0, ntasks);
+            futures = started;
         }
         ConcurrencyUtils.waitForCompletion(futures);
     }
 
+    /**
+     * Returns the type of the q-th node of a level of the decomposition used
+     * by cftrec4 (1 if its first stage is computed by cftmdl1, 0 if by
+     * cftmdl2). The children of a node are of the types 1, 0, 1 and the type
+     * of the node, the top level is of type 1.
+     */
+    private static int cftnodetype(int q) {
+        while ((q & 3) == 3) {
+            q >>= 2;
+        }
+        return ((q & 3) == 1) ? 0 : 1;
+    }
+
+    private void cftrec(int n, int isplt, float[] a, int offa, int nw, float[] w) {
+        if (isplt != 0) {
+            cftmdl1(n, a, offa, w, nw - (n >> 1));
+        } else {
+            cftmdl2(n, a, offa, w, nw - n);
+        }
+        if (n > 512) {
+            int m = n >> 2;
+            cftrec(m, 1, a, offa, nw, w);
+            cftrec(m, 0, a, offa + m, nw, w);
+            cftrec(m, 1, a, offa + 2 * m, nw, w);
+            cftrec(m, isplt, a, offa + 3 * m, nw, w);
+        } else {
+            cftleaf(n, isplt, a, offa, nw, w);
+        }
+    }
     private void cftrec4(int n, float[] a, int offa, int nw, float[] w) {
         int isplt, k, m;
         int idx1 = offa + n;
@@ -2920,7 +3334,7 @@ public class FloatDCT_1D {
     }
 
     private void scale(final float m, final float[] a, final int offa) {
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
+        int nthreads = context.getNumberOfThreads();
         if ((nthreads > 1) && (n > ConcurrencyUtils.getThreadsBeginN_1D_FFT_2Threads())) {
             nthreads = 2;
             final int k = n / nthreads;
@@ -2928,7 +3342,7 @@ public class FloatDCT_1D {
             for (int i = 0; i < nthreads; i++) {
                 final int firstIdx = offa + i * k;
                 final int lastIdx = (i == (nthreads - 1)) ? offa + n : firstIdx + k;
-                futures[i] = ConcurrencyUtils.submit(new Runnable() {
+                futures[i] = context.submit(new Runnable() {
                     public void run() {
                         for (int i = firstIdx; i < lastIdx; i++) {
                             a[i] *= m;
@@ -34,9 +34,14 @@
 
 package edu.emory.mathcs.jtransforms.dct;
 
+import java.nio.FloatBuffer;
 import java.util.concurrent.Future;
 
+import edu.emory.mathcs.utils.BufferUtils;
+import edu.emory.mathcs.utils.ConcurrencyContext;
 import edu.emory.mathcs.utils.ConcurrencyUtils;
+import edu.emory.mathcs.utils.IndexRange;
+import edu.emory.mathcs.utils.TransposeUtils;
 
 /**
  * Computes 2D Discrete Cosine Transform (DCT) of single precision data. The
@@ -44,6 +49,9 @@ import edu.emory.mathcs.utils.ConcurrencyUtils;
  * implementation of split-radix and mixed-radix algorithms optimized for SMP
  * systems. <br>
  * <br>
+ * Instances are thread-safe: a single instance can be used by concurrent
+ * callers. <br>
+ * <br>
  * Part of the code is derived from General Purpose FFT Package written by Takuya Ooura
  * (http://www.kurims.kyoto-u.ac.jp/~ooura/fft.html)
  * 
@@ -56,13 +64,9 @@ public class FloatDCT_2D {
 
     private int columns;
 
-    private float[] t;
-
     private FloatDCT_1D dctColumns, dctRows;
 
-    private int nt;
-
-    private int oldNthreads;
+    private ConcurrencyContext context;
 
     private boolean isPowerOfTwo = false;
 
@@ -77,6 +81,25 @@ public class FloatDCT_2D {
      *            number of columns
      */
     public FloatDCT_2D(int rows, int columns) {
+        this(rows, columns, ConcurrencyContext.getDefault());
+    }
+
+    /**
+     * Creates new instance of FloatDCT_2D that uses the executor and number of
+     * threads of the specified context.
+     * 
+     * @param rows
+     *            number of rows
+     * @param columns
+     *            number of columns
+     * @param context
+     *            executor and number of threads used by this transform
+     */
+    public FloatDCT_2D(int rows, int columns, ConcurrencyContext context) {
+        if (context == null) {
+            throw new IllegalArgumentException("context cannot be null");
+        }
+        this.context = context;
         if (rows <= 1 || columns <= 1) {
             throw new IllegalArgumentException("rows and columns must be greater than 1");
         }
@@ -87,20 +110,12 @@ public class FloatDCT_2D {
         }
         if (ConcurrencyUtils.isPowerOf2(rows) && ConcurrencyUtils.isPowerOf2(columns)) {
             isPowerOfTwo = true;
-            oldNthreads = ConcurrencyUtils.getNumberOfThreads();
-            nt = 4 * oldNthreads * rows;
-            if (columns == 2 * oldNthreads) {
-                nt >>= 1;
-            } else if (columns < 2 * oldNthreads) {
-                nt >>= 2;
-            }
-            t = new float[nt];
         }
-        dctColumns = new FloatDCT_1D(columns);
+        dctColumns = new FloatDCT_1D(columns, context);
         if (columns == rows) {
             dctRows = dctColumns;
         } else {
-            dctRows = new FloatDCT_1D(rows);
+            dctRows = new FloatDCT_1D(rows, context);
         }
     }
 
@@ -114,51 +129,39 @@ public class FloatDCT_2D {
      *            if true then scaling is performed
      */
     public void forward(final float[] a, final boolean scale) {
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
+        int nthreads = context.getNumberOfThreads();
         if (isPowerOfTwo) {
-            if (nthreads != oldNthreads) {
-                nt = 4 * nthreads * rows;
-                if (columns == 2 * nthreads) {
-                    nt >>= 1;
-                } else if (columns < 2 * nthreads) {
-                    nt >>= 2;
-                }
-                t = new float[nt];
-                oldNthreads = nthreads;
-            }
             if ((nthreads > 1) && useThreads) {
                 ddxt2d_subth(-1, a, scale);
                 ddxt2d0_subth(-1, a, scale);
             } else {
-                ddxt2d_sub(-1, a, scale);
+                ddxt2d_sub(-1, a, scale, new float[4 * rows], getColumnBlocks(1).cursor());
                 for (int i = 0; i < rows; i++) {
                     dctColumns.forward(a, i * columns, scale);
                 }
             }
         } else {
-            if ((nthreads > 1) && useThreads && (rows >= nthreads) && (columns >= nthreads)) {
+            if ((nthreads > 1) && useThreads) {
                 Future<?>[] futures = new Future[nthreads];
-                int p = rows / nthreads;
+                final IndexRange rowRange = new IndexRange(0, rows, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstRow = l * p;
-                    final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            for (int r = firstRow; r < lastRow; r++) {
+                            IndexRange.Cursor cursor = rowRange.cursor();
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 dctColumns.forward(a, r * columns, scale);
                             }
                         }
                     });
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
-                p = columns / nthreads;
+                final IndexRange columnRange = new IndexRange(0, columns, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstColumn = l * p;
-                    final int lastColumn = (l == (nthreads - 1)) ? columns : firstColumn + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
                             float[] temp = new float[rows];
-                            for (int c = firstColumn; c < lastColumn; c++) {
+                            IndexRange.Cursor cursor = columnRange.cursor();
+                            for (int c = cursor.next(); c >= 0; c = cursor.next()) {
                                 for (int r = 0; r < rows; r++) {
                                     temp[r] = a[r * columns + c];
                                 }
@@ -189,6 +192,24 @@ public class FloatDCT_2D {
         }
     }
 
+    /**
+     * Computes 2D forward DCT (DCT-II) leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #forward(float[], boolean)}; the position is not changed.
+     * Unless the buffer is a heap buffer positioned at the first element of
+     * its array, the whole buffer is copied to a temporary array and back.
+     * 
+     * @param a
+     *            data to transform
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void forward(FloatBuffer a, boolean scale) {
+        float[] array = BufferUtils.getArray(a, (long) rows * columns);
+        forward(array, scale);
+        BufferUtils.putArray(a, array, (long) rows * columns);
+    }
+
     /**
      * Computes 2D forward DCT (DCT-II) leaving the result in <code>a</code>.
      * The data is stored in 2D array.
@@ -199,51 +220,39 @@ public class FloatDCT_2D {
      *            if true then scaling is performed
      */
     public void forward(final float[][] a, final boolean scale) {
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
+        int nthreads = context.getNumberOfThreads();
         if (isPowerOfTwo) {
-            if (nthreads != oldNthreads) {
-                nt = 4 * nthreads * rows;
-                if (columns == 2 * nthreads) {
-                    nt >>= 1;
-                } else if (columns < 2 * nthreads) {
-                    nt >>= 2;
-                }
-                t = new float[nt];
-                oldNthreads = nthreads;
-            }
             if ((nthreads > 1) && useThreads) {
                 ddxt2d_subth(-1, a, scale);
                 ddxt2d0_subth(-1, a, scale);
             } else {
-                ddxt2d_sub(-1, a, scale);
+                ddxt2d_sub(-1, a, scale, new float[4 * rows], getColumnBlocks(1).cursor());
                 for (int i = 0; i < rows; i++) {
                     dctColumns.forward(a[i], scale);
                 }
             }
         } else {
-            if ((nthreads > 1) && useThreads && (rows >= nthreads) && (columns >= nthreads)) {
+            if ((nthreads > 1) && useThreads) {
                 Future<?>[] futures = new Future[nthreads];
-                int p = rows / nthreads;
+                final IndexRange rowRange = new IndexRange(0, rows, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstRow = l * p;
-                    final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            for (int i = firstRow; i < lastRow; i++) {
+                            IndexRange.Cursor cursor = rowRange.cursor();
+                            for (int i = cursor.next(); i >= 0; i = cursor.next()) {
                                 dctColumns.forward(a[i], scale);
                             }
                         }
                     });
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
-                p = columns / nthreads;
+                final IndexRange columnRange = new IndexRange(0, columns, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstColumn = l * p;
-                    final int lastColumn = (l == (nthreads - 1)) ? columns : firstColumn + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
                             float[] temp = new float[rows];
-                            for (int c = firstColumn; c < lastColumn; c++) {
+                            IndexRange.Cursor cursor = columnRange.cursor();
+                            for (int c = cursor.next(); c >= 0; c = cursor.next()) {
                                 for (int r = 0; r < rows; r++) {
                                     temp[r] = a[r][c];
                                 }
@@ -284,51 +293,39 @@ public class FloatDCT_2D {
      *            if true then scaling is performed
      */
     public void inverse(final float[] a, final boolean scale) {
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
+        int nthreads = context.getNumberOfThreads();
         if (isPowerOfTwo) {
-            if (nthreads != oldNthreads) {
-                nt = 4 * nthreads * rows;
-                if (columns == 2 * nthreads) {
-                    nt >>= 1;
-                } else if (columns < 2 * nthreads) {
-                    nt >>= 2;
-                }
-                t = new float[nt];
-                oldNthreads = nthreads;
-            }
             if ((nthreads > 1) && useThreads) {
                 ddxt2d_subth(1, a, scale);
                 ddxt2d0_subth(1, a, scale);
             } else {
-                ddxt2d_sub(1, a, scale);
+                ddxt2d_sub(1, a, scale, new float[4 * rows], getColumnBlocks(1).cursor());
                 for (int i = 0; i < rows; i++) {
                     dctColumns.inverse(a, i * columns, scale);
                 }
             }
         } else {
-            if ((nthreads > 1) && useThreads && (rows >= nthreads) && (columns >= nthreads)) {
+            if ((nthreads > 1) && useThreads) {
                 Future<?>[] futures = new Future[nthreads];
-                int p = rows / nthreads;
+                final IndexRange rowRange = new IndexRange(0, rows, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstRow = l * p;
-                    final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            for (int i = firstRow; i < lastRow; i++) {
+                            IndexRange.Cursor cursor = rowRange.cursor();
+                            for (int i = cursor.next(); i >= 0; i = cursor.next()) {
                                 dctColumns.inverse(a, i * columns, scale);
                             }
                         }
                     });
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
-                p = columns / nthreads;
+                final IndexRange columnRange = new IndexRange(0, columns, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstColumn = l * p;
-                    final int lastColumn = (l == (nthreads - 1)) ? columns : firstColumn + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
                             float[] temp = new float[rows];
-                            for (int c = firstColumn; c < lastColumn; c++) {
+                            IndexRange.Cursor cursor = columnRange.cursor();
+                            for (int c = cursor.next(); c >= 0; c = cursor.next()) {
                                 for (int r = 0; r < rows; r++) {
                                     temp[r] = a[r * columns + c];
                                 }
@@ -359,6 +356,24 @@ public class FloatDCT_2D {
         }
     }
 
+    /**
+     * Computes 2D inverse DCT (DCT-III) leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #inverse(float[], boolean)}; the position is not changed.
+     * Unless the buffer is a heap buffer positioned at the first element of
+     * its array, the whole buffer is copied to a temporary array and back.
+     * 
+     * @param a
+     *            data to transform
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void inverse(FloatBuffer a, boolean scale) {
+        float[] array = BufferUtils.getArray(a, (long) rows * columns);
+        inverse(array, scale);
+        BufferUtils.putArray(a, array, (long) rows * columns);
+    }
+
     /**
      * Computes 2D inverse DCT (DCT-III) leaving the result in <code>a</code>.
      * The data is stored in 2D array.
@@ -369,51 +384,39 @@ public class FloatDCT_2D {
      *            if true then scaling is performed
      */
     public void inverse(final float[][] a, final boolean scale) {
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
+        int nthreads = context.getNumberOfThreads();
         if (isPowerOfTwo) {
-            if (nthreads != oldNthreads) {
-                nt = 4 * nthreads * rows;
-                if (columns == 2 * nthreads) {
-                    nt >>= 1;
-                } else if (columns < 2 * nthreads) {
-                    nt >>= 2;
-                }
-                t = new float[nt];
-                oldNthreads = nthreads;
-            }
             if ((nthreads > 1) && useThreads) {
                 ddxt2d_subth(1, a, scale);
                 ddxt2d0_subth(1, a, scale);
             } else {
-                ddxt2d_sub(1, a, scale);
+                ddxt2d_sub(1, a, scale, new float[4 * rows], getColumnBlocks(1).cursor());
                 for (int i = 0; i < rows; i++) {
                     dctColumns.inverse(a[i], scale);
                 }
             }
         } else {
-            if ((nthreads > 1) && useThreads && (rows >= nthreads) && (columns >= nthreads)) {
+            if ((nthreads > 1) && useThreads) {
                 Future<?>[] futures = new Future[nthreads];
-                int p = rows / nthreads;
+                final IndexRange rowRange = new IndexRange(0, rows, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstRow = l * p;
-                    final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            for (int i = firstRow; i < lastRow; i++) {
+                            IndexRange.Cursor cursor = rowRange.cursor();
+                            for (int i = cursor.next(); i >= 0; i = cursor.next()) {
                                 dctColumns.inverse(a[i], scale);
                             }
                         }
                     });
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
-                p = columns / nthreads;
+                final IndexRange columnRange = new IndexRange(0, columns, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstColumn = l * p;
-                    final int lastColumn = (l == (nthreads - 1)) ? columns : firstColumn + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
                             float[] temp = new float[rows];
-                            for (int c = firstColumn; c < lastColumn; c++) {
+                            IndexRange.Cursor cursor = columnRange.cursor();
+                            for (int c = cursor.next(); c >= 0; c = cursor.next()) {
                                 for (int r = 0; r < rows; r++) {
                                     temp[r] = a[r][c];
                                 }
@@ -444,105 +447,98 @@ public class FloatDCT_2D {
         }
     }
 
-    private void ddxt2d_subth(final int isgn, final float[] a, final boolean scale) {
-        int nthread = ConcurrencyUtils.getNumberOfThreads();
-        int nt = 4 * rows;
-        if (columns == 2 * nthread) {
-            nt >>= 1;
-        } else if (columns < 2 * nthread) {
-            nthread = columns;
-            nt >>= 2;
+    /**
+     * Computes 2D forward DCT (DCT-II) of leaving the result in <code>a</code>,
+     * using the transpose-based algorithm: the rows are transformed, the array
+     * is transposed by a cache-blocked parallel transposition, the rows of the
+     * transposed array (i.e. the columns) are transformed and, unless
+     * <code>transposed</code> is true, the result is transposed back. Memory
+     * is only traversed along rows, which pays off for large arrays; a
+     * temporary array of the size of <code>a</code> is allocated. The input
+     * has the layout described in {@link #forward(float[], boolean)}. If <code>transposed</code> is
+     * true, the result is left transposed:<br>
+     * 
+     * <pre>
+     * a[k2*rows+k1] = X[k1][k2], 0&lt;=k1&lt;rows, 0&lt;=k2&lt;columns,
+     * </pre>
+     * 
+     * which is also the input layout of
+     * {@link #inverseByTranspose(float[], boolean, boolean)}. A caller that
+     * does not need the natural layout of the result, e.g. to compute a
+     * convolution (forward transform, pointwise multiplication, inverse
+     * transform), saves one transposition in each direction.
+     * 
+     * @param a
+     *            data to transform
+     * @param transposed
+     *            if true then the result is left transposed
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void forwardByTranspose(float[] a, boolean transposed, boolean scale) {
+        float[] t = new float[rows * columns];
+        dctColumns.forwardBatch(a, 0, rows, 1, columns, scale);
+        TransposeUtils.transpose(a, 0, t, 0, 1, rows, columns, 1, context);
+        dctRows.forwardBatch(t, 0, columns, 1, rows, scale);
+        if (transposed) {
+            System.arraycopy(t, 0, a, 0, t.length);
+        } else {
+            TransposeUtils.transpose(t, 0, a, 0, 1, columns, rows, 1, context);
+        }
+    }
+
+    /**
+     * Computes 2D inverse DCT (DCT-III) of leaving the result in <code>a</code>,
+     * using the transpose-based algorithm described in
+     * {@link #forwardByTranspose(float[], boolean, boolean)}. If
+     * <code>transposed</code> is true, the input must be transposed:<br>
+     * 
+     * <pre>
+     * a[k2*rows+k1] = X[k1][k2], 0&lt;=k1&lt;rows, 0&lt;=k2&lt;columns,
+     * </pre>
+     * 
+     * as left by {@link #forwardByTranspose(float[], boolean, boolean)}.
+     * The result always has the natural layout.
+     * 
+     * @param a
+     *            data to transform
+     * @param transposed
+     *            if true then the input is transposed
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void inverseByTranspose(float[] a, boolean transposed, boolean scale) {
+        float[] t = new float[rows * columns];
+        if (transposed) {
+            dctRows.inverseBatch(a, 0, columns, 1, rows, scale);
+            TransposeUtils.transpose(a, 0, t, 0, 1, columns, rows, 1, context);
+            dctColumns.inverseBatch(t, 0, rows, 1, columns, scale);
+            System.arraycopy(t, 0, a, 0, t.length);
+        } else {
+            dctColumns.inverseBatch(a, 0, rows, 1, columns, scale);
+            TransposeUtils.transpose(a, 0, t, 0, 1, rows, columns, 1, context);
+            dctRows.inverseBatch(t, 0, columns, 1, rows, scale);
+            TransposeUtils.transpose(t, 0, a, 0, 1, columns, rows, 1, context);
         }
-        final int nthreads = nthread;
-        Future<?>[] futures = new Future[nthread];
+    }
+
+    /**
+     * Returns the range of the blocks of columns that are transformed together
+     * by ddxt2d_sub: four columns at a time, or both columns if there are only
+     * two of them.
+     */
+    private IndexRange getColumnBlocks(int ntasks) {
+        return new IndexRange(0, (columns > 2) ? columns / 4 : 1, ntasks);
+    }
 
-        for (int i = 0; i < nthread; i++) {
-            final int n0 = i;
-            final int startt = nt * i;
-            futures[i] = ConcurrencyUtils.submit(new Runnable() {
+    private void ddxt2d_subth(final int isgn, final float[] a, final boolean scale) {
+        int nthreads = context.getNumberOfThreads();
+        final IndexRange columnRange = getColumnBlocks(nthreads);
+        Future<?>[] futures = new Future[nthreads];
+        for (int i = 0; i < nthreads; i++) {
+            futures[i] = context.submit(new Runnable() {
                 public void run() {
-                    int idx1, idx2;
-                    if (columns > 2 * nthreads) {
-                        if (isgn == -1) {
-                            for (int c = 4 * n0; c < columns; c += 4 * nthreads) {
-                                for (int r = 0; r < rows; r++) {
-                                    idx1 = r * columns + c;
-                                    idx2 = startt + rows + r;
-                                    t[startt + r] = a[idx1];
-                                    t[idx2] = a[idx1 + 1];
-                                    t[idx2 + rows] = a[idx1 + 2];
-                                    t[idx2 + 2 * rows] = a[idx1 + 3];
-                                }
-                                dctRows.forward(t, startt, scale);
-                                dctRows.forward(t, startt + rows, scale);
-                                dctRows.forward(t, startt + 2 * rows, scale);
-                                dctRows.forward(t, startt + 3 * rows, scale);
-                                for (int r = 0; r < rows; r++) {
-                                    idx1 = r * columns + c;
-                                    idx2 = startt + rows + r;
-                                    a[idx1] = t[startt + r];
-                                    a[idx1 + 1] = t[idx2];
-                                    a[idx1 + 2] = t[idx2 + rows];
-                                    a[idx1 + 3] = t[idx2 + 2 * rows];
-                                }
-                            }
-                        } else {
-                            for (int c = 4 * n0; c < columns; c += 4 * nthreads) {
-                                for (int r = 0; r < rows; r++) {
-                                    idx1 = r * columns + c;
-                                    idx2 = startt + rows + r;
-                                    t[startt + r] = a[idx1];
-                                    t[idx2] = a[idx1 + 1];
-                                    t[idx2 + rows] = a[idx1 + 2];
-                                    t[idx2 + 2 * rows] = a[idx1 + 3];
-                                }
-                                dctRows.inverse(t, startt, scale);
-                                dctRows.inverse(t, startt + rows, scale);
-                                dctRows.inverse(t, startt + 2 * rows, scale);
-                                dctRows.inverse(t, startt + 3 * rows, scale);
-                                for (int r = 0; r < rows; r++) {
-                                    idx1 = r * columns + c;
-                                    idx2 = startt + rows + r;
-                                    a[idx1] = t[startt + r];
-                                    a[idx1 + 1] = t[idx2];
-                                    a[idx1 + 2] = t[idx2 + rows];
-                                    a[idx1 + 3] = t[idx2 + 2 * rows];
-                                }
-                            }
-                        }
-                    } else if (columns == 2 * nthreads) {
-                        for (int r = 0; r < rows; r++) {
-                            idx1 = r * columns + 2 * n0;
-                            idx2 = startt + r;
-                            t[idx2] = a[idx1];
-                            t[idx2 + rows] = a[idx1 + 1];
-                        }
-                        if (isgn == -1) {
-                            dctRows.forward(t, startt, scale);
-                            dctRows.forward(t, startt + rows, scale);
-                        } else {
-                            dctRows.inverse(t, startt, scale);
-                            dctRows.inverse(t, startt + rows, scale);
-                        }
-                        for (int r = 0; r < rows; r++) {
-                            idx1 = r * columns + 2 * n0;
-                            idx2 = startt + r;
-                            a[idx1] = t[idx2];
-                            a[idx1 + 1] = t[idx2 + rows];
-                        }
-                    } else if (columns == nthreads) {
-                        for (int r = 0; r < rows; r++) {
-                            t[startt + r] = a[r * columns + n0];
-                        }
-                        if (isgn == -1) {
-                            dctRows.forward(t, startt, scale);
-                        } else {
-                            dctRows.inverse(t, startt, scale);
-                        }
-                        for (int r = 0; r < rows; r++) {
-                            a[r * columns + n0] = t[startt + r];
-                        }
-                    }
+                    ddxt2d_sub(isgn, a, scale, new float[4 * rows], columnRange.cursor());
                 }
             });
         }
@@ -550,98 +546,13 @@ public class FloatDCT_2D {
     }
 
     private void ddxt2d_subth(final int isgn, final float[][] a, final boolean scale) {
-        int nthread = ConcurrencyUtils.getNumberOfThreads();
-        int nt = 4 * rows;
-        if (columns == 2 * nthread) {
-            nt >>= 1;
-        } else if (columns < 2 * nthread) {
-            nthread = columns;
-            nt >>= 2;
-        }
-        final int nthreads = nthread;
-        Future<?>[] futures = new Future[nthread];
-
-        for (int i = 0; i < nthread; i++) {
-            final int n0 = i;
-            final int startt = nt * i;
-            futures[i] = ConcurrencyUtils.submit(new Runnable() {
+        int nthreads = context.getNumberOfThreads();
+        final IndexRange columnRange = getColumnBlocks(nthreads);
+        Future<?>[] futures = new Future[nthreads];
+        for (int i = 0; i < nthreads; i++) {
+            futures[i] = context.submit(new Runnable() {
                 public void run() {
-                    int idx2;
-                    if (columns > 2 * nthreads) {
-                        if (isgn == -1) {
-                            for (int c = 4 * n0; c < columns; c += 4 * nthreads) {
-                                for (int r = 0; r < rows; r++) {
-                                    idx2 = startt + rows + r;
-                                    t[startt + r] = a[r][c];
-                                    t[idx2] = a[r][c + 1];
-                                    t[idx2 + rows] = a[r][c + 2];
-                                    t[idx2 + 2 * rows] = a[r][c + 3];
-                                }
-                                dctRows.forward(t, startt, scale);
-                                dctRows.forward(t, startt + rows, scale);
-                                dctRows.forward(t, startt + 2 * rows, scale);
-                                dctRows.forward(t, startt + 3 * rows, scale);
-                                for (int r = 0; r < rows; r++) {
-                                    idx2 = startt + rows + r;
-                                    a[r][c] = t[startt + r];
-                                    a[r][c + 1] = t[idx2];
-                                    a[r][c + 2] = t[idx2 + rows];
-                                    a[r][c + 3] = t[idx2 + 2 * rows];
-                                }
-                            }
-                        } else {
-                            for (int c = 4 * n0; c < columns; c += 4 * nthreads) {
-                                for (int r = 0; r < rows; r++) {
-                                    idx2 = startt + rows + r;
-                                    t[startt + r] = a[r][c];
-                                    t[idx2] = a[r][c + 1];
-                                    t[idx2 + rows] = a[r][c + 2];
-                                    t[idx2 + 2 * rows] = a[r][c + 3];
-                                }
-                                dctRows.inverse(t, startt, scale);
-                                dctRows.inverse(t, startt + rows, scale);
-                                dctRows.inverse(t, startt + 2 * rows, scale);
-                                dctRows.inverse(t, startt + 3 * rows, scale);
-                                for (int r = 0; r < rows; r++) {
-                                    idx2 = startt + rows + r;
-                                    a[r][c] = t[startt + r];
-                                    a[r][c + 1] = t[idx2];
-                                    a[r][c + 2] = t[idx2 + rows];
-                                    a[r][c + 3] = t[idx2 + 2 * rows];
-                                }
-                            }
-                        }
-                    } else if (columns == 2 * nthreads) {
-                        for (int r = 0; r < rows; r++) {
-                            idx2 = startt + r;
-                            t[idx2] = a[r][2 * n0];
-                            t[idx2 + rows] = a[r][2 * n0 + 1];
-                        }
-                        if (isgn == -1) {
-                            dctRows.forward(t, startt, scale);
-                            dctRows.forward(t, startt + rows, scale);
-                        } else {
-                            dctRows.inverse(t, startt, scale);
-                            dctRows.inverse(t, startt + rows, scale);
-                        }
-                        for (int r = 0; r < rows; r++) {
-                            idx2 = startt + r;
-                            a[r][2 * n0] = t[idx2];
-                            a[r][2 * n0 + 1] = t[idx2 + rows];
-                        }
-                    } else if (columns == nthreads) {
-                        for (int r = 0; r < rows; r++) {
-                            t[startt + r] = a[r][n0];
-                        }
-                        if (isgn == -1) {
-                            dctRows.forward(t, startt, scale);
-                        } else {
-                            dctRows.inverse(t, startt, scale);
-                        }
-                        for (int r = 0; r < rows; r++) {
-                            a[r][n0] = t[startt + r];
-                        }
-                    }
+                    ddxt2d_sub(isgn, a, scale, new float[4 * rows], columnRange.cursor());
                 }
             });
         }
@@ -649,21 +560,22 @@ public class FloatDCT_2D {
     }
 
     private void ddxt2d0_subth(final int isgn, final float[] a, final boolean scale) {
-        final int nthreads = ConcurrencyUtils.getNumberOfThreads() > rows ? rows : ConcurrencyUtils.getNumberOfThreads();
+        final int nthreads = context.getNumberOfThreads() > rows ? rows : context.getNumberOfThreads();
 
         Future<?>[] futures = new Future[nthreads];
 
+        final IndexRange rowRange = new IndexRange(0, rows, nthreads);
         for (int i = 0; i < nthreads; i++) {
-            final int n0 = i;
-            futures[i] = ConcurrencyUtils.submit(new Runnable() {
+            futures[i] = context.submit(new Runnable() {
 
                 public void run() {
+                    IndexRange.Cursor cursor = rowRange.cursor();
                     if (isgn == -1) {
-                        for (int r = n0; r < rows; r += nthreads) {
+                        for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                             dctColumns.forward(a, r * columns, scale);
                         }
                     } else {
-                        for (int r = n0; r < rows; r += nthreads) {
+                        for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                             dctColumns.inverse(a, r * columns, scale);
                         }
                     }
@@ -674,21 +586,22 @@ public class FloatDCT_2D {
     }
 
     private void ddxt2d0_subth(final int isgn, final float[][] a, final boolean scale) {
-        final int nthreads = ConcurrencyUtils.getNumberOfThreads() > rows ? rows : ConcurrencyUtils.getNumberOfThreads();
+        final int nthreads = context.getNumberOfThreads() > rows ? rows : context.getNumberOfThreads();
 
         Future<?>[] futures = new Future[nthreads];
 
+        final IndexRange rowRange = new IndexRange(0, rows, nthreads);
         for (int i = 0; i < nthreads; i++) {
-            final int n0 = i;
-            futures[i] = ConcurrencyUtils.submit(new Runnable() {
+            futures[i] = context.submit(new Runnable() {
 
                 public void run() {
+                    IndexRange.Cursor cursor = rowRange.cursor();
                     if (isgn == -1) {
-                        for (int r = n0; r < rows; r += nthreads) {
+                        for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                             dctColumns.forward(a[r], scale);
                         }
                     } else {
-                        for (int r = n0; r < rows; r += nthreads) {
+                        for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                             dctColumns.inverse(a[r], scale);
                         }
                     }
@@ -698,12 +611,12 @@ public class FloatDCT_2D {
         ConcurrencyUtils.waitForCompletion(futures);
     }
 
-    private void ddxt2d_sub(int isgn, float[] a, boolean scale) {
+    private void ddxt2d_sub(int isgn, float[] a, boolean scale, final float[] t, IndexRange.Cursor cursor) {
         int idx1, idx2;
 
         if (columns > 2) {
             if (isgn == -1) {
-                for (int c = 0; c < columns; c += 4) {
+                for (int c = 4 * cursor.next(); c >= 0; c = 4 * cursor.next()) {
                     for (int r = 0; r < rows; r++) {
                         idx1 = r * columns + c;
                         idx2 = rows + r;
@@ -726,7 +639,7 @@ public class FloatDCT_2D {
                     }
                 }
             } else {
-                for (int c = 0; c < columns; c += 4) {
+                for (int c = 4 * cursor.next(); c >= 0; c = 4 * cursor.next()) {
                     for (int r = 0; r < rows; r++) {
                         idx1 = r * columns + c;
                         idx2 = rows + r;
@@ -749,7 +662,7 @@ public class FloatDCT_2D {
                     }
                 }
             }
-        } else if (columns == 2) {
+        } else if ((columns == 2) && (cursor.next() >= 0)) {
             for (int r = 0; r < rows; r++) {
                 idx1 = r * columns;
                 t[r] = a[idx1];
@@ -770,12 +683,12 @@ public class FloatDCT_2D {
         }
     }
 
-    private void ddxt2d_sub(int isgn, float[][] a, boolean scale) {
+    private void ddxt2d_sub(int isgn, float[][] a, boolean scale, final float[] t, IndexRange.Cursor cursor) {
         int idx2;
 
         if (columns > 2) {
             if (isgn == -1) {
-                for (int c = 0; c < columns; c += 4) {
+                for (int c = 4 * cursor.next(); c >= 0; c = 4 * cursor.next()) {
                     for (int r = 0; r < rows; r++) {
                         idx2 = rows + r;
                         t[r] = a[r][c];
@@ -796,7 +709,7 @@ public class FloatDCT_2D {
                     }
                 }
             } else {
-                for (int c = 0; c < columns; c += 4) {
+                for (int c = 4 * cursor.next(); c >= 0; c = 4 * cursor.next()) {
                     for (int r = 0; r < rows; r++) {
                         idx2 = rows + r;
                         t[r] = a[r][c];
@@ -817,7 +730,7 @@ public class FloatDCT_2D {
                     }
                 }
             }
-        } else if (columns == 2) {
+        } else if ((columns == 2) && (cursor.next() >= 0)) {
             for (int r = 0; r < rows; r++) {
                 t[r] = a[r][0];
                 t[rows + r] = a[r][1];
@@ -34,9 +34,14 @@
 
 package edu.emory.mathcs.jtransforms.dct;
 
+import java.nio.FloatBuffer;
 import java.util.concurrent.Future;
 
+import edu.emory.mathcs.utils.BufferUtils;
+import edu.emory.mathcs.utils.ConcurrencyContext;
 import edu.emory.mathcs.utils.ConcurrencyUtils;
+import edu.emory.mathcs.utils.IndexRange;
+import edu.emory.mathcs.utils.TransposeUtils;
 
 /**
  * Computes 3D Discrete Cosine Transform (DCT) of single precision data. The
@@ -44,6 +49,9 @@ import edu.emory.mathcs.utils.ConcurrencyUtils;
  * implementation of split-radix and mixed-radix algorithms optimized for SMP
  * systems. <br>
  * <br>
+ * Instances are thread-safe: a single instance can be used by concurrent
+ * callers. <br>
+ * <br>
  * Part of code is derived from General Purpose FFT Package written by Takuya Ooura
  * (http://www.kurims.kyoto-u.ac.jp/~ooura/fft.html)
  * 
@@ -62,13 +70,9 @@ public class FloatDCT_3D {
 
     private int rowStride;
 
-    private float[] t;
-
     private FloatDCT_1D dctSlices, dctRows, dctColumns;
 
-    private int oldNthreads;
-
-    private int nt;
+    private ConcurrencyContext context;
 
     private boolean isPowerOfTwo = false;
 
@@ -85,6 +89,27 @@ public class FloatDCT_3D {
      *            number of columns
      */
     public FloatDCT_3D(int slices, int rows, int columns) {
+        this(slices, rows, columns, ConcurrencyContext.getDefault());
+    }
+
+    /**
+     * Creates new instance of FloatDCT_3D that uses the executor and number of
+     * threads of the specified context.
+     * 
+     * @param slices
+     *            number of slices
+     * @param rows
+     *            number of rows
+     * @param columns
+     *            number of columns
+     * @param context
+     *            executor and number of threads used by this transform
+     */
+    public FloatDCT_3D(int slices, int rows, int columns, ConcurrencyContext context) {
+        if (context == null) {
+            throw new IllegalArgumentException("context cannot be null");
+        }
+        this.context = context;
         if (slices <= 1 || rows <= 1 || columns <= 1) {
             throw new IllegalArgumentException("slices, rows and columns must be greater than 1");
         }
@@ -99,32 +124,19 @@ public class FloatDCT_3D {
         if (ConcurrencyUtils.isPowerOf2(slices) && ConcurrencyUtils.isPowerOf2(rows) && ConcurrencyUtils.isPowerOf2(columns)) {
             isPowerOfTwo = true;
 
-            oldNthreads = ConcurrencyUtils.getNumberOfThreads();
-            nt = slices;
-            if (nt < rows) {
-                nt = rows;
-            }
-            nt *= 4;
-            if (oldNthreads > 1) {
-                nt *= oldNthreads;
-            }
-            if (columns == 2) {
-                nt >>= 1;
-            }
-            t = new float[nt];
         }
-        dctSlices = new FloatDCT_1D(slices);
+        dctSlices = new FloatDCT_1D(slices, context);
         if (slices == rows) {
             dctRows = dctSlices;
         } else {
-            dctRows = new FloatDCT_1D(rows);
+            dctRows = new FloatDCT_1D(rows, context);
         }
         if (slices == columns) {
             dctColumns = dctSlices;
         } else if (rows == columns) {
             dctColumns = dctRows;
         } else {
-            dctColumns = new FloatDCT_1D(columns);
+            dctColumns = new FloatDCT_1D(columns, context);
         }
     }
 
@@ -142,40 +154,36 @@ public class FloatDCT_3D {
      *            if true then scaling is performed
      */
     public void forward(final float[] a, final boolean scale) {
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
+        int nthreads = context.getNumberOfThreads();
         if (isPowerOfTwo) {
-            if (nthreads != oldNthreads) {
-                nt = slices;
-                if (nt < rows) {
-                    nt = rows;
-                }
-                nt *= 4;
-                if (nthreads > 1) {
-                    nt *= nthreads;
-                }
-                if (columns == 2) {
-                    nt >>= 1;
-                }
-                t = new float[nt];
-                oldNthreads = nthreads;
+            int nt = slices;
+            if (nt < rows) {
+                nt = rows;
             }
+            nt *= 4;
+            if (nthreads > 1) {
+                nt *= nthreads;
+            }
+            if (columns == 2) {
+                nt >>= 1;
+            }
+            final float[] t = new float[nt];
             if ((nthreads > 1) && useThreads) {
-                ddxt3da_subth(-1, a, scale);
-                ddxt3db_subth(-1, a, scale);
+                ddxt3da_subth(-1, a, scale, t);
+                ddxt3db_subth(-1, a, scale, t);
             } else {
-                ddxt3da_sub(-1, a, scale);
-                ddxt3db_sub(-1, a, scale);
+                ddxt3da_sub(-1, a, scale, t);
+                ddxt3db_sub(-1, a, scale, t);
             }
         } else {
-            if ((nthreads > 1) && useThreads && (slices >= nthreads) && (rows >= nthreads) && (columns >= nthreads)) {
+            if ((nthreads > 1) && useThreads) {
                 Future<?>[] futures = new Future[nthreads];
-                int p = slices / nthreads;
+                final IndexRange sliceRange = new IndexRange(0, slices, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstSlice = l * p;
-                    final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            for (int s = firstSlice; s < lastSlice; s++) {
+                            IndexRange.Cursor cursor = sliceRange.cursor();
+                            for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                                 int idx1 = s * sliceStride;
                                 for (int r = 0; r < rows; r++) {
                                     dctColumns.forward(a, idx1 + r * rowStride, scale);
@@ -186,13 +194,13 @@ public class FloatDCT_3D {
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
 
+                final IndexRange sliceRange2 = new IndexRange(0, slices, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstSlice = l * p;
-                    final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
                             float[] temp = new float[rows];
-                            for (int s = firstSlice; s < lastSlice; s++) {
+                            IndexRange.Cursor cursor = sliceRange2.cursor();
+                            for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                                 int idx1 = s * sliceStride;
                                 for (int c = 0; c < columns; c++) {
                                     for (int r = 0; r < rows; r++) {
@@ -211,14 +219,13 @@ public class FloatDCT_3D {
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
 
-                p = rows / nthreads;
+                final IndexRange rowRange = new IndexRange(0, rows, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstRow = l * p;
-                    final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
                             float[] temp = new float[slices];
-                            for (int r = firstRow; r < lastRow; r++) {
+                            IndexRange.Cursor cursor = rowRange.cursor();
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 int idx1 = r * rowStride;
                                 for (int c = 0; c < columns; c++) {
                                     for (int s = 0; s < slices; s++) {
@@ -278,6 +285,24 @@ public class FloatDCT_3D {
         }
     }
 
+    /**
+     * Computes 3D forward DCT (DCT-II) leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #forward(float[], boolean)}; the position is not changed.
+     * Unless the buffer is a heap buffer positioned at the first element of
+     * its array, the whole buffer is copied to a temporary array and back.
+     * 
+     * @param a
+     *            data to transform
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void forward(FloatBuffer a, boolean scale) {
+        float[] array = BufferUtils.getArray(a, (long) slices * rows * columns);
+        forward(array, scale);
+        BufferUtils.putArray(a, array, (long) slices * rows * columns);
+    }
+
     /**
      * Computes the 3D forward DCT (DCT-II) leaving the result in <code>a</code>
      * . The data is stored in 3D array
@@ -288,40 +313,36 @@ public class FloatDCT_3D {
      *            if true then scaling is performed
      */
     public void forward(final float[][][] a, final boolean scale) {
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
+        int nthreads = context.getNumberOfThreads();
         if (isPowerOfTwo) {
-            if (nthreads != oldNthreads) {
-                nt = slices;
-                if (nt < rows) {
-                    nt = rows;
-                }
-                nt *= 4;
-                if (nthreads > 1) {
-                    nt *= nthreads;
-                }
-                if (columns == 2) {
-                    nt >>= 1;
-                }
-                t = new float[nt];
-                oldNthreads = nthreads;
+            int nt = slices;
+            if (nt < rows) {
+                nt = rows;
             }
+            nt *= 4;
+            if (nthreads > 1) {
+                nt *= nthreads;
+            }
+            if (columns == 2) {
+                nt >>= 1;
+            }
+            final float[] t = new float[nt];
             if ((nthreads > 1) && useThreads) {
-                ddxt3da_subth(-1, a, scale);
-                ddxt3db_subth(-1, a, scale);
+                ddxt3da_subth(-1, a, scale, t);
+                ddxt3db_subth(-1, a, scale, t);
             } else {
-                ddxt3da_sub(-1, a, scale);
-                ddxt3db_sub(-1, a, scale);
+                ddxt3da_sub(-1, a, scale, t);
+                ddxt3db_sub(-1, a, scale, t);
             }
         } else {
-            if ((nthreads > 1) && useThreads && (slices >= nthreads) && (rows >= nthreads) && (columns >= nthreads)) {
+            if ((nthreads > 1) && useThreads) {
                 Future<?>[] futures = new Future[nthreads];
-                int p = slices / nthreads;
+                final IndexRange sliceRange = new IndexRange(0, slices, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstSlice = l * p;
-                    final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            for (int s = firstSlice; s < lastSlice; s++) {
+                            IndexRange.Cursor cursor = sliceRange.cursor();
+                            for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                                 for (int r = 0; r < rows; r++) {
                                     dctColumns.forward(a[s][r], scale);
                                 }
@@ -331,13 +352,13 @@ public class FloatDCT_3D {
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
 
+                final IndexRange sliceRange2 = new IndexRange(0, slices, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstSlice = l * p;
-                    final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
                             float[] temp = new float[rows];
-                            for (int s = firstSlice; s < lastSlice; s++) {
+                            IndexRange.Cursor cursor = sliceRange2.cursor();
+                            for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                                 for (int c = 0; c < columns; c++) {
                                     for (int r = 0; r < rows; r++) {
                                         temp[r] = a[s][r][c];
@@ -353,14 +374,13 @@ public class FloatDCT_3D {
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
 
-                p = rows / nthreads;
+                final IndexRange rowRange = new IndexRange(0, rows, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstRow = l * p;
-                    final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
                             float[] temp = new float[slices];
-                            for (int r = firstRow; r < lastRow; r++) {
+                            IndexRange.Cursor cursor = rowRange.cursor();
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 for (int c = 0; c < columns; c++) {
                                     for (int s = 0; s < slices; s++) {
                                         temp[s] = a[s][r][c];
@@ -424,40 +444,36 @@ public class FloatDCT_3D {
      *            if true then scaling is performed
      */
     public void inverse(final float[] a, final boolean scale) {
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
+        int nthreads = context.getNumberOfThreads();
         if (isPowerOfTwo) {
-            if (nthreads != oldNthreads) {
-                nt = slices;
-                if (nt < rows) {
-                    nt = rows;
-                }
-                nt *= 4;
-                if (nthreads > 1) {
-                    nt *= nthreads;
-                }
-                if (columns == 2) {
-                    nt >>= 1;
-                }
-                t = new float[nt];
-                oldNthreads = nthreads;
+            int nt = slices;
+            if (nt < rows) {
+                nt = rows;
+            }
+            nt *= 4;
+            if (nthreads > 1) {
+                nt *= nthreads;
+            }
+            if (columns == 2) {
+                nt >>= 1;
             }
+            final float[] t = new float[nt];
             if ((nthreads > 1) && useThreads) {
-                ddxt3da_subth(1, a, scale);
-                ddxt3db_subth(1, a, scale);
+                ddxt3da_subth(1, a, scale, t);
+                ddxt3db_subth(1, a, scale, t);
             } else {
-                ddxt3da_sub(1, a, scale);
-                ddxt3db_sub(1, a, scale);
+                ddxt3da_sub(1, a, scale, t);
+                ddxt3db_sub(1, a, scale, t);
             }
         } else {
-            if ((nthreads > 1) && useThreads && (slices >= nthreads) && (rows >= nthreads) && (columns >= nthreads)) {
+            if ((nthreads > 1) && useThreads) {
                 Future<?>[] futures = new Future[nthreads];
-                int p = slices / nthreads;
+                final IndexRange sliceRange = new IndexRange(0, slices, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstSlice = l * p;
-                    final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            for (int s = firstSlice; s < lastSlice; s++) {
+                            IndexRange.Cursor cursor = sliceRange.cursor();
+                            for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                                 int idx1 = s * sliceStride;
                                 for (int r = 0; r < rows; r++) {
                                     dctColumns.inverse(a, idx1 + r * rowStride, scale);
@@ -468,13 +484,13 @@ public class FloatDCT_3D {
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
 
+                final IndexRange sliceRange2 = new IndexRange(0, slices, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstSlice = l * p;
-                    final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
                             float[] temp = new float[rows];
-                            for (int s = firstSlice; s < lastSlice; s++) {
+                            IndexRange.Cursor cursor = sliceRange2.cursor();
+                            for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                                 int idx1 = s * sliceStride;
                                 for (int c = 0; c < columns; c++) {
                                     for (int r = 0; r < rows; r++) {
@@ -493,14 +509,13 @@ public class FloatDCT_3D {
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
 
-                p = rows / nthreads;
+                final IndexRange rowRange = new IndexRange(0, rows, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstRow = l * p;
-                    final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
                             float[] temp = new float[slices];
-                            for (int r = firstRow; r < lastRow; r++) {
+                            IndexRange.Cursor cursor = rowRange.cursor();
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 int idx1 = r * rowStride;
                                 for (int c = 0; c < columns; c++) {
                                     for (int s = 0; s < slices; s++) {
@@ -560,6 +575,24 @@ public class FloatDCT_3D {
         }
     }
 
+    /**
+     * Computes 3D inverse DCT (DCT-III) leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #inverse(float[], boolean)}; the position is not changed.
+     * Unless the buffer is a heap buffer positioned at the first element of
+     * its array, the whole buffer is copied to a temporary array and back.
+     * 
+     * @param a
+     *            data to transform
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void inverse(FloatBuffer a, boolean scale) {
+        float[] array = BufferUtils.getArray(a, (long) slices * rows * columns);
+        inverse(array, scale);
+        BufferUtils.putArray(a, array, (long) slices * rows * columns);
+    }
+
     /**
      * Computes the 3D inverse DCT (DCT-III) leaving the result in
      * <code>a</code>. The data is stored in 3D array.
@@ -570,40 +603,36 @@ public class FloatDCT_3D {
      *            if true then scaling is performed
      */
     public void inverse(final float[][][] a, final boolean scale) {
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
+        int nthreads = context.getNumberOfThreads();
         if (isPowerOfTwo) {
-            if (nthreads != oldNthreads) {
-                nt = slices;
-                if (nt < rows) {
-                    nt = rows;
-                }
-                nt *= 4;
-                if (nthreads > 1) {
-                    nt *= nthreads;
-                }
-                if (columns == 2) {
-                    nt >>= 1;
-                }
-                t = new float[nt];
-                oldNthreads = nthreads;
+            int nt = slices;
+            if (nt < rows) {
+                nt = rows;
             }
+            nt *= 4;
+            if (nthreads > 1) {
+                nt *= nthreads;
+            }
+            if (columns == 2) {
+                nt >>= 1;
+            }
+            final float[] t = new float[nt];
             if ((nthreads > 1) && useThreads) {
-                ddxt3da_subth(1, a, scale);
-                ddxt3db_subth(1, a, scale);
+                ddxt3da_subth(1, a, scale, t);
+                ddxt3db_subth(1, a, scale, t);
             } else {
-                ddxt3da_sub(1, a, scale);
-                ddxt3db_sub(1, a, scale);
+                ddxt3da_sub(1, a, scale, t);
+                ddxt3db_sub(1, a, scale, t);
             }
         } else {
-            if ((nthreads > 1) && useThreads && (slices >= nthreads) && (rows >= nthreads) && (columns >= nthreads)) {
+            if ((nthreads > 1) && useThreads) {
                 Future<?>[] futures = new Future[nthreads];
-                int p = slices / nthreads;
+                final IndexRange sliceRange = new IndexRange(0, slices, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstSlice = l * p;
-                    final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            for (int s = firstSlice; s < lastSlice; s++) {
+                            IndexRange.Cursor cursor = sliceRange.cursor();
+                            for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                                 for (int r = 0; r < rows; r++) {
                                     dctColumns.inverse(a[s][r], scale);
                                 }
@@ -613,13 +642,13 @@ public class FloatDCT_3D {
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
 
+                final IndexRange sliceRange2 = new IndexRange(0, slices, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstSlice = l * p;
-                    final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
                             float[] temp = new float[rows];
-                            for (int s = firstSlice; s < lastSlice; s++) {
+                            IndexRange.Cursor cursor = sliceRange2.cursor();
+                            for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                                 for (int c = 0; c < columns; c++) {
                                     for (int r = 0; r < rows; r++) {
                                         temp[r] = a[s][r][c];
@@ -635,14 +664,13 @@ public class FloatDCT_3D {
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
 
-                p = rows / nthreads;
+                final IndexRange rowRange = new IndexRange(0, rows, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstRow = l * p;
-                    final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
                             float[] temp = new float[slices];
-                            for (int r = firstRow; r < lastRow; r++) {
+                            IndexRange.Cursor cursor = rowRange.cursor();
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 for (int c = 0; c < columns; c++) {
                                     for (int s = 0; s < slices; s++) {
                                         temp[s] = a[s][r][c];
@@ -692,7 +720,91 @@ public class FloatDCT_3D {
         }
     }
 
-    private void ddxt3da_sub(int isgn, float[] a, boolean scale) {
+    /**
+     * Computes 3D forward DCT (DCT-II) of leaving the result in <code>a</code>,
+     * using the transpose-based algorithm: the rows are transformed, every
+     * slice is transposed so that its columns become rows, these are
+     * transformed, the array is transposed so that the slice dimension
+     * becomes the last one, the last dimension is transformed and, unless
+     * <code>transposed</code> is true, the array is transposed back. The
+     * transpositions are cache-blocked and parallel, and memory is only
+     * traversed along rows, which pays off for large arrays; a temporary array
+     * of the size of <code>a</code> is allocated. The input has the layout
+     * described in {@link #forward(float[], boolean)}. If <code>transposed</code> is true, the
+     * dimensions of the result are left in reverse order:<br>
+     * 
+     * <pre>
+     * a[k3*rows*slices+k2*slices+k1] = X[k1][k2][k3], 
+     * 0&lt;=k1&lt;slices, 0&lt;=k2&lt;rows, 0&lt;=k3&lt;columns,
+     * </pre>
+     * 
+     * which is also the input layout of
+     * {@link #inverseByTranspose(float[], boolean, boolean)}. A caller that
+     * does not need the natural layout of the result, e.g. to compute a
+     * convolution, saves two transpositions in each direction.
+     * 
+     * @param a
+     *            data to transform
+     * @param transposed
+     *            if true then the result is left transposed
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void forwardByTranspose(float[] a, boolean transposed, boolean scale) {
+        float[] t = new float[slices * rows * columns];
+        dctColumns.forwardBatch(a, 0, slices * rows, 1, columns, scale);
+        TransposeUtils.transpose(a, 0, t, 0, slices, rows, columns, 1, context);
+        dctRows.forwardBatch(t, 0, slices * columns, 1, rows, scale);
+        TransposeUtils.transpose(t, 0, a, 0, 1, slices, columns * rows, 1, context);
+        dctSlices.forwardBatch(a, 0, columns * rows, 1, slices, scale);
+        if (!transposed) {
+            TransposeUtils.transpose(a, 0, t, 0, 1, columns * rows, slices, 1, context);
+            TransposeUtils.transpose(t, 0, a, 0, slices, columns, rows, 1, context);
+        }
+    }
+
+    /**
+     * Computes 3D inverse DCT (DCT-III) of leaving the result in <code>a</code>,
+     * using the transpose-based algorithm described in
+     * {@link #forwardByTranspose(float[], boolean, boolean)}. If
+     * <code>transposed</code> is true, the dimensions of the input must be in
+     * reverse order:<br>
+     * 
+     * <pre>
+     * a[k3*rows*slices+k2*slices+k1] = X[k1][k2][k3], 
+     * 0&lt;=k1&lt;slices, 0&lt;=k2&lt;rows, 0&lt;=k3&lt;columns,
+     * </pre>
+     * 
+     * as left by {@link #forwardByTranspose(float[], boolean, boolean)}.
+     * The result always has the natural layout.
+     * 
+     * @param a
+     *            data to transform
+     * @param transposed
+     *            if true then the input is transposed
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void inverseByTranspose(float[] a, boolean transposed, boolean scale) {
+        float[] t = new float[slices * rows * columns];
+        if (!transposed) {
+            dctColumns.inverseBatch(a, 0, slices * rows, 1, columns, scale);
+            TransposeUtils.transpose(a, 0, t, 0, slices, rows, columns, 1, context);
+            dctRows.inverseBatch(t, 0, slices * columns, 1, rows, scale);
+            TransposeUtils.transpose(t, 0, a, 0, 1, slices, columns * rows, 1, context);
+            dctSlices.inverseBatch(a, 0, columns * rows, 1, slices, scale);
+            TransposeUtils.transpose(a, 0, t, 0, 1, columns * rows, slices, 1, context);
+            TransposeUtils.transpose(t, 0, a, 0, slices, columns, rows, 1, context);
+        } else {
+            dctSlices.inverseBatch(a, 0, columns * rows, 1, slices, scale);
+            TransposeUtils.transpose(a, 0, t, 0, 1, columns * rows, slices, 1, context);
+            dctRows.inverseBatch(t, 0, slices * columns, 1, rows, scale);
+            TransposeUtils.transpose(t, 0, a, 0, slices, columns, rows, 1, context);
+            dctColumns.inverseBatch(a, 0, slices * rows, 1, columns, scale);
+        }
+    }
+
+    private void ddxt3da_sub(int isgn, float[] a, boolean scale, final float[] t) {
         int idx0, idx1, idx2;
 
         if (isgn == -1) {
@@ -786,7 +898,7 @@ public class FloatDCT_3D {
         }
     }
 
-    private void ddxt3da_sub(int isgn, float[][][] a, boolean scale) {
+    private void ddxt3da_sub(int isgn, float[][][] a, boolean scale, final float[] t) {
         int idx2;
 
         if (isgn == -1) {
@@ -870,7 +982,7 @@ public class FloatDCT_3D {
         }
     }
 
-    private void ddxt3db_sub(int isgn, float[] a, boolean scale) {
+    private void ddxt3db_sub(int isgn, float[] a, boolean scale, final float[] t) {
         int idx0, idx1, idx2;
 
         if (isgn == -1) {
@@ -965,7 +1077,7 @@ public class FloatDCT_3D {
         }
     }
 
-    private void ddxt3db_sub(int isgn, float[][][] a, boolean scale) {
+    private void ddxt3db_sub(int isgn, float[][][] a, boolean scale, final float[] t) {
         int idx2;
 
         if (isgn == -1) {
@@ -1048,23 +1160,24 @@ public class FloatDCT_3D {
         }
     }
 
-    private void ddxt3da_subth(final int isgn, final float[] a, final boolean scale) {
-        final int nthreads = ConcurrencyUtils.getNumberOfThreads() > slices ? slices : ConcurrencyUtils.getNumberOfThreads();
+    private void ddxt3da_subth(final int isgn, final float[] a, final boolean scale, final float[] t) {
+        final int nthreads = context.getNumberOfThreads() > slices ? slices : context.getNumberOfThreads();
         int nt = 4 * rows;
         if (columns == 2) {
             nt >>= 1;
         }
         Future<?>[] futures = new Future[nthreads];
 
+        final IndexRange sliceRange = new IndexRange(0, slices, nthreads);
         for (int i = 0; i < nthreads; i++) {
-            final int n0 = i;
             final int startt = nt * i;
-            futures[i] = ConcurrencyUtils.submit(new Runnable() {
+            futures[i] = context.submit(new Runnable() {
 
                 public void run() {
                     int idx0, idx1, idx2;
+                    IndexRange.Cursor cursor = sliceRange.cursor();
                     if (isgn == -1) {
-                        for (int s = n0; s < slices; s += nthreads) {
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             idx0 = s * sliceStride;
                             for (int r = 0; r < rows; r++) {
                                 dctColumns.forward(a, idx0 + r * rowStride, scale);
@@ -1108,7 +1221,7 @@ public class FloatDCT_3D {
                             }
                         }
                     } else {
-                        for (int s = n0; s < slices; s += nthreads) {
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             idx0 = s * sliceStride;
                             for (int r = 0; r < rows; r++) {
                                 dctColumns.inverse(a, idx0 + r * rowStride, scale);
@@ -1158,23 +1271,24 @@ public class FloatDCT_3D {
         ConcurrencyUtils.waitForCompletion(futures);
     }
 
-    private void ddxt3da_subth(final int isgn, final float[][][] a, final boolean scale) {
-        final int nthreads = ConcurrencyUtils.getNumberOfThreads() > slices ? slices : ConcurrencyUtils.getNumberOfThreads();
+    private void ddxt3da_subth(final int isgn, final float[][][] a, final boolean scale, final float[] t) {
+        final int nthreads = context.getNumberOfThreads() > slices ? slices : context.getNumberOfThreads();
         int nt = 4 * rows;
         if (columns == 2) {
             nt >>= 1;
         }
         Future<?>[] futures = new Future[nthreads];
 
+        final IndexRange sliceRange = new IndexRange(0, slices, nthreads);
         for (int i = 0; i < nthreads; i++) {
-            final int n0 = i;
             final int startt = nt * i;
-            futures[i] = ConcurrencyUtils.submit(new Runnable() {
+            futures[i] = context.submit(new Runnable() {
 
                 public void run() {
                     int idx2;
+                    IndexRange.Cursor cursor = sliceRange.cursor();
                     if (isgn == -1) {
-                        for (int s = n0; s < slices; s += nthreads) {
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             for (int r = 0; r < rows; r++) {
                                 dctColumns.forward(a[s][r], scale);
                             }
@@ -1213,7 +1327,7 @@ public class FloatDCT_3D {
                             }
                         }
                     } else {
-                        for (int s = n0; s < slices; s += nthreads) {
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             for (int r = 0; r < rows; r++) {
                                 dctColumns.inverse(a[s][r], scale);
                             }
@@ -1258,23 +1372,24 @@ public class FloatDCT_3D {
         ConcurrencyUtils.waitForCompletion(futures);
     }
 
-    private void ddxt3db_subth(final int isgn, final float[] a, final boolean scale) {
-        final int nthreads = ConcurrencyUtils.getNumberOfThreads() > rows ? rows : ConcurrencyUtils.getNumberOfThreads();
+    private void ddxt3db_subth(final int isgn, final float[] a, final boolean scale, final float[] t) {
+        final int nthreads = context.getNumberOfThreads() > rows ? rows : context.getNumberOfThreads();
         int nt = 4 * slices;
         if (columns == 2) {
             nt >>= 1;
         }
         Future<?>[] futures = new Future[nthreads];
+        final IndexRange rowRange = new IndexRange(0, rows, nthreads);
         for (int i = 0; i < nthreads; i++) {
-            final int n0 = i;
             final int startt = nt * i;
-            futures[i] = ConcurrencyUtils.submit(new Runnable() {
+            futures[i] = context.submit(new Runnable() {
 
                 public void run() {
                     int idx0, idx1, idx2;
+                    IndexRange.Cursor cursor = rowRange.cursor();
                     if (isgn == -1) {
                         if (columns > 2) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 idx0 = r * rowStride;
                                 for (int c = 0; c < columns; c += 4) {
                                     for (int s = 0; s < slices; s++) {
@@ -1300,7 +1415,7 @@ public class FloatDCT_3D {
                                 }
                             }
                         } else if (columns == 2) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 idx0 = r * rowStride;
                                 for (int s = 0; s < slices; s++) {
                                     idx1 = s * sliceStride + idx0;
@@ -1318,7 +1433,7 @@ public class FloatDCT_3D {
                         }
                     } else {
                         if (columns > 2) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 idx0 = r * rowStride;
                                 for (int c = 0; c < columns; c += 4) {
                                     for (int s = 0; s < slices; s++) {
@@ -1344,7 +1459,7 @@ public class FloatDCT_3D {
                                 }
                             }
                         } else if (columns == 2) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 idx0 = r * rowStride;
                                 for (int s = 0; s < slices; s++) {
                                     idx1 = s * sliceStride + idx0;
@@ -1368,24 +1483,25 @@ public class FloatDCT_3D {
         ConcurrencyUtils.waitForCompletion(futures);
     }
 
-    private void ddxt3db_subth(final int isgn, final float[][][] a, final boolean scale) {
-        final int nthreads = ConcurrencyUtils.getNumberOfThreads() > rows ? rows : ConcurrencyUtils.getNumberOfThreads();
+    private void ddxt3db_subth(final int isgn, final float[][][] a, final boolean scale, final float[] t) {
+        final int nthreads = context.getNumberOfThreads() > rows ? rows : context.getNumberOfThreads();
         int nt = 4 * slices;
         if (columns == 2) {
             nt >>= 1;
         }
         Future<?>[] futures = new Future[nthreads];
 
+        final IndexRange rowRange = new IndexRange(0, rows, nthreads);
         for (int i = 0; i < nthreads; i++) {
-            final int n0 = i;
             final int startt = nt * i;
-            futures[i] = ConcurrencyUtils.submit(new Runnable() {
+            futures[i] = context.submit(new Runnable() {
 
                 public void run() {
                     int idx2;
+                    IndexRange.Cursor cursor = rowRange.cursor();
                     if (isgn == -1) {
                         if (columns > 2) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 for (int c = 0; c < columns; c += 4) {
                                     for (int s = 0; s < slices; s++) {
                                         idx2 = startt + slices + s;
@@ -1408,7 +1524,7 @@ public class FloatDCT_3D {
                                 }
                             }
                         } else if (columns == 2) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 for (int s = 0; s < slices; s++) {
                                     t[startt + s] = a[s][r][0];
                                     t[startt + slices + s] = a[s][r][1];
@@ -1423,7 +1539,7 @@ public class FloatDCT_3D {
                         }
                     } else {
                         if (columns > 2) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 for (int c = 0; c < columns; c += 4) {
                                     for (int s = 0; s < slices; s++) {
                                         idx2 = startt + slices + s;
@@ -1446,7 +1562,7 @@ public class FloatDCT_3D {
                                 }
                             }
                         } else if (columns == 2) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 for (int s = 0; s < slices; s++) {
                                     t[startt + s] = a[s][r][0];
                                     t[startt + slices + s] = a[s][r][1];
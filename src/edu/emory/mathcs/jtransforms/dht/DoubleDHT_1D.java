@@ -34,10 +34,14 @@
 
 package edu.emory.mathcs.jtransforms.dht;
 
+import java.nio.DoubleBuffer;
 import java.util.concurrent.Future;
 
 import edu.emory.mathcs.jtransforms.fft.DoubleFFT_1D;
+import edu.emory.mathcs.utils.BufferUtils;
+import edu.emory.mathcs.utils.ConcurrencyContext;
 import edu.emory.mathcs.utils.ConcurrencyUtils;
+import edu.emory.mathcs.utils.IndexRange;
 
 /**
  * Computes 1D Discrete Hartley Transform (DHT) of real, double precision data.
@@ -50,6 +54,29 @@ public class DoubleDHT_1D {
     private int n;
     private DoubleFFT_1D fft;
 
+    private ConcurrencyContext context;
+
+    /**
+     * Scratch arrays of a transform. A workspace is created by
+     * {@link DoubleDHT_1D#createWorkspace()} and can be reused by any number of
+     * calls of the transform that created it. Calls that are given a workspace
+     * do not allocate memory when the transform is computed by one thread. A
+     * workspace must not be used by two calls at the same time.
+     */
+    public static final class Workspace {
+        final int n;
+
+        final double[] b;
+
+        final DoubleFFT_1D.Workspace fft;
+
+        Workspace(int n, double[] b, DoubleFFT_1D.Workspace fft) {
+            this.n = n;
+            this.b = b;
+            this.fft = fft;
+        }
+    }
+
     /**
      * Creates new instance of DoubleDHT_1D.
      * 
@@ -57,8 +84,56 @@ public class DoubleDHT_1D {
      *            size of data
      */
     public DoubleDHT_1D(int n) {
+        this(n, ConcurrencyContext.getDefault());
+    }
+
+    /**
+     * Creates new instance of DoubleDHT_1D that uses the executor and number of
+     * threads of the specified context.
+     * 
+     * @param n
+     *            size of data
+     * @param context
+     *            executor and number of threads used by this transform
+     */
+    public DoubleDHT_1D(int n, ConcurrencyContext context) {
+        if (context == null) {
+            throw new IllegalArgumentException("context cannot be null");
+        }
+        this.context = context;
         this.n = n;
-        fft = new DoubleFFT_1D(n);
+        fft = new DoubleFFT_1D(n, context);
+    }
+
+    /**
+     * Creates scratch arrays for this transform. The workspace can be passed
+     * to the methods that take one, so that steady-state calls do not
+     * allocate memory.
+     * 
+     * @return new workspace
+     */
+    public Workspace createWorkspace() {
+        return new Workspace(n, new double[n], fft.createWorkspace());
+    }
+
+    /**
+     * Returns the number of double values allocated by
+     * {@link #createWorkspace()}.
+     * 
+     * @return size of the workspace
+     */
+    public long getWorkspaceSize() {
+        return n + fft.getWorkspaceSize();
+    }
+
+    private Workspace workspace(Workspace ws) {
+        if (ws == null) {
+            return createWorkspace();
+        }
+        if (ws.n != n) {
+            throw new IllegalArgumentException("workspace was created by a transform of different size");
+        }
+        return ws;
     }
 
     /**
@@ -71,6 +146,27 @@ public class DoubleDHT_1D {
         forward(a, 0);
     }
 
+    /**
+     * Computes 1D real, forward DHT leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #forward(double[])}; the position is not changed.
+     * Heap buffers are transformed in their backing array, other buffers are
+     * copied to a temporary array and back.
+     * 
+     * @param a
+     *            data to transform
+     */
+    public void forward(DoubleBuffer a) {
+        int offa = BufferUtils.getArrayOffset(a, n);
+        if (offa >= 0) {
+            forward(a.array(), offa);
+            return;
+        }
+        double[] array = BufferUtils.getArray(a, n);
+        forward(array);
+        BufferUtils.putArray(a, array, n);
+    }
+
     /**
      * Computes 1D real, forward DHT leaving the result in <code>a</code>.
      * 
@@ -80,13 +176,31 @@ public class DoubleDHT_1D {
      *            index of the first element in array <code>a</code>
      */
     public void forward(final double[] a, final int offa) {
+        forward(a, offa, null);
+    }
+
+    /**
+     * Computes 1D real, forward DHT leaving the result in <code>a</code>.
+     * 
+     * The scratch arrays are taken from <code>ws</code>, or allocated by this
+     * call if <code>ws</code> is null.
+     * 
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element in array <code>a</code>
+     * @param ws
+     *            workspace created by {@link #createWorkspace()}, or null
+     */
+    public void forward(final double[] a, final int offa, Workspace ws) {
         if (n == 1)
             return;
-        fft.realForward(a, offa);
-        final double[] b = new double[n];
+        ws = workspace(ws);
+        fft.realForward(a, offa, ws.fft);
+        final double[] b = ws.b;
         System.arraycopy(a, offa, b, 0, n);
         int nd2 = n / 2;
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
+        int nthreads = context.getNumberOfThreads();
         if ((nthreads > 1) && (nd2 > ConcurrencyUtils.getThreadsBeginN_1D_FFT_2Threads())) {
             nthreads = 2;
             final int k1 = nd2 / nthreads;
@@ -94,7 +208,7 @@ public class DoubleDHT_1D {
             for (int i = 0; i < nthreads; i++) {
                 final int firstIdx = 1 + i * k1;
                 final int lastIdx = (i == (nthreads - 1)) ? nd2 : firstIdx + k1;
-                futures[i] = ConcurrencyUtils.submit(new Runnable() {
+                futures[i] = context.submit(new Runnable() {
 
                     public void run() {
                         int idx1, idx2;
@@ -139,6 +253,29 @@ public class DoubleDHT_1D {
         inverse(a, 0, scale);
     }
 
+    /**
+     * Computes 1D real, inverse DHT leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #inverse(double[], boolean)}; the position is not changed.
+     * Heap buffers are transformed in their backing array, other buffers are
+     * copied to a temporary array and back.
+     * 
+     * @param a
+     *            data to transform
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void inverse(DoubleBuffer a, boolean scale) {
+        int offa = BufferUtils.getArrayOffset(a, n);
+        if (offa >= 0) {
+            inverse(a.array(), offa, scale);
+            return;
+        }
+        double[] array = BufferUtils.getArray(a, n);
+        inverse(array, scale);
+        BufferUtils.putArray(a, array, n);
+    }
+
     /**
      * Computes 1D real, inverse DHT leaving the result in <code>a</code>.
      * 
@@ -150,17 +287,140 @@ public class DoubleDHT_1D {
      *            if true then scaling is performed
      */
     public void inverse(final double[] a, final int offa, boolean scale) {
+        inverse(a, offa, scale, null);
+    }
+
+    /**
+     * Computes 1D real, inverse DHT leaving the result in <code>a</code>.
+     * 
+     * The scratch arrays are taken from <code>ws</code>, or allocated by this
+     * call if <code>ws</code> is null.
+     * 
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element in array <code>a</code>
+     * @param scale
+     *            if true then scaling is performed
+     * @param ws
+     *            workspace created by {@link #createWorkspace()}, or null
+     */
+    public void inverse(final double[] a, final int offa, boolean scale, Workspace ws) {
         if (n == 1)
             return;
-        forward(a, offa);
+        forward(a, offa, ws);
         if (scale) {
             scale(n, a, offa);
         }
     }
 
+    /**
+     * Computes 1D forward DHT of <code>howmany</code> sequences of size n
+     * leaving the result in <code>a</code>. The sequences are transformed in
+     * parallel. Element k of sequence j is stored in
+     * <code>a[offa+j*dist+k*stride]</code>. The sequences must not overlap.
+     * 
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element of the first sequence
+     * @param howmany
+     *            number of sequences
+     * @param stride
+     *            distance (in array elements) between consecutive elements of
+     *            a sequence; 1 for contiguous sequences
+     * @param dist
+     *            distance (in array elements) between the first elements of
+     *            consecutive sequences
+     */
+    public void forwardBatch(double[] a, int offa, int howmany, int stride, int dist) {
+        batch(a, offa, howmany, stride, dist, true, false);
+    }
+
+    /**
+     * Computes 1D inverse DHT of <code>howmany</code> sequences of size n
+     * leaving the result in <code>a</code>. The sequences are transformed in
+     * parallel. Element k of sequence j is stored in
+     * <code>a[offa+j*dist+k*stride]</code>. The sequences must not overlap.
+     * 
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element of the first sequence
+     * @param howmany
+     *            number of sequences
+     * @param stride
+     *            distance (in array elements) between consecutive elements of
+     *            a sequence; 1 for contiguous sequences
+     * @param dist
+     *            distance (in array elements) between the first elements of
+     *            consecutive sequences
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void inverseBatch(double[] a, int offa, int howmany, int stride, int dist, boolean scale) {
+        batch(a, offa, howmany, stride, dist, false, scale);
+    }
+
+    private void batch(final double[] a, final int offa, int howmany, final int stride, final int dist, final boolean forward, final boolean scale) {
+        if (howmany < 0) {
+            throw new IllegalArgumentException("howmany must be greater or equal 0");
+        }
+        if (stride < 1) {
+            throw new IllegalArgumentException("stride must be greater or equal 1");
+        }
+        int nthreads = context.getNumberOfThreads();
+        if ((nthreads > 1) && (howmany > 1) && ((long) howmany * n >= ConcurrencyUtils.getThreadsBeginN_2D())) {
+            nthreads = Math.min(nthreads, howmany);
+            Future<?>[] futures = new Future[nthreads];
+            final IndexRange range = new IndexRange(0, howmany, nthreads);
+            for (int l = 0; l < nthreads; l++) {
+                futures[l] = context.submit(new Runnable() {
+                    public void run() {
+                        batch(a, offa, range.cursor(), stride, dist, forward, scale);
+                    }
+                });
+            }
+            ConcurrencyUtils.waitForCompletion(futures);
+        } else {
+            batch(a, offa, new IndexRange(0, howmany, 1).cursor(), stride, dist, forward, scale);
+        }
+    }
+
+    /*
+     * Transforms the sequences taken from the cursor. Sequences that are not
+     * contiguous are copied to a temporary array.
+     */
+    private void batch(double[] a, int offa, IndexRange.Cursor cursor, int stride, int dist, boolean forward, boolean scale) {
+        Workspace ws = createWorkspace();
+        double[] t = (stride == 1) ? null : new double[n];
+        for (int j = cursor.next(); j >= 0; j = cursor.next()) {
+            int offj = offa + j * dist;
+            if (t == null) {
+                batchTransform(a, offj, forward, scale, ws);
+            } else {
+                for (int k = 0; k < n; k++) {
+                    t[k] = a[offj + k * stride];
+                }
+                batchTransform(t, 0, forward, scale, ws);
+                for (int k = 0; k < n; k++) {
+                    a[offj + k * stride] = t[k];
+                }
+            }
+        }
+    }
+
+    private void batchTransform(double[] a, int offa, boolean forward, boolean scale, Workspace ws) {
+        if (forward) {
+            forward(a, offa, ws);
+        } else {
+            inverse(a, offa, scale, ws);
+        }
+    }
+
     private void scale(final double m, final double[] a, int offa) {
         final double norm = (1.0 / m);
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
+        int nthreads = context.getNumberOfThreads();
         if ((nthreads > 1) && (n >= ConcurrencyUtils.getThreadsBeginN_1D_FFT_2Threads())) {
             nthreads = 2;
             final int k = n / nthreads;
@@ -168,7 +428,7 @@ public class DoubleDHT_1D {
             for (int i = 0; i < nthreads; i++) {
                 final int firstIdx = offa + i * k;
                 final int lastIdx = (i == (nthreads - 1)) ? offa + n : firstIdx + k;
-                futures[i] = ConcurrencyUtils.submit(new Runnable() {
+                futures[i] = context.submit(new Runnable() {
 
                     public void run() {
                         for (int i = firstIdx; i < lastIdx; i++) {
@@ -34,15 +34,23 @@
 
 package edu.emory.mathcs.jtransforms.dht;
 
+import java.nio.DoubleBuffer;
 import java.util.concurrent.Future;
 
+import edu.emory.mathcs.utils.BufferUtils;
+import edu.emory.mathcs.utils.ConcurrencyContext;
 import edu.emory.mathcs.utils.ConcurrencyUtils;
+import edu.emory.mathcs.utils.IndexRange;
+import edu.emory.mathcs.utils.TransposeUtils;
 
 /**
  * Computes 3D Discrete Hartley Transform (DHT) of real, double precision data.
  * The sizes of all three dimensions can be arbitrary numbers. This is a
  * parallel implementation optimized for SMP systems.<br>
  * <br>
+ * Instances are thread-safe: a single instance can be used by concurrent
+ * callers. <br>
+ * <br>
  * Part of code is derived from General Purpose FFT Package written by Takuya Ooura
  * (http://www.kurims.kyoto-u.ac.jp/~ooura/fft.html)
  * 
@@ -61,13 +69,9 @@ public class DoubleDHT_3D {
 
     private int rowStride;
 
-    private double[] t;
-
     private DoubleDHT_1D dhtSlices, dhtRows, dhtColumns;
 
-    private int oldNthreads;
-
-    private int nt;
+    private ConcurrencyContext context;
 
     private boolean isPowerOfTwo = false;
 
@@ -84,6 +88,27 @@ public class DoubleDHT_3D {
      *            number of columns
      */
     public DoubleDHT_3D(int slices, int rows, int columns) {
+        this(slices, rows, columns, ConcurrencyContext.getDefault());
+    }
+
+    /**
+     * Creates new instance of DoubleDHT_3D that uses the executor and number of
+     * threads of the specified context.
+     * 
+     * @param slices
+     *            number of slices
+     * @param rows
+     *            number of rows
+     * @param columns
+     *            number of columns
+     * @param context
+     *            executor and number of threads used by this transform
+     */
+    public DoubleDHT_3D(int slices, int rows, int columns, ConcurrencyContext context) {
+        if (context == null) {
+            throw new IllegalArgumentException("context cannot be null");
+        }
+        this.context = context;
         if (slices <= 1 || rows <= 1 || columns <= 1) {
             throw new IllegalArgumentException("slices, rows and columns must be greater than 1");
         }
@@ -97,32 +122,19 @@ public class DoubleDHT_3D {
         }
         if (ConcurrencyUtils.isPowerOf2(slices) && ConcurrencyUtils.isPowerOf2(rows) && ConcurrencyUtils.isPowerOf2(columns)) {
             isPowerOfTwo = true;
-            oldNthreads = ConcurrencyUtils.getNumberOfThreads();
-            nt = slices;
-            if (nt < rows) {
-                nt = rows;
-            }
-            nt *= 4;
-            if (oldNthreads > 1) {
-                nt *= oldNthreads;
-            }
-            if (columns == 2) {
-                nt >>= 1;
-            }
-            t = new double[nt];
         }
-        dhtSlices = new DoubleDHT_1D(slices);
+        dhtSlices = new DoubleDHT_1D(slices, context);
         if (slices == rows) {
             dhtRows = dhtSlices;
         } else {
-            dhtRows = new DoubleDHT_1D(rows);
+            dhtRows = new DoubleDHT_1D(rows, context);
         }
         if (slices == columns) {
             dhtColumns = dhtSlices;
         } else if (rows == columns) {
             dhtColumns = dhtRows;
         } else {
-            dhtColumns = new DoubleDHT_1D(columns);
+            dhtColumns = new DoubleDHT_1D(columns, context);
         }
     }
 
@@ -138,41 +150,37 @@ public class DoubleDHT_3D {
      *            data to transform
      */
     public void forward(final double[] a) {
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
+        int nthreads = context.getNumberOfThreads();
         if (isPowerOfTwo) {
-            if (nthreads != oldNthreads) {
-                nt = slices;
-                if (nt < rows) {
-                    nt = rows;
-                }
-                nt *= 4;
-                if (nthreads > 1) {
-                    nt *= nthreads;
-                }
-                if (columns == 2) {
-                    nt >>= 1;
-                }
-                t = new double[nt];
-                oldNthreads = nthreads;
+            int nt = slices;
+            if (nt < rows) {
+                nt = rows;
             }
+            nt *= 4;
+            if (nthreads > 1) {
+                nt *= nthreads;
+            }
+            if (columns == 2) {
+                nt >>= 1;
+            }
+            final double[] t = new double[nt];
             if ((nthreads > 1) && useThreads) {
-                ddxt3da_subth(-1, a, true);
-                ddxt3db_subth(-1, a, true);
+                ddxt3da_subth(-1, a, true, t);
+                ddxt3db_subth(-1, a, true, t);
             } else {
-                ddxt3da_sub(-1, a, true);
-                ddxt3db_sub(-1, a, true);
+                ddxt3da_sub(-1, a, true, t);
+                ddxt3db_sub(-1, a, true, t);
             }
             yTransform(a);
         } else {
-            if ((nthreads > 1) && useThreads && (slices >= nthreads) && (rows >= nthreads) && (columns >= nthreads)) {
+            if ((nthreads > 1) && useThreads) {
                 Future<?>[] futures = new Future[nthreads];
-                int p = slices / nthreads;
+                final IndexRange sliceRange = new IndexRange(0, slices, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstSlice = l * p;
-                    final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            for (int s = firstSlice; s < lastSlice; s++) {
+                            IndexRange.Cursor cursor = sliceRange.cursor();
+                            for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                                 int idx1 = s * sliceStride;
                                 for (int r = 0; r < rows; r++) {
                                     dhtColumns.forward(a, idx1 + r * rowStride);
@@ -183,13 +191,13 @@ public class DoubleDHT_3D {
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
 
+                final IndexRange sliceRange2 = new IndexRange(0, slices, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstSlice = l * p;
-                    final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
                             double[] temp = new double[rows];
-                            for (int s = firstSlice; s < lastSlice; s++) {
+                            IndexRange.Cursor cursor = sliceRange2.cursor();
+                            for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                                 int idx1 = s * sliceStride;
                                 for (int c = 0; c < columns; c++) {
                                     for (int r = 0; r < rows; r++) {
@@ -208,19 +216,13 @@ public class DoubleDHT_3D {
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
 
-                p = rows / nthreads;
+                final IndexRange rowRange = new IndexRange(0, rows, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int startRow = l * p;
-                    final int stopRow;
-                    if (l == nthreads - 1) {
-                        stopRow = rows;
-                    } else {
-                        stopRow = startRow + p;
-                    }
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
                             double[] temp = new double[slices];
-                            for (int r = startRow; r < stopRow; r++) {
+                            IndexRange.Cursor cursor = rowRange.cursor();
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 int idx1 = r * rowStride;
                                 for (int c = 0; c < columns; c++) {
                                     for (int s = 0; s < slices; s++) {
@@ -281,6 +283,22 @@ public class DoubleDHT_3D {
         }
     }
 
+    /**
+     * Computes 3D real, forward DHT leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #forward(double[])}; the position is not changed.
+     * Unless the buffer is a heap buffer positioned at the first element of
+     * its array, the whole buffer is copied to a temporary array and back.
+     * 
+     * @param a
+     *            data to transform
+     */
+    public void forward(DoubleBuffer a) {
+        double[] array = BufferUtils.getArray(a, (long) slices * rows * columns);
+        forward(array);
+        BufferUtils.putArray(a, array, (long) slices * rows * columns);
+    }
+
     /**
      * Computes the 3D real, forward DHT leaving the result in <code>a</code>.
      * The data is stored in 3D array.
@@ -289,41 +307,37 @@ public class DoubleDHT_3D {
      *            data to transform
      */
     public void forward(final double[][][] a) {
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
+        int nthreads = context.getNumberOfThreads();
         if (isPowerOfTwo) {
-            if (nthreads != oldNthreads) {
-                nt = slices;
-                if (nt < rows) {
-                    nt = rows;
-                }
-                nt *= 4;
-                if (nthreads > 1) {
-                    nt *= nthreads;
-                }
-                if (columns == 2) {
-                    nt >>= 1;
-                }
-                t = new double[nt];
-                oldNthreads = nthreads;
+            int nt = slices;
+            if (nt < rows) {
+                nt = rows;
+            }
+            nt *= 4;
+            if (nthreads > 1) {
+                nt *= nthreads;
             }
+            if (columns == 2) {
+                nt >>= 1;
+            }
+            final double[] t = new double[nt];
             if ((nthreads > 1) && useThreads) {
-                ddxt3da_subth(-1, a, true);
-                ddxt3db_subth(-1, a, true);
+                ddxt3da_subth(-1, a, true, t);
+                ddxt3db_subth(-1, a, true, t);
             } else {
-                ddxt3da_sub(-1, a, true);
-                ddxt3db_sub(-1, a, true);
+                ddxt3da_sub(-1, a, true, t);
+                ddxt3db_sub(-1, a, true, t);
             }
             yTransform(a);
         } else {
-            if ((nthreads > 1) && useThreads && (slices >= nthreads) && (rows >= nthreads) && (columns >= nthreads)) {
+            if ((nthreads > 1) && useThreads) {
                 Future<?>[] futures = new Future[nthreads];
-                int p = slices / nthreads;
+                final IndexRange sliceRange = new IndexRange(0, slices, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstSlice = l * p;
-                    final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            for (int s = firstSlice; s < lastSlice; s++) {
+                            IndexRange.Cursor cursor = sliceRange.cursor();
+                            for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                                 for (int r = 0; r < rows; r++) {
                                     dhtColumns.forward(a[s][r]);
                                 }
@@ -333,13 +347,13 @@ public class DoubleDHT_3D {
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
 
+                final IndexRange sliceRange2 = new IndexRange(0, slices, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstSlice = l * p;
-                    final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
                             double[] temp = new double[rows];
-                            for (int s = firstSlice; s < lastSlice; s++) {
+                            IndexRange.Cursor cursor = sliceRange2.cursor();
+                            for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                                 for (int c = 0; c < columns; c++) {
                                     for (int r = 0; r < rows; r++) {
                                         temp[r] = a[s][r][c];
@@ -355,14 +369,13 @@ public class DoubleDHT_3D {
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
 
-                p = rows / nthreads;
+                final IndexRange rowRange = new IndexRange(0, rows, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstRow = l * p;
-                    final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
                             double[] temp = new double[slices];
-                            for (int r = firstRow; r < lastRow; r++) {
+                            IndexRange.Cursor cursor = rowRange.cursor();
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 for (int c = 0; c < columns; c++) {
                                     for (int s = 0; s < slices; s++) {
                                         temp[s] = a[s][r][c];
@@ -427,41 +440,37 @@ public class DoubleDHT_3D {
      *            if true then scaling is performed
      */
     public void inverse(final double[] a, final boolean scale) {
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
+        int nthreads = context.getNumberOfThreads();
         if (isPowerOfTwo) {
-            if (nthreads != oldNthreads) {
-                nt = slices;
-                if (nt < rows) {
-                    nt = rows;
-                }
-                nt *= 4;
-                if (nthreads > 1) {
-                    nt *= nthreads;
-                }
-                if (columns == 2) {
-                    nt >>= 1;
-                }
-                t = new double[nt];
-                oldNthreads = nthreads;
+            int nt = slices;
+            if (nt < rows) {
+                nt = rows;
+            }
+            nt *= 4;
+            if (nthreads > 1) {
+                nt *= nthreads;
+            }
+            if (columns == 2) {
+                nt >>= 1;
             }
+            final double[] t = new double[nt];
             if ((nthreads > 1) && useThreads) {
-                ddxt3da_subth(1, a, scale);
-                ddxt3db_subth(1, a, scale);
+                ddxt3da_subth(1, a, scale, t);
+                ddxt3db_subth(1, a, scale, t);
             } else {
-                ddxt3da_sub(1, a, scale);
-                ddxt3db_sub(1, a, scale);
+                ddxt3da_sub(1, a, scale, t);
+                ddxt3db_sub(1, a, scale, t);
             }
             yTransform(a);
         } else {
-            if ((nthreads > 1) && useThreads && (slices >= nthreads) && (rows >= nthreads) && (columns >= nthreads)) {
+            if ((nthreads > 1) && useThreads) {
                 Future<?>[] futures = new Future[nthreads];
-                int p = slices / nthreads;
+                final IndexRange sliceRange = new IndexRange(0, slices, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstSlice = l * p;
-                    final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            for (int s = firstSlice; s < lastSlice; s++) {
+                            IndexRange.Cursor cursor = sliceRange.cursor();
+                            for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                                 int idx1 = s * sliceStride;
                                 for (int r = 0; r < rows; r++) {
                                     dhtColumns.inverse(a, idx1 + r * rowStride, scale);
@@ -472,13 +481,13 @@ public class DoubleDHT_3D {
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
 
+                final IndexRange sliceRange2 = new IndexRange(0, slices, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstSlice = l * p;
-                    final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
                             double[] temp = new double[rows];
-                            for (int s = firstSlice; s < lastSlice; s++) {
+                            IndexRange.Cursor cursor = sliceRange2.cursor();
+                            for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                                 int idx1 = s * sliceStride;
                                 for (int c = 0; c < columns; c++) {
                                     for (int r = 0; r < rows; r++) {
@@ -497,14 +506,13 @@ public class DoubleDHT_3D {
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
 
-                p = rows / nthreads;
+                final IndexRange rowRange = new IndexRange(0, rows, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstRow = l * p;
-                    final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
                             double[] temp = new double[slices];
-                            for (int r = firstRow; r < lastRow; r++) {
+                            IndexRange.Cursor cursor = rowRange.cursor();
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 int idx1 = r * rowStride;
                                 for (int c = 0; c < columns; c++) {
                                     for (int s = 0; s < slices; s++) {
@@ -565,6 +573,24 @@ public class DoubleDHT_3D {
         }
     }
 
+    /**
+     * Computes 3D real, inverse DHT leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #inverse(double[], boolean)}; the position is not changed.
+     * Unless the buffer is a heap buffer positioned at the first element of
+     * its array, the whole buffer is copied to a temporary array and back.
+     * 
+     * @param a
+     *            data to transform
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void inverse(DoubleBuffer a, boolean scale) {
+        double[] array = BufferUtils.getArray(a, (long) slices * rows * columns);
+        inverse(array, scale);
+        BufferUtils.putArray(a, array, (long) slices * rows * columns);
+    }
+
     /**
      * Computes the 3D real, inverse DHT leaving the result in <code>a</code>.
      * The data is stored in 3D array.
@@ -575,41 +601,37 @@ public class DoubleDHT_3D {
      *            if true then scaling is performed
      */
     public void inverse(final double[][][] a, final boolean scale) {
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
+        int nthreads = context.getNumberOfThreads();
         if (isPowerOfTwo) {
-            if (nthreads != oldNthreads) {
-                nt = slices;
-                if (nt < rows) {
-                    nt = rows;
-                }
-                nt *= 4;
-                if (nthreads > 1) {
-                    nt *= nthreads;
-                }
-                if (columns == 2) {
-                    nt >>= 1;
-                }
-                t = new double[nt];
-                oldNthreads = nthreads;
+            int nt = slices;
+            if (nt < rows) {
+                nt = rows;
+            }
+            nt *= 4;
+            if (nthreads > 1) {
+                nt *= nthreads;
             }
+            if (columns == 2) {
+                nt >>= 1;
+            }
+            final double[] t = new double[nt];
             if ((nthreads > 1) && useThreads) {
-                ddxt3da_subth(1, a, scale);
-                ddxt3db_subth(1, a, scale);
+                ddxt3da_subth(1, a, scale, t);
+                ddxt3db_subth(1, a, scale, t);
             } else {
-                ddxt3da_sub(1, a, scale);
-                ddxt3db_sub(1, a, scale);
+                ddxt3da_sub(1, a, scale, t);
+                ddxt3db_sub(1, a, scale, t);
             }
             yTransform(a);
         } else {
-            if ((nthreads > 1) && useThreads && (slices >= nthreads) && (rows >= nthreads) && (columns >= nthreads)) {
+            if ((nthreads > 1) && useThreads) {
                 Future<?>[] futures = new Future[nthreads];
-                int p = slices / nthreads;
+                final IndexRange sliceRange = new IndexRange(0, slices, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstSlice = l * p;
-                    final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            for (int s = firstSlice; s < lastSlice; s++) {
+                            IndexRange.Cursor cursor = sliceRange.cursor();
+                            for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                                 for (int r = 0; r < rows; r++) {
                                     dhtColumns.inverse(a[s][r], scale);
                                 }
@@ -619,13 +641,13 @@ public class DoubleDHT_3D {
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
 
+                final IndexRange sliceRange2 = new IndexRange(0, slices, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstSlice = l * p;
-                    final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
                             double[] temp = new double[rows];
-                            for (int s = firstSlice; s < lastSlice; s++) {
+                            IndexRange.Cursor cursor = sliceRange2.cursor();
+                            for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                                 for (int c = 0; c < columns; c++) {
                                     for (int r = 0; r < rows; r++) {
                                         temp[r] = a[s][r][c];
@@ -641,14 +663,13 @@ public class DoubleDHT_3D {
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
 
-                p = rows / nthreads;
+                final IndexRange rowRange = new IndexRange(0, rows, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstRow = l * p;
-                    final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
                             double[] temp = new double[slices];
-                            for (int r = firstRow; r < lastRow; r++) {
+                            IndexRange.Cursor cursor = rowRange.cursor();
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 for (int c = 0; c < columns; c++) {
                                     for (int s = 0; s < slices; s++) {
                                         temp[s] = a[s][r][c];
@@ -699,7 +720,93 @@ public class DoubleDHT_3D {
         }
     }
 
-    private void ddxt3da_sub(int isgn, double[] a, boolean scale) {
+    /**
+     * Computes 3D real, forward DHT leaving the result in <code>a</code>,
+     * using the transpose-based algorithm: the rows are transformed, every
+     * slice is transposed so that its columns become rows, these are
+     * transformed, the array is transposed so that the slice dimension
+     * becomes the last one, the last dimension is transformed and, unless
+     * <code>transposed</code> is true, the array is transposed back. The
+     * separable result is then turned into the DHT by the same pass over
+     * mirrored elements as in {@link #forward(double[])}. The transpositions
+     * are cache-blocked and parallel, and memory is only traversed along rows,
+     * which pays off for large arrays; a temporary array of the size of
+     * <code>a</code> is allocated. The input has the layout described in
+     * {@link #forward(double[])}. If <code>transposed</code> is true, the
+     * dimensions of the result are left in reverse order:<br>
+     * 
+     * <pre>
+     * a[k3*rows*slices+k2*slices+k1] = X[k1][k2][k3], 
+     * 0&lt;=k1&lt;slices, 0&lt;=k2&lt;rows, 0&lt;=k3&lt;columns,
+     * </pre>
+     * 
+     * which is also the input layout of
+     * {@link #inverseByTranspose(double[], boolean, boolean)}.
+     * 
+     * @param a
+     *            data to transform
+     * @param transposed
+     *            if true then the result is left transposed
+     */
+    public void forwardByTranspose(double[] a, boolean transposed) {
+        double[] t = new double[slices * rows * columns];
+        dhtColumns.forwardBatch(a, 0, slices * rows, 1, columns);
+        TransposeUtils.transpose(a, 0, t, 0, slices, rows, columns, 1, context);
+        dhtRows.forwardBatch(t, 0, slices * columns, 1, rows);
+        TransposeUtils.transpose(t, 0, a, 0, 1, slices, columns * rows, 1, context);
+        dhtSlices.forwardBatch(a, 0, columns * rows, 1, slices);
+        if (transposed) {
+            yTransform(a, columns, rows, slices);
+        } else {
+            TransposeUtils.transpose(a, 0, t, 0, 1, columns * rows, slices, 1, context);
+            TransposeUtils.transpose(t, 0, a, 0, slices, columns, rows, 1, context);
+            yTransform(a);
+        }
+    }
+
+    /**
+     * Computes 3D real, inverse DHT leaving the result in <code>a</code>,
+     * using the transpose-based algorithm described in
+     * {@link #forwardByTranspose(double[], boolean)}. If
+     * <code>transposed</code> is true, the dimensions of the input must be in
+     * reverse order:<br>
+     * 
+     * <pre>
+     * a[k3*rows*slices+k2*slices+k1] = X[k1][k2][k3], 
+     * 0&lt;=k1&lt;slices, 0&lt;=k2&lt;rows, 0&lt;=k3&lt;columns,
+     * </pre>
+     * 
+     * as left by {@link #forwardByTranspose(double[], boolean)}. The result
+     * always has the natural layout.
+     * 
+     * @param a
+     *            data to transform
+     * @param transposed
+     *            if true then the input is transposed
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void inverseByTranspose(double[] a, boolean transposed, boolean scale) {
+        double[] t = new double[slices * rows * columns];
+        if (!transposed) {
+            dhtColumns.inverseBatch(a, 0, slices * rows, 1, columns, scale);
+            TransposeUtils.transpose(a, 0, t, 0, slices, rows, columns, 1, context);
+            dhtRows.inverseBatch(t, 0, slices * columns, 1, rows, scale);
+            TransposeUtils.transpose(t, 0, a, 0, 1, slices, columns * rows, 1, context);
+            dhtSlices.inverseBatch(a, 0, columns * rows, 1, slices, scale);
+            TransposeUtils.transpose(a, 0, t, 0, 1, columns * rows, slices, 1, context);
+            TransposeUtils.transpose(t, 0, a, 0, slices, columns, rows, 1, context);
+        } else {
+            dhtSlices.inverseBatch(a, 0, columns * rows, 1, slices, scale);
+            TransposeUtils.transpose(a, 0, t, 0, 1, columns * rows, slices, 1, context);
+            dhtRows.inverseBatch(t, 0, slices * columns, 1, rows, scale);
+            TransposeUtils.transpose(t, 0, a, 0, slices, columns, rows, 1, context);
+            dhtColumns.inverseBatch(a, 0, slices * rows, 1, columns, scale);
+        }
+        yTransform(a);
+    }
+
+    private void ddxt3da_sub(int isgn, double[] a, boolean scale, final double[] t) {
         int idx0, idx1, idx2;
 
         if (isgn == -1) {
@@ -793,7 +900,7 @@ public class DoubleDHT_3D {
         }
     }
 
-    private void ddxt3da_sub(int isgn, double[][][] a, boolean scale) {
+    private void ddxt3da_sub(int isgn, double[][][] a, boolean scale, final double[] t) {
         int idx2;
 
         if (isgn == -1) {
@@ -877,7 +984,7 @@ public class DoubleDHT_3D {
         }
     }
 
-    private void ddxt3db_sub(int isgn, double[] a, boolean scale) {
+    private void ddxt3db_sub(int isgn, double[] a, boolean scale, final double[] t) {
         int idx0, idx1, idx2;
 
         if (isgn == -1) {
@@ -972,7 +1079,7 @@ public class DoubleDHT_3D {
         }
     }
 
-    private void ddxt3db_sub(int isgn, double[][][] a, boolean scale) {
+    private void ddxt3db_sub(int isgn, double[][][] a, boolean scale, final double[] t) {
         int idx2;
 
         if (isgn == -1) {
@@ -1055,23 +1162,24 @@ public class DoubleDHT_3D {
         }
     }
 
-    private void ddxt3da_subth(final int isgn, final double[] a, final boolean scale) {
-        final int nthreads = ConcurrencyUtils.getNumberOfThreads() > slices ? slices : ConcurrencyUtils.getNumberOfThreads();
+    private void ddxt3da_subth(final int isgn, final double[] a, final boolean scale, final double[] t) {
+        final int nthreads = context.getNumberOfThreads() > slices ? slices : context.getNumberOfThreads();
         int nt = 4 * rows;
         if (columns == 2) {
             nt >>= 1;
         }
         Future<?>[] futures = new Future[nthreads];
 
+        final IndexRange sliceRange = new IndexRange(0, slices, nthreads);
         for (int i = 0; i < nthreads; i++) {
-            final int n0 = i;
             final int startt = nt * i;
-            futures[i] = ConcurrencyUtils.submit(new Runnable() {
+            futures[i] = context.submit(new Runnable() {
 
                 public void run() {
                     int idx0, idx1, idx2;
+                    IndexRange.Cursor cursor = sliceRange.cursor();
                     if (isgn == -1) {
-                        for (int s = n0; s < slices; s += nthreads) {
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             idx0 = s * sliceStride;
                             for (int r = 0; r < rows; r++) {
                                 dhtColumns.forward(a, idx0 + r * rowStride);
@@ -1115,7 +1223,7 @@ public class DoubleDHT_3D {
                             }
                         }
                     } else {
-                        for (int s = n0; s < slices; s += nthreads) {
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             idx0 = s * sliceStride;
                             for (int r = 0; r < rows; r++) {
                                 dhtColumns.inverse(a, idx0 + r * rowStride, scale);
@@ -1165,23 +1273,24 @@ public class DoubleDHT_3D {
         ConcurrencyUtils.waitForCompletion(futures);
     }
 
-    private void ddxt3da_subth(final int isgn, final double[][][] a, final boolean scale) {
-        final int nthreads = ConcurrencyUtils.getNumberOfThreads() > slices ? slices : ConcurrencyUtils.getNumberOfThreads();
+    private void ddxt3da_subth(final int isgn, final double[][][] a, final boolean scale, final double[] t) {
+        final int nthreads = context.getNumberOfThreads() > slices ? slices : context.getNumberOfThreads();
         int nt = 4 * rows;
         if (columns == 2) {
             nt >>= 1;
         }
         Future<?>[] futures = new Future[nthreads];
 
+        final IndexRange sliceRange = new IndexRange(0, slices, nthreads);
         for (int i = 0; i < nthreads; i++) {
-            final int n0 = i;
             final int startt = nt * i;
-            futures[i] = ConcurrencyUtils.submit(new Runnable() {
+            futures[i] = context.submit(new Runnable() {
 
                 public void run() {
                     int idx2;
+                    IndexRange.Cursor cursor = sliceRange.cursor();
                     if (isgn == -1) {
-                        for (int s = n0; s < slices; s += nthreads) {
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             for (int r = 0; r < rows; r++) {
                                 dhtColumns.forward(a[s][r]);
                             }
@@ -1220,7 +1329,7 @@ public class DoubleDHT_3D {
                             }
                         }
                     } else {
-                        for (int s = n0; s < slices; s += nthreads) {
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             for (int r = 0; r < rows; r++) {
                                 dhtColumns.inverse(a[s][r], scale);
                             }
@@ -1265,24 +1374,25 @@ public class DoubleDHT_3D {
         ConcurrencyUtils.waitForCompletion(futures);
     }
 
-    private void ddxt3db_subth(final int isgn, final double[] a, final boolean scale) {
-        final int nthreads = ConcurrencyUtils.getNumberOfThreads() > rows ? rows : ConcurrencyUtils.getNumberOfThreads();
+    private void ddxt3db_subth(final int isgn, final double[] a, final boolean scale, final double[] t) {
+        final int nthreads = context.getNumberOfThreads() > rows ? rows : context.getNumberOfThreads();
         int nt = 4 * slices;
         if (columns == 2) {
             nt >>= 1;
         }
         Future<?>[] futures = new Future[nthreads];
 
+        final IndexRange rowRange = new IndexRange(0, rows, nthreads);
         for (int i = 0; i < nthreads; i++) {
-            final int n0 = i;
             final int startt = nt * i;
-            futures[i] = ConcurrencyUtils.submit(new Runnable() {
+            futures[i] = context.submit(new Runnable() {
 
                 public void run() {
                     int idx0, idx1, idx2;
+                    IndexRange.Cursor cursor = rowRange.cursor();
                     if (isgn == -1) {
                         if (columns > 2) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 idx0 = r * rowStride;
                                 for (int c = 0; c < columns; c += 4) {
                                     for (int s = 0; s < slices; s++) {
@@ -1308,7 +1418,7 @@ public class DoubleDHT_3D {
                                 }
                             }
                         } else if (columns == 2) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 idx0 = r * rowStride;
                                 for (int s = 0; s < slices; s++) {
                                     idx1 = s * sliceStride + idx0;
@@ -1326,7 +1436,7 @@ public class DoubleDHT_3D {
                         }
                     } else {
                         if (columns > 2) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 idx0 = r * rowStride;
                                 for (int c = 0; c < columns; c += 4) {
                                     for (int s = 0; s < slices; s++) {
@@ -1352,7 +1462,7 @@ public class DoubleDHT_3D {
                                 }
                             }
                         } else if (columns == 2) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 idx0 = r * rowStride;
                                 for (int s = 0; s < slices; s++) {
                                     idx1 = s * sliceStride + idx0;
@@ -1375,24 +1485,25 @@ public class DoubleDHT_3D {
         ConcurrencyUtils.waitForCompletion(futures);
     }
 
-    private void ddxt3db_subth(final int isgn, final double[][][] a, final boolean scale) {
-        final int nthreads = ConcurrencyUtils.getNumberOfThreads() > rows ? rows : ConcurrencyUtils.getNumberOfThreads();
+    private void ddxt3db_subth(final int isgn, final double[][][] a, final boolean scale, final double[] t) {
+        final int nthreads = context.getNumberOfThreads() > rows ? rows : context.getNumberOfThreads();
         int nt = 4 * slices;
         if (columns == 2) {
             nt >>= 1;
         }
         Future<?>[] futures = new Future[nthreads];
 
+        final IndexRange rowRange = new IndexRange(0, rows, nthreads);
         for (int i = 0; i < nthreads; i++) {
-            final int n0 = i;
             final int startt = nt * i;
-            futures[i] = ConcurrencyUtils.submit(new Runnable() {
+            futures[i] = context.submit(new Runnable() {
 
                 public void run() {
                     int idx2;
+                    IndexRange.Cursor cursor = rowRange.cursor();
                     if (isgn == -1) {
                         if (columns > 2) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 for (int c = 0; c < columns; c += 4) {
                                     for (int s = 0; s < slices; s++) {
                                         idx2 = startt + slices + s;
@@ -1415,7 +1526,7 @@ public class DoubleDHT_3D {
                                 }
                             }
                         } else if (columns == 2) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 for (int s = 0; s < slices; s++) {
                                     t[startt + s] = a[s][r][0];
                                     t[startt + slices + s] = a[s][r][1];
@@ -1430,7 +1541,7 @@ public class DoubleDHT_3D {
                         }
                     } else {
                         if (columns > 2) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 for (int c = 0; c < columns; c += 4) {
                                     for (int s = 0; s < slices; s++) {
                                         idx2 = startt + slices + s;
@@ -1453,7 +1564,7 @@ public class DoubleDHT_3D {
                                 }
                             }
                         } else if (columns == 2) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 for (int s = 0; s < slices; s++) {
                                     t[startt + s] = a[s][r][0];
                                     t[startt + slices + s] = a[s][r][1];
@@ -1475,6 +1586,17 @@ public class DoubleDHT_3D {
     }
 
     private void yTransform(double[] a) {
+        yTransform(a, slices, rows, columns);
+    }
+
+    /*
+     * Combines the mirrored elements of a slices by rows by columns array.
+     * The pass is symmetric in the three dimensions, so it also applies to
+     * the array with the dimensions in reverse order.
+     */
+    private static void yTransform(double[] a, int slices, int rows, int columns) {
+        int sliceStride = rows * columns;
+        int rowStride = columns;
         double A, B, C, D, E, F, G, H;
         int cC, rC, sC;
         int idx1, idx2, idx3, idx4, idx5, idx6, idx7, idx8, idx9, idx10, idx11, idx12;
@@ -34,15 +34,23 @@
 
 package edu.emory.mathcs.jtransforms.dst;
 
+import java.nio.DoubleBuffer;
 import java.util.concurrent.Future;
 
+import edu.emory.mathcs.utils.BufferUtils;
+import edu.emory.mathcs.utils.ConcurrencyContext;
 import edu.emory.mathcs.utils.ConcurrencyUtils;
+import edu.emory.mathcs.utils.IndexRange;
+import edu.emory.mathcs.utils.TransposeUtils;
 
 /**
  * Computes 2D Discrete Sine Transform (DST) of double precision data. The sizes
  * of both dimensions can be arbitrary numbers. This is a parallel
  * implementation optimized for SMP systems.<br>
  * <br>
+ * Instances are thread-safe: a single instance can be used by concurrent
+ * callers. <br>
+ * <br>
  * Part of code is derived from General Purpose FFT Package written by Takuya Ooura
  * (http://www.kurims.kyoto-u.ac.jp/~ooura/fft.html)
  * 
@@ -55,13 +63,9 @@ public class DoubleDST_2D {
 
     private int columns;
 
-    private double[] t;
-
     private DoubleDST_1D dstColumns, dstRows;
 
-    private int oldNthreads;
-
-    private int nt;
+    private ConcurrencyContext context;
 
     private boolean isPowerOfTwo = false;
 
@@ -76,6 +80,25 @@ public class DoubleDST_2D {
      *            number of columns
      */
     public DoubleDST_2D(int rows, int columns) {
+        this(rows, columns, ConcurrencyContext.getDefault());
+    }
+
+    /**
+     * Creates new instance of DoubleDST_2D that uses the executor and number of
+     * threads of the specified context.
+     * 
+     * @param rows
+     *            number of rows
+     * @param columns
+     *            number of columns
+     * @param context
+     *            executor and number of threads used by this transform
+     */
+    public DoubleDST_2D(int rows, int columns, ConcurrencyContext context) {
+        if (context == null) {
+            throw new IllegalArgumentException("context cannot be null");
+        }
+        this.context = context;
         if (rows <= 1 || columns <= 1) {
             throw new IllegalArgumentException("rows and columns must be greater than 1");
         }
@@ -86,20 +109,12 @@ public class DoubleDST_2D {
         }
         if (ConcurrencyUtils.isPowerOf2(rows) && ConcurrencyUtils.isPowerOf2(columns)) {
             isPowerOfTwo = true;
-            oldNthreads = ConcurrencyUtils.getNumberOfThreads();
-            nt = 4 * oldNthreads * rows;
-            if (columns == 2 * oldNthreads) {
-                nt >>= 1;
-            } else if (columns < 2 * oldNthreads) {
-                nt >>= 2;
-            }
-            t = new double[nt];
         }
-        dstColumns = new DoubleDST_1D(columns);
+        dstColumns = new DoubleDST_1D(columns, context);
         if (columns == rows) {
             dstRows = dstColumns;
         } else {
-            dstRows = new DoubleDST_1D(rows);
+            dstRows = new DoubleDST_1D(rows, context);
         }
     }
 
@@ -113,51 +128,39 @@ public class DoubleDST_2D {
      *            if true then scaling is performed
      */
     public void forward(final double[] a, final boolean scale) {
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
+        int nthreads = context.getNumberOfThreads();
         if (isPowerOfTwo) {
-            if (nthreads != oldNthreads) {
-                nt = 4 * nthreads * rows;
-                if (columns == 2 * nthreads) {
-                    nt >>= 1;
-                } else if (columns < 2 * nthreads) {
-                    nt >>= 2;
-                }
-                t = new double[nt];
-                oldNthreads = nthreads;
-            }
             if ((nthreads > 1) && useThreads) {
                 ddxt2d_subth(-1, a, scale);
                 ddxt2d0_subth(-1, a, scale);
             } else {
-                ddxt2d_sub(-1, a, scale);
+                ddxt2d_sub(-1, a, scale, new double[4 * rows], getColumnBlocks(1).cursor());
                 for (int i = 0; i < rows; i++) {
                     dstColumns.forward(a, i * columns, scale);
                 }
             }
         } else {
-            if ((nthreads > 1) && useThreads && (rows >= nthreads) && (columns >= nthreads)) {
+            if ((nthreads > 1) && useThreads) {
                 Future<?>[] futures = new Future[nthreads];
-                int p = rows / nthreads;
+                final IndexRange rowRange = new IndexRange(0, rows, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstRow = l * p;
-                    final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            for (int i = firstRow; i < lastRow; i++) {
+                            IndexRange.Cursor cursor = rowRange.cursor();
+                            for (int i = cursor.next(); i >= 0; i = cursor.next()) {
                                 dstColumns.forward(a, i * columns, scale);
                             }
                         }
                     });
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
-                p = columns / nthreads;
+                final IndexRange columnRange = new IndexRange(0, columns, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstColumn = l * p;
-                    final int lastColumn = (l == (nthreads - 1)) ? columns : firstColumn + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
                             double[] temp = new double[rows];
-                            for (int c = firstColumn; c < lastColumn; c++) {
+                            IndexRange.Cursor cursor = columnRange.cursor();
+                            for (int c = cursor.next(); c >= 0; c = cursor.next()) {
                                 for (int r = 0; r < rows; r++) {
                                     temp[r] = a[r * columns + c];
                                 }
@@ -188,6 +191,24 @@ public class DoubleDST_2D {
         }
     }
 
+    /**
+     * Computes 2D forward DST (DST-II) leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #forward(double[], boolean)}; the position is not changed.
+     * Unless the buffer is a heap buffer positioned at the first element of
+     * its array, the whole buffer is copied to a temporary array and back.
+     * 
+     * @param a
+     *            data to transform
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void forward(DoubleBuffer a, boolean scale) {
+        double[] array = BufferUtils.getArray(a, (long) rows * columns);
+        forward(array, scale);
+        BufferUtils.putArray(a, array, (long) rows * columns);
+    }
+
     /**
      * Computes 2D forward DST (DST-II) leaving the result in <code>a</code>.
      * The data is stored in 2D array.
@@ -198,51 +219,39 @@ public class DoubleDST_2D {
      *            if true then scaling is performed
      */
     public void forward(final double[][] a, final boolean scale) {
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
+        int nthreads = context.getNumberOfThreads();
         if (isPowerOfTwo) {
-            if (nthreads != oldNthreads) {
-                nt = 4 * nthreads * rows;
-                if (columns == 2 * nthreads) {
-                    nt >>= 1;
-                } else if (columns < 2 * nthreads) {
-                    nt >>= 2;
-                }
-                t = new double[nt];
-                oldNthreads = nthreads;
-            }
             if ((nthreads > 1) && useThreads) {
                 ddxt2d_subth(-1, a, scale);
                 ddxt2d0_subth(-1, a, scale);
             } else {
-                ddxt2d_sub(-1, a, scale);
+                ddxt2d_sub(-1, a, scale, new double[4 * rows], getColumnBlocks(1).cursor());
                 for (int i = 0; i < rows; i++) {
                     dstColumns.forward(a[i], scale);
                 }
             }
         } else {
-            if ((nthreads > 1) && useThreads && (rows >= nthreads) && (columns >= nthreads)) {
+            if ((nthreads > 1) && useThreads) {
                 Future<?>[] futures = new Future[nthreads];
-                int p = rows / nthreads;
+                final IndexRange rowRange = new IndexRange(0, rows, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstRow = l * p;
-                    final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            for (int i = firstRow; i < lastRow; i++) {
+                            IndexRange.Cursor cursor = rowRange.cursor();
+                            for (int i = cursor.next(); i >= 0; i = cursor.next()) {
                                 dstColumns.forward(a[i], scale);
                             }
                         }
                     });
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
-                p = columns / nthreads;
+                final IndexRange columnRange = new IndexRange(0, columns, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstColumn = l * p;
-                    final int lastColumn = (l == (nthreads - 1)) ? columns : firstColumn + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
                             double[] temp = new double[rows];
-                            for (int c = firstColumn; c < lastColumn; c++) {
+                            IndexRange.Cursor cursor = columnRange.cursor();
+                            for (int c = cursor.next(); c >= 0; c = cursor.next()) {
                                 for (int r = 0; r < rows; r++) {
                                     temp[r] = a[r][c];
                                 }
@@ -283,51 +292,39 @@ public class DoubleDST_2D {
      *            if true then scaling is performed
      */
     public void inverse(final double[] a, final boolean scale) {
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
+        int nthreads = context.getNumberOfThreads();
         if (isPowerOfTwo) {
-            if (nthreads != oldNthreads) {
-                nt = 4 * nthreads * rows;
-                if (columns == 2 * nthreads) {
-                    nt >>= 1;
-                } else if (columns < 2 * nthreads) {
-                    nt >>= 2;
-                }
-                t = new double[nt];
-                oldNthreads = nthreads;
-            }
             if ((nthreads > 1) && useThreads) {
                 ddxt2d_subth(1, a, scale);
                 ddxt2d0_subth(1, a, scale);
             } else {
-                ddxt2d_sub(1, a, scale);
+                ddxt2d_sub(1, a, scale, new double[4 * rows], getColumnBlocks(1).cursor());
                 for (int i = 0; i < rows; i++) {
                     dstColumns.inverse(a, i * columns, scale);
                 }
             }
         } else {
-            if ((nthreads > 1) && useThreads && (rows >= nthreads) && (columns >= nthreads)) {
+            if ((nthreads > 1) && useThreads) {
                 Future<?>[] futures = new Future[nthreads];
-                int p = rows / nthreads;
+                final IndexRange rowRange = new IndexRange(0, rows, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstRow = l * p;
-                    final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            for (int i = firstRow; i < lastRow; i++) {
+                            IndexRange.Cursor cursor = rowRange.cursor();
+                            for (int i = cursor.next(); i >= 0; i = cursor.next()) {
                                 dstColumns.inverse(a, i * columns, scale);
                             }
                         }
                     });
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
-                p = columns / nthreads;
+                final IndexRange columnRange = new IndexRange(0, columns, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstColumn = l * p;
-                    final int lastColumn = (l == (nthreads - 1)) ? columns : firstColumn + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
                             double[] temp = new double[rows];
-                            for (int c = firstColumn; c < lastColumn; c++) {
+                            IndexRange.Cursor cursor = columnRange.cursor();
+                            for (int c = cursor.next(); c >= 0; c = cursor.next()) {
                                 for (int r = 0; r < rows; r++) {
                                     temp[r] = a[r * columns + c];
                                 }
@@ -358,6 +355,24 @@ public class DoubleDST_2D {
         }
     }
 
+    /**
+     * Computes 2D inverse DST (DST-III) leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #inverse(double[], boolean)}; the position is not changed.
+     * Unless the buffer is a heap buffer positioned at the first element of
+     * its array, the whole buffer is copied to a temporary array and back.
+     * 
+     * @param a
+     *            data to transform
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void inverse(DoubleBuffer a, boolean scale) {
+        double[] array = BufferUtils.getArray(a, (long) rows * columns);
+        inverse(array, scale);
+        BufferUtils.putArray(a, array, (long) rows * columns);
+    }
+
     /**
      * Computes 2D inverse DST (DST-III) leaving the result in <code>a</code>.
      * The data is stored in 2D array.
@@ -368,51 +383,39 @@ public class DoubleDST_2D {
      *            if true then scaling is performed
      */
     public void inverse(final double[][] a, final boolean scale) {
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
+        int nthreads = context.getNumberOfThreads();
         if (isPowerOfTwo) {
-            if (nthreads != oldNthreads) {
-                nt = 4 * nthreads * rows;
-                if (columns == 2 * nthreads) {
-                    nt >>= 1;
-                } else if (columns < 2 * nthreads) {
-                    nt >>= 2;
-                }
-                t = new double[nt];
-                oldNthreads = nthreads;
-            }
             if ((nthreads > 1) && useThreads) {
                 ddxt2d_subth(1, a, scale);
                 ddxt2d0_subth(1, a, scale);
             } else {
-                ddxt2d_sub(1, a, scale);
+                ddxt2d_sub(1, a, scale, new double[4 * rows], getColumnBlocks(1).cursor());
                 for (int i = 0; i < rows; i++) {
                     dstColumns.inverse(a[i], scale);
                 }
             }
         } else {
-            if ((nthreads > 1) && useThreads && (rows >= nthreads) && (columns >= nthreads)) {
+            if ((nthreads > 1) && useThreads) {
                 Future<?>[] futures = new Future[nthreads];
-                int p = rows / nthreads;
+                final IndexRange rowRange = new IndexRange(0, rows, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstRow = l * p;
-                    final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            for (int i = firstRow; i < lastRow; i++) {
+                            IndexRange.Cursor cursor = rowRange.cursor();
+                            for (int i = cursor.next(); i >= 0; i = cursor.next()) {
                                 dstColumns.inverse(a[i], scale);
                             }
                         }
                     });
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
-                p = columns / nthreads;
+                final IndexRange columnRange = new IndexRange(0, columns, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstColumn = l * p;
-                    final int lastColumn = (l == (nthreads - 1)) ? columns : firstColumn + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
                             double[] temp = new double[rows];
-                            for (int c = firstColumn; c < lastColumn; c++) {
+                            IndexRange.Cursor cursor = columnRange.cursor();
+                            for (int c = cursor.next(); c >= 0; c = cursor.next()) {
                                 for (int r = 0; r < rows; r++) {
                                     temp[r] = a[r][c];
                                 }
@@ -443,105 +446,98 @@ public class DoubleDST_2D {
         }
     }
 
-    private void ddxt2d_subth(final int isgn, final double[] a, final boolean scale) {
-        int nthread = ConcurrencyUtils.getNumberOfThreads();
-        int nt = 4 * rows;
-        if (columns == 2 * nthread) {
-            nt >>= 1;
-        } else if (columns < 2 * nthread) {
-            nthread = columns;
-            nt >>= 2;
+    /**
+     * Computes 2D forward DST (DST-II) of leaving the result in <code>a</code>,
+     * using the transpose-based algorithm: the rows are transformed, the array
+     * is transposed by a cache-blocked parallel transposition, the rows of the
+     * transposed array (i.e. the columns) are transformed and, unless
+     * <code>transposed</code> is true, the result is transposed back. Memory
+     * is only traversed along rows, which pays off for large arrays; a
+     * temporary array of the size of <code>a</code> is allocated. The input
+     * has the layout described in {@link #forward(double[], boolean)}. If <code>transposed</code> is
+     * true, the result is left transposed:<br>
+     * 
+     * <pre>
+     * a[k2*rows+k1] = X[k1][k2], 0&lt;=k1&lt;rows, 0&lt;=k2&lt;columns,
+     * </pre>
+     * 
+     * which is also the input layout of
+     * {@link #inverseByTranspose(double[], boolean, boolean)}. A caller that
+     * does not need the natural layout of the result, e.g. to compute a
+     * convolution (forward transform, pointwise multiplication, inverse
+     * transform), saves one transposition in each direction.
+     * 
+     * @param a
+     *            data to transform
+     * @param transposed
+     *            if true then the result is left transposed
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void forwardByTranspose(double[] a, boolean transposed, boolean scale) {
+        double[] t = new double[rows * columns];
+        dstColumns.forwardBatch(a, 0, rows, 1, columns, scale);
+        TransposeUtils.transpose(a, 0, t, 0, 1, rows, columns, 1, context);
+        dstRows.forwardBatch(t, 0, columns, 1, rows, scale);
+        if (transposed) {
+            System.arraycopy(t, 0, a, 0, t.length);
+        } else {
+            TransposeUtils.transpose(t, 0, a, 0, 1, columns, rows, 1, context);
         }
-        final int nthreads = nthread;
-        Future<?>[] futures = new Future[nthreads];
+    }
 
+    /**
+     * Computes 2D inverse DST (DST-III) of leaving the result in <code>a</code>,
+     * using the transpose-based algorithm described in
+     * {@link #forwardByTranspose(double[], boolean, boolean)}. If
+     * <code>transposed</code> is true, the input must be transposed:<br>
+     * 
+     * <pre>
+     * a[k2*rows+k1] = X[k1][k2], 0&lt;=k1&lt;rows, 0&lt;=k2&lt;columns,
+     * </pre>
+     * 
+     * as left by {@link #forwardByTranspose(double[], boolean, boolean)}.
+     * The result always has the natural layout.
+     * 
+     * @param a
+     *            data to transform
+     * @param transposed
+     *            if true then the input is transposed
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void inverseByTranspose(double[] a, boolean transposed, boolean scale) {
+        double[] t = new double[rows * columns];
+        if (transposed) {
+            dstRows.inverseBatch(a, 0, columns, 1, rows, scale);
+            TransposeUtils.transpose(a, 0, t, 0, 1, columns, rows, 1, context);
+            dstColumns.inverseBatch(t, 0, rows, 1, columns, scale);
+            System.arraycopy(t, 0, a, 0, t.length);
+        } else {
+            dstColumns.inverseBatch(a, 0, rows, 1, columns, scale);
+            TransposeUtils.transpose(a, 0, t, 0, 1, rows, columns, 1, context);
+            dstRows.inverseBatch(t, 0, columns, 1, rows, scale);
+            TransposeUtils.transpose(t, 0, a, 0, 1, columns, rows, 1, context);
+        }
+    }
+
+    /**
+     * Returns the range of the blocks of columns that are transformed together
+     * by ddxt2d_sub: four columns at a time, or both columns if there are only
+     * two of them.
+     */
+    private IndexRange getColumnBlocks(int ntasks) {
+        return new IndexRange(0, (columns > 2) ? columns / 4 : 1, ntasks);
+    }
+
+    private void ddxt2d_subth(final int isgn, final double[] a, final boolean scale) {
+        int nthreads = context.getNumberOfThreads();
+        final IndexRange columnRange = getColumnBlocks(nthreads);
+        Future<?>[] futures = new Future[nthreads];
         for (int i = 0; i < nthreads; i++) {
-            final int n0 = i;
-            final int startt = nt * i;
-            futures[i] = ConcurrencyUtils.submit(new Runnable() {
+            futures[i] = context.submit(new Runnable() {
                 public void run() {
-                    int idx1, idx2;
-                    if (columns > 2 * nthreads) {
-                        if (isgn == -1) {
-                            for (int c = 4 * n0; c < columns; c += 4 * nthreads) {
-                                for (int r = 0; r < rows; r++) {
-                                    idx1 = r * columns + c;
-                                    idx2 = startt + rows + r;
-                                    t[startt + r] = a[idx1];
-                                    t[idx2] = a[idx1 + 1];
-                                    t[idx2 + rows] = a[idx1 + 2];
-                                    t[idx2 + 2 * rows] = a[idx1 + 3];
-                                }
-                                dstRows.forward(t, startt, scale);
-                                dstRows.forward(t, startt + rows, scale);
-                                dstRows.forward(t, startt + 2 * rows, scale);
-                                dstRows.forward(t, startt + 3 * rows, scale);
-                                for (int r = 0; r < rows; r++) {
-                                    idx1 = r * columns + c;
-                                    idx2 = startt + rows + r;
-                                    a[idx1] = t[startt + r];
-                                    a[idx1 + 1] = t[idx2];
-                                    a[idx1 + 2] = t[idx2 + rows];
-                                    a[idx1 + 3] = t[idx2 + 2 * rows];
-                                }
-                            }
-                        } else {
-                            for (int c = 4 * n0; c < columns; c += 4 * nthreads) {
-                                for (int r = 0; r < rows; r++) {
-                                    idx1 = r * columns + c;
-                                    idx2 = startt + rows + r;
-                                    t[startt + r] = a[idx1];
-                                    t[idx2] = a[idx1 + 1];
-                                    t[idx2 + rows] = a[idx1 + 2];
-                                    t[idx2 + 2 * rows] = a[idx1 + 3];
-                                }
-                                dstRows.inverse(t, startt, scale);
-                                dstRows.inverse(t, startt + rows, scale);
-                                dstRows.inverse(t, startt + 2 * rows, scale);
-                                dstRows.inverse(t, startt + 3 * rows, scale);
-                                for (int r = 0; r < rows; r++) {
-                                    idx1 = r * columns + c;
-                                    idx2 = startt + rows + r;
-                                    a[idx1] = t[startt + r];
-                                    a[idx1 + 1] = t[idx2];
-                                    a[idx1 + 2] = t[idx2 + rows];
-                                    a[idx1 + 3] = t[idx2 + 2 * rows];
-                                }
-                            }
-                        }
-                    } else if (columns == 2 * nthreads) {
-                        for (int r = 0; r < rows; r++) {
-                            idx1 = r * columns + 2 * n0;
-                            idx2 = startt + r;
-                            t[idx2] = a[idx1];
-                            t[idx2 + rows] = a[idx1 + 1];
-                        }
-                        if (isgn == -1) {
-                            dstRows.forward(t, startt, scale);
-                            dstRows.forward(t, startt + rows, scale);
-                        } else {
-                            dstRows.inverse(t, startt, scale);
-                            dstRows.inverse(t, startt + rows, scale);
-                        }
-                        for (int r = 0; r < rows; r++) {
-                            idx1 = r * columns + 2 * n0;
-                            idx2 = startt + r;
-                            a[idx1] = t[idx2];
-                            a[idx1 + 1] = t[idx2 + rows];
-                        }
-                    } else if (columns == nthreads) {
-                        for (int r = 0; r < rows; r++) {
-                            t[startt + r] = a[r * columns + n0];
-                        }
-                        if (isgn == -1) {
-                            dstRows.forward(t, startt, scale);
-                        } else {
-                            dstRows.inverse(t, startt, scale);
-                        }
-                        for (int r = 0; r < rows; r++) {
-                            a[r * columns + n0] = t[startt + r];
-                        }
-                    }
+                    ddxt2d_sub(isgn, a, scale, new double[4 * rows], columnRange.cursor());
                 }
             });
         }
@@ -549,98 +545,13 @@ public class DoubleDST_2D {
     }
 
     private void ddxt2d_subth(final int isgn, final double[][] a, final boolean scale) {
-        int nthread = ConcurrencyUtils.getNumberOfThreads();
-        int nt = 4 * rows;
-        if (columns == 2 * nthread) {
-            nt >>= 1;
-        } else if (columns < 2 * nthread) {
-            nthread = columns;
-            nt >>= 2;
-        }
-        final int nthreads = nthread;
+        int nthreads = context.getNumberOfThreads();
+        final IndexRange columnRange = getColumnBlocks(nthreads);
         Future<?>[] futures = new Future[nthreads];
-
         for (int i = 0; i < nthreads; i++) {
-            final int n0 = i;
-            final int startt = nt * i;
-            futures[i] = ConcurrencyUtils.submit(new Runnable() {
+            futures[i] = context.submit(new Runnable() {
                 public void run() {
-                    int idx2;
-                    if (columns > 2 * nthreads) {
-                        if (isgn == -1) {
-                            for (int c = 4 * n0; c < columns; c += 4 * nthreads) {
-                                for (int r = 0; r < rows; r++) {
-                                    idx2 = startt + rows + r;
-                                    t[startt + r] = a[r][c];
-                                    t[idx2] = a[r][c + 1];
-                                    t[idx2 + rows] = a[r][c + 2];
-                                    t[idx2 + 2 * rows] = a[r][c + 3];
-                                }
-                                dstRows.forward(t, startt, scale);
-                                dstRows.forward(t, startt + rows, scale);
-                                dstRows.forward(t, startt + 2 * rows, scale);
-                                dstRows.forward(t, startt + 3 * rows, scale);
-                                for (int r = 0; r < rows; r++) {
-                                    idx2 = startt + rows + r;
-                                    a[r][c] = t[startt + r];
-                                    a[r][c + 1] = t[idx2];
-                                    a[r][c + 2] = t[idx2 + rows];
-                                    a[r][c + 3] = t[idx2 + 2 * rows];
-                                }
-                            }
-                        } else {
-                            for (int c = 4 * n0; c < columns; c += 4 * nthreads) {
-                                for (int r = 0; r < rows; r++) {
-                                    idx2 = startt + rows + r;
-                                    t[startt + r] = a[r][c];
-                                    t[idx2] = a[r][c + 1];
-                                    t[idx2 + rows] = a[r][c + 2];
-                                    t[idx2 + 2 * rows] = a[r][c + 3];
-                                }
-                                dstRows.inverse(t, startt, scale);
-                                dstRows.inverse(t, startt + rows, scale);
-                                dstRows.inverse(t, startt + 2 * rows, scale);
-                                dstRows.inverse(t, startt + 3 * rows, scale);
-                                for (int r = 0; r < rows; r++) {
-                                    idx2 = startt + rows + r;
-                                    a[r][c] = t[startt + r];
-                                    a[r][c + 1] = t[idx2];
-                                    a[r][c + 2] = t[idx2 + rows];
-                                    a[r][c + 3] = t[idx2 + 2 * rows];
-                                }
-                            }
-                        }
-                    } else if (columns == 2 * nthreads) {
-                        for (int r = 0; r < rows; r++) {
-                            idx2 = startt + r;
-                            t[idx2] = a[r][2 * n0];
-                            t[idx2 + rows] = a[r][2 * n0 + 1];
-                        }
-                        if (isgn == -1) {
-                            dstRows.forward(t, startt, scale);
-                            dstRows.forward(t, startt + rows, scale);
-                        } else {
-                            dstRows.inverse(t, startt, scale);
-                            dstRows.inverse(t, startt + rows, scale);
-                        }
-                        for (int r = 0; r < rows; r++) {
-                            idx2 = startt + r;
-                            a[r][2 * n0] = t[idx2];
-                            a[r][2 * n0 + 1] = t[idx2 + rows];
-                        }
-                    } else if (columns == nthreads) {
-                        for (int r = 0; r < rows; r++) {
-                            t[startt + r] = a[r][n0];
-                        }
-                        if (isgn == -1) {
-                            dstRows.forward(t, startt, scale);
-                        } else {
-                            dstRows.inverse(t, startt, scale);
-                        }
-                        for (int r = 0; r < rows; r++) {
-                            a[r][n0] = t[startt + r];
-                        }
-                    }
+                    ddxt2d_sub(isgn, a, scale, new double[4 * rows], columnRange.cursor());
                 }
             });
         }
@@ -648,21 +559,22 @@ public class DoubleDST_2D {
     }
 
     private void ddxt2d0_subth(final int isgn, final double[] a, final boolean scale) {
-        final int nthreads = ConcurrencyUtils.getNumberOfThreads() > rows ? rows : ConcurrencyUtils.getNumberOfThreads();
+        final int nthreads = context.getNumberOfThreads() > rows ? rows : context.getNumberOfThreads();
 
         Future<?>[] futures = new Future[nthreads];
 
+        final IndexRange rowRange = new IndexRange(0, rows, nthreads);
         for (int i = 0; i < nthreads; i++) {
-            final int n0 = i;
-            futures[i] = ConcurrencyUtils.submit(new Runnable() {
+            futures[i] = context.submit(new Runnable() {
 
                 public void run() {
+                    IndexRange.Cursor cursor = rowRange.cursor();
                     if (isgn == -1) {
-                        for (int r = n0; r < rows; r += nthreads) {
+                        for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                             dstColumns.forward(a, r * columns, scale);
                         }
                     } else {
-                        for (int r = n0; r < rows; r += nthreads) {
+                        for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                             dstColumns.inverse(a, r * columns, scale);
                         }
                     }
@@ -673,21 +585,22 @@ public class DoubleDST_2D {
     }
 
     private void ddxt2d0_subth(final int isgn, final double[][] a, final boolean scale) {
-        final int nthreads = ConcurrencyUtils.getNumberOfThreads() > rows ? rows : ConcurrencyUtils.getNumberOfThreads();
+        final int nthreads = context.getNumberOfThreads() > rows ? rows : context.getNumberOfThreads();
 
         Future<?>[] futures = new Future[nthreads];
 
+        final IndexRange rowRange = new IndexRange(0, rows, nthreads);
         for (int i = 0; i < nthreads; i++) {
-            final int n0 = i;
-            futures[i] = ConcurrencyUtils.submit(new Runnable() {
+            futures[i] = context.submit(new Runnable() {
 
                 public void run() {
+                    IndexRange.Cursor cursor = rowRange.cursor();
                     if (isgn == -1) {
-                        for (int r = n0; r < rows; r += nthreads) {
+                        for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                             dstColumns.forward(a[r], scale);
                         }
                     } else {
-                        for (int r = n0; r < rows; r += nthreads) {
+                        for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                             dstColumns.inverse(a[r], scale);
                         }
                     }
@@ -697,12 +610,12 @@ public class DoubleDST_2D {
         ConcurrencyUtils.waitForCompletion(futures);
     }
 
-    private void ddxt2d_sub(int isgn, double[] a, boolean scale) {
+    private void ddxt2d_sub(int isgn, double[] a, boolean scale, final double[] t, IndexRange.Cursor cursor) {
         int idx1, idx2;
 
         if (columns > 2) {
             if (isgn == -1) {
-                for (int c = 0; c < columns; c += 4) {
+                for (int c = 4 * cursor.next(); c >= 0; c = 4 * cursor.next()) {
                     for (int r = 0; r < rows; r++) {
                         idx1 = r * columns + c;
                         idx2 = rows + r;
@@ -725,7 +638,7 @@ public class DoubleDST_2D {
                     }
                 }
             } else {
-                for (int c = 0; c < columns; c += 4) {
+                for (int c = 4 * cursor.next(); c >= 0; c = 4 * cursor.next()) {
                     for (int r = 0; r < rows; r++) {
                         idx1 = r * columns + c;
                         idx2 = rows + r;
@@ -748,7 +661,7 @@ public class DoubleDST_2D {
                     }
                 }
             }
-        } else if (columns == 2) {
+        } else if ((columns == 2) && (cursor.next() >= 0)) {
             for (int r = 0; r < rows; r++) {
                 idx1 = r * columns;
                 t[r] = a[idx1];
@@ -769,12 +682,12 @@ public class DoubleDST_2D {
         }
     }
 
-    private void ddxt2d_sub(int isgn, double[][] a, boolean scale) {
+    private void ddxt2d_sub(int isgn, double[][] a, boolean scale, final double[] t, IndexRange.Cursor cursor) {
         int idx2;
 
         if (columns > 2) {
             if (isgn == -1) {
-                for (int c = 0; c < columns; c += 4) {
+                for (int c = 4 * cursor.next(); c >= 0; c = 4 * cursor.next()) {
                     for (int r = 0; r < rows; r++) {
                         idx2 = rows + r;
                         t[r] = a[r][c];
@@ -795,7 +708,7 @@ public class DoubleDST_2D {
                     }
                 }
             } else {
-                for (int c = 0; c < columns; c += 4) {
+                for (int c = 4 * cursor.next(); c >= 0; c = 4 * cursor.next()) {
                     for (int r = 0; r < rows; r++) {
                         idx2 = rows + r;
                         t[r] = a[r][c];
@@ -816,7 +729,7 @@ public class DoubleDST_2D {
                     }
                 }
             }
-        } else if (columns == 2) {
+        } else if ((columns == 2) && (cursor.next() >= 0)) {
             for (int r = 0; r < rows; r++) {
                 t[r] = a[r][0];
                 t[rows + r] = a[r][1];
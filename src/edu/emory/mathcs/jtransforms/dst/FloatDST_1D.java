@@ -34,10 +34,14 @@
 
 package edu.emory.mathcs.jtransforms.dst;
 
+import java.nio.FloatBuffer;
 import java.util.concurrent.Future;
 
 import edu.emory.mathcs.jtransforms.dct.FloatDCT_1D;
+import edu.emory.mathcs.utils.BufferUtils;
+import edu.emory.mathcs.utils.ConcurrencyContext;
 import edu.emory.mathcs.utils.ConcurrencyUtils;
+import edu.emory.mathcs.utils.IndexRange;
 
 /**
  * Computes 1D Discrete Sine Transform (DST) of single precision data. The size
@@ -53,6 +57,8 @@ public class FloatDST_1D {
 
     private FloatDCT_1D dct;
 
+    private ConcurrencyContext context;
+
     /**
      * Creates new instance of FloatDST_1D.
      * 
@@ -60,8 +66,46 @@ public class FloatDST_1D {
      *            size of data
      */
     public FloatDST_1D(int n) {
+        this(n, ConcurrencyContext.getDefault());
+    }
+
+    /**
+     * Creates new instance of FloatDST_1D that uses the executor and number of
+     * threads of the specified context.
+     * 
+     * @param n
+     *            size of data
+     * @param context
+     *            executor and number of threads used by this transform
+     */
+    public FloatDST_1D(int n, ConcurrencyContext context) {
+        if (context == null) {
+            throw new IllegalArgumentException("context cannot be null");
+        }
+        this.context = context;
         this.n = n;
-        dct = new FloatDCT_1D(n);
+        dct = new FloatDCT_1D(n, context);
+    }
+
+    /**
+     * Creates scratch arrays for this transform. The workspace can be passed
+     * to the methods that take one, so that steady-state calls do not
+     * allocate memory.
+     * 
+     * @return new workspace
+     */
+    public FloatDCT_1D.Workspace createWorkspace() {
+        return dct.createWorkspace();
+    }
+
+    /**
+     * Returns the number of float values allocated by
+     * {@link #createWorkspace()}.
+     * 
+     * @return size of the workspace
+     */
+    public long getWorkspaceSize() {
+        return dct.getWorkspaceSize();
     }
 
     /**
@@ -76,6 +120,29 @@ public class FloatDST_1D {
         forward(a, 0, scale);
     }
 
+    /**
+     * Computes 1D forward DST (DST-II) leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #forward(float[], boolean)}; the position is not changed.
+     * Heap buffers are transformed in their backing array, other buffers are
+     * copied to a temporary array and back.
+     * 
+     * @param a
+     *            data to transform
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void forward(FloatBuffer a, boolean scale) {
+        int offa = BufferUtils.getArrayOffset(a, n);
+        if (offa >= 0) {
+            forward(a.array(), offa, scale);
+            return;
+        }
+        float[] array = BufferUtils.getArray(a, n);
+        forward(array, scale);
+        BufferUtils.putArray(a, array, n);
+    }
+
     /**
      * Computes 1D forward DST (DST-II) leaving the result in <code>a</code>.
      * 
@@ -87,6 +154,25 @@ public class FloatDST_1D {
      *            if true then scaling is performed
      */
     public void forward(final float[] a, final int offa, boolean scale) {
+        forward(a, offa, scale, null);
+    }
+
+    /**
+     * Computes 1D forward DST (DST-II) leaving the result in <code>a</code>.
+     * 
+     * The scratch arrays are taken from <code>ws</code>, or allocated by this
+     * call if <code>ws</code> is null.
+     * 
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element in array <code>a</code>
+     * @param scale
+     *            if true then scaling is performed
+     * @param ws
+     *            workspace created by {@link #createWorkspace()}, or null
+     */
+    public void forward(final float[] a, final int offa, boolean scale, FloatDCT_1D.Workspace ws) {
         if (n == 1)
             return;
         float tmp;
@@ -96,8 +182,8 @@ public class FloatDST_1D {
         for (int i = startIdx; i < stopIdx; i += 2) {
             a[i] = -a[i];
         }
-        dct.forward(a, offa, scale);
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
+        dct.forward(a, offa, scale, ws);
+        int nthreads = context.getNumberOfThreads();
         if ((nthreads > 1) && (nd2 > ConcurrencyUtils.getThreadsBeginN_1D_FFT_2Threads())) {
             nthreads = 2;
             final int k = nd2 / nthreads;
@@ -105,7 +191,7 @@ public class FloatDST_1D {
             for (int j = 0; j < nthreads; j++) {
                 final int firstIdx = j * k;
                 final int lastIdx = (j == (nthreads - 1)) ? nd2 : firstIdx + k;
-                futures[j] = ConcurrencyUtils.submit(new Runnable() {
+                futures[j] = context.submit(new Runnable() {
                     public void run() {
                         float tmp;
                         int idx0 = offa + n - 1;
@@ -148,6 +234,29 @@ public class FloatDST_1D {
         inverse(a, 0, scale);
     }
 
+    /**
+     * Computes 1D inverse DST (DST-III) leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #inverse(float[], boolean)}; the position is not changed.
+     * Heap buffers are transformed in their backing array, other buffers are
+     * copied to a temporary array and back.
+     * 
+     * @param a
+     *            data to transform
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void inverse(FloatBuffer a, boolean scale) {
+        int offa = BufferUtils.getArrayOffset(a, n);
+        if (offa >= 0) {
+            inverse(a.array(), offa, scale);
+            return;
+        }
+        float[] array = BufferUtils.getArray(a, n);
+        inverse(array, scale);
+        BufferUtils.putArray(a, array, n);
+    }
+
     /**
      * Computes 1D inverse DST (DST-III) leaving the result in <code>a</code>.
      * 
@@ -159,11 +268,30 @@ public class FloatDST_1D {
      *            if true then scaling is performed
      */
     public void inverse(final float[] a, final int offa, boolean scale) {
+        inverse(a, offa, scale, null);
+    }
+
+    /**
+     * Computes 1D inverse DST (DST-III) leaving the result in <code>a</code>.
+     * 
+     * The scratch arrays are taken from <code>ws</code>, or allocated by this
+     * call if <code>ws</code> is null.
+     * 
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element in array <code>a</code>
+     * @param scale
+     *            if true then scaling is performed
+     * @param ws
+     *            workspace created by {@link #createWorkspace()}, or null
+     */
+    public void inverse(final float[] a, final int offa, boolean scale, FloatDCT_1D.Workspace ws) {
         if (n == 1)
             return;
         float tmp;
         int nd2 = n / 2;
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
+        int nthreads = context.getNumberOfThreads();
         if ((nthreads > 1) && (nd2 > ConcurrencyUtils.getThreadsBeginN_1D_FFT_2Threads())) {
             nthreads = 2;
             final int k = nd2 / nthreads;
@@ -171,7 +299,7 @@ public class FloatDST_1D {
             for (int j = 0; j < nthreads; j++) {
                 final int firstIdx = j * k;
                 final int lastIdx = (j == (nthreads - 1)) ? nd2 : firstIdx + k;
-                futures[j] = ConcurrencyUtils.submit(new Runnable() {
+                futures[j] = context.submit(new Runnable() {
                     public void run() {
                         float tmp;
                         int idx0 = offa + n - 1;
@@ -195,11 +323,117 @@ public class FloatDST_1D {
                 a[idx0 - i] = tmp;
             }
         }
-        dct.inverse(a, offa, scale);
+        dct.inverse(a, offa, scale, ws);
         int startidx = 1 + offa;
         int stopidx = offa + n;
         for (int i = startidx; i < stopidx; i += 2) {
             a[i] = -a[i];
         }
     }
+
+    /**
+     * Computes 1D forward DST (DST-II) of <code>howmany</code> sequences of
+     * size n leaving the result in <code>a</code>. The sequences are
+     * transformed in parallel. Element k of sequence j is stored in
+     * <code>a[offa+j*dist+k*stride]</code>. The sequences must not overlap.
+     * 
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element of the first sequence
+     * @param howmany
+     *            number of sequences
+     * @param stride
+     *            distance (in array elements) between consecutive elements of
+     *            a sequence; 1 for contiguous sequences
+     * @param dist
+     *            distance (in array elements) between the first elements of
+     *            consecutive sequences
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void forwardBatch(float[] a, int offa, int howmany, int stride, int dist, boolean scale) {
+        batch(a, offa, howmany, stride, dist, true, scale);
+    }
+
+    /**
+     * Computes 1D inverse DST (DST-III) of <code>howmany</code> sequences of
+     * size n leaving the result in <code>a</code>. The sequences are
+     * transformed in parallel. Element k of sequence j is stored in
+     * <code>a[offa+j*dist+k*stride]</code>. The sequences must not overlap.
+     * 
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element of the first sequence
+     * @param howmany
+     *            number of sequences
+     * @param stride
+     *            distance (in array elements) between consecutive elements of
+     *            a sequence; 1 for contiguous sequences
+     * @param dist
+     *            distance (in array elements) between the first elements of
+     *            consecutive sequences
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void inverseBatch(float[] a, int offa, int howmany, int stride, int dist, boolean scale) {
+        batch(a, offa, howmany, stride, dist, false, scale);
+    }
+
+    private void batch(final float[] a, final int offa, int howmany, final int stride, final int dist, final boolean forward, final boolean scale) {
+        if (howmany < 0) {
+            throw new IllegalArgumentException("howmany must be greater or equal 0");
+        }
+        if (stride < 1) {
+            throw new IllegalArgumentException("stride must be greater or equal 1");
+        }
+        int nthreads = context.getNumberOfThreads();
+        if ((nthreads > 1) && (howmany > 1) && ((long) howmany * n >= ConcurrencyUtils.getThreadsBeginN_2D())) {
+            nthreads = Math.min(nthreads, howmany);
+            Future<?>[] futures = new Future[nthreads];
+            final IndexRange range = new IndexRange(0, howmany, nthreads);
+            for (int l = 0; l < nthreads; l++) {
+                futures[l] = context.submit(new Runnable() {
+                    public void run() {
+                        batch(a, offa, range.cursor(), stride, dist, forward, scale);
+                    }
+                });
+            }
+            ConcurrencyUtils.waitForCompletion(futures);
+        } else {
+            batch(a, offa, new IndexRange(0, howmany, 1).cursor(), stride, dist, forward, scale);
+        }
+    }
+
+    /*
+     * Transforms the sequences taken from the cursor. Sequences that are not
+     * contiguous are copied to a temporary array.
+     */
+    private void batch(float[] a, int offa, IndexRange.Cursor cursor, int stride, int dist, boolean forward, boolean scale) {
+        FloatDCT_1D.Workspace ws = createWorkspace();
+        float[] t = (stride == 1) ? null : new float[n];
+        for (int j = cursor.next(); j >= 0; j = cursor.next()) {
+            int offj = offa + j * dist;
+            if (t == null) {
+                batchTransform(a, offj, forward, scale, ws);
+            } else {
+                for (int k = 0; k < n; k++) {
+                    t[k] = a[offj + k * stride];
+                }
+                batchTransform(t, 0, forward, scale, ws);
+                for (int k = 0; k < n; k++) {
+                    a[offj + k * stride] = t[k];
+                }
+            }
+        }
+    }
+
+    private void batchTransform(float[] a, int offa, boolean forward, boolean scale, FloatDCT_1D.Workspace ws) {
+        if (forward) {
+            forward(a, offa, scale, ws);
+        } else {
+            inverse(a, offa, scale, ws);
+        }
+    }
 }
@@ -36,6 +36,7 @@ package edu.emory.mathcs.jtransforms.fft;
 
 import java.util.Arrays;
 
+import edu.emory.mathcs.utils.ConcurrencyContext;
 import edu.emory.mathcs.utils.ConcurrencyUtils;
 import edu.emory.mathcs.utils.IOUtils;
 
@@ -67,6 +68,8 @@ public class BenchmarkDoubleFFT {
 
     private static boolean doScaling = false;
 
+    private static int[] scalingThreads = new int[] { 1, 2, 4, 8, 16, 32 };
+
     private BenchmarkDoubleFFT() {
 
     }
@@ -143,6 +146,48 @@ public class BenchmarkDoubleFFT {
 
     }
 
+    public static void benchmarkScalingComplexForward_1D() {
+        double[] times1 = null;
+        for (int t = 0; t < scalingThreads.length; t++) {
+            double[] times = new double[nsize];
+            double[] x;
+            ConcurrencyContext context = new ConcurrencyContext(scalingThreads[t]);
+            for (int i = 0; i < nsize; i++) {
+                System.out.println("Complex forward FFT 1D of size " + sizes1D[i] + " using " + scalingThreads[t] + " threads");
+                DoubleFFT_1D fft = new DoubleFFT_1D(sizes1D[i], context);
+                x = new double[2 * sizes1D[i]];
+                if (doWarmup) { // call the transform twice to warm up
+                    IOUtils.fillMatrix_1D(2 * sizes1D[i], x);
+                    fft.complexForward(x);
+                    IOUtils.fillMatrix_1D(2 * sizes1D[i], x);
+                    fft.complexForward(x);
+                }
+                double av_time = 0;
+                long elapsedTime = 0;
+                for (int j = 0; j < niter; j++) {
+                    IOUtils.fillMatrix_1D(2 * sizes1D[i], x);
+                    elapsedTime = System.nanoTime();
+                    fft.complexForward(x);
+                    elapsedTime = System.nanoTime() - elapsedTime;
+                    av_time = av_time + elapsedTime;
+                }
+                times[i] = (double) av_time / 1000000.0 / (double) niter;
+                System.out.println("\tAverage execution time: " + String.format("%.2f", times[i]) + " msec");
+                if (times1 != null) {
+                    System.out.println("\tSpeedup: " + String.format("%.2f", times1[i] / times[i]));
+                }
+                x = null;
+                fft = null;
+                System.gc();
+                ConcurrencyUtils.sleep(5000);
+            }
+            if (times1 == null) {
+                times1 = times;
+            }
+            IOUtils.writeFFTBenchmarkResultsToFile("benchmarkDoubleComplexForwardFFT_1D_" + scalingThreads[t] + "threads.txt", scalingThreads[t], niter, doWarmup, doScaling, sizes1D, times);
+        }
+    }
+
     public static void benchmarkRealForward_1D() {
         double[] times = new double[nsize];
         double[] x;
@@ -436,15 +481,84 @@ public class BenchmarkDoubleFFT {
         IOUtils.writeFFTBenchmarkResultsToFile("benchmarkDoubleRealForwardFFT_3D_input_3D.txt", nthread, niter, doWarmup, doScaling, sizes3D, times);
     }
 
+    public static void benchmarkComplexForwardByTranspose_2D() {
+        double[] times = new double[nsize];
+        double[] x;
+        for (int i = 0; i < nsize; i++) {
+            System.out.println("Complex forward FFT 2D (transpose-based) of size " + sizes2D[i] + " x " + sizes2D[i]);
+            DoubleFFT_2D fft2 = new DoubleFFT_2D(sizes2D[i], sizes2D[i]);
+            x = new double[sizes2D[i] * 2 * sizes2D[i]];
+            if (doWarmup) { // call the transform twice to warm up
+                IOUtils.fillMatrix_2D(sizes2D[i], 2 * sizes2D[i], x);
+                fft2.complexForwardByTranspose(x, false);
+                IOUtils.fillMatrix_2D(sizes2D[i], 2 * sizes2D[i], x);
+                fft2.complexForwardByTranspose(x, false);
+            }
+            double av_time = 0;
+            long elapsedTime = 0;
+            for (int j = 0; j < niter; j++) {
+                IOUtils.fillMatrix_2D(sizes2D[i], 2 * sizes2D[i], x);
+                elapsedTime = System.nanoTime();
+                fft2.complexForwardByTranspose(x, false);
+                elapsedTime = System.nanoTime() - elapsedTime;
+                av_time = av_time + elapsedTime;
+            }
+            times[i] = (double) av_time / 1000000.0 / (double) niter;
+            System.out.println("\tAverage execution time: " + String.format("%.2f", av_time / 1000000.0 / (double) niter) + " msec");
+            x = null;
+            fft2 = null;
+            System.gc();
+            ConcurrencyUtils.sleep(5000);
+        }
+        IOUtils.writeFFTBenchmarkResultsToFile("benchmarkDoubleComplexForwardFFT_2D_transpose.txt", nthread, niter, doWarmup, doScaling, sizes2D, times);
+    }
+
+    public static void benchmarkComplexForwardByTranspose_3D() {
+        double[] times = new double[nsize];
+        double[] x;
+        for (int i = 0; i < nsize; i++) {
+            if (sizes3D[i] < 1024) {
+                System.out.println("Complex forward FFT 3D (transpose-based) of size " + sizes3D[i] + " x " + sizes3D[i] + " x " + sizes3D[i]);
+                DoubleFFT_3D fft3 = new DoubleFFT_3D(sizes3D[i], sizes3D[i], sizes3D[i]);
+                x = new double[sizes3D[i] * sizes3D[i] * 2 * sizes3D[i]];
+                if (doWarmup) { // call the transform twice to warm up
+                    IOUtils.fillMatrix_3D(sizes3D[i], sizes3D[i], 2 * sizes3D[i], x);
+                    fft3.complexForwardByTranspose(x, false);
+                    IOUtils.fillMatrix_3D(sizes3D[i], sizes3D[i], 2 * sizes3D[i], x);
+                    fft3.complexForwardByTranspose(x, false);
+                }
+                double av_time = 0;
+                long elapsedTime = 0;
+                for (int j = 0; j < niter; j++) {
+                    IOUtils.fillMatrix_3D(sizes3D[i], sizes3D[i], 2 * sizes3D[i], x);
+                    elapsedTime = System.nanoTime();
+                    fft3.complexForwardByTranspose(x, false);
+                    elapsedTime = System.nanoTime() - elapsedTime;
+                    av_time = av_time + elapsedTime;
+                }
+                times[i] = (double) av_time / 1000000.0 / (double) niter;
+                System.out.println("\tAverage execution time: " + String.format("%.2f", av_time / 1000000.0 / (double) niter) + " msec");
+                x = null;
+                fft3 = null;
+                System.gc();
+                ConcurrencyUtils.sleep(5000);
+            }
+        }
+        IOUtils.writeFFTBenchmarkResultsToFile("benchmarkDoubleComplexForwardFFT_3D_transpose.txt", nthread, niter, doWarmup, doScaling, sizes3D, times);
+    }
+
     public static void main(String[] args) {
         parseArguments(args);
         benchmarkComplexForward_1D();
         benchmarkRealForward_1D();
+        benchmarkScalingComplexForward_1D();
         benchmarkComplexForward_2D_input_1D();
+        benchmarkComplexForwardByTranspose_2D();
         benchmarkComplexForward_2D_input_2D();
         benchmarkRealForward_2D_input_1D();
         benchmarkRealForward_2D_input_2D();
         benchmarkComplexForward_3D_input_1D();
+        benchmarkComplexForwardByTranspose_3D();
         benchmarkComplexForward_3D_input_3D();
         benchmarkRealForward_3D_input_1D();
         benchmarkRealForward_3D_input_3D();
@@ -0,0 +1,158 @@
+/*
+ * ***** BEGIN LICENSE BLOCK ***** Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License for
+ * the specific language governing rights and limitations under the License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is Piotr Wendykier, Emory
+ * University. Portions created by the Initial Developer are Copyright (C)
+ * 2007-2009 the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or the
+ * GNU Lesser General Public License Version 2.1 or later (the "LGPL"), in which
+ * case the provisions of the GPL or the LGPL are applicable instead of those
+ * above. If you wish to allow use of your version of this file only under the
+ * terms of either the GPL or the LGPL, and not to allow others to use your
+ * version of this file under the terms of the MPL, indicate your decision by
+ * deleting the provisions above and replace them with the notice and other
+ * provisions required by the GPL or the LGPL. If you do not delete the
+ * provisions above, a recipient may use your version of this file under the
+ * terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK *****
+ */
+
+package edu.emory.mathcs.jtransforms.fft;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+import edu.emory.mathcs.utils.MappedFileUtils;
+
+/**
+ * Benchmark of the out-of-core FFT's. The data is stored in a temporary file,
+ * which is deleted when the benchmark finishes. The arguments are: base-2
+ * logarithm of the size of the 1D transform (default 28, i.e. a 4 GB file),
+ * memory budget in megabytes (default 256), number of iterations (default 3)
+ * and the directory of the temporary file.
+ * 
+ */
+public class BenchmarkOutOfCoreFFT {
+
+    private static int logn = 28;
+
+    private static long memoryBudget = 256L << 20;
+
+    private static int niter = 3;
+
+    private static File dir = null;
+
+    private BenchmarkOutOfCoreFFT() {
+
+    }
+
+    public static void parseArguments(String[] args) {
+        if (args.length > 0) {
+            logn = Integer.parseInt(args[0]);
+        }
+        if (args.length > 1) {
+            memoryBudget = Long.parseLong(args[1]) << 20;
+        }
+        if (args.length > 2) {
+            niter = Integer.parseInt(args[2]);
+        }
+        if (args.length > 3) {
+            dir = new File(args[3]);
+        }
+        System.out.println("logn = " + logn);
+        System.out.println("memoryBudget = " + (memoryBudget >> 20) + " MB");
+        System.out.println("niter = " + niter);
+    }
+
+    public static void benchmarkComplexForward_1D() throws IOException {
+        long n = 1L << logn;
+        System.out.println("Out-of-core complex forward FFT 1D of size " + n + " (" + (16 * n >> 20) + " MB)");
+        File file = File.createTempFile("BenchmarkOutOfCoreFFT", ".bin", dir);
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            FileChannel channel = raf.getChannel();
+            fill(channel, n);
+            DoubleOutOfCoreFFT_1D fft = new DoubleOutOfCoreFFT_1D(n, memoryBudget);
+            double av_time = 0;
+            long elapsedTime = 0;
+            for (int j = 0; j < niter; j++) {
+                elapsedTime = System.nanoTime();
+                if (j % 2 == 0) {
+                    fft.complexForward(channel, 0, channel, 16 * n);
+                } else {
+                    fft.complexForward(channel, 16 * n, channel, 0);
+                }
+                elapsedTime = System.nanoTime() - elapsedTime;
+                av_time = av_time + elapsedTime;
+            }
+            System.out.println("\tAverage execution time: " + String.format("%.2f", av_time / 1000000.0 / (double) niter) + " msec");
+        } finally {
+            raf.close();
+            file.delete();
+        }
+    }
+
+    public static void benchmarkComplexForward_3D() throws IOException {
+        int size = 1 << ((logn + 2) / 3);
+        long n = (long) size * size * size;
+        System.out.println("Out-of-core complex forward FFT 3D of size " + size + " x " + size + " x " + size + " (" + (16 * n >> 20) + " MB)");
+        File file = File.createTempFile("BenchmarkOutOfCoreFFT", ".bin", dir);
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            FileChannel channel = raf.getChannel();
+            fill(channel, n);
+            DoubleOutOfCoreFFT_3D fft = new DoubleOutOfCoreFFT_3D(size, size, size, memoryBudget);
+            double av_time = 0;
+            long elapsedTime = 0;
+            for (int j = 0; j < niter; j++) {
+                elapsedTime = System.nanoTime();
+                fft.complexForward(channel, 0);
+                elapsedTime = System.nanoTime() - elapsedTime;
+                av_time = av_time + elapsedTime;
+            }
+            System.out.println("\tAverage execution time: " + String.format("%.2f", av_time / 1000000.0 / (double) niter) + " msec");
+        } finally {
+            raf.close();
+            file.delete();
+        }
+    }
+
+    /*
+     * Fills the first n complex numbers of the file with pseudorandom data, one
+     * window at a time.
+     */
+    private static void fill(FileChannel channel, long n) throws IOException {
+        int length = (int) Math.min(2 * n, MappedFileUtils.getWindowSize() / 8);
+        double[] x = new double[length];
+        for (int i = 0; i < length; i++) {
+            x[i] = Math.random();
+        }
+        for (long k = 0; k < 2 * n; k += length) {
+            MappedFileUtils.write(channel, 8 * k, ByteOrder.nativeOrder(), x, (int) Math.min(length, 2 * n - k));
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        parseArguments(args);
+        benchmarkComplexForward_1D();
+        benchmarkComplexForward_3D();
+        System.exit(0);
+
+    }
+}
@@ -0,0 +1,381 @@
+/* ***** BEGIN LICENSE BLOCK *****
+ * Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License
+ * for the specific language governing rights and limitations under the
+ * License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is
+ * Piotr Wendykier, Emory University.
+ * Portions created by the Initial Developer are Copyright (C) 2007-2009
+ * the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or
+ * the GNU Lesser General Public License Version 2.1 or later (the "LGPL"),
+ * in which case the provisions of the GPL or the LGPL are applicable instead
+ * of those above. If you wish to allow use of your version of this file only
+ * under the terms of either the GPL or the LGPL, and not to allow others to
+ * use your version of this file under the terms of the MPL, indicate your
+ * decision by deleting the provisions above and replace them with the notice
+ * and other provisions required by the GPL or the LGPL. If you do not delete
+ * the provisions above, a recipient may use your version of this file under
+ * the terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK ***** */
+package edu.emory.mathcs.jtransforms.fft;
+
+import java.nio.DoubleBuffer;
+import java.util.BitSet;
+import java.util.concurrent.Future;
+
+import edu.emory.mathcs.utils.BufferUtils;
+import edu.emory.mathcs.utils.ConcurrencyContext;
+import edu.emory.mathcs.utils.ConcurrencyUtils;
+import edu.emory.mathcs.utils.IndexRange;
+
+/**
+ * Computes 1D DFT of complex, double precision data in place in a buffer
+ * without an accessible backing array (e.g. a direct buffer), copying only
+ * fixed-size blocks to the heap. The size n is split as n = n1*n2 with
+ * n2 = r*n1 and the four-step algorithm is run on the buffer viewed as an
+ * n2 x n1 matrix: blocks of its columns are transformed and multiplied by the
+ * twiddle factors, blocks of its rows are transformed, and the matrix is
+ * transposed in place, first by moving its rows of length n1 so that each of
+ * the r square n1 x n1 submatrices becomes a block of columns of the n1 x n2
+ * result, then by transposing these blocks tile by tile. The heap holds
+ * O(n2) elements rather than a copy of the 2*n elements of the buffer.
+ * 
+ */
+final class DoubleBufferFFT_1D {
+
+    /*
+     * Smaller buffers are copied to a temporary array.
+     */
+    static final int MIN_SIZE = 1 << 16;
+
+    private static final int MIN_SPLIT = 16;
+
+    private static final int BLOCK_SIZE = 1 << 16;
+
+    private static final int TILE_SIZE = 64;
+
+    private int n;
+
+    private int n1;
+
+    private int n2;
+
+    private int r;
+
+    private int block1;
+
+    private int block2;
+
+    private int shift;
+
+    private double[] w;
+
+    private DoubleFFT_1D fft1, fft2;
+
+    private ConcurrencyContext context;
+
+    /*
+     * Creates a transform of size n, which must be accepted by
+     * isSupported(n).
+     */
+    DoubleBufferFFT_1D(int n, ConcurrencyContext context) {
+        this.n = n;
+        this.context = context;
+        n1 = getSplit(n);
+        n2 = n / n1;
+        r = n2 / n1;
+        block1 = Math.max(1, Math.min(n1, BLOCK_SIZE / n2));
+        block2 = Math.max(1, Math.min(n2, BLOCK_SIZE / n1));
+        fft1 = new DoubleFFT_1D(n1, context);
+        fft2 = new DoubleFFT_1D(n2, context);
+        twiddlesi();
+    }
+
+    /*
+     * Returns true if buffers of size n are transformed in blocks, i.e. if n
+     * is large and has a square divisor n1*n1 with n1 large enough to keep
+     * the blocks small.
+     */
+    static boolean isSupported(int n) {
+        return (n >= MIN_SIZE) && (getSplit(n) >= MIN_SPLIT);
+    }
+
+    void complexForward(DoubleBuffer a) {
+        transform(a, true, false);
+    }
+
+    void complexInverse(DoubleBuffer a, boolean scale) {
+        transform(a, false, scale);
+    }
+
+    private void transform(final DoubleBuffer a, final boolean forward, final boolean scale) {
+        BufferUtils.checkBuffer(a, 2L * n);
+        final int blocks1 = (n1 - 1) / block1 + 1;
+        final int blocks2 = (n2 - 1) / block2 + 1;
+        final int tiles = (n1 - 1) / TILE_SIZE + 1;
+        int nthreads = context.getNumberOfThreads();
+        if (nthreads > 1) {
+            Future<?>[] futures = new Future[nthreads];
+            final IndexRange range1 = new IndexRange(0, blocks1, nthreads);
+            for (int l = 0; l < nthreads; l++) {
+                futures[l] = context.submit(new Runnable() {
+                    public void run() {
+                        columnPass(a, range1.cursor(), forward, scale);
+                    }
+                });
+            }
+            ConcurrencyUtils.waitForCompletion(futures);
+            final IndexRange range2 = new IndexRange(0, blocks2, nthreads);
+            for (int l = 0; l < nthreads; l++) {
+                futures[l] = context.submit(new Runnable() {
+                    public void run() {
+                        rowPass(a, range2.cursor(), forward, scale);
+                    }
+                });
+            }
+            ConcurrencyUtils.waitForCompletion(futures);
+            moveRows(a);
+            final IndexRange range3 = new IndexRange(0, r * tiles, nthreads);
+            for (int l = 0; l < nthreads; l++) {
+                futures[l] = context.submit(new Runnable() {
+                    public void run() {
+                        transposeTiles(a, range3.cursor(), tiles);
+                    }
+                });
+            }
+            ConcurrencyUtils.waitForCompletion(futures);
+        } else {
+            columnPass(a, new IndexRange(0, blocks1, 1).cursor(), forward, scale);
+            rowPass(a, new IndexRange(0, blocks2, 1).cursor(), forward, scale);
+            moveRows(a);
+            transposeTiles(a, new IndexRange(0, r * tiles, 1).cursor(), tiles);
+        }
+    }
+
+    /*
+     * Transforms the blocks of columns of the n2 x n1 matrix taken from the
+     * cursor and multiplies them by the twiddle factors.
+     */
+    private void columnPass(DoubleBuffer a, IndexRange.Cursor cursor, boolean forward, boolean scale) {
+        DoubleBuffer b = a.duplicate();
+        int base = a.position();
+        double[] t = new double[2 * block1 * n2];
+        double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * n2];
+        DoubleFFT_1D.Workspace ws = fft2.createWorkspace();
+        for (int p = cursor.next(); p >= 0; p = cursor.next()) {
+            int c = p * block1;
+            int width = Math.min(block1, n1 - c);
+            for (int j2 = 0; j2 < n2; j2++) {
+                b.position(base + 2 * (j2 * n1 + c));
+                b.get(t, 2 * j2 * width, 2 * width);
+            }
+            for (int j = 0; j < width; j += DoubleFFT_1D.PANEL_SIZE) {
+                fft2.transformPanel(t, 2 * j, Math.min(DoubleFFT_1D.PANEL_SIZE, width - j), 2 * width, 2, true, forward, scale, panel, ws);
+            }
+            twiddle(t, c, width, forward);
+            for (int j2 = 0; j2 < n2; j2++) {
+                b.position(base + 2 * (j2 * n1 + c));
+                b.put(t, 2 * j2 * width, 2 * width);
+            }
+        }
+    }
+
+    /*
+     * Transforms the blocks of rows of the n2 x n1 matrix taken from the
+     * cursor.
+     */
+    private void rowPass(DoubleBuffer a, IndexRange.Cursor cursor, boolean forward, boolean scale) {
+        DoubleBuffer b = a.duplicate();
+        int base = a.position();
+        double[] t = new double[2 * block2 * n1];
+        double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * n1];
+        DoubleFFT_1D.Workspace ws = fft1.createWorkspace();
+        for (int p = cursor.next(); p >= 0; p = cursor.next()) {
+            int c = p * block2;
+            int height = Math.min(block2, n2 - c);
+            b.position(base + 2 * c * n1);
+            b.get(t, 0, 2 * height * n1);
+            for (int j = 0; j < height; j += DoubleFFT_1D.PANEL_SIZE) {
+                fft1.transformPanel(t, 2 * j * n1, Math.min(DoubleFFT_1D.PANEL_SIZE, height - j), 2, 2 * n1, true, forward, scale, panel, ws);
+            }
+            b.position(base + 2 * c * n1);
+            b.put(t, 0, 2 * height * n1);
+        }
+    }
+
+    /*
+     * Moves row i of the square submatrix q (row q*n1+i of the n2 x n1
+     * matrix) to row i*r+q, following the cycles of the permutation, so that
+     * the submatrix q becomes the block of columns q*n1.. of the n1 x n2
+     * matrix.
+     */
+    private void moveRows(DoubleBuffer a) {
+        if (r == 1) {
+            return;
+        }
+        DoubleBuffer b = a.duplicate();
+        int base = a.position();
+        double[] x = new double[2 * n1];
+        double[] y = new double[2 * n1];
+        BitSet moved = new BitSet(n2);
+        for (int s0 = 0; s0 < n2; s0++) {
+            if (moved.get(s0)) {
+                continue;
+            }
+            b.position(base + 2 * s0 * n1);
+            b.get(x);
+            int s = s0;
+            do {
+                int next = (s % n1) * r + s / n1;
+                if (next != s0) {
+                    b.position(base + 2 * next * n1);
+                    b.get(y);
+                }
+                b.position(base + 2 * next * n1);
+                b.put(x);
+                moved.set(next);
+                double[] tmp = x;
+                x = y;
+                y = tmp;
+                s = next;
+            } while (s != s0);
+        }
+    }
+
+    /*
+     * Transposes the square n1 x n1 blocks of columns of the n1 x n2 matrix
+     * in place. Unit u of the cursor swaps the tiles of the rows of tiles
+     * u%tiles of block u/tiles with the tiles of the matching columns.
+     */
+    private void transposeTiles(DoubleBuffer a, IndexRange.Cursor cursor, int tiles) {
+        DoubleBuffer b = a.duplicate();
+        int base = a.position();
+        int size = 2 * TILE_SIZE * TILE_SIZE;
+        double[] x = new double[size];
+        double[] y = new double[size];
+        double[] t = new double[size];
+        for (int u = cursor.next(); u >= 0; u = cursor.next()) {
+            int q = u / tiles;
+            int i0 = (u - q * tiles) * TILE_SIZE;
+            int h = Math.min(TILE_SIZE, n1 - i0);
+            int offb = base + 2 * q * n1;
+            for (int j0 = i0; j0 < n1; j0 += TILE_SIZE) {
+                int w = Math.min(TILE_SIZE, n1 - j0);
+                readTile(b, offb, i0, j0, h, w, x);
+                if (j0 != i0) {
+                    readTile(b, offb, j0, i0, w, h, y);
+                    writeTransposed(b, offb, i0, j0, w, h, y, t);
+                }
+                writeTransposed(b, offb, j0, i0, h, w, x, t);
+            }
+        }
+    }
+
+    /*
+     * Reads the h x w tile at row i0 and column j0 of the n1 x n2 matrix
+     * starting at offb.
+     */
+    private void readTile(DoubleBuffer b, int offb, int i0, int j0, int h, int w, double[] x) {
+        for (int i = 0; i < h; i++) {
+            b.position(offb + 2 * ((i0 + i) * n2 + j0));
+            b.get(x, 2 * i * w, 2 * w);
+        }
+    }
+
+    /*
+     * Writes the transpose of the h x w tile x as the w x h tile at row i0 and
+     * column j0 of the n1 x n2 matrix starting at offb.
+     */
+    private void writeTransposed(DoubleBuffer b, int offb, int i0, int j0, int h, int w, double[] x, double[] t) {
+        for (int i = 0; i < h; i++) {
+            for (int j = 0; j < w; j++) {
+                t[2 * (j * h + i)] = x[2 * (i * w + j)];
+                t[2 * (j * h + i) + 1] = x[2 * (i * w + j) + 1];
+            }
+        }
+        for (int j = 0; j < w; j++) {
+            b.position(offb + 2 * ((i0 + j) * n2 + j0));
+            b.put(t, 2 * j * h, 2 * h);
+        }
+    }
+
+    /*
+     * Multiplies element k2 of column j1 = c+j of the column pass by
+     * exp(-+2*pi*i*j1*k2/n). The twiddle factor of exponent e is the product
+     * of the entry e%block of a fine table and of the entry e/block of a
+     * coarse table.
+     */
+    private void twiddle(double[] t, int c, int width, boolean forward) {
+        int mask = (1 << shift) - 1;
+        int coarse = 2 << shift;
+        for (int j = 0; j < width; j++) {
+            int j1 = c + j;
+            int e = 0;
+            int idx1 = 2 * j;
+            for (int k2 = 0; k2 < n2; k2++) {
+                int idx3 = 2 * (e & mask);
+                int idx4 = coarse + 2 * (e >>> shift);
+                double wr = w[idx3] * w[idx4] - w[idx3 + 1] * w[idx4 + 1];
+                double wi = w[idx3] * w[idx4 + 1] + w[idx3 + 1] * w[idx4];
+                double re = t[idx1];
+                double im = t[idx1 + 1];
+                if (forward) {
+                    t[idx1] = re * wr + im * wi;
+                    t[idx1 + 1] = im * wr - re * wi;
+                } else {
+                    t[idx1] = re * wr - im * wi;
+                    t[idx1 + 1] = im * wr + re * wi;
+                }
+                e += j1;
+                idx1 += 2 * width;
+            }
+        }
+    }
+
+    private void twiddlesi() {
+        int block = 1;
+        while ((long) block * block < n) {
+            block <<= 1;
+        }
+        shift = Integer.numberOfTrailingZeros(block);
+        int coarse = (n - 1) / block + 1;
+        w = new double[2 * (block + coarse)];
+        for (int l = 0; l < block; l++) {
+            double arg = 2 * Math.PI * l / n;
+            w[2 * l] = Math.cos(arg);
+            w[2 * l + 1] = Math.sin(arg);
+        }
+        for (int h = 0; h < coarse; h++) {
+            double arg = 2 * Math.PI * ((double) h * block) / n;
+            w[2 * (block + h)] = Math.cos(arg);
+            w[2 * (block + h) + 1] = Math.sin(arg);
+        }
+    }
+
+    /*
+     * Returns the largest n1 not greater than the square root of n such that
+     * n1*n1 divides n.
+     */
+    private static int getSplit(int n) {
+        for (int n1 = (int) Math.sqrt((double) n); n1 > 1; n1--) {
+            if (n % (n1 * n1) == 0) {
+                return n1;
+            }
+        }
+        return 1;
+    }
+}
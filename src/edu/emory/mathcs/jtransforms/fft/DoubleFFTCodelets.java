@@ -0,0 +1,10242 @@
+/* ***** BEGIN LICENSE BLOCK *****
+ * Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License
+ * for the specific language governing rights and limitations under the
+ * License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is
+ * Piotr Wendykier, Emory University.
+ * Portions created by the Initial Developer are Copyright (C) 2007-2009
+ * the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or
+ * the GNU Lesser General Public License Version 2.1 or later (the "LGPL"),
+ * in which case the provisions of the GPL or the LGPL are applicable instead
+ * of those above. If you wish to allow use of your version of this file only
+ * under the terms of either the GPL or the LGPL, and not to allow others to
+ * use your version of this file under the terms of the MPL, indicate your
+ * decision by deleting the provisions above and replace them with the notice
+ * and other provisions required by the GPL or the LGPL. If you do not delete
+ * the provisions above, a recipient may use your version of this file under
+ * the terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK ***** */
+package edu.emory.mathcs.jtransforms.fft;
+
+/**
+ * Straight-line kernels computing FFTs of small sizes (used by
+ * {@link DoubleFFT_1D}). Every kernel loads its input into local variables,
+ * evaluates the transform with all twiddle factors folded into constants and
+ * common subexpressions shared, and then stores the result, so there are no
+ * loops, no tables and no index arithmetic. The kernels are generated by
+ * resources/gencodelets.py. Sizes whose kernels would exceed the bytecode
+ * size that the JIT is willing to compile (8000 bytes) are left to the
+ * table-driven plans.
+ * 
+ */
+final class DoubleFFTCodelets {
+
+    private DoubleFFTCodelets() {
+    }
+
+    /**
+     * Returns true if there is a codelet for the complex and the real FFT of size n.
+     * 
+     * @param n
+     *            size of the transform
+     * @return true if there is a codelet for the given size
+     */
+    static boolean isSupported(int n) {
+        switch (n) {
+        case 2:
+        case 3:
+        case 4:
+        case 5:
+        case 6:
+        case 7:
+        case 8:
+        case 9:
+        case 10:
+        case 11:
+        case 12:
+        case 13:
+        case 14:
+        case 15:
+        case 16:
+        case 18:
+        case 20:
+        case 24:
+        case 32:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Computes the forward DFT of n complex numbers.
+     * 
+     * @param n
+     *            size of the transform
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element in array <code>a</code>
+     */
+    static void complexForward(int n, double[] a, int offa) {
+        switch (n) {
+        case 2:
+            cf2(a, offa, offa + 1);
+            break;
+        case 3:
+            cf3(a, offa, offa + 1);
+            break;
+        case 4:
+            cf4(a, offa, offa + 1);
+            break;
+        case 5:
+            cf5(a, offa, offa + 1);
+            break;
+        case 6:
+            cf6(a, offa, offa + 1);
+            break;
+        case 7:
+            cf7(a, offa, offa + 1);
+            break;
+        case 8:
+            cf8(a, offa, offa + 1);
+            break;
+        case 9:
+            cf9(a, offa, offa + 1);
+            break;
+        case 10:
+            cf10(a, offa, offa + 1);
+            break;
+        case 11:
+            cf11(a, offa, offa + 1);
+            break;
+        case 12:
+            cf12(a, offa, offa + 1);
+            break;
+        case 13:
+            cf13(a, offa, offa + 1);
+            break;
+        case 14:
+            cf14(a, offa, offa + 1);
+            break;
+        case 15:
+            cf15(a, offa, offa + 1);
+            break;
+        case 16:
+            cf16(a, offa, offa + 1);
+            break;
+        case 18:
+            cf18(a, offa, offa + 1);
+            break;
+        case 20:
+            cf20(a, offa, offa + 1);
+            break;
+        case 24:
+            cf24(a, offa, offa + 1);
+            break;
+        case 32:
+            cf32(a, offa, offa + 1);
+            break;
+        default:
+            throw new IllegalArgumentException("n = " + n + " is not supported");
+        }
+    }
+
+    /**
+     * Computes the unscaled inverse DFT of n complex numbers. The inverse
+     * transform is the forward transform with the real and the imaginary
+     * parts swapped.
+     * 
+     * @param n
+     *            size of the transform
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element in array <code>a</code>
+     */
+    static void complexInverse(int n, double[] a, int offa) {
+        switch (n) {
+        case 2:
+            cf2(a, offa + 1, offa);
+            break;
+        case 3:
+            cf3(a, offa + 1, offa);
+            break;
+        case 4:
+            cf4(a, offa + 1, offa);
+            break;
+        case 5:
+            cf5(a, offa + 1, offa);
+            break;
+        case 6:
+            cf6(a, offa + 1, offa);
+            break;
+        case 7:
+            cf7(a, offa + 1, offa);
+            break;
+        case 8:
+            cf8(a, offa + 1, offa);
+            break;
+        case 9:
+            cf9(a, offa + 1, offa);
+            break;
+        case 10:
+            cf10(a, offa + 1, offa);
+            break;
+        case 11:
+            cf11(a, offa + 1, offa);
+            break;
+        case 12:
+            cf12(a, offa + 1, offa);
+            break;
+        case 13:
+            cf13(a, offa + 1, offa);
+            break;
+        case 14:
+            cf14(a, offa + 1, offa);
+            break;
+        case 15:
+            cf15(a, offa + 1, offa);
+            break;
+        case 16:
+            cf16(a, offa + 1, offa);
+            break;
+        case 18:
+            cf18(a, offa + 1, offa);
+            break;
+        case 20:
+            cf20(a, offa + 1, offa);
+            break;
+        case 24:
+            cf24(a, offa + 1, offa);
+            break;
+        case 32:
+            cf32(a, offa + 1, offa);
+            break;
+        default:
+            throw new IllegalArgumentException("n = " + n + " is not supported");
+        }
+    }
+
+    /**
+     * Computes the forward DFT of n real numbers. The layout of the output
+     * is the same as in <code>DoubleFFT_1D.realForward</code>.
+     * 
+     * @param n
+     *            size of the transform
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element in array <code>a</code>
+     */
+    static void realForward(int n, double[] a, int offa) {
+        switch (n) {
+        case 2:
+            rf2(a, offa);
+            break;
+        case 3:
+            rf3(a, offa);
+            break;
+        case 4:
+            rf4(a, offa);
+            break;
+        case 5:
+            rf5(a, offa);
+            break;
+        case 6:
+            rf6(a, offa);
+            break;
+        case 7:
+            rf7(a, offa);
+            break;
+        case 8:
+            rf8(a, offa);
+            break;
+        case 9:
+            rf9(a, offa);
+            break;
+        case 10:
+            rf10(a, offa);
+            break;
+        case 11:
+            rf11(a, offa);
+            break;
+        case 12:
+            rf12(a, offa);
+            break;
+        case 13:
+            rf13(a, offa);
+            break;
+        case 14:
+            rf14(a, offa);
+            break;
+        case 15:
+            rf15(a, offa);
+            break;
+        case 16:
+            rf16(a, offa);
+            break;
+        case 18:
+            rf18(a, offa);
+            break;
+        case 20:
+            rf20(a, offa);
+            break;
+        case 24:
+            rf24(a, offa);
+            break;
+        case 32:
+            rf32(a, offa);
+            break;
+        default:
+            throw new IllegalArgumentException("n = " + n + " is not supported");
+        }
+    }
+
+    /**
+     * Computes the unscaled inverse DFT of n real numbers. The layout of
+     * the input is the same as in <code>DoubleFFT_1D.realInverse</code>.
+     * 
+     * @param n
+     *            size of the transform
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element in array <code>a</code>
+     */
+    static void realInverse(int n, double[] a, int offa) {
+        switch (n) {
+        case 2:
+            rb2(a, offa);
+            break;
+        case 3:
+            rb3(a, offa);
+            break;
+        case 4:
+            rb4(a, offa);
+            break;
+        case 5:
+            rb5(a, offa);
+            break;
+        case 6:
+            rb6(a, offa);
+            break;
+        case 7:
+            rb7(a, offa);
+            break;
+        case 8:
+            rb8(a, offa);
+            break;
+        case 9:
+            rb9(a, offa);
+            break;
+        case 10:
+            rb10(a, offa);
+            break;
+        case 11:
+            rb11(a, offa);
+            break;
+        case 12:
+            rb12(a, offa);
+            break;
+        case 13:
+            rb13(a, offa);
+            break;
+        case 14:
+            rb14(a, offa);
+            break;
+        case 15:
+            rb15(a, offa);
+            break;
+        case 16:
+            rb16(a, offa);
+            break;
+        case 18:
+            rb18(a, offa);
+            break;
+        case 20:
+            rb20(a, offa);
+            break;
+        case 24:
+            rb24(a, offa);
+            break;
+        case 32:
+            rb32(a, offa);
+            break;
+        default:
+            throw new IllegalArgumentException("n = " + n + " is not supported");
+        }
+    }
+
+    static void cf2(double[] a, int offr, int offi) {
+        double x0r = a[offr];
+        double x0i = a[offi];
+        double x1r = a[offr + 2];
+        double x1i = a[offi + 2];
+        double t0 = x0r + x1r;
+        double t1 = x0i + x1i;
+        double t2 = x0r - x1r;
+        double t3 = x0i - x1i;
+        a[offr] = t0;
+        a[offi] = t1;
+        a[offr + 2] = t2;
+        a[offi + 2] = t3;
+    }
+
+    static void cf3(double[] a, int offr, int offi) {
+        double x0r = a[offr];
+        double x0i = a[offi];
+        double x1r = a[offr + 2];
+        double x1i = a[offi + 2];
+        double x2r = a[offr + 4];
+        double x2i = a[offi + 4];
+        double t0 = x1r + x2r;
+        double t1 = x0r + t0;
+        double t2 = x1i + x2i;
+        double t3 = x0i + t2;
+        double t4 = 0.5 * t0;
+        double t5 = x0r - t4;
+        double t6 = x1i - x2i;
+        double t7 = 0.8660254037844384 * t6;
+        double t8 = t5 + t7;
+        double t9 = 0.5 * t2;
+        double t10 = x0i - t9;
+        double t11 = x1r - x2r;
+        double t12 = 0.8660254037844384 * t11;
+        double t13 = t10 - t12;
+        double t14 = t5 - t7;
+        double t15 = t10 + t12;
+        a[offr] = t1;
+        a[offi] = t3;
+        a[offr + 2] = t8;
+        a[offi + 2] = t13;
+        a[offr + 4] = t14;
+        a[offi + 4] = t15;
+    }
+
+    static void cf4(double[] a, int offr, int offi) {
+        double x0r = a[offr];
+        double x0i = a[offi];
+        double x1r = a[offr + 2];
+        double x1i = a[offi + 2];
+        double x2r = a[offr + 4];
+        double x2i = a[offi + 4];
+        double x3r = a[offr + 6];
+        double x3i = a[offi + 6];
+        double t0 = x0r + x2r;
+        double t1 = x1r + x3r;
+        double t2 = t0 + t1;
+        double t3 = x0i + x2i;
+        double t4 = x1i + x3i;
+        double t5 = t3 + t4;
+        double t6 = x0r - x2r;
+        double t7 = x1i - x3i;
+        double t8 = t6 + t7;
+        double t9 = x0i - x2i;
+        double t10 = x3r - x1r;
+        double t11 = t9 + t10;
+        double t12 = t0 - t1;
+        double t13 = t3 - t4;
+        double t14 = t6 - t7;
+        double t15 = t9 - t10;
+        a[offr] = t2;
+        a[offi] = t5;
+        a[offr + 2] = t8;
+        a[offi + 2] = t11;
+        a[offr + 4] = t12;
+        a[offi + 4] = t13;
+        a[offr + 6] = t14;
+        a[offi + 6] = t15;
+    }
+
+    static void cf5(double[] a, int offr, int offi) {
+        double x0r = a[offr];
+        double x0i = a[offi];
+        double x1r = a[offr + 2];
+        double x1i = a[offi + 2];
+        double x2r = a[offr + 4];
+        double x2i = a[offi + 4];
+        double x3r = a[offr + 6];
+        double x3i = a[offi + 6];
+        double x4r = a[offr + 8];
+        double x4i = a[offi + 8];
+        double t0 = x2r + x3r;
+        double t1 = x1r + x4r;
+        double t2 = x0r + t1;
+        double t3 = t0 + t2;
+        double t4 = x2i + x3i;
+        double t5 = x1i + x4i;
+        double t6 = x0i + t5;
+        double t7 = t4 + t6;
+        double t8 = 0.30901699437494723 * t1;
+        double t9 = x0r + t8;
+        double t10 = 0.8090169943749476 * t0;
+        double t11 = t9 - t10;
+        double t12 = x1i - x4i;
+        double t13 = 0.9510565162951536 * t12;
+        double t14 = x2i - x3i;
+        double t15 = 0.587785252292473 * t14;
+        double t16 = t13 + t15;
+        double t17 = t11 + t16;
+        double t18 = 0.30901699437494723 * t5;
+        double t19 = x0i + t18;
+        double t20 = 0.8090169943749476 * t4;
+        double t21 = t19 - t20;
+        double t22 = x1r - x4r;
+        double t23 = 0.9510565162951536 * t22;
+        double t24 = x2r - x3r;
+        double t25 = 0.587785252292473 * t24;
+        double t26 = t23 + t25;
+        double t27 = t21 - t26;
+        double t28 = 0.8090169943749476 * t1;
+        double t29 = x0r - t28;
+        double t30 = 0.30901699437494745 * t0;
+        double t31 = t29 + t30;
+        double t32 = 0.9510565162951535 * t14;
+        double t33 = 0.587785252292473 * t12;
+        double t34 = t32 - t33;
+        double t35 = t31 - t34;
+        double t36 = 0.8090169943749476 * t5;
+        double t37 = x0i - t36;
+        double t38 = 0.30901699437494745 * t4;
+        double t39 = t37 + t38;
+        double t40 = 0.9510565162951535 * t24;
+        double t41 = 0.587785252292473 * t22;
+        double t42 = t40 - t41;
+        double t43 = t39 + t42;
+        double t44 = t31 + t34;
+        double t45 = t39 - t42;
+        double t46 = t11 - t16;
+        double t47 = t21 + t26;
+        a[offr] = t3;
+        a[offi] = t7;
+        a[offr + 2] = t17;
+        a[offi + 2] = t27;
+        a[offr + 4] = t35;
+        a[offi + 4] = t43;
+        a[offr + 6] = t44;
+        a[offi + 6] = t45;
+        a[offr + 8] = t46;
+        a[offi + 8] = t47;
+    }
+
+    static void cf6(double[] a, int offr, int offi) {
+        double x0r = a[offr];
+        double x0i = a[offi];
+        double x1r = a[offr + 2];
+        double x1i = a[offi + 2];
+        double x2r = a[offr + 4];
+        double x2i = a[offi + 4];
+        double x3r = a[offr + 6];
+        double x3i = a[offi + 6];
+        double x4r = a[offr + 8];
+        double x4i = a[offi + 8];
+        double x5r = a[offr + 10];
+        double x5i = a[offi + 10];
+        double t0 = x2r + x4r;
+        double t1 = x0r + t0;
+        double t2 = x3r + x5r;
+        double t3 = x1r + t2;
+        double t4 = t1 + t3;
+        double t5 = x2i + x4i;
+        double t6 = x0i + t5;
+        double t7 = x3i + x5i;
+        double t8 = x1i + t7;
+        double t9 = t6 + t8;
+        double t10 = 0.5 * t0;
+        double t11 = x0r - t10;
+        double t12 = x2i - x4i;
+        double t13 = 0.8660254037844384 * t12;
+        double t14 = t11 + t13;
+        double t15 = 0.5 * t2;
+        double t16 = x1r - t15;
+        double t17 = x3i - x5i;
+        double t18 = 0.8660254037844384 * t17;
+        double t19 = t16 + t18;
+        double t20 = 0.5 * t19;
+        double t21 = 0.5 * t7;
+        double t22 = x1i - t21;
+        double t23 = x3r - x5r;
+        double t24 = 0.8660254037844384 * t23;
+        double t25 = t22 - t24;
+        double t26 = 0.8660254037844386 * t25;
+        double t27 = t20 + t26;
+        double t28 = t14 + t27;
+        double t29 = 0.5 * t5;
+        double t30 = x0i - t29;
+        double t31 = x2r - x4r;
+        double t32 = 0.8660254037844384 * t31;
+        double t33 = t30 - t32;
+        double t34 = 0.5 * t25;
+        double t35 = 0.8660254037844386 * t19;
+        double t36 = t34 - t35;
+        double t37 = t33 + t36;
+        double t38 = t11 - t13;
+        double t39 = t22 + t24;
+        double t40 = 0.8660254037844384 * t39;
+        double t41 = t16 - t18;
+        double t42 = 0.5 * t41;
+        double t43 = t40 - t42;
+        double t44 = t38 + t43;
+        double t45 = t30 + t32;
+        double t46 = 0.5 * t39;
+        double t47 = 0.8660254037844384 * t41;
+        double t48 = t46 + t47;
+        double t49 = t45 - t48;
+        double t50 = t1 - t3;
+        double t51 = t6 - t8;
+        double t52 = t14 - t27;
+        double t53 = t33 - t36;
+        double t54 = t38 - t43;
+        double t55 = t45 + t48;
+        a[offr] = t4;
+        a[offi] = t9;
+        a[offr + 2] = t28;
+        a[offi + 2] = t37;
+        a[offr + 4] = t44;
+        a[offi + 4] = t49;
+        a[offr + 6] = t50;
+        a[offi + 6] = t51;
+        a[offr + 8] = t52;
+        a[offi + 8] = t53;
+        a[offr + 10] = t54;
+        a[offi + 10] = t55;
+    }
+
+    static void cf7(double[] a, int offr, int offi) {
+        double x0r = a[offr];
+        double x0i = a[offi];
+        double x1r = a[offr + 2];
+        double x1i = a[offi + 2];
+        double x2r = a[offr + 4];
+        double x2i = a[offi + 4];
+        double x3r = a[offr + 6];
+        double x3i = a[offi + 6];
+        double x4r = a[offr + 8];
+        double x4i = a[offi + 8];
+        double x5r = a[offr + 10];
+        double x5i = a[offi + 10];
+        double x6r = a[offr + 12];
+        double x6i = a[offi + 12];
+        double t0 = x3r + x4r;
+        double t1 = x2r + x5r;
+        double t2 = x1r + x6r;
+        double t3 = x0r + t2;
+        double t4 = t1 + t3;
+        double t5 = t0 + t4;
+        double t6 = x3i + x4i;
+        double t7 = x2i + x5i;
+        double t8 = x1i + x6i;
+        double t9 = x0i + t8;
+        double t10 = t7 + t9;
+        double t11 = t6 + t10;
+        double t12 = 0.6234898018587334 * t2;
+        double t13 = x0r + t12;
+        double t14 = 0.2225209339563146 * t1;
+        double t15 = t13 - t14;
+        double t16 = 0.9009688679024191 * t0;
+        double t17 = t15 - t16;
+        double t18 = x1i - x6i;
+        double t19 = 0.7818314824680299 * t18;
+        double t20 = x2i - x5i;
+        double t21 = 0.9749279121818236 * t20;
+        double t22 = t19 + t21;
+        double t23 = x3i - x4i;
+        double t24 = 0.433883739117558 * t23;
+        double t25 = t22 + t24;
+        double t26 = t17 + t25;
+        double t27 = 0.6234898018587334 * t8;
+        double t28 = x0i + t27;
+        double t29 = 0.2225209339563146 * t7;
+        double t30 = t28 - t29;
+        double t31 = 0.9009688679024191 * t6;
+        double t32 = t30 - t31;
+        double t33 = x1r - x6r;
+        double t34 = 0.7818314824680299 * t33;
+        double t35 = x2r - x5r;
+        double t36 = 0.9749279121818236 * t35;
+        double t37 = t34 + t36;
+        double t38 = x3r - x4r;
+        double t39 = 0.433883739117558 * t38;
+        double t40 = t37 + t39;
+        double t41 = t32 - t40;
+        double t42 = 0.2225209339563146 * t2;
+        double t43 = x0r - t42;
+        double t44 = 0.900968867902419 * t1;
+        double t45 = t43 - t44;
+        double t46 = 0.6234898018587336 * t0;
+        double t47 = t45 + t46;
+        double t48 = 0.43388373911755823 * t20;
+        double t49 = 0.9749279121818236 * t18;
+        double t50 = t48 - t49;
+        double t51 = 0.7818314824680298 * t23;
+        double t52 = t50 + t51;
+        double t53 = t47 - t52;
+        double t54 = 0.2225209339563146 * t8;
+        double t55 = x0i - t54;
+        double t56 = 0.900968867902419 * t7;
+        double t57 = t55 - t56;
+        double t58 = 0.6234898018587336 * t6;
+        double t59 = t57 + t58;
+        double t60 = 0.43388373911755823 * t35;
+        double t61 = 0.9749279121818236 * t33;
+        double t62 = t60 - t61;
+        double t63 = 0.7818314824680298 * t38;
+        double t64 = t62 + t63;
+        double t65 = t59 + t64;
+        double t66 = 0.9009688679024191 * t2;
+        double t67 = x0r - t66;
+        double t68 = 0.6234898018587336 * t1;
+        double t69 = t67 + t68;
+        double t70 = 0.2225209339563146 * t0;
+        double t71 = t69 - t70;
+        double t72 = 0.7818314824680298 * t20;
+        double t73 = 0.433883739117558 * t18;
+        double t74 = t72 - t73;
+        double t75 = 0.9749279121818236 * t23;
+        double t76 = t74 - t75;
+        double t77 = t71 - t76;
+        double t78 = 0.9009688679024191 * t8;
+        double t79 = x0i - t78;
+        double t80 = 0.6234898018587336 * t7;
+        double t81 = t79 + t80;
+        double t82 = 0.2225209339563146 * t6;
+        double t83 = t81 - t82;
+        double t84 = 0.7818314824680298 * t35;
+        double t85 = 0.433883739117558 * t33;
+        double t86 = t84 - t85;
+        double t87 = 0.9749279121818236 * t38;
+        double t88 = t86 - t87;
+        double t89 = t83 + t88;
+        double t90 = t71 + t76;
+        double t91 = t83 - t88;
+        double t92 = t47 + t52;
+        double t93 = t59 - t64;
+        double t94 = t17 - t25;
+        double t95 = t32 + t40;
+        a[offr] = t5;
+        a[offi] = t11;
+        a[offr + 2] = t26;
+        a[offi + 2] = t41;
+        a[offr + 4] = t53;
+        a[offi + 4] = t65;
+        a[offr + 6] = t77;
+        a[offi + 6] = t89;
+        a[offr + 8] = t90;
+        a[offi + 8] = t91;
+        a[offr + 10] = t92;
+        a[offi + 10] = t93;
+        a[offr + 12] = t94;
+        a[offi + 12] = t95;
+    }
+
+    static void cf8(double[] a, int offr, int offi) {
+        double x0r = a[offr];
+        double x0i = a[offi];
+        double x1r = a[offr + 2];
+        double x1i = a[offi + 2];
+        double x2r = a[offr + 4];
+        double x2i = a[offi + 4];
+        double x3r = a[offr + 6];
+        double x3i = a[offi + 6];
+        double x4r = a[offr + 8];
+        double x4i = a[offi + 8];
+        double x5r = a[offr + 10];
+        double x5i = a[offi + 10];
+        double x6r = a[offr + 12];
+        double x6i = a[offi + 12];
+        double x7r = a[offr + 14];
+        double x7i = a[offi + 14];
+        double t0 = x0r + x4r;
+        double t1 = x2r + x6r;
+        double t2 = t0 + t1;
+        double t3 = x1r + x5r;
+        double t4 = x3r + x7r;
+        double t5 = t3 + t4;
+        double t6 = t2 + t5;
+        double t7 = x0i + x4i;
+        double t8 = x2i + x6i;
+        double t9 = t7 + t8;
+        double t10 = x1i + x5i;
+        double t11 = x3i + x7i;
+        double t12 = t10 + t11;
+        double t13 = t9 + t12;
+        double t14 = x0r - x4r;
+        double t15 = x2i - x6i;
+        double t16 = t14 + t15;
+        double t17 = x1r - x5r;
+        double t18 = x3i - x7i;
+        double t19 = t17 + t18;
+        double t20 = x1i - x5i;
+        double t21 = x7r - x3r;
+        double t22 = t20 + t21;
+        double t23 = t19 + t22;
+        double t24 = 0.7071067811865476 * t23;
+        double t25 = t16 + t24;
+        double t26 = x0i - x4i;
+        double t27 = x6r - x2r;
+        double t28 = t26 + t27;
+        double t29 = t22 - t19;
+        double t30 = 0.7071067811865476 * t29;
+        double t31 = t28 + t30;
+        double t32 = t0 - t1;
+        double t33 = t10 - t11;
+        double t34 = t32 + t33;
+        double t35 = t7 - t8;
+        double t36 = t4 - t3;
+        double t37 = t35 + t36;
+        double t38 = t14 - t15;
+        double t39 = t17 - t18;
+        double t40 = t20 - t21;
+        double t41 = t39 - t40;
+        double t42 = 0.7071067811865476 * t41;
+        double t43 = t38 - t42;
+        double t44 = t26 - t27;
+        double t45 = t39 + t40;
+        double t46 = 0.7071067811865476 * t45;
+        double t47 = t44 - t46;
+        double t48 = t2 - t5;
+        double t49 = t9 - t12;
+        double t50 = t16 - t24;
+        double t51 = t28 - t30;
+        double t52 = t32 - t33;
+        double t53 = t35 - t36;
+        double t54 = t38 + t42;
+        double t55 = t44 + t46;
+        a[offr] = t6;
+        a[offi] = t13;
+        a[offr + 2] = t25;
+        a[offi + 2] = t31;
+        a[offr + 4] = t34;
+        a[offi + 4] = t37;
+        a[offr + 6] = t43;
+        a[offi + 6] = t47;
+        a[offr + 8] = t48;
+        a[offi + 8] = t49;
+        a[offr + 10] = t50;
+        a[offi + 10] = t51;
+        a[offr + 12] = t52;
+        a[offi + 12] = t53;
+        a[offr + 14] = t54;
+        a[offi + 14] = t55;
+    }
+
+    static void cf9(double[] a, int offr, int offi) {
+        double x0r = a[offr];
+        double x0i = a[offi];
+        double x1r = a[offr + 2];
+        double x1i = a[offi + 2];
+        double x2r = a[offr + 4];
+        double x2i = a[offi + 4];
+        double x3r = a[offr + 6];
+        double x3i = a[offi + 6];
+        double x4r = a[offr + 8];
+        double x4i = a[offi + 8];
+        double x5r = a[offr + 10];
+        double x5i = a[offi + 10];
+        double x6r = a[offr + 12];
+        double x6i = a[offi + 12];
+        double x7r = a[offr + 14];
+        double x7i = a[offi + 14];
+        double x8r = a[offr + 16];
+        double x8i = a[offi + 16];
+        double t0 = x3r + x6r;
+        double t1 = x0r + t0;
+        double t2 = x4r + x7r;
+        double t3 = x1r + t2;
+        double t4 = x5r + x8r;
+        double t5 = x2r + t4;
+        double t6 = t3 + t5;
+        double t7 = t1 + t6;
+        double t8 = x3i + x6i;
+        double t9 = x0i + t8;
+        double t10 = x4i + x7i;
+        double t11 = x1i + t10;
+        double t12 = x5i + x8i;
+        double t13 = x2i + t12;
+        double t14 = t11 + t13;
+        double t15 = t9 + t14;
+        double t16 = 0.5 * t0;
+        double t17 = x0r - t16;
+        double t18 = x3i - x6i;
+        double t19 = 0.8660254037844384 * t18;
+        double t20 = t17 + t19;
+        double t21 = 0.5 * t2;
+        double t22 = x1r - t21;
+        double t23 = x4i - x7i;
+        double t24 = 0.8660254037844384 * t23;
+        double t25 = t22 + t24;
+        double t26 = 0.7660444431189778 * t25;
+        double t27 = 0.5 * t10;
+        double t28 = x1i - t27;
+        double t29 = x4r - x7r;
+        double t30 = 0.8660254037844384 * t29;
+        double t31 = t28 - t30;
+        double t32 = 0.6427876096865396 * t31;
+        double t33 = t26 + t32;
+        double t34 = 0.5 * t4;
+        double t35 = x2r - t34;
+        double t36 = x5i - x8i;
+        double t37 = 0.8660254037844384 * t36;
+        double t38 = t35 + t37;
+        double t39 = 0.17364817766692997 * t38;
+        double t40 = 0.5 * t12;
+        double t41 = x2i - t40;
+        double t42 = x5r - x8r;
+        double t43 = 0.8660254037844384 * t42;
+        double t44 = t41 - t43;
+        double t45 = 0.9848077530122081 * t44;
+        double t46 = t39 + t45;
+        double t47 = t33 + t46;
+        double t48 = t20 + t47;
+        double t49 = 0.5 * t8;
+        double t50 = x0i - t49;
+        double t51 = x3r - x6r;
+        double t52 = 0.8660254037844384 * t51;
+        double t53 = t50 - t52;
+        double t54 = 0.7660444431189778 * t31;
+        double t55 = 0.6427876096865396 * t25;
+        double t56 = t54 - t55;
+        double t57 = 0.17364817766692997 * t44;
+        double t58 = 0.9848077530122081 * t38;
+        double t59 = t57 - t58;
+        double t60 = t56 + t59;
+        double t61 = t53 + t60;
+        double t62 = t17 - t19;
+        double t63 = t22 - t24;
+        double t64 = 0.17364817766692997 * t63;
+        double t65 = t28 + t30;
+        double t66 = 0.9848077530122081 * t65;
+        double t67 = t64 + t66;
+        double t68 = t41 + t43;
+        double t69 = 0.34202014332566866 * t68;
+        double t70 = t35 - t37;
+        double t71 = 0.9396926207859084 * t70;
+        double t72 = t69 - t71;
+        double t73 = t67 + t72;
+        double t74 = t62 + t73;
+        double t75 = t50 + t52;
+        double t76 = 0.17364817766692997 * t65;
+        double t77 = 0.9848077530122081 * t63;
+        double t78 = t76 - t77;
+        double t79 = 0.9396926207859084 * t68;
+        double t80 = 0.34202014332566866 * t70;
+        double t81 = t79 + t80;
+        double t82 = t78 - t81;
+        double t83 = t75 + t82;
+        double t84 = 0.5 * t6;
+        double t85 = t1 - t84;
+        double t86 = t11 - t13;
+        double t87 = 0.8660254037844384 * t86;
+        double t88 = t85 + t87;
+        double t89 = 0.5 * t14;
+        double t90 = t9 - t89;
+        double t91 = t3 - t5;
+        double t92 = 0.8660254037844384 * t91;
+        double t93 = t90 - t92;
+        double t94 = 0.5 * t47;
+        double t95 = t20 - t94;
+        double t96 = t56 - t59;
+        double t97 = 0.8660254037844384 * t96;
+        double t98 = t95 + t97;
+        double t99 = 0.5 * t60;
+        double t100 = t53 - t99;
+        double t101 = t33 - t46;
+        double t102 = 0.8660254037844384 * t101;
+        double t103 = t100 - t102;
+        double t104 = 0.5 * t73;
+        double t105 = t62 - t104;
+        double t106 = t78 + t81;
+        double t107 = 0.8660254037844384 * t106;
+        double t108 = t105 + t107;
+        double t109 = 0.5 * t82;
+        double t110 = t75 - t109;
+        double t111 = t67 - t72;
+        double t112 = 0.8660254037844384 * t111;
+        double t113 = t110 - t112;
+        double t114 = t85 - t87;
+        double t115 = t90 + t92;
+        double t116 = t95 - t97;
+        double t117 = t100 + t102;
+        double t118 = t105 - t107;
+        double t119 = t110 + t112;
+        a[offr] = t7;
+        a[offi] = t15;
+        a[offr + 2] = t48;
+        a[offi + 2] = t61;
+        a[offr + 4] = t74;
+        a[offi + 4] = t83;
+        a[offr + 6] = t88;
+        a[offi + 6] = t93;
+        a[offr + 8] = t98;
+        a[offi + 8] = t103;
+        a[offr + 10] = t108;
+        a[offi + 10] = t113;
+        a[offr + 12] = t114;
+        a[offi + 12] = t115;
+        a[offr + 14] = t116;
+        a[offi + 14] = t117;
+        a[offr + 16] = t118;
+        a[offi + 16] = t119;
+    }
+
+    static void cf10(double[] a, int offr, int offi) {
+        double x0r = a[offr];
+        double x0i = a[offi];
+        double x1r = a[offr + 2];
+        double x1i = a[offi + 2];
+        double x2r = a[offr + 4];
+        double x2i = a[offi + 4];
+        double x3r = a[offr + 6];
+        double x3i = a[offi + 6];
+        double x4r = a[offr + 8];
+        double x4i = a[offi + 8];
+        double x5r = a[offr + 10];
+        double x5i = a[offi + 10];
+        double x6r = a[offr + 12];
+        double x6i = a[offi + 12];
+        double x7r = a[offr + 14];
+        double x7i = a[offi + 14];
+        double x8r = a[offr + 16];
+        double x8i = a[offi + 16];
+        double x9r = a[offr + 18];
+        double x9i = a[offi + 18];
+        double t0 = x4r + x6r;
+        double t1 = x2r + x8r;
+        double t2 = x0r + t1;
+        double t3 = t0 + t2;
+        double t4 = x5r + x7r;
+        double t5 = x3r + x9r;
+        double t6 = x1r + t5;
+        double t7 = t4 + t6;
+        double t8 = t3 + t7;
+        double t9 = x4i + x6i;
+        double t10 = x2i + x8i;
+        double t11 = x0i + t10;
+        double t12 = t9 + t11;
+        double t13 = x5i + x7i;
+        double t14 = x3i + x9i;
+        double t15 = x1i + t14;
+        double t16 = t13 + t15;
+        double t17 = t12 + t16;
+        double t18 = 0.30901699437494723 * t1;
+        double t19 = x0r + t18;
+        double t20 = 0.8090169943749476 * t0;
+        double t21 = t19 - t20;
+        double t22 = x2i - x8i;
+        double t23 = 0.9510565162951536 * t22;
+        double t24 = x4i - x6i;
+        double t25 = 0.587785252292473 * t24;
+        double t26 = t23 + t25;
+        double t27 = t21 + t26;
+        double t28 = 0.30901699437494723 * t5;
+        double t29 = x1r + t28;
+        double t30 = 0.8090169943749476 * t4;
+        double t31 = t29 - t30;
+        double t32 = x3i - x9i;
+        double t33 = 0.9510565162951536 * t32;
+        double t34 = x5i - x7i;
+        double t35 = 0.587785252292473 * t34;
+        double t36 = t33 + t35;
+        double t37 = t31 + t36;
+        double t38 = 0.8090169943749473 * t37;
+        double t39 = 0.30901699437494723 * t14;
+        double t40 = x1i + t39;
+        double t41 = 0.8090169943749476 * t13;
+        double t42 = t40 - t41;
+        double t43 = x3r - x9r;
+        double t44 = 0.9510565162951536 * t43;
+        double t45 = x5r - x7r;
+        double t46 = 0.587785252292473 * t45;
+        double t47 = t44 + t46;
+        double t48 = t42 - t47;
+        double t49 = 0.5877852522924734 * t48;
+        double t50 = t38 + t49;
+        double t51 = t27 + t50;
+        double t52 = 0.30901699437494723 * t10;
+        double t53 = x0i + t52;
+        double t54 = 0.8090169943749476 * t9;
+        double t55 = t53 - t54;
+        double t56 = x2r - x8r;
+        double t57 = 0.9510565162951536 * t56;
+        double t58 = x4r - x6r;
+        double t59 = 0.587785252292473 * t58;
+        double t60 = t57 + t59;
+        double t61 = t55 - t60;
+        double t62 = 0.8090169943749473 * t48;
+        double t63 = 0.5877852522924734 * t37;
+        double t64 = t62 - t63;
+        double t65 = t61 + t64;
+        double t66 = 0.8090169943749476 * t1;
+        double t67 = x0r - t66;
+        double t68 = 0.30901699437494745 * t0;
+        double t69 = t67 + t68;
+        double t70 = 0.9510565162951535 * t24;
+        double t71 = 0.587785252292473 * t22;
+        double t72 = t70 - t71;
+        double t73 = t69 - t72;
+        double t74 = 0.8090169943749476 * t5;
+        double t75 = x1r - t74;
+        double t76 = 0.30901699437494745 * t4;
+        double t77 = t75 + t76;
+        double t78 = 0.9510565162951535 * t34;
+        double t79 = 0.587785252292473 * t32;
+        double t80 = t78 - t79;
+        double t81 = t77 - t80;
+        double t82 = 0.30901699437494723 * t81;
+        double t83 = 0.8090169943749476 * t14;
+        double t84 = x1i - t83;
+        double t85 = 0.30901699437494745 * t13;
+        double t86 = t84 + t85;
+        double t87 = 0.9510565162951535 * t45;
+        double t88 = 0.587785252292473 * t43;
+        double t89 = t87 - t88;
+        double t90 = t86 + t89;
+        double t91 = 0.9510565162951536 * t90;
+        double t92 = t82 + t91;
+        double t93 = t73 + t92;
+        double t94 = 0.8090169943749476 * t10;
+        double t95 = x0i - t94;
+        double t96 = 0.30901699437494745 * t9;
+        double t97 = t95 + t96;
+        double t98 = 0.9510565162951535 * t58;
+        double t99 = 0.587785252292473 * t56;
+        double t100 = t98 - t99;
+        double t101 = t97 + t100;
+        double t102 = 0.30901699437494723 * t90;
+        double t103 = 0.9510565162951536 * t81;
+        double t104 = t102 - t103;
+        double t105 = t101 + t104;
+        double t106 = t69 + t72;
+        double t107 = t86 - t89;
+        double t108 = 0.9510565162951535 * t107;
+        double t109 = t77 + t80;
+        double t110 = 0.30901699437494756 * t109;
+        double t111 = t108 - t110;
+        double t112 = t106 + t111;
+        double t113 = t97 - t100;
+        double t114 = 0.30901699437494756 * t107;
+        double t115 = 0.9510565162951535 * t109;
+        double t116 = t114 + t115;
+        double t117 = t113 - t116;
+        double t118 = t21 - t26;
+        double t119 = t42 + t47;
+        double t120 = 0.587785252292473 * t119;
+        double t121 = t31 - t36;
+        double t122 = 0.8090169943749476 * t121;
+        double t123 = t120 - t122;
+        double t124 = t118 + t123;
+        double t125 = t55 + t60;
+        double t126 = 0.8090169943749476 * t119;
+        double t127 = 0.587785252292473 * t121;
+        double t128 = t126 + t127;
+        double t129 = t125 - t128;
+        double t130 = t3 - t7;
+        double t131 = t12 - t16;
+        double t132 = t27 - t50;
+        double t133 = t61 - t64;
+        double t134 = t73 - t92;
+        double t135 = t101 - t104;
+        double t136 = t106 - t111;
+        double t137 = t113 + t116;
+        double t138 = t118 - t123;
+        double t139 = t125 + t128;
+        a[offr] = t8;
+        a[offi] = t17;
+        a[offr + 2] = t51;
+        a[offi + 2] = t65;
+        a[offr + 4] = t93;
+        a[offi + 4] = t105;
+        a[offr + 6] = t112;
+        a[offi + 6] = t117;
+        a[offr + 8] = t124;
+        a[offi + 8] = t129;
+        a[offr + 10] = t130;
+        a[offi + 10] = t131;
+        a[offr + 12] = t132;
+        a[offi + 12] = t133;
+        a[offr + 14] = t134;
+        a[offi + 14] = t135;
+        a[offr + 16] = t136;
+        a[offi + 16] = t137;
+        a[offr + 18] = t138;
+        a[offi + 18] = t139;
+    }
+
+    static void cf11(double[] a, int offr, int offi) {
+        double x0r = a[offr];
+        double x0i = a[offi];
+        double x1r = a[offr + 2];
+        double x1i = a[offi + 2];
+        double x2r = a[offr + 4];
+        double x2i = a[offi + 4];
+        double x3r = a[offr + 6];
+        double x3i = a[offi + 6];
+        double x4r = a[offr + 8];
+        double x4i = a[offi + 8];
+        double x5r = a[offr + 10];
+        double x5i = a[offi + 10];
+        double x6r = a[offr + 12];
+        double x6i = a[offi + 12];
+        double x7r = a[offr + 14];
+        double x7i = a[offi + 14];
+        double x8r = a[offr + 16];
+        double x8i = a[offi + 16];
+        double x9r = a[offr + 18];
+        double x9i = a[offi + 18];
+        double x10r = a[offr + 20];
+        double x10i = a[offi + 20];
+        double t0 = x5r + x6r;
+        double t1 = x4r + x7r;
+        double t2 = x3r + x8r;
+        double t3 = x2r + x9r;
+        double t4 = x1r + x10r;
+        double t5 = x0r + t4;
+        double t6 = t3 + t5;
+        double t7 = t2 + t6;
+        double t8 = t1 + t7;
+        double t9 = t0 + t8;
+        double t10 = x5i + x6i;
+        double t11 = x4i + x7i;
+        double t12 = x3i + x8i;
+        double t13 = x2i + x9i;
+        double t14 = x1i + x10i;
+        double t15 = x0i + t14;
+        double t16 = t13 + t15;
+        double t17 = t12 + t16;
+        double t18 = t11 + t17;
+        double t19 = t10 + t18;
+        double t20 = 0.8412535328311808 * t4;
+        double t21 = x0r + t20;
+        double t22 = 0.4154150130018868 * t3;
+        double t23 = t21 + t22;
+        double t24 = 0.14231483827328523 * t2;
+        double t25 = t23 - t24;
+        double t26 = 0.6548607339452852 * t1;
+        double t27 = t25 - t26;
+        double t28 = 0.9594929736144975 * t0;
+        double t29 = t27 - t28;
+        double t30 = x1i - x10i;
+        double t31 = 0.5406408174555982 * t30;
+        double t32 = x2i - x9i;
+        double t33 = 0.9096319953545182 * t32;
+        double t34 = t31 + t33;
+        double t35 = x3i - x8i;
+        double t36 = 0.9898214418809327 * t35;
+        double t37 = t34 + t36;
+        double t38 = x4i - x7i;
+        double t39 = 0.7557495743542582 * t38;
+        double t40 = t37 + t39;
+        double t41 = x5i - x6i;
+        double t42 = 0.2817325568414294 * t41;
+        double t43 = t40 + t42;
+        double t44 = t29 + t43;
+        double t45 = 0.8412535328311808 * t14;
+        double t46 = x0i + t45;
+        double t47 = 0.4154150130018868 * t13;
+        double t48 = t46 + t47;
+        double t49 = 0.14231483827328523 * t12;
+        double t50 = t48 - t49;
+        double t51 = 0.6548607339452852 * t11;
+        double t52 = t50 - t51;
+        double t53 = 0.9594929736144975 * t10;
+        double t54 = t52 - t53;
+        double t55 = x1r - x10r;
+        double t56 = 0.5406408174555982 * t55;
+        double t57 = x2r - x9r;
+        double t58 = 0.9096319953545182 * t57;
+        double t59 = t56 + t58;
+        double t60 = x3r - x8r;
+        double t61 = 0.9898214418809327 * t60;
+        double t62 = t59 + t61;
+        double t63 = x4r - x7r;
+        double t64 = 0.7557495743542582 * t63;
+        double t65 = t62 + t64;
+        double t66 = x5r - x6r;
+        double t67 = 0.2817325568414294 * t66;
+        double t68 = t65 + t67;
+        double t69 = t54 - t68;
+        double t70 = 0.4154150130018868 * t4;
+        double t71 = x0r + t70;
+        double t72 = 0.6548607339452852 * t3;
+        double t73 = t71 - t72;
+        double t74 = 0.9594929736144973 * t2;
+        double t75 = t73 - t74;
+        double t76 = 0.142314838273285 * t1;
+        double t77 = t75 - t76;
+        double t78 = 0.8412535328311812 * t0;
+        double t79 = t77 + t78;
+        double t80 = 0.28173255684143006 * t35;
+        double t81 = 0.9096319953545182 * t30;
+        double t82 = 0.7557495743542582 * t32;
+        double t83 = t81 + t82;
+        double t84 = t80 - t83;
+        double t85 = 0.9898214418809328 * t38;
+        double t86 = t84 + t85;
+        double t87 = 0.5406408174555976 * t41;
+        double t88 = t86 + t87;
+        double t89 = t79 - t88;
+        double t90 = 0.4154150130018868 * t14;
+        double t91 = x0i + t90;
+        double t92 = 0.6548607339452852 * t13;
+        double t93 = t91 - t92;
+        double t94 = 0.9594929736144973 * t12;
+        double t95 = t93 - t94;
+        double t96 = 0.142314838273285 * t11;
+        double t97 = t95 - t96;
+        double t98 = 0.8412535328311812 * t10;
+        double t99 = t97 + t98;
+        double t100 = 0.28173255684143006 * t60;
+        double t101 = 0.9096319953545182 * t55;
+        double t102 = 0.7557495743542582 * t57;
+        double t103 = t101 + t102;
+        double t104 = t100 - t103;
+        double t105 = 0.9898214418809328 * t63;
+        double t106 = t104 + t105;
+        double t107 = 0.5406408174555976 * t66;
+        double t108 = t106 + t107;
+        double t109 = t99 + t108;
+        double t110 = 0.14231483827328523 * t4;
+        double t111 = x0r - t110;
+        double t112 = 0.9594929736144973 * t3;
+        double t113 = t111 - t112;
+        double t114 = 0.41541501300188644 * t2;
+        double t115 = t113 + t114;
+        double t116 = 0.8412535328311808 * t1;
+        double t117 = t115 + t116;
+        double t118 = 0.6548607339452852 * t0;
+        double t119 = t117 - t118;
+        double t120 = 0.28173255684143006 * t32;
+        double t121 = 0.9898214418809327 * t30;
+        double t122 = t120 - t121;
+        double t123 = 0.9096319953545183 * t35;
+        double t124 = t122 + t123;
+        double t125 = 0.5406408174555982 * t38;
+        double t126 = t124 - t125;
+        double t127 = 0.7557495743542582 * t41;
+        double t128 = t126 - t127;
+        double t129 = t119 - t128;
+        double t130 = 0.14231483827328523 * t14;
+        double t131 = x0i - t130;
+        double t132 = 0.9594929736144973 * t13;
+        double t133 = t131 - t132;
+        double t134 = 0.41541501300188644 * t12;
+        double t135 = t133 + t134;
+        double t136 = 0.8412535328311808 * t11;
+        double t137 = t135 + t136;
+        double t138 = 0.6548607339452852 * t10;
+        double t139 = t137 - t138;
+        double t140 = 0.28173255684143006 * t57;
+        double t141 = 0.9898214418809327 * t55;
+        double t142 = t140 - t141;
+        double t143 = 0.9096319953545183 * t60;
+        double t144 = t142 + t143;
+        double t145 = 0.5406408174555982 * t63;
+        double t146 = t144 - t145;
+        double t147 = 0.7557495743542582 * t66;
+        double t148 = t146 - t147;
+        double t149 = t139 + t148;
+        double t150 = 0.6548607339452852 * t4;
+        double t151 = x0r - t150;
+        double t152 = 0.142314838273285 * t3;
+        double t153 = t151 - t152;
+        double t154 = 0.8412535328311808 * t2;
+        double t155 = t153 + t154;
+        double t156 = 0.9594929736144975 * t1;
+        double t157 = t155 - t156;
+        double t158 = 0.41541501300188644 * t0;
+        double t159 = t157 + t158;
+        double t160 = 0.9898214418809328 * t32;
+        double t161 = 0.7557495743542582 * t30;
+        double t162 = t160 - t161;
+        double t163 = 0.5406408174555982 * t35;
+        double t164 = t162 - t163;
+        double t165 = 0.2817325568414294 * t38;
+        double t166 = t164 - t165;
+        double t167 = 0.9096319953545183 * t41;
+        double t168 = t166 + t167;
+        double t169 = t159 - t168;
+        double t170 = 0.6548607339452852 * t14;
+        double t171 = x0i - t170;
+        double t172 = 0.142314838273285 * t13;
+        double t173 = t171 - t172;
+        double t174 = 0.8412535328311808 * t12;
+        double t175 = t173 + t174;
+        double t176 = 0.9594929736144975 * t11;
+        double t177 = t175 - t176;
+        double t178 = 0.41541501300188644 * t10;
+        double t179 = t177 + t178;
+        double t180 = 0.9898214418809328 * t57;
+        double t181 = 0.7557495743542582 * t55;
+        double t182 = t180 - t181;
+        double t183 = 0.5406408174555982 * t60;
+        double t184 = t182 - t183;
+        double t185 = 0.2817325568414294 * t63;
+        double t186 = t184 - t185;
+        double t187 = 0.9096319953545183 * t66;
+        double t188 = t186 + t187;
+        double t189 = t179 + t188;
+        double t190 = 0.9594929736144975 * t4;
+        double t191 = x0r - t190;
+        double t192 = 0.8412535328311812 * t3;
+        double t193 = t191 + t192;
+        double t194 = 0.6548607339452852 * t2;
+        double t195 = t193 - t194;
+        double t196 = 0.41541501300188644 * t1;
+        double t197 = t195 + t196;
+        double t198 = 0.14231483827328523 * t0;
+        double t199 = t197 - t198;
+        double t200 = 0.5406408174555976 * t32;
+        double t201 = 0.2817325568414294 * t30;
+        double t202 = t200 - t201;
+        double t203 = 0.7557495743542582 * t35;
+        double t204 = t202 - t203;
+        double t205 = 0.9096319953545183 * t38;
+        double t206 = t204 + t205;
+        double t207 = 0.9898214418809327 * t41;
+        double t208 = t206 - t207;
+        double t209 = t199 - t208;
+        double t210 = 0.9594929736144975 * t14;
+        double t211 = x0i - t210;
+        double t212 = 0.8412535328311812 * t13;
+        double t213 = t211 + t212;
+        double t214 = 0.6548607339452852 * t12;
+        double t215 = t213 - t214;
+        double t216 = 0.41541501300188644 * t11;
+        double t217 = t215 + t216;
+        double t218 = 0.14231483827328523 * t10;
+        double t219 = t217 - t218;
+        double t220 = 0.5406408174555976 * t57;
+        double t221 = 0.2817325568414294 * t55;
+        double t222 = t220 - t221;
+        double t223 = 0.7557495743542582 * t60;
+        double t224 = t222 - t223;
+        double t225 = 0.9096319953545183 * t63;
+        double t226 = t224 + t225;
+        double t227 = 0.9898214418809327 * t66;
+        double t228 = t226 - t227;
+        double t229 = t219 + t228;
+        double t230 = t199 + t208;
+        double t231 = t219 - t228;
+        double t232 = t159 + t168;
+        double t233 = t179 - t188;
+        double t234 = t119 + t128;
+        double t235 = t139 - t148;
+        double t236 = t79 + t88;
+        double t237 = t99 - t108;
+        double t238 = t29 - t43;
+        double t239 = t54 + t68;
+        a[offr] = t9;
+        a[offi] = t19;
+        a[offr + 2] = t44;
+        a[offi + 2] = t69;
+        a[offr + 4] = t89;
+        a[offi + 4] = t109;
+        a[offr + 6] = t129;
+        a[offi + 6] = t149;
+        a[offr + 8] = t169;
+        a[offi + 8] = t189;
+        a[offr + 10] = t209;
+        a[offi + 10] = t229;
+        a[offr + 12] = t230;
+        a[offi + 12] = t231;
+        a[offr + 14] = t232;
+        a[offi + 14] = t233;
+        a[offr + 16] = t234;
+        a[offi + 16] = t235;
+        a[offr + 18] = t236;
+        a[offi + 18] = t237;
+        a[offr + 20] = t238;
+        a[offi + 20] = t239;
+    }
+
+    static void cf12(double[] a, int offr, int offi) {
+        double x0r = a[offr];
+        double x0i = a[offi];
+        double x1r = a[offr + 2];
+        double x1i = a[offi + 2];
+        double x2r = a[offr + 4];
+        double x2i = a[offi + 4];
+        double x3r = a[offr + 6];
+        double x3i = a[offi + 6];
+        double x4r = a[offr + 8];
+        double x4i = a[offi + 8];
+        double x5r = a[offr + 10];
+        double x5i = a[offi + 10];
+        double x6r = a[offr + 12];
+        double x6i = a[offi + 12];
+        double x7r = a[offr + 14];
+        double x7i = a[offi + 14];
+        double x8r = a[offr + 16];
+        double x8i = a[offi + 16];
+        double x9r = a[offr + 18];
+        double x9i = a[offi + 18];
+        double x10r = a[offr + 20];
+        double x10i = a[offi + 20];
+        double x11r = a[offr + 22];
+        double x11i = a[offi + 22];
+        double t0 = x4r + x8r;
+        double t1 = x0r + t0;
+        double t2 = x6r + x10r;
+        double t3 = x2r + t2;
+        double t4 = t1 + t3;
+        double t5 = x5r + x9r;
+        double t6 = x1r + t5;
+        double t7 = x7r + x11r;
+        double t8 = x3r + t7;
+        double t9 = t6 + t8;
+        double t10 = t4 + t9;
+        double t11 = x4i + x8i;
+        double t12 = x0i + t11;
+        double t13 = x6i + x10i;
+        double t14 = x2i + t13;
+        double t15 = t12 + t14;
+        double t16 = x5i + x9i;
+        double t17 = x1i + t16;
+        double t18 = x7i + x11i;
+        double t19 = x3i + t18;
+        double t20 = t17 + t19;
+        double t21 = t15 + t20;
+        double t22 = 0.5 * t0;
+        double t23 = x0r - t22;
+        double t24 = x4i - x8i;
+        double t25 = 0.8660254037844384 * t24;
+        double t26 = t23 + t25;
+        double t27 = 0.5 * t2;
+        double t28 = x2r - t27;
+        double t29 = x6i - x10i;
+        double t30 = 0.8660254037844384 * t29;
+        double t31 = t28 + t30;
+        double t32 = 0.5 * t31;
+        double t33 = 0.5 * t13;
+        double t34 = x2i - t33;
+        double t35 = x6r - x10r;
+        double t36 = 0.8660254037844384 * t35;
+        double t37 = t34 - t36;
+        double t38 = 0.8660254037844386 * t37;
+        double t39 = t32 + t38;
+        double t40 = t26 + t39;
+        double t41 = 0.5 * t18;
+        double t42 = x3i - t41;
+        double t43 = x7r - x11r;
+        double t44 = 0.8660254037844384 * t43;
+        double t45 = t42 - t44;
+        double t46 = 0.5 * t5;
+        double t47 = x1r - t46;
+        double t48 = x5i - x9i;
+        double t49 = 0.8660254037844384 * t48;
+        double t50 = t47 + t49;
+        double t51 = 0.8660254037844384 * t50;
+        double t52 = 0.5 * t16;
+        double t53 = x1i - t52;
+        double t54 = x5r - x9r;
+        double t55 = 0.8660254037844384 * t54;
+        double t56 = t53 - t55;
+        double t57 = 0.5 * t56;
+        double t58 = t51 + t57;
+        double t59 = t45 + t58;
+        double t60 = t40 + t59;
+        double t61 = 0.5 * t11;
+        double t62 = x0i - t61;
+        double t63 = x4r - x8r;
+        double t64 = 0.8660254037844384 * t63;
+        double t65 = t62 - t64;
+        double t66 = 0.5 * t37;
+        double t67 = 0.8660254037844386 * t31;
+        double t68 = t66 - t67;
+        double t69 = t65 + t68;
+        double t70 = 0.8660254037844384 * t56;
+        double t71 = 0.5 * t50;
+        double t72 = t70 - t71;
+        double t73 = 0.5 * t7;
+        double t74 = x3r - t73;
+        double t75 = x7i - x11i;
+        double t76 = 0.8660254037844384 * t75;
+        double t77 = t74 + t76;
+        double t78 = t72 - t77;
+        double t79 = t69 + t78;
+        double t80 = t23 - t25;
+        double t81 = t34 + t36;
+        double t82 = 0.8660254037844384 * t81;
+        double t83 = t28 - t30;
+        double t84 = 0.5 * t83;
+        double t85 = t82 - t84;
+        double t86 = t80 + t85;
+        double t87 = t47 - t49;
+        double t88 = 0.5 * t87;
+        double t89 = t53 + t55;
+        double t90 = 0.8660254037844386 * t89;
+        double t91 = t88 + t90;
+        double t92 = t76 - t74;
+        double t93 = t91 + t92;
+        double t94 = t86 + t93;
+        double t95 = t62 + t64;
+        double t96 = 0.5 * t81;
+        double t97 = 0.8660254037844384 * t83;
+        double t98 = t96 + t97;
+        double t99 = t95 - t98;
+        double t100 = 0.5 * t89;
+        double t101 = 0.8660254037844386 * t87;
+        double t102 = t100 - t101;
+        double t103 = t42 + t44;
+        double t104 = t102 - t103;
+        double t105 = t99 + t104;
+        double t106 = t1 - t3;
+        double t107 = t17 - t19;
+        double t108 = t106 + t107;
+        double t109 = t12 - t14;
+        double t110 = t8 - t6;
+        double t111 = t109 + t110;
+        double t112 = t26 - t39;
+        double t113 = t77 + t72;
+        double t114 = t112 + t113;
+        double t115 = t65 - t68;
+        double t116 = t45 - t58;
+        double t117 = t115 + t116;
+        double t118 = t80 - t85;
+        double t119 = t103 + t102;
+        double t120 = t118 + t119;
+        double t121 = t95 + t98;
+        double t122 = t92 - t91;
+        double t123 = t121 + t122;
+        double t124 = t4 - t9;
+        double t125 = t15 - t20;
+        double t126 = t40 - t59;
+        double t127 = t69 - t78;
+        double t128 = t86 - t93;
+        double t129 = t99 - t104;
+        double t130 = t106 - t107;
+        double t131 = t109 - t110;
+        double t132 = t112 - t113;
+        double t133 = t115 - t116;
+        double t134 = t118 - t119;
+        double t135 = t121 - t122;
+        a[offr] = t10;
+        a[offi] = t21;
+        a[offr + 2] = t60;
+        a[offi + 2] = t79;
+        a[offr + 4] = t94;
+        a[offi + 4] = t105;
+        a[offr + 6] = t108;
+        a[offi + 6] = t111;
+        a[offr + 8] = t114;
+        a[offi + 8] = t117;
+        a[offr + 10] = t120;
+        a[offi + 10] = t123;
+        a[offr + 12] = t124;
+        a[offi + 12] = t125;
+        a[offr + 14] = t126;
+        a[offi + 14] = t127;
+        a[offr + 16] = t128;
+        a[offi + 16] = t129;
+        a[offr + 18] = t130;
+        a[offi + 18] = t131;
+        a[offr + 20] = t132;
+        a[offi + 20] = t133;
+        a[offr + 22] = t134;
+        a[offi + 22] = t135;
+    }
+
+    static void cf13(double[] a, int offr, int offi) {
+        double x0r = a[offr];
+        double x0i = a[offi];
+        double x1r = a[offr + 2];
+        double x1i = a[offi + 2];
+        double x2r = a[offr + 4];
+        double x2i = a[offi + 4];
+        double x3r = a[offr + 6];
+        double x3i = a[offi + 6];
+        double x4r = a[offr + 8];
+        double x4i = a[offi + 8];
+        double x5r = a[offr + 10];
+        double x5i = a[offi + 10];
+        double x6r = a[offr + 12];
+        double x6i = a[offi + 12];
+        double x7r = a[offr + 14];
+        double x7i = a[offi + 14];
+        double x8r = a[offr + 16];
+        double x8i = a[offi + 16];
+        double x9r = a[offr + 18];
+        double x9i = a[offi + 18];
+        double x10r = a[offr + 20];
+        double x10i = a[offi + 20];
+        double x11r = a[offr + 22];
+        double x11i = a[offi + 22];
+        double x12r = a[offr + 24];
+        double x12i = a[offi + 24];
+        double t0 = x6r + x7r;
+        double t1 = x5r + x8r;
+        double t2 = x4r + x9r;
+        double t3 = x3r + x10r;
+        double t4 = x2r + x11r;
+        double t5 = x1r + x12r;
+        double t6 = x0r + t5;
+        double t7 = t4 + t6;
+        double t8 = t3 + t7;
+        double t9 = t2 + t8;
+        double t10 = t1 + t9;
+        double t11 = t0 + t10;
+        double t12 = x6i + x7i;
+        double t13 = x5i + x8i;
+        double t14 = x4i + x9i;
+        double t15 = x3i + x10i;
+        double t16 = x2i + x11i;
+        double t17 = x1i + x12i;
+        double t18 = x0i + t17;
+        double t19 = t16 + t18;
+        double t20 = t15 + t19;
+        double t21 = t14 + t20;
+        double t22 = t13 + t21;
+        double t23 = t12 + t22;
+        double t24 = 0.88545602565321 * t5;
+        double t25 = x0r + t24;
+        double t26 = 0.5680647467311556 * t4;
+        double t27 = t25 + t26;
+        double t28 = 0.1205366802553232 * t3;
+        double t29 = t27 + t28;
+        double t30 = 0.3546048870425359 * t2;
+        double t31 = t29 - t30;
+        double t32 = 0.748510748171101 * t1;
+        double t33 = t31 - t32;
+        double t34 = 0.9709418174260521 * t0;
+        double t35 = t33 - t34;
+        double t36 = x1i - x12i;
+        double t37 = 0.4647231720437684 * t36;
+        double t38 = x2i - x11i;
+        double t39 = 0.8229838658936566 * t38;
+        double t40 = t37 + t39;
+        double t41 = x3i - x10i;
+        double t42 = 0.992708874098054 * t41;
+        double t43 = t40 + t42;
+        double t44 = x4i - x9i;
+        double t45 = 0.9350162426854147 * t44;
+        double t46 = t43 + t45;
+        double t47 = x5i - x8i;
+        double t48 = 0.6631226582407953 * t47;
+        double t49 = t46 + t48;
+        double t50 = x6i - x7i;
+        double t51 = 0.23931566428755743 * t50;
+        double t52 = t49 + t51;
+        double t53 = t35 + t52;
+        double t54 = 0.88545602565321 * t17;
+        double t55 = x0i + t54;
+        double t56 = 0.5680647467311556 * t16;
+        double t57 = t55 + t56;
+        double t58 = 0.1205366802553232 * t15;
+        double t59 = t57 + t58;
+        double t60 = 0.3546048870425359 * t14;
+        double t61 = t59 - t60;
+        double t62 = 0.748510748171101 * t13;
+        double t63 = t61 - t62;
+        double t64 = 0.9709418174260521 * t12;
+        double t65 = t63 - t64;
+        double t66 = x1r - x12r;
+        double t67 = 0.4647231720437684 * t66;
+        double t68 = x2r - x11r;
+        double t69 = 0.8229838658936566 * t68;
+        double t70 = t67 + t69;
+        double t71 = x3r - x10r;
+        double t72 = 0.992708874098054 * t71;
+        double t73 = t70 + t72;
+        double t74 = x4r - x9r;
+        double t75 = 0.9350162426854147 * t74;
+        double t76 = t73 + t75;
+        double t77 = x5r - x8r;
+        double t78 = 0.6631226582407953 * t77;
+        double t79 = t76 + t78;
+        double t80 = x6r - x7r;
+        double t81 = 0.23931566428755743 * t80;
+        double t82 = t79 + t81;
+        double t83 = t65 - t82;
+        double t84 = 0.5680647467311556 * t5;
+        double t85 = x0r + t84;
+        double t86 = 0.3546048870425359 * t4;
+        double t87 = t85 - t86;
+        double t88 = 0.9709418174260521 * t3;
+        double t89 = t87 - t88;
+        double t90 = 0.7485107481711012 * t2;
+        double t91 = t89 - t90;
+        double t92 = 0.120536680255323 * t1;
+        double t93 = t91 + t92;
+        double t94 = 0.8854560256532099 * t0;
+        double t95 = t93 + t94;
+        double t96 = 0.6631226582407952 * t44;
+        double t97 = 0.8229838658936566 * t36;
+        double t98 = 0.9350162426854147 * t38;
+        double t99 = t97 + t98;
+        double t100 = 0.23931566428755743 * t41;
+        double t101 = t99 + t100;
+        double t102 = t96 - t101;
+        double t103 = 0.992708874098054 * t47;
+        double t104 = t102 + t103;
+        double t105 = 0.46472317204376856 * t50;
+        double t106 = t104 + t105;
+        double t107 = t95 - t106;
+        double t108 = 0.5680647467311556 * t17;
+        double t109 = x0i + t108;
+        double t110 = 0.3546048870425359 * t16;
+        double t111 = t109 - t110;
+        double t112 = 0.9709418174260521 * t15;
+        double t113 = t111 - t112;
+        double t114 = 0.7485107481711012 * t14;
+        double t115 = t113 - t114;
+        double t116 = 0.120536680255323 * t13;
+        double t117 = t115 + t116;
+        double t118 = 0.8854560256532099 * t12;
+        double t119 = t117 + t118;
+        double t120 = 0.6631226582407952 * t74;
+        double t121 = 0.8229838658936566 * t66;
+        double t122 = 0.9350162426854147 * t68;
+        double t123 = t121 + t122;
+        double t124 = 0.23931566428755743 * t71;
+        double t125 = t123 + t124;
+        double t126 = t120 - t125;
+        double t127 = 0.992708874098054 * t77;
+        double t128 = t126 + t127;
+        double t129 = 0.46472317204376856 * t80;
+        double t130 = t128 + t129;
+        double t131 = t119 + t130;
+        double t132 = 0.1205366802553232 * t5;
+        double t133 = x0r + t132;
+        double t134 = 0.9709418174260521 * t4;
+        double t135 = t133 - t134;
+        double t136 = 0.3546048870425357 * t3;
+        double t137 = t135 - t136;
+        double t138 = 0.8854560256532099 * t2;
+        double t139 = t137 + t138;
+        double t140 = 0.5680647467311556 * t1;
+        double t141 = t139 + t140;
+        double t142 = 0.748510748171101 * t0;
+        double t143 = t141 - t142;
+        double t144 = 0.9350162426854148 * t41;
+        double t145 = 0.992708874098054 * t36;
+        double t146 = 0.23931566428755743 * t38;
+        double t147 = t145 + t146;
+        double t148 = t144 - t147;
+        double t149 = 0.46472317204376856 * t44;
+        double t150 = t148 + t149;
+        double t151 = 0.8229838658936566 * t47;
+        double t152 = t150 - t151;
+        double t153 = 0.6631226582407953 * t50;
+        double t154 = t152 - t153;
+        double t155 = t143 - t154;
+        double t156 = 0.1205366802553232 * t17;
+        double t157 = x0i + t156;
+        double t158 = 0.9709418174260521 * t16;
+        double t159 = t157 - t158;
+        double t160 = 0.3546048870425357 * t15;
+        double t161 = t159 - t160;
+        double t162 = 0.8854560256532099 * t14;
+        double t163 = t161 + t162;
+        double t164 = 0.5680647467311556 * t13;
+        double t165 = t163 + t164;
+        double t166 = 0.748510748171101 * t12;
+        double t167 = t165 - t166;
+        double t168 = 0.9350162426854148 * t71;
+        double t169 = 0.992708874098054 * t66;
+        double t170 = 0.23931566428755743 * t68;
+        double t171 = t169 + t170;
+        double t172 = t168 - t171;
+        double t173 = 0.46472317204376856 * t74;
+        double t174 = t172 + t173;
+        double t175 = 0.8229838658936566 * t77;
+        double t176 = t174 - t175;
+        double t177 = 0.6631226582407953 * t80;
+        double t178 = t176 - t177;
+        double t179 = t167 + t178;
+        double t180 = 0.3546048870425359 * t5;
+        double t181 = x0r - t180;
+        double t182 = 0.7485107481711012 * t4;
+        double t183 = t181 - t182;
+        double t184 = 0.8854560256532099 * t3;
+        double t185 = t183 + t184;
+        double t186 = 0.1205366802553232 * t2;
+        double t187 = t185 + t186;
+        double t188 = 0.970941817426052 * t1;
+        double t189 = t187 - t188;
+        double t190 = 0.5680647467311558 * t0;
+        double t191 = t189 + t190;
+        double t192 = 0.6631226582407952 * t38;
+        double t193 = 0.9350162426854147 * t36;
+        double t194 = t192 - t193;
+        double t195 = 0.46472317204376856 * t41;
+        double t196 = t194 + t195;
+        double t197 = 0.992708874098054 * t44;
+        double t198 = t196 - t197;
+        double t199 = 0.23931566428755768 * t47;
+        double t200 = t198 + t199;
+        double t201 = 0.8229838658936565 * t50;
+        double t202 = t200 + t201;
+        double t203 = t191 - t202;
+        double t204 = 0.3546048870425359 * t17;
+        double t205 = x0i - t204;
+        double t206 = 0.7485107481711012 * t16;
+        double t207 = t205 - t206;
+        double t208 = 0.8854560256532099 * t15;
+        double t209 = t207 + t208;
+        double t210 = 0.1205366802553232 * t14;
+        double t211 = t209 + t210;
+        double t212 = 0.970941817426052 * t13;
+        double t213 = t211 - t212;
+        double t214 = 0.5680647467311558 * t12;
+        double t215 = t213 + t214;
+        double t216 = 0.6631226582407952 * t68;
+        double t217 = 0.9350162426854147 * t66;
+        double t218 = t216 - t217;
+        double t219 = 0.46472317204376856 * t71;
+        double t220 = t218 + t219;
+        double t221 = 0.992708874098054 * t74;
+        double t222 = t220 - t221;
+        double t223 = 0.23931566428755768 * t77;
+        double t224 = t222 + t223;
+        double t225 = 0.8229838658936565 * t80;
+        double t226 = t224 + t225;
+        double t227 = t215 + t226;
+        double t228 = 0.748510748171101 * t5;
+        double t229 = x0r - t228;
+        double t230 = 0.120536680255323 * t4;
+        double t231 = t229 + t230;
+        double t232 = 0.5680647467311556 * t3;
+        double t233 = t231 + t232;
+        double t234 = 0.970941817426052 * t2;
+        double t235 = t233 - t234;
+        double t236 = 0.8854560256532099 * t1;
+        double t237 = t235 + t236;
+        double t238 = 0.3546048870425359 * t0;
+        double t239 = t237 - t238;
+        double t240 = 0.992708874098054 * t38;
+        double t241 = 0.6631226582407953 * t36;
+        double t242 = t240 - t241;
+        double t243 = 0.8229838658936566 * t41;
+        double t244 = t242 - t243;
+        double t245 = 0.23931566428755768 * t44;
+        double t246 = t244 + t245;
+        double t247 = 0.46472317204376856 * t47;
+        double t248 = t246 + t247;
+        double t249 = 0.9350162426854147 * t50;
+        double t250 = t248 - t249;
+        double t251 = t239 - t250;
+        double t252 = 0.748510748171101 * t17;
+        double t253 = x0i - t252;
+        double t254 = 0.120536680255323 * t16;
+        double t255 = t253 + t254;
+        double t256 = 0.5680647467311556 * t15;
+        double t257 = t255 + t256;
+        double t258 = 0.970941817426052 * t14;
+        double t259 = t257 - t258;
+        double t260 = 0.8854560256532099 * t13;
+        double t261 = t259 + t260;
+        double t262 = 0.3546048870425359 * t12;
+        double t263 = t261 - t262;
+        double t264 = 0.992708874098054 * t68;
+        double t265 = 0.6631226582407953 * t66;
+        double t266 = t264 - t265;
+        double t267 = 0.8229838658936566 * t71;
+        double t268 = t266 - t267;
+        double t269 = 0.23931566428755768 * t74;
+        double t270 = t268 + t269;
+        double t271 = 0.46472317204376856 * t77;
+        double t272 = t270 + t271;
+        double t273 = 0.9350162426854147 * t80;
+        double t274 = t272 - t273;
+        double t275 = t263 + t274;
+        double t276 = 0.9709418174260521 * t5;
+        double t277 = x0r - t276;
+        double t278 = 0.8854560256532099 * t4;
+        double t279 = t277 + t278;
+        double t280 = 0.748510748171101 * t3;
+        double t281 = t279 - t280;
+        double t282 = 0.5680647467311558 * t2;
+        double t283 = t281 + t282;
+        double t284 = 0.3546048870425359 * t1;
+        double t285 = t283 - t284;
+        double t286 = 0.120536680255323 * t0;
+        double t287 = t285 + t286;
+        double t288 = 0.46472317204376856 * t38;
+        double t289 = 0.23931566428755743 * t36;
+        double t290 = t288 - t289;
+        double t291 = 0.6631226582407953 * t41;
+        double t292 = t290 - t291;
+        double t293 = 0.8229838658936565 * t44;
+        double t294 = t292 + t293;
+        double t295 = 0.9350162426854147 * t47;
+        double t296 = t294 - t295;
+        double t297 = 0.992708874098054 * t50;
+        double t298 = t296 + t297;
+        double t299 = t287 - t298;
+        double t300 = 0.9709418174260521 * t17;
+        double t301 = x0i - t300;
+        double t302 = 0.8854560256532099 * t16;
+        double t303 = t301 + t302;
+        double t304 = 0.748510748171101 * t15;
+        double t305 = t303 - t304;
+        double t306 = 0.5680647467311558 * t14;
+        double t307 = t305 + t306;
+        double t308 = 0.3546048870425359 * t13;
+        double t309 = t307 - t308;
+        double t310 = 0.120536680255323 * t12;
+        double t311 = t309 + t310;
+        double t312 = 0.46472317204376856 * t68;
+        double t313 = 0.23931566428755743 * t66;
+        double t314 = t312 - t313;
+        double t315 = 0.6631226582407953 * t71;
+        double t316 = t314 - t315;
+        double t317 = 0.8229838658936565 * t74;
+        double t318 = t316 + t317;
+        double t319 = 0.9350162426854147 * t77;
+        double t320 = t318 - t319;
+        double t321 = 0.992708874098054 * t80;
+        double t322 = t320 + t321;
+        double t323 = t311 + t322;
+        double t324 = t287 + t298;
+        double t325 = t311 - t322;
+        double t326 = t239 + t250;
+        double t327 = t263 - t274;
+        double t328 = t191 + t202;
+        double t329 = t215 - t226;
+        double t330 = t143 + t154;
+        double t331 = t167 - t178;
+        double t332 = t95 + t106;
+        double t333 = t119 - t130;
+        double t334 = t35 - t52;
+        double t335 = t65 + t82;
+        a[offr] = t11;
+        a[offi] = t23;
+        a[offr + 2] = t53;
+        a[offi + 2] = t83;
+        a[offr + 4] = t107;
+        a[offi + 4] = t131;
+        a[offr + 6] = t155;
+        a[offi + 6] = t179;
+        a[offr + 8] = t203;
+        a[offi + 8] = t227;
+        a[offr + 10] = t251;
+        a[offi + 10] = t275;
+        a[offr + 12] = t299;
+        a[offi + 12] = t323;
+        a[offr + 14] = t324;
+        a[offi + 14] = t325;
+        a[offr + 16] = t326;
+        a[offi + 16] = t327;
+        a[offr + 18] = t328;
+        a[offi + 18] = t329;
+        a[offr + 20] = t330;
+        a[offi + 20] = t331;
+        a[offr + 22] = t332;
+        a[offi + 22] = t333;
+        a[offr + 24] = t334;
+        a[offi + 24] = t335;
+    }
+
+    static void cf14(double[] a, int offr, int offi) {
+        double x0r = a[offr];
+        double x0i = a[offi];
+        double x1r = a[offr + 2];
+        double x1i = a[offi + 2];
+        double x2r = a[offr + 4];
+        double x2i = a[offi + 4];
+        double x3r = a[offr + 6];
+        double x3i = a[offi + 6];
+        double x4r = a[offr + 8];
+        double x4i = a[offi + 8];
+        double x5r = a[offr + 10];
+        double x5i = a[offi + 10];
+        double x6r = a[offr + 12];
+        double x6i = a[offi + 12];
+        double x7r = a[offr + 14];
+        double x7i = a[offi + 14];
+        double x8r = a[offr + 16];
+        double x8i = a[offi + 16];
+        double x9r = a[offr + 18];
+        double x9i = a[offi + 18];
+        double x10r = a[offr + 20];
+        double x10i = a[offi + 20];
+        double x11r = a[offr + 22];
+        double x11i = a[offi + 22];
+        double x12r = a[offr + 24];
+        double x12i = a[offi + 24];
+        double x13r = a[offr + 26];
+        double x13i = a[offi + 26];
+        double t0 = x6r + x8r;
+        double t1 = x4r + x10r;
+        double t2 = x2r + x12r;
+        double t3 = x0r + t2;
+        double t4 = t1 + t3;
+        double t5 = t0 + t4;
+        double t6 = x7r + x9r;
+        double t7 = x5r + x11r;
+        double t8 = x3r + x13r;
+        double t9 = x1r + t8;
+        double t10 = t7 + t9;
+        double t11 = t6 + t10;
+        double t12 = t5 + t11;
+        double t13 = x6i + x8i;
+        double t14 = x4i + x10i;
+        double t15 = x2i + x12i;
+        double t16 = x0i + t15;
+        double t17 = t14 + t16;
+        double t18 = t13 + t17;
+        double t19 = x7i + x9i;
+        double t20 = x5i + x11i;
+        double t21 = x3i + x13i;
+        double t22 = x1i + t21;
+        double t23 = t20 + t22;
+        double t24 = t19 + t23;
+        double t25 = t18 + t24;
+        double t26 = 0.6234898018587334 * t2;
+        double t27 = x0r + t26;
+        double t28 = 0.2225209339563146 * t1;
+        double t29 = t27 - t28;
+        double t30 = 0.9009688679024191 * t0;
+        double t31 = t29 - t30;
+        double t32 = x2i - x12i;
+        double t33 = 0.7818314824680299 * t32;
+        double t34 = x4i - x10i;
+        double t35 = 0.9749279121818236 * t34;
+        double t36 = t33 + t35;
+        double t37 = x6i - x8i;
+        double t38 = 0.433883739117558 * t37;
+        double t39 = t36 + t38;
+        double t40 = t31 + t39;
+        double t41 = 0.6234898018587334 * t8;
+        double t42 = x1r + t41;
+        double t43 = 0.2225209339563146 * t7;
+        double t44 = t42 - t43;
+        double t45 = 0.9009688679024191 * t6;
+        double t46 = t44 - t45;
+        double t47 = x3i - x13i;
+        double t48 = 0.7818314824680299 * t47;
+        double t49 = x5i - x11i;
+        double t50 = 0.9749279121818236 * t49;
+        double t51 = t48 + t50;
+        double t52 = x7i - x9i;
+        double t53 = 0.433883739117558 * t52;
+        double t54 = t51 + t53;
+        double t55 = t46 + t54;
+        double t56 = 0.900968867902419 * t55;
+        double t57 = 0.6234898018587334 * t21;
+        double t58 = x1i + t57;
+        double t59 = 0.2225209339563146 * t20;
+        double t60 = t58 - t59;
+        double t61 = 0.9009688679024191 * t19;
+        double t62 = t60 - t61;
+        double t63 = x3r - x13r;
+        double t64 = 0.7818314824680299 * t63;
+        double t65 = x5r - x11r;
+        double t66 = 0.9749279121818236 * t65;
+        double t67 = t64 + t66;
+        double t68 = x7r - x9r;
+        double t69 = 0.433883739117558 * t68;
+        double t70 = t67 + t69;
+        double t71 = t62 - t70;
+        double t72 = 0.43388373911755834 * t71;
+        double t73 = t56 + t72;
+        double t74 = t40 + t73;
+        double t75 = 0.6234898018587334 * t15;
+        double t76 = x0i + t75;
+        double t77 = 0.2225209339563146 * t14;
+        double t78 = t76 - t77;
+        double t79 = 0.9009688679024191 * t13;
+        double t80 = t78 - t79;
+        double t81 = x2r - x12r;
+        double t82 = 0.7818314824680299 * t81;
+        double t83 = x4r - x10r;
+        double t84 = 0.9749279121818236 * t83;
+        double t85 = t82 + t84;
+        double t86 = x6r - x8r;
+        double t87 = 0.433883739117558 * t86;
+        double t88 = t85 + t87;
+        double t89 = t80 - t88;
+        double t90 = 0.900968867902419 * t71;
+        double t91 = 0.43388373911755834 * t55;
+        double t92 = t90 - t91;
+        double t93 = t89 + t92;
+        double t94 = 0.2225209339563146 * t2;
+        double t95 = x0r - t94;
+        double t96 = 0.900968867902419 * t1;
+        double t97 = t95 - t96;
+        double t98 = 0.6234898018587336 * t0;
+        double t99 = t97 + t98;
+        double t100 = 0.43388373911755823 * t34;
+        double t101 = 0.9749279121818236 * t32;
+        double t102 = t100 - t101;
+        double t103 = 0.7818314824680298 * t37;
+        double t104 = t102 + t103;
+        double t105 = t99 - t104;
+        double t106 = 0.2225209339563146 * t8;
+        double t107 = x1r - t106;
+        double t108 = 0.900968867902419 * t7;
+        double t109 = t107 - t108;
+        double t110 = 0.6234898018587336 * t6;
+        double t111 = t109 + t110;
+        double t112 = 0.43388373911755823 * t49;
+        double t113 = 0.9749279121818236 * t47;
+        double t114 = t112 - t113;
+        double t115 = 0.7818314824680298 * t52;
+        double t116 = t114 + t115;
+        double t117 = t111 - t116;
+        double t118 = 0.6234898018587334 * t117;
+        double t119 = 0.2225209339563146 * t21;
+        double t120 = x1i - t119;
+        double t121 = 0.900968867902419 * t20;
+        double t122 = t120 - t121;
+        double t123 = 0.6234898018587336 * t19;
+        double t124 = t122 + t123;
+        double t125 = 0.43388373911755823 * t65;
+        double t126 = 0.9749279121818236 * t63;
+        double t127 = t125 - t126;
+        double t128 = 0.7818314824680298 * t68;
+        double t129 = t127 + t128;
+        double t130 = t124 + t129;
+        double t131 = 0.7818314824680299 * t130;
+        double t132 = t118 + t131;
+        double t133 = t105 + t132;
+        double t134 = 0.2225209339563146 * t15;
+        double t135 = x0i - t134;
+        double t136 = 0.900968867902419 * t14;
+        double t137 = t135 - t136;
+        double t138 = 0.6234898018587336 * t13;
+        double t139 = t137 + t138;
+        double t140 = 0.43388373911755823 * t83;
+        double t141 = 0.9749279121818236 * t81;
+        double t142 = t140 - t141;
+        double t143 = 0.7818314824680298 * t86;
+        double t144 = t142 + t143;
+        double t145 = t139 + t144;
+        double t146 = 0.6234898018587334 * t130;
+        double t147 = 0.7818314824680299 * t117;
+        double t148 = t146 - t147;
+        double t149 = t145 + t148;
+        double t150 = 0.9009688679024191 * t2;
+        double t151 = x0r - t150;
+        double t152 = 0.6234898018587336 * t1;
+        double t153 = t151 + t152;
+        double t154 = 0.2225209339563146 * t0;
+        double t155 = t153 - t154;
+        double t156 = 0.7818314824680298 * t34;
+        double t157 = 0.433883739117558 * t32;
+        double t158 = t156 - t157;
+        double t159 = 0.9749279121818236 * t37;
+        double t160 = t158 - t159;
+        double t161 = t155 - t160;
+        double t162 = 0.9009688679024191 * t8;
+        double t163 = x1r - t162;
+        double t164 = 0.6234898018587336 * t7;
+        double t165 = t163 + t164;
+        double t166 = 0.2225209339563146 * t6;
+        double t167 = t165 - t166;
+        double t168 = 0.7818314824680298 * t49;
+        double t169 = 0.433883739117558 * t47;
+        double t170 = t168 - t169;
+        double t171 = 0.9749279121818236 * t52;
+        double t172 = t170 - t171;
+        double t173 = t167 - t172;
+        double t174 = 0.22252093395631423 * t173;
+        double t175 = 0.9009688679024191 * t21;
+        double t176 = x1i - t175;
+        double t177 = 0.6234898018587336 * t20;
+        double t178 = t176 + t177;
+        double t179 = 0.2225209339563146 * t19;
+        double t180 = t178 - t179;
+        double t181 = 0.7818314824680298 * t65;
+        double t182 = 0.433883739117558 * t63;
+        double t183 = t181 - t182;
+        double t184 = 0.9749279121818236 * t68;
+        double t185 = t183 - t184;
+        double t186 = t180 + t185;
+        double t187 = 0.9749279121818236 * t186;
+        double t188 = t174 + t187;
+        double t189 = t161 + t188;
+        double t190 = 0.9009688679024191 * t15;
+        double t191 = x0i - t190;
+        double t192 = 0.6234898018587336 * t14;
+        double t193 = t191 + t192;
+        double t194 = 0.2225209339563146 * t13;
+        double t195 = t193 - t194;
+        double t196 = 0.7818314824680298 * t83;
+        double t197 = 0.433883739117558 * t81;
+        double t198 = t196 - t197;
+        double t199 = 0.9749279121818236 * t86;
+        double t200 = t198 - t199;
+        double t201 = t195 + t200;
+        double t202 = 0.22252093395631423 * t186;
+        double t203 = 0.9749279121818236 * t173;
+        double t204 = t202 - t203;
+        double t205 = t201 + t204;
+        double t206 = t155 + t160;
+        double t207 = t180 - t185;
+        double t208 = 0.9749279121818236 * t207;
+        double t209 = t167 + t172;
+        double t210 = 0.2225209339563146 * t209;
+        double t211 = t208 - t210;
+        double t212 = t206 + t211;
+        double t213 = t195 - t200;
+        double t214 = 0.2225209339563146 * t207;
+        double t215 = 0.9749279121818236 * t209;
+        double t216 = t214 + t215;
+        double t217 = t213 - t216;
+        double t218 = t99 + t104;
+        double t219 = t124 - t129;
+        double t220 = 0.7818314824680297 * t219;
+        double t221 = t111 + t116;
+        double t222 = 0.6234898018587337 * t221;
+        double t223 = t220 - t222;
+        double t224 = t218 + t223;
+        double t225 = t139 - t144;
+        double t226 = 0.6234898018587337 * t219;
+        double t227 = 0.7818314824680297 * t221;
+        double t228 = t226 + t227;
+        double t229 = t225 - t228;
+        double t230 = t31 - t39;
+        double t231 = t62 + t70;
+        double t232 = 0.433883739117558 * t231;
+        double t233 = t46 - t54;
+        double t234 = 0.9009688679024191 * t233;
+        double t235 = t232 - t234;
+        double t236 = t230 + t235;
+        double t237 = t80 + t88;
+        double t238 = 0.9009688679024191 * t231;
+        double t239 = 0.433883739117558 * t233;
+        double t240 = t238 + t239;
+        double t241 = t237 - t240;
+        double t242 = t5 - t11;
+        double t243 = t18 - t24;
+        double t244 = t40 - t73;
+        double t245 = t89 - t92;
+        double t246 = t105 - t132;
+        double t247 = t145 - t148;
+        double t248 = t161 - t188;
+        double t249 = t201 - t204;
+        double t250 = t206 - t211;
+        double t251 = t213 + t216;
+        double t252 = t218 - t223;
+        double t253 = t225 + t228;
+        double t254 = t230 - t235;
+        double t255 = t237 + t240;
+        a[offr] = t12;
+        a[offi] = t25;
+        a[offr + 2] = t74;
+        a[offi + 2] = t93;
+        a[offr + 4] = t133;
+        a[offi + 4] = t149;
+        a[offr + 6] = t189;
+        a[offi + 6] = t205;
+        a[offr + 8] = t212;
+        a[offi + 8] = t217;
+        a[offr + 10] = t224;
+        a[offi + 10] = t229;
+        a[offr + 12] = t236;
+        a[offi + 12] = t241;
+        a[offr + 14] = t242;
+        a[offi + 14] = t243;
+        a[offr + 16] = t244;
+        a[offi + 16] = t245;
+        a[offr + 18] = t246;
+        a[offi + 18] = t247;
+        a[offr + 20] = t248;
+        a[offi + 20] = t249;
+        a[offr + 22] = t250;
+        a[offi + 22] = t251;
+        a[offr + 24] = t252;
+        a[offi + 24] = t253;
+        a[offr + 26] = t254;
+        a[offi + 26] = t255;
+    }
+
+    static void cf15(double[] a, int offr, int offi) {
+        double x0r = a[offr];
+        double x0i = a[offi];
+        double x1r = a[offr + 2];
+        double x1i = a[offi + 2];
+        double x2r = a[offr + 4];
+        double x2i = a[offi + 4];
+        double x3r = a[offr + 6];
+        double x3i = a[offi + 6];
+        double x4r = a[offr + 8];
+        double x4i = a[offi + 8];
+        double x5r = a[offr + 10];
+        double x5i = a[offi + 10];
+        double x6r = a[offr + 12];
+        double x6i = a[offi + 12];
+        double x7r = a[offr + 14];
+        double x7i = a[offi + 14];
+        double x8r = a[offr + 16];
+        double x8i = a[offi + 16];
+        double x9r = a[offr + 18];
+        double x9i = a[offi + 18];
+        double x10r = a[offr + 20];
+        double x10i = a[offi + 20];
+        double x11r = a[offr + 22];
+        double x11i = a[offi + 22];
+        double x12r = a[offr + 24];
+        double x12i = a[offi + 24];
+        double x13r = a[offr + 26];
+        double x13i = a[offi + 26];
+        double x14r = a[offr + 28];
+        double x14i = a[offi + 28];
+        double t0 = x6r + x9r;
+        double t1 = x3r + x12r;
+        double t2 = x0r + t1;
+        double t3 = t0 + t2;
+        double t4 = x7r + x10r;
+        double t5 = x4r + x13r;
+        double t6 = x1r + t5;
+        double t7 = t4 + t6;
+        double t8 = x8r + x11r;
+        double t9 = x5r + x14r;
+        double t10 = x2r + t9;
+        double t11 = t8 + t10;
+        double t12 = t7 + t11;
+        double t13 = t3 + t12;
+        double t14 = x6i + x9i;
+        double t15 = x3i + x12i;
+        double t16 = x0i + t15;
+        double t17 = t14 + t16;
+        double t18 = x7i + x10i;
+        double t19 = x4i + x13i;
+        double t20 = x1i + t19;
+        double t21 = t18 + t20;
+        double t22 = x8i + x11i;
+        double t23 = x5i + x14i;
+        double t24 = x2i + t23;
+        double t25 = t22 + t24;
+        double t26 = t21 + t25;
+        double t27 = t17 + t26;
+        double t28 = 0.30901699437494723 * t1;
+        double t29 = x0r + t28;
+        double t30 = 0.8090169943749476 * t0;
+        double t31 = t29 - t30;
+        double t32 = x3i - x12i;
+        double t33 = 0.9510565162951536 * t32;
+        double t34 = x6i - x9i;
+        double t35 = 0.587785252292473 * t34;
+        double t36 = t33 + t35;
+        double t37 = t31 + t36;
+        double t38 = 0.30901699437494723 * t5;
+        double t39 = x1r + t38;
+        double t40 = 0.8090169943749476 * t4;
+        double t41 = t39 - t40;
+        double t42 = x4i - x13i;
+        double t43 = 0.9510565162951536 * t42;
+        double t44 = x7i - x10i;
+        double t45 = 0.587785252292473 * t44;
+        double t46 = t43 + t45;
+        double t47 = t41 + t46;
+        double t48 = 0.913545457642601 * t47;
+        double t49 = 0.30901699437494723 * t19;
+        double t50 = x1i + t49;
+        double t51 = 0.8090169943749476 * t18;
+        double t52 = t50 - t51;
+        double t53 = x4r - x13r;
+        double t54 = 0.9510565162951536 * t53;
+        double t55 = x7r - x10r;
+        double t56 = 0.587785252292473 * t55;
+        double t57 = t54 + t56;
+        double t58 = t52 - t57;
+        double t59 = 0.40673664307580015 * t58;
+        double t60 = t48 + t59;
+        double t61 = 0.30901699437494723 * t9;
+        double t62 = x2r + t61;
+        double t63 = 0.8090169943749476 * t8;
+        double t64 = t62 - t63;
+        double t65 = x5i - x14i;
+        double t66 = 0.9510565162951536 * t65;
+        double t67 = x8i - x11i;
+        double t68 = 0.587785252292473 * t67;
+        double t69 = t66 + t68;
+        double t70 = t64 + t69;
+        double t71 = 0.6691306063588585 * t70;
+        double t72 = 0.30901699437494723 * t23;
+        double t73 = x2i + t72;
+        double t74 = 0.8090169943749476 * t22;
+        double t75 = t73 - t74;
+        double t76 = x5r - x14r;
+        double t77 = 0.9510565162951536 * t76;
+        double t78 = x8r - x11r;
+        double t79 = 0.587785252292473 * t78;
+        double t80 = t77 + t79;
+        double t81 = t75 - t80;
+        double t82 = 0.743144825477394 * t81;
+        double t83 = t71 + t82;
+        double t84 = t60 + t83;
+        double t85 = t37 + t84;
+        double t86 = 0.30901699437494723 * t15;
+        double t87 = x0i + t86;
+        double t88 = 0.8090169943749476 * t14;
+        double t89 = t87 - t88;
+        double t90 = x3r - x12r;
+        double t91 = 0.9510565162951536 * t90;
+        double t92 = x6r - x9r;
+        double t93 = 0.587785252292473 * t92;
+        double t94 = t91 + t93;
+        double t95 = t89 - t94;
+        double t96 = 0.913545457642601 * t58;
+        double t97 = 0.40673664307580015 * t47;
+        double t98 = t96 - t97;
+        double t99 = 0.6691306063588585 * t81;
+        double t100 = 0.743144825477394 * t70;
+        double t101 = t99 - t100;
+        double t102 = t98 + t101;
+        double t103 = t95 + t102;
+        double t104 = 0.8090169943749476 * t1;
+        double t105 = x0r - t104;
+        double t106 = 0.30901699437494745 * t0;
+        double t107 = t105 + t106;
+        double t108 = 0.9510565162951535 * t34;
+        double t109 = 0.587785252292473 * t32;
+        double t110 = t108 - t109;
+        double t111 = t107 - t110;
+        double t112 = 0.8090169943749476 * t5;
+        double t113 = x1r - t112;
+        double t114 = 0.30901699437494745 * t4;
+        double t115 = t113 + t114;
+        double t116 = 0.9510565162951535 * t44;
+        double t117 = 0.587785252292473 * t42;
+        double t118 = t116 - t117;
+        double t119 = t115 - t118;
+        double t120 = 0.6691306063588585 * t119;
+        double t121 = 0.8090169943749476 * t19;
+        double t122 = x1i - t121;
+        double t123 = 0.30901699437494745 * t18;
+        double t124 = t122 + t123;
+        double t125 = 0.9510565162951535 * t55;
+        double t126 = 0.587785252292473 * t53;
+        double t127 = t125 - t126;
+        double t128 = t124 + t127;
+        double t129 = 0.743144825477394 * t128;
+        double t130 = t120 + t129;
+        double t131 = 0.8090169943749476 * t23;
+        double t132 = x2i - t131;
+        double t133 = 0.30901699437494745 * t22;
+        double t134 = t132 + t133;
+        double t135 = 0.9510565162951535 * t78;
+        double t136 = 0.587785252292473 * t76;
+        double t137 = t135 - t136;
+        double t138 = t134 + t137;
+        double t139 = 0.9945218953682733 * t138;
+        double t140 = 0.8090169943749476 * t9;
+        double t141 = x2r - t140;
+        double t142 = 0.30901699437494745 * t8;
+        double t143 = t141 + t142;
+        double t144 = 0.9510565162951535 * t67;
+        double t145 = 0.587785252292473 * t65;
+        double t146 = t144 - t145;
+        double t147 = t143 - t146;
+        double t148 = 0.10452846326765423 * t147;
+        double t149 = t139 - t148;
+        double t150 = t130 + t149;
+        double t151 = t111 + t150;
+        double t152 = 0.8090169943749476 * t15;
+        double t153 = x0i - t152;
+        double t154 = 0.30901699437494745 * t14;
+        double t155 = t153 + t154;
+        double t156 = 0.9510565162951535 * t92;
+        double t157 = 0.587785252292473 * t90;
+        double t158 = t156 - t157;
+        double t159 = t155 + t158;
+        double t160 = 0.6691306063588585 * t128;
+        double t161 = 0.743144825477394 * t119;
+        double t162 = t160 - t161;
+        double t163 = 0.10452846326765423 * t138;
+        double t164 = 0.9945218953682733 * t147;
+        double t165 = t163 + t164;
+        double t166 = t162 - t165;
+        double t167 = t159 + t166;
+        double t168 = t107 + t110;
+        double t169 = t115 + t118;
+        double t170 = 0.30901699437494723 * t169;
+        double t171 = t124 - t127;
+        double t172 = 0.9510565162951536 * t171;
+        double t173 = t170 + t172;
+        double t174 = t134 - t137;
+        double t175 = 0.587785252292473 * t174;
+        double t176 = t143 + t146;
+        double t177 = 0.8090169943749476 * t176;
+        double t178 = t175 - t177;
+        double t179 = t173 + t178;
+        double t180 = t168 + t179;
+        double t181 = t155 - t158;
+        double t182 = 0.30901699437494723 * t171;
+        double t183 = 0.9510565162951536 * t169;
+        double t184 = t182 - t183;
+        double t185 = 0.8090169943749476 * t174;
+        double t186 = 0.587785252292473 * t176;
+        double t187 = t185 + t186;
+        double t188 = t184 - t187;
+        double t189 = t181 + t188;
+        double t190 = t31 - t36;
+        double t191 = t52 + t57;
+        double t192 = 0.9945218953682733 * t191;
+        double t193 = t41 - t46;
+        double t194 = 0.10452846326765423 * t193;
+        double t195 = t192 - t194;
+        double t196 = t64 - t69;
+        double t197 = 0.9781476007338057 * t196;
+        double t198 = t75 + t80;
+        double t199 = 0.20791169081775931 * t198;
+        double t200 = t197 + t199;
+        double t201 = t195 - t200;
+        double t202 = t190 + t201;
+        double t203 = t89 + t94;
+        double t204 = 0.20791169081775931 * t196;
+        double t205 = 0.9781476007338057 * t198;
+        double t206 = t204 - t205;
+        double t207 = 0.10452846326765423 * t191;
+        double t208 = 0.9945218953682733 * t193;
+        double t209 = t207 + t208;
+        double t210 = t206 - t209;
+        double t211 = t203 + t210;
+        double t212 = 0.5 * t12;
+        double t213 = t3 - t212;
+        double t214 = t21 - t25;
+        double t215 = 0.8660254037844384 * t214;
+        double t216 = t213 + t215;
+        double t217 = 0.5 * t26;
+        double t218 = t17 - t217;
+        double t219 = t7 - t11;
+        double t220 = 0.8660254037844384 * t219;
+        double t221 = t218 - t220;
+        double t222 = 0.5 * t84;
+        double t223 = t37 - t222;
+        double t224 = t98 - t101;
+        double t225 = 0.8660254037844384 * t224;
+        double t226 = t223 + t225;
+        double t227 = 0.5 * t102;
+        double t228 = t95 - t227;
+        double t229 = t60 - t83;
+        double t230 = 0.8660254037844384 * t229;
+        double t231 = t228 - t230;
+        double t232 = 0.5 * t150;
+        double t233 = t111 - t232;
+        double t234 = t162 + t165;
+        double t235 = 0.8660254037844384 * t234;
+        double t236 = t233 + t235;
+        double t237 = 0.5 * t166;
+        double t238 = t159 - t237;
+        double t239 = t130 - t149;
+        double t240 = 0.8660254037844384 * t239;
+        double t241 = t238 - t240;
+        double t242 = 0.5 * t179;
+        double t243 = t168 - t242;
+        double t244 = t184 + t187;
+        double t245 = 0.8660254037844384 * t244;
+        double t246 = t243 + t245;
+        double t247 = 0.5 * t188;
+        double t248 = t181 - t247;
+        double t249 = t173 - t178;
+        double t250 = 0.8660254037844384 * t249;
+        double t251 = t248 - t250;
+        double t252 = 0.5 * t201;
+        double t253 = t190 - t252;
+        double t254 = t209 + t206;
+        double t255 = 0.8660254037844384 * t254;
+        double t256 = t253 - t255;
+        double t257 = 0.5 * t210;
+        double t258 = t203 - t257;
+        double t259 = t195 + t200;
+        double t260 = 0.8660254037844384 * t259;
+        double t261 = t258 - t260;
+        double t262 = t213 - t215;
+        double t263 = t218 + t220;
+        double t264 = t223 - t225;
+        double t265 = t228 + t230;
+        double t266 = t233 - t235;
+        double t267 = t238 + t240;
+        double t268 = t243 - t245;
+        double t269 = t248 + t250;
+        double t270 = t253 + t255;
+        double t271 = t258 + t260;
+        a[offr] = t13;
+        a[offi] = t27;
+        a[offr + 2] = t85;
+        a[offi + 2] = t103;
+        a[offr + 4] = t151;
+        a[offi + 4] = t167;
+        a[offr + 6] = t180;
+        a[offi + 6] = t189;
+        a[offr + 8] = t202;
+        a[offi + 8] = t211;
+        a[offr + 10] = t216;
+        a[offi + 10] = t221;
+        a[offr + 12] = t226;
+        a[offi + 12] = t231;
+        a[offr + 14] = t236;
+        a[offi + 14] = t241;
+        a[offr + 16] = t246;
+        a[offi + 16] = t251;
+        a[offr + 18] = t256;
+        a[offi + 18] = t261;
+        a[offr + 20] = t262;
+        a[offi + 20] = t263;
+        a[offr + 22] = t264;
+        a[offi + 22] = t265;
+        a[offr + 24] = t266;
+        a[offi + 24] = t267;
+        a[offr + 26] = t268;
+        a[offi + 26] = t269;
+        a[offr + 28] = t270;
+        a[offi + 28] = t271;
+    }
+
+    static void cf16(double[] a, int offr, int offi) {
+        double x0r = a[offr];
+        double x0i = a[offi];
+        double x1r = a[offr + 2];
+        double x1i = a[offi + 2];
+        double x2r = a[offr + 4];
+        double x2i = a[offi + 4];
+        double x3r = a[offr + 6];
+        double x3i = a[offi + 6];
+        double x4r = a[offr + 8];
+        double x4i = a[offi + 8];
+        double x5r = a[offr + 10];
+        double x5i = a[offi + 10];
+        double x6r = a[offr + 12];
+        double x6i = a[offi + 12];
+        double x7r = a[offr + 14];
+        double x7i = a[offi + 14];
+        double x8r = a[offr + 16];
+        double x8i = a[offi + 16];
+        double x9r = a[offr + 18];
+        double x9i = a[offi + 18];
+        double x10r = a[offr + 20];
+        double x10i = a[offi + 20];
+        double x11r = a[offr + 22];
+        double x11i = a[offi + 22];
+        double x12r = a[offr + 24];
+        double x12i = a[offi + 24];
+        double x13r = a[offr + 26];
+        double x13i = a[offi + 26];
+        double x14r = a[offr + 28];
+        double x14i = a[offi + 28];
+        double x15r = a[offr + 30];
+        double x15i = a[offi + 30];
+        double t0 = x0r + x8r;
+        double t1 = x4r + x12r;
+        double t2 = t0 + t1;
+        double t3 = x2r + x10r;
+        double t4 = x6r + x14r;
+        double t5 = t3 + t4;
+        double t6 = t2 + t5;
+        double t7 = x1r + x9r;
+        double t8 = x5r + x13r;
+        double t9 = t7 + t8;
+        double t10 = x3r + x11r;
+        double t11 = x7r + x15r;
+        double t12 = t10 + t11;
+        double t13 = t9 + t12;
+        double t14 = t6 + t13;
+        double t15 = x0i + x8i;
+        double t16 = x4i + x12i;
+        double t17 = t15 + t16;
+        double t18 = x2i + x10i;
+        double t19 = x6i + x14i;
+        double t20 = t18 + t19;
+        double t21 = t17 + t20;
+        double t22 = x1i + x9i;
+        double t23 = x5i + x13i;
+        double t24 = t22 + t23;
+        double t25 = x3i + x11i;
+        double t26 = x7i + x15i;
+        double t27 = t25 + t26;
+        double t28 = t24 + t27;
+        double t29 = t21 + t28;
+        double t30 = x0r - x8r;
+        double t31 = x4i - x12i;
+        double t32 = t30 + t31;
+        double t33 = x2r - x10r;
+        double t34 = x6i - x14i;
+        double t35 = t33 + t34;
+        double t36 = x2i - x10i;
+        double t37 = x14r - x6r;
+        double t38 = t36 + t37;
+        double t39 = t35 + t38;
+        double t40 = 0.7071067811865476 * t39;
+        double t41 = t32 + t40;
+        double t42 = x1r - x9r;
+        double t43 = x5i - x13i;
+        double t44 = t42 + t43;
+        double t45 = 0.9238795325112865 * t44;
+        double t46 = x1i - x9i;
+        double t47 = x13r - x5r;
+        double t48 = t46 + t47;
+        double t49 = 0.3826834323650904 * t48;
+        double t50 = t45 + t49;
+        double t51 = x3r - x11r;
+        double t52 = x7i - x15i;
+        double t53 = t51 + t52;
+        double t54 = 0.38268343236509 * t53;
+        double t55 = x3i - x11i;
+        double t56 = x15r - x7r;
+        double t57 = t55 + t56;
+        double t58 = 0.9238795325112866 * t57;
+        double t59 = t54 + t58;
+        double t60 = t50 + t59;
+        double t61 = t41 + t60;
+        double t62 = x0i - x8i;
+        double t63 = x12r - x4r;
+        double t64 = t62 + t63;
+        double t65 = t38 - t35;
+        double t66 = 0.7071067811865476 * t65;
+        double t67 = t64 + t66;
+        double t68 = 0.9238795325112865 * t48;
+        double t69 = 0.3826834323650904 * t44;
+        double t70 = t68 - t69;
+        double t71 = 0.38268343236509 * t57;
+        double t72 = 0.9238795325112866 * t53;
+        double t73 = t71 - t72;
+        double t74 = t70 + t73;
+        double t75 = t67 + t74;
+        double t76 = t0 - t1;
+        double t77 = t18 - t19;
+        double t78 = t76 + t77;
+        double t79 = t7 - t8;
+        double t80 = t22 - t23;
+        double t81 = t79 + t80;
+        double t82 = 0.7071067811865476 * t81;
+        double t83 = t10 - t11;
+        double t84 = t25 - t26;
+        double t85 = t83 - t84;
+        double t86 = 0.7071067811865476 * t85;
+        double t87 = t82 - t86;
+        double t88 = t78 + t87;
+        double t89 = t15 - t16;
+        double t90 = t4 - t3;
+        double t91 = t89 + t90;
+        double t92 = t80 - t79;
+        double t93 = 0.7071067811865476 * t92;
+        double t94 = t83 + t84;
+        double t95 = 0.7071067811865476 * t94;
+        double t96 = t93 - t95;
+        double t97 = t91 + t96;
+        double t98 = t30 - t31;
+        double t99 = t33 - t34;
+        double t100 = t36 - t37;
+        double t101 = t99 - t100;
+        double t102 = 0.7071067811865476 * t101;
+        double t103 = t98 - t102;
+        double t104 = t42 - t43;
+        double t105 = 0.38268343236509 * t104;
+        double t106 = t46 - t47;
+        double t107 = 0.9238795325112866 * t106;
+        double t108 = t105 + t107;
+        double t109 = t51 - t52;
+        double t110 = 0.9238795325112867 * t109;
+        double t111 = t55 - t56;
+        double t112 = 0.3826834323650899 * t111;
+        double t113 = t110 + t112;
+        double t114 = t108 - t113;
+        double t115 = t103 + t114;
+        double t116 = t62 - t63;
+        double t117 = t99 + t100;
+        double t118 = 0.7071067811865476 * t117;
+        double t119 = t116 - t118;
+        double t120 = 0.38268343236509 * t106;
+        double t121 = 0.9238795325112866 * t104;
+        double t122 = t120 - t121;
+        double t123 = 0.3826834323650899 * t109;
+        double t124 = 0.9238795325112867 * t111;
+        double t125 = t123 - t124;
+        double t126 = t122 + t125;
+        double t127 = t119 + t126;
+        double t128 = t2 - t5;
+        double t129 = t24 - t27;
+        double t130 = t128 + t129;
+        double t131 = t17 - t20;
+        double t132 = t12 - t9;
+        double t133 = t131 + t132;
+        double t134 = t32 - t40;
+        double t135 = t70 - t73;
+        double t136 = t134 + t135;
+        double t137 = t64 - t66;
+        double t138 = t59 - t50;
+        double t139 = t137 + t138;
+        double t140 = t76 - t77;
+        double t141 = t93 + t95;
+        double t142 = t140 + t141;
+        double t143 = t89 - t90;
+        double t144 = t82 + t86;
+        double t145 = t143 - t144;
+        double t146 = t98 + t102;
+        double t147 = t122 - t125;
+        double t148 = t146 + t147;
+        double t149 = t116 + t118;
+        double t150 = t108 + t113;
+        double t151 = t149 - t150;
+        double t152 = t6 - t13;
+        double t153 = t21 - t28;
+        double t154 = t41 - t60;
+        double t155 = t67 - t74;
+        double t156 = t78 - t87;
+        double t157 = t91 - t96;
+        double t158 = t103 - t114;
+        double t159 = t119 - t126;
+        double t160 = t128 - t129;
+        double t161 = t131 - t132;
+        double t162 = t134 - t135;
+        double t163 = t137 - t138;
+        double t164 = t140 - t141;
+        double t165 = t143 + t144;
+        double t166 = t146 - t147;
+        double t167 = t149 + t150;
+        a[offr] = t14;
+        a[offi] = t29;
+        a[offr + 2] = t61;
+        a[offi + 2] = t75;
+        a[offr + 4] = t88;
+        a[offi + 4] = t97;
+        a[offr + 6] = t115;
+        a[offi + 6] = t127;
+        a[offr + 8] = t130;
+        a[offi + 8] = t133;
+        a[offr + 10] = t136;
+        a[offi + 10] = t139;
+        a[offr + 12] = t142;
+        a[offi + 12] = t145;
+        a[offr + 14] = t148;
+        a[offi + 14] = t151;
+        a[offr + 16] = t152;
+        a[offi + 16] = t153;
+        a[offr + 18] = t154;
+        a[offi + 18] = t155;
+        a[offr + 20] = t156;
+        a[offi + 20] = t157;
+        a[offr + 22] = t158;
+        a[offi + 22] = t159;
+        a[offr + 24] = t160;
+        a[offi + 24] = t161;
+        a[offr + 26] = t162;
+        a[offi + 26] = t163;
+        a[offr + 28] = t164;
+        a[offi + 28] = t165;
+        a[offr + 30] = t166;
+        a[offi + 30] = t167;
+    }
+
+    static void cf18(double[] a, int offr, int offi) {
+        double x0r = a[offr];
+        double x0i = a[offi];
+        double x1r = a[offr + 2];
+        double x1i = a[offi + 2];
+        double x2r = a[offr + 4];
+        double x2i = a[offi + 4];
+        double x3r = a[offr + 6];
+        double x3i = a[offi + 6];
+        double x4r = a[offr + 8];
+        double x4i = a[offi + 8];
+        double x5r = a[offr + 10];
+        double x5i = a[offi + 10];
+        double x6r = a[offr + 12];
+        double x6i = a[offi + 12];
+        double x7r = a[offr + 14];
+        double x7i = a[offi + 14];
+        double x8r = a[offr + 16];
+        double x8i = a[offi + 16];
+        double x9r = a[offr + 18];
+        double x9i = a[offi + 18];
+        double x10r = a[offr + 20];
+        double x10i = a[offi + 20];
+        double x11r = a[offr + 22];
+        double x11i = a[offi + 22];
+        double x12r = a[offr + 24];
+        double x12i = a[offi + 24];
+        double x13r = a[offr + 26];
+        double x13i = a[offi + 26];
+        double x14r = a[offr + 28];
+        double x14i = a[offi + 28];
+        double x15r = a[offr + 30];
+        double x15i = a[offi + 30];
+        double x16r = a[offr + 32];
+        double x16i = a[offi + 32];
+        double x17r = a[offr + 34];
+        double x17i = a[offi + 34];
+        double t0 = x6r + x12r;
+        double t1 = x0r + t0;
+        double t2 = x8r + x14r;
+        double t3 = x2r + t2;
+        double t4 = x10r + x16r;
+        double t5 = x4r + t4;
+        double t6 = t3 + t5;
+        double t7 = t1 + t6;
+        double t8 = x7r + x13r;
+        double t9 = x1r + t8;
+        double t10 = x9r + x15r;
+        double t11 = x3r + t10;
+        double t12 = x11r + x17r;
+        double t13 = x5r + t12;
+        double t14 = t11 + t13;
+        double t15 = t9 + t14;
+        double t16 = t7 + t15;
+        double t17 = x6i + x12i;
+        double t18 = x0i + t17;
+        double t19 = x8i + x14i;
+        double t20 = x2i + t19;
+        double t21 = x10i + x16i;
+        double t22 = x4i + t21;
+        double t23 = t20 + t22;
+        double t24 = t18 + t23;
+        double t25 = x7i + x13i;
+        double t26 = x1i + t25;
+        double t27 = x9i + x15i;
+        double t28 = x3i + t27;
+        double t29 = x11i + x17i;
+        double t30 = x5i + t29;
+        double t31 = t28 + t30;
+        double t32 = t26 + t31;
+        double t33 = t24 + t32;
+        double t34 = 0.5 * t0;
+        double t35 = x0r - t34;
+        double t36 = x6i - x12i;
+        double t37 = 0.8660254037844384 * t36;
+        double t38 = t35 + t37;
+        double t39 = 0.5 * t2;
+        double t40 = x2r - t39;
+        double t41 = x8i - x14i;
+        double t42 = 0.8660254037844384 * t41;
+        double t43 = t40 + t42;
+        double t44 = 0.7660444431189778 * t43;
+        double t45 = 0.5 * t19;
+        double t46 = x2i - t45;
+        double t47 = x8r - x14r;
+        double t48 = 0.8660254037844384 * t47;
+        double t49 = t46 - t48;
+        double t50 = 0.6427876096865396 * t49;
+        double t51 = t44 + t50;
+        double t52 = 0.5 * t4;
+        double t53 = x4r - t52;
+        double t54 = x10i - x16i;
+        double t55 = 0.8660254037844384 * t54;
+        double t56 = t53 + t55;
+        double t57 = 0.17364817766692997 * t56;
+        double t58 = 0.5 * t21;
+        double t59 = x4i - t58;
+        double t60 = x10r - x16r;
+        double t61 = 0.8660254037844384 * t60;
+        double t62 = t59 - t61;
+        double t63 = 0.9848077530122081 * t62;
+        double t64 = t57 + t63;
+        double t65 = t51 + t64;
+        double t66 = t38 + t65;
+        double t67 = 0.5 * t8;
+        double t68 = x1r - t67;
+        double t69 = x7i - x13i;
+        double t70 = 0.8660254037844384 * t69;
+        double t71 = t68 + t70;
+        double t72 = 0.5 * t10;
+        double t73 = x3r - t72;
+        double t74 = x9i - x15i;
+        double t75 = 0.8660254037844384 * t74;
+        double t76 = t73 + t75;
+        double t77 = 0.7660444431189778 * t76;
+        double t78 = 0.5 * t27;
+        double t79 = x3i - t78;
+        double t80 = x9r - x15r;
+        double t81 = 0.8660254037844384 * t80;
+        double t82 = t79 - t81;
+        double t83 = 0.6427876096865396 * t82;
+        double t84 = t77 + t83;
+        double t85 = 0.5 * t12;
+        double t86 = x5r - t85;
+        double t87 = x11i - x17i;
+        double t88 = 0.8660254037844384 * t87;
+        double t89 = t86 + t88;
+        double t90 = 0.17364817766692997 * t89;
+        double t91 = 0.5 * t29;
+        double t92 = x5i - t91;
+        double t93 = x11r - x17r;
+        double t94 = 0.8660254037844384 * t93;
+        double t95 = t92 - t94;
+        double t96 = 0.9848077530122081 * t95;
+        double t97 = t90 + t96;
+        double t98 = t84 + t97;
+        double t99 = t71 + t98;
+        double t100 = 0.9396926207859081 * t99;
+        double t101 = 0.5 * t25;
+        double t102 = x1i - t101;
+        double t103 = x7r - x13r;
+        double t104 = 0.8660254037844384 * t103;
+        double t105 = t102 - t104;
+        double t106 = 0.7660444431189778 * t82;
+        double t107 = 0.6427876096865396 * t76;
+        double t108 = t106 - t107;
+        double t109 = 0.17364817766692997 * t95;
+        double t110 = 0.9848077530122081 * t89;
+        double t111 = t109 - t110;
+        double t112 = t108 + t111;
+        double t113 = t105 + t112;
+        double t114 = 0.34202014332566943 * t113;
+        double t115 = t100 + t114;
+        double t116 = t66 + t115;
+        double t117 = 0.5 * t17;
+        double t118 = x0i - t117;
+        double t119 = x6r - x12r;
+        double t120 = 0.8660254037844384 * t119;
+        double t121 = t118 - t120;
+        double t122 = 0.7660444431189778 * t49;
+        double t123 = 0.6427876096865396 * t43;
+        double t124 = t122 - t123;
+        double t125 = 0.17364817766692997 * t62;
+        double t126 = 0.9848077530122081 * t56;
+        double t127 = t125 - t126;
+        double t128 = t124 + t127;
+        double t129 = t121 + t128;
+        double t130 = 0.9396926207859081 * t113;
+        double t131 = 0.34202014332566943 * t99;
+        double t132 = t130 - t131;
+        double t133 = t129 + t132;
+        double t134 = t35 - t37;
+        double t135 = t40 - t42;
+        double t136 = 0.17364817766692997 * t135;
+        double t137 = t46 + t48;
+        double t138 = 0.9848077530122081 * t137;
+        double t139 = t136 + t138;
+        double t140 = t59 + t61;
+        double t141 = 0.34202014332566866 * t140;
+        double t142 = t53 - t55;
+        double t143 = 0.9396926207859084 * t142;
+        double t144 = t141 - t143;
+        double t145 = t139 + t144;
+        double t146 = t134 + t145;
+        double t147 = t68 - t70;
+        double t148 = t73 - t75;
+        double t149 = 0.17364817766692997 * t148;
+        double t150 = t79 + t81;
+        double t151 = 0.9848077530122081 * t150;
+        double t152 = t149 + t151;
+        double t153 = t92 + t94;
+        double t154 = 0.34202014332566866 * t153;
+        double t155 = t86 - t88;
+        double t156 = 0.9396926207859084 * t155;
+        double t157 = t154 - t156;
+        double t158 = t152 + t157;
+        double t159 = t147 + t158;
+        double t160 = 0.7660444431189778 * t159;
+        double t161 = t102 + t104;
+        double t162 = 0.17364817766692997 * t150;
+        double t163 = 0.9848077530122081 * t148;
+        double t164 = t162 - t163;
+        double t165 = 0.9396926207859084 * t153;
+        double t166 = 0.34202014332566866 * t155;
+        double t167 = t165 + t166;
+        double t168 = t164 - t167;
+        double t169 = t161 + t168;
+        double t170 = 0.6427876096865396 * t169;
+        double t171 = t160 + t170;
+        double t172 = t146 + t171;
+        double t173 = t118 + t120;
+        double t174 = 0.17364817766692997 * t137;
+        double t175 = 0.9848077530122081 * t135;
+        double t176 = t174 - t175;
+        double t177 = 0.9396926207859084 * t140;
+        double t178 = 0.34202014332566866 * t142;
+        double t179 = t177 + t178;
+        double t180 = t176 - t179;
+        double t181 = t173 + t180;
+        double t182 = 0.7660444431189778 * t169;
+        double t183 = 0.6427876096865396 * t159;
+        double t184 = t182 - t183;
+        double t185 = t181 + t184;
+        double t186 = 0.5 * t6;
+        double t187 = t1 - t186;
+        double t188 = t20 - t22;
+        double t189 = 0.8660254037844384 * t188;
+        double t190 = t187 + t189;
+        double t191 = 0.5 * t14;
+        double t192 = t9 - t191;
+        double t193 = t28 - t30;
+        double t194 = 0.8660254037844384 * t193;
+        double t195 = t192 + t194;
+        double t196 = 0.5 * t195;
+        double t197 = 0.5 * t31;
+        double t198 = t26 - t197;
+        double t199 = t11 - t13;
+        double t200 = 0.8660254037844384 * t199;
+        double t201 = t198 - t200;
+        double t202 = 0.8660254037844386 * t201;
+        double t203 = t196 + t202;
+        double t204 = t190 + t203;
+        double t205 = 0.5 * t23;
+        double t206 = t18 - t205;
+        double t207 = t3 - t5;
+        double t208 = 0.8660254037844384 * t207;
+        double t209 = t206 - t208;
+        double t210 = 0.5 * t201;
+        double t211 = 0.8660254037844386 * t195;
+        double t212 = t210 - t211;
+        double t213 = t209 + t212;
+        double t214 = 0.5 * t65;
+        double t215 = t38 - t214;
+        double t216 = t124 - t127;
+        double t217 = 0.8660254037844384 * t216;
+        double t218 = t215 + t217;
+        double t219 = 0.5 * t98;
+        double t220 = t71 - t219;
+        double t221 = t108 - t111;
+        double t222 = 0.8660254037844384 * t221;
+        double t223 = t220 + t222;
+        double t224 = 0.17364817766692997 * t223;
+        double t225 = 0.5 * t112;
+        double t226 = t105 - t225;
+        double t227 = t84 - t97;
+        double t228 = 0.8660254037844384 * t227;
+        double t229 = t226 - t228;
+        double t230 = 0.9848077530122081 * t229;
+        double t231 = t224 + t230;
+        double t232 = t218 + t231;
+        double t233 = 0.5 * t128;
+        double t234 = t121 - t233;
+        double t235 = t51 - t64;
+        double t236 = 0.8660254037844384 * t235;
+        double t237 = t234 - t236;
+        double t238 = 0.17364817766692997 * t229;
+        double t239 = 0.9848077530122081 * t223;
+        double t240 = t238 - t239;
+        double t241 = t237 + t240;
+        double t242 = 0.5 * t145;
+        double t243 = t134 - t242;
+        double t244 = t176 + t179;
+        double t245 = 0.8660254037844384 * t244;
+        double t246 = t243 + t245;
+        double t247 = 0.5 * t168;
+        double t248 = t161 - t247;
+        double t249 = t152 - t157;
+        double t250 = 0.8660254037844384 * t249;
+        double t251 = t248 - t250;
+        double t252 = 0.984807753012208 * t251;
+        double t253 = 0.5 * t158;
+        double t254 = t147 - t253;
+        double t255 = t164 + t167;
+        double t256 = 0.8660254037844384 * t255;
+        double t257 = t254 + t256;
+        double t258 = 0.17364817766693033 * t257;
+        double t259 = t252 - t258;
+        double t260 = t246 + t259;
+        double t261 = 0.5 * t180;
+        double t262 = t173 - t261;
+        double t263 = t139 - t144;
+        double t264 = 0.8660254037844384 * t263;
+        double t265 = t262 - t264;
+        double t266 = 0.17364817766693033 * t251;
+        double t267 = 0.984807753012208 * t257;
+        double t268 = t266 + t267;
+        double t269 = t265 - t268;
+        double t270 = t187 - t189;
+        double t271 = t198 + t200;
+        double t272 = 0.8660254037844384 * t271;
+        double t273 = t192 - t194;
+        double t274 = 0.5 * t273;
+        double t275 = t272 - t274;
+        double t276 = t270 + t275;
+        double t277 = t206 + t208;
+        double t278 = 0.5 * t271;
+        double t279 = 0.8660254037844384 * t273;
+        double t280 = t278 + t279;
+        double t281 = t277 - t280;
+        double t282 = t215 - t217;
+        double t283 = t226 + t228;
+        double t284 = 0.6427876096865393 * t283;
+        double t285 = t220 - t222;
+        double t286 = 0.766044443118978 * t285;
+        double t287 = t284 - t286;
+        double t288 = t282 + t287;
+        double t289 = t234 + t236;
+        double t290 = 0.766044443118978 * t283;
+        double t291 = 0.6427876096865393 * t285;
+        double t292 = t290 + t291;
+        double t293 = t289 - t292;
+        double t294 = t243 - t245;
+        double t295 = t248 + t250;
+        double t296 = 0.34202014332566866 * t295;
+        double t297 = t254 - t256;
+        double t298 = 0.9396926207859084 * t297;
+        double t299 = t296 - t298;
+        double t300 = t294 + t299;
+        double t301 = t262 + t264;
+        double t302 = 0.9396926207859084 * t295;
+        double t303 = 0.34202014332566866 * t297;
+        double t304 = t302 + t303;
+        double t305 = t301 - t304;
+        double t306 = t7 - t15;
+        double t307 = t24 - t32;
+        double t308 = t66 - t115;
+        double t309 = t129 - t132;
+        double t310 = t146 - t171;
+        double t311 = t181 - t184;
+        double t312 = t190 - t203;
+        double t313 = t209 - t212;
+        double t314 = t218 - t231;
+        double t315 = t237 - t240;
+        double t316 = t246 - t259;
+        double t317 = t265 + t268;
+        double t318 = t270 - t275;
+        double t319 = t277 + t280;
+        double t320 = t282 - t287;
+        double t321 = t289 + t292;
+        double t322 = t294 - t299;
+        double t323 = t301 + t304;
+        a[offr] = t16;
+        a[offi] = t33;
+        a[offr + 2] = t116;
+        a[offi + 2] = t133;
+        a[offr + 4] = t172;
+        a[offi + 4] = t185;
+        a[offr + 6] = t204;
+        a[offi + 6] = t213;
+        a[offr + 8] = t232;
+        a[offi + 8] = t241;
+        a[offr + 10] = t260;
+        a[offi + 10] = t269;
+        a[offr + 12] = t276;
+        a[offi + 12] = t281;
+        a[offr + 14] = t288;
+        a[offi + 14] = t293;
+        a[offr + 16] = t300;
+        a[offi + 16] = t305;
+        a[offr + 18] = t306;
+        a[offi + 18] = t307;
+        a[offr + 20] = t308;
+        a[offi + 20] = t309;
+        a[offr + 22] = t310;
+        a[offi + 22] = t311;
+        a[offr + 24] = t312;
+        a[offi + 24] = t313;
+        a[offr + 26] = t314;
+        a[offi + 26] = t315;
+        a[offr + 28] = t316;
+        a[offi + 28] = t317;
+        a[offr + 30] = t318;
+        a[offi + 30] = t319;
+        a[offr + 32] = t320;
+        a[offi + 32] = t321;
+        a[offr + 34] = t322;
+        a[offi + 34] = t323;
+    }
+
+    static void cf20(double[] a, int offr, int offi) {
+        double x0r = a[offr];
+        double x0i = a[offi];
+        double x1r = a[offr + 2];
+        double x1i = a[offi + 2];
+        double x2r = a[offr + 4];
+        double x2i = a[offi + 4];
+        double x3r = a[offr + 6];
+        double x3i = a[offi + 6];
+        double x4r = a[offr + 8];
+        double x4i = a[offi + 8];
+        double x5r = a[offr + 10];
+        double x5i = a[offi + 10];
+        double x6r = a[offr + 12];
+        double x6i = a[offi + 12];
+        double x7r = a[offr + 14];
+        double x7i = a[offi + 14];
+        double x8r = a[offr + 16];
+        double x8i = a[offi + 16];
+        double x9r = a[offr + 18];
+        double x9i = a[offi + 18];
+        double x10r = a[offr + 20];
+        double x10i = a[offi + 20];
+        double x11r = a[offr + 22];
+        double x11i = a[offi + 22];
+        double x12r = a[offr + 24];
+        double x12i = a[offi + 24];
+        double x13r = a[offr + 26];
+        double x13i = a[offi + 26];
+        double x14r = a[offr + 28];
+        double x14i = a[offi + 28];
+        double x15r = a[offr + 30];
+        double x15i = a[offi + 30];
+        double x16r = a[offr + 32];
+        double x16i = a[offi + 32];
+        double x17r = a[offr + 34];
+        double x17i = a[offi + 34];
+        double x18r = a[offr + 36];
+        double x18i = a[offi + 36];
+        double x19r = a[offr + 38];
+        double x19i = a[offi + 38];
+        double t0 = x8r + x12r;
+        double t1 = x4r + x16r;
+        double t2 = x0r + t1;
+        double t3 = t0 + t2;
+        double t4 = x10r + x14r;
+        double t5 = x6r + x18r;
+        double t6 = x2r + t5;
+        double t7 = t4 + t6;
+        double t8 = t3 + t7;
+        double t9 = x9r + x13r;
+        double t10 = x5r + x17r;
+        double t11 = x1r + t10;
+        double t12 = t9 + t11;
+        double t13 = x11r + x15r;
+        double t14 = x7r + x19r;
+        double t15 = x3r + t14;
+        double t16 = t13 + t15;
+        double t17 = t12 + t16;
+        double t18 = t8 + t17;
+        double t19 = x8i + x12i;
+        double t20 = x4i + x16i;
+        double t21 = x0i + t20;
+        double t22 = t19 + t21;
+        double t23 = x10i + x14i;
+        double t24 = x6i + x18i;
+        double t25 = x2i + t24;
+        double t26 = t23 + t25;
+        double t27 = t22 + t26;
+        double t28 = x9i + x13i;
+        double t29 = x5i + x17i;
+        double t30 = x1i + t29;
+        double t31 = t28 + t30;
+        double t32 = x11i + x15i;
+        double t33 = x7i + x19i;
+        double t34 = x3i + t33;
+        double t35 = t32 + t34;
+        double t36 = t31 + t35;
+        double t37 = t27 + t36;
+        double t38 = 0.30901699437494723 * t1;
+        double t39 = x0r + t38;
+        double t40 = 0.8090169943749476 * t0;
+        double t41 = t39 - t40;
+        double t42 = x4i - x16i;
+        double t43 = 0.9510565162951536 * t42;
+        double t44 = x8i - x12i;
+        double t45 = 0.587785252292473 * t44;
+        double t46 = t43 + t45;
+        double t47 = t41 + t46;
+        double t48 = 0.30901699437494723 * t5;
+        double t49 = x2r + t48;
+        double t50 = 0.8090169943749476 * t4;
+        double t51 = t49 - t50;
+        double t52 = x6i - x18i;
+        double t53 = 0.9510565162951536 * t52;
+        double t54 = x10i - x14i;
+        double t55 = 0.587785252292473 * t54;
+        double t56 = t53 + t55;
+        double t57 = t51 + t56;
+        double t58 = 0.8090169943749473 * t57;
+        double t59 = 0.30901699437494723 * t24;
+        double t60 = x2i + t59;
+        double t61 = 0.8090169943749476 * t23;
+        double t62 = t60 - t61;
+        double t63 = x6r - x18r;
+        double t64 = 0.9510565162951536 * t63;
+        double t65 = x10r - x14r;
+        double t66 = 0.587785252292473 * t65;
+        double t67 = t64 + t66;
+        double t68 = t62 - t67;
+        double t69 = 0.5877852522924734 * t68;
+        double t70 = t58 + t69;
+        double t71 = t47 + t70;
+        double t72 = 0.30901699437494723 * t10;
+        double t73 = x1r + t72;
+        double t74 = 0.8090169943749476 * t9;
+        double t75 = t73 - t74;
+        double t76 = x5i - x17i;
+        double t77 = 0.9510565162951536 * t76;
+        double t78 = x9i - x13i;
+        double t79 = 0.587785252292473 * t78;
+        double t80 = t77 + t79;
+        double t81 = t75 + t80;
+        double t82 = 0.9510565162951535 * t81;
+        double t83 = 0.30901699437494723 * t29;
+        double t84 = x1i + t83;
+        double t85 = 0.8090169943749476 * t28;
+        double t86 = t84 - t85;
+        double t87 = x5r - x17r;
+        double t88 = 0.9510565162951536 * t87;
+        double t89 = x9r - x13r;
+        double t90 = 0.587785252292473 * t89;
+        double t91 = t88 + t90;
+        double t92 = t86 - t91;
+        double t93 = 0.3090169943749476 * t92;
+        double t94 = t82 + t93;
+        double t95 = 0.30901699437494723 * t14;
+        double t96 = x3r + t95;
+        double t97 = 0.8090169943749476 * t13;
+        double t98 = t96 - t97;
+        double t99 = x7i - x19i;
+        double t100 = 0.9510565162951536 * t99;
+        double t101 = x11i - x15i;
+        double t102 = 0.587785252292473 * t101;
+        double t103 = t100 + t102;
+        double t104 = t98 + t103;
+        double t105 = 0.5877852522924729 * t104;
+        double t106 = 0.30901699437494723 * t33;
+        double t107 = x3i + t106;
+        double t108 = 0.8090169943749476 * t32;
+        double t109 = t107 - t108;
+        double t110 = x7r - x19r;
+        double t111 = 0.9510565162951536 * t110;
+        double t112 = x11r - x15r;
+        double t113 = 0.587785252292473 * t112;
+        double t114 = t111 + t113;
+        double t115 = t109 - t114;
+        double t116 = 0.8090169943749476 * t115;
+        double t117 = t105 + t116;
+        double t118 = t94 + t117;
+        double t119 = t71 + t118;
+        double t120 = 0.30901699437494723 * t20;
+        double t121 = x0i + t120;
+        double t122 = 0.8090169943749476 * t19;
+        double t123 = t121 - t122;
+        double t124 = x4r - x16r;
+        double t125 = 0.9510565162951536 * t124;
+        double t126 = x8r - x12r;
+        double t127 = 0.587785252292473 * t126;
+        double t128 = t125 + t127;
+        double t129 = t123 - t128;
+        double t130 = 0.8090169943749473 * t68;
+        double t131 = 0.5877852522924734 * t57;
+        double t132 = t130 - t131;
+        double t133 = t129 + t132;
+        double t134 = 0.9510565162951535 * t92;
+        double t135 = 0.3090169943749476 * t81;
+        double t136 = t134 - t135;
+        double t137 = 0.5877852522924729 * t115;
+        double t138 = 0.8090169943749476 * t104;
+        double t139 = t137 - t138;
+        double t140 = t136 + t139;
+        double t141 = t133 + t140;
+        double t142 = 0.8090169943749476 * t1;
+        double t143 = x0r - t142;
+        double t144 = 0.30901699437494745 * t0;
+        double t145 = t143 + t144;
+        double t146 = 0.9510565162951535 * t44;
+        double t147 = 0.587785252292473 * t42;
+        double t148 = t146 - t147;
+        double t149 = t145 - t148;
+        double t150 = 0.8090169943749476 * t5;
+        double t151 = x2r - t150;
+        double t152 = 0.30901699437494745 * t4;
+        double t153 = t151 + t152;
+        double t154 = 0.9510565162951535 * t54;
+        double t155 = 0.587785252292473 * t52;
+        double t156 = t154 - t155;
+        double t157 = t153 - t156;
+        double t158 = 0.30901699437494723 * t157;
+        double t159 = 0.8090169943749476 * t24;
+        double t160 = x2i - t159;
+        double t161 = 0.30901699437494745 * t23;
+        double t162 = t160 + t161;
+        double t163 = 0.9510565162951535 * t65;
+        double t164 = 0.587785252292473 * t63;
+        double t165 = t163 - t164;
+        double t166 = t162 + t165;
+        double t167 = 0.9510565162951536 * t166;
+        double t168 = t158 + t167;
+        double t169 = t149 + t168;
+        double t170 = 0.8090169943749476 * t10;
+        double t171 = x1r - t170;
+        double t172 = 0.30901699437494745 * t9;
+        double t173 = t171 + t172;
+        double t174 = 0.9510565162951535 * t78;
+        double t175 = 0.587785252292473 * t76;
+        double t176 = t174 - t175;
+        double t177 = t173 - t176;
+        double t178 = 0.8090169943749473 * t177;
+        double t179 = 0.8090169943749476 * t29;
+        double t180 = x1i - t179;
+        double t181 = 0.30901699437494745 * t28;
+        double t182 = t180 + t181;
+        double t183 = 0.9510565162951535 * t89;
+        double t184 = 0.587785252292473 * t87;
+        double t185 = t183 - t184;
+        double t186 = t182 + t185;
+        double t187 = 0.5877852522924734 * t186;
+        double t188 = t178 + t187;
+        double t189 = 0.8090169943749476 * t33;
+        double t190 = x3i - t189;
+        double t191 = 0.30901699437494745 * t32;
+        double t192 = t190 + t191;
+        double t193 = 0.9510565162951535 * t112;
+        double t194 = 0.587785252292473 * t110;
+        double t195 = t193 - t194;
+        double t196 = t192 + t195;
+        double t197 = 0.9510565162951535 * t196;
+        double t198 = 0.8090169943749476 * t14;
+        double t199 = x3r - t198;
+        double t200 = 0.30901699437494745 * t13;
+        double t201 = t199 + t200;
+        double t202 = 0.9510565162951535 * t101;
+        double t203 = 0.587785252292473 * t99;
+        double t204 = t202 - t203;
+        double t205 = t201 - t204;
+        double t206 = 0.30901699437494756 * t205;
+        double t207 = t197 - t206;
+        double t208 = t188 + t207;
+        double t209 = t169 + t208;
+        double t210 = 0.8090169943749476 * t20;
+        double t211 = x0i - t210;
+        double t212 = 0.30901699437494745 * t19;
+        double t213 = t211 + t212;
+        double t214 = 0.9510565162951535 * t126;
+        double t215 = 0.587785252292473 * t124;
+        double t216 = t214 - t215;
+        double t217 = t213 + t216;
+        double t218 = 0.30901699437494723 * t166;
+        double t219 = 0.9510565162951536 * t157;
+        double t220 = t218 - t219;
+        double t221 = t217 + t220;
+        double t222 = 0.8090169943749473 * t186;
+        double t223 = 0.5877852522924734 * t177;
+        double t224 = t222 - t223;
+        double t225 = 0.30901699437494756 * t196;
+        double t226 = 0.9510565162951535 * t205;
+        double t227 = t225 + t226;
+        double t228 = t224 - t227;
+        double t229 = t221 + t228;
+        double t230 = t145 + t148;
+        double t231 = t162 - t165;
+        double t232 = 0.9510565162951535 * t231;
+        double t233 = t153 + t156;
+        double t234 = 0.30901699437494756 * t233;
+        double t235 = t232 - t234;
+        double t236 = t230 + t235;
+        double t237 = t173 + t176;
+        double t238 = 0.5877852522924729 * t237;
+        double t239 = t182 - t185;
+        double t240 = 0.8090169943749476 * t239;
+        double t241 = t238 + t240;
+        double t242 = t192 - t195;
+        double t243 = 0.30901699437494773 * t242;
+        double t244 = t201 + t204;
+        double t245 = 0.9510565162951535 * t244;
+        double t246 = t243 - t245;
+        double t247 = t241 + t246;
+        double t248 = t236 + t247;
+        double t249 = t213 - t216;
+        double t250 = 0.30901699437494756 * t231;
+        double t251 = 0.9510565162951535 * t233;
+        double t252 = t250 + t251;
+        double t253 = t249 - t252;
+        double t254 = 0.5877852522924729 * t239;
+        double t255 = 0.8090169943749476 * t237;
+        double t256 = t254 - t255;
+        double t257 = 0.9510565162951535 * t242;
+        double t258 = 0.30901699437494773 * t244;
+        double t259 = t257 + t258;
+        double t260 = t256 - t259;
+        double t261 = t253 + t260;
+        double t262 = t41 - t46;
+        double t263 = t62 + t67;
+        double t264 = 0.587785252292473 * t263;
+        double t265 = t51 - t56;
+        double t266 = 0.8090169943749476 * t265;
+        double t267 = t264 - t266;
+        double t268 = t262 + t267;
+        double t269 = t75 - t80;
+        double t270 = 0.30901699437494723 * t269;
+        double t271 = t86 + t91;
+        double t272 = 0.9510565162951536 * t271;
+        double t273 = t270 + t272;
+        double t274 = t98 - t103;
+        double t275 = 0.8090169943749473 * t274;
+        double t276 = t109 + t114;
+        double t277 = 0.5877852522924732 * t276;
+        double t278 = t275 + t277;
+        double t279 = t273 - t278;
+        double t280 = t268 + t279;
+        double t281 = t123 + t128;
+        double t282 = 0.8090169943749476 * t263;
+        double t283 = 0.587785252292473 * t265;
+        double t284 = t282 + t283;
+        double t285 = t281 - t284;
+        double t286 = 0.30901699437494723 * t271;
+        double t287 = 0.9510565162951536 * t269;
+        double t288 = t286 - t287;
+        double t289 = 0.5877852522924732 * t274;
+        double t290 = 0.8090169943749473 * t276;
+        double t291 = t289 - t290;
+        double t292 = t288 + t291;
+        double t293 = t285 + t292;
+        double t294 = t3 - t7;
+        double t295 = t31 - t35;
+        double t296 = t294 + t295;
+        double t297 = t22 - t26;
+        double t298 = t16 - t12;
+        double t299 = t297 + t298;
+        double t300 = t47 - t70;
+        double t301 = t136 - t139;
+        double t302 = t300 + t301;
+        double t303 = t129 - t132;
+        double t304 = t117 - t94;
+        double t305 = t303 + t304;
+        double t306 = t149 - t168;
+        double t307 = t224 + t227;
+        double t308 = t306 + t307;
+        double t309 = t217 - t220;
+        double t310 = t207 - t188;
+        double t311 = t309 + t310;
+        double t312 = t230 - t235;
+        double t313 = t256 + t259;
+        double t314 = t312 + t313;
+        double t315 = t249 + t252;
+        double t316 = t246 - t241;
+        double t317 = t315 + t316;
+        double t318 = t262 - t267;
+        double t319 = t288 - t291;
+        double t320 = t318 + t319;
+        double t321 = t281 + t284;
+        double t322 = t273 + t278;
+        double t323 = t321 - t322;
+        double t324 = t8 - t17;
+        double t325 = t27 - t36;
+        double t326 = t71 - t118;
+        double t327 = t133 - t140;
+        double t328 = t169 - t208;
+        double t329 = t221 - t228;
+        double t330 = t236 - t247;
+        double t331 = t253 - t260;
+        double t332 = t268 - t279;
+        double t333 = t285 - t292;
+        double t334 = t294 - t295;
+        double t335 = t297 - t298;
+        double t336 = t300 - t301;
+        double t337 = t303 - t304;
+        double t338 = t306 - t307;
+        double t339 = t309 - t310;
+        double t340 = t312 - t313;
+        double t341 = t315 - t316;
+        double t342 = t318 - t319;
+        double t343 = t321 + t322;
+        a[offr] = t18;
+        a[offi] = t37;
+        a[offr + 2] = t119;
+        a[offi + 2] = t141;
+        a[offr + 4] = t209;
+        a[offi + 4] = t229;
+        a[offr + 6] = t248;
+        a[offi + 6] = t261;
+        a[offr + 8] = t280;
+        a[offi + 8] = t293;
+        a[offr + 10] = t296;
+        a[offi + 10] = t299;
+        a[offr + 12] = t302;
+        a[offi + 12] = t305;
+        a[offr + 14] = t308;
+        a[offi + 14] = t311;
+        a[offr + 16] = t314;
+        a[offi + 16] = t317;
+        a[offr + 18] = t320;
+        a[offi + 18] = t323;
+        a[offr + 20] = t324;
+        a[offi + 20] = t325;
+        a[offr + 22] = t326;
+        a[offi + 22] = t327;
+        a[offr + 24] = t328;
+        a[offi + 24] = t329;
+        a[offr + 26] = t330;
+        a[offi + 26] = t331;
+        a[offr + 28] = t332;
+        a[offi + 28] = t333;
+        a[offr + 30] = t334;
+        a[offi + 30] = t335;
+        a[offr + 32] = t336;
+        a[offi + 32] = t337;
+        a[offr + 34] = t338;
+        a[offi + 34] = t339;
+        a[offr + 36] = t340;
+        a[offi + 36] = t341;
+        a[offr + 38] = t342;
+        a[offi + 38] = t343;
+    }
+
+    static void cf24(double[] a, int offr, int offi) {
+        double x0r = a[offr];
+        double x0i = a[offi];
+        double x1r = a[offr + 2];
+        double x1i = a[offi + 2];
+        double x2r = a[offr + 4];
+        double x2i = a[offi + 4];
+        double x3r = a[offr + 6];
+        double x3i = a[offi + 6];
+        double x4r = a[offr + 8];
+        double x4i = a[offi + 8];
+        double x5r = a[offr + 10];
+        double x5i = a[offi + 10];
+        double x6r = a[offr + 12];
+        double x6i = a[offi + 12];
+        double x7r = a[offr + 14];
+        double x7i = a[offi + 14];
+        double x8r = a[offr + 16];
+        double x8i = a[offi + 16];
+        double x9r = a[offr + 18];
+        double x9i = a[offi + 18];
+        double x10r = a[offr + 20];
+        double x10i = a[offi + 20];
+        double x11r = a[offr + 22];
+        double x11i = a[offi + 22];
+        double x12r = a[offr + 24];
+        double x12i = a[offi + 24];
+        double x13r = a[offr + 26];
+        double x13i = a[offi + 26];
+        double x14r = a[offr + 28];
+        double x14i = a[offi + 28];
+        double x15r = a[offr + 30];
+        double x15i = a[offi + 30];
+        double x16r = a[offr + 32];
+        double x16i = a[offi + 32];
+        double x17r = a[offr + 34];
+        double x17i = a[offi + 34];
+        double x18r = a[offr + 36];
+        double x18i = a[offi + 36];
+        double x19r = a[offr + 38];
+        double x19i = a[offi + 38];
+        double x20r = a[offr + 40];
+        double x20i = a[offi + 40];
+        double x21r = a[offr + 42];
+        double x21i = a[offi + 42];
+        double x22r = a[offr + 44];
+        double x22i = a[offi + 44];
+        double x23r = a[offr + 46];
+        double x23i = a[offi + 46];
+        double t0 = x8r + x16r;
+        double t1 = x0r + t0;
+        double t2 = x12r + x20r;
+        double t3 = x4r + t2;
+        double t4 = t1 + t3;
+        double t5 = x10r + x18r;
+        double t6 = x2r + t5;
+        double t7 = x14r + x22r;
+        double t8 = x6r + t7;
+        double t9 = t6 + t8;
+        double t10 = t4 + t9;
+        double t11 = x9r + x17r;
+        double t12 = x1r + t11;
+        double t13 = x13r + x21r;
+        double t14 = x5r + t13;
+        double t15 = t12 + t14;
+        double t16 = x11r + x19r;
+        double t17 = x3r + t16;
+        double t18 = x15r + x23r;
+        double t19 = x7r + t18;
+        double t20 = t17 + t19;
+        double t21 = t15 + t20;
+        double t22 = t10 + t21;
+        double t23 = x8i + x16i;
+        double t24 = x0i + t23;
+        double t25 = x12i + x20i;
+        double t26 = x4i + t25;
+        double t27 = t24 + t26;
+        double t28 = x10i + x18i;
+        double t29 = x2i + t28;
+        double t30 = x14i + x22i;
+        double t31 = x6i + t30;
+        double t32 = t29 + t31;
+        double t33 = t27 + t32;
+        double t34 = x9i + x17i;
+        double t35 = x1i + t34;
+        double t36 = x13i + x21i;
+        double t37 = x5i + t36;
+        double t38 = t35 + t37;
+        double t39 = x11i + x19i;
+        double t40 = x3i + t39;
+        double t41 = x15i + x23i;
+        double t42 = x7i + t41;
+        double t43 = t40 + t42;
+        double t44 = t38 + t43;
+        double t45 = t33 + t44;
+        double t46 = 0.5 * t0;
+        double t47 = x0r - t46;
+        double t48 = x8i - x16i;
+        double t49 = 0.8660254037844384 * t48;
+        double t50 = t47 + t49;
+        double t51 = 0.5 * t2;
+        double t52 = x4r - t51;
+        double t53 = x12i - x20i;
+        double t54 = 0.8660254037844384 * t53;
+        double t55 = t52 + t54;
+        double t56 = 0.5 * t55;
+        double t57 = 0.5 * t25;
+        double t58 = x4i - t57;
+        double t59 = x12r - x20r;
+        double t60 = 0.8660254037844384 * t59;
+        double t61 = t58 - t60;
+        double t62 = 0.8660254037844386 * t61;
+        double t63 = t56 + t62;
+        double t64 = t50 + t63;
+        double t65 = 0.5 * t5;
+        double t66 = x2r - t65;
+        double t67 = x10i - x18i;
+        double t68 = 0.8660254037844384 * t67;
+        double t69 = t66 + t68;
+        double t70 = 0.5 * t7;
+        double t71 = x6r - t70;
+        double t72 = x14i - x22i;
+        double t73 = 0.8660254037844384 * t72;
+        double t74 = t71 + t73;
+        double t75 = 0.5 * t74;
+        double t76 = 0.5 * t30;
+        double t77 = x6i - t76;
+        double t78 = x14r - x22r;
+        double t79 = 0.8660254037844384 * t78;
+        double t80 = t77 - t79;
+        double t81 = 0.8660254037844386 * t80;
+        double t82 = t75 + t81;
+        double t83 = t69 + t82;
+        double t84 = 0.8660254037844384 * t83;
+        double t85 = 0.5 * t28;
+        double t86 = x2i - t85;
+        double t87 = x10r - x18r;
+        double t88 = 0.8660254037844384 * t87;
+        double t89 = t86 - t88;
+        double t90 = 0.5 * t80;
+        double t91 = 0.8660254037844386 * t74;
+        double t92 = t90 - t91;
+        double t93 = t89 + t92;
+        double t94 = 0.5 * t93;
+        double t95 = t84 + t94;
+        double t96 = t64 + t95;
+        double t97 = 0.5 * t11;
+        double t98 = x1r - t97;
+        double t99 = x9i - x17i;
+        double t100 = 0.8660254037844384 * t99;
+        double t101 = t98 + t100;
+        double t102 = 0.5 * t13;
+        double t103 = x5r - t102;
+        double t104 = x13i - x21i;
+        double t105 = 0.8660254037844384 * t104;
+        double t106 = t103 + t105;
+        double t107 = 0.5 * t106;
+        double t108 = 0.5 * t36;
+        double t109 = x5i - t108;
+        double t110 = x13r - x21r;
+        double t111 = 0.8660254037844384 * t110;
+        double t112 = t109 - t111;
+        double t113 = 0.8660254037844386 * t112;
+        double t114 = t107 + t113;
+        double t115 = t101 + t114;
+        double t116 = 0.9659258262890683 * t115;
+        double t117 = 0.5 * t34;
+        double t118 = x1i - t117;
+        double t119 = x9r - x17r;
+        double t120 = 0.8660254037844384 * t119;
+        double t121 = t118 - t120;
+        double t122 = 0.5 * t112;
+        double t123 = 0.8660254037844386 * t106;
+        double t124 = t122 - t123;
+        double t125 = t121 + t124;
+        double t126 = 0.2588190451025207 * t125;
+        double t127 = t116 + t126;
+        double t128 = 0.5 * t16;
+        double t129 = x3r - t128;
+        double t130 = x11i - x19i;
+        double t131 = 0.8660254037844384 * t130;
+        double t132 = t129 + t131;
+        double t133 = 0.5 * t18;
+        double t134 = x7r - t133;
+        double t135 = x15i - x23i;
+        double t136 = 0.8660254037844384 * t135;
+        double t137 = t134 + t136;
+        double t138 = 0.5 * t137;
+        double t139 = 0.5 * t41;
+        double t140 = x7i - t139;
+        double t141 = x15r - x23r;
+        double t142 = 0.8660254037844384 * t141;
+        double t143 = t140 - t142;
+        double t144 = 0.8660254037844386 * t143;
+        double t145 = t138 + t144;
+        double t146 = t132 + t145;
+        double t147 = 0.5 * t39;
+        double t148 = x3i - t147;
+        double t149 = x11r - x19r;
+        double t150 = 0.8660254037844384 * t149;
+        double t151 = t148 - t150;
+        double t152 = 0.5 * t143;
+        double t153 = 0.8660254037844386 * t137;
+        double t154 = t152 - t153;
+        double t155 = t151 + t154;
+        double t156 = t146 + t155;
+        double t157 = 0.7071067811865476 * t156;
+        double t158 = t127 + t157;
+        double t159 = t96 + t158;
+        double t160 = 0.5 * t23;
+        double t161 = x0i - t160;
+        double t162 = x8r - x16r;
+        double t163 = 0.8660254037844384 * t162;
+        double t164 = t161 - t163;
+        double t165 = 0.5 * t61;
+        double t166 = 0.8660254037844386 * t55;
+        double t167 = t165 - t166;
+        double t168 = t164 + t167;
+        double t169 = 0.8660254037844384 * t93;
+        double t170 = 0.5 * t83;
+        double t171 = t169 - t170;
+        double t172 = t168 + t171;
+        double t173 = 0.9659258262890683 * t125;
+        double t174 = 0.2588190451025207 * t115;
+        double t175 = t173 - t174;
+        double t176 = t155 - t146;
+        double t177 = 0.7071067811865476 * t176;
+        double t178 = t175 + t177;
+        double t179 = t172 + t178;
+        double t180 = t47 - t49;
+        double t181 = t58 + t60;
+        double t182 = 0.8660254037844384 * t181;
+        double t183 = t52 - t54;
+        double t184 = 0.5 * t183;
+        double t185 = t182 - t184;
+        double t186 = t180 + t185;
+        double t187 = t66 - t68;
+        double t188 = t77 + t79;
+        double t189 = 0.8660254037844384 * t188;
+        double t190 = t71 - t73;
+        double t191 = 0.5 * t190;
+        double t192 = t189 - t191;
+        double t193 = t187 + t192;
+        double t194 = 0.5 * t193;
+        double t195 = t86 + t88;
+        double t196 = 0.5 * t188;
+        double t197 = 0.8660254037844384 * t190;
+        double t198 = t196 + t197;
+        double t199 = t195 - t198;
+        double t200 = 0.8660254037844386 * t199;
+        double t201 = t194 + t200;
+        double t202 = t186 + t201;
+        double t203 = t148 + t150;
+        double t204 = t140 + t142;
+        double t205 = 0.5 * t204;
+        double t206 = t134 - t136;
+        double t207 = 0.8660254037844384 * t206;
+        double t208 = t205 + t207;
+        double t209 = t203 - t208;
+        double t210 = t98 - t100;
+        double t211 = t109 + t111;
+        double t212 = 0.8660254037844384 * t211;
+        double t213 = t103 - t105;
+        double t214 = 0.5 * t213;
+        double t215 = t212 - t214;
+        double t216 = t210 + t215;
+        double t217 = 0.8660254037844384 * t216;
+        double t218 = t118 + t120;
+        double t219 = 0.5 * t211;
+        double t220 = 0.8660254037844384 * t213;
+        double t221 = t219 + t220;
+        double t222 = t218 - t221;
+        double t223 = 0.5 * t222;
+        double t224 = t217 + t223;
+        double t225 = t209 + t224;
+        double t226 = t202 + t225;
+        double t227 = t161 + t163;
+        double t228 = 0.5 * t181;
+        double t229 = 0.8660254037844384 * t183;
+        double t230 = t228 + t229;
+        double t231 = t227 - t230;
+        double t232 = 0.5 * t199;
+        double t233 = 0.8660254037844386 * t193;
+        double t234 = t232 - t233;
+        double t235 = t231 + t234;
+        double t236 = 0.8660254037844384 * t222;
+        double t237 = 0.5 * t216;
+        double t238 = t236 - t237;
+        double t239 = t129 - t131;
+        double t240 = 0.8660254037844384 * t204;
+        double t241 = 0.5 * t206;
+        double t242 = t240 - t241;
+        double t243 = t239 + t242;
+        double t244 = t238 - t243;
+        double t245 = t235 + t244;
+        double t246 = t1 - t3;
+        double t247 = t29 - t31;
+        double t248 = t246 + t247;
+        double t249 = t12 - t14;
+        double t250 = t35 - t37;
+        double t251 = t249 + t250;
+        double t252 = 0.7071067811865476 * t251;
+        double t253 = t17 - t19;
+        double t254 = t40 - t42;
+        double t255 = t253 - t254;
+        double t256 = 0.7071067811865476 * t255;
+        double t257 = t252 - t256;
+        double t258 = t248 + t257;
+        double t259 = t24 - t26;
+        double t260 = t8 - t6;
+        double t261 = t259 + t260;
+        double t262 = t250 - t249;
+        double t263 = 0.7071067811865476 * t262;
+        double t264 = t253 + t254;
+        double t265 = 0.7071067811865476 * t264;
+        double t266 = t263 - t265;
+        double t267 = t261 + t266;
+        double t268 = t50 - t63;
+        double t269 = t89 - t92;
+        double t270 = 0.8660254037844384 * t269;
+        double t271 = t69 - t82;
+        double t272 = 0.5 * t271;
+        double t273 = t270 - t272;
+        double t274 = t268 + t273;
+        double t275 = t101 - t114;
+        double t276 = 0.5 * t275;
+        double t277 = t121 - t124;
+        double t278 = 0.8660254037844386 * t277;
+        double t279 = t276 + t278;
+        double t280 = t145 - t132;
+        double t281 = t279 + t280;
+        double t282 = t274 + t281;
+        double t283 = t164 - t167;
+        double t284 = 0.5 * t269;
+        double t285 = 0.8660254037844384 * t271;
+        double t286 = t284 + t285;
+        double t287 = t283 - t286;
+        double t288 = 0.5 * t277;
+        double t289 = 0.8660254037844386 * t275;
+        double t290 = t288 - t289;
+        double t291 = t154 - t151;
+        double t292 = t290 + t291;
+        double t293 = t287 + t292;
+        double t294 = t180 - t185;
+        double t295 = t195 + t198;
+        double t296 = 0.5 * t295;
+        double t297 = t187 - t192;
+        double t298 = 0.8660254037844386 * t297;
+        double t299 = t296 - t298;
+        double t300 = t294 + t299;
+        double t301 = t210 - t215;
+        double t302 = 0.2588190451025203 * t301;
+        double t303 = t218 + t221;
+        double t304 = 0.9659258262890684 * t303;
+        double t305 = t302 + t304;
+        double t306 = t239 - t242;
+        double t307 = t203 + t208;
+        double t308 = t306 + t307;
+        double t309 = 0.7071067811865476 * t308;
+        double t310 = t305 - t309;
+        double t311 = t300 + t310;
+        double t312 = t227 + t230;
+        double t313 = 0.8660254037844386 * t295;
+        double t314 = 0.5 * t297;
+        double t315 = t313 + t314;
+        double t316 = t312 - t315;
+        double t317 = 0.2588190451025203 * t303;
+        double t318 = 0.9659258262890684 * t301;
+        double t319 = t317 - t318;
+        double t320 = t307 - t306;
+        double t321 = 0.7071067811865476 * t320;
+        double t322 = t319 - t321;
+        double t323 = t316 + t322;
+        double t324 = t4 - t9;
+        double t325 = t38 - t43;
+        double t326 = t324 + t325;
+        double t327 = t27 - t32;
+        double t328 = t20 - t15;
+        double t329 = t327 + t328;
+        double t330 = t64 - t95;
+        double t331 = t175 - t177;
+        double t332 = t330 + t331;
+        double t333 = t168 - t171;
+        double t334 = t157 - t127;
+        double t335 = t333 + t334;
+        double t336 = t186 - t201;
+        double t337 = t243 + t238;
+        double t338 = t336 + t337;
+        double t339 = t231 - t234;
+        double t340 = t209 - t224;
+        double t341 = t339 + t340;
+        double t342 = t246 - t247;
+        double t343 = t263 + t265;
+        double t344 = t342 + t343;
+        double t345 = t259 - t260;
+        double t346 = t252 + t256;
+        double t347 = t345 - t346;
+        double t348 = t268 - t273;
+        double t349 = t290 - t291;
+        double t350 = t348 + t349;
+        double t351 = t283 + t286;
+        double t352 = t280 - t279;
+        double t353 = t351 + t352;
+        double t354 = t294 - t299;
+        double t355 = t319 + t321;
+        double t356 = t354 + t355;
+        double t357 = t312 + t315;
+        double t358 = t305 + t309;
+        double t359 = t357 - t358;
+        double t360 = t10 - t21;
+        double t361 = t33 - t44;
+        double t362 = t96 - t158;
+        double t363 = t172 - t178;
+        double t364 = t202 - t225;
+        double t365 = t235 - t244;
+        double t366 = t248 - t257;
+        double t367 = t261 - t266;
+        double t368 = t274 - t281;
+        double t369 = t287 - t292;
+        double t370 = t300 - t310;
+        double t371 = t316 - t322;
+        double t372 = t324 - t325;
+        double t373 = t327 - t328;
+        double t374 = t330 - t331;
+        double t375 = t333 - t334;
+        double t376 = t336 - t337;
+        double t377 = t339 - t340;
+        double t378 = t342 - t343;
+        double t379 = t345 + t346;
+        double t380 = t348 - t349;
+        double t381 = t351 - t352;
+        double t382 = t354 - t355;
+        double t383 = t357 + t358;
+        a[offr] = t22;
+        a[offi] = t45;
+        a[offr + 2] = t159;
+        a[offi + 2] = t179;
+        a[offr + 4] = t226;
+        a[offi + 4] = t245;
+        a[offr + 6] = t258;
+        a[offi + 6] = t267;
+        a[offr + 8] = t282;
+        a[offi + 8] = t293;
+        a[offr + 10] = t311;
+        a[offi + 10] = t323;
+        a[offr + 12] = t326;
+        a[offi + 12] = t329;
+        a[offr + 14] = t332;
+        a[offi + 14] = t335;
+        a[offr + 16] = t338;
+        a[offi + 16] = t341;
+        a[offr + 18] = t344;
+        a[offi + 18] = t347;
+        a[offr + 20] = t350;
+        a[offi + 20] = t353;
+        a[offr + 22] = t356;
+        a[offi + 22] = t359;
+        a[offr + 24] = t360;
+        a[offi + 24] = t361;
+        a[offr + 26] = t362;
+        a[offi + 26] = t363;
+        a[offr + 28] = t364;
+        a[offi + 28] = t365;
+        a[offr + 30] = t366;
+        a[offi + 30] = t367;
+        a[offr + 32] = t368;
+        a[offi + 32] = t369;
+        a[offr + 34] = t370;
+        a[offi + 34] = t371;
+        a[offr + 36] = t372;
+        a[offi + 36] = t373;
+        a[offr + 38] = t374;
+        a[offi + 38] = t375;
+        a[offr + 40] = t376;
+        a[offi + 40] = t377;
+        a[offr + 42] = t378;
+        a[offi + 42] = t379;
+        a[offr + 44] = t380;
+        a[offi + 44] = t381;
+        a[offr + 46] = t382;
+        a[offi + 46] = t383;
+    }
+
+    static void cf32(double[] a, int offr, int offi) {
+        double x0r = a[offr];
+        double x0i = a[offi];
+        double x1r = a[offr + 2];
+        double x1i = a[offi + 2];
+        double x2r = a[offr + 4];
+        double x2i = a[offi + 4];
+        double x3r = a[offr + 6];
+        double x3i = a[offi + 6];
+        double x4r = a[offr + 8];
+        double x4i = a[offi + 8];
+        double x5r = a[offr + 10];
+        double x5i = a[offi + 10];
+        double x6r = a[offr + 12];
+        double x6i = a[offi + 12];
+        double x7r = a[offr + 14];
+        double x7i = a[offi + 14];
+        double x8r = a[offr + 16];
+        double x8i = a[offi + 16];
+        double x9r = a[offr + 18];
+        double x9i = a[offi + 18];
+        double x10r = a[offr + 20];
+        double x10i = a[offi + 20];
+        double x11r = a[offr + 22];
+        double x11i = a[offi + 22];
+        double x12r = a[offr + 24];
+        double x12i = a[offi + 24];
+        double x13r = a[offr + 26];
+        double x13i = a[offi + 26];
+        double x14r = a[offr + 28];
+        double x14i = a[offi + 28];
+        double x15r = a[offr + 30];
+        double x15i = a[offi + 30];
+        double x16r = a[offr + 32];
+        double x16i = a[offi + 32];
+        double x17r = a[offr + 34];
+        double x17i = a[offi + 34];
+        double x18r = a[offr + 36];
+        double x18i = a[offi + 36];
+        double x19r = a[offr + 38];
+        double x19i = a[offi + 38];
+        double x20r = a[offr + 40];
+        double x20i = a[offi + 40];
+        double x21r = a[offr + 42];
+        double x21i = a[offi + 42];
+        double x22r = a[offr + 44];
+        double x22i = a[offi + 44];
+        double x23r = a[offr + 46];
+        double x23i = a[offi + 46];
+        double x24r = a[offr + 48];
+        double x24i = a[offi + 48];
+        double x25r = a[offr + 50];
+        double x25i = a[offi + 50];
+        double x26r = a[offr + 52];
+        double x26i = a[offi + 52];
+        double x27r = a[offr + 54];
+        double x27i = a[offi + 54];
+        double x28r = a[offr + 56];
+        double x28i = a[offi + 56];
+        double x29r = a[offr + 58];
+        double x29i = a[offi + 58];
+        double x30r = a[offr + 60];
+        double x30i = a[offi + 60];
+        double x31r = a[offr + 62];
+        double x31i = a[offi + 62];
+        double t0 = x0r + x16r;
+        double t1 = x8r + x24r;
+        double t2 = t0 + t1;
+        double t3 = x4r + x20r;
+        double t4 = x12r + x28r;
+        double t5 = t3 + t4;
+        double t6 = t2 + t5;
+        double t7 = x2r + x18r;
+        double t8 = x10r + x26r;
+        double t9 = t7 + t8;
+        double t10 = x6r + x22r;
+        double t11 = x14r + x30r;
+        double t12 = t10 + t11;
+        double t13 = t9 + t12;
+        double t14 = t6 + t13;
+        double t15 = x1r + x17r;
+        double t16 = x9r + x25r;
+        double t17 = t15 + t16;
+        double t18 = x5r + x21r;
+        double t19 = x13r + x29r;
+        double t20 = t18 + t19;
+        double t21 = t17 + t20;
+        double t22 = x3r + x19r;
+        double t23 = x11r + x27r;
+        double t24 = t22 + t23;
+        double t25 = x7r + x23r;
+        double t26 = x15r + x31r;
+        double t27 = t25 + t26;
+        double t28 = t24 + t27;
+        double t29 = t21 + t28;
+        double t30 = t14 + t29;
+        double t31 = x0i + x16i;
+        double t32 = x8i + x24i;
+        double t33 = t31 + t32;
+        double t34 = x4i + x20i;
+        double t35 = x12i + x28i;
+        double t36 = t34 + t35;
+        double t37 = t33 + t36;
+        double t38 = x2i + x18i;
+        double t39 = x10i + x26i;
+        double t40 = t38 + t39;
+        double t41 = x6i + x22i;
+        double t42 = x14i + x30i;
+        double t43 = t41 + t42;
+        double t44 = t40 + t43;
+        double t45 = t37 + t44;
+        double t46 = x1i + x17i;
+        double t47 = x9i + x25i;
+        double t48 = t46 + t47;
+        double t49 = x5i + x21i;
+        double t50 = x13i + x29i;
+        double t51 = t49 + t50;
+        double t52 = t48 + t51;
+        double t53 = x3i + x19i;
+        double t54 = x11i + x27i;
+        double t55 = t53 + t54;
+        double t56 = x7i + x23i;
+        double t57 = x15i + x31i;
+        double t58 = t56 + t57;
+        double t59 = t55 + t58;
+        double t60 = t52 + t59;
+        double t61 = t45 + t60;
+        double t62 = x0r - x16r;
+        double t63 = x8i - x24i;
+        double t64 = t62 + t63;
+        double t65 = x4r - x20r;
+        double t66 = x12i - x28i;
+        double t67 = t65 + t66;
+        double t68 = x4i - x20i;
+        double t69 = x28r - x12r;
+        double t70 = t68 + t69;
+        double t71 = t67 + t70;
+        double t72 = 0.7071067811865476 * t71;
+        double t73 = t64 + t72;
+        double t74 = x2r - x18r;
+        double t75 = x10i - x26i;
+        double t76 = t74 + t75;
+        double t77 = x6r - x22r;
+        double t78 = x14i - x30i;
+        double t79 = t77 + t78;
+        double t80 = x6i - x22i;
+        double t81 = x30r - x14r;
+        double t82 = t80 + t81;
+        double t83 = t79 + t82;
+        double t84 = 0.7071067811865476 * t83;
+        double t85 = t76 + t84;
+        double t86 = 0.9238795325112865 * t85;
+        double t87 = x2i - x18i;
+        double t88 = x26r - x10r;
+        double t89 = t87 + t88;
+        double t90 = t82 - t79;
+        double t91 = 0.7071067811865476 * t90;
+        double t92 = t89 + t91;
+        double t93 = 0.3826834323650904 * t92;
+        double t94 = t86 + t93;
+        double t95 = t73 + t94;
+        double t96 = x1r - x17r;
+        double t97 = x9i - x25i;
+        double t98 = t96 + t97;
+        double t99 = x5r - x21r;
+        double t100 = x13i - x29i;
+        double t101 = t99 + t100;
+        double t102 = x5i - x21i;
+        double t103 = x29r - x13r;
+        double t104 = t102 + t103;
+        double t105 = t101 + t104;
+        double t106 = 0.7071067811865476 * t105;
+        double t107 = t98 + t106;
+        double t108 = 0.9807852804032303 * t107;
+        double t109 = x1i - x17i;
+        double t110 = x25r - x9r;
+        double t111 = t109 + t110;
+        double t112 = t104 - t101;
+        double t113 = 0.7071067811865476 * t112;
+        double t114 = t111 + t113;
+        double t115 = 0.19509032201612872 * t114;
+        double t116 = t108 + t115;
+        double t117 = x3r - x19r;
+        double t118 = x11i - x27i;
+        double t119 = t117 + t118;
+        double t120 = x7r - x23r;
+        double t121 = x15i - x31i;
+        double t122 = t120 + t121;
+        double t123 = x7i - x23i;
+        double t124 = x31r - x15r;
+        double t125 = t123 + t124;
+        double t126 = t122 + t125;
+        double t127 = 0.7071067811865476 * t126;
+        double t128 = t119 + t127;
+        double t129 = 0.8314696123025452 * t128;
+        double t130 = x3i - x19i;
+        double t131 = x27r - x11r;
+        double t132 = t130 + t131;
+        double t133 = t125 - t122;
+        double t134 = 0.7071067811865476 * t133;
+        double t135 = t132 + t134;
+        double t136 = 0.5555702330196022 * t135;
+        double t137 = t129 + t136;
+        double t138 = t116 + t137;
+        double t139 = t95 + t138;
+        double t140 = x0i - x16i;
+        double t141 = x24r - x8r;
+        double t142 = t140 + t141;
+        double t143 = t70 - t67;
+        double t144 = 0.7071067811865476 * t143;
+        double t145 = t142 + t144;
+        double t146 = 0.9238795325112865 * t92;
+        double t147 = 0.3826834323650904 * t85;
+        double t148 = t146 - t147;
+        double t149 = t145 + t148;
+        double t150 = 0.9807852804032303 * t114;
+        double t151 = 0.19509032201612872 * t107;
+        double t152 = t150 - t151;
+        double t153 = 0.8314696123025452 * t135;
+        double t154 = 0.5555702330196022 * t128;
+        double t155 = t153 - t154;
+        double t156 = t152 + t155;
+        double t157 = t149 + t156;
+        double t158 = t0 - t1;
+        double t159 = t34 - t35;
+        double t160 = t158 + t159;
+        double t161 = t7 - t8;
+        double t162 = t41 - t42;
+        double t163 = t161 + t162;
+        double t164 = t38 - t39;
+        double t165 = t11 - t10;
+        double t166 = t164 + t165;
+        double t167 = t163 + t166;
+        double t168 = 0.7071067811865476 * t167;
+        double t169 = t160 + t168;
+        double t170 = t15 - t16;
+        double t171 = t49 - t50;
+        double t172 = t170 + t171;
+        double t173 = 0.9238795325112865 * t172;
+        double t174 = t46 - t47;
+        double t175 = t19 - t18;
+        double t176 = t174 + t175;
+        double t177 = 0.3826834323650904 * t176;
+        double t178 = t173 + t177;
+        double t179 = t22 - t23;
+        double t180 = t56 - t57;
+        double t181 = t179 + t180;
+        double t182 = 0.38268343236509 * t181;
+        double t183 = t53 - t54;
+        double t184 = t26 - t25;
+        double t185 = t183 + t184;
+        double t186 = 0.9238795325112866 * t185;
+        double t187 = t182 + t186;
+        double t188 = t178 + t187;
+        double t189 = t169 + t188;
+        double t190 = t31 - t32;
+        double t191 = t4 - t3;
+        double t192 = t190 + t191;
+        double t193 = t166 - t163;
+        double t194 = 0.7071067811865476 * t193;
+        double t195 = t192 + t194;
+        double t196 = 0.9238795325112865 * t176;
+        double t197 = 0.3826834323650904 * t172;
+        double t198 = t196 - t197;
+        double t199 = 0.38268343236509 * t185;
+        double t200 = 0.9238795325112866 * t181;
+        double t201 = t199 - t200;
+        double t202 = t198 + t201;
+        double t203 = t195 + t202;
+        double t204 = t62 - t63;
+        double t205 = t65 - t66;
+        double t206 = t68 - t69;
+        double t207 = t205 - t206;
+        double t208 = 0.7071067811865476 * t207;
+        double t209 = t204 - t208;
+        double t210 = t74 - t75;
+        double t211 = t77 - t78;
+        double t212 = t80 - t81;
+        double t213 = t211 - t212;
+        double t214 = 0.7071067811865476 * t213;
+        double t215 = t210 - t214;
+        double t216 = 0.38268343236509 * t215;
+        double t217 = t87 - t88;
+        double t218 = t211 + t212;
+        double t219 = 0.7071067811865476 * t218;
+        double t220 = t217 - t219;
+        double t221 = 0.9238795325112866 * t220;
+        double t222 = t216 + t221;
+        double t223 = t209 + t222;
+        double t224 = t96 - t97;
+        double t225 = t99 - t100;
+        double t226 = t102 - t103;
+        double t227 = t225 - t226;
+        double t228 = 0.7071067811865476 * t227;
+        double t229 = t224 - t228;
+        double t230 = 0.8314696123025452 * t229;
+        double t231 = t109 - t110;
+        double t232 = t225 + t226;
+        double t233 = 0.7071067811865476 * t232;
+        double t234 = t231 - t233;
+        double t235 = 0.5555702330196022 * t234;
+        double t236 = t230 + t235;
+        double t237 = t130 - t131;
+        double t238 = t120 - t121;
+        double t239 = t123 - t124;
+        double t240 = t238 + t239;
+        double t241 = 0.7071067811865476 * t240;
+        double t242 = t237 - t241;
+        double t243 = 0.9807852804032303 * t242;
+        double t244 = t117 - t118;
+        double t245 = t238 - t239;
+        double t246 = 0.7071067811865476 * t245;
+        double t247 = t244 - t246;
+        double t248 = 0.19509032201612866 * t247;
+        double t249 = t243 - t248;
+        double t250 = t236 + t249;
+        double t251 = t223 + t250;
+        double t252 = t140 - t141;
+        double t253 = t205 + t206;
+        double t254 = 0.7071067811865476 * t253;
+        double t255 = t252 - t254;
+        double t256 = 0.38268343236509 * t220;
+        double t257 = 0.9238795325112866 * t215;
+        double t258 = t256 - t257;
+        double t259 = t255 + t258;
+        double t260 = 0.8314696123025452 * t234;
+        double t261 = 0.5555702330196022 * t229;
+        double t262 = t260 - t261;
+        double t263 = 0.19509032201612866 * t242;
+        double t264 = 0.9807852804032303 * t247;
+        double t265 = t263 + t264;
+        double t266 = t262 - t265;
+        double t267 = t259 + t266;
+        double t268 = t2 - t5;
+        double t269 = t40 - t43;
+        double t270 = t268 + t269;
+        double t271 = t17 - t20;
+        double t272 = t48 - t51;
+        double t273 = t271 + t272;
+        double t274 = 0.7071067811865476 * t273;
+        double t275 = t24 - t27;
+        double t276 = t55 - t58;
+        double t277 = t275 - t276;
+        double t278 = 0.7071067811865476 * t277;
+        double t279 = t274 - t278;
+        double t280 = t270 + t279;
+        double t281 = t33 - t36;
+        double t282 = t12 - t9;
+        double t283 = t281 + t282;
+        double t284 = t272 - t271;
+        double t285 = 0.7071067811865476 * t284;
+        double t286 = t275 + t276;
+        double t287 = 0.7071067811865476 * t286;
+        double t288 = t285 - t287;
+        double t289 = t283 + t288;
+        double t290 = t64 - t72;
+        double t291 = t89 - t91;
+        double t292 = 0.9238795325112865 * t291;
+        double t293 = t76 - t84;
+        double t294 = 0.38268343236509034 * t293;
+        double t295 = t292 - t294;
+        double t296 = t290 + t295;
+        double t297 = t98 - t106;
+        double t298 = 0.5555702330196018 * t297;
+        double t299 = t111 - t113;
+        double t300 = 0.8314696123025455 * t299;
+        double t301 = t298 + t300;
+        double t302 = t132 - t134;
+        double t303 = 0.19509032201612836 * t302;
+        double t304 = t119 - t127;
+        double t305 = 0.9807852804032304 * t304;
+        double t306 = t303 - t305;
+        double t307 = t301 + t306;
+        double t308 = t296 + t307;
+        double t309 = t142 - t144;
+        double t310 = 0.38268343236509034 * t291;
+        double t311 = 0.9238795325112865 * t293;
+        double t312 = t310 + t311;
+        double t313 = t309 - t312;
+        double t314 = 0.5555702330196018 * t299;
+        double t315 = 0.8314696123025455 * t297;
+        double t316 = t314 - t315;
+        double t317 = 0.9807852804032304 * t302;
+        double t318 = 0.19509032201612836 * t304;
+        double t319 = t317 + t318;
+        double t320 = t316 - t319;
+        double t321 = t313 + t320;
+        double t322 = t158 - t159;
+        double t323 = t161 - t162;
+        double t324 = t164 - t165;
+        double t325 = t323 - t324;
+        double t326 = 0.7071067811865476 * t325;
+        double t327 = t322 - t326;
+        double t328 = t170 - t171;
+        double t329 = 0.38268343236509 * t328;
+        double t330 = t174 - t175;
+        double t331 = 0.9238795325112866 * t330;
+        double t332 = t329 + t331;
+        double t333 = t179 - t180;
+        double t334 = 0.9238795325112867 * t333;
+        double t335 = t183 - t184;
+        double t336 = 0.3826834323650899 * t335;
+        double t337 = t334 + t336;
+        double t338 = t332 - t337;
+        double t339 = t327 + t338;
+        double t340 = t190 - t191;
+        double t341 = t323 + t324;
+        double t342 = 0.7071067811865476 * t341;
+        double t343 = t340 - t342;
+        double t344 = 0.38268343236509 * t330;
+        double t345 = 0.9238795325112866 * t328;
+        double t346 = t344 - t345;
+        double t347 = 0.3826834323650899 * t333;
+        double t348 = 0.9238795325112867 * t335;
+        double t349 = t347 - t348;
+        double t350 = t346 + t349;
+        double t351 = t343 + t350;
+        double t352 = t204 + t208;
+        double t353 = t217 + t219;
+        double t354 = 0.38268343236508967 * t353;
+        double t355 = t210 + t214;
+        double t356 = 0.9238795325112868 * t355;
+        double t357 = t354 - t356;
+        double t358 = t352 + t357;
+        double t359 = t224 + t228;
+        double t360 = 0.1950903220161283 * t359;
+        double t361 = t231 + t233;
+        double t362 = 0.9807852804032304 * t361;
+        double t363 = t360 + t362;
+        double t364 = t244 + t246;
+        double t365 = 0.555570233019602 * t364;
+        double t366 = t237 + t241;
+        double t367 = 0.8314696123025455 * t366;
+        double t368 = t365 + t367;
+        double t369 = t363 - t368;
+        double t370 = t358 + t369;
+        double t371 = t252 + t254;
+        double t372 = 0.9238795325112868 * t353;
+        double t373 = 0.38268343236508967 * t355;
+        double t374 = t372 + t373;
+        double t375 = t371 - t374;
+        double t376 = 0.1950903220161283 * t361;
+        double t377 = 0.9807852804032304 * t359;
+        double t378 = t376 - t377;
+        double t379 = 0.8314696123025455 * t364;
+        double t380 = 0.555570233019602 * t366;
+        double t381 = t379 - t380;
+        double t382 = t378 + t381;
+        double t383 = t375 + t382;
+        double t384 = t6 - t13;
+        double t385 = t52 - t59;
+        double t386 = t384 + t385;
+        double t387 = t37 - t44;
+        double t388 = t28 - t21;
+        double t389 = t387 + t388;
+        double t390 = t73 - t94;
+        double t391 = t152 - t155;
+        double t392 = t390 + t391;
+        double t393 = t145 - t148;
+        double t394 = t137 - t116;
+        double t395 = t393 + t394;
+        double t396 = t160 - t168;
+        double t397 = t198 - t201;
+        double t398 = t396 + t397;
+        double t399 = t192 - t194;
+        double t400 = t187 - t178;
+        double t401 = t399 + t400;
+        double t402 = t209 - t222;
+        double t403 = t262 + t265;
+        double t404 = t402 + t403;
+        double t405 = t255 - t258;
+        double t406 = t249 - t236;
+        double t407 = t405 + t406;
+        double t408 = t268 - t269;
+        double t409 = t285 + t287;
+        double t410 = t408 + t409;
+        double t411 = t281 - t282;
+        double t412 = t274 + t278;
+        double t413 = t411 - t412;
+        double t414 = t290 - t295;
+        double t415 = t316 + t319;
+        double t416 = t414 + t415;
+        double t417 = t309 + t312;
+        double t418 = t306 - t301;
+        double t419 = t417 + t418;
+        double t420 = t322 + t326;
+        double t421 = t346 - t349;
+        double t422 = t420 + t421;
+        double t423 = t340 + t342;
+        double t424 = t332 + t337;
+        double t425 = t423 - t424;
+        double t426 = t352 - t357;
+        double t427 = t378 - t381;
+        double t428 = t426 + t427;
+        double t429 = t371 + t374;
+        double t430 = t363 + t368;
+        double t431 = t429 - t430;
+        double t432 = t14 - t29;
+        double t433 = t45 - t60;
+        double t434 = t95 - t138;
+        double t435 = t149 - t156;
+        double t436 = t169 - t188;
+        double t437 = t195 - t202;
+        double t438 = t223 - t250;
+        double t439 = t259 - t266;
+        double t440 = t270 - t279;
+        double t441 = t283 - t288;
+        double t442 = t296 - t307;
+        double t443 = t313 - t320;
+        double t444 = t327 - t338;
+        double t445 = t343 - t350;
+        double t446 = t358 - t369;
+        double t447 = t375 - t382;
+        double t448 = t384 - t385;
+        double t449 = t387 - t388;
+        double t450 = t390 - t391;
+        double t451 = t393 - t394;
+        double t452 = t396 - t397;
+        double t453 = t399 - t400;
+        double t454 = t402 - t403;
+        double t455 = t405 - t406;
+        double t456 = t408 - t409;
+        double t457 = t411 + t412;
+        double t458 = t414 - t415;
+        double t459 = t417 - t418;
+        double t460 = t420 - t421;
+        double t461 = t423 + t424;
+        double t462 = t426 - t427;
+        double t463 = t429 + t430;
+        a[offr] = t30;
+        a[offi] = t61;
+        a[offr + 2] = t139;
+        a[offi + 2] = t157;
+        a[offr + 4] = t189;
+        a[offi + 4] = t203;
+        a[offr + 6] = t251;
+        a[offi + 6] = t267;
+        a[offr + 8] = t280;
+        a[offi + 8] = t289;
+        a[offr + 10] = t308;
+        a[offi + 10] = t321;
+        a[offr + 12] = t339;
+        a[offi + 12] = t351;
+        a[offr + 14] = t370;
+        a[offi + 14] = t383;
+        a[offr + 16] = t386;
+        a[offi + 16] = t389;
+        a[offr + 18] = t392;
+        a[offi + 18] = t395;
+        a[offr + 20] = t398;
+        a[offi + 20] = t401;
+        a[offr + 22] = t404;
+        a[offi + 22] = t407;
+        a[offr + 24] = t410;
+        a[offi + 24] = t413;
+        a[offr + 26] = t416;
+        a[offi + 26] = t419;
+        a[offr + 28] = t422;
+        a[offi + 28] = t425;
+        a[offr + 30] = t428;
+        a[offi + 30] = t431;
+        a[offr + 32] = t432;
+        a[offi + 32] = t433;
+        a[offr + 34] = t434;
+        a[offi + 34] = t435;
+        a[offr + 36] = t436;
+        a[offi + 36] = t437;
+        a[offr + 38] = t438;
+        a[offi + 38] = t439;
+        a[offr + 40] = t440;
+        a[offi + 40] = t441;
+        a[offr + 42] = t442;
+        a[offi + 42] = t443;
+        a[offr + 44] = t444;
+        a[offi + 44] = t445;
+        a[offr + 46] = t446;
+        a[offi + 46] = t447;
+        a[offr + 48] = t448;
+        a[offi + 48] = t449;
+        a[offr + 50] = t450;
+        a[offi + 50] = t451;
+        a[offr + 52] = t452;
+        a[offi + 52] = t453;
+        a[offr + 54] = t454;
+        a[offi + 54] = t455;
+        a[offr + 56] = t456;
+        a[offi + 56] = t457;
+        a[offr + 58] = t458;
+        a[offi + 58] = t459;
+        a[offr + 60] = t460;
+        a[offi + 60] = t461;
+        a[offr + 62] = t462;
+        a[offi + 62] = t463;
+    }
+
+    static void rf2(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double t0 = x0 + x1;
+        double t1 = x0 - x1;
+        a[offa] = t0;
+        a[offa + 1] = t1;
+    }
+
+    static void rf3(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double t0 = x1 + x2;
+        double t1 = x0 + t0;
+        double t2 = x1 - x2;
+        double t3 = 0.8660254037844384 * t2;
+        double t4 = -t3;
+        double t5 = 0.5 * t0;
+        double t6 = x0 - t5;
+        a[offa] = t1;
+        a[offa + 1] = t4;
+        a[offa + 2] = t6;
+    }
+
+    static void rf4(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double t0 = x0 + x2;
+        double t1 = x1 + x3;
+        double t2 = t0 + t1;
+        double t3 = t0 - t1;
+        double t4 = x0 - x2;
+        double t5 = x3 - x1;
+        a[offa] = t2;
+        a[offa + 1] = t3;
+        a[offa + 2] = t4;
+        a[offa + 3] = t5;
+    }
+
+    static void rf5(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double t0 = x2 + x3;
+        double t1 = x1 + x4;
+        double t2 = x0 + t1;
+        double t3 = t0 + t2;
+        double t4 = x2 - x3;
+        double t5 = 0.9510565162951535 * t4;
+        double t6 = x1 - x4;
+        double t7 = 0.587785252292473 * t6;
+        double t8 = t5 - t7;
+        double t9 = 0.30901699437494723 * t1;
+        double t10 = x0 + t9;
+        double t11 = 0.8090169943749476 * t0;
+        double t12 = t10 - t11;
+        double t13 = 0.9510565162951536 * t6;
+        double t14 = 0.587785252292473 * t4;
+        double t15 = t13 + t14;
+        double t16 = -t15;
+        double t17 = 0.8090169943749476 * t1;
+        double t18 = x0 - t17;
+        double t19 = 0.30901699437494745 * t0;
+        double t20 = t18 + t19;
+        a[offa] = t3;
+        a[offa + 1] = t8;
+        a[offa + 2] = t12;
+        a[offa + 3] = t16;
+        a[offa + 4] = t20;
+    }
+
+    static void rf6(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double t0 = x2 + x4;
+        double t1 = x0 + t0;
+        double t2 = x3 + x5;
+        double t3 = x1 + t2;
+        double t4 = t1 + t3;
+        double t5 = t1 - t3;
+        double t6 = 0.5 * t0;
+        double t7 = x0 - t6;
+        double t8 = 0.5 * t2;
+        double t9 = x1 - t8;
+        double t10 = 0.5 * t9;
+        double t11 = x3 - x5;
+        double t12 = 0.7499999999999997 * t11;
+        double t13 = t10 - t12;
+        double t14 = t7 + t13;
+        double t15 = x2 - x4;
+        double t16 = 0.8660254037844384 * t15;
+        double t17 = 0.4330127018922192 * t11;
+        double t18 = 0.8660254037844386 * t9;
+        double t19 = t17 + t18;
+        double t20 = t16 + t19;
+        double t21 = -t20;
+        double t22 = 0.7499999999999996 * t11;
+        double t23 = t22 - t10;
+        double t24 = t7 + t23;
+        double t25 = 0.8660254037844384 * t9;
+        double t26 = t17 + t25;
+        double t27 = t16 - t26;
+        a[offa] = t4;
+        a[offa + 1] = t5;
+        a[offa + 2] = t14;
+        a[offa + 3] = t21;
+        a[offa + 4] = t24;
+        a[offa + 5] = t27;
+    }
+
+    static void rf7(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double t0 = x3 + x4;
+        double t1 = x2 + x5;
+        double t2 = x1 + x6;
+        double t3 = x0 + t2;
+        double t4 = t1 + t3;
+        double t5 = t0 + t4;
+        double t6 = x2 - x5;
+        double t7 = 0.7818314824680298 * t6;
+        double t8 = x1 - x6;
+        double t9 = 0.433883739117558 * t8;
+        double t10 = t7 - t9;
+        double t11 = x3 - x4;
+        double t12 = 0.9749279121818236 * t11;
+        double t13 = t10 - t12;
+        double t14 = 0.6234898018587334 * t2;
+        double t15 = x0 + t14;
+        double t16 = 0.2225209339563146 * t1;
+        double t17 = t15 - t16;
+        double t18 = 0.9009688679024191 * t0;
+        double t19 = t17 - t18;
+        double t20 = 0.7818314824680299 * t8;
+        double t21 = 0.9749279121818236 * t6;
+        double t22 = t20 + t21;
+        double t23 = 0.433883739117558 * t11;
+        double t24 = t22 + t23;
+        double t25 = -t24;
+        double t26 = 0.2225209339563146 * t2;
+        double t27 = x0 - t26;
+        double t28 = 0.900968867902419 * t1;
+        double t29 = t27 - t28;
+        double t30 = 0.6234898018587336 * t0;
+        double t31 = t29 + t30;
+        double t32 = 0.43388373911755823 * t6;
+        double t33 = 0.9749279121818236 * t8;
+        double t34 = t32 - t33;
+        double t35 = 0.7818314824680298 * t11;
+        double t36 = t34 + t35;
+        double t37 = 0.9009688679024191 * t2;
+        double t38 = x0 - t37;
+        double t39 = 0.6234898018587336 * t1;
+        double t40 = t38 + t39;
+        double t41 = 0.2225209339563146 * t0;
+        double t42 = t40 - t41;
+        a[offa] = t5;
+        a[offa + 1] = t13;
+        a[offa + 2] = t19;
+        a[offa + 3] = t25;
+        a[offa + 4] = t31;
+        a[offa + 5] = t36;
+        a[offa + 6] = t42;
+    }
+
+    static void rf8(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double t0 = x0 + x4;
+        double t1 = x2 + x6;
+        double t2 = t0 + t1;
+        double t3 = x1 + x5;
+        double t4 = x3 + x7;
+        double t5 = t3 + t4;
+        double t6 = t2 + t5;
+        double t7 = t2 - t5;
+        double t8 = x0 - x4;
+        double t9 = x1 - x5;
+        double t10 = x7 - x3;
+        double t11 = t9 + t10;
+        double t12 = 0.7071067811865476 * t11;
+        double t13 = t8 + t12;
+        double t14 = x6 - x2;
+        double t15 = t10 - t9;
+        double t16 = 0.7071067811865476 * t15;
+        double t17 = t14 + t16;
+        double t18 = t0 - t1;
+        double t19 = t4 - t3;
+        double t20 = x3 - x7;
+        double t21 = t9 - t20;
+        double t22 = 0.7071067811865476 * t21;
+        double t23 = t8 - t22;
+        double t24 = x2 - x6;
+        double t25 = t9 + t20;
+        double t26 = 0.7071067811865476 * t25;
+        double t27 = t24 - t26;
+        a[offa] = t6;
+        a[offa + 1] = t7;
+        a[offa + 2] = t13;
+        a[offa + 3] = t17;
+        a[offa + 4] = t18;
+        a[offa + 5] = t19;
+        a[offa + 6] = t23;
+        a[offa + 7] = t27;
+    }
+
+    static void rf9(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double t0 = x3 + x6;
+        double t1 = x0 + t0;
+        double t2 = x4 + x7;
+        double t3 = x1 + t2;
+        double t4 = x5 + x8;
+        double t5 = x2 + t4;
+        double t6 = t3 + t5;
+        double t7 = t1 + t6;
+        double t8 = x4 - x7;
+        double t9 = 0.663413948168938 * t8;
+        double t10 = 0.5 * t2;
+        double t11 = x1 - t10;
+        double t12 = 0.6427876096865396 * t11;
+        double t13 = t9 + t12;
+        double t14 = x5 - x8;
+        double t15 = 0.1503837331804349 * t14;
+        double t16 = 0.5 * t4;
+        double t17 = x2 - t16;
+        double t18 = 0.9848077530122081 * t17;
+        double t19 = t15 + t18;
+        double t20 = t13 + t19;
+        double t21 = 0.5 * t20;
+        double t22 = x3 - x6;
+        double t23 = 0.8660254037844384 * t22;
+        double t24 = t21 - t23;
+        double t25 = 0.7660444431189778 * t11;
+        double t26 = 0.5566703992264194 * t8;
+        double t27 = t25 - t26;
+        double t28 = 0.17364817766692997 * t17;
+        double t29 = 0.852868531952443 * t14;
+        double t30 = t28 - t29;
+        double t31 = t27 - t30;
+        double t32 = 0.8660254037844384 * t31;
+        double t33 = t24 - t32;
+        double t34 = 0.5 * t0;
+        double t35 = x0 - t34;
+        double t36 = t27 + t30;
+        double t37 = t35 + t36;
+        double t38 = t23 + t20;
+        double t39 = -t38;
+        double t40 = 0.17364817766692997 * t11;
+        double t41 = 0.852868531952443 * t8;
+        double t42 = t40 + t41;
+        double t43 = 0.2961981327260237 * t14;
+        double t44 = 0.9396926207859084 * t17;
+        double t45 = t43 - t44;
+        double t46 = t42 + t45;
+        double t47 = t35 + t46;
+        double t48 = 0.1503837331804349 * t8;
+        double t49 = 0.9848077530122081 * t11;
+        double t50 = t48 - t49;
+        double t51 = 0.8137976813493735 * t14;
+        double t52 = 0.34202014332566866 * t17;
+        double t53 = t51 + t52;
+        double t54 = t50 - t53;
+        double t55 = t23 + t54;
+        double t56 = 0.5 * t6;
+        double t57 = t1 - t56;
+        double t58 = t3 - t5;
+        double t59 = 0.8660254037844384 * t58;
+        double t60 = -t59;
+        double t61 = 0.5 * t36;
+        double t62 = t35 - t61;
+        double t63 = t19 - t13;
+        double t64 = 0.8660254037844384 * t63;
+        double t65 = t62 + t64;
+        a[offa] = t7;
+        a[offa + 1] = t33;
+        a[offa + 2] = t37;
+        a[offa + 3] = t39;
+        a[offa + 4] = t47;
+        a[offa + 5] = t55;
+        a[offa + 6] = t57;
+        a[offa + 7] = t60;
+        a[offa + 8] = t65;
+    }
+
+    static void rf10(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double t0 = x4 + x6;
+        double t1 = x2 + x8;
+        double t2 = x0 + t1;
+        double t3 = t0 + t2;
+        double t4 = x5 + x7;
+        double t5 = x3 + x9;
+        double t6 = x1 + t5;
+        double t7 = t4 + t6;
+        double t8 = t3 + t7;
+        double t9 = t3 - t7;
+        double t10 = 0.30901699437494723 * t1;
+        double t11 = x0 + t10;
+        double t12 = 0.8090169943749476 * t0;
+        double t13 = t11 - t12;
+        double t14 = 0.30901699437494723 * t5;
+        double t15 = x1 + t14;
+        double t16 = 0.8090169943749476 * t4;
+        double t17 = t15 - t16;
+        double t18 = 0.8090169943749473 * t17;
+        double t19 = x3 - x9;
+        double t20 = 0.9510565162951536 * t19;
+        double t21 = x5 - x7;
+        double t22 = 0.587785252292473 * t21;
+        double t23 = t20 + t22;
+        double t24 = 0.5877852522924734 * t23;
+        double t25 = t18 - t24;
+        double t26 = t13 + t25;
+        double t27 = x2 - x8;
+        double t28 = 0.9510565162951536 * t27;
+        double t29 = x4 - x6;
+        double t30 = 0.587785252292473 * t29;
+        double t31 = t28 + t30;
+        double t32 = 0.8090169943749473 * t23;
+        double t33 = 0.5877852522924734 * t17;
+        double t34 = t32 + t33;
+        double t35 = t31 + t34;
+        double t36 = -t35;
+        double t37 = 0.8090169943749476 * t1;
+        double t38 = x0 - t37;
+        double t39 = 0.30901699437494745 * t0;
+        double t40 = t38 + t39;
+        double t41 = 0.8090169943749476 * t5;
+        double t42 = x1 - t41;
+        double t43 = 0.30901699437494745 * t4;
+        double t44 = t42 + t43;
+        double t45 = 0.30901699437494723 * t44;
+        double t46 = 0.9510565162951535 * t21;
+        double t47 = 0.587785252292473 * t19;
+        double t48 = t46 - t47;
+        double t49 = 0.9510565162951536 * t48;
+        double t50 = t45 + t49;
+        double t51 = t40 + t50;
+        double t52 = 0.9510565162951535 * t29;
+        double t53 = 0.587785252292473 * t27;
+        double t54 = t52 - t53;
+        double t55 = 0.30901699437494723 * t48;
+        double t56 = 0.9510565162951536 * t44;
+        double t57 = t55 - t56;
+        double t58 = t54 + t57;
+        double t59 = t47 - t46;
+        double t60 = 0.9510565162951535 * t59;
+        double t61 = 0.30901699437494756 * t44;
+        double t62 = t60 - t61;
+        double t63 = t40 + t62;
+        double t64 = t53 - t52;
+        double t65 = 0.30901699437494756 * t59;
+        double t66 = 0.9510565162951535 * t44;
+        double t67 = t65 + t66;
+        double t68 = t64 - t67;
+        double t69 = 0.587785252292473 * t23;
+        double t70 = 0.8090169943749476 * t17;
+        double t71 = t69 - t70;
+        double t72 = t13 + t71;
+        double t73 = 0.8090169943749476 * t23;
+        double t74 = 0.587785252292473 * t17;
+        double t75 = t73 + t74;
+        double t76 = t31 - t75;
+        a[offa] = t8;
+        a[offa + 1] = t9;
+        a[offa + 2] = t26;
+        a[offa + 3] = t36;
+        a[offa + 4] = t51;
+        a[offa + 5] = t58;
+        a[offa + 6] = t63;
+        a[offa + 7] = t68;
+        a[offa + 8] = t72;
+        a[offa + 9] = t76;
+    }
+
+    static void rf11(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double t0 = x5 + x6;
+        double t1 = x4 + x7;
+        double t2 = x3 + x8;
+        double t3 = x2 + x9;
+        double t4 = x1 + x10;
+        double t5 = x0 + t4;
+        double t6 = t3 + t5;
+        double t7 = t2 + t6;
+        double t8 = t1 + t7;
+        double t9 = t0 + t8;
+        double t10 = x2 - x9;
+        double t11 = 0.5406408174555976 * t10;
+        double t12 = x1 - x10;
+        double t13 = 0.2817325568414294 * t12;
+        double t14 = t11 - t13;
+        double t15 = x3 - x8;
+        double t16 = 0.7557495743542582 * t15;
+        double t17 = t14 - t16;
+        double t18 = x4 - x7;
+        double t19 = 0.9096319953545183 * t18;
+        double t20 = t17 + t19;
+        double t21 = x5 - x6;
+        double t22 = 0.9898214418809327 * t21;
+        double t23 = t20 - t22;
+        double t24 = 0.8412535328311808 * t4;
+        double t25 = x0 + t24;
+        double t26 = 0.4154150130018868 * t3;
+        double t27 = t25 + t26;
+        double t28 = 0.14231483827328523 * t2;
+        double t29 = t27 - t28;
+        double t30 = 0.6548607339452852 * t1;
+        double t31 = t29 - t30;
+        double t32 = 0.9594929736144975 * t0;
+        double t33 = t31 - t32;
+        double t34 = 0.5406408174555982 * t12;
+        double t35 = 0.9096319953545182 * t10;
+        double t36 = t34 + t35;
+        double t37 = 0.9898214418809327 * t15;
+        double t38 = t36 + t37;
+        double t39 = 0.7557495743542582 * t18;
+        double t40 = t38 + t39;
+        double t41 = 0.2817325568414294 * t21;
+        double t42 = t40 + t41;
+        double t43 = -t42;
+        double t44 = 0.4154150130018868 * t4;
+        double t45 = x0 + t44;
+        double t46 = 0.6548607339452852 * t3;
+        double t47 = t45 - t46;
+        double t48 = 0.9594929736144973 * t2;
+        double t49 = t47 - t48;
+        double t50 = 0.142314838273285 * t1;
+        double t51 = t49 - t50;
+        double t52 = 0.8412535328311812 * t0;
+        double t53 = t51 + t52;
+        double t54 = 0.28173255684143006 * t15;
+        double t55 = 0.9096319953545182 * t12;
+        double t56 = 0.7557495743542582 * t10;
+        double t57 = t55 + t56;
+        double t58 = t54 - t57;
+        double t59 = 0.9898214418809328 * t18;
+        double t60 = t58 + t59;
+        double t61 = 0.5406408174555976 * t21;
+        double t62 = t60 + t61;
+        double t63 = 0.14231483827328523 * t4;
+        double t64 = x0 - t63;
+        double t65 = 0.9594929736144973 * t3;
+        double t66 = t64 - t65;
+        double t67 = 0.41541501300188644 * t2;
+        double t68 = t66 + t67;
+        double t69 = 0.8412535328311808 * t1;
+        double t70 = t68 + t69;
+        double t71 = 0.6548607339452852 * t0;
+        double t72 = t70 - t71;
+        double t73 = 0.28173255684143006 * t10;
+        double t74 = 0.9898214418809327 * t12;
+        double t75 = t73 - t74;
+        double t76 = 0.9096319953545183 * t15;
+        double t77 = t75 + t76;
+        double t78 = 0.5406408174555982 * t18;
+        double t79 = t77 - t78;
+        double t80 = 0.7557495743542582 * t21;
+        double t81 = t79 - t80;
+        double t82 = 0.6548607339452852 * t4;
+        double t83 = x0 - t82;
+        double t84 = 0.142314838273285 * t3;
+        double t85 = t83 - t84;
+        double t86 = 0.8412535328311808 * t2;
+        double t87 = t85 + t86;
+        double t88 = 0.9594929736144975 * t1;
+        double t89 = t87 - t88;
+        double t90 = 0.41541501300188644 * t0;
+        double t91 = t89 + t90;
+        double t92 = 0.9898214418809328 * t10;
+        double t93 = 0.7557495743542582 * t12;
+        double t94 = t92 - t93;
+        double t95 = 0.5406408174555982 * t15;
+        double t96 = t94 - t95;
+        double t97 = 0.2817325568414294 * t18;
+        double t98 = t96 - t97;
+        double t99 = 0.9096319953545183 * t21;
+        double t100 = t98 + t99;
+        double t101 = 0.9594929736144975 * t4;
+        double t102 = x0 - t101;
+        double t103 = 0.8412535328311812 * t3;
+        double t104 = t102 + t103;
+        double t105 = 0.6548607339452852 * t2;
+        double t106 = t104 - t105;
+        double t107 = 0.41541501300188644 * t1;
+        double t108 = t106 + t107;
+        double t109 = 0.14231483827328523 * t0;
+        double t110 = t108 - t109;
+        a[offa] = t9;
+        a[offa + 1] = t23;
+        a[offa + 2] = t33;
+        a[offa + 3] = t43;
+        a[offa + 4] = t53;
+        a[offa + 5] = t62;
+        a[offa + 6] = t72;
+        a[offa + 7] = t81;
+        a[offa + 8] = t91;
+        a[offa + 9] = t100;
+        a[offa + 10] = t110;
+    }
+
+    static void rf12(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double t0 = x4 + x8;
+        double t1 = x0 + t0;
+        double t2 = x6 + x10;
+        double t3 = x2 + t2;
+        double t4 = t1 + t3;
+        double t5 = x5 + x9;
+        double t6 = x1 + t5;
+        double t7 = x7 + x11;
+        double t8 = x3 + t7;
+        double t9 = t6 + t8;
+        double t10 = t4 + t9;
+        double t11 = t4 - t9;
+        double t12 = 0.5 * t0;
+        double t13 = x0 - t12;
+        double t14 = 0.5 * t2;
+        double t15 = x2 - t14;
+        double t16 = 0.5 * t15;
+        double t17 = x6 - x10;
+        double t18 = 0.7499999999999997 * t17;
+        double t19 = t16 - t18;
+        double t20 = t13 + t19;
+        double t21 = 0.5 * t5;
+        double t22 = x1 - t21;
+        double t23 = 0.8660254037844384 * t22;
+        double t24 = x5 - x9;
+        double t25 = 0.4330127018922192 * t24;
+        double t26 = t23 - t25;
+        double t27 = x7 - x11;
+        double t28 = 0.8660254037844384 * t27;
+        double t29 = t26 - t28;
+        double t30 = t20 + t29;
+        double t31 = 0.5 * t7;
+        double t32 = t31 - x3;
+        double t33 = 0.7499999999999996 * t24;
+        double t34 = 0.5 * t22;
+        double t35 = t33 + t34;
+        double t36 = t32 - t35;
+        double t37 = x4 - x8;
+        double t38 = 0.8660254037844384 * t37;
+        double t39 = 0.4330127018922192 * t17;
+        double t40 = 0.8660254037844386 * t15;
+        double t41 = t39 + t40;
+        double t42 = t38 + t41;
+        double t43 = t36 - t42;
+        double t44 = 0.7499999999999996 * t17;
+        double t45 = t44 - t16;
+        double t46 = t13 + t45;
+        double t47 = 0.7499999999999997 * t24;
+        double t48 = t34 + t47;
+        double t49 = t32 + t48;
+        double t50 = t46 + t49;
+        double t51 = 0.8660254037844384 * t15;
+        double t52 = t39 + t51;
+        double t53 = t38 - t52;
+        double t54 = 0.8660254037844386 * t22;
+        double t55 = t25 - t54;
+        double t56 = t55 - t28;
+        double t57 = t53 + t56;
+        double t58 = t1 - t3;
+        double t59 = t8 - t6;
+        double t60 = t13 - t19;
+        double t61 = t35 + t32;
+        double t62 = t60 - t61;
+        double t63 = t41 - t38;
+        double t64 = t28 + t26;
+        double t65 = t63 - t64;
+        double t66 = t13 - t45;
+        double t67 = t28 + t55;
+        double t68 = t66 + t67;
+        double t69 = t38 + t52;
+        double t70 = t32 - t48;
+        double t71 = t69 + t70;
+        a[offa] = t10;
+        a[offa + 1] = t11;
+        a[offa + 2] = t30;
+        a[offa + 3] = t43;
+        a[offa + 4] = t50;
+        a[offa + 5] = t57;
+        a[offa + 6] = t58;
+        a[offa + 7] = t59;
+        a[offa + 8] = t62;
+        a[offa + 9] = t65;
+        a[offa + 10] = t68;
+        a[offa + 11] = t71;
+    }
+
+    static void rf13(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double t0 = x6 + x7;
+        double t1 = x5 + x8;
+        double t2 = x4 + x9;
+        double t3 = x3 + x10;
+        double t4 = x2 + x11;
+        double t5 = x1 + x12;
+        double t6 = x0 + t5;
+        double t7 = t4 + t6;
+        double t8 = t3 + t7;
+        double t9 = t2 + t8;
+        double t10 = t1 + t9;
+        double t11 = t0 + t10;
+        double t12 = x2 - x11;
+        double t13 = 0.46472317204376856 * t12;
+        double t14 = x1 - x12;
+        double t15 = 0.23931566428755743 * t14;
+        double t16 = t13 - t15;
+        double t17 = x3 - x10;
+        double t18 = 0.6631226582407953 * t17;
+        double t19 = t16 - t18;
+        double t20 = x4 - x9;
+        double t21 = 0.8229838658936565 * t20;
+        double t22 = t19 + t21;
+        double t23 = x5 - x8;
+        double t24 = 0.9350162426854147 * t23;
+        double t25 = t22 - t24;
+        double t26 = x6 - x7;
+        double t27 = 0.992708874098054 * t26;
+        double t28 = t25 + t27;
+        double t29 = 0.88545602565321 * t5;
+        double t30 = x0 + t29;
+        double t31 = 0.5680647467311556 * t4;
+        double t32 = t30 + t31;
+        double t33 = 0.1205366802553232 * t3;
+        double t34 = t32 + t33;
+        double t35 = 0.3546048870425359 * t2;
+        double t36 = t34 - t35;
+        double t37 = 0.748510748171101 * t1;
+        double t38 = t36 - t37;
+        double t39 = 0.9709418174260521 * t0;
+        double t40 = t38 - t39;
+        double t41 = 0.4647231720437684 * t14;
+        double t42 = 0.8229838658936566 * t12;
+        double t43 = t41 + t42;
+        double t44 = 0.992708874098054 * t17;
+        double t45 = t43 + t44;
+        double t46 = 0.9350162426854147 * t20;
+        double t47 = t45 + t46;
+        double t48 = 0.6631226582407953 * t23;
+        double t49 = t47 + t48;
+        double t50 = 0.23931566428755743 * t26;
+        double t51 = t49 + t50;
+        double t52 = -t51;
+        double t53 = 0.5680647467311556 * t5;
+        double t54 = x0 + t53;
+        double t55 = 0.3546048870425359 * t4;
+        double t56 = t54 - t55;
+        double t57 = 0.9709418174260521 * t3;
+        double t58 = t56 - t57;
+        double t59 = 0.7485107481711012 * t2;
+        double t60 = t58 - t59;
+        double t61 = 0.120536680255323 * t1;
+        double t62 = t60 + t61;
+        double t63 = 0.8854560256532099 * t0;
+        double t64 = t62 + t63;
+        double t65 = 0.6631226582407952 * t20;
+        double t66 = 0.8229838658936566 * t14;
+        double t67 = 0.9350162426854147 * t12;
+        double t68 = t66 + t67;
+        double t69 = 0.23931566428755743 * t17;
+        double t70 = t68 + t69;
+        double t71 = t65 - t70;
+        double t72 = 0.992708874098054 * t23;
+        double t73 = t71 + t72;
+        double t74 = 0.46472317204376856 * t26;
+        double t75 = t73 + t74;
+        double t76 = 0.1205366802553232 * t5;
+        double t77 = x0 + t76;
+        double t78 = 0.9709418174260521 * t4;
+        double t79 = t77 - t78;
+        double t80 = 0.3546048870425357 * t3;
+        double t81 = t79 - t80;
+        double t82 = 0.8854560256532099 * t2;
+        double t83 = t81 + t82;
+        double t84 = 0.5680647467311556 * t1;
+        double t85 = t83 + t84;
+        double t86 = 0.748510748171101 * t0;
+        double t87 = t85 - t86;
+        double t88 = 0.9350162426854148 * t17;
+        double t89 = 0.992708874098054 * t14;
+        double t90 = 0.23931566428755743 * t12;
+        double t91 = t89 + t90;
+        double t92 = t88 - t91;
+        double t93 = 0.46472317204376856 * t20;
+        double t94 = t92 + t93;
+        double t95 = 0.8229838658936566 * t23;
+        double t96 = t94 - t95;
+        double t97 = 0.6631226582407953 * t26;
+        double t98 = t96 - t97;
+        double t99 = 0.3546048870425359 * t5;
+        double t100 = x0 - t99;
+        double t101 = 0.7485107481711012 * t4;
+        double t102 = t100 - t101;
+        double t103 = 0.8854560256532099 * t3;
+        double t104 = t102 + t103;
+        double t105 = 0.1205366802553232 * t2;
+        double t106 = t104 + t105;
+        double t107 = 0.970941817426052 * t1;
+        double t108 = t106 - t107;
+        double t109 = 0.5680647467311558 * t0;
+        double t110 = t108 + t109;
+        double t111 = 0.6631226582407952 * t12;
+        double t112 = 0.9350162426854147 * t14;
+        double t113 = t111 - t112;
+        double t114 = 0.46472317204376856 * t17;
+        double t115 = t113 + t114;
+        double t116 = 0.992708874098054 * t20;
+        double t117 = t115 - t116;
+        double t118 = 0.23931566428755768 * t23;
+        double t119 = t117 + t118;
+        double t120 = 0.8229838658936565 * t26;
+        double t121 = t119 + t120;
+        double t122 = 0.748510748171101 * t5;
+        double t123 = x0 - t122;
+        double t124 = 0.120536680255323 * t4;
+        double t125 = t123 + t124;
+        double t126 = 0.5680647467311556 * t3;
+        double t127 = t125 + t126;
+        double t128 = 0.970941817426052 * t2;
+        double t129 = t127 - t128;
+        double t130 = 0.8854560256532099 * t1;
+        double t131 = t129 + t130;
+        double t132 = 0.3546048870425359 * t0;
+        double t133 = t131 - t132;
+        double t134 = 0.992708874098054 * t12;
+        double t135 = 0.6631226582407953 * t14;
+        double t136 = t134 - t135;
+        double t137 = 0.8229838658936566 * t17;
+        double t138 = t136 - t137;
+        double t139 = 0.23931566428755768 * t20;
+        double t140 = t138 + t139;
+        double t141 = 0.46472317204376856 * t23;
+        double t142 = t140 + t141;
+        double t143 = 0.9350162426854147 * t26;
+        double t144 = t142 - t143;
+        double t145 = 0.9709418174260521 * t5;
+        double t146 = x0 - t145;
+        double t147 = 0.8854560256532099 * t4;
+        double t148 = t146 + t147;
+        double t149 = 0.748510748171101 * t3;
+        double t150 = t148 - t149;
+        double t151 = 0.5680647467311558 * t2;
+        double t152 = t150 + t151;
+        double t153 = 0.3546048870425359 * t1;
+        double t154 = t152 - t153;
+        double t155 = 0.120536680255323 * t0;
+        double t156 = t154 + t155;
+        a[offa] = t11;
+        a[offa + 1] = t28;
+        a[offa + 2] = t40;
+        a[offa + 3] = t52;
+        a[offa + 4] = t64;
+        a[offa + 5] = t75;
+        a[offa + 6] = t87;
+        a[offa + 7] = t98;
+        a[offa + 8] = t110;
+        a[offa + 9] = t121;
+        a[offa + 10] = t133;
+        a[offa + 11] = t144;
+        a[offa + 12] = t156;
+    }
+
+    static void rf14(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double x13 = a[offa + 13];
+        double t0 = x6 + x8;
+        double t1 = x4 + x10;
+        double t2 = x2 + x12;
+        double t3 = x0 + t2;
+        double t4 = t1 + t3;
+        double t5 = t0 + t4;
+        double t6 = x7 + x9;
+        double t7 = x5 + x11;
+        double t8 = x3 + x13;
+        double t9 = x1 + t8;
+        double t10 = t7 + t9;
+        double t11 = t6 + t10;
+        double t12 = t5 + t11;
+        double t13 = t5 - t11;
+        double t14 = 0.6234898018587334 * t2;
+        double t15 = x0 + t14;
+        double t16 = 0.2225209339563146 * t1;
+        double t17 = t15 - t16;
+        double t18 = 0.9009688679024191 * t0;
+        double t19 = t17 - t18;
+        double t20 = 0.6234898018587334 * t8;
+        double t21 = x1 + t20;
+        double t22 = 0.2225209339563146 * t7;
+        double t23 = t21 - t22;
+        double t24 = 0.9009688679024191 * t6;
+        double t25 = t23 - t24;
+        double t26 = 0.900968867902419 * t25;
+        double t27 = x3 - x13;
+        double t28 = 0.7818314824680299 * t27;
+        double t29 = x5 - x11;
+        double t30 = 0.9749279121818236 * t29;
+        double t31 = t28 + t30;
+        double t32 = x7 - x9;
+        double t33 = 0.433883739117558 * t32;
+        double t34 = t31 + t33;
+        double t35 = 0.43388373911755834 * t34;
+        double t36 = t26 - t35;
+        double t37 = t19 + t36;
+        double t38 = x2 - x12;
+        double t39 = 0.7818314824680299 * t38;
+        double t40 = x4 - x10;
+        double t41 = 0.9749279121818236 * t40;
+        double t42 = t39 + t41;
+        double t43 = x6 - x8;
+        double t44 = 0.433883739117558 * t43;
+        double t45 = t42 + t44;
+        double t46 = 0.900968867902419 * t34;
+        double t47 = 0.43388373911755834 * t25;
+        double t48 = t46 + t47;
+        double t49 = t45 + t48;
+        double t50 = -t49;
+        double t51 = 0.2225209339563146 * t2;
+        double t52 = x0 - t51;
+        double t53 = 0.900968867902419 * t1;
+        double t54 = t52 - t53;
+        double t55 = 0.6234898018587336 * t0;
+        double t56 = t54 + t55;
+        double t57 = 0.2225209339563146 * t8;
+        double t58 = x1 - t57;
+        double t59 = 0.900968867902419 * t7;
+        double t60 = t58 - t59;
+        double t61 = 0.6234898018587336 * t6;
+        double t62 = t60 + t61;
+        double t63 = 0.6234898018587334 * t62;
+        double t64 = 0.43388373911755823 * t29;
+        double t65 = 0.9749279121818236 * t27;
+        double t66 = t64 - t65;
+        double t67 = 0.7818314824680298 * t32;
+        double t68 = t66 + t67;
+        double t69 = 0.7818314824680299 * t68;
+        double t70 = t63 + t69;
+        double t71 = t56 + t70;
+        double t72 = 0.43388373911755823 * t40;
+        double t73 = 0.9749279121818236 * t38;
+        double t74 = t72 - t73;
+        double t75 = 0.7818314824680298 * t43;
+        double t76 = t74 + t75;
+        double t77 = 0.6234898018587334 * t68;
+        double t78 = 0.7818314824680299 * t62;
+        double t79 = t77 - t78;
+        double t80 = t76 + t79;
+        double t81 = 0.9009688679024191 * t2;
+        double t82 = x0 - t81;
+        double t83 = 0.6234898018587336 * t1;
+        double t84 = t82 + t83;
+        double t85 = 0.2225209339563146 * t0;
+        double t86 = t84 - t85;
+        double t87 = 0.9009688679024191 * t8;
+        double t88 = x1 - t87;
+        double t89 = 0.6234898018587336 * t7;
+        double t90 = t88 + t89;
+        double t91 = 0.2225209339563146 * t6;
+        double t92 = t90 - t91;
+        double t93 = 0.22252093395631423 * t92;
+        double t94 = 0.7818314824680298 * t29;
+        double t95 = 0.433883739117558 * t27;
+        double t96 = t94 - t95;
+        double t97 = 0.9749279121818236 * t32;
+        double t98 = t96 - t97;
+        double t99 = 0.9749279121818236 * t98;
+        double t100 = t93 + t99;
+        double t101 = t86 + t100;
+        double t102 = 0.7818314824680298 * t40;
+        double t103 = 0.433883739117558 * t38;
+        double t104 = t102 - t103;
+        double t105 = 0.9749279121818236 * t43;
+        double t106 = t104 - t105;
+        double t107 = 0.22252093395631423 * t98;
+        double t108 = 0.9749279121818236 * t92;
+        double t109 = t107 - t108;
+        double t110 = t106 + t109;
+        double t111 = t97 - t96;
+        double t112 = 0.9749279121818236 * t111;
+        double t113 = 0.2225209339563146 * t92;
+        double t114 = t112 - t113;
+        double t115 = t86 + t114;
+        double t116 = t105 - t104;
+        double t117 = 0.2225209339563146 * t111;
+        double t118 = t108 + t117;
+        double t119 = t116 - t118;
+        double t120 = 0.6234898018587337 * t62;
+        double t121 = 0.7818314824680297 * t68;
+        double t122 = t120 + t121;
+        double t123 = t56 - t122;
+        double t124 = 0.6234898018587337 * t68;
+        double t125 = 0.7818314824680297 * t62;
+        double t126 = t124 - t125;
+        double t127 = t126 - t76;
+        double t128 = 0.433883739117558 * t34;
+        double t129 = 0.9009688679024191 * t25;
+        double t130 = t128 - t129;
+        double t131 = t19 + t130;
+        double t132 = 0.9009688679024191 * t34;
+        double t133 = 0.433883739117558 * t25;
+        double t134 = t132 + t133;
+        double t135 = t45 - t134;
+        a[offa] = t12;
+        a[offa + 1] = t13;
+        a[offa + 2] = t37;
+        a[offa + 3] = t50;
+        a[offa + 4] = t71;
+        a[offa + 5] = t80;
+        a[offa + 6] = t101;
+        a[offa + 7] = t110;
+        a[offa + 8] = t115;
+        a[offa + 9] = t119;
+        a[offa + 10] = t123;
+        a[offa + 11] = t127;
+        a[offa + 12] = t131;
+        a[offa + 13] = t135;
+    }
+
+    static void rf15(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double x13 = a[offa + 13];
+        double x14 = a[offa + 14];
+        double t0 = x6 + x9;
+        double t1 = x3 + x12;
+        double t2 = x0 + t1;
+        double t3 = t0 + t2;
+        double t4 = x7 + x10;
+        double t5 = x4 + x13;
+        double t6 = x1 + t5;
+        double t7 = t4 + t6;
+        double t8 = x8 + x11;
+        double t9 = x5 + x14;
+        double t10 = x2 + t9;
+        double t11 = t8 + t10;
+        double t12 = t7 + t11;
+        double t13 = t3 + t12;
+        double t14 = x6 - x9;
+        double t15 = 0.9510565162951535 * t14;
+        double t16 = x3 - x12;
+        double t17 = 0.587785252292473 * t16;
+        double t18 = t15 - t17;
+        double t19 = x7 - x10;
+        double t20 = 0.9510565162951535 * t19;
+        double t21 = x4 - x13;
+        double t22 = 0.587785252292473 * t21;
+        double t23 = t20 - t22;
+        double t24 = 0.6691306063588585 * t23;
+        double t25 = 0.8090169943749476 * t5;
+        double t26 = x1 - t25;
+        double t27 = 0.30901699437494745 * t4;
+        double t28 = t26 + t27;
+        double t29 = 0.743144825477394 * t28;
+        double t30 = t24 - t29;
+        double t31 = x8 - x11;
+        double t32 = 0.9510565162951535 * t31;
+        double t33 = x5 - x14;
+        double t34 = 0.587785252292473 * t33;
+        double t35 = t32 - t34;
+        double t36 = 0.10452846326765423 * t35;
+        double t37 = 0.8090169943749476 * t9;
+        double t38 = x2 - t37;
+        double t39 = 0.30901699437494745 * t8;
+        double t40 = t38 + t39;
+        double t41 = 0.9945218953682733 * t40;
+        double t42 = t36 + t41;
+        double t43 = t30 - t42;
+        double t44 = 0.5 * t43;
+        double t45 = t18 - t44;
+        double t46 = 0.6691306063588585 * t28;
+        double t47 = 0.743144825477394 * t23;
+        double t48 = t46 + t47;
+        double t49 = 0.9945218953682733 * t35;
+        double t50 = 0.10452846326765423 * t40;
+        double t51 = t49 - t50;
+        double t52 = t48 - t51;
+        double t53 = 0.8660254037844384 * t52;
+        double t54 = t45 - t53;
+        double t55 = 0.30901699437494723 * t1;
+        double t56 = x0 + t55;
+        double t57 = 0.8090169943749476 * t0;
+        double t58 = t56 - t57;
+        double t59 = 0.30901699437494723 * t5;
+        double t60 = x1 + t59;
+        double t61 = 0.8090169943749476 * t4;
+        double t62 = t60 - t61;
+        double t63 = 0.913545457642601 * t62;
+        double t64 = 0.9510565162951536 * t21;
+        double t65 = 0.587785252292473 * t19;
+        double t66 = t64 + t65;
+        double t67 = 0.40673664307580015 * t66;
+        double t68 = t63 - t67;
+        double t69 = 0.30901699437494723 * t9;
+        double t70 = x2 + t69;
+        double t71 = 0.8090169943749476 * t8;
+        double t72 = t70 - t71;
+        double t73 = 0.6691306063588585 * t72;
+        double t74 = 0.9510565162951536 * t33;
+        double t75 = 0.587785252292473 * t31;
+        double t76 = t74 + t75;
+        double t77 = 0.743144825477394 * t76;
+        double t78 = t73 - t77;
+        double t79 = t68 + t78;
+        double t80 = t58 + t79;
+        double t81 = 0.9510565162951536 * t16;
+        double t82 = 0.587785252292473 * t14;
+        double t83 = t81 + t82;
+        double t84 = 0.913545457642601 * t66;
+        double t85 = 0.40673664307580015 * t62;
+        double t86 = t84 + t85;
+        double t87 = 0.6691306063588585 * t76;
+        double t88 = 0.743144825477394 * t72;
+        double t89 = t87 + t88;
+        double t90 = t86 + t89;
+        double t91 = t83 + t90;
+        double t92 = -t91;
+        double t93 = 0.8090169943749476 * t1;
+        double t94 = x0 - t93;
+        double t95 = 0.30901699437494745 * t0;
+        double t96 = t94 + t95;
+        double t97 = t48 + t51;
+        double t98 = t96 + t97;
+        double t99 = t18 + t43;
+        double t100 = 0.30901699437494723 * t28;
+        double t101 = t22 - t20;
+        double t102 = 0.9510565162951536 * t101;
+        double t103 = t100 + t102;
+        double t104 = t34 - t32;
+        double t105 = 0.587785252292473 * t104;
+        double t106 = 0.8090169943749476 * t40;
+        double t107 = t105 - t106;
+        double t108 = t103 + t107;
+        double t109 = t96 + t108;
+        double t110 = t17 - t15;
+        double t111 = 0.30901699437494723 * t101;
+        double t112 = 0.9510565162951536 * t28;
+        double t113 = t111 - t112;
+        double t114 = 0.8090169943749476 * t104;
+        double t115 = 0.587785252292473 * t40;
+        double t116 = t114 + t115;
+        double t117 = t113 - t116;
+        double t118 = t110 + t117;
+        double t119 = 0.9945218953682733 * t66;
+        double t120 = 0.10452846326765423 * t62;
+        double t121 = t119 - t120;
+        double t122 = 0.9781476007338057 * t72;
+        double t123 = 0.20791169081775931 * t76;
+        double t124 = t122 + t123;
+        double t125 = t121 - t124;
+        double t126 = t58 + t125;
+        double t127 = 0.20791169081775931 * t72;
+        double t128 = 0.9781476007338057 * t76;
+        double t129 = t127 - t128;
+        double t130 = 0.10452846326765423 * t66;
+        double t131 = 0.9945218953682733 * t62;
+        double t132 = t130 + t131;
+        double t133 = t129 - t132;
+        double t134 = t83 + t133;
+        double t135 = 0.5 * t12;
+        double t136 = t3 - t135;
+        double t137 = t7 - t11;
+        double t138 = 0.8660254037844384 * t137;
+        double t139 = -t138;
+        double t140 = 0.5 * t79;
+        double t141 = t58 - t140;
+        double t142 = t89 - t86;
+        double t143 = 0.8660254037844384 * t142;
+        double t144 = t141 + t143;
+        double t145 = 0.5 * t90;
+        double t146 = t145 - t83;
+        double t147 = t68 - t78;
+        double t148 = 0.8660254037844384 * t147;
+        double t149 = t146 - t148;
+        double t150 = 0.5 * t97;
+        double t151 = t96 - t150;
+        double t152 = t30 + t42;
+        double t153 = 0.8660254037844384 * t152;
+        double t154 = t151 + t153;
+        a[offa] = t13;
+        a[offa + 1] = t54;
+        a[offa + 2] = t80;
+        a[offa + 3] = t92;
+        a[offa + 4] = t98;
+        a[offa + 5] = t99;
+        a[offa + 6] = t109;
+        a[offa + 7] = t118;
+        a[offa + 8] = t126;
+        a[offa + 9] = t134;
+        a[offa + 10] = t136;
+        a[offa + 11] = t139;
+        a[offa + 12] = t144;
+        a[offa + 13] = t149;
+        a[offa + 14] = t154;
+    }
+
+    static void rf16(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double x13 = a[offa + 13];
+        double x14 = a[offa + 14];
+        double x15 = a[offa + 15];
+        double t0 = x0 + x8;
+        double t1 = x4 + x12;
+        double t2 = t0 + t1;
+        double t3 = x2 + x10;
+        double t4 = x6 + x14;
+        double t5 = t3 + t4;
+        double t6 = t2 + t5;
+        double t7 = x1 + x9;
+        double t8 = x5 + x13;
+        double t9 = t7 + t8;
+        double t10 = x3 + x11;
+        double t11 = x7 + x15;
+        double t12 = t10 + t11;
+        double t13 = t9 + t12;
+        double t14 = t6 + t13;
+        double t15 = t6 - t13;
+        double t16 = x0 - x8;
+        double t17 = x2 - x10;
+        double t18 = x14 - x6;
+        double t19 = t17 + t18;
+        double t20 = 0.7071067811865476 * t19;
+        double t21 = t16 + t20;
+        double t22 = x1 - x9;
+        double t23 = 0.9238795325112865 * t22;
+        double t24 = x13 - x5;
+        double t25 = 0.3826834323650904 * t24;
+        double t26 = t23 + t25;
+        double t27 = x3 - x11;
+        double t28 = 0.38268343236509 * t27;
+        double t29 = x15 - x7;
+        double t30 = 0.9238795325112866 * t29;
+        double t31 = t28 + t30;
+        double t32 = t26 + t31;
+        double t33 = t21 + t32;
+        double t34 = x12 - x4;
+        double t35 = t18 - t17;
+        double t36 = 0.7071067811865476 * t35;
+        double t37 = t34 + t36;
+        double t38 = 0.9238795325112865 * t24;
+        double t39 = 0.3826834323650904 * t22;
+        double t40 = t38 - t39;
+        double t41 = 0.38268343236509 * t29;
+        double t42 = 0.9238795325112866 * t27;
+        double t43 = t41 - t42;
+        double t44 = t40 + t43;
+        double t45 = t37 + t44;
+        double t46 = t0 - t1;
+        double t47 = t7 - t8;
+        double t48 = 0.7071067811865476 * t47;
+        double t49 = t10 - t11;
+        double t50 = 0.7071067811865476 * t49;
+        double t51 = t48 - t50;
+        double t52 = t46 + t51;
+        double t53 = t4 - t3;
+        double t54 = t8 - t7;
+        double t55 = 0.7071067811865476 * t54;
+        double t56 = t55 - t50;
+        double t57 = t53 + t56;
+        double t58 = x6 - x14;
+        double t59 = t17 - t58;
+        double t60 = 0.7071067811865476 * t59;
+        double t61 = t16 - t60;
+        double t62 = 0.38268343236509 * t22;
+        double t63 = x5 - x13;
+        double t64 = 0.9238795325112866 * t63;
+        double t65 = t62 + t64;
+        double t66 = 0.9238795325112867 * t27;
+        double t67 = x7 - x15;
+        double t68 = 0.3826834323650899 * t67;
+        double t69 = t66 + t68;
+        double t70 = t65 - t69;
+        double t71 = t61 + t70;
+        double t72 = x4 - x12;
+        double t73 = t17 + t58;
+        double t74 = 0.7071067811865476 * t73;
+        double t75 = t72 - t74;
+        double t76 = 0.38268343236509 * t63;
+        double t77 = 0.9238795325112866 * t22;
+        double t78 = t76 - t77;
+        double t79 = 0.3826834323650899 * t27;
+        double t80 = 0.9238795325112867 * t67;
+        double t81 = t79 - t80;
+        double t82 = t78 + t81;
+        double t83 = t75 + t82;
+        double t84 = t2 - t5;
+        double t85 = t12 - t9;
+        double t86 = t16 - t20;
+        double t87 = t40 - t43;
+        double t88 = t86 + t87;
+        double t89 = t34 - t36;
+        double t90 = t31 - t26;
+        double t91 = t89 + t90;
+        double t92 = t55 + t50;
+        double t93 = t46 + t92;
+        double t94 = t3 - t4;
+        double t95 = t48 + t50;
+        double t96 = t94 - t95;
+        double t97 = t16 + t60;
+        double t98 = t78 - t81;
+        double t99 = t97 + t98;
+        double t100 = t72 + t74;
+        double t101 = t65 + t69;
+        double t102 = t100 - t101;
+        a[offa] = t14;
+        a[offa + 1] = t15;
+        a[offa + 2] = t33;
+        a[offa + 3] = t45;
+        a[offa + 4] = t52;
+        a[offa + 5] = t57;
+        a[offa + 6] = t71;
+        a[offa + 7] = t83;
+        a[offa + 8] = t84;
+        a[offa + 9] = t85;
+        a[offa + 10] = t88;
+        a[offa + 11] = t91;
+        a[offa + 12] = t93;
+        a[offa + 13] = t96;
+        a[offa + 14] = t99;
+        a[offa + 15] = t102;
+    }
+
+    static void rf18(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double x13 = a[offa + 13];
+        double x14 = a[offa + 14];
+        double x15 = a[offa + 15];
+        double x16 = a[offa + 16];
+        double x17 = a[offa + 17];
+        double t0 = x6 + x12;
+        double t1 = x0 + t0;
+        double t2 = x8 + x14;
+        double t3 = x2 + t2;
+        double t4 = x10 + x16;
+        double t5 = x4 + t4;
+        double t6 = t3 + t5;
+        double t7 = t1 + t6;
+        double t8 = x7 + x13;
+        double t9 = x1 + t8;
+        double t10 = x9 + x15;
+        double t11 = x3 + t10;
+        double t12 = x11 + x17;
+        double t13 = x5 + t12;
+        double t14 = t11 + t13;
+        double t15 = t9 + t14;
+        double t16 = t7 + t15;
+        double t17 = t7 - t15;
+        double t18 = 0.5 * t0;
+        double t19 = x0 - t18;
+        double t20 = 0.5 * t2;
+        double t21 = x2 - t20;
+        double t22 = 0.7660444431189778 * t21;
+        double t23 = x8 - x14;
+        double t24 = 0.5566703992264194 * t23;
+        double t25 = t22 - t24;
+        double t26 = 0.5 * t4;
+        double t27 = x4 - t26;
+        double t28 = 0.17364817766692997 * t27;
+        double t29 = x10 - x16;
+        double t30 = 0.852868531952443 * t29;
+        double t31 = t28 - t30;
+        double t32 = t25 + t31;
+        double t33 = t19 + t32;
+        double t34 = 0.5 * t8;
+        double t35 = x1 - t34;
+        double t36 = 0.5 * t10;
+        double t37 = x3 - t36;
+        double t38 = 0.7660444431189778 * t37;
+        double t39 = x9 - x15;
+        double t40 = 0.5566703992264194 * t39;
+        double t41 = t38 - t40;
+        double t42 = 0.5 * t12;
+        double t43 = x5 - t42;
+        double t44 = 0.17364817766692997 * t43;
+        double t45 = x11 - x17;
+        double t46 = 0.852868531952443 * t45;
+        double t47 = t44 - t46;
+        double t48 = t41 + t47;
+        double t49 = t35 + t48;
+        double t50 = 0.9396926207859081 * t49;
+        double t51 = x7 - x13;
+        double t52 = 0.8660254037844384 * t51;
+        double t53 = 0.663413948168938 * t39;
+        double t54 = 0.6427876096865396 * t37;
+        double t55 = t53 + t54;
+        double t56 = 0.1503837331804349 * t45;
+        double t57 = 0.9848077530122081 * t43;
+        double t58 = t56 + t57;
+        double t59 = t55 + t58;
+        double t60 = t52 + t59;
+        double t61 = 0.34202014332566943 * t60;
+        double t62 = t50 - t61;
+        double t63 = t33 + t62;
+        double t64 = x6 - x12;
+        double t65 = 0.8660254037844384 * t64;
+        double t66 = 0.663413948168938 * t23;
+        double t67 = 0.6427876096865396 * t21;
+        double t68 = t66 + t67;
+        double t69 = 0.1503837331804349 * t29;
+        double t70 = 0.9848077530122081 * t27;
+        double t71 = t69 + t70;
+        double t72 = t68 + t71;
+        double t73 = t65 + t72;
+        double t74 = 0.9396926207859081 * t60;
+        double t75 = 0.34202014332566943 * t49;
+        double t76 = t74 + t75;
+        double t77 = t73 + t76;
+        double t78 = -t77;
+        double t79 = 0.17364817766692997 * t21;
+        double t80 = 0.852868531952443 * t23;
+        double t81 = t79 + t80;
+        double t82 = 0.2961981327260237 * t29;
+        double t83 = 0.9396926207859084 * t27;
+        double t84 = t82 - t83;
+        double t85 = t81 + t84;
+        double t86 = t19 + t85;
+        double t87 = 0.17364817766692997 * t37;
+        double t88 = 0.852868531952443 * t39;
+        double t89 = t87 + t88;
+        double t90 = 0.2961981327260237 * t45;
+        double t91 = 0.9396926207859084 * t43;
+        double t92 = t90 - t91;
+        double t93 = t89 + t92;
+        double t94 = t35 + t93;
+        double t95 = 0.7660444431189778 * t94;
+        double t96 = 0.1503837331804349 * t39;
+        double t97 = 0.9848077530122081 * t37;
+        double t98 = t96 - t97;
+        double t99 = 0.8137976813493735 * t45;
+        double t100 = 0.34202014332566866 * t43;
+        double t101 = t99 + t100;
+        double t102 = t98 - t101;
+        double t103 = t52 + t102;
+        double t104 = 0.6427876096865396 * t103;
+        double t105 = t95 + t104;
+        double t106 = t86 + t105;
+        double t107 = 0.1503837331804349 * t23;
+        double t108 = 0.9848077530122081 * t21;
+        double t109 = t107 - t108;
+        double t110 = 0.8137976813493735 * t29;
+        double t111 = 0.34202014332566866 * t27;
+        double t112 = t110 + t111;
+        double t113 = t109 - t112;
+        double t114 = t65 + t113;
+        double t115 = 0.7660444431189778 * t103;
+        double t116 = 0.6427876096865396 * t94;
+        double t117 = t115 - t116;
+        double t118 = t114 + t117;
+        double t119 = 0.5 * t6;
+        double t120 = t1 - t119;
+        double t121 = 0.5 * t14;
+        double t122 = t9 - t121;
+        double t123 = 0.5 * t122;
+        double t124 = t11 - t13;
+        double t125 = 0.7499999999999997 * t124;
+        double t126 = t123 - t125;
+        double t127 = t120 + t126;
+        double t128 = t3 - t5;
+        double t129 = 0.8660254037844384 * t128;
+        double t130 = 0.4330127018922192 * t124;
+        double t131 = 0.8660254037844386 * t122;
+        double t132 = t130 + t131;
+        double t133 = t129 + t132;
+        double t134 = -t133;
+        double t135 = 0.5 * t32;
+        double t136 = t19 - t135;
+        double t137 = t71 - t68;
+        double t138 = 0.8660254037844384 * t137;
+        double t139 = t136 + t138;
+        double t140 = 0.5 * t48;
+        double t141 = t35 - t140;
+        double t142 = t58 - t55;
+        double t143 = 0.8660254037844384 * t142;
+        double t144 = t141 + t143;
+        double t145 = 0.17364817766692997 * t144;
+        double t146 = 0.5 * t59;
+        double t147 = t146 - t52;
+        double t148 = t41 - t47;
+        double t149 = 0.8660254037844384 * t148;
+        double t150 = t147 - t149;
+        double t151 = 0.9848077530122081 * t150;
+        double t152 = t145 + t151;
+        double t153 = t139 + t152;
+        double t154 = 0.5 * t72;
+        double t155 = t154 - t65;
+        double t156 = t25 - t31;
+        double t157 = 0.8660254037844384 * t156;
+        double t158 = t155 - t157;
+        double t159 = 0.17364817766692997 * t150;
+        double t160 = 0.9848077530122081 * t144;
+        double t161 = t159 - t160;
+        double t162 = t158 + t161;
+        double t163 = 0.5 * t85;
+        double t164 = t19 - t163;
+        double t165 = t109 + t112;
+        double t166 = 0.8660254037844384 * t165;
+        double t167 = t164 + t166;
+        double t168 = 0.5 * t102;
+        double t169 = t52 - t168;
+        double t170 = t89 - t92;
+        double t171 = 0.8660254037844384 * t170;
+        double t172 = t169 - t171;
+        double t173 = 0.984807753012208 * t172;
+        double t174 = 0.5 * t93;
+        double t175 = t35 - t174;
+        double t176 = t98 + t101;
+        double t177 = 0.8660254037844384 * t176;
+        double t178 = t175 + t177;
+        double t179 = 0.17364817766693033 * t178;
+        double t180 = t173 - t179;
+        double t181 = t167 + t180;
+        double t182 = 0.5 * t113;
+        double t183 = t65 - t182;
+        double t184 = t81 - t84;
+        double t185 = 0.8660254037844384 * t184;
+        double t186 = t183 - t185;
+        double t187 = 0.17364817766693033 * t172;
+        double t188 = 0.984807753012208 * t178;
+        double t189 = t187 + t188;
+        double t190 = t186 - t189;
+        double t191 = 0.7499999999999996 * t124;
+        double t192 = t191 - t123;
+        double t193 = t120 + t192;
+        double t194 = 0.8660254037844384 * t122;
+        double t195 = t130 + t194;
+        double t196 = t129 - t195;
+        double t197 = t136 - t138;
+        double t198 = t147 + t149;
+        double t199 = 0.6427876096865393 * t198;
+        double t200 = t141 - t143;
+        double t201 = 0.766044443118978 * t200;
+        double t202 = t199 - t201;
+        double t203 = t197 + t202;
+        double t204 = t155 + t157;
+        double t205 = 0.766044443118978 * t198;
+        double t206 = 0.6427876096865393 * t200;
+        double t207 = t205 + t206;
+        double t208 = t204 - t207;
+        double t209 = t164 - t166;
+        double t210 = t169 + t171;
+        double t211 = 0.34202014332566866 * t210;
+        double t212 = t175 - t177;
+        double t213 = 0.9396926207859084 * t212;
+        double t214 = t211 - t213;
+        double t215 = t209 + t214;
+        double t216 = t183 + t185;
+        double t217 = 0.9396926207859084 * t210;
+        double t218 = 0.34202014332566866 * t212;
+        double t219 = t217 + t218;
+        double t220 = t216 - t219;
+        a[offa] = t16;
+        a[offa + 1] = t17;
+        a[offa + 2] = t63;
+        a[offa + 3] = t78;
+        a[offa + 4] = t106;
+        a[offa + 5] = t118;
+        a[offa + 6] = t127;
+        a[offa + 7] = t134;
+        a[offa + 8] = t153;
+        a[offa + 9] = t162;
+        a[offa + 10] = t181;
+        a[offa + 11] = t190;
+        a[offa + 12] = t193;
+        a[offa + 13] = t196;
+        a[offa + 14] = t203;
+        a[offa + 15] = t208;
+        a[offa + 16] = t215;
+        a[offa + 17] = t220;
+    }
+
+    static void rf20(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double x13 = a[offa + 13];
+        double x14 = a[offa + 14];
+        double x15 = a[offa + 15];
+        double x16 = a[offa + 16];
+        double x17 = a[offa + 17];
+        double x18 = a[offa + 18];
+        double x19 = a[offa + 19];
+        double t0 = x8 + x12;
+        double t1 = x4 + x16;
+        double t2 = x0 + t1;
+        double t3 = t0 + t2;
+        double t4 = x10 + x14;
+        double t5 = x6 + x18;
+        double t6 = x2 + t5;
+        double t7 = t4 + t6;
+        double t8 = t3 + t7;
+        double t9 = x9 + x13;
+        double t10 = x5 + x17;
+        double t11 = x1 + t10;
+        double t12 = t9 + t11;
+        double t13 = x11 + x15;
+        double t14 = x7 + x19;
+        double t15 = x3 + t14;
+        double t16 = t13 + t15;
+        double t17 = t12 + t16;
+        double t18 = t8 + t17;
+        double t19 = t8 - t17;
+        double t20 = 0.30901699437494723 * t1;
+        double t21 = x0 + t20;
+        double t22 = 0.8090169943749476 * t0;
+        double t23 = t21 - t22;
+        double t24 = 0.30901699437494723 * t5;
+        double t25 = x2 + t24;
+        double t26 = 0.8090169943749476 * t4;
+        double t27 = t25 - t26;
+        double t28 = 0.8090169943749473 * t27;
+        double t29 = x6 - x18;
+        double t30 = 0.9510565162951536 * t29;
+        double t31 = x10 - x14;
+        double t32 = 0.587785252292473 * t31;
+        double t33 = t30 + t32;
+        double t34 = 0.5877852522924734 * t33;
+        double t35 = t28 - t34;
+        double t36 = t23 + t35;
+        double t37 = 0.30901699437494723 * t10;
+        double t38 = x1 + t37;
+        double t39 = 0.8090169943749476 * t9;
+        double t40 = t38 - t39;
+        double t41 = 0.9510565162951535 * t40;
+        double t42 = x5 - x17;
+        double t43 = 0.9510565162951536 * t42;
+        double t44 = x9 - x13;
+        double t45 = 0.587785252292473 * t44;
+        double t46 = t43 + t45;
+        double t47 = 0.3090169943749476 * t46;
+        double t48 = t41 - t47;
+        double t49 = 0.30901699437494723 * t14;
+        double t50 = x3 + t49;
+        double t51 = 0.8090169943749476 * t13;
+        double t52 = t50 - t51;
+        double t53 = 0.5877852522924729 * t52;
+        double t54 = x7 - x19;
+        double t55 = 0.9510565162951536 * t54;
+        double t56 = x11 - x15;
+        double t57 = 0.587785252292473 * t56;
+        double t58 = t55 + t57;
+        double t59 = 0.8090169943749476 * t58;
+        double t60 = t53 - t59;
+        double t61 = t48 + t60;
+        double t62 = t36 + t61;
+        double t63 = x4 - x16;
+        double t64 = 0.9510565162951536 * t63;
+        double t65 = x8 - x12;
+        double t66 = 0.587785252292473 * t65;
+        double t67 = t64 + t66;
+        double t68 = 0.8090169943749473 * t33;
+        double t69 = 0.5877852522924734 * t27;
+        double t70 = t68 + t69;
+        double t71 = t67 + t70;
+        double t72 = 0.9510565162951535 * t46;
+        double t73 = 0.3090169943749476 * t40;
+        double t74 = t72 + t73;
+        double t75 = 0.5877852522924729 * t58;
+        double t76 = 0.8090169943749476 * t52;
+        double t77 = t75 + t76;
+        double t78 = t74 + t77;
+        double t79 = t71 + t78;
+        double t80 = -t79;
+        double t81 = 0.8090169943749476 * t1;
+        double t82 = x0 - t81;
+        double t83 = 0.30901699437494745 * t0;
+        double t84 = t82 + t83;
+        double t85 = 0.8090169943749476 * t5;
+        double t86 = x2 - t85;
+        double t87 = 0.30901699437494745 * t4;
+        double t88 = t86 + t87;
+        double t89 = 0.30901699437494723 * t88;
+        double t90 = 0.9510565162951535 * t31;
+        double t91 = 0.587785252292473 * t29;
+        double t92 = t90 - t91;
+        double t93 = 0.9510565162951536 * t92;
+        double t94 = t89 + t93;
+        double t95 = t84 + t94;
+        double t96 = 0.8090169943749476 * t10;
+        double t97 = x1 - t96;
+        double t98 = 0.30901699437494745 * t9;
+        double t99 = t97 + t98;
+        double t100 = 0.8090169943749473 * t99;
+        double t101 = 0.9510565162951535 * t44;
+        double t102 = 0.587785252292473 * t42;
+        double t103 = t101 - t102;
+        double t104 = 0.5877852522924734 * t103;
+        double t105 = t100 + t104;
+        double t106 = 0.9510565162951535 * t56;
+        double t107 = 0.587785252292473 * t54;
+        double t108 = t106 - t107;
+        double t109 = 0.9510565162951535 * t108;
+        double t110 = 0.8090169943749476 * t14;
+        double t111 = x3 - t110;
+        double t112 = 0.30901699437494745 * t13;
+        double t113 = t111 + t112;
+        double t114 = 0.30901699437494756 * t113;
+        double t115 = t109 - t114;
+        double t116 = t105 + t115;
+        double t117 = t95 + t116;
+        double t118 = 0.9510565162951535 * t65;
+        double t119 = 0.587785252292473 * t63;
+        double t120 = t118 - t119;
+        double t121 = 0.30901699437494723 * t92;
+        double t122 = 0.9510565162951536 * t88;
+        double t123 = t121 - t122;
+        double t124 = t120 + t123;
+        double t125 = 0.8090169943749473 * t103;
+        double t126 = 0.5877852522924734 * t99;
+        double t127 = t125 - t126;
+        double t128 = 0.30901699437494756 * t108;
+        double t129 = 0.9510565162951535 * t113;
+        double t130 = t128 + t129;
+        double t131 = t127 - t130;
+        double t132 = t124 + t131;
+        double t133 = t91 - t90;
+        double t134 = 0.9510565162951535 * t133;
+        double t135 = 0.30901699437494756 * t88;
+        double t136 = t134 - t135;
+        double t137 = t84 + t136;
+        double t138 = 0.5877852522924729 * t99;
+        double t139 = t102 - t101;
+        double t140 = 0.8090169943749476 * t139;
+        double t141 = t138 + t140;
+        double t142 = t107 - t106;
+        double t143 = 0.30901699437494773 * t142;
+        double t144 = t143 - t129;
+        double t145 = t141 + t144;
+        double t146 = t137 + t145;
+        double t147 = t119 - t118;
+        double t148 = 0.30901699437494756 * t133;
+        double t149 = 0.9510565162951535 * t88;
+        double t150 = t148 + t149;
+        double t151 = t147 - t150;
+        double t152 = 0.5877852522924729 * t139;
+        double t153 = 0.8090169943749476 * t99;
+        double t154 = t152 - t153;
+        double t155 = 0.9510565162951535 * t142;
+        double t156 = 0.30901699437494773 * t113;
+        double t157 = t155 + t156;
+        double t158 = t154 - t157;
+        double t159 = t151 + t158;
+        double t160 = 0.587785252292473 * t33;
+        double t161 = 0.8090169943749476 * t27;
+        double t162 = t160 - t161;
+        double t163 = t23 + t162;
+        double t164 = 0.30901699437494723 * t40;
+        double t165 = 0.9510565162951536 * t46;
+        double t166 = t164 + t165;
+        double t167 = 0.8090169943749473 * t52;
+        double t168 = 0.5877852522924732 * t58;
+        double t169 = t167 + t168;
+        double t170 = t166 - t169;
+        double t171 = t163 + t170;
+        double t172 = 0.8090169943749476 * t33;
+        double t173 = 0.587785252292473 * t27;
+        double t174 = t172 + t173;
+        double t175 = t67 - t174;
+        double t176 = 0.30901699437494723 * t46;
+        double t177 = 0.9510565162951536 * t40;
+        double t178 = t176 - t177;
+        double t179 = 0.5877852522924732 * t52;
+        double t180 = 0.8090169943749473 * t58;
+        double t181 = t179 - t180;
+        double t182 = t178 + t181;
+        double t183 = t175 + t182;
+        double t184 = t3 - t7;
+        double t185 = t16 - t12;
+        double t186 = t23 - t35;
+        double t187 = t77 - t74;
+        double t188 = t186 + t187;
+        double t189 = t70 - t67;
+        double t190 = t60 - t48;
+        double t191 = t189 + t190;
+        double t192 = t84 - t94;
+        double t193 = t127 + t130;
+        double t194 = t192 + t193;
+        double t195 = t120 - t123;
+        double t196 = t115 - t105;
+        double t197 = t195 + t196;
+        double t198 = t84 - t136;
+        double t199 = t154 + t157;
+        double t200 = t198 + t199;
+        double t201 = t147 + t150;
+        double t202 = t144 - t141;
+        double t203 = t201 + t202;
+        double t204 = t23 - t162;
+        double t205 = t178 - t181;
+        double t206 = t204 + t205;
+        double t207 = t67 + t174;
+        double t208 = t166 + t169;
+        double t209 = t207 - t208;
+        a[offa] = t18;
+        a[offa + 1] = t19;
+        a[offa + 2] = t62;
+        a[offa + 3] = t80;
+        a[offa + 4] = t117;
+        a[offa + 5] = t132;
+        a[offa + 6] = t146;
+        a[offa + 7] = t159;
+        a[offa + 8] = t171;
+        a[offa + 9] = t183;
+        a[offa + 10] = t184;
+        a[offa + 11] = t185;
+        a[offa + 12] = t188;
+        a[offa + 13] = t191;
+        a[offa + 14] = t194;
+        a[offa + 15] = t197;
+        a[offa + 16] = t200;
+        a[offa + 17] = t203;
+        a[offa + 18] = t206;
+        a[offa + 19] = t209;
+    }
+
+    static void rf24(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double x13 = a[offa + 13];
+        double x14 = a[offa + 14];
+        double x15 = a[offa + 15];
+        double x16 = a[offa + 16];
+        double x17 = a[offa + 17];
+        double x18 = a[offa + 18];
+        double x19 = a[offa + 19];
+        double x20 = a[offa + 20];
+        double x21 = a[offa + 21];
+        double x22 = a[offa + 22];
+        double x23 = a[offa + 23];
+        double t0 = x8 + x16;
+        double t1 = x0 + t0;
+        double t2 = x12 + x20;
+        double t3 = x4 + t2;
+        double t4 = t1 + t3;
+        double t5 = x10 + x18;
+        double t6 = x2 + t5;
+        double t7 = x14 + x22;
+        double t8 = x6 + t7;
+        double t9 = t6 + t8;
+        double t10 = t4 + t9;
+        double t11 = x9 + x17;
+        double t12 = x1 + t11;
+        double t13 = x13 + x21;
+        double t14 = x5 + t13;
+        double t15 = t12 + t14;
+        double t16 = x11 + x19;
+        double t17 = x3 + t16;
+        double t18 = x15 + x23;
+        double t19 = x7 + t18;
+        double t20 = t17 + t19;
+        double t21 = t15 + t20;
+        double t22 = t10 + t21;
+        double t23 = t10 - t21;
+        double t24 = 0.5 * t0;
+        double t25 = x0 - t24;
+        double t26 = 0.5 * t2;
+        double t27 = x4 - t26;
+        double t28 = 0.5 * t27;
+        double t29 = x12 - x20;
+        double t30 = 0.7499999999999997 * t29;
+        double t31 = t28 - t30;
+        double t32 = t25 + t31;
+        double t33 = 0.5 * t5;
+        double t34 = x2 - t33;
+        double t35 = 0.5 * t7;
+        double t36 = x6 - t35;
+        double t37 = 0.5 * t36;
+        double t38 = x14 - x22;
+        double t39 = 0.7499999999999997 * t38;
+        double t40 = t37 - t39;
+        double t41 = t34 + t40;
+        double t42 = 0.8660254037844384 * t41;
+        double t43 = x10 - x18;
+        double t44 = 0.8660254037844384 * t43;
+        double t45 = 0.4330127018922192 * t38;
+        double t46 = 0.8660254037844386 * t36;
+        double t47 = t45 + t46;
+        double t48 = t44 + t47;
+        double t49 = 0.5 * t48;
+        double t50 = t42 - t49;
+        double t51 = t32 + t50;
+        double t52 = 0.5 * t11;
+        double t53 = x1 - t52;
+        double t54 = 0.5 * t13;
+        double t55 = x5 - t54;
+        double t56 = 0.5 * t55;
+        double t57 = x13 - x21;
+        double t58 = 0.7499999999999997 * t57;
+        double t59 = t56 - t58;
+        double t60 = t53 + t59;
+        double t61 = 0.9659258262890683 * t60;
+        double t62 = x9 - x17;
+        double t63 = 0.8660254037844384 * t62;
+        double t64 = 0.4330127018922192 * t57;
+        double t65 = 0.8660254037844386 * t55;
+        double t66 = t64 + t65;
+        double t67 = t63 + t66;
+        double t68 = 0.2588190451025207 * t67;
+        double t69 = t61 - t68;
+        double t70 = 0.5 * t16;
+        double t71 = x3 - t70;
+        double t72 = 0.5 * t18;
+        double t73 = x7 - t72;
+        double t74 = 0.5 * t73;
+        double t75 = x15 - x23;
+        double t76 = 0.7499999999999997 * t75;
+        double t77 = t74 - t76;
+        double t78 = t71 + t77;
+        double t79 = x11 - x19;
+        double t80 = 0.8660254037844384 * t79;
+        double t81 = 0.4330127018922192 * t75;
+        double t82 = 0.8660254037844386 * t73;
+        double t83 = t81 + t82;
+        double t84 = t80 + t83;
+        double t85 = t78 - t84;
+        double t86 = 0.7071067811865476 * t85;
+        double t87 = t69 + t86;
+        double t88 = t51 + t87;
+        double t89 = x8 - x16;
+        double t90 = 0.8660254037844384 * t89;
+        double t91 = 0.4330127018922192 * t29;
+        double t92 = 0.8660254037844386 * t27;
+        double t93 = t91 + t92;
+        double t94 = t90 + t93;
+        double t95 = 0.8660254037844384 * t48;
+        double t96 = 0.5 * t41;
+        double t97 = t95 + t96;
+        double t98 = t94 + t97;
+        double t99 = 0.9659258262890683 * t67;
+        double t100 = 0.2588190451025207 * t60;
+        double t101 = t99 + t100;
+        double t102 = t78 + t84;
+        double t103 = 0.7071067811865476 * t102;
+        double t104 = t101 + t103;
+        double t105 = t98 + t104;
+        double t106 = -t105;
+        double t107 = 0.7499999999999996 * t29;
+        double t108 = t107 - t28;
+        double t109 = t25 + t108;
+        double t110 = 0.7499999999999996 * t38;
+        double t111 = t110 - t37;
+        double t112 = t34 + t111;
+        double t113 = 0.5 * t112;
+        double t114 = 0.8660254037844384 * t36;
+        double t115 = t45 + t114;
+        double t116 = t44 - t115;
+        double t117 = 0.8660254037844386 * t116;
+        double t118 = t113 + t117;
+        double t119 = t109 + t118;
+        double t120 = 0.8660254037844384 * t73;
+        double t121 = t81 + t120;
+        double t122 = t80 - t121;
+        double t123 = 0.7499999999999996 * t57;
+        double t124 = t123 - t56;
+        double t125 = t53 + t124;
+        double t126 = 0.8660254037844384 * t125;
+        double t127 = 0.8660254037844384 * t55;
+        double t128 = t64 + t127;
+        double t129 = t63 - t128;
+        double t130 = 0.5 * t129;
+        double t131 = t126 + t130;
+        double t132 = t122 + t131;
+        double t133 = t119 + t132;
+        double t134 = 0.8660254037844384 * t27;
+        double t135 = t91 + t134;
+        double t136 = t90 - t135;
+        double t137 = 0.5 * t116;
+        double t138 = 0.8660254037844386 * t112;
+        double t139 = t137 - t138;
+        double t140 = t136 + t139;
+        double t141 = 0.8660254037844384 * t129;
+        double t142 = 0.5 * t125;
+        double t143 = t141 - t142;
+        double t144 = 0.7499999999999996 * t75;
+        double t145 = t144 - t74;
+        double t146 = t71 + t145;
+        double t147 = t143 - t146;
+        double t148 = t140 + t147;
+        double t149 = t1 - t3;
+        double t150 = t12 - t14;
+        double t151 = 0.7071067811865476 * t150;
+        double t152 = t17 - t19;
+        double t153 = 0.7071067811865476 * t152;
+        double t154 = t151 - t153;
+        double t155 = t149 + t154;
+        double t156 = t8 - t6;
+        double t157 = t14 - t12;
+        double t158 = 0.7071067811865476 * t157;
+        double t159 = t158 - t153;
+        double t160 = t156 + t159;
+        double t161 = t25 - t31;
+        double t162 = t47 - t44;
+        double t163 = 0.8660254037844384 * t162;
+        double t164 = t34 - t40;
+        double t165 = 0.5 * t164;
+        double t166 = t163 - t165;
+        double t167 = t161 + t166;
+        double t168 = t53 - t59;
+        double t169 = 0.5 * t168;
+        double t170 = t66 - t63;
+        double t171 = 0.8660254037844386 * t170;
+        double t172 = t169 + t171;
+        double t173 = t77 - t71;
+        double t174 = t172 + t173;
+        double t175 = t167 + t174;
+        double t176 = t93 - t90;
+        double t177 = 0.5 * t162;
+        double t178 = 0.8660254037844384 * t164;
+        double t179 = t177 + t178;
+        double t180 = t176 - t179;
+        double t181 = 0.5 * t170;
+        double t182 = 0.8660254037844386 * t168;
+        double t183 = t181 - t182;
+        double t184 = t80 - t83;
+        double t185 = t183 + t184;
+        double t186 = t180 + t185;
+        double t187 = t25 - t108;
+        double t188 = t44 + t115;
+        double t189 = 0.5 * t188;
+        double t190 = t34 - t111;
+        double t191 = 0.8660254037844386 * t190;
+        double t192 = t189 - t191;
+        double t193 = t187 + t192;
+        double t194 = t53 - t124;
+        double t195 = 0.2588190451025203 * t194;
+        double t196 = t63 + t128;
+        double t197 = 0.9659258262890684 * t196;
+        double t198 = t195 + t197;
+        double t199 = t71 - t145;
+        double t200 = t80 + t121;
+        double t201 = t199 + t200;
+        double t202 = 0.7071067811865476 * t201;
+        double t203 = t198 - t202;
+        double t204 = t193 + t203;
+        double t205 = t90 + t135;
+        double t206 = 0.8660254037844386 * t188;
+        double t207 = 0.5 * t190;
+        double t208 = t206 + t207;
+        double t209 = t205 - t208;
+        double t210 = 0.2588190451025203 * t196;
+        double t211 = 0.9659258262890684 * t194;
+        double t212 = t210 - t211;
+        double t213 = t200 - t199;
+        double t214 = 0.7071067811865476 * t213;
+        double t215 = t212 - t214;
+        double t216 = t209 + t215;
+        double t217 = t4 - t9;
+        double t218 = t20 - t15;
+        double t219 = t32 - t50;
+        double t220 = t103 - t101;
+        double t221 = t219 + t220;
+        double t222 = t97 - t94;
+        double t223 = t86 - t69;
+        double t224 = t222 + t223;
+        double t225 = t109 - t118;
+        double t226 = t146 + t143;
+        double t227 = t225 + t226;
+        double t228 = t136 - t139;
+        double t229 = t122 - t131;
+        double t230 = t228 + t229;
+        double t231 = t158 + t153;
+        double t232 = t149 + t231;
+        double t233 = t6 - t8;
+        double t234 = t151 + t153;
+        double t235 = t233 - t234;
+        double t236 = t161 - t166;
+        double t237 = t183 - t184;
+        double t238 = t236 + t237;
+        double t239 = t176 + t179;
+        double t240 = t173 - t172;
+        double t241 = t239 + t240;
+        double t242 = t187 - t192;
+        double t243 = t212 + t214;
+        double t244 = t242 + t243;
+        double t245 = t205 + t208;
+        double t246 = t198 + t202;
+        double t247 = t245 - t246;
+        a[offa] = t22;
+        a[offa + 1] = t23;
+        a[offa + 2] = t88;
+        a[offa + 3] = t106;
+        a[offa + 4] = t133;
+        a[offa + 5] = t148;
+        a[offa + 6] = t155;
+        a[offa + 7] = t160;
+        a[offa + 8] = t175;
+        a[offa + 9] = t186;
+        a[offa + 10] = t204;
+        a[offa + 11] = t216;
+        a[offa + 12] = t217;
+        a[offa + 13] = t218;
+        a[offa + 14] = t221;
+        a[offa + 15] = t224;
+        a[offa + 16] = t227;
+        a[offa + 17] = t230;
+        a[offa + 18] = t232;
+        a[offa + 19] = t235;
+        a[offa + 20] = t238;
+        a[offa + 21] = t241;
+        a[offa + 22] = t244;
+        a[offa + 23] = t247;
+    }
+
+    static void rf32(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double x13 = a[offa + 13];
+        double x14 = a[offa + 14];
+        double x15 = a[offa + 15];
+        double x16 = a[offa + 16];
+        double x17 = a[offa + 17];
+        double x18 = a[offa + 18];
+        double x19 = a[offa + 19];
+        double x20 = a[offa + 20];
+        double x21 = a[offa + 21];
+        double x22 = a[offa + 22];
+        double x23 = a[offa + 23];
+        double x24 = a[offa + 24];
+        double x25 = a[offa + 25];
+        double x26 = a[offa + 26];
+        double x27 = a[offa + 27];
+        double x28 = a[offa + 28];
+        double x29 = a[offa + 29];
+        double x30 = a[offa + 30];
+        double x31 = a[offa + 31];
+        double t0 = x0 + x16;
+        double t1 = x8 + x24;
+        double t2 = t0 + t1;
+        double t3 = x4 + x20;
+        double t4 = x12 + x28;
+        double t5 = t3 + t4;
+        double t6 = t2 + t5;
+        double t7 = x2 + x18;
+        double t8 = x10 + x26;
+        double t9 = t7 + t8;
+        double t10 = x6 + x22;
+        double t11 = x14 + x30;
+        double t12 = t10 + t11;
+        double t13 = t9 + t12;
+        double t14 = t6 + t13;
+        double t15 = x1 + x17;
+        double t16 = x9 + x25;
+        double t17 = t15 + t16;
+        double t18 = x5 + x21;
+        double t19 = x13 + x29;
+        double t20 = t18 + t19;
+        double t21 = t17 + t20;
+        double t22 = x3 + x19;
+        double t23 = x11 + x27;
+        double t24 = t22 + t23;
+        double t25 = x7 + x23;
+        double t26 = x15 + x31;
+        double t27 = t25 + t26;
+        double t28 = t24 + t27;
+        double t29 = t21 + t28;
+        double t30 = t14 + t29;
+        double t31 = t14 - t29;
+        double t32 = x0 - x16;
+        double t33 = x4 - x20;
+        double t34 = x28 - x12;
+        double t35 = t33 + t34;
+        double t36 = 0.7071067811865476 * t35;
+        double t37 = t32 + t36;
+        double t38 = x2 - x18;
+        double t39 = x6 - x22;
+        double t40 = x30 - x14;
+        double t41 = t39 + t40;
+        double t42 = 0.7071067811865476 * t41;
+        double t43 = t38 + t42;
+        double t44 = 0.9238795325112865 * t43;
+        double t45 = x26 - x10;
+        double t46 = t40 - t39;
+        double t47 = 0.7071067811865476 * t46;
+        double t48 = t45 + t47;
+        double t49 = 0.3826834323650904 * t48;
+        double t50 = t44 + t49;
+        double t51 = t37 + t50;
+        double t52 = x1 - x17;
+        double t53 = x5 - x21;
+        double t54 = x29 - x13;
+        double t55 = t53 + t54;
+        double t56 = 0.7071067811865476 * t55;
+        double t57 = t52 + t56;
+        double t58 = 0.9807852804032303 * t57;
+        double t59 = x25 - x9;
+        double t60 = t54 - t53;
+        double t61 = 0.7071067811865476 * t60;
+        double t62 = t59 + t61;
+        double t63 = 0.19509032201612872 * t62;
+        double t64 = t58 + t63;
+        double t65 = x3 - x19;
+        double t66 = x7 - x23;
+        double t67 = x31 - x15;
+        double t68 = t66 + t67;
+        double t69 = 0.7071067811865476 * t68;
+        double t70 = t65 + t69;
+        double t71 = 0.8314696123025452 * t70;
+        double t72 = x27 - x11;
+        double t73 = t67 - t66;
+        double t74 = 0.7071067811865476 * t73;
+        double t75 = t72 + t74;
+        double t76 = 0.5555702330196022 * t75;
+        double t77 = t71 + t76;
+        double t78 = t64 + t77;
+        double t79 = t51 + t78;
+        double t80 = x24 - x8;
+        double t81 = t34 - t33;
+        double t82 = 0.7071067811865476 * t81;
+        double t83 = t80 + t82;
+        double t84 = 0.9238795325112865 * t48;
+        double t85 = 0.3826834323650904 * t43;
+        double t86 = t84 - t85;
+        double t87 = t83 + t86;
+        double t88 = 0.9807852804032303 * t62;
+        double t89 = 0.19509032201612872 * t57;
+        double t90 = t88 - t89;
+        double t91 = 0.8314696123025452 * t75;
+        double t92 = 0.5555702330196022 * t70;
+        double t93 = t91 - t92;
+        double t94 = t90 + t93;
+        double t95 = t87 + t94;
+        double t96 = t0 - t1;
+        double t97 = t7 - t8;
+        double t98 = t11 - t10;
+        double t99 = t97 + t98;
+        double t100 = 0.7071067811865476 * t99;
+        double t101 = t96 + t100;
+        double t102 = t15 - t16;
+        double t103 = 0.9238795325112865 * t102;
+        double t104 = t19 - t18;
+        double t105 = 0.3826834323650904 * t104;
+        double t106 = t103 + t105;
+        double t107 = t22 - t23;
+        double t108 = 0.38268343236509 * t107;
+        double t109 = t26 - t25;
+        double t110 = 0.9238795325112866 * t109;
+        double t111 = t108 + t110;
+        double t112 = t106 + t111;
+        double t113 = t101 + t112;
+        double t114 = t4 - t3;
+        double t115 = t98 - t97;
+        double t116 = 0.7071067811865476 * t115;
+        double t117 = t114 + t116;
+        double t118 = 0.9238795325112865 * t104;
+        double t119 = 0.3826834323650904 * t102;
+        double t120 = t118 - t119;
+        double t121 = 0.38268343236509 * t109;
+        double t122 = 0.9238795325112866 * t107;
+        double t123 = t121 - t122;
+        double t124 = t120 + t123;
+        double t125 = t117 + t124;
+        double t126 = x12 - x28;
+        double t127 = t33 - t126;
+        double t128 = 0.7071067811865476 * t127;
+        double t129 = t32 - t128;
+        double t130 = x14 - x30;
+        double t131 = t39 - t130;
+        double t132 = 0.7071067811865476 * t131;
+        double t133 = t38 - t132;
+        double t134 = 0.38268343236509 * t133;
+        double t135 = x10 - x26;
+        double t136 = t39 + t130;
+        double t137 = 0.7071067811865476 * t136;
+        double t138 = t135 - t137;
+        double t139 = 0.9238795325112866 * t138;
+        double t140 = t134 + t139;
+        double t141 = t129 + t140;
+        double t142 = x13 - x29;
+        double t143 = t53 - t142;
+        double t144 = 0.7071067811865476 * t143;
+        double t145 = t52 - t144;
+        double t146 = 0.8314696123025452 * t145;
+        double t147 = x9 - x25;
+        double t148 = t53 + t142;
+        double t149 = 0.7071067811865476 * t148;
+        double t150 = t147 - t149;
+        double t151 = 0.5555702330196022 * t150;
+        double t152 = t146 + t151;
+        double t153 = x11 - x27;
+        double t154 = x15 - x31;
+        double t155 = t66 + t154;
+        double t156 = 0.7071067811865476 * t155;
+        double t157 = t153 - t156;
+        double t158 = 0.9807852804032303 * t157;
+        double t159 = t66 - t154;
+        double t160 = 0.7071067811865476 * t159;
+        double t161 = t65 - t160;
+        double t162 = 0.19509032201612866 * t161;
+        double t163 = t158 - t162;
+        double t164 = t152 + t163;
+        double t165 = t141 + t164;
+        double t166 = x8 - x24;
+        double t167 = t33 + t126;
+        double t168 = 0.7071067811865476 * t167;
+        double t169 = t166 - t168;
+        double t170 = 0.38268343236509 * t138;
+        double t171 = 0.9238795325112866 * t133;
+        double t172 = t170 - t171;
+        double t173 = t169 + t172;
+        double t174 = 0.8314696123025452 * t150;
+        double t175 = 0.5555702330196022 * t145;
+        double t176 = t174 - t175;
+        double t177 = 0.19509032201612866 * t157;
+        double t178 = 0.9807852804032303 * t161;
+        double t179 = t177 + t178;
+        double t180 = t176 - t179;
+        double t181 = t173 + t180;
+        double t182 = t2 - t5;
+        double t183 = t17 - t20;
+        double t184 = 0.7071067811865476 * t183;
+        double t185 = t24 - t27;
+        double t186 = 0.7071067811865476 * t185;
+        double t187 = t184 - t186;
+        double t188 = t182 + t187;
+        double t189 = t12 - t9;
+        double t190 = t20 - t17;
+        double t191 = 0.7071067811865476 * t190;
+        double t192 = t191 - t186;
+        double t193 = t189 + t192;
+        double t194 = t32 - t36;
+        double t195 = t45 - t47;
+        double t196 = 0.9238795325112865 * t195;
+        double t197 = t38 - t42;
+        double t198 = 0.38268343236509034 * t197;
+        double t199 = t196 - t198;
+        double t200 = t194 + t199;
+        double t201 = t52 - t56;
+        double t202 = 0.5555702330196018 * t201;
+        double t203 = t59 - t61;
+        double t204 = 0.8314696123025455 * t203;
+        double t205 = t202 + t204;
+        double t206 = t72 - t74;
+        double t207 = 0.19509032201612836 * t206;
+        double t208 = t65 - t69;
+        double t209 = 0.9807852804032304 * t208;
+        double t210 = t207 - t209;
+        double t211 = t205 + t210;
+        double t212 = t200 + t211;
+        double t213 = t80 - t82;
+        double t214 = 0.38268343236509034 * t195;
+        double t215 = 0.9238795325112865 * t197;
+        double t216 = t214 + t215;
+        double t217 = t213 - t216;
+        double t218 = 0.5555702330196018 * t203;
+        double t219 = 0.8314696123025455 * t201;
+        double t220 = t218 - t219;
+        double t221 = 0.9807852804032304 * t206;
+        double t222 = 0.19509032201612836 * t208;
+        double t223 = t221 + t222;
+        double t224 = t220 - t223;
+        double t225 = t217 + t224;
+        double t226 = t10 - t11;
+        double t227 = t97 - t226;
+        double t228 = 0.7071067811865476 * t227;
+        double t229 = t96 - t228;
+        double t230 = 0.38268343236509 * t102;
+        double t231 = t18 - t19;
+        double t232 = 0.9238795325112866 * t231;
+        double t233 = t230 + t232;
+        double t234 = 0.9238795325112867 * t107;
+        double t235 = t25 - t26;
+        double t236 = 0.3826834323650899 * t235;
+        double t237 = t234 + t236;
+        double t238 = t233 - t237;
+        double t239 = t229 + t238;
+        double t240 = t3 - t4;
+        double t241 = t97 + t226;
+        double t242 = 0.7071067811865476 * t241;
+        double t243 = t240 - t242;
+        double t244 = 0.38268343236509 * t231;
+        double t245 = 0.9238795325112866 * t102;
+        double t246 = t244 - t245;
+        double t247 = 0.3826834323650899 * t107;
+        double t248 = 0.9238795325112867 * t235;
+        double t249 = t247 - t248;
+        double t250 = t246 + t249;
+        double t251 = t243 + t250;
+        double t252 = t32 + t128;
+        double t253 = t135 + t137;
+        double t254 = 0.38268343236508967 * t253;
+        double t255 = t38 + t132;
+        double t256 = 0.9238795325112868 * t255;
+        double t257 = t254 - t256;
+        double t258 = t252 + t257;
+        double t259 = t52 + t144;
+        double t260 = 0.1950903220161283 * t259;
+        double t261 = t147 + t149;
+        double t262 = 0.9807852804032304 * t261;
+        double t263 = t260 + t262;
+        double t264 = t65 + t160;
+        double t265 = 0.555570233019602 * t264;
+        double t266 = t153 + t156;
+        double t267 = 0.8314696123025455 * t266;
+        double t268 = t265 + t267;
+        double t269 = t263 - t268;
+        double t270 = t258 + t269;
+        double t271 = t166 + t168;
+        double t272 = 0.9238795325112868 * t253;
+        double t273 = 0.38268343236508967 * t255;
+        double t274 = t272 + t273;
+        double t275 = t271 - t274;
+        double t276 = 0.1950903220161283 * t261;
+        double t277 = 0.9807852804032304 * t259;
+        double t278 = t276 - t277;
+        double t279 = 0.8314696123025455 * t264;
+        double t280 = 0.555570233019602 * t266;
+        double t281 = t279 - t280;
+        double t282 = t278 + t281;
+        double t283 = t275 + t282;
+        double t284 = t6 - t13;
+        double t285 = t28 - t21;
+        double t286 = t37 - t50;
+        double t287 = t90 - t93;
+        double t288 = t286 + t287;
+        double t289 = t83 - t86;
+        double t290 = t77 - t64;
+        double t291 = t289 + t290;
+        double t292 = t96 - t100;
+        double t293 = t120 - t123;
+        double t294 = t292 + t293;
+        double t295 = t114 - t116;
+        double t296 = t111 - t106;
+        double t297 = t295 + t296;
+        double t298 = t129 - t140;
+        double t299 = t176 + t179;
+        double t300 = t298 + t299;
+        double t301 = t169 - t172;
+        double t302 = t163 - t152;
+        double t303 = t301 + t302;
+        double t304 = t191 + t186;
+        double t305 = t182 + t304;
+        double t306 = t9 - t12;
+        double t307 = t184 + t186;
+        double t308 = t306 - t307;
+        double t309 = t194 - t199;
+        double t310 = t220 + t223;
+        double t311 = t309 + t310;
+        double t312 = t213 + t216;
+        double t313 = t210 - t205;
+        double t314 = t312 + t313;
+        double t315 = t96 + t228;
+        double t316 = t246 - t249;
+        double t317 = t315 + t316;
+        double t318 = t240 + t242;
+        double t319 = t233 + t237;
+        double t320 = t318 - t319;
+        double t321 = t252 - t257;
+        double t322 = t278 - t281;
+        double t323 = t321 + t322;
+        double t324 = t271 + t274;
+        double t325 = t263 + t268;
+        double t326 = t324 - t325;
+        a[offa] = t30;
+        a[offa + 1] = t31;
+        a[offa + 2] = t79;
+        a[offa + 3] = t95;
+        a[offa + 4] = t113;
+        a[offa + 5] = t125;
+        a[offa + 6] = t165;
+        a[offa + 7] = t181;
+        a[offa + 8] = t188;
+        a[offa + 9] = t193;
+        a[offa + 10] = t212;
+        a[offa + 11] = t225;
+        a[offa + 12] = t239;
+        a[offa + 13] = t251;
+        a[offa + 14] = t270;
+        a[offa + 15] = t283;
+        a[offa + 16] = t284;
+        a[offa + 17] = t285;
+        a[offa + 18] = t288;
+        a[offa + 19] = t291;
+        a[offa + 20] = t294;
+        a[offa + 21] = t297;
+        a[offa + 22] = t300;
+        a[offa + 23] = t303;
+        a[offa + 24] = t305;
+        a[offa + 25] = t308;
+        a[offa + 26] = t311;
+        a[offa + 27] = t314;
+        a[offa + 28] = t317;
+        a[offa + 29] = t320;
+        a[offa + 30] = t323;
+        a[offa + 31] = t326;
+    }
+
+    static void rb2(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double t0 = x0 + x1;
+        double t1 = x0 - x1;
+        a[offa] = t0;
+        a[offa + 1] = t1;
+    }
+
+    static void rb3(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double t0 = x2 + x2;
+        double t1 = x0 + t0;
+        double t2 = 0.5 * t0;
+        double t3 = x0 - t2;
+        double t4 = x1 + x1;
+        double t5 = 0.8660254037844387 * t4;
+        double t6 = t3 - t5;
+        double t7 = t3 + t5;
+        a[offa] = t1;
+        a[offa + 1] = t6;
+        a[offa + 2] = t7;
+    }
+
+    static void rb4(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double t0 = x0 + x1;
+        double t1 = x2 + x2;
+        double t2 = t0 + t1;
+        double t3 = x0 - x1;
+        double t4 = x3 + x3;
+        double t5 = t3 - t4;
+        double t6 = t0 - t1;
+        double t7 = t3 + t4;
+        a[offa] = t2;
+        a[offa + 1] = t5;
+        a[offa + 2] = t6;
+        a[offa + 3] = t7;
+    }
+
+    static void rb5(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double t0 = x4 + x4;
+        double t1 = x2 + x2;
+        double t2 = x0 + t1;
+        double t3 = t0 + t2;
+        double t4 = 0.30901699437494745 * t1;
+        double t5 = x0 + t4;
+        double t6 = 0.8090169943749473 * t0;
+        double t7 = t5 - t6;
+        double t8 = x3 + x3;
+        double t9 = 0.9510565162951535 * t8;
+        double t10 = x1 + x1;
+        double t11 = 0.5877852522924732 * t10;
+        double t12 = t9 + t11;
+        double t13 = t7 - t12;
+        double t14 = 0.8090169943749473 * t1;
+        double t15 = x0 - t14;
+        double t16 = 0.30901699437494723 * t0;
+        double t17 = t15 + t16;
+        double t18 = 0.5877852522924732 * t8;
+        double t19 = 0.9510565162951536 * t10;
+        double t20 = t18 - t19;
+        double t21 = t17 - t20;
+        double t22 = t17 + t20;
+        double t23 = t7 + t12;
+        a[offa] = t3;
+        a[offa + 1] = t13;
+        a[offa + 2] = t21;
+        a[offa + 3] = t22;
+        a[offa + 4] = t23;
+    }
+
+    static void rb6(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double t0 = x4 + x4;
+        double t1 = x0 + t0;
+        double t2 = x1 + x2;
+        double t3 = x2 + t2;
+        double t4 = t1 + t3;
+        double t5 = 0.5 * t0;
+        double t6 = x0 - t5;
+        double t7 = x5 + x5;
+        double t8 = 0.8660254037844387 * t7;
+        double t9 = t6 - t8;
+        double t10 = 0.5 * t2;
+        double t11 = x2 - t10;
+        double t12 = 0.8660254037844387 * x3;
+        double t13 = t11 - t12;
+        double t14 = 0.5 * t13;
+        double t15 = 0.5 * x3;
+        double t16 = x3 + t15;
+        double t17 = x1 - x2;
+        double t18 = 0.8660254037844387 * t17;
+        double t19 = t16 + t18;
+        double t20 = 0.8660254037844386 * t19;
+        double t21 = t14 - t20;
+        double t22 = t9 + t21;
+        double t23 = t6 + t8;
+        double t24 = t11 + t12;
+        double t25 = 0.5 * t24;
+        double t26 = t16 - t18;
+        double t27 = 0.8660254037844387 * t26;
+        double t28 = t25 + t27;
+        double t29 = t23 - t28;
+        double t30 = t1 - t3;
+        double t31 = t9 - t21;
+        double t32 = t23 + t28;
+        a[offa] = t4;
+        a[offa + 1] = t22;
+        a[offa + 2] = t29;
+        a[offa + 3] = t30;
+        a[offa + 4] = t31;
+        a[offa + 5] = t32;
+    }
+
+    static void rb7(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double t0 = x6 + x6;
+        double t1 = x4 + x4;
+        double t2 = x2 + x2;
+        double t3 = x0 + t2;
+        double t4 = t1 + t3;
+        double t5 = t0 + t4;
+        double t6 = 0.6234898018587336 * t2;
+        double t7 = x0 + t6;
+        double t8 = 0.22252093395631434 * t1;
+        double t9 = t7 - t8;
+        double t10 = 0.900968867902419 * t0;
+        double t11 = t9 - t10;
+        double t12 = x3 + x3;
+        double t13 = 0.7818314824680298 * t12;
+        double t14 = x5 + x5;
+        double t15 = 0.9749279121818236 * t14;
+        double t16 = t13 + t15;
+        double t17 = x1 + x1;
+        double t18 = 0.43388373911755823 * t17;
+        double t19 = t16 + t18;
+        double t20 = t11 - t19;
+        double t21 = 0.22252093395631434 * t2;
+        double t22 = x0 - t21;
+        double t23 = 0.9009688679024191 * t1;
+        double t24 = t22 - t23;
+        double t25 = 0.6234898018587334 * t0;
+        double t26 = t24 + t25;
+        double t27 = 0.9749279121818236 * t12;
+        double t28 = 0.433883739117558 * t14;
+        double t29 = t27 - t28;
+        double t30 = 0.7818314824680299 * t17;
+        double t31 = t29 - t30;
+        double t32 = t26 - t31;
+        double t33 = 0.900968867902419 * t2;
+        double t34 = x0 - t33;
+        double t35 = 0.6234898018587334 * t1;
+        double t36 = t34 + t35;
+        double t37 = 0.22252093395631434 * t0;
+        double t38 = t36 - t37;
+        double t39 = 0.43388373911755823 * t12;
+        double t40 = 0.7818314824680299 * t14;
+        double t41 = t39 - t40;
+        double t42 = 0.9749279121818236 * t17;
+        double t43 = t41 + t42;
+        double t44 = t38 - t43;
+        double t45 = t38 + t43;
+        double t46 = t26 + t31;
+        double t47 = t11 + t19;
+        a[offa] = t5;
+        a[offa + 1] = t20;
+        a[offa + 2] = t32;
+        a[offa + 3] = t44;
+        a[offa + 4] = t45;
+        a[offa + 5] = t46;
+        a[offa + 6] = t47;
+    }
+
+    static void rb8(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double t0 = x0 + x1;
+        double t1 = x4 + x4;
+        double t2 = t0 + t1;
+        double t3 = x2 + x6;
+        double t4 = t3 + t3;
+        double t5 = t2 + t4;
+        double t6 = x0 - x1;
+        double t7 = x5 + x5;
+        double t8 = t6 - t7;
+        double t9 = x2 - x6;
+        double t10 = x3 + x7;
+        double t11 = t9 - t10;
+        double t12 = x6 - x2;
+        double t13 = t10 + t12;
+        double t14 = t11 - t13;
+        double t15 = 0.7071067811865476 * t14;
+        double t16 = t8 + t15;
+        double t17 = t0 - t1;
+        double t18 = x7 - x3;
+        double t19 = x3 - x7;
+        double t20 = t18 - t19;
+        double t21 = t17 + t20;
+        double t22 = t6 + t7;
+        double t23 = t9 + t10;
+        double t24 = t10 - t12;
+        double t25 = t23 + t24;
+        double t26 = 0.7071067811865476 * t25;
+        double t27 = t22 - t26;
+        double t28 = t2 - t4;
+        double t29 = t8 - t15;
+        double t30 = t17 - t20;
+        double t31 = t22 + t26;
+        a[offa] = t5;
+        a[offa + 1] = t16;
+        a[offa + 2] = t21;
+        a[offa + 3] = t27;
+        a[offa + 4] = t28;
+        a[offa + 5] = t29;
+        a[offa + 6] = t30;
+        a[offa + 7] = t31;
+    }
+
+    static void rb9(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double t0 = x6 + x6;
+        double t1 = x0 + t0;
+        double t2 = x4 + x8;
+        double t3 = x2 + t2;
+        double t4 = x2 + x8;
+        double t5 = x4 + t4;
+        double t6 = t3 + t5;
+        double t7 = t1 + t6;
+        double t8 = 0.5 * t0;
+        double t9 = x0 - t8;
+        double t10 = x7 + x7;
+        double t11 = 0.8660254037844387 * t10;
+        double t12 = t9 - t11;
+        double t13 = 0.5 * t2;
+        double t14 = x2 - t13;
+        double t15 = x1 + x5;
+        double t16 = 0.8660254037844387 * t15;
+        double t17 = t14 - t16;
+        double t18 = 0.766044443118978 * t17;
+        double t19 = x1 - x5;
+        double t20 = 0.5 * t19;
+        double t21 = x3 - t20;
+        double t22 = x8 - x4;
+        double t23 = 0.8660254037844387 * t22;
+        double t24 = t21 + t23;
+        double t25 = 0.6427876096865393 * t24;
+        double t26 = t18 - t25;
+        double t27 = 0.5 * t4;
+        double t28 = x4 - t27;
+        double t29 = x3 - x1;
+        double t30 = 0.8660254037844387 * t29;
+        double t31 = t28 - t30;
+        double t32 = 0.17364817766693041 * t31;
+        double t33 = x1 + x3;
+        double t34 = 0.5 * t33;
+        double t35 = x5 + t34;
+        double t36 = x8 - x2;
+        double t37 = 0.8660254037844387 * t36;
+        double t38 = t35 + t37;
+        double t39 = 0.984807753012208 * t38;
+        double t40 = t32 - t39;
+        double t41 = t26 + t40;
+        double t42 = t12 + t41;
+        double t43 = t9 + t11;
+        double t44 = t14 + t16;
+        double t45 = 0.17364817766693041 * t44;
+        double t46 = t21 - t23;
+        double t47 = 0.984807753012208 * t46;
+        double t48 = t45 - t47;
+        double t49 = t28 + t30;
+        double t50 = 0.9396926207859083 * t49;
+        double t51 = t35 - t37;
+        double t52 = 0.3420201433256689 * t51;
+        double t53 = t50 + t52;
+        double t54 = t48 - t53;
+        double t55 = t43 + t54;
+        double t56 = 0.5 * t6;
+        double t57 = t1 - t56;
+        double t58 = x3 + t19;
+        double t59 = x5 - t33;
+        double t60 = t58 - t59;
+        double t61 = 0.8660254037844387 * t60;
+        double t62 = t57 - t61;
+        double t63 = 0.5 * t41;
+        double t64 = t12 - t63;
+        double t65 = 0.766044443118978 * t24;
+        double t66 = 0.6427876096865393 * t17;
+        double t67 = t65 + t66;
+        double t68 = 0.17364817766693041 * t38;
+        double t69 = 0.984807753012208 * t31;
+        double t70 = t68 + t69;
+        double t71 = t67 - t70;
+        double t72 = 0.8660254037844387 * t71;
+        double t73 = t64 - t72;
+        double t74 = 0.5 * t54;
+        double t75 = t43 - t74;
+        double t76 = 0.17364817766693041 * t46;
+        double t77 = 0.984807753012208 * t44;
+        double t78 = t76 + t77;
+        double t79 = 0.3420201433256689 * t49;
+        double t80 = 0.9396926207859083 * t51;
+        double t81 = t79 - t80;
+        double t82 = t78 - t81;
+        double t83 = 0.8660254037844387 * t82;
+        double t84 = t75 - t83;
+        double t85 = t57 + t61;
+        double t86 = t64 + t72;
+        double t87 = t75 + t83;
+        a[offa] = t7;
+        a[offa + 1] = t42;
+        a[offa + 2] = t55;
+        a[offa + 3] = t62;
+        a[offa + 4] = t73;
+        a[offa + 5] = t84;
+        a[offa + 6] = t85;
+        a[offa + 7] = t86;
+        a[offa + 8] = t87;
+    }
+
+    static void rb10(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double t0 = x8 + x8;
+        double t1 = x4 + x4;
+        double t2 = x0 + t1;
+        double t3 = t0 + t2;
+        double t4 = x1 + x6;
+        double t5 = x2 + x6;
+        double t6 = x2 + t5;
+        double t7 = t4 + t6;
+        double t8 = t3 + t7;
+        double t9 = 0.30901699437494745 * t1;
+        double t10 = x0 + t9;
+        double t11 = 0.8090169943749473 * t0;
+        double t12 = t10 - t11;
+        double t13 = x5 + x5;
+        double t14 = 0.9510565162951535 * t13;
+        double t15 = x9 + x9;
+        double t16 = 0.5877852522924732 * t15;
+        double t17 = t14 + t16;
+        double t18 = t12 - t17;
+        double t19 = 0.30901699437494745 * t5;
+        double t20 = x2 + t19;
+        double t21 = 0.8090169943749473 * t4;
+        double t22 = t20 - t21;
+        double t23 = x3 + x7;
+        double t24 = 0.9510565162951535 * t23;
+        double t25 = 0.5877852522924732 * x7;
+        double t26 = t24 + t25;
+        double t27 = t22 - t26;
+        double t28 = 0.8090169943749475 * t27;
+        double t29 = x7 - x3;
+        double t30 = 0.30901699437494745 * t29;
+        double t31 = x3 + t30;
+        double t32 = 0.8090169943749473 * x7;
+        double t33 = t31 + t32;
+        double t34 = x6 - x2;
+        double t35 = 0.9510565162951535 * t34;
+        double t36 = x1 - x6;
+        double t37 = 0.5877852522924732 * t36;
+        double t38 = t35 + t37;
+        double t39 = t33 + t38;
+        double t40 = 0.5877852522924731 * t39;
+        double t41 = t28 - t40;
+        double t42 = t18 + t41;
+        double t43 = 0.8090169943749473 * t1;
+        double t44 = x0 - t43;
+        double t45 = 0.30901699437494723 * t0;
+        double t46 = t44 + t45;
+        double t47 = 0.5877852522924732 * t13;
+        double t48 = 0.9510565162951536 * t15;
+        double t49 = t47 - t48;
+        double t50 = t46 - t49;
+        double t51 = 0.8090169943749473 * t5;
+        double t52 = x2 - t51;
+        double t53 = 0.30901699437494723 * t4;
+        double t54 = t52 + t53;
+        double t55 = 0.5877852522924732 * t23;
+        double t56 = 0.9510565162951536 * x7;
+        double t57 = t55 - t56;
+        double t58 = t54 - t57;
+        double t59 = 0.30901699437494745 * t58;
+        double t60 = 0.8090169943749473 * t29;
+        double t61 = x3 - t60;
+        double t62 = 0.30901699437494723 * x7;
+        double t63 = t61 - t62;
+        double t64 = 0.5877852522924732 * t34;
+        double t65 = 0.9510565162951536 * t36;
+        double t66 = t64 - t65;
+        double t67 = t63 + t66;
+        double t68 = 0.9510565162951535 * t67;
+        double t69 = t59 - t68;
+        double t70 = t50 + t69;
+        double t71 = t46 + t49;
+        double t72 = t54 + t57;
+        double t73 = 0.30901699437494734 * t72;
+        double t74 = t63 - t66;
+        double t75 = 0.9510565162951536 * t74;
+        double t76 = t73 + t75;
+        double t77 = t71 - t76;
+        double t78 = t12 + t17;
+        double t79 = t22 + t26;
+        double t80 = 0.8090169943749473 * t79;
+        double t81 = t33 - t38;
+        double t82 = 0.5877852522924732 * t81;
+        double t83 = t80 + t82;
+        double t84 = t78 - t83;
+        double t85 = t3 - t7;
+        double t86 = t18 - t41;
+        double t87 = t50 - t69;
+        double t88 = t71 + t76;
+        double t89 = t78 + t83;
+        a[offa] = t8;
+        a[offa + 1] = t42;
+        a[offa + 2] = t70;
+        a[offa + 3] = t77;
+        a[offa + 4] = t84;
+        a[offa + 5] = t85;
+        a[offa + 6] = t86;
+        a[offa + 7] = t87;
+        a[offa + 8] = t88;
+        a[offa + 9] = t89;
+    }
+
+    static void rb11(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double t0 = x10 + x10;
+        double t1 = x8 + x8;
+        double t2 = x6 + x6;
+        double t3 = x4 + x4;
+        double t4 = x2 + x2;
+        double t5 = x0 + t4;
+        double t6 = t3 + t5;
+        double t7 = t2 + t6;
+        double t8 = t1 + t7;
+        double t9 = t0 + t8;
+        double t10 = 0.8412535328311812 * t4;
+        double t11 = x0 + t10;
+        double t12 = 0.41541501300188644 * t3;
+        double t13 = t11 + t12;
+        double t14 = 0.142314838273285 * t2;
+        double t15 = t13 - t14;
+        double t16 = 0.654860733945285 * t1;
+        double t17 = t15 - t16;
+        double t18 = 0.9594929736144973 * t0;
+        double t19 = t17 - t18;
+        double t20 = x3 + x3;
+        double t21 = 0.5406408174555976 * t20;
+        double t22 = x5 + x5;
+        double t23 = 0.9096319953545183 * t22;
+        double t24 = t21 + t23;
+        double t25 = x7 + x7;
+        double t26 = 0.9898214418809328 * t25;
+        double t27 = t24 + t26;
+        double t28 = x9 + x9;
+        double t29 = 0.7557495743542583 * t28;
+        double t30 = t27 + t29;
+        double t31 = x1 + x1;
+        double t32 = 0.28173255684143006 * t31;
+        double t33 = t30 + t32;
+        double t34 = t19 - t33;
+        double t35 = 0.41541501300188644 * t4;
+        double t36 = x0 + t35;
+        double t37 = 0.654860733945285 * t3;
+        double t38 = t36 - t37;
+        double t39 = 0.9594929736144975 * t2;
+        double t40 = t38 - t39;
+        double t41 = 0.14231483827328523 * t1;
+        double t42 = t40 - t41;
+        double t43 = 0.8412535328311808 * t0;
+        double t44 = t42 + t43;
+        double t45 = 0.9096319953545183 * t20;
+        double t46 = 0.7557495743542583 * t22;
+        double t47 = t45 + t46;
+        double t48 = 0.2817325568414294 * t25;
+        double t49 = t47 - t48;
+        double t50 = 0.9898214418809327 * t28;
+        double t51 = t49 - t50;
+        double t52 = 0.5406408174555982 * t31;
+        double t53 = t51 - t52;
+        double t54 = t44 - t53;
+        double t55 = 0.142314838273285 * t4;
+        double t56 = x0 - t55;
+        double t57 = 0.9594929736144975 * t3;
+        double t58 = t56 - t57;
+        double t59 = 0.4154150130018868 * t2;
+        double t60 = t58 + t59;
+        double t61 = 0.8412535328311812 * t1;
+        double t62 = t60 + t61;
+        double t63 = 0.654860733945285 * t0;
+        double t64 = t62 - t63;
+        double t65 = 0.9898214418809328 * t20;
+        double t66 = 0.2817325568414294 * t22;
+        double t67 = t65 - t66;
+        double t68 = 0.9096319953545182 * t25;
+        double t69 = t67 - t68;
+        double t70 = 0.5406408174555976 * t28;
+        double t71 = t69 + t70;
+        double t72 = 0.7557495743542583 * t31;
+        double t73 = t71 + t72;
+        double t74 = t64 - t73;
+        double t75 = 0.654860733945285 * t4;
+        double t76 = x0 - t75;
+        double t77 = 0.14231483827328523 * t3;
+        double t78 = t76 - t77;
+        double t79 = 0.8412535328311812 * t2;
+        double t80 = t78 + t79;
+        double t81 = 0.9594929736144973 * t1;
+        double t82 = t80 - t81;
+        double t83 = 0.4154150130018868 * t0;
+        double t84 = t82 + t83;
+        double t85 = 0.7557495743542583 * t20;
+        double t86 = 0.9898214418809327 * t22;
+        double t87 = t85 - t86;
+        double t88 = 0.5406408174555976 * t25;
+        double t89 = t87 + t88;
+        double t90 = 0.28173255684143006 * t28;
+        double t91 = t89 + t90;
+        double t92 = 0.9096319953545182 * t31;
+        double t93 = t91 - t92;
+        double t94 = t84 - t93;
+        double t95 = 0.9594929736144973 * t4;
+        double t96 = x0 - t95;
+        double t97 = 0.8412535328311808 * t3;
+        double t98 = t96 + t97;
+        double t99 = 0.654860733945285 * t2;
+        double t100 = t98 - t99;
+        double t101 = 0.4154150130018868 * t1;
+        double t102 = t100 + t101;
+        double t103 = 0.142314838273285 * t0;
+        double t104 = t102 - t103;
+        double t105 = 0.28173255684143006 * t20;
+        double t106 = 0.5406408174555982 * t22;
+        double t107 = t105 - t106;
+        double t108 = 0.7557495743542583 * t25;
+        double t109 = t107 + t108;
+        double t110 = 0.9096319953545182 * t28;
+        double t111 = t109 - t110;
+        double t112 = 0.9898214418809328 * t31;
+        double t113 = t111 + t112;
+        double t114 = t104 - t113;
+        double t115 = t104 + t113;
+        double t116 = t84 + t93;
+        double t117 = t64 + t73;
+        double t118 = t44 + t53;
+        double t119 = t19 + t33;
+        a[offa] = t9;
+        a[offa + 1] = t34;
+        a[offa + 2] = t54;
+        a[offa + 3] = t74;
+        a[offa + 4] = t94;
+        a[offa + 5] = t114;
+        a[offa + 6] = t115;
+        a[offa + 7] = t116;
+        a[offa + 8] = t117;
+        a[offa + 9] = t118;
+        a[offa + 10] = t119;
+    }
+
+    static void rb12(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double t0 = x8 + x8;
+        double t1 = x0 + t0;
+        double t2 = x1 + x4;
+        double t3 = x4 + t2;
+        double t4 = t1 + t3;
+        double t5 = x6 + x10;
+        double t6 = x2 + t5;
+        double t7 = x2 + x10;
+        double t8 = x6 + t7;
+        double t9 = t6 + t8;
+        double t10 = t4 + t9;
+        double t11 = 0.5 * t0;
+        double t12 = x0 - t11;
+        double t13 = x9 + x9;
+        double t14 = 0.8660254037844387 * t13;
+        double t15 = t12 - t14;
+        double t16 = 0.5 * t2;
+        double t17 = x4 - t16;
+        double t18 = 0.8660254037844387 * x5;
+        double t19 = t17 - t18;
+        double t20 = 0.5 * t19;
+        double t21 = 0.5 * x5;
+        double t22 = x5 + t21;
+        double t23 = x1 - x4;
+        double t24 = 0.8660254037844387 * t23;
+        double t25 = t22 + t24;
+        double t26 = 0.8660254037844386 * t25;
+        double t27 = t20 - t26;
+        double t28 = t15 + t27;
+        double t29 = 0.5 * t5;
+        double t30 = x2 - t29;
+        double t31 = x7 + x11;
+        double t32 = 0.8660254037844387 * t31;
+        double t33 = t30 - t32;
+        double t34 = 0.8660254037844387 * t33;
+        double t35 = x11 - x7;
+        double t36 = 0.5 * t35;
+        double t37 = x3 - t36;
+        double t38 = x10 - x6;
+        double t39 = 0.8660254037844387 * t38;
+        double t40 = t37 + t39;
+        double t41 = 0.5 * t40;
+        double t42 = t34 - t41;
+        double t43 = x3 + x11;
+        double t44 = 0.5 * t43;
+        double t45 = x7 + t44;
+        double t46 = x10 - x2;
+        double t47 = 0.8660254037844387 * t46;
+        double t48 = t45 + t47;
+        double t49 = t42 - t48;
+        double t50 = t28 + t49;
+        double t51 = t12 + t14;
+        double t52 = t17 + t18;
+        double t53 = 0.5 * t52;
+        double t54 = t22 - t24;
+        double t55 = 0.8660254037844387 * t54;
+        double t56 = t53 + t55;
+        double t57 = t51 - t56;
+        double t58 = t30 + t32;
+        double t59 = 0.5 * t58;
+        double t60 = t37 - t39;
+        double t61 = 0.8660254037844386 * t60;
+        double t62 = t59 - t61;
+        double t63 = 0.5 * t7;
+        double t64 = x6 - t63;
+        double t65 = x3 - x11;
+        double t66 = 0.8660254037844387 * t65;
+        double t67 = t64 + t66;
+        double t68 = t62 - t67;
+        double t69 = t57 + t68;
+        double t70 = t1 - t3;
+        double t71 = x7 - t43;
+        double t72 = x3 + t35;
+        double t73 = t71 - t72;
+        double t74 = t70 + t73;
+        double t75 = t15 - t27;
+        double t76 = t64 - t66;
+        double t77 = 0.8660254037844387 * t40;
+        double t78 = 0.5 * t33;
+        double t79 = t77 + t78;
+        double t80 = t76 - t79;
+        double t81 = t75 + t80;
+        double t82 = t51 + t56;
+        double t83 = t47 - t45;
+        double t84 = 0.5 * t60;
+        double t85 = 0.8660254037844386 * t58;
+        double t86 = t84 + t85;
+        double t87 = t83 - t86;
+        double t88 = t82 + t87;
+        double t89 = t4 - t9;
+        double t90 = t28 - t49;
+        double t91 = t57 - t68;
+        double t92 = t70 - t73;
+        double t93 = t75 - t80;
+        double t94 = t82 - t87;
+        a[offa] = t10;
+        a[offa + 1] = t50;
+        a[offa + 2] = t69;
+        a[offa + 3] = t74;
+        a[offa + 4] = t81;
+        a[offa + 5] = t88;
+        a[offa + 6] = t89;
+        a[offa + 7] = t90;
+        a[offa + 8] = t91;
+        a[offa + 9] = t92;
+        a[offa + 10] = t93;
+        a[offa + 11] = t94;
+    }
+
+    static void rb13(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double t0 = x12 + x12;
+        double t1 = x10 + x10;
+        double t2 = x8 + x8;
+        double t3 = x6 + x6;
+        double t4 = x4 + x4;
+        double t5 = x2 + x2;
+        double t6 = x0 + t5;
+        double t7 = t4 + t6;
+        double t8 = t3 + t7;
+        double t9 = t2 + t8;
+        double t10 = t1 + t9;
+        double t11 = t0 + t10;
+        double t12 = 0.8854560256532099 * t5;
+        double t13 = x0 + t12;
+        double t14 = 0.5680647467311558 * t4;
+        double t15 = t13 + t14;
+        double t16 = 0.120536680255323 * t3;
+        double t17 = t15 + t16;
+        double t18 = 0.3546048870425357 * t2;
+        double t19 = t17 - t18;
+        double t20 = 0.7485107481711012 * t1;
+        double t21 = t19 - t20;
+        double t22 = 0.970941817426052 * t0;
+        double t23 = t21 - t22;
+        double t24 = x3 + x3;
+        double t25 = 0.46472317204376856 * t24;
+        double t26 = x5 + x5;
+        double t27 = 0.8229838658936565 * t26;
+        double t28 = t25 + t27;
+        double t29 = x7 + x7;
+        double t30 = 0.992708874098054 * t29;
+        double t31 = t28 + t30;
+        double t32 = x9 + x9;
+        double t33 = 0.9350162426854148 * t32;
+        double t34 = t31 + t33;
+        double t35 = x11 + x11;
+        double t36 = 0.6631226582407952 * t35;
+        double t37 = t34 + t36;
+        double t38 = x1 + x1;
+        double t39 = 0.23931566428755768 * t38;
+        double t40 = t37 + t39;
+        double t41 = t23 - t40;
+        double t42 = 0.5680647467311558 * t5;
+        double t43 = x0 + t42;
+        double t44 = 0.3546048870425357 * t4;
+        double t45 = t43 - t44;
+        double t46 = 0.970941817426052 * t3;
+        double t47 = t45 - t46;
+        double t48 = 0.748510748171101 * t2;
+        double t49 = t47 - t48;
+        double t50 = 0.1205366802553232 * t1;
+        double t51 = t49 + t50;
+        double t52 = 0.88545602565321 * t0;
+        double t53 = t51 + t52;
+        double t54 = 0.8229838658936565 * t24;
+        double t55 = 0.9350162426854148 * t26;
+        double t56 = t54 + t55;
+        double t57 = 0.23931566428755768 * t29;
+        double t58 = t56 + t57;
+        double t59 = 0.6631226582407953 * t32;
+        double t60 = t58 - t59;
+        double t61 = 0.992708874098054 * t35;
+        double t62 = t60 - t61;
+        double t63 = 0.4647231720437684 * t38;
+        double t64 = t62 - t63;
+        double t65 = t53 - t64;
+        double t66 = 0.120536680255323 * t5;
+        double t67 = x0 + t66;
+        double t68 = 0.970941817426052 * t4;
+        double t69 = t67 - t68;
+        double t70 = 0.3546048870425359 * t3;
+        double t71 = t69 - t70;
+        double t72 = 0.88545602565321 * t2;
+        double t73 = t71 + t72;
+        double t74 = 0.5680647467311558 * t1;
+        double t75 = t73 + t74;
+        double t76 = 0.7485107481711012 * t0;
+        double t77 = t75 - t76;
+        double t78 = 0.992708874098054 * t24;
+        double t79 = 0.23931566428755768 * t26;
+        double t80 = t78 + t79;
+        double t81 = 0.9350162426854147 * t29;
+        double t82 = t80 - t81;
+        double t83 = 0.4647231720437684 * t32;
+        double t84 = t82 - t83;
+        double t85 = 0.8229838658936565 * t35;
+        double t86 = t84 + t85;
+        double t87 = 0.6631226582407952 * t38;
+        double t88 = t86 + t87;
+        double t89 = t77 - t88;
+        double t90 = 0.3546048870425357 * t5;
+        double t91 = x0 - t90;
+        double t92 = 0.748510748171101 * t4;
+        double t93 = t91 - t92;
+        double t94 = 0.88545602565321 * t3;
+        double t95 = t93 + t94;
+        double t96 = 0.120536680255323 * t2;
+        double t97 = t95 + t96;
+        double t98 = 0.9709418174260521 * t1;
+        double t99 = t97 - t98;
+        double t100 = 0.5680647467311556 * t0;
+        double t101 = t99 + t100;
+        double t102 = 0.9350162426854148 * t24;
+        double t103 = 0.6631226582407953 * t26;
+        double t104 = t102 - t103;
+        double t105 = 0.4647231720437684 * t29;
+        double t106 = t104 - t105;
+        double t107 = 0.992708874098054 * t32;
+        double t108 = t106 + t107;
+        double t109 = 0.23931566428755743 * t35;
+        double t110 = t108 - t109;
+        double t111 = 0.8229838658936566 * t38;
+        double t112 = t110 - t111;
+        double t113 = t101 - t112;
+        double t114 = 0.7485107481711012 * t5;
+        double t115 = x0 - t114;
+        double t116 = 0.1205366802553232 * t4;
+        double t117 = t115 + t116;
+        double t118 = 0.5680647467311558 * t3;
+        double t119 = t117 + t118;
+        double t120 = 0.9709418174260521 * t2;
+        double t121 = t119 - t120;
+        double t122 = 0.88545602565321 * t1;
+        double t123 = t121 + t122;
+        double t124 = 0.3546048870425357 * t0;
+        double t125 = t123 - t124;
+        double t126 = 0.6631226582407952 * t24;
+        double t127 = 0.992708874098054 * t26;
+        double t128 = t126 - t127;
+        double t129 = 0.8229838658936565 * t29;
+        double t130 = t128 + t129;
+        double t131 = 0.23931566428755743 * t32;
+        double t132 = t130 - t131;
+        double t133 = 0.4647231720437684 * t35;
+        double t134 = t132 - t133;
+        double t135 = 0.9350162426854148 * t38;
+        double t136 = t134 + t135;
+        double t137 = t125 - t136;
+        double t138 = 0.970941817426052 * t5;
+        double t139 = x0 - t138;
+        double t140 = 0.88545602565321 * t4;
+        double t141 = t139 + t140;
+        double t142 = 0.7485107481711012 * t3;
+        double t143 = t141 - t142;
+        double t144 = 0.5680647467311556 * t2;
+        double t145 = t143 + t144;
+        double t146 = 0.3546048870425357 * t1;
+        double t147 = t145 - t146;
+        double t148 = 0.1205366802553232 * t0;
+        double t149 = t147 + t148;
+        double t150 = 0.23931566428755768 * t24;
+        double t151 = 0.4647231720437684 * t26;
+        double t152 = t150 - t151;
+        double t153 = 0.6631226582407952 * t29;
+        double t154 = t152 + t153;
+        double t155 = 0.8229838658936566 * t32;
+        double t156 = t154 - t155;
+        double t157 = 0.9350162426854148 * t35;
+        double t158 = t156 + t157;
+        double t159 = 0.992708874098054 * t38;
+        double t160 = t158 - t159;
+        double t161 = t149 - t160;
+        double t162 = t149 + t160;
+        double t163 = t125 + t136;
+        double t164 = t101 + t112;
+        double t165 = t77 + t88;
+        double t166 = t53 + t64;
+        double t167 = t23 + t40;
+        a[offa] = t11;
+        a[offa + 1] = t41;
+        a[offa + 2] = t65;
+        a[offa + 3] = t89;
+        a[offa + 4] = t113;
+        a[offa + 5] = t137;
+        a[offa + 6] = t161;
+        a[offa + 7] = t162;
+        a[offa + 8] = t163;
+        a[offa + 9] = t164;
+        a[offa + 10] = t165;
+        a[offa + 11] = t166;
+        a[offa + 12] = t167;
+    }
+
+    static void rb14(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double x13 = a[offa + 13];
+        double t0 = x12 + x12;
+        double t1 = x8 + x8;
+        double t2 = x4 + x4;
+        double t3 = x0 + t2;
+        double t4 = t1 + t3;
+        double t5 = t0 + t4;
+        double t6 = x1 + x10;
+        double t7 = x6 + x10;
+        double t8 = x2 + x6;
+        double t9 = x2 + t8;
+        double t10 = t7 + t9;
+        double t11 = t6 + t10;
+        double t12 = t5 + t11;
+        double t13 = 0.6234898018587336 * t2;
+        double t14 = x0 + t13;
+        double t15 = 0.22252093395631434 * t1;
+        double t16 = t14 - t15;
+        double t17 = 0.900968867902419 * t0;
+        double t18 = t16 - t17;
+        double t19 = x5 + x5;
+        double t20 = 0.7818314824680298 * t19;
+        double t21 = x9 + x9;
+        double t22 = 0.9749279121818236 * t21;
+        double t23 = t20 + t22;
+        double t24 = x13 + x13;
+        double t25 = 0.43388373911755823 * t24;
+        double t26 = t23 + t25;
+        double t27 = t18 - t26;
+        double t28 = 0.6234898018587336 * t8;
+        double t29 = x2 + t28;
+        double t30 = 0.22252093395631434 * t7;
+        double t31 = t29 - t30;
+        double t32 = 0.900968867902419 * t6;
+        double t33 = t31 - t32;
+        double t34 = x3 + x7;
+        double t35 = 0.7818314824680298 * t34;
+        double t36 = x7 + x11;
+        double t37 = 0.9749279121818236 * t36;
+        double t38 = t35 + t37;
+        double t39 = 0.43388373911755823 * x11;
+        double t40 = t38 + t39;
+        double t41 = t33 - t40;
+        double t42 = 0.9009688679024191 * t41;
+        double t43 = x7 - x3;
+        double t44 = 0.6234898018587336 * t43;
+        double t45 = x3 + t44;
+        double t46 = x11 - x7;
+        double t47 = 0.22252093395631434 * t46;
+        double t48 = t45 - t47;
+        double t49 = 0.900968867902419 * x11;
+        double t50 = t48 + t49;
+        double t51 = x6 - x2;
+        double t52 = 0.7818314824680298 * t51;
+        double t53 = x10 - x6;
+        double t54 = 0.9749279121818236 * t53;
+        double t55 = t52 + t54;
+        double t56 = x1 - x10;
+        double t57 = 0.43388373911755823 * t56;
+        double t58 = t55 + t57;
+        double t59 = t50 + t58;
+        double t60 = 0.4338837391175581 * t59;
+        double t61 = t42 - t60;
+        double t62 = t27 + t61;
+        double t63 = 0.22252093395631434 * t2;
+        double t64 = x0 - t63;
+        double t65 = 0.9009688679024191 * t1;
+        double t66 = t64 - t65;
+        double t67 = 0.6234898018587334 * t0;
+        double t68 = t66 + t67;
+        double t69 = 0.9749279121818236 * t19;
+        double t70 = 0.433883739117558 * t21;
+        double t71 = t69 - t70;
+        double t72 = 0.7818314824680299 * t24;
+        double t73 = t71 - t72;
+        double t74 = t68 - t73;
+        double t75 = 0.22252093395631434 * t8;
+        double t76 = x2 - t75;
+        double t77 = 0.9009688679024191 * t7;
+        double t78 = t76 - t77;
+        double t79 = 0.6234898018587334 * t6;
+        double t80 = t78 + t79;
+        double t81 = 0.9749279121818236 * t34;
+        double t82 = 0.433883739117558 * t36;
+        double t83 = t81 - t82;
+        double t84 = 0.7818314824680299 * x11;
+        double t85 = t83 - t84;
+        double t86 = t80 - t85;
+        double t87 = 0.6234898018587336 * t86;
+        double t88 = 0.22252093395631434 * t43;
+        double t89 = x3 - t88;
+        double t90 = 0.9009688679024191 * t46;
+        double t91 = t89 - t90;
+        double t92 = 0.6234898018587334 * x11;
+        double t93 = t91 - t92;
+        double t94 = 0.9749279121818236 * t51;
+        double t95 = 0.433883739117558 * t53;
+        double t96 = t94 - t95;
+        double t97 = 0.7818314824680299 * t56;
+        double t98 = t96 - t97;
+        double t99 = t93 + t98;
+        double t100 = 0.7818314824680298 * t99;
+        double t101 = t87 - t100;
+        double t102 = t74 + t101;
+        double t103 = 0.900968867902419 * t2;
+        double t104 = x0 - t103;
+        double t105 = 0.6234898018587334 * t1;
+        double t106 = t104 + t105;
+        double t107 = 0.22252093395631434 * t0;
+        double t108 = t106 - t107;
+        double t109 = 0.43388373911755823 * t19;
+        double t110 = 0.7818314824680299 * t21;
+        double t111 = t109 - t110;
+        double t112 = 0.9749279121818236 * t24;
+        double t113 = t111 + t112;
+        double t114 = t108 - t113;
+        double t115 = 0.900968867902419 * t8;
+        double t116 = x2 - t115;
+        double t117 = 0.6234898018587334 * t7;
+        double t118 = t116 + t117;
+        double t119 = 0.22252093395631434 * t6;
+        double t120 = t118 - t119;
+        double t121 = 0.43388373911755823 * t34;
+        double t122 = 0.7818314824680299 * t36;
+        double t123 = t121 - t122;
+        double t124 = 0.9749279121818236 * x11;
+        double t125 = t123 + t124;
+        double t126 = t120 - t125;
+        double t127 = 0.22252093395631445 * t126;
+        double t128 = 0.900968867902419 * t43;
+        double t129 = x3 - t128;
+        double t130 = 0.6234898018587334 * t46;
+        double t131 = t129 + t130;
+        double t132 = 0.22252093395631434 * x11;
+        double t133 = t131 + t132;
+        double t134 = 0.43388373911755823 * t51;
+        double t135 = 0.7818314824680299 * t53;
+        double t136 = t134 - t135;
+        double t137 = 0.9749279121818236 * t56;
+        double t138 = t136 + t137;
+        double t139 = t133 + t138;
+        double t140 = 0.9749279121818236 * t139;
+        double t141 = t127 - t140;
+        double t142 = t114 + t141;
+        double t143 = t108 + t113;
+        double t144 = t120 + t125;
+        double t145 = 0.22252093395631434 * t144;
+        double t146 = t133 - t138;
+        double t147 = 0.9749279121818236 * t146;
+        double t148 = t145 + t147;
+        double t149 = t143 - t148;
+        double t150 = t68 + t73;
+        double t151 = t80 + t85;
+        double t152 = 0.6234898018587335 * t151;
+        double t153 = t93 - t98;
+        double t154 = 0.7818314824680299 * t153;
+        double t155 = t152 + t154;
+        double t156 = t150 - t155;
+        double t157 = t18 + t26;
+        double t158 = t33 + t40;
+        double t159 = 0.900968867902419 * t158;
+        double t160 = t50 - t58;
+        double t161 = 0.43388373911755823 * t160;
+        double t162 = t159 + t161;
+        double t163 = t157 - t162;
+        double t164 = t5 - t11;
+        double t165 = t27 - t61;
+        double t166 = t74 - t101;
+        double t167 = t114 - t141;
+        double t168 = t143 + t148;
+        double t169 = t150 + t155;
+        double t170 = t157 + t162;
+        a[offa] = t12;
+        a[offa + 1] = t62;
+        a[offa + 2] = t102;
+        a[offa + 3] = t142;
+        a[offa + 4] = t149;
+        a[offa + 5] = t156;
+        a[offa + 6] = t163;
+        a[offa + 7] = t164;
+        a[offa + 8] = t165;
+        a[offa + 9] = t166;
+        a[offa + 10] = t167;
+        a[offa + 11] = t168;
+        a[offa + 12] = t169;
+        a[offa + 13] = t170;
+    }
+
+    static void rb15(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double x13 = a[offa + 13];
+        double x14 = a[offa + 14];
+        double t0 = x12 + x12;
+        double t1 = x6 + x6;
+        double t2 = x0 + t1;
+        double t3 = t0 + t2;
+        double t4 = x10 + x14;
+        double t5 = x4 + x8;
+        double t6 = x2 + t5;
+        double t7 = t4 + t6;
+        double t8 = x8 + x14;
+        double t9 = x2 + x10;
+        double t10 = x4 + t9;
+        double t11 = t8 + t10;
+        double t12 = t7 + t11;
+        double t13 = t3 + t12;
+        double t14 = 0.30901699437494745 * t1;
+        double t15 = x0 + t14;
+        double t16 = 0.8090169943749473 * t0;
+        double t17 = t15 - t16;
+        double t18 = x7 + x7;
+        double t19 = 0.9510565162951535 * t18;
+        double t20 = x13 + x13;
+        double t21 = 0.5877852522924732 * t20;
+        double t22 = t19 + t21;
+        double t23 = t17 - t22;
+        double t24 = 0.30901699437494745 * t5;
+        double t25 = x2 + t24;
+        double t26 = 0.8090169943749473 * t4;
+        double t27 = t25 - t26;
+        double t28 = x5 + x9;
+        double t29 = 0.9510565162951535 * t28;
+        double t30 = x1 + x11;
+        double t31 = 0.5877852522924732 * t30;
+        double t32 = t29 + t31;
+        double t33 = t27 - t32;
+        double t34 = 0.9135454576426009 * t33;
+        double t35 = x9 - x5;
+        double t36 = 0.30901699437494745 * t35;
+        double t37 = x3 + t36;
+        double t38 = x1 - x11;
+        double t39 = 0.8090169943749473 * t38;
+        double t40 = t37 - t39;
+        double t41 = x8 - x4;
+        double t42 = 0.9510565162951535 * t41;
+        double t43 = x14 - x10;
+        double t44 = 0.5877852522924732 * t43;
+        double t45 = t42 + t44;
+        double t46 = t40 + t45;
+        double t47 = 0.40673664307580015 * t46;
+        double t48 = t34 - t47;
+        double t49 = 0.30901699437494745 * t9;
+        double t50 = x4 + t49;
+        double t51 = 0.8090169943749473 * t8;
+        double t52 = t50 - t51;
+        double t53 = x3 + x11;
+        double t54 = 0.9510565162951535 * t53;
+        double t55 = x9 - x1;
+        double t56 = 0.5877852522924732 * t55;
+        double t57 = t54 + t56;
+        double t58 = t52 - t57;
+        double t59 = 0.6691306063588582 * t58;
+        double t60 = x11 - x3;
+        double t61 = 0.30901699437494745 * t60;
+        double t62 = x5 + t61;
+        double t63 = x1 + x9;
+        double t64 = 0.8090169943749473 * t63;
+        double t65 = t62 + t64;
+        double t66 = x10 - x2;
+        double t67 = 0.9510565162951535 * t66;
+        double t68 = x14 - x8;
+        double t69 = 0.5877852522924732 * t68;
+        double t70 = t67 + t69;
+        double t71 = t65 + t70;
+        double t72 = 0.7431448254773941 * t71;
+        double t73 = t59 - t72;
+        double t74 = t48 + t73;
+        double t75 = t23 + t74;
+        double t76 = 0.8090169943749473 * t1;
+        double t77 = x0 - t76;
+        double t78 = 0.30901699437494723 * t0;
+        double t79 = t77 + t78;
+        double t80 = 0.5877852522924732 * t18;
+        double t81 = 0.9510565162951536 * t20;
+        double t82 = t80 - t81;
+        double t83 = t79 - t82;
+        double t84 = 0.8090169943749473 * t5;
+        double t85 = x2 - t84;
+        double t86 = 0.30901699437494723 * t4;
+        double t87 = t85 + t86;
+        double t88 = 0.5877852522924732 * t28;
+        double t89 = 0.9510565162951536 * t30;
+        double t90 = t88 - t89;
+        double t91 = t87 - t90;
+        double t92 = 0.6691306063588582 * t91;
+        double t93 = 0.8090169943749473 * t35;
+        double t94 = x3 - t93;
+        double t95 = 0.30901699437494723 * t38;
+        double t96 = t94 + t95;
+        double t97 = 0.5877852522924732 * t41;
+        double t98 = 0.9510565162951536 * t43;
+        double t99 = t97 - t98;
+        double t100 = t96 + t99;
+        double t101 = 0.7431448254773941 * t100;
+        double t102 = t92 - t101;
+        double t103 = 0.8090169943749473 * t9;
+        double t104 = x4 - t103;
+        double t105 = 0.30901699437494723 * t8;
+        double t106 = t104 + t105;
+        double t107 = 0.5877852522924732 * t53;
+        double t108 = 0.9510565162951536 * t55;
+        double t109 = t107 - t108;
+        double t110 = t106 - t109;
+        double t111 = 0.10452846326765333 * t110;
+        double t112 = 0.8090169943749473 * t60;
+        double t113 = x5 - t112;
+        double t114 = 0.30901699437494723 * t63;
+        double t115 = t113 - t114;
+        double t116 = 0.5877852522924732 * t66;
+        double t117 = 0.9510565162951536 * t68;
+        double t118 = t116 - t117;
+        double t119 = t115 + t118;
+        double t120 = 0.9945218953682734 * t119;
+        double t121 = t111 + t120;
+        double t122 = t102 - t121;
+        double t123 = t83 + t122;
+        double t124 = t79 + t82;
+        double t125 = t87 + t90;
+        double t126 = 0.30901699437494745 * t125;
+        double t127 = t96 - t99;
+        double t128 = 0.9510565162951535 * t127;
+        double t129 = t126 - t128;
+        double t130 = t106 + t109;
+        double t131 = 0.8090169943749473 * t130;
+        double t132 = t115 - t118;
+        double t133 = 0.5877852522924732 * t132;
+        double t134 = t131 + t133;
+        double t135 = t129 - t134;
+        double t136 = t124 + t135;
+        double t137 = t17 + t22;
+        double t138 = t65 - t70;
+        double t139 = 0.20791169081775907 * t138;
+        double t140 = t52 + t57;
+        double t141 = 0.9781476007338057 * t140;
+        double t142 = t139 - t141;
+        double t143 = t27 + t32;
+        double t144 = 0.10452846326765333 * t143;
+        double t145 = t40 - t45;
+        double t146 = 0.9945218953682734 * t145;
+        double t147 = t144 + t146;
+        double t148 = t142 - t147;
+        double t149 = t137 + t148;
+        double t150 = 0.5 * t12;
+        double t151 = t3 - t150;
+        double t152 = x3 + t35;
+        double t153 = t38 + t152;
+        double t154 = x5 + t60;
+        double t155 = t154 - t63;
+        double t156 = t153 - t155;
+        double t157 = 0.8660254037844387 * t156;
+        double t158 = t151 - t157;
+        double t159 = 0.5 * t74;
+        double t160 = t23 - t159;
+        double t161 = 0.9135454576426009 * t46;
+        double t162 = 0.40673664307580015 * t33;
+        double t163 = t161 + t162;
+        double t164 = 0.6691306063588582 * t71;
+        double t165 = 0.7431448254773941 * t58;
+        double t166 = t164 + t165;
+        double t167 = t163 - t166;
+        double t168 = 0.8660254037844387 * t167;
+        double t169 = t160 - t168;
+        double t170 = 0.5 * t122;
+        double t171 = t83 - t170;
+        double t172 = 0.6691306063588582 * t100;
+        double t173 = 0.7431448254773941 * t91;
+        double t174 = t172 + t173;
+        double t175 = 0.9945218953682734 * t110;
+        double t176 = 0.10452846326765333 * t119;
+        double t177 = t175 - t176;
+        double t178 = t174 - t177;
+        double t179 = 0.8660254037844387 * t178;
+        double t180 = t171 - t179;
+        double t181 = 0.5 * t135;
+        double t182 = t124 - t181;
+        double t183 = 0.30901699437494745 * t127;
+        double t184 = 0.9510565162951535 * t125;
+        double t185 = t183 + t184;
+        double t186 = 0.5877852522924732 * t130;
+        double t187 = 0.8090169943749473 * t132;
+        double t188 = t186 - t187;
+        double t189 = t185 - t188;
+        double t190 = 0.8660254037844387 * t189;
+        double t191 = t182 - t190;
+        double t192 = 0.5 * t148;
+        double t193 = t137 - t192;
+        double t194 = 0.9945218953682734 * t143;
+        double t195 = 0.10452846326765333 * t145;
+        double t196 = t194 - t195;
+        double t197 = 0.9781476007338057 * t138;
+        double t198 = 0.20791169081775907 * t140;
+        double t199 = t197 + t198;
+        double t200 = t196 + t199;
+        double t201 = 0.8660254037844387 * t200;
+        double t202 = t193 - t201;
+        double t203 = t151 + t157;
+        double t204 = t160 + t168;
+        double t205 = t171 + t179;
+        double t206 = t182 + t190;
+        double t207 = t193 + t201;
+        a[offa] = t13;
+        a[offa + 1] = t75;
+        a[offa + 2] = t123;
+        a[offa + 3] = t136;
+        a[offa + 4] = t149;
+        a[offa + 5] = t158;
+        a[offa + 6] = t169;
+        a[offa + 7] = t180;
+        a[offa + 8] = t191;
+        a[offa + 9] = t202;
+        a[offa + 10] = t203;
+        a[offa + 11] = t204;
+        a[offa + 12] = t205;
+        a[offa + 13] = t206;
+        a[offa + 14] = t207;
+    }
+
+    static void rb16(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double x13 = a[offa + 13];
+        double x14 = a[offa + 14];
+        double x15 = a[offa + 15];
+        double t0 = x0 + x1;
+        double t1 = x8 + x8;
+        double t2 = t0 + t1;
+        double t3 = x4 + x12;
+        double t4 = t3 + t3;
+        double t5 = t2 + t4;
+        double t6 = x2 + x14;
+        double t7 = x6 + x10;
+        double t8 = t6 + t7;
+        double t9 = t8 + t8;
+        double t10 = t5 + t9;
+        double t11 = x0 - x1;
+        double t12 = x9 + x9;
+        double t13 = t11 - t12;
+        double t14 = x4 - x12;
+        double t15 = x5 + x13;
+        double t16 = t14 - t15;
+        double t17 = x12 - x4;
+        double t18 = t15 + t17;
+        double t19 = t16 - t18;
+        double t20 = 0.7071067811865476 * t19;
+        double t21 = t13 + t20;
+        double t22 = x2 - x14;
+        double t23 = x7 + x11;
+        double t24 = t22 - t23;
+        double t25 = 0.9238795325112867 * t24;
+        double t26 = x3 + x15;
+        double t27 = x10 - x6;
+        double t28 = t26 + t27;
+        double t29 = 0.3826834323650898 * t28;
+        double t30 = t25 - t29;
+        double t31 = x6 - x10;
+        double t32 = t31 - t26;
+        double t33 = 0.38268343236508984 * t32;
+        double t34 = x14 - x2;
+        double t35 = t23 + t34;
+        double t36 = 0.9238795325112867 * t35;
+        double t37 = t33 - t36;
+        double t38 = t30 + t37;
+        double t39 = t21 + t38;
+        double t40 = t0 - t1;
+        double t41 = x13 - x5;
+        double t42 = x5 - x13;
+        double t43 = t41 - t42;
+        double t44 = t40 + t43;
+        double t45 = t6 - t7;
+        double t46 = x3 - x15;
+        double t47 = x11 - x7;
+        double t48 = t46 - t47;
+        double t49 = t45 - t48;
+        double t50 = 0.7071067811865476 * t49;
+        double t51 = t7 - t6;
+        double t52 = x7 - x11;
+        double t53 = x15 - x3;
+        double t54 = t52 - t53;
+        double t55 = t51 + t54;
+        double t56 = 0.7071067811865476 * t55;
+        double t57 = t50 - t56;
+        double t58 = t44 + t57;
+        double t59 = t11 + t12;
+        double t60 = t14 + t15;
+        double t61 = t15 - t17;
+        double t62 = t60 + t61;
+        double t63 = 0.7071067811865476 * t62;
+        double t64 = t59 - t63;
+        double t65 = t22 + t23;
+        double t66 = 0.38268343236508984 * t65;
+        double t67 = t26 - t27;
+        double t68 = 0.9238795325112867 * t67;
+        double t69 = t66 - t68;
+        double t70 = t23 - t34;
+        double t71 = 0.38268343236508967 * t70;
+        double t72 = t26 + t31;
+        double t73 = 0.9238795325112868 * t72;
+        double t74 = t71 - t73;
+        double t75 = t69 + t74;
+        double t76 = t64 + t75;
+        double t77 = t2 - t4;
+        double t78 = t52 + t53;
+        double t79 = t46 + t47;
+        double t80 = t78 - t79;
+        double t81 = t77 + t80;
+        double t82 = t13 - t20;
+        double t83 = 0.38268343236508984 * t35;
+        double t84 = 0.9238795325112867 * t32;
+        double t85 = t83 + t84;
+        double t86 = 0.9238795325112867 * t28;
+        double t87 = 0.3826834323650898 * t24;
+        double t88 = t86 + t87;
+        double t89 = t85 - t88;
+        double t90 = t82 + t89;
+        double t91 = t40 - t43;
+        double t92 = t45 + t48;
+        double t93 = 0.7071067811865476 * t92;
+        double t94 = t54 - t51;
+        double t95 = 0.7071067811865476 * t94;
+        double t96 = t93 + t95;
+        double t97 = t91 - t96;
+        double t98 = t59 + t63;
+        double t99 = 0.38268343236508984 * t67;
+        double t100 = 0.9238795325112867 * t65;
+        double t101 = t99 + t100;
+        double t102 = 0.9238795325112868 * t70;
+        double t103 = 0.38268343236508967 * t72;
+        double t104 = t102 + t103;
+        double t105 = t101 + t104;
+        double t106 = t98 - t105;
+        double t107 = t5 - t9;
+        double t108 = t21 - t38;
+        double t109 = t44 - t57;
+        double t110 = t64 - t75;
+        double t111 = t77 - t80;
+        double t112 = t82 - t89;
+        double t113 = t91 + t96;
+        double t114 = t98 + t105;
+        a[offa] = t10;
+        a[offa + 1] = t39;
+        a[offa + 2] = t58;
+        a[offa + 3] = t76;
+        a[offa + 4] = t81;
+        a[offa + 5] = t90;
+        a[offa + 6] = t97;
+        a[offa + 7] = t106;
+        a[offa + 8] = t107;
+        a[offa + 9] = t108;
+        a[offa + 10] = t109;
+        a[offa + 11] = t110;
+        a[offa + 12] = t111;
+        a[offa + 13] = t112;
+        a[offa + 14] = t113;
+        a[offa + 15] = t114;
+    }
+
+    static void rb18(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double x13 = a[offa + 13];
+        double x14 = a[offa + 14];
+        double x15 = a[offa + 15];
+        double x16 = a[offa + 16];
+        double x17 = a[offa + 17];
+        double t0 = x12 + x12;
+        double t1 = x0 + t0;
+        double t2 = x8 + x16;
+        double t3 = x4 + t2;
+        double t4 = x4 + x16;
+        double t5 = x8 + t4;
+        double t6 = t3 + t5;
+        double t7 = t1 + t6;
+        double t8 = x10 + x14;
+        double t9 = x2 + t8;
+        double t10 = x1 + x6;
+        double t11 = x6 + t10;
+        double t12 = x2 + x14;
+        double t13 = x10 + t12;
+        double t14 = t11 + t13;
+        double t15 = t9 + t14;
+        double t16 = t7 + t15;
+        double t17 = 0.5 * t0;
+        double t18 = x0 - t17;
+        double t19 = x13 + x13;
+        double t20 = 0.8660254037844387 * t19;
+        double t21 = t18 - t20;
+        double t22 = 0.5 * t2;
+        double t23 = x4 - t22;
+        double t24 = x9 + x17;
+        double t25 = 0.8660254037844387 * t24;
+        double t26 = t23 - t25;
+        double t27 = 0.766044443118978 * t26;
+        double t28 = x17 - x9;
+        double t29 = 0.5 * t28;
+        double t30 = x5 - t29;
+        double t31 = x16 - x8;
+        double t32 = 0.8660254037844387 * t31;
+        double t33 = t30 + t32;
+        double t34 = 0.6427876096865393 * t33;
+        double t35 = t27 - t34;
+        double t36 = 0.5 * t4;
+        double t37 = x8 - t36;
+        double t38 = x5 - x17;
+        double t39 = 0.8660254037844387 * t38;
+        double t40 = t37 - t39;
+        double t41 = 0.17364817766693041 * t40;
+        double t42 = x5 + x17;
+        double t43 = 0.5 * t42;
+        double t44 = x9 + t43;
+        double t45 = x16 - x4;
+        double t46 = 0.8660254037844387 * t45;
+        double t47 = t44 + t46;
+        double t48 = 0.984807753012208 * t47;
+        double t49 = t41 - t48;
+        double t50 = t35 + t49;
+        double t51 = t21 + t50;
+        double t52 = 0.5 * t8;
+        double t53 = x2 - t52;
+        double t54 = x11 + x15;
+        double t55 = 0.8660254037844387 * t54;
+        double t56 = t53 - t55;
+        double t57 = 0.5 * t10;
+        double t58 = x6 - t57;
+        double t59 = 0.8660254037844387 * x7;
+        double t60 = t58 - t59;
+        double t61 = 0.766044443118978 * t60;
+        double t62 = 0.5 * x7;
+        double t63 = x7 + t62;
+        double t64 = x1 - x6;
+        double t65 = 0.8660254037844387 * t64;
+        double t66 = t63 + t65;
+        double t67 = 0.6427876096865393 * t66;
+        double t68 = t61 - t67;
+        double t69 = 0.5 * t12;
+        double t70 = x10 - t69;
+        double t71 = x3 - x15;
+        double t72 = 0.8660254037844387 * t71;
+        double t73 = t70 - t72;
+        double t74 = 0.17364817766693041 * t73;
+        double t75 = x3 + x15;
+        double t76 = 0.5 * t75;
+        double t77 = x11 + t76;
+        double t78 = x14 - x2;
+        double t79 = 0.8660254037844387 * t78;
+        double t80 = t77 + t79;
+        double t81 = 0.984807753012208 * t80;
+        double t82 = t74 - t81;
+        double t83 = t68 + t82;
+        double t84 = t56 + t83;
+        double t85 = 0.9396926207859084 * t84;
+        double t86 = x15 - x11;
+        double t87 = 0.5 * t86;
+        double t88 = x3 - t87;
+        double t89 = x14 - x10;
+        double t90 = 0.8660254037844387 * t89;
+        double t91 = t88 + t90;
+        double t92 = 0.766044443118978 * t66;
+        double t93 = 0.6427876096865393 * t60;
+        double t94 = t92 + t93;
+        double t95 = 0.17364817766693041 * t80;
+        double t96 = 0.984807753012208 * t73;
+        double t97 = t95 + t96;
+        double t98 = t94 + t97;
+        double t99 = t91 + t98;
+        double t100 = 0.3420201433256687 * t99;
+        double t101 = t85 - t100;
+        double t102 = t51 + t101;
+        double t103 = t18 + t20;
+        double t104 = t23 + t25;
+        double t105 = 0.17364817766693041 * t104;
+        double t106 = t30 - t32;
+        double t107 = 0.984807753012208 * t106;
+        double t108 = t105 - t107;
+        double t109 = t37 + t39;
+        double t110 = 0.9396926207859083 * t109;
+        double t111 = t44 - t46;
+        double t112 = 0.3420201433256689 * t111;
+        double t113 = t110 + t112;
+        double t114 = t108 - t113;
+        double t115 = t103 + t114;
+        double t116 = t53 + t55;
+        double t117 = t58 + t59;
+        double t118 = 0.17364817766693041 * t117;
+        double t119 = t63 - t65;
+        double t120 = 0.984807753012208 * t119;
+        double t121 = t118 - t120;
+        double t122 = t70 + t72;
+        double t123 = 0.9396926207859083 * t122;
+        double t124 = t77 - t79;
+        double t125 = 0.3420201433256689 * t124;
+        double t126 = t123 + t125;
+        double t127 = t121 - t126;
+        double t128 = t116 + t127;
+        double t129 = 0.766044443118978 * t128;
+        double t130 = t88 - t90;
+        double t131 = 0.17364817766693041 * t119;
+        double t132 = 0.984807753012208 * t117;
+        double t133 = t131 + t132;
+        double t134 = 0.3420201433256689 * t122;
+        double t135 = 0.9396926207859083 * t124;
+        double t136 = t134 - t135;
+        double t137 = t133 + t136;
+        double t138 = t130 + t137;
+        double t139 = 0.6427876096865393 * t138;
+        double t140 = t129 - t139;
+        double t141 = t115 + t140;
+        double t142 = 0.5 * t6;
+        double t143 = t1 - t142;
+        double t144 = x5 + t28;
+        double t145 = x9 - t42;
+        double t146 = t144 - t145;
+        double t147 = 0.8660254037844387 * t146;
+        double t148 = t143 - t147;
+        double t149 = 0.5 * t14;
+        double t150 = t9 - t149;
+        double t151 = t75 - x11;
+        double t152 = 0.8660254037844387 * t151;
+        double t153 = t150 - t152;
+        double t154 = 0.5 * t153;
+        double t155 = x3 + t86;
+        double t156 = x11 - t75;
+        double t157 = 0.5 * t156;
+        double t158 = t155 - t157;
+        double t159 = t11 - t13;
+        double t160 = 0.8660254037844387 * t159;
+        double t161 = t158 + t160;
+        double t162 = 0.8660254037844386 * t161;
+        double t163 = t154 - t162;
+        double t164 = t148 + t163;
+        double t165 = 0.5 * t50;
+        double t166 = t21 - t165;
+        double t167 = 0.766044443118978 * t33;
+        double t168 = 0.6427876096865393 * t26;
+        double t169 = t167 + t168;
+        double t170 = 0.17364817766693041 * t47;
+        double t171 = 0.984807753012208 * t40;
+        double t172 = t170 + t171;
+        double t173 = t169 - t172;
+        double t174 = 0.8660254037844387 * t173;
+        double t175 = t166 - t174;
+        double t176 = 0.5 * t83;
+        double t177 = t56 - t176;
+        double t178 = t94 - t97;
+        double t179 = 0.8660254037844387 * t178;
+        double t180 = t177 - t179;
+        double t181 = 0.17364817766693041 * t180;
+        double t182 = 0.5 * t98;
+        double t183 = t91 - t182;
+        double t184 = t68 - t82;
+        double t185 = 0.8660254037844387 * t184;
+        double t186 = t183 + t185;
+        double t187 = 0.984807753012208 * t186;
+        double t188 = t181 - t187;
+        double t189 = t175 + t188;
+        double t190 = 0.5 * t114;
+        double t191 = t103 - t190;
+        double t192 = 0.17364817766693041 * t106;
+        double t193 = 0.984807753012208 * t104;
+        double t194 = t192 + t193;
+        double t195 = 0.3420201433256689 * t109;
+        double t196 = 0.9396926207859083 * t111;
+        double t197 = t195 - t196;
+        double t198 = t194 - t197;
+        double t199 = 0.8660254037844387 * t198;
+        double t200 = t191 - t199;
+        double t201 = 0.5 * t127;
+        double t202 = t116 - t201;
+        double t203 = t133 - t136;
+        double t204 = 0.8660254037844387 * t203;
+        double t205 = t202 - t204;
+        double t206 = 0.1736481776669303 * t205;
+        double t207 = 0.5 * t137;
+        double t208 = t130 - t207;
+        double t209 = t121 + t126;
+        double t210 = 0.8660254037844387 * t209;
+        double t211 = t208 + t210;
+        double t212 = 0.984807753012208 * t211;
+        double t213 = t206 + t212;
+        double t214 = t200 - t213;
+        double t215 = t143 + t147;
+        double t216 = t150 + t152;
+        double t217 = 0.5 * t216;
+        double t218 = t158 - t160;
+        double t219 = 0.8660254037844387 * t218;
+        double t220 = t217 + t219;
+        double t221 = t215 - t220;
+        double t222 = t166 + t174;
+        double t223 = t177 + t179;
+        double t224 = 0.7660444431189779 * t223;
+        double t225 = t183 - t185;
+        double t226 = 0.6427876096865395 * t225;
+        double t227 = t224 + t226;
+        double t228 = t222 - t227;
+        double t229 = t191 + t199;
+        double t230 = t202 + t204;
+        double t231 = 0.9396926207859083 * t230;
+        double t232 = t208 - t210;
+        double t233 = 0.3420201433256689 * t232;
+        double t234 = t231 + t233;
+        double t235 = t229 - t234;
+        double t236 = t7 - t15;
+        double t237 = t51 - t101;
+        double t238 = t115 - t140;
+        double t239 = t148 - t163;
+        double t240 = t175 - t188;
+        double t241 = t200 + t213;
+        double t242 = t215 + t220;
+        double t243 = t222 + t227;
+        double t244 = t229 + t234;
+        a[offa] = t16;
+        a[offa + 1] = t102;
+        a[offa + 2] = t141;
+        a[offa + 3] = t164;
+        a[offa + 4] = t189;
+        a[offa + 5] = t214;
+        a[offa + 6] = t221;
+        a[offa + 7] = t228;
+        a[offa + 8] = t235;
+        a[offa + 9] = t236;
+        a[offa + 10] = t237;
+        a[offa + 11] = t238;
+        a[offa + 12] = t239;
+        a[offa + 13] = t240;
+        a[offa + 14] = t241;
+        a[offa + 15] = t242;
+        a[offa + 16] = t243;
+        a[offa + 17] = t244;
+    }
+
+    static void rb20(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double x13 = a[offa + 13];
+        double x14 = a[offa + 14];
+        double x15 = a[offa + 15];
+        double x16 = a[offa + 16];
+        double x17 = a[offa + 17];
+        double x18 = a[offa + 18];
+        double x19 = a[offa + 19];
+        double t0 = x16 + x16;
+        double t1 = x8 + x8;
+        double t2 = x0 + t1;
+        double t3 = t0 + t2;
+        double t4 = x1 + x12;
+        double t5 = x4 + x12;
+        double t6 = x4 + t5;
+        double t7 = t4 + t6;
+        double t8 = t3 + t7;
+        double t9 = x14 + x18;
+        double t10 = x6 + x10;
+        double t11 = x2 + t10;
+        double t12 = t9 + t11;
+        double t13 = x10 + x18;
+        double t14 = x2 + x14;
+        double t15 = x6 + t14;
+        double t16 = t13 + t15;
+        double t17 = t12 + t16;
+        double t18 = t8 + t17;
+        double t19 = 0.30901699437494745 * t1;
+        double t20 = x0 + t19;
+        double t21 = 0.8090169943749473 * t0;
+        double t22 = t20 - t21;
+        double t23 = x9 + x9;
+        double t24 = 0.9510565162951535 * t23;
+        double t25 = x17 + x17;
+        double t26 = 0.5877852522924732 * t25;
+        double t27 = t24 + t26;
+        double t28 = t22 - t27;
+        double t29 = 0.30901699437494745 * t5;
+        double t30 = x4 + t29;
+        double t31 = 0.8090169943749473 * t4;
+        double t32 = t30 - t31;
+        double t33 = x5 + x13;
+        double t34 = 0.9510565162951535 * t33;
+        double t35 = 0.5877852522924732 * x13;
+        double t36 = t34 + t35;
+        double t37 = t32 - t36;
+        double t38 = 0.8090169943749475 * t37;
+        double t39 = x13 - x5;
+        double t40 = 0.30901699437494745 * t39;
+        double t41 = x5 + t40;
+        double t42 = 0.8090169943749473 * x13;
+        double t43 = t41 + t42;
+        double t44 = x12 - x4;
+        double t45 = 0.9510565162951535 * t44;
+        double t46 = x1 - x12;
+        double t47 = 0.5877852522924732 * t46;
+        double t48 = t45 + t47;
+        double t49 = t43 + t48;
+        double t50 = 0.5877852522924731 * t49;
+        double t51 = t38 - t50;
+        double t52 = t28 + t51;
+        double t53 = 0.30901699437494745 * t10;
+        double t54 = x2 + t53;
+        double t55 = 0.8090169943749473 * t9;
+        double t56 = t54 - t55;
+        double t57 = x7 + x11;
+        double t58 = 0.9510565162951535 * t57;
+        double t59 = x15 + x19;
+        double t60 = 0.5877852522924732 * t59;
+        double t61 = t58 + t60;
+        double t62 = t56 - t61;
+        double t63 = 0.9510565162951535 * t62;
+        double t64 = x11 - x7;
+        double t65 = 0.30901699437494745 * t64;
+        double t66 = x3 + t65;
+        double t67 = x19 - x15;
+        double t68 = 0.8090169943749473 * t67;
+        double t69 = t66 - t68;
+        double t70 = x10 - x6;
+        double t71 = 0.9510565162951535 * t70;
+        double t72 = x18 - x14;
+        double t73 = 0.5877852522924732 * t72;
+        double t74 = t71 + t73;
+        double t75 = t69 + t74;
+        double t76 = 0.3090169943749474 * t75;
+        double t77 = t63 - t76;
+        double t78 = 0.30901699437494745 * t14;
+        double t79 = x6 + t78;
+        double t80 = 0.8090169943749473 * t13;
+        double t81 = t79 - t80;
+        double t82 = x3 + x15;
+        double t83 = 0.9510565162951535 * t82;
+        double t84 = x11 - x19;
+        double t85 = 0.5877852522924732 * t84;
+        double t86 = t83 + t85;
+        double t87 = t81 - t86;
+        double t88 = 0.5877852522924731 * t87;
+        double t89 = x15 - x3;
+        double t90 = 0.30901699437494745 * t89;
+        double t91 = x7 + t90;
+        double t92 = x11 + x19;
+        double t93 = 0.8090169943749473 * t92;
+        double t94 = t91 + t93;
+        double t95 = x14 - x2;
+        double t96 = 0.9510565162951535 * t95;
+        double t97 = x18 - x10;
+        double t98 = 0.5877852522924732 * t97;
+        double t99 = t96 + t98;
+        double t100 = t94 + t99;
+        double t101 = 0.8090169943749475 * t100;
+        double t102 = t88 - t101;
+        double t103 = t77 + t102;
+        double t104 = t52 + t103;
+        double t105 = 0.8090169943749473 * t1;
+        double t106 = x0 - t105;
+        double t107 = 0.30901699437494723 * t0;
+        double t108 = t106 + t107;
+        double t109 = 0.5877852522924732 * t23;
+        double t110 = 0.9510565162951536 * t25;
+        double t111 = t109 - t110;
+        double t112 = t108 - t111;
+        double t113 = 0.8090169943749473 * t5;
+        double t114 = x4 - t113;
+        double t115 = 0.30901699437494723 * t4;
+        double t116 = t114 + t115;
+        double t117 = 0.5877852522924732 * t33;
+        double t118 = 0.9510565162951536 * x13;
+        double t119 = t117 - t118;
+        double t120 = t116 - t119;
+        double t121 = 0.30901699437494745 * t120;
+        double t122 = 0.8090169943749473 * t39;
+        double t123 = x5 - t122;
+        double t124 = 0.30901699437494723 * x13;
+        double t125 = t123 - t124;
+        double t126 = 0.5877852522924732 * t44;
+        double t127 = 0.9510565162951536 * t46;
+        double t128 = t126 - t127;
+        double t129 = t125 + t128;
+        double t130 = 0.9510565162951535 * t129;
+        double t131 = t121 - t130;
+        double t132 = t112 + t131;
+        double t133 = 0.8090169943749473 * t10;
+        double t134 = x2 - t133;
+        double t135 = 0.30901699437494723 * t9;
+        double t136 = t134 + t135;
+        double t137 = 0.5877852522924732 * t57;
+        double t138 = 0.9510565162951536 * t59;
+        double t139 = t137 - t138;
+        double t140 = t136 - t139;
+        double t141 = 0.8090169943749475 * t140;
+        double t142 = 0.8090169943749473 * t64;
+        double t143 = x3 - t142;
+        double t144 = 0.30901699437494723 * t67;
+        double t145 = t143 + t144;
+        double t146 = 0.5877852522924732 * t70;
+        double t147 = 0.9510565162951536 * t72;
+        double t148 = t146 - t147;
+        double t149 = t145 + t148;
+        double t150 = 0.5877852522924731 * t149;
+        double t151 = t141 - t150;
+        double t152 = 0.8090169943749473 * t14;
+        double t153 = x6 - t152;
+        double t154 = 0.30901699437494723 * t13;
+        double t155 = t153 + t154;
+        double t156 = 0.5877852522924732 * t82;
+        double t157 = 0.9510565162951536 * t84;
+        double t158 = t156 - t157;
+        double t159 = t155 - t158;
+        double t160 = 0.30901699437494734 * t159;
+        double t161 = 0.8090169943749473 * t89;
+        double t162 = x7 - t161;
+        double t163 = 0.30901699437494723 * t92;
+        double t164 = t162 - t163;
+        double t165 = 0.5877852522924732 * t95;
+        double t166 = 0.9510565162951536 * t97;
+        double t167 = t165 - t166;
+        double t168 = t164 + t167;
+        double t169 = 0.9510565162951536 * t168;
+        double t170 = t160 + t169;
+        double t171 = t151 - t170;
+        double t172 = t132 + t171;
+        double t173 = t108 + t111;
+        double t174 = t116 + t119;
+        double t175 = 0.30901699437494734 * t174;
+        double t176 = t125 - t128;
+        double t177 = 0.9510565162951536 * t176;
+        double t178 = t175 + t177;
+        double t179 = t173 - t178;
+        double t180 = t136 + t139;
+        double t181 = 0.5877852522924731 * t180;
+        double t182 = t145 - t148;
+        double t183 = 0.8090169943749475 * t182;
+        double t184 = t181 - t183;
+        double t185 = t155 + t158;
+        double t186 = 0.9510565162951535 * t185;
+        double t187 = t164 - t167;
+        double t188 = 0.3090169943749475 * t187;
+        double t189 = t186 + t188;
+        double t190 = t184 - t189;
+        double t191 = t179 + t190;
+        double t192 = t22 + t27;
+        double t193 = t32 + t36;
+        double t194 = 0.8090169943749473 * t193;
+        double t195 = t43 - t48;
+        double t196 = 0.5877852522924732 * t195;
+        double t197 = t194 + t196;
+        double t198 = t192 - t197;
+        double t199 = t56 + t61;
+        double t200 = 0.30901699437494745 * t199;
+        double t201 = t69 - t74;
+        double t202 = 0.9510565162951535 * t201;
+        double t203 = t200 - t202;
+        double t204 = t94 - t99;
+        double t205 = 0.587785252292473 * t204;
+        double t206 = t81 + t86;
+        double t207 = 0.8090169943749476 * t206;
+        double t208 = t205 - t207;
+        double t209 = t203 + t208;
+        double t210 = t198 + t209;
+        double t211 = t3 - t7;
+        double t212 = x7 + t89;
+        double t213 = t212 - t92;
+        double t214 = x3 + t64;
+        double t215 = t67 + t214;
+        double t216 = t213 - t215;
+        double t217 = t211 + t216;
+        double t218 = t28 - t51;
+        double t219 = 0.5877852522924731 * t100;
+        double t220 = 0.8090169943749475 * t87;
+        double t221 = t219 + t220;
+        double t222 = 0.9510565162951535 * t75;
+        double t223 = 0.3090169943749474 * t62;
+        double t224 = t222 + t223;
+        double t225 = t221 - t224;
+        double t226 = t218 + t225;
+        double t227 = t112 - t131;
+        double t228 = 0.9510565162951536 * t159;
+        double t229 = 0.30901699437494734 * t168;
+        double t230 = t228 - t229;
+        double t231 = 0.8090169943749475 * t149;
+        double t232 = 0.5877852522924731 * t140;
+        double t233 = t231 + t232;
+        double t234 = t230 - t233;
+        double t235 = t227 + t234;
+        double t236 = t173 + t178;
+        double t237 = 0.3090169943749475 * t185;
+        double t238 = 0.9510565162951535 * t187;
+        double t239 = t237 - t238;
+        double t240 = 0.5877852522924731 * t182;
+        double t241 = 0.8090169943749475 * t180;
+        double t242 = t240 + t241;
+        double t243 = t239 - t242;
+        double t244 = t236 + t243;
+        double t245 = t192 + t197;
+        double t246 = 0.30901699437494745 * t201;
+        double t247 = 0.9510565162951535 * t199;
+        double t248 = t246 + t247;
+        double t249 = 0.8090169943749476 * t204;
+        double t250 = 0.587785252292473 * t206;
+        double t251 = t249 + t250;
+        double t252 = t248 + t251;
+        double t253 = t245 - t252;
+        double t254 = t8 - t17;
+        double t255 = t52 - t103;
+        double t256 = t132 - t171;
+        double t257 = t179 - t190;
+        double t258 = t198 - t209;
+        double t259 = t211 - t216;
+        double t260 = t218 - t225;
+        double t261 = t227 - t234;
+        double t262 = t236 - t243;
+        double t263 = t245 + t252;
+        a[offa] = t18;
+        a[offa + 1] = t104;
+        a[offa + 2] = t172;
+        a[offa + 3] = t191;
+        a[offa + 4] = t210;
+        a[offa + 5] = t217;
+        a[offa + 6] = t226;
+        a[offa + 7] = t235;
+        a[offa + 8] = t244;
+        a[offa + 9] = t253;
+        a[offa + 10] = t254;
+        a[offa + 11] = t255;
+        a[offa + 12] = t256;
+        a[offa + 13] = t257;
+        a[offa + 14] = t258;
+        a[offa + 15] = t259;
+        a[offa + 16] = t260;
+        a[offa + 17] = t261;
+        a[offa + 18] = t262;
+        a[offa + 19] = t263;
+    }
+
+    static void rb24(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double x13 = a[offa + 13];
+        double x14 = a[offa + 14];
+        double x15 = a[offa + 15];
+        double x16 = a[offa + 16];
+        double x17 = a[offa + 17];
+        double x18 = a[offa + 18];
+        double x19 = a[offa + 19];
+        double x20 = a[offa + 20];
+        double x21 = a[offa + 21];
+        double x22 = a[offa + 22];
+        double x23 = a[offa + 23];
+        double t0 = x16 + x16;
+        double t1 = x0 + t0;
+        double t2 = x1 + x8;
+        double t3 = x8 + t2;
+        double t4 = t1 + t3;
+        double t5 = x12 + x20;
+        double t6 = x4 + t5;
+        double t7 = x4 + x20;
+        double t8 = x12 + t7;
+        double t9 = t6 + t8;
+        double t10 = t4 + t9;
+        double t11 = x14 + x18;
+        double t12 = x2 + t11;
+        double t13 = x6 + x22;
+        double t14 = x10 + t13;
+        double t15 = t12 + t14;
+        double t16 = x10 + x22;
+        double t17 = x6 + t16;
+        double t18 = x2 + x18;
+        double t19 = x14 + t18;
+        double t20 = t17 + t19;
+        double t21 = t15 + t20;
+        double t22 = t10 + t21;
+        double t23 = 0.5 * t0;
+        double t24 = x0 - t23;
+        double t25 = x17 + x17;
+        double t26 = 0.8660254037844387 * t25;
+        double t27 = t24 - t26;
+        double t28 = 0.5 * t2;
+        double t29 = x8 - t28;
+        double t30 = 0.8660254037844387 * x9;
+        double t31 = t29 - t30;
+        double t32 = 0.5 * t31;
+        double t33 = 0.5 * x9;
+        double t34 = x9 + t33;
+        double t35 = x1 - x8;
+        double t36 = 0.8660254037844387 * t35;
+        double t37 = t34 + t36;
+        double t38 = 0.8660254037844386 * t37;
+        double t39 = t32 - t38;
+        double t40 = t27 + t39;
+        double t41 = 0.5 * t5;
+        double t42 = x4 - t41;
+        double t43 = x13 + x21;
+        double t44 = 0.8660254037844387 * t43;
+        double t45 = t42 - t44;
+        double t46 = 0.5 * t7;
+        double t47 = x12 - t46;
+        double t48 = x5 - x21;
+        double t49 = 0.8660254037844387 * t48;
+        double t50 = t47 - t49;
+        double t51 = 0.5 * t50;
+        double t52 = x5 + x21;
+        double t53 = 0.5 * t52;
+        double t54 = x13 + t53;
+        double t55 = x20 - x4;
+        double t56 = 0.8660254037844387 * t55;
+        double t57 = t54 + t56;
+        double t58 = 0.8660254037844386 * t57;
+        double t59 = t51 - t58;
+        double t60 = t45 + t59;
+        double t61 = 0.8660254037844387 * t60;
+        double t62 = x21 - x13;
+        double t63 = 0.5 * t62;
+        double t64 = x5 - t63;
+        double t65 = x20 - x12;
+        double t66 = 0.8660254037844387 * t65;
+        double t67 = t64 + t66;
+        double t68 = 0.5 * t57;
+        double t69 = 0.8660254037844386 * t50;
+        double t70 = t68 + t69;
+        double t71 = t67 + t70;
+        double t72 = 0.5 * t71;
+        double t73 = t61 - t72;
+        double t74 = t40 + t73;
+        double t75 = 0.5 * t11;
+        double t76 = x2 - t75;
+        double t77 = x15 + x19;
+        double t78 = 0.8660254037844387 * t77;
+        double t79 = t76 - t78;
+        double t80 = 0.5 * t13;
+        double t81 = x10 - t80;
+        double t82 = x7 - x23;
+        double t83 = 0.8660254037844387 * t82;
+        double t84 = t81 - t83;
+        double t85 = 0.5 * t84;
+        double t86 = x7 + x23;
+        double t87 = 0.5 * t86;
+        double t88 = x11 + t87;
+        double t89 = x22 - x6;
+        double t90 = 0.8660254037844387 * t89;
+        double t91 = t88 + t90;
+        double t92 = 0.8660254037844386 * t91;
+        double t93 = t85 - t92;
+        double t94 = t79 + t93;
+        double t95 = 0.9659258262890683 * t94;
+        double t96 = x19 - x15;
+        double t97 = 0.5 * t96;
+        double t98 = x3 - t97;
+        double t99 = x18 - x14;
+        double t100 = 0.8660254037844387 * t99;
+        double t101 = t98 + t100;
+        double t102 = 0.5 * t91;
+        double t103 = 0.8660254037844386 * t84;
+        double t104 = t102 + t103;
+        double t105 = t101 + t104;
+        double t106 = 0.25881904510252074 * t105;
+        double t107 = t95 - t106;
+        double t108 = 0.5 * t16;
+        double t109 = x6 - t108;
+        double t110 = x11 + x23;
+        double t111 = 0.8660254037844387 * t110;
+        double t112 = t109 - t111;
+        double t113 = 0.5 * t18;
+        double t114 = x14 - t113;
+        double t115 = x3 - x19;
+        double t116 = 0.8660254037844387 * t115;
+        double t117 = t114 - t116;
+        double t118 = 0.5 * t117;
+        double t119 = x3 + x19;
+        double t120 = 0.5 * t119;
+        double t121 = x15 + t120;
+        double t122 = x18 - x2;
+        double t123 = 0.8660254037844387 * t122;
+        double t124 = t121 + t123;
+        double t125 = 0.8660254037844386 * t124;
+        double t126 = t118 - t125;
+        double t127 = t112 + t126;
+        double t128 = x23 - x11;
+        double t129 = 0.5 * t128;
+        double t130 = x7 - t129;
+        double t131 = x22 - x10;
+        double t132 = 0.8660254037844387 * t131;
+        double t133 = t130 + t132;
+        double t134 = 0.5 * t124;
+        double t135 = 0.8660254037844386 * t117;
+        double t136 = t134 + t135;
+        double t137 = t133 + t136;
+        double t138 = t127 - t137;
+        double t139 = 0.7071067811865476 * t138;
+        double t140 = t107 + t139;
+        double t141 = t74 + t140;
+        double t142 = t24 + t26;
+        double t143 = t29 + t30;
+        double t144 = 0.5 * t143;
+        double t145 = t34 - t36;
+        double t146 = 0.8660254037844387 * t145;
+        double t147 = t144 + t146;
+        double t148 = t142 - t147;
+        double t149 = t42 + t44;
+        double t150 = t47 + t49;
+        double t151 = 0.5 * t150;
+        double t152 = t54 - t56;
+        double t153 = 0.8660254037844387 * t152;
+        double t154 = t151 + t153;
+        double t155 = t149 - t154;
+        double t156 = 0.5 * t155;
+        double t157 = t64 - t66;
+        double t158 = 0.8660254037844387 * t150;
+        double t159 = 0.5 * t152;
+        double t160 = t158 - t159;
+        double t161 = t157 + t160;
+        double t162 = 0.8660254037844386 * t161;
+        double t163 = t156 - t162;
+        double t164 = t148 + t163;
+        double t165 = t76 + t78;
+        double t166 = t81 + t83;
+        double t167 = 0.5 * t166;
+        double t168 = t88 - t90;
+        double t169 = 0.8660254037844387 * t168;
+        double t170 = t167 + t169;
+        double t171 = t165 - t170;
+        double t172 = 0.8660254037844387 * t171;
+        double t173 = t98 - t100;
+        double t174 = 0.8660254037844387 * t166;
+        double t175 = 0.5 * t168;
+        double t176 = t174 - t175;
+        double t177 = t173 + t176;
+        double t178 = 0.5 * t177;
+        double t179 = t172 - t178;
+        double t180 = t130 - t132;
+        double t181 = t114 + t116;
+        double t182 = 0.8660254037844387 * t181;
+        double t183 = t121 - t123;
+        double t184 = 0.5 * t183;
+        double t185 = t182 - t184;
+        double t186 = t180 + t185;
+        double t187 = t179 - t186;
+        double t188 = t164 + t187;
+        double t189 = t1 - t3;
+        double t190 = x13 - t52;
+        double t191 = x5 + t62;
+        double t192 = t190 - t191;
+        double t193 = t189 + t192;
+        double t194 = t12 - t14;
+        double t195 = x3 + t96;
+        double t196 = x11 - t86;
+        double t197 = t195 - t196;
+        double t198 = t194 - t197;
+        double t199 = 0.7071067811865476 * t198;
+        double t200 = t17 - t19;
+        double t201 = x7 + t128;
+        double t202 = x15 - t119;
+        double t203 = t201 - t202;
+        double t204 = t200 + t203;
+        double t205 = 0.7071067811865476 * t204;
+        double t206 = t199 - t205;
+        double t207 = t193 + t206;
+        double t208 = t27 - t39;
+        double t209 = t45 - t59;
+        double t210 = 0.5 * t209;
+        double t211 = t67 - t70;
+        double t212 = 0.8660254037844387 * t211;
+        double t213 = t210 + t212;
+        double t214 = t208 - t213;
+        double t215 = t79 - t93;
+        double t216 = 0.5 * t215;
+        double t217 = t101 - t104;
+        double t218 = 0.8660254037844386 * t217;
+        double t219 = t216 - t218;
+        double t220 = t126 - t112;
+        double t221 = t219 + t220;
+        double t222 = t214 + t221;
+        double t223 = t142 + t147;
+        double t224 = t149 + t154;
+        double t225 = 0.8660254037844387 * t224;
+        double t226 = t157 - t160;
+        double t227 = 0.5 * t226;
+        double t228 = t225 + t227;
+        double t229 = t223 - t228;
+        double t230 = t165 + t170;
+        double t231 = 0.25881904510252074 * t230;
+        double t232 = t173 - t176;
+        double t233 = 0.9659258262890683 * t232;
+        double t234 = t231 - t233;
+        double t235 = t109 + t111;
+        double t236 = 0.5 * t181;
+        double t237 = 0.8660254037844387 * t183;
+        double t238 = t236 + t237;
+        double t239 = t235 + t238;
+        double t240 = t180 - t185;
+        double t241 = t239 - t240;
+        double t242 = 0.7071067811865476 * t241;
+        double t243 = t234 - t242;
+        double t244 = t229 + t243;
+        double t245 = t4 - t9;
+        double t246 = t201 + t202;
+        double t247 = t195 + t196;
+        double t248 = t246 - t247;
+        double t249 = t245 + t248;
+        double t250 = t40 - t73;
+        double t251 = t127 + t137;
+        double t252 = 0.7071067811865476 * t251;
+        double t253 = 0.9659258262890683 * t105;
+        double t254 = 0.25881904510252074 * t94;
+        double t255 = t253 + t254;
+        double t256 = t252 - t255;
+        double t257 = t250 + t256;
+        double t258 = t148 - t163;
+        double t259 = t235 - t238;
+        double t260 = 0.8660254037844387 * t177;
+        double t261 = 0.5 * t171;
+        double t262 = t260 + t261;
+        double t263 = t259 - t262;
+        double t264 = t258 + t263;
+        double t265 = t189 - t192;
+        double t266 = t194 + t197;
+        double t267 = 0.7071067811865476 * t266;
+        double t268 = t203 - t200;
+        double t269 = 0.7071067811865476 * t268;
+        double t270 = t267 + t269;
+        double t271 = t265 - t270;
+        double t272 = t208 + t213;
+        double t273 = t136 - t133;
+        double t274 = 0.5 * t217;
+        double t275 = 0.8660254037844386 * t215;
+        double t276 = t274 + t275;
+        double t277 = t273 - t276;
+        double t278 = t272 + t277;
+        double t279 = t223 + t228;
+        double t280 = 0.25881904510252074 * t232;
+        double t281 = 0.9659258262890683 * t230;
+        double t282 = t280 + t281;
+        double t283 = t239 + t240;
+        double t284 = 0.7071067811865476 * t283;
+        double t285 = t282 + t284;
+        double t286 = t279 - t285;
+        double t287 = t10 - t21;
+        double t288 = t74 - t140;
+        double t289 = t164 - t187;
+        double t290 = t193 - t206;
+        double t291 = t214 - t221;
+        double t292 = t229 - t243;
+        double t293 = t245 - t248;
+        double t294 = t250 - t256;
+        double t295 = t258 - t263;
+        double t296 = t265 + t270;
+        double t297 = t272 - t277;
+        double t298 = t279 + t285;
+        a[offa] = t22;
+        a[offa + 1] = t141;
+        a[offa + 2] = t188;
+        a[offa + 3] = t207;
+        a[offa + 4] = t222;
+        a[offa + 5] = t244;
+        a[offa + 6] = t249;
+        a[offa + 7] = t257;
+        a[offa + 8] = t264;
+        a[offa + 9] = t271;
+        a[offa + 10] = t278;
+        a[offa + 11] = t286;
+        a[offa + 12] = t287;
+        a[offa + 13] = t288;
+        a[offa + 14] = t289;
+        a[offa + 15] = t290;
+        a[offa + 16] = t291;
+        a[offa + 17] = t292;
+        a[offa + 18] = t293;
+        a[offa + 19] = t294;
+        a[offa + 20] = t295;
+        a[offa + 21] = t296;
+        a[offa + 22] = t297;
+        a[offa + 23] = t298;
+    }
+
+    static void rb32(double[] a, int offa) {
+        double x0 = a[offa];
+        double x1 = a[offa + 1];
+        double x2 = a[offa + 2];
+        double x3 = a[offa + 3];
+        double x4 = a[offa + 4];
+        double x5 = a[offa + 5];
+        double x6 = a[offa + 6];
+        double x7 = a[offa + 7];
+        double x8 = a[offa + 8];
+        double x9 = a[offa + 9];
+        double x10 = a[offa + 10];
+        double x11 = a[offa + 11];
+        double x12 = a[offa + 12];
+        double x13 = a[offa + 13];
+        double x14 = a[offa + 14];
+        double x15 = a[offa + 15];
+        double x16 = a[offa + 16];
+        double x17 = a[offa + 17];
+        double x18 = a[offa + 18];
+        double x19 = a[offa + 19];
+        double x20 = a[offa + 20];
+        double x21 = a[offa + 21];
+        double x22 = a[offa + 22];
+        double x23 = a[offa + 23];
+        double x24 = a[offa + 24];
+        double x25 = a[offa + 25];
+        double x26 = a[offa + 26];
+        double x27 = a[offa + 27];
+        double x28 = a[offa + 28];
+        double x29 = a[offa + 29];
+        double x30 = a[offa + 30];
+        double x31 = a[offa + 31];
+        double t0 = x0 + x1;
+        double t1 = x16 + x16;
+        double t2 = t0 + t1;
+        double t3 = x8 + x24;
+        double t4 = t3 + t3;
+        double t5 = t2 + t4;
+        double t6 = x4 + x28;
+        double t7 = x12 + x20;
+        double t8 = t6 + t7;
+        double t9 = t8 + t8;
+        double t10 = t5 + t9;
+        double t11 = x2 + x30;
+        double t12 = x14 + x18;
+        double t13 = t11 + t12;
+        double t14 = x10 + x22;
+        double t15 = x6 + x26;
+        double t16 = t14 + t15;
+        double t17 = t13 + t16;
+        double t18 = t17 + t17;
+        double t19 = t10 + t18;
+        double t20 = x0 - x1;
+        double t21 = x17 + x17;
+        double t22 = t20 - t21;
+        double t23 = x8 - x24;
+        double t24 = x9 + x25;
+        double t25 = t23 - t24;
+        double t26 = x24 - x8;
+        double t27 = t24 + t26;
+        double t28 = t25 - t27;
+        double t29 = 0.7071067811865476 * t28;
+        double t30 = t22 + t29;
+        double t31 = x4 - x28;
+        double t32 = x13 + x21;
+        double t33 = t31 - t32;
+        double t34 = x12 - x20;
+        double t35 = x5 + x29;
+        double t36 = t34 - t35;
+        double t37 = x28 - x4;
+        double t38 = t32 + t37;
+        double t39 = t36 - t38;
+        double t40 = 0.7071067811865476 * t39;
+        double t41 = t33 + t40;
+        double t42 = 0.9238795325112867 * t41;
+        double t43 = x20 - x12;
+        double t44 = t35 + t43;
+        double t45 = t36 + t38;
+        double t46 = 0.7071067811865476 * t45;
+        double t47 = t44 + t46;
+        double t48 = 0.3826834323650898 * t47;
+        double t49 = t42 - t48;
+        double t50 = t30 + t49;
+        double t51 = x2 - x30;
+        double t52 = x15 + x19;
+        double t53 = t51 - t52;
+        double t54 = x10 - x22;
+        double t55 = x7 + x27;
+        double t56 = t54 - t55;
+        double t57 = x11 + x23;
+        double t58 = x26 - x6;
+        double t59 = t57 + t58;
+        double t60 = t56 - t59;
+        double t61 = 0.7071067811865476 * t60;
+        double t62 = t53 + t61;
+        double t63 = 0.9807852804032304 * t62;
+        double t64 = x3 + x31;
+        double t65 = x18 - x14;
+        double t66 = t64 + t65;
+        double t67 = t56 + t59;
+        double t68 = 0.7071067811865476 * t67;
+        double t69 = t66 + t68;
+        double t70 = 0.19509032201612825 * t69;
+        double t71 = t63 - t70;
+        double t72 = x6 - x26;
+        double t73 = t72 - t57;
+        double t74 = x14 - x18;
+        double t75 = t74 - t64;
+        double t76 = x30 - x2;
+        double t77 = t52 + t76;
+        double t78 = t75 - t77;
+        double t79 = 0.7071067811865476 * t78;
+        double t80 = t73 + t79;
+        double t81 = 0.8314696123025452 * t80;
+        double t82 = x22 - x10;
+        double t83 = t55 + t82;
+        double t84 = t75 + t77;
+        double t85 = 0.7071067811865476 * t84;
+        double t86 = t83 + t85;
+        double t87 = 0.5555702330196022 * t86;
+        double t88 = t81 - t87;
+        double t89 = t71 + t88;
+        double t90 = t50 + t89;
+        double t91 = t0 - t1;
+        double t92 = x25 - x9;
+        double t93 = x9 - x25;
+        double t94 = t92 - t93;
+        double t95 = t91 + t94;
+        double t96 = t6 - t7;
+        double t97 = x29 - x5;
+        double t98 = x13 - x21;
+        double t99 = t97 - t98;
+        double t100 = t96 + t99;
+        double t101 = x5 - x29;
+        double t102 = x21 - x13;
+        double t103 = t101 - t102;
+        double t104 = t7 - t6;
+        double t105 = t103 + t104;
+        double t106 = t100 - t105;
+        double t107 = 0.7071067811865476 * t106;
+        double t108 = t95 + t107;
+        double t109 = t11 - t12;
+        double t110 = x27 - x7;
+        double t111 = x11 - x23;
+        double t112 = t110 - t111;
+        double t113 = t109 + t112;
+        double t114 = 0.9238795325112867 * t113;
+        double t115 = x3 - x31;
+        double t116 = x19 - x15;
+        double t117 = t115 - t116;
+        double t118 = t14 - t15;
+        double t119 = t117 + t118;
+        double t120 = 0.3826834323650898 * t119;
+        double t121 = t114 - t120;
+        double t122 = t15 - t14;
+        double t123 = x31 - x3;
+        double t124 = x15 - x19;
+        double t125 = t123 - t124;
+        double t126 = t122 + t125;
+        double t127 = 0.38268343236508984 * t126;
+        double t128 = x7 - x27;
+        double t129 = x23 - x11;
+        double t130 = t128 - t129;
+        double t131 = t12 - t11;
+        double t132 = t130 + t131;
+        double t133 = 0.9238795325112867 * t132;
+        double t134 = t127 - t133;
+        double t135 = t121 + t134;
+        double t136 = t108 + t135;
+        double t137 = t20 + t21;
+        double t138 = t23 + t24;
+        double t139 = t24 - t26;
+        double t140 = t138 + t139;
+        double t141 = 0.7071067811865476 * t140;
+        double t142 = t137 - t141;
+        double t143 = t31 + t32;
+        double t144 = t35 + t34;
+        double t145 = t32 - t37;
+        double t146 = t144 + t145;
+        double t147 = 0.7071067811865476 * t146;
+        double t148 = t143 - t147;
+        double t149 = 0.38268343236508984 * t148;
+        double t150 = t35 - t43;
+        double t151 = t145 - t144;
+        double t152 = 0.7071067811865476 * t151;
+        double t153 = t150 - t152;
+        double t154 = 0.9238795325112867 * t153;
+        double t155 = t149 - t154;
+        double t156 = t142 + t155;
+        double t157 = t51 + t52;
+        double t158 = t54 + t55;
+        double t159 = t57 - t58;
+        double t160 = t158 + t159;
+        double t161 = 0.7071067811865476 * t160;
+        double t162 = t157 - t161;
+        double t163 = 0.8314696123025452 * t162;
+        double t164 = t64 - t65;
+        double t165 = t159 - t158;
+        double t166 = 0.7071067811865476 * t165;
+        double t167 = t164 - t166;
+        double t168 = 0.5555702330196022 * t167;
+        double t169 = t163 - t168;
+        double t170 = t57 + t72;
+        double t171 = t64 + t74;
+        double t172 = t52 - t76;
+        double t173 = t171 + t172;
+        double t174 = 0.7071067811865476 * t173;
+        double t175 = t170 - t174;
+        double t176 = 0.1950903220161282 * t175;
+        double t177 = t55 - t82;
+        double t178 = t172 - t171;
+        double t179 = 0.7071067811865476 * t178;
+        double t180 = t177 - t179;
+        double t181 = 0.9807852804032304 * t180;
+        double t182 = t176 + t181;
+        double t183 = t169 - t182;
+        double t184 = t156 + t183;
+        double t185 = t2 - t4;
+        double t186 = t98 + t97;
+        double t187 = t101 + t102;
+        double t188 = t186 - t187;
+        double t189 = t185 + t188;
+        double t190 = t13 - t16;
+        double t191 = t115 + t116;
+        double t192 = t111 + t110;
+        double t193 = t191 - t192;
+        double t194 = t190 - t193;
+        double t195 = 0.7071067811865476 * t194;
+        double t196 = t16 - t13;
+        double t197 = t128 + t129;
+        double t198 = t124 + t123;
+        double t199 = t197 - t198;
+        double t200 = t196 + t199;
+        double t201 = 0.7071067811865476 * t200;
+        double t202 = t195 - t201;
+        double t203 = t189 + t202;
+        double t204 = t22 - t29;
+        double t205 = t33 - t40;
+        double t206 = 0.3826834323650897 * t205;
+        double t207 = t44 - t46;
+        double t208 = 0.9238795325112867 * t207;
+        double t209 = t206 + t208;
+        double t210 = t204 - t209;
+        double t211 = t53 - t61;
+        double t212 = 0.5555702330196023 * t211;
+        double t213 = t66 - t68;
+        double t214 = 0.8314696123025452 * t213;
+        double t215 = t212 - t214;
+        double t216 = t73 - t79;
+        double t217 = 0.9807852804032304 * t216;
+        double t218 = t83 - t85;
+        double t219 = 0.1950903220161286 * t218;
+        double t220 = t217 + t219;
+        double t221 = t215 - t220;
+        double t222 = t210 + t221;
+        double t223 = t91 - t94;
+        double t224 = t96 - t99;
+        double t225 = t103 - t104;
+        double t226 = t224 + t225;
+        double t227 = 0.7071067811865476 * t226;
+        double t228 = t223 - t227;
+        double t229 = t109 - t112;
+        double t230 = 0.38268343236508984 * t229;
+        double t231 = t117 - t118;
+        double t232 = 0.9238795325112867 * t231;
+        double t233 = t230 - t232;
+        double t234 = t130 - t131;
+        double t235 = 0.38268343236508967 * t234;
+        double t236 = t122 - t125;
+        double t237 = 0.9238795325112868 * t236;
+        double t238 = t235 - t237;
+        double t239 = t233 + t238;
+        double t240 = t228 + t239;
+        double t241 = t137 + t141;
+        double t242 = t143 + t147;
+        double t243 = 0.9238795325112867 * t242;
+        double t244 = t150 + t152;
+        double t245 = 0.3826834323650899 * t244;
+        double t246 = t243 + t245;
+        double t247 = t241 - t246;
+        double t248 = t157 + t161;
+        double t249 = 0.19509032201612833 * t248;
+        double t250 = t164 + t166;
+        double t251 = 0.9807852804032304 * t250;
+        double t252 = t249 - t251;
+        double t253 = t177 + t179;
+        double t254 = 0.8314696123025452 * t253;
+        double t255 = t170 + t174;
+        double t256 = 0.5555702330196022 * t255;
+        double t257 = t254 - t256;
+        double t258 = t252 + t257;
+        double t259 = t247 + t258;
+        double t260 = t5 - t9;
+        double t261 = t197 + t198;
+        double t262 = t191 + t192;
+        double t263 = t261 - t262;
+        double t264 = t260 + t263;
+        double t265 = t30 - t49;
+        double t266 = 0.8314696123025452 * t86;
+        double t267 = 0.5555702330196022 * t80;
+        double t268 = t266 + t267;
+        double t269 = 0.9807852804032304 * t69;
+        double t270 = 0.19509032201612825 * t62;
+        double t271 = t269 + t270;
+        double t272 = t268 - t271;
+        double t273 = t265 + t272;
+        double t274 = t95 - t107;
+        double t275 = 0.38268343236508984 * t132;
+        double t276 = 0.9238795325112867 * t126;
+        double t277 = t275 + t276;
+        double t278 = 0.9238795325112867 * t119;
+        double t279 = 0.3826834323650898 * t113;
+        double t280 = t278 + t279;
+        double t281 = t277 - t280;
+        double t282 = t274 + t281;
+        double t283 = t142 - t155;
+        double t284 = 0.9807852804032304 * t175;
+        double t285 = 0.1950903220161282 * t180;
+        double t286 = t284 - t285;
+        double t287 = 0.8314696123025452 * t167;
+        double t288 = 0.5555702330196022 * t162;
+        double t289 = t287 + t288;
+        double t290 = t286 - t289;
+        double t291 = t283 + t290;
+        double t292 = t185 - t188;
+        double t293 = t190 + t193;
+        double t294 = 0.7071067811865476 * t293;
+        double t295 = t199 - t196;
+        double t296 = 0.7071067811865476 * t295;
+        double t297 = t294 + t296;
+        double t298 = t292 - t297;
+        double t299 = t204 + t209;
+        double t300 = 0.1950903220161286 * t216;
+        double t301 = 0.9807852804032304 * t218;
+        double t302 = t300 - t301;
+        double t303 = 0.5555702330196023 * t213;
+        double t304 = 0.8314696123025452 * t211;
+        double t305 = t303 + t304;
+        double t306 = t302 - t305;
+        double t307 = t299 + t306;
+        double t308 = t223 + t227;
+        double t309 = 0.38268343236508984 * t231;
+        double t310 = 0.9238795325112867 * t229;
+        double t311 = t309 + t310;
+        double t312 = 0.9238795325112868 * t234;
+        double t313 = 0.38268343236508967 * t236;
+        double t314 = t312 + t313;
+        double t315 = t311 + t314;
+        double t316 = t308 - t315;
+        double t317 = t241 + t246;
+        double t318 = 0.19509032201612833 * t250;
+        double t319 = 0.9807852804032304 * t248;
+        double t320 = t318 + t319;
+        double t321 = 0.5555702330196022 * t253;
+        double t322 = 0.8314696123025452 * t255;
+        double t323 = t321 + t322;
+        double t324 = t320 + t323;
+        double t325 = t317 - t324;
+        double t326 = t10 - t18;
+        double t327 = t50 - t89;
+        double t328 = t108 - t135;
+        double t329 = t156 - t183;
+        double t330 = t189 - t202;
+        double t331 = t210 - t221;
+        double t332 = t228 - t239;
+        double t333 = t247 - t258;
+        double t334 = t260 - t263;
+        double t335 = t265 - t272;
+        double t336 = t274 - t281;
+        double t337 = t283 - t290;
+        double t338 = t292 + t297;
+        double t339 = t299 - t306;
+        double t340 = t308 + t315;
+        double t341 = t317 + t324;
+        a[offa] = t19;
+        a[offa + 1] = t90;
+        a[offa + 2] = t136;
+        a[offa + 3] = t184;
+        a[offa + 4] = t203;
+        a[offa + 5] = t222;
+        a[offa + 6] = t240;
+        a[offa + 7] = t259;
+        a[offa + 8] = t264;
+        a[offa + 9] = t273;
+        a[offa + 10] = t282;
+        a[offa + 11] = t291;
+        a[offa + 12] = t298;
+        a[offa + 13] = t307;
+        a[offa + 14] = t316;
+        a[offa + 15] = t325;
+        a[offa + 16] = t326;
+        a[offa + 17] = t327;
+        a[offa + 18] = t328;
+        a[offa + 19] = t329;
+        a[offa + 20] = t330;
+        a[offa + 21] = t331;
+        a[offa + 22] = t332;
+        a[offa + 23] = t333;
+        a[offa + 24] = t334;
+        a[offa + 25] = t335;
+        a[offa + 26] = t336;
+        a[offa + 27] = t337;
+        a[offa + 28] = t338;
+        a[offa + 29] = t339;
+        a[offa + 30] = t340;
+        a[offa + 31] = t341;
+    }
+}
@@ -34,9 +34,20 @@
 
 package edu.emory.mathcs.jtransforms.fft;
 
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
 import java.util.concurrent.Future;
 
+import edu.emory.mathcs.utils.BufferUtils;
+import edu.emory.mathcs.utils.ConcurrencyContext;
 import edu.emory.mathcs.utils.ConcurrencyUtils;
+import edu.emory.mathcs.utils.IndexRange;
+import edu.emory.mathcs.utils.PlanCache;
+import edu.emory.mathcs.utils.TransposeUtils;
 
 /**
  * Computes 1D Discrete Fourier Transform (DFT) of complex and real, double
@@ -53,10 +64,173 @@ import edu.emory.mathcs.utils.ConcurrencyUtils;
  */
 public class DoubleFFT_1D {
 
-    private static enum Plans {
-        SPLIT_RADIX, MIXED_RADIX, BLUESTEIN
+    static enum Plans {
+        SPLIT_RADIX, MIXED_RADIX, BLUESTEIN, RADER, PRIME_FACTOR, CODELET, FOUR_STEP
     }
 
+    /**
+     * Precomputed tables of a transform. Instances are never modified after
+     * construction and are shared (through {@link PlanCache}) by all
+     * transforms of the same size, whatever their context. The sub-transforms
+     * are bound to the context of each transform when it is created.
+     */
+    static final class Tables {
+        final Plans plan;
+
+        final int nBluestein;
+
+        final int[] ip;
+
+        final double[] w;
+
+        final int nw;
+
+        final int nc;
+
+        final double[] wtable;
+
+        final double[] wtable_r;
+
+        final double[] bk1;
+
+        final double[] bk2;
+
+        final DoubleFFT_1D bluesteinFFT;
+
+        final int[] raderPerm;
+
+        final double[] raderB;
+
+        final DoubleFFT_1D raderFFT;
+
+        final int[] pfaIn;
+
+        final int[] pfaOut;
+
+        final DoubleFFT_1D pfaFFT1;
+
+        final DoubleFFT_1D pfaFFT2;
+
+        final double[] fourStepW;
+
+        final DoubleFFT_1D fourStepFFT1;
+
+        final DoubleFFT_1D fourStepFFT2;
+
+        final int[] bitrvRev;
+
+        Tables(Plans plan, int nBluestein, int[] ip, double[] w, int nw, int nc, double[] wtable, double[] wtable_r, double[] bk1, double[] bk2, DoubleFFT_1D bluesteinFFT, int[] raderPerm, double[] raderB, DoubleFFT_1D raderFFT, int[] pfaIn, int[] pfaOut, DoubleFFT_1D pfaFFT1, DoubleFFT_1D pfaFFT2, double[] fourStepW, DoubleFFT_1D fourStepFFT1, DoubleFFT_1D fourStepFFT2, int[] bitrvRev) {
+            this.plan = plan;
+            this.nBluestein = nBluestein;
+            this.ip = ip;
+            this.w = w;
+            this.nw = nw;
+            this.nc = nc;
+            this.wtable = wtable;
+            this.wtable_r = wtable_r;
+            this.bk1 = bk1;
+            this.bk2 = bk2;
+            this.bluesteinFFT = bluesteinFFT;
+            this.raderPerm = raderPerm;
+            this.raderB = raderB;
+            this.raderFFT = raderFFT;
+            this.pfaIn = pfaIn;
+            this.pfaOut = pfaOut;
+            this.pfaFFT1 = pfaFFT1;
+            this.pfaFFT2 = pfaFFT2;
+            this.fourStepW = fourStepW;
+            this.fourStepFFT1 = fourStepFFT1;
+            this.fourStepFFT2 = fourStepFFT2;
+            this.bitrvRev = bitrvRev;
+        }
+
+        /*
+         * Returns the size of the arrays held by these tables. The tables of
+         * the sub-transforms are not counted: they are cached under their own
+         * keys.
+         */
+        long sizeInBytes() {
+            long size = 4L * (length(ip) + length(raderPerm) + length(pfaIn) + length(pfaOut) + length(bitrvRev));
+            size += 8L * (length(w) + length(wtable) + length(wtable_r) + length(bk1) + length(bk2) + length(raderB) + length(fourStepW));
+            return size;
+        }
+
+        private static int length(int[] a) {
+            return a == null ? 0 : a.length;
+        }
+
+        private static int length(double[] a) {
+            return a == null ? 0 : a.length;
+        }
+    }
+
+    /**
+     * Scratch arrays of a transform. A workspace is created by
+     * {@link DoubleFFT_1D#createWorkspace()} and can be reused by any number of
+     * calls of the transform that created it (or of any other transform of the
+     * same size and algorithm). Calls that are given a workspace do not
+     * allocate memory when the transform is computed by one thread. A
+     * workspace must not be used by two calls at the same time.
+     */
+    public static final class Workspace {
+        final Plans plan;
+
+        final int n;
+
+        final double[] ak;
+
+        final double[] b;
+
+        final double[] t;
+
+        final double[][] tiles;
+
+        final Workspace sub1;
+
+        final Workspace sub2;
+
+        final Workspace real;
+
+        Workspace(Plans plan, int n, double[] ak, double[] b, double[] t, Workspace sub1, Workspace sub2) {
+            this(plan, n, ak, b, t, null, sub1, sub2, null);
+        }
+
+        Workspace(Plans plan, int n, double[] ak, double[] b, double[] t, double[][] tiles, Workspace sub1, Workspace sub2, Workspace real) {
+            this.plan = plan;
+            this.n = n;
+            this.ak = ak;
+            this.b = b;
+            this.t = t;
+            this.tiles = tiles;
+            this.sub1 = sub1;
+            this.sub2 = sub2;
+            this.real = real;
+        }
+    }
+
+    /**
+     * Algorithm and thread thresholds chosen by the planner for one size and
+     * kind (complex or real) of transform.
+     */
+    private static final class Decision {
+        final Plans plan;
+
+        final PlanningEffort effort;
+
+        final int threadsBeginN_2Threads;
+
+        final int threadsBeginN_4Threads;
+
+        Decision(Plans plan, PlanningEffort effort, int threadsBeginN_2Threads, int threadsBeginN_4Threads) {
+            this.plan = plan;
+            this.effort = effort;
+            this.threadsBeginN_2Threads = threadsBeginN_2Threads;
+            this.threadsBeginN_4Threads = threadsBeginN_4Threads;
+        }
+    }
+
+    private static final Map<String, Decision> decisions = new HashMap<String, Decision>();
+
     private int n;
 
     private int nBluestein;
@@ -77,55 +251,469 @@ public class DoubleFFT_1D {
 
     private double[] bk2;
 
+    private DoubleFFT_1D bluesteinFFT;
+
+    private int[] raderPerm;
+
+    private double[] raderB;
+
+    private DoubleFFT_1D raderFFT;
+
+    private int[] pfaIn;
+
+    private int[] pfaOut;
+
+    private DoubleFFT_1D pfaFFT1;
+
+    private DoubleFFT_1D pfaFFT2;
+
+    private double[] fourStepW;
+
+    private int[] bitrvRev;
+
+    private DoubleFFT_1D fourStepFFT1;
+
+    private DoubleFFT_1D fourStepFFT2;
+
     private Plans plan;
 
-    private static final int[] factors = { 4, 2, 3, 5 };
+    /*
+     * Transform of the same size that computes the real transforms when the
+     * planner measured another algorithm or other thread thresholds for them,
+     * or null.
+     */
+    private DoubleFFT_1D realFFT;
+
+    private int threadsBeginN_2Threads = -1;
+
+    private int threadsBeginN_4Threads = -1;
+
+    private ConcurrencyContext context;
+
+    /*
+     * Number of interleaved sequences that are copied to a panel and
+     * transformed together by the batched and multidimensional transforms.
+     */
+    static final int PANEL_SIZE = 8;
+
+    private static final int[] factors = { 4, 2, 3, 5, 7, 11, 13 };
+
+    /**
+     * Smallest size for which the planner times the four-step algorithm.
+     * Below it the whole transform fits in cache and the other algorithms are
+     * faster.
+     */
+    private static final int FOUR_STEP_MIN = 1 << 16;
+
+    /**
+     * Smallest n (number of double values) for which the bit reversal of the
+     * split-radix algorithm is done by the cache-blocked bitrv2blocked. Below
+     * it the array fits in cache and bitrv2 is faster.
+     */
+    private static final int BITRV_BLOCKED_MIN = 1 << 21;
+
+    /**
+     * Base-2 logarithm of the side of the tiles of bitrv2blocked.
+     */
+    private static final int BITRV_TILE_BITS = 5;
 
     private static final double PI = 3.14159265358979311599796346854418516;
 
     private static final double TWO_PI = 6.28318530717958623199592693708837032;
 
     /**
-     * Creates new instance of DoubleFFT_1D.
+     * Creates new instance of DoubleFFT_1D. The algorithm is chosen by a
+     * heuristic based on the factorization of <code>n</code>, unless a plan
+     * has already been measured for this size (see
+     * {@link #DoubleFFT_1D(int, PlanningEffort)}).
      * 
      * @param n
      *            size of data
      */
     public DoubleFFT_1D(int n) {
+        this(n, PlanningEffort.ESTIMATE, ConcurrencyContext.getDefault());
+    }
+
+    /**
+     * Creates new instance of DoubleFFT_1D that uses the executor and number of
+     * threads of the specified context. The algorithm is chosen as in
+     * {@link #DoubleFFT_1D(int)}.
+     * 
+     * @param n
+     *            size of data
+     * @param context
+     *            executor and number of threads used by this transform
+     */
+    public DoubleFFT_1D(int n, ConcurrencyContext context) {
+        this(n, PlanningEffort.ESTIMATE, context);
+    }
+
+    /**
+     * Creates new instance of DoubleFFT_1D. With
+     * {@link PlanningEffort#MEASURE} or {@link PlanningEffort#EXHAUSTIVE}, the
+     * candidate algorithms (and, for EXHAUSTIVE, the number of threads) are
+     * timed on this machine and the fastest one is used. The complex and the
+     * real transforms are timed separately and may use different algorithms.
+     * The winners are recorded, so that all transforms of the same size
+     * created afterwards use them, whatever planning effort they request.
+     * 
+     * @param n
+     *            size of data
+     * @param effort
+     *            planning effort
+     */
+    public DoubleFFT_1D(int n, PlanningEffort effort) {
+        this(n, effort, ConcurrencyContext.getDefault());
+    }
+
+    /**
+     * Creates new instance of DoubleFFT_1D that uses the executor and number of
+     * threads of the specified context. The algorithm is chosen as in
+     * {@link #DoubleFFT_1D(int, PlanningEffort)}; the plans are measured with
+     * the specified context, and the numbers of threads timed by
+     * {@link PlanningEffort#EXHAUSTIVE} go up to the number of threads of the
+     * context.
+     * 
+     * @param n
+     *            size of data
+     * @param effort
+     *            planning effort
+     * @param context
+     *            executor and number of threads used by this transform
+     */
+    public DoubleFFT_1D(int n, PlanningEffort effort, ConcurrencyContext context) {
         if (n < 1) {
             throw new IllegalArgumentException("n must be greater than 0");
         }
+        if (context == null) {
+            throw new IllegalArgumentException("context cannot be null");
+        }
         this.n = n;
+        this.context = context;
+        Decision decision = getDecision(n, true, effort, context);
+        Decision realDecision = getDecision(n, false, effort, context);
+        if (decision != null) {
+            threadsBeginN_2Threads = decision.threadsBeginN_2Threads;
+            threadsBeginN_4Threads = decision.threadsBeginN_4Threads;
+            init(decision.plan);
+        } else {
+            Plans wisdomPlan = FFTWisdom.getDoublePlan(n);
+            init(wisdomPlan != null ? wisdomPlan : estimatePlan(n));
+        }
+        if ((realDecision != null) && ((realDecision.plan != plan) || (realDecision.threadsBeginN_2Threads != threadsBeginN_2Threads) || (realDecision.threadsBeginN_4Threads != threadsBeginN_4Threads))) {
+            realFFT = new DoubleFFT_1D(n, realDecision.plan, context);
+            realFFT.threadsBeginN_2Threads = realDecision.threadsBeginN_2Threads;
+            realFFT.threadsBeginN_4Threads = realDecision.threadsBeginN_4Threads;
+        }
+    }
 
-        if (!ConcurrencyUtils.isPowerOf2(n)) {
-            if (getReminder(n, factors) >= 211) {
-                plan = Plans.BLUESTEIN;
-                nBluestein = ConcurrencyUtils.nextPow2(n * 2 - 1);
-                bk1 = new double[2 * nBluestein];
-                bk2 = new double[2 * nBluestein];
-                this.ip = new int[2 + (int) Math.ceil(2 + (1 << (int) (Math.log(nBluestein + 0.5) / Math.log(2)) / 2))];
-                this.w = new double[nBluestein];
-                int twon = 2 * nBluestein;
-                nw = ip[0];
-                if (twon > (nw << 2)) {
-                    nw = twon >> 2;
-                    makewt(nw);
+    /**
+     * Creates new instance of DoubleFFT_1D that uses the specified algorithm.
+     * 
+     * @param n
+     *            size of data
+     * @param plan
+     *            algorithm
+     */
+    DoubleFFT_1D(int n, Plans plan) {
+        this(n, plan, ConcurrencyContext.getDefault());
+    }
+
+    DoubleFFT_1D(int n, Plans plan, ConcurrencyContext context) {
+        this.n = n;
+        this.context = context;
+        init(plan);
+    }
+
+    /**
+     * Creates new instance of DoubleFFT_1D that shares the precomputed tables
+     * of the specified transform but uses the specified context.
+     */
+    private DoubleFFT_1D(DoubleFFT_1D fft, ConcurrencyContext context) {
+        this.n = fft.n;
+        this.context = context;
+        threadsBeginN_2Threads = fft.threadsBeginN_2Threads;
+        threadsBeginN_4Threads = fft.threadsBeginN_4Threads;
+        setTables(fft.getTables());
+        realFFT = bind(fft.realFFT);
+    }
+
+    private void init(Plans plan) {
+        this.plan = plan;
+        String key = "DoubleFFT_1D:" + plan + ":" + n;
+        PlanCache cache = PlanCache.getDefault();
+        Tables tables = (Tables) cache.get(key);
+        if (tables == null) {
+            if (plan == FFTWisdom.getDoublePlan(n)) {
+                tables = FFTWisdom.getDoubleTables(n);
+            }
+            if (tables == null) {
+                makeTables();
+                tables = getTables();
+            }
+            tables = (Tables) cache.put(key, tables, tables.sizeInBytes());
+        }
+        setTables(tables);
+    }
+
+    /**
+     * Returns the algorithm chosen by the default heuristic.
+     */
+    private static Plans estimatePlan(int n) {
+        if (DoubleFFTCodelets.isSupported(n)) {
+            return Plans.CODELET;
+        } else if (ConcurrencyUtils.isPowerOf2(n)) {
+            return Plans.SPLIT_RADIX;
+        } else if (getReminder(n, factors) >= 211) {
+            if (isPrime(n) && getReminder(n - 1, factors) < 211) {
+                return Plans.RADER;
+            }
+            return Plans.BLUESTEIN;
+        } else {
+            return Plans.MIXED_RADIX;
+        }
+    }
+
+    /**
+     * Returns the length of the cyclic convolution computed by Bluestein's
+     * algorithm. This is the smallest power-of-two number greater than or
+     * equal to 2*n-1, unless the smallest 2^a*3^b*5^c number greater than or
+     * equal to 2*n-1 is at least 25% shorter. In that case the shorter
+     * convolution computed with the mixed-radix algorithm is faster.
+     */
+    static int getBluesteinLength(int n) {
+        int pow2 = ConcurrencyUtils.nextPow2(n * 2 - 1);
+        int smooth = ConcurrencyUtils.nextSmoothNumber(n * 2 - 1);
+        if (4L * smooth <= 3L * pow2) {
+            return smooth;
+        }
+        return pow2;
+    }
+
+    /**
+     * Returns the algorithms that are timed for the specified planning effort.
+     */
+    static Plans[] getCandidatePlans(int n, PlanningEffort effort) {
+        ArrayList<Plans> plans = new ArrayList<Plans>();
+        if (DoubleFFTCodelets.isSupported(n)) {
+            plans.add(Plans.CODELET);
+        }
+        if (ConcurrencyUtils.isPowerOf2(n)) {
+            plans.add(Plans.SPLIT_RADIX);
+            plans.add(Plans.MIXED_RADIX);
+            if (effort == PlanningEffort.EXHAUSTIVE) {
+                plans.add(Plans.BLUESTEIN);
+            }
+        } else {
+            plans.add(Plans.MIXED_RADIX);
+            plans.add(Plans.BLUESTEIN);
+            if (n > 2 && isPrime(n)) {
+                plans.add(Plans.RADER);
+            }
+            if (getPrimeFactorSplit(n) > 1) {
+                plans.add(Plans.PRIME_FACTOR);
+            }
+        }
+        if ((n >= FOUR_STEP_MIN) && (getFourStepSplit(n) > 1)) {
+            plans.add(Plans.FOUR_STEP);
+        }
+        return plans.toArray(new Plans[plans.size()]);
+    }
+
+    /**
+     * Returns the decision recorded for the specified size and kind of
+     * transform, after timing the candidates if the recorded decision was made
+     * with a lower effort. Returns null if the size has not been measured and
+     * the effort is {@link PlanningEffort#ESTIMATE}.
+     */
+    private static Decision getDecision(int n, boolean complex, PlanningEffort effort, ConcurrencyContext context) {
+        Decision decision;
+        synchronized (decisions) {
+            decision = decisions.get(getDecisionKey(n, complex));
+        }
+        if ((n > 1) && (effort != PlanningEffort.ESTIMATE) && (decision == null || decision.effort.compareTo(effort) < 0)) {
+            decision = measure(n, complex, effort, context);
+        }
+        return decision;
+    }
+
+    private static String getDecisionKey(int n, boolean complex) {
+        return (complex ? "complex:" : "real:") + n;
+    }
+
+    /**
+     * Returns the thread thresholds timed by the exhaustive planner for the
+     * specified number of threads: one task, two tasks and, above, four tasks,
+     * every power of two and the number of threads itself. Above the
+     * four-thread threshold t, data of length n is split into up to 4*n/t
+     * tasks (see {@link #getNumberOfTasks(int)}); no task is given less than
+     * 128 elements.
+     */
+    static int[][] getCandidateThresholds(int n, int nthreads) {
+        ArrayList<int[]> thresholds = new ArrayList<int[]>();
+        thresholds.add(new int[] { Integer.MAX_VALUE, Integer.MAX_VALUE });
+        if ((nthreads > 1) && (n > 512)) {
+            thresholds.add(new int[] { 512, Integer.MAX_VALUE });
+            int k = 4;
+            while (k <= nthreads) {
+                int t = (int) Math.min(n - 1, 4L * n / k);
+                if (t < 512) {
+                    break;
                 }
-                nc = ip[1];
-                if (nBluestein > (nc << 2)) {
-                    nc = nBluestein >> 2;
-                    makect(nc, w, nw);
+                thresholds.add(new int[] { 512, t });
+                if (k == nthreads) {
+                    break;
                 }
-                bluesteini();
-            } else {
-                plan = Plans.MIXED_RADIX;
-                wtable = new double[4 * n + 15];
-                wtable_r = new double[2 * n + 15];
-                cffti();
-                rffti();
+                k = Math.min(2 * k, nthreads);
             }
-        } else {
-            plan = Plans.SPLIT_RADIX;
+        }
+        return thresholds.toArray(new int[thresholds.size()][]);
+    }
+
+    /**
+     * Times the candidate algorithms for the complex or the real transforms
+     * and records the fastest one.
+     */
+    private static Decision measure(int n, boolean complex, PlanningEffort effort, ConcurrencyContext context) {
+        int rounds = (effort == PlanningEffort.EXHAUSTIVE) ? 16 : 6;
+        double[] data = new double[2 * n];
+        Random r = new Random(2 * n + 1);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = r.nextDouble();
+        }
+        double[] a = new double[2 * n];
+        Plans[] candidates = getCandidatePlans(n, effort);
+        DoubleFFT_1D best = null;
+        long bestTime = Long.MAX_VALUE;
+        for (int i = 0; i < candidates.length; i++) {
+            DoubleFFT_1D fft = new DoubleFFT_1D(n, candidates[i], context);
+            long time = time(fft, data, a, rounds, complex);
+            if (time < bestTime) {
+                bestTime = time;
+                best = fft;
+            }
+        }
+        int[][] thresholds = getCandidateThresholds(n, context.getNumberOfThreads());
+        if ((effort == PlanningEffort.EXHAUSTIVE) && (thresholds.length > 1)) {
+            bestTime = Long.MAX_VALUE;
+            int[] bestThresholds = null;
+            for (int i = 0; i < thresholds.length; i++) {
+                best.threadsBeginN_2Threads = thresholds[i][0];
+                best.threadsBeginN_4Threads = thresholds[i][1];
+                long time = time(best, data, a, rounds, complex);
+                if (time < bestTime) {
+                    bestTime = time;
+                    bestThresholds = thresholds[i];
+                }
+            }
+            best.threadsBeginN_2Threads = bestThresholds[0];
+            best.threadsBeginN_4Threads = bestThresholds[1];
+        }
+        Decision decision = new Decision(best.plan, effort, best.threadsBeginN_2Threads, best.threadsBeginN_4Threads);
+        synchronized (decisions) {
+            decisions.put(getDecisionKey(n, complex), decision);
+        }
+        return decision;
+    }
+
+    /**
+     * Returns the shortest time (in nanoseconds) of a forward complex or a
+     * forward real transform. The number of repetitions is doubled until a
+     * round takes at least one millisecond.
+     */
+    private static long time(DoubleFFT_1D fft, double[] data, double[] a, int rounds, boolean complex) {
+        int n = fft.n;
+        long best = Long.MAX_VALUE;
+        int iterations = 1;
+        for (int r = 0; r < rounds; r++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                if (complex) {
+                    System.arraycopy(data, 0, a, 0, 2 * n);
+                    fft.complexForward(a);
+                } else {
+                    System.arraycopy(data, 0, a, 0, n);
+                    fft.realForward(a);
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            best = Math.min(best, elapsed / iterations);
+            if (elapsed < 1000000) {
+                iterations *= 2;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the algorithm recorded by the planner for the specified size and
+     * kind of transform, or null if they have not been measured.
+     */
+    static Plans getMeasuredPlan(int n, boolean complex) {
+        synchronized (decisions) {
+            Decision decision = decisions.get(getDecisionKey(n, complex));
+            return decision == null ? null : decision.plan;
+        }
+    }
+
+    /**
+     * Forgets all algorithms recorded by the planner.
+     */
+    static void forgetMeasuredPlans() {
+        synchronized (decisions) {
+            decisions.clear();
+        }
+    }
+
+    /**
+     * Returns the precomputed tables of this transform.
+     * 
+     * @return the precomputed tables of this transform
+     */
+    Tables getTables() {
+        return new Tables(plan, nBluestein, ip, w, nw, nc, wtable, wtable_r, bk1, bk2, bluesteinFFT, raderPerm, raderB, raderFFT, pfaIn, pfaOut, pfaFFT1, pfaFFT2, fourStepW, fourStepFFT1, fourStepFFT2, bitrvRev);
+    }
+
+    private void setTables(Tables tables) {
+        plan = tables.plan;
+        nBluestein = tables.nBluestein;
+        ip = tables.ip;
+        w = tables.w;
+        nw = tables.nw;
+        nc = tables.nc;
+        wtable = tables.wtable;
+        wtable_r = tables.wtable_r;
+        bk1 = tables.bk1;
+        bk2 = tables.bk2;
+        bluesteinFFT = bind(tables.bluesteinFFT);
+        raderPerm = tables.raderPerm;
+        raderB = tables.raderB;
+        raderFFT = bind(tables.raderFFT);
+        pfaIn = tables.pfaIn;
+        pfaOut = tables.pfaOut;
+        pfaFFT1 = bind(tables.pfaFFT1);
+        pfaFFT2 = bind(tables.pfaFFT2);
+        fourStepW = tables.fourStepW;
+        fourStepFFT1 = bind(tables.fourStepFFT1);
+        fourStepFFT2 = bind(tables.fourStepFFT2);
+        bitrvRev = tables.bitrvRev;
+    }
+
+    /**
+     * Returns the specified sub-transform, or a copy of it that uses the
+     * context of this transform. The cached tables are shared by all contexts,
+     * so the sub-transforms they hold may have been created with another one.
+     */
+    private DoubleFFT_1D bind(DoubleFFT_1D fft) {
+        if ((fft == null) || (fft.context == context)) {
+            return fft;
+        }
+        return new DoubleFFT_1D(fft, context);
+    }
+
+    private void makeTables() {
+        switch (plan) {
+        case SPLIT_RADIX:
             this.ip = new int[2 + (int) Math.ceil(2 + (1 << (int) (Math.log(n + 0.5) / Math.log(2)) / 2))];
             this.w = new double[n];
             int twon = 2 * n;
@@ -139,7 +727,164 @@ public class DoubleFFT_1D {
                 nc = n >> 2;
                 makect(nc, w, nw);
             }
+            bitrvRev = makeBitrvRev(twon);
+            break;
+        case MIXED_RADIX:
+            wtable = new double[4 * n + 15];
+            wtable_r = new double[2 * n + 15];
+            cffti();
+            rffti();
+            break;
+        case BLUESTEIN:
+            nBluestein = getBluesteinLength(n);
+            bk1 = new double[2 * nBluestein];
+            bk2 = new double[2 * nBluestein];
+            if (ConcurrencyUtils.isPowerOf2(nBluestein)) {
+                this.ip = new int[2 + (int) Math.ceil(2 + (1 << (int) (Math.log(nBluestein + 0.5) / Math.log(2)) / 2))];
+                this.w = new double[nBluestein];
+                twon = 2 * nBluestein;
+                nw = ip[0];
+                if (twon > (nw << 2)) {
+                    nw = twon >> 2;
+                    makewt(nw);
+                }
+                nc = ip[1];
+                if (nBluestein > (nc << 2)) {
+                    nc = nBluestein >> 2;
+                    makect(nc, w, nw);
+                }
+                bitrvRev = makeBitrvRev(twon);
+            } else {
+                bluesteinFFT = new DoubleFFT_1D(nBluestein, Plans.MIXED_RADIX, context);
+            }
+            bluesteini();
+            break;
+        case RADER:
+            raderi();
+            break;
+        case PRIME_FACTOR:
+            pfai();
+            break;
+        case FOUR_STEP:
+            fourstepi();
+            break;
+        case CODELET:
+            break;
+        }
+    }
+
+    /**
+     * Creates scratch arrays for this transform. The workspace can be passed
+     * to the methods that take one, so that steady-state calls do not
+     * allocate memory.
+     * 
+     * @return new workspace
+     */
+    public Workspace createWorkspace() {
+        Workspace ws = createPlanWorkspace();
+        if (realFFT != null) {
+            ws = new Workspace(ws.plan, ws.n, ws.ak, ws.b, ws.t, ws.tiles, ws.sub1, ws.sub2, realFFT.createWorkspace());
+        }
+        return ws;
+    }
+
+    private Workspace createPlanWorkspace() {
+        switch (plan) {
+        case MIXED_RADIX:
+            return new Workspace(plan, n, new double[2 * n], null, null, null, null);
+        case BLUESTEIN:
+            if (bluesteinFFT == null) {
+                return new Workspace(plan, n, new double[2 * nBluestein], null, null, createTiles(2 * nBluestein), null, null, null);
+            }
+            return new Workspace(plan, n, new double[2 * nBluestein], null, null, bluesteinFFT.createWorkspace(), null);
+        case RADER:
+            return new Workspace(plan, n, new double[2 * (n - 1)], new double[2 * n], null, raderFFT.createWorkspace(), null);
+        case PRIME_FACTOR:
+            return new Workspace(plan, n, new double[2 * n], new double[2 * n], new double[2 * pfaFFT2.n], pfaFFT1.createWorkspace(), pfaFFT2.createWorkspace());
+        case FOUR_STEP:
+            return new Workspace(plan, n, new double[2 * n], new double[2 * n], new double[PANEL_SIZE * 2 * fourStepFFT2.n], fourStepFFT1.createWorkspace(), fourStepFFT2.createWorkspace());
+        case CODELET:
+            return new Workspace(plan, n, null, new double[2 * n], null, null, null);
+        default:
+            return new Workspace(plan, n, null, null, null, createTiles(2 * n), null, null, null);
+        }
+    }
+
+    /**
+     * Returns the number of double values allocated by
+     * {@link #createWorkspace()}.
+     * 
+     * @return size of the workspace
+     */
+    public long getWorkspaceSize() {
+        return getPlanWorkspaceSize() + ((realFFT != null) ? realFFT.getWorkspaceSize() : 0);
+    }
+
+    private long getPlanWorkspaceSize() {
+        switch (plan) {
+        case MIXED_RADIX:
+            return 2L * n;
+        case BLUESTEIN:
+            return 2L * nBluestein + ((bluesteinFFT != null) ? bluesteinFFT.getWorkspaceSize() : getTilesSize(2 * nBluestein));
+        case RADER:
+            return 2L * (n - 1) + 2L * n + raderFFT.getWorkspaceSize();
+        case PRIME_FACTOR:
+            return 4L * n + 2L * pfaFFT2.n + pfaFFT1.getWorkspaceSize() + pfaFFT2.getWorkspaceSize();
+        case FOUR_STEP:
+            return 4L * n + 2L * PANEL_SIZE * fourStepFFT2.n + fourStepFFT1.getWorkspaceSize() + fourStepFFT2.getWorkspaceSize();
+        case CODELET:
+            return 2L * n;
+        default:
+            return getTilesSize(2 * n);
+        }
+    }
+
+    /*
+     * Returns the tile buffers of bitrv2blocked for a split-radix transform of
+     * length n (number of double values), one pair for each thread of the
+     * context, or null if the transform does not use them.
+     */
+    private double[][] createTiles(int n) {
+        if (n < BITRV_BLOCKED_MIN) {
+            return null;
+        }
+        int side = 1 << BITRV_TILE_BITS;
+        return new double[2 * context.getNumberOfThreads()][2 * side * side];
+    }
+
+    private long getTilesSize(int n) {
+        if (n < BITRV_BLOCKED_MIN) {
+            return 0;
+        }
+        int side = 1 << BITRV_TILE_BITS;
+        return 2L * context.getNumberOfThreads() * 2 * side * side;
+    }
+
+    /*
+     * Returns the workspace of a call: the one given by the caller or, if none
+     * was given, new scratch arrays. The split-radix plan needs none (without
+     * them bitrv2blocked allocates its own tiles), and the codelets need them
+     * only for the full real transforms.
+     */
+    private Workspace workspace(Workspace ws, boolean full) {
+        if (ws == null) {
+            if ((plan == Plans.SPLIT_RADIX) || (plan == Plans.CODELET && !full)) {
+                return null;
+            }
+            return createWorkspace();
+        }
+        if ((ws.n != n) || (ws.plan != plan)) {
+            throw new IllegalArgumentException("workspace was created by a transform of different size or algorithm");
         }
+        return ws;
+    }
+
+    /*
+     * Returns the workspace of the transform that computes the real
+     * transforms in place of this one.
+     */
+    private Workspace realWorkspace(Workspace ws) {
+        return (ws == null) ? null : workspace(ws, false).real;
     }
 
     /**
@@ -161,6 +906,33 @@ public class DoubleFFT_1D {
         complexForward(a, 0);
     }
 
+    /**
+     * Computes 1D forward DFT of complex data leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #complexForward(double[])}; the position is not changed. Heap
+     * buffers are transformed in their backing array. Large buffers without
+     * an accessible backing array (e.g. direct buffers) are transformed in
+     * place in blocks when n is divisible by the square of a large enough
+     * factor, otherwise they are copied to a temporary array and back.
+     * 
+     * @param a
+     *            data to transform
+     */
+    public void complexForward(DoubleBuffer a) {
+        int offa = BufferUtils.getArrayOffset(a, 2L * n);
+        if (offa >= 0) {
+            complexForward(a.array(), offa);
+            return;
+        }
+        if (DoubleBufferFFT_1D.isSupported(n)) {
+            new DoubleBufferFFT_1D(n, context).complexForward(a);
+            return;
+        }
+        double[] array = BufferUtils.getArray(a, 2L * n);
+        complexForward(array);
+        BufferUtils.putArray(a, array, 2L * n);
+    }
+
     /**
      * Computes 1D forward DFT of complex data leaving the result in
      * <code>a</code>. Complex number is stored as two double values in
@@ -179,17 +951,56 @@ public class DoubleFFT_1D {
      *            index of the first element in array <code>a</code>
      */
     public void complexForward(double[] a, int offa) {
+        complexForward(a, offa, null);
+    }
+
+    /**
+     * Computes 1D forward DFT of complex data leaving the result in
+     * <code>a</code>. Complex number is stored as two double values in
+     * sequence: the real and imaginary part, i.e. the size of the input array
+     * must be greater or equal 2*n. The physical layout of the input data has
+     * to be as follows:<br>
+     * 
+     * <pre>
+     * a[offa+2*k] = Re[k], 
+     * a[offa+2*k+1] = Im[k], 0&lt;=k&lt;n
+     * </pre>
+     * 
+     * The scratch arrays are taken from <code>ws</code>, or allocated by this
+     * call if <code>ws</code> is null.
+     * 
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element in array <code>a</code>
+     * @param ws
+     *            workspace created by {@link #createWorkspace()}, or null
+     */
+    public void complexForward(double[] a, int offa, Workspace ws) {
+        ws = workspace(ws, false);
         if (n == 1)
             return;
         switch (plan) {
         case SPLIT_RADIX:
-            cftbsub(2 * n, a, offa, ip, nw, w);
+            cftbsub(2 * n, a, offa, ip, nw, w, ws);
             break;
         case MIXED_RADIX:
-            cfftf(a, offa, -1);
+            cfftf(a, offa, -1, ws);
             break;
         case BLUESTEIN:
-            bluestein_complex(a, offa, -1);
+            bluestein_complex(a, offa, -1, ws);
+            break;
+        case RADER:
+            rader_complex(a, offa, -1, ws);
+            break;
+        case PRIME_FACTOR:
+            pfa_complex(a, offa, -1, ws);
+            break;
+        case FOUR_STEP:
+            fourstep_complex(a, offa, -1, ws);
+            break;
+        case CODELET:
+            DoubleFFTCodelets.complexForward(n, a, offa);
             break;
         }
     }
@@ -215,6 +1026,58 @@ public class DoubleFFT_1D {
         complexInverse(a, 0, scale);
     }
 
+    /**
+     * Computes 1D inverse DFT of complex data leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #complexInverse(double[], boolean)}; the position is not changed. Heap
+     * buffers are transformed in their backing array. Large buffers without
+     * an accessible backing array (e.g. direct buffers) are transformed in
+     * place in blocks when n is divisible by the square of a large enough
+     * factor, otherwise they are copied to a temporary array and back.
+     * 
+     * @param a
+     *            data to transform
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void complexInverse(DoubleBuffer a, boolean scale) {
+        int offa = BufferUtils.getArrayOffset(a, 2L * n);
+        if (offa >= 0) {
+            complexInverse(a.array(), offa, scale);
+            return;
+        }
+        if (DoubleBufferFFT_1D.isSupported(n)) {
+            new DoubleBufferFFT_1D(n, context).complexInverse(a, scale);
+            return;
+        }
+        double[] array = BufferUtils.getArray(a, 2L * n);
+        complexInverse(array, scale);
+        BufferUtils.putArray(a, array, 2L * n);
+    }
+
+    /**
+     * Computes 1D inverse DFT of complex data leaving the result in
+     * <code>a</code>. Complex number is stored as two double values in
+     * sequence: the real and imaginary part, i.e. the size of the input array
+     * must be greater or equal 2*n. The physical layout of the input data has
+     * to be as follows:<br>
+     * 
+     * <pre>
+     * a[offa+2*k] = Re[k], 
+     * a[offa+2*k+1] = Im[k], 0&lt;=k&lt;n
+     * </pre>
+     * 
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element in array <code>a</code>
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void complexInverse(double[] a, int offa, boolean scale) {
+        complexInverse(a, offa, scale, null);
+    }
+
     /**
      * Computes 1D inverse DFT of complex data leaving the result in
      * <code>a</code>. Complex number is stored as two double values in
@@ -227,30 +1090,101 @@ public class DoubleFFT_1D {
      * a[offa+2*k+1] = Im[k], 0&lt;=k&lt;n
      * </pre>
      * 
+     * The scratch arrays are taken from <code>ws</code>, or allocated by this
+     * call if <code>ws</code> is null.
+     * 
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element in array <code>a</code>
+     * @param scale
+     *            if true then scaling is performed
+     * @param ws
+     *            workspace created by {@link #createWorkspace()}, or null
+     */
+    public void complexInverse(double[] a, int offa, boolean scale, Workspace ws) {
+        ws = workspace(ws, false);
+        if (n == 1)
+            return;
+        switch (plan) {
+        case SPLIT_RADIX:
+            cftfsub(2 * n, a, offa, ip, nw, w, ws);
+            break;
+        case MIXED_RADIX:
+            cfftf(a, offa, +1, ws);
+            break;
+        case BLUESTEIN:
+            bluestein_complex(a, offa, 1, ws);
+            break;
+        case RADER:
+            rader_complex(a, offa, 1, ws);
+            break;
+        case PRIME_FACTOR:
+            pfa_complex(a, offa, 1, ws);
+            break;
+        case FOUR_STEP:
+            fourstep_complex(a, offa, 1, ws);
+            break;
+        case CODELET:
+            DoubleFFTCodelets.complexInverse(n, a, offa);
+            break;
+        }
+        if (scale) {
+            scale(n, a, offa, true);
+        }
+    }
+
+    /**
+     * Computes 1D forward DFT of real data leaving the result in <code>a</code>
+     * . The physical layout of the output data is as follows:<br>
+     * 
+     * if n is even then
+     * 
+     * <pre>
+     * a[2*k] = Re[k], 0&lt;=k&lt;n/2
+     * a[2*k+1] = Im[k], 0&lt;k&lt;n/2
+     * a[1] = Re[n/2]
+     * </pre>
+     * 
+     * if n is odd then
+     * 
+     * <pre>
+     * a[2*k] = Re[k], 0&lt;=k&lt;(n+1)/2
+     * a[2*k+1] = Im[k], 0&lt;k&lt;(n-1)/2
+     * a[1] = Im[(n-1)/2]
+     * </pre>
+     * 
+     * This method computes only half of the elements of the real transform. The
+     * other half satisfies the symmetry condition. If you want the full real
+     * forward transform, use <code>realForwardFull</code>. To get back the
+     * original data, use <code>realInverse</code> on the output of this method.
+     * 
+     * @param a
+     *            data to transform
+     */
+    public void realForward(double[] a) {
+        realForward(a, 0);
+    }
+
+    /**
+     * Computes 1D forward DFT of real data leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #realForward(double[])}; the position is not changed.
+     * Heap buffers are transformed in their backing array, other buffers are
+     * copied to a temporary array and back.
+     * 
      * @param a
      *            data to transform
-     * @param offa
-     *            index of the first element in array <code>a</code>
-     * @param scale
-     *            if true then scaling is performed
      */
-    public void complexInverse(double[] a, int offa, boolean scale) {
-        if (n == 1)
+    public void realForward(DoubleBuffer a) {
+        int offa = BufferUtils.getArrayOffset(a, n);
+        if (offa >= 0) {
+            realForward(a.array(), offa);
             return;
-        switch (plan) {
-        case SPLIT_RADIX:
-            cftfsub(2 * n, a, offa, ip, nw, w);
-            break;
-        case MIXED_RADIX:
-            cfftf(a, offa, +1);
-            break;
-        case BLUESTEIN:
-            bluestein_complex(a, offa, 1);
-            break;
-        }
-        if (scale) {
-            scale(n, a, offa, true);
         }
+        double[] array = BufferUtils.getArray(a, n);
+        realForward(array);
+        BufferUtils.putArray(a, array, n);
     }
 
     /**
@@ -260,17 +1194,17 @@ public class DoubleFFT_1D {
      * if n is even then
      * 
      * <pre>
-     * a[2*k] = Re[k], 0&lt;=k&lt;n/2
-     * a[2*k+1] = Im[k], 0&lt;k&lt;n/2
-     * a[1] = Re[n/2]
+     * a[offa+2*k] = Re[k], 0&lt;=k&lt;n/2
+     * a[offa+2*k+1] = Im[k], 0&lt;k&lt;n/2
+     * a[offa+1] = Re[n/2]
      * </pre>
      * 
      * if n is odd then
      * 
      * <pre>
-     * a[2*k] = Re[k], 0&lt;=k&lt;(n+1)/2
-     * a[2*k+1] = Im[k], 0&lt;k&lt;(n-1)/2
-     * a[1] = Im[(n-1)/2]
+     * a[offa+2*k] = Re[k], 0&lt;=k&lt;(n+1)/2
+     * a[offa+2*k+1] = Im[k], 0&lt;k&lt;(n-1)/2
+     * a[offa+1] = Im[(n-1)/2]
      * </pre>
      * 
      * This method computes only half of the elements of the real transform. The
@@ -280,9 +1214,11 @@ public class DoubleFFT_1D {
      * 
      * @param a
      *            data to transform
+     * @param offa
+     *            index of the first element in array <code>a</code>
      */
-    public void realForward(double[] a) {
-        realForward(a, 0);
+    public void realForward(double[] a, int offa) {
+        realForward(a, offa, null);
     }
 
     /**
@@ -310,12 +1246,22 @@ public class DoubleFFT_1D {
      * forward transform, use <code>realForwardFull</code>. To get back the
      * original data, use <code>realInverse</code> on the output of this method.
      * 
+     * The scratch arrays are taken from <code>ws</code>, or allocated by this
+     * call if <code>ws</code> is null.
+     * 
      * @param a
      *            data to transform
      * @param offa
      *            index of the first element in array <code>a</code>
+     * @param ws
+     *            workspace created by {@link #createWorkspace()}, or null
      */
-    public void realForward(double[] a, int offa) {
+    public void realForward(double[] a, int offa, Workspace ws) {
+        if (realFFT != null) {
+            realFFT.realForward(a, offa, realWorkspace(ws));
+            return;
+        }
+        ws = workspace(ws, false);
         if (n == 1)
             return;
 
@@ -324,7 +1270,7 @@ public class DoubleFFT_1D {
             double xi;
 
             if (n > 4) {
-                cftfsub(n, a, offa, ip, nw, w);
+                cftfsub(n, a, offa, ip, nw, w, ws);
                 rftfsub(n, a, offa, nc, w, nw);
             } else if (n == 4) {
                 cftx020(a, offa);
@@ -334,7 +1280,7 @@ public class DoubleFFT_1D {
             a[offa + 1] = xi;
             break;
         case MIXED_RADIX:
-            rfftf(a, offa);
+            rfftf(a, offa, ws);
             for (int k = n - 1; k >= 2; k--) {
                 int idx = offa + k;
                 double tmp = a[idx];
@@ -343,7 +1289,15 @@ public class DoubleFFT_1D {
             }
             break;
         case BLUESTEIN:
-            bluestein_real_forward(a, offa);
+            bluestein_real_forward(a, offa, ws);
+            break;
+        case RADER:
+        case PRIME_FACTOR:
+        case FOUR_STEP:
+            real_forward_complex(a, offa, ws);
+            break;
+        case CODELET:
+            DoubleFFTCodelets.realForward(n, a, offa);
             break;
         }
     }
@@ -364,6 +1318,27 @@ public class DoubleFFT_1D {
         realForwardFull(a, 0);
     }
 
+    /**
+     * Computes 1D forward DFT of real data leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #realForwardFull(double[])}; the position is not changed.
+     * Heap buffers are transformed in their backing array, other buffers are
+     * copied to a temporary array and back.
+     * 
+     * @param a
+     *            data to transform
+     */
+    public void realForwardFull(DoubleBuffer a) {
+        int offa = BufferUtils.getArrayOffset(a, 2L * n);
+        if (offa >= 0) {
+            realForwardFull(a.array(), offa);
+            return;
+        }
+        double[] array = BufferUtils.getArray(a, 2L * n);
+        realForwardFull(array);
+        BufferUtils.putArray(a, array, 2L * n);
+    }
+
     /**
      * Computes 1D forward DFT of real data leaving the result in <code>a</code>
      * . This method computes the full real forward transform, i.e. you will get
@@ -379,19 +1354,47 @@ public class DoubleFFT_1D {
      *            index of the first element in array <code>a</code>
      */
     public void realForwardFull(final double[] a, final int offa) {
+        realForwardFull(a, offa, null);
+    }
+
+    /**
+     * Computes 1D forward DFT of real data leaving the result in <code>a</code>
+     * . This method computes the full real forward transform, i.e. you will get
+     * the same result as from <code>complexForward</code> called with all
+     * imaginary part equal 0. Because the result is stored in <code>a</code>,
+     * the size of the input array must greater or equal 2*n, with only the
+     * first n elements filled with real data. To get back the original data,
+     * use <code>complexInverse</code> on the output of this method.
+     * 
+     * The scratch arrays are taken from <code>ws</code>, or allocated by this
+     * call if <code>ws</code> is null.
+     * 
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element in array <code>a</code>
+     * @param ws
+     *            workspace created by {@link #createWorkspace()}, or null
+     */
+    public void realForwardFull(final double[] a, final int offa, Workspace ws) {
+        if (realFFT != null) {
+            realFFT.realForwardFull(a, offa, realWorkspace(ws));
+            return;
+        }
+        ws = workspace(ws, true);
 
         final int twon = 2 * n;
         switch (plan) {
         case SPLIT_RADIX:
-            realForward(a, offa);
-            int nthreads = ConcurrencyUtils.getNumberOfThreads();
-            if ((nthreads > 1) && (n / 2 > ConcurrencyUtils.getThreadsBeginN_1D_FFT_2Threads())) {
+            realForward(a, offa, ws);
+            int nthreads = context.getNumberOfThreads();
+            if ((nthreads > 1) && (n / 2 > getThreadsBeginN_2Threads())) {
                 Future<?>[] futures = new Future[nthreads];
                 int k = n / 2 / nthreads;
                 for (int i = 0; i < nthreads; i++) {
                     final int firstIdx = i * k;
                     final int lastIdx = (i == (nthreads - 1)) ? n / 2 : firstIdx + k;
-                    futures[i] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[i] = context.submit(new Runnable() {
                         public void run() {
                             int idx1, idx2;
                             for (int k = firstIdx; k < lastIdx; k++) {
@@ -417,7 +1420,7 @@ public class DoubleFFT_1D {
             a[offa + 1] = 0;
             break;
         case MIXED_RADIX:
-            rfftf(a, offa);
+            rfftf(a, offa, ws);
             int m;
             if (n % 2 == 0) {
                 m = n / 2;
@@ -439,7 +1442,13 @@ public class DoubleFFT_1D {
             a[offa + 1] = 0;
             break;
         case BLUESTEIN:
-            bluestein_real_full(a, offa, -1);
+            bluestein_real_full(a, offa, -1, ws);
+            break;
+        case RADER:
+        case PRIME_FACTOR:
+        case FOUR_STEP:
+        case CODELET:
+            real_full_complex(a, offa, -1, ws);
             break;
         }
     }
@@ -479,6 +1488,29 @@ public class DoubleFFT_1D {
         realInverse(a, 0, scale);
     }
 
+    /**
+     * Computes 1D inverse DFT of real data leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #realInverse(double[], boolean)}; the position is not changed.
+     * Heap buffers are transformed in their backing array, other buffers are
+     * copied to a temporary array and back.
+     * 
+     * @param a
+     *            data to transform
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void realInverse(DoubleBuffer a, boolean scale) {
+        int offa = BufferUtils.getArrayOffset(a, n);
+        if (offa >= 0) {
+            realInverse(a.array(), offa, scale);
+            return;
+        }
+        double[] array = BufferUtils.getArray(a, n);
+        realInverse(array, scale);
+        BufferUtils.putArray(a, array, n);
+    }
+
     /**
      * Computes 1D inverse DFT of real data leaving the result in <code>a</code>
      * . The physical layout of the input data has to be as follows:<br>
@@ -512,6 +1544,52 @@ public class DoubleFFT_1D {
      * 
      */
     public void realInverse(double[] a, int offa, boolean scale) {
+        realInverse(a, offa, scale, null);
+    }
+
+    /**
+     * Computes 1D inverse DFT of real data leaving the result in <code>a</code>
+     * . The physical layout of the input data has to be as follows:<br>
+     * 
+     * if n is even then
+     * 
+     * <pre>
+     * a[offa+2*k] = Re[k], 0&lt;=k&lt;n/2
+     * a[offa+2*k+1] = Im[k], 0&lt;k&lt;n/2
+     * a[offa+1] = Re[n/2]
+     * </pre>
+     * 
+     * if n is odd then
+     * 
+     * <pre>
+     * a[offa+2*k] = Re[k], 0&lt;=k&lt;(n+1)/2
+     * a[offa+2*k+1] = Im[k], 0&lt;k&lt;(n-1)/2
+     * a[offa+1] = Im[(n-1)/2]
+     * </pre>
+     * 
+     * This method computes only half of the elements of the real transform. The
+     * other half satisfies the symmetry condition. If you want the full real
+     * inverse transform, use <code>realInverseFull</code>.
+     * 
+     * The scratch arrays are taken from <code>ws</code>, or allocated by this
+     * call if <code>ws</code> is null.
+     * 
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element in array <code>a</code>
+     * @param scale
+     *            if true then scaling is performed
+     * 
+     * @param ws
+     *            workspace created by {@link #createWorkspace()}, or null
+     */
+    public void realInverse(double[] a, int offa, boolean scale, Workspace ws) {
+        if (realFFT != null) {
+            realFFT.realInverse(a, offa, scale, realWorkspace(ws));
+            return;
+        }
+        ws = workspace(ws, false);
         if (n == 1)
             return;
         switch (plan) {
@@ -520,7 +1598,7 @@ public class DoubleFFT_1D {
             a[offa] -= a[offa + 1];
             if (n > 4) {
                 rftfsub(n, a, offa, nc, w, nw);
-                cftbsub(n, a, offa, ip, nw, w);
+                cftbsub(n, a, offa, ip, nw, w, ws);
             } else if (n == 4) {
                 cftxc020(a, offa);
             }
@@ -535,19 +1613,36 @@ public class DoubleFFT_1D {
                 a[idx - 1] = a[idx];
                 a[idx] = tmp;
             }
-            rfftb(a, offa);
+            rfftb(a, offa, ws);
             if (scale) {
                 scale(n, a, offa, false);
             }
             break;
         case BLUESTEIN:
-            bluestein_real_inverse(a, offa);
+            bluestein_real_inverse(a, offa, ws);
+            if (scale) {
+                scale(n, a, offa, false);
+            }
+            break;
+        case RADER:
+        case PRIME_FACTOR:
+        case FOUR_STEP:
+            real_inverse_complex(a, offa, ws);
+            if (scale) {
+                scale(n, a, offa, false);
+            }
+            break;
+        case CODELET:
+            DoubleFFTCodelets.realInverse(n, a, offa);
             if (scale) {
                 scale(n, a, offa, false);
             }
             break;
         }
-
+        if (!scale && (plan != Plans.SPLIT_RADIX) && ConcurrencyUtils.isPowerOf2(n)) {
+            // same result as the split-radix algorithm
+            scale(2, a, offa, false);
+        }
     }
 
     /**
@@ -567,6 +1662,29 @@ public class DoubleFFT_1D {
         realInverseFull(a, 0, scale);
     }
 
+    /**
+     * Computes 1D inverse DFT of real data leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #realInverseFull(double[], boolean)}; the position is not changed.
+     * Heap buffers are transformed in their backing array, other buffers are
+     * copied to a temporary array and back.
+     * 
+     * @param a
+     *            data to transform
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void realInverseFull(DoubleBuffer a, boolean scale) {
+        int offa = BufferUtils.getArrayOffset(a, 2L * n);
+        if (offa >= 0) {
+            realInverseFull(a.array(), offa, scale);
+            return;
+        }
+        double[] array = BufferUtils.getArray(a, 2L * n);
+        realInverseFull(array, scale);
+        BufferUtils.putArray(a, array, 2L * n);
+    }
+
     /**
      * Computes 1D inverse DFT of real data leaving the result in <code>a</code>
      * . This method computes the full real inverse transform, i.e. you will get
@@ -583,18 +1701,47 @@ public class DoubleFFT_1D {
      *            if true then scaling is performed
      */
     public void realInverseFull(final double[] a, final int offa, boolean scale) {
+        realInverseFull(a, offa, scale, null);
+    }
+
+    /**
+     * Computes 1D inverse DFT of real data leaving the result in <code>a</code>
+     * . This method computes the full real inverse transform, i.e. you will get
+     * the same result as from <code>complexInverse</code> called with all
+     * imaginary part equal 0. Because the result is stored in <code>a</code>,
+     * the size of the input array must greater or equal 2*n, with only the
+     * first n elements filled with real data.
+     * 
+     * The scratch arrays are taken from <code>ws</code>, or allocated by this
+     * call if <code>ws</code> is null.
+     * 
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element in array <code>a</code>
+     * @param scale
+     *            if true then scaling is performed
+     * @param ws
+     *            workspace created by {@link #createWorkspace()}, or null
+     */
+    public void realInverseFull(final double[] a, final int offa, boolean scale, Workspace ws) {
+        if (realFFT != null) {
+            realFFT.realInverseFull(a, offa, scale, realWorkspace(ws));
+            return;
+        }
+        ws = workspace(ws, true);
         final int twon = 2 * n;
         switch (plan) {
         case SPLIT_RADIX:
-            realInverse2(a, offa, scale);
-            int nthreads = ConcurrencyUtils.getNumberOfThreads();
-            if ((nthreads > 1) && (n / 2 > ConcurrencyUtils.getThreadsBeginN_1D_FFT_2Threads())) {
+            realInverse2(a, offa, scale, ws);
+            int nthreads = context.getNumberOfThreads();
+            if ((nthreads > 1) && (n / 2 > getThreadsBeginN_2Threads())) {
                 Future<?>[] futures = new Future[nthreads];
                 int k = n / 2 / nthreads;
                 for (int i = 0; i < nthreads; i++) {
                     final int firstIdx = i * k;
                     final int lastIdx = (i == (nthreads - 1)) ? n / 2 : firstIdx + k;
-                    futures[i] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[i] = context.submit(new Runnable() {
                         public void run() {
                             int idx1, idx2;
                             for (int k = firstIdx; k < lastIdx; k++) {
@@ -606,55 +1753,332 @@ public class DoubleFFT_1D {
                         }
                     });
                 }
-                ConcurrencyUtils.waitForCompletion(futures);
-            } else {
-                int idx1, idx2;
-                for (int k = 0; k < n / 2; k++) {
-                    idx1 = 2 * k;
-                    idx2 = offa + ((twon - idx1) % twon);
-                    a[idx2] = a[offa + idx1];
-                    a[idx2 + 1] = -a[offa + idx1 + 1];
+                ConcurrencyUtils.waitForCompletion(futures);
+            } else {
+                int idx1, idx2;
+                for (int k = 0; k < n / 2; k++) {
+                    idx1 = 2 * k;
+                    idx2 = offa + ((twon - idx1) % twon);
+                    a[idx2] = a[offa + idx1];
+                    a[idx2 + 1] = -a[offa + idx1 + 1];
+                }
+            }
+            a[offa + n] = -a[offa + 1];
+            a[offa + 1] = 0;
+            break;
+        case MIXED_RADIX:
+            rfftf(a, offa, ws);
+            if (scale) {
+                scale(n, a, offa, false);
+            }
+            int m;
+            if (n % 2 == 0) {
+                m = n / 2;
+            } else {
+                m = (n + 1) / 2;
+            }
+            for (int k = 1; k < m; k++) {
+                int idx1 = offa + 2 * k;
+                int idx2 = offa + twon - 2 * k;
+                a[idx1] = -a[idx1];
+                a[idx2 + 1] = -a[idx1];
+                a[idx2] = a[idx1 - 1];
+            }
+            for (int k = 1; k < n; k++) {
+                int idx = offa + n - k;
+                double tmp = a[idx + 1];
+                a[idx + 1] = a[idx];
+                a[idx] = tmp;
+            }
+            a[offa + 1] = 0;
+            break;
+        case BLUESTEIN:
+            bluestein_real_full(a, offa, 1, ws);
+            if (scale) {
+                scale(n, a, offa, true);
+            }
+            break;
+        case RADER:
+        case PRIME_FACTOR:
+        case FOUR_STEP:
+        case CODELET:
+            real_full_complex(a, offa, 1, ws);
+            if (scale) {
+                scale(n, a, offa, true);
+            }
+            break;
+        }
+    }
+
+    /**
+     * Computes 1D forward DFT of <code>howmany</code> complex sequences of size
+     * n leaving the result in <code>a</code>. The sequences are transformed in
+     * parallel. Element k of sequence j is stored as follows:<br>
+     * 
+     * <pre>
+     * a[offa+j*dist+k*stride] = Re[k], 
+     * a[offa+j*dist+k*stride+1] = Im[k], 0&lt;=k&lt;n, 0&lt;=j&lt;howmany
+     * </pre>
+     * 
+     * The sequences must not overlap.
+     * 
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element of the first sequence
+     * @param howmany
+     *            number of sequences
+     * @param stride
+     *            distance (in array elements) between consecutive complex
+     *            numbers of a sequence; 2 for contiguous sequences
+     * @param dist
+     *            distance (in array elements) between the first elements of
+     *            consecutive sequences
+     */
+    public void complexForwardBatch(double[] a, int offa, int howmany, int stride, int dist) {
+        batch(a, offa, howmany, stride, dist, true, true, false);
+    }
+
+    /**
+     * Computes 1D inverse DFT of <code>howmany</code> complex sequences of size
+     * n leaving the result in <code>a</code>. The sequences are transformed in
+     * parallel. Element k of sequence j is stored as follows:<br>
+     * 
+     * <pre>
+     * a[offa+j*dist+k*stride] = Re[k], 
+     * a[offa+j*dist+k*stride+1] = Im[k], 0&lt;=k&lt;n, 0&lt;=j&lt;howmany
+     * </pre>
+     * 
+     * The sequences must not overlap.
+     * 
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element of the first sequence
+     * @param howmany
+     *            number of sequences
+     * @param stride
+     *            distance (in array elements) between consecutive complex
+     *            numbers of a sequence; 2 for contiguous sequences
+     * @param dist
+     *            distance (in array elements) between the first elements of
+     *            consecutive sequences
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void complexInverseBatch(double[] a, int offa, int howmany, int stride, int dist, boolean scale) {
+        batch(a, offa, howmany, stride, dist, true, false, scale);
+    }
+
+    /**
+     * Computes 1D forward DFT of <code>howmany</code> real sequences of size n
+     * leaving the result in <code>a</code>. The sequences are transformed in
+     * parallel. Element k of sequence j is stored in
+     * <code>a[offa+j*dist+k*stride]</code>, and the result of every sequence
+     * has the layout described in {@link #realForward(double[])}. The sequences
+     * must not overlap.
+     * 
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element of the first sequence
+     * @param howmany
+     *            number of sequences
+     * @param stride
+     *            distance (in array elements) between consecutive elements of
+     *            a sequence; 1 for contiguous sequences
+     * @param dist
+     *            distance (in array elements) between the first elements of
+     *            consecutive sequences
+     */
+    public void realForwardBatch(double[] a, int offa, int howmany, int stride, int dist) {
+        batch(a, offa, howmany, stride, dist, false, true, false);
+    }
+
+    /**
+     * Computes 1D inverse DFT of <code>howmany</code> real sequences of size n
+     * leaving the result in <code>a</code>. The sequences are transformed in
+     * parallel. Element k of sequence j is stored in
+     * <code>a[offa+j*dist+k*stride]</code>, and the input of every sequence
+     * must have the layout described in
+     * {@link #realInverse(double[], boolean)}. The sequences must not overlap.
+     * 
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element of the first sequence
+     * @param howmany
+     *            number of sequences
+     * @param stride
+     *            distance (in array elements) between consecutive elements of
+     *            a sequence; 1 for contiguous sequences
+     * @param dist
+     *            distance (in array elements) between the first elements of
+     *            consecutive sequences
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void realInverseBatch(double[] a, int offa, int howmany, int stride, int dist, boolean scale) {
+        batch(a, offa, howmany, stride, dist, false, false, scale);
+    }
+
+    private void batch(final double[] a, final int offa, final int howmany, final int stride, final int dist, final boolean complex, final boolean forward, final boolean scale) {
+        if (howmany < 0) {
+            throw new IllegalArgumentException("howmany must be greater or equal 0");
+        }
+        if (stride < 1) {
+            throw new IllegalArgumentException("stride must be greater or equal 1");
+        }
+        // interleaved sequences are transformed PANEL_SIZE at a time
+        int ntasks = (stride == (complex ? 2 : 1)) ? howmany : (howmany + PANEL_SIZE - 1) / PANEL_SIZE;
+        int nthreads = context.getNumberOfThreads();
+        if ((nthreads > 1) && (ntasks > 1) && ((long) howmany * n >= ConcurrencyUtils.getThreadsBeginN_2D())) {
+            nthreads = Math.min(nthreads, ntasks);
+            Future<?>[] futures = new Future[nthreads];
+            final IndexRange range = new IndexRange(0, ntasks, nthreads);
+            for (int l = 0; l < nthreads; l++) {
+                futures[l] = context.submit(new Runnable() {
+                    public void run() {
+                        batch(a, offa, howmany, range.cursor(), stride, dist, complex, forward, scale);
+                    }
+                });
+            }
+            ConcurrencyUtils.waitForCompletion(futures);
+        } else {
+            batch(a, offa, howmany, new IndexRange(0, ntasks, 1).cursor(), stride, dist, complex, forward, scale);
+        }
+    }
+
+    /*
+     * Transforms the sequences (or, if the sequences are not contiguous, the
+     * panels of sequences) taken from the cursor.
+     */
+    private void batch(double[] a, int offa, int howmany, IndexRange.Cursor cursor, int stride, int dist, boolean complex, boolean forward, boolean scale) {
+        Workspace ws = createWorkspace();
+        int width = complex ? 2 : 1;
+        if (stride == width) {
+            for (int j = cursor.next(); j >= 0; j = cursor.next()) {
+                batchTransform(a, offa + j * dist, complex, forward, scale, ws);
+            }
+        } else {
+            double[] panel = new double[PANEL_SIZE * width * n];
+            for (int p = cursor.next(); p >= 0; p = cursor.next()) {
+                int j = p * PANEL_SIZE;
+                transformPanel(a, offa + j * dist, Math.min(PANEL_SIZE, howmany - j), stride, dist, complex, forward, scale, panel, ws);
+            }
+        }
+    }
+
+    /*
+     * Transforms at most PANEL_SIZE sequences that are not contiguous;
+     * element k of sequence j is a[offa+j*dist+k*stride]. The sequences are
+     * copied to the rows of a panel and back, taking element k of all the
+     * sequences at once, so that sequences lying side by side (e.g. adjacent
+     * columns of a matrix) are read and written a cache line at a time rather
+     * than one element per cache line. Used by the 2D and 3D transforms.
+     */
+    void transformPanel(double[] a, int offa, int howmany, int stride, int dist, boolean complex, boolean forward, boolean scale, double[] panel, Workspace ws) {
+        if (complex) {
+            int len = 2 * n;
+            for (int k = 0; k < n; k++) {
+                int idx1 = offa + k * stride;
+                int idx2 = 2 * k;
+                for (int j = 0; j < howmany; j++) {
+                    int idx3 = idx1 + j * dist;
+                    int idx4 = idx2 + j * len;
+                    panel[idx4] = a[idx3];
+                    panel[idx4 + 1] = a[idx3 + 1];
+                }
+            }
+            for (int j = 0; j < howmany; j++) {
+                batchTransform(panel, j * len, true, forward, scale, ws);
+            }
+            for (int k = 0; k < n; k++) {
+                int idx1 = offa + k * stride;
+                int idx2 = 2 * k;
+                for (int j = 0; j < howmany; j++) {
+                    int idx3 = idx1 + j * dist;
+                    int idx4 = idx2 + j * len;
+                    a[idx3] = panel[idx4];
+                    a[idx3 + 1] = panel[idx4 + 1];
                 }
             }
-            a[offa + n] = -a[offa + 1];
-            a[offa + 1] = 0;
-            break;
-        case MIXED_RADIX:
-            rfftf(a, offa);
-            if (scale) {
-                scale(n, a, offa, false);
+        } else {
+            for (int k = 0; k < n; k++) {
+                int idx1 = offa + k * stride;
+                for (int j = 0; j < howmany; j++) {
+                    panel[k + j * n] = a[idx1 + j * dist];
+                }
             }
-            int m;
-            if (n % 2 == 0) {
-                m = n / 2;
-            } else {
-                m = (n + 1) / 2;
+            for (int j = 0; j < howmany; j++) {
+                batchTransform(panel, j * n, false, forward, scale, ws);
             }
-            for (int k = 1; k < m; k++) {
-                int idx1 = offa + 2 * k;
-                int idx2 = offa + twon - 2 * k;
-                a[idx1] = -a[idx1];
-                a[idx2 + 1] = -a[idx1];
-                a[idx2] = a[idx1 - 1];
+            for (int k = 0; k < n; k++) {
+                int idx1 = offa + k * stride;
+                for (int j = 0; j < howmany; j++) {
+                    a[idx1 + j * dist] = panel[k + j * n];
+                }
             }
-            for (int k = 1; k < n; k++) {
-                int idx = offa + n - k;
-                double tmp = a[idx + 1];
-                a[idx + 1] = a[idx];
-                a[idx] = tmp;
+        }
+    }
+
+    /*
+     * Transforms at most PANEL_SIZE adjacent complex sequences stored in the
+     * columns of a 2D array; element k of sequence j is a[k][offa+2*j]
+     * (real part) and a[k][offa+2*j+1] (imaginary part).
+     */
+    void complexPanel(double[][] a, int offa, int howmany, boolean forward, boolean scale, double[] panel, Workspace ws) {
+        int len = 2 * n;
+        for (int k = 0; k < n; k++) {
+            double[] ak = a[k];
+            int idx2 = 2 * k;
+            for (int j = 0; j < howmany; j++) {
+                int idx3 = offa + 2 * j;
+                int idx4 = idx2 + j * len;
+                panel[idx4] = ak[idx3];
+                panel[idx4 + 1] = ak[idx3 + 1];
             }
-            a[offa + 1] = 0;
-            break;
-        case BLUESTEIN:
-            bluestein_real_full(a, offa, 1);
-            if (scale) {
-                scale(n, a, offa, true);
+        }
+        for (int j = 0; j < howmany; j++) {
+            batchTransform(panel, j * len, true, forward, scale, ws);
+        }
+        for (int k = 0; k < n; k++) {
+            double[] ak = a[k];
+            int idx2 = 2 * k;
+            for (int j = 0; j < howmany; j++) {
+                int idx3 = offa + 2 * j;
+                int idx4 = idx2 + j * len;
+                ak[idx3] = panel[idx4];
+                ak[idx3 + 1] = panel[idx4 + 1];
+            }
+        }
+    }
+
+    private void batchTransform(double[] a, int offa, boolean complex, boolean forward, boolean scale, Workspace ws) {
+        if (complex) {
+            if (forward) {
+                complexForward(a, offa, ws);
+            } else {
+                complexInverse(a, offa, scale, ws);
+            }
+        } else {
+            if (forward) {
+                realForward(a, offa, ws);
+            } else {
+                realInverse(a, offa, scale, ws);
             }
-            break;
         }
     }
 
     protected void realInverse2(double[] a, int offa, boolean scale) {
+        if (realFFT != null) {
+            realFFT.realInverse2(a, offa, scale);
+            return;
+        }
+        realInverse2(a, offa, scale, workspace(null, false));
+    }
+
+    private void realInverse2(double[] a, int offa, boolean scale, Workspace ws) {
         if (n == 1)
             return;
         switch (plan) {
@@ -662,10 +2086,10 @@ public class DoubleFFT_1D {
             double xi;
 
             if (n > 4) {
-                cftfsub(n, a, offa, ip, nw, w);
+                cftfsub(n, a, offa, ip, nw, w, ws);
                 rftbsub(n, a, offa, nc, w, nw);
             } else if (n == 4) {
-                cftbsub(n, a, offa, ip, nw, w);
+                cftbsub(n, a, offa, ip, nw, w, ws);
             }
             xi = a[offa] - a[offa + 1];
             a[offa] += a[offa + 1];
@@ -675,7 +2099,7 @@ public class DoubleFFT_1D {
             }
             break;
         case MIXED_RADIX:
-            rfftf(a, offa);
+            rfftf(a, offa, ws);
             for (int k = n - 1; k >= 2; k--) {
                 int idx = offa + k;
                 double tmp = a[idx];
@@ -701,12 +2125,56 @@ public class DoubleFFT_1D {
             }
             break;
         case BLUESTEIN:
-            bluestein_real_inverse2(a, offa);
+            bluestein_real_inverse2(a, offa, ws);
+            if (scale) {
+                scale(n, a, offa, false);
+            }
+            break;
+        case RADER:
+        case PRIME_FACTOR:
+        case FOUR_STEP:
+            real_inverse2_complex(a, offa, ws);
             if (scale) {
                 scale(n, a, offa, false);
             }
             break;
+        case CODELET:
+            DoubleFFTCodelets.realForward(n, a, offa);
+            for (int k = 3; k < n; k += 2) {
+                a[offa + k] = -a[offa + k];
+            }
+            if (n % 2 == 1) {
+                a[offa + 1] = -a[offa + 1];
+            }
+            if (scale) {
+                scale(n, a, offa, false);
+            }
+            break;
+        }
+    }
+
+    private int getThreadsBeginN_2Threads() {
+        return threadsBeginN_2Threads > 0 ? threadsBeginN_2Threads : ConcurrencyUtils.getThreadsBeginN_1D_FFT_2Threads();
+    }
+
+    private int getThreadsBeginN_4Threads() {
+        return threadsBeginN_4Threads > 0 ? threadsBeginN_4Threads : ConcurrencyUtils.getThreadsBeginN_1D_FFT_4Threads();
+    }
+
+    /**
+     * Returns the number of tasks used for data of length n: two above the
+     * two-thread threshold and, above the four-thread threshold, up to one per
+     * thread as long as each task gets a quarter of that threshold.
+     */
+    private int getNumberOfTasks(int n) {
+        int threads = context.getNumberOfThreads();
+        if ((threads < 2) || (n <= getThreadsBeginN_2Threads())) {
+            return 1;
+        }
+        if ((threads < 4) || (n <= getThreadsBeginN_4Threads())) {
+            return 2;
         }
+        return (int) Math.max(4, Math.min(threads, 4L * n / getThreadsBeginN_4Threads()));
     }
 
     private static int getReminder(int n, int factors[]) {
@@ -725,6 +2193,138 @@ public class DoubleFFT_1D {
         return reminder;
     }
 
+    private static boolean isPrime(int n) {
+        if (n < 2) {
+            return false;
+        }
+        for (int i = 2; (long) i * i <= n; i++) {
+            if (n % i == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long powMod(long b, long e, long m) {
+        long r = 1;
+        b %= m;
+        while (e > 0) {
+            if ((e & 1) != 0) {
+                r = (r * b) % m;
+            }
+            b = (b * b) % m;
+            e >>= 1;
+        }
+        return r;
+    }
+
+    /**
+     * Returns the smallest primitive root modulo the prime number p.
+     */
+    private static int primitiveRoot(int p) {
+        int m = p - 1;
+        int[] primes = new int[32];
+        int nprimes = 0;
+        int r = m;
+        for (int i = 2; (long) i * i <= r; i++) {
+            if (r % i == 0) {
+                primes[nprimes++] = i;
+                while (r % i == 0) {
+                    r /= i;
+                }
+            }
+        }
+        if (r > 1) {
+            primes[nprimes++] = r;
+        }
+        for (int g = 2; g < p; g++) {
+            boolean root = true;
+            for (int i = 0; i < nprimes && root; i++) {
+                root = powMod(g, m / primes[i], p) != 1;
+            }
+            if (root) {
+                return g;
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Returns the length n1 of the rows of the four-step algorithm: the
+     * largest divisor of n that is not greater than its square root, so that
+     * n = n1*n2 with n1 &lt;= n2. Returns 1 if n is prime.
+     */
+    static int getFourStepSplit(int n) {
+        for (int n1 = (int) Math.sqrt(n); n1 > 1; n1--) {
+            if (n % n1 == 0) {
+                return n1;
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Returns the number of entries of the fine twiddle table of the four-step
+     * algorithm: the smallest power of two whose square is at least n.
+     */
+    private static int getFourStepBlock(int n) {
+        int block = 1;
+        while ((long) block * block < n) {
+            block <<= 1;
+        }
+        return block;
+    }
+
+    /**
+     * Returns the length n1 of the first factor of the prime-factor
+     * decomposition n = n1*n2 (with n1 and n2 coprime), or 0 if n is a power
+     * of a prime number. The power-of-two part is chosen as the first factor
+     * when it is not trivial, otherwise the largest prime-power factor.
+     */
+    static int getPrimeFactorSplit(int n) {
+        int n1 = 1;
+        int r = n;
+        for (int p = 2; (long) p * p <= r; p++) {
+            if (r % p == 0) {
+                int q = 1;
+                while (r % p == 0) {
+                    r /= p;
+                    q *= p;
+                }
+                if (n1 == 1 || (n1 % 2 != 0 && q > n1)) {
+                    n1 = q;
+                }
+            }
+        }
+        if (r > 1 && n1 > 1 && n1 % 2 != 0 && r > n1) {
+            n1 = r;
+        }
+        if (n1 == 1 || n1 == n) {
+            return 0;
+        }
+        return n1;
+    }
+
+    /**
+     * Returns the inverse of a modulo m (a and m coprime).
+     */
+    private static int modInverse(int a, int m) {
+        long r0 = m;
+        long r1 = a % m;
+        long t0 = 0;
+        long t1 = 1;
+        while (r1 != 0) {
+            long q = r0 / r1;
+            long tmp = r0 - q * r1;
+            r0 = r1;
+            r1 = tmp;
+            tmp = t0 - q * t1;
+            t0 = t1;
+            t1 = tmp;
+        }
+        return (int) ((t0 % m + m) % m);
+    }
+
     /* -------- initializing routines -------- */
 
     /*---------------------------------------------------------
@@ -752,7 +2352,7 @@ public class DoubleFFT_1D {
 
         factorize_loop: while (true) {
             j++;
-            if (j <= 4)
+            if (j <= factors.length)
                 ntry = factors[j - 1];
             else
                 ntry += 2;
@@ -802,7 +2402,7 @@ public class DoubleFFT_1D {
                     wtable[offw + idx - 1] = Math.cos(arg);
                     wtable[offw + idx] = Math.sin(arg);
                 }
-                if (ip > 5) {
+                if (ip > 13) {
                     int idx1 = i1 + twon;
                     int idx2 = i + twon;
                     wtable[offw + idx1 - 1] = wtable[offw + idx2 - 1];
@@ -835,7 +2435,7 @@ public class DoubleFFT_1D {
 
         factorize_loop: while (true) {
             j++;
-            if (j <= 4)
+            if (j <= factors.length)
                 ntry = factors[j - 1];
             else
                 ntry += 2;
@@ -885,7 +2485,7 @@ public class DoubleFFT_1D {
                     wtable[idx - 1] = Math.cos(arg);
                     wtable[idx] = Math.sin(arg);
                 }
-                if (ip > 5) {
+                if (ip > 13) {
                     int idx1 = i1 + twon;
                     int idx2 = i + twon;
                     wtable[idx1 - 1] = wtable[idx2 - 1];
@@ -918,7 +2518,7 @@ public class DoubleFFT_1D {
 
         factorize_loop: while (true) {
             ++j;
-            if (j <= 4)
+            if (j <= factors.length)
                 ntry = factors[j - 1];
             else
                 ntry += 2;
@@ -999,7 +2599,112 @@ public class DoubleFFT_1D {
             bk2[2 * nBluestein - i] = bk2[i];
             bk2[2 * nBluestein - i + 1] = bk2[i + 1];
         }
-        cftbsub(2 * nBluestein, bk2, 0, ip, nw, w);
+        bluesteinForward(bk2, createWorkspace());
+    }
+
+    /*---------------------------------------------------------
+       pfai: initialization of the prime-factor (Good-Thomas)
+       algorithm. For n = n1*n2 with n1 and n2 coprime, the input
+       index n2*i1 + n1*i2 (mod n) and the output index given by the
+       Chinese remainder theorem turn the DFT into a two-dimensional
+       n1 x n2 DFT without twiddle factors between the two passes.
+      --------------------------------------------------------*/
+
+    private void pfai() {
+        int n1 = getPrimeFactorSplit(n);
+        int n2 = n / n1;
+        pfaIn = new int[n];
+        pfaOut = new int[n];
+        long e1 = (long) n2 * modInverse(n2 % n1, n1);
+        long e2 = (long) n1 * modInverse(n1 % n2, n2);
+        for (int i2 = 0; i2 < n2; i2++) {
+            for (int i1 = 0; i1 < n1; i1++) {
+                pfaIn[i2 * n1 + i1] = (int) (((long) n2 * i1 + (long) n1 * i2) % n);
+            }
+        }
+        for (int k1 = 0; k1 < n1; k1++) {
+            for (int k2 = 0; k2 < n2; k2++) {
+                pfaOut[k1 * n2 + k2] = (int) ((e1 * k1 + e2 * k2) % n);
+            }
+        }
+        pfaFFT1 = new DoubleFFT_1D(n1, context);
+        pfaFFT2 = new DoubleFFT_1D(n2, context);
+    }
+
+    /*---------------------------------------------------------
+       fourstepi: initialization of the four-step algorithm. For
+       n = n1*n2 the data is viewed as an n2 x n1 matrix whose
+       element (j2, j1) is x[j2*n1+j1]. The n1 columns are
+       transformed, element (k2, j1) is multiplied by the twiddle
+       factor exp(-+2*pi*i*j1*k2/n), the n2 rows are transformed and
+       the matrix is transposed, which leaves X[k1*n2+k2] in place.
+       The twiddle factor of exponent e is the product of the entry
+       e%block of a fine table and of the entry e/block of a coarse
+       table, so that both tables hold about 2*sqrt(n) values.
+      --------------------------------------------------------*/
+
+    private void fourstepi() {
+        int n1 = getFourStepSplit(n);
+        int block = getFourStepBlock(n);
+        int coarse = (n - 1) / block + 1;
+        fourStepW = new double[2 * (block + coarse)];
+        for (int l = 0; l < block; l++) {
+            double arg = TWO_PI * l / n;
+            fourStepW[2 * l] = Math.cos(arg);
+            fourStepW[2 * l + 1] = Math.sin(arg);
+        }
+        for (int h = 0; h < coarse; h++) {
+            double arg = TWO_PI * ((double) h * block) / n;
+            fourStepW[2 * (block + h)] = Math.cos(arg);
+            fourStepW[2 * (block + h) + 1] = Math.sin(arg);
+        }
+        fourStepFFT1 = new DoubleFFT_1D(n1, context);
+        fourStepFFT2 = new DoubleFFT_1D(n / n1, context);
+    }
+
+    /*---------------------------------------------------------
+       raderi: initialization of Rader's algorithm. For prime n and
+       a generator g of the multiplicative group modulo n, the DFT
+       of x at indices g^-p is x[0] plus the cyclic convolution
+       (of length n-1) of x[g^q] with exp(-2*pi*i*g^-q/n). The FFT
+       of the second sequence (scaled by 1/(n-1)) is precomputed.
+      --------------------------------------------------------*/
+
+    private void raderi() {
+        int m = n - 1;
+        long g = primitiveRoot(n);
+        long ginv = powMod(g, n - 2, n);
+        raderPerm = new int[m];
+        raderB = new double[2 * m];
+        double scale = 1.0 / m;
+        long p = 1;
+        long q = 1;
+        for (int i = 0; i < m; i++) {
+            raderPerm[i] = (int) p;
+            double arg = 2 * Math.PI * q / n;
+            raderB[2 * i] = (scale * Math.cos(arg));
+            raderB[2 * i + 1] = (-scale * Math.sin(arg));
+            p = (p * g) % n;
+            q = (q * ginv) % n;
+        }
+        raderFFT = new DoubleFFT_1D(m, context);
+        raderFFT.complexForward(raderB);
+    }
+
+    private void bluesteinForward(double[] ak, Workspace ws) {
+        if (bluesteinFFT == null) {
+            cftbsub(2 * nBluestein, ak, 0, ip, nw, w, ws);
+        } else {
+            bluesteinFFT.complexForward(ak, 0, ws.sub1);
+        }
+    }
+
+    private void bluesteinInverse(double[] ak, Workspace ws) {
+        if (bluesteinFFT == null) {
+            cftfsub(2 * nBluestein, ak, 0, ip, nw, w, ws);
+        } else {
+            bluesteinFFT.complexInverse(ak, 0, false, ws.sub1);
+        }
     }
 
     private void makewt(int nw) {
@@ -1102,21 +2807,17 @@ public class DoubleFFT_1D {
         }
     }
 
-    private void bluestein_complex(final double[] a, final int offa, final int isign) {
-        final double[] ak = new double[2 * nBluestein];
-        int nthreads = 1;
-        int threads = ConcurrencyUtils.getNumberOfThreads();
-        if ((threads > 1) && (n > ConcurrencyUtils.getThreadsBeginN_1D_FFT_2Threads())) {
-            nthreads = 2;
-            if ((threads >= 4) && (n > ConcurrencyUtils.getThreadsBeginN_1D_FFT_4Threads())) {
-                nthreads = 4;
-            }
+    private void bluestein_complex(final double[] a, final int offa, final int isign, Workspace ws) {
+        final double[] ak = ws.ak;
+        Arrays.fill(ak, 2 * n, 2 * nBluestein, 0);
+        int nthreads = getNumberOfTasks(n);
+        if (nthreads > 1) {
             Future<?>[] futures = new Future[nthreads];
             int k = n / nthreads;
             for (int i = 0; i < nthreads; i++) {
                 final int firstIdx = i * k;
                 final int lastIdx = (i == (nthreads - 1)) ? n : firstIdx + k;
-                futures[i] = ConcurrencyUtils.submit(new Runnable() {
+                futures[i] = context.submit(new Runnable() {
                     public void run() {
                         if (isign > 0) {
                             for (int i = firstIdx; i < lastIdx; i++) {
@@ -1142,13 +2843,13 @@ public class DoubleFFT_1D {
             }
             ConcurrencyUtils.waitForCompletion(futures);
 
-            cftbsub(2 * nBluestein, ak, 0, ip, nw, w);
+            bluesteinForward(ak, ws);
 
             k = nBluestein / nthreads;
             for (int i = 0; i < nthreads; i++) {
                 final int firstIdx = i * k;
                 final int lastIdx = (i == (nthreads - 1)) ? nBluestein : firstIdx + k;
-                futures[i] = ConcurrencyUtils.submit(new Runnable() {
+                futures[i] = context.submit(new Runnable() {
                     public void run() {
                         if (isign > 0) {
                             for (int i = firstIdx; i < lastIdx; i++) {
@@ -1172,13 +2873,13 @@ public class DoubleFFT_1D {
             }
             ConcurrencyUtils.waitForCompletion(futures);
 
-            cftfsub(2 * nBluestein, ak, 0, ip, nw, w);
+            bluesteinInverse(ak, ws);
 
             k = n / nthreads;
             for (int i = 0; i < nthreads; i++) {
                 final int firstIdx = i * k;
                 final int lastIdx = (i == (nthreads - 1)) ? n : firstIdx + k;
-                futures[i] = ConcurrencyUtils.submit(new Runnable() {
+                futures[i] = context.submit(new Runnable() {
                     public void run() {
                         if (isign > 0) {
                             for (int i = firstIdx; i < lastIdx; i++) {
@@ -1224,7 +2925,7 @@ public class DoubleFFT_1D {
                 }
             }
 
-            cftbsub(2 * nBluestein, ak, 0, ip, nw, w);
+            bluesteinForward(ak, ws);
 
             if (isign > 0) {
                 for (int i = 0; i < nBluestein; i++) {
@@ -1244,7 +2945,7 @@ public class DoubleFFT_1D {
                 }
             }
 
-            cftfsub(2 * nBluestein, ak, 0, ip, nw, w);
+            bluesteinInverse(ak, ws);
             if (isign > 0) {
                 for (int i = 0; i < n; i++) {
                     int idx1 = 2 * i;
@@ -1267,21 +2968,17 @@ public class DoubleFFT_1D {
         }
     }
 
-    private void bluestein_real_full(final double[] a, final int offa, final int isign) {
-        final double[] ak = new double[2 * nBluestein];
-        int nthreads = 1;
-        int threads = ConcurrencyUtils.getNumberOfThreads();
-        if ((threads > 1) && (n > ConcurrencyUtils.getThreadsBeginN_1D_FFT_2Threads())) {
-            nthreads = 2;
-            if ((threads >= 4) && (n > ConcurrencyUtils.getThreadsBeginN_1D_FFT_4Threads())) {
-                nthreads = 4;
-            }
+    private void bluestein_real_full(final double[] a, final int offa, final int isign, Workspace ws) {
+        final double[] ak = ws.ak;
+        Arrays.fill(ak, 2 * n, 2 * nBluestein, 0);
+        int nthreads = getNumberOfTasks(n);
+        if (nthreads > 1) {
             Future<?>[] futures = new Future[nthreads];
             int k = n / nthreads;
             for (int i = 0; i < nthreads; i++) {
                 final int firstIdx = i * k;
                 final int lastIdx = (i == (nthreads - 1)) ? n : firstIdx + k;
-                futures[i] = ConcurrencyUtils.submit(new Runnable() {
+                futures[i] = context.submit(new Runnable() {
                     public void run() {
                         if (isign > 0) {
                             for (int i = firstIdx; i < lastIdx; i++) {
@@ -1305,13 +3002,13 @@ public class DoubleFFT_1D {
             }
             ConcurrencyUtils.waitForCompletion(futures);
 
-            cftbsub(2 * nBluestein, ak, 0, ip, nw, w);
+            bluesteinForward(ak, ws);
 
             k = nBluestein / nthreads;
             for (int i = 0; i < nthreads; i++) {
                 final int firstIdx = i * k;
                 final int lastIdx = (i == (nthreads - 1)) ? nBluestein : firstIdx + k;
-                futures[i] = ConcurrencyUtils.submit(new Runnable() {
+                futures[i] = context.submit(new Runnable() {
                     public void run() {
                         if (isign > 0) {
                             for (int i = firstIdx; i < lastIdx; i++) {
@@ -1335,13 +3032,13 @@ public class DoubleFFT_1D {
             }
             ConcurrencyUtils.waitForCompletion(futures);
 
-            cftfsub(2 * nBluestein, ak, 0, ip, nw, w);
+            bluesteinInverse(ak, ws);
 
             k = n / nthreads;
             for (int i = 0; i < nthreads; i++) {
                 final int firstIdx = i * k;
                 final int lastIdx = (i == (nthreads - 1)) ? n : firstIdx + k;
-                futures[i] = ConcurrencyUtils.submit(new Runnable() {
+                futures[i] = context.submit(new Runnable() {
                     public void run() {
                         if (isign > 0) {
                             for (int i = firstIdx; i < lastIdx; i++) {
@@ -1381,7 +3078,7 @@ public class DoubleFFT_1D {
                 }
             }
 
-            cftbsub(2 * nBluestein, ak, 0, ip, nw, w);
+            bluesteinForward(ak, ws);
 
             if (isign > 0) {
                 for (int i = 0; i < nBluestein; i++) {
@@ -1401,7 +3098,7 @@ public class DoubleFFT_1D {
                 }
             }
 
-            cftfsub(2 * nBluestein, ak, 0, ip, nw, w);
+            bluesteinInverse(ak, ws);
 
             if (isign > 0) {
                 for (int i = 0; i < n; i++) {
@@ -1421,21 +3118,17 @@ public class DoubleFFT_1D {
         }
     }
 
-    private void bluestein_real_forward(final double[] a, final int offa) {
-        final double[] ak = new double[2 * nBluestein];
-        int nthreads = 1;
-        int threads = ConcurrencyUtils.getNumberOfThreads();
-        if ((threads > 1) && (n > ConcurrencyUtils.getThreadsBeginN_1D_FFT_2Threads())) {
-            nthreads = 2;
-            if ((threads >= 4) && (n > ConcurrencyUtils.getThreadsBeginN_1D_FFT_4Threads())) {
-                nthreads = 4;
-            }
+    private void bluestein_real_forward(final double[] a, final int offa, Workspace ws) {
+        final double[] ak = ws.ak;
+        Arrays.fill(ak, 2 * n, 2 * nBluestein, 0);
+        int nthreads = getNumberOfTasks(n);
+        if (nthreads > 1) {
             Future<?>[] futures = new Future[nthreads];
             int k = n / nthreads;
             for (int i = 0; i < nthreads; i++) {
                 final int firstIdx = i * k;
                 final int lastIdx = (i == (nthreads - 1)) ? n : firstIdx + k;
-                futures[i] = ConcurrencyUtils.submit(new Runnable() {
+                futures[i] = context.submit(new Runnable() {
                     public void run() {
                         for (int i = firstIdx; i < lastIdx; i++) {
                             int idx1 = 2 * i;
@@ -1449,13 +3142,13 @@ public class DoubleFFT_1D {
             }
             ConcurrencyUtils.waitForCompletion(futures);
 
-            cftbsub(2 * nBluestein, ak, 0, ip, nw, w);
+            bluesteinForward(ak, ws);
 
             k = nBluestein / nthreads;
             for (int i = 0; i < nthreads; i++) {
                 final int firstIdx = i * k;
                 final int lastIdx = (i == (nthreads - 1)) ? nBluestein : firstIdx + k;
-                futures[i] = ConcurrencyUtils.submit(new Runnable() {
+                futures[i] = context.submit(new Runnable() {
                     public void run() {
                         for (int i = firstIdx; i < lastIdx; i++) {
                             int idx1 = 2 * i;
@@ -1479,7 +3172,7 @@ public class DoubleFFT_1D {
                 ak[idx2] = -a[idx3] * bk1[idx2];
             }
 
-            cftbsub(2 * nBluestein, ak, 0, ip, nw, w);
+            bluesteinForward(ak, ws);
 
             for (int i = 0; i < nBluestein; i++) {
                 int idx1 = 2 * i;
@@ -1490,7 +3183,7 @@ public class DoubleFFT_1D {
             }
         }
 
-        cftfsub(2 * nBluestein, ak, 0, ip, nw, w);
+        bluesteinInverse(ak, ws);
 
         if (n % 2 == 0) {
             a[offa] = bk1[0] * ak[0] + bk1[1] * ak[1];
@@ -1515,8 +3208,9 @@ public class DoubleFFT_1D {
 
     }
 
-    private void bluestein_real_inverse(final double[] a, final int offa) {
-        final double[] ak = new double[2 * nBluestein];
+    private void bluestein_real_inverse(final double[] a, final int offa, Workspace ws) {
+        final double[] ak = ws.ak;
+        Arrays.fill(ak, 2 * n, 2 * nBluestein, 0);
         if (n % 2 == 0) {
             ak[0] = a[offa] * bk1[0];
             ak[1] = a[offa] * bk1[1];
@@ -1571,21 +3265,16 @@ public class DoubleFFT_1D {
             }
         }
 
-        cftbsub(2 * nBluestein, ak, 0, ip, nw, w);
+        bluesteinForward(ak, ws);
 
-        int nthreads = 1;
-        int threads = ConcurrencyUtils.getNumberOfThreads();
-        if ((threads > 1) && (n > ConcurrencyUtils.getThreadsBeginN_1D_FFT_2Threads())) {
-            nthreads = 2;
-            if ((threads >= 4) && (n > ConcurrencyUtils.getThreadsBeginN_1D_FFT_4Threads())) {
-                nthreads = 4;
-            }
+        int nthreads = getNumberOfTasks(n);
+        if (nthreads > 1) {
             Future<?>[] futures = new Future[nthreads];
             int k = nBluestein / nthreads;
             for (int i = 0; i < nthreads; i++) {
                 final int firstIdx = i * k;
                 final int lastIdx = (i == (nthreads - 1)) ? nBluestein : firstIdx + k;
-                futures[i] = ConcurrencyUtils.submit(new Runnable() {
+                futures[i] = context.submit(new Runnable() {
                     public void run() {
                         for (int i = firstIdx; i < lastIdx; i++) {
                             int idx1 = 2 * i;
@@ -1599,13 +3288,13 @@ public class DoubleFFT_1D {
             }
             ConcurrencyUtils.waitForCompletion(futures);
 
-            cftfsub(2 * nBluestein, ak, 0, ip, nw, w);
+            bluesteinInverse(ak, ws);
 
             k = n / nthreads;
             for (int i = 0; i < nthreads; i++) {
                 final int firstIdx = i * k;
                 final int lastIdx = (i == (nthreads - 1)) ? n : firstIdx + k;
-                futures[i] = ConcurrencyUtils.submit(new Runnable() {
+                futures[i] = context.submit(new Runnable() {
                     public void run() {
                         for (int i = firstIdx; i < lastIdx; i++) {
                             int idx1 = 2 * i;
@@ -1627,7 +3316,7 @@ public class DoubleFFT_1D {
                 ak[idx2] = im;
             }
 
-            cftfsub(2 * nBluestein, ak, 0, ip, nw, w);
+            bluesteinInverse(ak, ws);
 
             for (int i = 0; i < n; i++) {
                 int idx1 = 2 * i;
@@ -1637,21 +3326,17 @@ public class DoubleFFT_1D {
         }
     }
 
-    private void bluestein_real_inverse2(final double[] a, final int offa) {
-        final double[] ak = new double[2 * nBluestein];
-        int nthreads = 1;
-        int threads = ConcurrencyUtils.getNumberOfThreads();
-        if ((threads > 1) && (n > ConcurrencyUtils.getThreadsBeginN_1D_FFT_2Threads())) {
-            nthreads = 2;
-            if ((threads >= 4) && (n > ConcurrencyUtils.getThreadsBeginN_1D_FFT_4Threads())) {
-                nthreads = 4;
-            }
+    private void bluestein_real_inverse2(final double[] a, final int offa, Workspace ws) {
+        final double[] ak = ws.ak;
+        Arrays.fill(ak, 2 * n, 2 * nBluestein, 0);
+        int nthreads = getNumberOfTasks(n);
+        if (nthreads > 1) {
             Future<?>[] futures = new Future[nthreads];
             int k = n / nthreads;
             for (int i = 0; i < nthreads; i++) {
                 final int firstIdx = i * k;
                 final int lastIdx = (i == (nthreads - 1)) ? n : firstIdx + k;
-                futures[i] = ConcurrencyUtils.submit(new Runnable() {
+                futures[i] = context.submit(new Runnable() {
                     public void run() {
                         for (int i = firstIdx; i < lastIdx; i++) {
                             int idx1 = 2 * i;
@@ -1665,80 +3350,314 @@ public class DoubleFFT_1D {
             }
             ConcurrencyUtils.waitForCompletion(futures);
 
-            cftbsub(2 * nBluestein, ak, 0, ip, nw, w);
+            bluesteinForward(ak, ws);
 
             k = nBluestein / nthreads;
             for (int i = 0; i < nthreads; i++) {
                 final int firstIdx = i * k;
                 final int lastIdx = (i == (nthreads - 1)) ? nBluestein : firstIdx + k;
-                futures[i] = ConcurrencyUtils.submit(new Runnable() {
+                futures[i] = context.submit(new Runnable() {
+                    public void run() {
+                        for (int i = firstIdx; i < lastIdx; i++) {
+                            int idx1 = 2 * i;
+                            int idx2 = idx1 + 1;
+                            double im = -ak[idx1] * bk2[idx2] + ak[idx2] * bk2[idx1];
+                            ak[idx1] = ak[idx1] * bk2[idx1] + ak[idx2] * bk2[idx2];
+                            ak[idx2] = im;
+                        }
+                    }
+                });
+            }
+            ConcurrencyUtils.waitForCompletion(futures);
+
+        } else {
+
+            for (int i = 0; i < n; i++) {
+                int idx1 = 2 * i;
+                int idx2 = idx1 + 1;
+                int idx3 = offa + i;
+                ak[idx1] = a[idx3] * bk1[idx1];
+                ak[idx2] = a[idx3] * bk1[idx2];
+            }
+
+            bluesteinForward(ak, ws);
+
+            for (int i = 0; i < nBluestein; i++) {
+                int idx1 = 2 * i;
+                int idx2 = idx1 + 1;
+                double im = -ak[idx1] * bk2[idx2] + ak[idx2] * bk2[idx1];
+                ak[idx1] = ak[idx1] * bk2[idx1] + ak[idx2] * bk2[idx2];
+                ak[idx2] = im;
+            }
+        }
+
+        bluesteinInverse(ak, ws);
+
+        if (n % 2 == 0) {
+            a[offa] = bk1[0] * ak[0] - bk1[1] * ak[1];
+            a[offa + 1] = bk1[n] * ak[n] - bk1[n + 1] * ak[n + 1];
+            for (int i = 1; i < n / 2; i++) {
+                int idx1 = 2 * i;
+                int idx2 = idx1 + 1;
+                a[offa + idx1] = bk1[idx1] * ak[idx1] - bk1[idx2] * ak[idx2];
+                a[offa + idx2] = bk1[idx2] * ak[idx1] + bk1[idx1] * ak[idx2];
+            }
+        } else {
+            a[offa] = bk1[0] * ak[0] - bk1[1] * ak[1];
+            a[offa + 1] = bk1[n] * ak[n - 1] + bk1[n - 1] * ak[n];
+            for (int i = 1; i < (n - 1) / 2; i++) {
+                int idx1 = 2 * i;
+                int idx2 = idx1 + 1;
+                a[offa + idx1] = bk1[idx1] * ak[idx1] - bk1[idx2] * ak[idx2];
+                a[offa + idx2] = bk1[idx2] * ak[idx1] + bk1[idx1] * ak[idx2];
+            }
+            a[offa + n - 1] = bk1[n - 1] * ak[n - 1] - bk1[n] * ak[n];
+        }
+    }
+
+    private void rader_complex(final double[] a, final int offa, final int isign, Workspace ws) {
+        final int m = n - 1;
+        final double[] ak = ws.ak;
+        double x0r = a[offa];
+        double x0i = a[offa + 1];
+        double sumr = x0r;
+        double sumi = x0i;
+        if (isign > 0) {
+            for (int q = 0; q < m; q++) {
+                int idx = offa + 2 * raderPerm[q];
+                ak[2 * q] = a[idx];
+                ak[2 * q + 1] = -a[idx + 1];
+                sumr += a[idx];
+                sumi += a[idx + 1];
+            }
+        } else {
+            for (int q = 0; q < m; q++) {
+                int idx = offa + 2 * raderPerm[q];
+                ak[2 * q] = a[idx];
+                ak[2 * q + 1] = a[idx + 1];
+                sumr += a[idx];
+                sumi += a[idx + 1];
+            }
+        }
+
+        raderFFT.complexForward(ak, 0, ws.sub1);
+
+        for (int q = 0; q < m; q++) {
+            int idx1 = 2 * q;
+            int idx2 = idx1 + 1;
+            double im = ak[idx1] * raderB[idx2] + ak[idx2] * raderB[idx1];
+            ak[idx1] = ak[idx1] * raderB[idx1] - ak[idx2] * raderB[idx2];
+            ak[idx2] = im;
+        }
+
+        raderFFT.complexInverse(ak, 0, false, ws.sub1);
+
+        a[offa] = sumr;
+        a[offa + 1] = sumi;
+        if (isign > 0) {
+            for (int p = 0; p < m; p++) {
+                int idx = offa + 2 * raderPerm[p == 0 ? 0 : m - p];
+                a[idx] = x0r + ak[2 * p];
+                a[idx + 1] = x0i - ak[2 * p + 1];
+            }
+        } else {
+            for (int p = 0; p < m; p++) {
+                int idx = offa + 2 * raderPerm[p == 0 ? 0 : m - p];
+                a[idx] = x0r + ak[2 * p];
+                a[idx + 1] = x0i + ak[2 * p + 1];
+            }
+        }
+    }
+
+    private void pfa_complex(final double[] a, final int offa, final int isign, Workspace ws) {
+        final int n1 = pfaFFT1.n;
+        final int n2 = pfaFFT2.n;
+        final double[] b = ws.ak;
+        for (int i = 0; i < n; i++) {
+            int idx = offa + 2 * pfaIn[i];
+            b[2 * i] = a[idx];
+            b[2 * i + 1] = a[idx + 1];
+        }
+        for (int i2 = 0; i2 < n2; i2++) {
+            if (isign < 0) {
+                pfaFFT1.complexForward(b, 2 * i2 * n1, ws.sub1);
+            } else {
+                pfaFFT1.complexInverse(b, 2 * i2 * n1, false, ws.sub1);
+            }
+        }
+        final double[] t = ws.t;
+        for (int k1 = 0; k1 < n1; k1++) {
+            for (int i2 = 0; i2 < n2; i2++) {
+                int idx = 2 * (i2 * n1 + k1);
+                t[2 * i2] = b[idx];
+                t[2 * i2 + 1] = b[idx + 1];
+            }
+            if (isign < 0) {
+                pfaFFT2.complexForward(t, 0, ws.sub2);
+            } else {
+                pfaFFT2.complexInverse(t, 0, false, ws.sub2);
+            }
+            int off = k1 * n2;
+            for (int k2 = 0; k2 < n2; k2++) {
+                int idx = offa + 2 * pfaOut[off + k2];
+                a[idx] = t[2 * k2];
+                a[idx + 1] = t[2 * k2 + 1];
+            }
+        }
+    }
+
+    private void fourstep_complex(final double[] a, final int offa, final int isign, Workspace ws) {
+        final int n1 = fourStepFFT1.n;
+        final int n2 = fourStepFFT2.n;
+        final int shift = Integer.numberOfTrailingZeros(getFourStepBlock(n));
+        int nthreads = context.getNumberOfThreads();
+        if (nthreads > 1) {
+            if (isign < 0) {
+                fourStepFFT2.complexForwardBatch(a, offa, n1, 2 * n1, 2);
+            } else {
+                fourStepFFT2.complexInverseBatch(a, offa, n1, 2 * n1, 2, false);
+            }
+        } else {
+            for (int j = 0; j < n1; j += PANEL_SIZE) {
+                fourStepFFT2.transformPanel(a, offa + 2 * j, Math.min(PANEL_SIZE, n1 - j), 2 * n1, 2, true, isign < 0, false, ws.t, ws.sub2);
+            }
+        }
+        if ((nthreads > 1) && (n2 > 1) && (n >= ConcurrencyUtils.getThreadsBeginN_2D())) {
+            nthreads = Math.min(nthreads, n2);
+            Future<?>[] futures = new Future[nthreads];
+            final IndexRange rowRange = new IndexRange(0, n2, nthreads);
+            for (int l = 0; l < nthreads; l++) {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        for (int i = firstIdx; i < lastIdx; i++) {
-                            int idx1 = 2 * i;
-                            int idx2 = idx1 + 1;
-                            double im = -ak[idx1] * bk2[idx2] + ak[idx2] * bk2[idx1];
-                            ak[idx1] = ak[idx1] * bk2[idx1] + ak[idx2] * bk2[idx2];
-                            ak[idx2] = im;
+                        Workspace rowWs = fourStepFFT1.createWorkspace();
+                        IndexRange.Cursor cursor = rowRange.cursor();
+                        for (int k2 = cursor.next(); k2 >= 0; k2 = cursor.next()) {
+                            fourstep_row(a, offa + 2 * k2 * n1, k2, shift, isign, rowWs);
                         }
                     }
                 });
             }
             ConcurrencyUtils.waitForCompletion(futures);
-
         } else {
+            for (int k2 = 0; k2 < n2; k2++) {
+                fourstep_row(a, offa + 2 * k2 * n1, k2, shift, isign, ws.sub1);
+            }
+        }
+        TransposeUtils.transpose(a, offa, ws.ak, 0, 1, n2, n1, 2, context);
+        System.arraycopy(ws.ak, 0, a, offa, 2 * n);
+    }
 
-            for (int i = 0; i < n; i++) {
-                int idx1 = 2 * i;
-                int idx2 = idx1 + 1;
-                int idx3 = offa + i;
-                ak[idx1] = a[idx3] * bk1[idx1];
-                ak[idx2] = a[idx3] * bk1[idx2];
+    /*
+     * Multiplies row k2 of the four-step algorithm by the twiddle factors
+     * and transforms it.
+     */
+    private void fourstep_row(double[] a, int offa, int k2, int shift, int isign, Workspace ws) {
+        final int n1 = fourStepFFT1.n;
+        if (k2 > 0) {
+            final double[] tw = fourStepW;
+            int mask = (1 << shift) - 1;
+            int coarse = 2 << shift;
+            int e = 0;
+            for (int j1 = 0; j1 < n1; j1++) {
+                int idx1 = 2 * (e & mask);
+                int idx2 = coarse + 2 * (e >>> shift);
+                double wr = tw[idx1] * tw[idx2] - tw[idx1 + 1] * tw[idx2 + 1];
+                double wi = tw[idx1] * tw[idx2 + 1] + tw[idx1 + 1] * tw[idx2];
+                int idx = offa + 2 * j1;
+                double re = a[idx];
+                double im = a[idx + 1];
+                if (isign < 0) {
+                    a[idx] = re * wr + im * wi;
+                    a[idx + 1] = im * wr - re * wi;
+                } else {
+                    a[idx] = re * wr - im * wi;
+                    a[idx + 1] = im * wr + re * wi;
+                }
+                e += k2;
             }
+        }
+        if (isign < 0) {
+            fourStepFFT1.complexForward(a, offa, ws);
+        } else {
+            fourStepFFT1.complexInverse(a, offa, false, ws);
+        }
+    }
 
-            cftbsub(2 * nBluestein, ak, 0, ip, nw, w);
+    /*
+     * Real transforms for the plans that only have a complex kernel. The data
+     * is copied into a complex array, transformed with complexForward or
+     * complexInverse, and packed back in the layout used by realForward.
+     */
 
-            for (int i = 0; i < nBluestein; i++) {
-                int idx1 = 2 * i;
-                int idx2 = idx1 + 1;
-                double im = -ak[idx1] * bk2[idx2] + ak[idx2] * bk2[idx1];
-                ak[idx1] = ak[idx1] * bk2[idx1] + ak[idx2] * bk2[idx2];
-                ak[idx2] = im;
-            }
+    private void real_forward_complex(final double[] a, final int offa, Workspace ws) {
+        final double[] b = ws.b;
+        for (int k = 0; k < n; k++) {
+            b[2 * k] = a[offa + k];
+            b[2 * k + 1] = 0;
         }
+        complexForward(b, 0, ws);
+        a[offa] = b[0];
+        a[offa + 1] = b[n];
+        System.arraycopy(b, 2, a, offa + 2, n - 2);
+    }
 
-        cftfsub(2 * nBluestein, ak, 0, ip, nw, w);
+    private void real_inverse2_complex(final double[] a, final int offa, Workspace ws) {
+        real_forward_complex(a, offa, ws);
+        for (int k = 3; k < n; k += 2) {
+            a[offa + k] = -a[offa + k];
+        }
+        if (n % 2 == 1) {
+            a[offa + 1] = -a[offa + 1];
+        }
+    }
 
+    private void real_inverse_complex(final double[] a, final int offa, Workspace ws) {
+        final double[] b = ws.b;
+        b[0] = a[offa];
+        b[1] = 0;
+        for (int k = 1; 2 * k < n; k++) {
+            int idx1 = 2 * k;
+            int idx2 = 2 * (n - k);
+            double re = a[offa + idx1];
+            double im = (idx1 + 1 < n) ? a[offa + idx1 + 1] : a[offa + 1];
+            b[idx1] = re;
+            b[idx1 + 1] = im;
+            b[idx2] = re;
+            b[idx2 + 1] = -im;
+        }
         if (n % 2 == 0) {
-            a[offa] = bk1[0] * ak[0] - bk1[1] * ak[1];
-            a[offa + 1] = bk1[n] * ak[n] - bk1[n + 1] * ak[n + 1];
-            for (int i = 1; i < n / 2; i++) {
-                int idx1 = 2 * i;
-                int idx2 = idx1 + 1;
-                a[offa + idx1] = bk1[idx1] * ak[idx1] - bk1[idx2] * ak[idx2];
-                a[offa + idx2] = bk1[idx2] * ak[idx1] + bk1[idx1] * ak[idx2];
-            }
+            b[n] = a[offa + 1];
+            b[n + 1] = 0;
+        }
+        complexInverse(b, 0, false, ws);
+        for (int k = 0; k < n; k++) {
+            a[offa + k] = b[2 * k];
+        }
+    }
+
+    private void real_full_complex(final double[] a, final int offa, final int isign, Workspace ws) {
+        final double[] b = ws.b;
+        for (int k = 0; k < n; k++) {
+            b[2 * k] = a[offa + k];
+            b[2 * k + 1] = 0;
+        }
+        if (isign > 0) {
+            complexInverse(b, 0, false, ws);
         } else {
-            a[offa] = bk1[0] * ak[0] - bk1[1] * ak[1];
-            a[offa + 1] = bk1[n] * ak[n - 1] + bk1[n - 1] * ak[n];
-            for (int i = 1; i < (n - 1) / 2; i++) {
-                int idx1 = 2 * i;
-                int idx2 = idx1 + 1;
-                a[offa + idx1] = bk1[idx1] * ak[idx1] - bk1[idx2] * ak[idx2];
-                a[offa + idx2] = bk1[idx2] * ak[idx1] + bk1[idx1] * ak[idx2];
-            }
-            a[offa + n - 1] = bk1[n - 1] * ak[n - 1] - bk1[n] * ak[n];
+            complexForward(b, 0, ws);
         }
+        System.arraycopy(b, 0, a, offa, 2 * n);
     }
 
     /*---------------------------------------------------------
        rfftf1: further processing of Real forward FFT
       --------------------------------------------------------*/
-    void rfftf(final double a[], final int offa) {
+    void rfftf(final double a[], final int offa, Workspace ws) {
         if (n == 1)
             return;
         int l1, l2, na, kh, nf, ip, iw, ido, idl1;
 
-        final double[] ch = new double[n];
+        final double[] ch = ws.ak;
         final int twon = 2 * n;
         nf = (int) wtable_r[1 + twon];
         na = 1;
@@ -1754,31 +3673,16 @@ public class DoubleFFT_1D {
             na = 1 - na;
             switch (ip) {
             case 2:
-                if (na == 0) {
-                    radf2(ido, l1, a, offa, ch, 0, iw);
-                } else {
-                    radf2(ido, l1, ch, 0, a, offa, iw);
-                }
-                break;
             case 3:
-                if (na == 0) {
-                    radf3(ido, l1, a, offa, ch, 0, iw);
-                } else {
-                    radf3(ido, l1, ch, 0, a, offa, iw);
-                }
-                break;
             case 4:
-                if (na == 0) {
-                    radf4(ido, l1, a, offa, ch, 0, iw);
-                } else {
-                    radf4(ido, l1, ch, 0, a, offa, iw);
-                }
-                break;
             case 5:
+            case 7:
+            case 11:
+            case 13:
                 if (na == 0) {
-                    radf5(ido, l1, a, offa, ch, 0, iw);
+                    rfftfStage(ip, ido, l1, a, offa, ch, 0, iw);
                 } else {
-                    radf5(ido, l1, ch, 0, a, offa, iw);
+                    rfftfStage(ip, ido, l1, ch, 0, a, offa, iw);
                 }
                 break;
             default:
@@ -1803,12 +3707,12 @@ public class DoubleFFT_1D {
     /*---------------------------------------------------------
        rfftb1: further processing of Real backward FFT
       --------------------------------------------------------*/
-    void rfftb(final double a[], final int offa) {
+    void rfftb(final double a[], final int offa, Workspace ws) {
         if (n == 1)
             return;
         int l1, l2, na, nf, ip, iw, ido, idl1;
 
-        double[] ch = new double[n];
+        double[] ch = ws.ak;
         final int twon = 2 * n;
         nf = (int) wtable_r[1 + twon];
         na = 0;
@@ -1821,34 +3725,16 @@ public class DoubleFFT_1D {
             idl1 = ido * l1;
             switch (ip) {
             case 2:
-                if (na == 0) {
-                    radb2(ido, l1, a, offa, ch, 0, iw);
-                } else {
-                    radb2(ido, l1, ch, 0, a, offa, iw);
-                }
-                na = 1 - na;
-                break;
             case 3:
-                if (na == 0) {
-                    radb3(ido, l1, a, offa, ch, 0, iw);
-                } else {
-                    radb3(ido, l1, ch, 0, a, offa, iw);
-                }
-                na = 1 - na;
-                break;
             case 4:
-                if (na == 0) {
-                    radb4(ido, l1, a, offa, ch, 0, iw);
-                } else {
-                    radb4(ido, l1, ch, 0, a, offa, iw);
-                }
-                na = 1 - na;
-                break;
             case 5:
+            case 7:
+            case 11:
+            case 13:
                 if (na == 0) {
-                    radb5(ido, l1, a, offa, ch, 0, iw);
+                    rfftbStage(ip, ido, l1, a, offa, ch, 0, iw);
                 } else {
-                    radb5(ido, l1, ch, 0, a, offa, iw);
+                    rfftbStage(ip, ido, l1, ch, 0, a, offa, iw);
                 }
                 na = 1 - na;
                 break;
@@ -1873,34 +3759,36 @@ public class DoubleFFT_1D {
     /*-------------------------------------------------
        radf2: Real FFT's forward processing of factor 2
       -------------------------------------------------*/
-    void radf2(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset) {
+    void radf2(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset, final int k0, final int k1, final int i0, final int i1) {
         int i, ic, idx0, idx1, idx2, idx3, idx4;
         double t1i, t1r, w1r, w1i;
         int iw1;
         iw1 = offset;
         idx0 = l1 * ido;
         idx1 = 2 * ido;
-        for (int k = 0; k < l1; k++) {
-            int oidx1 = out_off + k * idx1;
-            int oidx2 = oidx1 + idx1 - 1;
-            int iidx1 = in_off + k * ido;
-            int iidx2 = iidx1 + idx0;
+        if (i0 == 0) {
+            for (int k = k0; k < k1; k++) {
+                int oidx1 = out_off + k * idx1;
+                int oidx2 = oidx1 + idx1 - 1;
+                int iidx1 = in_off + k * ido;
+                int iidx2 = iidx1 + idx0;
 
-            double i1r = in[iidx1];
-            double i2r = in[iidx2];
+                double i1r = in[iidx1];
+                double i2r = in[iidx2];
 
-            out[oidx1] = i1r + i2r;
-            out[oidx2] = i1r - i2r;
+                out[oidx1] = i1r + i2r;
+                out[oidx2] = i1r - i2r;
+            }
         }
         if (ido < 2)
             return;
         if (ido != 2) {
-            for (int k = 0; k < l1; k++) {
+            for (int k = k0; k < k1; k++) {
                 idx1 = k * ido;
                 idx2 = 2 * idx1;
                 idx3 = idx2 + ido;
                 idx4 = idx1 + idx0;
-                for (i = 2; i < ido; i += 2) {
+                for (i = Math.max(i0, 2); i < Math.min(i1, ido); i += 2) {
                     ic = ido - i;
                     int widx1 = i - 1 + iw1;
                     int oidx1 = out_off + i + idx2;
@@ -1930,46 +3818,50 @@ public class DoubleFFT_1D {
                 return;
         }
         idx2 = 2 * idx1;
-        for (int k = 0; k < l1; k++) {
-            idx1 = k * ido;
-            int oidx1 = out_off + idx2 + ido;
-            int iidx1 = in_off + ido - 1 + idx1;
+        if (i1 > ido) {
+            for (int k = k0; k < k1; k++) {
+                idx1 = k * ido;
+                int oidx1 = out_off + idx2 + ido;
+                int iidx1 = in_off + ido - 1 + idx1;
 
-            out[oidx1] = -in[iidx1 + idx0];
-            out[oidx1 - 1] = in[iidx1];
+                out[oidx1] = -in[iidx1 + idx0];
+                out[oidx1 - 1] = in[iidx1];
+            }
         }
     }
 
     /*-------------------------------------------------
        radb2: Real FFT's backward processing of factor 2
       -------------------------------------------------*/
-    void radb2(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset) {
+    void radb2(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset, final int k0, final int k1, final int i0, final int i1) {
         int i, ic;
         double t1i, t1r, w1r, w1i;
         int iw1 = offset;
 
         int idx0 = l1 * ido;
-        for (int k = 0; k < l1; k++) {
-            int idx1 = k * ido;
-            int idx2 = 2 * idx1;
-            int idx3 = idx2 + ido;
-            int oidx1 = out_off + idx1;
-            int iidx1 = in_off + idx2;
-            int iidx2 = in_off + ido - 1 + idx3;
-            double i1r = in[iidx1];
-            double i2r = in[iidx2];
-            out[oidx1] = i1r + i2r;
-            out[oidx1 + idx0] = i1r - i2r;
+        if (i0 == 0) {
+            for (int k = k0; k < k1; k++) {
+                int idx1 = k * ido;
+                int idx2 = 2 * idx1;
+                int idx3 = idx2 + ido;
+                int oidx1 = out_off + idx1;
+                int iidx1 = in_off + idx2;
+                int iidx2 = in_off + ido - 1 + idx3;
+                double i1r = in[iidx1];
+                double i2r = in[iidx2];
+                out[oidx1] = i1r + i2r;
+                out[oidx1 + idx0] = i1r - i2r;
+            }
         }
         if (ido < 2)
             return;
         if (ido != 2) {
-            for (int k = 0; k < l1; ++k) {
+            for (int k = k0; k < k1; k++) {
                 int idx1 = k * ido;
                 int idx2 = 2 * idx1;
                 int idx3 = idx2 + ido;
                 int idx4 = idx1 + idx0;
-                for (i = 2; i < ido; i += 2) {
+                for (i = Math.max(i0, 2); i < Math.min(i1, ido); i += 2) {
                     ic = ido - i;
                     int idx5 = i - 1 + iw1;
                     int idx6 = out_off + i;
@@ -1997,20 +3889,22 @@ public class DoubleFFT_1D {
             if (ido % 2 == 1)
                 return;
         }
-        for (int k = 0; k < l1; k++) {
-            int idx1 = k * ido;
-            int idx2 = 2 * idx1;
-            int oidx1 = out_off + ido - 1 + idx1;
-            int iidx1 = in_off + idx2 + ido;
-            out[oidx1] = 2 * in[iidx1 - 1];
-            out[oidx1 + idx0] = -2 * in[iidx1];
+        if (i1 > ido) {
+            for (int k = k0; k < k1; k++) {
+                int idx1 = k * ido;
+                int idx2 = 2 * idx1;
+                int oidx1 = out_off + ido - 1 + idx1;
+                int iidx1 = in_off + idx2 + ido;
+                out[oidx1] = 2 * in[iidx1 - 1];
+                out[oidx1 + idx0] = -2 * in[iidx1];
+            }
         }
     }
 
     /*-------------------------------------------------
        radf3: Real FFT's forward processing of factor 3 
       -------------------------------------------------*/
-    void radf3(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset) {
+    void radf3(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset, final int k0, final int k1, final int i0, final int i1) {
         final double taur = -0.5;
         final double taui = 0.866025403784438707610604524234076962;
         int i, ic;
@@ -2020,31 +3914,33 @@ public class DoubleFFT_1D {
         iw2 = iw1 + ido;
 
         int idx0 = l1 * ido;
-        for (int k = 0; k < l1; k++) {
-            int idx1 = k * ido;
-            int idx3 = 2 * idx0;
-            int idx4 = (3 * k + 1) * ido;
-            int iidx1 = in_off + idx1;
-            int iidx2 = iidx1 + idx0;
-            int iidx3 = iidx1 + idx3;
-            double i1r = in[iidx1];
-            double i2r = in[iidx2];
-            double i3r = in[iidx3];
-            cr2 = i2r + i3r;
-            out[out_off + 3 * idx1] = i1r + cr2;
-            out[out_off + idx4 + ido] = taui * (i3r - i2r);
-            out[out_off + ido - 1 + idx4] = i1r + taur * cr2;
+        if (i0 == 0) {
+            for (int k = k0; k < k1; k++) {
+                int idx1 = k * ido;
+                int idx3 = 2 * idx0;
+                int idx4 = (3 * k + 1) * ido;
+                int iidx1 = in_off + idx1;
+                int iidx2 = iidx1 + idx0;
+                int iidx3 = iidx1 + idx3;
+                double i1r = in[iidx1];
+                double i2r = in[iidx2];
+                double i3r = in[iidx3];
+                cr2 = i2r + i3r;
+                out[out_off + 3 * idx1] = i1r + cr2;
+                out[out_off + idx4 + ido] = taui * (i3r - i2r);
+                out[out_off + ido - 1 + idx4] = i1r + taur * cr2;
+            }
         }
         if (ido == 1)
             return;
-        for (int k = 0; k < l1; k++) {
+        for (int k = k0; k < k1; k++) {
             int idx3 = k * ido;
             int idx4 = 3 * idx3;
             int idx5 = idx3 + idx0;
             int idx6 = idx5 + idx0;
             int idx7 = idx4 + ido;
             int idx8 = idx7 + ido;
-            for (i = 2; i < ido; i += 2) {
+            for (i = Math.max(i0, 2); i < Math.min(i1, ido); i += 2) {
                 ic = ido - i;
                 int widx1 = i - 1 + iw1;
                 int widx2 = i - 1 + iw2;
@@ -2096,7 +3992,7 @@ public class DoubleFFT_1D {
     /*-------------------------------------------------
        radb3: Real FFT's backward processing of factor 3
       -------------------------------------------------*/
-    void radb3(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset) {
+    void radb3(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset, final int k0, final int k1, final int i0, final int i1) {
         final double taur = -0.5;
         final double taui = 0.866025403784438707610604524234076962;
         int i, ic;
@@ -2105,31 +4001,33 @@ public class DoubleFFT_1D {
         iw1 = offset;
         iw2 = iw1 + ido;
 
-        for (int k = 0; k < l1; k++) {
-            int idx1 = k * ido;
-            int iidx1 = in_off + 3 * idx1;
-            int iidx2 = iidx1 + 2 * ido;
-            double i1i = in[iidx1];
+        if (i0 == 0) {
+            for (int k = k0; k < k1; k++) {
+                int idx1 = k * ido;
+                int iidx1 = in_off + 3 * idx1;
+                int iidx2 = iidx1 + 2 * ido;
+                double i1i = in[iidx1];
 
-            tr2 = 2 * in[iidx2 - 1];
-            cr2 = i1i + taur * tr2;
-            ci3 = 2 * taui * in[iidx2];
+                tr2 = 2 * in[iidx2 - 1];
+                cr2 = i1i + taur * tr2;
+                ci3 = 2 * taui * in[iidx2];
 
-            out[out_off + idx1] = i1i + tr2;
-            out[out_off + (k + l1) * ido] = cr2 - ci3;
-            out[out_off + (k + 2 * l1) * ido] = cr2 + ci3;
+                out[out_off + idx1] = i1i + tr2;
+                out[out_off + (k + l1) * ido] = cr2 - ci3;
+                out[out_off + (k + 2 * l1) * ido] = cr2 + ci3;
+            }
         }
         if (ido == 1)
             return;
         int idx0 = l1 * ido;
-        for (int k = 0; k < l1; k++) {
+        for (int k = k0; k < k1; k++) {
             int idx1 = k * ido;
             int idx2 = 3 * idx1;
             int idx3 = idx2 + ido;
             int idx4 = idx3 + ido;
             int idx5 = idx1 + idx0;
             int idx6 = idx5 + idx0;
-            for (i = 2; i < ido; i += 2) {
+            for (i = Math.max(i0, 2); i < Math.min(i1, ido); i += 2) {
                 ic = ido - i;
                 int idx7 = in_off + i;
                 int idx8 = in_off + ic;
@@ -2181,7 +4079,7 @@ public class DoubleFFT_1D {
     /*-------------------------------------------------
        radf4: Real FFT's forward processing of factor 4
       -------------------------------------------------*/
-    void radf4(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset) {
+    void radf4(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset, final int k0, final int k1, final int i0, final int i1) {
         final double hsqt2 = 0.707106781186547572737310929369414225;
         int i, ic;
         double ci2, ci3, ci4, cr2, cr3, cr4, ti1, ti2, ti3, ti4, tr1, tr2, tr3, tr4, w1r, w1i, w2r, w2i, w3r, w3i;
@@ -2190,33 +4088,35 @@ public class DoubleFFT_1D {
         iw2 = offset + ido;
         iw3 = iw2 + ido;
         int idx0 = l1 * ido;
-        for (int k = 0; k < l1; k++) {
-            int idx1 = k * ido;
-            int idx2 = 4 * idx1;
-            int idx3 = idx1 + idx0;
-            int idx4 = idx3 + idx0;
-            int idx5 = idx4 + idx0;
-            int idx6 = idx2 + ido;
-            double i1r = in[in_off + idx1];
-            double i2r = in[in_off + idx3];
-            double i3r = in[in_off + idx4];
-            double i4r = in[in_off + idx5];
-
-            tr1 = i2r + i4r;
-            tr2 = i1r + i3r;
-
-            int oidx1 = out_off + idx2;
-            int oidx2 = out_off + idx6 + ido;
-
-            out[oidx1] = tr1 + tr2;
-            out[oidx2 - 1 + ido + ido] = tr2 - tr1;
-            out[oidx2 - 1] = i1r - i3r;
-            out[oidx2] = i4r - i2r;
+        if (i0 == 0) {
+            for (int k = k0; k < k1; k++) {
+                int idx1 = k * ido;
+                int idx2 = 4 * idx1;
+                int idx3 = idx1 + idx0;
+                int idx4 = idx3 + idx0;
+                int idx5 = idx4 + idx0;
+                int idx6 = idx2 + ido;
+                double i1r = in[in_off + idx1];
+                double i2r = in[in_off + idx3];
+                double i3r = in[in_off + idx4];
+                double i4r = in[in_off + idx5];
+
+                tr1 = i2r + i4r;
+                tr2 = i1r + i3r;
+
+                int oidx1 = out_off + idx2;
+                int oidx2 = out_off + idx6 + ido;
+
+                out[oidx1] = tr1 + tr2;
+                out[oidx2 - 1 + ido + ido] = tr2 - tr1;
+                out[oidx2 - 1] = i1r - i3r;
+                out[oidx2] = i4r - i2r;
+            }
         }
         if (ido < 2)
             return;
         if (ido != 2) {
-            for (int k = 0; k < l1; k++) {
+            for (int k = k0; k < k1; k++) {
                 int idx1 = k * ido;
                 int idx2 = idx1 + idx0;
                 int idx3 = idx2 + idx0;
@@ -2225,7 +4125,7 @@ public class DoubleFFT_1D {
                 int idx6 = idx5 + ido;
                 int idx7 = idx6 + ido;
                 int idx8 = idx7 + ido;
-                for (i = 2; i < ido; i += 2) {
+                for (i = Math.max(i0, 2); i < Math.min(i1, ido); i += 2) {
                     ic = ido - i;
                     int widx1 = i - 1 + iw1;
                     int widx2 = i - 1 + iw2;
@@ -2287,37 +4187,39 @@ public class DoubleFFT_1D {
             if (ido % 2 == 1)
                 return;
         }
-        for (int k = 0; k < l1; k++) {
-            int idx1 = k * ido;
-            int idx2 = 4 * idx1;
-            int idx3 = idx1 + idx0;
-            int idx4 = idx3 + idx0;
-            int idx5 = idx4 + idx0;
-            int idx6 = idx2 + ido;
-            int idx7 = idx6 + ido;
-            int idx8 = idx7 + ido;
-            int idx9 = in_off + ido;
-            int idx10 = out_off + ido;
+        if (i1 > ido) {
+            for (int k = k0; k < k1; k++) {
+                int idx1 = k * ido;
+                int idx2 = 4 * idx1;
+                int idx3 = idx1 + idx0;
+                int idx4 = idx3 + idx0;
+                int idx5 = idx4 + idx0;
+                int idx6 = idx2 + ido;
+                int idx7 = idx6 + ido;
+                int idx8 = idx7 + ido;
+                int idx9 = in_off + ido;
+                int idx10 = out_off + ido;
 
-            double i1i = in[idx9 - 1 + idx1];
-            double i2i = in[idx9 - 1 + idx3];
-            double i3i = in[idx9 - 1 + idx4];
-            double i4i = in[idx9 - 1 + idx5];
+                double i1i = in[idx9 - 1 + idx1];
+                double i2i = in[idx9 - 1 + idx3];
+                double i3i = in[idx9 - 1 + idx4];
+                double i4i = in[idx9 - 1 + idx5];
 
-            ti1 = -hsqt2 * (i2i + i4i);
-            tr1 = hsqt2 * (i2i - i4i);
+                ti1 = -hsqt2 * (i2i + i4i);
+                tr1 = hsqt2 * (i2i - i4i);
 
-            out[idx10 - 1 + idx2] = tr1 + i1i;
-            out[idx10 - 1 + idx7] = i1i - tr1;
-            out[out_off + idx6] = ti1 - i3i;
-            out[out_off + idx8] = ti1 + i3i;
+                out[idx10 - 1 + idx2] = tr1 + i1i;
+                out[idx10 - 1 + idx7] = i1i - tr1;
+                out[out_off + idx6] = ti1 - i3i;
+                out[out_off + idx8] = ti1 + i3i;
+            }
         }
     }
 
     /*-------------------------------------------------
        radb4: Real FFT's backward processing of factor 4
       -------------------------------------------------*/
-    void radb4(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset) {
+    void radb4(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset, final int k0, final int k1, final int i0, final int i1) {
         final double sqrt2 = 1.41421356237309514547462185873882845;
         int i, ic;
         double ci2, ci3, ci4, cr2, cr3, cr4;
@@ -2328,35 +4230,37 @@ public class DoubleFFT_1D {
         iw3 = iw2 + ido;
 
         int idx0 = l1 * ido;
-        for (int k = 0; k < l1; k++) {
-            int idx1 = k * ido;
-            int idx2 = 4 * idx1;
-            int idx3 = idx1 + idx0;
-            int idx4 = idx3 + idx0;
-            int idx5 = idx4 + idx0;
-            int idx6 = idx2 + ido;
-            int idx7 = idx6 + ido;
-            int idx8 = idx7 + ido;
+        if (i0 == 0) {
+            for (int k = k0; k < k1; k++) {
+                int idx1 = k * ido;
+                int idx2 = 4 * idx1;
+                int idx3 = idx1 + idx0;
+                int idx4 = idx3 + idx0;
+                int idx5 = idx4 + idx0;
+                int idx6 = idx2 + ido;
+                int idx7 = idx6 + ido;
+                int idx8 = idx7 + ido;
 
-            double i1r = in[in_off + idx2];
-            double i2r = in[in_off + idx7];
-            double i3r = in[in_off + ido - 1 + idx8];
-            double i4r = in[in_off + ido - 1 + idx6];
+                double i1r = in[in_off + idx2];
+                double i2r = in[in_off + idx7];
+                double i3r = in[in_off + ido - 1 + idx8];
+                double i4r = in[in_off + ido - 1 + idx6];
 
-            tr1 = i1r - i3r;
-            tr2 = i1r + i3r;
-            tr3 = i4r + i4r;
-            tr4 = i2r + i2r;
+                tr1 = i1r - i3r;
+                tr2 = i1r + i3r;
+                tr3 = i4r + i4r;
+                tr4 = i2r + i2r;
 
-            out[out_off + idx1] = tr2 + tr3;
-            out[out_off + idx3] = tr1 - tr4;
-            out[out_off + idx4] = tr2 - tr3;
-            out[out_off + idx5] = tr1 + tr4;
+                out[out_off + idx1] = tr2 + tr3;
+                out[out_off + idx3] = tr1 - tr4;
+                out[out_off + idx4] = tr2 - tr3;
+                out[out_off + idx5] = tr1 + tr4;
+            }
         }
         if (ido < 2)
             return;
         if (ido != 2) {
-            for (int k = 0; k < l1; ++k) {
+            for (int k = k0; k < k1; k++) {
                 int idx1 = k * ido;
                 int idx2 = idx1 + idx0;
                 int idx3 = idx2 + idx0;
@@ -2365,7 +4269,7 @@ public class DoubleFFT_1D {
                 int idx6 = idx5 + ido;
                 int idx7 = idx6 + ido;
                 int idx8 = idx7 + ido;
-                for (i = 2; i < ido; i += 2) {
+                for (i = Math.max(i0, 2); i < Math.min(i1, ido); i += 2) {
                     ic = ido - i;
                     int widx1 = i - 1 + iw1;
                     int widx2 = i - 1 + iw2;
@@ -2428,39 +4332,41 @@ public class DoubleFFT_1D {
             if (ido % 2 == 1)
                 return;
         }
-        for (int k = 0; k < l1; k++) {
-            int idx1 = k * ido;
-            int idx2 = 4 * idx1;
-            int idx3 = idx1 + idx0;
-            int idx4 = idx3 + idx0;
-            int idx5 = idx4 + idx0;
-            int idx6 = idx2 + ido;
-            int idx7 = idx6 + ido;
-            int idx8 = idx7 + ido;
-            int idx9 = in_off + ido;
-            int idx10 = out_off + ido;
+        if (i1 > ido) {
+            for (int k = k0; k < k1; k++) {
+                int idx1 = k * ido;
+                int idx2 = 4 * idx1;
+                int idx3 = idx1 + idx0;
+                int idx4 = idx3 + idx0;
+                int idx5 = idx4 + idx0;
+                int idx6 = idx2 + ido;
+                int idx7 = idx6 + ido;
+                int idx8 = idx7 + ido;
+                int idx9 = in_off + ido;
+                int idx10 = out_off + ido;
 
-            double i1r = in[idx9 - 1 + idx2];
-            double i2r = in[idx9 - 1 + idx7];
-            double i3r = in[in_off + idx6];
-            double i4r = in[in_off + idx8];
+                double i1r = in[idx9 - 1 + idx2];
+                double i2r = in[idx9 - 1 + idx7];
+                double i3r = in[in_off + idx6];
+                double i4r = in[in_off + idx8];
 
-            ti1 = i3r + i4r;
-            ti2 = i4r - i3r;
-            tr1 = i1r - i2r;
-            tr2 = i1r + i2r;
+                ti1 = i3r + i4r;
+                ti2 = i4r - i3r;
+                tr1 = i1r - i2r;
+                tr2 = i1r + i2r;
 
-            out[idx10 - 1 + idx1] = tr2 + tr2;
-            out[idx10 - 1 + idx3] = sqrt2 * (tr1 - ti1);
-            out[idx10 - 1 + idx4] = ti2 + ti2;
-            out[idx10 - 1 + idx5] = -sqrt2 * (tr1 + ti1);
+                out[idx10 - 1 + idx1] = tr2 + tr2;
+                out[idx10 - 1 + idx3] = sqrt2 * (tr1 - ti1);
+                out[idx10 - 1 + idx4] = ti2 + ti2;
+                out[idx10 - 1 + idx5] = -sqrt2 * (tr1 + ti1);
+            }
         }
     }
 
     /*-------------------------------------------------
        radf5: Real FFT's forward processing of factor 5
       -------------------------------------------------*/
-    void radf5(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset) {
+    void radf5(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset, final int k0, final int k1, final int i0, final int i1) {
         final double tr11 = 0.309016994374947451262869435595348477;
         final double ti11 = 0.951056516295153531181938433292089030;
         final double tr12 = -0.809016994374947340240566973079694435;
@@ -2474,39 +4380,41 @@ public class DoubleFFT_1D {
         iw4 = iw3 + ido;
 
         int idx0 = l1 * ido;
-        for (int k = 0; k < l1; k++) {
-            int idx1 = k * ido;
-            int idx2 = 5 * idx1;
-            int idx3 = idx2 + ido;
-            int idx4 = idx3 + ido;
-            int idx5 = idx4 + ido;
-            int idx6 = idx5 + ido;
-            int idx7 = idx1 + idx0;
-            int idx8 = idx7 + idx0;
-            int idx9 = idx8 + idx0;
-            int idx10 = idx9 + idx0;
-            int idx11 = out_off + ido - 1;
-
-            double i1r = in[in_off + idx1];
-            double i2r = in[in_off + idx7];
-            double i3r = in[in_off + idx8];
-            double i4r = in[in_off + idx9];
-            double i5r = in[in_off + idx10];
-
-            cr2 = i5r + i2r;
-            ci5 = i5r - i2r;
-            cr3 = i4r + i3r;
-            ci4 = i4r - i3r;
-
-            out[out_off + idx2] = i1r + cr2 + cr3;
-            out[idx11 + idx3] = i1r + tr11 * cr2 + tr12 * cr3;
-            out[out_off + idx4] = ti11 * ci5 + ti12 * ci4;
-            out[idx11 + idx5] = i1r + tr12 * cr2 + tr11 * cr3;
-            out[out_off + idx6] = ti12 * ci5 - ti11 * ci4;
+        if (i0 == 0) {
+            for (int k = k0; k < k1; k++) {
+                int idx1 = k * ido;
+                int idx2 = 5 * idx1;
+                int idx3 = idx2 + ido;
+                int idx4 = idx3 + ido;
+                int idx5 = idx4 + ido;
+                int idx6 = idx5 + ido;
+                int idx7 = idx1 + idx0;
+                int idx8 = idx7 + idx0;
+                int idx9 = idx8 + idx0;
+                int idx10 = idx9 + idx0;
+                int idx11 = out_off + ido - 1;
+
+                double i1r = in[in_off + idx1];
+                double i2r = in[in_off + idx7];
+                double i3r = in[in_off + idx8];
+                double i4r = in[in_off + idx9];
+                double i5r = in[in_off + idx10];
+
+                cr2 = i5r + i2r;
+                ci5 = i5r - i2r;
+                cr3 = i4r + i3r;
+                ci4 = i4r - i3r;
+
+                out[out_off + idx2] = i1r + cr2 + cr3;
+                out[idx11 + idx3] = i1r + tr11 * cr2 + tr12 * cr3;
+                out[out_off + idx4] = ti11 * ci5 + ti12 * ci4;
+                out[idx11 + idx5] = i1r + tr12 * cr2 + tr11 * cr3;
+                out[out_off + idx6] = ti12 * ci5 - ti11 * ci4;
+            }
         }
         if (ido == 1)
             return;
-        for (int k = 0; k < l1; ++k) {
+        for (int k = k0; k < k1; k++) {
             int idx1 = k * ido;
             int idx2 = 5 * idx1;
             int idx3 = idx2 + ido;
@@ -2517,7 +4425,7 @@ public class DoubleFFT_1D {
             int idx8 = idx7 + idx0;
             int idx9 = idx8 + idx0;
             int idx10 = idx9 + idx0;
-            for (i = 2; i < ido; i += 2) {
+            for (i = Math.max(i0, 2); i < Math.min(i1, ido); i += 2) {
                 int widx1 = i - 1 + iw1;
                 int widx2 = i - 1 + iw2;
                 int widx3 = i - 1 + iw3;
@@ -2603,7 +4511,7 @@ public class DoubleFFT_1D {
     /*-------------------------------------------------
        radb5: Real FFT's backward processing of factor 5
       -------------------------------------------------*/
-    void radb5(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset) {
+    void radb5(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset, final int k0, final int k1, final int i0, final int i1) {
         final double tr11 = 0.309016994374947451262869435595348477;
         final double ti11 = 0.951056516295153531181938433292089030;
         final double tr12 = -0.809016994374947340240566973079694435;
@@ -2617,39 +4525,41 @@ public class DoubleFFT_1D {
         iw4 = iw3 + ido;
 
         int idx0 = l1 * ido;
-        for (int k = 0; k < l1; k++) {
-            int idx1 = k * ido;
-            int idx2 = 5 * idx1;
-            int idx3 = idx2 + ido;
-            int idx4 = idx3 + ido;
-            int idx5 = idx4 + ido;
-            int idx6 = idx5 + ido;
-            int idx7 = idx1 + idx0;
-            int idx8 = idx7 + idx0;
-            int idx9 = idx8 + idx0;
-            int idx10 = idx9 + idx0;
-            int idx11 = in_off + ido - 1;
-
-            double i1r = in[in_off + idx2];
-
-            ti5 = 2 * in[in_off + idx4];
-            ti4 = 2 * in[in_off + idx6];
-            tr2 = 2 * in[idx11 + idx3];
-            tr3 = 2 * in[idx11 + idx5];
-            cr2 = i1r + tr11 * tr2 + tr12 * tr3;
-            cr3 = i1r + tr12 * tr2 + tr11 * tr3;
-            ci5 = ti11 * ti5 + ti12 * ti4;
-            ci4 = ti12 * ti5 - ti11 * ti4;
+        if (i0 == 0) {
+            for (int k = k0; k < k1; k++) {
+                int idx1 = k * ido;
+                int idx2 = 5 * idx1;
+                int idx3 = idx2 + ido;
+                int idx4 = idx3 + ido;
+                int idx5 = idx4 + ido;
+                int idx6 = idx5 + ido;
+                int idx7 = idx1 + idx0;
+                int idx8 = idx7 + idx0;
+                int idx9 = idx8 + idx0;
+                int idx10 = idx9 + idx0;
+                int idx11 = in_off + ido - 1;
+
+                double i1r = in[in_off + idx2];
+
+                ti5 = 2 * in[in_off + idx4];
+                ti4 = 2 * in[in_off + idx6];
+                tr2 = 2 * in[idx11 + idx3];
+                tr3 = 2 * in[idx11 + idx5];
+                cr2 = i1r + tr11 * tr2 + tr12 * tr3;
+                cr3 = i1r + tr12 * tr2 + tr11 * tr3;
+                ci5 = ti11 * ti5 + ti12 * ti4;
+                ci4 = ti12 * ti5 - ti11 * ti4;
 
-            out[out_off + idx1] = i1r + tr2 + tr3;
-            out[out_off + idx7] = cr2 - ci5;
-            out[out_off + idx8] = cr3 - ci4;
-            out[out_off + idx9] = cr3 + ci4;
-            out[out_off + idx10] = cr2 + ci5;
+                out[out_off + idx1] = i1r + tr2 + tr3;
+                out[out_off + idx7] = cr2 - ci5;
+                out[out_off + idx8] = cr3 - ci4;
+                out[out_off + idx9] = cr3 + ci4;
+                out[out_off + idx10] = cr2 + ci5;
+            }
         }
         if (ido == 1)
             return;
-        for (int k = 0; k < l1; ++k) {
+        for (int k = k0; k < k1; k++) {
             int idx1 = k * ido;
             int idx2 = 5 * idx1;
             int idx3 = idx2 + ido;
@@ -2660,7 +4570,7 @@ public class DoubleFFT_1D {
             int idx8 = idx7 + idx0;
             int idx9 = idx8 + idx0;
             int idx10 = idx9 + idx0;
-            for (i = 2; i < ido; i += 2) {
+            for (i = Math.max(i0, 2); i < Math.min(i1, ido); i += 2) {
                 ic = ido - i;
                 int widx1 = i - 1 + iw1;
                 int widx2 = i - 1 + iw2;
@@ -2742,6 +4652,1100 @@ public class DoubleFFT_1D {
         }
     }
 
+    /*-------------------------------------------------
+       radf7: Real FFT's forward processing of factor 7
+      -------------------------------------------------*/
+    void radf7(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset, final int k0, final int k1, final int i0, final int i1) {
+        final double c1 = 0.623489801858733530525004884004239811;
+        final double c2 = -0.222520933956314404288902564496794759;
+        final double c3 = -0.900968867902419126236102319507445051;
+        final double s1 = 0.781831482468029808708444526674057750;
+        final double s2 = 0.974927912181823607018131682993931217;
+        final double s3 = 0.433883739117558120475768332848358755;
+        final int idx0 = l1 * ido;
+        if (i0 == 0) {
+            for (int k = k0; k < k1; k++) {
+                int idx1 = in_off + k * ido;
+                int idx2 = out_off + 7 * k * ido;
+                double x0 = in[idx1];
+                double x1 = in[idx1 + idx0];
+                double x2 = in[idx1 + 2 * idx0];
+                double x3 = in[idx1 + 3 * idx0];
+                double x4 = in[idx1 + 4 * idx0];
+                double x5 = in[idx1 + 5 * idx0];
+                double x6 = in[idx1 + 6 * idx0];
+                double cr1 = x6 + x1;
+                double ci1 = x6 - x1;
+                double cr2 = x5 + x2;
+                double ci2 = x5 - x2;
+                double cr3 = x4 + x3;
+                double ci3 = x4 - x3;
+                out[idx2] = x0 + cr1 + cr2 + cr3;
+                out[idx2 + ido + ido - 1] = x0 + c1 * cr1 + c2 * cr2 + c3 * cr3;
+                out[idx2 + 2 * ido] = s1 * ci1 + s2 * ci2 + s3 * ci3;
+                out[idx2 + 3 * ido + ido - 1] = x0 + c2 * cr1 + c3 * cr2 + c1 * cr3;
+                out[idx2 + 4 * ido] = s2 * ci1 - s3 * ci2 - s1 * ci3;
+                out[idx2 + 5 * ido + ido - 1] = x0 + c3 * cr1 + c1 * cr2 + c2 * cr3;
+                out[idx2 + 6 * ido] = s3 * ci1 - s1 * ci2 + s2 * ci3;
+            }
+        }
+        if (ido == 1)
+            return;
+        for (int k = k0; k < k1; k++) {
+            int idx1 = in_off + k * ido;
+            int idx2 = out_off + 7 * k * ido;
+            for (int i = Math.max(i0, 2); i < Math.min(i1, ido); i += 2) {
+                int ic = ido - i;
+                int iidx0 = idx1 + i;
+                int iidx1 = iidx0 + idx0;
+                int iidx2 = iidx1 + idx0;
+                int iidx3 = iidx2 + idx0;
+                int iidx4 = iidx3 + idx0;
+                int iidx5 = iidx4 + idx0;
+                int iidx6 = iidx5 + idx0;
+                double x0r = in[iidx0 - 1];
+                double x0i = in[iidx0];
+                int widx1 = i - 2 + offset;
+                double w1r = wtable_r[widx1];
+                double w1i = wtable_r[widx1 + 1];
+                double dr1 = w1r * in[iidx1 - 1] + w1i * in[iidx1];
+                double di1 = w1r * in[iidx1] - w1i * in[iidx1 - 1];
+                int widx2 = i - 2 + offset + 1 * ido;
+                double w2r = wtable_r[widx2];
+                double w2i = wtable_r[widx2 + 1];
+                double dr2 = w2r * in[iidx2 - 1] + w2i * in[iidx2];
+                double di2 = w2r * in[iidx2] - w2i * in[iidx2 - 1];
+                int widx3 = i - 2 + offset + 2 * ido;
+                double w3r = wtable_r[widx3];
+                double w3i = wtable_r[widx3 + 1];
+                double dr3 = w3r * in[iidx3 - 1] + w3i * in[iidx3];
+                double di3 = w3r * in[iidx3] - w3i * in[iidx3 - 1];
+                int widx4 = i - 2 + offset + 3 * ido;
+                double w4r = wtable_r[widx4];
+                double w4i = wtable_r[widx4 + 1];
+                double dr4 = w4r * in[iidx4 - 1] + w4i * in[iidx4];
+                double di4 = w4r * in[iidx4] - w4i * in[iidx4 - 1];
+                int widx5 = i - 2 + offset + 4 * ido;
+                double w5r = wtable_r[widx5];
+                double w5i = wtable_r[widx5 + 1];
+                double dr5 = w5r * in[iidx5 - 1] + w5i * in[iidx5];
+                double di5 = w5r * in[iidx5] - w5i * in[iidx5 - 1];
+                int widx6 = i - 2 + offset + 5 * ido;
+                double w6r = wtable_r[widx6];
+                double w6i = wtable_r[widx6 + 1];
+                double dr6 = w6r * in[iidx6 - 1] + w6i * in[iidx6];
+                double di6 = w6r * in[iidx6] - w6i * in[iidx6 - 1];
+
+                double cr1 = dr1 + dr6;
+                double ci1 = di1 + di6;
+                double sr1 = di1 - di6;
+                double si1 = dr6 - dr1;
+                double cr2 = dr2 + dr5;
+                double ci2 = di2 + di5;
+                double sr2 = di2 - di5;
+                double si2 = dr5 - dr2;
+                double cr3 = dr3 + dr4;
+                double ci3 = di3 + di4;
+                double sr3 = di3 - di4;
+                double si3 = dr4 - dr3;
+
+                int oidx0 = idx2 + i;
+                int oidx1 = idx2 + ic;
+                out[oidx0 - 1] = x0r + cr1 + cr2 + cr3;
+                out[oidx0] = x0i + ci1 + ci2 + ci3;
+                double tr1 = x0r + c1 * cr1 + c2 * cr2 + c3 * cr3;
+                double ti1 = x0i + c1 * ci1 + c2 * ci2 + c3 * ci3;
+                double ur1 = s1 * sr1 + s2 * sr2 + s3 * sr3;
+                double ui1 = s1 * si1 + s2 * si2 + s3 * si3;
+                out[oidx0 + 2 * ido - 1] = tr1 + ur1;
+                out[oidx1 + ido - 1] = tr1 - ur1;
+                out[oidx0 + 2 * ido] = ti1 + ui1;
+                out[oidx1 + ido] = ui1 - ti1;
+                double tr2 = x0r + c2 * cr1 + c3 * cr2 + c1 * cr3;
+                double ti2 = x0i + c2 * ci1 + c3 * ci2 + c1 * ci3;
+                double ur2 = s2 * sr1 - s3 * sr2 - s1 * sr3;
+                double ui2 = s2 * si1 - s3 * si2 - s1 * si3;
+                out[oidx0 + 4 * ido - 1] = tr2 + ur2;
+                out[oidx1 + 3 * ido - 1] = tr2 - ur2;
+                out[oidx0 + 4 * ido] = ti2 + ui2;
+                out[oidx1 + 3 * ido] = ui2 - ti2;
+                double tr3 = x0r + c3 * cr1 + c1 * cr2 + c2 * cr3;
+                double ti3 = x0i + c3 * ci1 + c1 * ci2 + c2 * ci3;
+                double ur3 = s3 * sr1 - s1 * sr2 + s2 * sr3;
+                double ui3 = s3 * si1 - s1 * si2 + s2 * si3;
+                out[oidx0 + 6 * ido - 1] = tr3 + ur3;
+                out[oidx1 + 5 * ido - 1] = tr3 - ur3;
+                out[oidx0 + 6 * ido] = ti3 + ui3;
+                out[oidx1 + 5 * ido] = ui3 - ti3;
+            }
+        }
+    }
+
+    /*-------------------------------------------------
+       radb7: Real FFT's backward processing of factor 7
+      -------------------------------------------------*/
+    void radb7(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset, final int k0, final int k1, final int i0, final int i1) {
+        final double c1 = 0.623489801858733530525004884004239811;
+        final double c2 = -0.222520933956314404288902564496794759;
+        final double c3 = -0.900968867902419126236102319507445051;
+        final double s1 = 0.781831482468029808708444526674057750;
+        final double s2 = 0.974927912181823607018131682993931217;
+        final double s3 = 0.433883739117558120475768332848358755;
+        final int idx0 = l1 * ido;
+        if (i0 == 0) {
+            for (int k = k0; k < k1; k++) {
+                int idx1 = out_off + k * ido;
+                int idx2 = in_off + 7 * k * ido;
+                double x0 = in[idx2];
+                double tr1 = 2 * in[idx2 + ido + ido - 1];
+                double ti1 = 2 * in[idx2 + 2 * ido];
+                double tr2 = 2 * in[idx2 + 3 * ido + ido - 1];
+                double ti2 = 2 * in[idx2 + 4 * ido];
+                double tr3 = 2 * in[idx2 + 5 * ido + ido - 1];
+                double ti3 = 2 * in[idx2 + 6 * ido];
+                out[idx1] = x0 + tr1 + tr2 + tr3;
+                double cr1 = x0 + c1 * tr1 + c2 * tr2 + c3 * tr3;
+                double ci1 = s1 * ti1 + s2 * ti2 + s3 * ti3;
+                out[idx1 + idx0] = cr1 - ci1;
+                out[idx1 + 6 * idx0] = cr1 + ci1;
+                double cr2 = x0 + c2 * tr1 + c3 * tr2 + c1 * tr3;
+                double ci2 = s2 * ti1 - s3 * ti2 - s1 * ti3;
+                out[idx1 + 2 * idx0] = cr2 - ci2;
+                out[idx1 + 5 * idx0] = cr2 + ci2;
+                double cr3 = x0 + c3 * tr1 + c1 * tr2 + c2 * tr3;
+                double ci3 = s3 * ti1 - s1 * ti2 + s2 * ti3;
+                out[idx1 + 3 * idx0] = cr3 - ci3;
+                out[idx1 + 4 * idx0] = cr3 + ci3;
+            }
+        }
+        if (ido == 1)
+            return;
+        for (int k = k0; k < k1; k++) {
+            int idx1 = out_off + k * ido;
+            int idx2 = in_off + 7 * k * ido;
+            for (int i = Math.max(i0, 2); i < Math.min(i1, ido); i += 2) {
+                int ic = ido - i;
+                int iidx0 = idx2 + i;
+                int iidx1 = idx2 + ic;
+                double x0r = in[iidx0 - 1];
+                double x0i = in[iidx0];
+                double ar1 = in[iidx0 + 2 * ido - 1] + in[iidx1 + ido - 1];
+                double br1 = in[iidx0 + 2 * ido - 1] - in[iidx1 + ido - 1];
+                double ai1 = in[iidx0 + 2 * ido] - in[iidx1 + ido];
+                double bi1 = in[iidx0 + 2 * ido] + in[iidx1 + ido];
+                double ar2 = in[iidx0 + 4 * ido - 1] + in[iidx1 + 3 * ido - 1];
+                double br2 = in[iidx0 + 4 * ido - 1] - in[iidx1 + 3 * ido - 1];
+                double ai2 = in[iidx0 + 4 * ido] - in[iidx1 + 3 * ido];
+                double bi2 = in[iidx0 + 4 * ido] + in[iidx1 + 3 * ido];
+                double ar3 = in[iidx0 + 6 * ido - 1] + in[iidx1 + 5 * ido - 1];
+                double br3 = in[iidx0 + 6 * ido - 1] - in[iidx1 + 5 * ido - 1];
+                double ai3 = in[iidx0 + 6 * ido] - in[iidx1 + 5 * ido];
+                double bi3 = in[iidx0 + 6 * ido] + in[iidx1 + 5 * ido];
+
+                int oidx0 = idx1 + i;
+                out[oidx0 - 1] = x0r + ar1 + ar2 + ar3;
+                out[oidx0] = x0i + ai1 + ai2 + ai3;
+                double cr1 = x0r + c1 * ar1 + c2 * ar2 + c3 * ar3;
+                double ci1 = x0i + c1 * ai1 + c2 * ai2 + c3 * ai3;
+                double sr1 = s1 * br1 + s2 * br2 + s3 * br3;
+                double si1 = s1 * bi1 + s2 * bi2 + s3 * bi3;
+                double dr1 = cr1 - si1;
+                double di1 = ci1 + sr1;
+                double dr6 = cr1 + si1;
+                double di6 = ci1 - sr1;
+                double cr2 = x0r + c2 * ar1 + c3 * ar2 + c1 * ar3;
+                double ci2 = x0i + c2 * ai1 + c3 * ai2 + c1 * ai3;
+                double sr2 = s2 * br1 - s3 * br2 - s1 * br3;
+                double si2 = s2 * bi1 - s3 * bi2 - s1 * bi3;
+                double dr2 = cr2 - si2;
+                double di2 = ci2 + sr2;
+                double dr5 = cr2 + si2;
+                double di5 = ci2 - sr2;
+                double cr3 = x0r + c3 * ar1 + c1 * ar2 + c2 * ar3;
+                double ci3 = x0i + c3 * ai1 + c1 * ai2 + c2 * ai3;
+                double sr3 = s3 * br1 - s1 * br2 + s2 * br3;
+                double si3 = s3 * bi1 - s1 * bi2 + s2 * bi3;
+                double dr3 = cr3 - si3;
+                double di3 = ci3 + sr3;
+                double dr4 = cr3 + si3;
+                double di4 = ci3 - sr3;
+
+                int widx1 = i - 2 + offset;
+                double w1r = wtable_r[widx1];
+                double w1i = wtable_r[widx1 + 1];
+                int oidx1 = oidx0 + idx0;
+                out[oidx1 - 1] = w1r * dr1 - w1i * di1;
+                out[oidx1] = w1r * di1 + w1i * dr1;
+                int widx2 = i - 2 + offset + 1 * ido;
+                double w2r = wtable_r[widx2];
+                double w2i = wtable_r[widx2 + 1];
+                int oidx2 = oidx0 + 2 * idx0;
+                out[oidx2 - 1] = w2r * dr2 - w2i * di2;
+                out[oidx2] = w2r * di2 + w2i * dr2;
+                int widx3 = i - 2 + offset + 2 * ido;
+                double w3r = wtable_r[widx3];
+                double w3i = wtable_r[widx3 + 1];
+                int oidx3 = oidx0 + 3 * idx0;
+                out[oidx3 - 1] = w3r * dr3 - w3i * di3;
+                out[oidx3] = w3r * di3 + w3i * dr3;
+                int widx4 = i - 2 + offset + 3 * ido;
+                double w4r = wtable_r[widx4];
+                double w4i = wtable_r[widx4 + 1];
+                int oidx4 = oidx0 + 4 * idx0;
+                out[oidx4 - 1] = w4r * dr4 - w4i * di4;
+                out[oidx4] = w4r * di4 + w4i * dr4;
+                int widx5 = i - 2 + offset + 4 * ido;
+                double w5r = wtable_r[widx5];
+                double w5i = wtable_r[widx5 + 1];
+                int oidx5 = oidx0 + 5 * idx0;
+                out[oidx5 - 1] = w5r * dr5 - w5i * di5;
+                out[oidx5] = w5r * di5 + w5i * dr5;
+                int widx6 = i - 2 + offset + 5 * ido;
+                double w6r = wtable_r[widx6];
+                double w6i = wtable_r[widx6 + 1];
+                int oidx6 = oidx0 + 6 * idx0;
+                out[oidx6 - 1] = w6r * dr6 - w6i * di6;
+                out[oidx6] = w6r * di6 + w6i * dr6;
+            }
+        }
+    }
+
+    /*-------------------------------------------------
+       radf11: Real FFT's forward processing of factor 11
+      -------------------------------------------------*/
+    void radf11(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset, final int k0, final int k1, final int i0, final int i1) {
+        final double c1 = 0.841253532831181168861811648919367718;
+        final double c2 = 0.415415013001886425529274149229623204;
+        final double c3 = -0.142314838273285140443792668616369669;
+        final double c4 = -0.654860733945285064056925072466293553;
+        final double c5 = -0.959492973614497389890368057066327699;
+        final double s1 = 0.540640817455597582107635954318691695;
+        final double s2 = 0.909631995354518371411715383079028460;
+        final double s3 = 0.989821441880932732376092037776718787;
+        final double s4 = 0.755749574354258283774035843972344420;
+        final double s5 = 0.281732556841429697711417915346616899;
+        final int idx0 = l1 * ido;
+        if (i0 == 0) {
+            for (int k = k0; k < k1; k++) {
+                int idx1 = in_off + k * ido;
+                int idx2 = out_off + 11 * k * ido;
+                double x0 = in[idx1];
+                double x1 = in[idx1 + idx0];
+                double x2 = in[idx1 + 2 * idx0];
+                double x3 = in[idx1 + 3 * idx0];
+                double x4 = in[idx1 + 4 * idx0];
+                double x5 = in[idx1 + 5 * idx0];
+                double x6 = in[idx1 + 6 * idx0];
+                double x7 = in[idx1 + 7 * idx0];
+                double x8 = in[idx1 + 8 * idx0];
+                double x9 = in[idx1 + 9 * idx0];
+                double x10 = in[idx1 + 10 * idx0];
+                double cr1 = x10 + x1;
+                double ci1 = x10 - x1;
+                double cr2 = x9 + x2;
+                double ci2 = x9 - x2;
+                double cr3 = x8 + x3;
+                double ci3 = x8 - x3;
+                double cr4 = x7 + x4;
+                double ci4 = x7 - x4;
+                double cr5 = x6 + x5;
+                double ci5 = x6 - x5;
+                out[idx2] = x0 + cr1 + cr2 + cr3 + cr4 + cr5;
+                out[idx2 + ido + ido - 1] = x0 + c1 * cr1 + c2 * cr2 + c3 * cr3 + c4 * cr4 + c5 * cr5;
+                out[idx2 + 2 * ido] = s1 * ci1 + s2 * ci2 + s3 * ci3 + s4 * ci4 + s5 * ci5;
+                out[idx2 + 3 * ido + ido - 1] = x0 + c2 * cr1 + c4 * cr2 + c5 * cr3 + c3 * cr4 + c1 * cr5;
+                out[idx2 + 4 * ido] = s2 * ci1 + s4 * ci2 - s5 * ci3 - s3 * ci4 - s1 * ci5;
+                out[idx2 + 5 * ido + ido - 1] = x0 + c3 * cr1 + c5 * cr2 + c2 * cr3 + c1 * cr4 + c4 * cr5;
+                out[idx2 + 6 * ido] = s3 * ci1 - s5 * ci2 - s2 * ci3 + s1 * ci4 + s4 * ci5;
+                out[idx2 + 7 * ido + ido - 1] = x0 + c4 * cr1 + c3 * cr2 + c1 * cr3 + c5 * cr4 + c2 * cr5;
+                out[idx2 + 8 * ido] = s4 * ci1 - s3 * ci2 + s1 * ci3 + s5 * ci4 - s2 * ci5;
+                out[idx2 + 9 * ido + ido - 1] = x0 + c5 * cr1 + c1 * cr2 + c4 * cr3 + c2 * cr4 + c3 * cr5;
+                out[idx2 + 10 * ido] = s5 * ci1 - s1 * ci2 + s4 * ci3 - s2 * ci4 + s3 * ci5;
+            }
+        }
+        if (ido == 1)
+            return;
+        for (int k = k0; k < k1; k++) {
+            int idx1 = in_off + k * ido;
+            int idx2 = out_off + 11 * k * ido;
+            for (int i = Math.max(i0, 2); i < Math.min(i1, ido); i += 2) {
+                int ic = ido - i;
+                int iidx0 = idx1 + i;
+                int iidx1 = iidx0 + idx0;
+                int iidx2 = iidx1 + idx0;
+                int iidx3 = iidx2 + idx0;
+                int iidx4 = iidx3 + idx0;
+                int iidx5 = iidx4 + idx0;
+                int iidx6 = iidx5 + idx0;
+                int iidx7 = iidx6 + idx0;
+                int iidx8 = iidx7 + idx0;
+                int iidx9 = iidx8 + idx0;
+                int iidx10 = iidx9 + idx0;
+                double x0r = in[iidx0 - 1];
+                double x0i = in[iidx0];
+                int widx1 = i - 2 + offset;
+                double w1r = wtable_r[widx1];
+                double w1i = wtable_r[widx1 + 1];
+                double dr1 = w1r * in[iidx1 - 1] + w1i * in[iidx1];
+                double di1 = w1r * in[iidx1] - w1i * in[iidx1 - 1];
+                int widx2 = i - 2 + offset + 1 * ido;
+                double w2r = wtable_r[widx2];
+                double w2i = wtable_r[widx2 + 1];
+                double dr2 = w2r * in[iidx2 - 1] + w2i * in[iidx2];
+                double di2 = w2r * in[iidx2] - w2i * in[iidx2 - 1];
+                int widx3 = i - 2 + offset + 2 * ido;
+                double w3r = wtable_r[widx3];
+                double w3i = wtable_r[widx3 + 1];
+                double dr3 = w3r * in[iidx3 - 1] + w3i * in[iidx3];
+                double di3 = w3r * in[iidx3] - w3i * in[iidx3 - 1];
+                int widx4 = i - 2 + offset + 3 * ido;
+                double w4r = wtable_r[widx4];
+                double w4i = wtable_r[widx4 + 1];
+                double dr4 = w4r * in[iidx4 - 1] + w4i * in[iidx4];
+                double di4 = w4r * in[iidx4] - w4i * in[iidx4 - 1];
+                int widx5 = i - 2 + offset + 4 * ido;
+                double w5r = wtable_r[widx5];
+                double w5i = wtable_r[widx5 + 1];
+                double dr5 = w5r * in[iidx5 - 1] + w5i * in[iidx5];
+                double di5 = w5r * in[iidx5] - w5i * in[iidx5 - 1];
+                int widx6 = i - 2 + offset + 5 * ido;
+                double w6r = wtable_r[widx6];
+                double w6i = wtable_r[widx6 + 1];
+                double dr6 = w6r * in[iidx6 - 1] + w6i * in[iidx6];
+                double di6 = w6r * in[iidx6] - w6i * in[iidx6 - 1];
+                int widx7 = i - 2 + offset + 6 * ido;
+                double w7r = wtable_r[widx7];
+                double w7i = wtable_r[widx7 + 1];
+                double dr7 = w7r * in[iidx7 - 1] + w7i * in[iidx7];
+                double di7 = w7r * in[iidx7] - w7i * in[iidx7 - 1];
+                int widx8 = i - 2 + offset + 7 * ido;
+                double w8r = wtable_r[widx8];
+                double w8i = wtable_r[widx8 + 1];
+                double dr8 = w8r * in[iidx8 - 1] + w8i * in[iidx8];
+                double di8 = w8r * in[iidx8] - w8i * in[iidx8 - 1];
+                int widx9 = i - 2 + offset + 8 * ido;
+                double w9r = wtable_r[widx9];
+                double w9i = wtable_r[widx9 + 1];
+                double dr9 = w9r * in[iidx9 - 1] + w9i * in[iidx9];
+                double di9 = w9r * in[iidx9] - w9i * in[iidx9 - 1];
+                int widx10 = i - 2 + offset + 9 * ido;
+                double w10r = wtable_r[widx10];
+                double w10i = wtable_r[widx10 + 1];
+                double dr10 = w10r * in[iidx10 - 1] + w10i * in[iidx10];
+                double di10 = w10r * in[iidx10] - w10i * in[iidx10 - 1];
+
+                double cr1 = dr1 + dr10;
+                double ci1 = di1 + di10;
+                double sr1 = di1 - di10;
+                double si1 = dr10 - dr1;
+                double cr2 = dr2 + dr9;
+                double ci2 = di2 + di9;
+                double sr2 = di2 - di9;
+                double si2 = dr9 - dr2;
+                double cr3 = dr3 + dr8;
+                double ci3 = di3 + di8;
+                double sr3 = di3 - di8;
+                double si3 = dr8 - dr3;
+                double cr4 = dr4 + dr7;
+                double ci4 = di4 + di7;
+                double sr4 = di4 - di7;
+                double si4 = dr7 - dr4;
+                double cr5 = dr5 + dr6;
+                double ci5 = di5 + di6;
+                double sr5 = di5 - di6;
+                double si5 = dr6 - dr5;
+
+                int oidx0 = idx2 + i;
+                int oidx1 = idx2 + ic;
+                out[oidx0 - 1] = x0r + cr1 + cr2 + cr3 + cr4 + cr5;
+                out[oidx0] = x0i + ci1 + ci2 + ci3 + ci4 + ci5;
+                double tr1 = x0r + c1 * cr1 + c2 * cr2 + c3 * cr3 + c4 * cr4 + c5 * cr5;
+                double ti1 = x0i + c1 * ci1 + c2 * ci2 + c3 * ci3 + c4 * ci4 + c5 * ci5;
+                double ur1 = s1 * sr1 + s2 * sr2 + s3 * sr3 + s4 * sr4 + s5 * sr5;
+                double ui1 = s1 * si1 + s2 * si2 + s3 * si3 + s4 * si4 + s5 * si5;
+                out[oidx0 + 2 * ido - 1] = tr1 + ur1;
+                out[oidx1 + ido - 1] = tr1 - ur1;
+                out[oidx0 + 2 * ido] = ti1 + ui1;
+                out[oidx1 + ido] = ui1 - ti1;
+                double tr2 = x0r + c2 * cr1 + c4 * cr2 + c5 * cr3 + c3 * cr4 + c1 * cr5;
+                double ti2 = x0i + c2 * ci1 + c4 * ci2 + c5 * ci3 + c3 * ci4 + c1 * ci5;
+                double ur2 = s2 * sr1 + s4 * sr2 - s5 * sr3 - s3 * sr4 - s1 * sr5;
+                double ui2 = s2 * si1 + s4 * si2 - s5 * si3 - s3 * si4 - s1 * si5;
+                out[oidx0 + 4 * ido - 1] = tr2 + ur2;
+                out[oidx1 + 3 * ido - 1] = tr2 - ur2;
+                out[oidx0 + 4 * ido] = ti2 + ui2;
+                out[oidx1 + 3 * ido] = ui2 - ti2;
+                double tr3 = x0r + c3 * cr1 + c5 * cr2 + c2 * cr3 + c1 * cr4 + c4 * cr5;
+                double ti3 = x0i + c3 * ci1 + c5 * ci2 + c2 * ci3 + c1 * ci4 + c4 * ci5;
+                double ur3 = s3 * sr1 - s5 * sr2 - s2 * sr3 + s1 * sr4 + s4 * sr5;
+                double ui3 = s3 * si1 - s5 * si2 - s2 * si3 + s1 * si4 + s4 * si5;
+                out[oidx0 + 6 * ido - 1] = tr3 + ur3;
+                out[oidx1 + 5 * ido - 1] = tr3 - ur3;
+                out[oidx0 + 6 * ido] = ti3 + ui3;
+                out[oidx1 + 5 * ido] = ui3 - ti3;
+                double tr4 = x0r + c4 * cr1 + c3 * cr2 + c1 * cr3 + c5 * cr4 + c2 * cr5;
+                double ti4 = x0i + c4 * ci1 + c3 * ci2 + c1 * ci3 + c5 * ci4 + c2 * ci5;
+                double ur4 = s4 * sr1 - s3 * sr2 + s1 * sr3 + s5 * sr4 - s2 * sr5;
+                double ui4 = s4 * si1 - s3 * si2 + s1 * si3 + s5 * si4 - s2 * si5;
+                out[oidx0 + 8 * ido - 1] = tr4 + ur4;
+                out[oidx1 + 7 * ido - 1] = tr4 - ur4;
+                out[oidx0 + 8 * ido] = ti4 + ui4;
+                out[oidx1 + 7 * ido] = ui4 - ti4;
+                double tr5 = x0r + c5 * cr1 + c1 * cr2 + c4 * cr3 + c2 * cr4 + c3 * cr5;
+                double ti5 = x0i + c5 * ci1 + c1 * ci2 + c4 * ci3 + c2 * ci4 + c3 * ci5;
+                double ur5 = s5 * sr1 - s1 * sr2 + s4 * sr3 - s2 * sr4 + s3 * sr5;
+                double ui5 = s5 * si1 - s1 * si2 + s4 * si3 - s2 * si4 + s3 * si5;
+                out[oidx0 + 10 * ido - 1] = tr5 + ur5;
+                out[oidx1 + 9 * ido - 1] = tr5 - ur5;
+                out[oidx0 + 10 * ido] = ti5 + ui5;
+                out[oidx1 + 9 * ido] = ui5 - ti5;
+            }
+        }
+    }
+
+    /*-------------------------------------------------
+       radb11: Real FFT's backward processing of factor 11
+      -------------------------------------------------*/
+    void radb11(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset, final int k0, final int k1, final int i0, final int i1) {
+        final double c1 = 0.841253532831181168861811648919367718;
+        final double c2 = 0.415415013001886425529274149229623204;
+        final double c3 = -0.142314838273285140443792668616369669;
+        final double c4 = -0.654860733945285064056925072466293553;
+        final double c5 = -0.959492973614497389890368057066327699;
+        final double s1 = 0.540640817455597582107635954318691695;
+        final double s2 = 0.909631995354518371411715383079028460;
+        final double s3 = 0.989821441880932732376092037776718787;
+        final double s4 = 0.755749574354258283774035843972344420;
+        final double s5 = 0.281732556841429697711417915346616899;
+        final int idx0 = l1 * ido;
+        if (i0 == 0) {
+            for (int k = k0; k < k1; k++) {
+                int idx1 = out_off + k * ido;
+                int idx2 = in_off + 11 * k * ido;
+                double x0 = in[idx2];
+                double tr1 = 2 * in[idx2 + ido + ido - 1];
+                double ti1 = 2 * in[idx2 + 2 * ido];
+                double tr2 = 2 * in[idx2 + 3 * ido + ido - 1];
+                double ti2 = 2 * in[idx2 + 4 * ido];
+                double tr3 = 2 * in[idx2 + 5 * ido + ido - 1];
+                double ti3 = 2 * in[idx2 + 6 * ido];
+                double tr4 = 2 * in[idx2 + 7 * ido + ido - 1];
+                double ti4 = 2 * in[idx2 + 8 * ido];
+                double tr5 = 2 * in[idx2 + 9 * ido + ido - 1];
+                double ti5 = 2 * in[idx2 + 10 * ido];
+                out[idx1] = x0 + tr1 + tr2 + tr3 + tr4 + tr5;
+                double cr1 = x0 + c1 * tr1 + c2 * tr2 + c3 * tr3 + c4 * tr4 + c5 * tr5;
+                double ci1 = s1 * ti1 + s2 * ti2 + s3 * ti3 + s4 * ti4 + s5 * ti5;
+                out[idx1 + idx0] = cr1 - ci1;
+                out[idx1 + 10 * idx0] = cr1 + ci1;
+                double cr2 = x0 + c2 * tr1 + c4 * tr2 + c5 * tr3 + c3 * tr4 + c1 * tr5;
+                double ci2 = s2 * ti1 + s4 * ti2 - s5 * ti3 - s3 * ti4 - s1 * ti5;
+                out[idx1 + 2 * idx0] = cr2 - ci2;
+                out[idx1 + 9 * idx0] = cr2 + ci2;
+                double cr3 = x0 + c3 * tr1 + c5 * tr2 + c2 * tr3 + c1 * tr4 + c4 * tr5;
+                double ci3 = s3 * ti1 - s5 * ti2 - s2 * ti3 + s1 * ti4 + s4 * ti5;
+                out[idx1 + 3 * idx0] = cr3 - ci3;
+                out[idx1 + 8 * idx0] = cr3 + ci3;
+                double cr4 = x0 + c4 * tr1 + c3 * tr2 + c1 * tr3 + c5 * tr4 + c2 * tr5;
+                double ci4 = s4 * ti1 - s3 * ti2 + s1 * ti3 + s5 * ti4 - s2 * ti5;
+                out[idx1 + 4 * idx0] = cr4 - ci4;
+                out[idx1 + 7 * idx0] = cr4 + ci4;
+                double cr5 = x0 + c5 * tr1 + c1 * tr2 + c4 * tr3 + c2 * tr4 + c3 * tr5;
+                double ci5 = s5 * ti1 - s1 * ti2 + s4 * ti3 - s2 * ti4 + s3 * ti5;
+                out[idx1 + 5 * idx0] = cr5 - ci5;
+                out[idx1 + 6 * idx0] = cr5 + ci5;
+            }
+        }
+        if (ido == 1)
+            return;
+        for (int k = k0; k < k1; k++) {
+            int idx1 = out_off + k * ido;
+            int idx2 = in_off + 11 * k * ido;
+            for (int i = Math.max(i0, 2); i < Math.min(i1, ido); i += 2) {
+                int ic = ido - i;
+                int iidx0 = idx2 + i;
+                int iidx1 = idx2 + ic;
+                double x0r = in[iidx0 - 1];
+                double x0i = in[iidx0];
+                double ar1 = in[iidx0 + 2 * ido - 1] + in[iidx1 + ido - 1];
+                double br1 = in[iidx0 + 2 * ido - 1] - in[iidx1 + ido - 1];
+                double ai1 = in[iidx0 + 2 * ido] - in[iidx1 + ido];
+                double bi1 = in[iidx0 + 2 * ido] + in[iidx1 + ido];
+                double ar2 = in[iidx0 + 4 * ido - 1] + in[iidx1 + 3 * ido - 1];
+                double br2 = in[iidx0 + 4 * ido - 1] - in[iidx1 + 3 * ido - 1];
+                double ai2 = in[iidx0 + 4 * ido] - in[iidx1 + 3 * ido];
+                double bi2 = in[iidx0 + 4 * ido] + in[iidx1 + 3 * ido];
+                double ar3 = in[iidx0 + 6 * ido - 1] + in[iidx1 + 5 * ido - 1];
+                double br3 = in[iidx0 + 6 * ido - 1] - in[iidx1 + 5 * ido - 1];
+                double ai3 = in[iidx0 + 6 * ido] - in[iidx1 + 5 * ido];
+                double bi3 = in[iidx0 + 6 * ido] + in[iidx1 + 5 * ido];
+                double ar4 = in[iidx0 + 8 * ido - 1] + in[iidx1 + 7 * ido - 1];
+                double br4 = in[iidx0 + 8 * ido - 1] - in[iidx1 + 7 * ido - 1];
+                double ai4 = in[iidx0 + 8 * ido] - in[iidx1 + 7 * ido];
+                double bi4 = in[iidx0 + 8 * ido] + in[iidx1 + 7 * ido];
+                double ar5 = in[iidx0 + 10 * ido - 1] + in[iidx1 + 9 * ido - 1];
+                double br5 = in[iidx0 + 10 * ido - 1] - in[iidx1 + 9 * ido - 1];
+                double ai5 = in[iidx0 + 10 * ido] - in[iidx1 + 9 * ido];
+                double bi5 = in[iidx0 + 10 * ido] + in[iidx1 + 9 * ido];
+
+                int oidx0 = idx1 + i;
+                out[oidx0 - 1] = x0r + ar1 + ar2 + ar3 + ar4 + ar5;
+                out[oidx0] = x0i + ai1 + ai2 + ai3 + ai4 + ai5;
+                double cr1 = x0r + c1 * ar1 + c2 * ar2 + c3 * ar3 + c4 * ar4 + c5 * ar5;
+                double ci1 = x0i + c1 * ai1 + c2 * ai2 + c3 * ai3 + c4 * ai4 + c5 * ai5;
+                double sr1 = s1 * br1 + s2 * br2 + s3 * br3 + s4 * br4 + s5 * br5;
+                double si1 = s1 * bi1 + s2 * bi2 + s3 * bi3 + s4 * bi4 + s5 * bi5;
+                double dr1 = cr1 - si1;
+                double di1 = ci1 + sr1;
+                double dr10 = cr1 + si1;
+                double di10 = ci1 - sr1;
+                double cr2 = x0r + c2 * ar1 + c4 * ar2 + c5 * ar3 + c3 * ar4 + c1 * ar5;
+                double ci2 = x0i + c2 * ai1 + c4 * ai2 + c5 * ai3 + c3 * ai4 + c1 * ai5;
+                double sr2 = s2 * br1 + s4 * br2 - s5 * br3 - s3 * br4 - s1 * br5;
+                double si2 = s2 * bi1 + s4 * bi2 - s5 * bi3 - s3 * bi4 - s1 * bi5;
+                double dr2 = cr2 - si2;
+                double di2 = ci2 + sr2;
+                double dr9 = cr2 + si2;
+                double di9 = ci2 - sr2;
+                double cr3 = x0r + c3 * ar1 + c5 * ar2 + c2 * ar3 + c1 * ar4 + c4 * ar5;
+                double ci3 = x0i + c3 * ai1 + c5 * ai2 + c2 * ai3 + c1 * ai4 + c4 * ai5;
+                double sr3 = s3 * br1 - s5 * br2 - s2 * br3 + s1 * br4 + s4 * br5;
+                double si3 = s3 * bi1 - s5 * bi2 - s2 * bi3 + s1 * bi4 + s4 * bi5;
+                double dr3 = cr3 - si3;
+                double di3 = ci3 + sr3;
+                double dr8 = cr3 + si3;
+                double di8 = ci3 - sr3;
+                double cr4 = x0r + c4 * ar1 + c3 * ar2 + c1 * ar3 + c5 * ar4 + c2 * ar5;
+                double ci4 = x0i + c4 * ai1 + c3 * ai2 + c1 * ai3 + c5 * ai4 + c2 * ai5;
+                double sr4 = s4 * br1 - s3 * br2 + s1 * br3 + s5 * br4 - s2 * br5;
+                double si4 = s4 * bi1 - s3 * bi2 + s1 * bi3 + s5 * bi4 - s2 * bi5;
+                double dr4 = cr4 - si4;
+                double di4 = ci4 + sr4;
+                double dr7 = cr4 + si4;
+                double di7 = ci4 - sr4;
+                double cr5 = x0r + c5 * ar1 + c1 * ar2 + c4 * ar3 + c2 * ar4 + c3 * ar5;
+                double ci5 = x0i + c5 * ai1 + c1 * ai2 + c4 * ai3 + c2 * ai4 + c3 * ai5;
+                double sr5 = s5 * br1 - s1 * br2 + s4 * br3 - s2 * br4 + s3 * br5;
+                double si5 = s5 * bi1 - s1 * bi2 + s4 * bi3 - s2 * bi4 + s3 * bi5;
+                double dr5 = cr5 - si5;
+                double di5 = ci5 + sr5;
+                double dr6 = cr5 + si5;
+                double di6 = ci5 - sr5;
+
+                int widx1 = i - 2 + offset;
+                double w1r = wtable_r[widx1];
+                double w1i = wtable_r[widx1 + 1];
+                int oidx1 = oidx0 + idx0;
+                out[oidx1 - 1] = w1r * dr1 - w1i * di1;
+                out[oidx1] = w1r * di1 + w1i * dr1;
+                int widx2 = i - 2 + offset + 1 * ido;
+                double w2r = wtable_r[widx2];
+                double w2i = wtable_r[widx2 + 1];
+                int oidx2 = oidx0 + 2 * idx0;
+                out[oidx2 - 1] = w2r * dr2 - w2i * di2;
+                out[oidx2] = w2r * di2 + w2i * dr2;
+                int widx3 = i - 2 + offset + 2 * ido;
+                double w3r = wtable_r[widx3];
+                double w3i = wtable_r[widx3 + 1];
+                int oidx3 = oidx0 + 3 * idx0;
+                out[oidx3 - 1] = w3r * dr3 - w3i * di3;
+                out[oidx3] = w3r * di3 + w3i * dr3;
+                int widx4 = i - 2 + offset + 3 * ido;
+                double w4r = wtable_r[widx4];
+                double w4i = wtable_r[widx4 + 1];
+                int oidx4 = oidx0 + 4 * idx0;
+                out[oidx4 - 1] = w4r * dr4 - w4i * di4;
+                out[oidx4] = w4r * di4 + w4i * dr4;
+                int widx5 = i - 2 + offset + 4 * ido;
+                double w5r = wtable_r[widx5];
+                double w5i = wtable_r[widx5 + 1];
+                int oidx5 = oidx0 + 5 * idx0;
+                out[oidx5 - 1] = w5r * dr5 - w5i * di5;
+                out[oidx5] = w5r * di5 + w5i * dr5;
+                int widx6 = i - 2 + offset + 5 * ido;
+                double w6r = wtable_r[widx6];
+                double w6i = wtable_r[widx6 + 1];
+                int oidx6 = oidx0 + 6 * idx0;
+                out[oidx6 - 1] = w6r * dr6 - w6i * di6;
+                out[oidx6] = w6r * di6 + w6i * dr6;
+                int widx7 = i - 2 + offset + 6 * ido;
+                double w7r = wtable_r[widx7];
+                double w7i = wtable_r[widx7 + 1];
+                int oidx7 = oidx0 + 7 * idx0;
+                out[oidx7 - 1] = w7r * dr7 - w7i * di7;
+                out[oidx7] = w7r * di7 + w7i * dr7;
+                int widx8 = i - 2 + offset + 7 * ido;
+                double w8r = wtable_r[widx8];
+                double w8i = wtable_r[widx8 + 1];
+                int oidx8 = oidx0 + 8 * idx0;
+                out[oidx8 - 1] = w8r * dr8 - w8i * di8;
+                out[oidx8] = w8r * di8 + w8i * dr8;
+                int widx9 = i - 2 + offset + 8 * ido;
+                double w9r = wtable_r[widx9];
+                double w9i = wtable_r[widx9 + 1];
+                int oidx9 = oidx0 + 9 * idx0;
+                out[oidx9 - 1] = w9r * dr9 - w9i * di9;
+                out[oidx9] = w9r * di9 + w9i * dr9;
+                int widx10 = i - 2 + offset + 9 * ido;
+                double w10r = wtable_r[widx10];
+                double w10i = wtable_r[widx10 + 1];
+                int oidx10 = oidx0 + 10 * idx0;
+                out[oidx10 - 1] = w10r * dr10 - w10i * di10;
+                out[oidx10] = w10r * di10 + w10i * dr10;
+            }
+        }
+    }
+
+    /*-------------------------------------------------
+       radf13: Real FFT's forward processing of factor 13
+      -------------------------------------------------*/
+    void radf13(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset, final int k0, final int k1, final int i0, final int i1) {
+        final double c1 = 0.885456025653209895900375522015098879;
+        final double c2 = 0.568064746731155802511807559127516625;
+        final double c3 = 0.120536680255323053349067687452543582;
+        final double c4 = -0.354604887042535625969637892600018474;
+        final double c5 = -0.748510748171101098634630599701351384;
+        final double c6 = -0.970941817426052027156982276293789227;
+        final double s1 = 0.464723172043768545656015335133104778;
+        final double s2 = 0.822983865893656394579617423439381991;
+        final double s3 = 0.992708874098053992800751649492520179;
+        final double s4 = 0.935016242685414823439784599837830729;
+        final double s5 = 0.663122658240795202376785492666766280;
+        final double s6 = 0.239315664287557767148753726260211895;
+        final int idx0 = l1 * ido;
+        if (i0 == 0) {
+            for (int k = k0; k < k1; k++) {
+                int idx1 = in_off + k * ido;
+                int idx2 = out_off + 13 * k * ido;
+                double x0 = in[idx1];
+                double x1 = in[idx1 + idx0];
+                double x2 = in[idx1 + 2 * idx0];
+                double x3 = in[idx1 + 3 * idx0];
+                double x4 = in[idx1 + 4 * idx0];
+                double x5 = in[idx1 + 5 * idx0];
+                double x6 = in[idx1 + 6 * idx0];
+                double x7 = in[idx1 + 7 * idx0];
+                double x8 = in[idx1 + 8 * idx0];
+                double x9 = in[idx1 + 9 * idx0];
+                double x10 = in[idx1 + 10 * idx0];
+                double x11 = in[idx1 + 11 * idx0];
+                double x12 = in[idx1 + 12 * idx0];
+                double cr1 = x12 + x1;
+                double ci1 = x12 - x1;
+                double cr2 = x11 + x2;
+                double ci2 = x11 - x2;
+                double cr3 = x10 + x3;
+                double ci3 = x10 - x3;
+                double cr4 = x9 + x4;
+                double ci4 = x9 - x4;
+                double cr5 = x8 + x5;
+                double ci5 = x8 - x5;
+                double cr6 = x7 + x6;
+                double ci6 = x7 - x6;
+                out[idx2] = x0 + cr1 + cr2 + cr3 + cr4 + cr5 + cr6;
+                out[idx2 + ido + ido - 1] = x0 + c1 * cr1 + c2 * cr2 + c3 * cr3 + c4 * cr4 + c5 * cr5 + c6 * cr6;
+                out[idx2 + 2 * ido] = s1 * ci1 + s2 * ci2 + s3 * ci3 + s4 * ci4 + s5 * ci5 + s6 * ci6;
+                out[idx2 + 3 * ido + ido - 1] = x0 + c2 * cr1 + c4 * cr2 + c6 * cr3 + c5 * cr4 + c3 * cr5 + c1 * cr6;
+                out[idx2 + 4 * ido] = s2 * ci1 + s4 * ci2 + s6 * ci3 - s5 * ci4 - s3 * ci5 - s1 * ci6;
+                out[idx2 + 5 * ido + ido - 1] = x0 + c3 * cr1 + c6 * cr2 + c4 * cr3 + c1 * cr4 + c2 * cr5 + c5 * cr6;
+                out[idx2 + 6 * ido] = s3 * ci1 + s6 * ci2 - s4 * ci3 - s1 * ci4 + s2 * ci5 + s5 * ci6;
+                out[idx2 + 7 * ido + ido - 1] = x0 + c4 * cr1 + c5 * cr2 + c1 * cr3 + c3 * cr4 + c6 * cr5 + c2 * cr6;
+                out[idx2 + 8 * ido] = s4 * ci1 - s5 * ci2 - s1 * ci3 + s3 * ci4 - s6 * ci5 - s2 * ci6;
+                out[idx2 + 9 * ido + ido - 1] = x0 + c5 * cr1 + c3 * cr2 + c2 * cr3 + c6 * cr4 + c1 * cr5 + c4 * cr6;
+                out[idx2 + 10 * ido] = s5 * ci1 - s3 * ci2 + s2 * ci3 - s6 * ci4 - s1 * ci5 + s4 * ci6;
+                out[idx2 + 11 * ido + ido - 1] = x0 + c6 * cr1 + c1 * cr2 + c5 * cr3 + c2 * cr4 + c4 * cr5 + c3 * cr6;
+                out[idx2 + 12 * ido] = s6 * ci1 - s1 * ci2 + s5 * ci3 - s2 * ci4 + s4 * ci5 - s3 * ci6;
+            }
+        }
+        if (ido == 1)
+            return;
+        for (int k = k0; k < k1; k++) {
+            int idx1 = in_off + k * ido;
+            int idx2 = out_off + 13 * k * ido;
+            for (int i = Math.max(i0, 2); i < Math.min(i1, ido); i += 2) {
+                int ic = ido - i;
+                int iidx0 = idx1 + i;
+                int iidx1 = iidx0 + idx0;
+                int iidx2 = iidx1 + idx0;
+                int iidx3 = iidx2 + idx0;
+                int iidx4 = iidx3 + idx0;
+                int iidx5 = iidx4 + idx0;
+                int iidx6 = iidx5 + idx0;
+                int iidx7 = iidx6 + idx0;
+                int iidx8 = iidx7 + idx0;
+                int iidx9 = iidx8 + idx0;
+                int iidx10 = iidx9 + idx0;
+                int iidx11 = iidx10 + idx0;
+                int iidx12 = iidx11 + idx0;
+                double x0r = in[iidx0 - 1];
+                double x0i = in[iidx0];
+                int widx1 = i - 2 + offset;
+                double w1r = wtable_r[widx1];
+                double w1i = wtable_r[widx1 + 1];
+                double dr1 = w1r * in[iidx1 - 1] + w1i * in[iidx1];
+                double di1 = w1r * in[iidx1] - w1i * in[iidx1 - 1];
+                int widx2 = i - 2 + offset + 1 * ido;
+                double w2r = wtable_r[widx2];
+                double w2i = wtable_r[widx2 + 1];
+                double dr2 = w2r * in[iidx2 - 1] + w2i * in[iidx2];
+                double di2 = w2r * in[iidx2] - w2i * in[iidx2 - 1];
+                int widx3 = i - 2 + offset + 2 * ido;
+                double w3r = wtable_r[widx3];
+                double w3i = wtable_r[widx3 + 1];
+                double dr3 = w3r * in[iidx3 - 1] + w3i * in[iidx3];
+                double di3 = w3r * in[iidx3] - w3i * in[iidx3 - 1];
+                int widx4 = i - 2 + offset + 3 * ido;
+                double w4r = wtable_r[widx4];
+                double w4i = wtable_r[widx4 + 1];
+                double dr4 = w4r * in[iidx4 - 1] + w4i * in[iidx4];
+                double di4 = w4r * in[iidx4] - w4i * in[iidx4 - 1];
+                int widx5 = i - 2 + offset + 4 * ido;
+                double w5r = wtable_r[widx5];
+                double w5i = wtable_r[widx5 + 1];
+                double dr5 = w5r * in[iidx5 - 1] + w5i * in[iidx5];
+                double di5 = w5r * in[iidx5] - w5i * in[iidx5 - 1];
+                int widx6 = i - 2 + offset + 5 * ido;
+                double w6r = wtable_r[widx6];
+                double w6i = wtable_r[widx6 + 1];
+                double dr6 = w6r * in[iidx6 - 1] + w6i * in[iidx6];
+                double di6 = w6r * in[iidx6] - w6i * in[iidx6 - 1];
+                int widx7 = i - 2 + offset + 6 * ido;
+                double w7r = wtable_r[widx7];
+                double w7i = wtable_r[widx7 + 1];
+                double dr7 = w7r * in[iidx7 - 1] + w7i * in[iidx7];
+                double di7 = w7r * in[iidx7] - w7i * in[iidx7 - 1];
+                int widx8 = i - 2 + offset + 7 * ido;
+                double w8r = wtable_r[widx8];
+                double w8i = wtable_r[widx8 + 1];
+                double dr8 = w8r * in[iidx8 - 1] + w8i * in[iidx8];
+                double di8 = w8r * in[iidx8] - w8i * in[iidx8 - 1];
+                int widx9 = i - 2 + offset + 8 * ido;
+                double w9r = wtable_r[widx9];
+                double w9i = wtable_r[widx9 + 1];
+                double dr9 = w9r * in[iidx9 - 1] + w9i * in[iidx9];
+                double di9 = w9r * in[iidx9] - w9i * in[iidx9 - 1];
+                int widx10 = i - 2 + offset + 9 * ido;
+                double w10r = wtable_r[widx10];
+                double w10i = wtable_r[widx10 + 1];
+                double dr10 = w10r * in[iidx10 - 1] + w10i * in[iidx10];
+                double di10 = w10r * in[iidx10] - w10i * in[iidx10 - 1];
+                int widx11 = i - 2 + offset + 10 * ido;
+                double w11r = wtable_r[widx11];
+                double w11i = wtable_r[widx11 + 1];
+                double dr11 = w11r * in[iidx11 - 1] + w11i * in[iidx11];
+                double di11 = w11r * in[iidx11] - w11i * in[iidx11 - 1];
+                int widx12 = i - 2 + offset + 11 * ido;
+                double w12r = wtable_r[widx12];
+                double w12i = wtable_r[widx12 + 1];
+                double dr12 = w12r * in[iidx12 - 1] + w12i * in[iidx12];
+                double di12 = w12r * in[iidx12] - w12i * in[iidx12 - 1];
+
+                double cr1 = dr1 + dr12;
+                double ci1 = di1 + di12;
+                double sr1 = di1 - di12;
+                double si1 = dr12 - dr1;
+                double cr2 = dr2 + dr11;
+                double ci2 = di2 + di11;
+                double sr2 = di2 - di11;
+                double si2 = dr11 - dr2;
+                double cr3 = dr3 + dr10;
+                double ci3 = di3 + di10;
+                double sr3 = di3 - di10;
+                double si3 = dr10 - dr3;
+                double cr4 = dr4 + dr9;
+                double ci4 = di4 + di9;
+                double sr4 = di4 - di9;
+                double si4 = dr9 - dr4;
+                double cr5 = dr5 + dr8;
+                double ci5 = di5 + di8;
+                double sr5 = di5 - di8;
+                double si5 = dr8 - dr5;
+                double cr6 = dr6 + dr7;
+                double ci6 = di6 + di7;
+                double sr6 = di6 - di7;
+                double si6 = dr7 - dr6;
+
+                int oidx0 = idx2 + i;
+                int oidx1 = idx2 + ic;
+                out[oidx0 - 1] = x0r + cr1 + cr2 + cr3 + cr4 + cr5 + cr6;
+                out[oidx0] = x0i + ci1 + ci2 + ci3 + ci4 + ci5 + ci6;
+                double tr1 = x0r + c1 * cr1 + c2 * cr2 + c3 * cr3 + c4 * cr4 + c5 * cr5 + c6 * cr6;
+                double ti1 = x0i + c1 * ci1 + c2 * ci2 + c3 * ci3 + c4 * ci4 + c5 * ci5 + c6 * ci6;
+                double ur1 = s1 * sr1 + s2 * sr2 + s3 * sr3 + s4 * sr4 + s5 * sr5 + s6 * sr6;
+                double ui1 = s1 * si1 + s2 * si2 + s3 * si3 + s4 * si4 + s5 * si5 + s6 * si6;
+                out[oidx0 + 2 * ido - 1] = tr1 + ur1;
+                out[oidx1 + ido - 1] = tr1 - ur1;
+                out[oidx0 + 2 * ido] = ti1 + ui1;
+                out[oidx1 + ido] = ui1 - ti1;
+                double tr2 = x0r + c2 * cr1 + c4 * cr2 + c6 * cr3 + c5 * cr4 + c3 * cr5 + c1 * cr6;
+                double ti2 = x0i + c2 * ci1 + c4 * ci2 + c6 * ci3 + c5 * ci4 + c3 * ci5 + c1 * ci6;
+                double ur2 = s2 * sr1 + s4 * sr2 + s6 * sr3 - s5 * sr4 - s3 * sr5 - s1 * sr6;
+                double ui2 = s2 * si1 + s4 * si2 + s6 * si3 - s5 * si4 - s3 * si5 - s1 * si6;
+                out[oidx0 + 4 * ido - 1] = tr2 + ur2;
+                out[oidx1 + 3 * ido - 1] = tr2 - ur2;
+                out[oidx0 + 4 * ido] = ti2 + ui2;
+                out[oidx1 + 3 * ido] = ui2 - ti2;
+                double tr3 = x0r + c3 * cr1 + c6 * cr2 + c4 * cr3 + c1 * cr4 + c2 * cr5 + c5 * cr6;
+                double ti3 = x0i + c3 * ci1 + c6 * ci2 + c4 * ci3 + c1 * ci4 + c2 * ci5 + c5 * ci6;
+                double ur3 = s3 * sr1 + s6 * sr2 - s4 * sr3 - s1 * sr4 + s2 * sr5 + s5 * sr6;
+                double ui3 = s3 * si1 + s6 * si2 - s4 * si3 - s1 * si4 + s2 * si5 + s5 * si6;
+                out[oidx0 + 6 * ido - 1] = tr3 + ur3;
+                out[oidx1 + 5 * ido - 1] = tr3 - ur3;
+                out[oidx0 + 6 * ido] = ti3 + ui3;
+                out[oidx1 + 5 * ido] = ui3 - ti3;
+                double tr4 = x0r + c4 * cr1 + c5 * cr2 + c1 * cr3 + c3 * cr4 + c6 * cr5 + c2 * cr6;
+                double ti4 = x0i + c4 * ci1 + c5 * ci2 + c1 * ci3 + c3 * ci4 + c6 * ci5 + c2 * ci6;
+                double ur4 = s4 * sr1 - s5 * sr2 - s1 * sr3 + s3 * sr4 - s6 * sr5 - s2 * sr6;
+                double ui4 = s4 * si1 - s5 * si2 - s1 * si3 + s3 * si4 - s6 * si5 - s2 * si6;
+                out[oidx0 + 8 * ido - 1] = tr4 + ur4;
+                out[oidx1 + 7 * ido - 1] = tr4 - ur4;
+                out[oidx0 + 8 * ido] = ti4 + ui4;
+                out[oidx1 + 7 * ido] = ui4 - ti4;
+                double tr5 = x0r + c5 * cr1 + c3 * cr2 + c2 * cr3 + c6 * cr4 + c1 * cr5 + c4 * cr6;
+                double ti5 = x0i + c5 * ci1 + c3 * ci2 + c2 * ci3 + c6 * ci4 + c1 * ci5 + c4 * ci6;
+                double ur5 = s5 * sr1 - s3 * sr2 + s2 * sr3 - s6 * sr4 - s1 * sr5 + s4 * sr6;
+                double ui5 = s5 * si1 - s3 * si2 + s2 * si3 - s6 * si4 - s1 * si5 + s4 * si6;
+                out[oidx0 + 10 * ido - 1] = tr5 + ur5;
+                out[oidx1 + 9 * ido - 1] = tr5 - ur5;
+                out[oidx0 + 10 * ido] = ti5 + ui5;
+                out[oidx1 + 9 * ido] = ui5 - ti5;
+                double tr6 = x0r + c6 * cr1 + c1 * cr2 + c5 * cr3 + c2 * cr4 + c4 * cr5 + c3 * cr6;
+                double ti6 = x0i + c6 * ci1 + c1 * ci2 + c5 * ci3 + c2 * ci4 + c4 * ci5 + c3 * ci6;
+                double ur6 = s6 * sr1 - s1 * sr2 + s5 * sr3 - s2 * sr4 + s4 * sr5 - s3 * sr6;
+                double ui6 = s6 * si1 - s1 * si2 + s5 * si3 - s2 * si4 + s4 * si5 - s3 * si6;
+                out[oidx0 + 12 * ido - 1] = tr6 + ur6;
+                out[oidx1 + 11 * ido - 1] = tr6 - ur6;
+                out[oidx0 + 12 * ido] = ti6 + ui6;
+                out[oidx1 + 11 * ido] = ui6 - ti6;
+            }
+        }
+    }
+
+    /*-------------------------------------------------
+       radb13: Real FFT's backward processing of factor 13
+      -------------------------------------------------*/
+    void radb13(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset, final int k0, final int k1, final int i0, final int i1) {
+        final double c1 = 0.885456025653209895900375522015098879;
+        final double c2 = 0.568064746731155802511807559127516625;
+        final double c3 = 0.120536680255323053349067687452543582;
+        final double c4 = -0.354604887042535625969637892600018474;
+        final double c5 = -0.748510748171101098634630599701351384;
+        final double c6 = -0.970941817426052027156982276293789227;
+        final double s1 = 0.464723172043768545656015335133104778;
+        final double s2 = 0.822983865893656394579617423439381991;
+        final double s3 = 0.992708874098053992800751649492520179;
+        final double s4 = 0.935016242685414823439784599837830729;
+        final double s5 = 0.663122658240795202376785492666766280;
+        final double s6 = 0.239315664287557767148753726260211895;
+        final int idx0 = l1 * ido;
+        if (i0 == 0) {
+            for (int k = k0; k < k1; k++) {
+                int idx1 = out_off + k * ido;
+                int idx2 = in_off + 13 * k * ido;
+                double x0 = in[idx2];
+                double tr1 = 2 * in[idx2 + ido + ido - 1];
+                double ti1 = 2 * in[idx2 + 2 * ido];
+                double tr2 = 2 * in[idx2 + 3 * ido + ido - 1];
+                double ti2 = 2 * in[idx2 + 4 * ido];
+                double tr3 = 2 * in[idx2 + 5 * ido + ido - 1];
+                double ti3 = 2 * in[idx2 + 6 * ido];
+                double tr4 = 2 * in[idx2 + 7 * ido + ido - 1];
+                double ti4 = 2 * in[idx2 + 8 * ido];
+                double tr5 = 2 * in[idx2 + 9 * ido + ido - 1];
+                double ti5 = 2 * in[idx2 + 10 * ido];
+                double tr6 = 2 * in[idx2 + 11 * ido + ido - 1];
+                double ti6 = 2 * in[idx2 + 12 * ido];
+                out[idx1] = x0 + tr1 + tr2 + tr3 + tr4 + tr5 + tr6;
+                double cr1 = x0 + c1 * tr1 + c2 * tr2 + c3 * tr3 + c4 * tr4 + c5 * tr5 + c6 * tr6;
+                double ci1 = s1 * ti1 + s2 * ti2 + s3 * ti3 + s4 * ti4 + s5 * ti5 + s6 * ti6;
+                out[idx1 + idx0] = cr1 - ci1;
+                out[idx1 + 12 * idx0] = cr1 + ci1;
+                double cr2 = x0 + c2 * tr1 + c4 * tr2 + c6 * tr3 + c5 * tr4 + c3 * tr5 + c1 * tr6;
+                double ci2 = s2 * ti1 + s4 * ti2 + s6 * ti3 - s5 * ti4 - s3 * ti5 - s1 * ti6;
+                out[idx1 + 2 * idx0] = cr2 - ci2;
+                out[idx1 + 11 * idx0] = cr2 + ci2;
+                double cr3 = x0 + c3 * tr1 + c6 * tr2 + c4 * tr3 + c1 * tr4 + c2 * tr5 + c5 * tr6;
+                double ci3 = s3 * ti1 + s6 * ti2 - s4 * ti3 - s1 * ti4 + s2 * ti5 + s5 * ti6;
+                out[idx1 + 3 * idx0] = cr3 - ci3;
+                out[idx1 + 10 * idx0] = cr3 + ci3;
+                double cr4 = x0 + c4 * tr1 + c5 * tr2 + c1 * tr3 + c3 * tr4 + c6 * tr5 + c2 * tr6;
+                double ci4 = s4 * ti1 - s5 * ti2 - s1 * ti3 + s3 * ti4 - s6 * ti5 - s2 * ti6;
+                out[idx1 + 4 * idx0] = cr4 - ci4;
+                out[idx1 + 9 * idx0] = cr4 + ci4;
+                double cr5 = x0 + c5 * tr1 + c3 * tr2 + c2 * tr3 + c6 * tr4 + c1 * tr5 + c4 * tr6;
+                double ci5 = s5 * ti1 - s3 * ti2 + s2 * ti3 - s6 * ti4 - s1 * ti5 + s4 * ti6;
+                out[idx1 + 5 * idx0] = cr5 - ci5;
+                out[idx1 + 8 * idx0] = cr5 + ci5;
+                double cr6 = x0 + c6 * tr1 + c1 * tr2 + c5 * tr3 + c2 * tr4 + c4 * tr5 + c3 * tr6;
+                double ci6 = s6 * ti1 - s1 * ti2 + s5 * ti3 - s2 * ti4 + s4 * ti5 - s3 * ti6;
+                out[idx1 + 6 * idx0] = cr6 - ci6;
+                out[idx1 + 7 * idx0] = cr6 + ci6;
+            }
+        }
+        if (ido == 1)
+            return;
+        for (int k = k0; k < k1; k++) {
+            int idx1 = out_off + k * ido;
+            int idx2 = in_off + 13 * k * ido;
+            for (int i = Math.max(i0, 2); i < Math.min(i1, ido); i += 2) {
+                int ic = ido - i;
+                int iidx0 = idx2 + i;
+                int iidx1 = idx2 + ic;
+                double x0r = in[iidx0 - 1];
+                double x0i = in[iidx0];
+                double ar1 = in[iidx0 + 2 * ido - 1] + in[iidx1 + ido - 1];
+                double br1 = in[iidx0 + 2 * ido - 1] - in[iidx1 + ido - 1];
+                double ai1 = in[iidx0 + 2 * ido] - in[iidx1 + ido];
+                double bi1 = in[iidx0 + 2 * ido] + in[iidx1 + ido];
+                double ar2 = in[iidx0 + 4 * ido - 1] + in[iidx1 + 3 * ido - 1];
+                double br2 = in[iidx0 + 4 * ido - 1] - in[iidx1 + 3 * ido - 1];
+                double ai2 = in[iidx0 + 4 * ido] - in[iidx1 + 3 * ido];
+                double bi2 = in[iidx0 + 4 * ido] + in[iidx1 + 3 * ido];
+                double ar3 = in[iidx0 + 6 * ido - 1] + in[iidx1 + 5 * ido - 1];
+                double br3 = in[iidx0 + 6 * ido - 1] - in[iidx1 + 5 * ido - 1];
+                double ai3 = in[iidx0 + 6 * ido] - in[iidx1 + 5 * ido];
+                double bi3 = in[iidx0 + 6 * ido] + in[iidx1 + 5 * ido];
+                double ar4 = in[iidx0 + 8 * ido - 1] + in[iidx1 + 7 * ido - 1];
+                double br4 = in[iidx0 + 8 * ido - 1] - in[iidx1 + 7 * ido - 1];
+                double ai4 = in[iidx0 + 8 * ido] - in[iidx1 + 7 * ido];
+                double bi4 = in[iidx0 + 8 * ido] + in[iidx1 + 7 * ido];
+                double ar5 = in[iidx0 + 10 * ido - 1] + in[iidx1 + 9 * ido - 1];
+                double br5 = in[iidx0 + 10 * ido - 1] - in[iidx1 + 9 * ido - 1];
+                double ai5 = in[iidx0 + 10 * ido] - in[iidx1 + 9 * ido];
+                double bi5 = in[iidx0 + 10 * ido] + in[iidx1 + 9 * ido];
+                double ar6 = in[iidx0 + 12 * ido - 1] + in[iidx1 + 11 * ido - 1];
+                double br6 = in[iidx0 + 12 * ido - 1] - in[iidx1 + 11 * ido - 1];
+                double ai6 = in[iidx0 + 12 * ido] - in[iidx1 + 11 * ido];
+                double bi6 = in[iidx0 + 12 * ido] + in[iidx1 + 11 * ido];
+
+                int oidx0 = idx1 + i;
+                out[oidx0 - 1] = x0r + ar1 + ar2 + ar3 + ar4 + ar5 + ar6;
+                out[oidx0] = x0i + ai1 + ai2 + ai3 + ai4 + ai5 + ai6;
+                double cr1 = x0r + c1 * ar1 + c2 * ar2 + c3 * ar3 + c4 * ar4 + c5 * ar5 + c6 * ar6;
+                double ci1 = x0i + c1 * ai1 + c2 * ai2 + c3 * ai3 + c4 * ai4 + c5 * ai5 + c6 * ai6;
+                double sr1 = s1 * br1 + s2 * br2 + s3 * br3 + s4 * br4 + s5 * br5 + s6 * br6;
+                double si1 = s1 * bi1 + s2 * bi2 + s3 * bi3 + s4 * bi4 + s5 * bi5 + s6 * bi6;
+                double dr1 = cr1 - si1;
+                double di1 = ci1 + sr1;
+                double dr12 = cr1 + si1;
+                double di12 = ci1 - sr1;
+                double cr2 = x0r + c2 * ar1 + c4 * ar2 + c6 * ar3 + c5 * ar4 + c3 * ar5 + c1 * ar6;
+                double ci2 = x0i + c2 * ai1 + c4 * ai2 + c6 * ai3 + c5 * ai4 + c3 * ai5 + c1 * ai6;
+                double sr2 = s2 * br1 + s4 * br2 + s6 * br3 - s5 * br4 - s3 * br5 - s1 * br6;
+                double si2 = s2 * bi1 + s4 * bi2 + s6 * bi3 - s5 * bi4 - s3 * bi5 - s1 * bi6;
+                double dr2 = cr2 - si2;
+                double di2 = ci2 + sr2;
+                double dr11 = cr2 + si2;
+                double di11 = ci2 - sr2;
+                double cr3 = x0r + c3 * ar1 + c6 * ar2 + c4 * ar3 + c1 * ar4 + c2 * ar5 + c5 * ar6;
+                double ci3 = x0i + c3 * ai1 + c6 * ai2 + c4 * ai3 + c1 * ai4 + c2 * ai5 + c5 * ai6;
+                double sr3 = s3 * br1 + s6 * br2 - s4 * br3 - s1 * br4 + s2 * br5 + s5 * br6;
+                double si3 = s3 * bi1 + s6 * bi2 - s4 * bi3 - s1 * bi4 + s2 * bi5 + s5 * bi6;
+                double dr3 = cr3 - si3;
+                double di3 = ci3 + sr3;
+                double dr10 = cr3 + si3;
+                double di10 = ci3 - sr3;
+                double cr4 = x0r + c4 * ar1 + c5 * ar2 + c1 * ar3 + c3 * ar4 + c6 * ar5 + c2 * ar6;
+                double ci4 = x0i + c4 * ai1 + c5 * ai2 + c1 * ai3 + c3 * ai4 + c6 * ai5 + c2 * ai6;
+                double sr4 = s4 * br1 - s5 * br2 - s1 * br3 + s3 * br4 - s6 * br5 - s2 * br6;
+                double si4 = s4 * bi1 - s5 * bi2 - s1 * bi3 + s3 * bi4 - s6 * bi5 - s2 * bi6;
+                double dr4 = cr4 - si4;
+                double di4 = ci4 + sr4;
+                double dr9 = cr4 + si4;
+                double di9 = ci4 - sr4;
+                double cr5 = x0r + c5 * ar1 + c3 * ar2 + c2 * ar3 + c6 * ar4 + c1 * ar5 + c4 * ar6;
+                double ci5 = x0i + c5 * ai1 + c3 * ai2 + c2 * ai3 + c6 * ai4 + c1 * ai5 + c4 * ai6;
+                double sr5 = s5 * br1 - s3 * br2 + s2 * br3 - s6 * br4 - s1 * br5 + s4 * br6;
+                double si5 = s5 * bi1 - s3 * bi2 + s2 * bi3 - s6 * bi4 - s1 * bi5 + s4 * bi6;
+                double dr5 = cr5 - si5;
+                double di5 = ci5 + sr5;
+                double dr8 = cr5 + si5;
+                double di8 = ci5 - sr5;
+                double cr6 = x0r + c6 * ar1 + c1 * ar2 + c5 * ar3 + c2 * ar4 + c4 * ar5 + c3 * ar6;
+                double ci6 = x0i + c6 * ai1 + c1 * ai2 + c5 * ai3 + c2 * ai4 + c4 * ai5 + c3 * ai6;
+                double sr6 = s6 * br1 - s1 * br2 + s5 * br3 - s2 * br4 + s4 * br5 - s3 * br6;
+                double si6 = s6 * bi1 - s1 * bi2 + s5 * bi3 - s2 * bi4 + s4 * bi5 - s3 * bi6;
+                double dr6 = cr6 - si6;
+                double di6 = ci6 + sr6;
+                double dr7 = cr6 + si6;
+                double di7 = ci6 - sr6;
+
+                int widx1 = i - 2 + offset;
+                double w1r = wtable_r[widx1];
+                double w1i = wtable_r[widx1 + 1];
+                int oidx1 = oidx0 + idx0;
+                out[oidx1 - 1] = w1r * dr1 - w1i * di1;
+                out[oidx1] = w1r * di1 + w1i * dr1;
+                int widx2 = i - 2 + offset + 1 * ido;
+                double w2r = wtable_r[widx2];
+                double w2i = wtable_r[widx2 + 1];
+                int oidx2 = oidx0 + 2 * idx0;
+                out[oidx2 - 1] = w2r * dr2 - w2i * di2;
+                out[oidx2] = w2r * di2 + w2i * dr2;
+                int widx3 = i - 2 + offset + 2 * ido;
+                double w3r = wtable_r[widx3];
+                double w3i = wtable_r[widx3 + 1];
+                int oidx3 = oidx0 + 3 * idx0;
+                out[oidx3 - 1] = w3r * dr3 - w3i * di3;
+                out[oidx3] = w3r * di3 + w3i * dr3;
+                int widx4 = i - 2 + offset + 3 * ido;
+                double w4r = wtable_r[widx4];
+                double w4i = wtable_r[widx4 + 1];
+                int oidx4 = oidx0 + 4 * idx0;
+                out[oidx4 - 1] = w4r * dr4 - w4i * di4;
+                out[oidx4] = w4r * di4 + w4i * dr4;
+                int widx5 = i - 2 + offset + 4 * ido;
+                double w5r = wtable_r[widx5];
+                double w5i = wtable_r[widx5 + 1];
+                int oidx5 = oidx0 + 5 * idx0;
+                out[oidx5 - 1] = w5r * dr5 - w5i * di5;
+                out[oidx5] = w5r * di5 + w5i * dr5;
+                int widx6 = i - 2 + offset + 5 * ido;
+                double w6r = wtable_r[widx6];
+                double w6i = wtable_r[widx6 + 1];
+                int oidx6 = oidx0 + 6 * idx0;
+                out[oidx6 - 1] = w6r * dr6 - w6i * di6;
+                out[oidx6] = w6r * di6 + w6i * dr6;
+                int widx7 = i - 2 + offset + 6 * ido;
+                double w7r = wtable_r[widx7];
+                double w7i = wtable_r[widx7 + 1];
+                int oidx7 = oidx0 + 7 * idx0;
+                out[oidx7 - 1] = w7r * dr7 - w7i * di7;
+                out[oidx7] = w7r * di7 + w7i * dr7;
+                int widx8 = i - 2 + offset + 7 * ido;
+                double w8r = wtable_r[widx8];
+                double w8i = wtable_r[widx8 + 1];
+                int oidx8 = oidx0 + 8 * idx0;
+                out[oidx8 - 1] = w8r * dr8 - w8i * di8;
+                out[oidx8] = w8r * di8 + w8i * dr8;
+                int widx9 = i - 2 + offset + 8 * ido;
+                double w9r = wtable_r[widx9];
+                double w9i = wtable_r[widx9 + 1];
+                int oidx9 = oidx0 + 9 * idx0;
+                out[oidx9 - 1] = w9r * dr9 - w9i * di9;
+                out[oidx9] = w9r * di9 + w9i * dr9;
+                int widx10 = i - 2 + offset + 9 * ido;
+                double w10r = wtable_r[widx10];
+                double w10i = wtable_r[widx10 + 1];
+                int oidx10 = oidx0 + 10 * idx0;
+                out[oidx10 - 1] = w10r * dr10 - w10i * di10;
+                out[oidx10] = w10r * di10 + w10i * dr10;
+                int widx11 = i - 2 + offset + 10 * ido;
+                double w11r = wtable_r[widx11];
+                double w11i = wtable_r[widx11 + 1];
+                int oidx11 = oidx0 + 11 * idx0;
+                out[oidx11 - 1] = w11r * dr11 - w11i * di11;
+                out[oidx11] = w11r * di11 + w11i * dr11;
+                int widx12 = i - 2 + offset + 11 * ido;
+                double w12r = wtable_r[widx12];
+                double w12i = wtable_r[widx12 + 1];
+                int oidx12 = oidx0 + 12 * idx0;
+                out[oidx12 - 1] = w12r * dr12 - w12i * di12;
+                out[oidx12] = w12r * di12 + w12i * dr12;
+            }
+        }
+    }
+
     /*---------------------------------------------------------
        radfg: Real FFT's forward processing of general factor
       --------------------------------------------------------*/
@@ -3329,19 +6333,17 @@ public class DoubleFFT_1D {
     /*---------------------------------------------------------
        cfftf1: further processing of Complex forward FFT
       --------------------------------------------------------*/
-    void cfftf(double a[], int offa, int isign) {
+    void cfftf(double a[], int offa, int isign, Workspace ws) {
         int idot;
         int l1, l2;
         int na, nf, ip, iw, ido, idl1;
-        int[] nac = new int[1];
         final int twon = 2 * n;
 
         int iw1, iw2;
-        double[] ch = new double[twon];
+        double[] ch = ws.ak;
 
         iw1 = twon;
         iw2 = 4 * n;
-        nac[0] = 0;
         nf = (int) wtable[1 + iw2];
         na = 0;
         l1 = 1;
@@ -3354,44 +6356,27 @@ public class DoubleFFT_1D {
             idl1 = idot * l1;
             switch (ip) {
             case 4:
-                if (na == 0) {
-                    passf4(idot, l1, a, offa, ch, 0, iw, isign);
-                } else {
-                    passf4(idot, l1, ch, 0, a, offa, iw, isign);
-                }
-                na = 1 - na;
-                break;
             case 2:
-                if (na == 0) {
-                    passf2(idot, l1, a, offa, ch, 0, iw, isign);
-                } else {
-                    passf2(idot, l1, ch, 0, a, offa, iw, isign);
-                }
-                na = 1 - na;
-                break;
             case 3:
-                if (na == 0) {
-                    passf3(idot, l1, a, offa, ch, 0, iw, isign);
-                } else {
-                    passf3(idot, l1, ch, 0, a, offa, iw, isign);
-                }
-                na = 1 - na;
-                break;
             case 5:
+            case 7:
+            case 11:
+            case 13:
                 if (na == 0) {
-                    passf5(idot, l1, a, offa, ch, 0, iw, isign);
+                    cfftfStage(ip, idot, l1, a, offa, ch, 0, iw, isign);
                 } else {
-                    passf5(idot, l1, ch, 0, a, offa, iw, isign);
+                    cfftfStage(ip, idot, l1, ch, 0, a, offa, iw, isign);
                 }
                 na = 1 - na;
                 break;
             default:
+                boolean inOut;
                 if (na == 0) {
-                    passfg(nac, idot, ip, l1, idl1, a, offa, ch, 0, iw, isign);
+                    inOut = passfg(idot, ip, l1, idl1, a, offa, ch, 0, iw, isign);
                 } else {
-                    passfg(nac, idot, ip, l1, idl1, ch, 0, a, offa, iw, isign);
+                    inOut = passfg(idot, ip, l1, idl1, ch, 0, a, offa, iw, isign);
                 }
-                if (nac[0] != 0)
+                if (inOut)
                     na = 1 - na;
                 break;
             }
@@ -3404,18 +6389,184 @@ public class DoubleFFT_1D {
 
     }
 
+    /**
+     * Computes a stage of cfftf of factor ip (2, 3, 4, 5, 7, 11 or 13). Large
+     * transforms split the butterflies between tasks: over k when there are
+     * enough of them (l1), over i otherwise.
+     */
+    private void cfftfStage(final int ip, final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset, final int isign) {
+        final int nthreads = getNumberOfTasks(n);
+        if (nthreads > 1) {
+            final boolean splitK = (l1 >= nthreads) || (ido <= 2);
+            final int ih = ido / 2;
+            Future<?>[] futures = new Future[nthreads];
+            for (int j = 0; j < nthreads; j++) {
+                final int k0 = splitK ? (int) ((long) j * l1 / nthreads) : 0;
+                final int k1 = splitK ? (int) ((long) (j + 1) * l1 / nthreads) : l1;
+                final int i0 = splitK ? 0 : 2 * (int) ((long) j * ih / nthreads);
+                final int i1 = splitK ? ido : 2 * (int) ((long) (j + 1) * ih / nthreads);
+                futures[j] = context.submit(new Runnable() {
+                    public void run() {
+                        passf(ip, ido, l1, in, in_off, out, out_off, offset, isign, k0, k1, i0, i1);
+                    }
+                });
+            }
+            ConcurrencyUtils.waitForCompletion(futures);
+        } else {
+            passf(ip, ido, l1, in, in_off, out, out_off, offset, isign, 0, l1, 0, ido);
+        }
+    }
+
+    private void passf(int ip, int ido, int l1, double in[], int in_off, double out[], int out_off, int offset, int isign, int k0, int k1, int i0, int i1) {
+        switch (ip) {
+        case 2:
+            passf2(ido, l1, in, in_off, out, out_off, offset, isign, k0, k1, i0, i1);
+            break;
+        case 3:
+            passf3(ido, l1, in, in_off, out, out_off, offset, isign, k0, k1, i0, i1);
+            break;
+        case 4:
+            passf4(ido, l1, in, in_off, out, out_off, offset, isign, k0, k1, i0, i1);
+            break;
+        case 5:
+            passf5(ido, l1, in, in_off, out, out_off, offset, isign, k0, k1, i0, i1);
+            break;
+        case 7:
+            passf7(ido, l1, in, in_off, out, out_off, offset, isign, k0, k1, i0, i1);
+            break;
+        case 11:
+            passf11(ido, l1, in, in_off, out, out_off, offset, isign, k0, k1, i0, i1);
+            break;
+        case 13:
+            passf13(ido, l1, in, in_off, out, out_off, offset, isign, k0, k1, i0, i1);
+            break;
+        }
+    }
+
+    /**
+     * Computes a stage of rfftf of factor ip (2, 3, 4, 5, 7, 11 or 13). Large
+     * transforms split the butterflies between tasks: over k when there are
+     * enough of them (l1), over i otherwise. The butterflies of i = 0 and,
+     * for even ido, of i = ido go to the first and to the last task of a
+     * split over i.
+     */
+    private void rfftfStage(final int ip, final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset) {
+        final int nthreads = getNumberOfTasks(n);
+        if (nthreads > 1) {
+            final boolean splitK = (l1 >= nthreads) || (ido <= 2);
+            final int ih = ido / 2 + 1;
+            Future<?>[] futures = new Future[nthreads];
+            for (int j = 0; j < nthreads; j++) {
+                final int k0 = splitK ? (int) ((long) j * l1 / nthreads) : 0;
+                final int k1 = splitK ? (int) ((long) (j + 1) * l1 / nthreads) : l1;
+                final int i0 = splitK ? 0 : 2 * (int) ((long) j * ih / nthreads);
+                final int i1 = splitK ? ido + 1 : 2 * (int) ((long) (j + 1) * ih / nthreads);
+                futures[j] = context.submit(new Runnable() {
+                    public void run() {
+                        radf(ip, ido, l1, in, in_off, out, out_off, offset, k0, k1, i0, i1);
+                    }
+                });
+            }
+            ConcurrencyUtils.waitForCompletion(futures);
+        } else {
+            radf(ip, ido, l1, in, in_off, out, out_off, offset, 0, l1, 0, ido + 1);
+        }
+    }
+
+    private void radf(int ip, int ido, int l1, double in[], int in_off, double out[], int out_off, int offset, int k0, int k1, int i0, int i1) {
+        switch (ip) {
+        case 2:
+            radf2(ido, l1, in, in_off, out, out_off, offset, k0, k1, i0, i1);
+            break;
+        case 3:
+            radf3(ido, l1, in, in_off, out, out_off, offset, k0, k1, i0, i1);
+            break;
+        case 4:
+            radf4(ido, l1, in, in_off, out, out_off, offset, k0, k1, i0, i1);
+            break;
+        case 5:
+            radf5(ido, l1, in, in_off, out, out_off, offset, k0, k1, i0, i1);
+            break;
+        case 7:
+            radf7(ido, l1, in, in_off, out, out_off, offset, k0, k1, i0, i1);
+            break;
+        case 11:
+            radf11(ido, l1, in, in_off, out, out_off, offset, k0, k1, i0, i1);
+            break;
+        case 13:
+            radf13(ido, l1, in, in_off, out, out_off, offset, k0, k1, i0, i1);
+            break;
+        }
+    }
+
+    /**
+     * Computes a stage of rfftb of factor ip (2, 3, 4, 5, 7, 11 or 13). Large
+     * transforms split the butterflies between tasks: over k when there are
+     * enough of them (l1), over i otherwise. The butterflies of i = 0 and,
+     * for even ido, of i = ido go to the first and to the last task of a
+     * split over i.
+     */
+    private void rfftbStage(final int ip, final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset) {
+        final int nthreads = getNumberOfTasks(n);
+        if (nthreads > 1) {
+            final boolean splitK = (l1 >= nthreads) || (ido <= 2);
+            final int ih = ido / 2 + 1;
+            Future<?>[] futures = new Future[nthreads];
+            for (int j = 0; j < nthreads; j++) {
+                final int k0 = splitK ? (int) ((long) j * l1 / nthreads) : 0;
+                final int k1 = splitK ? (int) ((long) (j + 1) * l1 / nthreads) : l1;
+                final int i0 = splitK ? 0 : 2 * (int) ((long) j * ih / nthreads);
+                final int i1 = splitK ? ido + 1 : 2 * (int) ((long) (j + 1) * ih / nthreads);
+                futures[j] = context.submit(new Runnable() {
+                    public void run() {
+                        radb(ip, ido, l1, in, in_off, out, out_off, offset, k0, k1, i0, i1);
+                    }
+                });
+            }
+            ConcurrencyUtils.waitForCompletion(futures);
+        } else {
+            radb(ip, ido, l1, in, in_off, out, out_off, offset, 0, l1, 0, ido + 1);
+        }
+    }
+
+    private void radb(int ip, int ido, int l1, double in[], int in_off, double out[], int out_off, int offset, int k0, int k1, int i0, int i1) {
+        switch (ip) {
+        case 2:
+            radb2(ido, l1, in, in_off, out, out_off, offset, k0, k1, i0, i1);
+            break;
+        case 3:
+            radb3(ido, l1, in, in_off, out, out_off, offset, k0, k1, i0, i1);
+            break;
+        case 4:
+            radb4(ido, l1, in, in_off, out, out_off, offset, k0, k1, i0, i1);
+            break;
+        case 5:
+            radb5(ido, l1, in, in_off, out, out_off, offset, k0, k1, i0, i1);
+            break;
+        case 7:
+            radb7(ido, l1, in, in_off, out, out_off, offset, k0, k1, i0, i1);
+            break;
+        case 11:
+            radb11(ido, l1, in, in_off, out, out_off, offset, k0, k1, i0, i1);
+            break;
+        case 13:
+            radb13(ido, l1, in, in_off, out, out_off, offset, k0, k1, i0, i1);
+            break;
+        }
+    }
+
     /*----------------------------------------------------------------------
        passf2: Complex FFT's forward/backward processing of factor 2;
        isign is +1 for backward and -1 for forward transforms
       ----------------------------------------------------------------------*/
 
-    void passf2(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset, final int isign) {
+    void passf2(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset, final int isign, final int k0, final int k1, final int i0, final int i1) {
         double t1i, t1r;
         int iw1;
         iw1 = offset;
         int idx = ido * l1;
         if (ido <= 2) {
-            for (int k = 0; k < l1; k++) {
+            for (int k = k0; k < k1; k++) {
                 int idx0 = k * ido;
                 int iidx1 = in_off + 2 * idx0;
                 int iidx2 = iidx1 + ido;
@@ -3432,8 +6583,8 @@ public class DoubleFFT_1D {
                 out[oidx2 + 1] = a1i - a2i;
             }
         } else {
-            for (int k = 0; k < l1; k++) {
-                for (int i = 0; i < ido - 1; i += 2) {
+            for (int k = k0; k < k1; k++) {
+                for (int i = i0; i < i1; i += 2) {
                     int idx0 = k * ido;
                     int iidx1 = in_off + i + 2 * idx0;
                     int iidx2 = iidx1 + ido;
@@ -3464,7 +6615,7 @@ public class DoubleFFT_1D {
        passf3: Complex FFT's forward/backward processing of factor 3;
        isign is +1 for backward and -1 for forward transforms
       ----------------------------------------------------------------------*/
-    void passf3(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset, final int isign) {
+    void passf3(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset, final int isign, final int k0, final int k1, final int i0, final int i1) {
         final double taur = -0.5;
         final double taui = 0.866025403784438707610604524234076962;
         double ci2, ci3, di2, di3, cr2, cr3, dr2, dr3, ti2, tr2;
@@ -3476,7 +6627,7 @@ public class DoubleFFT_1D {
         final int idxt = l1 * ido;
 
         if (ido == 2) {
-            for (int k = 1; k <= l1; k++) {
+            for (int k = k0 + 1; k <= k1; k++) {
                 int iidx1 = in_off + (3 * k - 2) * ido;
                 int iidx2 = iidx1 + ido;
                 int iidx3 = iidx1 - ido;
@@ -3505,10 +6656,10 @@ public class DoubleFFT_1D {
                 out[oidx3 + 1] = ci2 - cr3;
             }
         } else {
-            for (int k = 1; k <= l1; k++) {
+            for (int k = k0 + 1; k <= k1; k++) {
                 int idx1 = in_off + (3 * k - 2) * ido;
                 int idx2 = out_off + (k - 1) * ido;
-                for (int i = 0; i < ido - 1; i += 2) {
+                for (int i = i0; i < i1; i += 2) {
                     int iidx1 = i + idx1;
                     int iidx2 = iidx1 + ido;
                     int iidx3 = iidx1 - ido;
@@ -3555,7 +6706,7 @@ public class DoubleFFT_1D {
        passf4: Complex FFT's forward/backward processing of factor 4;
        isign is +1 for backward and -1 for forward transforms
       ----------------------------------------------------------------------*/
-    void passf4(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset, final int isign) {
+    void passf4(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset, final int isign, final int k0, final int k1, final int i0, final int i1) {
         double ci2, ci3, ci4, cr2, cr3, cr4, ti1, ti2, ti3, ti4, tr1, tr2, tr3, tr4;
         int iw1, iw2, iw3;
         iw1 = offset;
@@ -3564,7 +6715,7 @@ public class DoubleFFT_1D {
 
         int idx0 = l1 * ido;
         if (ido == 2) {
-            for (int k = 0; k < l1; k++) {
+            for (int k = k0; k < k1; k++) {
                 int idxt1 = k * ido;
                 int iidx1 = in_off + 4 * idxt1 + 1;
                 int iidx2 = iidx1 + ido;
@@ -3603,10 +6754,10 @@ public class DoubleFFT_1D {
                 out[oidx4 + 1] = ti1 - isign * ti4;
             }
         } else {
-            for (int k = 0; k < l1; k++) {
+            for (int k = k0; k < k1; k++) {
                 int idx1 = k * ido;
                 int idx2 = in_off + 1 + 4 * idx1;
-                for (int i = 0; i < ido - 1; i += 2) {
+                for (int i = i0; i < i1; i += 2) {
                     int iidx1 = i + idx2;
                     int iidx2 = iidx1 + ido;
                     int iidx3 = iidx2 + ido;
@@ -3666,7 +6817,7 @@ public class DoubleFFT_1D {
        passf5: Complex FFT's forward/backward processing of factor 5;
        isign is +1 for backward and -1 for forward transforms
       ----------------------------------------------------------------------*/
-    void passf5(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset, final int isign)
+    void passf5(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset, final int isign, final int k0, final int k1, final int i0, final int i1)
     /* isign==-1 for forward transform and+1 for backward transform */
     {
         final double tr11 = 0.309016994374947451262869435595348477;
@@ -3684,7 +6835,7 @@ public class DoubleFFT_1D {
         int idx0 = l1 * ido;
 
         if (ido == 2) {
-            for (int k = 1; k <= l1; ++k) {
+            for (int k = k0 + 1; k <= k1; k++) {
                 int iidx1 = in_off + (5 * k - 4) * ido + 1;
                 int iidx2 = iidx1 + ido;
                 int iidx3 = iidx1 - ido;
@@ -3736,10 +6887,10 @@ public class DoubleFFT_1D {
                 out[oidx5 + 1] = ci2 - cr5;
             }
         } else {
-            for (int k = 1; k <= l1; k++) {
+            for (int k = k0 + 1; k <= k1; k++) {
                 int idx1 = in_off + 1 + (k * 5 - 4) * ido;
                 int idx2 = out_off + (k - 1) * ido;
-                for (int i = 0; i < ido - 1; i += 2) {
+                for (int i = i0; i < i1; i += 2) {
                     int iidx1 = i + idx1;
                     int iidx2 = iidx1 + ido;
                     int iidx3 = iidx1 - ido;
@@ -3815,10 +6966,862 @@ public class DoubleFFT_1D {
     }
 
     /*----------------------------------------------------------------------
-       passfg: Complex FFT's forward/backward processing of general factor;
+       passf7: Complex FFT's forward/backward processing of factor 7;
+       isign is +1 for backward and -1 for forward transforms
+      ----------------------------------------------------------------------*/
+    void passf7(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset, final int isign, final int k0, final int k1, final int i0, final int i1) {
+        final double c1 = 0.623489801858733530525004884004239811;
+        final double c2 = -0.222520933956314404288902564496794759;
+        final double c3 = -0.900968867902419126236102319507445051;
+        final double s1 = 0.781831482468029808708444526674057750;
+        final double s2 = 0.974927912181823607018131682993931217;
+        final double s3 = 0.433883739117558120475768332848358755;
+        final int idx0 = l1 * ido;
+
+        if (ido == 2) {
+            for (int k = k0; k < k1; k++) {
+                int idx1 = in_off + 7 * k * ido;
+                int idx2 = out_off + k * ido;
+                int iidx0 = idx1;
+                int iidx1 = iidx0 + ido;
+                int iidx2 = iidx1 + ido;
+                int iidx3 = iidx2 + ido;
+                int iidx4 = iidx3 + ido;
+                int iidx5 = iidx4 + ido;
+                int iidx6 = iidx5 + ido;
+                double x0r = in[iidx0];
+                double x0i = in[iidx0 + 1];
+                double x1r = in[iidx1];
+                double x1i = in[iidx1 + 1];
+                double x2r = in[iidx2];
+                double x2i = in[iidx2 + 1];
+                double x3r = in[iidx3];
+                double x3i = in[iidx3 + 1];
+                double x4r = in[iidx4];
+                double x4i = in[iidx4 + 1];
+                double x5r = in[iidx5];
+                double x5i = in[iidx5 + 1];
+                double x6r = in[iidx6];
+                double x6i = in[iidx6 + 1];
+
+                double t1r = x1r + x6r;
+                double t1i = x1i + x6i;
+                double u1r = x1r - x6r;
+                double u1i = x1i - x6i;
+                double t2r = x2r + x5r;
+                double t2i = x2i + x5i;
+                double u2r = x2r - x5r;
+                double u2i = x2i - x5i;
+                double t3r = x3r + x4r;
+                double t3i = x3i + x4i;
+                double u3r = x3r - x4r;
+                double u3i = x3i - x4i;
+
+                double c1r = x0r + c1 * t1r + c2 * t2r + c3 * t3r;
+                double c1i = x0i + c1 * t1i + c2 * t2i + c3 * t3i;
+                double s1r = isign * (s1 * u1i + s2 * u2i + s3 * u3i);
+                double s1i = isign * (s1 * u1r + s2 * u2r + s3 * u3r);
+                double c2r = x0r + c2 * t1r + c3 * t2r + c1 * t3r;
+                double c2i = x0i + c2 * t1i + c3 * t2i + c1 * t3i;
+                double s2r = isign * (s2 * u1i - s3 * u2i - s1 * u3i);
+                double s2i = isign * (s2 * u1r - s3 * u2r - s1 * u3r);
+                double c3r = x0r + c3 * t1r + c1 * t2r + c2 * t3r;
+                double c3i = x0i + c3 * t1i + c1 * t2i + c2 * t3i;
+                double s3r = isign * (s3 * u1i - s1 * u2i + s2 * u3i);
+                double s3i = isign * (s3 * u1r - s1 * u2r + s2 * u3r);
+
+                int oidx0 = idx2;
+                int oidx1 = oidx0 + idx0;
+                int oidx2 = oidx1 + idx0;
+                int oidx3 = oidx2 + idx0;
+                int oidx4 = oidx3 + idx0;
+                int oidx5 = oidx4 + idx0;
+                int oidx6 = oidx5 + idx0;
+                out[oidx0] = x0r + t1r + t2r + t3r;
+                out[oidx0 + 1] = x0i + t1i + t2i + t3i;
+                out[oidx1] = c1r - s1r;
+                out[oidx1 + 1] = c1i + s1i;
+                out[oidx6] = c1r + s1r;
+                out[oidx6 + 1] = c1i - s1i;
+                out[oidx2] = c2r - s2r;
+                out[oidx2 + 1] = c2i + s2i;
+                out[oidx5] = c2r + s2r;
+                out[oidx5 + 1] = c2i - s2i;
+                out[oidx3] = c3r - s3r;
+                out[oidx3 + 1] = c3i + s3i;
+                out[oidx4] = c3r + s3r;
+                out[oidx4 + 1] = c3i - s3i;
+            }
+        } else {
+            for (int k = k0; k < k1; k++) {
+                int idx1 = in_off + 7 * k * ido;
+                int idx2 = out_off + k * ido;
+                for (int i = i0; i < i1; i += 2) {
+                    int iidx0 = idx1 + i;
+                    int iidx1 = iidx0 + ido;
+                    int iidx2 = iidx1 + ido;
+                    int iidx3 = iidx2 + ido;
+                    int iidx4 = iidx3 + ido;
+                    int iidx5 = iidx4 + ido;
+                    int iidx6 = iidx5 + ido;
+                    double x0r = in[iidx0];
+                    double x0i = in[iidx0 + 1];
+                    double x1r = in[iidx1];
+                    double x1i = in[iidx1 + 1];
+                    double x2r = in[iidx2];
+                    double x2i = in[iidx2 + 1];
+                    double x3r = in[iidx3];
+                    double x3i = in[iidx3 + 1];
+                    double x4r = in[iidx4];
+                    double x4i = in[iidx4 + 1];
+                    double x5r = in[iidx5];
+                    double x5i = in[iidx5 + 1];
+                    double x6r = in[iidx6];
+                    double x6i = in[iidx6 + 1];
+
+                    double t1r = x1r + x6r;
+                    double t1i = x1i + x6i;
+                    double u1r = x1r - x6r;
+                    double u1i = x1i - x6i;
+                    double t2r = x2r + x5r;
+                    double t2i = x2i + x5i;
+                    double u2r = x2r - x5r;
+                    double u2i = x2i - x5i;
+                    double t3r = x3r + x4r;
+                    double t3i = x3i + x4i;
+                    double u3r = x3r - x4r;
+                    double u3i = x3i - x4i;
+
+                    double c1r = x0r + c1 * t1r + c2 * t2r + c3 * t3r;
+                    double c1i = x0i + c1 * t1i + c2 * t2i + c3 * t3i;
+                    double s1r = isign * (s1 * u1i + s2 * u2i + s3 * u3i);
+                    double s1i = isign * (s1 * u1r + s2 * u2r + s3 * u3r);
+                    double c2r = x0r + c2 * t1r + c3 * t2r + c1 * t3r;
+                    double c2i = x0i + c2 * t1i + c3 * t2i + c1 * t3i;
+                    double s2r = isign * (s2 * u1i - s3 * u2i - s1 * u3i);
+                    double s2i = isign * (s2 * u1r - s3 * u2r - s1 * u3r);
+                    double c3r = x0r + c3 * t1r + c1 * t2r + c2 * t3r;
+                    double c3i = x0i + c3 * t1i + c1 * t2i + c2 * t3i;
+                    double s3r = isign * (s3 * u1i - s1 * u2i + s2 * u3i);
+                    double s3i = isign * (s3 * u1r - s1 * u2r + s2 * u3r);
+
+                    int oidx0 = idx2 + i;
+                    int oidx1 = oidx0 + idx0;
+                    int oidx2 = oidx1 + idx0;
+                    int oidx3 = oidx2 + idx0;
+                    int oidx4 = oidx3 + idx0;
+                    int oidx5 = oidx4 + idx0;
+                    int oidx6 = oidx5 + idx0;
+                    out[oidx0] = x0r + t1r + t2r + t3r;
+                    out[oidx0 + 1] = x0i + t1i + t2i + t3i;
+                    double d1r = c1r - s1r;
+                    double d1i = c1i + s1i;
+                    double d6r = c1r + s1r;
+                    double d6i = c1i - s1i;
+                    double d2r = c2r - s2r;
+                    double d2i = c2i + s2i;
+                    double d5r = c2r + s2r;
+                    double d5i = c2i - s2i;
+                    double d3r = c3r - s3r;
+                    double d3i = c3i + s3i;
+                    double d4r = c3r + s3r;
+                    double d4i = c3i - s3i;
+
+                    int widx1 = i + offset;
+                    double w1r = wtable[widx1];
+                    double w1i = isign * wtable[widx1 + 1];
+                    out[oidx1] = w1r * d1r - w1i * d1i;
+                    out[oidx1 + 1] = w1r * d1i + w1i * d1r;
+                    int widx2 = i + offset + 1 * ido;
+                    double w2r = wtable[widx2];
+                    double w2i = isign * wtable[widx2 + 1];
+                    out[oidx2] = w2r * d2r - w2i * d2i;
+                    out[oidx2 + 1] = w2r * d2i + w2i * d2r;
+                    int widx3 = i + offset + 2 * ido;
+                    double w3r = wtable[widx3];
+                    double w3i = isign * wtable[widx3 + 1];
+                    out[oidx3] = w3r * d3r - w3i * d3i;
+                    out[oidx3 + 1] = w3r * d3i + w3i * d3r;
+                    int widx4 = i + offset + 3 * ido;
+                    double w4r = wtable[widx4];
+                    double w4i = isign * wtable[widx4 + 1];
+                    out[oidx4] = w4r * d4r - w4i * d4i;
+                    out[oidx4 + 1] = w4r * d4i + w4i * d4r;
+                    int widx5 = i + offset + 4 * ido;
+                    double w5r = wtable[widx5];
+                    double w5i = isign * wtable[widx5 + 1];
+                    out[oidx5] = w5r * d5r - w5i * d5i;
+                    out[oidx5 + 1] = w5r * d5i + w5i * d5r;
+                    int widx6 = i + offset + 5 * ido;
+                    double w6r = wtable[widx6];
+                    double w6i = isign * wtable[widx6 + 1];
+                    out[oidx6] = w6r * d6r - w6i * d6i;
+                    out[oidx6 + 1] = w6r * d6i + w6i * d6r;
+                }
+            }
+        }
+    }
+
+    /*----------------------------------------------------------------------
+       passf11: Complex FFT's forward/backward processing of factor 11;
+       isign is +1 for backward and -1 for forward transforms
+      ----------------------------------------------------------------------*/
+    void passf11(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset, final int isign, final int k0, final int k1, final int i0, final int i1) {
+        final double c1 = 0.841253532831181168861811648919367718;
+        final double c2 = 0.415415013001886425529274149229623204;
+        final double c3 = -0.142314838273285140443792668616369669;
+        final double c4 = -0.654860733945285064056925072466293553;
+        final double c5 = -0.959492973614497389890368057066327699;
+        final double s1 = 0.540640817455597582107635954318691695;
+        final double s2 = 0.909631995354518371411715383079028460;
+        final double s3 = 0.989821441880932732376092037776718787;
+        final double s4 = 0.755749574354258283774035843972344420;
+        final double s5 = 0.281732556841429697711417915346616899;
+        final int idx0 = l1 * ido;
+
+        if (ido == 2) {
+            for (int k = k0; k < k1; k++) {
+                int idx1 = in_off + 11 * k * ido;
+                int idx2 = out_off + k * ido;
+                int iidx0 = idx1;
+                int iidx1 = iidx0 + ido;
+                int iidx2 = iidx1 + ido;
+                int iidx3 = iidx2 + ido;
+                int iidx4 = iidx3 + ido;
+                int iidx5 = iidx4 + ido;
+                int iidx6 = iidx5 + ido;
+                int iidx7 = iidx6 + ido;
+                int iidx8 = iidx7 + ido;
+                int iidx9 = iidx8 + ido;
+                int iidx10 = iidx9 + ido;
+                double x0r = in[iidx0];
+                double x0i = in[iidx0 + 1];
+                double x1r = in[iidx1];
+                double x1i = in[iidx1 + 1];
+                double x2r = in[iidx2];
+                double x2i = in[iidx2 + 1];
+                double x3r = in[iidx3];
+                double x3i = in[iidx3 + 1];
+                double x4r = in[iidx4];
+                double x4i = in[iidx4 + 1];
+                double x5r = in[iidx5];
+                double x5i = in[iidx5 + 1];
+                double x6r = in[iidx6];
+                double x6i = in[iidx6 + 1];
+                double x7r = in[iidx7];
+                double x7i = in[iidx7 + 1];
+                double x8r = in[iidx8];
+                double x8i = in[iidx8 + 1];
+                double x9r = in[iidx9];
+                double x9i = in[iidx9 + 1];
+                double x10r = in[iidx10];
+                double x10i = in[iidx10 + 1];
+
+                double t1r = x1r + x10r;
+                double t1i = x1i + x10i;
+                double u1r = x1r - x10r;
+                double u1i = x1i - x10i;
+                double t2r = x2r + x9r;
+                double t2i = x2i + x9i;
+                double u2r = x2r - x9r;
+                double u2i = x2i - x9i;
+                double t3r = x3r + x8r;
+                double t3i = x3i + x8i;
+                double u3r = x3r - x8r;
+                double u3i = x3i - x8i;
+                double t4r = x4r + x7r;
+                double t4i = x4i + x7i;
+                double u4r = x4r - x7r;
+                double u4i = x4i - x7i;
+                double t5r = x5r + x6r;
+                double t5i = x5i + x6i;
+                double u5r = x5r - x6r;
+                double u5i = x5i - x6i;
+
+                double c1r = x0r + c1 * t1r + c2 * t2r + c3 * t3r + c4 * t4r + c5 * t5r;
+                double c1i = x0i + c1 * t1i + c2 * t2i + c3 * t3i + c4 * t4i + c5 * t5i;
+                double s1r = isign * (s1 * u1i + s2 * u2i + s3 * u3i + s4 * u4i + s5 * u5i);
+                double s1i = isign * (s1 * u1r + s2 * u2r + s3 * u3r + s4 * u4r + s5 * u5r);
+                double c2r = x0r + c2 * t1r + c4 * t2r + c5 * t3r + c3 * t4r + c1 * t5r;
+                double c2i = x0i + c2 * t1i + c4 * t2i + c5 * t3i + c3 * t4i + c1 * t5i;
+                double s2r = isign * (s2 * u1i + s4 * u2i - s5 * u3i - s3 * u4i - s1 * u5i);
+                double s2i = isign * (s2 * u1r + s4 * u2r - s5 * u3r - s3 * u4r - s1 * u5r);
+                double c3r = x0r + c3 * t1r + c5 * t2r + c2 * t3r + c1 * t4r + c4 * t5r;
+                double c3i = x0i + c3 * t1i + c5 * t2i + c2 * t3i + c1 * t4i + c4 * t5i;
+                double s3r = isign * (s3 * u1i - s5 * u2i - s2 * u3i + s1 * u4i + s4 * u5i);
+                double s3i = isign * (s3 * u1r - s5 * u2r - s2 * u3r + s1 * u4r + s4 * u5r);
+                double c4r = x0r + c4 * t1r + c3 * t2r + c1 * t3r + c5 * t4r + c2 * t5r;
+                double c4i = x0i + c4 * t1i + c3 * t2i + c1 * t3i + c5 * t4i + c2 * t5i;
+                double s4r = isign * (s4 * u1i - s3 * u2i + s1 * u3i + s5 * u4i - s2 * u5i);
+                double s4i = isign * (s4 * u1r - s3 * u2r + s1 * u3r + s5 * u4r - s2 * u5r);
+                double c5r = x0r + c5 * t1r + c1 * t2r + c4 * t3r + c2 * t4r + c3 * t5r;
+                double c5i = x0i + c5 * t1i + c1 * t2i + c4 * t3i + c2 * t4i + c3 * t5i;
+                double s5r = isign * (s5 * u1i - s1 * u2i + s4 * u3i - s2 * u4i + s3 * u5i);
+                double s5i = isign * (s5 * u1r - s1 * u2r + s4 * u3r - s2 * u4r + s3 * u5r);
+
+                int oidx0 = idx2;
+                int oidx1 = oidx0 + idx0;
+                int oidx2 = oidx1 + idx0;
+                int oidx3 = oidx2 + idx0;
+                int oidx4 = oidx3 + idx0;
+                int oidx5 = oidx4 + idx0;
+                int oidx6 = oidx5 + idx0;
+                int oidx7 = oidx6 + idx0;
+                int oidx8 = oidx7 + idx0;
+                int oidx9 = oidx8 + idx0;
+                int oidx10 = oidx9 + idx0;
+                out[oidx0] = x0r + t1r + t2r + t3r + t4r + t5r;
+                out[oidx0 + 1] = x0i + t1i + t2i + t3i + t4i + t5i;
+                out[oidx1] = c1r - s1r;
+                out[oidx1 + 1] = c1i + s1i;
+                out[oidx10] = c1r + s1r;
+                out[oidx10 + 1] = c1i - s1i;
+                out[oidx2] = c2r - s2r;
+                out[oidx2 + 1] = c2i + s2i;
+                out[oidx9] = c2r + s2r;
+                out[oidx9 + 1] = c2i - s2i;
+                out[oidx3] = c3r - s3r;
+                out[oidx3 + 1] = c3i + s3i;
+                out[oidx8] = c3r + s3r;
+                out[oidx8 + 1] = c3i - s3i;
+                out[oidx4] = c4r - s4r;
+                out[oidx4 + 1] = c4i + s4i;
+                out[oidx7] = c4r + s4r;
+                out[oidx7 + 1] = c4i - s4i;
+                out[oidx5] = c5r - s5r;
+                out[oidx5 + 1] = c5i + s5i;
+                out[oidx6] = c5r + s5r;
+                out[oidx6 + 1] = c5i - s5i;
+            }
+        } else {
+            for (int k = k0; k < k1; k++) {
+                int idx1 = in_off + 11 * k * ido;
+                int idx2 = out_off + k * ido;
+                for (int i = i0; i < i1; i += 2) {
+                    int iidx0 = idx1 + i;
+                    int iidx1 = iidx0 + ido;
+                    int iidx2 = iidx1 + ido;
+                    int iidx3 = iidx2 + ido;
+                    int iidx4 = iidx3 + ido;
+                    int iidx5 = iidx4 + ido;
+                    int iidx6 = iidx5 + ido;
+                    int iidx7 = iidx6 + ido;
+                    int iidx8 = iidx7 + ido;
+                    int iidx9 = iidx8 + ido;
+                    int iidx10 = iidx9 + ido;
+                    double x0r = in[iidx0];
+                    double x0i = in[iidx0 + 1];
+                    double x1r = in[iidx1];
+                    double x1i = in[iidx1 + 1];
+                    double x2r = in[iidx2];
+                    double x2i = in[iidx2 + 1];
+                    double x3r = in[iidx3];
+                    double x3i = in[iidx3 + 1];
+                    double x4r = in[iidx4];
+                    double x4i = in[iidx4 + 1];
+                    double x5r = in[iidx5];
+                    double x5i = in[iidx5 + 1];
+                    double x6r = in[iidx6];
+                    double x6i = in[iidx6 + 1];
+                    double x7r = in[iidx7];
+                    double x7i = in[iidx7 + 1];
+                    double x8r = in[iidx8];
+                    double x8i = in[iidx8 + 1];
+                    double x9r = in[iidx9];
+                    double x9i = in[iidx9 + 1];
+                    double x10r = in[iidx10];
+                    double x10i = in[iidx10 + 1];
+
+                    double t1r = x1r + x10r;
+                    double t1i = x1i + x10i;
+                    double u1r = x1r - x10r;
+                    double u1i = x1i - x10i;
+                    double t2r = x2r + x9r;
+                    double t2i = x2i + x9i;
+                    double u2r = x2r - x9r;
+                    double u2i = x2i - x9i;
+                    double t3r = x3r + x8r;
+                    double t3i = x3i + x8i;
+                    double u3r = x3r - x8r;
+                    double u3i = x3i - x8i;
+                    double t4r = x4r + x7r;
+                    double t4i = x4i + x7i;
+                    double u4r = x4r - x7r;
+                    double u4i = x4i - x7i;
+                    double t5r = x5r + x6r;
+                    double t5i = x5i + x6i;
+                    double u5r = x5r - x6r;
+                    double u5i = x5i - x6i;
+
+                    double c1r = x0r + c1 * t1r + c2 * t2r + c3 * t3r + c4 * t4r + c5 * t5r;
+                    double c1i = x0i + c1 * t1i + c2 * t2i + c3 * t3i + c4 * t4i + c5 * t5i;
+                    double s1r = isign * (s1 * u1i + s2 * u2i + s3 * u3i + s4 * u4i + s5 * u5i);
+                    double s1i = isign * (s1 * u1r + s2 * u2r + s3 * u3r + s4 * u4r + s5 * u5r);
+                    double c2r = x0r + c2 * t1r + c4 * t2r + c5 * t3r + c3 * t4r + c1 * t5r;
+                    double c2i = x0i + c2 * t1i + c4 * t2i + c5 * t3i + c3 * t4i + c1 * t5i;
+                    double s2r = isign * (s2 * u1i + s4 * u2i - s5 * u3i - s3 * u4i - s1 * u5i);
+                    double s2i = isign * (s2 * u1r + s4 * u2r - s5 * u3r - s3 * u4r - s1 * u5r);
+                    double c3r = x0r + c3 * t1r + c5 * t2r + c2 * t3r + c1 * t4r + c4 * t5r;
+                    double c3i = x0i + c3 * t1i + c5 * t2i + c2 * t3i + c1 * t4i + c4 * t5i;
+                    double s3r = isign * (s3 * u1i - s5 * u2i - s2 * u3i + s1 * u4i + s4 * u5i);
+                    double s3i = isign * (s3 * u1r - s5 * u2r - s2 * u3r + s1 * u4r + s4 * u5r);
+                    double c4r = x0r + c4 * t1r + c3 * t2r + c1 * t3r + c5 * t4r + c2 * t5r;
+                    double c4i = x0i + c4 * t1i + c3 * t2i + c1 * t3i + c5 * t4i + c2 * t5i;
+                    double s4r = isign * (s4 * u1i - s3 * u2i + s1 * u3i + s5 * u4i - s2 * u5i);
+                    double s4i = isign * (s4 * u1r - s3 * u2r + s1 * u3r + s5 * u4r - s2 * u5r);
+                    double c5r = x0r + c5 * t1r + c1 * t2r + c4 * t3r + c2 * t4r + c3 * t5r;
+                    double c5i = x0i + c5 * t1i + c1 * t2i + c4 * t3i + c2 * t4i + c3 * t5i;
+                    double s5r = isign * (s5 * u1i - s1 * u2i + s4 * u3i - s2 * u4i + s3 * u5i);
+                    double s5i = isign * (s5 * u1r - s1 * u2r + s4 * u3r - s2 * u4r + s3 * u5r);
+
+                    int oidx0 = idx2 + i;
+                    int oidx1 = oidx0 + idx0;
+                    int oidx2 = oidx1 + idx0;
+                    int oidx3 = oidx2 + idx0;
+                    int oidx4 = oidx3 + idx0;
+                    int oidx5 = oidx4 + idx0;
+                    int oidx6 = oidx5 + idx0;
+                    int oidx7 = oidx6 + idx0;
+                    int oidx8 = oidx7 + idx0;
+                    int oidx9 = oidx8 + idx0;
+                    int oidx10 = oidx9 + idx0;
+                    out[oidx0] = x0r + t1r + t2r + t3r + t4r + t5r;
+                    out[oidx0 + 1] = x0i + t1i + t2i + t3i + t4i + t5i;
+                    double d1r = c1r - s1r;
+                    double d1i = c1i + s1i;
+                    double d10r = c1r + s1r;
+                    double d10i = c1i - s1i;
+                    double d2r = c2r - s2r;
+                    double d2i = c2i + s2i;
+                    double d9r = c2r + s2r;
+                    double d9i = c2i - s2i;
+                    double d3r = c3r - s3r;
+                    double d3i = c3i + s3i;
+                    double d8r = c3r + s3r;
+                    double d8i = c3i - s3i;
+                    double d4r = c4r - s4r;
+                    double d4i = c4i + s4i;
+                    double d7r = c4r + s4r;
+                    double d7i = c4i - s4i;
+                    double d5r = c5r - s5r;
+                    double d5i = c5i + s5i;
+                    double d6r = c5r + s5r;
+                    double d6i = c5i - s5i;
+
+                    int widx1 = i + offset;
+                    double w1r = wtable[widx1];
+                    double w1i = isign * wtable[widx1 + 1];
+                    out[oidx1] = w1r * d1r - w1i * d1i;
+                    out[oidx1 + 1] = w1r * d1i + w1i * d1r;
+                    int widx2 = i + offset + 1 * ido;
+                    double w2r = wtable[widx2];
+                    double w2i = isign * wtable[widx2 + 1];
+                    out[oidx2] = w2r * d2r - w2i * d2i;
+                    out[oidx2 + 1] = w2r * d2i + w2i * d2r;
+                    int widx3 = i + offset + 2 * ido;
+                    double w3r = wtable[widx3];
+                    double w3i = isign * wtable[widx3 + 1];
+                    out[oidx3] = w3r * d3r - w3i * d3i;
+                    out[oidx3 + 1] = w3r * d3i + w3i * d3r;
+                    int widx4 = i + offset + 3 * ido;
+                    double w4r = wtable[widx4];
+                    double w4i = isign * wtable[widx4 + 1];
+                    out[oidx4] = w4r * d4r - w4i * d4i;
+                    out[oidx4 + 1] = w4r * d4i + w4i * d4r;
+                    int widx5 = i + offset + 4 * ido;
+                    double w5r = wtable[widx5];
+                    double w5i = isign * wtable[widx5 + 1];
+                    out[oidx5] = w5r * d5r - w5i * d5i;
+                    out[oidx5 + 1] = w5r * d5i + w5i * d5r;
+                    int widx6 = i + offset + 5 * ido;
+                    double w6r = wtable[widx6];
+                    double w6i = isign * wtable[widx6 + 1];
+                    out[oidx6] = w6r * d6r - w6i * d6i;
+                    out[oidx6 + 1] = w6r * d6i + w6i * d6r;
+                    int widx7 = i + offset + 6 * ido;
+                    double w7r = wtable[widx7];
+                    double w7i = isign * wtable[widx7 + 1];
+                    out[oidx7] = w7r * d7r - w7i * d7i;
+                    out[oidx7 + 1] = w7r * d7i + w7i * d7r;
+                    int widx8 = i + offset + 7 * ido;
+                    double w8r = wtable[widx8];
+                    double w8i = isign * wtable[widx8 + 1];
+                    out[oidx8] = w8r * d8r - w8i * d8i;
+                    out[oidx8 + 1] = w8r * d8i + w8i * d8r;
+                    int widx9 = i + offset + 8 * ido;
+                    double w9r = wtable[widx9];
+                    double w9i = isign * wtable[widx9 + 1];
+                    out[oidx9] = w9r * d9r - w9i * d9i;
+                    out[oidx9 + 1] = w9r * d9i + w9i * d9r;
+                    int widx10 = i + offset + 9 * ido;
+                    double w10r = wtable[widx10];
+                    double w10i = isign * wtable[widx10 + 1];
+                    out[oidx10] = w10r * d10r - w10i * d10i;
+                    out[oidx10 + 1] = w10r * d10i + w10i * d10r;
+                }
+            }
+        }
+    }
+
+    /*----------------------------------------------------------------------
+       passf13: Complex FFT's forward/backward processing of factor 13;
        isign is +1 for backward and -1 for forward transforms
       ----------------------------------------------------------------------*/
-    void passfg(final int nac[], final int ido, final int ip, final int l1, final int idl1, final double in[], final int in_off, final double out[], final int out_off, final int offset, final int isign) {
+    void passf13(final int ido, final int l1, final double in[], final int in_off, final double out[], final int out_off, final int offset, final int isign, final int k0, final int k1, final int i0, final int i1) {
+        final double c1 = 0.885456025653209895900375522015098879;
+        final double c2 = 0.568064746731155802511807559127516625;
+        final double c3 = 0.120536680255323053349067687452543582;
+        final double c4 = -0.354604887042535625969637892600018474;
+        final double c5 = -0.748510748171101098634630599701351384;
+        final double c6 = -0.970941817426052027156982276293789227;
+        final double s1 = 0.464723172043768545656015335133104778;
+        final double s2 = 0.822983865893656394579617423439381991;
+        final double s3 = 0.992708874098053992800751649492520179;
+        final double s4 = 0.935016242685414823439784599837830729;
+        final double s5 = 0.663122658240795202376785492666766280;
+        final double s6 = 0.239315664287557767148753726260211895;
+        final int idx0 = l1 * ido;
+
+        if (ido == 2) {
+            for (int k = k0; k < k1; k++) {
+                int idx1 = in_off + 13 * k * ido;
+                int idx2 = out_off + k * ido;
+                int iidx0 = idx1;
+                int iidx1 = iidx0 + ido;
+                int iidx2 = iidx1 + ido;
+                int iidx3 = iidx2 + ido;
+                int iidx4 = iidx3 + ido;
+                int iidx5 = iidx4 + ido;
+                int iidx6 = iidx5 + ido;
+                int iidx7 = iidx6 + ido;
+                int iidx8 = iidx7 + ido;
+                int iidx9 = iidx8 + ido;
+                int iidx10 = iidx9 + ido;
+                int iidx11 = iidx10 + ido;
+                int iidx12 = iidx11 + ido;
+                double x0r = in[iidx0];
+                double x0i = in[iidx0 + 1];
+                double x1r = in[iidx1];
+                double x1i = in[iidx1 + 1];
+                double x2r = in[iidx2];
+                double x2i = in[iidx2 + 1];
+                double x3r = in[iidx3];
+                double x3i = in[iidx3 + 1];
+                double x4r = in[iidx4];
+                double x4i = in[iidx4 + 1];
+                double x5r = in[iidx5];
+                double x5i = in[iidx5 + 1];
+                double x6r = in[iidx6];
+                double x6i = in[iidx6 + 1];
+                double x7r = in[iidx7];
+                double x7i = in[iidx7 + 1];
+                double x8r = in[iidx8];
+                double x8i = in[iidx8 + 1];
+                double x9r = in[iidx9];
+                double x9i = in[iidx9 + 1];
+                double x10r = in[iidx10];
+                double x10i = in[iidx10 + 1];
+                double x11r = in[iidx11];
+                double x11i = in[iidx11 + 1];
+                double x12r = in[iidx12];
+                double x12i = in[iidx12 + 1];
+
+                double t1r = x1r + x12r;
+                double t1i = x1i + x12i;
+                double u1r = x1r - x12r;
+                double u1i = x1i - x12i;
+                double t2r = x2r + x11r;
+                double t2i = x2i + x11i;
+                double u2r = x2r - x11r;
+                double u2i = x2i - x11i;
+                double t3r = x3r + x10r;
+                double t3i = x3i + x10i;
+                double u3r = x3r - x10r;
+                double u3i = x3i - x10i;
+                double t4r = x4r + x9r;
+                double t4i = x4i + x9i;
+                double u4r = x4r - x9r;
+                double u4i = x4i - x9i;
+                double t5r = x5r + x8r;
+                double t5i = x5i + x8i;
+                double u5r = x5r - x8r;
+                double u5i = x5i - x8i;
+                double t6r = x6r + x7r;
+                double t6i = x6i + x7i;
+                double u6r = x6r - x7r;
+                double u6i = x6i - x7i;
+
+                double c1r = x0r + c1 * t1r + c2 * t2r + c3 * t3r + c4 * t4r + c5 * t5r + c6 * t6r;
+                double c1i = x0i + c1 * t1i + c2 * t2i + c3 * t3i + c4 * t4i + c5 * t5i + c6 * t6i;
+                double s1r = isign * (s1 * u1i + s2 * u2i + s3 * u3i + s4 * u4i + s5 * u5i + s6 * u6i);
+                double s1i = isign * (s1 * u1r + s2 * u2r + s3 * u3r + s4 * u4r + s5 * u5r + s6 * u6r);
+                double c2r = x0r + c2 * t1r + c4 * t2r + c6 * t3r + c5 * t4r + c3 * t5r + c1 * t6r;
+                double c2i = x0i + c2 * t1i + c4 * t2i + c6 * t3i + c5 * t4i + c3 * t5i + c1 * t6i;
+                double s2r = isign * (s2 * u1i + s4 * u2i + s6 * u3i - s5 * u4i - s3 * u5i - s1 * u6i);
+                double s2i = isign * (s2 * u1r + s4 * u2r + s6 * u3r - s5 * u4r - s3 * u5r - s1 * u6r);
+                double c3r = x0r + c3 * t1r + c6 * t2r + c4 * t3r + c1 * t4r + c2 * t5r + c5 * t6r;
+                double c3i = x0i + c3 * t1i + c6 * t2i + c4 * t3i + c1 * t4i + c2 * t5i + c5 * t6i;
+                double s3r = isign * (s3 * u1i + s6 * u2i - s4 * u3i - s1 * u4i + s2 * u5i + s5 * u6i);
+                double s3i = isign * (s3 * u1r + s6 * u2r - s4 * u3r - s1 * u4r + s2 * u5r + s5 * u6r);
+                double c4r = x0r + c4 * t1r + c5 * t2r + c1 * t3r + c3 * t4r + c6 * t5r + c2 * t6r;
+                double c4i = x0i + c4 * t1i + c5 * t2i + c1 * t3i + c3 * t4i + c6 * t5i + c2 * t6i;
+                double s4r = isign * (s4 * u1i - s5 * u2i - s1 * u3i + s3 * u4i - s6 * u5i - s2 * u6i);
+                double s4i = isign * (s4 * u1r - s5 * u2r - s1 * u3r + s3 * u4r - s6 * u5r - s2 * u6r);
+                double c5r = x0r + c5 * t1r + c3 * t2r + c2 * t3r + c6 * t4r + c1 * t5r + c4 * t6r;
+                double c5i = x0i + c5 * t1i + c3 * t2i + c2 * t3i + c6 * t4i + c1 * t5i + c4 * t6i;
+                double s5r = isign * (s5 * u1i - s3 * u2i + s2 * u3i - s6 * u4i - s1 * u5i + s4 * u6i);
+                double s5i = isign * (s5 * u1r - s3 * u2r + s2 * u3r - s6 * u4r - s1 * u5r + s4 * u6r);
+                double c6r = x0r + c6 * t1r + c1 * t2r + c5 * t3r + c2 * t4r + c4 * t5r + c3 * t6r;
+                double c6i = x0i + c6 * t1i + c1 * t2i + c5 * t3i + c2 * t4i + c4 * t5i + c3 * t6i;
+                double s6r = isign * (s6 * u1i - s1 * u2i + s5 * u3i - s2 * u4i + s4 * u5i - s3 * u6i);
+                double s6i = isign * (s6 * u1r - s1 * u2r + s5 * u3r - s2 * u4r + s4 * u5r - s3 * u6r);
+
+                int oidx0 = idx2;
+                int oidx1 = oidx0 + idx0;
+                int oidx2 = oidx1 + idx0;
+                int oidx3 = oidx2 + idx0;
+                int oidx4 = oidx3 + idx0;
+                int oidx5 = oidx4 + idx0;
+                int oidx6 = oidx5 + idx0;
+                int oidx7 = oidx6 + idx0;
+                int oidx8 = oidx7 + idx0;
+                int oidx9 = oidx8 + idx0;
+                int oidx10 = oidx9 + idx0;
+                int oidx11 = oidx10 + idx0;
+                int oidx12 = oidx11 + idx0;
+                out[oidx0] = x0r + t1r + t2r + t3r + t4r + t5r + t6r;
+                out[oidx0 + 1] = x0i + t1i + t2i + t3i + t4i + t5i + t6i;
+                out[oidx1] = c1r - s1r;
+                out[oidx1 + 1] = c1i + s1i;
+                out[oidx12] = c1r + s1r;
+                out[oidx12 + 1] = c1i - s1i;
+                out[oidx2] = c2r - s2r;
+                out[oidx2 + 1] = c2i + s2i;
+                out[oidx11] = c2r + s2r;
+                out[oidx11 + 1] = c2i - s2i;
+                out[oidx3] = c3r - s3r;
+                out[oidx3 + 1] = c3i + s3i;
+                out[oidx10] = c3r + s3r;
+                out[oidx10 + 1] = c3i - s3i;
+                out[oidx4] = c4r - s4r;
+                out[oidx4 + 1] = c4i + s4i;
+                out[oidx9] = c4r + s4r;
+                out[oidx9 + 1] = c4i - s4i;
+                out[oidx5] = c5r - s5r;
+                out[oidx5 + 1] = c5i + s5i;
+                out[oidx8] = c5r + s5r;
+                out[oidx8 + 1] = c5i - s5i;
+                out[oidx6] = c6r - s6r;
+                out[oidx6 + 1] = c6i + s6i;
+                out[oidx7] = c6r + s6r;
+                out[oidx7 + 1] = c6i - s6i;
+            }
+        } else {
+            for (int k = k0; k < k1; k++) {
+                int idx1 = in_off + 13 * k * ido;
+                int idx2 = out_off + k * ido;
+                for (int i = i0; i < i1; i += 2) {
+                    int iidx0 = idx1 + i;
+                    int iidx1 = iidx0 + ido;
+                    int iidx2 = iidx1 + ido;
+                    int iidx3 = iidx2 + ido;
+                    int iidx4 = iidx3 + ido;
+                    int iidx5 = iidx4 + ido;
+                    int iidx6 = iidx5 + ido;
+                    int iidx7 = iidx6 + ido;
+                    int iidx8 = iidx7 + ido;
+                    int iidx9 = iidx8 + ido;
+                    int iidx10 = iidx9 + ido;
+                    int iidx11 = iidx10 + ido;
+                    int iidx12 = iidx11 + ido;
+                    double x0r = in[iidx0];
+                    double x0i = in[iidx0 + 1];
+                    double x1r = in[iidx1];
+                    double x1i = in[iidx1 + 1];
+                    double x2r = in[iidx2];
+                    double x2i = in[iidx2 + 1];
+                    double x3r = in[iidx3];
+                    double x3i = in[iidx3 + 1];
+                    double x4r = in[iidx4];
+                    double x4i = in[iidx4 + 1];
+                    double x5r = in[iidx5];
+                    double x5i = in[iidx5 + 1];
+                    double x6r = in[iidx6];
+                    double x6i = in[iidx6 + 1];
+                    double x7r = in[iidx7];
+                    double x7i = in[iidx7 + 1];
+                    double x8r = in[iidx8];
+                    double x8i = in[iidx8 + 1];
+                    double x9r = in[iidx9];
+                    double x9i = in[iidx9 + 1];
+                    double x10r = in[iidx10];
+                    double x10i = in[iidx10 + 1];
+                    double x11r = in[iidx11];
+                    double x11i = in[iidx11 + 1];
+                    double x12r = in[iidx12];
+                    double x12i = in[iidx12 + 1];
+
+                    double t1r = x1r + x12r;
+                    double t1i = x1i + x12i;
+                    double u1r = x1r - x12r;
+                    double u1i = x1i - x12i;
+                    double t2r = x2r + x11r;
+                    double t2i = x2i + x11i;
+                    double u2r = x2r - x11r;
+                    double u2i = x2i - x11i;
+                    double t3r = x3r + x10r;
+                    double t3i = x3i + x10i;
+                    double u3r = x3r - x10r;
+                    double u3i = x3i - x10i;
+                    double t4r = x4r + x9r;
+                    double t4i = x4i + x9i;
+                    double u4r = x4r - x9r;
+                    double u4i = x4i - x9i;
+                    double t5r = x5r + x8r;
+                    double t5i = x5i + x8i;
+                    double u5r = x5r - x8r;
+                    double u5i = x5i - x8i;
+                    double t6r = x6r + x7r;
+                    double t6i = x6i + x7i;
+                    double u6r = x6r - x7r;
+                    double u6i = x6i - x7i;
+
+                    double c1r = x0r + c1 * t1r + c2 * t2r + c3 * t3r + c4 * t4r + c5 * t5r + c6 * t6r;
+                    double c1i = x0i + c1 * t1i + c2 * t2i + c3 * t3i + c4 * t4i + c5 * t5i + c6 * t6i;
+                    double s1r = isign * (s1 * u1i + s2 * u2i + s3 * u3i + s4 * u4i + s5 * u5i + s6 * u6i);
+                    double s1i = isign * (s1 * u1r + s2 * u2r + s3 * u3r + s4 * u4r + s5 * u5r + s6 * u6r);
+                    double c2r = x0r + c2 * t1r + c4 * t2r + c6 * t3r + c5 * t4r + c3 * t5r + c1 * t6r;
+                    double c2i = x0i + c2 * t1i + c4 * t2i + c6 * t3i + c5 * t4i + c3 * t5i + c1 * t6i;
+                    double s2r = isign * (s2 * u1i + s4 * u2i + s6 * u3i - s5 * u4i - s3 * u5i - s1 * u6i);
+                    double s2i = isign * (s2 * u1r + s4 * u2r + s6 * u3r - s5 * u4r - s3 * u5r - s1 * u6r);
+                    double c3r = x0r + c3 * t1r + c6 * t2r + c4 * t3r + c1 * t4r + c2 * t5r + c5 * t6r;
+                    double c3i = x0i + c3 * t1i + c6 * t2i + c4 * t3i + c1 * t4i + c2 * t5i + c5 * t6i;
+                    double s3r = isign * (s3 * u1i + s6 * u2i - s4 * u3i - s1 * u4i + s2 * u5i + s5 * u6i);
+                    double s3i = isign * (s3 * u1r + s6 * u2r - s4 * u3r - s1 * u4r + s2 * u5r + s5 * u6r);
+                    double c4r = x0r + c4 * t1r + c5 * t2r + c1 * t3r + c3 * t4r + c6 * t5r + c2 * t6r;
+                    double c4i = x0i + c4 * t1i + c5 * t2i + c1 * t3i + c3 * t4i + c6 * t5i + c2 * t6i;
+                    double s4r = isign * (s4 * u1i - s5 * u2i - s1 * u3i + s3 * u4i - s6 * u5i - s2 * u6i);
+                    double s4i = isign * (s4 * u1r - s5 * u2r - s1 * u3r + s3 * u4r - s6 * u5r - s2 * u6r);
+                    double c5r = x0r + c5 * t1r + c3 * t2r + c2 * t3r + c6 * t4r + c1 * t5r + c4 * t6r;
+                    double c5i = x0i + c5 * t1i + c3 * t2i + c2 * t3i + c6 * t4i + c1 * t5i + c4 * t6i;
+                    double s5r = isign * (s5 * u1i - s3 * u2i + s2 * u3i - s6 * u4i - s1 * u5i + s4 * u6i);
+                    double s5i = isign * (s5 * u1r - s3 * u2r + s2 * u3r - s6 * u4r - s1 * u5r + s4 * u6r);
+                    double c6r = x0r + c6 * t1r + c1 * t2r + c5 * t3r + c2 * t4r + c4 * t5r + c3 * t6r;
+                    double c6i = x0i + c6 * t1i + c1 * t2i + c5 * t3i + c2 * t4i + c4 * t5i + c3 * t6i;
+                    double s6r = isign * (s6 * u1i - s1 * u2i + s5 * u3i - s2 * u4i + s4 * u5i - s3 * u6i);
+                    double s6i = isign * (s6 * u1r - s1 * u2r + s5 * u3r - s2 * u4r + s4 * u5r - s3 * u6r);
+
+                    int oidx0 = idx2 + i;
+                    int oidx1 = oidx0 + idx0;
+                    int oidx2 = oidx1 + idx0;
+                    int oidx3 = oidx2 + idx0;
+                    int oidx4 = oidx3 + idx0;
+                    int oidx5 = oidx4 + idx0;
+                    int oidx6 = oidx5 + idx0;
+                    int oidx7 = oidx6 + idx0;
+                    int oidx8 = oidx7 + idx0;
+                    int oidx9 = oidx8 + idx0;
+                    int oidx10 = oidx9 + idx0;
+                    int oidx11 = oidx10 + idx0;
+                    int oidx12 = oidx11 + idx0;
+                    out[oidx0] = x0r + t1r + t2r + t3r + t4r + t5r + t6r;
+                    out[oidx0 + 1] = x0i + t1i + t2i + t3i + t4i + t5i + t6i;
+                    double d1r = c1r - s1r;
+                    double d1i = c1i + s1i;
+                    double d12r = c1r + s1r;
+                    double d12i = c1i - s1i;
+                    double d2r = c2r - s2r;
+                    double d2i = c2i + s2i;
+                    double d11r = c2r + s2r;
+                    double d11i = c2i - s2i;
+                    double d3r = c3r - s3r;
+                    double d3i = c3i + s3i;
+                    double d10r = c3r + s3r;
+                    double d10i = c3i - s3i;
+                    double d4r = c4r - s4r;
+                    double d4i = c4i + s4i;
+                    double d9r = c4r + s4r;
+                    double d9i = c4i - s4i;
+                    double d5r = c5r - s5r;
+                    double d5i = c5i + s5i;
+                    double d8r = c5r + s5r;
+                    double d8i = c5i - s5i;
+                    double d6r = c6r - s6r;
+                    double d6i = c6i + s6i;
+                    double d7r = c6r + s6r;
+                    double d7i = c6i - s6i;
+
+                    int widx1 = i + offset;
+                    double w1r = wtable[widx1];
+                    double w1i = isign * wtable[widx1 + 1];
+                    out[oidx1] = w1r * d1r - w1i * d1i;
+                    out[oidx1 + 1] = w1r * d1i + w1i * d1r;
+                    int widx2 = i + offset + 1 * ido;
+                    double w2r = wtable[widx2];
+                    double w2i = isign * wtable[widx2 + 1];
+                    out[oidx2] = w2r * d2r - w2i * d2i;
+                    out[oidx2 + 1] = w2r * d2i + w2i * d2r;
+                    int widx3 = i + offset + 2 * ido;
+                    double w3r = wtable[widx3];
+                    double w3i = isign * wtable[widx3 + 1];
+                    out[oidx3] = w3r * d3r - w3i * d3i;
+                    out[oidx3 + 1] = w3r * d3i + w3i * d3r;
+                    int widx4 = i + offset + 3 * ido;
+                    double w4r = wtable[widx4];
+                    double w4i = isign * wtable[widx4 + 1];
+                    out[oidx4] = w4r * d4r - w4i * d4i;
+                    out[oidx4 + 1] = w4r * d4i + w4i * d4r;
+                    int widx5 = i + offset + 4 * ido;
+                    double w5r = wtable[widx5];
+                    double w5i = isign * wtable[widx5 + 1];
+                    out[oidx5] = w5r * d5r - w5i * d5i;
+                    out[oidx5 + 1] = w5r * d5i + w5i * d5r;
+                    int widx6 = i + offset + 5 * ido;
+                    double w6r = wtable[widx6];
+                    double w6i = isign * wtable[widx6 + 1];
+                    out[oidx6] = w6r * d6r - w6i * d6i;
+                    out[oidx6 + 1] = w6r * d6i + w6i * d6r;
+                    int widx7 = i + offset + 6 * ido;
+                    double w7r = wtable[widx7];
+                    double w7i = isign * wtable[widx7 + 1];
+                    out[oidx7] = w7r * d7r - w7i * d7i;
+                    out[oidx7 + 1] = w7r * d7i + w7i * d7r;
+                    int widx8 = i + offset + 7 * ido;
+                    double w8r = wtable[widx8];
+                    double w8i = isign * wtable[widx8 + 1];
+                    out[oidx8] = w8r * d8r - w8i * d8i;
+                    out[oidx8 + 1] = w8r * d8i + w8i * d8r;
+                    int widx9 = i + offset + 8 * ido;
+                    double w9r = wtable[widx9];
+                    double w9i = isign * wtable[widx9 + 1];
+                    out[oidx9] = w9r * d9r - w9i * d9i;
+                    out[oidx9 + 1] = w9r * d9i + w9i * d9r;
+                    int widx10 = i + offset + 9 * ido;
+                    double w10r = wtable[widx10];
+                    double w10i = isign * wtable[widx10 + 1];
+                    out[oidx10] = w10r * d10r - w10i * d10i;
+                    out[oidx10 + 1] = w10r * d10i + w10i * d10r;
+                    int widx11 = i + offset + 10 * ido;
+                    double w11r = wtable[widx11];
+                    double w11i = isign * wtable[widx11 + 1];
+                    out[oidx11] = w11r * d11r - w11i * d11i;
+                    out[oidx11 + 1] = w11r * d11i + w11i * d11r;
+                    int widx12 = i + offset + 11 * ido;
+                    double w12r = wtable[widx12];
+                    double w12i = isign * wtable[widx12 + 1];
+                    out[oidx12] = w12r * d12r - w12i * d12i;
+                    out[oidx12 + 1] = w12r * d12i + w12i * d12r;
+                }
+            }
+        }
+    }
+
+    /*----------------------------------------------------------------------
+       passfg: Complex FFT's forward/backward processing of general factor;
+       isign is +1 for backward and -1 for forward transforms; returns true
+       if the result is stored in out, false if it is stored in in
+      ----------------------------------------------------------------------*/
+    boolean passfg(final int ido, final int ip, final int l1, final int idl1, final double in[], final int in_off, final double out[], final int out_off, final int offset, final int isign) {
         int idij, idlj, idot, ipph, l, jc, lc, idj, idl, inc, idp;
         double w1r, w1i, w2i, w2r;
         int iw1;
@@ -3947,10 +7950,8 @@ public class DoubleFFT_1D {
                 out[oidx2] = i1r - i2i;
             }
         }
-        nac[0] = 1;
         if (ido == 2)
-            return;
-        nac[0] = 0;
+            return true;
         System.arraycopy(out, out_off, in, in_off, idl1);
         int idx0 = l1 * ido;
         for (int j = 1; j < ip; j++) {
@@ -4009,13 +8010,14 @@ public class DoubleFFT_1D {
                 }
             }
         }
+        return false;
     }
 
-    private void cftfsub(int n, double[] a, int offa, int[] ip, int nw, double[] w) {
+    private void cftfsub(int n, double[] a, int offa, int[] ip, int nw, double[] w, Workspace ws) {
         if (n > 8) {
             if (n > 32) {
                 cftf1st(n, a, offa, w, nw - (n >> 2));
-                if ((ConcurrencyUtils.getNumberOfThreads() > 1) && (n > ConcurrencyUtils.getThreadsBeginN_1D_FFT_2Threads())) {
+                if ((context.getNumberOfThreads() > 1) && (n > getThreadsBeginN_2Threads())) {
                     cftrec4_th(n, a, offa, nw, w);
                 } else if (n > 512) {
                     cftrec4(n, a, offa, nw, w);
@@ -4024,7 +8026,11 @@ public class DoubleFFT_1D {
                 } else {
                     cftfx41(n, a, offa, nw, w);
                 }
-                bitrv2(n, ip, a, offa);
+                if (n >= BITRV_BLOCKED_MIN) {
+                    bitrv2blocked(n, a, offa, false, ws);
+                } else {
+                    bitrv2(n, ip, a, offa);
+                }
             } else if (n == 32) {
                 cftf161(a, offa, w, nw - 8);
                 bitrv216(a, offa);
@@ -4039,11 +8045,11 @@ public class DoubleFFT_1D {
         }
     }
 
-    private void cftbsub(int n, double[] a, int offa, int[] ip, int nw, double[] w) {
+    private void cftbsub(int n, double[] a, int offa, int[] ip, int nw, double[] w, Workspace ws) {
         if (n > 8) {
             if (n > 32) {
                 cftb1st(n, a, offa, w, nw - (n >> 2));
-                if ((ConcurrencyUtils.getNumberOfThreads() > 1) && (n > ConcurrencyUtils.getThreadsBeginN_1D_FFT_2Threads())) {
+                if ((context.getNumberOfThreads() > 1) && (n > getThreadsBeginN_2Threads())) {
                     cftrec4_th(n, a, offa, nw, w);
                 } else if (n > 512) {
                     cftrec4(n, a, offa, nw, w);
@@ -4052,7 +8058,11 @@ public class DoubleFFT_1D {
                 } else {
                     cftfx41(n, a, offa, nw, w);
                 }
-                bitrv2conj(n, ip, a, offa);
+                if (n >= BITRV_BLOCKED_MIN) {
+                    bitrv2blocked(n, a, offa, true, ws);
+                } else {
+                    bitrv2conj(n, ip, a, offa);
+                }
             } else if (n == 32) {
                 cftf161(a, offa, w, nw - 8);
                 bitrv216neg(a, offa);
@@ -4067,6 +8077,128 @@ public class DoubleFFT_1D {
         }
     }
 
+    /*
+     * Cache-blocked bit reversal (in the manner of COBRA) of the n/2 complex
+     * numbers of a; if conj is true, the numbers are also conjugated, as in
+     * bitrv2conj. An index is split into BITRV_TILE_BITS high bits, the middle
+     * bits and BITRV_TILE_BITS low bits. The reversal maps the tile of numbers
+     * sharing middle bits b onto the tile with the reversed middle bits, so
+     * the pairs of tiles are copied to buffers, row by row, and written back
+     * permuted. Every access to a then touches whole rows of a tile instead of
+     * single numbers spread over the array. The pairs of tiles are shared
+     * between the threads; each thread copies them to its own buffers of the
+     * workspace (or to new ones if there is no workspace).
+     */
+    private void bitrv2blocked(int n, final double[] a, final int offa, final boolean conj, Workspace ws) {
+        final int bits = Integer.numberOfTrailingZeros(n >> 1);
+        int ntiles = 1 << (bits - 2 * BITRV_TILE_BITS);
+        final double[][] tiles = (ws == null) ? null : ws.tiles;
+        int nthreads = context.getNumberOfThreads();
+        if ((nthreads > 1) && (n > getThreadsBeginN_2Threads())) {
+            Future<?>[] futures = new Future[nthreads];
+            final IndexRange range = new IndexRange(0, ntiles, nthreads);
+            for (int l = 0; l < nthreads; l++) {
+                final int firstTile = 2 * l;
+                futures[l] = context.submit(new Runnable() {
+                    public void run() {
+                        double[] t1 = getTile(tiles, firstTile);
+                        double[] t2 = getTile(tiles, firstTile + 1);
+                        IndexRange.Cursor cursor = range.cursor();
+                        for (int b = cursor.next(); b >= 0; b = cursor.next()) {
+                            bitrv2blocked(bits, a, offa, b, bitrvRev, t1, t2, conj);
+                        }
+                    }
+                });
+            }
+            ConcurrencyUtils.waitForCompletion(futures);
+        } else {
+            double[] t1 = getTile(tiles, 0);
+            double[] t2 = getTile(tiles, 1);
+            for (int b = 0; b < ntiles; b++) {
+                bitrv2blocked(bits, a, offa, b, bitrvRev, t1, t2, conj);
+            }
+        }
+    }
+
+    private static double[] getTile(double[][] tiles, int i) {
+        if ((tiles != null) && (i < tiles.length)) {
+            return tiles[i];
+        }
+        int side = 1 << BITRV_TILE_BITS;
+        return new double[2 * side * side];
+    }
+
+    /*
+     * Permutes the pair of tiles with middle bits b and rev(b), if b <=
+     * rev(b). Number (x, b, y) of tile b is a[offa+x*rowStride+2*(b*side+y)]
+     * and goes to (rev(y), rev(b), rev(x)).
+     */
+    private static void bitrv2blocked(int bits, double[] a, int offa, int b, int[] rev, double[] t1, double[] t2, boolean conj) {
+        int side = rev.length;
+        int middleBits = bits - 2 * BITRV_TILE_BITS;
+        int rowStride = 2 << (bits - BITRV_TILE_BITS);
+        int rb = Integer.reverse(b) >>> (32 - middleBits);
+        if (rb < b) {
+            return;
+        }
+        int idx1 = offa + 2 * b * side;
+        int idx2 = offa + 2 * rb * side;
+        for (int x = 0; x < side; x++) {
+            System.arraycopy(a, idx1 + x * rowStride, t1, 2 * x * side, 2 * side);
+        }
+        if (rb != b) {
+            for (int x = 0; x < side; x++) {
+                System.arraycopy(a, idx2 + x * rowStride, t2, 2 * x * side, 2 * side);
+            }
+            bitrv2tile(t2, a, idx1, rowStride, rev, conj);
+        }
+        bitrv2tile(t1, a, idx2, rowStride, rev, conj);
+    }
+
+    /*
+     * Returns the reversal of BITRV_TILE_BITS bits used by bitrv2blocked, or
+     * null if a split-radix transform of length n (number of double values)
+     * does not use bitrv2blocked.
+     */
+    static int[] makeBitrvRev(int n) {
+        if (n < BITRV_BLOCKED_MIN) {
+            return null;
+        }
+        int side = 1 << BITRV_TILE_BITS;
+        int[] rev = new int[side];
+        for (int i = 0; i < side; i++) {
+            rev[i] = Integer.reverse(i) >>> (32 - BITRV_TILE_BITS);
+        }
+        return rev;
+    }
+
+    /*
+     * Stores the tile t, permuted, at a[offa]: number (x, y) goes to
+     * a[offa+rev(y)*rowStride+2*rev(x)].
+     */
+    private static void bitrv2tile(double[] t, double[] a, int offa, int rowStride, int[] rev, boolean conj) {
+        int side = rev.length;
+        for (int x = 0; x < side; x++) {
+            int idx1 = offa + x * rowStride;
+            int idx2 = 2 * rev[x];
+            if (conj) {
+                for (int y = 0; y < side; y++) {
+                    int idx3 = idx2 + 2 * side * rev[y];
+                    a[idx1] = t[idx3];
+                    a[idx1 + 1] = -t[idx3 + 1];
+                    idx1 += 2;
+                }
+            } else {
+                for (int y = 0; y < side; y++) {
+                    int idx3 = idx2 + 2 * side * rev[y];
+                    a[idx1] = t[idx3];
+                    a[idx1 + 1] = t[idx3 + 1];
+                    idx1 += 2;
+                }
+            }
+        }
+    }
+
     private void bitrv2(int n, int[] ip, double[] a, int offa) {
         int j1, k1, l, m, nh, nm;
         double xr, xi, yr, yi;
@@ -5509,68 +9641,87 @@ public class DoubleFFT_1D {
     }
 
     private void cftrec4_th(final int n, final double[] a, final int offa, final int nw, final double[] w) {
-        int i;
-        int idiv4, m, nthreads;
-        int idx = 0;
-        nthreads = 2;
-        idiv4 = 0;
-        m = n >> 1;
-        if (n > ConcurrencyUtils.getThreadsBeginN_1D_FFT_4Threads()) {
-            nthreads = 4;
-            idiv4 = 1;
-            m >>= 1;
-        }
+        final int nthreads = getNumberOfTasks(n);
         Future<?>[] futures = new Future[nthreads];
-        final int mf = m;
-        for (i = 0; i < nthreads; i++) {
-            final int firstIdx = offa + i * m;
-            if (i != idiv4) {
-                futures[idx++] = ConcurrencyUtils.submit(new Runnable() {
-                    public void run() {
-                        int isplt, j, k, m;
-                        int idx1 = firstIdx + mf;
-                        m = n;
-                        while (m > 512) {
-                            m >>= 2;
-                            cftmdl1(m, a, idx1 - m, w, nw - (m >> 1));
-                        }
-                        cftleaf(m, 1, a, idx1 - m, nw, w);
-                        k = 0;
-                        int idx2 = firstIdx - m;
-                        for (j = mf - m; j > 0; j -= m) {
-                            k++;
-                            isplt = cfttree(m, j, k, a, firstIdx, nw, w);
-                            cftleaf(m, isplt, a, idx2 + j, nw, w);
-                        }
-                    }
-                });
-            } else {
-                futures[idx++] = ConcurrencyUtils.submit(new Runnable() {
+        // The nodes of a level are processed by the tasks one level at a time
+        // until there are enough of them, then each task computes whole
+        // subtrees.
+        int m = n >> 2;
+        int count = 4;
+        while ((count < nthreads) && (m > 512)) {
+            final int mf = m;
+            final int countf = count;
+            for (int i = 0; i < nthreads; i++) {
+                final int firstNode = i * countf / nthreads;
+                final int lastNode = (i + 1) * countf / nthreads;
+                futures[i] = context.submit(new Runnable() {
                     public void run() {
-                        int isplt, j, k, m;
-                        int idx1 = firstIdx + mf;
-                        k = 1;
-                        m = n;
-                        while (m > 512) {
-                            m >>= 2;
-                            k <<= 2;
-                            cftmdl2(m, a, idx1 - m, w, nw - m);
-                        }
-                        cftleaf(m, 0, a, idx1 - m, nw, w);
-                        k >>= 1;
-                        int idx2 = firstIdx - m;
-                        for (j = mf - m; j > 0; j -= m) {
-                            k++;
-                            isplt = cfttree(m, j, k, a, firstIdx, nw, w);
-                            cftleaf(m, isplt, a, idx2 + j, nw, w);
+                        for (int q = firstNode; q < lastNode; q++) {
+                            if (cftnodetype(q) != 0) {
+                                cftmdl1(mf, a, offa + q * mf, w, nw - (mf >> 1));
+                            } else {
+                                cftmdl2(mf, a, offa + q * mf, w, nw - mf);
+                            }
                         }
                     }
                 });
             }
+            ConcurrencyUtils.waitForCompletion(futures);
+            m >>= 2;
+            count <<= 2;
+        }
+        final int mf = m;
+        final int countf = count;
+        int ntasks = Math.min(nthreads, count);
+        for (int i = 0; i < ntasks; i++) {
+            final int firstNode = i * countf / ntasks;
+            final int lastNode = (i + 1) * countf / ntasks;
+            futures[i] = context.submit(new Runnable() {
+                public void run() {
+                    for (int q = firstNode; q < lastNode; q++) {
+                        cftrec(mf, cftnodetype(q), a, offa + q * mf, nw, w);
+                    }
+                }
+            });
+        }
+        if (ntasks < nthreads) {
+            Future<?>[] started = new Future[ntasks];
+            System.arraycopy(futures, 0, started, 0, ntasks);
+            futures = started;
         }
         ConcurrencyUtils.waitForCompletion(futures);
     }
 
+    /**
+     * Returns the type of the q-th node of a level of the decomposition used
+     * by cftrec4 (1 if its first stage is computed by cftmdl1, 0 if by
+     * cftmdl2). The children of a node are of the types 1, 0, 1 and the type
+     * of the node, the top level is of type 1.
+     */
+    private static int cftnodetype(int q) {
+        while ((q & 3) == 3) {
+            q >>= 2;
+        }
+        return ((q & 3) == 1) ? 0 : 1;
+    }
+
+    private void cftrec(int n, int isplt, double[] a, int offa, int nw, double[] w) {
+        if (isplt != 0) {
+            cftmdl1(n, a, offa, w, nw - (n >> 1));
+        } else {
+            cftmdl2(n, a, offa, w, nw - n);
+        }
+        if (n > 512) {
+            int m = n >> 2;
+            cftrec(m, 1, a, offa, nw, w);
+            cftrec(m, 0, a, offa + m, nw, w);
+            cftrec(m, 1, a, offa + 2 * m, nw, w);
+            cftrec(m, isplt, a, offa + 3 * m, nw, w);
+        } else {
+            cftleaf(n, isplt, a, offa, nw, w);
+        }
+    }
+
     private void cftrec4(int n, double[] a, int offa, int nw, double[] w) {
         int isplt, j, k, m;
 
@@ -6556,14 +10707,14 @@ public class DoubleFFT_1D {
         } else {
             n2 = n;
         }
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
-        if ((nthreads > 1) && (n2 >= ConcurrencyUtils.getThreadsBeginN_1D_FFT_2Threads())) {
+        int nthreads = context.getNumberOfThreads();
+        if ((nthreads > 1) && (n2 >= getThreadsBeginN_2Threads())) {
             final int k = n2 / nthreads;
             Future<?>[] futures = new Future[nthreads];
             for (int i = 0; i < nthreads; i++) {
                 final int firstIdx = offa + i * k;
                 final int lastIdx = (i == (nthreads - 1)) ? offa + n2 : firstIdx + k;
-                futures[i] = ConcurrencyUtils.submit(new Runnable() {
+                futures[i] = context.submit(new Runnable() {
 
                     public void run() {
                         for (int i = firstIdx; i < lastIdx; i++) {
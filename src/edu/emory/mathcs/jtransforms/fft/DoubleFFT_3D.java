@@ -34,9 +34,15 @@
 
 package edu.emory.mathcs.jtransforms.fft;
 
+import java.nio.DoubleBuffer;
 import java.util.concurrent.Future;
 
+import edu.emory.mathcs.utils.BufferUtils;
+import edu.emory.mathcs.utils.ConcurrencyContext;
 import edu.emory.mathcs.utils.ConcurrencyUtils;
+import edu.emory.mathcs.utils.DoubleLargeArray;
+import edu.emory.mathcs.utils.IndexRange;
+import edu.emory.mathcs.utils.TransposeUtils;
 
 /**
  * Computes 3D Discrete Fourier Transform (DFT) of complex and real, double
@@ -44,6 +50,9 @@ import edu.emory.mathcs.utils.ConcurrencyUtils;
  * This is a parallel implementation of split-radix and mixed-radix algorithms
  * optimized for SMP systems. <br>
  * <br>
+ * Instances are thread-safe: a single instance can be used by concurrent
+ * callers. <br>
+ * <br>
  * Part of the code is derived from General Purpose FFT Package written by Takuya Ooura
  * (http://www.kurims.kyoto-u.ac.jp/~ooura/fft.html)
  * 
@@ -52,6 +61,8 @@ import edu.emory.mathcs.utils.ConcurrencyUtils;
  */
 public class DoubleFFT_3D {
 
+    private static final int LARGE_BLOCK_SIZE = 1 << 16;
+
     private int slices;
 
     private int rows;
@@ -62,13 +73,9 @@ public class DoubleFFT_3D {
 
     private int rowStride;
 
-    private double[] t;
-
     private DoubleFFT_1D fftSlices, fftRows, fftColumns;
 
-    private int oldNthreads;
-
-    private int nt;
+    private ConcurrencyContext context;
 
     private boolean isPowerOfTwo = false;
 
@@ -86,6 +93,28 @@ public class DoubleFFT_3D {
      * 
      */
     public DoubleFFT_3D(int slices, int rows, int columns) {
+        this(slices, rows, columns, ConcurrencyContext.getDefault());
+    }
+
+    /**
+     * Creates new instance of DoubleFFT_3D that uses the executor and number of
+     * threads of the specified context.
+     * 
+     * @param slices
+     *            number of slices
+     * @param rows
+     *            number of rows
+     * @param columns
+     *            number of columns
+     * @param context
+     *            executor and number of threads used by this transform
+     * 
+     */
+    public DoubleFFT_3D(int slices, int rows, int columns, ConcurrencyContext context) {
+        if (context == null) {
+            throw new IllegalArgumentException("context cannot be null");
+        }
+        this.context = context;
         if (slices <= 1 || rows <= 1 || columns <= 1) {
             throw new IllegalArgumentException("slices, rows and columns must be greater than 1");
         }
@@ -94,39 +123,24 @@ public class DoubleFFT_3D {
         this.columns = columns;
         this.sliceStride = rows * columns;
         this.rowStride = columns;
-        if (slices * rows * columns >= ConcurrencyUtils.getThreadsBeginN_3D()) {
+        if ((long) slices * rows * columns >= ConcurrencyUtils.getThreadsBeginN_3D()) {
             this.useThreads = true;
         }
         if (ConcurrencyUtils.isPowerOf2(slices) && ConcurrencyUtils.isPowerOf2(rows) && ConcurrencyUtils.isPowerOf2(columns)) {
             isPowerOfTwo = true;
-            oldNthreads = ConcurrencyUtils.getNumberOfThreads();
-            nt = slices;
-            if (nt < rows) {
-                nt = rows;
-            }
-            nt *= 8;
-            if (oldNthreads > 1) {
-                nt *= oldNthreads;
-            }
-            if (2 * columns == 4) {
-                nt >>= 1;
-            } else if (2 * columns < 4) {
-                nt >>= 2;
-            }
-            t = new double[nt];
         }
-        fftSlices = new DoubleFFT_1D(slices);
+        fftSlices = new DoubleFFT_1D(slices, context);
         if (slices == rows) {
             fftRows = fftSlices;
         } else {
-            fftRows = new DoubleFFT_1D(rows);
+            fftRows = new DoubleFFT_1D(rows, context);
         }
         if (slices == columns) {
             fftColumns = fftSlices;
         } else if (rows == columns) {
             fftColumns = fftRows;
         } else {
-            fftColumns = new DoubleFFT_1D(columns);
+            fftColumns = new DoubleFFT_1D(columns, context);
         }
 
     }
@@ -150,53 +164,43 @@ public class DoubleFFT_3D {
      *            data to transform
      */
     public void complexForward(final double[] a) {
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
+        int nthreads = context.getNumberOfThreads();
         if (isPowerOfTwo) {
-            int oldn3 = columns;
-            columns = 2 * columns;
-
-            sliceStride = rows * columns;
-            rowStride = columns;
-
-            if (nthreads != oldNthreads) {
-                nt = slices;
-                if (nt < rows) {
-                    nt = rows;
-                }
-                nt *= 8;
-                if (nthreads > 1) {
-                    nt *= nthreads;
-                }
-                if (columns == 4) {
-                    nt >>= 1;
-                } else if (columns < 4) {
-                    nt >>= 2;
-                }
-                t = new double[nt];
-                oldNthreads = nthreads;
+            final int columns = 2 * this.columns;
+            final int sliceStride = rows * columns;
+            final int rowStride = columns;
+            int nt = slices;
+            if (nt < rows) {
+                nt = rows;
+            }
+            nt *= 8;
+            if (nthreads > 1) {
+                nt *= nthreads;
             }
+            if (columns == 4) {
+                nt >>= 1;
+            } else if (columns < 4) {
+                nt >>= 2;
+            }
+            final double[] t = new double[nt];
             if ((nthreads > 1) && useThreads) {
-                xdft3da_subth2(0, -1, a, true);
-                cdft3db_subth(-1, a, true);
+                xdft3da_subth2(0, -1, a, true, columns, rowStride, sliceStride, t);
+                cdft3db_subth(-1, a, true, columns, rowStride, sliceStride, t);
             } else {
-                xdft3da_sub2(0, -1, a, true);
-                cdft3db_sub(-1, a, true);
+                xdft3da_sub2(0, -1, a, true, columns, rowStride, sliceStride, t);
+                cdft3db_sub(-1, a, true, columns, rowStride, sliceStride, t);
             }
-            columns = oldn3;
-            sliceStride = rows * columns;
-            rowStride = columns;
         } else {
-            sliceStride = 2 * rows * columns;
-            rowStride = 2 * columns;
-            if ((nthreads > 1) && useThreads && (slices >= nthreads) && (rows >= nthreads) && (columns >= nthreads)) {
+            final int sliceStride = 2 * rows * columns;
+            final int rowStride = 2 * columns;
+            if ((nthreads > 1) && useThreads) {
                 Future<?>[] futures = new Future[nthreads];
-                int p = slices / nthreads;
+                final IndexRange sliceRange = new IndexRange(0, slices, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstSlice = l * p;
-                    final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            for (int s = firstSlice; s < lastSlice; s++) {
+                            IndexRange.Cursor cursor = sliceRange.cursor();
+                            for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                                 int idx1 = s * sliceStride;
                                 for (int r = 0; r < rows; r++) {
                                     fftColumns.complexForward(a, idx1 + r * rowStride);
@@ -207,63 +211,32 @@ public class DoubleFFT_3D {
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
 
+                final IndexRange sliceRange2 = new IndexRange(0, slices, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstSlice = l * p;
-                    final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            double[] temp = new double[2 * rows];
-                            for (int s = firstSlice; s < lastSlice; s++) {
+                            double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * rows];
+                            DoubleFFT_1D.Workspace ws = fftRows.createWorkspace();
+                            IndexRange.Cursor cursor = sliceRange2.cursor();
+                            for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                                 int idx1 = s * sliceStride;
-                                for (int c = 0; c < columns; c++) {
-                                    int idx2 = 2 * c;
-                                    for (int r = 0; r < rows; r++) {
-                                        int idx3 = idx1 + idx2 + r * rowStride;
-                                        int idx4 = 2 * r;
-                                        temp[idx4] = a[idx3];
-                                        temp[idx4 + 1] = a[idx3 + 1];
-                                    }
-                                    fftRows.complexForward(temp);
-                                    for (int r = 0; r < rows; r++) {
-                                        int idx3 = idx1 + idx2 + r * rowStride;
-                                        int idx4 = 2 * r;
-                                        a[idx3] = temp[idx4];
-                                        a[idx3 + 1] = temp[idx4 + 1];
-                                    }
-                                }
+                                complexPanels(fftRows, a, idx1, rowStride, true, false, panel, ws);
                             }
                         }
                     });
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
 
-                p = rows / nthreads;
+                final IndexRange rowRange = new IndexRange(0, rows, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstRow = l * p;
-                    final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            double[] temp = new double[2 * slices];
-                            for (int r = firstRow; r < lastRow; r++) {
+                            double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * slices];
+                            DoubleFFT_1D.Workspace ws = fftSlices.createWorkspace();
+                            IndexRange.Cursor cursor = rowRange.cursor();
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 int idx1 = r * rowStride;
-                                for (int c = 0; c < columns; c++) {
-                                    int idx2 = 2 * c;
-                                    for (int s = 0; s < slices; s++) {
-                                        int idx3 = s * sliceStride + idx1 + idx2;
-                                        int idx4 = 2 * s;
-                                        temp[idx4] = a[idx3];
-                                        temp[idx4 + 1] = a[idx3 + 1];
-                                    }
-                                    fftSlices.complexForward(temp);
-                                    for (int s = 0; s < slices; s++) {
-                                        int idx3 = s * sliceStride + idx1 + idx2;
-                                        int idx4 = 2 * s;
-                                        a[idx3] = temp[idx4];
-                                        a[idx3 + 1] = temp[idx4 + 1];
-                                    }
-                                }
+                                complexPanels(fftSlices, a, idx1, sliceStride, true, false, panel, ws);
                             }
                         }
                     });
@@ -278,53 +251,43 @@ public class DoubleFFT_3D {
                     }
                 }
 
-                double[] temp = new double[2 * rows];
+                double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * rows];
+                DoubleFFT_1D.Workspace ws = fftRows.createWorkspace();
                 for (int s = 0; s < slices; s++) {
                     int idx1 = s * sliceStride;
-                    for (int c = 0; c < columns; c++) {
-                        int idx2 = 2 * c;
-                        for (int r = 0; r < rows; r++) {
-                            int idx3 = idx1 + idx2 + r * rowStride;
-                            int idx4 = 2 * r;
-                            temp[idx4] = a[idx3];
-                            temp[idx4 + 1] = a[idx3 + 1];
-                        }
-                        fftRows.complexForward(temp);
-                        for (int r = 0; r < rows; r++) {
-                            int idx3 = idx1 + idx2 + r * rowStride;
-                            int idx4 = 2 * r;
-                            a[idx3] = temp[idx4];
-                            a[idx3 + 1] = temp[idx4 + 1];
-                        }
-                    }
+                    complexPanels(fftRows, a, idx1, rowStride, true, false, panel, ws);
                 }
 
-                temp = new double[2 * slices];
+                panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * slices];
+                ws = fftSlices.createWorkspace();
                 for (int r = 0; r < rows; r++) {
                     int idx1 = r * rowStride;
-                    for (int c = 0; c < columns; c++) {
-                        int idx2 = 2 * c;
-                        for (int s = 0; s < slices; s++) {
-                            int idx3 = s * sliceStride + idx1 + idx2;
-                            int idx4 = 2 * s;
-                            temp[idx4] = a[idx3];
-                            temp[idx4 + 1] = a[idx3 + 1];
-                        }
-                        fftSlices.complexForward(temp);
-                        for (int s = 0; s < slices; s++) {
-                            int idx3 = s * sliceStride + idx1 + idx2;
-                            int idx4 = 2 * s;
-                            a[idx3] = temp[idx4];
-                            a[idx3 + 1] = temp[idx4 + 1];
-                        }
-                    }
+                    complexPanels(fftSlices, a, idx1, sliceStride, true, false, panel, ws);
                 }
             }
-            sliceStride = rows * columns;
-            rowStride = columns;
         }
     }
 
+    /**
+     * Computes 3D forward DFT of complex data leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #complexForward(double[])}; the position is not changed.
+     * Buffers without an accessible backing array (e.g. direct buffers) are
+     * transformed in place one slice and one block of pencils at a time.
+     * 
+     * @param a
+     *            data to transform
+     */
+    public void complexForward(DoubleBuffer a) {
+        if (!BufferUtils.hasBackingArray(a)) {
+            complexBuffer(a, true, false);
+            return;
+        }
+        double[] array = BufferUtils.getArray(a, 2L * slices * rows * columns);
+        complexForward(array);
+        BufferUtils.putArray(a, array, 2L * slices * rows * columns);
+    }
+
     /**
      * Computes 3D forward DFT of complex data leaving the result in
      * <code>a</code>. The data is stored in 3D array. Complex data is
@@ -341,51 +304,39 @@ public class DoubleFFT_3D {
      *            data to transform
      */
     public void complexForward(final double[][][] a) {
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
+        int nthreads = context.getNumberOfThreads();
         if (isPowerOfTwo) {
-            int oldn3 = columns;
-            columns = 2 * columns;
-
-            sliceStride = rows * columns;
-            rowStride = columns;
-
-            if (nthreads != oldNthreads) {
-                nt = slices;
-                if (nt < rows) {
-                    nt = rows;
-                }
-                nt *= 8;
-                if (nthreads > 1) {
-                    nt *= nthreads;
-                }
-                if (columns == 4) {
-                    nt >>= 1;
-                } else if (columns < 4) {
-                    nt >>= 2;
-                }
-                t = new double[nt];
-                oldNthreads = nthreads;
+            final int columns = 2 * this.columns;
+            int nt = slices;
+            if (nt < rows) {
+                nt = rows;
             }
+            nt *= 8;
+            if (nthreads > 1) {
+                nt *= nthreads;
+            }
+            if (columns == 4) {
+                nt >>= 1;
+            } else if (columns < 4) {
+                nt >>= 2;
+            }
+            final double[] t = new double[nt];
             if ((nthreads > 1) && useThreads) {
-                xdft3da_subth2(0, -1, a, true);
-                cdft3db_subth(-1, a, true);
+                xdft3da_subth2(0, -1, a, true, columns, t);
+                cdft3db_subth(-1, a, true, columns, t);
             } else {
-                xdft3da_sub2(0, -1, a, true);
-                cdft3db_sub(-1, a, true);
+                xdft3da_sub2(0, -1, a, true, columns, t);
+                cdft3db_sub(-1, a, true, columns, t);
             }
-            columns = oldn3;
-            sliceStride = rows * columns;
-            rowStride = columns;
         } else {
-            if ((nthreads > 1) && useThreads && (slices >= nthreads) && (rows >= nthreads) && (columns >= nthreads)) {
+            if ((nthreads > 1) && useThreads) {
                 Future<?>[] futures = new Future[nthreads];
-                int p = slices / nthreads;
+                final IndexRange sliceRange = new IndexRange(0, slices, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstSlice = l * p;
-                    final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            for (int s = firstSlice; s < lastSlice; s++) {
+                            IndexRange.Cursor cursor = sliceRange.cursor();
+                            for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                                 for (int r = 0; r < rows; r++) {
                                     fftColumns.complexForward(a[s][r]);
                                 }
@@ -395,57 +346,34 @@ public class DoubleFFT_3D {
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
 
+                final IndexRange sliceRange2 = new IndexRange(0, slices, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstSlice = l * p;
-                    final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            double[] temp = new double[2 * rows];
-                            for (int s = firstSlice; s < lastSlice; s++) {
-                                for (int c = 0; c < columns; c++) {
-                                    int idx2 = 2 * c;
-                                    for (int r = 0; r < rows; r++) {
-                                        int idx4 = 2 * r;
-                                        temp[idx4] = a[s][r][idx2];
-                                        temp[idx4 + 1] = a[s][r][idx2 + 1];
-                                    }
-                                    fftRows.complexForward(temp);
-                                    for (int r = 0; r < rows; r++) {
-                                        int idx4 = 2 * r;
-                                        a[s][r][idx2] = temp[idx4];
-                                        a[s][r][idx2 + 1] = temp[idx4 + 1];
-                                    }
-                                }
+                            double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * rows];
+                            DoubleFFT_1D.Workspace ws = fftRows.createWorkspace();
+                            IndexRange.Cursor cursor = sliceRange2.cursor();
+                            for (int s = cursor.next(); s >= 0; s = cursor.next()) {
+                                complexPanels(fftRows, a[s], true, false, panel, ws);
                             }
                         }
                     });
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
 
-                p = rows / nthreads;
+                final IndexRange rowRange = new IndexRange(0, rows, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstRow = l * p;
-                    final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            double[] temp = new double[2 * slices];
-                            for (int r = firstRow; r < lastRow; r++) {
-                                for (int c = 0; c < columns; c++) {
-                                    int idx2 = 2 * c;
-                                    for (int s = 0; s < slices; s++) {
-                                        int idx4 = 2 * s;
-                                        temp[idx4] = a[s][r][idx2];
-                                        temp[idx4 + 1] = a[s][r][idx2 + 1];
-                                    }
-                                    fftSlices.complexForward(temp);
-                                    for (int s = 0; s < slices; s++) {
-                                        int idx4 = 2 * s;
-                                        a[s][r][idx2] = temp[idx4];
-                                        a[s][r][idx2 + 1] = temp[idx4 + 1];
-                                    }
+                            double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * slices];
+                            DoubleFFT_1D.Workspace ws = fftSlices.createWorkspace();
+                            double[][] view = new double[slices][];
+                            IndexRange.Cursor cursor = rowRange.cursor();
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
+                                for (int s = 0; s < slices; s++) {
+                                    view[s] = a[s][r];
                                 }
+                                complexPanels(fftSlices, view, true, false, panel, ws);
                             }
                         }
                     });
@@ -459,40 +387,20 @@ public class DoubleFFT_3D {
                     }
                 }
 
-                double[] temp = new double[2 * rows];
+                double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * rows];
+                DoubleFFT_1D.Workspace ws = fftRows.createWorkspace();
                 for (int s = 0; s < slices; s++) {
-                    for (int c = 0; c < columns; c++) {
-                        int idx2 = 2 * c;
-                        for (int r = 0; r < rows; r++) {
-                            int idx4 = 2 * r;
-                            temp[idx4] = a[s][r][idx2];
-                            temp[idx4 + 1] = a[s][r][idx2 + 1];
-                        }
-                        fftRows.complexForward(temp);
-                        for (int r = 0; r < rows; r++) {
-                            int idx4 = 2 * r;
-                            a[s][r][idx2] = temp[idx4];
-                            a[s][r][idx2 + 1] = temp[idx4 + 1];
-                        }
-                    }
+                    complexPanels(fftRows, a[s], true, false, panel, ws);
                 }
 
-                temp = new double[2 * slices];
+                panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * slices];
+                ws = fftSlices.createWorkspace();
+                double[][] view = new double[slices][];
                 for (int r = 0; r < rows; r++) {
-                    for (int c = 0; c < columns; c++) {
-                        int idx2 = 2 * c;
-                        for (int s = 0; s < slices; s++) {
-                            int idx4 = 2 * s;
-                            temp[idx4] = a[s][r][idx2];
-                            temp[idx4 + 1] = a[s][r][idx2 + 1];
-                        }
-                        fftSlices.complexForward(temp);
-                        for (int s = 0; s < slices; s++) {
-                            int idx4 = 2 * s;
-                            a[s][r][idx2] = temp[idx4];
-                            a[s][r][idx2 + 1] = temp[idx4 + 1];
-                        }
+                    for (int s = 0; s < slices; s++) {
+                        view[s] = a[s][r];
                     }
+                    complexPanels(fftSlices, view, true, false, panel, ws);
                 }
             }
         }
@@ -520,53 +428,44 @@ public class DoubleFFT_3D {
      */
     public void complexInverse(final double[] a, final boolean scale) {
 
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
+        int nthreads = context.getNumberOfThreads();
 
         if (isPowerOfTwo) {
-            int oldn3 = columns;
-            columns = 2 * columns;
-            sliceStride = rows * columns;
-            rowStride = columns;
-            if (nthreads != oldNthreads) {
-                nt = slices;
-                if (nt < rows) {
-                    nt = rows;
-                }
-                nt *= 8;
-                if (nthreads > 1) {
-                    nt *= nthreads;
-                }
-                if (columns == 4) {
-                    nt >>= 1;
-                } else if (columns < 4) {
-                    nt >>= 2;
-                }
-                t = new double[nt];
-                oldNthreads = nthreads;
+            final int columns = 2 * this.columns;
+            final int sliceStride = rows * columns;
+            final int rowStride = columns;
+            int nt = slices;
+            if (nt < rows) {
+                nt = rows;
             }
+            nt *= 8;
+            if (nthreads > 1) {
+                nt *= nthreads;
+            }
+            if (columns == 4) {
+                nt >>= 1;
+            } else if (columns < 4) {
+                nt >>= 2;
+            }
+            final double[] t = new double[nt];
             if ((nthreads > 1) && useThreads) {
-                xdft3da_subth2(0, 1, a, scale);
-                cdft3db_subth(1, a, scale);
+                xdft3da_subth2(0, 1, a, scale, columns, rowStride, sliceStride, t);
+                cdft3db_subth(1, a, scale, columns, rowStride, sliceStride, t);
             } else {
-                xdft3da_sub2(0, 1, a, scale);
-                cdft3db_sub(1, a, scale);
+                xdft3da_sub2(0, 1, a, scale, columns, rowStride, sliceStride, t);
+                cdft3db_sub(1, a, scale, columns, rowStride, sliceStride, t);
             }
-            columns = oldn3;
-            sliceStride = rows * columns;
-            rowStride = columns;
         } else {
-            sliceStride = 2 * rows * columns;
-            rowStride = 2 * columns;
-            if ((nthreads > 1) && useThreads && (slices >= nthreads) && (rows >= nthreads) && (columns >= nthreads)) {
+            final int sliceStride = 2 * rows * columns;
+            final int rowStride = 2 * columns;
+            if ((nthreads > 1) && useThreads) {
                 Future<?>[] futures = new Future[nthreads];
-                int p = slices / nthreads;
+                final IndexRange sliceRange = new IndexRange(0, slices, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstSlice = l * p;
-                    final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            for (int s = firstSlice; s < lastSlice; s++) {
+                            IndexRange.Cursor cursor = sliceRange.cursor();
+                            for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                                 int idx1 = s * sliceStride;
                                 for (int r = 0; r < rows; r++) {
                                     fftColumns.complexInverse(a, idx1 + r * rowStride, scale);
@@ -577,63 +476,32 @@ public class DoubleFFT_3D {
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
 
+                final IndexRange sliceRange2 = new IndexRange(0, slices, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstSlice = l * p;
-                    final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            double[] temp = new double[2 * rows];
-                            for (int s = firstSlice; s < lastSlice; s++) {
+                            double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * rows];
+                            DoubleFFT_1D.Workspace ws = fftRows.createWorkspace();
+                            IndexRange.Cursor cursor = sliceRange2.cursor();
+                            for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                                 int idx1 = s * sliceStride;
-                                for (int c = 0; c < columns; c++) {
-                                    int idx2 = 2 * c;
-                                    for (int r = 0; r < rows; r++) {
-                                        int idx3 = idx1 + idx2 + r * rowStride;
-                                        int idx4 = 2 * r;
-                                        temp[idx4] = a[idx3];
-                                        temp[idx4 + 1] = a[idx3 + 1];
-                                    }
-                                    fftRows.complexInverse(temp, scale);
-                                    for (int r = 0; r < rows; r++) {
-                                        int idx3 = idx1 + idx2 + r * rowStride;
-                                        int idx4 = 2 * r;
-                                        a[idx3] = temp[idx4];
-                                        a[idx3 + 1] = temp[idx4 + 1];
-                                    }
-                                }
+                                complexPanels(fftRows, a, idx1, rowStride, false, scale, panel, ws);
                             }
                         }
                     });
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
 
-                p = rows / nthreads;
+                final IndexRange rowRange = new IndexRange(0, rows, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstRow = l * p;
-                    final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            double[] temp = new double[2 * slices];
-                            for (int r = firstRow; r < lastRow; r++) {
+                            double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * slices];
+                            DoubleFFT_1D.Workspace ws = fftSlices.createWorkspace();
+                            IndexRange.Cursor cursor = rowRange.cursor();
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 int idx1 = r * rowStride;
-                                for (int c = 0; c < columns; c++) {
-                                    int idx2 = 2 * c;
-                                    for (int s = 0; s < slices; s++) {
-                                        int idx3 = s * sliceStride + idx1 + idx2;
-                                        int idx4 = 2 * s;
-                                        temp[idx4] = a[idx3];
-                                        temp[idx4 + 1] = a[idx3 + 1];
-                                    }
-                                    fftSlices.complexInverse(temp, scale);
-                                    for (int s = 0; s < slices; s++) {
-                                        int idx3 = s * sliceStride + idx1 + idx2;
-                                        int idx4 = 2 * s;
-                                        a[idx3] = temp[idx4];
-                                        a[idx3 + 1] = temp[idx4 + 1];
-                                    }
-                                }
+                                complexPanels(fftSlices, a, idx1, sliceStride, false, scale, panel, ws);
                             }
                         }
                     });
@@ -647,52 +515,44 @@ public class DoubleFFT_3D {
                         fftColumns.complexInverse(a, idx1 + r * rowStride, scale);
                     }
                 }
-                double[] temp = new double[2 * rows];
+                double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * rows];
+                DoubleFFT_1D.Workspace ws = fftRows.createWorkspace();
                 for (int s = 0; s < slices; s++) {
                     int idx1 = s * sliceStride;
-                    for (int c = 0; c < columns; c++) {
-                        int idx2 = 2 * c;
-                        for (int r = 0; r < rows; r++) {
-                            int idx3 = idx1 + idx2 + r * rowStride;
-                            int idx4 = 2 * r;
-                            temp[idx4] = a[idx3];
-                            temp[idx4 + 1] = a[idx3 + 1];
-                        }
-                        fftRows.complexInverse(temp, scale);
-                        for (int r = 0; r < rows; r++) {
-                            int idx3 = idx1 + idx2 + r * rowStride;
-                            int idx4 = 2 * r;
-                            a[idx3] = temp[idx4];
-                            a[idx3 + 1] = temp[idx4 + 1];
-                        }
-                    }
+                    complexPanels(fftRows, a, idx1, rowStride, false, scale, panel, ws);
                 }
-                temp = new double[2 * slices];
+                panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * slices];
+                ws = fftSlices.createWorkspace();
                 for (int r = 0; r < rows; r++) {
                     int idx1 = r * rowStride;
-                    for (int c = 0; c < columns; c++) {
-                        int idx2 = 2 * c;
-                        for (int s = 0; s < slices; s++) {
-                            int idx3 = s * sliceStride + idx1 + idx2;
-                            int idx4 = 2 * s;
-                            temp[idx4] = a[idx3];
-                            temp[idx4 + 1] = a[idx3 + 1];
-                        }
-                        fftSlices.complexInverse(temp, scale);
-                        for (int s = 0; s < slices; s++) {
-                            int idx3 = s * sliceStride + idx1 + idx2;
-                            int idx4 = 2 * s;
-                            a[idx3] = temp[idx4];
-                            a[idx3 + 1] = temp[idx4 + 1];
-                        }
-                    }
+                    complexPanels(fftSlices, a, idx1, sliceStride, false, scale, panel, ws);
                 }
             }
-            sliceStride = rows * columns;
-            rowStride = columns;
         }
     }
 
+    /**
+     * Computes 3D inverse DFT of complex data leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #complexInverse(double[], boolean)}; the position is not changed.
+     * Buffers without an accessible backing array (e.g. direct buffers) are
+     * transformed in place one slice and one block of pencils at a time.
+     * 
+     * @param a
+     *            data to transform
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void complexInverse(DoubleBuffer a, boolean scale) {
+        if (!BufferUtils.hasBackingArray(a)) {
+            complexBuffer(a, false, scale);
+            return;
+        }
+        double[] array = BufferUtils.getArray(a, 2L * slices * rows * columns);
+        complexInverse(array, scale);
+        BufferUtils.putArray(a, array, 2L * slices * rows * columns);
+    }
+
     /**
      * Computes 3D inverse DFT of complex data leaving the result in
      * <code>a</code>. The data is stored in a 3D array. Complex data is
@@ -711,50 +571,39 @@ public class DoubleFFT_3D {
      *            if true then scaling is performed
      */
     public void complexInverse(final double[][][] a, final boolean scale) {
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
+        int nthreads = context.getNumberOfThreads();
         if (isPowerOfTwo) {
-            int oldn3 = columns;
-            columns = 2 * columns;
-            sliceStride = rows * columns;
-            rowStride = columns;
-            if (nthreads != oldNthreads) {
-                nt = slices;
-                if (nt < rows) {
-                    nt = rows;
-                }
-                nt *= 8;
-                if (nthreads > 1) {
-                    nt *= nthreads;
-                }
-                if (columns == 4) {
-                    nt >>= 1;
-                } else if (columns < 4) {
-                    nt >>= 2;
-                }
-                t = new double[nt];
-                oldNthreads = nthreads;
+            final int columns = 2 * this.columns;
+            int nt = slices;
+            if (nt < rows) {
+                nt = rows;
+            }
+            nt *= 8;
+            if (nthreads > 1) {
+                nt *= nthreads;
             }
+            if (columns == 4) {
+                nt >>= 1;
+            } else if (columns < 4) {
+                nt >>= 2;
+            }
+            final double[] t = new double[nt];
             if ((nthreads > 1) && useThreads) {
-                xdft3da_subth2(0, 1, a, scale);
-                cdft3db_subth(1, a, scale);
+                xdft3da_subth2(0, 1, a, scale, columns, t);
+                cdft3db_subth(1, a, scale, columns, t);
             } else {
-                xdft3da_sub2(0, 1, a, scale);
-                cdft3db_sub(1, a, scale);
+                xdft3da_sub2(0, 1, a, scale, columns, t);
+                cdft3db_sub(1, a, scale, columns, t);
             }
-            columns = oldn3;
-            sliceStride = rows * columns;
-            rowStride = columns;
         } else {
-            if ((nthreads > 1) && useThreads && (slices >= nthreads) && (rows >= nthreads) && (columns >= nthreads)) {
+            if ((nthreads > 1) && useThreads) {
                 Future<?>[] futures = new Future[nthreads];
-                int p = slices / nthreads;
+                final IndexRange sliceRange = new IndexRange(0, slices, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstSlice = l * p;
-                    final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            for (int s = firstSlice; s < lastSlice; s++) {
+                            IndexRange.Cursor cursor = sliceRange.cursor();
+                            for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                                 for (int r = 0; r < rows; r++) {
                                     fftColumns.complexInverse(a[s][r], scale);
                                 }
@@ -764,57 +613,34 @@ public class DoubleFFT_3D {
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
 
+                final IndexRange sliceRange2 = new IndexRange(0, slices, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstSlice = l * p;
-                    final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            double[] temp = new double[2 * rows];
-                            for (int s = firstSlice; s < lastSlice; s++) {
-                                for (int c = 0; c < columns; c++) {
-                                    int idx2 = 2 * c;
-                                    for (int r = 0; r < rows; r++) {
-                                        int idx4 = 2 * r;
-                                        temp[idx4] = a[s][r][idx2];
-                                        temp[idx4 + 1] = a[s][r][idx2 + 1];
-                                    }
-                                    fftRows.complexInverse(temp, scale);
-                                    for (int r = 0; r < rows; r++) {
-                                        int idx4 = 2 * r;
-                                        a[s][r][idx2] = temp[idx4];
-                                        a[s][r][idx2 + 1] = temp[idx4 + 1];
-                                    }
-                                }
+                            double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * rows];
+                            DoubleFFT_1D.Workspace ws = fftRows.createWorkspace();
+                            IndexRange.Cursor cursor = sliceRange2.cursor();
+                            for (int s = cursor.next(); s >= 0; s = cursor.next()) {
+                                complexPanels(fftRows, a[s], false, scale, panel, ws);
                             }
                         }
                     });
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
 
-                p = rows / nthreads;
+                final IndexRange rowRange = new IndexRange(0, rows, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstRow = l * p;
-                    final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            double[] temp = new double[2 * slices];
-                            for (int r = firstRow; r < lastRow; r++) {
-                                for (int c = 0; c < columns; c++) {
-                                    int idx2 = 2 * c;
-                                    for (int s = 0; s < slices; s++) {
-                                        int idx4 = 2 * s;
-                                        temp[idx4] = a[s][r][idx2];
-                                        temp[idx4 + 1] = a[s][r][idx2 + 1];
-                                    }
-                                    fftSlices.complexInverse(temp, scale);
-                                    for (int s = 0; s < slices; s++) {
-                                        int idx4 = 2 * s;
-                                        a[s][r][idx2] = temp[idx4];
-                                        a[s][r][idx2 + 1] = temp[idx4 + 1];
-                                    }
+                            double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * slices];
+                            DoubleFFT_1D.Workspace ws = fftSlices.createWorkspace();
+                            double[][] view = new double[slices][];
+                            IndexRange.Cursor cursor = rowRange.cursor();
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
+                                for (int s = 0; s < slices; s++) {
+                                    view[s] = a[s][r];
                                 }
+                                complexPanels(fftSlices, view, false, scale, panel, ws);
                             }
                         }
                     });
@@ -827,44 +653,108 @@ public class DoubleFFT_3D {
                         fftColumns.complexInverse(a[s][r], scale);
                     }
                 }
-                double[] temp = new double[2 * rows];
+                double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * rows];
+                DoubleFFT_1D.Workspace ws = fftRows.createWorkspace();
                 for (int s = 0; s < slices; s++) {
-                    for (int c = 0; c < columns; c++) {
-                        int idx2 = 2 * c;
-                        for (int r = 0; r < rows; r++) {
-                            int idx4 = 2 * r;
-                            temp[idx4] = a[s][r][idx2];
-                            temp[idx4 + 1] = a[s][r][idx2 + 1];
-                        }
-                        fftRows.complexInverse(temp, scale);
-                        for (int r = 0; r < rows; r++) {
-                            int idx4 = 2 * r;
-                            a[s][r][idx2] = temp[idx4];
-                            a[s][r][idx2 + 1] = temp[idx4 + 1];
-                        }
-                    }
+                    complexPanels(fftRows, a[s], false, scale, panel, ws);
                 }
-                temp = new double[2 * slices];
+                panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * slices];
+                ws = fftSlices.createWorkspace();
+                double[][] view = new double[slices][];
                 for (int r = 0; r < rows; r++) {
-                    for (int c = 0; c < columns; c++) {
-                        int idx2 = 2 * c;
-                        for (int s = 0; s < slices; s++) {
-                            int idx4 = 2 * s;
-                            temp[idx4] = a[s][r][idx2];
-                            temp[idx4 + 1] = a[s][r][idx2 + 1];
-                        }
-                        fftSlices.complexInverse(temp, scale);
-                        for (int s = 0; s < slices; s++) {
-                            int idx4 = 2 * s;
-                            a[s][r][idx2] = temp[idx4];
-                            a[s][r][idx2 + 1] = temp[idx4 + 1];
-                        }
+                    for (int s = 0; s < slices; s++) {
+                        view[s] = a[s][r];
                     }
+                    complexPanels(fftSlices, view, false, scale, panel, ws);
                 }
             }
         }
     }
 
+    /**
+     * Computes 3D forward DFT of complex data leaving the result in <code>a</code>,
+     * using the transpose-based algorithm: the rows are transformed, every
+     * slice is transposed so that its columns become rows, these are
+     * transformed, the array is transposed so that the slice dimension
+     * becomes the last one, the last dimension is transformed and, unless
+     * <code>transposed</code> is true, the array is transposed back. The
+     * transpositions are cache-blocked and parallel, and memory is only
+     * traversed along rows, which pays off for large arrays; a temporary array
+     * of the size of <code>a</code> is allocated. The input has the layout
+     * described in {@link #complexForward(double[])}. If <code>transposed</code> is true, the
+     * dimensions of the result are left in reverse order:<br>
+     * 
+     * <pre>
+     * a[k3*2*rows*slices+k2*2*slices+2*k1] = Re[k1][k2][k3], 
+     * a[k3*2*rows*slices+k2*2*slices+2*k1+1] = Im[k1][k2][k3], 
+     * 0&lt;=k1&lt;slices, 0&lt;=k2&lt;rows, 0&lt;=k3&lt;columns,
+     * </pre>
+     * 
+     * which is also the input layout of
+     * {@link #complexInverseByTranspose(double[], boolean, boolean)}. A caller that
+     * does not need the natural layout of the result, e.g. to compute a
+     * convolution, saves two transpositions in each direction.
+     * 
+     * @param a
+     *            data to transform
+     * @param transposed
+     *            if true then the result is left transposed
+     */
+    public void complexForwardByTranspose(double[] a, boolean transposed) {
+        double[] t = new double[2 * slices * rows * columns];
+        fftColumns.complexForwardBatch(a, 0, slices * rows, 2, 2 * columns);
+        TransposeUtils.transpose(a, 0, t, 0, slices, rows, columns, 2, context);
+        fftRows.complexForwardBatch(t, 0, slices * columns, 2, 2 * rows);
+        TransposeUtils.transpose(t, 0, a, 0, 1, slices, columns * rows, 2, context);
+        fftSlices.complexForwardBatch(a, 0, columns * rows, 2, 2 * slices);
+        if (!transposed) {
+            TransposeUtils.transpose(a, 0, t, 0, 1, columns * rows, slices, 2, context);
+            TransposeUtils.transpose(t, 0, a, 0, slices, columns, rows, 2, context);
+        }
+    }
+
+    /**
+     * Computes 3D inverse DFT of complex data leaving the result in <code>a</code>,
+     * using the transpose-based algorithm described in
+     * {@link #complexForwardByTranspose(double[], boolean)}. If
+     * <code>transposed</code> is true, the dimensions of the input must be in
+     * reverse order:<br>
+     * 
+     * <pre>
+     * a[k3*2*rows*slices+k2*2*slices+2*k1] = Re[k1][k2][k3], 
+     * a[k3*2*rows*slices+k2*2*slices+2*k1+1] = Im[k1][k2][k3], 
+     * 0&lt;=k1&lt;slices, 0&lt;=k2&lt;rows, 0&lt;=k3&lt;columns,
+     * </pre>
+     * 
+     * as left by {@link #complexForwardByTranspose(double[], boolean)}.
+     * The result always has the natural layout.
+     * 
+     * @param a
+     *            data to transform
+     * @param transposed
+     *            if true then the input is transposed
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void complexInverseByTranspose(double[] a, boolean transposed, boolean scale) {
+        double[] t = new double[2 * slices * rows * columns];
+        if (!transposed) {
+            fftColumns.complexInverseBatch(a, 0, slices * rows, 2, 2 * columns, scale);
+            TransposeUtils.transpose(a, 0, t, 0, slices, rows, columns, 2, context);
+            fftRows.complexInverseBatch(t, 0, slices * columns, 2, 2 * rows, scale);
+            TransposeUtils.transpose(t, 0, a, 0, 1, slices, columns * rows, 2, context);
+            fftSlices.complexInverseBatch(a, 0, columns * rows, 2, 2 * slices, scale);
+            TransposeUtils.transpose(a, 0, t, 0, 1, columns * rows, slices, 2, context);
+            TransposeUtils.transpose(t, 0, a, 0, slices, columns, rows, 2, context);
+        } else {
+            fftSlices.complexInverseBatch(a, 0, columns * rows, 2, 2 * slices, scale);
+            TransposeUtils.transpose(a, 0, t, 0, 1, columns * rows, slices, 2, context);
+            fftRows.complexInverseBatch(t, 0, slices * columns, 2, 2 * rows, scale);
+            TransposeUtils.transpose(t, 0, a, 0, slices, columns, rows, 2, context);
+            fftColumns.complexInverseBatch(a, 0, slices * rows, 2, 2 * columns, scale);
+        }
+    }
+
     /**
      * Computes 3D forward DFT of real data leaving the result in <code>a</code>
      * . This method only works when the sizes of all three dimensions are
@@ -929,36 +819,49 @@ public class DoubleFFT_3D {
         if (isPowerOfTwo == false) {
             throw new IllegalArgumentException("slices, rows and columns must be power of two numbers");
         } else {
-            int nthreads = ConcurrencyUtils.getNumberOfThreads();
-            if (nthreads != oldNthreads) {
-                nt = slices;
-                if (nt < rows) {
-                    nt = rows;
-                }
-                nt *= 8;
-                if (nthreads > 1) {
-                    nt *= nthreads;
-                }
-                if (columns == 4) {
-                    nt >>= 1;
-                } else if (columns < 4) {
-                    nt >>= 2;
-                }
-                t = new double[nt];
-                oldNthreads = nthreads;
+            int nthreads = context.getNumberOfThreads();
+            int nt = slices;
+            if (nt < rows) {
+                nt = rows;
+            }
+            nt *= 8;
+            if (nthreads > 1) {
+                nt *= nthreads;
             }
+            if (columns == 4) {
+                nt >>= 1;
+            } else if (columns < 4) {
+                nt >>= 2;
+            }
+            final double[] t = new double[nt];
             if ((nthreads > 1) && useThreads) {
-                xdft3da_subth1(1, -1, a, true);
-                cdft3db_subth(-1, a, true);
+                xdft3da_subth1(1, -1, a, true, t);
+                cdft3db_subth(-1, a, true, columns, rowStride, sliceStride, t);
                 rdft3d_sub(1, a);
             } else {
-                xdft3da_sub1(1, -1, a, true);
-                cdft3db_sub(-1, a, true);
+                xdft3da_sub1(1, -1, a, true, t);
+                cdft3db_sub(-1, a, true, columns, rowStride, sliceStride, t);
                 rdft3d_sub(1, a);
             }
         }
     }
 
+    /**
+     * Computes 3D forward DFT of real data leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #realForward(double[])}; the position is not changed.
+     * Unless the buffer is a heap buffer positioned at the first element of
+     * its array, the whole buffer is copied to a temporary array and back.
+     * 
+     * @param a
+     *            data to transform
+     */
+    public void realForward(DoubleBuffer a) {
+        double[] array = BufferUtils.getArray(a, (long) slices * rows * columns);
+        realForward(array);
+        BufferUtils.putArray(a, array, (long) slices * rows * columns);
+    }
+
     /**
      * Computes 3D forward DFT of real data leaving the result in <code>a</code>
      * . This method only works when the sizes of all three dimensions are
@@ -1020,31 +923,28 @@ public class DoubleFFT_3D {
         if (isPowerOfTwo == false) {
             throw new IllegalArgumentException("slices, rows and columns must be power of two numbers");
         } else {
-            int nthreads = ConcurrencyUtils.getNumberOfThreads();
-            if (nthreads != oldNthreads) {
-                nt = slices;
-                if (nt < rows) {
-                    nt = rows;
-                }
-                nt *= 8;
-                if (nthreads > 1) {
-                    nt *= nthreads;
-                }
-                if (columns == 4) {
-                    nt >>= 1;
-                } else if (columns < 4) {
-                    nt >>= 2;
-                }
-                t = new double[nt];
-                oldNthreads = nthreads;
+            int nthreads = context.getNumberOfThreads();
+            int nt = slices;
+            if (nt < rows) {
+                nt = rows;
+            }
+            nt *= 8;
+            if (nthreads > 1) {
+                nt *= nthreads;
+            }
+            if (columns == 4) {
+                nt >>= 1;
+            } else if (columns < 4) {
+                nt >>= 2;
             }
+            final double[] t = new double[nt];
             if ((nthreads > 1) && useThreads) {
-                xdft3da_subth1(1, -1, a, true);
-                cdft3db_subth(-1, a, true);
+                xdft3da_subth1(1, -1, a, true, t);
+                cdft3db_subth(-1, a, true, columns, t);
                 rdft3d_sub(1, a);
             } else {
-                xdft3da_sub1(1, -1, a, true);
-                cdft3db_sub(-1, a, true);
+                xdft3da_sub1(1, -1, a, true, t);
+                cdft3db_sub(-1, a, true, columns, t);
                 rdft3d_sub(1, a);
             }
         }
@@ -1064,31 +964,28 @@ public class DoubleFFT_3D {
      */
     public void realForwardFull(double[] a) {
         if (isPowerOfTwo) {
-            int nthreads = ConcurrencyUtils.getNumberOfThreads();
-            if (nthreads != oldNthreads) {
-                nt = slices;
-                if (nt < rows) {
-                    nt = rows;
-                }
-                nt *= 8;
-                if (nthreads > 1) {
-                    nt *= nthreads;
-                }
-                if (columns == 4) {
-                    nt >>= 1;
-                } else if (columns < 4) {
-                    nt >>= 2;
-                }
-                t = new double[nt];
-                oldNthreads = nthreads;
+            int nthreads = context.getNumberOfThreads();
+            int nt = slices;
+            if (nt < rows) {
+                nt = rows;
+            }
+            nt *= 8;
+            if (nthreads > 1) {
+                nt *= nthreads;
+            }
+            if (columns == 4) {
+                nt >>= 1;
+            } else if (columns < 4) {
+                nt >>= 2;
             }
+            final double[] t = new double[nt];
             if ((nthreads > 1) && useThreads) {
-                xdft3da_subth2(1, -1, a, true);
-                cdft3db_subth(-1, a, true);
+                xdft3da_subth2(1, -1, a, true, columns, rowStride, sliceStride, t);
+                cdft3db_subth(-1, a, true, columns, rowStride, sliceStride, t);
                 rdft3d_sub(1, a);
             } else {
-                xdft3da_sub2(1, -1, a, true);
-                cdft3db_sub(-1, a, true);
+                xdft3da_sub2(1, -1, a, true, columns, rowStride, sliceStride, t);
+                cdft3db_sub(-1, a, true, columns, rowStride, sliceStride, t);
                 rdft3d_sub(1, a);
             }
             fillSymmetric(a);
@@ -1097,6 +994,22 @@ public class DoubleFFT_3D {
         }
     }
 
+    /**
+     * Computes 3D forward DFT of real data leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #realForwardFull(double[])}; the position is not changed.
+     * Unless the buffer is a heap buffer positioned at the first element of
+     * its array, the whole buffer is copied to a temporary array and back.
+     * 
+     * @param a
+     *            data to transform
+     */
+    public void realForwardFull(DoubleBuffer a) {
+        double[] array = BufferUtils.getArray(a, 2L * slices * rows * columns);
+        realForwardFull(array);
+        BufferUtils.putArray(a, array, 2L * slices * rows * columns);
+    }
+
     /**
      * Computes 3D forward DFT of real data leaving the result in <code>a</code>
      * . This method computes full real forward transform, i.e. you will get the
@@ -1111,31 +1024,28 @@ public class DoubleFFT_3D {
      */
     public void realForwardFull(double[][][] a) {
         if (isPowerOfTwo) {
-            int nthreads = ConcurrencyUtils.getNumberOfThreads();
-            if (nthreads != oldNthreads) {
-                nt = slices;
-                if (nt < rows) {
-                    nt = rows;
-                }
-                nt *= 8;
-                if (nthreads > 1) {
-                    nt *= nthreads;
-                }
-                if (columns == 4) {
-                    nt >>= 1;
-                } else if (columns < 4) {
-                    nt >>= 2;
-                }
-                t = new double[nt];
-                oldNthreads = nthreads;
+            int nthreads = context.getNumberOfThreads();
+            int nt = slices;
+            if (nt < rows) {
+                nt = rows;
+            }
+            nt *= 8;
+            if (nthreads > 1) {
+                nt *= nthreads;
             }
+            if (columns == 4) {
+                nt >>= 1;
+            } else if (columns < 4) {
+                nt >>= 2;
+            }
+            final double[] t = new double[nt];
             if ((nthreads > 1) && useThreads) {
-                xdft3da_subth2(1, -1, a, true);
-                cdft3db_subth(-1, a, true);
+                xdft3da_subth2(1, -1, a, true, columns, t);
+                cdft3db_subth(-1, a, true, columns, t);
                 rdft3d_sub(1, a);
             } else {
-                xdft3da_sub2(1, -1, a, true);
-                cdft3db_sub(-1, a, true);
+                xdft3da_sub2(1, -1, a, true, columns, t);
+                cdft3db_sub(-1, a, true, columns, t);
                 rdft3d_sub(1, a);
             }
             fillSymmetric(a);
@@ -1210,36 +1120,51 @@ public class DoubleFFT_3D {
         if (isPowerOfTwo == false) {
             throw new IllegalArgumentException("slices, rows and columns must be power of two numbers");
         } else {
-            int nthreads = ConcurrencyUtils.getNumberOfThreads();
-            if (nthreads != oldNthreads) {
-                nt = slices;
-                if (nt < rows) {
-                    nt = rows;
-                }
-                nt *= 8;
-                if (nthreads > 1) {
-                    nt *= nthreads;
-                }
-                if (columns == 4) {
-                    nt >>= 1;
-                } else if (columns < 4) {
-                    nt >>= 2;
-                }
-                t = new double[nt];
-                oldNthreads = nthreads;
+            int nthreads = context.getNumberOfThreads();
+            int nt = slices;
+            if (nt < rows) {
+                nt = rows;
+            }
+            nt *= 8;
+            if (nthreads > 1) {
+                nt *= nthreads;
+            }
+            if (columns == 4) {
+                nt >>= 1;
+            } else if (columns < 4) {
+                nt >>= 2;
             }
+            final double[] t = new double[nt];
             if ((nthreads > 1) && useThreads) {
                 rdft3d_sub(-1, a);
-                cdft3db_subth(1, a, scale);
-                xdft3da_subth1(1, 1, a, scale);
+                cdft3db_subth(1, a, scale, columns, rowStride, sliceStride, t);
+                xdft3da_subth1(1, 1, a, scale, t);
             } else {
                 rdft3d_sub(-1, a);
-                cdft3db_sub(1, a, scale);
-                xdft3da_sub1(1, 1, a, scale);
+                cdft3db_sub(1, a, scale, columns, rowStride, sliceStride, t);
+                xdft3da_sub1(1, 1, a, scale, t);
             }
         }
     }
 
+    /**
+     * Computes 3D inverse DFT of real data leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #realInverse(double[], boolean)}; the position is not changed.
+     * Unless the buffer is a heap buffer positioned at the first element of
+     * its array, the whole buffer is copied to a temporary array and back.
+     * 
+     * @param a
+     *            data to transform
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void realInverse(DoubleBuffer a, boolean scale) {
+        double[] array = BufferUtils.getArray(a, (long) slices * rows * columns);
+        realInverse(array, scale);
+        BufferUtils.putArray(a, array, (long) slices * rows * columns);
+    }
+
     /**
      * Computes 3D inverse DFT of real data leaving the result in <code>a</code>
      * . This method only works when the sizes of all three dimensions are
@@ -1302,32 +1227,29 @@ public class DoubleFFT_3D {
         if (isPowerOfTwo == false) {
             throw new IllegalArgumentException("slices, rows and columns must be power of two numbers");
         } else {
-            int nthreads = ConcurrencyUtils.getNumberOfThreads();
-            if (nthreads != oldNthreads) {
-                nt = slices;
-                if (nt < rows) {
-                    nt = rows;
-                }
-                nt *= 8;
-                if (nthreads > 1) {
-                    nt *= nthreads;
-                }
-                if (columns == 4) {
-                    nt >>= 1;
-                } else if (columns < 4) {
-                    nt >>= 2;
-                }
-                t = new double[nt];
-                oldNthreads = nthreads;
+            int nthreads = context.getNumberOfThreads();
+            int nt = slices;
+            if (nt < rows) {
+                nt = rows;
+            }
+            nt *= 8;
+            if (nthreads > 1) {
+                nt *= nthreads;
+            }
+            if (columns == 4) {
+                nt >>= 1;
+            } else if (columns < 4) {
+                nt >>= 2;
             }
+            final double[] t = new double[nt];
             if ((nthreads > 1) && useThreads) {
                 rdft3d_sub(-1, a);
-                cdft3db_subth(1, a, scale);
-                xdft3da_subth1(1, 1, a, scale);
+                cdft3db_subth(1, a, scale, columns, t);
+                xdft3da_subth1(1, 1, a, scale, t);
             } else {
                 rdft3d_sub(-1, a);
-                cdft3db_sub(1, a, scale);
-                xdft3da_sub1(1, 1, a, scale);
+                cdft3db_sub(1, a, scale, columns, t);
+                xdft3da_sub1(1, 1, a, scale, t);
             }
         }
     }
@@ -1347,31 +1269,28 @@ public class DoubleFFT_3D {
      */
     public void realInverseFull(double[] a, boolean scale) {
         if (isPowerOfTwo) {
-            int nthreads = ConcurrencyUtils.getNumberOfThreads();
-            if (nthreads != oldNthreads) {
-                nt = slices;
-                if (nt < rows) {
-                    nt = rows;
-                }
-                nt *= 8;
-                if (nthreads > 1) {
-                    nt *= nthreads;
-                }
-                if (columns == 4) {
-                    nt >>= 1;
-                } else if (columns < 4) {
-                    nt >>= 2;
-                }
-                t = new double[nt];
-                oldNthreads = nthreads;
+            int nthreads = context.getNumberOfThreads();
+            int nt = slices;
+            if (nt < rows) {
+                nt = rows;
+            }
+            nt *= 8;
+            if (nthreads > 1) {
+                nt *= nthreads;
+            }
+            if (columns == 4) {
+                nt >>= 1;
+            } else if (columns < 4) {
+                nt >>= 2;
             }
+            final double[] t = new double[nt];
             if ((nthreads > 1) && useThreads) {
-                xdft3da_subth2(1, 1, a, scale);
-                cdft3db_subth(1, a, scale);
+                xdft3da_subth2(1, 1, a, scale, columns, rowStride, sliceStride, t);
+                cdft3db_subth(1, a, scale, columns, rowStride, sliceStride, t);
                 rdft3d_sub(1, a);
             } else {
-                xdft3da_sub2(1, 1, a, scale);
-                cdft3db_sub(1, a, scale);
+                xdft3da_sub2(1, 1, a, scale, columns, rowStride, sliceStride, t);
+                cdft3db_sub(1, a, scale, columns, rowStride, sliceStride, t);
                 rdft3d_sub(1, a);
             }
             fillSymmetric(a);
@@ -1380,6 +1299,24 @@ public class DoubleFFT_3D {
         }
     }
 
+    /**
+     * Computes 3D inverse DFT of real data leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #realInverseFull(double[], boolean)}; the position is not changed.
+     * Unless the buffer is a heap buffer positioned at the first element of
+     * its array, the whole buffer is copied to a temporary array and back.
+     * 
+     * @param a
+     *            data to transform
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void realInverseFull(DoubleBuffer a, boolean scale) {
+        double[] array = BufferUtils.getArray(a, 2L * slices * rows * columns);
+        realInverseFull(array, scale);
+        BufferUtils.putArray(a, array, 2L * slices * rows * columns);
+    }
+
     /**
      * Computes 3D inverse DFT of real data leaving the result in <code>a</code>
      * . This method computes full real inverse transform, i.e. you will get the
@@ -1395,31 +1332,28 @@ public class DoubleFFT_3D {
      */
     public void realInverseFull(double[][][] a, boolean scale) {
         if (isPowerOfTwo) {
-            int nthreads = ConcurrencyUtils.getNumberOfThreads();
-            if (nthreads != oldNthreads) {
-                nt = slices;
-                if (nt < rows) {
-                    nt = rows;
-                }
-                nt *= 8;
-                if (nthreads > 1) {
-                    nt *= nthreads;
-                }
-                if (columns == 4) {
-                    nt >>= 1;
-                } else if (columns < 4) {
-                    nt >>= 2;
-                }
-                t = new double[nt];
-                oldNthreads = nthreads;
+            int nthreads = context.getNumberOfThreads();
+            int nt = slices;
+            if (nt < rows) {
+                nt = rows;
+            }
+            nt *= 8;
+            if (nthreads > 1) {
+                nt *= nthreads;
+            }
+            if (columns == 4) {
+                nt >>= 1;
+            } else if (columns < 4) {
+                nt >>= 2;
             }
+            final double[] t = new double[nt];
             if ((nthreads > 1) && useThreads) {
-                xdft3da_subth2(1, 1, a, scale);
-                cdft3db_subth(1, a, scale);
+                xdft3da_subth2(1, 1, a, scale, columns, t);
+                cdft3db_subth(1, a, scale, columns, t);
                 rdft3d_sub(1, a);
             } else {
-                xdft3da_sub2(1, 1, a, scale);
-                cdft3db_sub(1, a, scale);
+                xdft3da_sub2(1, 1, a, scale, columns, t);
+                cdft3db_sub(1, a, scale, columns, t);
                 rdft3d_sub(1, a);
             }
             fillSymmetric(a);
@@ -1428,10 +1362,240 @@ public class DoubleFFT_3D {
         }
     }
 
+    /**
+     * Computes 3D forward DFT of complex data stored in a large array leaving
+     * the result in <code>a</code>. The data has the layout described in
+     * {@link #complexForward(double[])}, with long indices, so the volume can
+     * hold more than 2^31 elements; a single slice must fit in a Java array.
+     * The slices and the pencils along the slice dimension are copied to
+     * arrays, transformed and copied back, in parallel.
+     * 
+     * @param a
+     *            data to transform
+     */
+    public void complexForward(DoubleLargeArray a) {
+        complexLarge(a, true, false);
+    }
+
+    /**
+     * Computes 3D inverse DFT of complex data stored in a large array leaving
+     * the result in <code>a</code>. The data has the layout described in
+     * {@link #complexInverse(double[], boolean)}, with long indices, so the
+     * volume can hold more than 2^31 elements; a single slice must fit in a
+     * Java array.
+     * 
+     * @param a
+     *            data to transform
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void complexInverse(DoubleLargeArray a, boolean scale) {
+        complexLarge(a, false, scale);
+    }
+
     /* -------- child routines -------- */
 
+    private void complexLarge(final DoubleLargeArray a, final boolean forward, final boolean scale) {
+        if (2L * rows * columns > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("a slice of " + rows + " x " + columns + " complex numbers does not fit in a Java array");
+        }
+        if (a.length() < 2L * slices * rows * columns) {
+            throw new IllegalArgumentException("a must hold at least 2*slices*rows*columns elements");
+        }
+        final int width = Math.min(columns, Math.max(DoubleFFT_1D.PANEL_SIZE, LARGE_BLOCK_SIZE / slices));
+        final int blocks = (columns - 1) / width + 1;
+        int nthreads = context.getNumberOfThreads();
+        if ((nthreads > 1) && useThreads) {
+            Future<?>[] futures = new Future[nthreads];
+            final IndexRange sliceRange = new IndexRange(0, slices, nthreads);
+            for (int l = 0; l < nthreads; l++) {
+                futures[l] = context.submit(new Runnable() {
+                    public void run() {
+                        largeSlices(a, sliceRange.cursor(), forward, scale);
+                    }
+                });
+            }
+            ConcurrencyUtils.waitForCompletion(futures);
+            final IndexRange pencilRange = new IndexRange(0, rows * blocks, nthreads);
+            for (int l = 0; l < nthreads; l++) {
+                futures[l] = context.submit(new Runnable() {
+                    public void run() {
+                        largePencils(a, pencilRange.cursor(), width, blocks, forward, scale);
+                    }
+                });
+            }
+            ConcurrencyUtils.waitForCompletion(futures);
+        } else {
+            largeSlices(a, new IndexRange(0, slices, 1).cursor(), forward, scale);
+            largePencils(a, new IndexRange(0, rows * blocks, 1).cursor(), width, blocks, forward, scale);
+        }
+    }
+
+    /*
+     * Transforms the rows and the columns of the slices taken from the cursor.
+     */
+    private void largeSlices(DoubleLargeArray a, IndexRange.Cursor cursor, boolean forward, boolean scale) {
+        int sliceStride = 2 * rows * columns;
+        int rowStride = 2 * columns;
+        double[] t = new double[sliceStride];
+        double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * rows];
+        DoubleFFT_1D.Workspace ws = fftRows.createWorkspace();
+        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
+            a.get((long) s * sliceStride, t, 0, sliceStride);
+            for (int r = 0; r < rows; r++) {
+                if (forward) {
+                    fftColumns.complexForward(t, r * rowStride);
+                } else {
+                    fftColumns.complexInverse(t, r * rowStride, scale);
+                }
+            }
+            complexPanels(fftRows, t, 0, rowStride, forward, scale, panel, ws);
+            a.set((long) s * sliceStride, t, 0, sliceStride);
+        }
+    }
+
+    /*
+     * Transforms the pencils along the slice dimension of the blocks of
+     * columns taken from the cursor; block p holds the columns
+     * (p%blocks)*width.. of row p/blocks.
+     */
+    private void largePencils(DoubleLargeArray a, IndexRange.Cursor cursor, int width, int blocks, boolean forward, boolean scale) {
+        long sliceStride = 2L * rows * columns;
+        int rowStride = 2 * columns;
+        double[] t = new double[2 * slices * width];
+        double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * slices];
+        DoubleFFT_1D.Workspace ws = fftSlices.createWorkspace();
+        for (int p = cursor.next(); p >= 0; p = cursor.next()) {
+            int r = p / blocks;
+            int c = (p - r * blocks) * width;
+            int w = Math.min(width, columns - c);
+            long idx1 = (long) r * rowStride + 2 * c;
+            for (int s = 0; s < slices; s++) {
+                a.get(idx1 + s * sliceStride, t, 2 * s * w, 2 * w);
+            }
+            for (int j = 0; j < w; j += DoubleFFT_1D.PANEL_SIZE) {
+                fftSlices.transformPanel(t, 2 * j, Math.min(DoubleFFT_1D.PANEL_SIZE, w - j), 2 * w, 2, true, forward, scale, panel, ws);
+            }
+            for (int s = 0; s < slices; s++) {
+                a.set(idx1 + s * sliceStride, t, 2 * s * w, 2 * w);
+            }
+        }
+    }
+
+    private void complexBuffer(final DoubleBuffer a, final boolean forward, final boolean scale) {
+        BufferUtils.checkBuffer(a, 2L * slices * rows * columns);
+        final int width = Math.min(columns, Math.max(DoubleFFT_1D.PANEL_SIZE, LARGE_BLOCK_SIZE / slices));
+        final int blocks = (columns - 1) / width + 1;
+        int nthreads = context.getNumberOfThreads();
+        if ((nthreads > 1) && useThreads) {
+            Future<?>[] futures = new Future[nthreads];
+            final IndexRange sliceRange = new IndexRange(0, slices, nthreads);
+            for (int l = 0; l < nthreads; l++) {
+                futures[l] = context.submit(new Runnable() {
+                    public void run() {
+                        bufferSlices(a, sliceRange.cursor(), forward, scale);
+                    }
+                });
+            }
+            ConcurrencyUtils.waitForCompletion(futures);
+            final IndexRange pencilRange = new IndexRange(0, rows * blocks, nthreads);
+            for (int l = 0; l < nthreads; l++) {
+                futures[l] = context.submit(new Runnable() {
+                    public void run() {
+                        bufferPencils(a, pencilRange.cursor(), width, blocks, forward, scale);
+                    }
+                });
+            }
+            ConcurrencyUtils.waitForCompletion(futures);
+        } else {
+            bufferSlices(a, new IndexRange(0, slices, 1).cursor(), forward, scale);
+            bufferPencils(a, new IndexRange(0, rows * blocks, 1).cursor(), width, blocks, forward, scale);
+        }
+    }
+
+    /*
+     * Transforms the rows and the columns of the slices of the buffer taken
+     * from the cursor, as largeSlices does for a large array.
+     */
+    private void bufferSlices(DoubleBuffer a, IndexRange.Cursor cursor, boolean forward, boolean scale) {
+        DoubleBuffer b = a.duplicate();
+        int base = a.position();
+        int sliceStride = 2 * rows * columns;
+        int rowStride = 2 * columns;
+        double[] u = new double[sliceStride];
+        double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * rows];
+        DoubleFFT_1D.Workspace ws = fftRows.createWorkspace();
+        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
+            b.position(base + s * sliceStride);
+            b.get(u);
+            for (int r = 0; r < rows; r++) {
+                if (forward) {
+                    fftColumns.complexForward(u, r * rowStride);
+                } else {
+                    fftColumns.complexInverse(u, r * rowStride, scale);
+                }
+            }
+            complexPanels(fftRows, u, 0, rowStride, forward, scale, panel, ws);
+            b.position(base + s * sliceStride);
+            b.put(u);
+        }
+    }
+
+    /*
+     * Transforms the pencils along the slice dimension of the blocks of
+     * columns of the buffer taken from the cursor, as largePencils does for a
+     * large array.
+     */
+    private void bufferPencils(DoubleBuffer a, IndexRange.Cursor cursor, int width, int blocks, boolean forward, boolean scale) {
+        DoubleBuffer b = a.duplicate();
+        int base = a.position();
+        int sliceStride = 2 * rows * columns;
+        int rowStride = 2 * columns;
+        double[] u = new double[2 * slices * width];
+        double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * slices];
+        DoubleFFT_1D.Workspace ws = fftSlices.createWorkspace();
+        for (int p = cursor.next(); p >= 0; p = cursor.next()) {
+            int r = p / blocks;
+            int c = (p - r * blocks) * width;
+            int w = Math.min(width, columns - c);
+            int idx1 = base + r * rowStride + 2 * c;
+            for (int s = 0; s < slices; s++) {
+                b.position(idx1 + s * sliceStride);
+                b.get(u, 2 * s * w, 2 * w);
+            }
+            for (int j = 0; j < w; j += DoubleFFT_1D.PANEL_SIZE) {
+                fftSlices.transformPanel(u, 2 * j, Math.min(DoubleFFT_1D.PANEL_SIZE, w - j), 2 * w, 2, true, forward, scale, panel, ws);
+            }
+            for (int s = 0; s < slices; s++) {
+                b.position(idx1 + s * sliceStride);
+                b.put(u, 2 * s * w, 2 * w);
+            }
+        }
+    }
+
+    /*
+     * Transforms the columns of one plane, PANEL_SIZE adjacent columns at a
+     * time. Element k of column c is a[offa+k*stride+2*c] (real part) and
+     * a[offa+k*stride+2*c+1] (imaginary part).
+     */
+    private void complexPanels(DoubleFFT_1D fft, double[] a, int offa, int stride, boolean forward, boolean scale, double[] panel, DoubleFFT_1D.Workspace ws) {
+        for (int c = 0; c < columns; c += DoubleFFT_1D.PANEL_SIZE) {
+            fft.transformPanel(a, offa + 2 * c, Math.min(DoubleFFT_1D.PANEL_SIZE, columns - c), stride, 2, true, forward, scale, panel, ws);
+        }
+    }
+
+    /*
+     * Transforms the columns of one plane, PANEL_SIZE adjacent columns at a
+     * time. Element k of column c is a[k][2*c] (real part) and a[k][2*c+1]
+     * (imaginary part).
+     */
+    private void complexPanels(DoubleFFT_1D fft, double[][] a, boolean forward, boolean scale, double[] panel, DoubleFFT_1D.Workspace ws) {
+        for (int c = 0; c < columns; c += DoubleFFT_1D.PANEL_SIZE) {
+            fft.complexPanel(a, 2 * c, Math.min(DoubleFFT_1D.PANEL_SIZE, columns - c), forward, scale, panel, ws);
+        }
+    }
+
     private void mixedRadixRealForwardFull(final double[][][] a) {
-        double[] temp = new double[2 * rows];
         int ldimn2 = rows / 2 + 1;
         final int newn3 = 2 * columns;
         final int n2d2;
@@ -1441,17 +1605,15 @@ public class DoubleFFT_3D {
             n2d2 = (rows + 1) / 2;
         }
 
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
-        if ((nthreads > 1) && useThreads && (slices >= nthreads) && (columns >= nthreads) && (ldimn2 >= nthreads)) {
+        int nthreads = context.getNumberOfThreads();
+        if ((nthreads > 1) && useThreads) {
             Future<?>[] futures = new Future[nthreads];
-            int p = slices / nthreads;
+            final IndexRange sliceRange = new IndexRange(0, slices, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstSlice = l * p;
-                final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        for (int s = firstSlice; s < lastSlice; s++) {
+                        IndexRange.Cursor cursor = sliceRange.cursor();
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             for (int r = 0; r < rows; r++) {
                                 fftColumns.realForwardFull(a[s][r]);
                             }
@@ -1461,73 +1623,48 @@ public class DoubleFFT_3D {
             }
             ConcurrencyUtils.waitForCompletion(futures);
 
+            final IndexRange sliceRange2 = new IndexRange(0, slices, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstSlice = l * p;
-                final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        double[] temp = new double[2 * rows];
+                        double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * rows];
+                        DoubleFFT_1D.Workspace ws = fftRows.createWorkspace();
 
-                        for (int s = firstSlice; s < lastSlice; s++) {
-                            for (int c = 0; c < columns; c++) {
-                                int idx2 = 2 * c;
-                                for (int r = 0; r < rows; r++) {
-                                    int idx4 = 2 * r;
-                                    temp[idx4] = a[s][r][idx2];
-                                    temp[idx4 + 1] = a[s][r][idx2 + 1];
-                                }
-                                fftRows.complexForward(temp);
-                                for (int r = 0; r < rows; r++) {
-                                    int idx4 = 2 * r;
-                                    a[s][r][idx2] = temp[idx4];
-                                    a[s][r][idx2 + 1] = temp[idx4 + 1];
-                                }
-                            }
+                        IndexRange.Cursor cursor = sliceRange2.cursor();
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
+                            complexPanels(fftRows, a[s], true, false, panel, ws);
                         }
                     }
                 });
             }
             ConcurrencyUtils.waitForCompletion(futures);
 
-            p = ldimn2 / nthreads;
+            final IndexRange rowRange = new IndexRange(0, ldimn2, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstRow = l * p;
-                final int lastRow = (l == (nthreads - 1)) ? ldimn2 : firstRow + p;
-
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        double[] temp = new double[2 * slices];
-
-                        for (int r = firstRow; r < lastRow; r++) {
-                            for (int c = 0; c < columns; c++) {
-                                int idx1 = 2 * c;
-                                for (int s = 0; s < slices; s++) {
-                                    int idx2 = 2 * s;
-                                    temp[idx2] = a[s][r][idx1];
-                                    temp[idx2 + 1] = a[s][r][idx1 + 1];
-                                }
-                                fftSlices.complexForward(temp);
-                                for (int s = 0; s < slices; s++) {
-                                    int idx2 = 2 * s;
-                                    a[s][r][idx1] = temp[idx2];
-                                    a[s][r][idx1 + 1] = temp[idx2 + 1];
-                                }
+                        double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * slices];
+                        DoubleFFT_1D.Workspace ws = fftSlices.createWorkspace();
+                        double[][] view = new double[slices][];
+
+                        IndexRange.Cursor cursor = rowRange.cursor();
+                        for (int r = cursor.next(); r >= 0; r = cursor.next()) {
+                            for (int s = 0; s < slices; s++) {
+                                view[s] = a[s][r];
                             }
+                            complexPanels(fftSlices, view, true, false, panel, ws);
                         }
                     }
                 });
             }
             ConcurrencyUtils.waitForCompletion(futures);
-            p = slices / nthreads;
+            final IndexRange sliceRange3 = new IndexRange(0, slices, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstSlice = l * p;
-                final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
 
-                        for (int s = firstSlice; s < lastSlice; s++) {
+                        IndexRange.Cursor cursor = sliceRange3.cursor();
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             int idx2 = (slices - s) % slices;
                             for (int r = 1; r < n2d2; r++) {
                                 int idx4 = rows - r;
@@ -1544,7 +1681,8 @@ public class DoubleFFT_3D {
             }
             ConcurrencyUtils.waitForCompletion(futures);
         } else {
-
+            double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * rows];
+            DoubleFFT_1D.Workspace ws = fftRows.createWorkspace();
             for (int s = 0; s < slices; s++) {
                 for (int r = 0; r < rows; r++) {
                     fftColumns.realForwardFull(a[s][r]);
@@ -1552,39 +1690,18 @@ public class DoubleFFT_3D {
             }
 
             for (int s = 0; s < slices; s++) {
-                for (int c = 0; c < columns; c++) {
-                    int idx2 = 2 * c;
-                    for (int r = 0; r < rows; r++) {
-                        int idx4 = 2 * r;
-                        temp[idx4] = a[s][r][idx2];
-                        temp[idx4 + 1] = a[s][r][idx2 + 1];
-                    }
-                    fftRows.complexForward(temp);
-                    for (int r = 0; r < rows; r++) {
-                        int idx4 = 2 * r;
-                        a[s][r][idx2] = temp[idx4];
-                        a[s][r][idx2 + 1] = temp[idx4 + 1];
-                    }
-                }
+                complexPanels(fftRows, a[s], true, false, panel, ws);
             }
 
-            temp = new double[2 * slices];
+            panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * slices];
+            ws = fftSlices.createWorkspace();
+            double[][] view = new double[slices][];
 
             for (int r = 0; r < ldimn2; r++) {
-                for (int c = 0; c < columns; c++) {
-                    int idx1 = 2 * c;
-                    for (int s = 0; s < slices; s++) {
-                        int idx2 = 2 * s;
-                        temp[idx2] = a[s][r][idx1];
-                        temp[idx2 + 1] = a[s][r][idx1 + 1];
-                    }
-                    fftSlices.complexForward(temp);
-                    for (int s = 0; s < slices; s++) {
-                        int idx2 = 2 * s;
-                        a[s][r][idx1] = temp[idx2];
-                        a[s][r][idx1 + 1] = temp[idx2 + 1];
-                    }
+                for (int s = 0; s < slices; s++) {
+                    view[s] = a[s][r];
                 }
+                complexPanels(fftSlices, view, true, false, panel, ws);
             }
 
             for (int s = 0; s < slices; s++) {
@@ -1604,7 +1721,6 @@ public class DoubleFFT_3D {
     }
 
     private void mixedRadixRealInverseFull(final double[][][] a, final boolean scale) {
-        double[] temp = new double[2 * rows];
         int ldimn2 = rows / 2 + 1;
         final int newn3 = 2 * columns;
         final int n2d2;
@@ -1614,17 +1730,15 @@ public class DoubleFFT_3D {
             n2d2 = (rows + 1) / 2;
         }
 
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
-        if ((nthreads > 1) && useThreads && (slices >= nthreads) && (columns >= nthreads) && (ldimn2 >= nthreads)) {
+        int nthreads = context.getNumberOfThreads();
+        if ((nthreads > 1) && useThreads) {
             Future<?>[] futures = new Future[nthreads];
-            int p = slices / nthreads;
+            final IndexRange sliceRange = new IndexRange(0, slices, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstSlice = l * p;
-                final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        for (int s = firstSlice; s < lastSlice; s++) {
+                        IndexRange.Cursor cursor = sliceRange.cursor();
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             for (int r = 0; r < rows; r++) {
                                 fftColumns.realInverseFull(a[s][r], scale);
                             }
@@ -1634,72 +1748,48 @@ public class DoubleFFT_3D {
             }
             ConcurrencyUtils.waitForCompletion(futures);
 
+            final IndexRange sliceRange2 = new IndexRange(0, slices, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstSlice = l * p;
-                final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        double[] temp = new double[2 * rows];
+                        double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * rows];
+                        DoubleFFT_1D.Workspace ws = fftRows.createWorkspace();
 
-                        for (int s = firstSlice; s < lastSlice; s++) {
-                            for (int c = 0; c < columns; c++) {
-                                int idx2 = 2 * c;
-                                for (int r = 0; r < rows; r++) {
-                                    int idx4 = 2 * r;
-                                    temp[idx4] = a[s][r][idx2];
-                                    temp[idx4 + 1] = a[s][r][idx2 + 1];
-                                }
-                                fftRows.complexInverse(temp, scale);
-                                for (int r = 0; r < rows; r++) {
-                                    int idx4 = 2 * r;
-                                    a[s][r][idx2] = temp[idx4];
-                                    a[s][r][idx2 + 1] = temp[idx4 + 1];
-                                }
-                            }
+                        IndexRange.Cursor cursor = sliceRange2.cursor();
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
+                            complexPanels(fftRows, a[s], false, scale, panel, ws);
                         }
                     }
                 });
             }
             ConcurrencyUtils.waitForCompletion(futures);
 
-            p = ldimn2 / nthreads;
+            final IndexRange rowRange = new IndexRange(0, ldimn2, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstRow = l * p;
-                final int lastRow = (l == (nthreads - 1)) ? ldimn2 : firstRow + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        double[] temp = new double[2 * slices];
-
-                        for (int r = firstRow; r < lastRow; r++) {
-                            for (int c = 0; c < columns; c++) {
-                                int idx1 = 2 * c;
-                                for (int s = 0; s < slices; s++) {
-                                    int idx2 = 2 * s;
-                                    temp[idx2] = a[s][r][idx1];
-                                    temp[idx2 + 1] = a[s][r][idx1 + 1];
-                                }
-                                fftSlices.complexInverse(temp, scale);
-                                for (int s = 0; s < slices; s++) {
-                                    int idx2 = 2 * s;
-                                    a[s][r][idx1] = temp[idx2];
-                                    a[s][r][idx1 + 1] = temp[idx2 + 1];
-                                }
+                        double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * slices];
+                        DoubleFFT_1D.Workspace ws = fftSlices.createWorkspace();
+                        double[][] view = new double[slices][];
+
+                        IndexRange.Cursor cursor = rowRange.cursor();
+                        for (int r = cursor.next(); r >= 0; r = cursor.next()) {
+                            for (int s = 0; s < slices; s++) {
+                                view[s] = a[s][r];
                             }
+                            complexPanels(fftSlices, view, false, scale, panel, ws);
                         }
                     }
                 });
             }
             ConcurrencyUtils.waitForCompletion(futures);
-            p = slices / nthreads;
+            final IndexRange sliceRange3 = new IndexRange(0, slices, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstSlice = l * p;
-                final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
 
-                        for (int s = firstSlice; s < lastSlice; s++) {
+                        IndexRange.Cursor cursor = sliceRange3.cursor();
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             int idx2 = (slices - s) % slices;
                             for (int r = 1; r < n2d2; r++) {
                                 int idx4 = rows - r;
@@ -1716,7 +1806,8 @@ public class DoubleFFT_3D {
             }
             ConcurrencyUtils.waitForCompletion(futures);
         } else {
-
+            double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * rows];
+            DoubleFFT_1D.Workspace ws = fftRows.createWorkspace();
             for (int s = 0; s < slices; s++) {
                 for (int r = 0; r < rows; r++) {
                     fftColumns.realInverseFull(a[s][r], scale);
@@ -1724,39 +1815,18 @@ public class DoubleFFT_3D {
             }
 
             for (int s = 0; s < slices; s++) {
-                for (int c = 0; c < columns; c++) {
-                    int idx2 = 2 * c;
-                    for (int r = 0; r < rows; r++) {
-                        int idx4 = 2 * r;
-                        temp[idx4] = a[s][r][idx2];
-                        temp[idx4 + 1] = a[s][r][idx2 + 1];
-                    }
-                    fftRows.complexInverse(temp, scale);
-                    for (int r = 0; r < rows; r++) {
-                        int idx4 = 2 * r;
-                        a[s][r][idx2] = temp[idx4];
-                        a[s][r][idx2 + 1] = temp[idx4 + 1];
-                    }
-                }
+                complexPanels(fftRows, a[s], false, scale, panel, ws);
             }
 
-            temp = new double[2 * slices];
+            panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * slices];
+            ws = fftSlices.createWorkspace();
+            double[][] view = new double[slices][];
 
             for (int r = 0; r < ldimn2; r++) {
-                for (int c = 0; c < columns; c++) {
-                    int idx1 = 2 * c;
-                    for (int s = 0; s < slices; s++) {
-                        int idx2 = 2 * s;
-                        temp[idx2] = a[s][r][idx1];
-                        temp[idx2 + 1] = a[s][r][idx1 + 1];
-                    }
-                    fftSlices.complexInverse(temp, scale);
-                    for (int s = 0; s < slices; s++) {
-                        int idx2 = 2 * s;
-                        a[s][r][idx1] = temp[idx2];
-                        a[s][r][idx1 + 1] = temp[idx2 + 1];
-                    }
+                for (int s = 0; s < slices; s++) {
+                    view[s] = a[s][r];
                 }
+                complexPanels(fftSlices, view, false, scale, panel, ws);
             }
 
             for (int s = 0; s < slices; s++) {
@@ -1789,17 +1859,16 @@ public class DoubleFFT_3D {
         final int twoSliceStride = 2 * sliceStride;
         final int twoRowStride = 2 * rowStride;
         int n1d2 = slices / 2;
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
-        if ((nthreads > 1) && useThreads && (n1d2 >= nthreads) && (columns >= nthreads) && (ldimn2 >= nthreads)) {
+        int nthreads = context.getNumberOfThreads();
+        if ((nthreads > 1) && useThreads) {
             Future<?>[] futures = new Future[nthreads];
-            int p = n1d2 / nthreads;
+            final IndexRange upperSliceRange = new IndexRange(n1d2 + 1, slices, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstSlice = slices - 1 - l * p;
-                final int lastSlice = (l == (nthreads - 1)) ? n1d2 + 1 : firstSlice - p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
                         double[] temp = new double[twon3];
-                        for (int s = firstSlice; s >= lastSlice; s--) {
+                        IndexRange.Cursor cursor = upperSliceRange.cursor();
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             int idx1 = s * sliceStride;
                             int idx2 = s * twoSliceStride;
                             for (int r = rows - 1; r >= 0; r--) {
@@ -1815,12 +1884,12 @@ public class DoubleFFT_3D {
 
             final double[][][] temp2 = new double[n1d2 + 1][rows][twon3];
 
+            final IndexRange sliceRange = new IndexRange(0, n1d2 + 1, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstSlice = l * p;
-                final int lastSlice = (l == (nthreads - 1)) ? n1d2 + 1 : firstSlice + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        for (int s = firstSlice; s < lastSlice; s++) {
+                        IndexRange.Cursor cursor = sliceRange.cursor();
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             int idx1 = s * sliceStride;
                             for (int r = 0; r < rows; r++) {
                                 System.arraycopy(a, idx1 + r * rowStride, temp2[s][r], 0, columns);
@@ -1832,12 +1901,12 @@ public class DoubleFFT_3D {
             }
             ConcurrencyUtils.waitForCompletion(futures);
 
+            final IndexRange sliceRange2 = new IndexRange(0, n1d2 + 1, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstSlice = l * p;
-                final int lastSlice = (l == (nthreads - 1)) ? n1d2 + 1 : firstSlice + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        for (int s = firstSlice; s < lastSlice; s++) {
+                        IndexRange.Cursor cursor = sliceRange2.cursor();
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             int idx1 = s * twoSliceStride;
                             for (int r = 0; r < rows; r++) {
                                 System.arraycopy(temp2[s][r], 0, a, idx1 + r * twoRowStride, twon3);
@@ -1848,77 +1917,46 @@ public class DoubleFFT_3D {
             }
             ConcurrencyUtils.waitForCompletion(futures);
 
-            p = slices / nthreads;
+            final IndexRange sliceRange3 = new IndexRange(0, slices, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstSlice = l * p;
-                final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        double[] temp = new double[2 * rows];
+                        double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * rows];
+                        DoubleFFT_1D.Workspace ws = fftRows.createWorkspace();
 
-                        for (int s = firstSlice; s < lastSlice; s++) {
+                        IndexRange.Cursor cursor = sliceRange3.cursor();
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             int idx1 = s * twoSliceStride;
-                            for (int c = 0; c < columns; c++) {
-                                int idx2 = 2 * c;
-                                for (int r = 0; r < rows; r++) {
-                                    int idx3 = idx1 + r * twoRowStride + idx2;
-                                    int idx4 = 2 * r;
-                                    temp[idx4] = a[idx3];
-                                    temp[idx4 + 1] = a[idx3 + 1];
-                                }
-                                fftRows.complexForward(temp);
-                                for (int r = 0; r < rows; r++) {
-                                    int idx3 = idx1 + r * twoRowStride + idx2;
-                                    int idx4 = 2 * r;
-                                    a[idx3] = temp[idx4];
-                                    a[idx3 + 1] = temp[idx4 + 1];
-                                }
-                            }
+                            complexPanels(fftRows, a, idx1, twoRowStride, true, false, panel, ws);
                         }
                     }
                 });
             }
             ConcurrencyUtils.waitForCompletion(futures);
 
-            p = ldimn2 / nthreads;
+            final IndexRange rowRange = new IndexRange(0, ldimn2, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstRow = l * p;
-                final int lastRow = (l == (nthreads - 1)) ? ldimn2 : firstRow + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        double[] temp = new double[2 * slices];
+                        double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * slices];
+                        DoubleFFT_1D.Workspace ws = fftSlices.createWorkspace();
 
-                        for (int r = firstRow; r < lastRow; r++) {
+                        IndexRange.Cursor cursor = rowRange.cursor();
+                        for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                             int idx3 = r * twoRowStride;
-                            for (int c = 0; c < columns; c++) {
-                                int idx1 = 2 * c;
-                                for (int s = 0; s < slices; s++) {
-                                    int idx2 = 2 * s;
-                                    int idx4 = s * twoSliceStride + idx3 + idx1;
-                                    temp[idx2] = a[idx4];
-                                    temp[idx2 + 1] = a[idx4 + 1];
-                                }
-                                fftSlices.complexForward(temp);
-                                for (int s = 0; s < slices; s++) {
-                                    int idx2 = 2 * s;
-                                    int idx4 = s * twoSliceStride + idx3 + idx1;
-                                    a[idx4] = temp[idx2];
-                                    a[idx4 + 1] = temp[idx2 + 1];
-                                }
-                            }
+                            complexPanels(fftSlices, a, idx3, twoSliceStride, true, false, panel, ws);
                         }
                     }
                 });
             }
             ConcurrencyUtils.waitForCompletion(futures);
-            p = slices / nthreads;
+            final IndexRange sliceRange4 = new IndexRange(0, slices, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstSlice = l * p;
-                final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
 
-                        for (int s = firstSlice; s < lastSlice; s++) {
+                        IndexRange.Cursor cursor = sliceRange4.cursor();
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             int idx2 = (slices - s) % slices;
                             int idx5 = idx2 * twoSliceStride;
                             int idx6 = s * twoSliceStride;
@@ -1952,48 +1990,20 @@ public class DoubleFFT_3D {
                 }
             }
 
-            temp = new double[2 * rows];
+            double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * rows];
+            DoubleFFT_1D.Workspace ws = fftRows.createWorkspace();
 
             for (int s = 0; s < slices; s++) {
                 int idx1 = s * twoSliceStride;
-                for (int c = 0; c < columns; c++) {
-                    int idx2 = 2 * c;
-                    for (int r = 0; r < rows; r++) {
-                        int idx4 = 2 * r;
-                        int idx3 = idx1 + r * twoRowStride + idx2;
-                        temp[idx4] = a[idx3];
-                        temp[idx4 + 1] = a[idx3 + 1];
-                    }
-                    fftRows.complexForward(temp);
-                    for (int r = 0; r < rows; r++) {
-                        int idx4 = 2 * r;
-                        int idx3 = idx1 + r * twoRowStride + idx2;
-                        a[idx3] = temp[idx4];
-                        a[idx3 + 1] = temp[idx4 + 1];
-                    }
-                }
+                complexPanels(fftRows, a, idx1, twoRowStride, true, false, panel, ws);
             }
 
-            temp = new double[2 * slices];
+            panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * slices];
+            ws = fftSlices.createWorkspace();
 
             for (int r = 0; r < ldimn2; r++) {
                 int idx3 = r * twoRowStride;
-                for (int c = 0; c < columns; c++) {
-                    int idx1 = 2 * c;
-                    for (int s = 0; s < slices; s++) {
-                        int idx2 = 2 * s;
-                        int idx4 = s * twoSliceStride + idx3 + idx1;
-                        temp[idx2] = a[idx4];
-                        temp[idx2 + 1] = a[idx4 + 1];
-                    }
-                    fftSlices.complexForward(temp);
-                    for (int s = 0; s < slices; s++) {
-                        int idx2 = 2 * s;
-                        int idx4 = s * twoSliceStride + idx3 + idx1;
-                        a[idx4] = temp[idx2];
-                        a[idx4 + 1] = temp[idx2 + 1];
-                    }
-                }
+                complexPanels(fftSlices, a, idx3, twoSliceStride, true, false, panel, ws);
             }
 
             for (int s = 0; s < slices; s++) {
@@ -2033,17 +2043,16 @@ public class DoubleFFT_3D {
         final int twoRowStride = 2 * rowStride;
         int n1d2 = slices / 2;
 
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
-        if ((nthreads > 1) && useThreads && (n1d2 >= nthreads) && (columns >= nthreads) && (ldimn2 >= nthreads)) {
+        int nthreads = context.getNumberOfThreads();
+        if ((nthreads > 1) && useThreads) {
             Future<?>[] futures = new Future[nthreads];
-            int p = n1d2 / nthreads;
+            final IndexRange upperSliceRange = new IndexRange(n1d2 + 1, slices, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstSlice = slices - 1 - l * p;
-                final int lastSlice = (l == (nthreads - 1)) ? n1d2 + 1 : firstSlice - p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
                         double[] temp = new double[twon3];
-                        for (int s = firstSlice; s >= lastSlice; s--) {
+                        IndexRange.Cursor cursor = upperSliceRange.cursor();
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             int idx1 = s * sliceStride;
                             int idx2 = s * twoSliceStride;
                             for (int r = rows - 1; r >= 0; r--) {
@@ -2059,12 +2068,12 @@ public class DoubleFFT_3D {
 
             final double[][][] temp2 = new double[n1d2 + 1][rows][twon3];
 
+            final IndexRange sliceRange = new IndexRange(0, n1d2 + 1, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstSlice = l * p;
-                final int lastSlice = (l == (nthreads - 1)) ? n1d2 + 1 : firstSlice + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        for (int s = firstSlice; s < lastSlice; s++) {
+                        IndexRange.Cursor cursor = sliceRange.cursor();
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             int idx1 = s * sliceStride;
                             for (int r = 0; r < rows; r++) {
                                 System.arraycopy(a, idx1 + r * rowStride, temp2[s][r], 0, columns);
@@ -2076,12 +2085,12 @@ public class DoubleFFT_3D {
             }
             ConcurrencyUtils.waitForCompletion(futures);
 
+            final IndexRange sliceRange2 = new IndexRange(0, n1d2 + 1, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstSlice = l * p;
-                final int lastSlice = (l == (nthreads - 1)) ? n1d2 + 1 : firstSlice + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        for (int s = firstSlice; s < lastSlice; s++) {
+                        IndexRange.Cursor cursor = sliceRange2.cursor();
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             int idx1 = s * twoSliceStride;
                             for (int r = 0; r < rows; r++) {
                                 System.arraycopy(temp2[s][r], 0, a, idx1 + r * twoRowStride, twon3);
@@ -2092,78 +2101,47 @@ public class DoubleFFT_3D {
             }
             ConcurrencyUtils.waitForCompletion(futures);
 
-            p = slices / nthreads;
+            final IndexRange sliceRange3 = new IndexRange(0, slices, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstSlice = l * p;
-                final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        double[] temp = new double[2 * rows];
+                        double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * rows];
+                        DoubleFFT_1D.Workspace ws = fftRows.createWorkspace();
 
-                        for (int s = firstSlice; s < lastSlice; s++) {
+                        IndexRange.Cursor cursor = sliceRange3.cursor();
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             int idx1 = s * twoSliceStride;
-                            for (int c = 0; c < columns; c++) {
-                                int idx2 = 2 * c;
-                                for (int r = 0; r < rows; r++) {
-                                    int idx3 = idx1 + r * twoRowStride + idx2;
-                                    int idx4 = 2 * r;
-                                    temp[idx4] = a[idx3];
-                                    temp[idx4 + 1] = a[idx3 + 1];
-                                }
-                                fftRows.complexInverse(temp, scale);
-                                for (int r = 0; r < rows; r++) {
-                                    int idx3 = idx1 + r * twoRowStride + idx2;
-                                    int idx4 = 2 * r;
-                                    a[idx3] = temp[idx4];
-                                    a[idx3 + 1] = temp[idx4 + 1];
-                                }
-                            }
+                            complexPanels(fftRows, a, idx1, twoRowStride, false, scale, panel, ws);
                         }
                     }
                 });
             }
             ConcurrencyUtils.waitForCompletion(futures);
 
-            p = ldimn2 / nthreads;
+            final IndexRange rowRange = new IndexRange(0, ldimn2, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstRow = l * p;
-                final int lastRow = (l == (nthreads - 1)) ? ldimn2 : firstRow + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        double[] temp = new double[2 * slices];
+                        double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * slices];
+                        DoubleFFT_1D.Workspace ws = fftSlices.createWorkspace();
 
-                        for (int r = firstRow; r < lastRow; r++) {
+                        IndexRange.Cursor cursor = rowRange.cursor();
+                        for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                             int idx3 = r * twoRowStride;
-                            for (int c = 0; c < columns; c++) {
-                                int idx1 = 2 * c;
-                                for (int s = 0; s < slices; s++) {
-                                    int idx2 = 2 * s;
-                                    int idx4 = s * twoSliceStride + idx3 + idx1;
-                                    temp[idx2] = a[idx4];
-                                    temp[idx2 + 1] = a[idx4 + 1];
-                                }
-                                fftSlices.complexInverse(temp, scale);
-                                for (int s = 0; s < slices; s++) {
-                                    int idx2 = 2 * s;
-                                    int idx4 = s * twoSliceStride + idx3 + idx1;
-                                    a[idx4] = temp[idx2];
-                                    a[idx4 + 1] = temp[idx2 + 1];
-                                }
-                            }
+                            complexPanels(fftSlices, a, idx3, twoSliceStride, false, scale, panel, ws);
                         }
                     }
                 });
             }
             ConcurrencyUtils.waitForCompletion(futures);
 
-            p = slices / nthreads;
+            final IndexRange sliceRange4 = new IndexRange(0, slices, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstSlice = l * p;
-                final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
 
-                        for (int s = firstSlice; s < lastSlice; s++) {
+                        IndexRange.Cursor cursor = sliceRange4.cursor();
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             int idx2 = (slices - s) % slices;
                             int idx5 = idx2 * twoSliceStride;
                             int idx6 = s * twoSliceStride;
@@ -2197,48 +2175,20 @@ public class DoubleFFT_3D {
                 }
             }
 
-            temp = new double[2 * rows];
+            double[] panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * rows];
+            DoubleFFT_1D.Workspace ws = fftRows.createWorkspace();
 
             for (int s = 0; s < slices; s++) {
                 int idx1 = s * twoSliceStride;
-                for (int c = 0; c < columns; c++) {
-                    int idx2 = 2 * c;
-                    for (int r = 0; r < rows; r++) {
-                        int idx4 = 2 * r;
-                        int idx3 = idx1 + r * twoRowStride + idx2;
-                        temp[idx4] = a[idx3];
-                        temp[idx4 + 1] = a[idx3 + 1];
-                    }
-                    fftRows.complexInverse(temp, scale);
-                    for (int r = 0; r < rows; r++) {
-                        int idx4 = 2 * r;
-                        int idx3 = idx1 + r * twoRowStride + idx2;
-                        a[idx3] = temp[idx4];
-                        a[idx3 + 1] = temp[idx4 + 1];
-                    }
-                }
+                complexPanels(fftRows, a, idx1, twoRowStride, false, scale, panel, ws);
             }
 
-            temp = new double[2 * slices];
+            panel = new double[DoubleFFT_1D.PANEL_SIZE * 2 * slices];
+            ws = fftSlices.createWorkspace();
 
             for (int r = 0; r < ldimn2; r++) {
                 int idx3 = r * twoRowStride;
-                for (int c = 0; c < columns; c++) {
-                    int idx1 = 2 * c;
-                    for (int s = 0; s < slices; s++) {
-                        int idx2 = 2 * s;
-                        int idx4 = s * twoSliceStride + idx3 + idx1;
-                        temp[idx2] = a[idx4];
-                        temp[idx2 + 1] = a[idx4 + 1];
-                    }
-                    fftSlices.complexInverse(temp, scale);
-                    for (int s = 0; s < slices; s++) {
-                        int idx2 = 2 * s;
-                        int idx4 = s * twoSliceStride + idx3 + idx1;
-                        a[idx4] = temp[idx2];
-                        a[idx4 + 1] = temp[idx2 + 1];
-                    }
-                }
+                complexPanels(fftSlices, a, idx3, twoSliceStride, false, scale, panel, ws);
             }
 
             for (int s = 0; s < slices; s++) {
@@ -2263,7 +2213,7 @@ public class DoubleFFT_3D {
         }
     }
 
-    private void xdft3da_sub1(int icr, int isgn, double[] a, boolean scale) {
+    private void xdft3da_sub1(int icr, int isgn, double[] a, boolean scale, final double[] t) {
         int idx0, idx1, idx2, idx3, idx4, idx5;
 
         if (isgn == -1) {
@@ -2442,7 +2392,7 @@ public class DoubleFFT_3D {
         }
     }
 
-    private void xdft3da_sub2(int icr, int isgn, double[] a, boolean scale) {
+    private void xdft3da_sub2(int icr, int isgn, double[] a, boolean scale, final int columns, final int rowStride, final int sliceStride, final double[] t) {
         int idx0, idx1, idx2, idx3, idx4, idx5;
 
         if (isgn == -1) {
@@ -2620,7 +2570,7 @@ public class DoubleFFT_3D {
         }
     }
 
-    private void xdft3da_sub1(int icr, int isgn, double[][][] a, boolean scale) {
+    private void xdft3da_sub1(int icr, int isgn, double[][][] a, boolean scale, final double[] t) {
         int idx2, idx3, idx4, idx5;
 
         if (isgn == -1) {
@@ -2785,7 +2735,7 @@ public class DoubleFFT_3D {
         }
     }
 
-    private void xdft3da_sub2(int icr, int isgn, double[][][] a, boolean scale) {
+    private void xdft3da_sub2(int icr, int isgn, double[][][] a, boolean scale, final int columns, final double[] t) {
         int idx2, idx3, idx4, idx5;
 
         if (isgn == -1) {
@@ -2949,7 +2899,7 @@ public class DoubleFFT_3D {
         }
     }
 
-    private void cdft3db_sub(int isgn, double[] a, boolean scale) {
+    private void cdft3db_sub(int isgn, double[] a, boolean scale, final int columns, final int rowStride, final int sliceStride, final double[] t) {
         int idx0, idx1, idx2, idx3, idx4, idx5;
 
         if (isgn == -1) {
@@ -3121,7 +3071,7 @@ public class DoubleFFT_3D {
         }
     }
 
-    private void cdft3db_sub(int isgn, double[][][] a, boolean scale) {
+    private void cdft3db_sub(int isgn, double[][][] a, boolean scale, final int columns, final double[] t) {
         int idx2, idx3, idx4, idx5;
 
         if (isgn == -1) {
@@ -3275,9 +3225,9 @@ public class DoubleFFT_3D {
         }
     }
 
-    private void xdft3da_subth1(final int icr, final int isgn, final double[] a, final boolean scale) {
+    private void xdft3da_subth1(final int icr, final int isgn, final double[] a, final boolean scale, final double[] t) {
         int nt, i;
-        final int nthreads = Math.min(ConcurrencyUtils.getNumberOfThreads(), slices);
+        final int nthreads = Math.min(context.getNumberOfThreads(), slices);
         nt = 8 * rows;
         if (columns == 4) {
             nt >>= 1;
@@ -3285,15 +3235,16 @@ public class DoubleFFT_3D {
             nt >>= 2;
         }
         Future<?>[] futures = new Future[nthreads];
+        final IndexRange sliceRange = new IndexRange(0, slices, nthreads);
         for (i = 0; i < nthreads; i++) {
-            final int n0 = i;
             final int startt = nt * i;
-            futures[i] = ConcurrencyUtils.submit(new Runnable() {
+            futures[i] = context.submit(new Runnable() {
                 public void run() {
                     int idx0, idx1, idx2, idx3, idx4, idx5;
+                    IndexRange.Cursor cursor = sliceRange.cursor();
 
                     if (isgn == -1) {
-                        for (int s = n0; s < slices; s += nthreads) {
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             idx0 = s * sliceStride;
                             if (icr == 0) {
                                 for (int r = 0; r < rows; r++) {
@@ -3380,7 +3331,7 @@ public class DoubleFFT_3D {
 
                         }
                     } else {
-                        for (int s = n0; s < slices; s += nthreads) {
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             idx0 = s * sliceStride;
                             if (icr == 0) {
                                 for (int r = 0; r < rows; r++) {
@@ -3474,10 +3425,10 @@ public class DoubleFFT_3D {
         ConcurrencyUtils.waitForCompletion(futures);
     }
 
-    private void xdft3da_subth2(final int icr, final int isgn, final double[] a, final boolean scale) {
+    private void xdft3da_subth2(final int icr, final int isgn, final double[] a, final boolean scale, final int columns, final int rowStride, final int sliceStride, final double[] t) {
         int nt, i;
 
-        final int nthreads = Math.min(ConcurrencyUtils.getNumberOfThreads(), slices);
+        final int nthreads = Math.min(context.getNumberOfThreads(), slices);
         nt = 8 * rows;
         if (columns == 4) {
             nt >>= 1;
@@ -3485,15 +3436,16 @@ public class DoubleFFT_3D {
             nt >>= 2;
         }
         Future<?>[] futures = new Future[nthreads];
+        final IndexRange sliceRange = new IndexRange(0, slices, nthreads);
         for (i = 0; i < nthreads; i++) {
-            final int n0 = i;
             final int startt = nt * i;
-            futures[i] = ConcurrencyUtils.submit(new Runnable() {
+            futures[i] = context.submit(new Runnable() {
                 public void run() {
                     int idx0, idx1, idx2, idx3, idx4, idx5;
+                    IndexRange.Cursor cursor = sliceRange.cursor();
 
                     if (isgn == -1) {
-                        for (int s = n0; s < slices; s += nthreads) {
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             idx0 = s * sliceStride;
                             if (icr == 0) {
                                 for (int r = 0; r < rows; r++) {
@@ -3580,7 +3532,7 @@ public class DoubleFFT_3D {
 
                         }
                     } else {
-                        for (int s = n0; s < slices; s += nthreads) {
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             idx0 = s * sliceStride;
                             if (icr == 0) {
                                 for (int r = 0; r < rows; r++) {
@@ -3672,10 +3624,10 @@ public class DoubleFFT_3D {
         ConcurrencyUtils.waitForCompletion(futures);
     }
 
-    private void xdft3da_subth1(final int icr, final int isgn, final double[][][] a, final boolean scale) {
+    private void xdft3da_subth1(final int icr, final int isgn, final double[][][] a, final boolean scale, final double[] t) {
         int nt, i;
 
-        final int nthreads = Math.min(ConcurrencyUtils.getNumberOfThreads(), slices);
+        final int nthreads = Math.min(context.getNumberOfThreads(), slices);
         nt = 8 * rows;
         if (columns == 4) {
             nt >>= 1;
@@ -3683,15 +3635,16 @@ public class DoubleFFT_3D {
             nt >>= 2;
         }
         Future<?>[] futures = new Future[nthreads];
+        final IndexRange sliceRange = new IndexRange(0, slices, nthreads);
         for (i = 0; i < nthreads; i++) {
-            final int n0 = i;
             final int startt = nt * i;
-            futures[i] = ConcurrencyUtils.submit(new Runnable() {
+            futures[i] = context.submit(new Runnable() {
                 public void run() {
                     int idx2, idx3, idx4, idx5;
+                    IndexRange.Cursor cursor = sliceRange.cursor();
 
                     if (isgn == -1) {
-                        for (int s = n0; s < slices; s += nthreads) {
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             if (icr == 0) {
                                 for (int r = 0; r < rows; r++) {
                                     fftColumns.complexForward(a[s][r]);
@@ -3771,7 +3724,7 @@ public class DoubleFFT_3D {
 
                         }
                     } else {
-                        for (int s = n0; s < slices; s += nthreads) {
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             if (icr == 0) {
                                 for (int r = 0; r < rows; r++) {
                                     fftColumns.complexInverse(a[s][r], scale);
@@ -3857,10 +3810,10 @@ public class DoubleFFT_3D {
         ConcurrencyUtils.waitForCompletion(futures);
     }
 
-    private void xdft3da_subth2(final int icr, final int isgn, final double[][][] a, final boolean scale) {
+    private void xdft3da_subth2(final int icr, final int isgn, final double[][][] a, final boolean scale, final int columns, final double[] t) {
         int nt, i;
 
-        final int nthreads = Math.min(ConcurrencyUtils.getNumberOfThreads(), slices);
+        final int nthreads = Math.min(context.getNumberOfThreads(), slices);
         nt = 8 * rows;
         if (columns == 4) {
             nt >>= 1;
@@ -3868,15 +3821,16 @@ public class DoubleFFT_3D {
             nt >>= 2;
         }
         Future<?>[] futures = new Future[nthreads];
+        final IndexRange sliceRange = new IndexRange(0, slices, nthreads);
         for (i = 0; i < nthreads; i++) {
-            final int n0 = i;
             final int startt = nt * i;
-            futures[i] = ConcurrencyUtils.submit(new Runnable() {
+            futures[i] = context.submit(new Runnable() {
                 public void run() {
                     int idx2, idx3, idx4, idx5;
+                    IndexRange.Cursor cursor = sliceRange.cursor();
 
                     if (isgn == -1) {
-                        for (int s = n0; s < slices; s += nthreads) {
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             if (icr == 0) {
                                 for (int r = 0; r < rows; r++) {
                                     fftColumns.complexForward(a[s][r]);
@@ -3956,7 +3910,7 @@ public class DoubleFFT_3D {
 
                         }
                     } else {
-                        for (int s = n0; s < slices; s += nthreads) {
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             if (icr == 0) {
                                 for (int r = 0; r < rows; r++) {
                                     fftColumns.complexInverse(a[s][r], scale);
@@ -4041,10 +3995,10 @@ public class DoubleFFT_3D {
         ConcurrencyUtils.waitForCompletion(futures);
     }
 
-    private void cdft3db_subth(final int isgn, final double[] a, final boolean scale) {
+    private void cdft3db_subth(final int isgn, final double[] a, final boolean scale, final int columns, final int rowStride, final int sliceStride, final double[] t) {
         int nt, i;
 
-        final int nthreads = Math.min(ConcurrencyUtils.getNumberOfThreads(), rows);
+        final int nthreads = Math.min(context.getNumberOfThreads(), rows);
         nt = 8 * slices;
         if (columns == 4) {
             nt >>= 1;
@@ -4052,17 +4006,18 @@ public class DoubleFFT_3D {
             nt >>= 2;
         }
         Future<?>[] futures = new Future[nthreads];
+        final IndexRange rowRange = new IndexRange(0, rows, nthreads);
         for (i = 0; i < nthreads; i++) {
-            final int n0 = i;
             final int startt = nt * i;
-            futures[i] = ConcurrencyUtils.submit(new Runnable() {
+            futures[i] = context.submit(new Runnable() {
 
                 public void run() {
                     int idx0, idx1, idx2, idx3, idx4, idx5;
+                    IndexRange.Cursor cursor = rowRange.cursor();
 
                     if (isgn == -1) {
                         if (columns > 4) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 idx0 = r * rowStride;
                                 for (int c = 0; c < columns; c += 8) {
                                     for (int s = 0; s < slices; s++) {
@@ -4102,7 +4057,7 @@ public class DoubleFFT_3D {
                                 }
                             }
                         } else if (columns == 4) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 idx0 = r * rowStride;
                                 for (int s = 0; s < slices; s++) {
                                     idx1 = s * sliceStride + idx0;
@@ -4126,7 +4081,7 @@ public class DoubleFFT_3D {
                                 }
                             }
                         } else if (columns == 2) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 idx0 = r * rowStride;
                                 for (int s = 0; s < slices; s++) {
                                     idx1 = s * sliceStride + idx0;
@@ -4145,7 +4100,7 @@ public class DoubleFFT_3D {
                         }
                     } else {
                         if (columns > 4) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 idx0 = r * rowStride;
                                 for (int c = 0; c < columns; c += 8) {
                                     for (int s = 0; s < slices; s++) {
@@ -4185,7 +4140,7 @@ public class DoubleFFT_3D {
                                 }
                             }
                         } else if (columns == 4) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 idx0 = r * rowStride;
                                 for (int s = 0; s < slices; s++) {
                                     idx1 = s * sliceStride + idx0;
@@ -4209,7 +4164,7 @@ public class DoubleFFT_3D {
                                 }
                             }
                         } else if (columns == 2) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 idx0 = r * rowStride;
                                 for (int s = 0; s < slices; s++) {
                                     idx1 = s * sliceStride + idx0;
@@ -4234,10 +4189,10 @@ public class DoubleFFT_3D {
         ConcurrencyUtils.waitForCompletion(futures);
     }
 
-    private void cdft3db_subth(final int isgn, final double[][][] a, final boolean scale) {
+    private void cdft3db_subth(final int isgn, final double[][][] a, final boolean scale, final int columns, final double[] t) {
         int nt, i;
 
-        final int nthreads = Math.min(ConcurrencyUtils.getNumberOfThreads(), rows);
+        final int nthreads = Math.min(context.getNumberOfThreads(), rows);
         nt = 8 * slices;
         if (columns == 4) {
             nt >>= 1;
@@ -4245,17 +4200,18 @@ public class DoubleFFT_3D {
             nt >>= 2;
         }
         Future<?>[] futures = new Future[nthreads];
+        final IndexRange rowRange = new IndexRange(0, rows, nthreads);
         for (i = 0; i < nthreads; i++) {
-            final int n0 = i;
             final int startt = nt * i;
-            futures[i] = ConcurrencyUtils.submit(new Runnable() {
+            futures[i] = context.submit(new Runnable() {
 
                 public void run() {
                     int idx2, idx3, idx4, idx5;
+                    IndexRange.Cursor cursor = rowRange.cursor();
 
                     if (isgn == -1) {
                         if (columns > 4) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 for (int c = 0; c < columns; c += 8) {
                                     for (int s = 0; s < slices; s++) {
                                         idx2 = startt + 2 * s;
@@ -4292,7 +4248,7 @@ public class DoubleFFT_3D {
                                 }
                             }
                         } else if (columns == 4) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 for (int s = 0; s < slices; s++) {
                                     idx2 = startt + 2 * s;
                                     idx3 = startt + 2 * slices + 2 * s;
@@ -4313,7 +4269,7 @@ public class DoubleFFT_3D {
                                 }
                             }
                         } else if (columns == 2) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 for (int s = 0; s < slices; s++) {
                                     idx2 = startt + 2 * s;
                                     t[idx2] = a[s][r][0];
@@ -4329,7 +4285,7 @@ public class DoubleFFT_3D {
                         }
                     } else {
                         if (columns > 4) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 for (int c = 0; c < columns; c += 8) {
                                     for (int s = 0; s < slices; s++) {
                                         idx2 = startt + 2 * s;
@@ -4366,7 +4322,7 @@ public class DoubleFFT_3D {
                                 }
                             }
                         } else if (columns == 4) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 for (int s = 0; s < slices; s++) {
                                     idx2 = startt + 2 * s;
                                     idx3 = startt + 2 * slices + 2 * s;
@@ -4387,7 +4343,7 @@ public class DoubleFFT_3D {
                                 }
                             }
                         } else if (columns == 2) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 for (int s = 0; s < slices; s++) {
                                     idx2 = startt + 2 * s;
                                     t[idx2] = a[s][r][0];
@@ -4615,16 +4571,15 @@ public class DoubleFFT_3D {
         final int twon3 = 2 * columns;
         final int n2d2 = rows / 2;
         int n1d2 = slices / 2;
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
-        if ((nthreads > 1) && useThreads && (slices >= nthreads)) {
+        int nthreads = context.getNumberOfThreads();
+        if ((nthreads > 1) && useThreads) {
             Future<?>[] futures = new Future[nthreads];
-            int p = slices / nthreads;
+            final IndexRange sliceRange = new IndexRange(0, slices, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstSlice = l * p;
-                final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        for (int s = firstSlice; s < lastSlice; s++) {
+                        IndexRange.Cursor cursor = sliceRange.cursor();
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             int idx1 = (slices - s) % slices;
                             for (int r = 0; r < rows; r++) {
                                 int idx2 = (rows - r) % rows;
@@ -4642,12 +4597,12 @@ public class DoubleFFT_3D {
 
             // ---------------------------------------------
 
+            final IndexRange sliceRange2 = new IndexRange(0, slices, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstSlice = l * p;
-                final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        for (int s = firstSlice; s < lastSlice; s++) {
+                        IndexRange.Cursor cursor = sliceRange2.cursor();
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             int idx1 = (slices - s) % slices;
                             for (int r = 1; r < n2d2; r++) {
                                 int idx2 = rows - r;
@@ -4662,12 +4617,12 @@ public class DoubleFFT_3D {
             }
             ConcurrencyUtils.waitForCompletion(futures);
 
+            final IndexRange sliceRange3 = new IndexRange(0, slices, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstSlice = l * p;
-                final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        for (int s = firstSlice; s < lastSlice; s++) {
+                        IndexRange.Cursor cursor = sliceRange3.cursor();
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             int idx1 = (slices - s) % slices;
                             for (int r = 1; r < n2d2; r++) {
                                 int idx2 = rows - r;
@@ -4793,16 +4748,15 @@ public class DoubleFFT_3D {
             }
         }
 
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
-        if ((nthreads > 1) && useThreads && (slices >= nthreads)) {
+        int nthreads = context.getNumberOfThreads();
+        if ((nthreads > 1) && useThreads) {
             Future<?>[] futures = new Future[nthreads];
-            int p = slices / nthreads;
+            final IndexRange sliceRange = new IndexRange(0, slices, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstSlice = l * p;
-                final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        for (int s = firstSlice; s < lastSlice; s++) {
+                        IndexRange.Cursor cursor = sliceRange.cursor();
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             int idx3 = ((slices - s) % slices) * twoSliceStride;
                             int idx5 = s * twoSliceStride;
                             for (int r = 0; r < rows; r++) {
@@ -4823,12 +4777,12 @@ public class DoubleFFT_3D {
 
             // ---------------------------------------------
 
+            final IndexRange sliceRange2 = new IndexRange(0, slices, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstSlice = l * p;
-                final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        for (int s = firstSlice; s < lastSlice; s++) {
+                        IndexRange.Cursor cursor = sliceRange2.cursor();
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             int idx5 = ((slices - s) % slices) * twoSliceStride;
                             int idx6 = s * twoSliceStride;
                             for (int r = 1; r < n2d2; r++) {
@@ -4847,12 +4801,12 @@ public class DoubleFFT_3D {
                 });
             }
             ConcurrencyUtils.waitForCompletion(futures);
+            final IndexRange sliceRange3 = new IndexRange(0, slices, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstSlice = l * p;
-                final int lastSlice = (l == (nthreads - 1)) ? slices : firstSlice + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        for (int s = firstSlice; s < lastSlice; s++) {
+                        IndexRange.Cursor cursor = sliceRange3.cursor();
+                        for (int s = cursor.next(); s >= 0; s = cursor.next()) {
                             int idx3 = ((slices - s) % slices) * twoSliceStride;
                             int idx4 = s * twoSliceStride;
                             for (int r = 1; r < n2d2; r++) {
@@ -0,0 +1,548 @@
+/* ***** BEGIN LICENSE BLOCK *****
+ * Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License
+ * for the specific language governing rights and limitations under the
+ * License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is
+ * Piotr Wendykier, Emory University.
+ * Portions created by the Initial Developer are Copyright (C) 2007-2009
+ * the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or
+ * the GNU Lesser General Public License Version 2.1 or later (the "LGPL"),
+ * in which case the provisions of the GPL or the LGPL are applicable instead
+ * of those above. If you wish to allow use of your version of this file only
+ * under the terms of either the GPL or the LGPL, and not to allow others to
+ * use your version of this file under the terms of the MPL, indicate your
+ * decision by deleting the provisions above and replace them with the notice
+ * and other provisions required by the GPL or the LGPL. If you do not delete
+ * the provisions above, a recipient may use your version of this file under
+ * the terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK ***** */
+
+package edu.emory.mathcs.jtransforms.fft;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent storage of the precomputed tables of 1D FFTs ("wisdom"). The
+ * tables of a set of sizes can be exported to a binary file once and imported
+ * at startup, so that the constructors of {@link DoubleFFT_1D} and
+ * {@link FloatFFT_1D} (and of all transforms built on top of them) do not
+ * have to compute them again. <br>
+ * <br>
+ * The file starts with a header (magic number, format version, number of
+ * entries and position of the index), followed by the tables and by the
+ * index. Each entry of the index describes the plan and the tables of one
+ * size and holds the CRC32 checksum of these tables. Importing a file only
+ * reads and validates its index; the tables themselves are mapped (read-only)
+ * when a transform of the corresponding size is created. A file with a wrong
+ * magic number, version or index checksum is ignored and tables with a wrong
+ * checksum are computed from scratch.
+ *
+ */
+public class FFTWisdom {
+
+    private static final int MAGIC = 0x4A545744; // "JTWD"
+
+    private static final int VERSION = 4;
+
+    private static final int HEADER_SIZE = 20;
+
+    private static final int ENTRY_SIZE = 88;
+
+    private static final int INT_TABLES = 4;
+
+    private static final int TABLES = 10;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final Map<String, Entry> entries = new HashMap<String, Entry>();
+
+    private static class Entry {
+        File file;
+
+        int precision;
+
+        int n;
+
+        int plan;
+
+        int nBluestein;
+
+        int nw;
+
+        int nc;
+
+        int[] lengths = new int[TABLES];
+
+        long offset;
+
+        long length;
+
+        long crc;
+    }
+
+    private FFTWisdom() {
+    }
+
+    /**
+     * Writes the tables of DoubleFFT_1D of the specified sizes to a file.
+     *
+     * @param file
+     *            wisdom file
+     * @param sizes
+     *            sizes of the transforms
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public static void exportDoubleWisdom(File file, int[] sizes) throws IOException {
+        exportWisdom(file, sizes, new int[0]);
+    }
+
+    /**
+     * Writes the tables of FloatFFT_1D of the specified sizes to a file.
+     *
+     * @param file
+     *            wisdom file
+     * @param sizes
+     *            sizes of the transforms
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public static void exportFloatWisdom(File file, int[] sizes) throws IOException {
+        exportWisdom(file, new int[0], sizes);
+    }
+
+    /**
+     * Writes the tables of DoubleFFT_1D and FloatFFT_1D of the specified sizes
+     * to a file.
+     *
+     * @param file
+     *            wisdom file
+     * @param doubleSizes
+     *            sizes of the double precision transforms
+     * @param floatSizes
+     *            sizes of the single precision transforms
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public static void exportWisdom(File file, int[] doubleSizes, int[] floatSizes) throws IOException {
+        int count = doubleSizes.length + floatSizes.length;
+        Entry[] index = new Entry[count];
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.setLength(0);
+            FileChannel channel = raf.getChannel();
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            long position = HEADER_SIZE;
+            channel.position(position);
+            for (int i = 0; i < count; i++) {
+                Entry e = new Entry();
+                CRC32 crc = new CRC32();
+                if (i < doubleSizes.length) {
+                    DoubleFFT_1D.Tables t = new DoubleFFT_1D(doubleSizes[i]).getTables();
+                    e.precision = 8;
+                    e.n = doubleSizes[i];
+                    e.plan = t.plan.ordinal();
+                    e.nBluestein = t.nBluestein;
+                    e.nw = t.nw;
+                    e.nc = t.nc;
+                    int[][] ints = { t.ip, t.raderPerm, t.pfaIn, t.pfaOut };
+                    double[][] data = { t.w, t.wtable, t.wtable_r, t.bk1, t.bk2, t.raderB };
+                    for (int j = 0; j < ints.length; j++) {
+                        e.lengths[j] = ints[j] == null ? -1 : ints[j].length;
+                        writeInts(channel, buffer, crc, ints[j]);
+                    }
+                    for (int j = 0; j < data.length; j++) {
+                        e.lengths[j + INT_TABLES] = data[j] == null ? -1 : data[j].length;
+                        writeDoubles(channel, buffer, crc, data[j]);
+                    }
+                } else {
+                    FloatFFT_1D.Tables t = new FloatFFT_1D(floatSizes[i - doubleSizes.length]).getTables();
+                    e.precision = 4;
+                    e.n = floatSizes[i - doubleSizes.length];
+                    e.plan = t.plan.ordinal();
+                    e.nBluestein = t.nBluestein;
+                    e.nw = t.nw;
+                    e.nc = t.nc;
+                    int[][] ints = { t.ip, t.raderPerm, t.pfaIn, t.pfaOut };
+                    float[][] data = { t.w, t.wtable, t.wtable_r, t.bk1, t.bk2, t.raderB };
+                    for (int j = 0; j < ints.length; j++) {
+                        e.lengths[j] = ints[j] == null ? -1 : ints[j].length;
+                        writeInts(channel, buffer, crc, ints[j]);
+                    }
+                    for (int j = 0; j < data.length; j++) {
+                        e.lengths[j + INT_TABLES] = data[j] == null ? -1 : data[j].length;
+                        writeFloats(channel, buffer, crc, data[j]);
+                    }
+                }
+                e.offset = position;
+                e.length = channel.position() - position;
+                e.crc = crc.getValue();
+                position = channel.position();
+                index[i] = e;
+            }
+            ByteBuffer ib = ByteBuffer.allocate(count * ENTRY_SIZE + 8);
+            for (int i = 0; i < count; i++) {
+                Entry e = index[i];
+                ib.putInt(e.precision);
+                ib.putInt(e.n);
+                ib.putInt(e.plan);
+                ib.putInt(e.nBluestein);
+                ib.putInt(e.nw);
+                ib.putInt(e.nc);
+                for (int j = 0; j < TABLES; j++) {
+                    ib.putInt(e.lengths[j]);
+                }
+                ib.putLong(e.offset);
+                ib.putLong(e.length);
+                ib.putLong(e.crc);
+            }
+            CRC32 crc = new CRC32();
+            crc.update(ib.array(), 0, count * ENTRY_SIZE);
+            ib.putLong(crc.getValue());
+            ib.flip();
+            while (ib.hasRemaining()) {
+                channel.write(ib);
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC);
+            header.putInt(VERSION);
+            header.putInt(count);
+            header.putLong(position);
+            header.flip();
+            channel.position(0);
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+        } finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * Reads the index of a wisdom file. Tables of the sizes listed in this
+     * file are used by all transforms created afterwards. If the file is not
+     * a valid wisdom file (wrong magic number, version or checksum), nothing
+     * is imported.
+     *
+     * @param file
+     *            wisdom file
+     * @return the number of imported entries
+     */
+    public static int importWisdom(File file) {
+        Map<String, Entry> imported = new HashMap<String, Entry>();
+        try {
+            RandomAccessFile raf = new RandomAccessFile(file, "r");
+            try {
+                FileChannel channel = raf.getChannel();
+                long size = channel.size();
+                if (size < HEADER_SIZE) {
+                    return 0;
+                }
+                ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+                if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                    return 0;
+                }
+                int count = header.getInt();
+                long indexOffset = header.getLong();
+                if (count < 0 || indexOffset < HEADER_SIZE || indexOffset + (long) count * ENTRY_SIZE + 8 != size) {
+                    return 0;
+                }
+                byte[] bytes = new byte[count * ENTRY_SIZE + 8];
+                channel.map(FileChannel.MapMode.READ_ONLY, indexOffset, bytes.length).get(bytes);
+                CRC32 crc = new CRC32();
+                crc.update(bytes, 0, count * ENTRY_SIZE);
+                ByteBuffer ib = ByteBuffer.wrap(bytes);
+                if (ib.getLong(count * ENTRY_SIZE) != crc.getValue()) {
+                    return 0;
+                }
+                for (int i = 0; i < count; i++) {
+                    Entry e = new Entry();
+                    e.file = file;
+                    e.precision = ib.getInt();
+                    e.n = ib.getInt();
+                    e.plan = ib.getInt();
+                    e.nBluestein = ib.getInt();
+                    e.nw = ib.getInt();
+                    e.nc = ib.getInt();
+                    long length = 0;
+                    for (int j = 0; j < TABLES; j++) {
+                        e.lengths[j] = ib.getInt();
+                        if (e.lengths[j] > 0) {
+                            length += (j < INT_TABLES ? 4L : e.precision) * e.lengths[j];
+                        }
+                    }
+                    e.offset = ib.getLong();
+                    e.length = ib.getLong();
+                    e.crc = ib.getLong();
+                    if ((e.precision != 4 && e.precision != 8) || e.plan < 0 || e.plan >= DoubleFFT_1D.Plans.values().length || e.length != length || e.offset < HEADER_SIZE || e.offset + e.length > indexOffset) {
+                        return 0;
+                    }
+                    imported.put(key(e.precision, e.n), e);
+                }
+            } finally {
+                raf.close();
+            }
+        } catch (IOException ex) {
+            return 0;
+        }
+        synchronized (entries) {
+            entries.putAll(imported);
+        }
+        return imported.size();
+    }
+
+    /**
+     * Forgets all imported wisdom. Tables that have already been loaded stay
+     * in the plan cache.
+     */
+    public static void forgetWisdom() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    static DoubleFFT_1D.Plans getDoublePlan(int n) {
+        Entry e = getEntry(8, n);
+        return e == null ? null : DoubleFFT_1D.Plans.values()[e.plan];
+    }
+
+    static FloatFFT_1D.Plans getFloatPlan(int n) {
+        Entry e = getEntry(4, n);
+        return e == null ? null : FloatFFT_1D.Plans.values()[e.plan];
+    }
+
+    static DoubleFFT_1D.Tables getDoubleTables(int n) {
+        Entry e = getEntry(8, n);
+        if (e == null) {
+            return null;
+        }
+        try {
+            ByteBuffer data = map(e);
+            if (data == null) {
+                return null;
+            }
+            int[][] ints = new int[INT_TABLES][];
+            for (int j = 0; j < INT_TABLES; j++) {
+                ints[j] = readInts(data, e.lengths[j]);
+            }
+            double[][] tables = new double[TABLES - INT_TABLES][];
+            for (int j = 0; j < tables.length; j++) {
+                tables[j] = readDoubles(data, e.lengths[j + INT_TABLES]);
+            }
+            DoubleFFT_1D.Plans plan = DoubleFFT_1D.Plans.values()[e.plan];
+            DoubleFFT_1D bluesteinFFT = null;
+            DoubleFFT_1D raderFFT = null;
+            DoubleFFT_1D pfaFFT1 = null;
+            DoubleFFT_1D pfaFFT2 = null;
+            if (plan == DoubleFFT_1D.Plans.BLUESTEIN && ints[0] == null) {
+                bluesteinFFT = new DoubleFFT_1D(e.nBluestein, DoubleFFT_1D.Plans.MIXED_RADIX);
+            } else if (plan == DoubleFFT_1D.Plans.RADER) {
+                raderFFT = new DoubleFFT_1D(e.n - 1);
+            } else if (plan == DoubleFFT_1D.Plans.PRIME_FACTOR) {
+                int n1 = DoubleFFT_1D.getPrimeFactorSplit(e.n);
+                pfaFFT1 = new DoubleFFT_1D(n1);
+                pfaFFT2 = new DoubleFFT_1D(e.n / n1);
+            } else if (plan == DoubleFFT_1D.Plans.FOUR_STEP) {
+                // the tables of the four-step algorithm are small and are computed by the transform
+                return null;
+            }
+            int[] bitrvRev = (ints[0] == null) ? null : DoubleFFT_1D.makeBitrvRev(2 * ((plan == DoubleFFT_1D.Plans.BLUESTEIN) ? e.nBluestein : e.n));
+            return new DoubleFFT_1D.Tables(plan, e.nBluestein, ints[0], tables[0], e.nw, e.nc, tables[1], tables[2], tables[3], tables[4], bluesteinFFT, ints[1], tables[5], raderFFT, ints[2], ints[3], pfaFFT1, pfaFFT2, null, null, null, bitrvRev);
+        } catch (IOException ex) {
+            removeEntry(e);
+            return null;
+        }
+    }
+
+    static FloatFFT_1D.Tables getFloatTables(int n) {
+        Entry e = getEntry(4, n);
+        if (e == null) {
+            return null;
+        }
+        try {
+            ByteBuffer data = map(e);
+            if (data == null) {
+                return null;
+            }
+            int[][] ints = new int[INT_TABLES][];
+            for (int j = 0; j < INT_TABLES; j++) {
+                ints[j] = readInts(data, e.lengths[j]);
+            }
+            float[][] tables = new float[TABLES - INT_TABLES][];
+            for (int j = 0; j < tables.length; j++) {
+                tables[j] = readFloats(data, e.lengths[j + INT_TABLES]);
+            }
+            FloatFFT_1D.Plans plan = FloatFFT_1D.Plans.values()[e.plan];
+            FloatFFT_1D bluesteinFFT = null;
+            FloatFFT_1D raderFFT = null;
+            FloatFFT_1D pfaFFT1 = null;
+            FloatFFT_1D pfaFFT2 = null;
+            if (plan == FloatFFT_1D.Plans.BLUESTEIN && ints[0] == null) {
+                bluesteinFFT = new FloatFFT_1D(e.nBluestein, FloatFFT_1D.Plans.MIXED_RADIX);
+            } else if (plan == FloatFFT_1D.Plans.RADER) {
+                raderFFT = new FloatFFT_1D(e.n - 1);
+            } else if (plan == FloatFFT_1D.Plans.PRIME_FACTOR) {
+                int n1 = FloatFFT_1D.getPrimeFactorSplit(e.n);
+                pfaFFT1 = new FloatFFT_1D(n1);
+                pfaFFT2 = new FloatFFT_1D(e.n / n1);
+            } else if (plan == FloatFFT_1D.Plans.FOUR_STEP) {
+                // the tables of the four-step algorithm are small and are computed by the transform
+                return null;
+            }
+            int[] bitrvRev = (ints[0] == null) ? null : FloatFFT_1D.makeBitrvRev(2 * ((plan == FloatFFT_1D.Plans.BLUESTEIN) ? e.nBluestein : e.n));
+            return new FloatFFT_1D.Tables(plan, e.nBluestein, ints[0], tables[0], e.nw, e.nc, tables[1], tables[2], tables[3], tables[4], bluesteinFFT, ints[1], tables[5], raderFFT, ints[2], ints[3], pfaFFT1, pfaFFT2, null, null, null, bitrvRev);
+        } catch (IOException ex) {
+            removeEntry(e);
+            return null;
+        }
+    }
+
+    private static String key(int precision, int n) {
+        return precision + ":" + n;
+    }
+
+    private static Entry getEntry(int precision, int n) {
+        synchronized (entries) {
+            return entries.get(key(precision, n));
+        }
+    }
+
+    private static void removeEntry(Entry e) {
+        synchronized (entries) {
+            entries.remove(key(e.precision, e.n));
+        }
+    }
+
+    /*
+     * Maps the tables of an entry and verifies their checksum. Returns null
+     * (and forgets the entry) if the checksum does not match.
+     */
+    private static ByteBuffer map(Entry e) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(e.file, "r");
+        MappedByteBuffer data;
+        try {
+            FileChannel channel = raf.getChannel();
+            if (e.offset + e.length > channel.size()) {
+                removeEntry(e);
+                return null;
+            }
+            data = channel.map(FileChannel.MapMode.READ_ONLY, e.offset, e.length);
+        } finally {
+            raf.close();
+        }
+        CRC32 crc = new CRC32();
+        byte[] bytes = new byte[BUFFER_SIZE];
+        while (data.hasRemaining()) {
+            int len = Math.min(bytes.length, data.remaining());
+            data.get(bytes, 0, len);
+            crc.update(bytes, 0, len);
+        }
+        if (crc.getValue() != e.crc) {
+            removeEntry(e);
+            return null;
+        }
+        data.rewind();
+        return data;
+    }
+
+    private static int[] readInts(ByteBuffer data, int length) {
+        if (length < 0) {
+            return null;
+        }
+        int[] a = new int[length];
+        data.asIntBuffer().get(a);
+        data.position(data.position() + 4 * length);
+        return a;
+    }
+
+    private static double[] readDoubles(ByteBuffer data, int length) {
+        if (length < 0) {
+            return null;
+        }
+        double[] a = new double[length];
+        data.asDoubleBuffer().get(a);
+        data.position(data.position() + 8 * length);
+        return a;
+    }
+
+    private static float[] readFloats(ByteBuffer data, int length) {
+        if (length < 0) {
+            return null;
+        }
+        float[] a = new float[length];
+        data.asFloatBuffer().get(a);
+        data.position(data.position() + 4 * length);
+        return a;
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer, CRC32 crc) throws IOException {
+        buffer.flip();
+        crc.update(buffer.array(), 0, buffer.limit());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static void writeInts(FileChannel channel, ByteBuffer buffer, CRC32 crc, int[] a) throws IOException {
+        if (a == null) {
+            return;
+        }
+        for (int i = 0; i < a.length; i++) {
+            if (buffer.remaining() < 4) {
+                flush(channel, buffer, crc);
+            }
+            buffer.putInt(a[i]);
+        }
+        flush(channel, buffer, crc);
+    }
+
+    private static void writeDoubles(FileChannel channel, ByteBuffer buffer, CRC32 crc, double[] a) throws IOException {
+        if (a == null) {
+            return;
+        }
+        for (int i = 0; i < a.length; i++) {
+            if (buffer.remaining() < 8) {
+                flush(channel, buffer, crc);
+            }
+            buffer.putDouble(a[i]);
+        }
+        flush(channel, buffer, crc);
+    }
+
+    private static void writeFloats(FileChannel channel, ByteBuffer buffer, CRC32 crc, float[] a) throws IOException {
+        if (a == null) {
+            return;
+        }
+        for (int i = 0; i < a.length; i++) {
+            if (buffer.remaining() < 4) {
+                flush(channel, buffer, crc);
+            }
+            buffer.putFloat(a[i]);
+        }
+        flush(channel, buffer, crc);
+    }
+}
@@ -0,0 +1,10242 @@
+/* ***** BEGIN LICENSE BLOCK *****
+ * Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License
+ * for the specific language governing rights and limitations under the
+ * License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is
+ * Piotr Wendykier, Emory University.
+ * Portions created by the Initial Developer are Copyright (C) 2007-2009
+ * the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or
+ * the GNU Lesser General Public License Version 2.1 or later (the "LGPL"),
+ * in which case the provisions of the GPL or the LGPL are applicable instead
+ * of those above. If you wish to allow use of your version of this file only
+ * under the terms of either the GPL or the LGPL, and not to allow others to
+ * use your version of this file under the terms of the MPL, indicate your
+ * decision by deleting the provisions above and replace them with the notice
+ * and other provisions required by the GPL or the LGPL. If you do not delete
+ * the provisions above, a recipient may use your version of this file under
+ * the terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK ***** */
+package edu.emory.mathcs.jtransforms.fft;
+
+/**
+ * Straight-line kernels computing FFTs of small sizes (used by
+ * {@link FloatFFT_1D}). Every kernel loads its input into local variables,
+ * evaluates the transform with all twiddle factors folded into constants and
+ * common subexpressions shared, and then stores the result, so there are no
+ * loops, no tables and no index arithmetic. The kernels are generated by
+ * resources/gencodelets.py. Sizes whose kernels would exceed the bytecode
+ * size that the JIT is willing to compile (8000 bytes) are left to the
+ * table-driven plans.
+ * 
+ */
+final class FloatFFTCodelets {
+
+    private FloatFFTCodelets() {
+    }
+
+    /**
+     * Returns true if there is a codelet for the complex and the real FFT of size n.
+     * 
+     * @param n
+     *            size of the transform
+     * @return true if there is a codelet for the given size
+     */
+    static boolean isSupported(int n) {
+        switch (n) {
+        case 2:
+        case 3:
+        case 4:
+        case 5:
+        case 6:
+        case 7:
+        case 8:
+        case 9:
+        case 10:
+        case 11:
+        case 12:
+        case 13:
+        case 14:
+        case 15:
+        case 16:
+        case 18:
+        case 20:
+        case 24:
+        case 32:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Computes the forward DFT of n complex numbers.
+     * 
+     * @param n
+     *            size of the transform
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element in array <code>a</code>
+     */
+    static void complexForward(int n, float[] a, int offa) {
+        switch (n) {
+        case 2:
+            cf2(a, offa, offa + 1);
+            break;
+        case 3:
+            cf3(a, offa, offa + 1);
+            break;
+        case 4:
+            cf4(a, offa, offa + 1);
+            break;
+        case 5:
+            cf5(a, offa, offa + 1);
+            break;
+        case 6:
+            cf6(a, offa, offa + 1);
+            break;
+        case 7:
+            cf7(a, offa, offa + 1);
+            break;
+        case 8:
+            cf8(a, offa, offa + 1);
+            break;
+        case 9:
+            cf9(a, offa, offa + 1);
+            break;
+        case 10:
+            cf10(a, offa, offa + 1);
+            break;
+        case 11:
+            cf11(a, offa, offa + 1);
+            break;
+        case 12:
+            cf12(a, offa, offa + 1);
+            break;
+        case 13:
+            cf13(a, offa, offa + 1);
+            break;
+        case 14:
+            cf14(a, offa, offa + 1);
+            break;
+        case 15:
+            cf15(a, offa, offa + 1);
+            break;
+        case 16:
+            cf16(a, offa, offa + 1);
+            break;
+        case 18:
+            cf18(a, offa, offa + 1);
+            break;
+        case 20:
+            cf20(a, offa, offa + 1);
+            break;
+        case 24:
+            cf24(a, offa, offa + 1);
+            break;
+        case 32:
+            cf32(a, offa, offa + 1);
+            break;
+        default:
+            throw new IllegalArgumentException("n = " + n + " is not supported");
+        }
+    }
+
+    /**
+     * Computes the unscaled inverse DFT of n complex numbers. The inverse
+     * transform is the forward transform with the real and the imaginary
+     * parts swapped.
+     * 
+     * @param n
+     *            size of the transform
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element in array <code>a</code>
+     */
+    static void complexInverse(int n, float[] a, int offa) {
+        switch (n) {
+        case 2:
+            cf2(a, offa + 1, offa);
+            break;
+        case 3:
+            cf3(a, offa + 1, offa);
+            break;
+        case 4:
+            cf4(a, offa + 1, offa);
+            break;
+        case 5:
+            cf5(a, offa + 1, offa);
+            break;
+        case 6:
+            cf6(a, offa + 1, offa);
+            break;
+        case 7:
+            cf7(a, offa + 1, offa);
+            break;
+        case 8:
+            cf8(a, offa + 1, offa);
+            break;
+        case 9:
+            cf9(a, offa + 1, offa);
+            break;
+        case 10:
+            cf10(a, offa + 1, offa);
+            break;
+        case 11:
+            cf11(a, offa + 1, offa);
+            break;
+        case 12:
+            cf12(a, offa + 1, offa);
+            break;
+        case 13:
+            cf13(a, offa + 1, offa);
+            break;
+        case 14:
+            cf14(a, offa + 1, offa);
+            break;
+        case 15:
+            cf15(a, offa + 1, offa);
+            break;
+        case 16:
+            cf16(a, offa + 1, offa);
+            break;
+        case 18:
+            cf18(a, offa + 1, offa);
+            break;
+        case 20:
+            cf20(a, offa + 1, offa);
+            break;
+        case 24:
+            cf24(a, offa + 1, offa);
+            break;
+        case 32:
+            cf32(a, offa + 1, offa);
+            break;
+        default:
+            throw new IllegalArgumentException("n = " + n + " is not supported");
+        }
+    }
+
+    /**
+     * Computes the forward DFT of n real numbers. The layout of the output
+     * is the same as in <code>FloatFFT_1D.realForward</code>.
+     * 
+     * @param n
+     *            size of the transform
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element in array <code>a</code>
+     */
+    static void realForward(int n, float[] a, int offa) {
+        switch (n) {
+        case 2:
+            rf2(a, offa);
+            break;
+        case 3:
+            rf3(a, offa);
+            break;
+        case 4:
+            rf4(a, offa);
+            break;
+        case 5:
+            rf5(a, offa);
+            break;
+        case 6:
+            rf6(a, offa);
+            break;
+        case 7:
+            rf7(a, offa);
+            break;
+        case 8:
+            rf8(a, offa);
+            break;
+        case 9:
+            rf9(a, offa);
+            break;
+        case 10:
+            rf10(a, offa);
+            break;
+        case 11:
+            rf11(a, offa);
+            break;
+        case 12:
+            rf12(a, offa);
+            break;
+        case 13:
+            rf13(a, offa);
+            break;
+        case 14:
+            rf14(a, offa);
+            break;
+        case 15:
+            rf15(a, offa);
+            break;
+        case 16:
+            rf16(a, offa);
+            break;
+        case 18:
+            rf18(a, offa);
+            break;
+        case 20:
+            rf20(a, offa);
+            break;
+        case 24:
+            rf24(a, offa);
+            break;
+        case 32:
+            rf32(a, offa);
+            break;
+        default:
+            throw new IllegalArgumentException("n = " + n + " is not supported");
+        }
+    }
+
+    /**
+     * Computes the unscaled inverse DFT of n real numbers. The layout of
+     * the input is the same as in <code>FloatFFT_1D.realInverse</code>.
+     * 
+     * @param n
+     *            size of the transform
+     * @param a
+     *            data to transform
+     * @param offa
+     *            index of the first element in array <code>a</code>
+     */
+    static void realInverse(int n, float[] a, int offa) {
+        switch (n) {
+        case 2:
+            rb2(a, offa);
+            break;
+        case 3:
+            rb3(a, offa);
+            break;
+        case 4:
+            rb4(a, offa);
+            break;
+        case 5:
+            rb5(a, offa);
+            break;
+        case 6:
+            rb6(a, offa);
+            break;
+        case 7:
+            rb7(a, offa);
+            break;
+        case 8:
+            rb8(a, offa);
+            break;
+        case 9:
+            rb9(a, offa);
+            break;
+        case 10:
+            rb10(a, offa);
+            break;
+        case 11:
+            rb11(a, offa);
+            break;
+        case 12:
+            rb12(a, offa);
+            break;
+        case 13:
+            rb13(a, offa);
+            break;
+        case 14:
+            rb14(a, offa);
+            break;
+        case 15:
+            rb15(a, offa);
+            break;
+        case 16:
+            rb16(a, offa);
+            break;
+        case 18:
+            rb18(a, offa);
+            break;
+        case 20:
+            rb20(a, offa);
+            break;
+        case 24:
+            rb24(a, offa);
+            break;
+        case 32:
+            rb32(a, offa);
+            break;
+        default:
+            throw new IllegalArgumentException("n = " + n + " is not supported");
+        }
+    }
+
+    static void cf2(float[] a, int offr, int offi) {
+        float x0r = a[offr];
+        float x0i = a[offi];
+        float x1r = a[offr + 2];
+        float x1i = a[offi + 2];
+        float t0 = x0r + x1r;
+        float t1 = x0i + x1i;
+        float t2 = x0r - x1r;
+        float t3 = x0i - x1i;
+        a[offr] = t0;
+        a[offi] = t1;
+        a[offr + 2] = t2;
+        a[offi + 2] = t3;
+    }
+
+    static void cf3(float[] a, int offr, int offi) {
+        float x0r = a[offr];
+        float x0i = a[offi];
+        float x1r = a[offr + 2];
+        float x1i = a[offi + 2];
+        float x2r = a[offr + 4];
+        float x2i = a[offi + 4];
+        float t0 = x1r + x2r;
+        float t1 = x0r + t0;
+        float t2 = x1i + x2i;
+        float t3 = x0i + t2;
+        float t4 = 0.5f * t0;
+        float t5 = x0r - t4;
+        float t6 = x1i - x2i;
+        float t7 = 0.8660254037844384f * t6;
+        float t8 = t5 + t7;
+        float t9 = 0.5f * t2;
+        float t10 = x0i - t9;
+        float t11 = x1r - x2r;
+        float t12 = 0.8660254037844384f * t11;
+        float t13 = t10 - t12;
+        float t14 = t5 - t7;
+        float t15 = t10 + t12;
+        a[offr] = t1;
+        a[offi] = t3;
+        a[offr + 2] = t8;
+        a[offi + 2] = t13;
+        a[offr + 4] = t14;
+        a[offi + 4] = t15;
+    }
+
+    static void cf4(float[] a, int offr, int offi) {
+        float x0r = a[offr];
+        float x0i = a[offi];
+        float x1r = a[offr + 2];
+        float x1i = a[offi + 2];
+        float x2r = a[offr + 4];
+        float x2i = a[offi + 4];
+        float x3r = a[offr + 6];
+        float x3i = a[offi + 6];
+        float t0 = x0r + x2r;
+        float t1 = x1r + x3r;
+        float t2 = t0 + t1;
+        float t3 = x0i + x2i;
+        float t4 = x1i + x3i;
+        float t5 = t3 + t4;
+        float t6 = x0r - x2r;
+        float t7 = x1i - x3i;
+        float t8 = t6 + t7;
+        float t9 = x0i - x2i;
+        float t10 = x3r - x1r;
+        float t11 = t9 + t10;
+        float t12 = t0 - t1;
+        float t13 = t3 - t4;
+        float t14 = t6 - t7;
+        float t15 = t9 - t10;
+        a[offr] = t2;
+        a[offi] = t5;
+        a[offr + 2] = t8;
+        a[offi + 2] = t11;
+        a[offr + 4] = t12;
+        a[offi + 4] = t13;
+        a[offr + 6] = t14;
+        a[offi + 6] = t15;
+    }
+
+    static void cf5(float[] a, int offr, int offi) {
+        float x0r = a[offr];
+        float x0i = a[offi];
+        float x1r = a[offr + 2];
+        float x1i = a[offi + 2];
+        float x2r = a[offr + 4];
+        float x2i = a[offi + 4];
+        float x3r = a[offr + 6];
+        float x3i = a[offi + 6];
+        float x4r = a[offr + 8];
+        float x4i = a[offi + 8];
+        float t0 = x2r + x3r;
+        float t1 = x1r + x4r;
+        float t2 = x0r + t1;
+        float t3 = t0 + t2;
+        float t4 = x2i + x3i;
+        float t5 = x1i + x4i;
+        float t6 = x0i + t5;
+        float t7 = t4 + t6;
+        float t8 = 0.30901699437494723f * t1;
+        float t9 = x0r + t8;
+        float t10 = 0.8090169943749476f * t0;
+        float t11 = t9 - t10;
+        float t12 = x1i - x4i;
+        float t13 = 0.9510565162951536f * t12;
+        float t14 = x2i - x3i;
+        float t15 = 0.587785252292473f * t14;
+        float t16 = t13 + t15;
+        float t17 = t11 + t16;
+        float t18 = 0.30901699437494723f * t5;
+        float t19 = x0i + t18;
+        float t20 = 0.8090169943749476f * t4;
+        float t21 = t19 - t20;
+        float t22 = x1r - x4r;
+        float t23 = 0.9510565162951536f * t22;
+        float t24 = x2r - x3r;
+        float t25 = 0.587785252292473f * t24;
+        float t26 = t23 + t25;
+        float t27 = t21 - t26;
+        float t28 = 0.8090169943749476f * t1;
+        float t29 = x0r - t28;
+        float t30 = 0.30901699437494745f * t0;
+        float t31 = t29 + t30;
+        float t32 = 0.9510565162951535f * t14;
+        float t33 = 0.587785252292473f * t12;
+        float t34 = t32 - t33;
+        float t35 = t31 - t34;
+        float t36 = 0.8090169943749476f * t5;
+        float t37 = x0i - t36;
+        float t38 = 0.30901699437494745f * t4;
+        float t39 = t37 + t38;
+        float t40 = 0.9510565162951535f * t24;
+        float t41 = 0.587785252292473f * t22;
+        float t42 = t40 - t41;
+        float t43 = t39 + t42;
+        float t44 = t31 + t34;
+        float t45 = t39 - t42;
+        float t46 = t11 - t16;
+        float t47 = t21 + t26;
+        a[offr] = t3;
+        a[offi] = t7;
+        a[offr + 2] = t17;
+        a[offi + 2] = t27;
+        a[offr + 4] = t35;
+        a[offi + 4] = t43;
+        a[offr + 6] = t44;
+        a[offi + 6] = t45;
+        a[offr + 8] = t46;
+        a[offi + 8] = t47;
+    }
+
+    static void cf6(float[] a, int offr, int offi) {
+        float x0r = a[offr];
+        float x0i = a[offi];
+        float x1r = a[offr + 2];
+        float x1i = a[offi + 2];
+        float x2r = a[offr + 4];
+        float x2i = a[offi + 4];
+        float x3r = a[offr + 6];
+        float x3i = a[offi + 6];
+        float x4r = a[offr + 8];
+        float x4i = a[offi + 8];
+        float x5r = a[offr + 10];
+        float x5i = a[offi + 10];
+        float t0 = x2r + x4r;
+        float t1 = x0r + t0;
+        float t2 = x3r + x5r;
+        float t3 = x1r + t2;
+        float t4 = t1 + t3;
+        float t5 = x2i + x4i;
+        float t6 = x0i + t5;
+        float t7 = x3i + x5i;
+        float t8 = x1i + t7;
+        float t9 = t6 + t8;
+        float t10 = 0.5f * t0;
+        float t11 = x0r - t10;
+        float t12 = x2i - x4i;
+        float t13 = 0.8660254037844384f * t12;
+        float t14 = t11 + t13;
+        float t15 = 0.5f * t2;
+        float t16 = x1r - t15;
+        float t17 = x3i - x5i;
+        float t18 = 0.8660254037844384f * t17;
+        float t19 = t16 + t18;
+        float t20 = 0.5f * t19;
+        float t21 = 0.5f * t7;
+        float t22 = x1i - t21;
+        float t23 = x3r - x5r;
+        float t24 = 0.8660254037844384f * t23;
+        float t25 = t22 - t24;
+        float t26 = 0.8660254037844386f * t25;
+        float t27 = t20 + t26;
+        float t28 = t14 + t27;
+        float t29 = 0.5f * t5;
+        float t30 = x0i - t29;
+        float t31 = x2r - x4r;
+        float t32 = 0.8660254037844384f * t31;
+        float t33 = t30 - t32;
+        float t34 = 0.5f * t25;
+        float t35 = 0.8660254037844386f * t19;
+        float t36 = t34 - t35;
+        float t37 = t33 + t36;
+        float t38 = t11 - t13;
+        float t39 = t22 + t24;
+        float t40 = 0.8660254037844384f * t39;
+        float t41 = t16 - t18;
+        float t42 = 0.5f * t41;
+        float t43 = t40 - t42;
+        float t44 = t38 + t43;
+        float t45 = t30 + t32;
+        float t46 = 0.5f * t39;
+        float t47 = 0.8660254037844384f * t41;
+        float t48 = t46 + t47;
+        float t49 = t45 - t48;
+        float t50 = t1 - t3;
+        float t51 = t6 - t8;
+        float t52 = t14 - t27;
+        float t53 = t33 - t36;
+        float t54 = t38 - t43;
+        float t55 = t45 + t48;
+        a[offr] = t4;
+        a[offi] = t9;
+        a[offr + 2] = t28;
+        a[offi + 2] = t37;
+        a[offr + 4] = t44;
+        a[offi + 4] = t49;
+        a[offr + 6] = t50;
+        a[offi + 6] = t51;
+        a[offr + 8] = t52;
+        a[offi + 8] = t53;
+        a[offr + 10] = t54;
+        a[offi + 10] = t55;
+    }
+
+    static void cf7(float[] a, int offr, int offi) {
+        float x0r = a[offr];
+        float x0i = a[offi];
+        float x1r = a[offr + 2];
+        float x1i = a[offi + 2];
+        float x2r = a[offr + 4];
+        float x2i = a[offi + 4];
+        float x3r = a[offr + 6];
+        float x3i = a[offi + 6];
+        float x4r = a[offr + 8];
+        float x4i = a[offi + 8];
+        float x5r = a[offr + 10];
+        float x5i = a[offi + 10];
+        float x6r = a[offr + 12];
+        float x6i = a[offi + 12];
+        float t0 = x3r + x4r;
+        float t1 = x2r + x5r;
+        float t2 = x1r + x6r;
+        float t3 = x0r + t2;
+        float t4 = t1 + t3;
+        float t5 = t0 + t4;
+        float t6 = x3i + x4i;
+        float t7 = x2i + x5i;
+        float t8 = x1i + x6i;
+        float t9 = x0i + t8;
+        float t10 = t7 + t9;
+        float t11 = t6 + t10;
+        float t12 = 0.6234898018587334f * t2;
+        float t13 = x0r + t12;
+        float t14 = 0.2225209339563146f * t1;
+        float t15 = t13 - t14;
+        float t16 = 0.9009688679024191f * t0;
+        float t17 = t15 - t16;
+        float t18 = x1i - x6i;
+        float t19 = 0.7818314824680299f * t18;
+        float t20 = x2i - x5i;
+        float t21 = 0.9749279121818236f * t20;
+        float t22 = t19 + t21;
+        float t23 = x3i - x4i;
+        float t24 = 0.433883739117558f * t23;
+        float t25 = t22 + t24;
+        float t26 = t17 + t25;
+        float t27 = 0.6234898018587334f * t8;
+        float t28 = x0i + t27;
+        float t29 = 0.2225209339563146f * t7;
+        float t30 = t28 - t29;
+        float t31 = 0.9009688679024191f * t6;
+        float t32 = t30 - t31;
+        float t33 = x1r - x6r;
+        float t34 = 0.7818314824680299f * t33;
+        float t35 = x2r - x5r;
+        float t36 = 0.9749279121818236f * t35;
+        float t37 = t34 + t36;
+        float t38 = x3r - x4r;
+        float t39 = 0.433883739117558f * t38;
+        float t40 = t37 + t39;
+        float t41 = t32 - t40;
+        float t42 = 0.2225209339563146f * t2;
+        float t43 = x0r - t42;
+        float t44 = 0.900968867902419f * t1;
+        float t45 = t43 - t44;
+        float t46 = 0.6234898018587336f * t0;
+        float t47 = t45 + t46;
+        float t48 = 0.43388373911755823f * t20;
+        float t49 = 0.9749279121818236f * t18;
+        float t50 = t48 - t49;
+        float t51 = 0.7818314824680298f * t23;
+        float t52 = t50 + t51;
+        float t53 = t47 - t52;
+        float t54 = 0.2225209339563146f * t8;
+        float t55 = x0i - t54;
+        float t56 = 0.900968867902419f * t7;
+        float t57 = t55 - t56;
+        float t58 = 0.6234898018587336f * t6;
+        float t59 = t57 + t58;
+        float t60 = 0.43388373911755823f * t35;
+        float t61 = 0.9749279121818236f * t33;
+        float t62 = t60 - t61;
+        float t63 = 0.7818314824680298f * t38;
+        float t64 = t62 + t63;
+        float t65 = t59 + t64;
+        float t66 = 0.9009688679024191f * t2;
+        float t67 = x0r - t66;
+        float t68 = 0.6234898018587336f * t1;
+        float t69 = t67 + t68;
+        float t70 = 0.2225209339563146f * t0;
+        float t71 = t69 - t70;
+        float t72 = 0.7818314824680298f * t20;
+        float t73 = 0.433883739117558f * t18;
+        float t74 = t72 - t73;
+        float t75 = 0.9749279121818236f * t23;
+        float t76 = t74 - t75;
+        float t77 = t71 - t76;
+        float t78 = 0.9009688679024191f * t8;
+        float t79 = x0i - t78;
+        float t80 = 0.6234898018587336f * t7;
+        float t81 = t79 + t80;
+        float t82 = 0.2225209339563146f * t6;
+        float t83 = t81 - t82;
+        float t84 = 0.7818314824680298f * t35;
+        float t85 = 0.433883739117558f * t33;
+        float t86 = t84 - t85;
+        float t87 = 0.9749279121818236f * t38;
+        float t88 = t86 - t87;
+        float t89 = t83 + t88;
+        float t90 = t71 + t76;
+        float t91 = t83 - t88;
+        float t92 = t47 + t52;
+        float t93 = t59 - t64;
+        float t94 = t17 - t25;
+        float t95 = t32 + t40;
+        a[offr] = t5;
+        a[offi] = t11;
+        a[offr + 2] = t26;
+        a[offi + 2] = t41;
+        a[offr + 4] = t53;
+        a[offi + 4] = t65;
+        a[offr + 6] = t77;
+        a[offi + 6] = t89;
+        a[offr + 8] = t90;
+        a[offi + 8] = t91;
+        a[offr + 10] = t92;
+        a[offi + 10] = t93;
+        a[offr + 12] = t94;
+        a[offi + 12] = t95;
+    }
+
+    static void cf8(float[] a, int offr, int offi) {
+        float x0r = a[offr];
+        float x0i = a[offi];
+        float x1r = a[offr + 2];
+        float x1i = a[offi + 2];
+        float x2r = a[offr + 4];
+        float x2i = a[offi + 4];
+        float x3r = a[offr + 6];
+        float x3i = a[offi + 6];
+        float x4r = a[offr + 8];
+        float x4i = a[offi + 8];
+        float x5r = a[offr + 10];
+        float x5i = a[offi + 10];
+        float x6r = a[offr + 12];
+        float x6i = a[offi + 12];
+        float x7r = a[offr + 14];
+        float x7i = a[offi + 14];
+        float t0 = x0r + x4r;
+        float t1 = x2r + x6r;
+        float t2 = t0 + t1;
+        float t3 = x1r + x5r;
+        float t4 = x3r + x7r;
+        float t5 = t3 + t4;
+        float t6 = t2 + t5;
+        float t7 = x0i + x4i;
+        float t8 = x2i + x6i;
+        float t9 = t7 + t8;
+        float t10 = x1i + x5i;
+        float t11 = x3i + x7i;
+        float t12 = t10 + t11;
+        float t13 = t9 + t12;
+        float t14 = x0r - x4r;
+        float t15 = x2i - x6i;
+        float t16 = t14 + t15;
+        float t17 = x1r - x5r;
+        float t18 = x3i - x7i;
+        float t19 = t17 + t18;
+        float t20 = x1i - x5i;
+        float t21 = x7r - x3r;
+        float t22 = t20 + t21;
+        float t23 = t19 + t22;
+        float t24 = 0.7071067811865476f * t23;
+        float t25 = t16 + t24;
+        float t26 = x0i - x4i;
+        float t27 = x6r - x2r;
+        float t28 = t26 + t27;
+        float t29 = t22 - t19;
+        float t30 = 0.7071067811865476f * t29;
+        float t31 = t28 + t30;
+        float t32 = t0 - t1;
+        float t33 = t10 - t11;
+        float t34 = t32 + t33;
+        float t35 = t7 - t8;
+        float t36 = t4 - t3;
+        float t37 = t35 + t36;
+        float t38 = t14 - t15;
+        float t39 = t17 - t18;
+        float t40 = t20 - t21;
+        float t41 = t39 - t40;
+        float t42 = 0.7071067811865476f * t41;
+        float t43 = t38 - t42;
+        float t44 = t26 - t27;
+        float t45 = t39 + t40;
+        float t46 = 0.7071067811865476f * t45;
+        float t47 = t44 - t46;
+        float t48 = t2 - t5;
+        float t49 = t9 - t12;
+        float t50 = t16 - t24;
+        float t51 = t28 - t30;
+        float t52 = t32 - t33;
+        float t53 = t35 - t36;
+        float t54 = t38 + t42;
+        float t55 = t44 + t46;
+        a[offr] = t6;
+        a[offi] = t13;
+        a[offr + 2] = t25;
+        a[offi + 2] = t31;
+        a[offr + 4] = t34;
+        a[offi + 4] = t37;
+        a[offr + 6] = t43;
+        a[offi + 6] = t47;
+        a[offr + 8] = t48;
+        a[offi + 8] = t49;
+        a[offr + 10] = t50;
+        a[offi + 10] = t51;
+        a[offr + 12] = t52;
+        a[offi + 12] = t53;
+        a[offr + 14] = t54;
+        a[offi + 14] = t55;
+    }
+
+    static void cf9(float[] a, int offr, int offi) {
+        float x0r = a[offr];
+        float x0i = a[offi];
+        float x1r = a[offr + 2];
+        float x1i = a[offi + 2];
+        float x2r = a[offr + 4];
+        float x2i = a[offi + 4];
+        float x3r = a[offr + 6];
+        float x3i = a[offi + 6];
+        float x4r = a[offr + 8];
+        float x4i = a[offi + 8];
+        float x5r = a[offr + 10];
+        float x5i = a[offi + 10];
+        float x6r = a[offr + 12];
+        float x6i = a[offi + 12];
+        float x7r = a[offr + 14];
+        float x7i = a[offi + 14];
+        float x8r = a[offr + 16];
+        float x8i = a[offi + 16];
+        float t0 = x3r + x6r;
+        float t1 = x0r + t0;
+        float t2 = x4r + x7r;
+        float t3 = x1r + t2;
+        float t4 = x5r + x8r;
+        float t5 = x2r + t4;
+        float t6 = t3 + t5;
+        float t7 = t1 + t6;
+        float t8 = x3i + x6i;
+        float t9 = x0i + t8;
+        float t10 = x4i + x7i;
+        float t11 = x1i + t10;
+        float t12 = x5i + x8i;
+        float t13 = x2i + t12;
+        float t14 = t11 + t13;
+        float t15 = t9 + t14;
+        float t16 = 0.5f * t0;
+        float t17 = x0r - t16;
+        float t18 = x3i - x6i;
+        float t19 = 0.8660254037844384f * t18;
+        float t20 = t17 + t19;
+        float t21 = 0.5f * t2;
+        float t22 = x1r - t21;
+        float t23 = x4i - x7i;
+        float t24 = 0.8660254037844384f * t23;
+        float t25 = t22 + t24;
+        float t26 = 0.7660444431189778f * t25;
+        float t27 = 0.5f * t10;
+        float t28 = x1i - t27;
+        float t29 = x4r - x7r;
+        float t30 = 0.8660254037844384f * t29;
+        float t31 = t28 - t30;
+        float t32 = 0.6427876096865396f * t31;
+        float t33 = t26 + t32;
+        float t34 = 0.5f * t4;
+        float t35 = x2r - t34;
+        float t36 = x5i - x8i;
+        float t37 = 0.8660254037844384f * t36;
+        float t38 = t35 + t37;
+        float t39 = 0.17364817766692997f * t38;
+        float t40 = 0.5f * t12;
+        float t41 = x2i - t40;
+        float t42 = x5r - x8r;
+        float t43 = 0.8660254037844384f * t42;
+        float t44 = t41 - t43;
+        float t45 = 0.9848077530122081f * t44;
+        float t46 = t39 + t45;
+        float t47 = t33 + t46;
+        float t48 = t20 + t47;
+        float t49 = 0.5f * t8;
+        float t50 = x0i - t49;
+        float t51 = x3r - x6r;
+        float t52 = 0.8660254037844384f * t51;
+        float t53 = t50 - t52;
+        float t54 = 0.7660444431189778f * t31;
+        float t55 = 0.6427876096865396f * t25;
+        float t56 = t54 - t55;
+        float t57 = 0.17364817766692997f * t44;
+        float t58 = 0.9848077530122081f * t38;
+        float t59 = t57 - t58;
+        float t60 = t56 + t59;
+        float t61 = t53 + t60;
+        float t62 = t17 - t19;
+        float t63 = t22 - t24;
+        float t64 = 0.17364817766692997f * t63;
+        float t65 = t28 + t30;
+        float t66 = 0.9848077530122081f * t65;
+        float t67 = t64 + t66;
+        float t68 = t41 + t43;
+        float t69 = 0.34202014332566866f * t68;
+        float t70 = t35 - t37;
+        float t71 = 0.9396926207859084f * t70;
+        float t72 = t69 - t71;
+        float t73 = t67 + t72;
+        float t74 = t62 + t73;
+        float t75 = t50 + t52;
+        float t76 = 0.17364817766692997f * t65;
+        float t77 = 0.9848077530122081f * t63;
+        float t78 = t76 - t77;
+        float t79 = 0.9396926207859084f * t68;
+        float t80 = 0.34202014332566866f * t70;
+        float t81 = t79 + t80;
+        float t82 = t78 - t81;
+        float t83 = t75 + t82;
+        float t84 = 0.5f * t6;
+        float t85 = t1 - t84;
+        float t86 = t11 - t13;
+        float t87 = 0.8660254037844384f * t86;
+        float t88 = t85 + t87;
+        float t89 = 0.5f * t14;
+        float t90 = t9 - t89;
+        float t91 = t3 - t5;
+        float t92 = 0.8660254037844384f * t91;
+        float t93 = t90 - t92;
+        float t94 = 0.5f * t47;
+        float t95 = t20 - t94;
+        float t96 = t56 - t59;
+        float t97 = 0.8660254037844384f * t96;
+        float t98 = t95 + t97;
+        float t99 = 0.5f * t60;
+        float t100 = t53 - t99;
+        float t101 = t33 - t46;
+        float t102 = 0.8660254037844384f * t101;
+        float t103 = t100 - t102;
+        float t104 = 0.5f * t73;
+        float t105 = t62 - t104;
+        float t106 = t78 + t81;
+        float t107 = 0.8660254037844384f * t106;
+        float t108 = t105 + t107;
+        float t109 = 0.5f * t82;
+        float t110 = t75 - t109;
+        float t111 = t67 - t72;
+        float t112 = 0.8660254037844384f * t111;
+        float t113 = t110 - t112;
+        float t114 = t85 - t87;
+        float t115 = t90 + t92;
+        float t116 = t95 - t97;
+        float t117 = t100 + t102;
+        float t118 = t105 - t107;
+        float t119 = t110 + t112;
+        a[offr] = t7;
+        a[offi] = t15;
+        a[offr + 2] = t48;
+        a[offi + 2] = t61;
+        a[offr + 4] = t74;
+        a[offi + 4] = t83;
+        a[offr + 6] = t88;
+        a[offi + 6] = t93;
+        a[offr + 8] = t98;
+        a[offi + 8] = t103;
+        a[offr + 10] = t108;
+        a[offi + 10] = t113;
+        a[offr + 12] = t114;
+        a[offi + 12] = t115;
+        a[offr + 14] = t116;
+        a[offi + 14] = t117;
+        a[offr + 16] = t118;
+        a[offi + 16] = t119;
+    }
+
+    static void cf10(float[] a, int offr, int offi) {
+        float x0r = a[offr];
+        float x0i = a[offi];
+        float x1r = a[offr + 2];
+        float x1i = a[offi + 2];
+        float x2r = a[offr + 4];
+        float x2i = a[offi + 4];
+        float x3r = a[offr + 6];
+        float x3i = a[offi + 6];
+        float x4r = a[offr + 8];
+        float x4i = a[offi + 8];
+        float x5r = a[offr + 10];
+        float x5i = a[offi + 10];
+        float x6r = a[offr + 12];
+        float x6i = a[offi + 12];
+        float x7r = a[offr + 14];
+        float x7i = a[offi + 14];
+        float x8r = a[offr + 16];
+        float x8i = a[offi + 16];
+        float x9r = a[offr + 18];
+        float x9i = a[offi + 18];
+        float t0 = x4r + x6r;
+        float t1 = x2r + x8r;
+        float t2 = x0r + t1;
+        float t3 = t0 + t2;
+        float t4 = x5r + x7r;
+        float t5 = x3r + x9r;
+        float t6 = x1r + t5;
+        float t7 = t4 + t6;
+        float t8 = t3 + t7;
+        float t9 = x4i + x6i;
+        float t10 = x2i + x8i;
+        float t11 = x0i + t10;
+        float t12 = t9 + t11;
+        float t13 = x5i + x7i;
+        float t14 = x3i + x9i;
+        float t15 = x1i + t14;
+        float t16 = t13 + t15;
+        float t17 = t12 + t16;
+        float t18 = 0.30901699437494723f * t1;
+        float t19 = x0r + t18;
+        float t20 = 0.8090169943749476f * t0;
+        float t21 = t19 - t20;
+        float t22 = x2i - x8i;
+        float t23 = 0.9510565162951536f * t22;
+        float t24 = x4i - x6i;
+        float t25 = 0.587785252292473f * t24;
+        float t26 = t23 + t25;
+        float t27 = t21 + t26;
+        float t28 = 0.30901699437494723f * t5;
+        float t29 = x1r + t28;
+        float t30 = 0.8090169943749476f * t4;
+        float t31 = t29 - t30;
+        float t32 = x3i - x9i;
+        float t33 = 0.9510565162951536f * t32;
+        float t34 = x5i - x7i;
+        float t35 = 0.587785252292473f * t34;
+        float t36 = t33 + t35;
+        float t37 = t31 + t36;
+        float t38 = 0.8090169943749473f * t37;
+        float t39 = 0.30901699437494723f * t14;
+        float t40 = x1i + t39;
+        float t41 = 0.8090169943749476f * t13;
+        float t42 = t40 - t41;
+        float t43 = x3r - x9r;
+        float t44 = 0.9510565162951536f * t43;
+        float t45 = x5r - x7r;
+        float t46 = 0.587785252292473f * t45;
+        float t47 = t44 + t46;
+        float t48 = t42 - t47;
+        float t49 = 0.5877852522924734f * t48;
+        float t50 = t38 + t49;
+        float t51 = t27 + t50;
+        float t52 = 0.30901699437494723f * t10;
+        float t53 = x0i + t52;
+        float t54 = 0.8090169943749476f * t9;
+        float t55 = t53 - t54;
+        float t56 = x2r - x8r;
+        float t57 = 0.9510565162951536f * t56;
+        float t58 = x4r - x6r;
+        float t59 = 0.587785252292473f * t58;
+        float t60 = t57 + t59;
+        float t61 = t55 - t60;
+        float t62 = 0.8090169943749473f * t48;
+        float t63 = 0.5877852522924734f * t37;
+        float t64 = t62 - t63;
+        float t65 = t61 + t64;
+        float t66 = 0.8090169943749476f * t1;
+        float t67 = x0r - t66;
+        float t68 = 0.30901699437494745f * t0;
+        float t69 = t67 + t68;
+        float t70 = 0.9510565162951535f * t24;
+        float t71 = 0.587785252292473f * t22;
+        float t72 = t70 - t71;
+        float t73 = t69 - t72;
+        float t74 = 0.8090169943749476f * t5;
+        float t75 = x1r - t74;
+        float t76 = 0.30901699437494745f * t4;
+        float t77 = t75 + t76;
+        float t78 = 0.9510565162951535f * t34;
+        float t79 = 0.587785252292473f * t32;
+        float t80 = t78 - t79;
+        float t81 = t77 - t80;
+        float t82 = 0.30901699437494723f * t81;
+        float t83 = 0.8090169943749476f * t14;
+        float t84 = x1i - t83;
+        float t85 = 0.30901699437494745f * t13;
+        float t86 = t84 + t85;
+        float t87 = 0.9510565162951535f * t45;
+        float t88 = 0.587785252292473f * t43;
+        float t89 = t87 - t88;
+        float t90 = t86 + t89;
+        float t91 = 0.9510565162951536f * t90;
+        float t92 = t82 + t91;
+        float t93 = t73 + t92;
+        float t94 = 0.8090169943749476f * t10;
+        float t95 = x0i - t94;
+        float t96 = 0.30901699437494745f * t9;
+        float t97 = t95 + t96;
+        float t98 = 0.9510565162951535f * t58;
+        float t99 = 0.587785252292473f * t56;
+        float t100 = t98 - t99;
+        float t101 = t97 + t100;
+        float t102 = 0.30901699437494723f * t90;
+        float t103 = 0.9510565162951536f * t81;
+        float t104 = t102 - t103;
+        float t105 = t101 + t104;
+        float t106 = t69 + t72;
+        float t107 = t86 - t89;
+        float t108 = 0.9510565162951535f * t107;
+        float t109 = t77 + t80;
+        float t110 = 0.30901699437494756f * t109;
+        float t111 = t108 - t110;
+        float t112 = t106 + t111;
+        float t113 = t97 - t100;
+        float t114 = 0.30901699437494756f * t107;
+        float t115 = 0.9510565162951535f * t109;
+        float t116 = t114 + t115;
+        float t117 = t113 - t116;
+        float t118 = t21 - t26;
+        float t119 = t42 + t47;
+        float t120 = 0.587785252292473f * t119;
+        float t121 = t31 - t36;
+        float t122 = 0.8090169943749476f * t121;
+        float t123 = t120 - t122;
+        float t124 = t118 + t123;
+        float t125 = t55 + t60;
+        float t126 = 0.8090169943749476f * t119;
+        float t127 = 0.587785252292473f * t121;
+        float t128 = t126 + t127;
+        float t129 = t125 - t128;
+        float t130 = t3 - t7;
+        float t131 = t12 - t16;
+        float t132 = t27 - t50;
+        float t133 = t61 - t64;
+        float t134 = t73 - t92;
+        float t135 = t101 - t104;
+        float t136 = t106 - t111;
+        float t137 = t113 + t116;
+        float t138 = t118 - t123;
+        float t139 = t125 + t128;
+        a[offr] = t8;
+        a[offi] = t17;
+        a[offr + 2] = t51;
+        a[offi + 2] = t65;
+        a[offr + 4] = t93;
+        a[offi + 4] = t105;
+        a[offr + 6] = t112;
+        a[offi + 6] = t117;
+        a[offr + 8] = t124;
+        a[offi + 8] = t129;
+        a[offr + 10] = t130;
+        a[offi + 10] = t131;
+        a[offr + 12] = t132;
+        a[offi + 12] = t133;
+        a[offr + 14] = t134;
+        a[offi + 14] = t135;
+        a[offr + 16] = t136;
+        a[offi + 16] = t137;
+        a[offr + 18] = t138;
+        a[offi + 18] = t139;
+    }
+
+    static void cf11(float[] a, int offr, int offi) {
+        float x0r = a[offr];
+        float x0i = a[offi];
+        float x1r = a[offr + 2];
+        float x1i = a[offi + 2];
+        float x2r = a[offr + 4];
+        float x2i = a[offi + 4];
+        float x3r = a[offr + 6];
+        float x3i = a[offi + 6];
+        float x4r = a[offr + 8];
+        float x4i = a[offi + 8];
+        float x5r = a[offr + 10];
+        float x5i = a[offi + 10];
+        float x6r = a[offr + 12];
+        float x6i = a[offi + 12];
+        float x7r = a[offr + 14];
+        float x7i = a[offi + 14];
+        float x8r = a[offr + 16];
+        float x8i = a[offi + 16];
+        float x9r = a[offr + 18];
+        float x9i = a[offi + 18];
+        float x10r = a[offr + 20];
+        float x10i = a[offi + 20];
+        float t0 = x5r + x6r;
+        float t1 = x4r + x7r;
+        float t2 = x3r + x8r;
+        float t3 = x2r + x9r;
+        float t4 = x1r + x10r;
+        float t5 = x0r + t4;
+        float t6 = t3 + t5;
+        float t7 = t2 + t6;
+        float t8 = t1 + t7;
+        float t9 = t0 + t8;
+        float t10 = x5i + x6i;
+        float t11 = x4i + x7i;
+        float t12 = x3i + x8i;
+        float t13 = x2i + x9i;
+        float t14 = x1i + x10i;
+        float t15 = x0i + t14;
+        float t16 = t13 + t15;
+        float t17 = t12 + t16;
+        float t18 = t11 + t17;
+        float t19 = t10 + t18;
+        float t20 = 0.8412535328311808f * t4;
+        float t21 = x0r + t20;
+        float t22 = 0.4154150130018868f * t3;
+        float t23 = t21 + t22;
+        float t24 = 0.14231483827328523f * t2;
+        float t25 = t23 - t24;
+        float t26 = 0.6548607339452852f * t1;
+        float t27 = t25 - t26;
+        float t28 = 0.9594929736144975f * t0;
+        float t29 = t27 - t28;
+        float t30 = x1i - x10i;
+        float t31 = 0.5406408174555982f * t30;
+        float t32 = x2i - x9i;
+        float t33 = 0.9096319953545182f * t32;
+        float t34 = t31 + t33;
+        float t35 = x3i - x8i;
+        float t36 = 0.9898214418809327f * t35;
+        float t37 = t34 + t36;
+        float t38 = x4i - x7i;
+        float t39 = 0.7557495743542582f * t38;
+        float t40 = t37 + t39;
+        float t41 = x5i - x6i;
+        float t42 = 0.2817325568414294f * t41;
+        float t43 = t40 + t42;
+        float t44 = t29 + t43;
+        float t45 = 0.8412535328311808f * t14;
+        float t46 = x0i + t45;
+        float t47 = 0.4154150130018868f * t13;
+        float t48 = t46 + t47;
+        float t49 = 0.14231483827328523f * t12;
+        float t50 = t48 - t49;
+        float t51 = 0.6548607339452852f * t11;
+        float t52 = t50 - t51;
+        float t53 = 0.9594929736144975f * t10;
+        float t54 = t52 - t53;
+        float t55 = x1r - x10r;
+        float t56 = 0.5406408174555982f * t55;
+        float t57 = x2r - x9r;
+        float t58 = 0.9096319953545182f * t57;
+        float t59 = t56 + t58;
+        float t60 = x3r - x8r;
+        float t61 = 0.9898214418809327f * t60;
+        float t62 = t59 + t61;
+        float t63 = x4r - x7r;
+        float t64 = 0.7557495743542582f * t63;
+        float t65 = t62 + t64;
+        float t66 = x5r - x6r;
+        float t67 = 0.2817325568414294f * t66;
+        float t68 = t65 + t67;
+        float t69 = t54 - t68;
+        float t70 = 0.4154150130018868f * t4;
+        float t71 = x0r + t70;
+        float t72 = 0.6548607339452852f * t3;
+        float t73 = t71 - t72;
+        float t74 = 0.9594929736144973f * t2;
+        float t75 = t73 - t74;
+        float t76 = 0.142314838273285f * t1;
+        float t77 = t75 - t76;
+        float t78 = 0.8412535328311812f * t0;
+        float t79 = t77 + t78;
+        float t80 = 0.28173255684143006f * t35;
+        float t81 = 0.9096319953545182f * t30;
+        float t82 = 0.7557495743542582f * t32;
+        float t83 = t81 + t82;
+        float t84 = t80 - t83;
+        float t85 = 0.9898214418809328f * t38;
+        float t86 = t84 + t85;
+        float t87 = 0.5406408174555976f * t41;
+        float t88 = t86 + t87;
+        float t89 = t79 - t88;
+        float t90 = 0.4154150130018868f * t14;
+        float t91 = x0i + t90;
+        float t92 = 0.6548607339452852f * t13;
+        float t93 = t91 - t92;
+        float t94 = 0.9594929736144973f * t12;
+        float t95 = t93 - t94;
+        float t96 = 0.142314838273285f * t11;
+        float t97 = t95 - t96;
+        float t98 = 0.8412535328311812f * t10;
+        float t99 = t97 + t98;
+        float t100 = 0.28173255684143006f * t60;
+        float t101 = 0.9096319953545182f * t55;
+        float t102 = 0.7557495743542582f * t57;
+        float t103 = t101 + t102;
+        float t104 = t100 - t103;
+        float t105 = 0.9898214418809328f * t63;
+        float t106 = t104 + t105;
+        float t107 = 0.5406408174555976f * t66;
+        float t108 = t106 + t107;
+        float t109 = t99 + t108;
+        float t110 = 0.14231483827328523f * t4;
+        float t111 = x0r - t110;
+        float t112 = 0.9594929736144973f * t3;
+        float t113 = t111 - t112;
+        float t114 = 0.41541501300188644f * t2;
+        float t115 = t113 + t114;
+        float t116 = 0.8412535328311808f * t1;
+        float t117 = t115 + t116;
+        float t118 = 0.6548607339452852f * t0;
+        float t119 = t117 - t118;
+        float t120 = 0.28173255684143006f * t32;
+        float t121 = 0.9898214418809327f * t30;
+        float t122 = t120 - t121;
+        float t123 = 0.9096319953545183f * t35;
+        float t124 = t122 + t123;
+        float t125 = 0.5406408174555982f * t38;
+        float t126 = t124 - t125;
+        float t127 = 0.7557495743542582f * t41;
+        float t128 = t126 - t127;
+        float t129 = t119 - t128;
+        float t130 = 0.14231483827328523f * t14;
+        float t131 = x0i - t130;
+        float t132 = 0.9594929736144973f * t13;
+        float t133 = t131 - t132;
+        float t134 = 0.41541501300188644f * t12;
+        float t135 = t133 + t134;
+        float t136 = 0.8412535328311808f * t11;
+        float t137 = t135 + t136;
+        float t138 = 0.6548607339452852f * t10;
+        float t139 = t137 - t138;
+        float t140 = 0.28173255684143006f * t57;
+        float t141 = 0.9898214418809327f * t55;
+        float t142 = t140 - t141;
+        float t143 = 0.9096319953545183f * t60;
+        float t144 = t142 + t143;
+        float t145 = 0.5406408174555982f * t63;
+        float t146 = t144 - t145;
+        float t147 = 0.7557495743542582f * t66;
+        float t148 = t146 - t147;
+        float t149 = t139 + t148;
+        float t150 = 0.6548607339452852f * t4;
+        float t151 = x0r - t150;
+        float t152 = 0.142314838273285f * t3;
+        float t153 = t151 - t152;
+        float t154 = 0.8412535328311808f * t2;
+        float t155 = t153 + t154;
+        float t156 = 0.9594929736144975f * t1;
+        float t157 = t155 - t156;
+        float t158 = 0.41541501300188644f * t0;
+        float t159 = t157 + t158;
+        float t160 = 0.9898214418809328f * t32;
+        float t161 = 0.7557495743542582f * t30;
+        float t162 = t160 - t161;
+        float t163 = 0.5406408174555982f * t35;
+        float t164 = t162 - t163;
+        float t165 = 0.2817325568414294f * t38;
+        float t166 = t164 - t165;
+        float t167 = 0.9096319953545183f * t41;
+        float t168 = t166 + t167;
+        float t169 = t159 - t168;
+        float t170 = 0.6548607339452852f * t14;
+        float t171 = x0i - t170;
+        float t172 = 0.142314838273285f * t13;
+        float t173 = t171 - t172;
+        float t174 = 0.8412535328311808f * t12;
+        float t175 = t173 + t174;
+        float t176 = 0.9594929736144975f * t11;
+        float t177 = t175 - t176;
+        float t178 = 0.41541501300188644f * t10;
+        float t179 = t177 + t178;
+        float t180 = 0.9898214418809328f * t57;
+        float t181 = 0.7557495743542582f * t55;
+        float t182 = t180 - t181;
+        float t183 = 0.5406408174555982f * t60;
+        float t184 = t182 - t183;
+        float t185 = 0.2817325568414294f * t63;
+        float t186 = t184 - t185;
+        float t187 = 0.9096319953545183f * t66;
+        float t188 = t186 + t187;
+        float t189 = t179 + t188;
+        float t190 = 0.9594929736144975f * t4;
+        float t191 = x0r - t190;
+        float t192 = 0.8412535328311812f * t3;
+        float t193 = t191 + t192;
+        float t194 = 0.6548607339452852f * t2;
+        float t195 = t193 - t194;
+        float t196 = 0.41541501300188644f * t1;
+        float t197 = t195 + t196;
+        float t198 = 0.14231483827328523f * t0;
+        float t199 = t197 - t198;
+        float t200 = 0.5406408174555976f * t32;
+        float t201 = 0.2817325568414294f * t30;
+        float t202 = t200 - t201;
+        float t203 = 0.7557495743542582f * t35;
+        float t204 = t202 - t203;
+        float t205 = 0.9096319953545183f * t38;
+        float t206 = t204 + t205;
+        float t207 = 0.9898214418809327f * t41;
+        float t208 = t206 - t207;
+        float t209 = t199 - t208;
+        float t210 = 0.9594929736144975f * t14;
+        float t211 = x0i - t210;
+        float t212 = 0.8412535328311812f * t13;
+        float t213 = t211 + t212;
+        float t214 = 0.6548607339452852f * t12;
+        float t215 = t213 - t214;
+        float t216 = 0.41541501300188644f * t11;
+        float t217 = t215 + t216;
+        float t218 = 0.14231483827328523f * t10;
+        float t219 = t217 - t218;
+        float t220 = 0.5406408174555976f * t57;
+        float t221 = 0.2817325568414294f * t55;
+        float t222 = t220 - t221;
+        float t223 = 0.7557495743542582f * t60;
+        float t224 = t222 - t223;
+        float t225 = 0.9096319953545183f * t63;
+        float t226 = t224 + t225;
+        float t227 = 0.9898214418809327f * t66;
+        float t228 = t226 - t227;
+        float t229 = t219 + t228;
+        float t230 = t199 + t208;
+        float t231 = t219 - t228;
+        float t232 = t159 + t168;
+        float t233 = t179 - t188;
+        float t234 = t119 + t128;
+        float t235 = t139 - t148;
+        float t236 = t79 + t88;
+        float t237 = t99 - t108;
+        float t238 = t29 - t43;
+        float t239 = t54 + t68;
+        a[offr] = t9;
+        a[offi] = t19;
+        a[offr + 2] = t44;
+        a[offi + 2] = t69;
+        a[offr + 4] = t89;
+        a[offi + 4] = t109;
+        a[offr + 6] = t129;
+        a[offi + 6] = t149;
+        a[offr + 8] = t169;
+        a[offi + 8] = t189;
+        a[offr + 10] = t209;
+        a[offi + 10] = t229;
+        a[offr + 12] = t230;
+        a[offi + 12] = t231;
+        a[offr + 14] = t232;
+        a[offi + 14] = t233;
+        a[offr + 16] = t234;
+        a[offi + 16] = t235;
+        a[offr + 18] = t236;
+        a[offi + 18] = t237;
+        a[offr + 20] = t238;
+        a[offi + 20] = t239;
+    }
+
+    static void cf12(float[] a, int offr, int offi) {
+        float x0r = a[offr];
+        float x0i = a[offi];
+        float x1r = a[offr + 2];
+        float x1i = a[offi + 2];
+        float x2r = a[offr + 4];
+        float x2i = a[offi + 4];
+        float x3r = a[offr + 6];
+        float x3i = a[offi + 6];
+        float x4r = a[offr + 8];
+        float x4i = a[offi + 8];
+        float x5r = a[offr + 10];
+        float x5i = a[offi + 10];
+        float x6r = a[offr + 12];
+        float x6i = a[offi + 12];
+        float x7r = a[offr + 14];
+        float x7i = a[offi + 14];
+        float x8r = a[offr + 16];
+        float x8i = a[offi + 16];
+        float x9r = a[offr + 18];
+        float x9i = a[offi + 18];
+        float x10r = a[offr + 20];
+        float x10i = a[offi + 20];
+        float x11r = a[offr + 22];
+        float x11i = a[offi + 22];
+        float t0 = x4r + x8r;
+        float t1 = x0r + t0;
+        float t2 = x6r + x10r;
+        float t3 = x2r + t2;
+        float t4 = t1 + t3;
+        float t5 = x5r + x9r;
+        float t6 = x1r + t5;
+        float t7 = x7r + x11r;
+        float t8 = x3r + t7;
+        float t9 = t6 + t8;
+        float t10 = t4 + t9;
+        float t11 = x4i + x8i;
+        float t12 = x0i + t11;
+        float t13 = x6i + x10i;
+        float t14 = x2i + t13;
+        float t15 = t12 + t14;
+        float t16 = x5i + x9i;
+        float t17 = x1i + t16;
+        float t18 = x7i + x11i;
+        float t19 = x3i + t18;
+        float t20 = t17 + t19;
+        float t21 = t15 + t20;
+        float t22 = 0.5f * t0;
+        float t23 = x0r - t22;
+        float t24 = x4i - x8i;
+        float t25 = 0.8660254037844384f * t24;
+        float t26 = t23 + t25;
+        float t27 = 0.5f * t2;
+        float t28 = x2r - t27;
+        float t29 = x6i - x10i;
+        float t30 = 0.8660254037844384f * t29;
+        float t31 = t28 + t30;
+        float t32 = 0.5f * t31;
+        float t33 = 0.5f * t13;
+        float t34 = x2i - t33;
+        float t35 = x6r - x10r;
+        float t36 = 0.8660254037844384f * t35;
+        float t37 = t34 - t36;
+        float t38 = 0.8660254037844386f * t37;
+        float t39 = t32 + t38;
+        float t40 = t26 + t39;
+        float t41 = 0.5f * t18;
+        float t42 = x3i - t41;
+        float t43 = x7r - x11r;
+        float t44 = 0.8660254037844384f * t43;
+        float t45 = t42 - t44;
+        float t46 = 0.5f * t5;
+        float t47 = x1r - t46;
+        float t48 = x5i - x9i;
+        float t49 = 0.8660254037844384f * t48;
+        float t50 = t47 + t49;
+        float t51 = 0.8660254037844384f * t50;
+        float t52 = 0.5f * t16;
+        float t53 = x1i - t52;
+        float t54 = x5r - x9r;
+        float t55 = 0.8660254037844384f * t54;
+        float t56 = t53 - t55;
+        float t57 = 0.5f * t56;
+        float t58 = t51 + t57;
+        float t59 = t45 + t58;
+        float t60 = t40 + t59;
+        float t61 = 0.5f * t11;
+        float t62 = x0i - t61;
+        float t63 = x4r - x8r;
+        float t64 = 0.8660254037844384f * t63;
+        float t65 = t62 - t64;
+        float t66 = 0.5f * t37;
+        float t67 = 0.8660254037844386f * t31;
+        float t68 = t66 - t67;
+        float t69 = t65 + t68;
+        float t70 = 0.8660254037844384f * t56;
+        float t71 = 0.5f * t50;
+        float t72 = t70 - t71;
+        float t73 = 0.5f * t7;
+        float t74 = x3r - t73;
+        float t75 = x7i - x11i;
+        float t76 = 0.8660254037844384f * t75;
+        float t77 = t74 + t76;
+        float t78 = t72 - t77;
+        float t79 = t69 + t78;
+        float t80 = t23 - t25;
+        float t81 = t34 + t36;
+        float t82 = 0.8660254037844384f * t81;
+        float t83 = t28 - t30;
+        float t84 = 0.5f * t83;
+        float t85 = t82 - t84;
+        float t86 = t80 + t85;
+        float t87 = t47 - t49;
+        float t88 = 0.5f * t87;
+        float t89 = t53 + t55;
+        float t90 = 0.8660254037844386f * t89;
+        float t91 = t88 + t90;
+        float t92 = t76 - t74;
+        float t93 = t91 + t92;
+        float t94 = t86 + t93;
+        float t95 = t62 + t64;
+        float t96 = 0.5f * t81;
+        float t97 = 0.8660254037844384f * t83;
+        float t98 = t96 + t97;
+        float t99 = t95 - t98;
+        float t100 = 0.5f * t89;
+        float t101 = 0.8660254037844386f * t87;
+        float t102 = t100 - t101;
+        float t103 = t42 + t44;
+        float t104 = t102 - t103;
+        float t105 = t99 + t104;
+        float t106 = t1 - t3;
+        float t107 = t17 - t19;
+        float t108 = t106 + t107;
+        float t109 = t12 - t14;
+        float t110 = t8 - t6;
+        float t111 = t109 + t110;
+        float t112 = t26 - t39;
+        float t113 = t77 + t72;
+        float t114 = t112 + t113;
+        float t115 = t65 - t68;
+        float t116 = t45 - t58;
+        float t117 = t115 + t116;
+        float t118 = t80 - t85;
+        float t119 = t103 + t102;
+        float t120 = t118 + t119;
+        float t121 = t95 + t98;
+        float t122 = t92 - t91;
+        float t123 = t121 + t122;
+        float t124 = t4 - t9;
+        float t125 = t15 - t20;
+        float t126 = t40 - t59;
+        float t127 = t69 - t78;
+        float t128 = t86 - t93;
+        float t129 = t99 - t104;
+        float t130 = t106 - t107;
+        float t131 = t109 - t110;
+        float t132 = t112 - t113;
+        float t133 = t115 - t116;
+        float t134 = t118 - t119;
+        float t135 = t121 - t122;
+        a[offr] = t10;
+        a[offi] = t21;
+        a[offr + 2] = t60;
+        a[offi + 2] = t79;
+        a[offr + 4] = t94;
+        a[offi + 4] = t105;
+        a[offr + 6] = t108;
+        a[offi + 6] = t111;
+        a[offr + 8] = t114;
+        a[offi + 8] = t117;
+        a[offr + 10] = t120;
+        a[offi + 10] = t123;
+        a[offr + 12] = t124;
+        a[offi + 12] = t125;
+        a[offr + 14] = t126;
+        a[offi + 14] = t127;
+        a[offr + 16] = t128;
+        a[offi + 16] = t129;
+        a[offr + 18] = t130;
+        a[offi + 18] = t131;
+        a[offr + 20] = t132;
+        a[offi + 20] = t133;
+        a[offr + 22] = t134;
+        a[offi + 22] = t135;
+    }
+
+    static void cf13(float[] a, int offr, int offi) {
+        float x0r = a[offr];
+        float x0i = a[offi];
+        float x1r = a[offr + 2];
+        float x1i = a[offi + 2];
+        float x2r = a[offr + 4];
+        float x2i = a[offi + 4];
+        float x3r = a[offr + 6];
+        float x3i = a[offi + 6];
+        float x4r = a[offr + 8];
+        float x4i = a[offi + 8];
+        float x5r = a[offr + 10];
+        float x5i = a[offi + 10];
+        float x6r = a[offr + 12];
+        float x6i = a[offi + 12];
+        float x7r = a[offr + 14];
+        float x7i = a[offi + 14];
+        float x8r = a[offr + 16];
+        float x8i = a[offi + 16];
+        float x9r = a[offr + 18];
+        float x9i = a[offi + 18];
+        float x10r = a[offr + 20];
+        float x10i = a[offi + 20];
+        float x11r = a[offr + 22];
+        float x11i = a[offi + 22];
+        float x12r = a[offr + 24];
+        float x12i = a[offi + 24];
+        float t0 = x6r + x7r;
+        float t1 = x5r + x8r;
+        float t2 = x4r + x9r;
+        float t3 = x3r + x10r;
+        float t4 = x2r + x11r;
+        float t5 = x1r + x12r;
+        float t6 = x0r + t5;
+        float t7 = t4 + t6;
+        float t8 = t3 + t7;
+        float t9 = t2 + t8;
+        float t10 = t1 + t9;
+        float t11 = t0 + t10;
+        float t12 = x6i + x7i;
+        float t13 = x5i + x8i;
+        float t14 = x4i + x9i;
+        float t15 = x3i + x10i;
+        float t16 = x2i + x11i;
+        float t17 = x1i + x12i;
+        float t18 = x0i + t17;
+        float t19 = t16 + t18;
+        float t20 = t15 + t19;
+        float t21 = t14 + t20;
+        float t22 = t13 + t21;
+        float t23 = t12 + t22;
+        float t24 = 0.88545602565321f * t5;
+        float t25 = x0r + t24;
+        float t26 = 0.5680647467311556f * t4;
+        float t27 = t25 + t26;
+        float t28 = 0.1205366802553232f * t3;
+        float t29 = t27 + t28;
+        float t30 = 0.3546048870425359f * t2;
+        float t31 = t29 - t30;
+        float t32 = 0.748510748171101f * t1;
+        float t33 = t31 - t32;
+        float t34 = 0.9709418174260521f * t0;
+        float t35 = t33 - t34;
+        float t36 = x1i - x12i;
+        float t37 = 0.4647231720437684f * t36;
+        float t38 = x2i - x11i;
+        float t39 = 0.8229838658936566f * t38;
+        float t40 = t37 + t39;
+        float t41 = x3i - x10i;
+        float t42 = 0.992708874098054f * t41;
+        float t43 = t40 + t42;
+        float t44 = x4i - x9i;
+        float t45 = 0.9350162426854147f * t44;
+        float t46 = t43 + t45;
+        float t47 = x5i - x8i;
+        float t48 = 0.6631226582407953f * t47;
+        float t49 = t46 + t48;
+        float t50 = x6i - x7i;
+        float t51 = 0.23931566428755743f * t50;
+        float t52 = t49 + t51;
+        float t53 = t35 + t52;
+        float t54 = 0.88545602565321f * t17;
+        float t55 = x0i + t54;
+        float t56 = 0.5680647467311556f * t16;
+        float t57 = t55 + t56;
+        float t58 = 0.1205366802553232f * t15;
+        float t59 = t57 + t58;
+        float t60 = 0.3546048870425359f * t14;
+        float t61 = t59 - t60;
+        float t62 = 0.748510748171101f * t13;
+        float t63 = t61 - t62;
+        float t64 = 0.9709418174260521f * t12;
+        float t65 = t63 - t64;
+        float t66 = x1r - x12r;
+        float t67 = 0.4647231720437684f * t66;
+        float t68 = x2r - x11r;
+        float t69 = 0.8229838658936566f * t68;
+        float t70 = t67 + t69;
+        float t71 = x3r - x10r;
+        float t72 = 0.992708874098054f * t71;
+        float t73 = t70 + t72;
+        float t74 = x4r - x9r;
+        float t75 = 0.9350162426854147f * t74;
+        float t76 = t73 + t75;
+        float t77 = x5r - x8r;
+        float t78 = 0.6631226582407953f * t77;
+        float t79 = t76 + t78;
+        float t80 = x6r - x7r;
+        float t81 = 0.23931566428755743f * t80;
+        float t82 = t79 + t81;
+        float t83 = t65 - t82;
+        float t84 = 0.5680647467311556f * t5;
+        float t85 = x0r + t84;
+        float t86 = 0.3546048870425359f * t4;
+        float t87 = t85 - t86;
+        float t88 = 0.9709418174260521f * t3;
+        float t89 = t87 - t88;
+        float t90 = 0.7485107481711012f * t2;
+        float t91 = t89 - t90;
+        float t92 = 0.120536680255323f * t1;
+        float t93 = t91 + t92;
+        float t94 = 0.8854560256532099f * t0;
+        float t95 = t93 + t94;
+        float t96 = 0.6631226582407952f * t44;
+        float t97 = 0.8229838658936566f * t36;
+        float t98 = 0.9350162426854147f * t38;
+        float t99 = t97 + t98;
+        float t100 = 0.23931566428755743f * t41;
+        float t101 = t99 + t100;
+        float t102 = t96 - t101;
+        float t103 = 0.992708874098054f * t47;
+        float t104 = t102 + t103;
+        float t105 = 0.46472317204376856f * t50;
+        float t106 = t104 + t105;
+        float t107 = t95 - t106;
+        float t108 = 0.5680647467311556f * t17;
+        float t109 = x0i + t108;
+        float t110 = 0.3546048870425359f * t16;
+        float t111 = t109 - t110;
+        float t112 = 0.9709418174260521f * t15;
+        float t113 = t111 - t112;
+        float t114 = 0.7485107481711012f * t14;
+        float t115 = t113 - t114;
+        float t116 = 0.120536680255323f * t13;
+        float t117 = t115 + t116;
+        float t118 = 0.8854560256532099f * t12;
+        float t119 = t117 + t118;
+        float t120 = 0.6631226582407952f * t74;
+        float t121 = 0.8229838658936566f * t66;
+        float t122 = 0.9350162426854147f * t68;
+        float t123 = t121 + t122;
+        float t124 = 0.23931566428755743f * t71;
+        float t125 = t123 + t124;
+        float t126 = t120 - t125;
+        float t127 = 0.992708874098054f * t77;
+        float t128 = t126 + t127;
+        float t129 = 0.46472317204376856f * t80;
+        float t130 = t128 + t129;
+        float t131 = t119 + t130;
+        float t132 = 0.1205366802553232f * t5;
+        float t133 = x0r + t132;
+        float t134 = 0.9709418174260521f * t4;
+        float t135 = t133 - t134;
+        float t136 = 0.3546048870425357f * t3;
+        float t137 = t135 - t136;
+        float t138 = 0.8854560256532099f * t2;
+        float t139 = t137 + t138;
+        float t140 = 0.5680647467311556f * t1;
+        float t141 = t139 + t140;
+        float t142 = 0.748510748171101f * t0;
+        float t143 = t141 - t142;
+        float t144 = 0.9350162426854148f * t41;
+        float t145 = 0.992708874098054f * t36;
+        float t146 = 0.23931566428755743f * t38;
+        float t147 = t145 + t146;
+        float t148 = t144 - t147;
+        float t149 = 0.46472317204376856f * t44;
+        float t150 = t148 + t149;
+        float t151 = 0.8229838658936566f * t47;
+        float t152 = t150 - t151;
+        float t153 = 0.6631226582407953f * t50;
+        float t154 = t152 - t153;
+        float t155 = t143 - t154;
+        float t156 = 0.1205366802553232f * t17;
+        float t157 = x0i + t156;
+        float t158 = 0.9709418174260521f * t16;
+        float t159 = t157 - t158;
+        float t160 = 0.3546048870425357f * t15;
+        float t161 = t159 - t160;
+        float t162 = 0.8854560256532099f * t14;
+        float t163 = t161 + t162;
+        float t164 = 0.5680647467311556f * t13;
+        float t165 = t163 + t164;
+        float t166 = 0.748510748171101f * t12;
+        float t167 = t165 - t166;
+        float t168 = 0.9350162426854148f * t71;
+        float t169 = 0.992708874098054f * t66;
+        float t170 = 0.23931566428755743f * t68;
+        float t171 = t169 + t170;
+        float t172 = t168 - t171;
+        float t173 = 0.46472317204376856f * t74;
+        float t174 = t172 + t173;
+        float t175 = 0.8229838658936566f * t77;
+        float t176 = t174 - t175;
+        float t177 = 0.6631226582407953f * t80;
+        float t178 = t176 - t177;
+        float t179 = t167 + t178;
+        float t180 = 0.3546048870425359f * t5;
+        float t181 = x0r - t180;
+        float t182 = 0.7485107481711012f * t4;
+        float t183 = t181 - t182;
+        float t184 = 0.8854560256532099f * t3;
+        float t185 = t183 + t184;
+        float t186 = 0.1205366802553232f * t2;
+        float t187 = t185 + t186;
+        float t188 = 0.970941817426052f * t1;
+        float t189 = t187 - t188;
+        float t190 = 0.5680647467311558f * t0;
+        float t191 = t189 + t190;
+        float t192 = 0.6631226582407952f * t38;
+        float t193 = 0.9350162426854147f * t36;
+        float t194 = t192 - t193;
+        float t195 = 0.46472317204376856f * t41;
+        float t196 = t194 + t195;
+        float t197 = 0.992708874098054f * t44;
+        float t198 = t196 - t197;
+        float t199 = 0.23931566428755768f * t47;
+        float t200 = t198 + t199;
+        float t201 = 0.8229838658936565f * t50;
+        float t202 = t200 + t201;
+        float t203 = t191 - t202;
+        float t204 = 0.3546048870425359f * t17;
+        float t205 = x0i - t204;
+        float t206 = 0.7485107481711012f * t16;
+        float t207 = t205 - t206;
+        float t208 = 0.8854560256532099f * t15;
+        float t209 = t207 + t208;
+        float t210 = 0.1205366802553232f * t14;
+        float t211 = t209 + t210;
+        float t212 = 0.970941817426052f * t13;
+        float t213 = t211 - t212;
+        float t214 = 0.5680647467311558f * t12;
+        float t215 = t213 + t214;
+        float t216 = 0.6631226582407952f * t68;
+        float t217 = 0.9350162426854147f * t66;
+        float t218 = t216 - t217;
+        float t219 = 0.46472317204376856f * t71;
+        float t220 = t218 + t219;
+        float t221 = 0.992708874098054f * t74;
+        float t222 = t220 - t221;
+        float t223 = 0.23931566428755768f * t77;
+        float t224 = t222 + t223;
+        float t225 = 0.8229838658936565f * t80;
+        float t226 = t224 + t225;
+        float t227 = t215 + t226;
+        float t228 = 0.748510748171101f * t5;
+        float t229 = x0r - t228;
+        float t230 = 0.120536680255323f * t4;
+        float t231 = t229 + t230;
+        float t232 = 0.5680647467311556f * t3;
+        float t233 = t231 + t232;
+        float t234 = 0.970941817426052f * t2;
+        float t235 = t233 - t234;
+        float t236 = 0.8854560256532099f * t1;
+        float t237 = t235 + t236;
+        float t238 = 0.3546048870425359f * t0;
+        float t239 = t237 - t238;
+        float t240 = 0.992708874098054f * t38;
+        float t241 = 0.6631226582407953f * t36;
+        float t242 = t240 - t241;
+        float t243 = 0.8229838658936566f * t41;
+        float t244 = t242 - t243;
+        float t245 = 0.23931566428755768f * t44;
+        float t246 = t244 + t245;
+        float t247 = 0.46472317204376856f * t47;
+        float t248 = t246 + t247;
+        float t249 = 0.9350162426854147f * t50;
+        float t250 = t248 - t249;
+        float t251 = t239 - t250;
+        float t252 = 0.748510748171101f * t17;
+        float t253 = x0i - t252;
+        float t254 = 0.120536680255323f * t16;
+        float t255 = t253 + t254;
+        float t256 = 0.5680647467311556f * t15;
+        float t257 = t255 + t256;
+        float t258 = 0.970941817426052f * t14;
+        float t259 = t257 - t258;
+        float t260 = 0.8854560256532099f * t13;
+        float t261 = t259 + t260;
+        float t262 = 0.3546048870425359f * t12;
+        float t263 = t261 - t262;
+        float t264 = 0.992708874098054f * t68;
+        float t265 = 0.6631226582407953f * t66;
+        float t266 = t264 - t265;
+        float t267 = 0.8229838658936566f * t71;
+        float t268 = t266 - t267;
+        float t269 = 0.23931566428755768f * t74;
+        float t270 = t268 + t269;
+        float t271 = 0.46472317204376856f * t77;
+        float t272 = t270 + t271;
+        float t273 = 0.9350162426854147f * t80;
+        float t274 = t272 - t273;
+        float t275 = t263 + t274;
+        float t276 = 0.9709418174260521f * t5;
+        float t277 = x0r - t276;
+        float t278 = 0.8854560256532099f * t4;
+        float t279 = t277 + t278;
+        float t280 = 0.748510748171101f * t3;
+        float t281 = t279 - t280;
+        float t282 = 0.5680647467311558f * t2;
+        float t283 = t281 + t282;
+        float t284 = 0.3546048870425359f * t1;
+        float t285 = t283 - t284;
+        float t286 = 0.120536680255323f * t0;
+        float t287 = t285 + t286;
+        float t288 = 0.46472317204376856f * t38;
+        float t289 = 0.23931566428755743f * t36;
+        float t290 = t288 - t289;
+        float t291 = 0.6631226582407953f * t41;
+        float t292 = t290 - t291;
+        float t293 = 0.8229838658936565f * t44;
+        float t294 = t292 + t293;
+        float t295 = 0.9350162426854147f * t47;
+        float t296 = t294 - t295;
+        float t297 = 0.992708874098054f * t50;
+        float t298 = t296 + t297;
+        float t299 = t287 - t298;
+        float t300 = 0.9709418174260521f * t17;
+        float t301 = x0i - t300;
+        float t302 = 0.8854560256532099f * t16;
+        float t303 = t301 + t302;
+        float t304 = 0.748510748171101f * t15;
+        float t305 = t303 - t304;
+        float t306 = 0.5680647467311558f * t14;
+        float t307 = t305 + t306;
+        float t308 = 0.3546048870425359f * t13;
+        float t309 = t307 - t308;
+        float t310 = 0.120536680255323f * t12;
+        float t311 = t309 + t310;
+        float t312 = 0.46472317204376856f * t68;
+        float t313 = 0.23931566428755743f * t66;
+        float t314 = t312 - t313;
+        float t315 = 0.6631226582407953f * t71;
+        float t316 = t314 - t315;
+        float t317 = 0.8229838658936565f * t74;
+        float t318 = t316 + t317;
+        float t319 = 0.9350162426854147f * t77;
+        float t320 = t318 - t319;
+        float t321 = 0.992708874098054f * t80;
+        float t322 = t320 + t321;
+        float t323 = t311 + t322;
+        float t324 = t287 + t298;
+        float t325 = t311 - t322;
+        float t326 = t239 + t250;
+        float t327 = t263 - t274;
+        float t328 = t191 + t202;
+        float t329 = t215 - t226;
+        float t330 = t143 + t154;
+        float t331 = t167 - t178;
+        float t332 = t95 + t106;
+        float t333 = t119 - t130;
+        float t334 = t35 - t52;
+        float t335 = t65 + t82;
+        a[offr] = t11;
+        a[offi] = t23;
+        a[offr + 2] = t53;
+        a[offi + 2] = t83;
+        a[offr + 4] = t107;
+        a[offi + 4] = t131;
+        a[offr + 6] = t155;
+        a[offi + 6] = t179;
+        a[offr + 8] = t203;
+        a[offi + 8] = t227;
+        a[offr + 10] = t251;
+        a[offi + 10] = t275;
+        a[offr + 12] = t299;
+        a[offi + 12] = t323;
+        a[offr + 14] = t324;
+        a[offi + 14] = t325;
+        a[offr + 16] = t326;
+        a[offi + 16] = t327;
+        a[offr + 18] = t328;
+        a[offi + 18] = t329;
+        a[offr + 20] = t330;
+        a[offi + 20] = t331;
+        a[offr + 22] = t332;
+        a[offi + 22] = t333;
+        a[offr + 24] = t334;
+        a[offi + 24] = t335;
+    }
+
+    static void cf14(float[] a, int offr, int offi) {
+        float x0r = a[offr];
+        float x0i = a[offi];
+        float x1r = a[offr + 2];
+        float x1i = a[offi + 2];
+        float x2r = a[offr + 4];
+        float x2i = a[offi + 4];
+        float x3r = a[offr + 6];
+        float x3i = a[offi + 6];
+        float x4r = a[offr + 8];
+        float x4i = a[offi + 8];
+        float x5r = a[offr + 10];
+        float x5i = a[offi + 10];
+        float x6r = a[offr + 12];
+        float x6i = a[offi + 12];
+        float x7r = a[offr + 14];
+        float x7i = a[offi + 14];
+        float x8r = a[offr + 16];
+        float x8i = a[offi + 16];
+        float x9r = a[offr + 18];
+        float x9i = a[offi + 18];
+        float x10r = a[offr + 20];
+        float x10i = a[offi + 20];
+        float x11r = a[offr + 22];
+        float x11i = a[offi + 22];
+        float x12r = a[offr + 24];
+        float x12i = a[offi + 24];
+        float x13r = a[offr + 26];
+        float x13i = a[offi + 26];
+        float t0 = x6r + x8r;
+        float t1 = x4r + x10r;
+        float t2 = x2r + x12r;
+        float t3 = x0r + t2;
+        float t4 = t1 + t3;
+        float t5 = t0 + t4;
+        float t6 = x7r + x9r;
+        float t7 = x5r + x11r;
+        float t8 = x3r + x13r;
+        float t9 = x1r + t8;
+        float t10 = t7 + t9;
+        float t11 = t6 + t10;
+        float t12 = t5 + t11;
+        float t13 = x6i + x8i;
+        float t14 = x4i + x10i;
+        float t15 = x2i + x12i;
+        float t16 = x0i + t15;
+        float t17 = t14 + t16;
+        float t18 = t13 + t17;
+        float t19 = x7i + x9i;
+        float t20 = x5i + x11i;
+        float t21 = x3i + x13i;
+        float t22 = x1i + t21;
+        float t23 = t20 + t22;
+        float t24 = t19 + t23;
+        float t25 = t18 + t24;
+        float t26 = 0.6234898018587334f * t2;
+        float t27 = x0r + t26;
+        float t28 = 0.2225209339563146f * t1;
+        float t29 = t27 - t28;
+        float t30 = 0.9009688679024191f * t0;
+        float t31 = t29 - t30;
+        float t32 = x2i - x12i;
+        float t33 = 0.7818314824680299f * t32;
+        float t34 = x4i - x10i;
+        float t35 = 0.9749279121818236f * t34;
+        float t36 = t33 + t35;
+        float t37 = x6i - x8i;
+        float t38 = 0.433883739117558f * t37;
+        float t39 = t36 + t38;
+        float t40 = t31 + t39;
+        float t41 = 0.6234898018587334f * t8;
+        float t42 = x1r + t41;
+        float t43 = 0.2225209339563146f * t7;
+        float t44 = t42 - t43;
+        float t45 = 0.9009688679024191f * t6;
+        float t46 = t44 - t45;
+        float t47 = x3i - x13i;
+        float t48 = 0.7818314824680299f * t47;
+        float t49 = x5i - x11i;
+        float t50 = 0.9749279121818236f * t49;
+        float t51 = t48 + t50;
+        float t52 = x7i - x9i;
+        float t53 = 0.433883739117558f * t52;
+        float t54 = t51 + t53;
+        float t55 = t46 + t54;
+        float t56 = 0.900968867902419f * t55;
+        float t57 = 0.6234898018587334f * t21;
+        float t58 = x1i + t57;
+        float t59 = 0.2225209339563146f * t20;
+        float t60 = t58 - t59;
+        float t61 = 0.9009688679024191f * t19;
+        float t62 = t60 - t61;
+        float t63 = x3r - x13r;
+        float t64 = 0.7818314824680299f * t63;
+        float t65 = x5r - x11r;
+        float t66 = 0.9749279121818236f * t65;
+        float t67 = t64 + t66;
+        float t68 = x7r - x9r;
+        float t69 = 0.433883739117558f * t68;
+        float t70 = t67 + t69;
+        float t71 = t62 - t70;
+        float t72 = 0.43388373911755834f * t71;
+        float t73 = t56 + t72;
+        float t74 = t40 + t73;
+        float t75 = 0.6234898018587334f * t15;
+        float t76 = x0i + t75;
+        float t77 = 0.2225209339563146f * t14;
+        float t78 = t76 - t77;
+        float t79 = 0.9009688679024191f * t13;
+        float t80 = t78 - t79;
+        float t81 = x2r - x12r;
+        float t82 = 0.7818314824680299f * t81;
+        float t83 = x4r - x10r;
+        float t84 = 0.9749279121818236f * t83;
+        float t85 = t82 + t84;
+        float t86 = x6r - x8r;
+        float t87 = 0.433883739117558f * t86;
+        float t88 = t85 + t87;
+        float t89 = t80 - t88;
+        float t90 = 0.900968867902419f * t71;
+        float t91 = 0.43388373911755834f * t55;
+        float t92 = t90 - t91;
+        float t93 = t89 + t92;
+        float t94 = 0.2225209339563146f * t2;
+        float t95 = x0r - t94;
+        float t96 = 0.900968867902419f * t1;
+        float t97 = t95 - t96;
+        float t98 = 0.6234898018587336f * t0;
+        float t99 = t97 + t98;
+        float t100 = 0.43388373911755823f * t34;
+        float t101 = 0.9749279121818236f * t32;
+        float t102 = t100 - t101;
+        float t103 = 0.7818314824680298f * t37;
+        float t104 = t102 + t103;
+        float t105 = t99 - t104;
+        float t106 = 0.2225209339563146f * t8;
+        float t107 = x1r - t106;
+        float t108 = 0.900968867902419f * t7;
+        float t109 = t107 - t108;
+        float t110 = 0.6234898018587336f * t6;
+        float t111 = t109 + t110;
+        float t112 = 0.43388373911755823f * t49;
+        float t113 = 0.9749279121818236f * t47;
+        float t114 = t112 - t113;
+        float t115 = 0.7818314824680298f * t52;
+        float t116 = t114 + t115;
+        float t117 = t111 - t116;
+        float t118 = 0.6234898018587334f * t117;
+        float t119 = 0.2225209339563146f * t21;
+        float t120 = x1i - t119;
+        float t121 = 0.900968867902419f * t20;
+        float t122 = t120 - t121;
+        float t123 = 0.6234898018587336f * t19;
+        float t124 = t122 + t123;
+        float t125 = 0.43388373911755823f * t65;
+        float t126 = 0.9749279121818236f * t63;
+        float t127 = t125 - t126;
+        float t128 = 0.7818314824680298f * t68;
+        float t129 = t127 + t128;
+        float t130 = t124 + t129;
+        float t131 = 0.7818314824680299f * t130;
+        float t132 = t118 + t131;
+        float t133 = t105 + t132;
+        float t134 = 0.2225209339563146f * t15;
+        float t135 = x0i - t134;
+        float t136 = 0.900968867902419f * t14;
+        float t137 = t135 - t136;
+        float t138 = 0.6234898018587336f * t13;
+        float t139 = t137 + t138;
+        float t140 = 0.43388373911755823f * t83;
+        float t141 = 0.9749279121818236f * t81;
+        float t142 = t140 - t141;
+        float t143 = 0.7818314824680298f * t86;
+        float t144 = t142 + t143;
+        float t145 = t139 + t144;
+        float t146 = 0.6234898018587334f * t130;
+        float t147 = 0.7818314824680299f * t117;
+        float t148 = t146 - t147;
+        float t149 = t145 + t148;
+        float t150 = 0.9009688679024191f * t2;
+        float t151 = x0r - t150;
+        float t152 = 0.6234898018587336f * t1;
+        float t153 = t151 + t152;
+        float t154 = 0.2225209339563146f * t0;
+        float t155 = t153 - t154;
+        float t156 = 0.7818314824680298f * t34;
+        float t157 = 0.433883739117558f * t32;
+        float t158 = t156 - t157;
+        float t159 = 0.9749279121818236f * t37;
+        float t160 = t158 - t159;
+        float t161 = t155 - t160;
+        float t162 = 0.9009688679024191f * t8;
+        float t163 = x1r - t162;
+        float t164 = 0.6234898018587336f * t7;
+        float t165 = t163 + t164;
+        float t166 = 0.2225209339563146f * t6;
+        float t167 = t165 - t166;
+        float t168 = 0.7818314824680298f * t49;
+        float t169 = 0.433883739117558f * t47;
+        float t170 = t168 - t169;
+        float t171 = 0.9749279121818236f * t52;
+        float t172 = t170 - t171;
+        float t173 = t167 - t172;
+        float t174 = 0.22252093395631423f * t173;
+        float t175 = 0.9009688679024191f * t21;
+        float t176 = x1i - t175;
+        float t177 = 0.6234898018587336f * t20;
+        float t178 = t176 + t177;
+        float t179 = 0.2225209339563146f * t19;
+        float t180 = t178 - t179;
+        float t181 = 0.7818314824680298f * t65;
+        float t182 = 0.433883739117558f * t63;
+        float t183 = t181 - t182;
+        float t184 = 0.9749279121818236f * t68;
+        float t185 = t183 - t184;
+        float t186 = t180 + t185;
+        float t187 = 0.9749279121818236f * t186;
+        float t188 = t174 + t187;
+        float t189 = t161 + t188;
+        float t190 = 0.9009688679024191f * t15;
+        float t191 = x0i - t190;
+        float t192 = 0.6234898018587336f * t14;
+        float t193 = t191 + t192;
+        float t194 = 0.2225209339563146f * t13;
+        float t195 = t193 - t194;
+        float t196 = 0.7818314824680298f * t83;
+        float t197 = 0.433883739117558f * t81;
+        float t198 = t196 - t197;
+        float t199 = 0.9749279121818236f * t86;
+        float t200 = t198 - t199;
+        float t201 = t195 + t200;
+        float t202 = 0.22252093395631423f * t186;
+        float t203 = 0.9749279121818236f * t173;
+        float t204 = t202 - t203;
+        float t205 = t201 + t204;
+        float t206 = t155 + t160;
+        float t207 = t180 - t185;
+        float t208 = 0.9749279121818236f * t207;
+        float t209 = t167 + t172;
+        float t210 = 0.2225209339563146f * t209;
+        float t211 = t208 - t210;
+        float t212 = t206 + t211;
+        float t213 = t195 - t200;
+        float t214 = 0.2225209339563146f * t207;
+        float t215 = 0.9749279121818236f * t209;
+        float t216 = t214 + t215;
+        float t217 = t213 - t216;
+        float t218 = t99 + t104;
+        float t219 = t124 - t129;
+        float t220 = 0.7818314824680297f * t219;
+        float t221 = t111 + t116;
+        float t222 = 0.6234898018587337f * t221;
+        float t223 = t220 - t222;
+        float t224 = t218 + t223;
+        float t225 = t139 - t144;
+        float t226 = 0.6234898018587337f * t219;
+        float t227 = 0.7818314824680297f * t221;
+        float t228 = t226 + t227;
+        float t229 = t225 - t228;
+        float t230 = t31 - t39;
+        float t231 = t62 + t70;
+        float t232 = 0.433883739117558f * t231;
+        float t233 = t46 - t54;
+        float t234 = 0.9009688679024191f * t233;
+        float t235 = t232 - t234;
+        float t236 = t230 + t235;
+        float t237 = t80 + t88;
+        float t238 = 0.9009688679024191f * t231;
+        float t239 = 0.433883739117558f * t233;
+        float t240 = t238 + t239;
+        float t241 = t237 - t240;
+        float t242 = t5 - t11;
+        float t243 = t18 - t24;
+        float t244 = t40 - t73;
+        float t245 = t89 - t92;
+        float t246 = t105 - t132;
+        float t247 = t145 - t148;
+        float t248 = t161 - t188;
+        float t249 = t201 - t204;
+        float t250 = t206 - t211;
+        float t251 = t213 + t216;
+        float t252 = t218 - t223;
+        float t253 = t225 + t228;
+        float t254 = t230 - t235;
+        float t255 = t237 + t240;
+        a[offr] = t12;
+        a[offi] = t25;
+        a[offr + 2] = t74;
+        a[offi + 2] = t93;
+        a[offr + 4] = t133;
+        a[offi + 4] = t149;
+        a[offr + 6] = t189;
+        a[offi + 6] = t205;
+        a[offr + 8] = t212;
+        a[offi + 8] = t217;
+        a[offr + 10] = t224;
+        a[offi + 10] = t229;
+        a[offr + 12] = t236;
+        a[offi + 12] = t241;
+        a[offr + 14] = t242;
+        a[offi + 14] = t243;
+        a[offr + 16] = t244;
+        a[offi + 16] = t245;
+        a[offr + 18] = t246;
+        a[offi + 18] = t247;
+        a[offr + 20] = t248;
+        a[offi + 20] = t249;
+        a[offr + 22] = t250;
+        a[offi + 22] = t251;
+        a[offr + 24] = t252;
+        a[offi + 24] = t253;
+        a[offr + 26] = t254;
+        a[offi + 26] = t255;
+    }
+
+    static void cf15(float[] a, int offr, int offi) {
+        float x0r = a[offr];
+        float x0i = a[offi];
+        float x1r = a[offr + 2];
+        float x1i = a[offi + 2];
+        float x2r = a[offr + 4];
+        float x2i = a[offi + 4];
+        float x3r = a[offr + 6];
+        float x3i = a[offi + 6];
+        float x4r = a[offr + 8];
+        float x4i = a[offi + 8];
+        float x5r = a[offr + 10];
+        float x5i = a[offi + 10];
+        float x6r = a[offr + 12];
+        float x6i = a[offi + 12];
+        float x7r = a[offr + 14];
+        float x7i = a[offi + 14];
+        float x8r = a[offr + 16];
+        float x8i = a[offi + 16];
+        float x9r = a[offr + 18];
+        float x9i = a[offi + 18];
+        float x10r = a[offr + 20];
+        float x10i = a[offi + 20];
+        float x11r = a[offr + 22];
+        float x11i = a[offi + 22];
+        float x12r = a[offr + 24];
+        float x12i = a[offi + 24];
+        float x13r = a[offr + 26];
+        float x13i = a[offi + 26];
+        float x14r = a[offr + 28];
+        float x14i = a[offi + 28];
+        float t0 = x6r + x9r;
+        float t1 = x3r + x12r;
+        float t2 = x0r + t1;
+        float t3 = t0 + t2;
+        float t4 = x7r + x10r;
+        float t5 = x4r + x13r;
+        float t6 = x1r + t5;
+        float t7 = t4 + t6;
+        float t8 = x8r + x11r;
+        float t9 = x5r + x14r;
+        float t10 = x2r + t9;
+        float t11 = t8 + t10;
+        float t12 = t7 + t11;
+        float t13 = t3 + t12;
+        float t14 = x6i + x9i;
+        float t15 = x3i + x12i;
+        float t16 = x0i + t15;
+        float t17 = t14 + t16;
+        float t18 = x7i + x10i;
+        float t19 = x4i + x13i;
+        float t20 = x1i + t19;
+        float t21 = t18 + t20;
+        float t22 = x8i + x11i;
+        float t23 = x5i + x14i;
+        float t24 = x2i + t23;
+        float t25 = t22 + t24;
+        float t26 = t21 + t25;
+        float t27 = t17 + t26;
+        float t28 = 0.30901699437494723f * t1;
+        float t29 = x0r + t28;
+        float t30 = 0.8090169943749476f * t0;
+        float t31 = t29 - t30;
+        float t32 = x3i - x12i;
+        float t33 = 0.9510565162951536f * t32;
+        float t34 = x6i - x9i;
+        float t35 = 0.587785252292473f * t34;
+        float t36 = t33 + t35;
+        float t37 = t31 + t36;
+        float t38 = 0.30901699437494723f * t5;
+        float t39 = x1r + t38;
+        float t40 = 0.8090169943749476f * t4;
+        float t41 = t39 - t40;
+        float t42 = x4i - x13i;
+        float t43 = 0.9510565162951536f * t42;
+        float t44 = x7i - x10i;
+        float t45 = 0.587785252292473f * t44;
+        float t46 = t43 + t45;
+        float t47 = t41 + t46;
+        float t48 = 0.913545457642601f * t47;
+        float t49 = 0.30901699437494723f * t19;
+        float t50 = x1i + t49;
+        float t51 = 0.8090169943749476f * t18;
+        float t52 = t50 - t51;
+        float t53 = x4r - x13r;
+        float t54 = 0.9510565162951536f * t53;
+        float t55 = x7r - x10r;
+        float t56 = 0.587785252292473f * t55;
+        float t57 = t54 + t56;
+        float t58 = t52 - t57;
+        float t59 = 0.40673664307580015f * t58;
+        float t60 = t48 + t59;
+        float t61 = 0.30901699437494723f * t9;
+        float t62 = x2r + t61;
+        float t63 = 0.8090169943749476f * t8;
+        float t64 = t62 - t63;
+        float t65 = x5i - x14i;
+        float t66 = 0.9510565162951536f * t65;
+        float t67 = x8i - x11i;
+        float t68 = 0.587785252292473f * t67;
+        float t69 = t66 + t68;
+        float t70 = t64 + t69;
+        float t71 = 0.6691306063588585f * t70;
+        float t72 = 0.30901699437494723f * t23;
+        float t73 = x2i + t72;
+        float t74 = 0.8090169943749476f * t22;
+        float t75 = t73 - t74;
+        float t76 = x5r - x14r;
+        float t77 = 0.9510565162951536f * t76;
+        float t78 = x8r - x11r;
+        float t79 = 0.587785252292473f * t78;
+        float t80 = t77 + t79;
+        float t81 = t75 - t80;
+        float t82 = 0.743144825477394f * t81;
+        float t83 = t71 + t82;
+        float t84 = t60 + t83;
+        float t85 = t37 + t84;
+        float t86 = 0.30901699437494723f * t15;
+        float t87 = x0i + t86;
+        float t88 = 0.8090169943749476f * t14;
+        float t89 = t87 - t88;
+        float t90 = x3r - x12r;
+        float t91 = 0.9510565162951536f * t90;
+        float t92 = x6r - x9r;
+        float t93 = 0.587785252292473f * t92;
+        float t94 = t91 + t93;
+        float t95 = t89 - t94;
+        float t96 = 0.913545457642601f * t58;
+        float t97 = 0.40673664307580015f * t47;
+        float t98 = t96 - t97;
+        float t99 = 0.6691306063588585f * t81;
+        float t100 = 0.743144825477394f * t70;
+        float t101 = t99 - t100;
+        float t102 = t98 + t101;
+        float t103 = t95 + t102;
+        float t104 = 0.8090169943749476f * t1;
+        float t105 = x0r - t104;
+        float t106 = 0.30901699437494745f * t0;
+        float t107 = t105 + t106;
+        float t108 = 0.9510565162951535f * t34;
+        float t109 = 0.587785252292473f * t32;
+        float t110 = t108 - t109;
+        float t111 = t107 - t110;
+        float t112 = 0.8090169943749476f * t5;
+        float t113 = x1r - t112;
+        float t114 = 0.30901699437494745f * t4;
+        float t115 = t113 + t114;
+        float t116 = 0.9510565162951535f * t44;
+        float t117 = 0.587785252292473f * t42;
+        float t118 = t116 - t117;
+        float t119 = t115 - t118;
+        float t120 = 0.6691306063588585f * t119;
+        float t121 = 0.8090169943749476f * t19;
+        float t122 = x1i - t121;
+        float t123 = 0.30901699437494745f * t18;
+        float t124 = t122 + t123;
+        float t125 = 0.9510565162951535f * t55;
+        float t126 = 0.587785252292473f * t53;
+        float t127 = t125 - t126;
+        float t128 = t124 + t127;
+        float t129 = 0.743144825477394f * t128;
+        float t130 = t120 + t129;
+        float t131 = 0.8090169943749476f * t23;
+        float t132 = x2i - t131;
+        float t133 = 0.30901699437494745f * t22;
+        float t134 = t132 + t133;
+        float t135 = 0.9510565162951535f * t78;
+        float t136 = 0.587785252292473f * t76;
+        float t137 = t135 - t136;
+        float t138 = t134 + t137;
+        float t139 = 0.9945218953682733f * t138;
+        float t140 = 0.8090169943749476f * t9;
+        float t141 = x2r - t140;
+        float t142 = 0.30901699437494745f * t8;
+        float t143 = t141 + t142;
+        float t144 = 0.9510565162951535f * t67;
+        float t145 = 0.587785252292473f * t65;
+        float t146 = t144 - t145;
+        float t147 = t143 - t146;
+        float t148 = 0.10452846326765423f * t147;
+        float t149 = t139 - t148;
+        float t150 = t130 + t149;
+        float t151 = t111 + t150;
+        float t152 = 0.8090169943749476f * t15;
+        float t153 = x0i - t152;
+        float t154 = 0.30901699437494745f * t14;
+        float t155 = t153 + t154;
+        float t156 = 0.9510565162951535f * t92;
+        float t157 = 0.587785252292473f * t90;
+        float t158 = t156 - t157;
+        float t159 = t155 + t158;
+        float t160 = 0.6691306063588585f * t128;
+        float t161 = 0.743144825477394f * t119;
+        float t162 = t160 - t161;
+        float t163 = 0.10452846326765423f * t138;
+        float t164 = 0.9945218953682733f * t147;
+        float t165 = t163 + t164;
+        float t166 = t162 - t165;
+        float t167 = t159 + t166;
+        float t168 = t107 + t110;
+        float t169 = t115 + t118;
+        float t170 = 0.30901699437494723f * t169;
+        float t171 = t124 - t127;
+        float t172 = 0.9510565162951536f * t171;
+        float t173 = t170 + t172;
+        float t174 = t134 - t137;
+        float t175 = 0.587785252292473f * t174;
+        float t176 = t143 + t146;
+        float t177 = 0.8090169943749476f * t176;
+        float t178 = t175 - t177;
+        float t179 = t173 + t178;
+        float t180 = t168 + t179;
+        float t181 = t155 - t158;
+        float t182 = 0.30901699437494723f * t171;
+        float t183 = 0.9510565162951536f * t169;
+        float t184 = t182 - t183;
+        float t185 = 0.8090169943749476f * t174;
+        float t186 = 0.587785252292473f * t176;
+        float t187 = t185 + t186;
+        float t188 = t184 - t187;
+        float t189 = t181 + t188;
+        float t190 = t31 - t36;
+        float t191 = t52 + t57;
+        float t192 = 0.9945218953682733f * t191;
+        float t193 = t41 - t46;
+        float t194 = 0.10452846326765423f * t193;
+        float t195 = t192 - t194;
+        float t196 = t64 - t69;
+        float t197 = 0.9781476007338057f * t196;
+        float t198 = t75 + t80;
+        float t199 = 0.20791169081775931f * t198;
+        float t200 = t197 + t199;
+        float t201 = t195 - t200;
+        float t202 = t190 + t201;
+        float t203 = t89 + t94;
+        float t204 = 0.20791169081775931f * t196;
+        float t205 = 0.9781476007338057f * t198;
+        float t206 = t204 - t205;
+        float t207 = 0.10452846326765423f * t191;
+        float t208 = 0.9945218953682733f * t193;
+        float t209 = t207 + t208;
+        float t210 = t206 - t209;
+        float t211 = t203 + t210;
+        float t212 = 0.5f * t12;
+        float t213 = t3 - t212;
+        float t214 = t21 - t25;
+        float t215 = 0.8660254037844384f * t214;
+        float t216 = t213 + t215;
+        float t217 = 0.5f * t26;
+        float t218 = t17 - t217;
+        float t219 = t7 - t11;
+        float t220 = 0.8660254037844384f * t219;
+        float t221 = t218 - t220;
+        float t222 = 0.5f * t84;
+        float t223 = t37 - t222;
+        float t224 = t98 - t101;
+        float t225 = 0.8660254037844384f * t224;
+        float t226 = t223 + t225;
+        float t227 = 0.5f * t102;
+        float t228 = t95 - t227;
+        float t229 = t60 - t83;
+        float t230 = 0.8660254037844384f * t229;
+        float t231 = t228 - t230;
+        float t232 = 0.5f * t150;
+        float t233 = t111 - t232;
+        float t234 = t162 + t165;
+        float t235 = 0.8660254037844384f * t234;
+        float t236 = t233 + t235;
+        float t237 = 0.5f * t166;
+        float t238 = t159 - t237;
+        float t239 = t130 - t149;
+        float t240 = 0.8660254037844384f * t239;
+        float t241 = t238 - t240;
+        float t242 = 0.5f * t179;
+        float t243 = t168 - t242;
+        float t244 = t184 + t187;
+        float t245 = 0.8660254037844384f * t244;
+        float t246 = t243 + t245;
+        float t247 = 0.5f * t188;
+        float t248 = t181 - t247;
+        float t249 = t173 - t178;
+        float t250 = 0.8660254037844384f * t249;
+        float t251 = t248 - t250;
+        float t252 = 0.5f * t201;
+        float t253 = t190 - t252;
+        float t254 = t209 + t206;
+        float t255 = 0.8660254037844384f * t254;
+        float t256 = t253 - t255;
+        float t257 = 0.5f * t210;
+        float t258 = t203 - t257;
+        float t259 = t195 + t200;
+        float t260 = 0.8660254037844384f * t259;
+        float t261 = t258 - t260;
+        float t262 = t213 - t215;
+        float t263 = t218 + t220;
+        float t264 = t223 - t225;
+        float t265 = t228 + t230;
+        float t266 = t233 - t235;
+        float t267 = t238 + t240;
+        float t268 = t243 - t245;
+        float t269 = t248 + t250;
+        float t270 = t253 + t255;
+        float t271 = t258 + t260;
+        a[offr] = t13;
+        a[offi] = t27;
+        a[offr + 2] = t85;
+        a[offi + 2] = t103;
+        a[offr + 4] = t151;
+        a[offi + 4] = t167;
+        a[offr + 6] = t180;
+        a[offi + 6] = t189;
+        a[offr + 8] = t202;
+        a[offi + 8] = t211;
+        a[offr + 10] = t216;
+        a[offi + 10] = t221;
+        a[offr + 12] = t226;
+        a[offi + 12] = t231;
+        a[offr + 14] = t236;
+        a[offi + 14] = t241;
+        a[offr + 16] = t246;
+        a[offi + 16] = t251;
+        a[offr + 18] = t256;
+        a[offi + 18] = t261;
+        a[offr + 20] = t262;
+        a[offi + 20] = t263;
+        a[offr + 22] = t264;
+        a[offi + 22] = t265;
+        a[offr + 24] = t266;
+        a[offi + 24] = t267;
+        a[offr + 26] = t268;
+        a[offi + 26] = t269;
+        a[offr + 28] = t270;
+        a[offi + 28] = t271;
+    }
+
+    static void cf16(float[] a, int offr, int offi) {
+        float x0r = a[offr];
+        float x0i = a[offi];
+        float x1r = a[offr + 2];
+        float x1i = a[offi + 2];
+        float x2r = a[offr + 4];
+        float x2i = a[offi + 4];
+        float x3r = a[offr + 6];
+        float x3i = a[offi + 6];
+        float x4r = a[offr + 8];
+        float x4i = a[offi + 8];
+        float x5r = a[offr + 10];
+        float x5i = a[offi + 10];
+        float x6r = a[offr + 12];
+        float x6i = a[offi + 12];
+        float x7r = a[offr + 14];
+        float x7i = a[offi + 14];
+        float x8r = a[offr + 16];
+        float x8i = a[offi + 16];
+        float x9r = a[offr + 18];
+        float x9i = a[offi + 18];
+        float x10r = a[offr + 20];
+        float x10i = a[offi + 20];
+        float x11r = a[offr + 22];
+        float x11i = a[offi + 22];
+        float x12r = a[offr + 24];
+        float x12i = a[offi + 24];
+        float x13r = a[offr + 26];
+        float x13i = a[offi + 26];
+        float x14r = a[offr + 28];
+        float x14i = a[offi + 28];
+        float x15r = a[offr + 30];
+        float x15i = a[offi + 30];
+        float t0 = x0r + x8r;
+        float t1 = x4r + x12r;
+        float t2 = t0 + t1;
+        float t3 = x2r + x10r;
+        float t4 = x6r + x14r;
+        float t5 = t3 + t4;
+        float t6 = t2 + t5;
+        float t7 = x1r + x9r;
+        float t8 = x5r + x13r;
+        float t9 = t7 + t8;
+        float t10 = x3r + x11r;
+        float t11 = x7r + x15r;
+        float t12 = t10 + t11;
+        float t13 = t9 + t12;
+        float t14 = t6 + t13;
+        float t15 = x0i + x8i;
+        float t16 = x4i + x12i;
+        float t17 = t15 + t16;
+        float t18 = x2i + x10i;
+        float t19 = x6i + x14i;
+        float t20 = t18 + t19;
+        float t21 = t17 + t20;
+        float t22 = x1i + x9i;
+        float t23 = x5i + x13i;
+        float t24 = t22 + t23;
+        float t25 = x3i + x11i;
+        float t26 = x7i + x15i;
+        float t27 = t25 + t26;
+        float t28 = t24 + t27;
+        float t29 = t21 + t28;
+        float t30 = x0r - x8r;
+        float t31 = x4i - x12i;
+        float t32 = t30 + t31;
+        float t33 = x2r - x10r;
+        float t34 = x6i - x14i;
+        float t35 = t33 + t34;
+        float t36 = x2i - x10i;
+        float t37 = x14r - x6r;
+        float t38 = t36 + t37;
+        float t39 = t35 + t38;
+        float t40 = 0.7071067811865476f * t39;
+        float t41 = t32 + t40;
+        float t42 = x1r - x9r;
+        float t43 = x5i - x13i;
+        float t44 = t42 + t43;
+        float t45 = 0.9238795325112865f * t44;
+        float t46 = x1i - x9i;
+        float t47 = x13r - x5r;
+        float t48 = t46 + t47;
+        float t49 = 0.3826834323650904f * t48;
+        float t50 = t45 + t49;
+        float t51 = x3r - x11r;
+        float t52 = x7i - x15i;
+        float t53 = t51 + t52;
+        float t54 = 0.38268343236509f * t53;
+        float t55 = x3i - x11i;
+        float t56 = x15r - x7r;
+        float t57 = t55 + t56;
+        float t58 = 0.9238795325112866f * t57;
+        float t59 = t54 + t58;
+        float t60 = t50 + t59;
+        float t61 = t41 + t60;
+        float t62 = x0i - x8i;
+        float t63 = x12r - x4r;
+        float t64 = t62 + t63;
+        float t65 = t38 - t35;
+        float t66 = 0.7071067811865476f * t65;
+        float t67 = t64 + t66;
+        float t68 = 0.9238795325112865f * t48;
+        float t69 = 0.3826834323650904f * t44;
+        float t70 = t68 - t69;
+        float t71 = 0.38268343236509f * t57;
+        float t72 = 0.9238795325112866f * t53;
+        float t73 = t71 - t72;
+        float t74 = t70 + t73;
+        float t75 = t67 + t74;
+        float t76 = t0 - t1;
+        float t77 = t18 - t19;
+        float t78 = t76 + t77;
+        float t79 = t7 - t8;
+        float t80 = t22 - t23;
+        float t81 = t79 + t80;
+        float t82 = 0.7071067811865476f * t81;
+        float t83 = t10 - t11;
+        float t84 = t25 - t26;
+        float t85 = t83 - t84;
+        float t86 = 0.7071067811865476f * t85;
+        float t87 = t82 - t86;
+        float t88 = t78 + t87;
+        float t89 = t15 - t16;
+        float t90 = t4 - t3;
+        float t91 = t89 + t90;
+        float t92 = t80 - t79;
+        float t93 = 0.7071067811865476f * t92;
+        float t94 = t83 + t84;
+        float t95 = 0.7071067811865476f * t94;
+        float t96 = t93 - t95;
+        float t97 = t91 + t96;
+        float t98 = t30 - t31;
+        float t99 = t33 - t34;
+        float t100 = t36 - t37;
+        float t101 = t99 - t100;
+        float t102 = 0.7071067811865476f * t101;
+        float t103 = t98 - t102;
+        float t104 = t42 - t43;
+        float t105 = 0.38268343236509f * t104;
+        float t106 = t46 - t47;
+        float t107 = 0.9238795325112866f * t106;
+        float t108 = t105 + t107;
+        float t109 = t51 - t52;
+        float t110 = 0.9238795325112867f * t109;
+        float t111 = t55 - t56;
+        float t112 = 0.3826834323650899f * t111;
+        float t113 = t110 + t112;
+        float t114 = t108 - t113;
+        float t115 = t103 + t114;
+        float t116 = t62 - t63;
+        float t117 = t99 + t100;
+        float t118 = 0.7071067811865476f * t117;
+        float t119 = t116 - t118;
+        float t120 = 0.38268343236509f * t106;
+        float t121 = 0.9238795325112866f * t104;
+        float t122 = t120 - t121;
+        float t123 = 0.3826834323650899f * t109;
+        float t124 = 0.9238795325112867f * t111;
+        float t125 = t123 - t124;
+        float t126 = t122 + t125;
+        float t127 = t119 + t126;
+        float t128 = t2 - t5;
+        float t129 = t24 - t27;
+        float t130 = t128 + t129;
+        float t131 = t17 - t20;
+        float t132 = t12 - t9;
+        float t133 = t131 + t132;
+        float t134 = t32 - t40;
+        float t135 = t70 - t73;
+        float t136 = t134 + t135;
+        float t137 = t64 - t66;
+        float t138 = t59 - t50;
+        float t139 = t137 + t138;
+        float t140 = t76 - t77;
+        float t141 = t93 + t95;
+        float t142 = t140 + t141;
+        float t143 = t89 - t90;
+        float t144 = t82 + t86;
+        float t145 = t143 - t144;
+        float t146 = t98 + t102;
+        float t147 = t122 - t125;
+        float t148 = t146 + t147;
+        float t149 = t116 + t118;
+        float t150 = t108 + t113;
+        float t151 = t149 - t150;
+        float t152 = t6 - t13;
+        float t153 = t21 - t28;
+        float t154 = t41 - t60;
+        float t155 = t67 - t74;
+        float t156 = t78 - t87;
+        float t157 = t91 - t96;
+        float t158 = t103 - t114;
+        float t159 = t119 - t126;
+        float t160 = t128 - t129;
+        float t161 = t131 - t132;
+        float t162 = t134 - t135;
+        float t163 = t137 - t138;
+        float t164 = t140 - t141;
+        float t165 = t143 + t144;
+        float t166 = t146 - t147;
+        float t167 = t149 + t150;
+        a[offr] = t14;
+        a[offi] = t29;
+        a[offr + 2] = t61;
+        a[offi + 2] = t75;
+        a[offr + 4] = t88;
+        a[offi + 4] = t97;
+        a[offr + 6] = t115;
+        a[offi + 6] = t127;
+        a[offr + 8] = t130;
+        a[offi + 8] = t133;
+        a[offr + 10] = t136;
+        a[offi + 10] = t139;
+        a[offr + 12] = t142;
+        a[offi + 12] = t145;
+        a[offr + 14] = t148;
+        a[offi + 14] = t151;
+        a[offr + 16] = t152;
+        a[offi + 16] = t153;
+        a[offr + 18] = t154;
+        a[offi + 18] = t155;
+        a[offr + 20] = t156;
+        a[offi + 20] = t157;
+        a[offr + 22] = t158;
+        a[offi + 22] = t159;
+        a[offr + 24] = t160;
+        a[offi + 24] = t161;
+        a[offr + 26] = t162;
+        a[offi + 26] = t163;
+        a[offr + 28] = t164;
+        a[offi + 28] = t165;
+        a[offr + 30] = t166;
+        a[offi + 30] = t167;
+    }
+
+    static void cf18(float[] a, int offr, int offi) {
+        float x0r = a[offr];
+        float x0i = a[offi];
+        float x1r = a[offr + 2];
+        float x1i = a[offi + 2];
+        float x2r = a[offr + 4];
+        float x2i = a[offi + 4];
+        float x3r = a[offr + 6];
+        float x3i = a[offi + 6];
+        float x4r = a[offr + 8];
+        float x4i = a[offi + 8];
+        float x5r = a[offr + 10];
+        float x5i = a[offi + 10];
+        float x6r = a[offr + 12];
+        float x6i = a[offi + 12];
+        float x7r = a[offr + 14];
+        float x7i = a[offi + 14];
+        float x8r = a[offr + 16];
+        float x8i = a[offi + 16];
+        float x9r = a[offr + 18];
+        float x9i = a[offi + 18];
+        float x10r = a[offr + 20];
+        float x10i = a[offi + 20];
+        float x11r = a[offr + 22];
+        float x11i = a[offi + 22];
+        float x12r = a[offr + 24];
+        float x12i = a[offi + 24];
+        float x13r = a[offr + 26];
+        float x13i = a[offi + 26];
+        float x14r = a[offr + 28];
+        float x14i = a[offi + 28];
+        float x15r = a[offr + 30];
+        float x15i = a[offi + 30];
+        float x16r = a[offr + 32];
+        float x16i = a[offi + 32];
+        float x17r = a[offr + 34];
+        float x17i = a[offi + 34];
+        float t0 = x6r + x12r;
+        float t1 = x0r + t0;
+        float t2 = x8r + x14r;
+        float t3 = x2r + t2;
+        float t4 = x10r + x16r;
+        float t5 = x4r + t4;
+        float t6 = t3 + t5;
+        float t7 = t1 + t6;
+        float t8 = x7r + x13r;
+        float t9 = x1r + t8;
+        float t10 = x9r + x15r;
+        float t11 = x3r + t10;
+        float t12 = x11r + x17r;
+        float t13 = x5r + t12;
+        float t14 = t11 + t13;
+        float t15 = t9 + t14;
+        float t16 = t7 + t15;
+        float t17 = x6i + x12i;
+        float t18 = x0i + t17;
+        float t19 = x8i + x14i;
+        float t20 = x2i + t19;
+        float t21 = x10i + x16i;
+        float t22 = x4i + t21;
+        float t23 = t20 + t22;
+        float t24 = t18 + t23;
+        float t25 = x7i + x13i;
+        float t26 = x1i + t25;
+        float t27 = x9i + x15i;
+        float t28 = x3i + t27;
+        float t29 = x11i + x17i;
+        float t30 = x5i + t29;
+        float t31 = t28 + t30;
+        float t32 = t26 + t31;
+        float t33 = t24 + t32;
+        float t34 = 0.5f * t0;
+        float t35 = x0r - t34;
+        float t36 = x6i - x12i;
+        float t37 = 0.8660254037844384f * t36;
+        float t38 = t35 + t37;
+        float t39 = 0.5f * t2;
+        float t40 = x2r - t39;
+        float t41 = x8i - x14i;
+        float t42 = 0.8660254037844384f * t41;
+        float t43 = t40 + t42;
+        float t44 = 0.7660444431189778f * t43;
+        float t45 = 0.5f * t19;
+        float t46 = x2i - t45;
+        float t47 = x8r - x14r;
+        float t48 = 0.8660254037844384f * t47;
+        float t49 = t46 - t48;
+        float t50 = 0.6427876096865396f * t49;
+        float t51 = t44 + t50;
+        float t52 = 0.5f * t4;
+        float t53 = x4r - t52;
+        float t54 = x10i - x16i;
+        float t55 = 0.8660254037844384f * t54;
+        float t56 = t53 + t55;
+        float t57 = 0.17364817766692997f * t56;
+        float t58 = 0.5f * t21;
+        float t59 = x4i - t58;
+        float t60 = x10r - x16r;
+        float t61 = 0.8660254037844384f * t60;
+        float t62 = t59 - t61;
+        float t63 = 0.9848077530122081f * t62;
+        float t64 = t57 + t63;
+        float t65 = t51 + t64;
+        float t66 = t38 + t65;
+        float t67 = 0.5f * t8;
+        float t68 = x1r - t67;
+        float t69 = x7i - x13i;
+        float t70 = 0.8660254037844384f * t69;
+        float t71 = t68 + t70;
+        float t72 = 0.5f * t10;
+        float t73 = x3r - t72;
+        float t74 = x9i - x15i;
+        float t75 = 0.8660254037844384f * t74;
+        float t76 = t73 + t75;
+        float t77 = 0.7660444431189778f * t76;
+        float t78 = 0.5f * t27;
+        float t79 = x3i - t78;
+        float t80 = x9r - x15r;
+        float t81 = 0.8660254037844384f * t80;
+        float t82 = t79 - t81;
+        float t83 = 0.6427876096865396f * t82;
+        float t84 = t77 + t83;
+        float t85 = 0.5f * t12;
+        float t86 = x5r - t85;
+        float t87 = x11i - x17i;
+        float t88 = 0.8660254037844384f * t87;
+        float t89 = t86 + t88;
+        float t90 = 0.17364817766692997f * t89;
+        float t91 = 0.5f * t29;
+        float t92 = x5i - t91;
+        float t93 = x11r - x17r;
+        float t94 = 0.8660254037844384f * t93;
+        float t95 = t92 - t94;
+        float t96 = 0.9848077530122081f * t95;
+        float t97 = t90 + t96;
+        float t98 = t84 + t97;
+        float t99 = t71 + t98;
+        float t100 = 0.9396926207859081f * t99;
+        float t101 = 0.5f * t25;
+        float t102 = x1i - t101;
+        float t103 = x7r - x13r;
+        float t104 = 0.8660254037844384f * t103;
+        float t105 = t102 - t104;
+        float t106 = 0.7660444431189778f * t82;
+        float t107 = 0.6427876096865396f * t76;
+        float t108 = t106 - t107;
+        float t109 = 0.17364817766692997f * t95;
+        float t110 = 0.9848077530122081f * t89;
+        float t111 = t109 - t110;
+        float t112 = t108 + t111;
+        float t113 = t105 + t112;
+        float t114 = 0.34202014332566943f * t113;
+        float t115 = t100 + t114;
+        float t116 = t66 + t115;
+        float t117 = 0.5f * t17;
+        float t118 = x0i - t117;
+        float t119 = x6r - x12r;
+        float t120 = 0.8660254037844384f * t119;
+        float t121 = t118 - t120;
+        float t122 = 0.7660444431189778f * t49;
+        float t123 = 0.6427876096865396f * t43;
+        float t124 = t122 - t123;
+        float t125 = 0.17364817766692997f * t62;
+        float t126 = 0.9848077530122081f * t56;
+        float t127 = t125 - t126;
+        float t128 = t124 + t127;
+        float t129 = t121 + t128;
+        float t130 = 0.9396926207859081f * t113;
+        float t131 = 0.34202014332566943f * t99;
+        float t132 = t130 - t131;
+        float t133 = t129 + t132;
+        float t134 = t35 - t37;
+        float t135 = t40 - t42;
+        float t136 = 0.17364817766692997f * t135;
+        float t137 = t46 + t48;
+        float t138 = 0.9848077530122081f * t137;
+        float t139 = t136 + t138;
+        float t140 = t59 + t61;
+        float t141 = 0.34202014332566866f * t140;
+        float t142 = t53 - t55;
+        float t143 = 0.9396926207859084f * t142;
+        float t144 = t141 - t143;
+        float t145 = t139 + t144;
+        float t146 = t134 + t145;
+        float t147 = t68 - t70;
+        float t148 = t73 - t75;
+        float t149 = 0.17364817766692997f * t148;
+        float t150 = t79 + t81;
+        float t151 = 0.9848077530122081f * t150;
+        float t152 = t149 + t151;
+        float t153 = t92 + t94;
+        float t154 = 0.34202014332566866f * t153;
+        float t155 = t86 - t88;
+        float t156 = 0.9396926207859084f * t155;
+        float t157 = t154 - t156;
+        float t158 = t152 + t157;
+        float t159 = t147 + t158;
+        float t160 = 0.7660444431189778f * t159;
+        float t161 = t102 + t104;
+        float t162 = 0.17364817766692997f * t150;
+        float t163 = 0.9848077530122081f * t148;
+        float t164 = t162 - t163;
+        float t165 = 0.9396926207859084f * t153;
+        float t166 = 0.34202014332566866f * t155;
+        float t167 = t165 + t166;
+        float t168 = t164 - t167;
+        float t169 = t161 + t168;
+        float t170 = 0.6427876096865396f * t169;
+        float t171 = t160 + t170;
+        float t172 = t146 + t171;
+        float t173 = t118 + t120;
+        float t174 = 0.17364817766692997f * t137;
+        float t175 = 0.9848077530122081f * t135;
+        float t176 = t174 - t175;
+        float t177 = 0.9396926207859084f * t140;
+        float t178 = 0.34202014332566866f * t142;
+        float t179 = t177 + t178;
+        float t180 = t176 - t179;
+        float t181 = t173 + t180;
+        float t182 = 0.7660444431189778f * t169;
+        float t183 = 0.6427876096865396f * t159;
+        float t184 = t182 - t183;
+        float t185 = t181 + t184;
+        float t186 = 0.5f * t6;
+        float t187 = t1 - t186;
+        float t188 = t20 - t22;
+        float t189 = 0.8660254037844384f * t188;
+        float t190 = t187 + t189;
+        float t191 = 0.5f * t14;
+        float t192 = t9 - t191;
+        float t193 = t28 - t30;
+        float t194 = 0.8660254037844384f * t193;
+        float t195 = t192 + t194;
+        float t196 = 0.5f * t195;
+        float t197 = 0.5f * t31;
+        float t198 = t26 - t197;
+        float t199 = t11 - t13;
+        float t200 = 0.8660254037844384f * t199;
+        float t201 = t198 - t200;
+        float t202 = 0.8660254037844386f * t201;
+        float t203 = t196 + t202;
+        float t204 = t190 + t203;
+        float t205 = 0.5f * t23;
+        float t206 = t18 - t205;
+        float t207 = t3 - t5;
+        float t208 = 0.8660254037844384f * t207;
+        float t209 = t206 - t208;
+        float t210 = 0.5f * t201;
+        float t211 = 0.8660254037844386f * t195;
+        float t212 = t210 - t211;
+        float t213 = t209 + t212;
+        float t214 = 0.5f * t65;
+        float t215 = t38 - t214;
+        float t216 = t124 - t127;
+        float t217 = 0.8660254037844384f * t216;
+        float t218 = t215 + t217;
+        float t219 = 0.5f * t98;
+        float t220 = t71 - t219;
+        float t221 = t108 - t111;
+        float t222 = 0.8660254037844384f * t221;
+        float t223 = t220 + t222;
+        float t224 = 0.17364817766692997f * t223;
+        float t225 = 0.5f * t112;
+        float t226 = t105 - t225;
+        float t227 = t84 - t97;
+        float t228 = 0.8660254037844384f * t227;
+        float t229 = t226 - t228;
+        float t230 = 0.9848077530122081f * t229;
+        float t231 = t224 + t230;
+        float t232 = t218 + t231;
+        float t233 = 0.5f * t128;
+        float t234 = t121 - t233;
+        float t235 = t51 - t64;
+        float t236 = 0.8660254037844384f * t235;
+        float t237 = t234 - t236;
+        float t238 = 0.17364817766692997f * t229;
+        float t239 = 0.9848077530122081f * t223;
+        float t240 = t238 - t239;
+        float t241 = t237 + t240;
+        float t242 = 0.5f * t145;
+        float t243 = t134 - t242;
+        float t244 = t176 + t179;
+        float t245 = 0.8660254037844384f * t244;
+        float t246 = t243 + t245;
+        float t247 = 0.5f * t168;
+        float t248 = t161 - t247;
+        float t249 = t152 - t157;
+        float t250 = 0.8660254037844384f * t249;
+        float t251 = t248 - t250;
+        float t252 = 0.984807753012208f * t251;
+        float t253 = 0.5f * t158;
+        float t254 = t147 - t253;
+        float t255 = t164 + t167;
+        float t256 = 0.8660254037844384f * t255;
+        float t257 = t254 + t256;
+        float t258 = 0.17364817766693033f * t257;
+        float t259 = t252 - t258;
+        float t260 = t246 + t259;
+        float t261 = 0.5f * t180;
+        float t262 = t173 - t261;
+        float t263 = t139 - t144;
+        float t264 = 0.8660254037844384f * t263;
+        float t265 = t262 - t264;
+        float t266 = 0.17364817766693033f * t251;
+        float t267 = 0.984807753012208f * t257;
+        float t268 = t266 + t267;
+        float t269 = t265 - t268;
+        float t270 = t187 - t189;
+        float t271 = t198 + t200;
+        float t272 = 0.8660254037844384f * t271;
+        float t273 = t192 - t194;
+        float t274 = 0.5f * t273;
+        float t275 = t272 - t274;
+        float t276 = t270 + t275;
+        float t277 = t206 + t208;
+        float t278 = 0.5f * t271;
+        float t279 = 0.8660254037844384f * t273;
+        float t280 = t278 + t279;
+        float t281 = t277 - t280;
+        float t282 = t215 - t217;
+        float t283 = t226 + t228;
+        float t284 = 0.6427876096865393f * t283;
+        float t285 = t220 - t222;
+        float t286 = 0.766044443118978f * t285;
+        float t287 = t284 - t286;
+        float t288 = t282 + t287;
+        float t289 = t234 + t236;
+        float t290 = 0.766044443118978f * t283;
+        float t291 = 0.6427876096865393f * t285;
+        float t292 = t290 + t291;
+        float t293 = t289 - t292;
+        float t294 = t243 - t245;
+        float t295 = t248 + t250;
+        float t296 = 0.34202014332566866f * t295;
+        float t297 = t254 - t256;
+        float t298 = 0.9396926207859084f * t297;
+        float t299 = t296 - t298;
+        float t300 = t294 + t299;
+        float t301 = t262 + t264;
+        float t302 = 0.9396926207859084f * t295;
+        float t303 = 0.34202014332566866f * t297;
+        float t304 = t302 + t303;
+        float t305 = t301 - t304;
+        float t306 = t7 - t15;
+        float t307 = t24 - t32;
+        float t308 = t66 - t115;
+        float t309 = t129 - t132;
+        float t310 = t146 - t171;
+        float t311 = t181 - t184;
+        float t312 = t190 - t203;
+        float t313 = t209 - t212;
+        float t314 = t218 - t231;
+        float t315 = t237 - t240;
+        float t316 = t246 - t259;
+        float t317 = t265 + t268;
+        float t318 = t270 - t275;
+        float t319 = t277 + t280;
+        float t320 = t282 - t287;
+        float t321 = t289 + t292;
+        float t322 = t294 - t299;
+        float t323 = t301 + t304;
+        a[offr] = t16;
+        a[offi] = t33;
+        a[offr + 2] = t116;
+        a[offi + 2] = t133;
+        a[offr + 4] = t172;
+        a[offi + 4] = t185;
+        a[offr + 6] = t204;
+        a[offi + 6] = t213;
+        a[offr + 8] = t232;
+        a[offi + 8] = t241;
+        a[offr + 10] = t260;
+        a[offi + 10] = t269;
+        a[offr + 12] = t276;
+        a[offi + 12] = t281;
+        a[offr + 14] = t288;
+        a[offi + 14] = t293;
+        a[offr + 16] = t300;
+        a[offi + 16] = t305;
+        a[offr + 18] = t306;
+        a[offi + 18] = t307;
+        a[offr + 20] = t308;
+        a[offi + 20] = t309;
+        a[offr + 22] = t310;
+        a[offi + 22] = t311;
+        a[offr + 24] = t312;
+        a[offi + 24] = t313;
+        a[offr + 26] = t314;
+        a[offi + 26] = t315;
+        a[offr + 28] = t316;
+        a[offi + 28] = t317;
+        a[offr + 30] = t318;
+        a[offi + 30] = t319;
+        a[offr + 32] = t320;
+        a[offi + 32] = t321;
+        a[offr + 34] = t322;
+        a[offi + 34] = t323;
+    }
+
+    static void cf20(float[] a, int offr, int offi) {
+        float x0r = a[offr];
+        float x0i = a[offi];
+        float x1r = a[offr + 2];
+        float x1i = a[offi + 2];
+        float x2r = a[offr + 4];
+        float x2i = a[offi + 4];
+        float x3r = a[offr + 6];
+        float x3i = a[offi + 6];
+        float x4r = a[offr + 8];
+        float x4i = a[offi + 8];
+        float x5r = a[offr + 10];
+        float x5i = a[offi + 10];
+        float x6r = a[offr + 12];
+        float x6i = a[offi + 12];
+        float x7r = a[offr + 14];
+        float x7i = a[offi + 14];
+        float x8r = a[offr + 16];
+        float x8i = a[offi + 16];
+        float x9r = a[offr + 18];
+        float x9i = a[offi + 18];
+        float x10r = a[offr + 20];
+        float x10i = a[offi + 20];
+        float x11r = a[offr + 22];
+        float x11i = a[offi + 22];
+        float x12r = a[offr + 24];
+        float x12i = a[offi + 24];
+        float x13r = a[offr + 26];
+        float x13i = a[offi + 26];
+        float x14r = a[offr + 28];
+        float x14i = a[offi + 28];
+        float x15r = a[offr + 30];
+        float x15i = a[offi + 30];
+        float x16r = a[offr + 32];
+        float x16i = a[offi + 32];
+        float x17r = a[offr + 34];
+        float x17i = a[offi + 34];
+        float x18r = a[offr + 36];
+        float x18i = a[offi + 36];
+        float x19r = a[offr + 38];
+        float x19i = a[offi + 38];
+        float t0 = x8r + x12r;
+        float t1 = x4r + x16r;
+        float t2 = x0r + t1;
+        float t3 = t0 + t2;
+        float t4 = x10r + x14r;
+        float t5 = x6r + x18r;
+        float t6 = x2r + t5;
+        float t7 = t4 + t6;
+        float t8 = t3 + t7;
+        float t9 = x9r + x13r;
+        float t10 = x5r + x17r;
+        float t11 = x1r + t10;
+        float t12 = t9 + t11;
+        float t13 = x11r + x15r;
+        float t14 = x7r + x19r;
+        float t15 = x3r + t14;
+        float t16 = t13 + t15;
+        float t17 = t12 + t16;
+        float t18 = t8 + t17;
+        float t19 = x8i + x12i;
+        float t20 = x4i + x16i;
+        float t21 = x0i + t20;
+        float t22 = t19 + t21;
+        float t23 = x10i + x14i;
+        float t24 = x6i + x18i;
+        float t25 = x2i + t24;
+        float t26 = t23 + t25;
+        float t27 = t22 + t26;
+        float t28 = x9i + x13i;
+        float t29 = x5i + x17i;
+        float t30 = x1i + t29;
+        float t31 = t28 + t30;
+        float t32 = x11i + x15i;
+        float t33 = x7i + x19i;
+        float t34 = x3i + t33;
+        float t35 = t32 + t34;
+        float t36 = t31 + t35;
+        float t37 = t27 + t36;
+        float t38 = 0.30901699437494723f * t1;
+        float t39 = x0r + t38;
+        float t40 = 0.8090169943749476f * t0;
+        float t41 = t39 - t40;
+        float t42 = x4i - x16i;
+        float t43 = 0.9510565162951536f * t42;
+        float t44 = x8i - x12i;
+        float t45 = 0.587785252292473f * t44;
+        float t46 = t43 + t45;
+        float t47 = t41 + t46;
+        float t48 = 0.30901699437494723f * t5;
+        float t49 = x2r + t48;
+        float t50 = 0.8090169943749476f * t4;
+        float t51 = t49 - t50;
+        float t52 = x6i - x18i;
+        float t53 = 0.9510565162951536f * t52;
+        float t54 = x10i - x14i;
+        float t55 = 0.587785252292473f * t54;
+        float t56 = t53 + t55;
+        float t57 = t51 + t56;
+        float t58 = 0.8090169943749473f * t57;
+        float t59 = 0.30901699437494723f * t24;
+        float t60 = x2i + t59;
+        float t61 = 0.8090169943749476f * t23;
+        float t62 = t60 - t61;
+        float t63 = x6r - x18r;
+        float t64 = 0.9510565162951536f * t63;
+        float t65 = x10r - x14r;
+        float t66 = 0.587785252292473f * t65;
+        float t67 = t64 + t66;
+        float t68 = t62 - t67;
+        float t69 = 0.5877852522924734f * t68;
+        float t70 = t58 + t69;
+        float t71 = t47 + t70;
+        float t72 = 0.30901699437494723f * t10;
+        float t73 = x1r + t72;
+        float t74 = 0.8090169943749476f * t9;
+        float t75 = t73 - t74;
+        float t76 = x5i - x17i;
+        float t77 = 0.9510565162951536f * t76;
+        float t78 = x9i - x13i;
+        float t79 = 0.587785252292473f * t78;
+        float t80 = t77 + t79;
+        float t81 = t75 + t80;
+        float t82 = 0.9510565162951535f * t81;
+        float t83 = 0.30901699437494723f * t29;
+        float t84 = x1i + t83;
+        float t85 = 0.8090169943749476f * t28;
+        float t86 = t84 - t85;
+        float t87 = x5r - x17r;
+        float t88 = 0.9510565162951536f * t87;
+        float t89 = x9r - x13r;
+        float t90 = 0.587785252292473f * t89;
+        float t91 = t88 + t90;
+        float t92 = t86 - t91;
+        float t93 = 0.3090169943749476f * t92;
+        float t94 = t82 + t93;
+        float t95 = 0.30901699437494723f * t14;
+        float t96 = x3r + t95;
+        float t97 = 0.8090169943749476f * t13;
+        float t98 = t96 - t97;
+        float t99 = x7i - x19i;
+        float t100 = 0.9510565162951536f * t99;
+        float t101 = x11i - x15i;
+        float t102 = 0.587785252292473f * t101;
+        float t103 = t100 + t102;
+        float t104 = t98 + t103;
+        float t105 = 0.5877852522924729f * t104;
+        float t106 = 0.30901699437494723f * t33;
+        float t107 = x3i + t106;
+        float t108 = 0.8090169943749476f * t32;
+        float t109 = t107 - t108;
+        float t110 = x7r - x19r;
+        float t111 = 0.9510565162951536f * t110;
+        float t112 = x11r - x15r;
+        float t113 = 0.587785252292473f * t112;
+        float t114 = t111 + t113;
+        float t115 = t109 - t114;
+        float t116 = 0.8090169943749476f * t115;
+        float t117 = t105 + t116;
+        float t118 = t94 + t117;
+        float t119 = t71 + t118;
+        float t120 = 0.30901699437494723f * t20;
+        float t121 = x0i + t120;
+        float t122 = 0.8090169943749476f * t19;
+        float t123 = t121 - t122;
+        float t124 = x4r - x16r;
+        float t125 = 0.9510565162951536f * t124;
+        float t126 = x8r - x12r;
+        float t127 = 0.587785252292473f * t126;
+        float t128 = t125 + t127;
+        float t129 = t123 - t128;
+        float t130 = 0.8090169943749473f * t68;
+        float t131 = 0.5877852522924734f * t57;
+        float t132 = t130 - t131;
+        float t133 = t129 + t132;
+        float t134 = 0.9510565162951535f * t92;
+        float t135 = 0.3090169943749476f * t81;
+        float t136 = t134 - t135;
+        float t137 = 0.5877852522924729f * t115;
+        float t138 = 0.8090169943749476f * t104;
+        float t139 = t137 - t138;
+        float t140 = t136 + t139;
+        float t141 = t133 + t140;
+        float t142 = 0.8090169943749476f * t1;
+        float t143 = x0r - t142;
+        float t144 = 0.30901699437494745f * t0;
+        float t145 = t143 + t144;
+        float t146 = 0.9510565162951535f * t44;
+        float t147 = 0.587785252292473f * t42;
+        float t148 = t146 - t147;
+        float t149 = t145 - t148;
+        float t150 = 0.8090169943749476f * t5;
+        float t151 = x2r - t150;
+        float t152 = 0.30901699437494745f * t4;
+        float t153 = t151 + t152;
+        float t154 = 0.9510565162951535f * t54;
+        float t155 = 0.587785252292473f * t52;
+        float t156 = t154 - t155;
+        float t157 = t153 - t156;
+        float t158 = 0.30901699437494723f * t157;
+        float t159 = 0.8090169943749476f * t24;
+        float t160 = x2i - t159;
+        float t161 = 0.30901699437494745f * t23;
+        float t162 = t160 + t161;
+        float t163 = 0.9510565162951535f * t65;
+        float t164 = 0.587785252292473f * t63;
+        float t165 = t163 - t164;
+        float t166 = t162 + t165;
+        float t167 = 0.9510565162951536f * t166;
+        float t168 = t158 + t167;
+        float t169 = t149 + t168;
+        float t170 = 0.8090169943749476f * t10;
+        float t171 = x1r - t170;
+        float t172 = 0.30901699437494745f * t9;
+        float t173 = t171 + t172;
+        float t174 = 0.9510565162951535f * t78;
+        float t175 = 0.587785252292473f * t76;
+        float t176 = t174 - t175;
+        float t177 = t173 - t176;
+        float t178 = 0.8090169943749473f * t177;
+        float t179 = 0.8090169943749476f * t29;
+        float t180 = x1i - t179;
+        float t181 = 0.30901699437494745f * t28;
+        float t182 = t180 + t181;
+        float t183 = 0.9510565162951535f * t89;
+        float t184 = 0.587785252292473f * t87;
+        float t185 = t183 - t184;
+        float t186 = t182 + t185;
+        float t187 = 0.5877852522924734f * t186;
+        float t188 = t178 + t187;
+        float t189 = 0.8090169943749476f * t33;
+        float t190 = x3i - t189;
+        float t191 = 0.30901699437494745f * t32;
+        float t192 = t190 + t191;
+        float t193 = 0.9510565162951535f * t112;
+        float t194 = 0.587785252292473f * t110;
+        float t195 = t193 - t194;
+        float t196 = t192 + t195;
+        float t197 = 0.9510565162951535f * t196;
+        float t198 = 0.8090169943749476f * t14;
+        float t199 = x3r - t198;
+        float t200 = 0.30901699437494745f * t13;
+        float t201 = t199 + t200;
+        float t202 = 0.9510565162951535f * t101;
+        float t203 = 0.587785252292473f * t99;
+        float t204 = t202 - t203;
+        float t205 = t201 - t204;
+        float t206 = 0.30901699437494756f * t205;
+        float t207 = t197 - t206;
+        float t208 = t188 + t207;
+        float t209 = t169 + t208;
+        float t210 = 0.8090169943749476f * t20;
+        float t211 = x0i - t210;
+        float t212 = 0.30901699437494745f * t19;
+        float t213 = t211 + t212;
+        float t214 = 0.9510565162951535f * t126;
+        float t215 = 0.587785252292473f * t124;
+        float t216 = t214 - t215;
+        float t217 = t213 + t216;
+        float t218 = 0.30901699437494723f * t166;
+        float t219 = 0.9510565162951536f * t157;
+        float t220 = t218 - t219;
+        float t221 = t217 + t220;
+        float t222 = 0.8090169943749473f * t186;
+        float t223 = 0.5877852522924734f * t177;
+        float t224 = t222 - t223;
+        float t225 = 0.30901699437494756f * t196;
+        float t226 = 0.9510565162951535f * t205;
+        float t227 = t225 + t226;
+        float t228 = t224 - t227;
+        float t229 = t221 + t228;
+        float t230 = t145 + t148;
+        float t231 = t162 - t165;
+        float t232 = 0.9510565162951535f * t231;
+        float t233 = t153 + t156;
+        float t234 = 0.30901699437494756f * t233;
+        float t235 = t232 - t234;
+        float t236 = t230 + t235;
+        float t237 = t173 + t176;
+        float t238 = 0.5877852522924729f * t237;
+        float t239 = t182 - t185;
+        float t240 = 0.8090169943749476f * t239;
+        float t241 = t238 + t240;
+        float t242 = t192 - t195;
+        float t243 = 0.30901699437494773f * t242;
+        float t244 = t201 + t204;
+        float t245 = 0.9510565162951535f * t244;
+        float t246 = t243 - t245;
+        float t247 = t241 + t246;
+        float t248 = t236 + t247;
+        float t249 = t213 - t216;
+        float t250 = 0.30901699437494756f * t231;
+        float t251 = 0.9510565162951535f * t233;
+        float t252 = t250 + t251;
+        float t253 = t249 - t252;
+        float t254 = 0.5877852522924729f * t239;
+        float t255 = 0.8090169943749476f * t237;
+        float t256 = t254 - t255;
+        float t257 = 0.9510565162951535f * t242;
+        float t258 = 0.30901699437494773f * t244;
+        float t259 = t257 + t258;
+        float t260 = t256 - t259;
+        float t261 = t253 + t260;
+        float t262 = t41 - t46;
+        float t263 = t62 + t67;
+        float t264 = 0.587785252292473f * t263;
+        float t265 = t51 - t56;
+        float t266 = 0.8090169943749476f * t265;
+        float t267 = t264 - t266;
+        float t268 = t262 + t267;
+        float t269 = t75 - t80;
+        float t270 = 0.30901699437494723f * t269;
+        float t271 = t86 + t91;
+        float t272 = 0.9510565162951536f * t271;
+        float t273 = t270 + t272;
+        float t274 = t98 - t103;
+        float t275 = 0.8090169943749473f * t274;
+        float t276 = t109 + t114;
+        float t277 = 0.5877852522924732f * t276;
+        float t278 = t275 + t277;
+        float t279 = t273 - t278;
+        float t280 = t268 + t279;
+        float t281 = t123 + t128;
+        float t282 = 0.8090169943749476f * t263;
+        float t283 = 0.587785252292473f * t265;
+        float t284 = t282 + t283;
+        float t285 = t281 - t284;
+        float t286 = 0.30901699437494723f * t271;
+        float t287 = 0.9510565162951536f * t269;
+        float t288 = t286 - t287;
+        float t289 = 0.5877852522924732f * t274;
+        float t290 = 0.8090169943749473f * t276;
+        float t291 = t289 - t290;
+        float t292 = t288 + t291;
+        float t293 = t285 + t292;
+        float t294 = t3 - t7;
+        float t295 = t31 - t35;
+        float t296 = t294 + t295;
+        float t297 = t22 - t26;
+        float t298 = t16 - t12;
+        float t299 = t297 + t298;
+        float t300 = t47 - t70;
+        float t301 = t136 - t139;
+        float t302 = t300 + t301;
+        float t303 = t129 - t132;
+        float t304 = t117 - t94;
+        float t305 = t303 + t304;
+        float t306 = t149 - t168;
+        float t307 = t224 + t227;
+        float t308 = t306 + t307;
+        float t309 = t217 - t220;
+        float t310 = t207 - t188;
+        float t311 = t309 + t310;
+        float t312 = t230 - t235;
+        float t313 = t256 + t259;
+        float t314 = t312 + t313;
+        float t315 = t249 + t252;
+        float t316 = t246 - t241;
+        float t317 = t315 + t316;
+        float t318 = t262 - t267;
+        float t319 = t288 - t291;
+        float t320 = t318 + t319;
+        float t321 = t281 + t284;
+        float t322 = t273 + t278;
+        float t323 = t321 - t322;
+        float t324 = t8 - t17;
+        float t325 = t27 - t36;
+        float t326 = t71 - t118;
+        float t327 = t133 - t140;
+        float t328 = t169 - t208;
+        float t329 = t221 - t228;
+        float t330 = t236 - t247;
+        float t331 = t253 - t260;
+        float t332 = t268 - t279;
+        float t333 = t285 - t292;
+        float t334 = t294 - t295;
+        float t335 = t297 - t298;
+        float t336 = t300 - t301;
+        float t337 = t303 - t304;
+        float t338 = t306 - t307;
+        float t339 = t309 - t310;
+        float t340 = t312 - t313;
+        float t341 = t315 - t316;
+        float t342 = t318 - t319;
+        float t343 = t321 + t322;
+        a[offr] = t18;
+        a[offi] = t37;
+        a[offr + 2] = t119;
+        a[offi + 2] = t141;
+        a[offr + 4] = t209;
+        a[offi + 4] = t229;
+        a[offr + 6] = t248;
+        a[offi + 6] = t261;
+        a[offr + 8] = t280;
+        a[offi + 8] = t293;
+        a[offr + 10] = t296;
+        a[offi + 10] = t299;
+        a[offr + 12] = t302;
+        a[offi + 12] = t305;
+        a[offr + 14] = t308;
+        a[offi + 14] = t311;
+        a[offr + 16] = t314;
+        a[offi + 16] = t317;
+        a[offr + 18] = t320;
+        a[offi + 18] = t323;
+        a[offr + 20] = t324;
+        a[offi + 20] = t325;
+        a[offr + 22] = t326;
+        a[offi + 22] = t327;
+        a[offr + 24] = t328;
+        a[offi + 24] = t329;
+        a[offr + 26] = t330;
+        a[offi + 26] = t331;
+        a[offr + 28] = t332;
+        a[offi + 28] = t333;
+        a[offr + 30] = t334;
+        a[offi + 30] = t335;
+        a[offr + 32] = t336;
+        a[offi + 32] = t337;
+        a[offr + 34] = t338;
+        a[offi + 34] = t339;
+        a[offr + 36] = t340;
+        a[offi + 36] = t341;
+        a[offr + 38] = t342;
+        a[offi + 38] = t343;
+    }
+
+    static void cf24(float[] a, int offr, int offi) {
+        float x0r = a[offr];
+        float x0i = a[offi];
+        float x1r = a[offr + 2];
+        float x1i = a[offi + 2];
+        float x2r = a[offr + 4];
+        float x2i = a[offi + 4];
+        float x3r = a[offr + 6];
+        float x3i = a[offi + 6];
+        float x4r = a[offr + 8];
+        float x4i = a[offi + 8];
+        float x5r = a[offr + 10];
+        float x5i = a[offi + 10];
+        float x6r = a[offr + 12];
+        float x6i = a[offi + 12];
+        float x7r = a[offr + 14];
+        float x7i = a[offi + 14];
+        float x8r = a[offr + 16];
+        float x8i = a[offi + 16];
+        float x9r = a[offr + 18];
+        float x9i = a[offi + 18];
+        float x10r = a[offr + 20];
+        float x10i = a[offi + 20];
+        float x11r = a[offr + 22];
+        float x11i = a[offi + 22];
+        float x12r = a[offr + 24];
+        float x12i = a[offi + 24];
+        float x13r = a[offr + 26];
+        float x13i = a[offi + 26];
+        float x14r = a[offr + 28];
+        float x14i = a[offi + 28];
+        float x15r = a[offr + 30];
+        float x15i = a[offi + 30];
+        float x16r = a[offr + 32];
+        float x16i = a[offi + 32];
+        float x17r = a[offr + 34];
+        float x17i = a[offi + 34];
+        float x18r = a[offr + 36];
+        float x18i = a[offi + 36];
+        float x19r = a[offr + 38];
+        float x19i = a[offi + 38];
+        float x20r = a[offr + 40];
+        float x20i = a[offi + 40];
+        float x21r = a[offr + 42];
+        float x21i = a[offi + 42];
+        float x22r = a[offr + 44];
+        float x22i = a[offi + 44];
+        float x23r = a[offr + 46];
+        float x23i = a[offi + 46];
+        float t0 = x8r + x16r;
+        float t1 = x0r + t0;
+        float t2 = x12r + x20r;
+        float t3 = x4r + t2;
+        float t4 = t1 + t3;
+        float t5 = x10r + x18r;
+        float t6 = x2r + t5;
+        float t7 = x14r + x22r;
+        float t8 = x6r + t7;
+        float t9 = t6 + t8;
+        float t10 = t4 + t9;
+        float t11 = x9r + x17r;
+        float t12 = x1r + t11;
+        float t13 = x13r + x21r;
+        float t14 = x5r + t13;
+        float t15 = t12 + t14;
+        float t16 = x11r + x19r;
+        float t17 = x3r + t16;
+        float t18 = x15r + x23r;
+        float t19 = x7r + t18;
+        float t20 = t17 + t19;
+        float t21 = t15 + t20;
+        float t22 = t10 + t21;
+        float t23 = x8i + x16i;
+        float t24 = x0i + t23;
+        float t25 = x12i + x20i;
+        float t26 = x4i + t25;
+        float t27 = t24 + t26;
+        float t28 = x10i + x18i;
+        float t29 = x2i + t28;
+        float t30 = x14i + x22i;
+        float t31 = x6i + t30;
+        float t32 = t29 + t31;
+        float t33 = t27 + t32;
+        float t34 = x9i + x17i;
+        float t35 = x1i + t34;
+        float t36 = x13i + x21i;
+        float t37 = x5i + t36;
+        float t38 = t35 + t37;
+        float t39 = x11i + x19i;
+        float t40 = x3i + t39;
+        float t41 = x15i + x23i;
+        float t42 = x7i + t41;
+        float t43 = t40 + t42;
+        float t44 = t38 + t43;
+        float t45 = t33 + t44;
+        float t46 = 0.5f * t0;
+        float t47 = x0r - t46;
+        float t48 = x8i - x16i;
+        float t49 = 0.8660254037844384f * t48;
+        float t50 = t47 + t49;
+        float t51 = 0.5f * t2;
+        float t52 = x4r - t51;
+        float t53 = x12i - x20i;
+        float t54 = 0.8660254037844384f * t53;
+        float t55 = t52 + t54;
+        float t56 = 0.5f * t55;
+        float t57 = 0.5f * t25;
+        float t58 = x4i - t57;
+        float t59 = x12r - x20r;
+        float t60 = 0.8660254037844384f * t59;
+        float t61 = t58 - t60;
+        float t62 = 0.8660254037844386f * t61;
+        float t63 = t56 + t62;
+        float t64 = t50 + t63;
+        float t65 = 0.5f * t5;
+        float t66 = x2r - t65;
+        float t67 = x10i - x18i;
+        float t68 = 0.8660254037844384f * t67;
+        float t69 = t66 + t68;
+        float t70 = 0.5f * t7;
+        float t71 = x6r - t70;
+        float t72 = x14i - x22i;
+        float t73 = 0.8660254037844384f * t72;
+        float t74 = t71 + t73;
+        float t75 = 0.5f * t74;
+        float t76 = 0.5f * t30;
+        float t77 = x6i - t76;
+        float t78 = x14r - x22r;
+        float t79 = 0.8660254037844384f * t78;
+        float t80 = t77 - t79;
+        float t81 = 0.8660254037844386f * t80;
+        float t82 = t75 + t81;
+        float t83 = t69 + t82;
+        float t84 = 0.8660254037844384f * t83;
+        float t85 = 0.5f * t28;
+        float t86 = x2i - t85;
+        float t87 = x10r - x18r;
+        float t88 = 0.8660254037844384f * t87;
+        float t89 = t86 - t88;
+        float t90 = 0.5f * t80;
+        float t91 = 0.8660254037844386f * t74;
+        float t92 = t90 - t91;
+        float t93 = t89 + t92;
+        float t94 = 0.5f * t93;
+        float t95 = t84 + t94;
+        float t96 = t64 + t95;
+        float t97 = 0.5f * t11;
+        float t98 = x1r - t97;
+        float t99 = x9i - x17i;
+        float t100 = 0.8660254037844384f * t99;
+        float t101 = t98 + t100;
+        float t102 = 0.5f * t13;
+        float t103 = x5r - t102;
+        float t104 = x13i - x21i;
+        float t105 = 0.8660254037844384f * t104;
+        float t106 = t103 + t105;
+        float t107 = 0.5f * t106;
+        float t108 = 0.5f * t36;
+        float t109 = x5i - t108;
+        float t110 = x13r - x21r;
+        float t111 = 0.8660254037844384f * t110;
+        float t112 = t109 - t111;
+        float t113 = 0.8660254037844386f * t112;
+        float t114 = t107 + t113;
+        float t115 = t101 + t114;
+        float t116 = 0.9659258262890683f * t115;
+        float t117 = 0.5f * t34;
+        float t118 = x1i - t117;
+        float t119 = x9r - x17r;
+        float t120 = 0.8660254037844384f * t119;
+        float t121 = t118 - t120;
+        float t122 = 0.5f * t112;
+        float t123 = 0.8660254037844386f * t106;
+        float t124 = t122 - t123;
+        float t125 = t121 + t124;
+        float t126 = 0.2588190451025207f * t125;
+        float t127 = t116 + t126;
+        float t128 = 0.5f * t16;
+        float t129 = x3r - t128;
+        float t130 = x11i - x19i;
+        float t131 = 0.8660254037844384f * t130;
+        float t132 = t129 + t131;
+        float t133 = 0.5f * t18;
+        float t134 = x7r - t133;
+        float t135 = x15i - x23i;
+        float t136 = 0.8660254037844384f * t135;
+        float t137 = t134 + t136;
+        float t138 = 0.5f * t137;
+        float t139 = 0.5f * t41;
+        float t140 = x7i - t139;
+        float t141 = x15r - x23r;
+        float t142 = 0.8660254037844384f * t141;
+        float t143 = t140 - t142;
+        float t144 = 0.8660254037844386f * t143;
+        float t145 = t138 + t144;
+        float t146 = t132 + t145;
+        float t147 = 0.5f * t39;
+        float t148 = x3i - t147;
+        float t149 = x11r - x19r;
+        float t150 = 0.8660254037844384f * t149;
+        float t151 = t148 - t150;
+        float t152 = 0.5f * t143;
+        float t153 = 0.8660254037844386f * t137;
+        float t154 = t152 - t153;
+        float t155 = t151 + t154;
+        float t156 = t146 + t155;
+        float t157 = 0.7071067811865476f * t156;
+        float t158 = t127 + t157;
+        float t159 = t96 + t158;
+        float t160 = 0.5f * t23;
+        float t161 = x0i - t160;
+        float t162 = x8r - x16r;
+        float t163 = 0.8660254037844384f * t162;
+        float t164 = t161 - t163;
+        float t165 = 0.5f * t61;
+        float t166 = 0.8660254037844386f * t55;
+        float t167 = t165 - t166;
+        float t168 = t164 + t167;
+        float t169 = 0.8660254037844384f * t93;
+        float t170 = 0.5f * t83;
+        float t171 = t169 - t170;
+        float t172 = t168 + t171;
+        float t173 = 0.9659258262890683f * t125;
+        float t174 = 0.2588190451025207f * t115;
+        float t175 = t173 - t174;
+        float t176 = t155 - t146;
+        float t177 = 0.7071067811865476f * t176;
+        float t178 = t175 + t177;
+        float t179 = t172 + t178;
+        float t180 = t47 - t49;
+        float t181 = t58 + t60;
+        float t182 = 0.8660254037844384f * t181;
+        float t183 = t52 - t54;
+        float t184 = 0.5f * t183;
+        float t185 = t182 - t184;
+        float t186 = t180 + t185;
+        float t187 = t66 - t68;
+        float t188 = t77 + t79;
+        float t189 = 0.8660254037844384f * t188;
+        float t190 = t71 - t73;
+        float t191 = 0.5f * t190;
+        float t192 = t189 - t191;
+        float t193 = t187 + t192;
+        float t194 = 0.5f * t193;
+        float t195 = t86 + t88;
+        float t196 = 0.5f * t188;
+        float t197 = 0.8660254037844384f * t190;
+        float t198 = t196 + t197;
+        float t199 = t195 - t198;
+        float t200 = 0.8660254037844386f * t199;
+        float t201 = t194 + t200;
+        float t202 = t186 + t201;
+        float t203 = t148 + t150;
+        float t204 = t140 + t142;
+        float t205 = 0.5f * t204;
+        float t206 = t134 - t136;
+        float t207 = 0.8660254037844384f * t206;
+        float t208 = t205 + t207;
+        float t209 = t203 - t208;
+        float t210 = t98 - t100;
+        float t211 = t109 + t111;
+        float t212 = 0.8660254037844384f * t211;
+        float t213 = t103 - t105;
+        float t214 = 0.5f * t213;
+        float t215 = t212 - t214;
+        float t216 = t210 + t215;
+        float t217 = 0.8660254037844384f * t216;
+        float t218 = t118 + t120;
+        float t219 = 0.5f * t211;
+        float t220 = 0.8660254037844384f * t213;
+        float t221 = t219 + t220;
+        float t222 = t218 - t221;
+        float t223 = 0.5f * t222;
+        float t224 = t217 + t223;
+        float t225 = t209 + t224;
+        float t226 = t202 + t225;
+        float t227 = t161 + t163;
+        float t228 = 0.5f * t181;
+        float t229 = 0.8660254037844384f * t183;
+        float t230 = t228 + t229;
+        float t231 = t227 - t230;
+        float t232 = 0.5f * t199;
+        float t233 = 0.8660254037844386f * t193;
+        float t234 = t232 - t233;
+        float t235 = t231 + t234;
+        float t236 = 0.8660254037844384f * t222;
+        float t237 = 0.5f * t216;
+        float t238 = t236 - t237;
+        float t239 = t129 - t131;
+        float t240 = 0.8660254037844384f * t204;
+        float t241 = 0.5f * t206;
+        float t242 = t240 - t241;
+        float t243 = t239 + t242;
+        float t244 = t238 - t243;
+        float t245 = t235 + t244;
+        float t246 = t1 - t3;
+        float t247 = t29 - t31;
+        float t248 = t246 + t247;
+        float t249 = t12 - t14;
+        float t250 = t35 - t37;
+        float t251 = t249 + t250;
+        float t252 = 0.7071067811865476f * t251;
+        float t253 = t17 - t19;
+        float t254 = t40 - t42;
+        float t255 = t253 - t254;
+        float t256 = 0.7071067811865476f * t255;
+        float t257 = t252 - t256;
+        float t258 = t248 + t257;
+        float t259 = t24 - t26;
+        float t260 = t8 - t6;
+        float t261 = t259 + t260;
+        float t262 = t250 - t249;
+        float t263 = 0.7071067811865476f * t262;
+        float t264 = t253 + t254;
+        float t265 = 0.7071067811865476f * t264;
+        float t266 = t263 - t265;
+        float t267 = t261 + t266;
+        float t268 = t50 - t63;
+        float t269 = t89 - t92;
+        float t270 = 0.8660254037844384f * t269;
+        float t271 = t69 - t82;
+        float t272 = 0.5f * t271;
+        float t273 = t270 - t272;
+        float t274 = t268 + t273;
+        float t275 = t101 - t114;
+        float t276 = 0.5f * t275;
+        float t277 = t121 - t124;
+        float t278 = 0.8660254037844386f * t277;
+        float t279 = t276 + t278;
+        float t280 = t145 - t132;
+        float t281 = t279 + t280;
+        float t282 = t274 + t281;
+        float t283 = t164 - t167;
+        float t284 = 0.5f * t269;
+        float t285 = 0.8660254037844384f * t271;
+        float t286 = t284 + t285;
+        float t287 = t283 - t286;
+        float t288 = 0.5f * t277;
+        float t289 = 0.8660254037844386f * t275;
+        float t290 = t288 - t289;
+        float t291 = t154 - t151;
+        float t292 = t290 + t291;
+        float t293 = t287 + t292;
+        float t294 = t180 - t185;
+        float t295 = t195 + t198;
+        float t296 = 0.5f * t295;
+        float t297 = t187 - t192;
+        float t298 = 0.8660254037844386f * t297;
+        float t299 = t296 - t298;
+        float t300 = t294 + t299;
+        float t301 = t210 - t215;
+        float t302 = 0.2588190451025203f * t301;
+        float t303 = t218 + t221;
+        float t304 = 0.9659258262890684f * t303;
+        float t305 = t302 + t304;
+        float t306 = t239 - t242;
+        float t307 = t203 + t208;
+        float t308 = t306 + t307;
+        float t309 = 0.7071067811865476f * t308;
+        float t310 = t305 - t309;
+        float t311 = t300 + t310;
+        float t312 = t227 + t230;
+        float t313 = 0.8660254037844386f * t295;
+        float t314 = 0.5f * t297;
+        float t315 = t313 + t314;
+        float t316 = t312 - t315;
+        float t317 = 0.2588190451025203f * t303;
+        float t318 = 0.9659258262890684f * t301;
+        float t319 = t317 - t318;
+        float t320 = t307 - t306;
+        float t321 = 0.7071067811865476f * t320;
+        float t322 = t319 - t321;
+        float t323 = t316 + t322;
+        float t324 = t4 - t9;
+        float t325 = t38 - t43;
+        float t326 = t324 + t325;
+        float t327 = t27 - t32;
+        float t328 = t20 - t15;
+        float t329 = t327 + t328;
+        float t330 = t64 - t95;
+        float t331 = t175 - t177;
+        float t332 = t330 + t331;
+        float t333 = t168 - t171;
+        float t334 = t157 - t127;
+        float t335 = t333 + t334;
+        float t336 = t186 - t201;
+        float t337 = t243 + t238;
+        float t338 = t336 + t337;
+        float t339 = t231 - t234;
+        float t340 = t209 - t224;
+        float t341 = t339 + t340;
+        float t342 = t246 - t247;
+        float t343 = t263 + t265;
+        float t344 = t342 + t343;
+        float t345 = t259 - t260;
+        float t346 = t252 + t256;
+        float t347 = t345 - t346;
+        float t348 = t268 - t273;
+        float t349 = t290 - t291;
+        float t350 = t348 + t349;
+        float t351 = t283 + t286;
+        float t352 = t280 - t279;
+        float t353 = t351 + t352;
+        float t354 = t294 - t299;
+        float t355 = t319 + t321;
+        float t356 = t354 + t355;
+        float t357 = t312 + t315;
+        float t358 = t305 + t309;
+        float t359 = t357 - t358;
+        float t360 = t10 - t21;
+        float t361 = t33 - t44;
+        float t362 = t96 - t158;
+        float t363 = t172 - t178;
+        float t364 = t202 - t225;
+        float t365 = t235 - t244;
+        float t366 = t248 - t257;
+        float t367 = t261 - t266;
+        float t368 = t274 - t281;
+        float t369 = t287 - t292;
+        float t370 = t300 - t310;
+        float t371 = t316 - t322;
+        float t372 = t324 - t325;
+        float t373 = t327 - t328;
+        float t374 = t330 - t331;
+        float t375 = t333 - t334;
+        float t376 = t336 - t337;
+        float t377 = t339 - t340;
+        float t378 = t342 - t343;
+        float t379 = t345 + t346;
+        float t380 = t348 - t349;
+        float t381 = t351 - t352;
+        float t382 = t354 - t355;
+        float t383 = t357 + t358;
+        a[offr] = t22;
+        a[offi] = t45;
+        a[offr + 2] = t159;
+        a[offi + 2] = t179;
+        a[offr + 4] = t226;
+        a[offi + 4] = t245;
+        a[offr + 6] = t258;
+        a[offi + 6] = t267;
+        a[offr + 8] = t282;
+        a[offi + 8] = t293;
+        a[offr + 10] = t311;
+        a[offi + 10] = t323;
+        a[offr + 12] = t326;
+        a[offi + 12] = t329;
+        a[offr + 14] = t332;
+        a[offi + 14] = t335;
+        a[offr + 16] = t338;
+        a[offi + 16] = t341;
+        a[offr + 18] = t344;
+        a[offi + 18] = t347;
+        a[offr + 20] = t350;
+        a[offi + 20] = t353;
+        a[offr + 22] = t356;
+        a[offi + 22] = t359;
+        a[offr + 24] = t360;
+        a[offi + 24] = t361;
+        a[offr + 26] = t362;
+        a[offi + 26] = t363;
+        a[offr + 28] = t364;
+        a[offi + 28] = t365;
+        a[offr + 30] = t366;
+        a[offi + 30] = t367;
+        a[offr + 32] = t368;
+        a[offi + 32] = t369;
+        a[offr + 34] = t370;
+        a[offi + 34] = t371;
+        a[offr + 36] = t372;
+        a[offi + 36] = t373;
+        a[offr + 38] = t374;
+        a[offi + 38] = t375;
+        a[offr + 40] = t376;
+        a[offi + 40] = t377;
+        a[offr + 42] = t378;
+        a[offi + 42] = t379;
+        a[offr + 44] = t380;
+        a[offi + 44] = t381;
+        a[offr + 46] = t382;
+        a[offi + 46] = t383;
+    }
+
+    static void cf32(float[] a, int offr, int offi) {
+        float x0r = a[offr];
+        float x0i = a[offi];
+        float x1r = a[offr + 2];
+        float x1i = a[offi + 2];
+        float x2r = a[offr + 4];
+        float x2i = a[offi + 4];
+        float x3r = a[offr + 6];
+        float x3i = a[offi + 6];
+        float x4r = a[offr + 8];
+        float x4i = a[offi + 8];
+        float x5r = a[offr + 10];
+        float x5i = a[offi + 10];
+        float x6r = a[offr + 12];
+        float x6i = a[offi + 12];
+        float x7r = a[offr + 14];
+        float x7i = a[offi + 14];
+        float x8r = a[offr + 16];
+        float x8i = a[offi + 16];
+        float x9r = a[offr + 18];
+        float x9i = a[offi + 18];
+        float x10r = a[offr + 20];
+        float x10i = a[offi + 20];
+        float x11r = a[offr + 22];
+        float x11i = a[offi + 22];
+        float x12r = a[offr + 24];
+        float x12i = a[offi + 24];
+        float x13r = a[offr + 26];
+        float x13i = a[offi + 26];
+        float x14r = a[offr + 28];
+        float x14i = a[offi + 28];
+        float x15r = a[offr + 30];
+        float x15i = a[offi + 30];
+        float x16r = a[offr + 32];
+        float x16i = a[offi + 32];
+        float x17r = a[offr + 34];
+        float x17i = a[offi + 34];
+        float x18r = a[offr + 36];
+        float x18i = a[offi + 36];
+        float x19r = a[offr + 38];
+        float x19i = a[offi + 38];
+        float x20r = a[offr + 40];
+        float x20i = a[offi + 40];
+        float x21r = a[offr + 42];
+        float x21i = a[offi + 42];
+        float x22r = a[offr + 44];
+        float x22i = a[offi + 44];
+        float x23r = a[offr + 46];
+        float x23i = a[offi + 46];
+        float x24r = a[offr + 48];
+        float x24i = a[offi + 48];
+        float x25r = a[offr + 50];
+        float x25i = a[offi + 50];
+        float x26r = a[offr + 52];
+        float x26i = a[offi + 52];
+        float x27r = a[offr + 54];
+        float x27i = a[offi + 54];
+        float x28r = a[offr + 56];
+        float x28i = a[offi + 56];
+        float x29r = a[offr + 58];
+        float x29i = a[offi + 58];
+        float x30r = a[offr + 60];
+        float x30i = a[offi + 60];
+        float x31r = a[offr + 62];
+        float x31i = a[offi + 62];
+        float t0 = x0r + x16r;
+        float t1 = x8r + x24r;
+        float t2 = t0 + t1;
+        float t3 = x4r + x20r;
+        float t4 = x12r + x28r;
+        float t5 = t3 + t4;
+        float t6 = t2 + t5;
+        float t7 = x2r + x18r;
+        float t8 = x10r + x26r;
+        float t9 = t7 + t8;
+        float t10 = x6r + x22r;
+        float t11 = x14r + x30r;
+        float t12 = t10 + t11;
+        float t13 = t9 + t12;
+        float t14 = t6 + t13;
+        float t15 = x1r + x17r;
+        float t16 = x9r + x25r;
+        float t17 = t15 + t16;
+        float t18 = x5r + x21r;
+        float t19 = x13r + x29r;
+        float t20 = t18 + t19;
+        float t21 = t17 + t20;
+        float t22 = x3r + x19r;
+        float t23 = x11r + x27r;
+        float t24 = t22 + t23;
+        float t25 = x7r + x23r;
+        float t26 = x15r + x31r;
+        float t27 = t25 + t26;
+        float t28 = t24 + t27;
+        float t29 = t21 + t28;
+        float t30 = t14 + t29;
+        float t31 = x0i + x16i;
+        float t32 = x8i + x24i;
+        float t33 = t31 + t32;
+        float t34 = x4i + x20i;
+        float t35 = x12i + x28i;
+        float t36 = t34 + t35;
+        float t37 = t33 + t36;
+        float t38 = x2i + x18i;
+        float t39 = x10i + x26i;
+        float t40 = t38 + t39;
+        float t41 = x6i + x22i;
+        float t42 = x14i + x30i;
+        float t43 = t41 + t42;
+        float t44 = t40 + t43;
+        float t45 = t37 + t44;
+        float t46 = x1i + x17i;
+        float t47 = x9i + x25i;
+        float t48 = t46 + t47;
+        float t49 = x5i + x21i;
+        float t50 = x13i + x29i;
+        float t51 = t49 + t50;
+        float t52 = t48 + t51;
+        float t53 = x3i + x19i;
+        float t54 = x11i + x27i;
+        float t55 = t53 + t54;
+        float t56 = x7i + x23i;
+        float t57 = x15i + x31i;
+        float t58 = t56 + t57;
+        float t59 = t55 + t58;
+        float t60 = t52 + t59;
+        float t61 = t45 + t60;
+        float t62 = x0r - x16r;
+        float t63 = x8i - x24i;
+        float t64 = t62 + t63;
+        float t65 = x4r - x20r;
+        float t66 = x12i - x28i;
+        float t67 = t65 + t66;
+        float t68 = x4i - x20i;
+        float t69 = x28r - x12r;
+        float t70 = t68 + t69;
+        float t71 = t67 + t70;
+        float t72 = 0.7071067811865476f * t71;
+        float t73 = t64 + t72;
+        float t74 = x2r - x18r;
+        float t75 = x10i - x26i;
+        float t76 = t74 + t75;
+        float t77 = x6r - x22r;
+        float t78 = x14i - x30i;
+        float t79 = t77 + t78;
+        float t80 = x6i - x22i;
+        float t81 = x30r - x14r;
+        float t82 = t80 + t81;
+        float t83 = t79 + t82;
+        float t84 = 0.7071067811865476f * t83;
+        float t85 = t76 + t84;
+        float t86 = 0.9238795325112865f * t85;
+        float t87 = x2i - x18i;
+        float t88 = x26r - x10r;
+        float t89 = t87 + t88;
+        float t90 = t82 - t79;
+        float t91 = 0.7071067811865476f * t90;
+        float t92 = t89 + t91;
+        float t93 = 0.3826834323650904f * t92;
+        float t94 = t86 + t93;
+        float t95 = t73 + t94;
+        float t96 = x1r - x17r;
+        float t97 = x9i - x25i;
+        float t98 = t96 + t97;
+        float t99 = x5r - x21r;
+        float t100 = x13i - x29i;
+        float t101 = t99 + t100;
+        float t102 = x5i - x21i;
+        float t103 = x29r - x13r;
+        float t104 = t102 + t103;
+        float t105 = t101 + t104;
+        float t106 = 0.7071067811865476f * t105;
+        float t107 = t98 + t106;
+        float t108 = 0.9807852804032303f * t107;
+        float t109 = x1i - x17i;
+        float t110 = x25r - x9r;
+        float t111 = t109 + t110;
+        float t112 = t104 - t101;
+        float t113 = 0.7071067811865476f * t112;
+        float t114 = t111 + t113;
+        float t115 = 0.19509032201612872f * t114;
+        float t116 = t108 + t115;
+        float t117 = x3r - x19r;
+        float t118 = x11i - x27i;
+        float t119 = t117 + t118;
+        float t120 = x7r - x23r;
+        float t121 = x15i - x31i;
+        float t122 = t120 + t121;
+        float t123 = x7i - x23i;
+        float t124 = x31r - x15r;
+        float t125 = t123 + t124;
+        float t126 = t122 + t125;
+        float t127 = 0.7071067811865476f * t126;
+        float t128 = t119 + t127;
+        float t129 = 0.8314696123025452f * t128;
+        float t130 = x3i - x19i;
+        float t131 = x27r - x11r;
+        float t132 = t130 + t131;
+        float t133 = t125 - t122;
+        float t134 = 0.7071067811865476f * t133;
+        float t135 = t132 + t134;
+        float t136 = 0.5555702330196022f * t135;
+        float t137 = t129 + t136;
+        float t138 = t116 + t137;
+        float t139 = t95 + t138;
+        float t140 = x0i - x16i;
+        float t141 = x24r - x8r;
+        float t142 = t140 + t141;
+        float t143 = t70 - t67;
+        float t144 = 0.7071067811865476f * t143;
+        float t145 = t142 + t144;
+        float t146 = 0.9238795325112865f * t92;
+        float t147 = 0.3826834323650904f * t85;
+        float t148 = t146 - t147;
+        float t149 = t145 + t148;
+        float t150 = 0.9807852804032303f * t114;
+        float t151 = 0.19509032201612872f * t107;
+        float t152 = t150 - t151;
+        float t153 = 0.8314696123025452f * t135;
+        float t154 = 0.5555702330196022f * t128;
+        float t155 = t153 - t154;
+        float t156 = t152 + t155;
+        float t157 = t149 + t156;
+        float t158 = t0 - t1;
+        float t159 = t34 - t35;
+        float t160 = t158 + t159;
+        float t161 = t7 - t8;
+        float t162 = t41 - t42;
+        float t163 = t161 + t162;
+        float t164 = t38 - t39;
+        float t165 = t11 - t10;
+        float t166 = t164 + t165;
+        float t167 = t163 + t166;
+        float t168 = 0.7071067811865476f * t167;
+        float t169 = t160 + t168;
+        float t170 = t15 - t16;
+        float t171 = t49 - t50;
+        float t172 = t170 + t171;
+        float t173 = 0.9238795325112865f * t172;
+        float t174 = t46 - t47;
+        float t175 = t19 - t18;
+        float t176 = t174 + t175;
+        float t177 = 0.3826834323650904f * t176;
+        float t178 = t173 + t177;
+        float t179 = t22 - t23;
+        float t180 = t56 - t57;
+        float t181 = t179 + t180;
+        float t182 = 0.38268343236509f * t181;
+        float t183 = t53 - t54;
+        float t184 = t26 - t25;
+        float t185 = t183 + t184;
+        float t186 = 0.9238795325112866f * t185;
+        float t187 = t182 + t186;
+        float t188 = t178 + t187;
+        float t189 = t169 + t188;
+        float t190 = t31 - t32;
+        float t191 = t4 - t3;
+        float t192 = t190 + t191;
+        float t193 = t166 - t163;
+        float t194 = 0.7071067811865476f * t193;
+        float t195 = t192 + t194;
+        float t196 = 0.9238795325112865f * t176;
+        float t197 = 0.3826834323650904f * t172;
+        float t198 = t196 - t197;
+        float t199 = 0.38268343236509f * t185;
+        float t200 = 0.9238795325112866f * t181;
+        float t201 = t199 - t200;
+        float t202 = t198 + t201;
+        float t203 = t195 + t202;
+        float t204 = t62 - t63;
+        float t205 = t65 - t66;
+        float t206 = t68 - t69;
+        float t207 = t205 - t206;
+        float t208 = 0.7071067811865476f * t207;
+        float t209 = t204 - t208;
+        float t210 = t74 - t75;
+        float t211 = t77 - t78;
+        float t212 = t80 - t81;
+        float t213 = t211 - t212;
+        float t214 = 0.7071067811865476f * t213;
+        float t215 = t210 - t214;
+        float t216 = 0.38268343236509f * t215;
+        float t217 = t87 - t88;
+        float t218 = t211 + t212;
+        float t219 = 0.7071067811865476f * t218;
+        float t220 = t217 - t219;
+        float t221 = 0.9238795325112866f * t220;
+        float t222 = t216 + t221;
+        float t223 = t209 + t222;
+        float t224 = t96 - t97;
+        float t225 = t99 - t100;
+        float t226 = t102 - t103;
+        float t227 = t225 - t226;
+        float t228 = 0.7071067811865476f * t227;
+        float t229 = t224 - t228;
+        float t230 = 0.8314696123025452f * t229;
+        float t231 = t109 - t110;
+        float t232 = t225 + t226;
+        float t233 = 0.7071067811865476f * t232;
+        float t234 = t231 - t233;
+        float t235 = 0.5555702330196022f * t234;
+        float t236 = t230 + t235;
+        float t237 = t130 - t131;
+        float t238 = t120 - t121;
+        float t239 = t123 - t124;
+        float t240 = t238 + t239;
+        float t241 = 0.7071067811865476f * t240;
+        float t242 = t237 - t241;
+        float t243 = 0.9807852804032303f * t242;
+        float t244 = t117 - t118;
+        float t245 = t238 - t239;
+        float t246 = 0.7071067811865476f * t245;
+        float t247 = t244 - t246;
+        float t248 = 0.19509032201612866f * t247;
+        float t249 = t243 - t248;
+        float t250 = t236 + t249;
+        float t251 = t223 + t250;
+        float t252 = t140 - t141;
+        float t253 = t205 + t206;
+        float t254 = 0.7071067811865476f * t253;
+        float t255 = t252 - t254;
+        float t256 = 0.38268343236509f * t220;
+        float t257 = 0.9238795325112866f * t215;
+        float t258 = t256 - t257;
+        float t259 = t255 + t258;
+        float t260 = 0.8314696123025452f * t234;
+        float t261 = 0.5555702330196022f * t229;
+        float t262 = t260 - t261;
+        float t263 = 0.19509032201612866f * t242;
+        float t264 = 0.9807852804032303f * t247;
+        float t265 = t263 + t264;
+        float t266 = t262 - t265;
+        float t267 = t259 + t266;
+        float t268 = t2 - t5;
+        float t269 = t40 - t43;
+        float t270 = t268 + t269;
+        float t271 = t17 - t20;
+        float t272 = t48 - t51;
+        float t273 = t271 + t272;
+        float t274 = 0.7071067811865476f * t273;
+        float t275 = t24 - t27;
+        float t276 = t55 - t58;
+        float t277 = t275 - t276;
+        float t278 = 0.7071067811865476f * t277;
+        float t279 = t274 - t278;
+        float t280 = t270 + t279;
+        float t281 = t33 - t36;
+        float t282 = t12 - t9;
+        float t283 = t281 + t282;
+        float t284 = t272 - t271;
+        float t285 = 0.7071067811865476f * t284;
+        float t286 = t275 + t276;
+        float t287 = 0.7071067811865476f * t286;
+        float t288 = t285 - t287;
+        float t289 = t283 + t288;
+        float t290 = t64 - t72;
+        float t291 = t89 - t91;
+        float t292 = 0.9238795325112865f * t291;
+        float t293 = t76 - t84;
+        float t294 = 0.38268343236509034f * t293;
+        float t295 = t292 - t294;
+        float t296 = t290 + t295;
+        float t297 = t98 - t106;
+        float t298 = 0.5555702330196018f * t297;
+        float t299 = t111 - t113;
+        float t300 = 0.8314696123025455f * t299;
+        float t301 = t298 + t300;
+        float t302 = t132 - t134;
+        float t303 = 0.19509032201612836f * t302;
+        float t304 = t119 - t127;
+        float t305 = 0.9807852804032304f * t304;
+        float t306 = t303 - t305;
+        float t307 = t301 + t306;
+        float t308 = t296 + t307;
+        float t309 = t142 - t144;
+        float t310 = 0.38268343236509034f * t291;
+        float t311 = 0.9238795325112865f * t293;
+        float t312 = t310 + t311;
+        float t313 = t309 - t312;
+        float t314 = 0.5555702330196018f * t299;
+        float t315 = 0.8314696123025455f * t297;
+        float t316 = t314 - t315;
+        float t317 = 0.9807852804032304f * t302;
+        float t318 = 0.19509032201612836f * t304;
+        float t319 = t317 + t318;
+        float t320 = t316 - t319;
+        float t321 = t313 + t320;
+        float t322 = t158 - t159;
+        float t323 = t161 - t162;
+        float t324 = t164 - t165;
+        float t325 = t323 - t324;
+        float t326 = 0.7071067811865476f * t325;
+        float t327 = t322 - t326;
+        float t328 = t170 - t171;
+        float t329 = 0.38268343236509f * t328;
+        float t330 = t174 - t175;
+        float t331 = 0.9238795325112866f * t330;
+        float t332 = t329 + t331;
+        float t333 = t179 - t180;
+        float t334 = 0.9238795325112867f * t333;
+        float t335 = t183 - t184;
+        float t336 = 0.3826834323650899f * t335;
+        float t337 = t334 + t336;
+        float t338 = t332 - t337;
+        float t339 = t327 + t338;
+        float t340 = t190 - t191;
+        float t341 = t323 + t324;
+        float t342 = 0.7071067811865476f * t341;
+        float t343 = t340 - t342;
+        float t344 = 0.38268343236509f * t330;
+        float t345 = 0.9238795325112866f * t328;
+        float t346 = t344 - t345;
+        float t347 = 0.3826834323650899f * t333;
+        float t348 = 0.9238795325112867f * t335;
+        float t349 = t347 - t348;
+        float t350 = t346 + t349;
+        float t351 = t343 + t350;
+        float t352 = t204 + t208;
+        float t353 = t217 + t219;
+        float t354 = 0.38268343236508967f * t353;
+        float t355 = t210 + t214;
+        float t356 = 0.9238795325112868f * t355;
+        float t357 = t354 - t356;
+        float t358 = t352 + t357;
+        float t359 = t224 + t228;
+        float t360 = 0.1950903220161283f * t359;
+        float t361 = t231 + t233;
+        float t362 = 0.9807852804032304f * t361;
+        float t363 = t360 + t362;
+        float t364 = t244 + t246;
+        float t365 = 0.555570233019602f * t364;
+        float t366 = t237 + t241;
+        float t367 = 0.8314696123025455f * t366;
+        float t368 = t365 + t367;
+        float t369 = t363 - t368;
+        float t370 = t358 + t369;
+        float t371 = t252 + t254;
+        float t372 = 0.9238795325112868f * t353;
+        float t373 = 0.38268343236508967f * t355;
+        float t374 = t372 + t373;
+        float t375 = t371 - t374;
+        float t376 = 0.1950903220161283f * t361;
+        float t377 = 0.9807852804032304f * t359;
+        float t378 = t376 - t377;
+        float t379 = 0.8314696123025455f * t364;
+        float t380 = 0.555570233019602f * t366;
+        float t381 = t379 - t380;
+        float t382 = t378 + t381;
+        float t383 = t375 + t382;
+        float t384 = t6 - t13;
+        float t385 = t52 - t59;
+        float t386 = t384 + t385;
+        float t387 = t37 - t44;
+        float t388 = t28 - t21;
+        float t389 = t387 + t388;
+        float t390 = t73 - t94;
+        float t391 = t152 - t155;
+        float t392 = t390 + t391;
+        float t393 = t145 - t148;
+        float t394 = t137 - t116;
+        float t395 = t393 + t394;
+        float t396 = t160 - t168;
+        float t397 = t198 - t201;
+        float t398 = t396 + t397;
+        float t399 = t192 - t194;
+        float t400 = t187 - t178;
+        float t401 = t399 + t400;
+        float t402 = t209 - t222;
+        float t403 = t262 + t265;
+        float t404 = t402 + t403;
+        float t405 = t255 - t258;
+        float t406 = t249 - t236;
+        float t407 = t405 + t406;
+        float t408 = t268 - t269;
+        float t409 = t285 + t287;
+        float t410 = t408 + t409;
+        float t411 = t281 - t282;
+        float t412 = t274 + t278;
+        float t413 = t411 - t412;
+        float t414 = t290 - t295;
+        float t415 = t316 + t319;
+        float t416 = t414 + t415;
+        float t417 = t309 + t312;
+        float t418 = t306 - t301;
+        float t419 = t417 + t418;
+        float t420 = t322 + t326;
+        float t421 = t346 - t349;
+        float t422 = t420 + t421;
+        float t423 = t340 + t342;
+        float t424 = t332 + t337;
+        float t425 = t423 - t424;
+        float t426 = t352 - t357;
+        float t427 = t378 - t381;
+        float t428 = t426 + t427;
+        float t429 = t371 + t374;
+        float t430 = t363 + t368;
+        float t431 = t429 - t430;
+        float t432 = t14 - t29;
+        float t433 = t45 - t60;
+        float t434 = t95 - t138;
+        float t435 = t149 - t156;
+        float t436 = t169 - t188;
+        float t437 = t195 - t202;
+        float t438 = t223 - t250;
+        float t439 = t259 - t266;
+        float t440 = t270 - t279;
+        float t441 = t283 - t288;
+        float t442 = t296 - t307;
+        float t443 = t313 - t320;
+        float t444 = t327 - t338;
+        float t445 = t343 - t350;
+        float t446 = t358 - t369;
+        float t447 = t375 - t382;
+        float t448 = t384 - t385;
+        float t449 = t387 - t388;
+        float t450 = t390 - t391;
+        float t451 = t393 - t394;
+        float t452 = t396 - t397;
+        float t453 = t399 - t400;
+        float t454 = t402 - t403;
+        float t455 = t405 - t406;
+        float t456 = t408 - t409;
+        float t457 = t411 + t412;
+        float t458 = t414 - t415;
+        float t459 = t417 - t418;
+        float t460 = t420 - t421;
+        float t461 = t423 + t424;
+        float t462 = t426 - t427;
+        float t463 = t429 + t430;
+        a[offr] = t30;
+        a[offi] = t61;
+        a[offr + 2] = t139;
+        a[offi + 2] = t157;
+        a[offr + 4] = t189;
+        a[offi + 4] = t203;
+        a[offr + 6] = t251;
+        a[offi + 6] = t267;
+        a[offr + 8] = t280;
+        a[offi + 8] = t289;
+        a[offr + 10] = t308;
+        a[offi + 10] = t321;
+        a[offr + 12] = t339;
+        a[offi + 12] = t351;
+        a[offr + 14] = t370;
+        a[offi + 14] = t383;
+        a[offr + 16] = t386;
+        a[offi + 16] = t389;
+        a[offr + 18] = t392;
+        a[offi + 18] = t395;
+        a[offr + 20] = t398;
+        a[offi + 20] = t401;
+        a[offr + 22] = t404;
+        a[offi + 22] = t407;
+        a[offr + 24] = t410;
+        a[offi + 24] = t413;
+        a[offr + 26] = t416;
+        a[offi + 26] = t419;
+        a[offr + 28] = t422;
+        a[offi + 28] = t425;
+        a[offr + 30] = t428;
+        a[offi + 30] = t431;
+        a[offr + 32] = t432;
+        a[offi + 32] = t433;
+        a[offr + 34] = t434;
+        a[offi + 34] = t435;
+        a[offr + 36] = t436;
+        a[offi + 36] = t437;
+        a[offr + 38] = t438;
+        a[offi + 38] = t439;
+        a[offr + 40] = t440;
+        a[offi + 40] = t441;
+        a[offr + 42] = t442;
+        a[offi + 42] = t443;
+        a[offr + 44] = t444;
+        a[offi + 44] = t445;
+        a[offr + 46] = t446;
+        a[offi + 46] = t447;
+        a[offr + 48] = t448;
+        a[offi + 48] = t449;
+        a[offr + 50] = t450;
+        a[offi + 50] = t451;
+        a[offr + 52] = t452;
+        a[offi + 52] = t453;
+        a[offr + 54] = t454;
+        a[offi + 54] = t455;
+        a[offr + 56] = t456;
+        a[offi + 56] = t457;
+        a[offr + 58] = t458;
+        a[offi + 58] = t459;
+        a[offr + 60] = t460;
+        a[offi + 60] = t461;
+        a[offr + 62] = t462;
+        a[offi + 62] = t463;
+    }
+
+    static void rf2(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float t0 = x0 + x1;
+        float t1 = x0 - x1;
+        a[offa] = t0;
+        a[offa + 1] = t1;
+    }
+
+    static void rf3(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float t0 = x1 + x2;
+        float t1 = x0 + t0;
+        float t2 = x1 - x2;
+        float t3 = 0.8660254037844384f * t2;
+        float t4 = -t3;
+        float t5 = 0.5f * t0;
+        float t6 = x0 - t5;
+        a[offa] = t1;
+        a[offa + 1] = t4;
+        a[offa + 2] = t6;
+    }
+
+    static void rf4(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float t0 = x0 + x2;
+        float t1 = x1 + x3;
+        float t2 = t0 + t1;
+        float t3 = t0 - t1;
+        float t4 = x0 - x2;
+        float t5 = x3 - x1;
+        a[offa] = t2;
+        a[offa + 1] = t3;
+        a[offa + 2] = t4;
+        a[offa + 3] = t5;
+    }
+
+    static void rf5(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float t0 = x2 + x3;
+        float t1 = x1 + x4;
+        float t2 = x0 + t1;
+        float t3 = t0 + t2;
+        float t4 = x2 - x3;
+        float t5 = 0.9510565162951535f * t4;
+        float t6 = x1 - x4;
+        float t7 = 0.587785252292473f * t6;
+        float t8 = t5 - t7;
+        float t9 = 0.30901699437494723f * t1;
+        float t10 = x0 + t9;
+        float t11 = 0.8090169943749476f * t0;
+        float t12 = t10 - t11;
+        float t13 = 0.9510565162951536f * t6;
+        float t14 = 0.587785252292473f * t4;
+        float t15 = t13 + t14;
+        float t16 = -t15;
+        float t17 = 0.8090169943749476f * t1;
+        float t18 = x0 - t17;
+        float t19 = 0.30901699437494745f * t0;
+        float t20 = t18 + t19;
+        a[offa] = t3;
+        a[offa + 1] = t8;
+        a[offa + 2] = t12;
+        a[offa + 3] = t16;
+        a[offa + 4] = t20;
+    }
+
+    static void rf6(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float t0 = x2 + x4;
+        float t1 = x0 + t0;
+        float t2 = x3 + x5;
+        float t3 = x1 + t2;
+        float t4 = t1 + t3;
+        float t5 = t1 - t3;
+        float t6 = 0.5f * t0;
+        float t7 = x0 - t6;
+        float t8 = 0.5f * t2;
+        float t9 = x1 - t8;
+        float t10 = 0.5f * t9;
+        float t11 = x3 - x5;
+        float t12 = 0.7499999999999997f * t11;
+        float t13 = t10 - t12;
+        float t14 = t7 + t13;
+        float t15 = x2 - x4;
+        float t16 = 0.8660254037844384f * t15;
+        float t17 = 0.4330127018922192f * t11;
+        float t18 = 0.8660254037844386f * t9;
+        float t19 = t17 + t18;
+        float t20 = t16 + t19;
+        float t21 = -t20;
+        float t22 = 0.7499999999999996f * t11;
+        float t23 = t22 - t10;
+        float t24 = t7 + t23;
+        float t25 = 0.8660254037844384f * t9;
+        float t26 = t17 + t25;
+        float t27 = t16 - t26;
+        a[offa] = t4;
+        a[offa + 1] = t5;
+        a[offa + 2] = t14;
+        a[offa + 3] = t21;
+        a[offa + 4] = t24;
+        a[offa + 5] = t27;
+    }
+
+    static void rf7(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float t0 = x3 + x4;
+        float t1 = x2 + x5;
+        float t2 = x1 + x6;
+        float t3 = x0 + t2;
+        float t4 = t1 + t3;
+        float t5 = t0 + t4;
+        float t6 = x2 - x5;
+        float t7 = 0.7818314824680298f * t6;
+        float t8 = x1 - x6;
+        float t9 = 0.433883739117558f * t8;
+        float t10 = t7 - t9;
+        float t11 = x3 - x4;
+        float t12 = 0.9749279121818236f * t11;
+        float t13 = t10 - t12;
+        float t14 = 0.6234898018587334f * t2;
+        float t15 = x0 + t14;
+        float t16 = 0.2225209339563146f * t1;
+        float t17 = t15 - t16;
+        float t18 = 0.9009688679024191f * t0;
+        float t19 = t17 - t18;
+        float t20 = 0.7818314824680299f * t8;
+        float t21 = 0.9749279121818236f * t6;
+        float t22 = t20 + t21;
+        float t23 = 0.433883739117558f * t11;
+        float t24 = t22 + t23;
+        float t25 = -t24;
+        float t26 = 0.2225209339563146f * t2;
+        float t27 = x0 - t26;
+        float t28 = 0.900968867902419f * t1;
+        float t29 = t27 - t28;
+        float t30 = 0.6234898018587336f * t0;
+        float t31 = t29 + t30;
+        float t32 = 0.43388373911755823f * t6;
+        float t33 = 0.9749279121818236f * t8;
+        float t34 = t32 - t33;
+        float t35 = 0.7818314824680298f * t11;
+        float t36 = t34 + t35;
+        float t37 = 0.9009688679024191f * t2;
+        float t38 = x0 - t37;
+        float t39 = 0.6234898018587336f * t1;
+        float t40 = t38 + t39;
+        float t41 = 0.2225209339563146f * t0;
+        float t42 = t40 - t41;
+        a[offa] = t5;
+        a[offa + 1] = t13;
+        a[offa + 2] = t19;
+        a[offa + 3] = t25;
+        a[offa + 4] = t31;
+        a[offa + 5] = t36;
+        a[offa + 6] = t42;
+    }
+
+    static void rf8(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float t0 = x0 + x4;
+        float t1 = x2 + x6;
+        float t2 = t0 + t1;
+        float t3 = x1 + x5;
+        float t4 = x3 + x7;
+        float t5 = t3 + t4;
+        float t6 = t2 + t5;
+        float t7 = t2 - t5;
+        float t8 = x0 - x4;
+        float t9 = x1 - x5;
+        float t10 = x7 - x3;
+        float t11 = t9 + t10;
+        float t12 = 0.7071067811865476f * t11;
+        float t13 = t8 + t12;
+        float t14 = x6 - x2;
+        float t15 = t10 - t9;
+        float t16 = 0.7071067811865476f * t15;
+        float t17 = t14 + t16;
+        float t18 = t0 - t1;
+        float t19 = t4 - t3;
+        float t20 = x3 - x7;
+        float t21 = t9 - t20;
+        float t22 = 0.7071067811865476f * t21;
+        float t23 = t8 - t22;
+        float t24 = x2 - x6;
+        float t25 = t9 + t20;
+        float t26 = 0.7071067811865476f * t25;
+        float t27 = t24 - t26;
+        a[offa] = t6;
+        a[offa + 1] = t7;
+        a[offa + 2] = t13;
+        a[offa + 3] = t17;
+        a[offa + 4] = t18;
+        a[offa + 5] = t19;
+        a[offa + 6] = t23;
+        a[offa + 7] = t27;
+    }
+
+    static void rf9(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float t0 = x3 + x6;
+        float t1 = x0 + t0;
+        float t2 = x4 + x7;
+        float t3 = x1 + t2;
+        float t4 = x5 + x8;
+        float t5 = x2 + t4;
+        float t6 = t3 + t5;
+        float t7 = t1 + t6;
+        float t8 = x4 - x7;
+        float t9 = 0.663413948168938f * t8;
+        float t10 = 0.5f * t2;
+        float t11 = x1 - t10;
+        float t12 = 0.6427876096865396f * t11;
+        float t13 = t9 + t12;
+        float t14 = x5 - x8;
+        float t15 = 0.1503837331804349f * t14;
+        float t16 = 0.5f * t4;
+        float t17 = x2 - t16;
+        float t18 = 0.9848077530122081f * t17;
+        float t19 = t15 + t18;
+        float t20 = t13 + t19;
+        float t21 = 0.5f * t20;
+        float t22 = x3 - x6;
+        float t23 = 0.8660254037844384f * t22;
+        float t24 = t21 - t23;
+        float t25 = 0.7660444431189778f * t11;
+        float t26 = 0.5566703992264194f * t8;
+        float t27 = t25 - t26;
+        float t28 = 0.17364817766692997f * t17;
+        float t29 = 0.852868531952443f * t14;
+        float t30 = t28 - t29;
+        float t31 = t27 - t30;
+        float t32 = 0.8660254037844384f * t31;
+        float t33 = t24 - t32;
+        float t34 = 0.5f * t0;
+        float t35 = x0 - t34;
+        float t36 = t27 + t30;
+        float t37 = t35 + t36;
+        float t38 = t23 + t20;
+        float t39 = -t38;
+        float t40 = 0.17364817766692997f * t11;
+        float t41 = 0.852868531952443f * t8;
+        float t42 = t40 + t41;
+        float t43 = 0.2961981327260237f * t14;
+        float t44 = 0.9396926207859084f * t17;
+        float t45 = t43 - t44;
+        float t46 = t42 + t45;
+        float t47 = t35 + t46;
+        float t48 = 0.1503837331804349f * t8;
+        float t49 = 0.9848077530122081f * t11;
+        float t50 = t48 - t49;
+        float t51 = 0.8137976813493735f * t14;
+        float t52 = 0.34202014332566866f * t17;
+        float t53 = t51 + t52;
+        float t54 = t50 - t53;
+        float t55 = t23 + t54;
+        float t56 = 0.5f * t6;
+        float t57 = t1 - t56;
+        float t58 = t3 - t5;
+        float t59 = 0.8660254037844384f * t58;
+        float t60 = -t59;
+        float t61 = 0.5f * t36;
+        float t62 = t35 - t61;
+        float t63 = t19 - t13;
+        float t64 = 0.8660254037844384f * t63;
+        float t65 = t62 + t64;
+        a[offa] = t7;
+        a[offa + 1] = t33;
+        a[offa + 2] = t37;
+        a[offa + 3] = t39;
+        a[offa + 4] = t47;
+        a[offa + 5] = t55;
+        a[offa + 6] = t57;
+        a[offa + 7] = t60;
+        a[offa + 8] = t65;
+    }
+
+    static void rf10(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float t0 = x4 + x6;
+        float t1 = x2 + x8;
+        float t2 = x0 + t1;
+        float t3 = t0 + t2;
+        float t4 = x5 + x7;
+        float t5 = x3 + x9;
+        float t6 = x1 + t5;
+        float t7 = t4 + t6;
+        float t8 = t3 + t7;
+        float t9 = t3 - t7;
+        float t10 = 0.30901699437494723f * t1;
+        float t11 = x0 + t10;
+        float t12 = 0.8090169943749476f * t0;
+        float t13 = t11 - t12;
+        float t14 = 0.30901699437494723f * t5;
+        float t15 = x1 + t14;
+        float t16 = 0.8090169943749476f * t4;
+        float t17 = t15 - t16;
+        float t18 = 0.8090169943749473f * t17;
+        float t19 = x3 - x9;
+        float t20 = 0.9510565162951536f * t19;
+        float t21 = x5 - x7;
+        float t22 = 0.587785252292473f * t21;
+        float t23 = t20 + t22;
+        float t24 = 0.5877852522924734f * t23;
+        float t25 = t18 - t24;
+        float t26 = t13 + t25;
+        float t27 = x2 - x8;
+        float t28 = 0.9510565162951536f * t27;
+        float t29 = x4 - x6;
+        float t30 = 0.587785252292473f * t29;
+        float t31 = t28 + t30;
+        float t32 = 0.8090169943749473f * t23;
+        float t33 = 0.5877852522924734f * t17;
+        float t34 = t32 + t33;
+        float t35 = t31 + t34;
+        float t36 = -t35;
+        float t37 = 0.8090169943749476f * t1;
+        float t38 = x0 - t37;
+        float t39 = 0.30901699437494745f * t0;
+        float t40 = t38 + t39;
+        float t41 = 0.8090169943749476f * t5;
+        float t42 = x1 - t41;
+        float t43 = 0.30901699437494745f * t4;
+        float t44 = t42 + t43;
+        float t45 = 0.30901699437494723f * t44;
+        float t46 = 0.9510565162951535f * t21;
+        float t47 = 0.587785252292473f * t19;
+        float t48 = t46 - t47;
+        float t49 = 0.9510565162951536f * t48;
+        float t50 = t45 + t49;
+        float t51 = t40 + t50;
+        float t52 = 0.9510565162951535f * t29;
+        float t53 = 0.587785252292473f * t27;
+        float t54 = t52 - t53;
+        float t55 = 0.30901699437494723f * t48;
+        float t56 = 0.9510565162951536f * t44;
+        float t57 = t55 - t56;
+        float t58 = t54 + t57;
+        float t59 = t47 - t46;
+        float t60 = 0.9510565162951535f * t59;
+        float t61 = 0.30901699437494756f * t44;
+        float t62 = t60 - t61;
+        float t63 = t40 + t62;
+        float t64 = t53 - t52;
+        float t65 = 0.30901699437494756f * t59;
+        float t66 = 0.9510565162951535f * t44;
+        float t67 = t65 + t66;
+        float t68 = t64 - t67;
+        float t69 = 0.587785252292473f * t23;
+        float t70 = 0.8090169943749476f * t17;
+        float t71 = t69 - t70;
+        float t72 = t13 + t71;
+        float t73 = 0.8090169943749476f * t23;
+        float t74 = 0.587785252292473f * t17;
+        float t75 = t73 + t74;
+        float t76 = t31 - t75;
+        a[offa] = t8;
+        a[offa + 1] = t9;
+        a[offa + 2] = t26;
+        a[offa + 3] = t36;
+        a[offa + 4] = t51;
+        a[offa + 5] = t58;
+        a[offa + 6] = t63;
+        a[offa + 7] = t68;
+        a[offa + 8] = t72;
+        a[offa + 9] = t76;
+    }
+
+    static void rf11(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float t0 = x5 + x6;
+        float t1 = x4 + x7;
+        float t2 = x3 + x8;
+        float t3 = x2 + x9;
+        float t4 = x1 + x10;
+        float t5 = x0 + t4;
+        float t6 = t3 + t5;
+        float t7 = t2 + t6;
+        float t8 = t1 + t7;
+        float t9 = t0 + t8;
+        float t10 = x2 - x9;
+        float t11 = 0.5406408174555976f * t10;
+        float t12 = x1 - x10;
+        float t13 = 0.2817325568414294f * t12;
+        float t14 = t11 - t13;
+        float t15 = x3 - x8;
+        float t16 = 0.7557495743542582f * t15;
+        float t17 = t14 - t16;
+        float t18 = x4 - x7;
+        float t19 = 0.9096319953545183f * t18;
+        float t20 = t17 + t19;
+        float t21 = x5 - x6;
+        float t22 = 0.9898214418809327f * t21;
+        float t23 = t20 - t22;
+        float t24 = 0.8412535328311808f * t4;
+        float t25 = x0 + t24;
+        float t26 = 0.4154150130018868f * t3;
+        float t27 = t25 + t26;
+        float t28 = 0.14231483827328523f * t2;
+        float t29 = t27 - t28;
+        float t30 = 0.6548607339452852f * t1;
+        float t31 = t29 - t30;
+        float t32 = 0.9594929736144975f * t0;
+        float t33 = t31 - t32;
+        float t34 = 0.5406408174555982f * t12;
+        float t35 = 0.9096319953545182f * t10;
+        float t36 = t34 + t35;
+        float t37 = 0.9898214418809327f * t15;
+        float t38 = t36 + t37;
+        float t39 = 0.7557495743542582f * t18;
+        float t40 = t38 + t39;
+        float t41 = 0.2817325568414294f * t21;
+        float t42 = t40 + t41;
+        float t43 = -t42;
+        float t44 = 0.4154150130018868f * t4;
+        float t45 = x0 + t44;
+        float t46 = 0.6548607339452852f * t3;
+        float t47 = t45 - t46;
+        float t48 = 0.9594929736144973f * t2;
+        float t49 = t47 - t48;
+        float t50 = 0.142314838273285f * t1;
+        float t51 = t49 - t50;
+        float t52 = 0.8412535328311812f * t0;
+        float t53 = t51 + t52;
+        float t54 = 0.28173255684143006f * t15;
+        float t55 = 0.9096319953545182f * t12;
+        float t56 = 0.7557495743542582f * t10;
+        float t57 = t55 + t56;
+        float t58 = t54 - t57;
+        float t59 = 0.9898214418809328f * t18;
+        float t60 = t58 + t59;
+        float t61 = 0.5406408174555976f * t21;
+        float t62 = t60 + t61;
+        float t63 = 0.14231483827328523f * t4;
+        float t64 = x0 - t63;
+        float t65 = 0.9594929736144973f * t3;
+        float t66 = t64 - t65;
+        float t67 = 0.41541501300188644f * t2;
+        float t68 = t66 + t67;
+        float t69 = 0.8412535328311808f * t1;
+        float t70 = t68 + t69;
+        float t71 = 0.6548607339452852f * t0;
+        float t72 = t70 - t71;
+        float t73 = 0.28173255684143006f * t10;
+        float t74 = 0.9898214418809327f * t12;
+        float t75 = t73 - t74;
+        float t76 = 0.9096319953545183f * t15;
+        float t77 = t75 + t76;
+        float t78 = 0.5406408174555982f * t18;
+        float t79 = t77 - t78;
+        float t80 = 0.7557495743542582f * t21;
+        float t81 = t79 - t80;
+        float t82 = 0.6548607339452852f * t4;
+        float t83 = x0 - t82;
+        float t84 = 0.142314838273285f * t3;
+        float t85 = t83 - t84;
+        float t86 = 0.8412535328311808f * t2;
+        float t87 = t85 + t86;
+        float t88 = 0.9594929736144975f * t1;
+        float t89 = t87 - t88;
+        float t90 = 0.41541501300188644f * t0;
+        float t91 = t89 + t90;
+        float t92 = 0.9898214418809328f * t10;
+        float t93 = 0.7557495743542582f * t12;
+        float t94 = t92 - t93;
+        float t95 = 0.5406408174555982f * t15;
+        float t96 = t94 - t95;
+        float t97 = 0.2817325568414294f * t18;
+        float t98 = t96 - t97;
+        float t99 = 0.9096319953545183f * t21;
+        float t100 = t98 + t99;
+        float t101 = 0.9594929736144975f * t4;
+        float t102 = x0 - t101;
+        float t103 = 0.8412535328311812f * t3;
+        float t104 = t102 + t103;
+        float t105 = 0.6548607339452852f * t2;
+        float t106 = t104 - t105;
+        float t107 = 0.41541501300188644f * t1;
+        float t108 = t106 + t107;
+        float t109 = 0.14231483827328523f * t0;
+        float t110 = t108 - t109;
+        a[offa] = t9;
+        a[offa + 1] = t23;
+        a[offa + 2] = t33;
+        a[offa + 3] = t43;
+        a[offa + 4] = t53;
+        a[offa + 5] = t62;
+        a[offa + 6] = t72;
+        a[offa + 7] = t81;
+        a[offa + 8] = t91;
+        a[offa + 9] = t100;
+        a[offa + 10] = t110;
+    }
+
+    static void rf12(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float t0 = x4 + x8;
+        float t1 = x0 + t0;
+        float t2 = x6 + x10;
+        float t3 = x2 + t2;
+        float t4 = t1 + t3;
+        float t5 = x5 + x9;
+        float t6 = x1 + t5;
+        float t7 = x7 + x11;
+        float t8 = x3 + t7;
+        float t9 = t6 + t8;
+        float t10 = t4 + t9;
+        float t11 = t4 - t9;
+        float t12 = 0.5f * t0;
+        float t13 = x0 - t12;
+        float t14 = 0.5f * t2;
+        float t15 = x2 - t14;
+        float t16 = 0.5f * t15;
+        float t17 = x6 - x10;
+        float t18 = 0.7499999999999997f * t17;
+        float t19 = t16 - t18;
+        float t20 = t13 + t19;
+        float t21 = 0.5f * t5;
+        float t22 = x1 - t21;
+        float t23 = 0.8660254037844384f * t22;
+        float t24 = x5 - x9;
+        float t25 = 0.4330127018922192f * t24;
+        float t26 = t23 - t25;
+        float t27 = x7 - x11;
+        float t28 = 0.8660254037844384f * t27;
+        float t29 = t26 - t28;
+        float t30 = t20 + t29;
+        float t31 = 0.5f * t7;
+        float t32 = t31 - x3;
+        float t33 = 0.7499999999999996f * t24;
+        float t34 = 0.5f * t22;
+        float t35 = t33 + t34;
+        float t36 = t32 - t35;
+        float t37 = x4 - x8;
+        float t38 = 0.8660254037844384f * t37;
+        float t39 = 0.4330127018922192f * t17;
+        float t40 = 0.8660254037844386f * t15;
+        float t41 = t39 + t40;
+        float t42 = t38 + t41;
+        float t43 = t36 - t42;
+        float t44 = 0.7499999999999996f * t17;
+        float t45 = t44 - t16;
+        float t46 = t13 + t45;
+        float t47 = 0.7499999999999997f * t24;
+        float t48 = t34 + t47;
+        float t49 = t32 + t48;
+        float t50 = t46 + t49;
+        float t51 = 0.8660254037844384f * t15;
+        float t52 = t39 + t51;
+        float t53 = t38 - t52;
+        float t54 = 0.8660254037844386f * t22;
+        float t55 = t25 - t54;
+        float t56 = t55 - t28;
+        float t57 = t53 + t56;
+        float t58 = t1 - t3;
+        float t59 = t8 - t6;
+        float t60 = t13 - t19;
+        float t61 = t35 + t32;
+        float t62 = t60 - t61;
+        float t63 = t41 - t38;
+        float t64 = t28 + t26;
+        float t65 = t63 - t64;
+        float t66 = t13 - t45;
+        float t67 = t28 + t55;
+        float t68 = t66 + t67;
+        float t69 = t38 + t52;
+        float t70 = t32 - t48;
+        float t71 = t69 + t70;
+        a[offa] = t10;
+        a[offa + 1] = t11;
+        a[offa + 2] = t30;
+        a[offa + 3] = t43;
+        a[offa + 4] = t50;
+        a[offa + 5] = t57;
+        a[offa + 6] = t58;
+        a[offa + 7] = t59;
+        a[offa + 8] = t62;
+        a[offa + 9] = t65;
+        a[offa + 10] = t68;
+        a[offa + 11] = t71;
+    }
+
+    static void rf13(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float t0 = x6 + x7;
+        float t1 = x5 + x8;
+        float t2 = x4 + x9;
+        float t3 = x3 + x10;
+        float t4 = x2 + x11;
+        float t5 = x1 + x12;
+        float t6 = x0 + t5;
+        float t7 = t4 + t6;
+        float t8 = t3 + t7;
+        float t9 = t2 + t8;
+        float t10 = t1 + t9;
+        float t11 = t0 + t10;
+        float t12 = x2 - x11;
+        float t13 = 0.46472317204376856f * t12;
+        float t14 = x1 - x12;
+        float t15 = 0.23931566428755743f * t14;
+        float t16 = t13 - t15;
+        float t17 = x3 - x10;
+        float t18 = 0.6631226582407953f * t17;
+        float t19 = t16 - t18;
+        float t20 = x4 - x9;
+        float t21 = 0.8229838658936565f * t20;
+        float t22 = t19 + t21;
+        float t23 = x5 - x8;
+        float t24 = 0.9350162426854147f * t23;
+        float t25 = t22 - t24;
+        float t26 = x6 - x7;
+        float t27 = 0.992708874098054f * t26;
+        float t28 = t25 + t27;
+        float t29 = 0.88545602565321f * t5;
+        float t30 = x0 + t29;
+        float t31 = 0.5680647467311556f * t4;
+        float t32 = t30 + t31;
+        float t33 = 0.1205366802553232f * t3;
+        float t34 = t32 + t33;
+        float t35 = 0.3546048870425359f * t2;
+        float t36 = t34 - t35;
+        float t37 = 0.748510748171101f * t1;
+        float t38 = t36 - t37;
+        float t39 = 0.9709418174260521f * t0;
+        float t40 = t38 - t39;
+        float t41 = 0.4647231720437684f * t14;
+        float t42 = 0.8229838658936566f * t12;
+        float t43 = t41 + t42;
+        float t44 = 0.992708874098054f * t17;
+        float t45 = t43 + t44;
+        float t46 = 0.9350162426854147f * t20;
+        float t47 = t45 + t46;
+        float t48 = 0.6631226582407953f * t23;
+        float t49 = t47 + t48;
+        float t50 = 0.23931566428755743f * t26;
+        float t51 = t49 + t50;
+        float t52 = -t51;
+        float t53 = 0.5680647467311556f * t5;
+        float t54 = x0 + t53;
+        float t55 = 0.3546048870425359f * t4;
+        float t56 = t54 - t55;
+        float t57 = 0.9709418174260521f * t3;
+        float t58 = t56 - t57;
+        float t59 = 0.7485107481711012f * t2;
+        float t60 = t58 - t59;
+        float t61 = 0.120536680255323f * t1;
+        float t62 = t60 + t61;
+        float t63 = 0.8854560256532099f * t0;
+        float t64 = t62 + t63;
+        float t65 = 0.6631226582407952f * t20;
+        float t66 = 0.8229838658936566f * t14;
+        float t67 = 0.9350162426854147f * t12;
+        float t68 = t66 + t67;
+        float t69 = 0.23931566428755743f * t17;
+        float t70 = t68 + t69;
+        float t71 = t65 - t70;
+        float t72 = 0.992708874098054f * t23;
+        float t73 = t71 + t72;
+        float t74 = 0.46472317204376856f * t26;
+        float t75 = t73 + t74;
+        float t76 = 0.1205366802553232f * t5;
+        float t77 = x0 + t76;
+        float t78 = 0.9709418174260521f * t4;
+        float t79 = t77 - t78;
+        float t80 = 0.3546048870425357f * t3;
+        float t81 = t79 - t80;
+        float t82 = 0.8854560256532099f * t2;
+        float t83 = t81 + t82;
+        float t84 = 0.5680647467311556f * t1;
+        float t85 = t83 + t84;
+        float t86 = 0.748510748171101f * t0;
+        float t87 = t85 - t86;
+        float t88 = 0.9350162426854148f * t17;
+        float t89 = 0.992708874098054f * t14;
+        float t90 = 0.23931566428755743f * t12;
+        float t91 = t89 + t90;
+        float t92 = t88 - t91;
+        float t93 = 0.46472317204376856f * t20;
+        float t94 = t92 + t93;
+        float t95 = 0.8229838658936566f * t23;
+        float t96 = t94 - t95;
+        float t97 = 0.6631226582407953f * t26;
+        float t98 = t96 - t97;
+        float t99 = 0.3546048870425359f * t5;
+        float t100 = x0 - t99;
+        float t101 = 0.7485107481711012f * t4;
+        float t102 = t100 - t101;
+        float t103 = 0.8854560256532099f * t3;
+        float t104 = t102 + t103;
+        float t105 = 0.1205366802553232f * t2;
+        float t106 = t104 + t105;
+        float t107 = 0.970941817426052f * t1;
+        float t108 = t106 - t107;
+        float t109 = 0.5680647467311558f * t0;
+        float t110 = t108 + t109;
+        float t111 = 0.6631226582407952f * t12;
+        float t112 = 0.9350162426854147f * t14;
+        float t113 = t111 - t112;
+        float t114 = 0.46472317204376856f * t17;
+        float t115 = t113 + t114;
+        float t116 = 0.992708874098054f * t20;
+        float t117 = t115 - t116;
+        float t118 = 0.23931566428755768f * t23;
+        float t119 = t117 + t118;
+        float t120 = 0.8229838658936565f * t26;
+        float t121 = t119 + t120;
+        float t122 = 0.748510748171101f * t5;
+        float t123 = x0 - t122;
+        float t124 = 0.120536680255323f * t4;
+        float t125 = t123 + t124;
+        float t126 = 0.5680647467311556f * t3;
+        float t127 = t125 + t126;
+        float t128 = 0.970941817426052f * t2;
+        float t129 = t127 - t128;
+        float t130 = 0.8854560256532099f * t1;
+        float t131 = t129 + t130;
+        float t132 = 0.3546048870425359f * t0;
+        float t133 = t131 - t132;
+        float t134 = 0.992708874098054f * t12;
+        float t135 = 0.6631226582407953f * t14;
+        float t136 = t134 - t135;
+        float t137 = 0.8229838658936566f * t17;
+        float t138 = t136 - t137;
+        float t139 = 0.23931566428755768f * t20;
+        float t140 = t138 + t139;
+        float t141 = 0.46472317204376856f * t23;
+        float t142 = t140 + t141;
+        float t143 = 0.9350162426854147f * t26;
+        float t144 = t142 - t143;
+        float t145 = 0.9709418174260521f * t5;
+        float t146 = x0 - t145;
+        float t147 = 0.8854560256532099f * t4;
+        float t148 = t146 + t147;
+        float t149 = 0.748510748171101f * t3;
+        float t150 = t148 - t149;
+        float t151 = 0.5680647467311558f * t2;
+        float t152 = t150 + t151;
+        float t153 = 0.3546048870425359f * t1;
+        float t154 = t152 - t153;
+        float t155 = 0.120536680255323f * t0;
+        float t156 = t154 + t155;
+        a[offa] = t11;
+        a[offa + 1] = t28;
+        a[offa + 2] = t40;
+        a[offa + 3] = t52;
+        a[offa + 4] = t64;
+        a[offa + 5] = t75;
+        a[offa + 6] = t87;
+        a[offa + 7] = t98;
+        a[offa + 8] = t110;
+        a[offa + 9] = t121;
+        a[offa + 10] = t133;
+        a[offa + 11] = t144;
+        a[offa + 12] = t156;
+    }
+
+    static void rf14(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float x13 = a[offa + 13];
+        float t0 = x6 + x8;
+        float t1 = x4 + x10;
+        float t2 = x2 + x12;
+        float t3 = x0 + t2;
+        float t4 = t1 + t3;
+        float t5 = t0 + t4;
+        float t6 = x7 + x9;
+        float t7 = x5 + x11;
+        float t8 = x3 + x13;
+        float t9 = x1 + t8;
+        float t10 = t7 + t9;
+        float t11 = t6 + t10;
+        float t12 = t5 + t11;
+        float t13 = t5 - t11;
+        float t14 = 0.6234898018587334f * t2;
+        float t15 = x0 + t14;
+        float t16 = 0.2225209339563146f * t1;
+        float t17 = t15 - t16;
+        float t18 = 0.9009688679024191f * t0;
+        float t19 = t17 - t18;
+        float t20 = 0.6234898018587334f * t8;
+        float t21 = x1 + t20;
+        float t22 = 0.2225209339563146f * t7;
+        float t23 = t21 - t22;
+        float t24 = 0.9009688679024191f * t6;
+        float t25 = t23 - t24;
+        float t26 = 0.900968867902419f * t25;
+        float t27 = x3 - x13;
+        float t28 = 0.7818314824680299f * t27;
+        float t29 = x5 - x11;
+        float t30 = 0.9749279121818236f * t29;
+        float t31 = t28 + t30;
+        float t32 = x7 - x9;
+        float t33 = 0.433883739117558f * t32;
+        float t34 = t31 + t33;
+        float t35 = 0.43388373911755834f * t34;
+        float t36 = t26 - t35;
+        float t37 = t19 + t36;
+        float t38 = x2 - x12;
+        float t39 = 0.7818314824680299f * t38;
+        float t40 = x4 - x10;
+        float t41 = 0.9749279121818236f * t40;
+        float t42 = t39 + t41;
+        float t43 = x6 - x8;
+        float t44 = 0.433883739117558f * t43;
+        float t45 = t42 + t44;
+        float t46 = 0.900968867902419f * t34;
+        float t47 = 0.43388373911755834f * t25;
+        float t48 = t46 + t47;
+        float t49 = t45 + t48;
+        float t50 = -t49;
+        float t51 = 0.2225209339563146f * t2;
+        float t52 = x0 - t51;
+        float t53 = 0.900968867902419f * t1;
+        float t54 = t52 - t53;
+        float t55 = 0.6234898018587336f * t0;
+        float t56 = t54 + t55;
+        float t57 = 0.2225209339563146f * t8;
+        float t58 = x1 - t57;
+        float t59 = 0.900968867902419f * t7;
+        float t60 = t58 - t59;
+        float t61 = 0.6234898018587336f * t6;
+        float t62 = t60 + t61;
+        float t63 = 0.6234898018587334f * t62;
+        float t64 = 0.43388373911755823f * t29;
+        float t65 = 0.9749279121818236f * t27;
+        float t66 = t64 - t65;
+        float t67 = 0.7818314824680298f * t32;
+        float t68 = t66 + t67;
+        float t69 = 0.7818314824680299f * t68;
+        float t70 = t63 + t69;
+        float t71 = t56 + t70;
+        float t72 = 0.43388373911755823f * t40;
+        float t73 = 0.9749279121818236f * t38;
+        float t74 = t72 - t73;
+        float t75 = 0.7818314824680298f * t43;
+        float t76 = t74 + t75;
+        float t77 = 0.6234898018587334f * t68;
+        float t78 = 0.7818314824680299f * t62;
+        float t79 = t77 - t78;
+        float t80 = t76 + t79;
+        float t81 = 0.9009688679024191f * t2;
+        float t82 = x0 - t81;
+        float t83 = 0.6234898018587336f * t1;
+        float t84 = t82 + t83;
+        float t85 = 0.2225209339563146f * t0;
+        float t86 = t84 - t85;
+        float t87 = 0.9009688679024191f * t8;
+        float t88 = x1 - t87;
+        float t89 = 0.6234898018587336f * t7;
+        float t90 = t88 + t89;
+        float t91 = 0.2225209339563146f * t6;
+        float t92 = t90 - t91;
+        float t93 = 0.22252093395631423f * t92;
+        float t94 = 0.7818314824680298f * t29;
+        float t95 = 0.433883739117558f * t27;
+        float t96 = t94 - t95;
+        float t97 = 0.9749279121818236f * t32;
+        float t98 = t96 - t97;
+        float t99 = 0.9749279121818236f * t98;
+        float t100 = t93 + t99;
+        float t101 = t86 + t100;
+        float t102 = 0.7818314824680298f * t40;
+        float t103 = 0.433883739117558f * t38;
+        float t104 = t102 - t103;
+        float t105 = 0.9749279121818236f * t43;
+        float t106 = t104 - t105;
+        float t107 = 0.22252093395631423f * t98;
+        float t108 = 0.9749279121818236f * t92;
+        float t109 = t107 - t108;
+        float t110 = t106 + t109;
+        float t111 = t97 - t96;
+        float t112 = 0.9749279121818236f * t111;
+        float t113 = 0.2225209339563146f * t92;
+        float t114 = t112 - t113;
+        float t115 = t86 + t114;
+        float t116 = t105 - t104;
+        float t117 = 0.2225209339563146f * t111;
+        float t118 = t108 + t117;
+        float t119 = t116 - t118;
+        float t120 = 0.6234898018587337f * t62;
+        float t121 = 0.7818314824680297f * t68;
+        float t122 = t120 + t121;
+        float t123 = t56 - t122;
+        float t124 = 0.6234898018587337f * t68;
+        float t125 = 0.7818314824680297f * t62;
+        float t126 = t124 - t125;
+        float t127 = t126 - t76;
+        float t128 = 0.433883739117558f * t34;
+        float t129 = 0.9009688679024191f * t25;
+        float t130 = t128 - t129;
+        float t131 = t19 + t130;
+        float t132 = 0.9009688679024191f * t34;
+        float t133 = 0.433883739117558f * t25;
+        float t134 = t132 + t133;
+        float t135 = t45 - t134;
+        a[offa] = t12;
+        a[offa + 1] = t13;
+        a[offa + 2] = t37;
+        a[offa + 3] = t50;
+        a[offa + 4] = t71;
+        a[offa + 5] = t80;
+        a[offa + 6] = t101;
+        a[offa + 7] = t110;
+        a[offa + 8] = t115;
+        a[offa + 9] = t119;
+        a[offa + 10] = t123;
+        a[offa + 11] = t127;
+        a[offa + 12] = t131;
+        a[offa + 13] = t135;
+    }
+
+    static void rf15(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float x13 = a[offa + 13];
+        float x14 = a[offa + 14];
+        float t0 = x6 + x9;
+        float t1 = x3 + x12;
+        float t2 = x0 + t1;
+        float t3 = t0 + t2;
+        float t4 = x7 + x10;
+        float t5 = x4 + x13;
+        float t6 = x1 + t5;
+        float t7 = t4 + t6;
+        float t8 = x8 + x11;
+        float t9 = x5 + x14;
+        float t10 = x2 + t9;
+        float t11 = t8 + t10;
+        float t12 = t7 + t11;
+        float t13 = t3 + t12;
+        float t14 = x6 - x9;
+        float t15 = 0.9510565162951535f * t14;
+        float t16 = x3 - x12;
+        float t17 = 0.587785252292473f * t16;
+        float t18 = t15 - t17;
+        float t19 = x7 - x10;
+        float t20 = 0.9510565162951535f * t19;
+        float t21 = x4 - x13;
+        float t22 = 0.587785252292473f * t21;
+        float t23 = t20 - t22;
+        float t24 = 0.6691306063588585f * t23;
+        float t25 = 0.8090169943749476f * t5;
+        float t26 = x1 - t25;
+        float t27 = 0.30901699437494745f * t4;
+        float t28 = t26 + t27;
+        float t29 = 0.743144825477394f * t28;
+        float t30 = t24 - t29;
+        float t31 = x8 - x11;
+        float t32 = 0.9510565162951535f * t31;
+        float t33 = x5 - x14;
+        float t34 = 0.587785252292473f * t33;
+        float t35 = t32 - t34;
+        float t36 = 0.10452846326765423f * t35;
+        float t37 = 0.8090169943749476f * t9;
+        float t38 = x2 - t37;
+        float t39 = 0.30901699437494745f * t8;
+        float t40 = t38 + t39;
+        float t41 = 0.9945218953682733f * t40;
+        float t42 = t36 + t41;
+        float t43 = t30 - t42;
+        float t44 = 0.5f * t43;
+        float t45 = t18 - t44;
+        float t46 = 0.6691306063588585f * t28;
+        float t47 = 0.743144825477394f * t23;
+        float t48 = t46 + t47;
+        float t49 = 0.9945218953682733f * t35;
+        float t50 = 0.10452846326765423f * t40;
+        float t51 = t49 - t50;
+        float t52 = t48 - t51;
+        float t53 = 0.8660254037844384f * t52;
+        float t54 = t45 - t53;
+        float t55 = 0.30901699437494723f * t1;
+        float t56 = x0 + t55;
+        float t57 = 0.8090169943749476f * t0;
+        float t58 = t56 - t57;
+        float t59 = 0.30901699437494723f * t5;
+        float t60 = x1 + t59;
+        float t61 = 0.8090169943749476f * t4;
+        float t62 = t60 - t61;
+        float t63 = 0.913545457642601f * t62;
+        float t64 = 0.9510565162951536f * t21;
+        float t65 = 0.587785252292473f * t19;
+        float t66 = t64 + t65;
+        float t67 = 0.40673664307580015f * t66;
+        float t68 = t63 - t67;
+        float t69 = 0.30901699437494723f * t9;
+        float t70 = x2 + t69;
+        float t71 = 0.8090169943749476f * t8;
+        float t72 = t70 - t71;
+        float t73 = 0.6691306063588585f * t72;
+        float t74 = 0.9510565162951536f * t33;
+        float t75 = 0.587785252292473f * t31;
+        float t76 = t74 + t75;
+        float t77 = 0.743144825477394f * t76;
+        float t78 = t73 - t77;
+        float t79 = t68 + t78;
+        float t80 = t58 + t79;
+        float t81 = 0.9510565162951536f * t16;
+        float t82 = 0.587785252292473f * t14;
+        float t83 = t81 + t82;
+        float t84 = 0.913545457642601f * t66;
+        float t85 = 0.40673664307580015f * t62;
+        float t86 = t84 + t85;
+        float t87 = 0.6691306063588585f * t76;
+        float t88 = 0.743144825477394f * t72;
+        float t89 = t87 + t88;
+        float t90 = t86 + t89;
+        float t91 = t83 + t90;
+        float t92 = -t91;
+        float t93 = 0.8090169943749476f * t1;
+        float t94 = x0 - t93;
+        float t95 = 0.30901699437494745f * t0;
+        float t96 = t94 + t95;
+        float t97 = t48 + t51;
+        float t98 = t96 + t97;
+        float t99 = t18 + t43;
+        float t100 = 0.30901699437494723f * t28;
+        float t101 = t22 - t20;
+        float t102 = 0.9510565162951536f * t101;
+        float t103 = t100 + t102;
+        float t104 = t34 - t32;
+        float t105 = 0.587785252292473f * t104;
+        float t106 = 0.8090169943749476f * t40;
+        float t107 = t105 - t106;
+        float t108 = t103 + t107;
+        float t109 = t96 + t108;
+        float t110 = t17 - t15;
+        float t111 = 0.30901699437494723f * t101;
+        float t112 = 0.9510565162951536f * t28;
+        float t113 = t111 - t112;
+        float t114 = 0.8090169943749476f * t104;
+        float t115 = 0.587785252292473f * t40;
+        float t116 = t114 + t115;
+        float t117 = t113 - t116;
+        float t118 = t110 + t117;
+        float t119 = 0.9945218953682733f * t66;
+        float t120 = 0.10452846326765423f * t62;
+        float t121 = t119 - t120;
+        float t122 = 0.9781476007338057f * t72;
+        float t123 = 0.20791169081775931f * t76;
+        float t124 = t122 + t123;
+        float t125 = t121 - t124;
+        float t126 = t58 + t125;
+        float t127 = 0.20791169081775931f * t72;
+        float t128 = 0.9781476007338057f * t76;
+        float t129 = t127 - t128;
+        float t130 = 0.10452846326765423f * t66;
+        float t131 = 0.9945218953682733f * t62;
+        float t132 = t130 + t131;
+        float t133 = t129 - t132;
+        float t134 = t83 + t133;
+        float t135 = 0.5f * t12;
+        float t136 = t3 - t135;
+        float t137 = t7 - t11;
+        float t138 = 0.8660254037844384f * t137;
+        float t139 = -t138;
+        float t140 = 0.5f * t79;
+        float t141 = t58 - t140;
+        float t142 = t89 - t86;
+        float t143 = 0.8660254037844384f * t142;
+        float t144 = t141 + t143;
+        float t145 = 0.5f * t90;
+        float t146 = t145 - t83;
+        float t147 = t68 - t78;
+        float t148 = 0.8660254037844384f * t147;
+        float t149 = t146 - t148;
+        float t150 = 0.5f * t97;
+        float t151 = t96 - t150;
+        float t152 = t30 + t42;
+        float t153 = 0.8660254037844384f * t152;
+        float t154 = t151 + t153;
+        a[offa] = t13;
+        a[offa + 1] = t54;
+        a[offa + 2] = t80;
+        a[offa + 3] = t92;
+        a[offa + 4] = t98;
+        a[offa + 5] = t99;
+        a[offa + 6] = t109;
+        a[offa + 7] = t118;
+        a[offa + 8] = t126;
+        a[offa + 9] = t134;
+        a[offa + 10] = t136;
+        a[offa + 11] = t139;
+        a[offa + 12] = t144;
+        a[offa + 13] = t149;
+        a[offa + 14] = t154;
+    }
+
+    static void rf16(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float x13 = a[offa + 13];
+        float x14 = a[offa + 14];
+        float x15 = a[offa + 15];
+        float t0 = x0 + x8;
+        float t1 = x4 + x12;
+        float t2 = t0 + t1;
+        float t3 = x2 + x10;
+        float t4 = x6 + x14;
+        float t5 = t3 + t4;
+        float t6 = t2 + t5;
+        float t7 = x1 + x9;
+        float t8 = x5 + x13;
+        float t9 = t7 + t8;
+        float t10 = x3 + x11;
+        float t11 = x7 + x15;
+        float t12 = t10 + t11;
+        float t13 = t9 + t12;
+        float t14 = t6 + t13;
+        float t15 = t6 - t13;
+        float t16 = x0 - x8;
+        float t17 = x2 - x10;
+        float t18 = x14 - x6;
+        float t19 = t17 + t18;
+        float t20 = 0.7071067811865476f * t19;
+        float t21 = t16 + t20;
+        float t22 = x1 - x9;
+        float t23 = 0.9238795325112865f * t22;
+        float t24 = x13 - x5;
+        float t25 = 0.3826834323650904f * t24;
+        float t26 = t23 + t25;
+        float t27 = x3 - x11;
+        float t28 = 0.38268343236509f * t27;
+        float t29 = x15 - x7;
+        float t30 = 0.9238795325112866f * t29;
+        float t31 = t28 + t30;
+        float t32 = t26 + t31;
+        float t33 = t21 + t32;
+        float t34 = x12 - x4;
+        float t35 = t18 - t17;
+        float t36 = 0.7071067811865476f * t35;
+        float t37 = t34 + t36;
+        float t38 = 0.9238795325112865f * t24;
+        float t39 = 0.3826834323650904f * t22;
+        float t40 = t38 - t39;
+        float t41 = 0.38268343236509f * t29;
+        float t42 = 0.9238795325112866f * t27;
+        float t43 = t41 - t42;
+        float t44 = t40 + t43;
+        float t45 = t37 + t44;
+        float t46 = t0 - t1;
+        float t47 = t7 - t8;
+        float t48 = 0.7071067811865476f * t47;
+        float t49 = t10 - t11;
+        float t50 = 0.7071067811865476f * t49;
+        float t51 = t48 - t50;
+        float t52 = t46 + t51;
+        float t53 = t4 - t3;
+        float t54 = t8 - t7;
+        float t55 = 0.7071067811865476f * t54;
+        float t56 = t55 - t50;
+        float t57 = t53 + t56;
+        float t58 = x6 - x14;
+        float t59 = t17 - t58;
+        float t60 = 0.7071067811865476f * t59;
+        float t61 = t16 - t60;
+        float t62 = 0.38268343236509f * t22;
+        float t63 = x5 - x13;
+        float t64 = 0.9238795325112866f * t63;
+        float t65 = t62 + t64;
+        float t66 = 0.9238795325112867f * t27;
+        float t67 = x7 - x15;
+        float t68 = 0.3826834323650899f * t67;
+        float t69 = t66 + t68;
+        float t70 = t65 - t69;
+        float t71 = t61 + t70;
+        float t72 = x4 - x12;
+        float t73 = t17 + t58;
+        float t74 = 0.7071067811865476f * t73;
+        float t75 = t72 - t74;
+        float t76 = 0.38268343236509f * t63;
+        float t77 = 0.9238795325112866f * t22;
+        float t78 = t76 - t77;
+        float t79 = 0.3826834323650899f * t27;
+        float t80 = 0.9238795325112867f * t67;
+        float t81 = t79 - t80;
+        float t82 = t78 + t81;
+        float t83 = t75 + t82;
+        float t84 = t2 - t5;
+        float t85 = t12 - t9;
+        float t86 = t16 - t20;
+        float t87 = t40 - t43;
+        float t88 = t86 + t87;
+        float t89 = t34 - t36;
+        float t90 = t31 - t26;
+        float t91 = t89 + t90;
+        float t92 = t55 + t50;
+        float t93 = t46 + t92;
+        float t94 = t3 - t4;
+        float t95 = t48 + t50;
+        float t96 = t94 - t95;
+        float t97 = t16 + t60;
+        float t98 = t78 - t81;
+        float t99 = t97 + t98;
+        float t100 = t72 + t74;
+        float t101 = t65 + t69;
+        float t102 = t100 - t101;
+        a[offa] = t14;
+        a[offa + 1] = t15;
+        a[offa + 2] = t33;
+        a[offa + 3] = t45;
+        a[offa + 4] = t52;
+        a[offa + 5] = t57;
+        a[offa + 6] = t71;
+        a[offa + 7] = t83;
+        a[offa + 8] = t84;
+        a[offa + 9] = t85;
+        a[offa + 10] = t88;
+        a[offa + 11] = t91;
+        a[offa + 12] = t93;
+        a[offa + 13] = t96;
+        a[offa + 14] = t99;
+        a[offa + 15] = t102;
+    }
+
+    static void rf18(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float x13 = a[offa + 13];
+        float x14 = a[offa + 14];
+        float x15 = a[offa + 15];
+        float x16 = a[offa + 16];
+        float x17 = a[offa + 17];
+        float t0 = x6 + x12;
+        float t1 = x0 + t0;
+        float t2 = x8 + x14;
+        float t3 = x2 + t2;
+        float t4 = x10 + x16;
+        float t5 = x4 + t4;
+        float t6 = t3 + t5;
+        float t7 = t1 + t6;
+        float t8 = x7 + x13;
+        float t9 = x1 + t8;
+        float t10 = x9 + x15;
+        float t11 = x3 + t10;
+        float t12 = x11 + x17;
+        float t13 = x5 + t12;
+        float t14 = t11 + t13;
+        float t15 = t9 + t14;
+        float t16 = t7 + t15;
+        float t17 = t7 - t15;
+        float t18 = 0.5f * t0;
+        float t19 = x0 - t18;
+        float t20 = 0.5f * t2;
+        float t21 = x2 - t20;
+        float t22 = 0.7660444431189778f * t21;
+        float t23 = x8 - x14;
+        float t24 = 0.5566703992264194f * t23;
+        float t25 = t22 - t24;
+        float t26 = 0.5f * t4;
+        float t27 = x4 - t26;
+        float t28 = 0.17364817766692997f * t27;
+        float t29 = x10 - x16;
+        float t30 = 0.852868531952443f * t29;
+        float t31 = t28 - t30;
+        float t32 = t25 + t31;
+        float t33 = t19 + t32;
+        float t34 = 0.5f * t8;
+        float t35 = x1 - t34;
+        float t36 = 0.5f * t10;
+        float t37 = x3 - t36;
+        float t38 = 0.7660444431189778f * t37;
+        float t39 = x9 - x15;
+        float t40 = 0.5566703992264194f * t39;
+        float t41 = t38 - t40;
+        float t42 = 0.5f * t12;
+        float t43 = x5 - t42;
+        float t44 = 0.17364817766692997f * t43;
+        float t45 = x11 - x17;
+        float t46 = 0.852868531952443f * t45;
+        float t47 = t44 - t46;
+        float t48 = t41 + t47;
+        float t49 = t35 + t48;
+        float t50 = 0.9396926207859081f * t49;
+        float t51 = x7 - x13;
+        float t52 = 0.8660254037844384f * t51;
+        float t53 = 0.663413948168938f * t39;
+        float t54 = 0.6427876096865396f * t37;
+        float t55 = t53 + t54;
+        float t56 = 0.1503837331804349f * t45;
+        float t57 = 0.9848077530122081f * t43;
+        float t58 = t56 + t57;
+        float t59 = t55 + t58;
+        float t60 = t52 + t59;
+        float t61 = 0.34202014332566943f * t60;
+        float t62 = t50 - t61;
+        float t63 = t33 + t62;
+        float t64 = x6 - x12;
+        float t65 = 0.8660254037844384f * t64;
+        float t66 = 0.663413948168938f * t23;
+        float t67 = 0.6427876096865396f * t21;
+        float t68 = t66 + t67;
+        float t69 = 0.1503837331804349f * t29;
+        float t70 = 0.9848077530122081f * t27;
+        float t71 = t69 + t70;
+        float t72 = t68 + t71;
+        float t73 = t65 + t72;
+        float t74 = 0.9396926207859081f * t60;
+        float t75 = 0.34202014332566943f * t49;
+        float t76 = t74 + t75;
+        float t77 = t73 + t76;
+        float t78 = -t77;
+        float t79 = 0.17364817766692997f * t21;
+        float t80 = 0.852868531952443f * t23;
+        float t81 = t79 + t80;
+        float t82 = 0.2961981327260237f * t29;
+        float t83 = 0.9396926207859084f * t27;
+        float t84 = t82 - t83;
+        float t85 = t81 + t84;
+        float t86 = t19 + t85;
+        float t87 = 0.17364817766692997f * t37;
+        float t88 = 0.852868531952443f * t39;
+        float t89 = t87 + t88;
+        float t90 = 0.2961981327260237f * t45;
+        float t91 = 0.9396926207859084f * t43;
+        float t92 = t90 - t91;
+        float t93 = t89 + t92;
+        float t94 = t35 + t93;
+        float t95 = 0.7660444431189778f * t94;
+        float t96 = 0.1503837331804349f * t39;
+        float t97 = 0.9848077530122081f * t37;
+        float t98 = t96 - t97;
+        float t99 = 0.8137976813493735f * t45;
+        float t100 = 0.34202014332566866f * t43;
+        float t101 = t99 + t100;
+        float t102 = t98 - t101;
+        float t103 = t52 + t102;
+        float t104 = 0.6427876096865396f * t103;
+        float t105 = t95 + t104;
+        float t106 = t86 + t105;
+        float t107 = 0.1503837331804349f * t23;
+        float t108 = 0.9848077530122081f * t21;
+        float t109 = t107 - t108;
+        float t110 = 0.8137976813493735f * t29;
+        float t111 = 0.34202014332566866f * t27;
+        float t112 = t110 + t111;
+        float t113 = t109 - t112;
+        float t114 = t65 + t113;
+        float t115 = 0.7660444431189778f * t103;
+        float t116 = 0.6427876096865396f * t94;
+        float t117 = t115 - t116;
+        float t118 = t114 + t117;
+        float t119 = 0.5f * t6;
+        float t120 = t1 - t119;
+        float t121 = 0.5f * t14;
+        float t122 = t9 - t121;
+        float t123 = 0.5f * t122;
+        float t124 = t11 - t13;
+        float t125 = 0.7499999999999997f * t124;
+        float t126 = t123 - t125;
+        float t127 = t120 + t126;
+        float t128 = t3 - t5;
+        float t129 = 0.8660254037844384f * t128;
+        float t130 = 0.4330127018922192f * t124;
+        float t131 = 0.8660254037844386f * t122;
+        float t132 = t130 + t131;
+        float t133 = t129 + t132;
+        float t134 = -t133;
+        float t135 = 0.5f * t32;
+        float t136 = t19 - t135;
+        float t137 = t71 - t68;
+        float t138 = 0.8660254037844384f * t137;
+        float t139 = t136 + t138;
+        float t140 = 0.5f * t48;
+        float t141 = t35 - t140;
+        float t142 = t58 - t55;
+        float t143 = 0.8660254037844384f * t142;
+        float t144 = t141 + t143;
+        float t145 = 0.17364817766692997f * t144;
+        float t146 = 0.5f * t59;
+        float t147 = t146 - t52;
+        float t148 = t41 - t47;
+        float t149 = 0.8660254037844384f * t148;
+        float t150 = t147 - t149;
+        float t151 = 0.9848077530122081f * t150;
+        float t152 = t145 + t151;
+        float t153 = t139 + t152;
+        float t154 = 0.5f * t72;
+        float t155 = t154 - t65;
+        float t156 = t25 - t31;
+        float t157 = 0.8660254037844384f * t156;
+        float t158 = t155 - t157;
+        float t159 = 0.17364817766692997f * t150;
+        float t160 = 0.9848077530122081f * t144;
+        float t161 = t159 - t160;
+        float t162 = t158 + t161;
+        float t163 = 0.5f * t85;
+        float t164 = t19 - t163;
+        float t165 = t109 + t112;
+        float t166 = 0.8660254037844384f * t165;
+        float t167 = t164 + t166;
+        float t168 = 0.5f * t102;
+        float t169 = t52 - t168;
+        float t170 = t89 - t92;
+        float t171 = 0.8660254037844384f * t170;
+        float t172 = t169 - t171;
+        float t173 = 0.984807753012208f * t172;
+        float t174 = 0.5f * t93;
+        float t175 = t35 - t174;
+        float t176 = t98 + t101;
+        float t177 = 0.8660254037844384f * t176;
+        float t178 = t175 + t177;
+        float t179 = 0.17364817766693033f * t178;
+        float t180 = t173 - t179;
+        float t181 = t167 + t180;
+        float t182 = 0.5f * t113;
+        float t183 = t65 - t182;
+        float t184 = t81 - t84;
+        float t185 = 0.8660254037844384f * t184;
+        float t186 = t183 - t185;
+        float t187 = 0.17364817766693033f * t172;
+        float t188 = 0.984807753012208f * t178;
+        float t189 = t187 + t188;
+        float t190 = t186 - t189;
+        float t191 = 0.7499999999999996f * t124;
+        float t192 = t191 - t123;
+        float t193 = t120 + t192;
+        float t194 = 0.8660254037844384f * t122;
+        float t195 = t130 + t194;
+        float t196 = t129 - t195;
+        float t197 = t136 - t138;
+        float t198 = t147 + t149;
+        float t199 = 0.6427876096865393f * t198;
+        float t200 = t141 - t143;
+        float t201 = 0.766044443118978f * t200;
+        float t202 = t199 - t201;
+        float t203 = t197 + t202;
+        float t204 = t155 + t157;
+        float t205 = 0.766044443118978f * t198;
+        float t206 = 0.6427876096865393f * t200;
+        float t207 = t205 + t206;
+        float t208 = t204 - t207;
+        float t209 = t164 - t166;
+        float t210 = t169 + t171;
+        float t211 = 0.34202014332566866f * t210;
+        float t212 = t175 - t177;
+        float t213 = 0.9396926207859084f * t212;
+        float t214 = t211 - t213;
+        float t215 = t209 + t214;
+        float t216 = t183 + t185;
+        float t217 = 0.9396926207859084f * t210;
+        float t218 = 0.34202014332566866f * t212;
+        float t219 = t217 + t218;
+        float t220 = t216 - t219;
+        a[offa] = t16;
+        a[offa + 1] = t17;
+        a[offa + 2] = t63;
+        a[offa + 3] = t78;
+        a[offa + 4] = t106;
+        a[offa + 5] = t118;
+        a[offa + 6] = t127;
+        a[offa + 7] = t134;
+        a[offa + 8] = t153;
+        a[offa + 9] = t162;
+        a[offa + 10] = t181;
+        a[offa + 11] = t190;
+        a[offa + 12] = t193;
+        a[offa + 13] = t196;
+        a[offa + 14] = t203;
+        a[offa + 15] = t208;
+        a[offa + 16] = t215;
+        a[offa + 17] = t220;
+    }
+
+    static void rf20(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float x13 = a[offa + 13];
+        float x14 = a[offa + 14];
+        float x15 = a[offa + 15];
+        float x16 = a[offa + 16];
+        float x17 = a[offa + 17];
+        float x18 = a[offa + 18];
+        float x19 = a[offa + 19];
+        float t0 = x8 + x12;
+        float t1 = x4 + x16;
+        float t2 = x0 + t1;
+        float t3 = t0 + t2;
+        float t4 = x10 + x14;
+        float t5 = x6 + x18;
+        float t6 = x2 + t5;
+        float t7 = t4 + t6;
+        float t8 = t3 + t7;
+        float t9 = x9 + x13;
+        float t10 = x5 + x17;
+        float t11 = x1 + t10;
+        float t12 = t9 + t11;
+        float t13 = x11 + x15;
+        float t14 = x7 + x19;
+        float t15 = x3 + t14;
+        float t16 = t13 + t15;
+        float t17 = t12 + t16;
+        float t18 = t8 + t17;
+        float t19 = t8 - t17;
+        float t20 = 0.30901699437494723f * t1;
+        float t21 = x0 + t20;
+        float t22 = 0.8090169943749476f * t0;
+        float t23 = t21 - t22;
+        float t24 = 0.30901699437494723f * t5;
+        float t25 = x2 + t24;
+        float t26 = 0.8090169943749476f * t4;
+        float t27 = t25 - t26;
+        float t28 = 0.8090169943749473f * t27;
+        float t29 = x6 - x18;
+        float t30 = 0.9510565162951536f * t29;
+        float t31 = x10 - x14;
+        float t32 = 0.587785252292473f * t31;
+        float t33 = t30 + t32;
+        float t34 = 0.5877852522924734f * t33;
+        float t35 = t28 - t34;
+        float t36 = t23 + t35;
+        float t37 = 0.30901699437494723f * t10;
+        float t38 = x1 + t37;
+        float t39 = 0.8090169943749476f * t9;
+        float t40 = t38 - t39;
+        float t41 = 0.9510565162951535f * t40;
+        float t42 = x5 - x17;
+        float t43 = 0.9510565162951536f * t42;
+        float t44 = x9 - x13;
+        float t45 = 0.587785252292473f * t44;
+        float t46 = t43 + t45;
+        float t47 = 0.3090169943749476f * t46;
+        float t48 = t41 - t47;
+        float t49 = 0.30901699437494723f * t14;
+        float t50 = x3 + t49;
+        float t51 = 0.8090169943749476f * t13;
+        float t52 = t50 - t51;
+        float t53 = 0.5877852522924729f * t52;
+        float t54 = x7 - x19;
+        float t55 = 0.9510565162951536f * t54;
+        float t56 = x11 - x15;
+        float t57 = 0.587785252292473f * t56;
+        float t58 = t55 + t57;
+        float t59 = 0.8090169943749476f * t58;
+        float t60 = t53 - t59;
+        float t61 = t48 + t60;
+        float t62 = t36 + t61;
+        float t63 = x4 - x16;
+        float t64 = 0.9510565162951536f * t63;
+        float t65 = x8 - x12;
+        float t66 = 0.587785252292473f * t65;
+        float t67 = t64 + t66;
+        float t68 = 0.8090169943749473f * t33;
+        float t69 = 0.5877852522924734f * t27;
+        float t70 = t68 + t69;
+        float t71 = t67 + t70;
+        float t72 = 0.9510565162951535f * t46;
+        float t73 = 0.3090169943749476f * t40;
+        float t74 = t72 + t73;
+        float t75 = 0.5877852522924729f * t58;
+        float t76 = 0.8090169943749476f * t52;
+        float t77 = t75 + t76;
+        float t78 = t74 + t77;
+        float t79 = t71 + t78;
+        float t80 = -t79;
+        float t81 = 0.8090169943749476f * t1;
+        float t82 = x0 - t81;
+        float t83 = 0.30901699437494745f * t0;
+        float t84 = t82 + t83;
+        float t85 = 0.8090169943749476f * t5;
+        float t86 = x2 - t85;
+        float t87 = 0.30901699437494745f * t4;
+        float t88 = t86 + t87;
+        float t89 = 0.30901699437494723f * t88;
+        float t90 = 0.9510565162951535f * t31;
+        float t91 = 0.587785252292473f * t29;
+        float t92 = t90 - t91;
+        float t93 = 0.9510565162951536f * t92;
+        float t94 = t89 + t93;
+        float t95 = t84 + t94;
+        float t96 = 0.8090169943749476f * t10;
+        float t97 = x1 - t96;
+        float t98 = 0.30901699437494745f * t9;
+        float t99 = t97 + t98;
+        float t100 = 0.8090169943749473f * t99;
+        float t101 = 0.9510565162951535f * t44;
+        float t102 = 0.587785252292473f * t42;
+        float t103 = t101 - t102;
+        float t104 = 0.5877852522924734f * t103;
+        float t105 = t100 + t104;
+        float t106 = 0.9510565162951535f * t56;
+        float t107 = 0.587785252292473f * t54;
+        float t108 = t106 - t107;
+        float t109 = 0.9510565162951535f * t108;
+        float t110 = 0.8090169943749476f * t14;
+        float t111 = x3 - t110;
+        float t112 = 0.30901699437494745f * t13;
+        float t113 = t111 + t112;
+        float t114 = 0.30901699437494756f * t113;
+        float t115 = t109 - t114;
+        float t116 = t105 + t115;
+        float t117 = t95 + t116;
+        float t118 = 0.9510565162951535f * t65;
+        float t119 = 0.587785252292473f * t63;
+        float t120 = t118 - t119;
+        float t121 = 0.30901699437494723f * t92;
+        float t122 = 0.9510565162951536f * t88;
+        float t123 = t121 - t122;
+        float t124 = t120 + t123;
+        float t125 = 0.8090169943749473f * t103;
+        float t126 = 0.5877852522924734f * t99;
+        float t127 = t125 - t126;
+        float t128 = 0.30901699437494756f * t108;
+        float t129 = 0.9510565162951535f * t113;
+        float t130 = t128 + t129;
+        float t131 = t127 - t130;
+        float t132 = t124 + t131;
+        float t133 = t91 - t90;
+        float t134 = 0.9510565162951535f * t133;
+        float t135 = 0.30901699437494756f * t88;
+        float t136 = t134 - t135;
+        float t137 = t84 + t136;
+        float t138 = 0.5877852522924729f * t99;
+        float t139 = t102 - t101;
+        float t140 = 0.8090169943749476f * t139;
+        float t141 = t138 + t140;
+        float t142 = t107 - t106;
+        float t143 = 0.30901699437494773f * t142;
+        float t144 = t143 - t129;
+        float t145 = t141 + t144;
+        float t146 = t137 + t145;
+        float t147 = t119 - t118;
+        float t148 = 0.30901699437494756f * t133;
+        float t149 = 0.9510565162951535f * t88;
+        float t150 = t148 + t149;
+        float t151 = t147 - t150;
+        float t152 = 0.5877852522924729f * t139;
+        float t153 = 0.8090169943749476f * t99;
+        float t154 = t152 - t153;
+        float t155 = 0.9510565162951535f * t142;
+        float t156 = 0.30901699437494773f * t113;
+        float t157 = t155 + t156;
+        float t158 = t154 - t157;
+        float t159 = t151 + t158;
+        float t160 = 0.587785252292473f * t33;
+        float t161 = 0.8090169943749476f * t27;
+        float t162 = t160 - t161;
+        float t163 = t23 + t162;
+        float t164 = 0.30901699437494723f * t40;
+        float t165 = 0.9510565162951536f * t46;
+        float t166 = t164 + t165;
+        float t167 = 0.8090169943749473f * t52;
+        float t168 = 0.5877852522924732f * t58;
+        float t169 = t167 + t168;
+        float t170 = t166 - t169;
+        float t171 = t163 + t170;
+        float t172 = 0.8090169943749476f * t33;
+        float t173 = 0.587785252292473f * t27;
+        float t174 = t172 + t173;
+        float t175 = t67 - t174;
+        float t176 = 0.30901699437494723f * t46;
+        float t177 = 0.9510565162951536f * t40;
+        float t178 = t176 - t177;
+        float t179 = 0.5877852522924732f * t52;
+        float t180 = 0.8090169943749473f * t58;
+        float t181 = t179 - t180;
+        float t182 = t178 + t181;
+        float t183 = t175 + t182;
+        float t184 = t3 - t7;
+        float t185 = t16 - t12;
+        float t186 = t23 - t35;
+        float t187 = t77 - t74;
+        float t188 = t186 + t187;
+        float t189 = t70 - t67;
+        float t190 = t60 - t48;
+        float t191 = t189 + t190;
+        float t192 = t84 - t94;
+        float t193 = t127 + t130;
+        float t194 = t192 + t193;
+        float t195 = t120 - t123;
+        float t196 = t115 - t105;
+        float t197 = t195 + t196;
+        float t198 = t84 - t136;
+        float t199 = t154 + t157;
+        float t200 = t198 + t199;
+        float t201 = t147 + t150;
+        float t202 = t144 - t141;
+        float t203 = t201 + t202;
+        float t204 = t23 - t162;
+        float t205 = t178 - t181;
+        float t206 = t204 + t205;
+        float t207 = t67 + t174;
+        float t208 = t166 + t169;
+        float t209 = t207 - t208;
+        a[offa] = t18;
+        a[offa + 1] = t19;
+        a[offa + 2] = t62;
+        a[offa + 3] = t80;
+        a[offa + 4] = t117;
+        a[offa + 5] = t132;
+        a[offa + 6] = t146;
+        a[offa + 7] = t159;
+        a[offa + 8] = t171;
+        a[offa + 9] = t183;
+        a[offa + 10] = t184;
+        a[offa + 11] = t185;
+        a[offa + 12] = t188;
+        a[offa + 13] = t191;
+        a[offa + 14] = t194;
+        a[offa + 15] = t197;
+        a[offa + 16] = t200;
+        a[offa + 17] = t203;
+        a[offa + 18] = t206;
+        a[offa + 19] = t209;
+    }
+
+    static void rf24(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float x13 = a[offa + 13];
+        float x14 = a[offa + 14];
+        float x15 = a[offa + 15];
+        float x16 = a[offa + 16];
+        float x17 = a[offa + 17];
+        float x18 = a[offa + 18];
+        float x19 = a[offa + 19];
+        float x20 = a[offa + 20];
+        float x21 = a[offa + 21];
+        float x22 = a[offa + 22];
+        float x23 = a[offa + 23];
+        float t0 = x8 + x16;
+        float t1 = x0 + t0;
+        float t2 = x12 + x20;
+        float t3 = x4 + t2;
+        float t4 = t1 + t3;
+        float t5 = x10 + x18;
+        float t6 = x2 + t5;
+        float t7 = x14 + x22;
+        float t8 = x6 + t7;
+        float t9 = t6 + t8;
+        float t10 = t4 + t9;
+        float t11 = x9 + x17;
+        float t12 = x1 + t11;
+        float t13 = x13 + x21;
+        float t14 = x5 + t13;
+        float t15 = t12 + t14;
+        float t16 = x11 + x19;
+        float t17 = x3 + t16;
+        float t18 = x15 + x23;
+        float t19 = x7 + t18;
+        float t20 = t17 + t19;
+        float t21 = t15 + t20;
+        float t22 = t10 + t21;
+        float t23 = t10 - t21;
+        float t24 = 0.5f * t0;
+        float t25 = x0 - t24;
+        float t26 = 0.5f * t2;
+        float t27 = x4 - t26;
+        float t28 = 0.5f * t27;
+        float t29 = x12 - x20;
+        float t30 = 0.7499999999999997f * t29;
+        float t31 = t28 - t30;
+        float t32 = t25 + t31;
+        float t33 = 0.5f * t5;
+        float t34 = x2 - t33;
+        float t35 = 0.5f * t7;
+        float t36 = x6 - t35;
+        float t37 = 0.5f * t36;
+        float t38 = x14 - x22;
+        float t39 = 0.7499999999999997f * t38;
+        float t40 = t37 - t39;
+        float t41 = t34 + t40;
+        float t42 = 0.8660254037844384f * t41;
+        float t43 = x10 - x18;
+        float t44 = 0.8660254037844384f * t43;
+        float t45 = 0.4330127018922192f * t38;
+        float t46 = 0.8660254037844386f * t36;
+        float t47 = t45 + t46;
+        float t48 = t44 + t47;
+        float t49 = 0.5f * t48;
+        float t50 = t42 - t49;
+        float t51 = t32 + t50;
+        float t52 = 0.5f * t11;
+        float t53 = x1 - t52;
+        float t54 = 0.5f * t13;
+        float t55 = x5 - t54;
+        float t56 = 0.5f * t55;
+        float t57 = x13 - x21;
+        float t58 = 0.7499999999999997f * t57;
+        float t59 = t56 - t58;
+        float t60 = t53 + t59;
+        float t61 = 0.9659258262890683f * t60;
+        float t62 = x9 - x17;
+        float t63 = 0.8660254037844384f * t62;
+        float t64 = 0.4330127018922192f * t57;
+        float t65 = 0.8660254037844386f * t55;
+        float t66 = t64 + t65;
+        float t67 = t63 + t66;
+        float t68 = 0.2588190451025207f * t67;
+        float t69 = t61 - t68;
+        float t70 = 0.5f * t16;
+        float t71 = x3 - t70;
+        float t72 = 0.5f * t18;
+        float t73 = x7 - t72;
+        float t74 = 0.5f * t73;
+        float t75 = x15 - x23;
+        float t76 = 0.7499999999999997f * t75;
+        float t77 = t74 - t76;
+        float t78 = t71 + t77;
+        float t79 = x11 - x19;
+        float t80 = 0.8660254037844384f * t79;
+        float t81 = 0.4330127018922192f * t75;
+        float t82 = 0.8660254037844386f * t73;
+        float t83 = t81 + t82;
+        float t84 = t80 + t83;
+        float t85 = t78 - t84;
+        float t86 = 0.7071067811865476f * t85;
+        float t87 = t69 + t86;
+        float t88 = t51 + t87;
+        float t89 = x8 - x16;
+        float t90 = 0.8660254037844384f * t89;
+        float t91 = 0.4330127018922192f * t29;
+        float t92 = 0.8660254037844386f * t27;
+        float t93 = t91 + t92;
+        float t94 = t90 + t93;
+        float t95 = 0.8660254037844384f * t48;
+        float t96 = 0.5f * t41;
+        float t97 = t95 + t96;
+        float t98 = t94 + t97;
+        float t99 = 0.9659258262890683f * t67;
+        float t100 = 0.2588190451025207f * t60;
+        float t101 = t99 + t100;
+        float t102 = t78 + t84;
+        float t103 = 0.7071067811865476f * t102;
+        float t104 = t101 + t103;
+        float t105 = t98 + t104;
+        float t106 = -t105;
+        float t107 = 0.7499999999999996f * t29;
+        float t108 = t107 - t28;
+        float t109 = t25 + t108;
+        float t110 = 0.7499999999999996f * t38;
+        float t111 = t110 - t37;
+        float t112 = t34 + t111;
+        float t113 = 0.5f * t112;
+        float t114 = 0.8660254037844384f * t36;
+        float t115 = t45 + t114;
+        float t116 = t44 - t115;
+        float t117 = 0.8660254037844386f * t116;
+        float t118 = t113 + t117;
+        float t119 = t109 + t118;
+        float t120 = 0.8660254037844384f * t73;
+        float t121 = t81 + t120;
+        float t122 = t80 - t121;
+        float t123 = 0.7499999999999996f * t57;
+        float t124 = t123 - t56;
+        float t125 = t53 + t124;
+        float t126 = 0.8660254037844384f * t125;
+        float t127 = 0.8660254037844384f * t55;
+        float t128 = t64 + t127;
+        float t129 = t63 - t128;
+        float t130 = 0.5f * t129;
+        float t131 = t126 + t130;
+        float t132 = t122 + t131;
+        float t133 = t119 + t132;
+        float t134 = 0.8660254037844384f * t27;
+        float t135 = t91 + t134;
+        float t136 = t90 - t135;
+        float t137 = 0.5f * t116;
+        float t138 = 0.8660254037844386f * t112;
+        float t139 = t137 - t138;
+        float t140 = t136 + t139;
+        float t141 = 0.8660254037844384f * t129;
+        float t142 = 0.5f * t125;
+        float t143 = t141 - t142;
+        float t144 = 0.7499999999999996f * t75;
+        float t145 = t144 - t74;
+        float t146 = t71 + t145;
+        float t147 = t143 - t146;
+        float t148 = t140 + t147;
+        float t149 = t1 - t3;
+        float t150 = t12 - t14;
+        float t151 = 0.7071067811865476f * t150;
+        float t152 = t17 - t19;
+        float t153 = 0.7071067811865476f * t152;
+        float t154 = t151 - t153;
+        float t155 = t149 + t154;
+        float t156 = t8 - t6;
+        float t157 = t14 - t12;
+        float t158 = 0.7071067811865476f * t157;
+        float t159 = t158 - t153;
+        float t160 = t156 + t159;
+        float t161 = t25 - t31;
+        float t162 = t47 - t44;
+        float t163 = 0.8660254037844384f * t162;
+        float t164 = t34 - t40;
+        float t165 = 0.5f * t164;
+        float t166 = t163 - t165;
+        float t167 = t161 + t166;
+        float t168 = t53 - t59;
+        float t169 = 0.5f * t168;
+        float t170 = t66 - t63;
+        float t171 = 0.8660254037844386f * t170;
+        float t172 = t169 + t171;
+        float t173 = t77 - t71;
+        float t174 = t172 + t173;
+        float t175 = t167 + t174;
+        float t176 = t93 - t90;
+        float t177 = 0.5f * t162;
+        float t178 = 0.8660254037844384f * t164;
+        float t179 = t177 + t178;
+        float t180 = t176 - t179;
+        float t181 = 0.5f * t170;
+        float t182 = 0.8660254037844386f * t168;
+        float t183 = t181 - t182;
+        float t184 = t80 - t83;
+        float t185 = t183 + t184;
+        float t186 = t180 + t185;
+        float t187 = t25 - t108;
+        float t188 = t44 + t115;
+        float t189 = 0.5f * t188;
+        float t190 = t34 - t111;
+        float t191 = 0.8660254037844386f * t190;
+        float t192 = t189 - t191;
+        float t193 = t187 + t192;
+        float t194 = t53 - t124;
+        float t195 = 0.2588190451025203f * t194;
+        float t196 = t63 + t128;
+        float t197 = 0.9659258262890684f * t196;
+        float t198 = t195 + t197;
+        float t199 = t71 - t145;
+        float t200 = t80 + t121;
+        float t201 = t199 + t200;
+        float t202 = 0.7071067811865476f * t201;
+        float t203 = t198 - t202;
+        float t204 = t193 + t203;
+        float t205 = t90 + t135;
+        float t206 = 0.8660254037844386f * t188;
+        float t207 = 0.5f * t190;
+        float t208 = t206 + t207;
+        float t209 = t205 - t208;
+        float t210 = 0.2588190451025203f * t196;
+        float t211 = 0.9659258262890684f * t194;
+        float t212 = t210 - t211;
+        float t213 = t200 - t199;
+        float t214 = 0.7071067811865476f * t213;
+        float t215 = t212 - t214;
+        float t216 = t209 + t215;
+        float t217 = t4 - t9;
+        float t218 = t20 - t15;
+        float t219 = t32 - t50;
+        float t220 = t103 - t101;
+        float t221 = t219 + t220;
+        float t222 = t97 - t94;
+        float t223 = t86 - t69;
+        float t224 = t222 + t223;
+        float t225 = t109 - t118;
+        float t226 = t146 + t143;
+        float t227 = t225 + t226;
+        float t228 = t136 - t139;
+        float t229 = t122 - t131;
+        float t230 = t228 + t229;
+        float t231 = t158 + t153;
+        float t232 = t149 + t231;
+        float t233 = t6 - t8;
+        float t234 = t151 + t153;
+        float t235 = t233 - t234;
+        float t236 = t161 - t166;
+        float t237 = t183 - t184;
+        float t238 = t236 + t237;
+        float t239 = t176 + t179;
+        float t240 = t173 - t172;
+        float t241 = t239 + t240;
+        float t242 = t187 - t192;
+        float t243 = t212 + t214;
+        float t244 = t242 + t243;
+        float t245 = t205 + t208;
+        float t246 = t198 + t202;
+        float t247 = t245 - t246;
+        a[offa] = t22;
+        a[offa + 1] = t23;
+        a[offa + 2] = t88;
+        a[offa + 3] = t106;
+        a[offa + 4] = t133;
+        a[offa + 5] = t148;
+        a[offa + 6] = t155;
+        a[offa + 7] = t160;
+        a[offa + 8] = t175;
+        a[offa + 9] = t186;
+        a[offa + 10] = t204;
+        a[offa + 11] = t216;
+        a[offa + 12] = t217;
+        a[offa + 13] = t218;
+        a[offa + 14] = t221;
+        a[offa + 15] = t224;
+        a[offa + 16] = t227;
+        a[offa + 17] = t230;
+        a[offa + 18] = t232;
+        a[offa + 19] = t235;
+        a[offa + 20] = t238;
+        a[offa + 21] = t241;
+        a[offa + 22] = t244;
+        a[offa + 23] = t247;
+    }
+
+    static void rf32(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float x13 = a[offa + 13];
+        float x14 = a[offa + 14];
+        float x15 = a[offa + 15];
+        float x16 = a[offa + 16];
+        float x17 = a[offa + 17];
+        float x18 = a[offa + 18];
+        float x19 = a[offa + 19];
+        float x20 = a[offa + 20];
+        float x21 = a[offa + 21];
+        float x22 = a[offa + 22];
+        float x23 = a[offa + 23];
+        float x24 = a[offa + 24];
+        float x25 = a[offa + 25];
+        float x26 = a[offa + 26];
+        float x27 = a[offa + 27];
+        float x28 = a[offa + 28];
+        float x29 = a[offa + 29];
+        float x30 = a[offa + 30];
+        float x31 = a[offa + 31];
+        float t0 = x0 + x16;
+        float t1 = x8 + x24;
+        float t2 = t0 + t1;
+        float t3 = x4 + x20;
+        float t4 = x12 + x28;
+        float t5 = t3 + t4;
+        float t6 = t2 + t5;
+        float t7 = x2 + x18;
+        float t8 = x10 + x26;
+        float t9 = t7 + t8;
+        float t10 = x6 + x22;
+        float t11 = x14 + x30;
+        float t12 = t10 + t11;
+        float t13 = t9 + t12;
+        float t14 = t6 + t13;
+        float t15 = x1 + x17;
+        float t16 = x9 + x25;
+        float t17 = t15 + t16;
+        float t18 = x5 + x21;
+        float t19 = x13 + x29;
+        float t20 = t18 + t19;
+        float t21 = t17 + t20;
+        float t22 = x3 + x19;
+        float t23 = x11 + x27;
+        float t24 = t22 + t23;
+        float t25 = x7 + x23;
+        float t26 = x15 + x31;
+        float t27 = t25 + t26;
+        float t28 = t24 + t27;
+        float t29 = t21 + t28;
+        float t30 = t14 + t29;
+        float t31 = t14 - t29;
+        float t32 = x0 - x16;
+        float t33 = x4 - x20;
+        float t34 = x28 - x12;
+        float t35 = t33 + t34;
+        float t36 = 0.7071067811865476f * t35;
+        float t37 = t32 + t36;
+        float t38 = x2 - x18;
+        float t39 = x6 - x22;
+        float t40 = x30 - x14;
+        float t41 = t39 + t40;
+        float t42 = 0.7071067811865476f * t41;
+        float t43 = t38 + t42;
+        float t44 = 0.9238795325112865f * t43;
+        float t45 = x26 - x10;
+        float t46 = t40 - t39;
+        float t47 = 0.7071067811865476f * t46;
+        float t48 = t45 + t47;
+        float t49 = 0.3826834323650904f * t48;
+        float t50 = t44 + t49;
+        float t51 = t37 + t50;
+        float t52 = x1 - x17;
+        float t53 = x5 - x21;
+        float t54 = x29 - x13;
+        float t55 = t53 + t54;
+        float t56 = 0.7071067811865476f * t55;
+        float t57 = t52 + t56;
+        float t58 = 0.9807852804032303f * t57;
+        float t59 = x25 - x9;
+        float t60 = t54 - t53;
+        float t61 = 0.7071067811865476f * t60;
+        float t62 = t59 + t61;
+        float t63 = 0.19509032201612872f * t62;
+        float t64 = t58 + t63;
+        float t65 = x3 - x19;
+        float t66 = x7 - x23;
+        float t67 = x31 - x15;
+        float t68 = t66 + t67;
+        float t69 = 0.7071067811865476f * t68;
+        float t70 = t65 + t69;
+        float t71 = 0.8314696123025452f * t70;
+        float t72 = x27 - x11;
+        float t73 = t67 - t66;
+        float t74 = 0.7071067811865476f * t73;
+        float t75 = t72 + t74;
+        float t76 = 0.5555702330196022f * t75;
+        float t77 = t71 + t76;
+        float t78 = t64 + t77;
+        float t79 = t51 + t78;
+        float t80 = x24 - x8;
+        float t81 = t34 - t33;
+        float t82 = 0.7071067811865476f * t81;
+        float t83 = t80 + t82;
+        float t84 = 0.9238795325112865f * t48;
+        float t85 = 0.3826834323650904f * t43;
+        float t86 = t84 - t85;
+        float t87 = t83 + t86;
+        float t88 = 0.9807852804032303f * t62;
+        float t89 = 0.19509032201612872f * t57;
+        float t90 = t88 - t89;
+        float t91 = 0.8314696123025452f * t75;
+        float t92 = 0.5555702330196022f * t70;
+        float t93 = t91 - t92;
+        float t94 = t90 + t93;
+        float t95 = t87 + t94;
+        float t96 = t0 - t1;
+        float t97 = t7 - t8;
+        float t98 = t11 - t10;
+        float t99 = t97 + t98;
+        float t100 = 0.7071067811865476f * t99;
+        float t101 = t96 + t100;
+        float t102 = t15 - t16;
+        float t103 = 0.9238795325112865f * t102;
+        float t104 = t19 - t18;
+        float t105 = 0.3826834323650904f * t104;
+        float t106 = t103 + t105;
+        float t107 = t22 - t23;
+        float t108 = 0.38268343236509f * t107;
+        float t109 = t26 - t25;
+        float t110 = 0.9238795325112866f * t109;
+        float t111 = t108 + t110;
+        float t112 = t106 + t111;
+        float t113 = t101 + t112;
+        float t114 = t4 - t3;
+        float t115 = t98 - t97;
+        float t116 = 0.7071067811865476f * t115;
+        float t117 = t114 + t116;
+        float t118 = 0.9238795325112865f * t104;
+        float t119 = 0.3826834323650904f * t102;
+        float t120 = t118 - t119;
+        float t121 = 0.38268343236509f * t109;
+        float t122 = 0.9238795325112866f * t107;
+        float t123 = t121 - t122;
+        float t124 = t120 + t123;
+        float t125 = t117 + t124;
+        float t126 = x12 - x28;
+        float t127 = t33 - t126;
+        float t128 = 0.7071067811865476f * t127;
+        float t129 = t32 - t128;
+        float t130 = x14 - x30;
+        float t131 = t39 - t130;
+        float t132 = 0.7071067811865476f * t131;
+        float t133 = t38 - t132;
+        float t134 = 0.38268343236509f * t133;
+        float t135 = x10 - x26;
+        float t136 = t39 + t130;
+        float t137 = 0.7071067811865476f * t136;
+        float t138 = t135 - t137;
+        float t139 = 0.9238795325112866f * t138;
+        float t140 = t134 + t139;
+        float t141 = t129 + t140;
+        float t142 = x13 - x29;
+        float t143 = t53 - t142;
+        float t144 = 0.7071067811865476f * t143;
+        float t145 = t52 - t144;
+        float t146 = 0.8314696123025452f * t145;
+        float t147 = x9 - x25;
+        float t148 = t53 + t142;
+        float t149 = 0.7071067811865476f * t148;
+        float t150 = t147 - t149;
+        float t151 = 0.5555702330196022f * t150;
+        float t152 = t146 + t151;
+        float t153 = x11 - x27;
+        float t154 = x15 - x31;
+        float t155 = t66 + t154;
+        float t156 = 0.7071067811865476f * t155;
+        float t157 = t153 - t156;
+        float t158 = 0.9807852804032303f * t157;
+        float t159 = t66 - t154;
+        float t160 = 0.7071067811865476f * t159;
+        float t161 = t65 - t160;
+        float t162 = 0.19509032201612866f * t161;
+        float t163 = t158 - t162;
+        float t164 = t152 + t163;
+        float t165 = t141 + t164;
+        float t166 = x8 - x24;
+        float t167 = t33 + t126;
+        float t168 = 0.7071067811865476f * t167;
+        float t169 = t166 - t168;
+        float t170 = 0.38268343236509f * t138;
+        float t171 = 0.9238795325112866f * t133;
+        float t172 = t170 - t171;
+        float t173 = t169 + t172;
+        float t174 = 0.8314696123025452f * t150;
+        float t175 = 0.5555702330196022f * t145;
+        float t176 = t174 - t175;
+        float t177 = 0.19509032201612866f * t157;
+        float t178 = 0.9807852804032303f * t161;
+        float t179 = t177 + t178;
+        float t180 = t176 - t179;
+        float t181 = t173 + t180;
+        float t182 = t2 - t5;
+        float t183 = t17 - t20;
+        float t184 = 0.7071067811865476f * t183;
+        float t185 = t24 - t27;
+        float t186 = 0.7071067811865476f * t185;
+        float t187 = t184 - t186;
+        float t188 = t182 + t187;
+        float t189 = t12 - t9;
+        float t190 = t20 - t17;
+        float t191 = 0.7071067811865476f * t190;
+        float t192 = t191 - t186;
+        float t193 = t189 + t192;
+        float t194 = t32 - t36;
+        float t195 = t45 - t47;
+        float t196 = 0.9238795325112865f * t195;
+        float t197 = t38 - t42;
+        float t198 = 0.38268343236509034f * t197;
+        float t199 = t196 - t198;
+        float t200 = t194 + t199;
+        float t201 = t52 - t56;
+        float t202 = 0.5555702330196018f * t201;
+        float t203 = t59 - t61;
+        float t204 = 0.8314696123025455f * t203;
+        float t205 = t202 + t204;
+        float t206 = t72 - t74;
+        float t207 = 0.19509032201612836f * t206;
+        float t208 = t65 - t69;
+        float t209 = 0.9807852804032304f * t208;
+        float t210 = t207 - t209;
+        float t211 = t205 + t210;
+        float t212 = t200 + t211;
+        float t213 = t80 - t82;
+        float t214 = 0.38268343236509034f * t195;
+        float t215 = 0.9238795325112865f * t197;
+        float t216 = t214 + t215;
+        float t217 = t213 - t216;
+        float t218 = 0.5555702330196018f * t203;
+        float t219 = 0.8314696123025455f * t201;
+        float t220 = t218 - t219;
+        float t221 = 0.9807852804032304f * t206;
+        float t222 = 0.19509032201612836f * t208;
+        float t223 = t221 + t222;
+        float t224 = t220 - t223;
+        float t225 = t217 + t224;
+        float t226 = t10 - t11;
+        float t227 = t97 - t226;
+        float t228 = 0.7071067811865476f * t227;
+        float t229 = t96 - t228;
+        float t230 = 0.38268343236509f * t102;
+        float t231 = t18 - t19;
+        float t232 = 0.9238795325112866f * t231;
+        float t233 = t230 + t232;
+        float t234 = 0.9238795325112867f * t107;
+        float t235 = t25 - t26;
+        float t236 = 0.3826834323650899f * t235;
+        float t237 = t234 + t236;
+        float t238 = t233 - t237;
+        float t239 = t229 + t238;
+        float t240 = t3 - t4;
+        float t241 = t97 + t226;
+        float t242 = 0.7071067811865476f * t241;
+        float t243 = t240 - t242;
+        float t244 = 0.38268343236509f * t231;
+        float t245 = 0.9238795325112866f * t102;
+        float t246 = t244 - t245;
+        float t247 = 0.3826834323650899f * t107;
+        float t248 = 0.9238795325112867f * t235;
+        float t249 = t247 - t248;
+        float t250 = t246 + t249;
+        float t251 = t243 + t250;
+        float t252 = t32 + t128;
+        float t253 = t135 + t137;
+        float t254 = 0.38268343236508967f * t253;
+        float t255 = t38 + t132;
+        float t256 = 0.9238795325112868f * t255;
+        float t257 = t254 - t256;
+        float t258 = t252 + t257;
+        float t259 = t52 + t144;
+        float t260 = 0.1950903220161283f * t259;
+        float t261 = t147 + t149;
+        float t262 = 0.9807852804032304f * t261;
+        float t263 = t260 + t262;
+        float t264 = t65 + t160;
+        float t265 = 0.555570233019602f * t264;
+        float t266 = t153 + t156;
+        float t267 = 0.8314696123025455f * t266;
+        float t268 = t265 + t267;
+        float t269 = t263 - t268;
+        float t270 = t258 + t269;
+        float t271 = t166 + t168;
+        float t272 = 0.9238795325112868f * t253;
+        float t273 = 0.38268343236508967f * t255;
+        float t274 = t272 + t273;
+        float t275 = t271 - t274;
+        float t276 = 0.1950903220161283f * t261;
+        float t277 = 0.9807852804032304f * t259;
+        float t278 = t276 - t277;
+        float t279 = 0.8314696123025455f * t264;
+        float t280 = 0.555570233019602f * t266;
+        float t281 = t279 - t280;
+        float t282 = t278 + t281;
+        float t283 = t275 + t282;
+        float t284 = t6 - t13;
+        float t285 = t28 - t21;
+        float t286 = t37 - t50;
+        float t287 = t90 - t93;
+        float t288 = t286 + t287;
+        float t289 = t83 - t86;
+        float t290 = t77 - t64;
+        float t291 = t289 + t290;
+        float t292 = t96 - t100;
+        float t293 = t120 - t123;
+        float t294 = t292 + t293;
+        float t295 = t114 - t116;
+        float t296 = t111 - t106;
+        float t297 = t295 + t296;
+        float t298 = t129 - t140;
+        float t299 = t176 + t179;
+        float t300 = t298 + t299;
+        float t301 = t169 - t172;
+        float t302 = t163 - t152;
+        float t303 = t301 + t302;
+        float t304 = t191 + t186;
+        float t305 = t182 + t304;
+        float t306 = t9 - t12;
+        float t307 = t184 + t186;
+        float t308 = t306 - t307;
+        float t309 = t194 - t199;
+        float t310 = t220 + t223;
+        float t311 = t309 + t310;
+        float t312 = t213 + t216;
+        float t313 = t210 - t205;
+        float t314 = t312 + t313;
+        float t315 = t96 + t228;
+        float t316 = t246 - t249;
+        float t317 = t315 + t316;
+        float t318 = t240 + t242;
+        float t319 = t233 + t237;
+        float t320 = t318 - t319;
+        float t321 = t252 - t257;
+        float t322 = t278 - t281;
+        float t323 = t321 + t322;
+        float t324 = t271 + t274;
+        float t325 = t263 + t268;
+        float t326 = t324 - t325;
+        a[offa] = t30;
+        a[offa + 1] = t31;
+        a[offa + 2] = t79;
+        a[offa + 3] = t95;
+        a[offa + 4] = t113;
+        a[offa + 5] = t125;
+        a[offa + 6] = t165;
+        a[offa + 7] = t181;
+        a[offa + 8] = t188;
+        a[offa + 9] = t193;
+        a[offa + 10] = t212;
+        a[offa + 11] = t225;
+        a[offa + 12] = t239;
+        a[offa + 13] = t251;
+        a[offa + 14] = t270;
+        a[offa + 15] = t283;
+        a[offa + 16] = t284;
+        a[offa + 17] = t285;
+        a[offa + 18] = t288;
+        a[offa + 19] = t291;
+        a[offa + 20] = t294;
+        a[offa + 21] = t297;
+        a[offa + 22] = t300;
+        a[offa + 23] = t303;
+        a[offa + 24] = t305;
+        a[offa + 25] = t308;
+        a[offa + 26] = t311;
+        a[offa + 27] = t314;
+        a[offa + 28] = t317;
+        a[offa + 29] = t320;
+        a[offa + 30] = t323;
+        a[offa + 31] = t326;
+    }
+
+    static void rb2(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float t0 = x0 + x1;
+        float t1 = x0 - x1;
+        a[offa] = t0;
+        a[offa + 1] = t1;
+    }
+
+    static void rb3(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float t0 = x2 + x2;
+        float t1 = x0 + t0;
+        float t2 = 0.5f * t0;
+        float t3 = x0 - t2;
+        float t4 = x1 + x1;
+        float t5 = 0.8660254037844387f * t4;
+        float t6 = t3 - t5;
+        float t7 = t3 + t5;
+        a[offa] = t1;
+        a[offa + 1] = t6;
+        a[offa + 2] = t7;
+    }
+
+    static void rb4(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float t0 = x0 + x1;
+        float t1 = x2 + x2;
+        float t2 = t0 + t1;
+        float t3 = x0 - x1;
+        float t4 = x3 + x3;
+        float t5 = t3 - t4;
+        float t6 = t0 - t1;
+        float t7 = t3 + t4;
+        a[offa] = t2;
+        a[offa + 1] = t5;
+        a[offa + 2] = t6;
+        a[offa + 3] = t7;
+    }
+
+    static void rb5(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float t0 = x4 + x4;
+        float t1 = x2 + x2;
+        float t2 = x0 + t1;
+        float t3 = t0 + t2;
+        float t4 = 0.30901699437494745f * t1;
+        float t5 = x0 + t4;
+        float t6 = 0.8090169943749473f * t0;
+        float t7 = t5 - t6;
+        float t8 = x3 + x3;
+        float t9 = 0.9510565162951535f * t8;
+        float t10 = x1 + x1;
+        float t11 = 0.5877852522924732f * t10;
+        float t12 = t9 + t11;
+        float t13 = t7 - t12;
+        float t14 = 0.8090169943749473f * t1;
+        float t15 = x0 - t14;
+        float t16 = 0.30901699437494723f * t0;
+        float t17 = t15 + t16;
+        float t18 = 0.5877852522924732f * t8;
+        float t19 = 0.9510565162951536f * t10;
+        float t20 = t18 - t19;
+        float t21 = t17 - t20;
+        float t22 = t17 + t20;
+        float t23 = t7 + t12;
+        a[offa] = t3;
+        a[offa + 1] = t13;
+        a[offa + 2] = t21;
+        a[offa + 3] = t22;
+        a[offa + 4] = t23;
+    }
+
+    static void rb6(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float t0 = x4 + x4;
+        float t1 = x0 + t0;
+        float t2 = x1 + x2;
+        float t3 = x2 + t2;
+        float t4 = t1 + t3;
+        float t5 = 0.5f * t0;
+        float t6 = x0 - t5;
+        float t7 = x5 + x5;
+        float t8 = 0.8660254037844387f * t7;
+        float t9 = t6 - t8;
+        float t10 = 0.5f * t2;
+        float t11 = x2 - t10;
+        float t12 = 0.8660254037844387f * x3;
+        float t13 = t11 - t12;
+        float t14 = 0.5f * t13;
+        float t15 = 0.5f * x3;
+        float t16 = x3 + t15;
+        float t17 = x1 - x2;
+        float t18 = 0.8660254037844387f * t17;
+        float t19 = t16 + t18;
+        float t20 = 0.8660254037844386f * t19;
+        float t21 = t14 - t20;
+        float t22 = t9 + t21;
+        float t23 = t6 + t8;
+        float t24 = t11 + t12;
+        float t25 = 0.5f * t24;
+        float t26 = t16 - t18;
+        float t27 = 0.8660254037844387f * t26;
+        float t28 = t25 + t27;
+        float t29 = t23 - t28;
+        float t30 = t1 - t3;
+        float t31 = t9 - t21;
+        float t32 = t23 + t28;
+        a[offa] = t4;
+        a[offa + 1] = t22;
+        a[offa + 2] = t29;
+        a[offa + 3] = t30;
+        a[offa + 4] = t31;
+        a[offa + 5] = t32;
+    }
+
+    static void rb7(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float t0 = x6 + x6;
+        float t1 = x4 + x4;
+        float t2 = x2 + x2;
+        float t3 = x0 + t2;
+        float t4 = t1 + t3;
+        float t5 = t0 + t4;
+        float t6 = 0.6234898018587336f * t2;
+        float t7 = x0 + t6;
+        float t8 = 0.22252093395631434f * t1;
+        float t9 = t7 - t8;
+        float t10 = 0.900968867902419f * t0;
+        float t11 = t9 - t10;
+        float t12 = x3 + x3;
+        float t13 = 0.7818314824680298f * t12;
+        float t14 = x5 + x5;
+        float t15 = 0.9749279121818236f * t14;
+        float t16 = t13 + t15;
+        float t17 = x1 + x1;
+        float t18 = 0.43388373911755823f * t17;
+        float t19 = t16 + t18;
+        float t20 = t11 - t19;
+        float t21 = 0.22252093395631434f * t2;
+        float t22 = x0 - t21;
+        float t23 = 0.9009688679024191f * t1;
+        float t24 = t22 - t23;
+        float t25 = 0.6234898018587334f * t0;
+        float t26 = t24 + t25;
+        float t27 = 0.9749279121818236f * t12;
+        float t28 = 0.433883739117558f * t14;
+        float t29 = t27 - t28;
+        float t30 = 0.7818314824680299f * t17;
+        float t31 = t29 - t30;
+        float t32 = t26 - t31;
+        float t33 = 0.900968867902419f * t2;
+        float t34 = x0 - t33;
+        float t35 = 0.6234898018587334f * t1;
+        float t36 = t34 + t35;
+        float t37 = 0.22252093395631434f * t0;
+        float t38 = t36 - t37;
+        float t39 = 0.43388373911755823f * t12;
+        float t40 = 0.7818314824680299f * t14;
+        float t41 = t39 - t40;
+        float t42 = 0.9749279121818236f * t17;
+        float t43 = t41 + t42;
+        float t44 = t38 - t43;
+        float t45 = t38 + t43;
+        float t46 = t26 + t31;
+        float t47 = t11 + t19;
+        a[offa] = t5;
+        a[offa + 1] = t20;
+        a[offa + 2] = t32;
+        a[offa + 3] = t44;
+        a[offa + 4] = t45;
+        a[offa + 5] = t46;
+        a[offa + 6] = t47;
+    }
+
+    static void rb8(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float t0 = x0 + x1;
+        float t1 = x4 + x4;
+        float t2 = t0 + t1;
+        float t3 = x2 + x6;
+        float t4 = t3 + t3;
+        float t5 = t2 + t4;
+        float t6 = x0 - x1;
+        float t7 = x5 + x5;
+        float t8 = t6 - t7;
+        float t9 = x2 - x6;
+        float t10 = x3 + x7;
+        float t11 = t9 - t10;
+        float t12 = x6 - x2;
+        float t13 = t10 + t12;
+        float t14 = t11 - t13;
+        float t15 = 0.7071067811865476f * t14;
+        float t16 = t8 + t15;
+        float t17 = t0 - t1;
+        float t18 = x7 - x3;
+        float t19 = x3 - x7;
+        float t20 = t18 - t19;
+        float t21 = t17 + t20;
+        float t22 = t6 + t7;
+        float t23 = t9 + t10;
+        float t24 = t10 - t12;
+        float t25 = t23 + t24;
+        float t26 = 0.7071067811865476f * t25;
+        float t27 = t22 - t26;
+        float t28 = t2 - t4;
+        float t29 = t8 - t15;
+        float t30 = t17 - t20;
+        float t31 = t22 + t26;
+        a[offa] = t5;
+        a[offa + 1] = t16;
+        a[offa + 2] = t21;
+        a[offa + 3] = t27;
+        a[offa + 4] = t28;
+        a[offa + 5] = t29;
+        a[offa + 6] = t30;
+        a[offa + 7] = t31;
+    }
+
+    static void rb9(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float t0 = x6 + x6;
+        float t1 = x0 + t0;
+        float t2 = x4 + x8;
+        float t3 = x2 + t2;
+        float t4 = x2 + x8;
+        float t5 = x4 + t4;
+        float t6 = t3 + t5;
+        float t7 = t1 + t6;
+        float t8 = 0.5f * t0;
+        float t9 = x0 - t8;
+        float t10 = x7 + x7;
+        float t11 = 0.8660254037844387f * t10;
+        float t12 = t9 - t11;
+        float t13 = 0.5f * t2;
+        float t14 = x2 - t13;
+        float t15 = x1 + x5;
+        float t16 = 0.8660254037844387f * t15;
+        float t17 = t14 - t16;
+        float t18 = 0.766044443118978f * t17;
+        float t19 = x1 - x5;
+        float t20 = 0.5f * t19;
+        float t21 = x3 - t20;
+        float t22 = x8 - x4;
+        float t23 = 0.8660254037844387f * t22;
+        float t24 = t21 + t23;
+        float t25 = 0.6427876096865393f * t24;
+        float t26 = t18 - t25;
+        float t27 = 0.5f * t4;
+        float t28 = x4 - t27;
+        float t29 = x3 - x1;
+        float t30 = 0.8660254037844387f * t29;
+        float t31 = t28 - t30;
+        float t32 = 0.17364817766693041f * t31;
+        float t33 = x1 + x3;
+        float t34 = 0.5f * t33;
+        float t35 = x5 + t34;
+        float t36 = x8 - x2;
+        float t37 = 0.8660254037844387f * t36;
+        float t38 = t35 + t37;
+        float t39 = 0.984807753012208f * t38;
+        float t40 = t32 - t39;
+        float t41 = t26 + t40;
+        float t42 = t12 + t41;
+        float t43 = t9 + t11;
+        float t44 = t14 + t16;
+        float t45 = 0.17364817766693041f * t44;
+        float t46 = t21 - t23;
+        float t47 = 0.984807753012208f * t46;
+        float t48 = t45 - t47;
+        float t49 = t28 + t30;
+        float t50 = 0.9396926207859083f * t49;
+        float t51 = t35 - t37;
+        float t52 = 0.3420201433256689f * t51;
+        float t53 = t50 + t52;
+        float t54 = t48 - t53;
+        float t55 = t43 + t54;
+        float t56 = 0.5f * t6;
+        float t57 = t1 - t56;
+        float t58 = x3 + t19;
+        float t59 = x5 - t33;
+        float t60 = t58 - t59;
+        float t61 = 0.8660254037844387f * t60;
+        float t62 = t57 - t61;
+        float t63 = 0.5f * t41;
+        float t64 = t12 - t63;
+        float t65 = 0.766044443118978f * t24;
+        float t66 = 0.6427876096865393f * t17;
+        float t67 = t65 + t66;
+        float t68 = 0.17364817766693041f * t38;
+        float t69 = 0.984807753012208f * t31;
+        float t70 = t68 + t69;
+        float t71 = t67 - t70;
+        float t72 = 0.8660254037844387f * t71;
+        float t73 = t64 - t72;
+        float t74 = 0.5f * t54;
+        float t75 = t43 - t74;
+        float t76 = 0.17364817766693041f * t46;
+        float t77 = 0.984807753012208f * t44;
+        float t78 = t76 + t77;
+        float t79 = 0.3420201433256689f * t49;
+        float t80 = 0.9396926207859083f * t51;
+        float t81 = t79 - t80;
+        float t82 = t78 - t81;
+        float t83 = 0.8660254037844387f * t82;
+        float t84 = t75 - t83;
+        float t85 = t57 + t61;
+        float t86 = t64 + t72;
+        float t87 = t75 + t83;
+        a[offa] = t7;
+        a[offa + 1] = t42;
+        a[offa + 2] = t55;
+        a[offa + 3] = t62;
+        a[offa + 4] = t73;
+        a[offa + 5] = t84;
+        a[offa + 6] = t85;
+        a[offa + 7] = t86;
+        a[offa + 8] = t87;
+    }
+
+    static void rb10(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float t0 = x8 + x8;
+        float t1 = x4 + x4;
+        float t2 = x0 + t1;
+        float t3 = t0 + t2;
+        float t4 = x1 + x6;
+        float t5 = x2 + x6;
+        float t6 = x2 + t5;
+        float t7 = t4 + t6;
+        float t8 = t3 + t7;
+        float t9 = 0.30901699437494745f * t1;
+        float t10 = x0 + t9;
+        float t11 = 0.8090169943749473f * t0;
+        float t12 = t10 - t11;
+        float t13 = x5 + x5;
+        float t14 = 0.9510565162951535f * t13;
+        float t15 = x9 + x9;
+        float t16 = 0.5877852522924732f * t15;
+        float t17 = t14 + t16;
+        float t18 = t12 - t17;
+        float t19 = 0.30901699437494745f * t5;
+        float t20 = x2 + t19;
+        float t21 = 0.8090169943749473f * t4;
+        float t22 = t20 - t21;
+        float t23 = x3 + x7;
+        float t24 = 0.9510565162951535f * t23;
+        float t25 = 0.5877852522924732f * x7;
+        float t26 = t24 + t25;
+        float t27 = t22 - t26;
+        float t28 = 0.8090169943749475f * t27;
+        float t29 = x7 - x3;
+        float t30 = 0.30901699437494745f * t29;
+        float t31 = x3 + t30;
+        float t32 = 0.8090169943749473f * x7;
+        float t33 = t31 + t32;
+        float t34 = x6 - x2;
+        float t35 = 0.9510565162951535f * t34;
+        float t36 = x1 - x6;
+        float t37 = 0.5877852522924732f * t36;
+        float t38 = t35 + t37;
+        float t39 = t33 + t38;
+        float t40 = 0.5877852522924731f * t39;
+        float t41 = t28 - t40;
+        float t42 = t18 + t41;
+        float t43 = 0.8090169943749473f * t1;
+        float t44 = x0 - t43;
+        float t45 = 0.30901699437494723f * t0;
+        float t46 = t44 + t45;
+        float t47 = 0.5877852522924732f * t13;
+        float t48 = 0.9510565162951536f * t15;
+        float t49 = t47 - t48;
+        float t50 = t46 - t49;
+        float t51 = 0.8090169943749473f * t5;
+        float t52 = x2 - t51;
+        float t53 = 0.30901699437494723f * t4;
+        float t54 = t52 + t53;
+        float t55 = 0.5877852522924732f * t23;
+        float t56 = 0.9510565162951536f * x7;
+        float t57 = t55 - t56;
+        float t58 = t54 - t57;
+        float t59 = 0.30901699437494745f * t58;
+        float t60 = 0.8090169943749473f * t29;
+        float t61 = x3 - t60;
+        float t62 = 0.30901699437494723f * x7;
+        float t63 = t61 - t62;
+        float t64 = 0.5877852522924732f * t34;
+        float t65 = 0.9510565162951536f * t36;
+        float t66 = t64 - t65;
+        float t67 = t63 + t66;
+        float t68 = 0.9510565162951535f * t67;
+        float t69 = t59 - t68;
+        float t70 = t50 + t69;
+        float t71 = t46 + t49;
+        float t72 = t54 + t57;
+        float t73 = 0.30901699437494734f * t72;
+        float t74 = t63 - t66;
+        float t75 = 0.9510565162951536f * t74;
+        float t76 = t73 + t75;
+        float t77 = t71 - t76;
+        float t78 = t12 + t17;
+        float t79 = t22 + t26;
+        float t80 = 0.8090169943749473f * t79;
+        float t81 = t33 - t38;
+        float t82 = 0.5877852522924732f * t81;
+        float t83 = t80 + t82;
+        float t84 = t78 - t83;
+        float t85 = t3 - t7;
+        float t86 = t18 - t41;
+        float t87 = t50 - t69;
+        float t88 = t71 + t76;
+        float t89 = t78 + t83;
+        a[offa] = t8;
+        a[offa + 1] = t42;
+        a[offa + 2] = t70;
+        a[offa + 3] = t77;
+        a[offa + 4] = t84;
+        a[offa + 5] = t85;
+        a[offa + 6] = t86;
+        a[offa + 7] = t87;
+        a[offa + 8] = t88;
+        a[offa + 9] = t89;
+    }
+
+    static void rb11(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float t0 = x10 + x10;
+        float t1 = x8 + x8;
+        float t2 = x6 + x6;
+        float t3 = x4 + x4;
+        float t4 = x2 + x2;
+        float t5 = x0 + t4;
+        float t6 = t3 + t5;
+        float t7 = t2 + t6;
+        float t8 = t1 + t7;
+        float t9 = t0 + t8;
+        float t10 = 0.8412535328311812f * t4;
+        float t11 = x0 + t10;
+        float t12 = 0.41541501300188644f * t3;
+        float t13 = t11 + t12;
+        float t14 = 0.142314838273285f * t2;
+        float t15 = t13 - t14;
+        float t16 = 0.654860733945285f * t1;
+        float t17 = t15 - t16;
+        float t18 = 0.9594929736144973f * t0;
+        float t19 = t17 - t18;
+        float t20 = x3 + x3;
+        float t21 = 0.5406408174555976f * t20;
+        float t22 = x5 + x5;
+        float t23 = 0.9096319953545183f * t22;
+        float t24 = t21 + t23;
+        float t25 = x7 + x7;
+        float t26 = 0.9898214418809328f * t25;
+        float t27 = t24 + t26;
+        float t28 = x9 + x9;
+        float t29 = 0.7557495743542583f * t28;
+        float t30 = t27 + t29;
+        float t31 = x1 + x1;
+        float t32 = 0.28173255684143006f * t31;
+        float t33 = t30 + t32;
+        float t34 = t19 - t33;
+        float t35 = 0.41541501300188644f * t4;
+        float t36 = x0 + t35;
+        float t37 = 0.654860733945285f * t3;
+        float t38 = t36 - t37;
+        float t39 = 0.9594929736144975f * t2;
+        float t40 = t38 - t39;
+        float t41 = 0.14231483827328523f * t1;
+        float t42 = t40 - t41;
+        float t43 = 0.8412535328311808f * t0;
+        float t44 = t42 + t43;
+        float t45 = 0.9096319953545183f * t20;
+        float t46 = 0.7557495743542583f * t22;
+        float t47 = t45 + t46;
+        float t48 = 0.2817325568414294f * t25;
+        float t49 = t47 - t48;
+        float t50 = 0.9898214418809327f * t28;
+        float t51 = t49 - t50;
+        float t52 = 0.5406408174555982f * t31;
+        float t53 = t51 - t52;
+        float t54 = t44 - t53;
+        float t55 = 0.142314838273285f * t4;
+        float t56 = x0 - t55;
+        float t57 = 0.9594929736144975f * t3;
+        float t58 = t56 - t57;
+        float t59 = 0.4154150130018868f * t2;
+        float t60 = t58 + t59;
+        float t61 = 0.8412535328311812f * t1;
+        float t62 = t60 + t61;
+        float t63 = 0.654860733945285f * t0;
+        float t64 = t62 - t63;
+        float t65 = 0.9898214418809328f * t20;
+        float t66 = 0.2817325568414294f * t22;
+        float t67 = t65 - t66;
+        float t68 = 0.9096319953545182f * t25;
+        float t69 = t67 - t68;
+        float t70 = 0.5406408174555976f * t28;
+        float t71 = t69 + t70;
+        float t72 = 0.7557495743542583f * t31;
+        float t73 = t71 + t72;
+        float t74 = t64 - t73;
+        float t75 = 0.654860733945285f * t4;
+        float t76 = x0 - t75;
+        float t77 = 0.14231483827328523f * t3;
+        float t78 = t76 - t77;
+        float t79 = 0.8412535328311812f * t2;
+        float t80 = t78 + t79;
+        float t81 = 0.9594929736144973f * t1;
+        float t82 = t80 - t81;
+        float t83 = 0.4154150130018868f * t0;
+        float t84 = t82 + t83;
+        float t85 = 0.7557495743542583f * t20;
+        float t86 = 0.9898214418809327f * t22;
+        float t87 = t85 - t86;
+        float t88 = 0.5406408174555976f * t25;
+        float t89 = t87 + t88;
+        float t90 = 0.28173255684143006f * t28;
+        float t91 = t89 + t90;
+        float t92 = 0.9096319953545182f * t31;
+        float t93 = t91 - t92;
+        float t94 = t84 - t93;
+        float t95 = 0.9594929736144973f * t4;
+        float t96 = x0 - t95;
+        float t97 = 0.8412535328311808f * t3;
+        float t98 = t96 + t97;
+        float t99 = 0.654860733945285f * t2;
+        float t100 = t98 - t99;
+        float t101 = 0.4154150130018868f * t1;
+        float t102 = t100 + t101;
+        float t103 = 0.142314838273285f * t0;
+        float t104 = t102 - t103;
+        float t105 = 0.28173255684143006f * t20;
+        float t106 = 0.5406408174555982f * t22;
+        float t107 = t105 - t106;
+        float t108 = 0.7557495743542583f * t25;
+        float t109 = t107 + t108;
+        float t110 = 0.9096319953545182f * t28;
+        float t111 = t109 - t110;
+        float t112 = 0.9898214418809328f * t31;
+        float t113 = t111 + t112;
+        float t114 = t104 - t113;
+        float t115 = t104 + t113;
+        float t116 = t84 + t93;
+        float t117 = t64 + t73;
+        float t118 = t44 + t53;
+        float t119 = t19 + t33;
+        a[offa] = t9;
+        a[offa + 1] = t34;
+        a[offa + 2] = t54;
+        a[offa + 3] = t74;
+        a[offa + 4] = t94;
+        a[offa + 5] = t114;
+        a[offa + 6] = t115;
+        a[offa + 7] = t116;
+        a[offa + 8] = t117;
+        a[offa + 9] = t118;
+        a[offa + 10] = t119;
+    }
+
+    static void rb12(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float t0 = x8 + x8;
+        float t1 = x0 + t0;
+        float t2 = x1 + x4;
+        float t3 = x4 + t2;
+        float t4 = t1 + t3;
+        float t5 = x6 + x10;
+        float t6 = x2 + t5;
+        float t7 = x2 + x10;
+        float t8 = x6 + t7;
+        float t9 = t6 + t8;
+        float t10 = t4 + t9;
+        float t11 = 0.5f * t0;
+        float t12 = x0 - t11;
+        float t13 = x9 + x9;
+        float t14 = 0.8660254037844387f * t13;
+        float t15 = t12 - t14;
+        float t16 = 0.5f * t2;
+        float t17 = x4 - t16;
+        float t18 = 0.8660254037844387f * x5;
+        float t19 = t17 - t18;
+        float t20 = 0.5f * t19;
+        float t21 = 0.5f * x5;
+        float t22 = x5 + t21;
+        float t23 = x1 - x4;
+        float t24 = 0.8660254037844387f * t23;
+        float t25 = t22 + t24;
+        float t26 = 0.8660254037844386f * t25;
+        float t27 = t20 - t26;
+        float t28 = t15 + t27;
+        float t29 = 0.5f * t5;
+        float t30 = x2 - t29;
+        float t31 = x7 + x11;
+        float t32 = 0.8660254037844387f * t31;
+        float t33 = t30 - t32;
+        float t34 = 0.8660254037844387f * t33;
+        float t35 = x11 - x7;
+        float t36 = 0.5f * t35;
+        float t37 = x3 - t36;
+        float t38 = x10 - x6;
+        float t39 = 0.8660254037844387f * t38;
+        float t40 = t37 + t39;
+        float t41 = 0.5f * t40;
+        float t42 = t34 - t41;
+        float t43 = x3 + x11;
+        float t44 = 0.5f * t43;
+        float t45 = x7 + t44;
+        float t46 = x10 - x2;
+        float t47 = 0.8660254037844387f * t46;
+        float t48 = t45 + t47;
+        float t49 = t42 - t48;
+        float t50 = t28 + t49;
+        float t51 = t12 + t14;
+        float t52 = t17 + t18;
+        float t53 = 0.5f * t52;
+        float t54 = t22 - t24;
+        float t55 = 0.8660254037844387f * t54;
+        float t56 = t53 + t55;
+        float t57 = t51 - t56;
+        float t58 = t30 + t32;
+        float t59 = 0.5f * t58;
+        float t60 = t37 - t39;
+        float t61 = 0.8660254037844386f * t60;
+        float t62 = t59 - t61;
+        float t63 = 0.5f * t7;
+        float t64 = x6 - t63;
+        float t65 = x3 - x11;
+        float t66 = 0.8660254037844387f * t65;
+        float t67 = t64 + t66;
+        float t68 = t62 - t67;
+        float t69 = t57 + t68;
+        float t70 = t1 - t3;
+        float t71 = x7 - t43;
+        float t72 = x3 + t35;
+        float t73 = t71 - t72;
+        float t74 = t70 + t73;
+        float t75 = t15 - t27;
+        float t76 = t64 - t66;
+        float t77 = 0.8660254037844387f * t40;
+        float t78 = 0.5f * t33;
+        float t79 = t77 + t78;
+        float t80 = t76 - t79;
+        float t81 = t75 + t80;
+        float t82 = t51 + t56;
+        float t83 = t47 - t45;
+        float t84 = 0.5f * t60;
+        float t85 = 0.8660254037844386f * t58;
+        float t86 = t84 + t85;
+        float t87 = t83 - t86;
+        float t88 = t82 + t87;
+        float t89 = t4 - t9;
+        float t90 = t28 - t49;
+        float t91 = t57 - t68;
+        float t92 = t70 - t73;
+        float t93 = t75 - t80;
+        float t94 = t82 - t87;
+        a[offa] = t10;
+        a[offa + 1] = t50;
+        a[offa + 2] = t69;
+        a[offa + 3] = t74;
+        a[offa + 4] = t81;
+        a[offa + 5] = t88;
+        a[offa + 6] = t89;
+        a[offa + 7] = t90;
+        a[offa + 8] = t91;
+        a[offa + 9] = t92;
+        a[offa + 10] = t93;
+        a[offa + 11] = t94;
+    }
+
+    static void rb13(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float t0 = x12 + x12;
+        float t1 = x10 + x10;
+        float t2 = x8 + x8;
+        float t3 = x6 + x6;
+        float t4 = x4 + x4;
+        float t5 = x2 + x2;
+        float t6 = x0 + t5;
+        float t7 = t4 + t6;
+        float t8 = t3 + t7;
+        float t9 = t2 + t8;
+        float t10 = t1 + t9;
+        float t11 = t0 + t10;
+        float t12 = 0.8854560256532099f * t5;
+        float t13 = x0 + t12;
+        float t14 = 0.5680647467311558f * t4;
+        float t15 = t13 + t14;
+        float t16 = 0.120536680255323f * t3;
+        float t17 = t15 + t16;
+        float t18 = 0.3546048870425357f * t2;
+        float t19 = t17 - t18;
+        float t20 = 0.7485107481711012f * t1;
+        float t21 = t19 - t20;
+        float t22 = 0.970941817426052f * t0;
+        float t23 = t21 - t22;
+        float t24 = x3 + x3;
+        float t25 = 0.46472317204376856f * t24;
+        float t26 = x5 + x5;
+        float t27 = 0.8229838658936565f * t26;
+        float t28 = t25 + t27;
+        float t29 = x7 + x7;
+        float t30 = 0.992708874098054f * t29;
+        float t31 = t28 + t30;
+        float t32 = x9 + x9;
+        float t33 = 0.9350162426854148f * t32;
+        float t34 = t31 + t33;
+        float t35 = x11 + x11;
+        float t36 = 0.6631226582407952f * t35;
+        float t37 = t34 + t36;
+        float t38 = x1 + x1;
+        float t39 = 0.23931566428755768f * t38;
+        float t40 = t37 + t39;
+        float t41 = t23 - t40;
+        float t42 = 0.5680647467311558f * t5;
+        float t43 = x0 + t42;
+        float t44 = 0.3546048870425357f * t4;
+        float t45 = t43 - t44;
+        float t46 = 0.970941817426052f * t3;
+        float t47 = t45 - t46;
+        float t48 = 0.748510748171101f * t2;
+        float t49 = t47 - t48;
+        float t50 = 0.1205366802553232f * t1;
+        float t51 = t49 + t50;
+        float t52 = 0.88545602565321f * t0;
+        float t53 = t51 + t52;
+        float t54 = 0.8229838658936565f * t24;
+        float t55 = 0.9350162426854148f * t26;
+        float t56 = t54 + t55;
+        float t57 = 0.23931566428755768f * t29;
+        float t58 = t56 + t57;
+        float t59 = 0.6631226582407953f * t32;
+        float t60 = t58 - t59;
+        float t61 = 0.992708874098054f * t35;
+        float t62 = t60 - t61;
+        float t63 = 0.4647231720437684f * t38;
+        float t64 = t62 - t63;
+        float t65 = t53 - t64;
+        float t66 = 0.120536680255323f * t5;
+        float t67 = x0 + t66;
+        float t68 = 0.970941817426052f * t4;
+        float t69 = t67 - t68;
+        float t70 = 0.3546048870425359f * t3;
+        float t71 = t69 - t70;
+        float t72 = 0.88545602565321f * t2;
+        float t73 = t71 + t72;
+        float t74 = 0.5680647467311558f * t1;
+        float t75 = t73 + t74;
+        float t76 = 0.7485107481711012f * t0;
+        float t77 = t75 - t76;
+        float t78 = 0.992708874098054f * t24;
+        float t79 = 0.23931566428755768f * t26;
+        float t80 = t78 + t79;
+        float t81 = 0.9350162426854147f * t29;
+        float t82 = t80 - t81;
+        float t83 = 0.4647231720437684f * t32;
+        float t84 = t82 - t83;
+        float t85 = 0.8229838658936565f * t35;
+        float t86 = t84 + t85;
+        float t87 = 0.6631226582407952f * t38;
+        float t88 = t86 + t87;
+        float t89 = t77 - t88;
+        float t90 = 0.3546048870425357f * t5;
+        float t91 = x0 - t90;
+        float t92 = 0.748510748171101f * t4;
+        float t93 = t91 - t92;
+        float t94 = 0.88545602565321f * t3;
+        float t95 = t93 + t94;
+        float t96 = 0.120536680255323f * t2;
+        float t97 = t95 + t96;
+        float t98 = 0.9709418174260521f * t1;
+        float t99 = t97 - t98;
+        float t100 = 0.5680647467311556f * t0;
+        float t101 = t99 + t100;
+        float t102 = 0.9350162426854148f * t24;
+        float t103 = 0.6631226582407953f * t26;
+        float t104 = t102 - t103;
+        float t105 = 0.4647231720437684f * t29;
+        float t106 = t104 - t105;
+        float t107 = 0.992708874098054f * t32;
+        float t108 = t106 + t107;
+        float t109 = 0.23931566428755743f * t35;
+        float t110 = t108 - t109;
+        float t111 = 0.8229838658936566f * t38;
+        float t112 = t110 - t111;
+        float t113 = t101 - t112;
+        float t114 = 0.7485107481711012f * t5;
+        float t115 = x0 - t114;
+        float t116 = 0.1205366802553232f * t4;
+        float t117 = t115 + t116;
+        float t118 = 0.5680647467311558f * t3;
+        float t119 = t117 + t118;
+        float t120 = 0.9709418174260521f * t2;
+        float t121 = t119 - t120;
+        float t122 = 0.88545602565321f * t1;
+        float t123 = t121 + t122;
+        float t124 = 0.3546048870425357f * t0;
+        float t125 = t123 - t124;
+        float t126 = 0.6631226582407952f * t24;
+        float t127 = 0.992708874098054f * t26;
+        float t128 = t126 - t127;
+        float t129 = 0.8229838658936565f * t29;
+        float t130 = t128 + t129;
+        float t131 = 0.23931566428755743f * t32;
+        float t132 = t130 - t131;
+        float t133 = 0.4647231720437684f * t35;
+        float t134 = t132 - t133;
+        float t135 = 0.9350162426854148f * t38;
+        float t136 = t134 + t135;
+        float t137 = t125 - t136;
+        float t138 = 0.970941817426052f * t5;
+        float t139 = x0 - t138;
+        float t140 = 0.88545602565321f * t4;
+        float t141 = t139 + t140;
+        float t142 = 0.7485107481711012f * t3;
+        float t143 = t141 - t142;
+        float t144 = 0.5680647467311556f * t2;
+        float t145 = t143 + t144;
+        float t146 = 0.3546048870425357f * t1;
+        float t147 = t145 - t146;
+        float t148 = 0.1205366802553232f * t0;
+        float t149 = t147 + t148;
+        float t150 = 0.23931566428755768f * t24;
+        float t151 = 0.4647231720437684f * t26;
+        float t152 = t150 - t151;
+        float t153 = 0.6631226582407952f * t29;
+        float t154 = t152 + t153;
+        float t155 = 0.8229838658936566f * t32;
+        float t156 = t154 - t155;
+        float t157 = 0.9350162426854148f * t35;
+        float t158 = t156 + t157;
+        float t159 = 0.992708874098054f * t38;
+        float t160 = t158 - t159;
+        float t161 = t149 - t160;
+        float t162 = t149 + t160;
+        float t163 = t125 + t136;
+        float t164 = t101 + t112;
+        float t165 = t77 + t88;
+        float t166 = t53 + t64;
+        float t167 = t23 + t40;
+        a[offa] = t11;
+        a[offa + 1] = t41;
+        a[offa + 2] = t65;
+        a[offa + 3] = t89;
+        a[offa + 4] = t113;
+        a[offa + 5] = t137;
+        a[offa + 6] = t161;
+        a[offa + 7] = t162;
+        a[offa + 8] = t163;
+        a[offa + 9] = t164;
+        a[offa + 10] = t165;
+        a[offa + 11] = t166;
+        a[offa + 12] = t167;
+    }
+
+    static void rb14(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float x13 = a[offa + 13];
+        float t0 = x12 + x12;
+        float t1 = x8 + x8;
+        float t2 = x4 + x4;
+        float t3 = x0 + t2;
+        float t4 = t1 + t3;
+        float t5 = t0 + t4;
+        float t6 = x1 + x10;
+        float t7 = x6 + x10;
+        float t8 = x2 + x6;
+        float t9 = x2 + t8;
+        float t10 = t7 + t9;
+        float t11 = t6 + t10;
+        float t12 = t5 + t11;
+        float t13 = 0.6234898018587336f * t2;
+        float t14 = x0 + t13;
+        float t15 = 0.22252093395631434f * t1;
+        float t16 = t14 - t15;
+        float t17 = 0.900968867902419f * t0;
+        float t18 = t16 - t17;
+        float t19 = x5 + x5;
+        float t20 = 0.7818314824680298f * t19;
+        float t21 = x9 + x9;
+        float t22 = 0.9749279121818236f * t21;
+        float t23 = t20 + t22;
+        float t24 = x13 + x13;
+        float t25 = 0.43388373911755823f * t24;
+        float t26 = t23 + t25;
+        float t27 = t18 - t26;
+        float t28 = 0.6234898018587336f * t8;
+        float t29 = x2 + t28;
+        float t30 = 0.22252093395631434f * t7;
+        float t31 = t29 - t30;
+        float t32 = 0.900968867902419f * t6;
+        float t33 = t31 - t32;
+        float t34 = x3 + x7;
+        float t35 = 0.7818314824680298f * t34;
+        float t36 = x7 + x11;
+        float t37 = 0.9749279121818236f * t36;
+        float t38 = t35 + t37;
+        float t39 = 0.43388373911755823f * x11;
+        float t40 = t38 + t39;
+        float t41 = t33 - t40;
+        float t42 = 0.9009688679024191f * t41;
+        float t43 = x7 - x3;
+        float t44 = 0.6234898018587336f * t43;
+        float t45 = x3 + t44;
+        float t46 = x11 - x7;
+        float t47 = 0.22252093395631434f * t46;
+        float t48 = t45 - t47;
+        float t49 = 0.900968867902419f * x11;
+        float t50 = t48 + t49;
+        float t51 = x6 - x2;
+        float t52 = 0.7818314824680298f * t51;
+        float t53 = x10 - x6;
+        float t54 = 0.9749279121818236f * t53;
+        float t55 = t52 + t54;
+        float t56 = x1 - x10;
+        float t57 = 0.43388373911755823f * t56;
+        float t58 = t55 + t57;
+        float t59 = t50 + t58;
+        float t60 = 0.4338837391175581f * t59;
+        float t61 = t42 - t60;
+        float t62 = t27 + t61;
+        float t63 = 0.22252093395631434f * t2;
+        float t64 = x0 - t63;
+        float t65 = 0.9009688679024191f * t1;
+        float t66 = t64 - t65;
+        float t67 = 0.6234898018587334f * t0;
+        float t68 = t66 + t67;
+        float t69 = 0.9749279121818236f * t19;
+        float t70 = 0.433883739117558f * t21;
+        float t71 = t69 - t70;
+        float t72 = 0.7818314824680299f * t24;
+        float t73 = t71 - t72;
+        float t74 = t68 - t73;
+        float t75 = 0.22252093395631434f * t8;
+        float t76 = x2 - t75;
+        float t77 = 0.9009688679024191f * t7;
+        float t78 = t76 - t77;
+        float t79 = 0.6234898018587334f * t6;
+        float t80 = t78 + t79;
+        float t81 = 0.9749279121818236f * t34;
+        float t82 = 0.433883739117558f * t36;
+        float t83 = t81 - t82;
+        float t84 = 0.7818314824680299f * x11;
+        float t85 = t83 - t84;
+        float t86 = t80 - t85;
+        float t87 = 0.6234898018587336f * t86;
+        float t88 = 0.22252093395631434f * t43;
+        float t89 = x3 - t88;
+        float t90 = 0.9009688679024191f * t46;
+        float t91 = t89 - t90;
+        float t92 = 0.6234898018587334f * x11;
+        float t93 = t91 - t92;
+        float t94 = 0.9749279121818236f * t51;
+        float t95 = 0.433883739117558f * t53;
+        float t96 = t94 - t95;
+        float t97 = 0.7818314824680299f * t56;
+        float t98 = t96 - t97;
+        float t99 = t93 + t98;
+        float t100 = 0.7818314824680298f * t99;
+        float t101 = t87 - t100;
+        float t102 = t74 + t101;
+        float t103 = 0.900968867902419f * t2;
+        float t104 = x0 - t103;
+        float t105 = 0.6234898018587334f * t1;
+        float t106 = t104 + t105;
+        float t107 = 0.22252093395631434f * t0;
+        float t108 = t106 - t107;
+        float t109 = 0.43388373911755823f * t19;
+        float t110 = 0.7818314824680299f * t21;
+        float t111 = t109 - t110;
+        float t112 = 0.9749279121818236f * t24;
+        float t113 = t111 + t112;
+        float t114 = t108 - t113;
+        float t115 = 0.900968867902419f * t8;
+        float t116 = x2 - t115;
+        float t117 = 0.6234898018587334f * t7;
+        float t118 = t116 + t117;
+        float t119 = 0.22252093395631434f * t6;
+        float t120 = t118 - t119;
+        float t121 = 0.43388373911755823f * t34;
+        float t122 = 0.7818314824680299f * t36;
+        float t123 = t121 - t122;
+        float t124 = 0.9749279121818236f * x11;
+        float t125 = t123 + t124;
+        float t126 = t120 - t125;
+        float t127 = 0.22252093395631445f * t126;
+        float t128 = 0.900968867902419f * t43;
+        float t129 = x3 - t128;
+        float t130 = 0.6234898018587334f * t46;
+        float t131 = t129 + t130;
+        float t132 = 0.22252093395631434f * x11;
+        float t133 = t131 + t132;
+        float t134 = 0.43388373911755823f * t51;
+        float t135 = 0.7818314824680299f * t53;
+        float t136 = t134 - t135;
+        float t137 = 0.9749279121818236f * t56;
+        float t138 = t136 + t137;
+        float t139 = t133 + t138;
+        float t140 = 0.9749279121818236f * t139;
+        float t141 = t127 - t140;
+        float t142 = t114 + t141;
+        float t143 = t108 + t113;
+        float t144 = t120 + t125;
+        float t145 = 0.22252093395631434f * t144;
+        float t146 = t133 - t138;
+        float t147 = 0.9749279121818236f * t146;
+        float t148 = t145 + t147;
+        float t149 = t143 - t148;
+        float t150 = t68 + t73;
+        float t151 = t80 + t85;
+        float t152 = 0.6234898018587335f * t151;
+        float t153 = t93 - t98;
+        float t154 = 0.7818314824680299f * t153;
+        float t155 = t152 + t154;
+        float t156 = t150 - t155;
+        float t157 = t18 + t26;
+        float t158 = t33 + t40;
+        float t159 = 0.900968867902419f * t158;
+        float t160 = t50 - t58;
+        float t161 = 0.43388373911755823f * t160;
+        float t162 = t159 + t161;
+        float t163 = t157 - t162;
+        float t164 = t5 - t11;
+        float t165 = t27 - t61;
+        float t166 = t74 - t101;
+        float t167 = t114 - t141;
+        float t168 = t143 + t148;
+        float t169 = t150 + t155;
+        float t170 = t157 + t162;
+        a[offa] = t12;
+        a[offa + 1] = t62;
+        a[offa + 2] = t102;
+        a[offa + 3] = t142;
+        a[offa + 4] = t149;
+        a[offa + 5] = t156;
+        a[offa + 6] = t163;
+        a[offa + 7] = t164;
+        a[offa + 8] = t165;
+        a[offa + 9] = t166;
+        a[offa + 10] = t167;
+        a[offa + 11] = t168;
+        a[offa + 12] = t169;
+        a[offa + 13] = t170;
+    }
+
+    static void rb15(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float x13 = a[offa + 13];
+        float x14 = a[offa + 14];
+        float t0 = x12 + x12;
+        float t1 = x6 + x6;
+        float t2 = x0 + t1;
+        float t3 = t0 + t2;
+        float t4 = x10 + x14;
+        float t5 = x4 + x8;
+        float t6 = x2 + t5;
+        float t7 = t4 + t6;
+        float t8 = x8 + x14;
+        float t9 = x2 + x10;
+        float t10 = x4 + t9;
+        float t11 = t8 + t10;
+        float t12 = t7 + t11;
+        float t13 = t3 + t12;
+        float t14 = 0.30901699437494745f * t1;
+        float t15 = x0 + t14;
+        float t16 = 0.8090169943749473f * t0;
+        float t17 = t15 - t16;
+        float t18 = x7 + x7;
+        float t19 = 0.9510565162951535f * t18;
+        float t20 = x13 + x13;
+        float t21 = 0.5877852522924732f * t20;
+        float t22 = t19 + t21;
+        float t23 = t17 - t22;
+        float t24 = 0.30901699437494745f * t5;
+        float t25 = x2 + t24;
+        float t26 = 0.8090169943749473f * t4;
+        float t27 = t25 - t26;
+        float t28 = x5 + x9;
+        float t29 = 0.9510565162951535f * t28;
+        float t30 = x1 + x11;
+        float t31 = 0.5877852522924732f * t30;
+        float t32 = t29 + t31;
+        float t33 = t27 - t32;
+        float t34 = 0.9135454576426009f * t33;
+        float t35 = x9 - x5;
+        float t36 = 0.30901699437494745f * t35;
+        float t37 = x3 + t36;
+        float t38 = x1 - x11;
+        float t39 = 0.8090169943749473f * t38;
+        float t40 = t37 - t39;
+        float t41 = x8 - x4;
+        float t42 = 0.9510565162951535f * t41;
+        float t43 = x14 - x10;
+        float t44 = 0.5877852522924732f * t43;
+        float t45 = t42 + t44;
+        float t46 = t40 + t45;
+        float t47 = 0.40673664307580015f * t46;
+        float t48 = t34 - t47;
+        float t49 = 0.30901699437494745f * t9;
+        float t50 = x4 + t49;
+        float t51 = 0.8090169943749473f * t8;
+        float t52 = t50 - t51;
+        float t53 = x3 + x11;
+        float t54 = 0.9510565162951535f * t53;
+        float t55 = x9 - x1;
+        float t56 = 0.5877852522924732f * t55;
+        float t57 = t54 + t56;
+        float t58 = t52 - t57;
+        float t59 = 0.6691306063588582f * t58;
+        float t60 = x11 - x3;
+        float t61 = 0.30901699437494745f * t60;
+        float t62 = x5 + t61;
+        float t63 = x1 + x9;
+        float t64 = 0.8090169943749473f * t63;
+        float t65 = t62 + t64;
+        float t66 = x10 - x2;
+        float t67 = 0.9510565162951535f * t66;
+        float t68 = x14 - x8;
+        float t69 = 0.5877852522924732f * t68;
+        float t70 = t67 + t69;
+        float t71 = t65 + t70;
+        float t72 = 0.7431448254773941f * t71;
+        float t73 = t59 - t72;
+        float t74 = t48 + t73;
+        float t75 = t23 + t74;
+        float t76 = 0.8090169943749473f * t1;
+        float t77 = x0 - t76;
+        float t78 = 0.30901699437494723f * t0;
+        float t79 = t77 + t78;
+        float t80 = 0.5877852522924732f * t18;
+        float t81 = 0.9510565162951536f * t20;
+        float t82 = t80 - t81;
+        float t83 = t79 - t82;
+        float t84 = 0.8090169943749473f * t5;
+        float t85 = x2 - t84;
+        float t86 = 0.30901699437494723f * t4;
+        float t87 = t85 + t86;
+        float t88 = 0.5877852522924732f * t28;
+        float t89 = 0.9510565162951536f * t30;
+        float t90 = t88 - t89;
+        float t91 = t87 - t90;
+        float t92 = 0.6691306063588582f * t91;
+        float t93 = 0.8090169943749473f * t35;
+        float t94 = x3 - t93;
+        float t95 = 0.30901699437494723f * t38;
+        float t96 = t94 + t95;
+        float t97 = 0.5877852522924732f * t41;
+        float t98 = 0.9510565162951536f * t43;
+        float t99 = t97 - t98;
+        float t100 = t96 + t99;
+        float t101 = 0.7431448254773941f * t100;
+        float t102 = t92 - t101;
+        float t103 = 0.8090169943749473f * t9;
+        float t104 = x4 - t103;
+        float t105 = 0.30901699437494723f * t8;
+        float t106 = t104 + t105;
+        float t107 = 0.5877852522924732f * t53;
+        float t108 = 0.9510565162951536f * t55;
+        float t109 = t107 - t108;
+        float t110 = t106 - t109;
+        float t111 = 0.10452846326765333f * t110;
+        float t112 = 0.8090169943749473f * t60;
+        float t113 = x5 - t112;
+        float t114 = 0.30901699437494723f * t63;
+        float t115 = t113 - t114;
+        float t116 = 0.5877852522924732f * t66;
+        float t117 = 0.9510565162951536f * t68;
+        float t118 = t116 - t117;
+        float t119 = t115 + t118;
+        float t120 = 0.9945218953682734f * t119;
+        float t121 = t111 + t120;
+        float t122 = t102 - t121;
+        float t123 = t83 + t122;
+        float t124 = t79 + t82;
+        float t125 = t87 + t90;
+        float t126 = 0.30901699437494745f * t125;
+        float t127 = t96 - t99;
+        float t128 = 0.9510565162951535f * t127;
+        float t129 = t126 - t128;
+        float t130 = t106 + t109;
+        float t131 = 0.8090169943749473f * t130;
+        float t132 = t115 - t118;
+        float t133 = 0.5877852522924732f * t132;
+        float t134 = t131 + t133;
+        float t135 = t129 - t134;
+        float t136 = t124 + t135;
+        float t137 = t17 + t22;
+        float t138 = t65 - t70;
+        float t139 = 0.20791169081775907f * t138;
+        float t140 = t52 + t57;
+        float t141 = 0.9781476007338057f * t140;
+        float t142 = t139 - t141;
+        float t143 = t27 + t32;
+        float t144 = 0.10452846326765333f * t143;
+        float t145 = t40 - t45;
+        float t146 = 0.9945218953682734f * t145;
+        float t147 = t144 + t146;
+        float t148 = t142 - t147;
+        float t149 = t137 + t148;
+        float t150 = 0.5f * t12;
+        float t151 = t3 - t150;
+        float t152 = x3 + t35;
+        float t153 = t38 + t152;
+        float t154 = x5 + t60;
+        float t155 = t154 - t63;
+        float t156 = t153 - t155;
+        float t157 = 0.8660254037844387f * t156;
+        float t158 = t151 - t157;
+        float t159 = 0.5f * t74;
+        float t160 = t23 - t159;
+        float t161 = 0.9135454576426009f * t46;
+        float t162 = 0.40673664307580015f * t33;
+        float t163 = t161 + t162;
+        float t164 = 0.6691306063588582f * t71;
+        float t165 = 0.7431448254773941f * t58;
+        float t166 = t164 + t165;
+        float t167 = t163 - t166;
+        float t168 = 0.8660254037844387f * t167;
+        float t169 = t160 - t168;
+        float t170 = 0.5f * t122;
+        float t171 = t83 - t170;
+        float t172 = 0.6691306063588582f * t100;
+        float t173 = 0.7431448254773941f * t91;
+        float t174 = t172 + t173;
+        float t175 = 0.9945218953682734f * t110;
+        float t176 = 0.10452846326765333f * t119;
+        float t177 = t175 - t176;
+        float t178 = t174 - t177;
+        float t179 = 0.8660254037844387f * t178;
+        float t180 = t171 - t179;
+        float t181 = 0.5f * t135;
+        float t182 = t124 - t181;
+        float t183 = 0.30901699437494745f * t127;
+        float t184 = 0.9510565162951535f * t125;
+        float t185 = t183 + t184;
+        float t186 = 0.5877852522924732f * t130;
+        float t187 = 0.8090169943749473f * t132;
+        float t188 = t186 - t187;
+        float t189 = t185 - t188;
+        float t190 = 0.8660254037844387f * t189;
+        float t191 = t182 - t190;
+        float t192 = 0.5f * t148;
+        float t193 = t137 - t192;
+        float t194 = 0.9945218953682734f * t143;
+        float t195 = 0.10452846326765333f * t145;
+        float t196 = t194 - t195;
+        float t197 = 0.9781476007338057f * t138;
+        float t198 = 0.20791169081775907f * t140;
+        float t199 = t197 + t198;
+        float t200 = t196 + t199;
+        float t201 = 0.8660254037844387f * t200;
+        float t202 = t193 - t201;
+        float t203 = t151 + t157;
+        float t204 = t160 + t168;
+        float t205 = t171 + t179;
+        float t206 = t182 + t190;
+        float t207 = t193 + t201;
+        a[offa] = t13;
+        a[offa + 1] = t75;
+        a[offa + 2] = t123;
+        a[offa + 3] = t136;
+        a[offa + 4] = t149;
+        a[offa + 5] = t158;
+        a[offa + 6] = t169;
+        a[offa + 7] = t180;
+        a[offa + 8] = t191;
+        a[offa + 9] = t202;
+        a[offa + 10] = t203;
+        a[offa + 11] = t204;
+        a[offa + 12] = t205;
+        a[offa + 13] = t206;
+        a[offa + 14] = t207;
+    }
+
+    static void rb16(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float x13 = a[offa + 13];
+        float x14 = a[offa + 14];
+        float x15 = a[offa + 15];
+        float t0 = x0 + x1;
+        float t1 = x8 + x8;
+        float t2 = t0 + t1;
+        float t3 = x4 + x12;
+        float t4 = t3 + t3;
+        float t5 = t2 + t4;
+        float t6 = x2 + x14;
+        float t7 = x6 + x10;
+        float t8 = t6 + t7;
+        float t9 = t8 + t8;
+        float t10 = t5 + t9;
+        float t11 = x0 - x1;
+        float t12 = x9 + x9;
+        float t13 = t11 - t12;
+        float t14 = x4 - x12;
+        float t15 = x5 + x13;
+        float t16 = t14 - t15;
+        float t17 = x12 - x4;
+        float t18 = t15 + t17;
+        float t19 = t16 - t18;
+        float t20 = 0.7071067811865476f * t19;
+        float t21 = t13 + t20;
+        float t22 = x2 - x14;
+        float t23 = x7 + x11;
+        float t24 = t22 - t23;
+        float t25 = 0.9238795325112867f * t24;
+        float t26 = x3 + x15;
+        float t27 = x10 - x6;
+        float t28 = t26 + t27;
+        float t29 = 0.3826834323650898f * t28;
+        float t30 = t25 - t29;
+        float t31 = x6 - x10;
+        float t32 = t31 - t26;
+        float t33 = 0.38268343236508984f * t32;
+        float t34 = x14 - x2;
+        float t35 = t23 + t34;
+        float t36 = 0.9238795325112867f * t35;
+        float t37 = t33 - t36;
+        float t38 = t30 + t37;
+        float t39 = t21 + t38;
+        float t40 = t0 - t1;
+        float t41 = x13 - x5;
+        float t42 = x5 - x13;
+        float t43 = t41 - t42;
+        float t44 = t40 + t43;
+        float t45 = t6 - t7;
+        float t46 = x3 - x15;
+        float t47 = x11 - x7;
+        float t48 = t46 - t47;
+        float t49 = t45 - t48;
+        float t50 = 0.7071067811865476f * t49;
+        float t51 = t7 - t6;
+        float t52 = x7 - x11;
+        float t53 = x15 - x3;
+        float t54 = t52 - t53;
+        float t55 = t51 + t54;
+        float t56 = 0.7071067811865476f * t55;
+        float t57 = t50 - t56;
+        float t58 = t44 + t57;
+        float t59 = t11 + t12;
+        float t60 = t14 + t15;
+        float t61 = t15 - t17;
+        float t62 = t60 + t61;
+        float t63 = 0.7071067811865476f * t62;
+        float t64 = t59 - t63;
+        float t65 = t22 + t23;
+        float t66 = 0.38268343236508984f * t65;
+        float t67 = t26 - t27;
+        float t68 = 0.9238795325112867f * t67;
+        float t69 = t66 - t68;
+        float t70 = t23 - t34;
+        float t71 = 0.38268343236508967f * t70;
+        float t72 = t26 + t31;
+        float t73 = 0.9238795325112868f * t72;
+        float t74 = t71 - t73;
+        float t75 = t69 + t74;
+        float t76 = t64 + t75;
+        float t77 = t2 - t4;
+        float t78 = t52 + t53;
+        float t79 = t46 + t47;
+        float t80 = t78 - t79;
+        float t81 = t77 + t80;
+        float t82 = t13 - t20;
+        float t83 = 0.38268343236508984f * t35;
+        float t84 = 0.9238795325112867f * t32;
+        float t85 = t83 + t84;
+        float t86 = 0.9238795325112867f * t28;
+        float t87 = 0.3826834323650898f * t24;
+        float t88 = t86 + t87;
+        float t89 = t85 - t88;
+        float t90 = t82 + t89;
+        float t91 = t40 - t43;
+        float t92 = t45 + t48;
+        float t93 = 0.7071067811865476f * t92;
+        float t94 = t54 - t51;
+        float t95 = 0.7071067811865476f * t94;
+        float t96 = t93 + t95;
+        float t97 = t91 - t96;
+        float t98 = t59 + t63;
+        float t99 = 0.38268343236508984f * t67;
+        float t100 = 0.9238795325112867f * t65;
+        float t101 = t99 + t100;
+        float t102 = 0.9238795325112868f * t70;
+        float t103 = 0.38268343236508967f * t72;
+        float t104 = t102 + t103;
+        float t105 = t101 + t104;
+        float t106 = t98 - t105;
+        float t107 = t5 - t9;
+        float t108 = t21 - t38;
+        float t109 = t44 - t57;
+        float t110 = t64 - t75;
+        float t111 = t77 - t80;
+        float t112 = t82 - t89;
+        float t113 = t91 + t96;
+        float t114 = t98 + t105;
+        a[offa] = t10;
+        a[offa + 1] = t39;
+        a[offa + 2] = t58;
+        a[offa + 3] = t76;
+        a[offa + 4] = t81;
+        a[offa + 5] = t90;
+        a[offa + 6] = t97;
+        a[offa + 7] = t106;
+        a[offa + 8] = t107;
+        a[offa + 9] = t108;
+        a[offa + 10] = t109;
+        a[offa + 11] = t110;
+        a[offa + 12] = t111;
+        a[offa + 13] = t112;
+        a[offa + 14] = t113;
+        a[offa + 15] = t114;
+    }
+
+    static void rb18(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float x13 = a[offa + 13];
+        float x14 = a[offa + 14];
+        float x15 = a[offa + 15];
+        float x16 = a[offa + 16];
+        float x17 = a[offa + 17];
+        float t0 = x12 + x12;
+        float t1 = x0 + t0;
+        float t2 = x8 + x16;
+        float t3 = x4 + t2;
+        float t4 = x4 + x16;
+        float t5 = x8 + t4;
+        float t6 = t3 + t5;
+        float t7 = t1 + t6;
+        float t8 = x10 + x14;
+        float t9 = x2 + t8;
+        float t10 = x1 + x6;
+        float t11 = x6 + t10;
+        float t12 = x2 + x14;
+        float t13 = x10 + t12;
+        float t14 = t11 + t13;
+        float t15 = t9 + t14;
+        float t16 = t7 + t15;
+        float t17 = 0.5f * t0;
+        float t18 = x0 - t17;
+        float t19 = x13 + x13;
+        float t20 = 0.8660254037844387f * t19;
+        float t21 = t18 - t20;
+        float t22 = 0.5f * t2;
+        float t23 = x4 - t22;
+        float t24 = x9 + x17;
+        float t25 = 0.8660254037844387f * t24;
+        float t26 = t23 - t25;
+        float t27 = 0.766044443118978f * t26;
+        float t28 = x17 - x9;
+        float t29 = 0.5f * t28;
+        float t30 = x5 - t29;
+        float t31 = x16 - x8;
+        float t32 = 0.8660254037844387f * t31;
+        float t33 = t30 + t32;
+        float t34 = 0.6427876096865393f * t33;
+        float t35 = t27 - t34;
+        float t36 = 0.5f * t4;
+        float t37 = x8 - t36;
+        float t38 = x5 - x17;
+        float t39 = 0.8660254037844387f * t38;
+        float t40 = t37 - t39;
+        float t41 = 0.17364817766693041f * t40;
+        float t42 = x5 + x17;
+        float t43 = 0.5f * t42;
+        float t44 = x9 + t43;
+        float t45 = x16 - x4;
+        float t46 = 0.8660254037844387f * t45;
+        float t47 = t44 + t46;
+        float t48 = 0.984807753012208f * t47;
+        float t49 = t41 - t48;
+        float t50 = t35 + t49;
+        float t51 = t21 + t50;
+        float t52 = 0.5f * t8;
+        float t53 = x2 - t52;
+        float t54 = x11 + x15;
+        float t55 = 0.8660254037844387f * t54;
+        float t56 = t53 - t55;
+        float t57 = 0.5f * t10;
+        float t58 = x6 - t57;
+        float t59 = 0.8660254037844387f * x7;
+        float t60 = t58 - t59;
+        float t61 = 0.766044443118978f * t60;
+        float t62 = 0.5f * x7;
+        float t63 = x7 + t62;
+        float t64 = x1 - x6;
+        float t65 = 0.8660254037844387f * t64;
+        float t66 = t63 + t65;
+        float t67 = 0.6427876096865393f * t66;
+        float t68 = t61 - t67;
+        float t69 = 0.5f * t12;
+        float t70 = x10 - t69;
+        float t71 = x3 - x15;
+        float t72 = 0.8660254037844387f * t71;
+        float t73 = t70 - t72;
+        float t74 = 0.17364817766693041f * t73;
+        float t75 = x3 + x15;
+        float t76 = 0.5f * t75;
+        float t77 = x11 + t76;
+        float t78 = x14 - x2;
+        float t79 = 0.8660254037844387f * t78;
+        float t80 = t77 + t79;
+        float t81 = 0.984807753012208f * t80;
+        float t82 = t74 - t81;
+        float t83 = t68 + t82;
+        float t84 = t56 + t83;
+        float t85 = 0.9396926207859084f * t84;
+        float t86 = x15 - x11;
+        float t87 = 0.5f * t86;
+        float t88 = x3 - t87;
+        float t89 = x14 - x10;
+        float t90 = 0.8660254037844387f * t89;
+        float t91 = t88 + t90;
+        float t92 = 0.766044443118978f * t66;
+        float t93 = 0.6427876096865393f * t60;
+        float t94 = t92 + t93;
+        float t95 = 0.17364817766693041f * t80;
+        float t96 = 0.984807753012208f * t73;
+        float t97 = t95 + t96;
+        float t98 = t94 + t97;
+        float t99 = t91 + t98;
+        float t100 = 0.3420201433256687f * t99;
+        float t101 = t85 - t100;
+        float t102 = t51 + t101;
+        float t103 = t18 + t20;
+        float t104 = t23 + t25;
+        float t105 = 0.17364817766693041f * t104;
+        float t106 = t30 - t32;
+        float t107 = 0.984807753012208f * t106;
+        float t108 = t105 - t107;
+        float t109 = t37 + t39;
+        float t110 = 0.9396926207859083f * t109;
+        float t111 = t44 - t46;
+        float t112 = 0.3420201433256689f * t111;
+        float t113 = t110 + t112;
+        float t114 = t108 - t113;
+        float t115 = t103 + t114;
+        float t116 = t53 + t55;
+        float t117 = t58 + t59;
+        float t118 = 0.17364817766693041f * t117;
+        float t119 = t63 - t65;
+        float t120 = 0.984807753012208f * t119;
+        float t121 = t118 - t120;
+        float t122 = t70 + t72;
+        float t123 = 0.9396926207859083f * t122;
+        float t124 = t77 - t79;
+        float t125 = 0.3420201433256689f * t124;
+        float t126 = t123 + t125;
+        float t127 = t121 - t126;
+        float t128 = t116 + t127;
+        float t129 = 0.766044443118978f * t128;
+        float t130 = t88 - t90;
+        float t131 = 0.17364817766693041f * t119;
+        float t132 = 0.984807753012208f * t117;
+        float t133 = t131 + t132;
+        float t134 = 0.3420201433256689f * t122;
+        float t135 = 0.9396926207859083f * t124;
+        float t136 = t134 - t135;
+        float t137 = t133 + t136;
+        float t138 = t130 + t137;
+        float t139 = 0.6427876096865393f * t138;
+        float t140 = t129 - t139;
+        float t141 = t115 + t140;
+        float t142 = 0.5f * t6;
+        float t143 = t1 - t142;
+        float t144 = x5 + t28;
+        float t145 = x9 - t42;
+        float t146 = t144 - t145;
+        float t147 = 0.8660254037844387f * t146;
+        float t148 = t143 - t147;
+        float t149 = 0.5f * t14;
+        float t150 = t9 - t149;
+        float t151 = t75 - x11;
+        float t152 = 0.8660254037844387f * t151;
+        float t153 = t150 - t152;
+        float t154 = 0.5f * t153;
+        float t155 = x3 + t86;
+        float t156 = x11 - t75;
+        float t157 = 0.5f * t156;
+        float t158 = t155 - t157;
+        float t159 = t11 - t13;
+        float t160 = 0.8660254037844387f * t159;
+        float t161 = t158 + t160;
+        float t162 = 0.8660254037844386f * t161;
+        float t163 = t154 - t162;
+        float t164 = t148 + t163;
+        float t165 = 0.5f * t50;
+        float t166 = t21 - t165;
+        float t167 = 0.766044443118978f * t33;
+        float t168 = 0.6427876096865393f * t26;
+        float t169 = t167 + t168;
+        float t170 = 0.17364817766693041f * t47;
+        float t171 = 0.984807753012208f * t40;
+        float t172 = t170 + t171;
+        float t173 = t169 - t172;
+        float t174 = 0.8660254037844387f * t173;
+        float t175 = t166 - t174;
+        float t176 = 0.5f * t83;
+        float t177 = t56 - t176;
+        float t178 = t94 - t97;
+        float t179 = 0.8660254037844387f * t178;
+        float t180 = t177 - t179;
+        float t181 = 0.17364817766693041f * t180;
+        float t182 = 0.5f * t98;
+        float t183 = t91 - t182;
+        float t184 = t68 - t82;
+        float t185 = 0.8660254037844387f * t184;
+        float t186 = t183 + t185;
+        float t187 = 0.984807753012208f * t186;
+        float t188 = t181 - t187;
+        float t189 = t175 + t188;
+        float t190 = 0.5f * t114;
+        float t191 = t103 - t190;
+        float t192 = 0.17364817766693041f * t106;
+        float t193 = 0.984807753012208f * t104;
+        float t194 = t192 + t193;
+        float t195 = 0.3420201433256689f * t109;
+        float t196 = 0.9396926207859083f * t111;
+        float t197 = t195 - t196;
+        float t198 = t194 - t197;
+        float t199 = 0.8660254037844387f * t198;
+        float t200 = t191 - t199;
+        float t201 = 0.5f * t127;
+        float t202 = t116 - t201;
+        float t203 = t133 - t136;
+        float t204 = 0.8660254037844387f * t203;
+        float t205 = t202 - t204;
+        float t206 = 0.1736481776669303f * t205;
+        float t207 = 0.5f * t137;
+        float t208 = t130 - t207;
+        float t209 = t121 + t126;
+        float t210 = 0.8660254037844387f * t209;
+        float t211 = t208 + t210;
+        float t212 = 0.984807753012208f * t211;
+        float t213 = t206 + t212;
+        float t214 = t200 - t213;
+        float t215 = t143 + t147;
+        float t216 = t150 + t152;
+        float t217 = 0.5f * t216;
+        float t218 = t158 - t160;
+        float t219 = 0.8660254037844387f * t218;
+        float t220 = t217 + t219;
+        float t221 = t215 - t220;
+        float t222 = t166 + t174;
+        float t223 = t177 + t179;
+        float t224 = 0.7660444431189779f * t223;
+        float t225 = t183 - t185;
+        float t226 = 0.6427876096865395f * t225;
+        float t227 = t224 + t226;
+        float t228 = t222 - t227;
+        float t229 = t191 + t199;
+        float t230 = t202 + t204;
+        float t231 = 0.9396926207859083f * t230;
+        float t232 = t208 - t210;
+        float t233 = 0.3420201433256689f * t232;
+        float t234 = t231 + t233;
+        float t235 = t229 - t234;
+        float t236 = t7 - t15;
+        float t237 = t51 - t101;
+        float t238 = t115 - t140;
+        float t239 = t148 - t163;
+        float t240 = t175 - t188;
+        float t241 = t200 + t213;
+        float t242 = t215 + t220;
+        float t243 = t222 + t227;
+        float t244 = t229 + t234;
+        a[offa] = t16;
+        a[offa + 1] = t102;
+        a[offa + 2] = t141;
+        a[offa + 3] = t164;
+        a[offa + 4] = t189;
+        a[offa + 5] = t214;
+        a[offa + 6] = t221;
+        a[offa + 7] = t228;
+        a[offa + 8] = t235;
+        a[offa + 9] = t236;
+        a[offa + 10] = t237;
+        a[offa + 11] = t238;
+        a[offa + 12] = t239;
+        a[offa + 13] = t240;
+        a[offa + 14] = t241;
+        a[offa + 15] = t242;
+        a[offa + 16] = t243;
+        a[offa + 17] = t244;
+    }
+
+    static void rb20(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float x13 = a[offa + 13];
+        float x14 = a[offa + 14];
+        float x15 = a[offa + 15];
+        float x16 = a[offa + 16];
+        float x17 = a[offa + 17];
+        float x18 = a[offa + 18];
+        float x19 = a[offa + 19];
+        float t0 = x16 + x16;
+        float t1 = x8 + x8;
+        float t2 = x0 + t1;
+        float t3 = t0 + t2;
+        float t4 = x1 + x12;
+        float t5 = x4 + x12;
+        float t6 = x4 + t5;
+        float t7 = t4 + t6;
+        float t8 = t3 + t7;
+        float t9 = x14 + x18;
+        float t10 = x6 + x10;
+        float t11 = x2 + t10;
+        float t12 = t9 + t11;
+        float t13 = x10 + x18;
+        float t14 = x2 + x14;
+        float t15 = x6 + t14;
+        float t16 = t13 + t15;
+        float t17 = t12 + t16;
+        float t18 = t8 + t17;
+        float t19 = 0.30901699437494745f * t1;
+        float t20 = x0 + t19;
+        float t21 = 0.8090169943749473f * t0;
+        float t22 = t20 - t21;
+        float t23 = x9 + x9;
+        float t24 = 0.9510565162951535f * t23;
+        float t25 = x17 + x17;
+        float t26 = 0.5877852522924732f * t25;
+        float t27 = t24 + t26;
+        float t28 = t22 - t27;
+        float t29 = 0.30901699437494745f * t5;
+        float t30 = x4 + t29;
+        float t31 = 0.8090169943749473f * t4;
+        float t32 = t30 - t31;
+        float t33 = x5 + x13;
+        float t34 = 0.9510565162951535f * t33;
+        float t35 = 0.5877852522924732f * x13;
+        float t36 = t34 + t35;
+        float t37 = t32 - t36;
+        float t38 = 0.8090169943749475f * t37;
+        float t39 = x13 - x5;
+        float t40 = 0.30901699437494745f * t39;
+        float t41 = x5 + t40;
+        float t42 = 0.8090169943749473f * x13;
+        float t43 = t41 + t42;
+        float t44 = x12 - x4;
+        float t45 = 0.9510565162951535f * t44;
+        float t46 = x1 - x12;
+        float t47 = 0.5877852522924732f * t46;
+        float t48 = t45 + t47;
+        float t49 = t43 + t48;
+        float t50 = 0.5877852522924731f * t49;
+        float t51 = t38 - t50;
+        float t52 = t28 + t51;
+        float t53 = 0.30901699437494745f * t10;
+        float t54 = x2 + t53;
+        float t55 = 0.8090169943749473f * t9;
+        float t56 = t54 - t55;
+        float t57 = x7 + x11;
+        float t58 = 0.9510565162951535f * t57;
+        float t59 = x15 + x19;
+        float t60 = 0.5877852522924732f * t59;
+        float t61 = t58 + t60;
+        float t62 = t56 - t61;
+        float t63 = 0.9510565162951535f * t62;
+        float t64 = x11 - x7;
+        float t65 = 0.30901699437494745f * t64;
+        float t66 = x3 + t65;
+        float t67 = x19 - x15;
+        float t68 = 0.8090169943749473f * t67;
+        float t69 = t66 - t68;
+        float t70 = x10 - x6;
+        float t71 = 0.9510565162951535f * t70;
+        float t72 = x18 - x14;
+        float t73 = 0.5877852522924732f * t72;
+        float t74 = t71 + t73;
+        float t75 = t69 + t74;
+        float t76 = 0.3090169943749474f * t75;
+        float t77 = t63 - t76;
+        float t78 = 0.30901699437494745f * t14;
+        float t79 = x6 + t78;
+        float t80 = 0.8090169943749473f * t13;
+        float t81 = t79 - t80;
+        float t82 = x3 + x15;
+        float t83 = 0.9510565162951535f * t82;
+        float t84 = x11 - x19;
+        float t85 = 0.5877852522924732f * t84;
+        float t86 = t83 + t85;
+        float t87 = t81 - t86;
+        float t88 = 0.5877852522924731f * t87;
+        float t89 = x15 - x3;
+        float t90 = 0.30901699437494745f * t89;
+        float t91 = x7 + t90;
+        float t92 = x11 + x19;
+        float t93 = 0.8090169943749473f * t92;
+        float t94 = t91 + t93;
+        float t95 = x14 - x2;
+        float t96 = 0.9510565162951535f * t95;
+        float t97 = x18 - x10;
+        float t98 = 0.5877852522924732f * t97;
+        float t99 = t96 + t98;
+        float t100 = t94 + t99;
+        float t101 = 0.8090169943749475f * t100;
+        float t102 = t88 - t101;
+        float t103 = t77 + t102;
+        float t104 = t52 + t103;
+        float t105 = 0.8090169943749473f * t1;
+        float t106 = x0 - t105;
+        float t107 = 0.30901699437494723f * t0;
+        float t108 = t106 + t107;
+        float t109 = 0.5877852522924732f * t23;
+        float t110 = 0.9510565162951536f * t25;
+        float t111 = t109 - t110;
+        float t112 = t108 - t111;
+        float t113 = 0.8090169943749473f * t5;
+        float t114 = x4 - t113;
+        float t115 = 0.30901699437494723f * t4;
+        float t116 = t114 + t115;
+        float t117 = 0.5877852522924732f * t33;
+        float t118 = 0.9510565162951536f * x13;
+        float t119 = t117 - t118;
+        float t120 = t116 - t119;
+        float t121 = 0.30901699437494745f * t120;
+        float t122 = 0.8090169943749473f * t39;
+        float t123 = x5 - t122;
+        float t124 = 0.30901699437494723f * x13;
+        float t125 = t123 - t124;
+        float t126 = 0.5877852522924732f * t44;
+        float t127 = 0.9510565162951536f * t46;
+        float t128 = t126 - t127;
+        float t129 = t125 + t128;
+        float t130 = 0.9510565162951535f * t129;
+        float t131 = t121 - t130;
+        float t132 = t112 + t131;
+        float t133 = 0.8090169943749473f * t10;
+        float t134 = x2 - t133;
+        float t135 = 0.30901699437494723f * t9;
+        float t136 = t134 + t135;
+        float t137 = 0.5877852522924732f * t57;
+        float t138 = 0.9510565162951536f * t59;
+        float t139 = t137 - t138;
+        float t140 = t136 - t139;
+        float t141 = 0.8090169943749475f * t140;
+        float t142 = 0.8090169943749473f * t64;
+        float t143 = x3 - t142;
+        float t144 = 0.30901699437494723f * t67;
+        float t145 = t143 + t144;
+        float t146 = 0.5877852522924732f * t70;
+        float t147 = 0.9510565162951536f * t72;
+        float t148 = t146 - t147;
+        float t149 = t145 + t148;
+        float t150 = 0.5877852522924731f * t149;
+        float t151 = t141 - t150;
+        float t152 = 0.8090169943749473f * t14;
+        float t153 = x6 - t152;
+        float t154 = 0.30901699437494723f * t13;
+        float t155 = t153 + t154;
+        float t156 = 0.5877852522924732f * t82;
+        float t157 = 0.9510565162951536f * t84;
+        float t158 = t156 - t157;
+        float t159 = t155 - t158;
+        float t160 = 0.30901699437494734f * t159;
+        float t161 = 0.8090169943749473f * t89;
+        float t162 = x7 - t161;
+        float t163 = 0.30901699437494723f * t92;
+        float t164 = t162 - t163;
+        float t165 = 0.5877852522924732f * t95;
+        float t166 = 0.9510565162951536f * t97;
+        float t167 = t165 - t166;
+        float t168 = t164 + t167;
+        float t169 = 0.9510565162951536f * t168;
+        float t170 = t160 + t169;
+        float t171 = t151 - t170;
+        float t172 = t132 + t171;
+        float t173 = t108 + t111;
+        float t174 = t116 + t119;
+        float t175 = 0.30901699437494734f * t174;
+        float t176 = t125 - t128;
+        float t177 = 0.9510565162951536f * t176;
+        float t178 = t175 + t177;
+        float t179 = t173 - t178;
+        float t180 = t136 + t139;
+        float t181 = 0.5877852522924731f * t180;
+        float t182 = t145 - t148;
+        float t183 = 0.8090169943749475f * t182;
+        float t184 = t181 - t183;
+        float t185 = t155 + t158;
+        float t186 = 0.9510565162951535f * t185;
+        float t187 = t164 - t167;
+        float t188 = 0.3090169943749475f * t187;
+        float t189 = t186 + t188;
+        float t190 = t184 - t189;
+        float t191 = t179 + t190;
+        float t192 = t22 + t27;
+        float t193 = t32 + t36;
+        float t194 = 0.8090169943749473f * t193;
+        float t195 = t43 - t48;
+        float t196 = 0.5877852522924732f * t195;
+        float t197 = t194 + t196;
+        float t198 = t192 - t197;
+        float t199 = t56 + t61;
+        float t200 = 0.30901699437494745f * t199;
+        float t201 = t69 - t74;
+        float t202 = 0.9510565162951535f * t201;
+        float t203 = t200 - t202;
+        float t204 = t94 - t99;
+        float t205 = 0.587785252292473f * t204;
+        float t206 = t81 + t86;
+        float t207 = 0.8090169943749476f * t206;
+        float t208 = t205 - t207;
+        float t209 = t203 + t208;
+        float t210 = t198 + t209;
+        float t211 = t3 - t7;
+        float t212 = x7 + t89;
+        float t213 = t212 - t92;
+        float t214 = x3 + t64;
+        float t215 = t67 + t214;
+        float t216 = t213 - t215;
+        float t217 = t211 + t216;
+        float t218 = t28 - t51;
+        float t219 = 0.5877852522924731f * t100;
+        float t220 = 0.8090169943749475f * t87;
+        float t221 = t219 + t220;
+        float t222 = 0.9510565162951535f * t75;
+        float t223 = 0.3090169943749474f * t62;
+        float t224 = t222 + t223;
+        float t225 = t221 - t224;
+        float t226 = t218 + t225;
+        float t227 = t112 - t131;
+        float t228 = 0.9510565162951536f * t159;
+        float t229 = 0.30901699437494734f * t168;
+        float t230 = t228 - t229;
+        float t231 = 0.8090169943749475f * t149;
+        float t232 = 0.5877852522924731f * t140;
+        float t233 = t231 + t232;
+        float t234 = t230 - t233;
+        float t235 = t227 + t234;
+        float t236 = t173 + t178;
+        float t237 = 0.3090169943749475f * t185;
+        float t238 = 0.9510565162951535f * t187;
+        float t239 = t237 - t238;
+        float t240 = 0.5877852522924731f * t182;
+        float t241 = 0.8090169943749475f * t180;
+        float t242 = t240 + t241;
+        float t243 = t239 - t242;
+        float t244 = t236 + t243;
+        float t245 = t192 + t197;
+        float t246 = 0.30901699437494745f * t201;
+        float t247 = 0.9510565162951535f * t199;
+        float t248 = t246 + t247;
+        float t249 = 0.8090169943749476f * t204;
+        float t250 = 0.587785252292473f * t206;
+        float t251 = t249 + t250;
+        float t252 = t248 + t251;
+        float t253 = t245 - t252;
+        float t254 = t8 - t17;
+        float t255 = t52 - t103;
+        float t256 = t132 - t171;
+        float t257 = t179 - t190;
+        float t258 = t198 - t209;
+        float t259 = t211 - t216;
+        float t260 = t218 - t225;
+        float t261 = t227 - t234;
+        float t262 = t236 - t243;
+        float t263 = t245 + t252;
+        a[offa] = t18;
+        a[offa + 1] = t104;
+        a[offa + 2] = t172;
+        a[offa + 3] = t191;
+        a[offa + 4] = t210;
+        a[offa + 5] = t217;
+        a[offa + 6] = t226;
+        a[offa + 7] = t235;
+        a[offa + 8] = t244;
+        a[offa + 9] = t253;
+        a[offa + 10] = t254;
+        a[offa + 11] = t255;
+        a[offa + 12] = t256;
+        a[offa + 13] = t257;
+        a[offa + 14] = t258;
+        a[offa + 15] = t259;
+        a[offa + 16] = t260;
+        a[offa + 17] = t261;
+        a[offa + 18] = t262;
+        a[offa + 19] = t263;
+    }
+
+    static void rb24(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float x13 = a[offa + 13];
+        float x14 = a[offa + 14];
+        float x15 = a[offa + 15];
+        float x16 = a[offa + 16];
+        float x17 = a[offa + 17];
+        float x18 = a[offa + 18];
+        float x19 = a[offa + 19];
+        float x20 = a[offa + 20];
+        float x21 = a[offa + 21];
+        float x22 = a[offa + 22];
+        float x23 = a[offa + 23];
+        float t0 = x16 + x16;
+        float t1 = x0 + t0;
+        float t2 = x1 + x8;
+        float t3 = x8 + t2;
+        float t4 = t1 + t3;
+        float t5 = x12 + x20;
+        float t6 = x4 + t5;
+        float t7 = x4 + x20;
+        float t8 = x12 + t7;
+        float t9 = t6 + t8;
+        float t10 = t4 + t9;
+        float t11 = x14 + x18;
+        float t12 = x2 + t11;
+        float t13 = x6 + x22;
+        float t14 = x10 + t13;
+        float t15 = t12 + t14;
+        float t16 = x10 + x22;
+        float t17 = x6 + t16;
+        float t18 = x2 + x18;
+        float t19 = x14 + t18;
+        float t20 = t17 + t19;
+        float t21 = t15 + t20;
+        float t22 = t10 + t21;
+        float t23 = 0.5f * t0;
+        float t24 = x0 - t23;
+        float t25 = x17 + x17;
+        float t26 = 0.8660254037844387f * t25;
+        float t27 = t24 - t26;
+        float t28 = 0.5f * t2;
+        float t29 = x8 - t28;
+        float t30 = 0.8660254037844387f * x9;
+        float t31 = t29 - t30;
+        float t32 = 0.5f * t31;
+        float t33 = 0.5f * x9;
+        float t34 = x9 + t33;
+        float t35 = x1 - x8;
+        float t36 = 0.8660254037844387f * t35;
+        float t37 = t34 + t36;
+        float t38 = 0.8660254037844386f * t37;
+        float t39 = t32 - t38;
+        float t40 = t27 + t39;
+        float t41 = 0.5f * t5;
+        float t42 = x4 - t41;
+        float t43 = x13 + x21;
+        float t44 = 0.8660254037844387f * t43;
+        float t45 = t42 - t44;
+        float t46 = 0.5f * t7;
+        float t47 = x12 - t46;
+        float t48 = x5 - x21;
+        float t49 = 0.8660254037844387f * t48;
+        float t50 = t47 - t49;
+        float t51 = 0.5f * t50;
+        float t52 = x5 + x21;
+        float t53 = 0.5f * t52;
+        float t54 = x13 + t53;
+        float t55 = x20 - x4;
+        float t56 = 0.8660254037844387f * t55;
+        float t57 = t54 + t56;
+        float t58 = 0.8660254037844386f * t57;
+        float t59 = t51 - t58;
+        float t60 = t45 + t59;
+        float t61 = 0.8660254037844387f * t60;
+        float t62 = x21 - x13;
+        float t63 = 0.5f * t62;
+        float t64 = x5 - t63;
+        float t65 = x20 - x12;
+        float t66 = 0.8660254037844387f * t65;
+        float t67 = t64 + t66;
+        float t68 = 0.5f * t57;
+        float t69 = 0.8660254037844386f * t50;
+        float t70 = t68 + t69;
+        float t71 = t67 + t70;
+        float t72 = 0.5f * t71;
+        float t73 = t61 - t72;
+        float t74 = t40 + t73;
+        float t75 = 0.5f * t11;
+        float t76 = x2 - t75;
+        float t77 = x15 + x19;
+        float t78 = 0.8660254037844387f * t77;
+        float t79 = t76 - t78;
+        float t80 = 0.5f * t13;
+        float t81 = x10 - t80;
+        float t82 = x7 - x23;
+        float t83 = 0.8660254037844387f * t82;
+        float t84 = t81 - t83;
+        float t85 = 0.5f * t84;
+        float t86 = x7 + x23;
+        float t87 = 0.5f * t86;
+        float t88 = x11 + t87;
+        float t89 = x22 - x6;
+        float t90 = 0.8660254037844387f * t89;
+        float t91 = t88 + t90;
+        float t92 = 0.8660254037844386f * t91;
+        float t93 = t85 - t92;
+        float t94 = t79 + t93;
+        float t95 = 0.9659258262890683f * t94;
+        float t96 = x19 - x15;
+        float t97 = 0.5f * t96;
+        float t98 = x3 - t97;
+        float t99 = x18 - x14;
+        float t100 = 0.8660254037844387f * t99;
+        float t101 = t98 + t100;
+        float t102 = 0.5f * t91;
+        float t103 = 0.8660254037844386f * t84;
+        float t104 = t102 + t103;
+        float t105 = t101 + t104;
+        float t106 = 0.25881904510252074f * t105;
+        float t107 = t95 - t106;
+        float t108 = 0.5f * t16;
+        float t109 = x6 - t108;
+        float t110 = x11 + x23;
+        float t111 = 0.8660254037844387f * t110;
+        float t112 = t109 - t111;
+        float t113 = 0.5f * t18;
+        float t114 = x14 - t113;
+        float t115 = x3 - x19;
+        float t116 = 0.8660254037844387f * t115;
+        float t117 = t114 - t116;
+        float t118 = 0.5f * t117;
+        float t119 = x3 + x19;
+        float t120 = 0.5f * t119;
+        float t121 = x15 + t120;
+        float t122 = x18 - x2;
+        float t123 = 0.8660254037844387f * t122;
+        float t124 = t121 + t123;
+        float t125 = 0.8660254037844386f * t124;
+        float t126 = t118 - t125;
+        float t127 = t112 + t126;
+        float t128 = x23 - x11;
+        float t129 = 0.5f * t128;
+        float t130 = x7 - t129;
+        float t131 = x22 - x10;
+        float t132 = 0.8660254037844387f * t131;
+        float t133 = t130 + t132;
+        float t134 = 0.5f * t124;
+        float t135 = 0.8660254037844386f * t117;
+        float t136 = t134 + t135;
+        float t137 = t133 + t136;
+        float t138 = t127 - t137;
+        float t139 = 0.7071067811865476f * t138;
+        float t140 = t107 + t139;
+        float t141 = t74 + t140;
+        float t142 = t24 + t26;
+        float t143 = t29 + t30;
+        float t144 = 0.5f * t143;
+        float t145 = t34 - t36;
+        float t146 = 0.8660254037844387f * t145;
+        float t147 = t144 + t146;
+        float t148 = t142 - t147;
+        float t149 = t42 + t44;
+        float t150 = t47 + t49;
+        float t151 = 0.5f * t150;
+        float t152 = t54 - t56;
+        float t153 = 0.8660254037844387f * t152;
+        float t154 = t151 + t153;
+        float t155 = t149 - t154;
+        float t156 = 0.5f * t155;
+        float t157 = t64 - t66;
+        float t158 = 0.8660254037844387f * t150;
+        float t159 = 0.5f * t152;
+        float t160 = t158 - t159;
+        float t161 = t157 + t160;
+        float t162 = 0.8660254037844386f * t161;
+        float t163 = t156 - t162;
+        float t164 = t148 + t163;
+        float t165 = t76 + t78;
+        float t166 = t81 + t83;
+        float t167 = 0.5f * t166;
+        float t168 = t88 - t90;
+        float t169 = 0.8660254037844387f * t168;
+        float t170 = t167 + t169;
+        float t171 = t165 - t170;
+        float t172 = 0.8660254037844387f * t171;
+        float t173 = t98 - t100;
+        float t174 = 0.8660254037844387f * t166;
+        float t175 = 0.5f * t168;
+        float t176 = t174 - t175;
+        float t177 = t173 + t176;
+        float t178 = 0.5f * t177;
+        float t179 = t172 - t178;
+        float t180 = t130 - t132;
+        float t181 = t114 + t116;
+        float t182 = 0.8660254037844387f * t181;
+        float t183 = t121 - t123;
+        float t184 = 0.5f * t183;
+        float t185 = t182 - t184;
+        float t186 = t180 + t185;
+        float t187 = t179 - t186;
+        float t188 = t164 + t187;
+        float t189 = t1 - t3;
+        float t190 = x13 - t52;
+        float t191 = x5 + t62;
+        float t192 = t190 - t191;
+        float t193 = t189 + t192;
+        float t194 = t12 - t14;
+        float t195 = x3 + t96;
+        float t196 = x11 - t86;
+        float t197 = t195 - t196;
+        float t198 = t194 - t197;
+        float t199 = 0.7071067811865476f * t198;
+        float t200 = t17 - t19;
+        float t201 = x7 + t128;
+        float t202 = x15 - t119;
+        float t203 = t201 - t202;
+        float t204 = t200 + t203;
+        float t205 = 0.7071067811865476f * t204;
+        float t206 = t199 - t205;
+        float t207 = t193 + t206;
+        float t208 = t27 - t39;
+        float t209 = t45 - t59;
+        float t210 = 0.5f * t209;
+        float t211 = t67 - t70;
+        float t212 = 0.8660254037844387f * t211;
+        float t213 = t210 + t212;
+        float t214 = t208 - t213;
+        float t215 = t79 - t93;
+        float t216 = 0.5f * t215;
+        float t217 = t101 - t104;
+        float t218 = 0.8660254037844386f * t217;
+        float t219 = t216 - t218;
+        float t220 = t126 - t112;
+        float t221 = t219 + t220;
+        float t222 = t214 + t221;
+        float t223 = t142 + t147;
+        float t224 = t149 + t154;
+        float t225 = 0.8660254037844387f * t224;
+        float t226 = t157 - t160;
+        float t227 = 0.5f * t226;
+        float t228 = t225 + t227;
+        float t229 = t223 - t228;
+        float t230 = t165 + t170;
+        float t231 = 0.25881904510252074f * t230;
+        float t232 = t173 - t176;
+        float t233 = 0.9659258262890683f * t232;
+        float t234 = t231 - t233;
+        float t235 = t109 + t111;
+        float t236 = 0.5f * t181;
+        float t237 = 0.8660254037844387f * t183;
+        float t238 = t236 + t237;
+        float t239 = t235 + t238;
+        float t240 = t180 - t185;
+        float t241 = t239 - t240;
+        float t242 = 0.7071067811865476f * t241;
+        float t243 = t234 - t242;
+        float t244 = t229 + t243;
+        float t245 = t4 - t9;
+        float t246 = t201 + t202;
+        float t247 = t195 + t196;
+        float t248 = t246 - t247;
+        float t249 = t245 + t248;
+        float t250 = t40 - t73;
+        float t251 = t127 + t137;
+        float t252 = 0.7071067811865476f * t251;
+        float t253 = 0.9659258262890683f * t105;
+        float t254 = 0.25881904510252074f * t94;
+        float t255 = t253 + t254;
+        float t256 = t252 - t255;
+        float t257 = t250 + t256;
+        float t258 = t148 - t163;
+        float t259 = t235 - t238;
+        float t260 = 0.8660254037844387f * t177;
+        float t261 = 0.5f * t171;
+        float t262 = t260 + t261;
+        float t263 = t259 - t262;
+        float t264 = t258 + t263;
+        float t265 = t189 - t192;
+        float t266 = t194 + t197;
+        float t267 = 0.7071067811865476f * t266;
+        float t268 = t203 - t200;
+        float t269 = 0.7071067811865476f * t268;
+        float t270 = t267 + t269;
+        float t271 = t265 - t270;
+        float t272 = t208 + t213;
+        float t273 = t136 - t133;
+        float t274 = 0.5f * t217;
+        float t275 = 0.8660254037844386f * t215;
+        float t276 = t274 + t275;
+        float t277 = t273 - t276;
+        float t278 = t272 + t277;
+        float t279 = t223 + t228;
+        float t280 = 0.25881904510252074f * t232;
+        float t281 = 0.9659258262890683f * t230;
+        float t282 = t280 + t281;
+        float t283 = t239 + t240;
+        float t284 = 0.7071067811865476f * t283;
+        float t285 = t282 + t284;
+        float t286 = t279 - t285;
+        float t287 = t10 - t21;
+        float t288 = t74 - t140;
+        float t289 = t164 - t187;
+        float t290 = t193 - t206;
+        float t291 = t214 - t221;
+        float t292 = t229 - t243;
+        float t293 = t245 - t248;
+        float t294 = t250 - t256;
+        float t295 = t258 - t263;
+        float t296 = t265 + t270;
+        float t297 = t272 - t277;
+        float t298 = t279 + t285;
+        a[offa] = t22;
+        a[offa + 1] = t141;
+        a[offa + 2] = t188;
+        a[offa + 3] = t207;
+        a[offa + 4] = t222;
+        a[offa + 5] = t244;
+        a[offa + 6] = t249;
+        a[offa + 7] = t257;
+        a[offa + 8] = t264;
+        a[offa + 9] = t271;
+        a[offa + 10] = t278;
+        a[offa + 11] = t286;
+        a[offa + 12] = t287;
+        a[offa + 13] = t288;
+        a[offa + 14] = t289;
+        a[offa + 15] = t290;
+        a[offa + 16] = t291;
+        a[offa + 17] = t292;
+        a[offa + 18] = t293;
+        a[offa + 19] = t294;
+        a[offa + 20] = t295;
+        a[offa + 21] = t296;
+        a[offa + 22] = t297;
+        a[offa + 23] = t298;
+    }
+
+    static void rb32(float[] a, int offa) {
+        float x0 = a[offa];
+        float x1 = a[offa + 1];
+        float x2 = a[offa + 2];
+        float x3 = a[offa + 3];
+        float x4 = a[offa + 4];
+        float x5 = a[offa + 5];
+        float x6 = a[offa + 6];
+        float x7 = a[offa + 7];
+        float x8 = a[offa + 8];
+        float x9 = a[offa + 9];
+        float x10 = a[offa + 10];
+        float x11 = a[offa + 11];
+        float x12 = a[offa + 12];
+        float x13 = a[offa + 13];
+        float x14 = a[offa + 14];
+        float x15 = a[offa + 15];
+        float x16 = a[offa + 16];
+        float x17 = a[offa + 17];
+        float x18 = a[offa + 18];
+        float x19 = a[offa + 19];
+        float x20 = a[offa + 20];
+        float x21 = a[offa + 21];
+        float x22 = a[offa + 22];
+        float x23 = a[offa + 23];
+        float x24 = a[offa + 24];
+        float x25 = a[offa + 25];
+        float x26 = a[offa + 26];
+        float x27 = a[offa + 27];
+        float x28 = a[offa + 28];
+        float x29 = a[offa + 29];
+        float x30 = a[offa + 30];
+        float x31 = a[offa + 31];
+        float t0 = x0 + x1;
+        float t1 = x16 + x16;
+        float t2 = t0 + t1;
+        float t3 = x8 + x24;
+        float t4 = t3 + t3;
+        float t5 = t2 + t4;
+        float t6 = x4 + x28;
+        float t7 = x12 + x20;
+        float t8 = t6 + t7;
+        float t9 = t8 + t8;
+        float t10 = t5 + t9;
+        float t11 = x2 + x30;
+        float t12 = x14 + x18;
+        float t13 = t11 + t12;
+        float t14 = x10 + x22;
+        float t15 = x6 + x26;
+        float t16 = t14 + t15;
+        float t17 = t13 + t16;
+        float t18 = t17 + t17;
+        float t19 = t10 + t18;
+        float t20 = x0 - x1;
+        float t21 = x17 + x17;
+        float t22 = t20 - t21;
+        float t23 = x8 - x24;
+        float t24 = x9 + x25;
+        float t25 = t23 - t24;
+        float t26 = x24 - x8;
+        float t27 = t24 + t26;
+        float t28 = t25 - t27;
+        float t29 = 0.7071067811865476f * t28;
+        float t30 = t22 + t29;
+        float t31 = x4 - x28;
+        float t32 = x13 + x21;
+        float t33 = t31 - t32;
+        float t34 = x12 - x20;
+        float t35 = x5 + x29;
+        float t36 = t34 - t35;
+        float t37 = x28 - x4;
+        float t38 = t32 + t37;
+        float t39 = t36 - t38;
+        float t40 = 0.7071067811865476f * t39;
+        float t41 = t33 + t40;
+        float t42 = 0.9238795325112867f * t41;
+        float t43 = x20 - x12;
+        float t44 = t35 + t43;
+        float t45 = t36 + t38;
+        float t46 = 0.7071067811865476f * t45;
+        float t47 = t44 + t46;
+        float t48 = 0.3826834323650898f * t47;
+        float t49 = t42 - t48;
+        float t50 = t30 + t49;
+        float t51 = x2 - x30;
+        float t52 = x15 + x19;
+        float t53 = t51 - t52;
+        float t54 = x10 - x22;
+        float t55 = x7 + x27;
+        float t56 = t54 - t55;
+        float t57 = x11 + x23;
+        float t58 = x26 - x6;
+        float t59 = t57 + t58;
+        float t60 = t56 - t59;
+        float t61 = 0.7071067811865476f * t60;
+        float t62 = t53 + t61;
+        float t63 = 0.9807852804032304f * t62;
+        float t64 = x3 + x31;
+        float t65 = x18 - x14;
+        float t66 = t64 + t65;
+        float t67 = t56 + t59;
+        float t68 = 0.7071067811865476f * t67;
+        float t69 = t66 + t68;
+        float t70 = 0.19509032201612825f * t69;
+        float t71 = t63 - t70;
+        float t72 = x6 - x26;
+        float t73 = t72 - t57;
+        float t74 = x14 - x18;
+        float t75 = t74 - t64;
+        float t76 = x30 - x2;
+        float t77 = t52 + t76;
+        float t78 = t75 - t77;
+        float t79 = 0.7071067811865476f * t78;
+        float t80 = t73 + t79;
+        float t81 = 0.8314696123025452f * t80;
+        float t82 = x22 - x10;
+        float t83 = t55 + t82;
+        float t84 = t75 + t77;
+        float t85 = 0.7071067811865476f * t84;
+        float t86 = t83 + t85;
+        float t87 = 0.5555702330196022f * t86;
+        float t88 = t81 - t87;
+        float t89 = t71 + t88;
+        float t90 = t50 + t89;
+        float t91 = t0 - t1;
+        float t92 = x25 - x9;
+        float t93 = x9 - x25;
+        float t94 = t92 - t93;
+        float t95 = t91 + t94;
+        float t96 = t6 - t7;
+        float t97 = x29 - x5;
+        float t98 = x13 - x21;
+        float t99 = t97 - t98;
+        float t100 = t96 + t99;
+        float t101 = x5 - x29;
+        float t102 = x21 - x13;
+        float t103 = t101 - t102;
+        float t104 = t7 - t6;
+        float t105 = t103 + t104;
+        float t106 = t100 - t105;
+        float t107 = 0.7071067811865476f * t106;
+        float t108 = t95 + t107;
+        float t109 = t11 - t12;
+        float t110 = x27 - x7;
+        float t111 = x11 - x23;
+        float t112 = t110 - t111;
+        float t113 = t109 + t112;
+        float t114 = 0.9238795325112867f * t113;
+        float t115 = x3 - x31;
+        float t116 = x19 - x15;
+        float t117 = t115 - t116;
+        float t118 = t14 - t15;
+        float t119 = t117 + t118;
+        float t120 = 0.3826834323650898f * t119;
+        float t121 = t114 - t120;
+        float t122 = t15 - t14;
+        float t123 = x31 - x3;
+        float t124 = x15 - x19;
+        float t125 = t123 - t124;
+        float t126 = t122 + t125;
+        float t127 = 0.38268343236508984f * t126;
+        float t128 = x7 - x27;
+        float t129 = x23 - x11;
+        float t130 = t128 - t129;
+        float t131 = t12 - t11;
+        float t132 = t130 + t131;
+        float t133 = 0.9238795325112867f * t132;
+        float t134 = t127 - t133;
+        float t135 = t121 + t134;
+        float t136 = t108 + t135;
+        float t137 = t20 + t21;
+        float t138 = t23 + t24;
+        float t139 = t24 - t26;
+        float t140 = t138 + t139;
+        float t141 = 0.7071067811865476f * t140;
+        float t142 = t137 - t141;
+        float t143 = t31 + t32;
+        float t144 = t35 + t34;
+        float t145 = t32 - t37;
+        float t146 = t144 + t145;
+        float t147 = 0.7071067811865476f * t146;
+        float t148 = t143 - t147;
+        float t149 = 0.38268343236508984f * t148;
+        float t150 = t35 - t43;
+        float t151 = t145 - t144;
+        float t152 = 0.7071067811865476f * t151;
+        float t153 = t150 - t152;
+        float t154 = 0.9238795325112867f * t153;
+        float t155 = t149 - t154;
+        float t156 = t142 + t155;
+        float t157 = t51 + t52;
+        float t158 = t54 + t55;
+        float t159 = t57 - t58;
+        float t160 = t158 + t159;
+        float t161 = 0.7071067811865476f * t160;
+        float t162 = t157 - t161;
+        float t163 = 0.8314696123025452f * t162;
+        float t164 = t64 - t65;
+        float t165 = t159 - t158;
+        float t166 = 0.7071067811865476f * t165;
+        float t167 = t164 - t166;
+        float t168 = 0.5555702330196022f * t167;
+        float t169 = t163 - t168;
+        float t170 = t57 + t72;
+        float t171 = t64 + t74;
+        float t172 = t52 - t76;
+        float t173 = t171 + t172;
+        float t174 = 0.7071067811865476f * t173;
+        float t175 = t170 - t174;
+        float t176 = 0.1950903220161282f * t175;
+        float t177 = t55 - t82;
+        float t178 = t172 - t171;
+        float t179 = 0.7071067811865476f * t178;
+        float t180 = t177 - t179;
+        float t181 = 0.9807852804032304f * t180;
+        float t182 = t176 + t181;
+        float t183 = t169 - t182;
+        float t184 = t156 + t183;
+        float t185 = t2 - t4;
+        float t186 = t98 + t97;
+        float t187 = t101 + t102;
+        float t188 = t186 - t187;
+        float t189 = t185 + t188;
+        float t190 = t13 - t16;
+        float t191 = t115 + t116;
+        float t192 = t111 + t110;
+        float t193 = t191 - t192;
+        float t194 = t190 - t193;
+        float t195 = 0.7071067811865476f * t194;
+        float t196 = t16 - t13;
+        float t197 = t128 + t129;
+        float t198 = t124 + t123;
+        float t199 = t197 - t198;
+        float t200 = t196 + t199;
+        float t201 = 0.7071067811865476f * t200;
+        float t202 = t195 - t201;
+        float t203 = t189 + t202;
+        float t204 = t22 - t29;
+        float t205 = t33 - t40;
+        float t206 = 0.3826834323650897f * t205;
+        float t207 = t44 - t46;
+        float t208 = 0.9238795325112867f * t207;
+        float t209 = t206 + t208;
+        float t210 = t204 - t209;
+        float t211 = t53 - t61;
+        float t212 = 0.5555702330196023f * t211;
+        float t213 = t66 - t68;
+        float t214 = 0.8314696123025452f * t213;
+        float t215 = t212 - t214;
+        float t216 = t73 - t79;
+        float t217 = 0.9807852804032304f * t216;
+        float t218 = t83 - t85;
+        float t219 = 0.1950903220161286f * t218;
+        float t220 = t217 + t219;
+        float t221 = t215 - t220;
+        float t222 = t210 + t221;
+        float t223 = t91 - t94;
+        float t224 = t96 - t99;
+        float t225 = t103 - t104;
+        float t226 = t224 + t225;
+        float t227 = 0.7071067811865476f * t226;
+        float t228 = t223 - t227;
+        float t229 = t109 - t112;
+        float t230 = 0.38268343236508984f * t229;
+        float t231 = t117 - t118;
+        float t232 = 0.9238795325112867f * t231;
+        float t233 = t230 - t232;
+        float t234 = t130 - t131;
+        float t235 = 0.38268343236508967f * t234;
+        float t236 = t122 - t125;
+        float t237 = 0.9238795325112868f * t236;
+        float t238 = t235 - t237;
+        float t239 = t233 + t238;
+        float t240 = t228 + t239;
+        float t241 = t137 + t141;
+        float t242 = t143 + t147;
+        float t243 = 0.9238795325112867f * t242;
+        float t244 = t150 + t152;
+        float t245 = 0.3826834323650899f * t244;
+        float t246 = t243 + t245;
+        float t247 = t241 - t246;
+        float t248 = t157 + t161;
+        float t249 = 0.19509032201612833f * t248;
+        float t250 = t164 + t166;
+        float t251 = 0.9807852804032304f * t250;
+        float t252 = t249 - t251;
+        float t253 = t177 + t179;
+        float t254 = 0.8314696123025452f * t253;
+        float t255 = t170 + t174;
+        float t256 = 0.5555702330196022f * t255;
+        float t257 = t254 - t256;
+        float t258 = t252 + t257;
+        float t259 = t247 + t258;
+        float t260 = t5 - t9;
+        float t261 = t197 + t198;
+        float t262 = t191 + t192;
+        float t263 = t261 - t262;
+        float t264 = t260 + t263;
+        float t265 = t30 - t49;
+        float t266 = 0.8314696123025452f * t86;
+        float t267 = 0.5555702330196022f * t80;
+        float t268 = t266 + t267;
+        float t269 = 0.9807852804032304f * t69;
+        float t270 = 0.19509032201612825f * t62;
+        float t271 = t269 + t270;
+        float t272 = t268 - t271;
+        float t273 = t265 + t272;
+        float t274 = t95 - t107;
+        float t275 = 0.38268343236508984f * t132;
+        float t276 = 0.9238795325112867f * t126;
+        float t277 = t275 + t276;
+        float t278 = 0.9238795325112867f * t119;
+        float t279 = 0.3826834323650898f * t113;
+        float t280 = t278 + t279;
+        float t281 = t277 - t280;
+        float t282 = t274 + t281;
+        float t283 = t142 - t155;
+        float t284 = 0.9807852804032304f * t175;
+        float t285 = 0.1950903220161282f * t180;
+        float t286 = t284 - t285;
+        float t287 = 0.8314696123025452f * t167;
+        float t288 = 0.5555702330196022f * t162;
+        float t289 = t287 + t288;
+        float t290 = t286 - t289;
+        float t291 = t283 + t290;
+        float t292 = t185 - t188;
+        float t293 = t190 + t193;
+        float t294 = 0.7071067811865476f * t293;
+        float t295 = t199 - t196;
+        float t296 = 0.7071067811865476f * t295;
+        float t297 = t294 + t296;
+        float t298 = t292 - t297;
+        float t299 = t204 + t209;
+        float t300 = 0.1950903220161286f * t216;
+        float t301 = 0.9807852804032304f * t218;
+        float t302 = t300 - t301;
+        float t303 = 0.5555702330196023f * t213;
+        float t304 = 0.8314696123025452f * t211;
+        float t305 = t303 + t304;
+        float t306 = t302 - t305;
+        float t307 = t299 + t306;
+        float t308 = t223 + t227;
+        float t309 = 0.38268343236508984f * t231;
+        float t310 = 0.9238795325112867f * t229;
+        float t311 = t309 + t310;
+        float t312 = 0.9238795325112868f * t234;
+        float t313 = 0.38268343236508967f * t236;
+        float t314 = t312 + t313;
+        float t315 = t311 + t314;
+        float t316 = t308 - t315;
+        float t317 = t241 + t246;
+        float t318 = 0.19509032201612833f * t250;
+        float t319 = 0.9807852804032304f * t248;
+        float t320 = t318 + t319;
+        float t321 = 0.5555702330196022f * t253;
+        float t322 = 0.8314696123025452f * t255;
+        float t323 = t321 + t322;
+        float t324 = t320 + t323;
+        float t325 = t317 - t324;
+        float t326 = t10 - t18;
+        float t327 = t50 - t89;
+        float t328 = t108 - t135;
+        float t329 = t156 - t183;
+        float t330 = t189 - t202;
+        float t331 = t210 - t221;
+        float t332 = t228 - t239;
+        float t333 = t247 - t258;
+        float t334 = t260 - t263;
+        float t335 = t265 - t272;
+        float t336 = t274 - t281;
+        float t337 = t283 - t290;
+        float t338 = t292 + t297;
+        float t339 = t299 - t306;
+        float t340 = t308 + t315;
+        float t341 = t317 + t324;
+        a[offa] = t19;
+        a[offa + 1] = t90;
+        a[offa + 2] = t136;
+        a[offa + 3] = t184;
+        a[offa + 4] = t203;
+        a[offa + 5] = t222;
+        a[offa + 6] = t240;
+        a[offa + 7] = t259;
+        a[offa + 8] = t264;
+        a[offa + 9] = t273;
+        a[offa + 10] = t282;
+        a[offa + 11] = t291;
+        a[offa + 12] = t298;
+        a[offa + 13] = t307;
+        a[offa + 14] = t316;
+        a[offa + 15] = t325;
+        a[offa + 16] = t326;
+        a[offa + 17] = t327;
+        a[offa + 18] = t328;
+        a[offa + 19] = t329;
+        a[offa + 20] = t330;
+        a[offa + 21] = t331;
+        a[offa + 22] = t332;
+        a[offa + 23] = t333;
+        a[offa + 24] = t334;
+        a[offa + 25] = t335;
+        a[offa + 26] = t336;
+        a[offa + 27] = t337;
+        a[offa + 28] = t338;
+        a[offa + 29] = t339;
+        a[offa + 30] = t340;
+        a[offa + 31] = t341;
+    }
+}
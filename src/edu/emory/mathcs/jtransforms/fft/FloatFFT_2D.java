@@ -34,9 +34,14 @@
 
 package edu.emory.mathcs.jtransforms.fft;
 
+import java.nio.FloatBuffer;
 import java.util.concurrent.Future;
 
+import edu.emory.mathcs.utils.BufferUtils;
+import edu.emory.mathcs.utils.ConcurrencyContext;
 import edu.emory.mathcs.utils.ConcurrencyUtils;
+import edu.emory.mathcs.utils.IndexRange;
+import edu.emory.mathcs.utils.TransposeUtils;
 
 /**
  * Computes 2D Discrete Fourier Transform (DFT) of complex and real, single
@@ -44,6 +49,9 @@ import edu.emory.mathcs.utils.ConcurrencyUtils;
  * is a parallel implementation of split-radix and mixed-radix algorithms
  * optimized for SMP systems. <br>
  * <br>
+ * Instances are thread-safe: a single instance can be used by concurrent
+ * callers. <br>
+ * <br>
  * Part of the code is derived from General Purpose FFT Package written by Takuya Ooura
  * (http://www.kurims.kyoto-u.ac.jp/~ooura/fft.html)
  * 
@@ -52,17 +60,15 @@ import edu.emory.mathcs.utils.ConcurrencyUtils;
  */
 public strictfp class FloatFFT_2D {
 
+    private static final int LARGE_BLOCK_SIZE = 1 << 16;
+
     private int rows;
 
     private int columns;
 
-    private float[] t;
-
     private FloatFFT_1D fftColumns, fftRows;
 
-    private int oldNthreads;
-
-    private int nt;
+    private ConcurrencyContext context;
 
     private boolean isPowerOfTwo = false;
 
@@ -77,6 +83,25 @@ public strictfp class FloatFFT_2D {
      *            number of columns
      */
     public FloatFFT_2D(int rows, int columns) {
+        this(rows, columns, ConcurrencyContext.getDefault());
+    }
+
+    /**
+     * Creates new instance of FloatFFT_2D that uses the executor and number of
+     * threads of the specified context.
+     * 
+     * @param rows
+     *            number of rows
+     * @param columns
+     *            number of columns
+     * @param context
+     *            executor and number of threads used by this transform
+     */
+    public FloatFFT_2D(int rows, int columns, ConcurrencyContext context) {
+        if (context == null) {
+            throw new IllegalArgumentException("context cannot be null");
+        }
+        this.context = context;
         if (rows <= 1 || columns <= 1) {
             throw new IllegalArgumentException("rows and columns must be greater than 1");
         }
@@ -87,20 +112,12 @@ public strictfp class FloatFFT_2D {
         }
         if (ConcurrencyUtils.isPowerOf2(rows) && ConcurrencyUtils.isPowerOf2(columns)) {
             isPowerOfTwo = true;
-            oldNthreads = ConcurrencyUtils.getNumberOfThreads();
-            nt = 8 * oldNthreads * rows;
-            if (2 * columns == 4 * oldNthreads) {
-                nt >>= 1;
-            } else if (2 * columns < 4 * oldNthreads) {
-                nt >>= 2;
-            }
-            t = new float[nt];
         }
-        fftRows = new FloatFFT_1D(rows);
+        fftRows = new FloatFFT_1D(rows, context);
         if (rows == columns) {
             fftColumns = fftRows;
         } else {
-            fftColumns = new FloatFFT_1D(columns);
+            fftColumns = new FloatFFT_1D(columns, context);
         }
     }
 
@@ -120,70 +137,40 @@ public strictfp class FloatFFT_2D {
      *            data to transform
      */
     public void complexForward(final float[] a) {
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
+        int nthreads = context.getNumberOfThreads();
         if (isPowerOfTwo) {
-            int oldn2 = columns;
-            columns = 2 * columns;
-            if (nthreads != oldNthreads) {
-                nt = 8 * nthreads * rows;
-                if (columns == 4 * nthreads) {
-                    nt >>= 1;
-                } else if (columns < 4 * nthreads) {
-                    nt >>= 2;
-                }
-                t = new float[nt];
-                oldNthreads = nthreads;
-            }
+            final int columns = 2 * this.columns;
             if ((nthreads > 1) && useThreads) {
-                xdft2d0_subth1(0, -1, a, true);
-                cdft2d_subth(-1, a, true);
+                xdft2d0_subth1(0, -1, a, true, columns);
+                cdft2d_subth(-1, a, true, columns);
             } else {
                 for (int r = 0; r < rows; r++) {
                     fftColumns.complexForward(a, r * columns);
                 }
-                cdft2d_sub(-1, a, true);
+                cdft2d_sub(-1, a, true, columns, new float[8 * rows], getColumnBlocks(columns, 1).cursor());
             }
-            columns = oldn2;
         } else {
             final int rowStride = 2 * columns;
-            if ((nthreads > 1) && useThreads && (rows >= nthreads) && (columns >= nthreads)) {
+            final int panels = (columns + FloatFFT_1D.PANEL_SIZE - 1) / FloatFFT_1D.PANEL_SIZE;
+            if ((nthreads > 1) && useThreads) {
                 Future<?>[] futures = new Future[nthreads];
-                int p = rows / nthreads;
+                final IndexRange rowRange = new IndexRange(0, rows, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstRow = l * p;
-                    final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            for (int r = firstRow; r < lastRow; r++) {
+                            IndexRange.Cursor cursor = rowRange.cursor();
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 fftColumns.complexForward(a, r * rowStride);
                             }
                         }
                     });
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
-                p = columns / nthreads;
+                final IndexRange panelRange = new IndexRange(0, panels, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstColumn = l * p;
-                    final int lastColumn = (l == (nthreads - 1)) ? columns : firstColumn + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            float[] temp = new float[2 * rows];
-                            for (int c = firstColumn; c < lastColumn; c++) {
-                                int idx0 = 2 * c;
-                                for (int r = 0; r < rows; r++) {
-                                    int idx1 = 2 * r;
-                                    int idx2 = r * rowStride + idx0;
-                                    temp[idx1] = a[idx2];
-                                    temp[idx1 + 1] = a[idx2 + 1];
-                                }
-                                fftRows.complexForward(temp);
-                                for (int r = 0; r < rows; r++) {
-                                    int idx1 = 2 * r;
-                                    int idx2 = r * rowStride + idx0;
-                                    a[idx2] = temp[idx1];
-                                    a[idx2 + 1] = temp[idx1 + 1];
-                                }
-                            }
+                            complexColumns(a, true, false, panelRange.cursor());
                         }
                     });
                 }
@@ -192,27 +179,32 @@ public strictfp class FloatFFT_2D {
                 for (int r = 0; r < rows; r++) {
                     fftColumns.complexForward(a, r * rowStride);
                 }
-                float[] temp = new float[2 * rows];
-                for (int c = 0; c < columns; c++) {
-                    int idx0 = 2 * c;
-                    for (int r = 0; r < rows; r++) {
-                        int idx1 = 2 * r;
-                        int idx2 = r * rowStride + idx0;
-                        temp[idx1] = a[idx2];
-                        temp[idx1 + 1] = a[idx2 + 1];
-                    }
-                    fftRows.complexForward(temp);
-                    for (int r = 0; r < rows; r++) {
-                        int idx1 = 2 * r;
-                        int idx2 = r * rowStride + idx0;
-                        a[idx2] = temp[idx1];
-                        a[idx2 + 1] = temp[idx1 + 1];
-                    }
-                }
+                complexColumns(a, true, false, new IndexRange(0, panels, 1).cursor());
             }
         }
     }
 
+    /**
+     * Computes 2D forward DFT of complex data leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #complexForward(float[])}; the position is not changed.
+     * Buffers without an accessible backing array (e.g. direct buffers) are
+     * transformed in place one block of rows and one block of columns at a
+     * time.
+     * 
+     * @param a
+     *            data to transform
+     */
+    public void complexForward(FloatBuffer a) {
+        if (!BufferUtils.hasBackingArray(a)) {
+            complexBuffer(a, true, false);
+            return;
+        }
+        float[] array = BufferUtils.getArray(a, 2L * rows * columns);
+        complexForward(array);
+        BufferUtils.putArray(a, array, 2L * rows * columns);
+    }
+
     /**
      * Computes 2D forward DFT of complex data leaving the result in
      * <code>a</code>. The data is stored in 2D array. Complex data is
@@ -229,67 +221,39 @@ public strictfp class FloatFFT_2D {
      *            data to transform
      */
     public void complexForward(final float[][] a) {
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
+        int nthreads = context.getNumberOfThreads();
         if (isPowerOfTwo) {
-            int oldn2 = columns;
-            columns = 2 * columns;
-            if (nthreads != oldNthreads) {
-                nt = 8 * nthreads * rows;
-                if (columns == 4 * nthreads) {
-                    nt >>= 1;
-                } else if (columns < 4 * nthreads) {
-                    nt >>= 2;
-                }
-                t = new float[nt];
-                oldNthreads = nthreads;
-            }
+            final int columns = 2 * this.columns;
             if ((nthreads > 1) && useThreads) {
                 xdft2d0_subth1(0, -1, a, true);
-                cdft2d_subth(-1, a, true);
+                cdft2d_subth(-1, a, true, columns);
             } else {
                 for (int r = 0; r < rows; r++) {
                     fftColumns.complexForward(a[r]);
                 }
-                cdft2d_sub(-1, a, true);
+                cdft2d_sub(-1, a, true, columns, new float[8 * rows], getColumnBlocks(columns, 1).cursor());
             }
-            columns = oldn2;
         } else {
-            if ((nthreads > 1) && useThreads && (rows >= nthreads) && (columns >= nthreads)) {
+            final int panels = (columns + FloatFFT_1D.PANEL_SIZE - 1) / FloatFFT_1D.PANEL_SIZE;
+            if ((nthreads > 1) && useThreads) {
                 Future<?>[] futures = new Future[nthreads];
-                int p = rows / nthreads;
+                final IndexRange rowRange = new IndexRange(0, rows, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstRow = l * p;
-                    final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            for (int r = firstRow; r < lastRow; r++) {
+                            IndexRange.Cursor cursor = rowRange.cursor();
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 fftColumns.complexForward(a[r]);
                             }
                         }
                     });
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
-                p = columns / nthreads;
+                final IndexRange panelRange = new IndexRange(0, panels, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstColumn = l * p;
-                    final int lastColumn = (l == (nthreads - 1)) ? columns : firstColumn + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            float[] temp = new float[2 * rows];
-                            for (int c = firstColumn; c < lastColumn; c++) {
-                                int idx1 = 2 * c;
-                                for (int r = 0; r < rows; r++) {
-                                    int idx2 = 2 * r;
-                                    temp[idx2] = a[r][idx1];
-                                    temp[idx2 + 1] = a[r][idx1 + 1];
-                                }
-                                fftRows.complexForward(temp);
-                                for (int r = 0; r < rows; r++) {
-                                    int idx2 = 2 * r;
-                                    a[r][idx1] = temp[idx2];
-                                    a[r][idx1 + 1] = temp[idx2 + 1];
-                                }
-                            }
+                            complexColumns(a, true, false, panelRange.cursor());
                         }
                     });
                 }
@@ -298,21 +262,7 @@ public strictfp class FloatFFT_2D {
                 for (int r = 0; r < rows; r++) {
                     fftColumns.complexForward(a[r]);
                 }
-                float[] temp = new float[2 * rows];
-                for (int c = 0; c < columns; c++) {
-                    int idx1 = 2 * c;
-                    for (int r = 0; r < rows; r++) {
-                        int idx2 = 2 * r;
-                        temp[idx2] = a[r][idx1];
-                        temp[idx2 + 1] = a[r][idx1 + 1];
-                    }
-                    fftRows.complexForward(temp);
-                    for (int r = 0; r < rows; r++) {
-                        int idx2 = 2 * r;
-                        a[r][idx1] = temp[idx2];
-                        a[r][idx1 + 1] = temp[idx2 + 1];
-                    }
-                }
+                complexColumns(a, true, false, new IndexRange(0, panels, 1).cursor());
             }
         }
     }
@@ -336,71 +286,41 @@ public strictfp class FloatFFT_2D {
      * 
      */
     public void complexInverse(final float[] a, final boolean scale) {
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
+        int nthreads = context.getNumberOfThreads();
         if (isPowerOfTwo) {
-            int oldn2 = columns;
-            columns = 2 * columns;
-            if (nthreads != oldNthreads) {
-                nt = 8 * nthreads * rows;
-                if (columns == 4 * nthreads) {
-                    nt >>= 1;
-                } else if (columns < 4 * nthreads) {
-                    nt >>= 2;
-                }
-                t = new float[nt];
-                oldNthreads = nthreads;
-            }
+            final int columns = 2 * this.columns;
             if ((nthreads > 1) && useThreads) {
-                xdft2d0_subth1(0, 1, a, scale);
-                cdft2d_subth(1, a, scale);
+                xdft2d0_subth1(0, 1, a, scale, columns);
+                cdft2d_subth(1, a, scale, columns);
             } else {
 
                 for (int r = 0; r < rows; r++) {
                     fftColumns.complexInverse(a, r * columns, scale);
                 }
-                cdft2d_sub(1, a, scale);
+                cdft2d_sub(1, a, scale, columns, new float[8 * rows], getColumnBlocks(columns, 1).cursor());
             }
-            columns = oldn2;
         } else {
             final int rowspan = 2 * columns;
-            if ((nthreads > 1) && useThreads && (rows >= nthreads) && (columns >= nthreads)) {
+            final int panels = (columns + FloatFFT_1D.PANEL_SIZE - 1) / FloatFFT_1D.PANEL_SIZE;
+            if ((nthreads > 1) && useThreads) {
                 Future<?>[] futures = new Future[nthreads];
-                int p = rows / nthreads;
+                final IndexRange rowRange = new IndexRange(0, rows, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstRow = l * p;
-                    final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            for (int r = firstRow; r < lastRow; r++) {
+                            IndexRange.Cursor cursor = rowRange.cursor();
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 fftColumns.complexInverse(a, r * rowspan, scale);
                             }
                         }
                     });
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
-                p = columns / nthreads;
+                final IndexRange panelRange = new IndexRange(0, panels, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstColumn = l * p;
-                    final int lastColumn = (l == (nthreads - 1)) ? columns : firstColumn + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            float[] temp = new float[2 * rows];
-                            for (int c = firstColumn; c < lastColumn; c++) {
-                                int idx1 = 2 * c;
-                                for (int r = 0; r < rows; r++) {
-                                    int idx2 = 2 * r;
-                                    int idx3 = r * rowspan + idx1;
-                                    temp[idx2] = a[idx3];
-                                    temp[idx2 + 1] = a[idx3 + 1];
-                                }
-                                fftRows.complexInverse(temp, scale);
-                                for (int r = 0; r < rows; r++) {
-                                    int idx2 = 2 * r;
-                                    int idx3 = r * rowspan + idx1;
-                                    a[idx3] = temp[idx2];
-                                    a[idx3 + 1] = temp[idx2 + 1];
-                                }
-                            }
+                            complexColumns(a, false, scale, panelRange.cursor());
                         }
                     });
                 }
@@ -409,27 +329,34 @@ public strictfp class FloatFFT_2D {
                 for (int r = 0; r < rows; r++) {
                     fftColumns.complexInverse(a, r * rowspan, scale);
                 }
-                float[] temp = new float[2 * rows];
-                for (int c = 0; c < columns; c++) {
-                    int idx1 = 2 * c;
-                    for (int r = 0; r < rows; r++) {
-                        int idx2 = 2 * r;
-                        int idx3 = r * rowspan + idx1;
-                        temp[idx2] = a[idx3];
-                        temp[idx2 + 1] = a[idx3 + 1];
-                    }
-                    fftRows.complexInverse(temp, scale);
-                    for (int r = 0; r < rows; r++) {
-                        int idx2 = 2 * r;
-                        int idx3 = r * rowspan + idx1;
-                        a[idx3] = temp[idx2];
-                        a[idx3 + 1] = temp[idx2 + 1];
-                    }
-                }
+                complexColumns(a, false, scale, new IndexRange(0, panels, 1).cursor());
             }
         }
     }
 
+    /**
+     * Computes 2D inverse DFT of complex data leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #complexInverse(float[], boolean)}; the position is not changed.
+     * Buffers without an accessible backing array (e.g. direct buffers) are
+     * transformed in place one block of rows and one block of columns at a
+     * time.
+     * 
+     * @param a
+     *            data to transform
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void complexInverse(FloatBuffer a, boolean scale) {
+        if (!BufferUtils.hasBackingArray(a)) {
+            complexBuffer(a, false, scale);
+            return;
+        }
+        float[] array = BufferUtils.getArray(a, 2L * rows * columns);
+        complexInverse(array, scale);
+        BufferUtils.putArray(a, array, 2L * rows * columns);
+    }
+
     /**
      * Computes 2D inverse DFT of complex data leaving the result in
      * <code>a</code>. The data is stored in 2D array. Complex data is
@@ -449,69 +376,40 @@ public strictfp class FloatFFT_2D {
      * 
      */
     public void complexInverse(final float[][] a, final boolean scale) {
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
+        int nthreads = context.getNumberOfThreads();
         if (isPowerOfTwo) {
-            int oldn2 = columns;
-            columns = 2 * columns;
-
-            if (nthreads != oldNthreads) {
-                nt = 8 * nthreads * rows;
-                if (columns == 4 * nthreads) {
-                    nt >>= 1;
-                } else if (columns < 4 * nthreads) {
-                    nt >>= 2;
-                }
-                t = new float[nt];
-                oldNthreads = nthreads;
-            }
+            final int columns = 2 * this.columns;
             if ((nthreads > 1) && useThreads) {
                 xdft2d0_subth1(0, 1, a, scale);
-                cdft2d_subth(1, a, scale);
+                cdft2d_subth(1, a, scale, columns);
             } else {
 
                 for (int r = 0; r < rows; r++) {
                     fftColumns.complexInverse(a[r], scale);
                 }
-                cdft2d_sub(1, a, scale);
+                cdft2d_sub(1, a, scale, columns, new float[8 * rows], getColumnBlocks(columns, 1).cursor());
             }
-            columns = oldn2;
         } else {
-            if ((nthreads > 1) && useThreads && (rows >= nthreads) && (columns >= nthreads)) {
+            final int panels = (columns + FloatFFT_1D.PANEL_SIZE - 1) / FloatFFT_1D.PANEL_SIZE;
+            if ((nthreads > 1) && useThreads) {
                 Future<?>[] futures = new Future[nthreads];
-                int p = rows / nthreads;
+                final IndexRange rowRange = new IndexRange(0, rows, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstRow = l * p;
-                    final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            for (int r = firstRow; r < lastRow; r++) {
+                            IndexRange.Cursor cursor = rowRange.cursor();
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 fftColumns.complexInverse(a[r], scale);
                             }
                         }
                     });
                 }
                 ConcurrencyUtils.waitForCompletion(futures);
-                p = columns / nthreads;
+                final IndexRange panelRange = new IndexRange(0, panels, nthreads);
                 for (int l = 0; l < nthreads; l++) {
-                    final int firstColumn = l * p;
-                    final int lastColumn = (l == (nthreads - 1)) ? columns : firstColumn + p;
-                    futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                    futures[l] = context.submit(new Runnable() {
                         public void run() {
-                            float[] temp = new float[2 * rows];
-                            for (int c = firstColumn; c < lastColumn; c++) {
-                                int idx1 = 2 * c;
-                                for (int r = 0; r < rows; r++) {
-                                    int idx2 = 2 * r;
-                                    temp[idx2] = a[r][idx1];
-                                    temp[idx2 + 1] = a[r][idx1 + 1];
-                                }
-                                fftRows.complexInverse(temp, scale);
-                                for (int r = 0; r < rows; r++) {
-                                    int idx2 = 2 * r;
-                                    a[r][idx1] = temp[idx2];
-                                    a[r][idx1 + 1] = temp[idx2 + 1];
-                                }
-                            }
+                            complexColumns(a, false, scale, panelRange.cursor());
                         }
                     });
                 }
@@ -520,25 +418,86 @@ public strictfp class FloatFFT_2D {
                 for (int r = 0; r < rows; r++) {
                     fftColumns.complexInverse(a[r], scale);
                 }
-                float[] temp = new float[2 * rows];
-                for (int c = 0; c < columns; c++) {
-                    int idx1 = 2 * c;
-                    for (int r = 0; r < rows; r++) {
-                        int idx2 = 2 * r;
-                        temp[idx2] = a[r][idx1];
-                        temp[idx2 + 1] = a[r][idx1 + 1];
-                    }
-                    fftRows.complexInverse(temp, scale);
-                    for (int r = 0; r < rows; r++) {
-                        int idx2 = 2 * r;
-                        a[r][idx1] = temp[idx2];
-                        a[r][idx1 + 1] = temp[idx2 + 1];
-                    }
-                }
+                complexColumns(a, false, scale, new IndexRange(0, panels, 1).cursor());
             }
         }
     }
 
+    /**
+     * Computes 2D forward DFT of complex data leaving the result in <code>a</code>,
+     * using the transpose-based algorithm: the rows are transformed, the array
+     * is transposed by a cache-blocked parallel transposition, the rows of the
+     * transposed array (i.e. the columns) are transformed and, unless
+     * <code>transposed</code> is true, the result is transposed back. Memory
+     * is only traversed along rows, which pays off for large arrays; a
+     * temporary array of the size of <code>a</code> is allocated. The input
+     * has the layout described in {@link #complexForward(float[])}. If <code>transposed</code> is
+     * true, the result is left transposed:<br>
+     * 
+     * <pre>
+     * a[k2*2*rows+2*k1] = Re[k1][k2], 
+     * a[k2*2*rows+2*k1+1] = Im[k1][k2], 0&lt;=k1&lt;rows, 0&lt;=k2&lt;columns,
+     * </pre>
+     * 
+     * which is also the input layout of
+     * {@link #complexInverseByTranspose(float[], boolean, boolean)}. A caller that
+     * does not need the natural layout of the result, e.g. to compute a
+     * convolution (forward transform, pointwise multiplication, inverse
+     * transform), saves one transposition in each direction.
+     * 
+     * @param a
+     *            data to transform
+     * @param transposed
+     *            if true then the result is left transposed
+     */
+    public void complexForwardByTranspose(float[] a, boolean transposed) {
+        float[] t = new float[2 * rows * columns];
+        fftColumns.complexForwardBatch(a, 0, rows, 2, 2 * columns);
+        TransposeUtils.transpose(a, 0, t, 0, 1, rows, columns, 2, context);
+        fftRows.complexForwardBatch(t, 0, columns, 2, 2 * rows);
+        if (transposed) {
+            System.arraycopy(t, 0, a, 0, t.length);
+        } else {
+            TransposeUtils.transpose(t, 0, a, 0, 1, columns, rows, 2, context);
+        }
+    }
+
+    /**
+     * Computes 2D inverse DFT of complex data leaving the result in <code>a</code>,
+     * using the transpose-based algorithm described in
+     * {@link #complexForwardByTranspose(float[], boolean)}. If
+     * <code>transposed</code> is true, the input must be transposed:<br>
+     * 
+     * <pre>
+     * a[k2*2*rows+2*k1] = Re[k1][k2], 
+     * a[k2*2*rows+2*k1+1] = Im[k1][k2], 0&lt;=k1&lt;rows, 0&lt;=k2&lt;columns,
+     * </pre>
+     * 
+     * as left by {@link #complexForwardByTranspose(float[], boolean)}.
+     * The result always has the natural layout.
+     * 
+     * @param a
+     *            data to transform
+     * @param transposed
+     *            if true then the input is transposed
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void complexInverseByTranspose(float[] a, boolean transposed, boolean scale) {
+        float[] t = new float[2 * rows * columns];
+        if (transposed) {
+            fftRows.complexInverseBatch(a, 0, columns, 2, 2 * rows, scale);
+            TransposeUtils.transpose(a, 0, t, 0, 1, columns, rows, 2, context);
+            fftColumns.complexInverseBatch(t, 0, rows, 2, 2 * columns, scale);
+            System.arraycopy(t, 0, a, 0, t.length);
+        } else {
+            fftColumns.complexInverseBatch(a, 0, rows, 2, 2 * columns, scale);
+            TransposeUtils.transpose(a, 0, t, 0, 1, rows, columns, 2, context);
+            fftRows.complexInverseBatch(t, 0, columns, 2, 2 * rows, scale);
+            TransposeUtils.transpose(t, 0, a, 0, 1, columns, rows, 2, context);
+        }
+    }
+
     /**
      * Computes 2D forward DFT of real data leaving the result in <code>a</code>
      * . This method only works when the sizes of both dimensions are
@@ -577,31 +536,37 @@ public strictfp class FloatFFT_2D {
         } else {
             int nthreads;
 
-            nthreads = ConcurrencyUtils.getNumberOfThreads();
-            if (nthreads != oldNthreads) {
-                nt = 8 * nthreads * rows;
-                if (columns == 4 * nthreads) {
-                    nt >>= 1;
-                } else if (columns < 4 * nthreads) {
-                    nt >>= 2;
-                }
-                t = new float[nt];
-                oldNthreads = nthreads;
-            }
+            nthreads = context.getNumberOfThreads();
             if ((nthreads > 1) && useThreads) {
-                xdft2d0_subth1(1, 1, a, true);
-                cdft2d_subth(-1, a, true);
+                xdft2d0_subth1(1, 1, a, true, columns);
+                cdft2d_subth(-1, a, true, columns);
                 rdft2d_sub(1, a);
             } else {
                 for (int r = 0; r < rows; r++) {
                     fftColumns.realForward(a, r * columns);
                 }
-                cdft2d_sub(-1, a, true);
+                cdft2d_sub(-1, a, true, columns, new float[8 * rows], getColumnBlocks(columns, 1).cursor());
                 rdft2d_sub(1, a);
             }
         }
     }
 
+    /**
+     * Computes 2D forward DFT of real data leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #realForward(float[])}; the position is not changed.
+     * Unless the buffer is a heap buffer positioned at the first element of
+     * its array, the whole buffer is copied to a temporary array and back.
+     * 
+     * @param a
+     *            data to transform
+     */
+    public void realForward(FloatBuffer a) {
+        float[] array = BufferUtils.getArray(a, (long) rows * columns);
+        realForward(array);
+        BufferUtils.putArray(a, array, (long) rows * columns);
+    }
+
     /**
      * Computes 2D forward DFT of real data leaving the result in <code>a</code>
      * . This method only works when the sizes of both dimensions are
@@ -640,26 +605,16 @@ public strictfp class FloatFFT_2D {
         } else {
             int nthreads;
 
-            nthreads = ConcurrencyUtils.getNumberOfThreads();
-            if (nthreads != oldNthreads) {
-                nt = 8 * nthreads * rows;
-                if (columns == 4 * nthreads) {
-                    nt >>= 1;
-                } else if (columns < 4 * nthreads) {
-                    nt >>= 2;
-                }
-                t = new float[nt];
-                oldNthreads = nthreads;
-            }
+            nthreads = context.getNumberOfThreads();
             if ((nthreads > 1) && useThreads) {
                 xdft2d0_subth1(1, 1, a, true);
-                cdft2d_subth(-1, a, true);
+                cdft2d_subth(-1, a, true, columns);
                 rdft2d_sub(1, a);
             } else {
                 for (int r = 0; r < rows; r++) {
                     fftColumns.realForward(a[r]);
                 }
-                cdft2d_sub(-1, a, true);
+                cdft2d_sub(-1, a, true, columns, new float[8 * rows], getColumnBlocks(columns, 1).cursor());
                 rdft2d_sub(1, a);
             }
         }
@@ -681,26 +636,16 @@ public strictfp class FloatFFT_2D {
         if (isPowerOfTwo) {
             int nthreads;
 
-            nthreads = ConcurrencyUtils.getNumberOfThreads();
-            if (nthreads != oldNthreads) {
-                nt = 8 * nthreads * rows;
-                if (columns == 4 * nthreads) {
-                    nt >>= 1;
-                } else if (columns < 4 * nthreads) {
-                    nt >>= 2;
-                }
-                t = new float[nt];
-                oldNthreads = nthreads;
-            }
+            nthreads = context.getNumberOfThreads();
             if ((nthreads > 1) && useThreads) {
-                xdft2d0_subth1(1, 1, a, true);
-                cdft2d_subth(-1, a, true);
+                xdft2d0_subth1(1, 1, a, true, columns);
+                cdft2d_subth(-1, a, true, columns);
                 rdft2d_sub(1, a);
             } else {
                 for (int r = 0; r < rows; r++) {
                     fftColumns.realForward(a, r * columns);
                 }
-                cdft2d_sub(-1, a, true);
+                cdft2d_sub(-1, a, true, columns, new float[8 * rows], getColumnBlocks(columns, 1).cursor());
                 rdft2d_sub(1, a);
             }
             fillSymmetric(a);
@@ -709,6 +654,27 @@ public strictfp class FloatFFT_2D {
         }
     }
 
+    /**
+     * Computes 2D forward DFT of real data leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #realForwardFull(float[])}; the position is not changed.
+     * Buffers without an accessible backing array (e.g. direct buffers) are
+     * transformed in place one block of rows and one block of columns at a
+     * time.
+     * 
+     * @param a
+     *            data to transform
+     */
+    public void realForwardFull(FloatBuffer a) {
+        if (!BufferUtils.hasBackingArray(a)) {
+            realFullBuffer(a, true, false);
+            return;
+        }
+        float[] array = BufferUtils.getArray(a, 2L * rows * columns);
+        realForwardFull(array);
+        BufferUtils.putArray(a, array, 2L * rows * columns);
+    }
+
     /**
      * Computes 2D forward DFT of real data leaving the result in <code>a</code>
      * . This method computes full real forward transform, i.e. you will get the
@@ -725,26 +691,16 @@ public strictfp class FloatFFT_2D {
         if (isPowerOfTwo) {
             int nthreads;
 
-            nthreads = ConcurrencyUtils.getNumberOfThreads();
-            if (nthreads != oldNthreads) {
-                nt = 8 * nthreads * rows;
-                if (columns == 4 * nthreads) {
-                    nt >>= 1;
-                } else if (columns < 4 * nthreads) {
-                    nt >>= 2;
-                }
-                t = new float[nt];
-                oldNthreads = nthreads;
-            }
+            nthreads = context.getNumberOfThreads();
             if ((nthreads > 1) && useThreads) {
                 xdft2d0_subth1(1, 1, a, true);
-                cdft2d_subth(-1, a, true);
+                cdft2d_subth(-1, a, true, columns);
                 rdft2d_sub(1, a);
             } else {
                 for (int r = 0; r < rows; r++) {
                     fftColumns.realForward(a[r]);
                 }
-                cdft2d_sub(-1, a, true);
+                cdft2d_sub(-1, a, true, columns, new float[8 * rows], getColumnBlocks(columns, 1).cursor());
                 rdft2d_sub(1, a);
             }
             fillSymmetric(a);
@@ -792,24 +748,14 @@ public strictfp class FloatFFT_2D {
             throw new IllegalArgumentException("rows and columns must be power of two numbers");
         } else {
             int nthreads;
-            nthreads = ConcurrencyUtils.getNumberOfThreads();
-            if (nthreads != oldNthreads) {
-                nt = 8 * nthreads * rows;
-                if (columns == 4 * nthreads) {
-                    nt >>= 1;
-                } else if (columns < 4 * nthreads) {
-                    nt >>= 2;
-                }
-                t = new float[nt];
-                oldNthreads = nthreads;
-            }
+            nthreads = context.getNumberOfThreads();
             if ((nthreads > 1) && useThreads) {
                 rdft2d_sub(-1, a);
-                cdft2d_subth(1, a, scale);
-                xdft2d0_subth1(1, -1, a, scale);
+                cdft2d_subth(1, a, scale, columns);
+                xdft2d0_subth1(1, -1, a, scale, columns);
             } else {
                 rdft2d_sub(-1, a);
-                cdft2d_sub(1, a, scale);
+                cdft2d_sub(1, a, scale, columns, new float[8 * rows], getColumnBlocks(columns, 1).cursor());
                 for (int r = 0; r < rows; r++) {
                     fftColumns.realInverse(a, r * columns, scale);
                 }
@@ -817,6 +763,24 @@ public strictfp class FloatFFT_2D {
         }
     }
 
+    /**
+     * Computes 2D inverse DFT of real data leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #realInverse(float[], boolean)}; the position is not changed.
+     * Unless the buffer is a heap buffer positioned at the first element of
+     * its array, the whole buffer is copied to a temporary array and back.
+     * 
+     * @param a
+     *            data to transform
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void realInverse(FloatBuffer a, boolean scale) {
+        float[] array = BufferUtils.getArray(a, (long) rows * columns);
+        realInverse(array, scale);
+        BufferUtils.putArray(a, array, (long) rows * columns);
+    }
+
     /**
      * Computes 2D inverse DFT of real data leaving the result in <code>a</code>
      * . This method only works when the sizes of both dimensions are
@@ -857,24 +821,14 @@ public strictfp class FloatFFT_2D {
         } else {
             int nthreads;
 
-            nthreads = ConcurrencyUtils.getNumberOfThreads();
-            if (nthreads != oldNthreads) {
-                nt = 8 * nthreads * rows;
-                if (columns == 4 * nthreads) {
-                    nt >>= 1;
-                } else if (columns < 4 * nthreads) {
-                    nt >>= 2;
-                }
-                t = new float[nt];
-                oldNthreads = nthreads;
-            }
+            nthreads = context.getNumberOfThreads();
             if ((nthreads > 1) && useThreads) {
                 rdft2d_sub(-1, a);
-                cdft2d_subth(1, a, scale);
+                cdft2d_subth(1, a, scale, columns);
                 xdft2d0_subth1(1, -1, a, scale);
             } else {
                 rdft2d_sub(-1, a);
-                cdft2d_sub(1, a, scale);
+                cdft2d_sub(1, a, scale, columns, new float[8 * rows], getColumnBlocks(columns, 1).cursor());
                 for (int r = 0; r < rows; r++) {
                     fftColumns.realInverse(a[r], scale);
                 }
@@ -900,26 +854,16 @@ public strictfp class FloatFFT_2D {
         if (isPowerOfTwo) {
             int nthreads;
 
-            nthreads = ConcurrencyUtils.getNumberOfThreads();
-            if (nthreads != oldNthreads) {
-                nt = 8 * nthreads * rows;
-                if (columns == 4 * nthreads) {
-                    nt >>= 1;
-                } else if (columns < 4 * nthreads) {
-                    nt >>= 2;
-                }
-                t = new float[nt];
-                oldNthreads = nthreads;
-            }
+            nthreads = context.getNumberOfThreads();
             if ((nthreads > 1) && useThreads) {
                 xdft2d0_subth2(1, -1, a, scale);
-                cdft2d_subth(1, a, scale);
+                cdft2d_subth(1, a, scale, columns);
                 rdft2d_sub(1, a);
             } else {
                 for (int r = 0; r < rows; r++) {
                     fftColumns.realInverse2(a, r * columns, scale);
                 }
-                cdft2d_sub(1, a, scale);
+                cdft2d_sub(1, a, scale, columns, new float[8 * rows], getColumnBlocks(columns, 1).cursor());
                 rdft2d_sub(1, a);
             }
             fillSymmetric(a);
@@ -928,6 +872,29 @@ public strictfp class FloatFFT_2D {
         }
     }
 
+    /**
+     * Computes 2D inverse DFT of real data leaving the result in <code>a</code>. The
+     * data starts at the position of the buffer and is laid out as for
+     * {@link #realInverseFull(float[], boolean)}; the position is not changed.
+     * Buffers without an accessible backing array (e.g. direct buffers) are
+     * transformed in place one block of rows and one block of columns at a
+     * time.
+     * 
+     * @param a
+     *            data to transform
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void realInverseFull(FloatBuffer a, boolean scale) {
+        if (!BufferUtils.hasBackingArray(a)) {
+            realFullBuffer(a, false, scale);
+            return;
+        }
+        float[] array = BufferUtils.getArray(a, 2L * rows * columns);
+        realInverseFull(array, scale);
+        BufferUtils.putArray(a, array, 2L * rows * columns);
+    }
+
     /**
      * Computes 2D inverse DFT of real data leaving the result in <code>a</code>
      * . This method computes full real inverse transform, i.e. you will get the
@@ -946,26 +913,16 @@ public strictfp class FloatFFT_2D {
         if (isPowerOfTwo) {
             int nthreads;
 
-            nthreads = ConcurrencyUtils.getNumberOfThreads();
-            if (nthreads != oldNthreads) {
-                nt = 8 * nthreads * rows;
-                if (columns == 4 * nthreads) {
-                    nt >>= 1;
-                } else if (columns < 4 * nthreads) {
-                    nt >>= 2;
-                }
-                t = new float[nt];
-                oldNthreads = nthreads;
-            }
+            nthreads = context.getNumberOfThreads();
             if ((nthreads > 1) && useThreads) {
                 xdft2d0_subth2(1, -1, a, scale);
-                cdft2d_subth(1, a, scale);
+                cdft2d_subth(1, a, scale, columns);
                 rdft2d_sub(1, a);
             } else {
                 for (int r = 0; r < rows; r++) {
                     fftColumns.realInverse2(a[r], 0, scale);
                 }
-                cdft2d_sub(1, a, scale);
+                cdft2d_sub(1, a, scale, columns, new float[8 * rows], getColumnBlocks(columns, 1).cursor());
                 rdft2d_sub(1, a);
             }
             fillSymmetric(a);
@@ -974,20 +931,176 @@ public strictfp class FloatFFT_2D {
         }
     }
 
+    /*
+     * Transforms the panels of adjacent columns taken from the cursor. Panel p
+     * holds the columns p*PANEL_SIZE to (p+1)*PANEL_SIZE-1.
+     */
+    private void complexColumns(float[] a, boolean forward, boolean scale, IndexRange.Cursor cursor) {
+        float[] panel = new float[FloatFFT_1D.PANEL_SIZE * 2 * rows];
+        FloatFFT_1D.Workspace ws = fftRows.createWorkspace();
+        for (int p = cursor.next(); p >= 0; p = cursor.next()) {
+            int c = p * FloatFFT_1D.PANEL_SIZE;
+            fftRows.transformPanel(a, 2 * c, Math.min(FloatFFT_1D.PANEL_SIZE, columns - c), 2 * columns, 2, true, forward, scale, panel, ws);
+        }
+    }
+
+    private void complexBuffer(final FloatBuffer a, final boolean forward, final boolean scale) {
+        BufferUtils.checkBuffer(a, 2L * rows * columns);
+        final int height = Math.min(rows, Math.max(1, LARGE_BLOCK_SIZE / columns));
+        final int width = Math.min(columns, Math.max(FloatFFT_1D.PANEL_SIZE, LARGE_BLOCK_SIZE / rows));
+        final int rowBlocks = (rows - 1) / height + 1;
+        final int columnBlocks = (columns - 1) / width + 1;
+        int nthreads = context.getNumberOfThreads();
+        if ((nthreads > 1) && useThreads) {
+            Future<?>[] futures = new Future[nthreads];
+            final IndexRange rowRange = new IndexRange(0, rowBlocks, nthreads);
+            for (int l = 0; l < nthreads; l++) {
+                futures[l] = context.submit(new Runnable() {
+                    public void run() {
+                        bufferRows(a, rowRange.cursor(), height, forward, scale);
+                    }
+                });
+            }
+            ConcurrencyUtils.waitForCompletion(futures);
+            final IndexRange columnRange = new IndexRange(0, columnBlocks, nthreads);
+            for (int l = 0; l < nthreads; l++) {
+                futures[l] = context.submit(new Runnable() {
+                    public void run() {
+                        bufferColumns(a, columnRange.cursor(), width, forward, scale);
+                    }
+                });
+            }
+            ConcurrencyUtils.waitForCompletion(futures);
+        } else {
+            bufferRows(a, new IndexRange(0, rowBlocks, 1).cursor(), height, forward, scale);
+            bufferColumns(a, new IndexRange(0, columnBlocks, 1).cursor(), width, forward, scale);
+        }
+    }
+
+    /*
+     * The complex rows are written over the real input, twice as dense, so
+     * the blocks of rows are transformed serially from the last one: a block
+     * only overwrites the input of the rows after it.
+     */
+    private void realFullBuffer(final FloatBuffer a, final boolean forward, final boolean scale) {
+        BufferUtils.checkBuffer(a, 2L * rows * columns);
+        int height = Math.min(rows, Math.max(1, LARGE_BLOCK_SIZE / columns));
+        final int width = Math.min(columns, Math.max(FloatFFT_1D.PANEL_SIZE, LARGE_BLOCK_SIZE / rows));
+        final int columnBlocks = (columns - 1) / width + 1;
+        FloatBuffer b = a.duplicate();
+        int base = a.position();
+        int rowStride = 2 * columns;
+        float[] u = new float[height * rowStride];
+        FloatFFT_1D.Workspace ws = fftColumns.createWorkspace();
+        for (int r0 = ((rows - 1) / height) * height; r0 >= 0; r0 -= height) {
+            int h = Math.min(height, rows - r0);
+            for (int r = 0; r < h; r++) {
+                b.position(base + (r0 + r) * columns);
+                b.get(u, r * rowStride, columns);
+                if (forward) {
+                    fftColumns.realForwardFull(u, r * rowStride, ws);
+                } else {
+                    fftColumns.realInverseFull(u, r * rowStride, scale, ws);
+                }
+            }
+            b.position(base + r0 * rowStride);
+            b.put(u, 0, h * rowStride);
+        }
+        int nthreads = context.getNumberOfThreads();
+        if ((nthreads > 1) && useThreads) {
+            Future<?>[] futures = new Future[nthreads];
+            final IndexRange columnRange = new IndexRange(0, columnBlocks, nthreads);
+            for (int l = 0; l < nthreads; l++) {
+                futures[l] = context.submit(new Runnable() {
+                    public void run() {
+                        bufferColumns(a, columnRange.cursor(), width, forward, scale);
+                    }
+                });
+            }
+            ConcurrencyUtils.waitForCompletion(futures);
+        } else {
+            bufferColumns(a, new IndexRange(0, columnBlocks, 1).cursor(), width, forward, scale);
+        }
+    }
+
+    /*
+     * Transforms the blocks of rows of the buffer taken from the cursor;
+     * block p holds the rows p*height.. .
+     */
+    private void bufferRows(FloatBuffer a, IndexRange.Cursor cursor, int height, boolean forward, boolean scale) {
+        FloatBuffer b = a.duplicate();
+        int base = a.position();
+        int rowStride = 2 * columns;
+        float[] u = new float[height * rowStride];
+        FloatFFT_1D.Workspace ws = fftColumns.createWorkspace();
+        for (int p = cursor.next(); p >= 0; p = cursor.next()) {
+            int r0 = p * height;
+            int h = Math.min(height, rows - r0);
+            b.position(base + r0 * rowStride);
+            b.get(u, 0, h * rowStride);
+            for (int r = 0; r < h; r++) {
+                if (forward) {
+                    fftColumns.complexForward(u, r * rowStride, ws);
+                } else {
+                    fftColumns.complexInverse(u, r * rowStride, scale, ws);
+                }
+            }
+            b.position(base + r0 * rowStride);
+            b.put(u, 0, h * rowStride);
+        }
+    }
+
+    /*
+     * Transforms the blocks of columns of the buffer taken from the cursor;
+     * block p holds the columns p*width.. .
+     */
+    private void bufferColumns(FloatBuffer a, IndexRange.Cursor cursor, int width, boolean forward, boolean scale) {
+        FloatBuffer b = a.duplicate();
+        int base = a.position();
+        int rowStride = 2 * columns;
+        float[] u = new float[2 * rows * width];
+        float[] panel = new float[FloatFFT_1D.PANEL_SIZE * 2 * rows];
+        FloatFFT_1D.Workspace ws = fftRows.createWorkspace();
+        for (int p = cursor.next(); p >= 0; p = cursor.next()) {
+            int c = p * width;
+            int w = Math.min(width, columns - c);
+            int idx1 = base + 2 * c;
+            for (int r = 0; r < rows; r++) {
+                b.position(idx1 + r * rowStride);
+                b.get(u, 2 * r * w, 2 * w);
+            }
+            for (int j = 0; j < w; j += FloatFFT_1D.PANEL_SIZE) {
+                fftRows.transformPanel(u, 2 * j, Math.min(FloatFFT_1D.PANEL_SIZE, w - j), 2 * w, 2, true, forward, scale, panel, ws);
+            }
+            for (int r = 0; r < rows; r++) {
+                b.position(idx1 + r * rowStride);
+                b.put(u, 2 * r * w, 2 * w);
+            }
+        }
+    }
+
+    private void complexColumns(float[][] a, boolean forward, boolean scale, IndexRange.Cursor cursor) {
+        float[] panel = new float[FloatFFT_1D.PANEL_SIZE * 2 * rows];
+        FloatFFT_1D.Workspace ws = fftRows.createWorkspace();
+        for (int p = cursor.next(); p >= 0; p = cursor.next()) {
+            int c = p * FloatFFT_1D.PANEL_SIZE;
+            fftRows.complexPanel(a, 2 * c, Math.min(FloatFFT_1D.PANEL_SIZE, columns - c), forward, scale, panel, ws);
+        }
+    }
+
     private void mixedRadixRealForwardFull(final float[][] a) {
         final int n2d2 = columns / 2 + 1;
         final float[][] temp = new float[n2d2][2 * rows];
 
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
-        if ((nthreads > 1) && useThreads && (rows >= nthreads) && (n2d2 - 2 >= nthreads)) {
+        int nthreads = context.getNumberOfThreads();
+        if ((nthreads > 1) && useThreads) {
             Future<?>[] futures = new Future[nthreads];
-            int p = rows / nthreads;
+            final IndexRange rowRange = new IndexRange(0, rows, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstRow = l * p;
-                final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        for (int i = firstRow; i < lastRow; i++) {
+                        IndexRange.Cursor cursor = rowRange.cursor();
+                        for (int i = cursor.next(); i >= 0; i = cursor.next()) {
                             fftColumns.realForward(a[i]);
                         }
                     }
@@ -1000,13 +1113,12 @@ public strictfp class FloatFFT_2D {
             }
             fftRows.realForwardFull(temp[0]);
 
-            p = (n2d2 - 2) / nthreads;
+            final IndexRange columnRange = new IndexRange(1, n2d2 - 1, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstColumn = 1 + l * p;
-                final int lastColumn = (l == (nthreads - 1)) ? n2d2 - 1 : firstColumn + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        for (int c = firstColumn; c < lastColumn; c++) {
+                        IndexRange.Cursor cursor = columnRange.cursor();
+                        for (int c = cursor.next(); c >= 0; c = cursor.next()) {
                             int idx2 = 2 * c;
                             for (int r = 0; r < rows; r++) {
                                 int idx1 = 2 * r;
@@ -1038,13 +1150,12 @@ public strictfp class FloatFFT_2D {
 
             }
 
-            p = rows / nthreads;
+            final IndexRange rowRange2 = new IndexRange(0, rows, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstRow = l * p;
-                final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        for (int r = firstRow; r < lastRow; r++) {
+                        IndexRange.Cursor cursor = rowRange2.cursor();
+                        for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                             int idx1 = 2 * r;
                             for (int c = 0; c < n2d2; c++) {
                                 int idx2 = 2 * c;
@@ -1057,12 +1168,12 @@ public strictfp class FloatFFT_2D {
             }
             ConcurrencyUtils.waitForCompletion(futures);
 
+            final IndexRange rowRange3 = new IndexRange(1, rows, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstRow = 1 + l * p;
-                final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        for (int r = firstRow; r < lastRow; r++) {
+                        IndexRange.Cursor cursor = rowRange3.cursor();
+                        for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                             int idx3 = rows - r;
                             for (int c = n2d2; c < columns; c++) {
                                 int idx1 = 2 * c;
@@ -1145,16 +1256,15 @@ public strictfp class FloatFFT_2D {
         final int n2d2 = columns / 2 + 1;
         final float[][] temp = new float[n2d2][2 * rows];
 
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
-        if ((nthreads > 1) && useThreads && (rows >= nthreads) && (n2d2 - 2 >= nthreads)) {
+        int nthreads = context.getNumberOfThreads();
+        if ((nthreads > 1) && useThreads) {
             Future<?>[] futures = new Future[nthreads];
-            int p = rows / nthreads;
+            final IndexRange rowRange = new IndexRange(0, rows, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstRow = l * p;
-                final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        for (int i = firstRow; i < lastRow; i++) {
+                        IndexRange.Cursor cursor = rowRange.cursor();
+                        for (int i = cursor.next(); i >= 0; i = cursor.next()) {
                             fftColumns.realForward(a, i * columns);
                         }
                     }
@@ -1167,13 +1277,12 @@ public strictfp class FloatFFT_2D {
             }
             fftRows.realForwardFull(temp[0]);
 
-            p = (n2d2 - 2) / nthreads;
+            final IndexRange columnRange = new IndexRange(1, n2d2 - 1, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstColumn = 1 + l * p;
-                final int lastColumn = (l == (nthreads - 1)) ? n2d2 - 1 : firstColumn + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        for (int c = firstColumn; c < lastColumn; c++) {
+                        IndexRange.Cursor cursor = columnRange.cursor();
+                        for (int c = cursor.next(); c >= 0; c = cursor.next()) {
                             int idx0 = 2 * c;
                             for (int r = 0; r < rows; r++) {
                                 int idx1 = 2 * r;
@@ -1206,13 +1315,12 @@ public strictfp class FloatFFT_2D {
                 fftRows.complexForward(temp[n2d2 - 1]);
             }
 
-            p = rows / nthreads;
+            final IndexRange rowRange2 = new IndexRange(0, rows, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstRow = l * p;
-                final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        for (int r = firstRow; r < lastRow; r++) {
+                        IndexRange.Cursor cursor = rowRange2.cursor();
+                        for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                             int idx1 = 2 * r;
                             for (int c = 0; c < n2d2; c++) {
                                 int idx0 = 2 * c;
@@ -1226,12 +1334,12 @@ public strictfp class FloatFFT_2D {
             }
             ConcurrencyUtils.waitForCompletion(futures);
 
+            final IndexRange rowRange3 = new IndexRange(1, rows, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstRow = 1 + l * p;
-                final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        for (int r = firstRow; r < lastRow; r++) {
+                        IndexRange.Cursor cursor = rowRange3.cursor();
+                        for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                             int idx5 = r * rowStride;
                             int idx6 = (rows - r + 1) * rowStride;
                             for (int c = n2d2; c < columns; c++) {
@@ -1319,16 +1427,15 @@ public strictfp class FloatFFT_2D {
         final int n2d2 = columns / 2 + 1;
         final float[][] temp = new float[n2d2][2 * rows];
 
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
-        if ((nthreads > 1) && useThreads && (rows >= nthreads) && (n2d2 - 2 >= nthreads)) {
+        int nthreads = context.getNumberOfThreads();
+        if ((nthreads > 1) && useThreads) {
             Future<?>[] futures = new Future[nthreads];
-            int p = rows / nthreads;
+            final IndexRange rowRange = new IndexRange(0, rows, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstRow = l * p;
-                final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        for (int i = firstRow; i < lastRow; i++) {
+                        IndexRange.Cursor cursor = rowRange.cursor();
+                        for (int i = cursor.next(); i >= 0; i = cursor.next()) {
                             fftColumns.realInverse2(a[i], 0, scale);
                         }
                     }
@@ -1341,13 +1448,12 @@ public strictfp class FloatFFT_2D {
             }
             fftRows.realInverseFull(temp[0], scale);
 
-            p = (n2d2 - 2) / nthreads;
+            final IndexRange columnRange = new IndexRange(1, n2d2 - 1, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstColumn = 1 + l * p;
-                final int lastColumn = (l == (nthreads - 1)) ? n2d2 - 1 : firstColumn + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        for (int c = firstColumn; c < lastColumn; c++) {
+                        IndexRange.Cursor cursor = columnRange.cursor();
+                        for (int c = cursor.next(); c >= 0; c = cursor.next()) {
                             int idx2 = 2 * c;
                             for (int r = 0; r < rows; r++) {
                                 int idx1 = 2 * r;
@@ -1379,13 +1485,12 @@ public strictfp class FloatFFT_2D {
 
             }
 
-            p = rows / nthreads;
+            final IndexRange rowRange2 = new IndexRange(0, rows, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstRow = l * p;
-                final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        for (int r = firstRow; r < lastRow; r++) {
+                        IndexRange.Cursor cursor = rowRange2.cursor();
+                        for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                             int idx1 = 2 * r;
                             for (int c = 0; c < n2d2; c++) {
                                 int idx2 = 2 * c;
@@ -1398,12 +1503,12 @@ public strictfp class FloatFFT_2D {
             }
             ConcurrencyUtils.waitForCompletion(futures);
 
+            final IndexRange rowRange3 = new IndexRange(1, rows, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstRow = 1 + l * p;
-                final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        for (int r = firstRow; r < lastRow; r++) {
+                        IndexRange.Cursor cursor = rowRange3.cursor();
+                        for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                             int idx3 = rows - r;
                             for (int c = n2d2; c < columns; c++) {
                                 int idx1 = 2 * c;
@@ -1486,16 +1591,15 @@ public strictfp class FloatFFT_2D {
         final int n2d2 = columns / 2 + 1;
         final float[][] temp = new float[n2d2][2 * rows];
 
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
-        if ((nthreads > 1) && useThreads && (rows >= nthreads) && (n2d2 - 2 >= nthreads)) {
+        int nthreads = context.getNumberOfThreads();
+        if ((nthreads > 1) && useThreads) {
             Future<?>[] futures = new Future[nthreads];
-            int p = rows / nthreads;
+            final IndexRange rowRange = new IndexRange(0, rows, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstRow = l * p;
-                final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        for (int i = firstRow; i < lastRow; i++) {
+                        IndexRange.Cursor cursor = rowRange.cursor();
+                        for (int i = cursor.next(); i >= 0; i = cursor.next()) {
                             fftColumns.realInverse2(a, i * columns, scale);
                         }
                     }
@@ -1508,13 +1612,12 @@ public strictfp class FloatFFT_2D {
             }
             fftRows.realInverseFull(temp[0], scale);
 
-            p = (n2d2 - 2) / nthreads;
+            final IndexRange columnRange = new IndexRange(1, n2d2 - 1, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstColumn = 1 + l * p;
-                final int lastColumn = (l == (nthreads - 1)) ? n2d2 - 1 : firstColumn + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        for (int c = firstColumn; c < lastColumn; c++) {
+                        IndexRange.Cursor cursor = columnRange.cursor();
+                        for (int c = cursor.next(); c >= 0; c = cursor.next()) {
                             int idx0 = 2 * c;
                             for (int r = 0; r < rows; r++) {
                                 int idx1 = 2 * r;
@@ -1547,13 +1650,12 @@ public strictfp class FloatFFT_2D {
                 fftRows.complexInverse(temp[n2d2 - 1], scale);
             }
 
-            p = rows / nthreads;
+            final IndexRange rowRange2 = new IndexRange(0, rows, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstRow = l * p;
-                final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        for (int r = firstRow; r < lastRow; r++) {
+                        IndexRange.Cursor cursor = rowRange2.cursor();
+                        for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                             int idx1 = 2 * r;
                             for (int c = 0; c < n2d2; c++) {
                                 int idx0 = 2 * c;
@@ -1567,12 +1669,12 @@ public strictfp class FloatFFT_2D {
             }
             ConcurrencyUtils.waitForCompletion(futures);
 
+            final IndexRange rowRange3 = new IndexRange(1, rows, nthreads);
             for (int l = 0; l < nthreads; l++) {
-                final int firstRow = 1 + l * p;
-                final int lastRow = (l == (nthreads - 1)) ? rows : firstRow + p;
-                futures[l] = ConcurrencyUtils.submit(new Runnable() {
+                futures[l] = context.submit(new Runnable() {
                     public void run() {
-                        for (int r = firstRow; r < lastRow; r++) {
+                        IndexRange.Cursor cursor = rowRange3.cursor();
+                        for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                             int idx5 = r * rowStride;
                             int idx6 = (rows - r + 1) * rowStride;
                             for (int c = n2d2; c < columns; c++) {
@@ -1713,11 +1815,11 @@ public strictfp class FloatFFT_2D {
         }
     }
 
-    private void cdft2d_sub(int isgn, float[] a, boolean scale) {
+    private void cdft2d_sub(int isgn, float[] a, boolean scale, final int columns, final float[] t, IndexRange.Cursor cursor) {
         int idx1, idx2, idx3, idx4, idx5;
         if (isgn == -1) {
             if (columns > 4) {
-                for (int c = 0; c < columns; c += 8) {
+                for (int c = 8 * cursor.next(); c >= 0; c = 8 * cursor.next()) {
                     for (int r = 0; r < rows; r++) {
                         idx1 = r * columns + c;
                         idx2 = 2 * r;
@@ -1753,7 +1855,7 @@ public strictfp class FloatFFT_2D {
                         a[idx1 + 7] = t[idx5 + 1];
                     }
                 }
-            } else if (columns == 4) {
+            } else if ((columns == 4) && (cursor.next() >= 0)) {
                 for (int r = 0; r < rows; r++) {
                     idx1 = r * columns;
                     idx2 = 2 * r;
@@ -1774,7 +1876,7 @@ public strictfp class FloatFFT_2D {
                     a[idx1 + 2] = t[idx3];
                     a[idx1 + 3] = t[idx3 + 1];
                 }
-            } else if (columns == 2) {
+            } else if ((columns == 2) && (cursor.next() >= 0)) {
                 for (int r = 0; r < rows; r++) {
                     idx1 = r * columns;
                     idx2 = 2 * r;
@@ -1791,7 +1893,7 @@ public strictfp class FloatFFT_2D {
             }
         } else {
             if (columns > 4) {
-                for (int c = 0; c < columns; c += 8) {
+                for (int c = 8 * cursor.next(); c >= 0; c = 8 * cursor.next()) {
                     for (int r = 0; r < rows; r++) {
                         idx1 = r * columns + c;
                         idx2 = 2 * r;
@@ -1827,7 +1929,7 @@ public strictfp class FloatFFT_2D {
                         a[idx1 + 7] = t[idx5 + 1];
                     }
                 }
-            } else if (columns == 4) {
+            } else if ((columns == 4) && (cursor.next() >= 0)) {
                 for (int r = 0; r < rows; r++) {
                     idx1 = r * columns;
                     idx2 = 2 * r;
@@ -1848,7 +1950,7 @@ public strictfp class FloatFFT_2D {
                     a[idx1 + 2] = t[idx3];
                     a[idx1 + 3] = t[idx3 + 1];
                 }
-            } else if (columns == 2) {
+            } else if ((columns == 2) && (cursor.next() >= 0)) {
                 for (int r = 0; r < rows; r++) {
                     idx1 = r * columns;
                     idx2 = 2 * r;
@@ -1866,11 +1968,11 @@ public strictfp class FloatFFT_2D {
         }
     }
 
-    private void cdft2d_sub(int isgn, float[][] a, boolean scale) {
+    private void cdft2d_sub(int isgn, float[][] a, boolean scale, final int columns, final float[] t, IndexRange.Cursor cursor) {
         int idx2, idx3, idx4, idx5;
         if (isgn == -1) {
             if (columns > 4) {
-                for (int c = 0; c < columns; c += 8) {
+                for (int c = 8 * cursor.next(); c >= 0; c = 8 * cursor.next()) {
                     for (int r = 0; r < rows; r++) {
                         idx2 = 2 * r;
                         idx3 = 2 * rows + 2 * r;
@@ -1904,7 +2006,7 @@ public strictfp class FloatFFT_2D {
                         a[r][c + 7] = t[idx5 + 1];
                     }
                 }
-            } else if (columns == 4) {
+            } else if ((columns == 4) && (cursor.next() >= 0)) {
                 for (int r = 0; r < rows; r++) {
                     idx2 = 2 * r;
                     idx3 = 2 * rows + 2 * r;
@@ -1923,7 +2025,7 @@ public strictfp class FloatFFT_2D {
                     a[r][2] = t[idx3];
                     a[r][3] = t[idx3 + 1];
                 }
-            } else if (columns == 2) {
+            } else if ((columns == 2) && (cursor.next() >= 0)) {
                 for (int r = 0; r < rows; r++) {
                     idx2 = 2 * r;
                     t[idx2] = a[r][0];
@@ -1938,7 +2040,7 @@ public strictfp class FloatFFT_2D {
             }
         } else {
             if (columns > 4) {
-                for (int c = 0; c < columns; c += 8) {
+                for (int c = 8 * cursor.next(); c >= 0; c = 8 * cursor.next()) {
                     for (int r = 0; r < rows; r++) {
                         idx2 = 2 * r;
                         idx3 = 2 * rows + 2 * r;
@@ -1972,7 +2074,7 @@ public strictfp class FloatFFT_2D {
                         a[r][c + 7] = t[idx5 + 1];
                     }
                 }
-            } else if (columns == 4) {
+            } else if ((columns == 4) && (cursor.next() >= 0)) {
                 for (int r = 0; r < rows; r++) {
                     idx2 = 2 * r;
                     idx3 = 2 * rows + 2 * r;
@@ -1991,7 +2093,7 @@ public strictfp class FloatFFT_2D {
                     a[r][2] = t[idx3];
                     a[r][3] = t[idx3 + 1];
                 }
-            } else if (columns == 2) {
+            } else if ((columns == 2) && (cursor.next() >= 0)) {
                 for (int r = 0; r < rows; r++) {
                     idx2 = 2 * r;
                     t[idx2] = a[r][0];
@@ -2007,31 +2109,32 @@ public strictfp class FloatFFT_2D {
         }
     }
 
-    private void xdft2d0_subth1(final int icr, final int isgn, final float[] a, final boolean scale) {
-        final int nthreads = ConcurrencyUtils.getNumberOfThreads() > rows ? rows : ConcurrencyUtils.getNumberOfThreads();
+    private void xdft2d0_subth1(final int icr, final int isgn, final float[] a, final boolean scale, final int columns) {
+        final int nthreads = context.getNumberOfThreads() > rows ? rows : context.getNumberOfThreads();
 
         Future<?>[] futures = new Future[nthreads];
+        final IndexRange rowRange = new IndexRange(0, rows, nthreads);
         for (int i = 0; i < nthreads; i++) {
-            final int n0 = i;
-            futures[i] = ConcurrencyUtils.submit(new Runnable() {
+            futures[i] = context.submit(new Runnable() {
                 public void run() {
+                    IndexRange.Cursor cursor = rowRange.cursor();
                     if (icr == 0) {
                         if (isgn == -1) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 fftColumns.complexForward(a, r * columns);
                             }
                         } else {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 fftColumns.complexInverse(a, r * columns, scale);
                             }
                         }
                     } else {
                         if (isgn == 1) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 fftColumns.realForward(a, r * columns);
                             }
                         } else {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 fftColumns.realInverse(a, r * columns, scale);
                             }
                         }
@@ -2043,30 +2146,31 @@ public strictfp class FloatFFT_2D {
     }
 
     private void xdft2d0_subth2(final int icr, final int isgn, final float[] a, final boolean scale) {
-        final int nthreads = ConcurrencyUtils.getNumberOfThreads() > rows ? rows : ConcurrencyUtils.getNumberOfThreads();
+        final int nthreads = context.getNumberOfThreads() > rows ? rows : context.getNumberOfThreads();
 
         Future<?>[] futures = new Future[nthreads];
+        final IndexRange rowRange = new IndexRange(0, rows, nthreads);
         for (int i = 0; i < nthreads; i++) {
-            final int n0 = i;
-            futures[i] = ConcurrencyUtils.submit(new Runnable() {
+            futures[i] = context.submit(new Runnable() {
                 public void run() {
+                    IndexRange.Cursor cursor = rowRange.cursor();
                     if (icr == 0) {
                         if (isgn == -1) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 fftColumns.complexForward(a, r * columns);
                             }
                         } else {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 fftColumns.complexInverse(a, r * columns, scale);
                             }
                         }
                     } else {
                         if (isgn == 1) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 fftColumns.realForward(a, r * columns);
                             }
                         } else {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 fftColumns.realInverse2(a, r * columns, scale);
                             }
                         }
@@ -2078,30 +2182,31 @@ public strictfp class FloatFFT_2D {
     }
 
     private void xdft2d0_subth1(final int icr, final int isgn, final float[][] a, final boolean scale) {
-        final int nthreads = ConcurrencyUtils.getNumberOfThreads() > rows ? rows : ConcurrencyUtils.getNumberOfThreads();
+        final int nthreads = context.getNumberOfThreads() > rows ? rows : context.getNumberOfThreads();
 
         Future<?>[] futures = new Future[nthreads];
+        final IndexRange rowRange = new IndexRange(0, rows, nthreads);
         for (int i = 0; i < nthreads; i++) {
-            final int n0 = i;
-            futures[i] = ConcurrencyUtils.submit(new Runnable() {
+            futures[i] = context.submit(new Runnable() {
                 public void run() {
+                    IndexRange.Cursor cursor = rowRange.cursor();
                     if (icr == 0) {
                         if (isgn == -1) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 fftColumns.complexForward(a[r]);
                             }
                         } else {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 fftColumns.complexInverse(a[r], scale);
                             }
                         }
                     } else {
                         if (isgn == 1) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 fftColumns.realForward(a[r]);
                             }
                         } else {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 fftColumns.realInverse(a[r], scale);
                             }
                         }
@@ -2113,30 +2218,31 @@ public strictfp class FloatFFT_2D {
     }
 
     private void xdft2d0_subth2(final int icr, final int isgn, final float[][] a, final boolean scale) {
-        final int nthreads = ConcurrencyUtils.getNumberOfThreads() > rows ? rows : ConcurrencyUtils.getNumberOfThreads();
+        final int nthreads = context.getNumberOfThreads() > rows ? rows : context.getNumberOfThreads();
 
         Future<?>[] futures = new Future[nthreads];
+        final IndexRange rowRange = new IndexRange(0, rows, nthreads);
         for (int i = 0; i < nthreads; i++) {
-            final int n0 = i;
-            futures[i] = ConcurrencyUtils.submit(new Runnable() {
+            futures[i] = context.submit(new Runnable() {
                 public void run() {
+                    IndexRange.Cursor cursor = rowRange.cursor();
                     if (icr == 0) {
                         if (isgn == -1) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 fftColumns.complexForward(a[r]);
                             }
                         } else {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 fftColumns.complexInverse(a[r], scale);
                             }
                         }
                     } else {
                         if (isgn == 1) {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 fftColumns.realForward(a[r]);
                             }
                         } else {
-                            for (int r = n0; r < rows; r += nthreads) {
+                            for (int r = cursor.next(); r >= 0; r = cursor.next()) {
                                 fftColumns.realInverse2(a[r], 0, scale);
                             }
                         }
@@ -2147,332 +2253,37 @@ public strictfp class FloatFFT_2D {
         ConcurrencyUtils.waitForCompletion(futures);
     }
 
-    private void cdft2d_subth(final int isgn, final float[] a, final boolean scale) {
-        int nthread = ConcurrencyUtils.getNumberOfThreads();
-        int nt = 8 * rows;
-        if (columns == 4 * nthread) {
-            nt >>= 1;
-        } else if (columns < 4 * nthread) {
-            nthread = columns >> 1;
-            nt >>= 2;
-        }
-        Future<?>[] futures = new Future[nthread];
-        final int nthreads = nthread;
-        for (int i = 0; i < nthread; i++) {
-            final int n0 = i;
-            final int startt = nt * i;
-            futures[i] = ConcurrencyUtils.submit(new Runnable() {
+    /**
+     * Returns the range of the blocks of columns that are transformed together
+     * by cdft2d_sub: four complex columns at a time, or all of them if there
+     * are fewer.
+     */
+    private IndexRange getColumnBlocks(int columns, int ntasks) {
+        return new IndexRange(0, (columns > 4) ? columns / 8 : 1, ntasks);
+    }
+
+    private void cdft2d_subth(final int isgn, final float[] a, final boolean scale, final int columns) {
+        int nthreads = context.getNumberOfThreads();
+        final IndexRange columnRange = getColumnBlocks(columns, nthreads);
+        Future<?>[] futures = new Future[nthreads];
+        for (int i = 0; i < nthreads; i++) {
+            futures[i] = context.submit(new Runnable() {
                 public void run() {
-                    int idx1, idx2, idx3, idx4, idx5;
-                    if (isgn == -1) {
-                        if (columns > 4 * nthreads) {
-                            for (int c = 8 * n0; c < columns; c += 8 * nthreads) {
-                                for (int r = 0; r < rows; r++) {
-                                    idx1 = r * columns + c;
-                                    idx2 = startt + 2 * r;
-                                    idx3 = startt + 2 * rows + 2 * r;
-                                    idx4 = idx3 + 2 * rows;
-                                    idx5 = idx4 + 2 * rows;
-                                    t[idx2] = a[idx1];
-                                    t[idx2 + 1] = a[idx1 + 1];
-                                    t[idx3] = a[idx1 + 2];
-                                    t[idx3 + 1] = a[idx1 + 3];
-                                    t[idx4] = a[idx1 + 4];
-                                    t[idx4 + 1] = a[idx1 + 5];
-                                    t[idx5] = a[idx1 + 6];
-                                    t[idx5 + 1] = a[idx1 + 7];
-                                }
-                                fftRows.complexForward(t, startt);
-                                fftRows.complexForward(t, startt + 2 * rows);
-                                fftRows.complexForward(t, startt + 4 * rows);
-                                fftRows.complexForward(t, startt + 6 * rows);
-                                for (int r = 0; r < rows; r++) {
-                                    idx1 = r * columns + c;
-                                    idx2 = startt + 2 * r;
-                                    idx3 = startt + 2 * rows + 2 * r;
-                                    idx4 = idx3 + 2 * rows;
-                                    idx5 = idx4 + 2 * rows;
-                                    a[idx1] = t[idx2];
-                                    a[idx1 + 1] = t[idx2 + 1];
-                                    a[idx1 + 2] = t[idx3];
-                                    a[idx1 + 3] = t[idx3 + 1];
-                                    a[idx1 + 4] = t[idx4];
-                                    a[idx1 + 5] = t[idx4 + 1];
-                                    a[idx1 + 6] = t[idx5];
-                                    a[idx1 + 7] = t[idx5 + 1];
-                                }
-                            }
-                        } else if (columns == 4 * nthreads) {
-                            for (int r = 0; r < rows; r++) {
-                                idx1 = r * columns + 4 * n0;
-                                idx2 = startt + 2 * r;
-                                idx3 = startt + 2 * rows + 2 * r;
-                                t[idx2] = a[idx1];
-                                t[idx2 + 1] = a[idx1 + 1];
-                                t[idx3] = a[idx1 + 2];
-                                t[idx3 + 1] = a[idx1 + 3];
-                            }
-                            fftRows.complexForward(t, startt);
-                            fftRows.complexForward(t, startt + 2 * rows);
-                            for (int r = 0; r < rows; r++) {
-                                idx1 = r * columns + 4 * n0;
-                                idx2 = startt + 2 * r;
-                                idx3 = startt + 2 * rows + 2 * r;
-                                a[idx1] = t[idx2];
-                                a[idx1 + 1] = t[idx2 + 1];
-                                a[idx1 + 2] = t[idx3];
-                                a[idx1 + 3] = t[idx3 + 1];
-                            }
-                        } else if (columns == 2 * nthreads) {
-                            for (int r = 0; r < rows; r++) {
-                                idx1 = r * columns + 2 * n0;
-                                idx2 = startt + 2 * r;
-                                t[idx2] = a[idx1];
-                                t[idx2 + 1] = a[idx1 + 1];
-                            }
-                            fftRows.complexForward(t, startt);
-                            for (int r = 0; r < rows; r++) {
-                                idx1 = r * columns + 2 * n0;
-                                idx2 = startt + 2 * r;
-                                a[idx1] = t[idx2];
-                                a[idx1 + 1] = t[idx2 + 1];
-                            }
-                        }
-                    } else {
-                        if (columns > 4 * nthreads) {
-                            for (int c = 8 * n0; c < columns; c += 8 * nthreads) {
-                                for (int r = 0; r < rows; r++) {
-                                    idx1 = r * columns + c;
-                                    idx2 = startt + 2 * r;
-                                    idx3 = startt + 2 * rows + 2 * r;
-                                    idx4 = idx3 + 2 * rows;
-                                    idx5 = idx4 + 2 * rows;
-                                    t[idx2] = a[idx1];
-                                    t[idx2 + 1] = a[idx1 + 1];
-                                    t[idx3] = a[idx1 + 2];
-                                    t[idx3 + 1] = a[idx1 + 3];
-                                    t[idx4] = a[idx1 + 4];
-                                    t[idx4 + 1] = a[idx1 + 5];
-                                    t[idx5] = a[idx1 + 6];
-                                    t[idx5 + 1] = a[idx1 + 7];
-                                }
-                                fftRows.complexInverse(t, startt, scale);
-                                fftRows.complexInverse(t, startt + 2 * rows, scale);
-                                fftRows.complexInverse(t, startt + 4 * rows, scale);
-                                fftRows.complexInverse(t, startt + 6 * rows, scale);
-                                for (int r = 0; r < rows; r++) {
-                                    idx1 = r * columns + c;
-                                    idx2 = startt + 2 * r;
-                                    idx3 = startt + 2 * rows + 2 * r;
-                                    idx4 = idx3 + 2 * rows;
-                                    idx5 = idx4 + 2 * rows;
-                                    a[idx1] = t[idx2];
-                                    a[idx1 + 1] = t[idx2 + 1];
-                                    a[idx1 + 2] = t[idx3];
-                                    a[idx1 + 3] = t[idx3 + 1];
-                                    a[idx1 + 4] = t[idx4];
-                                    a[idx1 + 5] = t[idx4 + 1];
-                                    a[idx1 + 6] = t[idx5];
-                                    a[idx1 + 7] = t[idx5 + 1];
-                                }
-                            }
-                        } else if (columns == 4 * nthreads) {
-                            for (int r = 0; r < rows; r++) {
-                                idx1 = r * columns + 4 * n0;
-                                idx2 = startt + 2 * r;
-                                idx3 = startt + 2 * rows + 2 * r;
-                                t[idx2] = a[idx1];
-                                t[idx2 + 1] = a[idx1 + 1];
-                                t[idx3] = a[idx1 + 2];
-                                t[idx3 + 1] = a[idx1 + 3];
-                            }
-                            fftRows.complexInverse(t, startt, scale);
-                            fftRows.complexInverse(t, startt + 2 * rows, scale);
-                            for (int r = 0; r < rows; r++) {
-                                idx1 = r * columns + 4 * n0;
-                                idx2 = startt + 2 * r;
-                                idx3 = startt + 2 * rows + 2 * r;
-                                a[idx1] = t[idx2];
-                                a[idx1 + 1] = t[idx2 + 1];
-                                a[idx1 + 2] = t[idx3];
-                                a[idx1 + 3] = t[idx3 + 1];
-                            }
-                        } else if (columns == 2 * nthreads) {
-                            for (int r = 0; r < rows; r++) {
-                                idx1 = r * columns + 2 * n0;
-                                idx2 = startt + 2 * r;
-                                t[idx2] = a[idx1];
-                                t[idx2 + 1] = a[idx1 + 1];
-                            }
-                            fftRows.complexInverse(t, startt, scale);
-                            for (int r = 0; r < rows; r++) {
-                                idx1 = r * columns + 2 * n0;
-                                idx2 = startt + 2 * r;
-                                a[idx1] = t[idx2];
-                                a[idx1 + 1] = t[idx2 + 1];
-                            }
-                        }
-                    }
+                    cdft2d_sub(isgn, a, scale, columns, new float[8 * rows], columnRange.cursor());
                 }
             });
         }
         ConcurrencyUtils.waitForCompletion(futures);
     }
 
-    private void cdft2d_subth(final int isgn, final float[][] a, final boolean scale) {
-        int nthread = ConcurrencyUtils.getNumberOfThreads();
-        int nt = 8 * rows;
-        if (columns == 4 * nthread) {
-            nt >>= 1;
-        } else if (columns < 4 * nthread) {
-            nthread = columns >> 1;
-            nt >>= 2;
-        }
-        Future<?>[] futures = new Future[nthread];
-        final int nthreads = nthread;
+    private void cdft2d_subth(final int isgn, final float[][] a, final boolean scale, final int columns) {
+        int nthreads = context.getNumberOfThreads();
+        final IndexRange columnRange = getColumnBlocks(columns, nthreads);
+        Future<?>[] futures = new Future[nthreads];
         for (int i = 0; i < nthreads; i++) {
-            final int n0 = i;
-            final int startt = nt * i;
-            futures[i] = ConcurrencyUtils.submit(new Runnable() {
+            futures[i] = context.submit(new Runnable() {
                 public void run() {
-                    int idx2, idx3, idx4, idx5;
-                    if (isgn == -1) {
-                        if (columns > 4 * nthreads) {
-                            for (int c = 8 * n0; c < columns; c += 8 * nthreads) {
-                                for (int r = 0; r < rows; r++) {
-                                    idx2 = startt + 2 * r;
-                                    idx3 = startt + 2 * rows + 2 * r;
-                                    idx4 = idx3 + 2 * rows;
-                                    idx5 = idx4 + 2 * rows;
-                                    t[idx2] = a[r][c];
-                                    t[idx2 + 1] = a[r][c + 1];
-                                    t[idx3] = a[r][c + 2];
-                                    t[idx3 + 1] = a[r][c + 3];
-                                    t[idx4] = a[r][c + 4];
-                                    t[idx4 + 1] = a[r][c + 5];
-                                    t[idx5] = a[r][c + 6];
-                                    t[idx5 + 1] = a[r][c + 7];
-                                }
-                                fftRows.complexForward(t, startt);
-                                fftRows.complexForward(t, startt + 2 * rows);
-                                fftRows.complexForward(t, startt + 4 * rows);
-                                fftRows.complexForward(t, startt + 6 * rows);
-                                for (int r = 0; r < rows; r++) {
-                                    idx2 = startt + 2 * r;
-                                    idx3 = startt + 2 * rows + 2 * r;
-                                    idx4 = idx3 + 2 * rows;
-                                    idx5 = idx4 + 2 * rows;
-                                    a[r][c] = t[idx2];
-                                    a[r][c + 1] = t[idx2 + 1];
-                                    a[r][c + 2] = t[idx3];
-                                    a[r][c + 3] = t[idx3 + 1];
-                                    a[r][c + 4] = t[idx4];
-                                    a[r][c + 5] = t[idx4 + 1];
-                                    a[r][c + 6] = t[idx5];
-                                    a[r][c + 7] = t[idx5 + 1];
-                                }
-                            }
-                        } else if (columns == 4 * nthreads) {
-                            for (int r = 0; r < rows; r++) {
-                                idx2 = startt + 2 * r;
-                                idx3 = startt + 2 * rows + 2 * r;
-                                t[idx2] = a[r][4 * n0];
-                                t[idx2 + 1] = a[r][4 * n0 + 1];
-                                t[idx3] = a[r][4 * n0 + 2];
-                                t[idx3 + 1] = a[r][4 * n0 + 3];
-                            }
-                            fftRows.complexForward(t, startt);
-                            fftRows.complexForward(t, startt + 2 * rows);
-                            for (int r = 0; r < rows; r++) {
-                                idx2 = startt + 2 * r;
-                                idx3 = startt + 2 * rows + 2 * r;
-                                a[r][4 * n0] = t[idx2];
-                                a[r][4 * n0 + 1] = t[idx2 + 1];
-                                a[r][4 * n0 + 2] = t[idx3];
-                                a[r][4 * n0 + 3] = t[idx3 + 1];
-                            }
-                        } else if (columns == 2 * nthreads) {
-                            for (int r = 0; r < rows; r++) {
-                                idx2 = startt + 2 * r;
-                                t[idx2] = a[r][2 * n0];
-                                t[idx2 + 1] = a[r][2 * n0 + 1];
-                            }
-                            fftRows.complexForward(t, startt);
-                            for (int r = 0; r < rows; r++) {
-                                idx2 = startt + 2 * r;
-                                a[r][2 * n0] = t[idx2];
-                                a[r][2 * n0 + 1] = t[idx2 + 1];
-                            }
-                        }
-                    } else {
-                        if (columns > 4 * nthreads) {
-                            for (int c = 8 * n0; c < columns; c += 8 * nthreads) {
-                                for (int r = 0; r < rows; r++) {
-                                    idx2 = startt + 2 * r;
-                                    idx3 = startt + 2 * rows + 2 * r;
-                                    idx4 = idx3 + 2 * rows;
-                                    idx5 = idx4 + 2 * rows;
-                                    t[idx2] = a[r][c];
-                                    t[idx2 + 1] = a[r][c + 1];
-                                    t[idx3] = a[r][c + 2];
-                                    t[idx3 + 1] = a[r][c + 3];
-                                    t[idx4] = a[r][c + 4];
-                                    t[idx4 + 1] = a[r][c + 5];
-                                    t[idx5] = a[r][c + 6];
-                                    t[idx5 + 1] = a[r][c + 7];
-                                }
-                                fftRows.complexInverse(t, startt, scale);
-                                fftRows.complexInverse(t, startt + 2 * rows, scale);
-                                fftRows.complexInverse(t, startt + 4 * rows, scale);
-                                fftRows.complexInverse(t, startt + 6 * rows, scale);
-                                for (int r = 0; r < rows; r++) {
-                                    idx2 = startt + 2 * r;
-                                    idx3 = startt + 2 * rows + 2 * r;
-                                    idx4 = idx3 + 2 * rows;
-                                    idx5 = idx4 + 2 * rows;
-                                    a[r][c] = t[idx2];
-                                    a[r][c + 1] = t[idx2 + 1];
-                                    a[r][c + 2] = t[idx3];
-                                    a[r][c + 3] = t[idx3 + 1];
-                                    a[r][c + 4] = t[idx4];
-                                    a[r][c + 5] = t[idx4 + 1];
-                                    a[r][c + 6] = t[idx5];
-                                    a[r][c + 7] = t[idx5 + 1];
-                                }
-                            }
-                        } else if (columns == 4 * nthreads) {
-                            for (int r = 0; r < rows; r++) {
-                                idx2 = startt + 2 * r;
-                                idx3 = startt + 2 * rows + 2 * r;
-                                t[idx2] = a[r][4 * n0];
-                                t[idx2 + 1] = a[r][4 * n0 + 1];
-                                t[idx3] = a[r][4 * n0 + 2];
-                                t[idx3 + 1] = a[r][4 * n0 + 3];
-                            }
-                            fftRows.complexInverse(t, startt, scale);
-                            fftRows.complexInverse(t, startt + 2 * rows, scale);
-                            for (int r = 0; r < rows; r++) {
-                                idx2 = startt + 2 * r;
-                                idx3 = startt + 2 * rows + 2 * r;
-                                a[r][4 * n0] = t[idx2];
-                                a[r][4 * n0 + 1] = t[idx2 + 1];
-                                a[r][4 * n0 + 2] = t[idx3];
-                                a[r][4 * n0 + 3] = t[idx3 + 1];
-                            }
-                        } else if (columns == 2 * nthreads) {
-                            for (int r = 0; r < rows; r++) {
-                                idx2 = startt + 2 * r;
-                                t[idx2] = a[r][2 * n0];
-                                t[idx2 + 1] = a[r][2 * n0 + 1];
-                            }
-                            fftRows.complexInverse(t, startt, scale);
-                            for (int r = 0; r < rows; r++) {
-                                idx2 = startt + 2 * r;
-                                a[r][2 * n0] = t[idx2];
-                                a[r][2 * n0 + 1] = t[idx2 + 1];
-                            }
-                        }
-                    }
+                    cdft2d_sub(isgn, a, scale, columns, new float[8 * rows], columnRange.cursor());
                 }
             });
         }
@@ -2482,7 +2293,7 @@ public strictfp class FloatFFT_2D {
     private void fillSymmetric(final float[] a) {
         final int twon2 = 2 * columns;
         int idx1, idx2, idx3, idx4;
-        int n1d2 = rows / 2;
+        final int n1d2 = rows / 2;
 
         for (int r = (rows - 1); r >= 1; r--) {
             idx1 = r * columns;
@@ -2494,48 +2305,31 @@ public strictfp class FloatFFT_2D {
                 a[idx1 + c + 1] = 0;
             }
         }
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
-        if ((nthreads > 1) && useThreads && (n1d2 >= nthreads)) {
+        int nthreads = context.getNumberOfThreads();
+        if ((nthreads > 1) && useThreads) {
             Future<?>[] futures = new Future[nthreads];
-            int l1k = n1d2 / nthreads;
             final int newn2 = 2 * columns;
+            final IndexRange rowRange = new IndexRange(0, n1d2 + 1, nthreads);
             for (int i = 0; i < nthreads; i++) {
-                final int l1offa, l1stopa, l2offa, l2stopa;
-                if (i == 0)
-                    l1offa = i * l1k + 1;
-                else {
-                    l1offa = i * l1k;
-                }
-                l1stopa = i * l1k + l1k;
-                l2offa = i * l1k;
-                if (i == nthreads - 1) {
-                    l2stopa = i * l1k + l1k + 1;
-                } else {
-                    l2stopa = i * l1k + l1k;
-                }
-                futures[i] = ConcurrencyUtils.submit(new Runnable() {
+                futures[i] = context.submit(new Runnable() {
                     public void run() {
                         int idx1, idx2, idx3, idx4;
-
-                        for (int r = l1offa; r < l1stopa; r++) {
-                            idx1 = r * newn2;
-                            idx2 = (rows - r) * newn2;
-                            idx3 = idx1 + columns;
-                            a[idx3] = a[idx2 + 1];
-                            a[idx3 + 1] = -a[idx2];
-                        }
-                        for (int r = l1offa; r < l1stopa; r++) {
-                            idx1 = r * newn2;
-                            idx3 = (rows - r + 1) * newn2;
-                            for (int c = columns + 2; c < newn2; c += 2) {
-                                idx2 = idx3 - c;
-                                idx4 = idx1 + c;
-                                a[idx4] = a[idx2];
-                                a[idx4 + 1] = -a[idx2 + 1];
-
+                        IndexRange.Cursor cursor = rowRange.cursor();
+                        for (int r = cursor.next(); r >= 0; r = cursor.next()) {
+                            if ((r > 0) && (r < n1d2)) {
+                                idx1 = r * newn2;
+                                idx2 = (rows - r) * newn2;
+                                idx3 = idx1 + columns;
+                                a[idx3] = a[idx2 + 1];
+                                a[idx3 + 1] = -a[idx2];
+                                idx3 = (rows - r + 1) * newn2;
+                                for (int c = columns + 2; c < newn2; c += 2) {
+                                    idx2 = idx3 - c;
+                                    idx4 = idx1 + c;
+                                    a[idx4] = a[idx2];
+                                    a[idx4 + 1] = -a[idx2 + 1];
+                                }
                             }
-                        }
-                        for (int r = l2offa; r < l2stopa; r++) {
                             idx3 = ((rows - r) % rows) * newn2;
                             idx4 = r * newn2;
                             for (int c = 0; c < newn2; c += 2) {
@@ -2589,44 +2383,28 @@ public strictfp class FloatFFT_2D {
 
     private void fillSymmetric(final float[][] a) {
         final int newn2 = 2 * columns;
-        int n1d2 = rows / 2;
+        final int n1d2 = rows / 2;
 
-        int nthreads = ConcurrencyUtils.getNumberOfThreads();
-        if ((nthreads > 1) && useThreads && (n1d2 >= nthreads)) {
+        int nthreads = context.getNumberOfThreads();
+        if ((nthreads > 1) && useThreads) {
             Future<?>[] futures = new Future[nthreads];
-            int l1k = n1d2 / nthreads;
+            final IndexRange rowRange = new IndexRange(0, n1d2 + 1, nthreads);
             for (int i = 0; i < nthreads; i++) {
-                final int l1offa, l1stopa, l2offa, l2stopa;
-                if (i == 0)
-                    l1offa = i * l1k + 1;
-                else {
-                    l1offa = i * l1k;
-                }
-                l1stopa = i * l1k + l1k;
-                l2offa = i * l1k;
-                if (i == nthreads - 1) {
-                    l2stopa = i * l1k + l1k + 1;
-                } else {
-                    l2stopa = i * l1k + l1k;
-                }
-                futures[i] = ConcurrencyUtils.submit(new Runnable() {
+                futures[i] = context.submit(new Runnable() {
                     public void run() {
                         int idx1, idx2;
-                        for (int r = l1offa; r < l1stopa; r++) {
-                            idx1 = rows - r;
-                            a[r][columns] = a[idx1][1];
-                            a[r][columns + 1] = -a[idx1][0];
-                        }
-                        for (int r = l1offa; r < l1stopa; r++) {
-                            idx1 = rows - r;
-                            for (int c = columns + 2; c < newn2; c += 2) {
-                                idx2 = newn2 - c;
-                                a[r][c] = a[idx1][idx2];
-                                a[r][c + 1] = -a[idx1][idx2 + 1];
-
+                        IndexRange.Cursor cursor = rowRange.cursor();
+                        for (int r = cursor.next(); r >= 0; r = cursor.next()) {
+                            if ((r > 0) && (r < n1d2)) {
+                                idx1 = rows - r;
+                                a[r][columns] = a[idx1][1];
+                                a[r][columns + 1] = -a[idx1][0];
+                                for (int c = columns + 2; c < newn2; c += 2) {
+                                    idx2 = newn2 - c;
+                                    a[r][c] = a[idx1][idx2];
+                                    a[r][c + 1] = -a[idx1][idx2 + 1];
+                                }
                             }
-                        }
-                        for (int r = l2offa; r < l2stopa; r++) {
                             idx1 = (rows - r) % rows;
                             for (int c = 0; c < newn2; c = c + 2) {
                                 idx2 = (newn2 - c) % newn2;
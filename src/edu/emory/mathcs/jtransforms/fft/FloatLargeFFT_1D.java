@@ -0,0 +1,309 @@
+/* ***** BEGIN LICENSE BLOCK *****
+ * Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License
+ * for the specific language governing rights and limitations under the
+ * License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is
+ * Piotr Wendykier, Emory University.
+ * Portions created by the Initial Developer are Copyright (C) 2007-2009
+ * the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or
+ * the GNU Lesser General Public License Version 2.1 or later (the "LGPL"),
+ * in which case the provisions of the GPL or the LGPL are applicable instead
+ * of those above. If you wish to allow use of your version of this file only
+ * under the terms of either the GPL or the LGPL, and not to allow others to
+ * use your version of this file under the terms of the MPL, indicate your
+ * decision by deleting the provisions above and replace them with the notice
+ * and other provisions required by the GPL or the LGPL. If you do not delete
+ * the provisions above, a recipient may use your version of this file under
+ * the terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK ***** */
+package edu.emory.mathcs.jtransforms.fft;
+
+import java.util.concurrent.Future;
+
+import edu.emory.mathcs.utils.ConcurrencyContext;
+import edu.emory.mathcs.utils.ConcurrencyUtils;
+import edu.emory.mathcs.utils.FloatLargeArray;
+import edu.emory.mathcs.utils.IndexRange;
+
+/**
+ * Computes 1D Discrete Fourier Transform (DFT) of complex, float precision
+ * data stored in a {@link FloatLargeArray}, whose size can exceed 2^30. The
+ * size n is split as n = n1*n2 with n1 &lt;= n2 and the four-step algorithm is
+ * run in two passes: the first pass views the input as an n2 x n1 matrix,
+ * transforms blocks of its columns, multiplies them by the twiddle factors
+ * and stores them transposed in the output; the second pass transforms blocks
+ * of columns of the resulting n1 x n2 matrix in place, which leaves the result
+ * in natural order. The blocks are copied to arrays, transformed by
+ * {@link FloatFFT_1D} and copied back, in parallel.
+ * 
+ */
+public strictfp class FloatLargeFFT_1D {
+
+    private static final int BLOCK_SIZE = 1 << 20;
+
+    private long n;
+
+    private int n1;
+
+    private int n2;
+
+    private int block1;
+
+    private int block2;
+
+    private int shift;
+
+    private float[] w;
+
+    private FloatFFT_1D fft1, fft2;
+
+    private ConcurrencyContext context;
+
+    /**
+     * Creates new instance of FloatLargeFFT_1D.
+     * 
+     * @param n
+     *            size of data
+     */
+    public FloatLargeFFT_1D(long n) {
+        this(n, ConcurrencyContext.getDefault());
+    }
+
+    /**
+     * Creates new instance of FloatLargeFFT_1D.
+     * 
+     * @param n
+     *            size of data
+     * @param context
+     *            executor and number of threads used by this transform
+     */
+    public FloatLargeFFT_1D(long n, ConcurrencyContext context) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be greater than 0");
+        }
+        if (context == null) {
+            throw new IllegalArgumentException("context cannot be null");
+        }
+        long split = getSplit(n);
+        if (n / split > (Integer.MAX_VALUE - 8) / 2) {
+            throw new IllegalArgumentException("n = " + n + " is too large: the smallest factor n2 of n with n / n2 <= n2 must not exceed 2^30");
+        }
+        this.n = n;
+        this.context = context;
+        n1 = (int) split;
+        n2 = (int) (n / split);
+        block1 = Math.max(1, Math.min(n1, BLOCK_SIZE / n2));
+        block2 = Math.max(1, Math.min(n2, BLOCK_SIZE / n1));
+        fft1 = new FloatFFT_1D(n1, context);
+        fft2 = new FloatFFT_1D(n2, context);
+        twiddlesi();
+    }
+
+    /**
+     * Computes 1D forward DFT of complex data read from <code>src</code> and
+     * stores the result in <code>dst</code>. The arrays must be distinct and
+     * hold at least 2*n elements. The physical layout of the data is as
+     * follows:<br>
+     * 
+     * <pre>
+     * src.get(2*k) = Re[k], 
+     * src.get(2*k+1) = Im[k], 0&lt;=k&lt;n
+     * </pre>
+     * 
+     * @param src
+     *            data to transform
+     * @param dst
+     *            transformed data
+     */
+    public void complexForward(FloatLargeArray src, FloatLargeArray dst) {
+        transform(src, dst, true, false);
+    }
+
+    /**
+     * Computes 1D inverse DFT of complex data read from <code>src</code> and
+     * stores the result in <code>dst</code>. The arrays must be distinct and
+     * hold at least 2*n elements. The physical layout of the data is as
+     * follows:<br>
+     * 
+     * <pre>
+     * src.get(2*k) = Re[k], 
+     * src.get(2*k+1) = Im[k], 0&lt;=k&lt;n
+     * </pre>
+     * 
+     * @param src
+     *            data to transform
+     * @param dst
+     *            transformed data
+     * @param scale
+     *            if true then scaling is performed
+     */
+    public void complexInverse(FloatLargeArray src, FloatLargeArray dst, boolean scale) {
+        transform(src, dst, false, scale);
+    }
+
+    private void transform(final FloatLargeArray src, final FloatLargeArray dst, final boolean forward, final boolean scale) {
+        if (src == dst) {
+            throw new IllegalArgumentException("src and dst must be distinct");
+        }
+        if ((src.length() < 2 * n) || (dst.length() < 2 * n)) {
+            throw new IllegalArgumentException("src and dst must hold at least 2*n elements");
+        }
+        final int blocks1 = (n1 - 1) / block1 + 1;
+        final int blocks2 = (n2 - 1) / block2 + 1;
+        int nthreads = context.getNumberOfThreads();
+        if (nthreads > 1) {
+            Future<?>[] futures = new Future[nthreads];
+            final IndexRange range1 = new IndexRange(0, blocks1, nthreads);
+            for (int l = 0; l < nthreads; l++) {
+                futures[l] = context.submit(new Runnable() {
+                    public void run() {
+                        firstPass(src, dst, range1.cursor(), forward, scale);
+                    }
+                });
+            }
+            ConcurrencyUtils.waitForCompletion(futures);
+            final IndexRange range2 = new IndexRange(0, blocks2, nthreads);
+            for (int l = 0; l < nthreads; l++) {
+                futures[l] = context.submit(new Runnable() {
+                    public void run() {
+                        secondPass(dst, range2.cursor(), forward, scale);
+                    }
+                });
+            }
+            ConcurrencyUtils.waitForCompletion(futures);
+        } else {
+            firstPass(src, dst, new IndexRange(0, blocks1, 1).cursor(), forward, scale);
+            secondPass(dst, new IndexRange(0, blocks2, 1).cursor(), forward, scale);
+        }
+    }
+
+    /*
+     * Transforms the blocks of columns of the n2 x n1 source matrix taken from
+     * the cursor and stores them, twiddled, as rows of the n1 x n2
+     * destination matrix.
+     */
+    private void firstPass(FloatLargeArray src, FloatLargeArray dst, IndexRange.Cursor cursor, boolean forward, boolean scale) {
+        float[] t = new float[2 * block1 * n2];
+        float[] u = new float[2 * block1 * n2];
+        float[] panel = new float[FloatFFT_1D.PANEL_SIZE * 2 * n2];
+        FloatFFT_1D.Workspace ws = fft2.createWorkspace();
+        for (int b = cursor.next(); b >= 0; b = cursor.next()) {
+            int c = b * block1;
+            int width = Math.min(block1, n1 - c);
+            for (int j2 = 0; j2 < n2; j2++) {
+                src.get(2 * ((long) j2 * n1 + c), t, 2 * j2 * width, 2 * width);
+            }
+            for (int j = 0; j < width; j += FloatFFT_1D.PANEL_SIZE) {
+                fft2.transformPanel(t, 2 * j, Math.min(FloatFFT_1D.PANEL_SIZE, width - j), 2 * width, 2, true, forward, scale, panel, ws);
+            }
+            twiddle(t, u, c, width, forward);
+            dst.set(2L * c * n2, u, 0, 2 * width * n2);
+        }
+    }
+
+    /*
+     * Transforms the blocks of columns of the n1 x n2 destination matrix taken
+     * from the cursor.
+     */
+    private void secondPass(FloatLargeArray dst, IndexRange.Cursor cursor, boolean forward, boolean scale) {
+        float[] t = new float[2 * block2 * n1];
+        float[] panel = new float[FloatFFT_1D.PANEL_SIZE * 2 * n1];
+        FloatFFT_1D.Workspace ws = fft1.createWorkspace();
+        for (int b = cursor.next(); b >= 0; b = cursor.next()) {
+            int c = b * block2;
+            int width = Math.min(block2, n2 - c);
+            for (int j1 = 0; j1 < n1; j1++) {
+                dst.get(2 * ((long) j1 * n2 + c), t, 2 * j1 * width, 2 * width);
+            }
+            for (int j = 0; j < width; j += FloatFFT_1D.PANEL_SIZE) {
+                fft1.transformPanel(t, 2 * j, Math.min(FloatFFT_1D.PANEL_SIZE, width - j), 2 * width, 2, true, forward, scale, panel, ws);
+            }
+            for (int j1 = 0; j1 < n1; j1++) {
+                dst.set(2 * ((long) j1 * n2 + c), t, 2 * j1 * width, 2 * width);
+            }
+        }
+    }
+
+    /*
+     * Multiplies element k2 of column j1 = c+j of the first pass by
+     * exp(-+2*pi*i*j1*k2/n) and transposes the block. The twiddle factor of
+     * exponent e is the product of the entry e%block of a fine table and of the
+     * entry e/block of a coarse table.
+     */
+    private void twiddle(float[] t, float[] u, int c, int width, boolean forward) {
+        long mask = (1L << shift) - 1;
+        int coarse = 2 << shift;
+        for (int j = 0; j < width; j++) {
+            long j1 = c + j;
+            long e = 0;
+            int idx1 = 2 * j;
+            int idx2 = 2 * j * n2;
+            for (int k2 = 0; k2 < n2; k2++) {
+                int idx3 = (int) (2 * (e & mask));
+                int idx4 = coarse + (int) (2 * (e >>> shift));
+                float wr = w[idx3] * w[idx4] - w[idx3 + 1] * w[idx4 + 1];
+                float wi = w[idx3] * w[idx4 + 1] + w[idx3 + 1] * w[idx4];
+                float re = t[idx1];
+                float im = t[idx1 + 1];
+                if (forward) {
+                    u[idx2] = re * wr + im * wi;
+                    u[idx2 + 1] = im * wr - re * wi;
+                } else {
+                    u[idx2] = re * wr - im * wi;
+                    u[idx2 + 1] = im * wr + re * wi;
+                }
+                e += j1;
+                idx1 += 2 * width;
+                idx2 += 2;
+            }
+        }
+    }
+
+    private void twiddlesi() {
+        long block = 1;
+        while (block * block < n) {
+            block <<= 1;
+        }
+        shift = Long.numberOfTrailingZeros(block);
+        int coarse = (int) ((n - 1) / block + 1);
+        w = new float[2 * ((int) block + coarse)];
+        for (int l = 0; l < block; l++) {
+            double arg = 2 * Math.PI * l / n;
+            w[2 * l] = (float) Math.cos(arg);
+            w[2 * l + 1] = (float) Math.sin(arg);
+        }
+        for (int h = 0; h < coarse; h++) {
+            double arg = 2 * Math.PI * ((double) h * block) / n;
+            w[2 * ((int) block + h)] = (float) Math.cos(arg);
+            w[2 * ((int) block + h) + 1] = (float) Math.sin(arg);
+        }
+    }
+
+    /*
+     * Returns the largest divisor of n that is not greater than its square
+     * root.
+     */
+    private static long getSplit(long n) {
+        for (long n1 = (long) Math.sqrt((double) n); n1 > 1; n1--) {
+            if (n % n1 == 0) {
+                return n1;
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * ***** BEGIN LICENSE BLOCK ***** Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License for
+ * the specific language governing rights and limitations under the License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is Piotr Wendykier, Emory
+ * University. Portions created by the Initial Developer are Copyright (C)
+ * 2007-2009 the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or the
+ * GNU Lesser General Public License Version 2.1 or later (the "LGPL"), in which
+ * case the provisions of the GPL or the LGPL are applicable instead of those
+ * above. If you wish to allow use of your version of this file only under the
+ * terms of either the GPL or the LGPL, and not to allow others to use your
+ * version of this file under the terms of the MPL, indicate your decision by
+ * deleting the provisions above and replace them with the notice and other
+ * provisions required by the GPL or the LGPL. If you do not delete the
+ * provisions above, a recipient may use your version of this file under the
+ * terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK *****
+ */
+
+package edu.emory.mathcs.jtransforms.fft;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+import edu.emory.mathcs.utils.ConcurrencyContext;
+import edu.emory.mathcs.utils.MappedFileUtils;
+
+/**
+ * Computes 1D Discrete Fourier Transform (DFT) of complex, float precision
+ * data stored in a file, which may be much larger than the Java heap. The
+ * size n is split as n = n1*n2 with n1 &lt;= n2 and the four-step algorithm
+ * is run in two passes over the file. The first pass views the input as an n2
+ * x n1 matrix, transforms blocks of its columns, multiplies them by the
+ * twiddle factors and writes them transposed to the output. The second pass
+ * transforms blocks of columns of the resulting n1 x n2 matrix in place,
+ * which leaves the result in natural order. The blocks are read and written
+ * through memory-mapped windows (see {@link MappedFileUtils}) and transformed
+ * in memory by {@link FloatFFT_1D}, in parallel. The blocks are as wide as the
+ * memory budget allows, so that the file is accessed in runs as long as
+ * possible. <br>
+ * <br>
+ * Complex numbers are stored as two float values in sequence, the real and
+ * the imaginary part, in the byte order given to the constructor.
+ * 
+ */
+public strictfp class FloatOutOfCoreFFT_1D {
+
+    private static final int MAX_LENGTH = (Integer.MAX_VALUE - 8) / 2;
+
+    private long n;
+
+    private int n1;
+
+    private int n2;
+
+    private int block1;
+
+    private int block2;
+
+    private int shift;
+
+    private float[] w;
+
+    private ByteOrder order;
+
+    private FloatFFT_1D fft1, fft2;
+
+    /**
+     * Creates new instance of FloatOutOfCoreFFT_1D for data in the native
+     * byte order.
+     * 
+     * @param n
+     *            size of data
+     * @param memoryBudget
+     *            maximal number of bytes of the blocks held in memory
+     */
+    public FloatOutOfCoreFFT_1D(long n, long memoryBudget) {
+        this(n, memoryBudget, ByteOrder.nativeOrder(), ConcurrencyContext.getDefault());
+    }
+
+    /**
+     * Creates new instance of FloatOutOfCoreFFT_1D. The budget bounds the
+     * blocks of data held in memory by a call; it must be large enough for
+     * one column of n2 complex numbers, i.e. at least 8*n2 bytes, where n2 is
+     * the larger factor of n (n itself if n is prime).
+     * 
+     * @param n
+     *            size of data
+     * @param memoryBudget
+     *            maximal number of bytes of the blocks held in memory
+     * @param order
+     *            byte order of the data in the files
+     * @param context
+     *            executor and number of threads used by this transform
+     */
+    public FloatOutOfCoreFFT_1D(long n, long memoryBudget, ByteOrder order, ConcurrencyContext context) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be greater than 0");
+        }
+        if (order == null) {
+            throw new IllegalArgumentException("order cannot be null");
+        }
+        if (context == null) {
+            throw new IllegalArgumentException("context cannot be null");
+        }
+        long split = getSplit(n);
+        if ((n / split > MAX_LENGTH) || (8L * (n / split) > memoryBudget)) {
+            throw new IllegalArgumentException("memoryBudget is too small for n = " + n);
+        }
+        this.n = n;
+        this.order = order;
+        n1 = (int) split;
+        n2 = (int) (n / split);
+        block1 = (int) Math.min(Math.min(n1, memoryBudget / (8L * n2)), MAX_LENGTH / n2);
+        block2 = (int) Math.min(Math.min(n2, memoryBudget / (8L * n1)), MAX_LENGTH / n1);
+        fft1 = new FloatFFT_1D(n1, context);
+        fft2 = new FloatFFT_1D(n2, context);
+        twiddlesi();
+    }
+
+    /**
+     * Computes 1D forward DFT of complex data read from <code>src</code> and
+     * writes the result to <code>dst</code>. The two regions of n complex
+     * numbers must not overlap; they can be in the same file. The physical
+     * layout of the data, in units of float values, has to be as follows:<br>
+     * 
+     * <pre>
+     * src[srcPosition+2*k] = Re[k], 
+     * src[srcPosition+2*k+1] = Im[k], 0&lt;=k&lt;n
+     * </pre>
+     * 
+     * @param src
+     *            file containing the data to transform
+     * @param srcPosition
+     *            byte position of the data in <code>src</code>
+     * @param dst
+     *            file to which the result is written, opened for reading and
+     *            writing
+     * @param dstPosition
+     *            byte position of the result in <code>dst</code>
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public void complexForward(FileChannel src, long srcPosition, FileChannel dst, long dstPosition) throws IOException {
+        transform(src, srcPosition, dst, dstPosition, -1, false);
+    }
+
+    /**
+     * Computes 1D inverse DFT of complex data read from <code>src</code> and
+     * writes the result to <code>dst</code>. The two regions of n complex
+     * numbers must not overlap; they can be in the same file. The physical
+     * layout of the data, in units of float values, has to be as follows:<br>
+     * 
+     * <pre>
+     * src[srcPosition+2*k] = Re[k], 
+     * src[srcPosition+2*k+1] = Im[k], 0&lt;=k&lt;n
+     * </pre>
+     * 
+     * @param src
+     *            file containing the data to transform
+     * @param srcPosition
+     *            byte position of the data in <code>src</code>
+     * @param dst
+     *            file to which the result is written, opened for reading and
+     *            writing
+     * @param dstPosition
+     *            byte position of the result in <code>dst</code>
+     * @param scale
+     *            if true then scaling is performed
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public void complexInverse(FileChannel src, long srcPosition, FileChannel dst, long dstPosition, boolean scale) throws IOException {
+        transform(src, srcPosition, dst, dstPosition, 1, scale);
+    }
+
+    private void transform(FileChannel src, long srcPosition, FileChannel dst, long dstPosition, int isign, boolean scale) throws IOException {
+        if ((srcPosition < 0) || (dstPosition < 0)) {
+            throw new IllegalArgumentException("positions must be greater or equal 0");
+        }
+        if ((src == dst) && (srcPosition < dstPosition + 8 * n) && (dstPosition < srcPosition + 8 * n)) {
+            throw new IllegalArgumentException("the source and the destination must not overlap");
+        }
+        // first pass: columns of the n2 x n1 input, written transposed
+        float[] panel = new float[2 * block1 * n2];
+        for (int c = 0; c < n1; c += block1) {
+            int width = Math.min(block1, n1 - c);
+            MappedFileUtils.readColumns(src, srcPosition, order, n2, n1, c, width, panel);
+            if (isign < 0) {
+                fft2.complexForwardBatch(panel, 0, width, 2, 2 * n2);
+            } else {
+                fft2.complexInverseBatch(panel, 0, width, 2, 2 * n2, scale);
+            }
+            twiddle(panel, c, width, isign);
+            MappedFileUtils.write(dst, dstPosition + 8L * c * n2, order, panel, 2 * width * n2);
+        }
+        // second pass: columns of the n1 x n2 transposed matrix, in place
+        panel = null;
+        panel = new float[2 * block2 * n1];
+        for (int c = 0; c < n2; c += block2) {
+            int width = Math.min(block2, n2 - c);
+            MappedFileUtils.readColumns(dst, dstPosition, order, n1, n2, c, width, panel);
+            if (isign < 0) {
+                fft1.complexForwardBatch(panel, 0, width, 2, 2 * n1);
+            } else {
+                fft1.complexInverseBatch(panel, 0, width, 2, 2 * n1, scale);
+            }
+            MappedFileUtils.writeColumns(dst, dstPosition, order, n1, n2, c, width, panel);
+        }
+    }
+
+    /*
+     * Multiplies element k2 of column j1 = c+j of the first pass by
+     * exp(-+2*pi*i*j1*k2/n). The twiddle factor of exponent e is the product
+     * of the entry e%block of a fine table and of the entry e/block of a
+     * coarse table.
+     */
+    private void twiddle(float[] panel, int c, int width, int isign) {
+        long mask = (1L << shift) - 1;
+        int coarse = 2 << shift;
+        for (int j = 0; j < width; j++) {
+            long j1 = c + j;
+            long e = 0;
+            int idx = 2 * j * n2;
+            for (int k2 = 0; k2 < n2; k2++) {
+                int idx1 = (int) (2 * (e & mask));
+                int idx2 = coarse + (int) (2 * (e >>> shift));
+                float wr = w[idx1] * w[idx2] - w[idx1 + 1] * w[idx2 + 1];
+                float wi = w[idx1] * w[idx2 + 1] + w[idx1 + 1] * w[idx2];
+                float re = panel[idx];
+                float im = panel[idx + 1];
+                if (isign < 0) {
+                    panel[idx] = re * wr + im * wi;
+                    panel[idx + 1] = im * wr - re * wi;
+                } else {
+                    panel[idx] = re * wr - im * wi;
+                    panel[idx + 1] = im * wr + re * wi;
+                }
+                e += j1;
+                idx += 2;
+            }
+        }
+    }
+
+    private void twiddlesi() {
+        long block = 1;
+        while (block * block < n) {
+            block <<= 1;
+        }
+        shift = Long.numberOfTrailingZeros(block);
+        int coarse = (int) ((n - 1) / block + 1);
+        w = new float[2 * ((int) block + coarse)];
+        for (int l = 0; l < block; l++) {
+            double arg = 2 * Math.PI * l / n;
+            w[2 * l] = (float) Math.cos(arg);
+            w[2 * l + 1] = (float) Math.sin(arg);
+        }
+        for (int h = 0; h < coarse; h++) {
+            double arg = 2 * Math.PI * ((double) h * block) / n;
+            w[2 * ((int) block + h)] = (float) Math.cos(arg);
+            w[2 * ((int) block + h) + 1] = (float) Math.sin(arg);
+        }
+    }
+
+    /*
+     * Returns the largest divisor of n that is not greater than its square
+     * root.
+     */
+    private static long getSplit(long n) {
+        for (long n1 = (long) Math.sqrt((double) n); n1 > 1; n1--) {
+            if (n % n1 == 0) {
+                return n1;
+            }
+        }
+        return 1;
+    }
+}
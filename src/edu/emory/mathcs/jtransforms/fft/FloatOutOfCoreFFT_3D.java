@@ -0,0 +1,210 @@
+/*
+ * ***** BEGIN LICENSE BLOCK ***** Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License for
+ * the specific language governing rights and limitations under the License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is Piotr Wendykier, Emory
+ * University. Portions created by the Initial Developer are Copyright (C)
+ * 2007-2009 the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or the
+ * GNU Lesser General Public License Version 2.1 or later (the "LGPL"), in which
+ * case the provisions of the GPL or the LGPL are applicable instead of those
+ * above. If you wish to allow use of your version of this file only under the
+ * terms of either the GPL or the LGPL, and not to allow others to use your
+ * version of this file under the terms of the MPL, indicate your decision by
+ * deleting the provisions above and replace them with the notice and other
+ * provisions required by the GPL or the LGPL. If you do not delete the
+ * provisions above, a recipient may use your version of this file under the
+ * terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK *****
+ */
+
+package edu.emory.mathcs.jtransforms.fft;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+import edu.emory.mathcs.utils.ConcurrencyContext;
+import edu.emory.mathcs.utils.MappedFileUtils;
+
+/**
+ * Computes 3D Discrete Fourier Transform (DFT) of complex, float precision
+ * data stored in a file, which may be much larger than the Java heap. The
+ * data is transformed in place in two passes over the file: the first pass
+ * reads the slices one at a time and transforms them with
+ * {@link FloatFFT_2D}, the second pass reads blocks of adjacent pencils along
+ * the slice dimension and transforms them with the batched methods of
+ * {@link FloatFFT_1D}. The file is accessed through memory-mapped windows
+ * (see {@link MappedFileUtils}), and the blocks are as wide as the memory
+ * budget allows. <br>
+ * <br>
+ * Complex numbers are stored as two float values in sequence, the real and
+ * the imaginary part, in the byte order given to the constructor.
+ * 
+ */
+public strictfp class FloatOutOfCoreFFT_3D {
+
+    private static final int MAX_LENGTH = (Integer.MAX_VALUE - 8) / 2;
+
+    private int slices;
+
+    private int rows;
+
+    private int columns;
+
+    private int block;
+
+    private ByteOrder order;
+
+    private FloatFFT_2D fftSlice;
+
+    private FloatFFT_1D fftSlices;
+
+    /**
+     * Creates new instance of FloatOutOfCoreFFT_3D for data in the native
+     * byte order.
+     * 
+     * @param slices
+     *            number of slices
+     * @param rows
+     *            number of rows
+     * @param columns
+     *            number of columns
+     * @param memoryBudget
+     *            maximal number of bytes of the blocks held in memory
+     */
+    public FloatOutOfCoreFFT_3D(int slices, int rows, int columns, long memoryBudget) {
+        this(slices, rows, columns, memoryBudget, ByteOrder.nativeOrder(), ConcurrencyContext.getDefault());
+    }
+
+    /**
+     * Creates new instance of FloatOutOfCoreFFT_3D. The budget bounds the
+     * blocks of data held in memory by a call; it must be large enough for
+     * one slice, i.e. at least 8*rows*columns bytes.
+     * 
+     * @param slices
+     *            number of slices
+     * @param rows
+     *            number of rows
+     * @param columns
+     *            number of columns
+     * @param memoryBudget
+     *            maximal number of bytes of the blocks held in memory
+     * @param order
+     *            byte order of the data in the file
+     * @param context
+     *            executor and number of threads used by this transform
+     */
+    public FloatOutOfCoreFFT_3D(int slices, int rows, int columns, long memoryBudget, ByteOrder order, ConcurrencyContext context) {
+        if (slices <= 1 || rows <= 1 || columns <= 1) {
+            throw new IllegalArgumentException("slices, rows and columns must be greater than 1");
+        }
+        if (order == null) {
+            throw new IllegalArgumentException("order cannot be null");
+        }
+        if (context == null) {
+            throw new IllegalArgumentException("context cannot be null");
+        }
+        long sliceLength = (long) rows * columns;
+        if ((sliceLength > MAX_LENGTH) || (8L * sliceLength > memoryBudget) || (8L * slices > memoryBudget)) {
+            throw new IllegalArgumentException("memoryBudget is too small for a slice of " + rows + " x " + columns);
+        }
+        this.slices = slices;
+        this.rows = rows;
+        this.columns = columns;
+        this.order = order;
+        block = (int) Math.min(Math.min(sliceLength, memoryBudget / (8L * slices)), MAX_LENGTH / slices);
+        fftSlice = new FloatFFT_2D(rows, columns, context);
+        fftSlices = new FloatFFT_1D(slices, context);
+    }
+
+    /**
+     * Computes 3D forward DFT of complex data leaving the result in the file.
+     * The physical layout of the data, in units of float values, has to be as
+     * follows:<br>
+     * 
+     * <pre>
+     * a[position+k1*2*rows*columns+k2*2*columns+2*k3] = Re[k1][k2][k3], 
+     * a[position+k1*2*rows*columns+k2*2*columns+2*k3+1] = Im[k1][k2][k3], 0&lt;=k1&lt;slices, 0&lt;=k2&lt;rows, 0&lt;=k3&lt;columns,
+     * </pre>
+     * 
+     * @param channel
+     *            file containing the data to transform, opened for reading and
+     *            writing
+     * @param position
+     *            byte position of the data in the file
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public void complexForward(FileChannel channel, long position) throws IOException {
+        transform(channel, position, true, false);
+    }
+
+    /**
+     * Computes 3D inverse DFT of complex data leaving the result in the file.
+     * The physical layout of the data, in units of float values, has to be as
+     * follows:<br>
+     * 
+     * <pre>
+     * a[position+k1*2*rows*columns+k2*2*columns+2*k3] = Re[k1][k2][k3], 
+     * a[position+k1*2*rows*columns+k2*2*columns+2*k3+1] = Im[k1][k2][k3], 0&lt;=k1&lt;slices, 0&lt;=k2&lt;rows, 0&lt;=k3&lt;columns,
+     * </pre>
+     * 
+     * @param channel
+     *            file containing the data to transform, opened for reading and
+     *            writing
+     * @param position
+     *            byte position of the data in the file
+     * @param scale
+     *            if true then scaling is performed
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public void complexInverse(FileChannel channel, long position, boolean scale) throws IOException {
+        transform(channel, position, false, scale);
+    }
+
+    private void transform(FileChannel channel, long position, boolean forward, boolean scale) throws IOException {
+        if (position < 0) {
+            throw new IllegalArgumentException("position must be greater or equal 0");
+        }
+        int sliceLength = rows * columns;
+        // first pass: the slices
+        float[] slice = new float[2 * sliceLength];
+        for (int s = 0; s < slices; s++) {
+            long sliceStart = position + 8L * s * sliceLength;
+            MappedFileUtils.read(channel, sliceStart, order, slice, slice.length);
+            if (forward) {
+                fftSlice.complexForward(slice);
+            } else {
+                fftSlice.complexInverse(slice, scale);
+            }
+            MappedFileUtils.write(channel, sliceStart, order, slice, slice.length);
+        }
+        // second pass: the pencils along the slices
+        slice = null;
+        float[] panel = new float[2 * block * slices];
+        for (int c = 0; c < sliceLength; c += block) {
+            int width = Math.min(block, sliceLength - c);
+            MappedFileUtils.readColumns(channel, position, order, slices, sliceLength, c, width, panel);
+            if (forward) {
+                fftSlices.complexForwardBatch(panel, 0, width, 2, 2 * slices);
+            } else {
+                fftSlices.complexInverseBatch(panel, 0, width, 2, 2 * slices, scale);
+            }
+            MappedFileUtils.writeColumns(channel, position, order, slices, sliceLength, c, width, panel);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/* ***** BEGIN LICENSE BLOCK *****
+ * Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License
+ * for the specific language governing rights and limitations under the
+ * License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is
+ * Piotr Wendykier, Emory University.
+ * Portions created by the Initial Developer are Copyright (C) 2007-2009
+ * the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or
+ * the GNU Lesser General Public License Version 2.1 or later (the "LGPL"),
+ * in which case the provisions of the GPL or the LGPL are applicable instead
+ * of those above. If you wish to allow use of your version of this file only
+ * under the terms of either the GPL or the LGPL, and not to allow others to
+ * use your version of this file under the terms of the MPL, indicate your
+ * decision by deleting the provisions above and replace them with the notice
+ * and other provisions required by the GPL or the LGPL. If you do not delete
+ * the provisions above, a recipient may use your version of this file under
+ * the terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK ***** */
+
+package edu.emory.mathcs.jtransforms.fft;
+
+/**
+ * Amount of work spent by the 1D FFTs on choosing an algorithm (planning).
+ *
+ */
+public enum PlanningEffort {
+    /**
+     * The algorithm is chosen by a heuristic based on the factorization of the
+     * size of the data. No timing is done.
+     */
+    ESTIMATE,
+
+    /**
+     * The most promising algorithms are timed on this machine and the fastest
+     * one is chosen.
+     */
+    MEASURE,
+
+    /**
+     * All available algorithms are timed on this machine and the fastest one
+     * is chosen. In addition, the transform is timed with one, two and four
+     * threads, and the fastest setting is used instead of the thresholds
+     * defined in ConcurrencyUtils.
+     */
+    EXHAUSTIVE
+}
@@ -0,0 +1,252 @@
+/* ***** BEGIN LICENSE BLOCK *****
+ * Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License
+ * for the specific language governing rights and limitations under the
+ * License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is
+ * Piotr Wendykier, Emory University.
+ * Portions created by the Initial Developer are Copyright (C) 2007-2009
+ * the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or
+ * the GNU Lesser General Public License Version 2.1 or later (the "LGPL"),
+ * in which case the provisions of the GPL or the LGPL are applicable instead
+ * of those above. If you wish to allow use of your version of this file only
+ * under the terms of either the GPL or the LGPL, and not to allow others to
+ * use your version of this file under the terms of the MPL, indicate your
+ * decision by deleting the provisions above and replace them with the notice
+ * and other provisions required by the GPL or the LGPL. If you do not delete
+ * the provisions above, a recipient may use your version of this file under
+ * the terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK ***** */
+package edu.emory.mathcs.utils;
+
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.ReadOnlyBufferException;
+
+/**
+ * Access to the data of NIO buffers from the transforms, whose kernels work on
+ * Java arrays. Heap buffers are transformed in their backing array directly
+ * by the 1D transforms, which take an offset, and by the multidimensional
+ * transforms when the position of the buffer is the first element of the
+ * array. The complex 1D, 2D and 3D FFTs stream other buffers through
+ * fixed-size blocks, so that the heap does not have to hold a copy of the
+ * whole buffer; the other transforms move the data to and from a temporary
+ * array with bulk transfers.
+ * 
+ */
+public class BufferUtils {
+
+    private BufferUtils() {
+
+    }
+
+    /**
+     * Returns an array holding <code>length</code> elements of <code>a</code>
+     * starting at its position. If the buffer is backed by an accessible array
+     * and the element at its position is the first element of that array,
+     * the backing array itself is returned and no data is copied. Otherwise
+     * (e.g. for a direct buffer) the elements are copied to a new array with a
+     * bulk transfer. The position of the buffer is not changed.
+     * 
+     * @param a
+     *            buffer
+     * @param length
+     *            number of elements
+     * @return the backing array of <code>a</code> or a copy of its elements
+     */
+    public static double[] getArray(DoubleBuffer a, long length) {
+        checkBuffer(a, length);
+        if (hasBackingArray(a)) {
+            return a.array();
+        }
+        double[] array = new double[(int) length];
+        a.duplicate().get(array);
+        return array;
+    }
+
+    /**
+     * Stores <code>length</code> elements of an array returned by
+     * {@link #getArray(DoubleBuffer, long)} back in <code>a</code>, starting at its
+     * position. Nothing is copied if <code>array</code> is the backing array
+     * of <code>a</code>. The position of the buffer is not changed.
+     * 
+     * @param a
+     *            buffer
+     * @param array
+     *            array returned by <code>getArray(a, length)</code>
+     * @param length
+     *            number of elements
+     */
+    public static void putArray(DoubleBuffer a, double[] array, long length) {
+        if (a.hasArray() && (a.array() == array)) {
+            return;
+        }
+        a.duplicate().put(array, 0, (int) length);
+    }
+
+    /**
+     * Returns true if {@link #getArray(DoubleBuffer, long)} returns the backing
+     * array of <code>a</code>, i.e. if its data can be transformed without
+     * being copied.
+     * 
+     * @param a
+     *            buffer
+     * @return true if the element at the position of <code>a</code> is the
+     *         first element of an accessible backing array
+     */
+    public static boolean hasBackingArray(DoubleBuffer a) {
+        return a.hasArray() && (a.arrayOffset() + a.position() == 0);
+    }
+
+    /**
+     * Checks <code>a</code> as {@link #checkBuffer(DoubleBuffer, long)} does and
+     * returns the index of the element at its position in its backing array,
+     * or -1 if the buffer has no accessible backing array.
+     * 
+     * @param a
+     *            buffer
+     * @param length
+     *            number of elements
+     * @return the index of the element at the position of <code>a</code> in
+     *         <code>a.array()</code>, or -1
+     */
+    public static int getArrayOffset(DoubleBuffer a, long length) {
+        checkBuffer(a, length);
+        return a.hasArray() ? a.arrayOffset() + a.position() : -1;
+    }
+
+    /**
+     * Checks that <code>a</code> is writable and holds at least
+     * <code>length</code> elements after its position.
+     * 
+     * @param a
+     *            buffer
+     * @param length
+     *            number of elements
+     * @throws ReadOnlyBufferException
+     *             if <code>a</code> is read-only
+     * @throws IllegalArgumentException
+     *             if fewer than <code>length</code> elements remain (in
+     *             particular if <code>length</code> does not fit in an int)
+     */
+    public static void checkBuffer(DoubleBuffer a, long length) {
+        if (a.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        if (a.remaining() < length) {
+            throw new IllegalArgumentException("the buffer has " + a.remaining() + " remaining elements, " + length + " required");
+        }
+    }
+
+    /**
+     * Returns an array holding <code>length</code> elements of <code>a</code>
+     * starting at its position. If the buffer is backed by an accessible array
+     * and the element at its position is the first element of that array,
+     * the backing array itself is returned and no data is copied. Otherwise
+     * (e.g. for a direct buffer) the elements are copied to a new array with a
+     * bulk transfer. The position of the buffer is not changed.
+     * 
+     * @param a
+     *            buffer
+     * @param length
+     *            number of elements
+     * @return the backing array of <code>a</code> or a copy of its elements
+     */
+    public static float[] getArray(FloatBuffer a, long length) {
+        checkBuffer(a, length);
+        if (hasBackingArray(a)) {
+            return a.array();
+        }
+        float[] array = new float[(int) length];
+        a.duplicate().get(array);
+        return array;
+    }
+
+    /**
+     * Stores <code>length</code> elements of an array returned by
+     * {@link #getArray(FloatBuffer, long)} back in <code>a</code>, starting at its
+     * position. Nothing is copied if <code>array</code> is the backing array
+     * of <code>a</code>. The position of the buffer is not changed.
+     * 
+     * @param a
+     *            buffer
+     * @param array
+     *            array returned by <code>getArray(a, length)</code>
+     * @param length
+     *            number of elements
+     */
+    public static void putArray(FloatBuffer a, float[] array, long length) {
+        if (a.hasArray() && (a.array() == array)) {
+            return;
+        }
+        a.duplicate().put(array, 0, (int) length);
+    }
+
+    /**
+     * Returns true if {@link #getArray(FloatBuffer, long)} returns the backing
+     * array of <code>a</code>, i.e. if its data can be transformed without
+     * being copied.
+     * 
+     * @param a
+     *            buffer
+     * @return true if the element at the position of <code>a</code> is the
+     *         first element of an accessible backing array
+     */
+    public static boolean hasBackingArray(FloatBuffer a) {
+        return a.hasArray() && (a.arrayOffset() + a.position() == 0);
+    }
+
+    /**
+     * Checks <code>a</code> as {@link #checkBuffer(FloatBuffer, long)} does and
+     * returns the index of the element at its position in its backing array,
+     * or -1 if the buffer has no accessible backing array.
+     * 
+     * @param a
+     *            buffer
+     * @param length
+     *            number of elements
+     * @return the index of the element at the position of <code>a</code> in
+     *         <code>a.array()</code>, or -1
+     */
+    public static int getArrayOffset(FloatBuffer a, long length) {
+        checkBuffer(a, length);
+        return a.hasArray() ? a.arrayOffset() + a.position() : -1;
+    }
+
+    /**
+     * Checks that <code>a</code> is writable and holds at least
+     * <code>length</code> elements after its position.
+     * 
+     * @param a
+     *            buffer
+     * @param length
+     *            number of elements
+     * @throws ReadOnlyBufferException
+     *             if <code>a</code> is read-only
+     * @throws IllegalArgumentException
+     *             if fewer than <code>length</code> elements remain (in
+     *             particular if <code>length</code> does not fit in an int)
+     */
+    public static void checkBuffer(FloatBuffer a, long length) {
+        if (a.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        if (a.remaining() < length) {
+            throw new IllegalArgumentException("the buffer has " + a.remaining() + " remaining elements, " + length + " required");
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/* ***** BEGIN LICENSE BLOCK *****
+ * Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License
+ * for the specific language governing rights and limitations under the
+ * License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is
+ * Piotr Wendykier, Emory University.
+ * Portions created by the Initial Developer are Copyright (C) 2007-2009
+ * the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or
+ * the GNU Lesser General Public License Version 2.1 or later (the "LGPL"),
+ * in which case the provisions of the GPL or the LGPL are applicable instead
+ * of those above. If you wish to allow use of your version of this file only
+ * under the terms of either the GPL or the LGPL, and not to allow others to
+ * use your version of this file under the terms of the MPL, indicate your
+ * decision by deleting the provisions above and replace them with the notice
+ * and other provisions required by the GPL or the LGPL. If you do not delete
+ * the provisions above, a recipient may use your version of this file under
+ * the terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK ***** */
+package edu.emory.mathcs.utils;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Executor and number of threads used by a transform. A context is passed to
+ * the constructor of a transform; all transforms created without one use the
+ * default context, which submits tasks to the pool shared by the library and
+ * uses the number of threads set by
+ * {@link ConcurrencyUtils#setNumberOfThreads(int)}. <br>
+ * <br>
+ * The tasks submitted by a transform may block waiting for other tasks of the
+ * same transform, so the executor should either run rejected tasks in the
+ * calling thread or have at least as many threads as will be used
+ * concurrently.
+ * 
+ */
+public class ConcurrencyContext {
+
+    private static final ConcurrencyContext DEFAULT = new ConcurrencyContext();
+
+    private final ExecutorService executor;
+
+    private final int nthreads;
+
+    private ConcurrencyContext() {
+        this.executor = null;
+        this.nthreads = 0;
+    }
+
+    /**
+     * Creates new instance of ConcurrencyContext that submits tasks to the
+     * specified executor.
+     * 
+     * @param executor
+     *            executor used to run the tasks (it can be a
+     *            <code>ForkJoinPool</code>)
+     * @param nthreads
+     *            number of threads used by a transform
+     */
+    public ConcurrencyContext(ExecutorService executor, int nthreads) {
+        if (executor == null) {
+            throw new IllegalArgumentException("executor cannot be null");
+        }
+        if (nthreads < 1) {
+            throw new IllegalArgumentException("nthreads must be greater or equal 1");
+        }
+        this.executor = executor;
+        this.nthreads = nthreads;
+    }
+
+    /**
+     * Creates new instance of ConcurrencyContext that submits tasks to the
+     * pool shared by the library.
+     * 
+     * @param nthreads
+     *            number of threads used by a transform
+     */
+    public ConcurrencyContext(int nthreads) {
+        if (nthreads < 1) {
+            throw new IllegalArgumentException("nthreads must be greater or equal 1");
+        }
+        this.executor = null;
+        this.nthreads = nthreads;
+    }
+
+    /**
+     * Returns the context used by the transforms created without one.
+     * 
+     * @return the default context
+     */
+    public static ConcurrencyContext getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the executor used to run the tasks, or null if the tasks are
+     * submitted to the pool shared by the library.
+     * 
+     * @return the executor or null
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Returns the number of threads used by a transform.
+     * 
+     * @return the number of threads used by a transform
+     */
+    public int getNumberOfThreads() {
+        return nthreads > 0 ? nthreads : ConcurrencyUtils.getNumberOfThreads();
+    }
+
+    /**
+     * Submits a value-returning task for execution and returns a Future
+     * representing the pending results of the task.
+     * 
+     * @param <T>
+     * @param task
+     *            task for execution
+     * @return a handle to the task submitted for execution
+     */
+    public <T> Future<T> submit(Callable<T> task) {
+        return executor != null ? executor.submit(task) : ConcurrencyUtils.submit(task);
+    }
+
+    /**
+     * Submits a Runnable task for execution and returns a Future representing
+     * that task.
+     * 
+     * @param task
+     *            task for execution
+     * @return a handle to the task submitted for execution
+     */
+    public Future<?> submit(Runnable task) {
+        return executor != null ? executor.submit(task) : ConcurrencyUtils.submit(task);
+    }
+}
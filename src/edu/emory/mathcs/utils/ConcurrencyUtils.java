@@ -38,7 +38,10 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Concurrency utilities.
@@ -47,9 +50,16 @@ import java.util.concurrent.ThreadFactory;
  */
 public class ConcurrencyUtils {
     /**
-     * Thread pool.
+     * Maximal number of threads in the shared pool.
      */
-    private static final ExecutorService THREAD_POOL = Executors.newCachedThreadPool(new CustomThreadFactory(new CustomExceptionHandler()));
+    private static final int MAX_POOL_SIZE = 4 * getNumberOfProcessors();
+
+    /**
+     * Thread pool shared by the transforms created without a
+     * {@link ConcurrencyContext}. Tasks submitted when all threads are busy
+     * run in the calling thread, so nested parallel calls cannot deadlock.
+     */
+    private static final ExecutorService THREAD_POOL = new ThreadPoolExecutor(0, MAX_POOL_SIZE, 60L, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), new CustomThreadFactory(new CustomExceptionHandler()), new ThreadPoolExecutor.CallerRunsPolicy());
 
     private static int THREADS_BEGIN_N_1D_FFT_2THREADS = 8192;
 
@@ -155,7 +165,8 @@ public class ConcurrencyUtils {
     }
 
     /**
-     * Returns the current number of threads.
+     * Returns the current number of threads used by the transforms created
+     * without a {@link ConcurrencyContext}.
      * 
      * @return the current number of threads.
      */
@@ -164,7 +175,8 @@ public class ConcurrencyUtils {
     }
 
     /**
-     * Sets the number of threads.
+     * Sets the number of threads used by the transforms created without a
+     * {@link ConcurrencyContext}.
      * 
      * @param n
      */
@@ -316,6 +328,31 @@ public class ConcurrencyUtils {
         return x + 1;
     }
 
+    /**
+     * Returns the smallest number greater than or equal to x whose only prime
+     * factors are 2, 3 and 5.
+     * 
+     * @param x
+     * @return the smallest 2^a*3^b*5^c number greater than or equal to x
+     */
+    public static int nextSmoothNumber(int x) {
+        if (x < 1)
+            throw new IllegalArgumentException("x must be greater or equal 1");
+        long best = nextPow2(x);
+        for (long p5 = 1; p5 < best; p5 *= 5) {
+            for (long p35 = p5; p35 < best; p35 *= 3) {
+                long m = p35;
+                while (m < x) {
+                    m <<= 1;
+                }
+                if (m < best) {
+                    best = m;
+                }
+            }
+        }
+        return (int) best;
+    }
+
     /**
      * Returns the closest power-of-two number less than or equal to x.
      * 
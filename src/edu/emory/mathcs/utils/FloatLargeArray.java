@@ -0,0 +1,195 @@
+/* ***** BEGIN LICENSE BLOCK *****
+ * Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License
+ * for the specific language governing rights and limitations under the
+ * License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is
+ * Piotr Wendykier, Emory University.
+ * Portions created by the Initial Developer are Copyright (C) 2007-2009
+ * the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or
+ * the GNU Lesser General Public License Version 2.1 or later (the "LGPL"),
+ * in which case the provisions of the GPL or the LGPL are applicable instead
+ * of those above. If you wish to allow use of your version of this file only
+ * under the terms of either the GPL or the LGPL, and not to allow others to
+ * use your version of this file under the terms of the MPL, indicate your
+ * decision by deleting the provisions above and replace them with the notice
+ * and other provisions required by the GPL or the LGPL. If you do not delete
+ * the provisions above, a recipient may use your version of this file under
+ * the terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK ***** */
+package edu.emory.mathcs.utils;
+
+/**
+ * Array of float values indexed by <code>long</code>, which can hold more
+ * than 2^31 elements. The elements are stored in chunks of a fixed,
+ * power-of-two size, so that element i is in chunk i / chunkSize at position
+ * i % chunkSize. The bulk methods copy ranges that may span several chunks.
+ * 
+ */
+public class FloatLargeArray {
+
+    /**
+     * Default number of elements of a chunk.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 26;
+
+    private final long length;
+
+    private final int shift;
+
+    private final int mask;
+
+    private final float[][] chunks;
+
+    /**
+     * Creates new instance of FloatLargeArray with chunks of
+     * {@link #DEFAULT_CHUNK_SIZE} elements. All elements are zero.
+     * 
+     * @param length
+     *            number of elements
+     */
+    public FloatLargeArray(long length) {
+        this(length, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates new instance of FloatLargeArray. All elements are zero.
+     * 
+     * @param length
+     *            number of elements
+     * @param chunkSize
+     *            number of elements of a chunk, a power of two
+     */
+    public FloatLargeArray(long length, int chunkSize) {
+        if (length < 0) {
+            throw new IllegalArgumentException("length must be greater or equal 0");
+        }
+        if (!ConcurrencyUtils.isPowerOf2(chunkSize)) {
+            throw new IllegalArgumentException("chunkSize must be a power of two");
+        }
+        long nchunks = (length + chunkSize - 1) / chunkSize;
+        if (nchunks > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("length is too large for chunkSize = " + chunkSize);
+        }
+        this.length = length;
+        shift = Integer.numberOfTrailingZeros(chunkSize);
+        mask = chunkSize - 1;
+        chunks = new float[(int) nchunks][];
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = new float[(int) Math.min(chunkSize, length - ((long) i << shift))];
+        }
+    }
+
+    /**
+     * Returns the number of elements.
+     * 
+     * @return the number of elements
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * Returns the number of elements of a chunk.
+     * 
+     * @return the number of elements of a chunk
+     */
+    public int getChunkSize() {
+        return mask + 1;
+    }
+
+    /**
+     * Returns the element at the specified index.
+     * 
+     * @param index
+     *            index of the element
+     * @return the element at the specified index
+     */
+    public float get(long index) {
+        return chunks[(int) (index >>> shift)][(int) index & mask];
+    }
+
+    /**
+     * Sets the element at the specified index.
+     * 
+     * @param index
+     *            index of the element
+     * @param value
+     *            new value of the element
+     */
+    public void set(long index, float value) {
+        chunks[(int) (index >>> shift)][(int) index & mask] = value;
+    }
+
+    /**
+     * Copies <code>length</code> elements starting at <code>index</code> to
+     * <code>dst</code>.
+     * 
+     * @param index
+     *            index of the first element to copy
+     * @param dst
+     *            destination array
+     * @param offset
+     *            index of the first element in <code>dst</code>
+     * @param length
+     *            number of elements
+     */
+    public void get(long index, float[] dst, int offset, int length) {
+        checkRange(index, length);
+        while (length > 0) {
+            float[] chunk = chunks[(int) (index >>> shift)];
+            int pos = (int) index & mask;
+            int l = Math.min(length, chunk.length - pos);
+            System.arraycopy(chunk, pos, dst, offset, l);
+            index += l;
+            offset += l;
+            length -= l;
+        }
+    }
+
+    /**
+     * Copies <code>length</code> elements from <code>src</code> to this array,
+     * starting at <code>index</code>.
+     * 
+     * @param index
+     *            index of the first element to set
+     * @param src
+     *            source array
+     * @param offset
+     *            index of the first element in <code>src</code>
+     * @param length
+     *            number of elements
+     */
+    public void set(long index, float[] src, int offset, int length) {
+        checkRange(index, length);
+        while (length > 0) {
+            float[] chunk = chunks[(int) (index >>> shift)];
+            int pos = (int) index & mask;
+            int l = Math.min(length, chunk.length - pos);
+            System.arraycopy(src, offset, chunk, pos, l);
+            index += l;
+            offset += l;
+            length -= l;
+        }
+    }
+
+    private void checkRange(long index, int length) {
+        if ((index < 0) || (length < 0) || (index + length > this.length)) {
+            throw new IllegalArgumentException("range [" + index + ", " + (index + length) + ") is out of bounds [0, " + this.length + ")");
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/* ***** BEGIN LICENSE BLOCK *****
+ * Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License
+ * for the specific language governing rights and limitations under the
+ * License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is
+ * Piotr Wendykier, Emory University.
+ * Portions created by the Initial Developer are Copyright (C) 2007-2009
+ * the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or
+ * the GNU Lesser General Public License Version 2.1 or later (the "LGPL"),
+ * in which case the provisions of the GPL or the LGPL are applicable instead
+ * of those above. If you wish to allow use of your version of this file only
+ * under the terms of either the GPL or the LGPL, and not to allow others to
+ * use your version of this file under the terms of the MPL, indicate your
+ * decision by deleting the provisions above and replace them with the notice
+ * and other provisions required by the GPL or the LGPL. If you do not delete
+ * the provisions above, a recipient may use your version of this file under
+ * the terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK ***** */
+package edu.emory.mathcs.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Range of indices shared by the tasks of a parallel loop. Every task takes
+ * chunks of consecutive indices from the range until it is exhausted, so that
+ * a task that runs faster processes more indices. The chunks get smaller as
+ * the range is consumed: a chunk is the remaining number of indices divided by
+ * twice the number of tasks, but at least one index.
+ * 
+ */
+public class IndexRange {
+
+    private final AtomicInteger next;
+
+    private final int end;
+
+    private final int ntasks;
+
+    /**
+     * Iterates over the indices taken by one task. A cursor must not be shared
+     * between tasks.
+     */
+    public final class Cursor {
+        private int index;
+
+        private int last;
+
+        private Cursor() {
+        }
+
+        /**
+         * Returns the next index of this task, or -1 if the range is
+         * exhausted.
+         * 
+         * @return the next index or -1
+         */
+        public int next() {
+            if (index < last) {
+                return index++;
+            }
+            while (true) {
+                int first = next.get();
+                if (first >= end) {
+                    return -1;
+                }
+                int size = Math.max(1, (end - first) / (2 * ntasks));
+                if (next.compareAndSet(first, first + size)) {
+                    index = first + 1;
+                    last = first + size;
+                    return first;
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates new instance of IndexRange.
+     * 
+     * @param begin
+     *            first index (inclusive)
+     * @param end
+     *            last index (exclusive)
+     * @param ntasks
+     *            number of tasks sharing the range
+     */
+    public IndexRange(int begin, int end, int ntasks) {
+        if (begin < 0) {
+            throw new IllegalArgumentException("begin must be greater or equal 0");
+        }
+        if (ntasks < 1) {
+            throw new IllegalArgumentException("ntasks must be greater or equal 1");
+        }
+        this.next = new AtomicInteger(begin);
+        this.end = end;
+        this.ntasks = ntasks;
+    }
+
+    /**
+     * Returns a new cursor over this range. Every task uses its own cursor.
+     * 
+     * @return a new cursor
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+}
@@ -0,0 +1,388 @@
+/* ***** BEGIN LICENSE BLOCK *****
+ * Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License
+ * for the specific language governing rights and limitations under the
+ * License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is
+ * Piotr Wendykier, Emory University.
+ * Portions created by the Initial Developer are Copyright (C) 2007-2009
+ * the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or
+ * the GNU Lesser General Public License Version 2.1 or later (the "LGPL"),
+ * in which case the provisions of the GPL or the LGPL are applicable instead
+ * of those above. If you wish to allow use of your version of this file only
+ * under the terms of either the GPL or the LGPL, and not to allow others to
+ * use your version of this file under the terms of the MPL, indicate your
+ * decision by deleting the provisions above and replace them with the notice
+ * and other provisions required by the GPL or the LGPL. If you do not delete
+ * the provisions above, a recipient may use your version of this file under
+ * the terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK ***** */
+package edu.emory.mathcs.utils;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Memory-mapped access to complex vectors and matrices stored in files. Files
+ * are accessed through windows of at most {@link #getWindowSize()} bytes that
+ * are mapped one after another, so that files larger than the address space
+ * available to a single mapping (or than the Java heap) can be processed. Used
+ * by the out-of-core transforms.
+ * 
+ */
+public class MappedFileUtils {
+
+    private static long windowSize = 1L << 28;
+
+    private MappedFileUtils() {
+
+    }
+
+    /**
+     * Returns the maximal number of bytes mapped at once.
+     * 
+     * @return the maximal number of bytes mapped at once
+     */
+    public static long getWindowSize() {
+        return windowSize;
+    }
+
+    /**
+     * Sets the maximal number of bytes mapped at once. Smaller windows use
+     * less address space, larger ones need fewer mappings.
+     * 
+     * @param size
+     *            the maximal number of bytes mapped at once, a multiple of 16
+     */
+    public static void setWindowSize(long size) {
+        if (size < 16 || size % 16 != 0 || size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("size must be a positive multiple of 16 not greater than Integer.MAX_VALUE");
+        }
+        windowSize = size;
+    }
+
+    /**
+     * Reads the columns c..c+w-1 of a complex matrix stored in a file into
+     * the columns of a panel. The matrix has <code>rows</code> rows of
+     * <code>cols</code> complex numbers, stored row after row from byte
+     * <code>position</code> of the channel; complex number (r, c+j) is copied
+     * to <code>panel[2*(j*rows+r)]</code> (real part) and
+     * <code>panel[2*(j*rows+r)+1]</code> (imaginary part).
+     * 
+     * @param channel
+     *            file containing the matrix
+     * @param position
+     *            byte position of the matrix in the file
+     * @param order
+     *            byte order of the values in the file
+     * @param rows
+     *            number of rows of the matrix
+     * @param cols
+     *            number of columns of the matrix
+     * @param c
+     *            index of the first column to read
+     * @param w
+     *            number of columns to read
+     * @param panel
+     *            columns read, of size at least 2*w*rows
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public static void readColumns(FileChannel channel, long position, ByteOrder order, int rows, int cols, int c, int w, double[] panel) throws IOException {
+        int step = (int) (windowSize / 16);
+        for (int j = 0; j < w; j += step) {
+            columns(channel, position, order, rows, cols, c + j, Math.min(step, w - j), panel, 2 * j * rows, false);
+        }
+    }
+
+    /**
+     * Writes the columns of a panel to the columns c..c+w-1 of a complex
+     * matrix stored in a file. This is the reverse of
+     * {@link #readColumns(FileChannel, long, ByteOrder, int, int, int, int, double[])}.
+     * 
+     * @param channel
+     *            file containing the matrix, opened for reading and writing
+     * @param position
+     *            byte position of the matrix in the file
+     * @param order
+     *            byte order of the values in the file
+     * @param rows
+     *            number of rows of the matrix
+     * @param cols
+     *            number of columns of the matrix
+     * @param c
+     *            index of the first column to write
+     * @param w
+     *            number of columns to write
+     * @param panel
+     *            columns to write, of size at least 2*w*rows
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public static void writeColumns(FileChannel channel, long position, ByteOrder order, int rows, int cols, int c, int w, double[] panel) throws IOException {
+        int step = (int) (windowSize / 16);
+        for (int j = 0; j < w; j += step) {
+            columns(channel, position, order, rows, cols, c + j, Math.min(step, w - j), panel, 2 * j * rows, true);
+        }
+    }
+
+    /**
+     * Reads <code>length</code> consecutive values from byte
+     * <code>position</code> of the channel.
+     * 
+     * @param channel
+     *            file to read
+     * @param position
+     *            byte position of the first value
+     * @param order
+     *            byte order of the values in the file
+     * @param a
+     *            values read
+     * @param length
+     *            number of values to read
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public static void read(FileChannel channel, long position, ByteOrder order, double[] a, int length) throws IOException {
+        int step = (int) (windowSize / 8);
+        for (int i = 0; i < length; i += step) {
+            int len = Math.min(step, length - i);
+            mapDoubleBuffer(channel, FileChannel.MapMode.READ_ONLY, position + 8L * i, 8L * len, order).get(a, i, len);
+        }
+    }
+
+    /**
+     * Writes <code>length</code> consecutive values from byte
+     * <code>position</code> of the channel on, extending the file if needed.
+     * 
+     * @param channel
+     *            file to write, opened for reading and writing
+     * @param position
+     *            byte position of the first value
+     * @param order
+     *            byte order of the values in the file
+     * @param a
+     *            values to write
+     * @param length
+     *            number of values to write
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public static void write(FileChannel channel, long position, ByteOrder order, double[] a, int length) throws IOException {
+        int step = (int) (windowSize / 8);
+        for (int i = 0; i < length; i += step) {
+            int len = Math.min(step, length - i);
+            mapDoubleBuffer(channel, FileChannel.MapMode.READ_WRITE, position + 8L * i, 8L * len, order).put(a, i, len);
+        }
+    }
+
+    /*
+     * Copies columns between a file and a panel, starting at index offp of
+     * the panel. The rows are mapped a window at a time, and the w complex
+     * numbers of a row are copied at once through a strip.
+     */
+    private static void columns(FileChannel channel, long position, ByteOrder order, int rows, int cols, int c, int w, double[] panel, int offp, boolean write) throws IOException {
+        FileChannel.MapMode mode = write ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY;
+        int rowsPerWindow = (int) Math.max(1, Math.min(rows, windowSize / (16L * cols)));
+        double[] strip = new double[2 * w];
+        for (int r0 = 0; r0 < rows; r0 += rowsPerWindow) {
+            int r1 = Math.min(rows, r0 + rowsPerWindow);
+            long start = position + 16L * ((long) r0 * cols + c);
+            long size = 16L * ((long) (r1 - r0 - 1) * cols + w);
+            DoubleBuffer window = mapDoubleBuffer(channel, mode, start, size, order);
+            for (int r = r0; r < r1; r++) {
+                window.position(2 * (r - r0) * cols);
+                if (write) {
+                    for (int j = 0; j < w; j++) {
+                        int idx = offp + 2 * (j * rows + r);
+                        strip[2 * j] = panel[idx];
+                        strip[2 * j + 1] = panel[idx + 1];
+                    }
+                    window.put(strip, 0, 2 * w);
+                } else {
+                    window.get(strip, 0, 2 * w);
+                    for (int j = 0; j < w; j++) {
+                        int idx = offp + 2 * (j * rows + r);
+                        panel[idx] = strip[2 * j];
+                        panel[idx + 1] = strip[2 * j + 1];
+                    }
+                }
+            }
+        }
+    }
+
+    private static DoubleBuffer mapDoubleBuffer(FileChannel channel, FileChannel.MapMode mode, long position, long size, ByteOrder order) throws IOException {
+        return channel.map(mode, position, size).order(order).asDoubleBuffer();
+    }
+
+    /**
+     * Reads the columns c..c+w-1 of a complex matrix stored in a file into
+     * the columns of a panel. The matrix has <code>rows</code> rows of
+     * <code>cols</code> complex numbers, stored row after row from byte
+     * <code>position</code> of the channel; complex number (r, c+j) is copied
+     * to <code>panel[2*(j*rows+r)]</code> (real part) and
+     * <code>panel[2*(j*rows+r)+1]</code> (imaginary part).
+     * 
+     * @param channel
+     *            file containing the matrix
+     * @param position
+     *            byte position of the matrix in the file
+     * @param order
+     *            byte order of the values in the file
+     * @param rows
+     *            number of rows of the matrix
+     * @param cols
+     *            number of columns of the matrix
+     * @param c
+     *            index of the first column to read
+     * @param w
+     *            number of columns to read
+     * @param panel
+     *            columns read, of size at least 2*w*rows
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public static void readColumns(FileChannel channel, long position, ByteOrder order, int rows, int cols, int c, int w, float[] panel) throws IOException {
+        int step = (int) (windowSize / 8);
+        for (int j = 0; j < w; j += step) {
+            columns(channel, position, order, rows, cols, c + j, Math.min(step, w - j), panel, 2 * j * rows, false);
+        }
+    }
+
+    /**
+     * Writes the columns of a panel to the columns c..c+w-1 of a complex
+     * matrix stored in a file. This is the reverse of
+     * {@link #readColumns(FileChannel, long, ByteOrder, int, int, int, int, float[])}.
+     * 
+     * @param channel
+     *            file containing the matrix, opened for reading and writing
+     * @param position
+     *            byte position of the matrix in the file
+     * @param order
+     *            byte order of the values in the file
+     * @param rows
+     *            number of rows of the matrix
+     * @param cols
+     *            number of columns of the matrix
+     * @param c
+     *            index of the first column to write
+     * @param w
+     *            number of columns to write
+     * @param panel
+     *            columns to write, of size at least 2*w*rows
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public static void writeColumns(FileChannel channel, long position, ByteOrder order, int rows, int cols, int c, int w, float[] panel) throws IOException {
+        int step = (int) (windowSize / 8);
+        for (int j = 0; j < w; j += step) {
+            columns(channel, position, order, rows, cols, c + j, Math.min(step, w - j), panel, 2 * j * rows, true);
+        }
+    }
+
+    /**
+     * Reads <code>length</code> consecutive values from byte
+     * <code>position</code> of the channel.
+     * 
+     * @param channel
+     *            file to read
+     * @param position
+     *            byte position of the first value
+     * @param order
+     *            byte order of the values in the file
+     * @param a
+     *            values read
+     * @param length
+     *            number of values to read
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public static void read(FileChannel channel, long position, ByteOrder order, float[] a, int length) throws IOException {
+        int step = (int) (windowSize / 4);
+        for (int i = 0; i < length; i += step) {
+            int len = Math.min(step, length - i);
+            mapFloatBuffer(channel, FileChannel.MapMode.READ_ONLY, position + 4L * i, 4L * len, order).get(a, i, len);
+        }
+    }
+
+    /**
+     * Writes <code>length</code> consecutive values from byte
+     * <code>position</code> of the channel on, extending the file if needed.
+     * 
+     * @param channel
+     *            file to write, opened for reading and writing
+     * @param position
+     *            byte position of the first value
+     * @param order
+     *            byte order of the values in the file
+     * @param a
+     *            values to write
+     * @param length
+     *            number of values to write
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public static void write(FileChannel channel, long position, ByteOrder order, float[] a, int length) throws IOException {
+        int step = (int) (windowSize / 4);
+        for (int i = 0; i < length; i += step) {
+            int len = Math.min(step, length - i);
+            mapFloatBuffer(channel, FileChannel.MapMode.READ_WRITE, position + 4L * i, 4L * len, order).put(a, i, len);
+        }
+    }
+
+    /*
+     * Copies columns between a file and a panel, starting at index offp of
+     * the panel. The rows are mapped a window at a time, and the w complex
+     * numbers of a row are copied at once through a strip.
+     */
+    private static void columns(FileChannel channel, long position, ByteOrder order, int rows, int cols, int c, int w, float[] panel, int offp, boolean write) throws IOException {
+        FileChannel.MapMode mode = write ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY;
+        int rowsPerWindow = (int) Math.max(1, Math.min(rows, windowSize / (8L * cols)));
+        float[] strip = new float[2 * w];
+        for (int r0 = 0; r0 < rows; r0 += rowsPerWindow) {
+            int r1 = Math.min(rows, r0 + rowsPerWindow);
+            long start = position + 8L * ((long) r0 * cols + c);
+            long size = 8L * ((long) (r1 - r0 - 1) * cols + w);
+            FloatBuffer window = mapFloatBuffer(channel, mode, start, size, order);
+            for (int r = r0; r < r1; r++) {
+                window.position(2 * (r - r0) * cols);
+                if (write) {
+                    for (int j = 0; j < w; j++) {
+                        int idx = offp + 2 * (j * rows + r);
+                        strip[2 * j] = panel[idx];
+                        strip[2 * j + 1] = panel[idx + 1];
+                    }
+                    window.put(strip, 0, 2 * w);
+                } else {
+                    window.get(strip, 0, 2 * w);
+                    for (int j = 0; j < w; j++) {
+                        int idx = offp + 2 * (j * rows + r);
+                        panel[idx] = strip[2 * j];
+                        panel[idx + 1] = strip[2 * j + 1];
+                    }
+                }
+            }
+        }
+    }
+
+    private static FloatBuffer mapFloatBuffer(FileChannel channel, FileChannel.MapMode mode, long position, long size, ByteOrder order) throws IOException {
+        return channel.map(mode, position, size).order(order).asFloatBuffer();
+    }
+}
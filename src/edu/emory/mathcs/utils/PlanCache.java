@@ -0,0 +1,283 @@
+/* ***** BEGIN LICENSE BLOCK *****
+ * Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License
+ * for the specific language governing rights and limitations under the
+ * License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is
+ * Piotr Wendykier, Emory University.
+ * Portions created by the Initial Developer are Copyright (C) 2007-2009
+ * the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or
+ * the GNU Lesser General Public License Version 2.1 or later (the "LGPL"),
+ * in which case the provisions of the GPL or the LGPL are applicable instead
+ * of those above. If you wish to allow use of your version of this file only
+ * under the terms of either the GPL or the LGPL, and not to allow others to
+ * use your version of this file under the terms of the MPL, indicate your
+ * decision by deleting the provisions above and replace them with the notice
+ * and other provisions required by the GPL or the LGPL. If you do not delete
+ * the provisions above, a recipient may use your version of this file under
+ * the terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK ***** */
+package edu.emory.mathcs.utils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe cache of precomputed transform tables (twiddle factors, bit
+ * reversal tables, etc.). Entries are immutable objects shared between all
+ * transforms of the same kind and size. The cache is bounded by the total
+ * size of the cached tables (in bytes); when the bound is exceeded, the least
+ * recently used entries are evicted.
+ * <p>
+ * Lookups do not take a lock: every entry records the time of its last use,
+ * and the entries that are used the least recently are found by sorting them
+ * when the bound is exceeded. A lookup that races with an eviction may still
+ * return the evicted value, so the order of eviction is approximate. Updates
+ * (put, remove, etc.) are serialized by the lock of the cache.
+ *
+ */
+public class PlanCache {
+
+    /**
+     * Default bound of the shared cache (64 MB).
+     */
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024L * 1024L;
+
+    private static final PlanCache DEFAULT = new PlanCache(DEFAULT_MAX_BYTES);
+
+    private static class Entry {
+        final Object key;
+
+        final Object value;
+
+        final long bytes;
+
+        volatile long lastUsed;
+
+        Entry(Object key, Object value, long bytes, long lastUsed) {
+            this.key = key;
+            this.value = value;
+            this.bytes = bytes;
+            this.lastUsed = lastUsed;
+        }
+    }
+
+    private static final Comparator<Entry> LEAST_RECENTLY_USED = new Comparator<Entry>() {
+        public int compare(Entry e1, Entry e2) {
+            return (e1.lastUsed < e2.lastUsed) ? -1 : ((e1.lastUsed == e2.lastUsed) ? 0 : 1);
+        }
+    };
+
+    private final ConcurrentHashMap<Object, Entry> map = new ConcurrentHashMap<Object, Entry>();
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private long maxBytes;
+
+    private long bytes;
+
+    private long evictions;
+
+    /**
+     * Creates new instance of PlanCache.
+     *
+     * @param maxBytes
+     *            maximal total size (in bytes) of the cached tables
+     */
+    public PlanCache(long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("maxBytes must be greater or equal 0");
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the cache shared by all transforms.
+     *
+     * @return the cache shared by all transforms
+     */
+    public static PlanCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the cached value associated with the specified key, or null if
+     * there is no such value.
+     *
+     * @param key
+     *            key
+     * @return the cached value or null
+     */
+    public Object get(Object key) {
+        Entry e = map.get(key);
+        if (e == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        e.lastUsed = clock.incrementAndGet();
+        hits.incrementAndGet();
+        return e.value;
+    }
+
+    /**
+     * Stores a value in the cache unless a value is already associated with
+     * the specified key. Values larger than the bound of the cache are not
+     * stored.
+     *
+     * @param key
+     *            key
+     * @param value
+     *            immutable value
+     * @param size
+     *            size of the value in bytes
+     * @return the value associated with the key after this call (either
+     *         <code>value</code> or the value that was already cached)
+     */
+    public synchronized Object put(Object key, Object value, long size) {
+        Entry e = map.get(key);
+        if (e != null) {
+            e.lastUsed = clock.incrementAndGet();
+            return e.value;
+        }
+        if (size > maxBytes) {
+            return value;
+        }
+        map.put(key, new Entry(key, value, size, clock.incrementAndGet()));
+        bytes += size;
+        evict();
+        return value;
+    }
+
+    /**
+     * Removes the value associated with the specified key.
+     *
+     * @param key
+     *            key
+     */
+    public synchronized void remove(Object key) {
+        Entry e = map.remove(key);
+        if (e != null) {
+            bytes -= e.bytes;
+        }
+    }
+
+    /**
+     * Removes all values from the cache. The statistics are not reset.
+     */
+    public synchronized void clear() {
+        map.clear();
+        bytes = 0;
+    }
+
+    /**
+     * Returns the maximal total size (in bytes) of the cached tables.
+     *
+     * @return the maximal total size (in bytes) of the cached tables
+     */
+    public synchronized long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Sets the maximal total size (in bytes) of the cached tables. Least
+     * recently used entries are evicted if necessary. Setting 0 disables
+     * caching.
+     *
+     * @param maxBytes
+     *            maximal total size (in bytes) of the cached tables
+     */
+    public synchronized void setMaxBytes(long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("maxBytes must be greater or equal 0");
+        }
+        this.maxBytes = maxBytes;
+        evict();
+    }
+
+    /**
+     * Returns the total size (in bytes) of the cached tables.
+     *
+     * @return the total size (in bytes) of the cached tables
+     */
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Returns the number of cached values.
+     *
+     * @return the number of cached values
+     */
+    public synchronized int size() {
+        return map.size();
+    }
+
+    /**
+     * Returns the number of successful lookups.
+     *
+     * @return the number of successful lookups
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of failed lookups.
+     *
+     * @return the number of failed lookups
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Returns the number of evicted values.
+     *
+     * @return the number of evicted values
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Resets the number of hits, misses and evictions.
+     */
+    public synchronized void resetStatistics() {
+        hits.set(0);
+        misses.set(0);
+        evictions = 0;
+    }
+
+    private void evict() {
+        if (bytes <= maxBytes) {
+            return;
+        }
+        Entry[] entries = map.values().toArray(new Entry[0]);
+        Arrays.sort(entries, LEAST_RECENTLY_USED);
+        for (int i = 0; (i < entries.length) && (bytes > maxBytes); i++) {
+            map.remove(entries[i].key);
+            bytes -= entries[i].bytes;
+            evictions++;
+        }
+    }
+}
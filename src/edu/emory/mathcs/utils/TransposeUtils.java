@@ -0,0 +1,239 @@
+/* ***** BEGIN LICENSE BLOCK *****
+ * Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License
+ * for the specific language governing rights and limitations under the
+ * License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is
+ * Piotr Wendykier, Emory University.
+ * Portions created by the Initial Developer are Copyright (C) 2007-2009
+ * the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or
+ * the GNU Lesser General Public License Version 2.1 or later (the "LGPL"),
+ * in which case the provisions of the GPL or the LGPL are applicable instead
+ * of those above. If you wish to allow use of your version of this file only
+ * under the terms of either the GPL or the LGPL, and not to allow others to
+ * use your version of this file under the terms of the MPL, indicate your
+ * decision by deleting the provisions above and replace them with the notice
+ * and other provisions required by the GPL or the LGPL. If you do not delete
+ * the provisions above, a recipient may use your version of this file under
+ * the terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK ***** */
+package edu.emory.mathcs.utils;
+
+import java.util.concurrent.Future;
+
+/**
+ * Cache-blocked parallel matrix transposition. The matrices are transposed
+ * out-of-place, one square tile at a time, so that both the rows that are
+ * read and the columns that are written stay in cache while the tile is
+ * copied. Used by the transpose-based algorithms of the 2D and 3D transforms.
+ * 
+ */
+public class TransposeUtils {
+
+    /**
+     * Number of matrix elements along each side of a tile.
+     */
+    public static final int BLOCK_SIZE = 32;
+
+    private TransposeUtils() {
+
+    }
+
+    /**
+     * Transposes <code>howmany</code> matrices of size n1 by n2 that are
+     * stored one after another in <code>src</code>, and stores the n2 by n1
+     * results one after another in <code>dst</code>. Every matrix element
+     * consists of <code>width</code> consecutive values (e.g. 2 for complex
+     * numbers), i.e. element (i, j) of matrix m is moved from
+     * <code>src[srcOff+((m*n1+i)*n2+j)*width]</code> to
+     * <code>dst[dstOff+((m*n2+j)*n1+i)*width]</code>. The source and the
+     * destination must not overlap.
+     * 
+     * @param src
+     *            matrices to transpose
+     * @param srcOff
+     *            index of the first element in array <code>src</code>
+     * @param dst
+     *            transposed matrices
+     * @param dstOff
+     *            index of the first element in array <code>dst</code>
+     * @param howmany
+     *            number of matrices
+     * @param n1
+     *            number of rows of every matrix
+     * @param n2
+     *            number of columns of every matrix
+     * @param width
+     *            number of values of every matrix element
+     * @param context
+     *            executor and number of threads used by this call
+     */
+    public static void transpose(final double[] src, final int srcOff, final double[] dst, final int dstOff, final int howmany, final int n1, final int n2, final int width, ConcurrencyContext context) {
+        final int blocks = (n1 + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        int ntasks = howmany * blocks;
+        int nthreads = context.getNumberOfThreads();
+        if ((nthreads > 1) && (ntasks > 1) && ((long) howmany * n1 * n2 * width >= ConcurrencyUtils.getThreadsBeginN_2D())) {
+            nthreads = Math.min(nthreads, ntasks);
+            Future<?>[] futures = new Future[nthreads];
+            final IndexRange range = new IndexRange(0, ntasks, nthreads);
+            for (int l = 0; l < nthreads; l++) {
+                futures[l] = context.submit(new Runnable() {
+                    public void run() {
+                        IndexRange.Cursor cursor = range.cursor();
+                        for (int t = cursor.next(); t >= 0; t = cursor.next()) {
+                            int m = t / blocks;
+                            transposeBlocks(src, srcOff + m * n1 * n2 * width, dst, dstOff + m * n1 * n2 * width, n1, n2, width, (t - m * blocks) * BLOCK_SIZE);
+                        }
+                    }
+                });
+            }
+            ConcurrencyUtils.waitForCompletion(futures);
+        } else {
+            for (int m = 0; m < howmany; m++) {
+                for (int i0 = 0; i0 < n1; i0 += BLOCK_SIZE) {
+                    transposeBlocks(src, srcOff + m * n1 * n2 * width, dst, dstOff + m * n1 * n2 * width, n1, n2, width, i0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Transposes <code>howmany</code> matrices of size n1 by n2 that are
+     * stored one after another in <code>src</code>, and stores the n2 by n1
+     * results one after another in <code>dst</code>. Every matrix element
+     * consists of <code>width</code> consecutive values (e.g. 2 for complex
+     * numbers), i.e. element (i, j) of matrix m is moved from
+     * <code>src[srcOff+((m*n1+i)*n2+j)*width]</code> to
+     * <code>dst[dstOff+((m*n2+j)*n1+i)*width]</code>. The source and the
+     * destination must not overlap.
+     * 
+     * @param src
+     *            matrices to transpose
+     * @param srcOff
+     *            index of the first element in array <code>src</code>
+     * @param dst
+     *            transposed matrices
+     * @param dstOff
+     *            index of the first element in array <code>dst</code>
+     * @param howmany
+     *            number of matrices
+     * @param n1
+     *            number of rows of every matrix
+     * @param n2
+     *            number of columns of every matrix
+     * @param width
+     *            number of values of every matrix element
+     * @param context
+     *            executor and number of threads used by this call
+     */
+    public static void transpose(final float[] src, final int srcOff, final float[] dst, final int dstOff, final int howmany, final int n1, final int n2, final int width, ConcurrencyContext context) {
+        final int blocks = (n1 + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        int ntasks = howmany * blocks;
+        int nthreads = context.getNumberOfThreads();
+        if ((nthreads > 1) && (ntasks > 1) && ((long) howmany * n1 * n2 * width >= ConcurrencyUtils.getThreadsBeginN_2D())) {
+            nthreads = Math.min(nthreads, ntasks);
+            Future<?>[] futures = new Future[nthreads];
+            final IndexRange range = new IndexRange(0, ntasks, nthreads);
+            for (int l = 0; l < nthreads; l++) {
+                futures[l] = context.submit(new Runnable() {
+                    public void run() {
+                        IndexRange.Cursor cursor = range.cursor();
+                        for (int t = cursor.next(); t >= 0; t = cursor.next()) {
+                            int m = t / blocks;
+                            transposeBlocks(src, srcOff + m * n1 * n2 * width, dst, dstOff + m * n1 * n2 * width, n1, n2, width, (t - m * blocks) * BLOCK_SIZE);
+                        }
+                    }
+                });
+            }
+            ConcurrencyUtils.waitForCompletion(futures);
+        } else {
+            for (int m = 0; m < howmany; m++) {
+                for (int i0 = 0; i0 < n1; i0 += BLOCK_SIZE) {
+                    transposeBlocks(src, srcOff + m * n1 * n2 * width, dst, dstOff + m * n1 * n2 * width, n1, n2, width, i0);
+                }
+            }
+        }
+    }
+
+    /*
+     * Transposes the tiles of rows i0..i0+BLOCK_SIZE-1 of one matrix.
+     */
+    private static void transposeBlocks(double[] src, int srcOff, double[] dst, int dstOff, int n1, int n2, int width, int i0) {
+        int i1 = Math.min(i0 + BLOCK_SIZE, n1);
+        for (int j0 = 0; j0 < n2; j0 += BLOCK_SIZE) {
+            int j1 = Math.min(j0 + BLOCK_SIZE, n2);
+            if (width == 2) {
+                for (int i = i0; i < i1; i++) {
+                    int idx1 = srcOff + 2 * (i * n2 + j0);
+                    int idx2 = dstOff + 2 * (j0 * n1 + i);
+                    for (int j = j0; j < j1; j++) {
+                        dst[idx2] = src[idx1];
+                        dst[idx2 + 1] = src[idx1 + 1];
+                        idx1 += 2;
+                        idx2 += 2 * n1;
+                    }
+                }
+            } else {
+                for (int i = i0; i < i1; i++) {
+                    int idx1 = srcOff + width * (i * n2 + j0);
+                    int idx2 = dstOff + width * (j0 * n1 + i);
+                    for (int j = j0; j < j1; j++) {
+                        for (int k = 0; k < width; k++) {
+                            dst[idx2 + k] = src[idx1 + k];
+                        }
+                        idx1 += width;
+                        idx2 += width * n1;
+                    }
+                }
+            }
+        }
+    }
+
+    /*
+     * Transposes the tiles of rows i0..i0+BLOCK_SIZE-1 of one matrix.
+     */
+    private static void transposeBlocks(float[] src, int srcOff, float[] dst, int dstOff, int n1, int n2, int width, int i0) {
+        int i1 = Math.min(i0 + BLOCK_SIZE, n1);
+        for (int j0 = 0; j0 < n2; j0 += BLOCK_SIZE) {
+            int j1 = Math.min(j0 + BLOCK_SIZE, n2);
+            if (width == 2) {
+                for (int i = i0; i < i1; i++) {
+                    int idx1 = srcOff + 2 * (i * n2 + j0);
+                    int idx2 = dstOff + 2 * (j0 * n1 + i);
+                    for (int j = j0; j < j1; j++) {
+                        dst[idx2] = src[idx1];
+                        dst[idx2 + 1] = src[idx1 + 1];
+                        idx1 += 2;
+                        idx2 += 2 * n1;
+                    }
+                }
+            } else {
+                for (int i = i0; i < i1; i++) {
+                    int idx1 = srcOff + width * (i * n2 + j0);
+                    int idx2 = dstOff + width * (j0 * n1 + i);
+                    for (int j = j0; j < j1; j++) {
+                        for (int k = 0; k < width; k++) {
+                            dst[idx2 + k] = src[idx1 + k];
+                        }
+                        idx1 += width;
+                        idx2 += width * n1;
+                    }
+                }
+            }
+        }
+    }
+}
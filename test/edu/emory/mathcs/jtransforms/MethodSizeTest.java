@@ -0,0 +1,183 @@
+/*
+ * ***** BEGIN LICENSE BLOCK ***** Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License for
+ * the specific language governing rights and limitations under the License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is Piotr Wendykier, Emory
+ * University. Portions created by the Initial Developer are Copyright (C)
+ * 2007-2009 the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or the
+ * GNU Lesser General Public License Version 2.1 or later (the "LGPL"), in which
+ * case the provisions of the GPL or the LGPL are applicable instead of those
+ * above. If you wish to allow use of your version of this file only under the
+ * terms of either the GPL or the LGPL, and not to allow others to use your
+ * version of this file under the terms of the MPL, indicate your decision by
+ * deleting the provisions above and replace them with the notice and other
+ * provisions required by the GPL or the LGPL. If you do not delete the
+ * provisions above, a recipient may use your version of this file under the
+ * terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK *****
+ */
+
+package edu.emory.mathcs.jtransforms;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import edu.emory.mathcs.jtransforms.fft.DoubleFFT_1D;
+
+/**
+ * Checks the bytecode size of every method of the compiled transform classes.
+ * HotSpot does not compile methods larger than HugeMethodLimit (8000 bytes),
+ * so a kernel that grows beyond it silently runs in the interpreter. The class
+ * files are read from the directory the classes were loaded from; the test is
+ * skipped when they are packaged in a jar.
+ *
+ */
+public class MethodSizeTest {
+
+    private static final int HUGE_METHOD_LIMIT = 8000;
+
+    @Test
+    public void testMethodSize() throws IOException, URISyntaxException {
+        URL url = DoubleFFT_1D.class.getResource("DoubleFFT_1D.class");
+        Assume.assumeTrue("file".equals(url.getProtocol()));
+        File root = new File(url.toURI()).getParentFile().getParentFile();
+        List<String> errors = new ArrayList<String>();
+        int nclasses = checkDirectory(root, errors);
+        Assert.assertTrue(nclasses > 0);
+        Assert.assertTrue(errors.toString(), errors.isEmpty());
+    }
+
+    private static int checkDirectory(File dir, List<String> errors) throws IOException {
+        int nclasses = 0;
+        File[] files = dir.listFiles();
+        for (int i = 0; i < files.length; i++) {
+            if (files[i].isDirectory()) {
+                nclasses += checkDirectory(files[i], errors);
+            } else if (files[i].getName().endsWith(".class")) {
+                checkClass(files[i], errors);
+                nclasses++;
+            }
+        }
+        return nclasses;
+    }
+
+    /*
+     * Reads the class file as described in chapter 4 of the Java Virtual
+     * Machine Specification and reports the methods whose code is too long.
+     */
+    private static void checkClass(File file, List<String> errors) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+        try {
+            skip(in, 8); // magic, minor and major version
+            int count = in.readUnsignedShort();
+            String[] utf8 = new String[count];
+            for (int i = 1; i < count; i++) {
+                int tag = in.readUnsignedByte();
+                switch (tag) {
+                case 1: // Utf8
+                    utf8[i] = in.readUTF();
+                    break;
+                case 7: // Class
+                case 8: // String
+                case 16: // MethodType
+                case 19: // Module
+                case 20: // Package
+                    skip(in, 2);
+                    break;
+                case 15: // MethodHandle
+                    skip(in, 3);
+                    break;
+                case 3: // Integer
+                case 4: // Float
+                case 9: // Fieldref
+                case 10: // Methodref
+                case 11: // InterfaceMethodref
+                case 12: // NameAndType
+                case 17: // Dynamic
+                case 18: // InvokeDynamic
+                    skip(in, 4);
+                    break;
+                case 5: // Long
+                case 6: // Double
+                    skip(in, 8);
+                    i++;
+                    break;
+                default:
+                    throw new IOException(file + ": unknown constant pool tag " + tag);
+                }
+            }
+            skip(in, 6); // access flags, this class, super class
+            skip(in, 2 * in.readUnsignedShort()); // interfaces
+            int nfields = in.readUnsignedShort();
+            for (int i = 0; i < nfields; i++) {
+                skip(in, 6);
+                skipAttributes(in);
+            }
+            int nmethods = in.readUnsignedShort();
+            for (int i = 0; i < nmethods; i++) {
+                skip(in, 2);
+                String name = utf8[in.readUnsignedShort()];
+                String descriptor = utf8[in.readUnsignedShort()];
+                int nattributes = in.readUnsignedShort();
+                for (int j = 0; j < nattributes; j++) {
+                    String attribute = utf8[in.readUnsignedShort()];
+                    int length = in.readInt();
+                    if ("Code".equals(attribute)) {
+                        skip(in, 4); // max stack, max locals
+                        int codeLength = in.readInt();
+                        if (codeLength > HUGE_METHOD_LIMIT) {
+                            errors.add(file.getName() + " " + name + descriptor + ": " + codeLength + " bytes");
+                        }
+                        skip(in, length - 8);
+                    } else {
+                        skip(in, length);
+                    }
+                }
+            }
+        } finally {
+            in.close();
+        }
+    }
+
+    private static void skipAttributes(DataInputStream in) throws IOException {
+        int nattributes = in.readUnsignedShort();
+        for (int i = 0; i < nattributes; i++) {
+            skip(in, 2);
+            skip(in, in.readInt());
+        }
+    }
+
+    private static void skip(DataInputStream in, int n) throws IOException {
+        while (n > 0) {
+            int skipped = in.skipBytes(n);
+            if (skipped <= 0) {
+                throw new IOException("unexpected end of class file");
+            }
+            n -= skipped;
+        }
+    }
+}
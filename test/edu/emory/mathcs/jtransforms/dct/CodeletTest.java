@@ -0,0 +1,163 @@
+/*
+ * ***** BEGIN LICENSE BLOCK ***** Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License for
+ * the specific language governing rights and limitations under the License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is Piotr Wendykier, Emory
+ * University. Portions created by the Initial Developer are Copyright (C)
+ * 2007-2009 the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or the
+ * GNU Lesser General Public License Version 2.1 or later (the "LGPL"), in which
+ * case the provisions of the GPL or the LGPL are applicable instead of those
+ * above. If you wish to allow use of your version of this file only under the
+ * terms of either the GPL or the LGPL, and not to allow others to use your
+ * version of this file under the terms of the MPL, indicate your decision by
+ * deleting the provisions above and replace them with the notice and other
+ * provisions required by the GPL or the LGPL. If you do not delete the
+ * provisions above, a recipient may use your version of this file under the
+ * terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK *****
+ */
+
+package edu.emory.mathcs.jtransforms.dct;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import edu.emory.mathcs.utils.ConcurrencyContext;
+
+/**
+ * This is a series of JUnit tests for the codelets of {@link DoubleDCT_1D} and
+ * {@link FloatDCT_1D}. For every size that has a codelet, the scaled forward
+ * and inverse transforms are compared with a naive orthonormal DCT-II and
+ * DCT-III, and the scaled and unscaled transforms are compared with the
+ * table-driven algorithms.
+ *
+ */
+@RunWith(value = Parameterized.class)
+public class CodeletTest {
+
+    @Parameters
+    public static Collection<Object[]> getParameters() {
+        final ArrayList<Object[]> parameters = new ArrayList<Object[]>();
+        for (int n = 2; n <= 32; n++) {
+            if (DoubleDCTCodelets.isSupported(n)) {
+                parameters.add(new Object[] { n });
+            }
+        }
+        return parameters;
+    }
+
+    /** The size of the DCT to be tested. */
+    private final int n;
+
+    /** For the generation of the data arrays. */
+    private final Random random;
+
+    public CodeletTest(final int n) {
+        this.n = n;
+        this.random = new Random(n);
+    }
+
+    @Test
+    public void testDouble() {
+        ConcurrencyContext context = new ConcurrencyContext(1);
+        DoubleDCT_1D codelet = new DoubleDCT_1D(n, context);
+        DoubleDCT_1D table = new DoubleDCT_1D(n, context, false);
+        double[] data = new double[n];
+        for (int k = 0; k < n; k++) {
+            data[k] = 2 * random.nextDouble() - 1;
+        }
+        for (int pass = 0; pass < 4; pass++) {
+            boolean inverse = pass >= 2;
+            boolean scale = (pass % 2) == 0;
+            String msg = "n = " + n + (inverse ? ", inverse" : ", forward") + (scale ? ", scaled" : ", unscaled");
+            double[] actual = data.clone();
+            double[] expected = data.clone();
+            if (inverse) {
+                codelet.inverse(actual, scale);
+                table.inverse(expected, scale);
+            } else {
+                codelet.forward(actual, scale);
+                table.forward(expected, scale);
+            }
+            double[] naive = scale ? naiveDCT(data, inverse) : null;
+            for (int k = 0; k < n; k++) {
+                Assert.assertEquals(msg + " vs table [" + k + "]", expected[k], actual[k], 1E-12);
+                if (scale) {
+                    Assert.assertEquals(msg + " [" + k + "]", naive[k], actual[k], 1E-12);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFloat() {
+        ConcurrencyContext context = new ConcurrencyContext(1);
+        FloatDCT_1D codelet = new FloatDCT_1D(n, context);
+        FloatDCT_1D table = new FloatDCT_1D(n, context, false);
+        float[] data = new float[n];
+        double[] ddata = new double[n];
+        for (int k = 0; k < n; k++) {
+            data[k] = 2 * random.nextFloat() - 1;
+            ddata[k] = data[k];
+        }
+        for (int pass = 0; pass < 4; pass++) {
+            boolean inverse = pass >= 2;
+            boolean scale = (pass % 2) == 0;
+            String msg = "n = " + n + (inverse ? ", inverse" : ", forward") + (scale ? ", scaled" : ", unscaled");
+            float[] actual = data.clone();
+            float[] expected = data.clone();
+            if (inverse) {
+                codelet.inverse(actual, scale);
+                table.inverse(expected, scale);
+            } else {
+                codelet.forward(actual, scale);
+                table.forward(expected, scale);
+            }
+            double[] naive = scale ? naiveDCT(ddata, inverse) : null;
+            for (int k = 0; k < n; k++) {
+                Assert.assertEquals(msg + " vs table [" + k + "]", expected[k], actual[k], 1E-5f);
+                if (scale) {
+                    Assert.assertEquals(msg + " [" + k + "]", naive[k], actual[k], 1E-5);
+                }
+            }
+        }
+    }
+
+    /*
+     * Returns the orthonormal DCT-II of a, or its inverse, the orthonormal
+     * DCT-III, if inverse is true.
+     */
+    private double[] naiveDCT(double[] a, boolean inverse) {
+        double[] b = new double[n];
+        for (int k = 0; k < n; k++) {
+            double sum = 0;
+            for (int j = 0; j < n; j++) {
+                int m = inverse ? j : k;
+                double c = (m == 0) ? Math.sqrt(0.5) : 1;
+                sum += c * a[j] * Math.cos(Math.PI * ((2 * (inverse ? k : j) + 1) * m % (4 * n)) / (2 * n));
+            }
+            b[k] = Math.sqrt(2.0 / n) * sum;
+        }
+        return b;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * ***** BEGIN LICENSE BLOCK ***** Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License for
+ * the specific language governing rights and limitations under the License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is Piotr Wendykier, Emory
+ * University. Portions created by the Initial Developer are Copyright (C)
+ * 2007-2009 the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or the
+ * GNU Lesser General Public License Version 2.1 or later (the "LGPL"), in which
+ * case the provisions of the GPL or the LGPL are applicable instead of those
+ * above. If you wish to allow use of your version of this file only under the
+ * terms of either the GPL or the LGPL, and not to allow others to use your
+ * version of this file under the terms of the MPL, indicate your decision by
+ * deleting the provisions above and replace them with the notice and other
+ * provisions required by the GPL or the LGPL. If you do not delete the
+ * provisions above, a recipient may use your version of this file under the
+ * terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK *****
+ */
+
+package edu.emory.mathcs.jtransforms.dct;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * This is a series of JUnit tests for {@link DoubleDCT_1D} and
+ * {@link FloatDCT_1D}. The forward (DCT-II) and inverse (DCT-III)
+ * transforms of sizes that are not powers of two, odd, even and prime, are
+ * compared with a naive O(n^2) evaluation of their definition, scaled and
+ * unscaled.
+ *
+ */
+@RunWith(value = Parameterized.class)
+public class NaiveReferenceTest {
+
+    @Parameters
+    public static Collection<Object[]> getParameters() {
+        final int[] size = { 3, 6, 9, 12, 15, 17, 30, 31, 45, 100, 127, 210, 1000, 1021 };
+
+        final ArrayList<Object[]> parameters = new ArrayList<Object[]>();
+        for (int i = 0; i < size.length; i++) {
+            parameters.add(new Object[] { size[i], false });
+            parameters.add(new Object[] { size[i], true });
+        }
+        return parameters;
+    }
+
+    /** The size of the transform to be tested. */
+    private final int n;
+
+    /** If true then scaling is performed. */
+    private final boolean scale;
+
+    /** For the generation of the data arrays. */
+    private final Random random;
+
+    public NaiveReferenceTest(final int n, final boolean scale) {
+        this.n = n;
+        this.scale = scale;
+        this.random = new Random(n);
+    }
+
+    @Test
+    public void testDoubleForward() {
+        double[] data = randomDouble();
+        double[] actual = data.clone();
+        new DoubleDCT_1D(n).forward(actual, scale);
+        assertEquals("forward", naive(data, false), actual);
+    }
+
+    @Test
+    public void testDoubleInverse() {
+        double[] data = randomDouble();
+        double[] actual = data.clone();
+        new DoubleDCT_1D(n).inverse(actual, scale);
+        assertEquals("inverse", naive(data, true), actual);
+    }
+
+    @Test
+    public void testFloatForward() {
+        float[] data = randomFloat();
+        float[] actual = data.clone();
+        new FloatDCT_1D(n).forward(actual, scale);
+        assertEquals("forward", naive(toDouble(data), false), actual);
+    }
+
+    @Test
+    public void testFloatInverse() {
+        float[] data = randomFloat();
+        float[] actual = data.clone();
+        new FloatDCT_1D(n).inverse(actual, scale);
+        assertEquals("inverse", naive(toDouble(data), true), actual);
+    }
+
+    /*
+     * Evaluates the definition of the forward transform (the DCT-II)
+     *
+     * y[k] = sum_j x[j] * cos(pi * (2 * j + 1) * k / (2 * n)), 0 <= k < n
+     *
+     * or of the inverse transform (the DCT-III, its transpose). The scaled
+     * transforms are orthonormal: they are multiplied by sqrt(2/n) and the
+     * term k = 0 is divided by sqrt(2). Unscaled, the forward transform is
+     * multiplied by 2 and the inverse transform by 1/n with the term k = 0
+     * halved, so that one is the inverse of the other.
+     */
+    private double[] naive(double[] a, boolean inverse) {
+        double[] b = new double[n];
+        double special = scale ? Math.sqrt(0.5) : (inverse ? 0.5 : 1.0);
+        double factor = scale ? Math.sqrt(2.0 / n) : (inverse ? 1.0 / n : 2.0);
+        for (int k = 0; k < n; k++) {
+            double sum = 0;
+            for (int j = 0; j < n; j++) {
+                // the index of the frequency and of the sample
+                int f = inverse ? j : k;
+                int s = inverse ? k : j;
+                double w = (f == 0) ? special : 1.0;
+                sum += w * a[j] * Math.cos(Math.PI * ((long) (2 * s + 1) * f % (4 * n)) / (2 * n));
+            }
+            b[k] = factor * sum;
+        }
+        return b;
+    }
+
+    private double[] randomDouble() {
+        double[] a = new double[n];
+        for (int k = 0; k < n; k++) {
+            a[k] = 2 * random.nextDouble() - 1;
+        }
+        return a;
+    }
+
+    private float[] randomFloat() {
+        float[] a = new float[n];
+        for (int k = 0; k < n; k++) {
+            a[k] = 2 * random.nextFloat() - 1;
+        }
+        return a;
+    }
+
+    private static double[] toDouble(float[] a) {
+        double[] b = new double[a.length];
+        for (int k = 0; k < a.length; k++) {
+            b[k] = a[k];
+        }
+        return b;
+    }
+
+    private void assertEquals(String msg, double[] expected, double[] actual) {
+        String prefix = "n = " + n + (scale ? ", scaled " : ", unscaled ") + msg;
+        for (int k = 0; k < n; k++) {
+            Assert.assertEquals(prefix + " [" + k + "]", expected[k], actual[k], 1E-10 * n);
+        }
+    }
+
+    private void assertEquals(String msg, double[] expected, float[] actual) {
+        String prefix = "n = " + n + (scale ? ", scaled " : ", unscaled ") + msg;
+        for (int k = 0; k < n; k++) {
+            Assert.assertEquals(prefix + " [" + k + "]", expected[k], actual[k], 1E-5 * n);
+        }
+    }
+}
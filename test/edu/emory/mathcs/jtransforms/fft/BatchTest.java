@@ -0,0 +1,467 @@
+/*
+ * ***** BEGIN LICENSE BLOCK ***** Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License for
+ * the specific language governing rights and limitations under the License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is Piotr Wendykier, Emory
+ * University. Portions created by the Initial Developer are Copyright (C)
+ * 2007-2009 the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or the
+ * GNU Lesser General Public License Version 2.1 or later (the "LGPL"), in which
+ * case the provisions of the GPL or the LGPL are applicable instead of those
+ * above. If you wish to allow use of your version of this file only under the
+ * terms of either the GPL or the LGPL, and not to allow others to use your
+ * version of this file under the terms of the MPL, indicate your decision by
+ * deleting the provisions above and replace them with the notice and other
+ * provisions required by the GPL or the LGPL. If you do not delete the
+ * provisions above, a recipient may use your version of this file under the
+ * terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK *****
+ */
+
+package edu.emory.mathcs.jtransforms.fft;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import edu.emory.mathcs.jtransforms.dct.DoubleDCT_1D;
+import edu.emory.mathcs.jtransforms.dct.FloatDCT_1D;
+import edu.emory.mathcs.jtransforms.dht.DoubleDHT_1D;
+import edu.emory.mathcs.jtransforms.dht.FloatDHT_1D;
+import edu.emory.mathcs.jtransforms.dst.DoubleDST_1D;
+import edu.emory.mathcs.jtransforms.dst.FloatDST_1D;
+import edu.emory.mathcs.utils.ConcurrencyUtils;
+
+/**
+ * This is a series of JUnit tests for the batched methods of the 1D
+ * transforms. Every batch is compared with the same sequences transformed one
+ * at a time by the methods that transform one sequence. The sequences are
+ * either stored one after the other, possibly with a gap between them, or
+ * interleaved (as the channels of a multichannel signal), possibly with
+ * channels that are not part of the batch. The elements that do not belong to
+ * any sequence must not be modified.
+ *
+ */
+@RunWith(value = Parameterized.class)
+public class BatchTest {
+    /** Base message of all exceptions. */
+    public static final String DEFAULT_MESSAGE = "%d-threaded batch of %d sequences of size %d, %s, gap %d: ";
+
+    /** Index of the first element of the first sequence. */
+    private static final int OFFSET = 3;
+
+    /** Number of elements after the last element of the last sequence. */
+    private static final int TAIL = 5;
+
+    /** The constant value of the seed of the random generator. */
+    public static final int SEED = 20120517;
+
+    @Parameters
+    public static Collection<Object[]> getParameters() {
+        final int[] size = { 1, 2, 16, 100, 211, 1024 };
+        final int[] howmany = { 0, 1, 7 };
+        final int[] numThreads = { 1, 4 };
+        final int[] gap = { 0, 3 };
+
+        final ArrayList<Object[]> parameters = new ArrayList<Object[]>();
+        for (int i = 0; i < size.length; i++) {
+            for (int j = 0; j < howmany.length; j++) {
+                for (int k = 0; k < numThreads.length; k++) {
+                    for (int l = 0; l < gap.length; l++) {
+                        parameters.add(new Object[] { size[i], howmany[j], numThreads[k], false, gap[l] });
+                        if (howmany[j] + gap[l] > 0) {
+                            parameters.add(new Object[] { size[i], howmany[j], numThreads[k], true, gap[l] });
+                        }
+                    }
+                }
+            }
+        }
+        return parameters;
+    }
+
+    /** The size of the sequences. */
+    private final int n;
+
+    /** The number of sequences. */
+    private final int howmany;
+
+    /** True if the sequences are interleaved. */
+    private final boolean interleaved;
+
+    /**
+     * Number of elements between two consecutive sequences, or number of
+     * interleaved sequences that are not part of the batch.
+     */
+    private final int gap;
+
+    /** Prefix of the messages of the assertions. */
+    private final String msg;
+
+    /**
+     * Creates a new instance of this class.
+     * 
+     * @param n
+     *            the size of the sequences
+     * @param howmany
+     *            the number of sequences
+     * @param numThreads
+     *            the number of threads
+     * @param interleaved
+     *            true if the sequences are interleaved
+     * @param gap
+     *            number of elements between two consecutive sequences, or
+     *            number of interleaved sequences that are not part of the
+     *            batch
+     */
+    public BatchTest(final int n, final int howmany, final int numThreads, final boolean interleaved, final int gap) {
+        this.n = n;
+        this.howmany = howmany;
+        this.interleaved = interleaved;
+        this.gap = gap;
+        this.msg = String.format(DEFAULT_MESSAGE, numThreads, howmany, n, interleaved ? "interleaved" : "contiguous", gap);
+        ConcurrencyUtils.setThreadsBeginN_2D(1);
+        ConcurrencyUtils.setNumberOfThreads(numThreads);
+    }
+
+    @After
+    public void tearDown() {
+        ConcurrencyUtils.resetThreadsBeginN();
+        ConcurrencyUtils.setNumberOfThreads(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Returns the distance between consecutive elements of a sequence, whose
+     * elements are made of <code>width</code> array elements.
+     */
+    private int getStride(final int width) {
+        return interleaved ? width * (howmany + gap) : width;
+    }
+
+    /**
+     * Returns the distance between the first elements of consecutive
+     * sequences, whose elements are made of <code>width</code> array
+     * elements.
+     */
+    private int getDist(final int width) {
+        return interleaved ? width : width * n + gap;
+    }
+
+    /**
+     * Returns the index of the first array element of sequence j.
+     */
+    private int getOffset(final int width, final int j) {
+        return OFFSET + j * getDist(width);
+    }
+
+    private int getLength(final int width) {
+        final int length;
+        if (interleaved) {
+            length = n * getStride(width);
+        } else {
+            length = howmany * getDist(width);
+        }
+        return OFFSET + length + TAIL;
+    }
+
+    private double[] createDoubleData(final int width) {
+        final Random random = new Random(SEED);
+        final double[] a = new double[getLength(width)];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = 2. * random.nextDouble() - 1.;
+        }
+        return a;
+    }
+
+    private float[] createFloatData(final int width) {
+        final Random random = new Random(SEED);
+        final float[] a = new float[getLength(width)];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = 2f * random.nextFloat() - 1f;
+        }
+        return a;
+    }
+
+    /**
+     * Copies sequence j of <code>a</code> to <code>seq</code>.
+     */
+    private void getSequence(final double[] a, final int width, final int j, final double[] seq) {
+        final int offa = getOffset(width, j);
+        final int stride = getStride(width);
+        for (int k = 0; k < n; k++) {
+            System.arraycopy(a, offa + k * stride, seq, k * width, width);
+        }
+    }
+
+    /**
+     * Copies <code>seq</code> to sequence j of <code>a</code>.
+     */
+    private void setSequence(final double[] a, final int width, final int j, final double[] seq) {
+        final int offa = getOffset(width, j);
+        final int stride = getStride(width);
+        for (int k = 0; k < n; k++) {
+            System.arraycopy(seq, k * width, a, offa + k * stride, width);
+        }
+    }
+
+    private void getSequence(final float[] a, final int width, final int j, final float[] seq) {
+        final int offa = getOffset(width, j);
+        final int stride = getStride(width);
+        for (int k = 0; k < n; k++) {
+            System.arraycopy(a, offa + k * stride, seq, k * width, width);
+        }
+    }
+
+    private void setSequence(final float[] a, final int width, final int j, final float[] seq) {
+        final int offa = getOffset(width, j);
+        final int stride = getStride(width);
+        for (int k = 0; k < n; k++) {
+            System.arraycopy(seq, k * width, a, offa + k * stride, width);
+        }
+    }
+
+    @Test
+    public void testDoubleComplexForwardBatch() {
+        final DoubleFFT_1D fft = new DoubleFFT_1D(n);
+        final double[] actual = createDoubleData(2);
+        final double[] expected = actual.clone();
+        final double[] seq = new double[2 * n];
+        for (int j = 0; j < howmany; j++) {
+            getSequence(expected, 2, j, seq);
+            fft.complexForward(seq);
+            setSequence(expected, 2, j, seq);
+        }
+        fft.complexForwardBatch(actual, OFFSET, howmany, getStride(2), getDist(2));
+        Assert.assertArrayEquals(msg, expected, actual, 0.0);
+    }
+
+    @Test
+    public void testDoubleComplexInverseBatch() {
+        final DoubleFFT_1D fft = new DoubleFFT_1D(n);
+        final double[] actual = createDoubleData(2);
+        final double[] expected = actual.clone();
+        final double[] seq = new double[2 * n];
+        for (int j = 0; j < howmany; j++) {
+            getSequence(expected, 2, j, seq);
+            fft.complexInverse(seq, true);
+            setSequence(expected, 2, j, seq);
+        }
+        fft.complexInverseBatch(actual, OFFSET, howmany, getStride(2), getDist(2), true);
+        Assert.assertArrayEquals(msg, expected, actual, 0.0);
+    }
+
+    @Test
+    public void testDoubleRealForwardBatch() {
+        final DoubleFFT_1D fft = new DoubleFFT_1D(n);
+        final double[] actual = createDoubleData(1);
+        final double[] expected = actual.clone();
+        final double[] seq = new double[n];
+        for (int j = 0; j < howmany; j++) {
+            getSequence(expected, 1, j, seq);
+            fft.realForward(seq);
+            setSequence(expected, 1, j, seq);
+        }
+        fft.realForwardBatch(actual, OFFSET, howmany, getStride(1), getDist(1));
+        Assert.assertArrayEquals(msg, expected, actual, 0.0);
+    }
+
+    @Test
+    public void testDoubleRealInverseBatch() {
+        final DoubleFFT_1D fft = new DoubleFFT_1D(n);
+        final double[] actual = createDoubleData(1);
+        final double[] expected = actual.clone();
+        final double[] seq = new double[n];
+        for (int j = 0; j < howmany; j++) {
+            getSequence(expected, 1, j, seq);
+            fft.realInverse(seq, false);
+            setSequence(expected, 1, j, seq);
+        }
+        fft.realInverseBatch(actual, OFFSET, howmany, getStride(1), getDist(1), false);
+        Assert.assertArrayEquals(msg, expected, actual, 0.0);
+    }
+
+    @Test
+    public void testFloatComplexForwardBatch() {
+        final FloatFFT_1D fft = new FloatFFT_1D(n);
+        final float[] actual = createFloatData(2);
+        final float[] expected = actual.clone();
+        final float[] seq = new float[2 * n];
+        for (int j = 0; j < howmany; j++) {
+            getSequence(expected, 2, j, seq);
+            fft.complexForward(seq);
+            setSequence(expected, 2, j, seq);
+        }
+        fft.complexForwardBatch(actual, OFFSET, howmany, getStride(2), getDist(2));
+        Assert.assertArrayEquals(msg, expected, actual, 0f);
+    }
+
+    @Test
+    public void testFloatComplexInverseBatch() {
+        final FloatFFT_1D fft = new FloatFFT_1D(n);
+        final float[] actual = createFloatData(2);
+        final float[] expected = actual.clone();
+        final float[] seq = new float[2 * n];
+        for (int j = 0; j < howmany; j++) {
+            getSequence(expected, 2, j, seq);
+            fft.complexInverse(seq, true);
+            setSequence(expected, 2, j, seq);
+        }
+        fft.complexInverseBatch(actual, OFFSET, howmany, getStride(2), getDist(2), true);
+        Assert.assertArrayEquals(msg, expected, actual, 0f);
+    }
+
+    @Test
+    public void testFloatRealForwardBatch() {
+        final FloatFFT_1D fft = new FloatFFT_1D(n);
+        final float[] actual = createFloatData(1);
+        final float[] expected = actual.clone();
+        final float[] seq = new float[n];
+        for (int j = 0; j < howmany; j++) {
+            getSequence(expected, 1, j, seq);
+            fft.realForward(seq);
+            setSequence(expected, 1, j, seq);
+        }
+        fft.realForwardBatch(actual, OFFSET, howmany, getStride(1), getDist(1));
+        Assert.assertArrayEquals(msg, expected, actual, 0f);
+    }
+
+    @Test
+    public void testFloatRealInverseBatch() {
+        final FloatFFT_1D fft = new FloatFFT_1D(n);
+        final float[] actual = createFloatData(1);
+        final float[] expected = actual.clone();
+        final float[] seq = new float[n];
+        for (int j = 0; j < howmany; j++) {
+            getSequence(expected, 1, j, seq);
+            fft.realInverse(seq, false);
+            setSequence(expected, 1, j, seq);
+        }
+        fft.realInverseBatch(actual, OFFSET, howmany, getStride(1), getDist(1), false);
+        Assert.assertArrayEquals(msg, expected, actual, 0f);
+    }
+
+    @Test
+    public void testDoubleDCTBatch() {
+        final DoubleDCT_1D dct = new DoubleDCT_1D(n);
+        final double[] actual = createDoubleData(1);
+        final double[] expected = actual.clone();
+        final double[] seq = new double[n];
+        for (int j = 0; j < howmany; j++) {
+            getSequence(expected, 1, j, seq);
+            dct.forward(seq, true);
+            dct.inverse(seq, false);
+            setSequence(expected, 1, j, seq);
+        }
+        dct.forwardBatch(actual, OFFSET, howmany, getStride(1), getDist(1), true);
+        dct.inverseBatch(actual, OFFSET, howmany, getStride(1), getDist(1), false);
+        Assert.assertArrayEquals(msg, expected, actual, 0.0);
+    }
+
+    @Test
+    public void testFloatDCTBatch() {
+        final FloatDCT_1D dct = new FloatDCT_1D(n);
+        final float[] actual = createFloatData(1);
+        final float[] expected = actual.clone();
+        final float[] seq = new float[n];
+        for (int j = 0; j < howmany; j++) {
+            getSequence(expected, 1, j, seq);
+            dct.forward(seq, true);
+            dct.inverse(seq, false);
+            setSequence(expected, 1, j, seq);
+        }
+        dct.forwardBatch(actual, OFFSET, howmany, getStride(1), getDist(1), true);
+        dct.inverseBatch(actual, OFFSET, howmany, getStride(1), getDist(1), false);
+        Assert.assertArrayEquals(msg, expected, actual, 0f);
+    }
+
+    @Test
+    public void testDoubleDSTBatch() {
+        final DoubleDST_1D dst = new DoubleDST_1D(n);
+        final double[] actual = createDoubleData(1);
+        final double[] expected = actual.clone();
+        final double[] seq = new double[n];
+        for (int j = 0; j < howmany; j++) {
+            getSequence(expected, 1, j, seq);
+            dst.forward(seq, false);
+            dst.inverse(seq, true);
+            setSequence(expected, 1, j, seq);
+        }
+        dst.forwardBatch(actual, OFFSET, howmany, getStride(1), getDist(1), false);
+        dst.inverseBatch(actual, OFFSET, howmany, getStride(1), getDist(1), true);
+        Assert.assertArrayEquals(msg, expected, actual, 0.0);
+    }
+
+    @Test
+    public void testFloatDSTBatch() {
+        final FloatDST_1D dst = new FloatDST_1D(n);
+        final float[] actual = createFloatData(1);
+        final float[] expected = actual.clone();
+        final float[] seq = new float[n];
+        for (int j = 0; j < howmany; j++) {
+            getSequence(expected, 1, j, seq);
+            dst.forward(seq, false);
+            dst.inverse(seq, true);
+            setSequence(expected, 1, j, seq);
+        }
+        dst.forwardBatch(actual, OFFSET, howmany, getStride(1), getDist(1), false);
+        dst.inverseBatch(actual, OFFSET, howmany, getStride(1), getDist(1), true);
+        Assert.assertArrayEquals(msg, expected, actual, 0f);
+    }
+
+    @Test
+    public void testDoubleDHTBatch() {
+        final DoubleDHT_1D dht = new DoubleDHT_1D(n);
+        final double[] actual = createDoubleData(1);
+        final double[] expected = actual.clone();
+        final double[] seq = new double[n];
+        for (int j = 0; j < howmany; j++) {
+            getSequence(expected, 1, j, seq);
+            dht.forward(seq);
+            dht.inverse(seq, false);
+            setSequence(expected, 1, j, seq);
+        }
+        dht.forwardBatch(actual, OFFSET, howmany, getStride(1), getDist(1));
+        dht.inverseBatch(actual, OFFSET, howmany, getStride(1), getDist(1), false);
+        Assert.assertArrayEquals(msg, expected, actual, 0.0);
+    }
+
+    @Test
+    public void testFloatDHTBatch() {
+        final FloatDHT_1D dht = new FloatDHT_1D(n);
+        final float[] actual = createFloatData(1);
+        final float[] expected = actual.clone();
+        final float[] seq = new float[n];
+        for (int j = 0; j < howmany; j++) {
+            getSequence(expected, 1, j, seq);
+            dht.forward(seq);
+            dht.inverse(seq, false);
+            setSequence(expected, 1, j, seq);
+        }
+        dht.forwardBatch(actual, OFFSET, howmany, getStride(1), getDist(1));
+        dht.inverseBatch(actual, OFFSET, howmany, getStride(1), getDist(1), false);
+        Assert.assertArrayEquals(msg, expected, actual, 0f);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testStrideMustBePositive() {
+        new DoubleFFT_1D(n).complexForwardBatch(new double[2 * n + 2], 0, howmany, 0, 2);
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * ***** BEGIN LICENSE BLOCK ***** Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License for
+ * the specific language governing rights and limitations under the License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is Piotr Wendykier, Emory
+ * University. Portions created by the Initial Developer are Copyright (C)
+ * 2007-2009 the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or the
+ * GNU Lesser General Public License Version 2.1 or later (the "LGPL"), in which
+ * case the provisions of the GPL or the LGPL are applicable instead of those
+ * above. If you wish to allow use of your version of this file only under the
+ * terms of either the GPL or the LGPL, and not to allow others to use your
+ * version of this file under the terms of the MPL, indicate your decision by
+ * deleting the provisions above and replace them with the notice and other
+ * provisions required by the GPL or the LGPL. If you do not delete the
+ * provisions above, a recipient may use your version of this file under the
+ * terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK *****
+ */
+
+package edu.emory.mathcs.jtransforms.fft;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * This is a series of JUnit tests for the codelets of {@link DoubleFFT_1D} and
+ * {@link FloatFFT_1D}. For every size that has a codelet, the complex and the
+ * real transforms computed with {@link DoubleFFT_1D.Plans#CODELET} are
+ * compared with a naive DFT and with the table-driven
+ * {@link DoubleFFT_1D.Plans#MIXED_RADIX} plan.
+ *
+ */
+@RunWith(value = Parameterized.class)
+public class CodeletTest {
+
+    @Parameters
+    public static Collection<Object[]> getParameters() {
+        final ArrayList<Object[]> parameters = new ArrayList<Object[]>();
+        for (int n = 2; n <= 32; n++) {
+            if (DoubleFFTCodelets.isSupported(n)) {
+                parameters.add(new Object[] { n });
+            }
+        }
+        return parameters;
+    }
+
+    /** The size of the FFT to be tested. */
+    private final int n;
+
+    /** For the generation of the data arrays. */
+    private final Random random;
+
+    public CodeletTest(final int n) {
+        this.n = n;
+        this.random = new Random(n);
+    }
+
+    @Test
+    public void testSizes() {
+        Assert.assertTrue(FloatFFTCodelets.isSupported(n));
+    }
+
+    @Test
+    public void testDoubleComplex() {
+        DoubleFFT_1D codelet = new DoubleFFT_1D(n, DoubleFFT_1D.Plans.CODELET);
+        DoubleFFT_1D table = new DoubleFFT_1D(n, DoubleFFT_1D.Plans.MIXED_RADIX);
+        FloatingPointEqualityChecker checker = createEqualityChecker();
+        double[] data = randomDouble(2 * n);
+
+        double[] expected = naiveDFT(data, -1);
+        double[] actual = data.clone();
+        double[] tabled = data.clone();
+        codelet.complexForward(actual);
+        table.complexForward(tabled);
+        assertEquals(checker, "forward", expected, actual, 2 * n);
+        assertEquals(checker, "forward vs table", tabled, actual, 2 * n);
+
+        expected = naiveDFT(data, 1);
+        actual = data.clone();
+        tabled = data.clone();
+        codelet.complexInverse(actual, false);
+        table.complexInverse(tabled, false);
+        assertEquals(checker, "inverse", expected, actual, 2 * n);
+        assertEquals(checker, "inverse vs table", tabled, actual, 2 * n);
+
+        actual = data.clone();
+        actual = data.clone();
+        codelet.complexForward(actual, 0);
+        codelet.complexInverse(actual, 0, true);
+        assertEquals(checker, "forward, inverse", data, actual, 2 * n);
+    }
+
+    @Test
+    public void testDoubleReal() {
+        DoubleFFT_1D codelet = new DoubleFFT_1D(n, DoubleFFT_1D.Plans.CODELET);
+        DoubleFFT_1D table = new DoubleFFT_1D(n, DoubleFFT_1D.Plans.MIXED_RADIX);
+        FloatingPointEqualityChecker checker = createEqualityChecker();
+        double[] data = randomDouble(n);
+        double[] complex = new double[2 * n];
+        for (int k = 0; k < n; k++) {
+            complex[2 * k] = data[k];
+        }
+        double[] full = naiveDFT(complex, -1);
+
+        double[] actual = data.clone();
+        double[] tabled = data.clone();
+        codelet.realForward(actual);
+        table.realForward(tabled);
+        assertEquals(checker, "real forward", pack(full), actual, n);
+        assertEquals(checker, "real forward vs table", tabled, actual, n);
+
+        double[] packed = actual.clone();
+        codelet.realInverse(actual, false);
+        table.realInverse(tabled, false);
+        assertEquals(checker, "real inverse vs table", tabled, actual, n);
+        codelet.realInverse(packed, true);
+        assertEquals(checker, "real forward, inverse", data, packed, n);
+
+        actual = new double[2 * n];
+        System.arraycopy(data, 0, actual, 0, n);
+        codelet.realForwardFull(actual);
+        assertEquals(checker, "real forward full", full, actual, 2 * n);
+
+        double[] expected = naiveDFT(complex, 1);
+        actual = new double[2 * n];
+        tabled = new double[2 * n];
+        System.arraycopy(data, 0, actual, 0, n);
+        System.arraycopy(data, 0, tabled, 0, n);
+        codelet.realInverseFull(actual, false);
+        table.realInverseFull(tabled, false);
+        assertEquals(checker, "real inverse full", expected, actual, 2 * n);
+        assertEquals(checker, "real inverse full vs table", tabled, actual, 2 * n);
+    }
+
+    @Test
+    public void testFloatComplex() {
+        FloatFFT_1D codelet = new FloatFFT_1D(n, FloatFFT_1D.Plans.CODELET);
+        FloatFFT_1D table = new FloatFFT_1D(n, FloatFFT_1D.Plans.MIXED_RADIX);
+        FloatingPointEqualityChecker checker = createEqualityChecker();
+        float[] data = randomFloat(2 * n);
+
+        float[] expected = toFloat(naiveDFT(toDouble(data), -1));
+        float[] actual = data.clone();
+        float[] tabled = data.clone();
+        codelet.complexForward(actual);
+        table.complexForward(tabled);
+        assertEquals(checker, "forward", expected, actual, 2 * n);
+        assertEquals(checker, "forward vs table", tabled, actual, 2 * n);
+
+        expected = toFloat(naiveDFT(toDouble(data), 1));
+        actual = data.clone();
+        tabled = data.clone();
+        codelet.complexInverse(actual, false);
+        table.complexInverse(tabled, false);
+        assertEquals(checker, "inverse", expected, actual, 2 * n);
+        assertEquals(checker, "inverse vs table", tabled, actual, 2 * n);
+
+        actual = data.clone();
+        actual = data.clone();
+        codelet.complexForward(actual, 0);
+        codelet.complexInverse(actual, 0, true);
+        assertEquals(checker, "forward, inverse", data, actual, 2 * n);
+    }
+
+    @Test
+    public void testFloatReal() {
+        FloatFFT_1D codelet = new FloatFFT_1D(n, FloatFFT_1D.Plans.CODELET);
+        FloatFFT_1D table = new FloatFFT_1D(n, FloatFFT_1D.Plans.MIXED_RADIX);
+        FloatingPointEqualityChecker checker = createEqualityChecker();
+        float[] data = randomFloat(n);
+        float[] complex = new float[2 * n];
+        for (int k = 0; k < n; k++) {
+            complex[2 * k] = data[k];
+        }
+        double[] full = naiveDFT(toDouble(complex), -1);
+
+        float[] actual = data.clone();
+        float[] tabled = data.clone();
+        codelet.realForward(actual);
+        table.realForward(tabled);
+        assertEquals(checker, "real forward", toFloat(pack(full)), actual, n);
+        assertEquals(checker, "real forward vs table", tabled, actual, n);
+
+        float[] packed = actual.clone();
+        codelet.realInverse(actual, false);
+        table.realInverse(tabled, false);
+        assertEquals(checker, "real inverse vs table", tabled, actual, n);
+        codelet.realInverse(packed, true);
+        assertEquals(checker, "real forward, inverse", data, packed, n);
+
+        actual = new float[2 * n];
+        System.arraycopy(data, 0, actual, 0, n);
+        codelet.realForwardFull(actual);
+        assertEquals(checker, "real forward full", toFloat(full), actual, 2 * n);
+
+        float[] expected = toFloat(naiveDFT(toDouble(complex), 1));
+        actual = new float[2 * n];
+        tabled = new float[2 * n];
+        System.arraycopy(data, 0, actual, 0, n);
+        System.arraycopy(data, 0, tabled, 0, n);
+        codelet.realInverseFull(actual, false);
+        table.realInverseFull(tabled, false);
+        assertEquals(checker, "real inverse full", expected, actual, 2 * n);
+        assertEquals(checker, "real inverse full vs table", tabled, actual, 2 * n);
+    }
+
+    private FloatingPointEqualityChecker createEqualityChecker() {
+        return new FloatingPointEqualityChecker("n = " + n + ", ", 1E-12, 1E-12, 1E-5f, 1E-5f);
+    }
+
+    /*
+     * Returns sum_j a[j]*exp(sign*2*pi*i*j*k/n) for 0<=k<n, with the angles
+     * reduced modulo 2*pi exactly.
+     */
+    private double[] naiveDFT(double[] a, int sign) {
+        double[] b = new double[2 * n];
+        for (int k = 0; k < n; k++) {
+            double re = 0;
+            double im = 0;
+            for (int j = 0; j < n; j++) {
+                double arg = sign * 2 * Math.PI * ((j * k) % n) / n;
+                double c = Math.cos(arg);
+                double s = Math.sin(arg);
+                re += a[2 * j] * c - a[2 * j + 1] * s;
+                im += a[2 * j] * s + a[2 * j + 1] * c;
+            }
+            b[2 * k] = re;
+            b[2 * k + 1] = im;
+        }
+        return b;
+    }
+
+    /*
+     * Returns the DFT of real data in the layout of realForward: a[1] holds
+     * Re[n/2] if n is even and Im[(n-1)/2] if n is odd.
+     */
+    private double[] pack(double[] full) {
+        double[] a = new double[n];
+        a[0] = full[0];
+        a[1] = full[n];
+        for (int k = 1; 2 * k < n; k++) {
+            a[2 * k] = full[2 * k];
+            if (2 * k + 1 < n) {
+                a[2 * k + 1] = full[2 * k + 1];
+            }
+        }
+        return a;
+    }
+
+    private double[] randomDouble(int length) {
+        double[] a = new double[length];
+        for (int k = 0; k < length; k++) {
+            a[k] = 2 * random.nextDouble() - 1;
+        }
+        return a;
+    }
+
+    private float[] randomFloat(int length) {
+        float[] a = new float[length];
+        for (int k = 0; k < length; k++) {
+            a[k] = 2 * random.nextFloat() - 1;
+        }
+        return a;
+    }
+
+    private static double[] toDouble(float[] a) {
+        double[] b = new double[a.length];
+        for (int k = 0; k < a.length; k++) {
+            b[k] = a[k];
+        }
+        return b;
+    }
+
+    private static float[] toFloat(double[] a) {
+        float[] b = new float[a.length];
+        for (int k = 0; k < a.length; k++) {
+            b[k] = (float) a[k];
+        }
+        return b;
+    }
+
+    private static void assertEquals(FloatingPointEqualityChecker checker, String msg, double[] expected, double[] actual, int length) {
+        for (int k = 0; k < length; k++) {
+            checker.assertEquals(msg + " [" + k + "]", expected[k], actual[k]);
+        }
+    }
+
+    private static void assertEquals(FloatingPointEqualityChecker checker, String msg, float[] expected, float[] actual, int length) {
+        for (int k = 0; k < length; k++) {
+            checker.assertEquals(msg + " [" + k + "]", expected[k], actual[k]);
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * ***** BEGIN LICENSE BLOCK ***** Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License for
+ * the specific language governing rights and limitations under the License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is Piotr Wendykier, Emory
+ * University. Portions created by the Initial Developer are Copyright (C)
+ * 2007-2009 the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or the
+ * GNU Lesser General Public License Version 2.1 or later (the "LGPL"), in which
+ * case the provisions of the GPL or the LGPL are applicable instead of those
+ * above. If you wish to allow use of your version of this file only under the
+ * terms of either the GPL or the LGPL, and not to allow others to use your
+ * version of this file under the terms of the MPL, indicate your decision by
+ * deleting the provisions above and replace them with the notice and other
+ * provisions required by the GPL or the LGPL. If you do not delete the
+ * provisions above, a recipient may use your version of this file under the
+ * terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK *****
+ */
+
+package edu.emory.mathcs.jtransforms.fft;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import edu.emory.mathcs.utils.ConcurrencyContext;
+import edu.emory.mathcs.utils.ConcurrencyUtils;
+
+/**
+ * This is a test of the 2D and 3D transforms used concurrently. A single
+ * instance of each FFT, DCT, DST and DHT, in double and in single precision, is
+ * shared by several threads, and every result must be identical to the result
+ * of the same call made by one thread, which must agree with the result of a
+ * transform that runs in one thread. The shared transforms run with a number
+ * of threads that does not always divide the rows, columns or slices.
+ *
+ */
+@RunWith(value = Parameterized.class)
+public class ConcurrencyStressTest {
+
+    private static final int NUM_CALLERS = 8;
+
+    private static final int NUM_ITERATIONS = 50;
+
+    @Parameters
+    public static Collection<Object[]> getParameters() {
+        final int[][] sizes = { { 16, 32 }, { 12, 10 }, { 7, 9 }, { 6, 4 }, { 8, 16, 8 }, { 6, 10, 5 }, { 4, 3, 4 } };
+        final String[] kinds = { "fft.DoubleFFT", "fft.FloatFFT", "dct.DoubleDCT", "dct.FloatDCT", "dst.DoubleDST", "dst.FloatDST", "dht.DoubleDHT", "dht.FloatDHT" };
+        final int[] numThreads = { 3, 4 };
+
+        final ArrayList<Object[]> parameters = new ArrayList<Object[]>();
+        for (int i = 0; i < kinds.length; i++) {
+            for (int j = 0; j < sizes.length; j++) {
+                String name = "edu.emory.mathcs.jtransforms." + kinds[i] + "_" + sizes[j].length + "D";
+                List<Object[]> methods = new ArrayList<Object[]>();
+                if (kinds[i].startsWith("fft.")) {
+                    methods.add(new Object[] { "complexForward", null, 2 });
+                    methods.add(new Object[] { "complexInverse", Boolean.TRUE, 2 });
+                    methods.add(new Object[] { "realForwardFull", null, 2 });
+                    boolean powerOf2 = true;
+                    for (int k = 0; k < sizes[j].length; k++) {
+                        powerOf2 &= ConcurrencyUtils.isPowerOf2(sizes[j][k]);
+                    }
+                    if (powerOf2) {
+                        methods.add(new Object[] { "realForward", null, 1 });
+                    }
+                } else if (kinds[i].startsWith("dht.")) {
+                    methods.add(new Object[] { "forward", null, 1 });
+                    methods.add(new Object[] { "inverse", Boolean.TRUE, 1 });
+                } else {
+                    methods.add(new Object[] { "forward", Boolean.TRUE, 1 });
+                    methods.add(new Object[] { "inverse", Boolean.FALSE, 1 });
+                }
+                for (int k = 0; k < numThreads.length; k++) {
+                    for (int l = 0; l < methods.size(); l++) {
+                        Object[] method = methods.get(l);
+                        parameters.add(new Object[] { name, sizes[j], numThreads[k], method[0], method[1], method[2] });
+                    }
+                }
+            }
+        }
+        return parameters;
+    }
+
+    /** The transform shared by the callers. */
+    private final Object transform;
+
+    /** The same transform, run in one thread. */
+    private final Object serial;
+
+    /** The method of the transform to be tested. */
+    private final Method method;
+
+    /** The scale argument of the method, or null if it takes none. */
+    private final Boolean scale;
+
+    /** The length of the data arrays. */
+    private final int length;
+
+    /** True if the transform is in single precision. */
+    private final boolean isFloat;
+
+    /** Base message of all exceptions. */
+    private final String msg;
+
+    /**
+     * Creates a new instance of this class.
+     *
+     * @param className
+     *            the name of the 2D or 3D transform class
+     * @param size
+     *            the rows and columns, or the slices, rows and columns
+     * @param numThreads
+     *            the number of threads
+     * @param methodName
+     *            the name of the method to be tested
+     * @param scale
+     *            the scale argument of the method, or null if it takes none
+     * @param width
+     *            the number of values per element (2 for complex data)
+     */
+    public ConcurrencyStressTest(final String className, final int[] size, final int numThreads, final String methodName, final Boolean scale, final int width) throws Exception {
+        ConcurrencyUtils.setThreadsBeginN_2D(1);
+        ConcurrencyUtils.setThreadsBeginN_3D(1);
+        Class<?> cls = Class.forName(className);
+        Class<?>[] types = new Class<?>[size.length + 1];
+        Object[] args = new Object[size.length + 1];
+        int length = width;
+        for (int i = 0; i < size.length; i++) {
+            types[i] = int.class;
+            args[i] = size[i];
+            length *= size[i];
+        }
+        types[size.length] = ConcurrencyContext.class;
+        Constructor<?> constructor = cls.getConstructor(types);
+        args[size.length] = new ConcurrencyContext(numThreads);
+        this.transform = constructor.newInstance(args);
+        args[size.length] = new ConcurrencyContext(1);
+        this.serial = constructor.newInstance(args);
+        this.isFloat = className.contains(".Float");
+        Class<?> array = isFloat ? float[].class : double[].class;
+        this.method = (scale == null) ? cls.getMethod(methodName, array) : cls.getMethod(methodName, array, boolean.class);
+        this.scale = scale;
+        this.length = length;
+        this.msg = cls.getSimpleName() + Arrays.toString(size) + "." + methodName + ", " + numThreads + " threads: ";
+    }
+
+    @After
+    public void tearDown() {
+        ConcurrencyUtils.resetThreadsBeginN();
+    }
+
+    @Test
+    public void testConcurrentCalls() throws Exception {
+        final Random rnd = new Random(20091102);
+        final Object[] inputs = new Object[NUM_CALLERS];
+        final Object[] expected = new Object[NUM_CALLERS];
+        for (int k = 0; k < NUM_CALLERS; k++) {
+            if (isFloat) {
+                float[] a = new float[length];
+                for (int i = 0; i < length; i++) {
+                    a[i] = rnd.nextFloat();
+                }
+                inputs[k] = a;
+                expected[k] = a.clone();
+                float[] b = a.clone();
+                apply(serial, b);
+                apply(transform, expected[k]);
+                Assert.assertArrayEquals(msg + "vs one thread", b, (float[]) expected[k], 1E-3f);
+            } else {
+                double[] a = new double[length];
+                for (int i = 0; i < length; i++) {
+                    a[i] = rnd.nextDouble();
+                }
+                inputs[k] = a;
+                expected[k] = a.clone();
+                double[] b = a.clone();
+                apply(serial, b);
+                apply(transform, expected[k]);
+                Assert.assertArrayEquals(msg + "vs one thread", b, (double[]) expected[k], 1E-10);
+            }
+        }
+        final List<Throwable> errors = new ArrayList<Throwable>();
+        final Thread[] callers = new Thread[NUM_CALLERS];
+        for (int k = 0; k < NUM_CALLERS; k++) {
+            final int id = k;
+            callers[k] = new Thread() {
+                public void run() {
+                    try {
+                        for (int it = 0; it < NUM_ITERATIONS; it++) {
+                            if (isFloat) {
+                                float[] a = ((float[]) inputs[id]).clone();
+                                apply(transform, a);
+                                Assert.assertArrayEquals(msg + "caller " + id, (float[]) expected[id], a, 0f);
+                            } else {
+                                double[] a = ((double[]) inputs[id]).clone();
+                                apply(transform, a);
+                                Assert.assertArrayEquals(msg + "caller " + id, (double[]) expected[id], a, 0.0);
+                            }
+                        }
+                    } catch (Throwable e) {
+                        synchronized (errors) {
+                            errors.add(e);
+                        }
+                    }
+                }
+            };
+        }
+        for (int k = 0; k < NUM_CALLERS; k++) {
+            callers[k].start();
+        }
+        for (int k = 0; k < NUM_CALLERS; k++) {
+            callers[k].join();
+        }
+        if (!errors.isEmpty()) {
+            throw new AssertionError(errors.get(0));
+        }
+    }
+
+    private void apply(Object t, Object a) throws Exception {
+        try {
+            if (scale == null) {
+                method.invoke(t, a);
+            } else {
+                method.invoke(t, a, scale);
+            }
+        } catch (InvocationTargetException e) {
+            AssertionError error = new AssertionError(msg + e.getCause());
+            error.initCause(e.getCause());
+            throw error;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * ***** BEGIN LICENSE BLOCK ***** Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License for
+ * the specific language governing rights and limitations under the License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is Piotr Wendykier, Emory
+ * University. Portions created by the Initial Developer are Copyright (C)
+ * 2007-2009 the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or the
+ * GNU Lesser General Public License Version 2.1 or later (the "LGPL"), in which
+ * case the provisions of the GPL or the LGPL are applicable instead of those
+ * above. If you wish to allow use of your version of this file only under the
+ * terms of either the GPL or the LGPL, and not to allow others to use your
+ * version of this file under the terms of the MPL, indicate your decision by
+ * deleting the provisions above and replace them with the notice and other
+ * provisions required by the GPL or the LGPL. If you do not delete the
+ * provisions above, a recipient may use your version of this file under the
+ * terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK *****
+ */
+
+package edu.emory.mathcs.jtransforms.fft;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.emory.mathcs.utils.PlanCache;
+
+/**
+ * This is a series of JUnit tests for the {@link FFTWisdom}.
+ *
+ */
+public class FFTWisdomTest {
+    /** Sizes covering the split-radix, mixed-radix, Bluestein and Rader plans. */
+    private static final int[] SIZES = { 1024, 1000, 10158, 1009 };
+
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = File.createTempFile("jtransforms", ".wisdom");
+        FFTWisdom.forgetWisdom();
+    }
+
+    @After
+    public void tearDown() {
+        FFTWisdom.forgetWisdom();
+        PlanCache.getDefault().clear();
+        file.delete();
+    }
+
+    private static double[] doubleData(int n) {
+        final Random random = new Random(20110602);
+        final double[] a = new double[2 * n];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = 2. * random.nextDouble() - 1.;
+        }
+        return a;
+    }
+
+    @Test
+    public void testImportDouble() throws IOException {
+        FFTWisdom.exportWisdom(file, SIZES, SIZES);
+        Assert.assertEquals(2 * SIZES.length, FFTWisdom.importWisdom(file));
+        for (int i = 0; i < SIZES.length; i++) {
+            final int n = SIZES[i];
+            final double[] expected = doubleData(n);
+            new DoubleFFT_1D(n).complexForward(expected);
+            PlanCache.getDefault().clear();
+            Assert.assertNotNull(FFTWisdom.getDoubleTables(n));
+            final double[] actual = doubleData(n);
+            new DoubleFFT_1D(n).complexForward(actual);
+            Assert.assertArrayEquals(expected, actual, 0.0);
+        }
+    }
+
+    @Test
+    public void testImportFloat() throws IOException {
+        FFTWisdom.exportFloatWisdom(file, SIZES);
+        Assert.assertEquals(SIZES.length, FFTWisdom.importWisdom(file));
+        for (int i = 0; i < SIZES.length; i++) {
+            final int n = SIZES[i];
+            PlanCache.getDefault().clear();
+            final FloatFFT_1D.Tables expected = new FloatFFT_1D(n).getTables();
+            PlanCache.getDefault().clear();
+            final FloatFFT_1D.Tables actual = FFTWisdom.getFloatTables(n);
+            Assert.assertEquals(expected.plan, actual.plan);
+            Assert.assertArrayEquals(expected.w, actual.w, 0f);
+            Assert.assertArrayEquals(expected.wtable, actual.wtable, 0f);
+            Assert.assertArrayEquals(expected.bk2, actual.bk2, 0f);
+        }
+    }
+
+    @Test
+    public void testCorruptedTables() throws IOException {
+        FFTWisdom.exportDoubleWisdom(file, SIZES);
+        final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        raf.seek(100);
+        raf.write(raf.read() ^ 0xFF);
+        raf.close();
+        Assert.assertEquals(SIZES.length, FFTWisdom.importWisdom(file));
+        Assert.assertNull(FFTWisdom.getDoubleTables(SIZES[0]));
+        PlanCache.getDefault().clear();
+        final double[] actual = doubleData(SIZES[0]);
+        final double[] expected = doubleData(SIZES[0]);
+        new DoubleFFT_1D(SIZES[0]).complexForward(actual);
+        new DoubleFFT_1D(SIZES[0]).complexForward(expected);
+        Assert.assertArrayEquals(expected, actual, 0.0);
+    }
+
+    @Test
+    public void testCorruptedIndex() throws IOException {
+        FFTWisdom.exportDoubleWisdom(file, SIZES);
+        final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        raf.seek(raf.length() - 20);
+        raf.write(raf.read() ^ 0xFF);
+        raf.close();
+        Assert.assertEquals(0, FFTWisdom.importWisdom(file));
+        Assert.assertNull(FFTWisdom.getDoubleTables(SIZES[0]));
+    }
+
+    @Test
+    public void testNotAWisdomFile() throws IOException {
+        final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        raf.writeLong(42L);
+        raf.close();
+        Assert.assertEquals(0, FFTWisdom.importWisdom(file));
+    }
+}
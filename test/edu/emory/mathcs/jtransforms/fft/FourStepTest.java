@@ -0,0 +1,141 @@
+/*
+ * ***** BEGIN LICENSE BLOCK ***** Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License for
+ * the specific language governing rights and limitations under the License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is Piotr Wendykier, Emory
+ * University. Portions created by the Initial Developer are Copyright (C)
+ * 2007-2009 the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or the
+ * GNU Lesser General Public License Version 2.1 or later (the "LGPL"), in which
+ * case the provisions of the GPL or the LGPL are applicable instead of those
+ * above. If you wish to allow use of your version of this file only under the
+ * terms of either the GPL or the LGPL, and not to allow others to use your
+ * version of this file under the terms of the MPL, indicate your decision by
+ * deleting the provisions above and replace them with the notice and other
+ * provisions required by the GPL or the LGPL. If you do not delete the
+ * provisions above, a recipient may use your version of this file under the
+ * terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK *****
+ */
+
+package edu.emory.mathcs.jtransforms.fft;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.emory.mathcs.utils.ConcurrencyUtils;
+
+/**
+ * This is a series of JUnit tests for the four-step algorithm of
+ * {@link DoubleFFT_1D} and {@link FloatFFT_1D}. The algorithm must give the
+ * same results as the other algorithms, with one and with several threads.
+ *
+ */
+public class FourStepTest {
+
+    private static final int[] SIZES = { 4, 12, 16, 100, 1000, 4096, 65536, 3 * 65536 };
+
+    private static final int[] NUM_THREADS = { 1, 4 };
+
+    private int nthreads;
+
+    private int threadsBeginN_2D;
+
+    @Before
+    public void setUp() {
+        nthreads = ConcurrencyUtils.getNumberOfThreads();
+        threadsBeginN_2D = ConcurrencyUtils.getThreadsBeginN_2D();
+        ConcurrencyUtils.setThreadsBeginN_2D(1);
+    }
+
+    @After
+    public void tearDown() {
+        ConcurrencyUtils.setNumberOfThreads(nthreads);
+        ConcurrencyUtils.setThreadsBeginN_2D(threadsBeginN_2D);
+    }
+
+    @Test
+    public void testCandidatePlans() {
+        Assert.assertTrue(Arrays.asList(DoubleFFT_1D.getCandidatePlans(1 << 16, PlanningEffort.MEASURE)).contains(DoubleFFT_1D.Plans.FOUR_STEP));
+        Assert.assertTrue(Arrays.asList(FloatFFT_1D.getCandidatePlans(3 << 16, PlanningEffort.MEASURE)).contains(FloatFFT_1D.Plans.FOUR_STEP));
+        Assert.assertFalse(Arrays.asList(DoubleFFT_1D.getCandidatePlans(1 << 10, PlanningEffort.MEASURE)).contains(DoubleFFT_1D.Plans.FOUR_STEP));
+        Assert.assertFalse(Arrays.asList(DoubleFFT_1D.getCandidatePlans(65537, PlanningEffort.MEASURE)).contains(DoubleFFT_1D.Plans.FOUR_STEP));
+    }
+
+    @Test
+    public void testDoubleFFT_1D() {
+        for (int t = 0; t < NUM_THREADS.length; t++) {
+            ConcurrencyUtils.setNumberOfThreads(NUM_THREADS[t]);
+            for (int i = 0; i < SIZES.length; i++) {
+                int n = SIZES[i];
+                String msg = "n = " + n + ", " + NUM_THREADS[t] + " threads";
+                FloatingPointEqualityChecker checker = new FloatingPointEqualityChecker(msg + ": ", 1E-9, 1E-9, 0f, 0f);
+                DoubleFFT_1D expectedFFT = new DoubleFFT_1D(n);
+                DoubleFFT_1D fft = new DoubleFFT_1D(n, DoubleFFT_1D.Plans.FOUR_STEP);
+                Random rnd = new Random(n);
+                double[] data = new double[2 * n];
+                for (int k = 0; k < data.length; k++) {
+                    data[k] = rnd.nextDouble() - 0.5;
+                }
+                double[] expected = data.clone();
+                double[] actual = data.clone();
+                expectedFFT.complexForward(expected);
+                fft.complexForward(actual);
+                for (int k = 0; k < 2 * n; k++) {
+                    checker.assertEquals("[" + k + "]", expected[k], actual[k]);
+                }
+                fft.complexInverse(actual, true);
+                for (int k = 0; k < 2 * n; k++) {
+                    checker.assertEquals("inverse [" + k + "]", data[k], actual[k]);
+                }
+                expected = data.clone();
+                actual = data.clone();
+                expectedFFT.realForward(expected);
+                fft.realForward(actual, 0, fft.createWorkspace());
+                for (int k = 0; k < n; k++) {
+                    checker.assertEquals("real [" + k + "]", expected[k], actual[k]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFloatFFT_1D() {
+        int n = 1 << 16;
+        FloatingPointEqualityChecker checker = new FloatingPointEqualityChecker("", 0., 0., 1E-2f, 1E-3f);
+        Random rnd = new Random(n);
+        float[] data = new float[2 * n];
+        for (int k = 0; k < data.length; k++) {
+            data[k] = rnd.nextFloat() - 0.5f;
+        }
+        float[] expected = data.clone();
+        float[] actual = data.clone();
+        new FloatFFT_1D(n).complexForward(expected);
+        FloatFFT_1D fft = new FloatFFT_1D(n, FloatFFT_1D.Plans.FOUR_STEP);
+        fft.complexForward(actual);
+        for (int k = 0; k < 2 * n; k++) {
+            checker.assertEquals("[" + k + "]", expected[k], actual[k]);
+        }
+        fft.complexInverse(actual, true);
+        for (int k = 0; k < 2 * n; k++) {
+            checker.assertEquals("inverse [" + k + "]", data[k], actual[k]);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * ***** BEGIN LICENSE BLOCK ***** Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License for
+ * the specific language governing rights and limitations under the License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is Piotr Wendykier, Emory
+ * University. Portions created by the Initial Developer are Copyright (C)
+ * 2007-2009 the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or the
+ * GNU Lesser General Public License Version 2.1 or later (the "LGPL"), in which
+ * case the provisions of the GPL or the LGPL are applicable instead of those
+ * above. If you wish to allow use of your version of this file only under the
+ * terms of either the GPL or the LGPL, and not to allow others to use your
+ * version of this file under the terms of the MPL, indicate your decision by
+ * deleting the provisions above and replace them with the notice and other
+ * provisions required by the GPL or the LGPL. If you do not delete the
+ * provisions above, a recipient may use your version of this file under the
+ * terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK *****
+ */
+
+package edu.emory.mathcs.jtransforms.fft;
+
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.emory.mathcs.utils.ConcurrencyUtils;
+import edu.emory.mathcs.utils.DoubleLargeArray;
+import edu.emory.mathcs.utils.FloatLargeArray;
+
+/**
+ * This is a series of JUnit tests for the transforms of
+ * {@link DoubleLargeArray} and {@link FloatLargeArray}. Small chunks are used
+ * so that the data spans many chunks; the results must be the same as those
+ * of the transforms of Java arrays.
+ *
+ */
+public class LargeArrayTest {
+
+    private static final int[] NUM_THREADS = { 1, 4 };
+
+    private int nthreads;
+
+    private int threadsBeginN_3D;
+
+    @Before
+    public void setUp() {
+        nthreads = ConcurrencyUtils.getNumberOfThreads();
+        threadsBeginN_3D = ConcurrencyUtils.getThreadsBeginN_3D();
+        ConcurrencyUtils.setThreadsBeginN_3D(1);
+    }
+
+    @After
+    public void tearDown() {
+        ConcurrencyUtils.setNumberOfThreads(nthreads);
+        ConcurrencyUtils.setThreadsBeginN_3D(threadsBeginN_3D);
+    }
+
+    @Test
+    public void testDoubleLargeArray() {
+        double[] data = random(1000);
+        DoubleLargeArray a = new DoubleLargeArray(1000, 64);
+        Assert.assertEquals(16, (1000 + 63) / a.getChunkSize());
+        a.set(10, data, 0, 1000 - 10);
+        for (int i = 10; i < 1000; i++) {
+            Assert.assertEquals(data[i - 10], a.get(i), 0.0);
+        }
+        a.set(999, 1.5);
+        double[] b = new double[200];
+        a.get(800, b, 0, 200);
+        Assert.assertEquals(data[790], b[0], 0.0);
+        Assert.assertEquals(1.5, b[199], 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOutOfBounds() {
+        new DoubleLargeArray(100, 64).get(90, new double[20], 0, 20);
+    }
+
+    @Test
+    public void testDoubleLargeFFT_1D() {
+        int[] sizes = { 1, 7, 64, 1000, 1009, 3 * 65536, 1 << 21 };
+        for (int t = 0; t < NUM_THREADS.length; t++) {
+            ConcurrencyUtils.setNumberOfThreads(NUM_THREADS[t]);
+            for (int i = 0; i < sizes.length; i++) {
+                int n = sizes[i];
+                String msg = "n = " + n + ", " + NUM_THREADS[t] + " threads: ";
+                FloatingPointEqualityChecker checker = new FloatingPointEqualityChecker(msg, 1E-9, 1E-9, 0f, 0f);
+                double[] data = random(2 * n);
+                DoubleLargeArray src = new DoubleLargeArray(2 * n, 256);
+                DoubleLargeArray dst = new DoubleLargeArray(2 * n, 256);
+                src.set(0, data, 0, 2 * n);
+                DoubleLargeFFT_1D fft = new DoubleLargeFFT_1D(n);
+                fft.complexForward(src, dst);
+                double[] expected = data.clone();
+                new DoubleFFT_1D(n).complexForward(expected);
+                for (int k = 0; k < 2 * n; k++) {
+                    checker.assertEquals("[" + k + "]", expected[k], dst.get(k));
+                }
+                fft.complexInverse(dst, src, true);
+                for (int k = 0; k < 2 * n; k++) {
+                    checker.assertEquals("inverse [" + k + "]", data[k], src.get(k));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDoubleFFT_3D() {
+        int[][] sizes = { { 2, 3, 4 }, { 16, 8, 12 }, { 5, 7, 9 }, { 16, 2, 5000 } };
+        for (int t = 0; t < NUM_THREADS.length; t++) {
+            ConcurrencyUtils.setNumberOfThreads(NUM_THREADS[t]);
+            for (int i = 0; i < sizes.length; i++) {
+                int slices = sizes[i][0];
+                int rows = sizes[i][1];
+                int columns = sizes[i][2];
+                int n = 2 * slices * rows * columns;
+                String msg = slices + " x " + rows + " x " + columns + ", " + NUM_THREADS[t] + " threads: ";
+                FloatingPointEqualityChecker checker = new FloatingPointEqualityChecker(msg, 1E-9, 1E-9, 0f, 0f);
+                double[] data = random(n);
+                DoubleLargeArray a = new DoubleLargeArray(n, 128);
+                a.set(0, data, 0, n);
+                DoubleFFT_3D fft = new DoubleFFT_3D(slices, rows, columns);
+                fft.complexForward(a);
+                double[] expected = data.clone();
+                fft.complexForward(expected);
+                for (int k = 0; k < n; k++) {
+                    checker.assertEquals("[" + k + "]", expected[k], a.get(k));
+                }
+                fft.complexInverse(a, true);
+                for (int k = 0; k < n; k++) {
+                    checker.assertEquals("inverse [" + k + "]", data[k], a.get(k));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFloat() {
+        int slices = 6, rows = 10, columns = 8;
+        int n = 2 * slices * rows * columns;
+        FloatingPointEqualityChecker checker = new FloatingPointEqualityChecker("", 0., 0., 1E-3f, 1E-4f);
+        Random rnd = new Random(n);
+        float[] data = new float[n];
+        for (int k = 0; k < n; k++) {
+            data[k] = rnd.nextFloat() - 0.5f;
+        }
+        FloatLargeArray a = new FloatLargeArray(n, 128);
+        a.set(0, data, 0, n);
+        FloatFFT_3D fft = new FloatFFT_3D(slices, rows, columns);
+        fft.complexForward(a);
+        float[] expected = data.clone();
+        fft.complexForward(expected);
+        for (int k = 0; k < n; k++) {
+            checker.assertEquals("3D [" + k + "]", expected[k], a.get(k));
+        }
+        FloatLargeArray b = new FloatLargeArray(n, 128);
+        new FloatLargeFFT_1D(n / 2).complexForward(a, b);
+        new FloatFFT_1D(n / 2).complexForward(expected);
+        for (int k = 0; k < n; k++) {
+            checker.assertEquals("1D [" + k + "]", expected[k], b.get(k));
+        }
+    }
+
+    private static double[] random(int length) {
+        Random rnd = new Random(length);
+        double[] a = new double[length];
+        for (int k = 0; k < length; k++) {
+            a[k] = rnd.nextDouble() - 0.5;
+        }
+        return a;
+    }
+}
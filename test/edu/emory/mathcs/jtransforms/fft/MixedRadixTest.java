@@ -0,0 +1,253 @@
+/*
+ * ***** BEGIN LICENSE BLOCK ***** Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License for
+ * the specific language governing rights and limitations under the License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is Piotr Wendykier, Emory
+ * University. Portions created by the Initial Developer are Copyright (C)
+ * 2007-2009 the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or the
+ * GNU Lesser General Public License Version 2.1 or later (the "LGPL"), in which
+ * case the provisions of the GPL or the LGPL are applicable instead of those
+ * above. If you wish to allow use of your version of this file only under the
+ * terms of either the GPL or the LGPL, and not to allow others to use your
+ * version of this file under the terms of the MPL, indicate your decision by
+ * deleting the provisions above and replace them with the notice and other
+ * provisions required by the GPL or the LGPL. If you do not delete the
+ * provisions above, a recipient may use your version of this file under the
+ * terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK *****
+ */
+
+package edu.emory.mathcs.jtransforms.fft;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * This is a series of JUnit tests for the radix-7, 11 and 13 butterflies of
+ * the {@link DoubleFFT_1D.Plans#MIXED_RADIX} plan (passf7/11/13 for complex
+ * data, radf/radb7/11/13 for real data). The forward and inverse, complex and
+ * real transforms of {@link DoubleFFT_1D} and {@link FloatFFT_1D} are
+ * compared with a naive DFT, or with the {@link DoubleFFT_1D.Plans#BLUESTEIN}
+ * plan for the sizes too large for a naive DFT.
+ *
+ */
+@RunWith(value = Parameterized.class)
+public class MixedRadixTest {
+
+    /** Largest size compared with a naive DFT. */
+    private static final int NAIVE_MAX = 4096;
+
+    @Parameters
+    public static Collection<Object[]> getParameters() {
+        final int[] size = { 49, 343, 169, 2197, 1001, 3773, 75600 };
+
+        final ArrayList<Object[]> parameters = new ArrayList<Object[]>();
+        for (int i = 0; i < size.length; i++) {
+            parameters.add(new Object[] { size[i] });
+        }
+        return parameters;
+    }
+
+    /** The size of the FFT to be tested. */
+    private final int n;
+
+    /** For the generation of the data arrays. */
+    private final Random random;
+
+    public MixedRadixTest(final int n) {
+        this.n = n;
+        this.random = new Random(n);
+    }
+
+    @Test
+    public void testDoubleComplex() {
+        DoubleFFT_1D fft = new DoubleFFT_1D(n, DoubleFFT_1D.Plans.MIXED_RADIX);
+        FloatingPointEqualityChecker checker = createEqualityChecker();
+        double[] data = randomDouble(2 * n);
+
+        double[] actual = data.clone();
+        fft.complexForward(actual);
+        assertEquals(checker, "forward", reference(data, -1), actual, 2 * n);
+
+        actual = data.clone();
+        fft.complexInverse(actual, false);
+        assertEquals(checker, "inverse", reference(data, 1), actual, 2 * n);
+
+        actual = data.clone();
+        fft.complexForward(actual);
+        fft.complexInverse(actual, true);
+        assertEquals(checker, "forward, inverse", data, actual, 2 * n);
+    }
+
+    @Test
+    public void testDoubleReal() {
+        DoubleFFT_1D fft = new DoubleFFT_1D(n, DoubleFFT_1D.Plans.MIXED_RADIX);
+        FloatingPointEqualityChecker checker = createEqualityChecker();
+        double[] data = randomDouble(n);
+        double[] complex = new double[2 * n];
+        for (int k = 0; k < n; k++) {
+            complex[2 * k] = data[k];
+        }
+
+        double[] actual = new double[2 * n];
+        System.arraycopy(data, 0, actual, 0, n);
+        fft.realForwardFull(actual);
+        assertEquals(checker, "real forward full", reference(complex, -1), actual, 2 * n);
+
+        actual = new double[2 * n];
+        System.arraycopy(data, 0, actual, 0, n);
+        fft.realInverseFull(actual, false);
+        assertEquals(checker, "real inverse full", reference(complex, 1), actual, 2 * n);
+
+        actual = data.clone();
+        fft.realForward(actual);
+        fft.realInverse(actual, true);
+        assertEquals(checker, "real forward, inverse", data, actual, n);
+    }
+
+    @Test
+    public void testFloatComplex() {
+        FloatFFT_1D fft = new FloatFFT_1D(n, FloatFFT_1D.Plans.MIXED_RADIX);
+        FloatingPointEqualityChecker checker = createEqualityChecker();
+        float[] data = randomFloat(2 * n);
+        double[] ddata = toDouble(data);
+
+        float[] actual = data.clone();
+        fft.complexForward(actual);
+        assertEquals(checker, "forward", toFloat(reference(ddata, -1)), actual, 2 * n);
+
+        actual = data.clone();
+        fft.complexInverse(actual, false);
+        assertEquals(checker, "inverse", toFloat(reference(ddata, 1)), actual, 2 * n);
+
+        actual = data.clone();
+        fft.complexForward(actual);
+        fft.complexInverse(actual, true);
+        assertEquals(checker, "forward, inverse", data, actual, 2 * n);
+    }
+
+    @Test
+    public void testFloatReal() {
+        FloatFFT_1D fft = new FloatFFT_1D(n, FloatFFT_1D.Plans.MIXED_RADIX);
+        FloatingPointEqualityChecker checker = createEqualityChecker();
+        float[] data = randomFloat(n);
+        double[] complex = new double[2 * n];
+        for (int k = 0; k < n; k++) {
+            complex[2 * k] = data[k];
+        }
+
+        float[] actual = new float[2 * n];
+        System.arraycopy(data, 0, actual, 0, n);
+        fft.realForwardFull(actual);
+        assertEquals(checker, "real forward full", toFloat(reference(complex, -1)), actual, 2 * n);
+
+        actual = new float[2 * n];
+        System.arraycopy(data, 0, actual, 0, n);
+        fft.realInverseFull(actual, false);
+        assertEquals(checker, "real inverse full", toFloat(reference(complex, 1)), actual, 2 * n);
+
+        actual = data.clone();
+        fft.realForward(actual);
+        fft.realInverse(actual, true);
+        assertEquals(checker, "real forward, inverse", data, actual, n);
+    }
+
+    private FloatingPointEqualityChecker createEqualityChecker() {
+        return new FloatingPointEqualityChecker("n = " + n + ", ", 1E-10, 1E-10, 1E-3f, 1E-3f);
+    }
+
+    /*
+     * Returns sum_j a[j]*exp(sign*2*pi*i*j*k/n) for 0<=k<n: a naive DFT for
+     * the small sizes, the Bluestein plan for the others.
+     */
+    private double[] reference(double[] a, int sign) {
+        double[] b = new double[2 * n];
+        if (n > NAIVE_MAX) {
+            System.arraycopy(a, 0, b, 0, 2 * n);
+            DoubleFFT_1D fft = new DoubleFFT_1D(n, DoubleFFT_1D.Plans.BLUESTEIN);
+            if (sign < 0) {
+                fft.complexForward(b);
+            } else {
+                fft.complexInverse(b, false);
+            }
+            return b;
+        }
+        for (int k = 0; k < n; k++) {
+            double re = 0;
+            double im = 0;
+            for (int j = 0; j < n; j++) {
+                double arg = sign * 2 * Math.PI * (((long) j * k) % n) / n;
+                double c = Math.cos(arg);
+                double s = Math.sin(arg);
+                re += a[2 * j] * c - a[2 * j + 1] * s;
+                im += a[2 * j] * s + a[2 * j + 1] * c;
+            }
+            b[2 * k] = re;
+            b[2 * k + 1] = im;
+        }
+        return b;
+    }
+
+    private double[] randomDouble(int length) {
+        double[] a = new double[length];
+        for (int k = 0; k < length; k++) {
+            a[k] = 2 * random.nextDouble() - 1;
+        }
+        return a;
+    }
+
+    private float[] randomFloat(int length) {
+        float[] a = new float[length];
+        for (int k = 0; k < length; k++) {
+            a[k] = 2 * random.nextFloat() - 1;
+        }
+        return a;
+    }
+
+    private static double[] toDouble(float[] a) {
+        double[] b = new double[a.length];
+        for (int k = 0; k < a.length; k++) {
+            b[k] = a[k];
+        }
+        return b;
+    }
+
+    private static float[] toFloat(double[] a) {
+        float[] b = new float[a.length];
+        for (int k = 0; k < a.length; k++) {
+            b[k] = (float) a[k];
+        }
+        return b;
+    }
+
+    private static void assertEquals(FloatingPointEqualityChecker checker, String msg, double[] expected, double[] actual, int length) {
+        for (int k = 0; k < length; k++) {
+            checker.assertEquals(msg + " [" + k + "]", expected[k], actual[k]);
+        }
+    }
+
+    private static void assertEquals(FloatingPointEqualityChecker checker, String msg, float[] expected, float[] actual, int length) {
+        for (int k = 0; k < length; k++) {
+            checker.assertEquals(msg + " [" + k + "]", expected[k], actual[k]);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * ***** BEGIN LICENSE BLOCK ***** Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License for
+ * the specific language governing rights and limitations under the License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is Piotr Wendykier, Emory
+ * University. Portions created by the Initial Developer are Copyright (C)
+ * 2007-2009 the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or the
+ * GNU Lesser General Public License Version 2.1 or later (the "LGPL"), in which
+ * case the provisions of the GPL or the LGPL are applicable instead of those
+ * above. If you wish to allow use of your version of this file only under the
+ * terms of either the GPL or the LGPL, and not to allow others to use your
+ * version of this file under the terms of the MPL, indicate your decision by
+ * deleting the provisions above and replace them with the notice and other
+ * provisions required by the GPL or the LGPL. If you do not delete the
+ * provisions above, a recipient may use your version of this file under the
+ * terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK *****
+ */
+
+package edu.emory.mathcs.jtransforms.fft;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.emory.mathcs.utils.ConcurrencyContext;
+import edu.emory.mathcs.utils.MappedFileUtils;
+
+/**
+ * This is a series of JUnit tests for {@link DoubleOutOfCoreFFT_1D},
+ * {@link DoubleOutOfCoreFFT_3D} and their single precision counterparts. The
+ * results are compared with those of the in-memory transforms. The memory
+ * budgets and the mapped windows are kept small so that the data is split into
+ * many blocks and windows.
+ *
+ */
+public class OutOfCoreTest {
+
+    private long windowSize;
+
+    private File file;
+
+    private RandomAccessFile raf;
+
+    private FileChannel channel;
+
+    @Before
+    public void setUp() throws IOException {
+        windowSize = MappedFileUtils.getWindowSize();
+        MappedFileUtils.setWindowSize(1024);
+        file = File.createTempFile("OutOfCoreTest", ".bin");
+        raf = new RandomAccessFile(file, "rw");
+        channel = raf.getChannel();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        MappedFileUtils.setWindowSize(windowSize);
+        raf.close();
+        file.delete();
+    }
+
+    @Test
+    public void testDoubleOutOfCoreFFT_1D() throws IOException {
+        int[] sizes = { 1, 7, 64, 1000, 1009, 3 * 1024 };
+        int[] budgets = { 1, 7, 16, 80, 1009, 128 };
+        ByteOrder[] orders = { ByteOrder.nativeOrder(), ByteOrder.BIG_ENDIAN };
+        for (int i = 0; i < sizes.length; i++) {
+            for (int o = 0; o < orders.length; o++) {
+                int n = sizes[i];
+                String msg = "n = " + n + ", " + orders[o] + ": ";
+                FloatingPointEqualityChecker checker = new FloatingPointEqualityChecker(msg, 1E-9, 1E-9, 0f, 0f);
+                double[] data = randomDouble(2 * n, n);
+                long srcPosition = 8;
+                long dstPosition = srcPosition + 16L * n;
+                MappedFileUtils.write(channel, srcPosition, orders[o], data, data.length);
+                DoubleOutOfCoreFFT_1D fft = new DoubleOutOfCoreFFT_1D(n, 16L * budgets[i], orders[o], ConcurrencyContext.getDefault());
+                fft.complexForward(channel, srcPosition, channel, dstPosition);
+                double[] expected = data.clone();
+                new DoubleFFT_1D(n).complexForward(expected);
+                double[] actual = new double[2 * n];
+                MappedFileUtils.read(channel, dstPosition, orders[o], actual, actual.length);
+                for (int k = 0; k < 2 * n; k++) {
+                    checker.assertEquals("[" + k + "]", expected[k], actual[k]);
+                }
+                fft.complexInverse(channel, dstPosition, channel, srcPosition, true);
+                MappedFileUtils.read(channel, srcPosition, orders[o], actual, actual.length);
+                for (int k = 0; k < 2 * n; k++) {
+                    checker.assertEquals("inverse [" + k + "]", data[k], actual[k]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFloatOutOfCoreFFT_1D() throws IOException {
+        int n = 1000;
+        FloatingPointEqualityChecker checker = new FloatingPointEqualityChecker("", 0., 0., 1E-3f, 1E-4f);
+        float[] data = randomFloat(2 * n, n);
+        MappedFileUtils.write(channel, 0, ByteOrder.nativeOrder(), data, data.length);
+        FloatOutOfCoreFFT_1D fft = new FloatOutOfCoreFFT_1D(n, 8L * 40);
+        fft.complexForward(channel, 0, channel, 8L * n);
+        float[] expected = data.clone();
+        new FloatFFT_1D(n).complexForward(expected);
+        float[] actual = new float[2 * n];
+        MappedFileUtils.read(channel, 8L * n, ByteOrder.nativeOrder(), actual, actual.length);
+        for (int k = 0; k < 2 * n; k++) {
+            checker.assertEquals("[" + k + "]", expected[k], actual[k]);
+        }
+        fft.complexInverse(channel, 8L * n, channel, 0, true);
+        MappedFileUtils.read(channel, 0, ByteOrder.nativeOrder(), actual, actual.length);
+        for (int k = 0; k < 2 * n; k++) {
+            checker.assertEquals("inverse [" + k + "]", data[k], actual[k]);
+        }
+    }
+
+    @Test
+    public void testDoubleOutOfCoreFFT_3D() throws IOException {
+        int[][] sizes = { { 2, 3, 4 }, { 16, 8, 12 }, { 5, 7, 9 } };
+        for (int i = 0; i < sizes.length; i++) {
+            int slices = sizes[i][0];
+            int rows = sizes[i][1];
+            int columns = sizes[i][2];
+            int n = slices * rows * columns;
+            String msg = slices + " x " + rows + " x " + columns + ": ";
+            FloatingPointEqualityChecker checker = new FloatingPointEqualityChecker(msg, 1E-9, 1E-9, 0f, 0f);
+            double[] data = randomDouble(2 * n, n);
+            MappedFileUtils.write(channel, 0, ByteOrder.nativeOrder(), data, data.length);
+            DoubleOutOfCoreFFT_3D fft = new DoubleOutOfCoreFFT_3D(slices, rows, columns, 16L * rows * columns);
+            fft.complexForward(channel, 0);
+            double[] expected = data.clone();
+            new DoubleFFT_3D(slices, rows, columns).complexForward(expected);
+            double[] actual = new double[2 * n];
+            MappedFileUtils.read(channel, 0, ByteOrder.nativeOrder(), actual, actual.length);
+            for (int k = 0; k < 2 * n; k++) {
+                checker.assertEquals("[" + k + "]", expected[k], actual[k]);
+            }
+            fft.complexInverse(channel, 0, true);
+            MappedFileUtils.read(channel, 0, ByteOrder.nativeOrder(), actual, actual.length);
+            for (int k = 0; k < 2 * n; k++) {
+                checker.assertEquals("inverse [" + k + "]", data[k], actual[k]);
+            }
+        }
+    }
+
+    @Test
+    public void testFloatOutOfCoreFFT_3D() throws IOException {
+        int slices = 6, rows = 10, columns = 8;
+        int n = slices * rows * columns;
+        FloatingPointEqualityChecker checker = new FloatingPointEqualityChecker("", 0., 0., 1E-3f, 1E-4f);
+        float[] data = randomFloat(2 * n, n);
+        MappedFileUtils.write(channel, 0, ByteOrder.BIG_ENDIAN, data, data.length);
+        FloatOutOfCoreFFT_3D fft = new FloatOutOfCoreFFT_3D(slices, rows, columns, 8L * rows * columns, ByteOrder.BIG_ENDIAN, ConcurrencyContext.getDefault());
+        fft.complexForward(channel, 0);
+        float[] expected = data.clone();
+        new FloatFFT_3D(slices, rows, columns).complexForward(expected);
+        float[] actual = new float[2 * n];
+        MappedFileUtils.read(channel, 0, ByteOrder.BIG_ENDIAN, actual, actual.length);
+        for (int k = 0; k < 2 * n; k++) {
+            checker.assertEquals("[" + k + "]", expected[k], actual[k]);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOverlap() throws IOException {
+        new DoubleOutOfCoreFFT_1D(100, 1 << 20).complexForward(channel, 0, channel, 800);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMemoryBudget() {
+        new DoubleOutOfCoreFFT_1D(1009, 16L * 1000);
+    }
+
+    private static double[] randomDouble(int length, long seed) {
+        Random rnd = new Random(seed);
+        double[] a = new double[length];
+        for (int k = 0; k < length; k++) {
+            a[k] = rnd.nextDouble() - 0.5;
+        }
+        return a;
+    }
+
+    private static float[] randomFloat(int length, long seed) {
+        Random rnd = new Random(seed);
+        float[] a = new float[length];
+        for (int k = 0; k < length; k++) {
+            a[k] = rnd.nextFloat() - 0.5f;
+        }
+        return a;
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * ***** BEGIN LICENSE BLOCK ***** Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License for
+ * the specific language governing rights and limitations under the License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is Piotr Wendykier, Emory
+ * University. Portions created by the Initial Developer are Copyright (C)
+ * 2007-2009 the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or the
+ * GNU Lesser General Public License Version 2.1 or later (the "LGPL"), in which
+ * case the provisions of the GPL or the LGPL are applicable instead of those
+ * above. If you wish to allow use of your version of this file only under the
+ * terms of either the GPL or the LGPL, and not to allow others to use your
+ * version of this file under the terms of the MPL, indicate your decision by
+ * deleting the provisions above and replace them with the notice and other
+ * provisions required by the GPL or the LGPL. If you do not delete the
+ * provisions above, a recipient may use your version of this file under the
+ * terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK *****
+ */
+
+package edu.emory.mathcs.jtransforms.fft;
+
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * This is a series of JUnit tests for the planner of {@link DoubleFFT_1D} and
+ * {@link FloatFFT_1D}. All the algorithms that can be chosen by the planner
+ * are checked against each other.
+ *
+ */
+public class PlanningEffortTest {
+    private static final int[] SIZES = { 2, 3, 7, 8, 12, 13, 20, 32, 100, 211, 256, 422, 1000, 1001, 1009, 1024, 2197, 10007, 10158 };
+
+    @After
+    public void tearDown() {
+        DoubleFFT_1D.forgetMeasuredPlans();
+        FloatFFT_1D.forgetMeasuredPlans();
+    }
+
+    private static double[] doubleData(int n) {
+        final Random random = new Random(20110602);
+        final double[] a = new double[2 * n];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = 2. * random.nextDouble() - 1.;
+        }
+        return a;
+    }
+
+    private static float[] floatData(int n) {
+        final Random random = new Random(20110602);
+        final float[] a = new float[2 * n];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = 2f * random.nextFloat() - 1f;
+        }
+        return a;
+    }
+
+    @Test
+    public void testDoubleCandidatePlans() {
+        for (int i = 0; i < SIZES.length; i++) {
+            final int n = SIZES[i];
+            final FloatingPointEqualityChecker checker = new FloatingPointEqualityChecker("n = " + n + ": ", 1E-8, 1E-8, 0f, 0f);
+            final double[] expected = doubleData(n);
+            final double[] expectedReal = doubleData(n);
+            new DoubleFFT_1D(n).complexForward(expected);
+            new DoubleFFT_1D(n).realForward(expectedReal);
+            final DoubleFFT_1D.Plans[] plans = DoubleFFT_1D.getCandidatePlans(n, PlanningEffort.EXHAUSTIVE);
+            for (int j = 0; j < plans.length; j++) {
+                final DoubleFFT_1D fft = new DoubleFFT_1D(n, plans[j]);
+                final double[] actual = doubleData(n);
+                fft.complexForward(actual);
+                for (int k = 0; k < 2 * n; k++) {
+                    checker.assertEquals(plans[j] + " [" + k + "]", expected[k], actual[k]);
+                }
+                fft.complexInverse(actual, true);
+                final double[] data = doubleData(n);
+                for (int k = 0; k < 2 * n; k++) {
+                    checker.assertEquals(plans[j] + " inverse [" + k + "]", data[k], actual[k]);
+                }
+                final double[] actualReal = doubleData(n);
+                fft.realForward(actualReal);
+                for (int k = 0; k < n; k++) {
+                    checker.assertEquals(plans[j] + " real [" + k + "]", expectedReal[k], actualReal[k]);
+                }
+                fft.realInverse(actualReal, true);
+                for (int k = 0; k < n; k++) {
+                    checker.assertEquals(plans[j] + " real inverse [" + k + "]", data[k], actualReal[k]);
+                }
+                final double[] expectedFull = new double[2 * n];
+                final double[] actualFull = new double[2 * n];
+                for (int k = 0; k < n; k++) {
+                    expectedFull[2 * k] = data[k];
+                    actualFull[k] = data[k];
+                }
+                fft.complexForward(expectedFull);
+                fft.realForwardFull(actualFull);
+                for (int k = 0; k < 2 * n; k++) {
+                    checker.assertEquals(plans[j] + " real full [" + k + "]", expectedFull[k], actualFull[k]);
+                }
+                for (int k = 0; k < n; k++) {
+                    expectedFull[2 * k] = data[k];
+                    expectedFull[2 * k + 1] = 0.0;
+                    actualFull[k] = data[k];
+                }
+                fft.complexInverse(expectedFull, true);
+                fft.realInverseFull(actualFull, true);
+                for (int k = 0; k < 2 * n; k++) {
+                    checker.assertEquals(plans[j] + " real inverse full [" + k + "]", expectedFull[k], actualFull[k]);
+                }
+                final double[] expected2 = doubleData(n);
+                final double[] actual2 = doubleData(n);
+                new DoubleFFT_1D(n).realInverse2(expected2, 0, true);
+                fft.realInverse2(actual2, 0, true);
+                for (int k = 0; k < n; k++) {
+                    checker.assertEquals(plans[j] + " real inverse2 [" + k + "]", expected2[k], actual2[k]);
+                }
+                final double[] expectedUnscaled = doubleData(n);
+                final double[] actualUnscaled = doubleData(n);
+                new DoubleFFT_1D(n).realInverse(expectedUnscaled, false);
+                fft.realInverse(actualUnscaled, false);
+                for (int k = 0; k < n; k++) {
+                    checker.assertEquals(plans[j] + " unscaled real inverse [" + k + "]", expectedUnscaled[k] / n, actualUnscaled[k] / n);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFloatCandidatePlans() {
+        for (int i = 0; i < SIZES.length; i++) {
+            final int n = SIZES[i];
+            final FloatingPointEqualityChecker checker = new FloatingPointEqualityChecker("n = " + n + ": ", 0., 0., 5E-3f, 5E-3f);
+            final float[] expected = floatData(n);
+            new FloatFFT_1D(n).complexForward(expected);
+            final FloatFFT_1D.Plans[] plans = FloatFFT_1D.getCandidatePlans(n, PlanningEffort.EXHAUSTIVE);
+            for (int j = 0; j < plans.length; j++) {
+                final FloatFFT_1D fft = new FloatFFT_1D(n, plans[j]);
+                final float[] actual = floatData(n);
+                fft.complexForward(actual);
+                for (int k = 0; k < 2 * n; k++) {
+                    checker.assertEquals(plans[j] + " [" + k + "]", expected[k], actual[k]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testMeasuredPlanIsRecorded() {
+        final int n = 1000;
+        Assert.assertNull(DoubleFFT_1D.getMeasuredPlan(n, true));
+        Assert.assertNull(DoubleFFT_1D.getMeasuredPlan(n, false));
+        final double[] expected = doubleData(n);
+        new DoubleFFT_1D(n).complexForward(expected);
+        final double[] expectedReal = doubleData(n);
+        new DoubleFFT_1D(n).realForward(expectedReal);
+        final DoubleFFT_1D fft = new DoubleFFT_1D(n, PlanningEffort.MEASURE);
+        final double[] actual = doubleData(n);
+        fft.complexForward(actual);
+        final double[] actualReal = doubleData(n);
+        fft.realForward(actualReal, 0, fft.createWorkspace());
+        final DoubleFFT_1D.Plans plan = DoubleFFT_1D.getMeasuredPlan(n, true);
+        Assert.assertNotNull(plan);
+        Assert.assertNotNull(DoubleFFT_1D.getMeasuredPlan(n, false));
+        Assert.assertEquals(plan, new DoubleFFT_1D(n).getTables().plan);
+        final FloatingPointEqualityChecker checker = new FloatingPointEqualityChecker("", 1E-9, 1E-9, 0f, 0f);
+        for (int k = 0; k < 2 * n; k++) {
+            checker.assertEquals("[" + k + "]", expected[k], actual[k]);
+        }
+        for (int k = 0; k < n; k++) {
+            checker.assertEquals("real [" + k + "]", expectedReal[k], actualReal[k]);
+        }
+    }
+
+    @Test
+    public void testCandidateThresholds() {
+        Assert.assertEquals(1, DoubleFFT_1D.getCandidateThresholds(1 << 20, 1).length);
+        Assert.assertEquals(1, DoubleFFT_1D.getCandidateThresholds(512, 8).length);
+        Assert.assertEquals(2, DoubleFFT_1D.getCandidateThresholds(1 << 20, 3).length);
+        // 1, 2, 4, 8, 16 and 24 tasks
+        final int[][] thresholds = DoubleFFT_1D.getCandidateThresholds(1 << 20, 24);
+        Assert.assertEquals(6, thresholds.length);
+        Assert.assertEquals(4L * (1 << 20) / 24, thresholds[5][1]);
+        // no task shorter than 128 elements
+        Assert.assertEquals(3, FloatFFT_1D.getCandidateThresholds(1000, 16).length);
+    }
+
+    @Test
+    public void testExhaustive() {
+        final int n = 4096;
+        final float[] expected = floatData(n);
+        new FloatFFT_1D(n).complexForward(expected);
+        final float[] actual = floatData(n);
+        new FloatFFT_1D(n, PlanningEffort.EXHAUSTIVE).complexForward(actual);
+        Assert.assertNotNull(FloatFFT_1D.getMeasuredPlan(n, true));
+        Assert.assertNotNull(FloatFFT_1D.getMeasuredPlan(n, false));
+        final FloatingPointEqualityChecker checker = new FloatingPointEqualityChecker("", 0., 0., 5E-3f, 5E-3f);
+        for (int k = 0; k < 2 * n; k++) {
+            checker.assertEquals("[" + k + "]", expected[k], actual[k]);
+        }
+    }
+}
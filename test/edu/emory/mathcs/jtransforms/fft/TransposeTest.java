@@ -0,0 +1,303 @@
+/*
+ * ***** BEGIN LICENSE BLOCK ***** Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License for
+ * the specific language governing rights and limitations under the License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is Piotr Wendykier, Emory
+ * University. Portions created by the Initial Developer are Copyright (C)
+ * 2007-2009 the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or the
+ * GNU Lesser General Public License Version 2.1 or later (the "LGPL"), in which
+ * case the provisions of the GPL or the LGPL are applicable instead of those
+ * above. If you wish to allow use of your version of this file only under the
+ * terms of either the GPL or the LGPL, and not to allow others to use your
+ * version of this file under the terms of the MPL, indicate your decision by
+ * deleting the provisions above and replace them with the notice and other
+ * provisions required by the GPL or the LGPL. If you do not delete the
+ * provisions above, a recipient may use your version of this file under the
+ * terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK *****
+ */
+
+package edu.emory.mathcs.jtransforms.fft;
+
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.emory.mathcs.jtransforms.dct.DoubleDCT_2D;
+import edu.emory.mathcs.jtransforms.dht.DoubleDHT_2D;
+import edu.emory.mathcs.jtransforms.dht.DoubleDHT_3D;
+import edu.emory.mathcs.jtransforms.dst.DoubleDST_3D;
+import edu.emory.mathcs.utils.ConcurrencyContext;
+import edu.emory.mathcs.utils.ConcurrencyUtils;
+import edu.emory.mathcs.utils.TransposeUtils;
+
+/**
+ * This is a series of JUnit tests for the transpose-based algorithms of the 2D
+ * and 3D transforms. The results must agree with the ones of the standard
+ * algorithms, in the natural and in the transposed layout.
+ *
+ */
+public class TransposeTest {
+
+    private static final int[][] SIZES_2D = { { 2, 3 }, { 16, 32 }, { 7, 9 }, { 45, 64 } };
+
+    private static final int[][] SIZES_3D = { { 2, 2, 3 }, { 8, 16, 4 }, { 5, 3, 7 }, { 34, 2, 33 } };
+
+    private static final int[] NUM_THREADS = { 1, 4 };
+
+    private static final double EPS = 1e-10;
+
+    private int nthreads;
+
+    private int threadsBeginN_2D;
+
+    private int threadsBeginN_3D;
+
+    @Before
+    public void setUp() {
+        nthreads = ConcurrencyUtils.getNumberOfThreads();
+        threadsBeginN_2D = ConcurrencyUtils.getThreadsBeginN_2D();
+        threadsBeginN_3D = ConcurrencyUtils.getThreadsBeginN_3D();
+        ConcurrencyUtils.setThreadsBeginN_2D(1);
+        ConcurrencyUtils.setThreadsBeginN_3D(1);
+    }
+
+    @After
+    public void tearDown() {
+        ConcurrencyUtils.setNumberOfThreads(nthreads);
+        ConcurrencyUtils.setThreadsBeginN_2D(threadsBeginN_2D);
+        ConcurrencyUtils.setThreadsBeginN_3D(threadsBeginN_3D);
+    }
+
+    @Test
+    public void testTransposeUtils() {
+        int[][] shapes = { { 1, 1 }, { 3, 70 }, { 64, 33 }, { 100, 1 } };
+        for (int t = 0; t < NUM_THREADS.length; t++) {
+            ConcurrencyContext context = new ConcurrencyContext(NUM_THREADS[t]);
+            for (int s = 0; s < shapes.length; s++) {
+                int n1 = shapes[s][0];
+                int n2 = shapes[s][1];
+                for (int width = 1; width <= 3; width++) {
+                    int howmany = 3;
+                    double[] src = random(howmany * n1 * n2 * width + 1);
+                    double[] dst = new double[src.length + 2];
+                    TransposeUtils.transpose(src, 1, dst, 2, howmany, n1, n2, width, context);
+                    for (int m = 0; m < howmany; m++) {
+                        for (int i = 0; i < n1; i++) {
+                            for (int j = 0; j < n2; j++) {
+                                for (int k = 0; k < width; k++) {
+                                    Assert.assertEquals(src[1 + ((m * n1 + i) * n2 + j) * width + k], dst[2 + ((m * n2 + j) * n1 + i) * width + k], 0.0);
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDoubleFFT_2D() {
+        for (int t = 0; t < NUM_THREADS.length; t++) {
+            ConcurrencyUtils.setNumberOfThreads(NUM_THREADS[t]);
+            for (int s = 0; s < SIZES_2D.length; s++) {
+                int rows = SIZES_2D[s][0];
+                int columns = SIZES_2D[s][1];
+                String msg = rows + "x" + columns + ", " + NUM_THREADS[t] + " threads";
+                DoubleFFT_2D fft = new DoubleFFT_2D(rows, columns);
+                double[] x = random(2 * rows * columns);
+                double[] expected = x.clone();
+                fft.complexForward(expected);
+                double[] a = x.clone();
+                fft.complexForwardByTranspose(a, false);
+                Assert.assertArrayEquals(msg, expected, a, EPS);
+                a = x.clone();
+                fft.complexForwardByTranspose(a, true);
+                double[] b = new double[a.length];
+                TransposeUtils.transpose(expected, 0, b, 0, 1, rows, columns, 2, new ConcurrencyContext(1));
+                Assert.assertArrayEquals(msg + ", transposed", b, a, EPS);
+                fft.complexInverseByTranspose(a, true, true);
+                Assert.assertArrayEquals(msg + ", inverse", x, a, EPS);
+                fft.complexInverseByTranspose(expected, false, true);
+                Assert.assertArrayEquals(msg + ", inverse", x, expected, EPS);
+            }
+        }
+    }
+
+    @Test
+    public void testDoubleFFT_3D() {
+        for (int t = 0; t < NUM_THREADS.length; t++) {
+            ConcurrencyUtils.setNumberOfThreads(NUM_THREADS[t]);
+            for (int s = 0; s < SIZES_3D.length; s++) {
+                int slices = SIZES_3D[s][0];
+                int rows = SIZES_3D[s][1];
+                int columns = SIZES_3D[s][2];
+                String msg = slices + "x" + rows + "x" + columns + ", " + NUM_THREADS[t] + " threads";
+                DoubleFFT_3D fft = new DoubleFFT_3D(slices, rows, columns);
+                double[] x = random(2 * slices * rows * columns);
+                double[] expected = x.clone();
+                fft.complexForward(expected);
+                double[] a = x.clone();
+                fft.complexForwardByTranspose(a, false);
+                Assert.assertArrayEquals(msg, expected, a, EPS);
+                a = x.clone();
+                fft.complexForwardByTranspose(a, true);
+                for (int k1 = 0; k1 < slices; k1++) {
+                    for (int k2 = 0; k2 < rows; k2++) {
+                        for (int k3 = 0; k3 < columns; k3++) {
+                            int idx1 = 2 * ((k1 * rows + k2) * columns + k3);
+                            int idx2 = 2 * ((k3 * rows + k2) * slices + k1);
+                            Assert.assertEquals(msg + ", transposed", expected[idx1], a[idx2], EPS);
+                            Assert.assertEquals(msg + ", transposed", expected[idx1 + 1], a[idx2 + 1], EPS);
+                        }
+                    }
+                }
+                fft.complexInverseByTranspose(a, true, true);
+                Assert.assertArrayEquals(msg + ", inverse", x, a, EPS);
+                fft.complexInverseByTranspose(expected, false, true);
+                Assert.assertArrayEquals(msg + ", inverse", x, expected, EPS);
+            }
+        }
+    }
+
+    @Test
+    public void testRealToRealTransforms() {
+        for (int t = 0; t < NUM_THREADS.length; t++) {
+            ConcurrencyUtils.setNumberOfThreads(NUM_THREADS[t]);
+            for (int s = 0; s < SIZES_2D.length; s++) {
+                int rows = SIZES_2D[s][0];
+                int columns = SIZES_2D[s][1];
+                String msg = rows + "x" + columns + ", " + NUM_THREADS[t] + " threads";
+                DoubleDCT_2D dct = new DoubleDCT_2D(rows, columns);
+                double[] x = random(rows * columns);
+                double[] expected = x.clone();
+                dct.forward(expected, true);
+                double[] a = x.clone();
+                dct.forwardByTranspose(a, false, true);
+                Assert.assertArrayEquals(msg, expected, a, EPS);
+                a = x.clone();
+                dct.forwardByTranspose(a, true, true);
+                dct.inverseByTranspose(a, true, true);
+                Assert.assertArrayEquals(msg + ", inverse", x, a, EPS);
+            }
+            for (int s = 0; s < SIZES_3D.length; s++) {
+                int slices = SIZES_3D[s][0];
+                int rows = SIZES_3D[s][1];
+                int columns = SIZES_3D[s][2];
+                String msg = slices + "x" + rows + "x" + columns + ", " + NUM_THREADS[t] + " threads";
+                DoubleDST_3D dst = new DoubleDST_3D(slices, rows, columns);
+                double[] x = random(slices * rows * columns);
+                double[] expected = x.clone();
+                dst.forward(expected, false);
+                double[] a = x.clone();
+                dst.forwardByTranspose(a, false, false);
+                Assert.assertArrayEquals(msg, expected, a, EPS);
+                a = x.clone();
+                dst.forwardByTranspose(a, true, false);
+                dst.inverseByTranspose(a, true, false);
+                dst.inverse(expected, false);
+                Assert.assertArrayEquals(msg + ", inverse", expected, a, EPS);
+            }
+        }
+    }
+
+    @Test
+    public void testHartleyTransforms() {
+        for (int t = 0; t < NUM_THREADS.length; t++) {
+            ConcurrencyUtils.setNumberOfThreads(NUM_THREADS[t]);
+            for (int s = 0; s < SIZES_2D.length; s++) {
+                int rows = SIZES_2D[s][0];
+                int columns = SIZES_2D[s][1];
+                String msg = rows + "x" + columns + ", " + NUM_THREADS[t] + " threads";
+                DoubleDHT_2D dht = new DoubleDHT_2D(rows, columns);
+                double[] x = random(rows * columns);
+                double[] expected = x.clone();
+                dht.forward(expected);
+                double[] a = x.clone();
+                dht.forwardByTranspose(a, false);
+                Assert.assertArrayEquals(msg, expected, a, EPS);
+                a = x.clone();
+                dht.forwardByTranspose(a, true);
+                double[] b = new double[a.length];
+                TransposeUtils.transpose(expected, 0, b, 0, 1, rows, columns, 1, new ConcurrencyContext(1));
+                Assert.assertArrayEquals(msg + ", transposed", b, a, EPS);
+                dht.inverseByTranspose(a, true, true);
+                Assert.assertArrayEquals(msg + ", inverse", x, a, EPS);
+                dht.inverseByTranspose(expected, false, true);
+                Assert.assertArrayEquals(msg + ", inverse", x, expected, EPS);
+            }
+            for (int s = 0; s < SIZES_3D.length; s++) {
+                int slices = SIZES_3D[s][0];
+                int rows = SIZES_3D[s][1];
+                int columns = SIZES_3D[s][2];
+                String msg = slices + "x" + rows + "x" + columns + ", " + NUM_THREADS[t] + " threads";
+                DoubleDHT_3D dht = new DoubleDHT_3D(slices, rows, columns);
+                double[] x = random(slices * rows * columns);
+                double[] expected = x.clone();
+                dht.forward(expected);
+                double[] a = x.clone();
+                dht.forwardByTranspose(a, false);
+                Assert.assertArrayEquals(msg, expected, a, EPS);
+                a = x.clone();
+                dht.forwardByTranspose(a, true);
+                for (int k1 = 0; k1 < slices; k1++) {
+                    for (int k2 = 0; k2 < rows; k2++) {
+                        for (int k3 = 0; k3 < columns; k3++) {
+                            int idx1 = (k1 * rows + k2) * columns + k3;
+                            int idx2 = (k3 * rows + k2) * slices + k1;
+                            Assert.assertEquals(msg + ", transposed", expected[idx1], a[idx2], EPS);
+                        }
+                    }
+                }
+                dht.inverseByTranspose(a, true, true);
+                Assert.assertArrayEquals(msg + ", inverse", x, a, EPS);
+                dht.inverseByTranspose(expected, false, true);
+                Assert.assertArrayEquals(msg + ", inverse", x, expected, EPS);
+            }
+        }
+    }
+
+    @Test
+    public void testFloatFFT_2D() {
+        int rows = 12;
+        int columns = 40;
+        FloatFFT_2D fft = new FloatFFT_2D(rows, columns);
+        Random rnd = new Random(rows);
+        float[] x = new float[2 * rows * columns];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = rnd.nextFloat() - 0.5f;
+        }
+        float[] expected = x.clone();
+        fft.complexForward(expected);
+        float[] a = x.clone();
+        fft.complexForwardByTranspose(a, false);
+        Assert.assertArrayEquals(expected, a, 1e-4f);
+        fft.complexInverseByTranspose(a, false, true);
+        Assert.assertArrayEquals(x, a, 1e-4f);
+    }
+
+    private static double[] random(int n) {
+        Random rnd = new Random(n);
+        double[] a = new double[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = rnd.nextDouble() - 0.5;
+        }
+        return a;
+    }
+}
@@ -0,0 +1,580 @@
+/*
+ * ***** BEGIN LICENSE BLOCK ***** Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License for
+ * the specific language governing rights and limitations under the License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is Piotr Wendykier, Emory
+ * University. Portions created by the Initial Developer are Copyright (C)
+ * 2007-2009 the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or the
+ * GNU Lesser General Public License Version 2.1 or later (the "LGPL"), in which
+ * case the provisions of the GPL or the LGPL are applicable instead of those
+ * above. If you wish to allow use of your version of this file only under the
+ * terms of either the GPL or the LGPL, and not to allow others to use your
+ * version of this file under the terms of the MPL, indicate your decision by
+ * deleting the provisions above and replace them with the notice and other
+ * provisions required by the GPL or the LGPL. If you do not delete the
+ * provisions above, a recipient may use your version of this file under the
+ * terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK *****
+ */
+
+package edu.emory.mathcs.jtransforms.fft;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import edu.emory.mathcs.jtransforms.dct.DoubleDCT_1D;
+import edu.emory.mathcs.jtransforms.dct.FloatDCT_1D;
+import edu.emory.mathcs.jtransforms.dht.DoubleDHT_1D;
+import edu.emory.mathcs.jtransforms.dht.FloatDHT_1D;
+import edu.emory.mathcs.jtransforms.dst.DoubleDST_1D;
+import edu.emory.mathcs.jtransforms.dst.FloatDST_1D;
+import edu.emory.mathcs.utils.ConcurrencyUtils;
+
+/**
+ * This is a series of JUnit tests for the methods of the 1D transforms that
+ * take a workspace. With one thread, these methods must not allocate memory,
+ * and they must give the same results as the methods without a workspace,
+ * however many times the workspace is reused. The FFTs are tested with all
+ * the algorithms that can be chosen by the planner, in double and single
+ * precision.
+ *
+ */
+@RunWith(value = Parameterized.class)
+public class WorkspaceTest {
+    /** The constant value of the seed of the random generator. */
+    public static final int SEED = 20100620;
+
+    /** Number of calls of a round of the allocation check. */
+    private static final int NUM_CALLS = 20;
+
+    /** Maximal number of rounds of the allocation check. */
+    private static final int NUM_ROUNDS = 10;
+
+    /** Number of calls that reuse the workspace before the allocation check. */
+    private static final int NUM_REUSES = 3;
+
+    @Parameters
+    public static Collection<Object[]> getParameters() {
+        final int[] size = { 12, 16, 100, 211, 256, 1001, 1009, 1 << 21 };
+
+        final ArrayList<Object[]> parameters = new ArrayList<Object[]>();
+        for (int i = 0; i < size.length; i++) {
+            parameters.add(new Object[] { size[i] });
+        }
+        return parameters;
+    }
+
+    /** The size of the transforms to be tested. */
+    private final int n;
+
+    /** The algorithms of the FFTs to be tested. */
+    private final DoubleFFT_1D.Plans[] plans;
+
+    /** The algorithms of the single precision FFTs to be tested. */
+    private final FloatFFT_1D.Plans[] floatPlans;
+
+    /**
+     * Creates a new instance of this class.
+     * 
+     * @param n
+     *            the size of the transforms to be tested
+     */
+    public WorkspaceTest(final int n) {
+        this.n = n;
+        this.plans = DoubleFFT_1D.getCandidatePlans(n, PlanningEffort.EXHAUSTIVE);
+        this.floatPlans = FloatFFT_1D.getCandidatePlans(n, PlanningEffort.EXHAUSTIVE);
+        ConcurrencyUtils.setNumberOfThreads(1);
+    }
+
+    @After
+    public void tearDown() {
+        ConcurrencyUtils.setNumberOfThreads(Runtime.getRuntime().availableProcessors());
+    }
+
+    private double[] createData(final int length) {
+        final Random random = new Random(SEED);
+        final double[] a = new double[length];
+        for (int i = 0; i < length; i++) {
+            a[i] = random.nextDouble() - 0.5;
+        }
+        return a;
+    }
+
+    private float[] createFloatData(final int length) {
+        final Random random = new Random(SEED);
+        final float[] a = new float[length];
+        for (int i = 0; i < length; i++) {
+            a[i] = random.nextFloat() - 0.5f;
+        }
+        return a;
+    }
+
+    @Test
+    public void testComplexForward() {
+        for (int j = 0; j < plans.length; j++) {
+            final DoubleFFT_1D fft = new DoubleFFT_1D(n, plans[j]);
+            final DoubleFFT_1D.Workspace ws = fft.createWorkspace();
+            final String msg = "n = " + n + ", " + plans[j] + ": ";
+            final double[] expected = createData(2 * n);
+            fft.complexForward(expected, 0, null);
+            final double[] actual = new double[2 * n];
+            for (int k = 0; k < NUM_REUSES; k++) {
+                System.arraycopy(createData(2 * n), 0, actual, 0, 2 * n);
+                fft.complexForward(actual, 0, ws);
+                Assert.assertArrayEquals(msg, expected, actual, 0.0);
+            }
+            Assert.assertEquals(msg + "allocated bytes", 0, getAllocatedBytes(new Runnable() {
+                public void run() {
+                    fft.complexForward(actual, 0, ws);
+                }
+            }));
+        }
+    }
+
+    @Test
+    public void testComplexInverse() {
+        for (int j = 0; j < plans.length; j++) {
+            final DoubleFFT_1D fft = new DoubleFFT_1D(n, plans[j]);
+            final DoubleFFT_1D.Workspace ws = fft.createWorkspace();
+            final String msg = "n = " + n + ", " + plans[j] + ": ";
+            final double[] expected = createData(2 * n);
+            fft.complexInverse(expected, 0, true, null);
+            final double[] actual = new double[2 * n];
+            for (int k = 0; k < NUM_REUSES; k++) {
+                System.arraycopy(createData(2 * n), 0, actual, 0, 2 * n);
+                fft.complexInverse(actual, 0, true, ws);
+                Assert.assertArrayEquals(msg, expected, actual, 0.0);
+            }
+            Assert.assertEquals(msg + "allocated bytes", 0, getAllocatedBytes(new Runnable() {
+                public void run() {
+                    fft.complexInverse(actual, 0, true, ws);
+                }
+            }));
+        }
+    }
+
+    @Test
+    public void testRealForward() {
+        for (int j = 0; j < plans.length; j++) {
+            final DoubleFFT_1D fft = new DoubleFFT_1D(n, plans[j]);
+            final DoubleFFT_1D.Workspace ws = fft.createWorkspace();
+            final String msg = "n = " + n + ", " + plans[j] + ": ";
+            final double[] expected = createData(n);
+            fft.realForward(expected, 0, null);
+            final double[] actual = new double[n];
+            for (int k = 0; k < NUM_REUSES; k++) {
+                System.arraycopy(createData(n), 0, actual, 0, n);
+                fft.realForward(actual, 0, ws);
+                Assert.assertArrayEquals(msg, expected, actual, 0.0);
+            }
+            Assert.assertEquals(msg + "allocated bytes", 0, getAllocatedBytes(new Runnable() {
+                public void run() {
+                    fft.realForward(actual, 0, ws);
+                }
+            }));
+        }
+    }
+
+    @Test
+    public void testRealInverse() {
+        for (int j = 0; j < plans.length; j++) {
+            final DoubleFFT_1D fft = new DoubleFFT_1D(n, plans[j]);
+            final DoubleFFT_1D.Workspace ws = fft.createWorkspace();
+            final String msg = "n = " + n + ", " + plans[j] + ": ";
+            final double[] expected = createData(n);
+            fft.realInverse(expected, 0, true, null);
+            final double[] actual = new double[n];
+            for (int k = 0; k < NUM_REUSES; k++) {
+                System.arraycopy(createData(n), 0, actual, 0, n);
+                fft.realInverse(actual, 0, true, ws);
+                Assert.assertArrayEquals(msg, expected, actual, 0.0);
+            }
+            Assert.assertEquals(msg + "allocated bytes", 0, getAllocatedBytes(new Runnable() {
+                public void run() {
+                    fft.realInverse(actual, 0, true, ws);
+                }
+            }));
+        }
+    }
+
+    @Test
+    public void testRealForwardFull() {
+        for (int j = 0; j < plans.length; j++) {
+            final DoubleFFT_1D fft = new DoubleFFT_1D(n, plans[j]);
+            final DoubleFFT_1D.Workspace ws = fft.createWorkspace();
+            final String msg = "n = " + n + ", " + plans[j] + ": ";
+            final double[] expected = createData(2 * n);
+            fft.realForwardFull(expected, 0, null);
+            final double[] actual = new double[2 * n];
+            for (int k = 0; k < NUM_REUSES; k++) {
+                System.arraycopy(createData(2 * n), 0, actual, 0, 2 * n);
+                fft.realForwardFull(actual, 0, ws);
+                Assert.assertArrayEquals(msg, expected, actual, 0.0);
+            }
+            Assert.assertEquals(msg + "allocated bytes", 0, getAllocatedBytes(new Runnable() {
+                public void run() {
+                    fft.realForwardFull(actual, 0, ws);
+                }
+            }));
+        }
+    }
+
+    @Test
+    public void testRealInverseFull() {
+        for (int j = 0; j < plans.length; j++) {
+            final DoubleFFT_1D fft = new DoubleFFT_1D(n, plans[j]);
+            final DoubleFFT_1D.Workspace ws = fft.createWorkspace();
+            final String msg = "n = " + n + ", " + plans[j] + ": ";
+            final double[] expected = createData(2 * n);
+            fft.realInverseFull(expected, 0, true, null);
+            final double[] actual = new double[2 * n];
+            for (int k = 0; k < NUM_REUSES; k++) {
+                System.arraycopy(createData(2 * n), 0, actual, 0, 2 * n);
+                fft.realInverseFull(actual, 0, true, ws);
+                Assert.assertArrayEquals(msg, expected, actual, 0.0);
+            }
+            Assert.assertEquals(msg + "allocated bytes", 0, getAllocatedBytes(new Runnable() {
+                public void run() {
+                    fft.realInverseFull(actual, 0, true, ws);
+                }
+            }));
+        }
+    }
+
+    @Test
+    public void testDCT() {
+        final DoubleDCT_1D dct = new DoubleDCT_1D(n);
+        final DoubleDCT_1D.Workspace ws = dct.createWorkspace();
+        final String msg = "n = " + n + ": ";
+        final double[] expected = createData(n);
+        dct.forward(expected, 0, true, null);
+        dct.inverse(expected, 0, false, null);
+        final double[] actual = new double[n];
+        for (int k = 0; k < NUM_REUSES; k++) {
+            System.arraycopy(createData(n), 0, actual, 0, n);
+            dct.forward(actual, 0, true, ws);
+            dct.inverse(actual, 0, false, ws);
+            Assert.assertArrayEquals(msg, expected, actual, 0.0);
+        }
+        Assert.assertEquals(msg + "allocated bytes", 0, getAllocatedBytes(new Runnable() {
+            public void run() {
+                dct.forward(actual, 0, true, ws);
+                dct.inverse(actual, 0, false, ws);
+            }
+        }));
+    }
+
+    @Test
+    public void testDST() {
+        final DoubleDST_1D dst = new DoubleDST_1D(n);
+        final DoubleDCT_1D.Workspace ws = dst.createWorkspace();
+        final String msg = "n = " + n + ": ";
+        final double[] expected = createData(n);
+        dst.forward(expected, 0, false, null);
+        dst.inverse(expected, 0, true, null);
+        final double[] actual = new double[n];
+        for (int k = 0; k < NUM_REUSES; k++) {
+            System.arraycopy(createData(n), 0, actual, 0, n);
+            dst.forward(actual, 0, false, ws);
+            dst.inverse(actual, 0, true, ws);
+            Assert.assertArrayEquals(msg, expected, actual, 0.0);
+        }
+        Assert.assertEquals(msg + "allocated bytes", 0, getAllocatedBytes(new Runnable() {
+            public void run() {
+                dst.forward(actual, 0, false, ws);
+                dst.inverse(actual, 0, true, ws);
+            }
+        }));
+    }
+
+    @Test
+    public void testDHT() {
+        final DoubleDHT_1D dht = new DoubleDHT_1D(n);
+        final DoubleDHT_1D.Workspace ws = dht.createWorkspace();
+        final String msg = "n = " + n + ": ";
+        final double[] expected = createData(n);
+        dht.forward(expected, 0, null);
+        dht.inverse(expected, 0, true, null);
+        final double[] actual = new double[n];
+        for (int k = 0; k < NUM_REUSES; k++) {
+            System.arraycopy(createData(n), 0, actual, 0, n);
+            dht.forward(actual, 0, ws);
+            dht.inverse(actual, 0, true, ws);
+            Assert.assertArrayEquals(msg, expected, actual, 0.0);
+        }
+        Assert.assertEquals(msg + "allocated bytes", 0, getAllocatedBytes(new Runnable() {
+            public void run() {
+                dht.forward(actual, 0, ws);
+                dht.inverse(actual, 0, true, ws);
+            }
+        }));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWorkspaceOfAnotherSize() {
+        final DoubleFFT_1D fft = new DoubleFFT_1D(n);
+        fft.complexForward(new double[2 * n], 0, new DoubleFFT_1D(n + 1).createWorkspace());
+    }
+
+    @Test
+    public void testFloatComplexForward() {
+        for (int j = 0; j < floatPlans.length; j++) {
+            final FloatFFT_1D fft = new FloatFFT_1D(n, floatPlans[j]);
+            final FloatFFT_1D.Workspace ws = fft.createWorkspace();
+            final String msg = "n = " + n + ", " + floatPlans[j] + ": ";
+            final float[] expected = createFloatData(2 * n);
+            fft.complexForward(expected, 0, null);
+            final float[] actual = new float[2 * n];
+            for (int k = 0; k < NUM_REUSES; k++) {
+                System.arraycopy(createFloatData(2 * n), 0, actual, 0, 2 * n);
+                fft.complexForward(actual, 0, ws);
+                Assert.assertArrayEquals(msg, expected, actual, 0.0f);
+            }
+            Assert.assertEquals(msg + "allocated bytes", 0, getAllocatedBytes(new Runnable() {
+                public void run() {
+                    fft.complexForward(actual, 0, ws);
+                }
+            }));
+        }
+    }
+
+    @Test
+    public void testFloatComplexInverse() {
+        for (int j = 0; j < floatPlans.length; j++) {
+            final FloatFFT_1D fft = new FloatFFT_1D(n, floatPlans[j]);
+            final FloatFFT_1D.Workspace ws = fft.createWorkspace();
+            final String msg = "n = " + n + ", " + floatPlans[j] + ": ";
+            final float[] expected = createFloatData(2 * n);
+            fft.complexInverse(expected, 0, true, null);
+            final float[] actual = new float[2 * n];
+            for (int k = 0; k < NUM_REUSES; k++) {
+                System.arraycopy(createFloatData(2 * n), 0, actual, 0, 2 * n);
+                fft.complexInverse(actual, 0, true, ws);
+                Assert.assertArrayEquals(msg, expected, actual, 0.0f);
+            }
+            Assert.assertEquals(msg + "allocated bytes", 0, getAllocatedBytes(new Runnable() {
+                public void run() {
+                    fft.complexInverse(actual, 0, true, ws);
+                }
+            }));
+        }
+    }
+
+    @Test
+    public void testFloatRealForward() {
+        for (int j = 0; j < floatPlans.length; j++) {
+            final FloatFFT_1D fft = new FloatFFT_1D(n, floatPlans[j]);
+            final FloatFFT_1D.Workspace ws = fft.createWorkspace();
+            final String msg = "n = " + n + ", " + floatPlans[j] + ": ";
+            final float[] expected = createFloatData(n);
+            fft.realForward(expected, 0, null);
+            final float[] actual = new float[n];
+            for (int k = 0; k < NUM_REUSES; k++) {
+                System.arraycopy(createFloatData(n), 0, actual, 0, n);
+                fft.realForward(actual, 0, ws);
+                Assert.assertArrayEquals(msg, expected, actual, 0.0f);
+            }
+            Assert.assertEquals(msg + "allocated bytes", 0, getAllocatedBytes(new Runnable() {
+                public void run() {
+                    fft.realForward(actual, 0, ws);
+                }
+            }));
+        }
+    }
+
+    @Test
+    public void testFloatRealInverse() {
+        for (int j = 0; j < floatPlans.length; j++) {
+            final FloatFFT_1D fft = new FloatFFT_1D(n, floatPlans[j]);
+            final FloatFFT_1D.Workspace ws = fft.createWorkspace();
+            final String msg = "n = " + n + ", " + floatPlans[j] + ": ";
+            final float[] expected = createFloatData(n);
+            fft.realInverse(expected, 0, true, null);
+            final float[] actual = new float[n];
+            for (int k = 0; k < NUM_REUSES; k++) {
+                System.arraycopy(createFloatData(n), 0, actual, 0, n);
+                fft.realInverse(actual, 0, true, ws);
+                Assert.assertArrayEquals(msg, expected, actual, 0.0f);
+            }
+            Assert.assertEquals(msg + "allocated bytes", 0, getAllocatedBytes(new Runnable() {
+                public void run() {
+                    fft.realInverse(actual, 0, true, ws);
+                }
+            }));
+        }
+    }
+
+    @Test
+    public void testFloatRealForwardFull() {
+        for (int j = 0; j < floatPlans.length; j++) {
+            final FloatFFT_1D fft = new FloatFFT_1D(n, floatPlans[j]);
+            final FloatFFT_1D.Workspace ws = fft.createWorkspace();
+            final String msg = "n = " + n + ", " + floatPlans[j] + ": ";
+            final float[] expected = createFloatData(2 * n);
+            fft.realForwardFull(expected, 0, null);
+            final float[] actual = new float[2 * n];
+            for (int k = 0; k < NUM_REUSES; k++) {
+                System.arraycopy(createFloatData(2 * n), 0, actual, 0, 2 * n);
+                fft.realForwardFull(actual, 0, ws);
+                Assert.assertArrayEquals(msg, expected, actual, 0.0f);
+            }
+            Assert.assertEquals(msg + "allocated bytes", 0, getAllocatedBytes(new Runnable() {
+                public void run() {
+                    fft.realForwardFull(actual, 0, ws);
+                }
+            }));
+        }
+    }
+
+    @Test
+    public void testFloatRealInverseFull() {
+        for (int j = 0; j < floatPlans.length; j++) {
+            final FloatFFT_1D fft = new FloatFFT_1D(n, floatPlans[j]);
+            final FloatFFT_1D.Workspace ws = fft.createWorkspace();
+            final String msg = "n = " + n + ", " + floatPlans[j] + ": ";
+            final float[] expected = createFloatData(2 * n);
+            fft.realInverseFull(expected, 0, true, null);
+            final float[] actual = new float[2 * n];
+            for (int k = 0; k < NUM_REUSES; k++) {
+                System.arraycopy(createFloatData(2 * n), 0, actual, 0, 2 * n);
+                fft.realInverseFull(actual, 0, true, ws);
+                Assert.assertArrayEquals(msg, expected, actual, 0.0f);
+            }
+            Assert.assertEquals(msg + "allocated bytes", 0, getAllocatedBytes(new Runnable() {
+                public void run() {
+                    fft.realInverseFull(actual, 0, true, ws);
+                }
+            }));
+        }
+    }
+
+    @Test
+    public void testFloatDCT() {
+        final FloatDCT_1D dct = new FloatDCT_1D(n);
+        final FloatDCT_1D.Workspace ws = dct.createWorkspace();
+        final String msg = "n = " + n + ": ";
+        final float[] expected = createFloatData(n);
+        dct.forward(expected, 0, true, null);
+        dct.inverse(expected, 0, false, null);
+        final float[] actual = new float[n];
+        for (int k = 0; k < NUM_REUSES; k++) {
+            System.arraycopy(createFloatData(n), 0, actual, 0, n);
+            dct.forward(actual, 0, true, ws);
+            dct.inverse(actual, 0, false, ws);
+            Assert.assertArrayEquals(msg, expected, actual, 0.0f);
+        }
+        Assert.assertEquals(msg + "allocated bytes", 0, getAllocatedBytes(new Runnable() {
+            public void run() {
+                dct.forward(actual, 0, true, ws);
+                dct.inverse(actual, 0, false, ws);
+            }
+        }));
+    }
+
+    @Test
+    public void testFloatDST() {
+        final FloatDST_1D dst = new FloatDST_1D(n);
+        final FloatDCT_1D.Workspace ws = dst.createWorkspace();
+        final String msg = "n = " + n + ": ";
+        final float[] expected = createFloatData(n);
+        dst.forward(expected, 0, false, null);
+        dst.inverse(expected, 0, true, null);
+        final float[] actual = new float[n];
+        for (int k = 0; k < NUM_REUSES; k++) {
+            System.arraycopy(createFloatData(n), 0, actual, 0, n);
+            dst.forward(actual, 0, false, ws);
+            dst.inverse(actual, 0, true, ws);
+            Assert.assertArrayEquals(msg, expected, actual, 0.0f);
+        }
+        Assert.assertEquals(msg + "allocated bytes", 0, getAllocatedBytes(new Runnable() {
+            public void run() {
+                dst.forward(actual, 0, false, ws);
+                dst.inverse(actual, 0, true, ws);
+            }
+        }));
+    }
+
+    @Test
+    public void testFloatDHT() {
+        final FloatDHT_1D dht = new FloatDHT_1D(n);
+        final FloatDHT_1D.Workspace ws = dht.createWorkspace();
+        final String msg = "n = " + n + ": ";
+        final float[] expected = createFloatData(n);
+        dht.forward(expected, 0, null);
+        dht.inverse(expected, 0, true, null);
+        final float[] actual = new float[n];
+        for (int k = 0; k < NUM_REUSES; k++) {
+            System.arraycopy(createFloatData(n), 0, actual, 0, n);
+            dht.forward(actual, 0, ws);
+            dht.inverse(actual, 0, true, ws);
+            Assert.assertArrayEquals(msg, expected, actual, 0.0f);
+        }
+        Assert.assertEquals(msg + "allocated bytes", 0, getAllocatedBytes(new Runnable() {
+            public void run() {
+                dht.forward(actual, 0, ws);
+                dht.inverse(actual, 0, true, ws);
+            }
+        }));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFloatWorkspaceOfAnotherSize() {
+        final FloatFFT_1D fft = new FloatFFT_1D(n);
+        fft.complexForward(new float[2 * n], 0, new FloatFFT_1D(n + 1).createWorkspace());
+    }
+
+    /**
+     * Returns the number of bytes allocated by NUM_CALLS calls. The virtual
+     * machine itself may allocate a few bytes when the code is compiled, so a
+     * round of calls is repeated until none is allocated. A call that
+     * allocates memory does so in every round.
+     */
+    private static long getAllocatedBytes(final Runnable call) {
+        final com.sun.management.ThreadMXBean bean = getThreadMXBean();
+        final long id = Thread.currentThread().getId();
+        final long overhead = -bean.getThreadAllocatedBytes(id) + bean.getThreadAllocatedBytes(id);
+        long allocated = 0;
+        for (int round = 0; round < NUM_ROUNDS; round++) {
+            final long before = bean.getThreadAllocatedBytes(id);
+            for (int k = 0; k < NUM_CALLS; k++) {
+                call.run();
+            }
+            allocated = bean.getThreadAllocatedBytes(id) - before - overhead;
+            if (allocated == 0) {
+                break;
+            }
+        }
+        return allocated;
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadMXBean() {
+        Object bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled());
+        return sunBean;
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ * ***** BEGIN LICENSE BLOCK ***** Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License for
+ * the specific language governing rights and limitations under the License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is Piotr Wendykier, Emory
+ * University. Portions created by the Initial Developer are Copyright (C)
+ * 2007-2009 the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or the
+ * GNU Lesser General Public License Version 2.1 or later (the "LGPL"), in which
+ * case the provisions of the GPL or the LGPL are applicable instead of those
+ * above. If you wish to allow use of your version of this file only under the
+ * terms of either the GPL or the LGPL, and not to allow others to use your
+ * version of this file under the terms of the MPL, indicate your decision by
+ * deleting the provisions above and replace them with the notice and other
+ * provisions required by the GPL or the LGPL. If you do not delete the
+ * provisions above, a recipient may use your version of this file under the
+ * terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK *****
+ */
+
+package edu.emory.mathcs.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.emory.mathcs.jtransforms.dct.FloatDCT_2D;
+import edu.emory.mathcs.jtransforms.dht.DoubleDHT_1D;
+import edu.emory.mathcs.jtransforms.fft.DoubleFFT_1D;
+import edu.emory.mathcs.jtransforms.fft.DoubleFFT_2D;
+import edu.emory.mathcs.jtransforms.fft.DoubleFFT_3D;
+import edu.emory.mathcs.jtransforms.fft.FloatFFT_1D;
+import edu.emory.mathcs.jtransforms.fft.FloatFFT_2D;
+import edu.emory.mathcs.jtransforms.fft.FloatFFT_3D;
+
+/**
+ * This is a series of JUnit tests for the {@link BufferUtils} and for the
+ * transforms of NIO buffers.
+ *
+ */
+public class BufferUtilsTest {
+
+    @Test
+    public void testHeapBufferIsNotCopied() {
+        double[] a = new double[16];
+        Assert.assertSame(a, BufferUtils.getArray(DoubleBuffer.wrap(a), 16));
+        DoubleBuffer b = DoubleBuffer.wrap(a);
+        b.position(2);
+        Assert.assertNotSame(a, BufferUtils.getArray(b, 8));
+    }
+
+    @Test
+    public void testHeapBufferAtOffset() {
+        int n = 20;
+        int offset = 3;
+        double[] a = random(offset + 2 * n);
+        DoubleBuffer b = DoubleBuffer.wrap(a);
+        b.position(offset);
+        Assert.assertEquals(offset, BufferUtils.getArrayOffset(b, 2 * n));
+        DoubleBuffer c = b.slice();
+        c.position(1);
+        Assert.assertEquals(offset + 1, BufferUtils.getArrayOffset(c, n));
+        Assert.assertEquals(-1, BufferUtils.getArrayOffset(direct(n), n));
+        double[] expected = a.clone();
+        new DoubleFFT_1D(n).realForwardFull(expected, offset);
+        new DoubleFFT_1D(n).realForwardFull(b);
+        for (int i = 0; i < a.length; i++) {
+            Assert.assertEquals(expected[i], a[i], 0);
+        }
+        Assert.assertEquals(offset, b.position());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLengthOverflow() {
+        new DoubleFFT_2D(1 << 16, 1 << 15).complexForward(DoubleBuffer.allocate(8));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testShortBuffer() {
+        BufferUtils.getArray(DoubleBuffer.allocate(7), 8);
+    }
+
+    @Test(expected = ReadOnlyBufferException.class)
+    public void testReadOnlyBuffer() {
+        BufferUtils.getArray(FloatBuffer.allocate(8).asReadOnlyBuffer(), 8);
+    }
+
+    @Test
+    public void testDirectDoubleBuffer() {
+        int rows = 6;
+        int columns = 8;
+        int slices = 4;
+        int offset = 3;
+        double[] data = random(2 * slices * rows * columns);
+        DoubleBuffer b = direct(offset + data.length);
+
+        b.position(offset);
+        b.duplicate().put(data, 0, 2 * columns);
+        new DoubleFFT_1D(columns).complexForward(b);
+        double[] expected = data.clone();
+        new DoubleFFT_1D(columns).complexForward(expected);
+        assertBuffer(expected, b, 2 * columns);
+        Assert.assertEquals(offset, b.position());
+
+        b.duplicate().put(data, 0, 2 * rows * columns);
+        new DoubleFFT_2D(rows, columns).complexForward(b);
+        new DoubleFFT_2D(rows, columns).complexInverse(b, true);
+        assertBuffer(data, b, 2 * rows * columns);
+
+        b.duplicate().put(data);
+        new DoubleFFT_3D(slices, rows, columns).realForwardFull(b);
+        expected = data.clone();
+        new DoubleFFT_3D(slices, rows, columns).realForwardFull(expected);
+        assertBuffer(expected, b, data.length);
+
+        b.duplicate().put(data, 0, columns);
+        new DoubleDHT_1D(columns).forward(b);
+        expected = data.clone();
+        new DoubleDHT_1D(columns).forward(expected);
+        assertBuffer(expected, b, columns);
+    }
+
+    @Test
+    public void testDirectFloatBuffer() {
+        int rows = 6;
+        int columns = 8;
+        Random rnd = new Random(0);
+        float[] data = new float[rows * columns];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = rnd.nextFloat() - 0.5f;
+        }
+        FloatBuffer b = ByteBuffer.allocateDirect(4 * data.length).order(ByteOrder.nativeOrder()).asFloatBuffer();
+        b.duplicate().put(data);
+        new FloatDCT_2D(rows, columns).forward(b, true);
+        float[] expected = data.clone();
+        new FloatDCT_2D(rows, columns).forward(expected, true);
+        for (int i = 0; i < data.length; i++) {
+            Assert.assertEquals(expected[i], b.get(i), 0f);
+        }
+    }
+
+    @Test
+    public void testDirectBufferComplex1DInBlocks() {
+        int[] sizes = { 1 << 16, 1 << 17, 3 << 16, 75600, 65537 };
+        int offset = 5;
+        for (int n : sizes) {
+            double[] data = random(2 * n);
+            double[] expected = data.clone();
+            new DoubleFFT_1D(n, new ConcurrencyContext(1)).complexForward(expected);
+            for (int nthreads = 1; nthreads <= 3; nthreads += 2) {
+                DoubleFFT_1D fft = new DoubleFFT_1D(n, new ConcurrencyContext(nthreads));
+                DoubleBuffer b = direct(offset + data.length);
+                b.position(offset);
+                b.duplicate().put(data);
+                fft.complexForward(b);
+                assertBuffer(expected, b, data.length, 1E-9);
+                fft.complexInverse(b, true);
+                assertBuffer(data, b, data.length, 1E-12);
+                Assert.assertEquals(offset, b.position());
+            }
+        }
+    }
+
+    @Test
+    public void testDirectFloatBufferComplex1DInBlocks() {
+        int n = 3 << 16;
+        float[] data = new float[2 * n];
+        Random rnd = new Random(0);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = rnd.nextFloat() - 0.5f;
+        }
+        float[] expected = data.clone();
+        new FloatFFT_1D(n, new ConcurrencyContext(1)).complexForward(expected);
+        FloatBuffer b = ByteBuffer.allocateDirect(4 * data.length).order(ByteOrder.nativeOrder()).asFloatBuffer();
+        b.duplicate().put(data);
+        new FloatFFT_1D(n, new ConcurrencyContext(3)).complexForward(b);
+        for (int i = 0; i < data.length; i++) {
+            Assert.assertEquals(expected[i], b.get(i), 1E-2f);
+        }
+        new FloatFFT_1D(n, new ConcurrencyContext(3)).complexInverse(b, true);
+        for (int i = 0; i < data.length; i++) {
+            Assert.assertEquals(data[i], b.get(i), 1E-5f);
+        }
+    }
+
+    @Test
+    public void testDirectBufferComplex3D() {
+        int slices = 12;
+        int rows = 10;
+        int columns = 20;
+        int offset = 3;
+        double[] data = random(2 * slices * rows * columns);
+        double[] expected = data.clone();
+        new DoubleFFT_3D(slices, rows, columns, new ConcurrencyContext(1)).complexForward(expected);
+        for (int nthreads = 1; nthreads <= 3; nthreads += 2) {
+            DoubleFFT_3D fft = new DoubleFFT_3D(slices, rows, columns, new ConcurrencyContext(nthreads));
+            DoubleBuffer b = direct(offset + data.length);
+            b.position(offset);
+            b.duplicate().put(data);
+            fft.complexForward(b);
+            assertBuffer(expected, b, data.length, 1E-12);
+            fft.complexInverse(b, true);
+            assertBuffer(data, b, data.length, 1E-12);
+            Assert.assertEquals(offset, b.position());
+        }
+    }
+
+    @Test
+    public void testDirectBufferComplex2D() {
+        int[][] sizes = { { 10, 20 }, { 16, 32 }, { 4, 1 << 17 }, { 1 << 15, 4 }, { 1 << 15, 12 } };
+        int offset = 3;
+        for (int[] size : sizes) {
+            int rows = size[0];
+            int columns = size[1];
+            double[] data = random(2 * rows * columns);
+            double[] expected = data.clone();
+            new DoubleFFT_2D(rows, columns, new ConcurrencyContext(1)).complexForward(expected);
+            for (int nthreads = 1; nthreads <= 3; nthreads += 2) {
+                DoubleFFT_2D fft = new DoubleFFT_2D(rows, columns, new ConcurrencyContext(nthreads));
+                DoubleBuffer b = direct(offset + data.length);
+                b.position(offset);
+                b.duplicate().put(data);
+                fft.complexForward(b);
+                assertBuffer(expected, b, data.length, 1E-9);
+                fft.complexInverse(b, true);
+                assertBuffer(data, b, data.length, 1E-12);
+                Assert.assertEquals(offset, b.position());
+            }
+        }
+    }
+
+    @Test
+    public void testDirectBufferRealFull2D() {
+        int[][] sizes = { { 10, 20 }, { 16, 32 }, { 4, 1 << 17 }, { 1 << 15, 4 }, { 1 << 15, 12 } };
+        int offset = 3;
+        for (int[] size : sizes) {
+            int rows = size[0];
+            int columns = size[1];
+            double[] data = random(2 * rows * columns);
+            for (int i = rows * columns; i < data.length; i++) {
+                data[i] = 0;
+            }
+            double[] forward = data.clone();
+            new DoubleFFT_2D(rows, columns, new ConcurrencyContext(1)).realForwardFull(forward);
+            double[] inverse = data.clone();
+            new DoubleFFT_2D(rows, columns, new ConcurrencyContext(1)).realInverseFull(inverse, true);
+            for (int nthreads = 1; nthreads <= 3; nthreads += 2) {
+                DoubleFFT_2D fft = new DoubleFFT_2D(rows, columns, new ConcurrencyContext(nthreads));
+                DoubleBuffer b = direct(offset + data.length);
+                b.position(offset);
+                b.duplicate().put(data);
+                fft.realForwardFull(b);
+                assertBuffer(forward, b, data.length, 1E-9);
+                b.duplicate().put(data);
+                fft.realInverseFull(b, true);
+                assertBuffer(inverse, b, data.length, 1E-12);
+                Assert.assertEquals(offset, b.position());
+            }
+        }
+    }
+
+    @Test
+    public void testDirectFloatBufferComplex2D() {
+        int rows = 1 << 14;
+        int columns = 6;
+        float[] data = new float[2 * rows * columns];
+        Random rnd = new Random(0);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = rnd.nextFloat() - 0.5f;
+        }
+        float[] expected = data.clone();
+        new FloatFFT_2D(rows, columns).complexForward(expected);
+        FloatBuffer b = ByteBuffer.allocateDirect(4 * data.length).order(ByteOrder.nativeOrder()).asFloatBuffer();
+        b.duplicate().put(data);
+        new FloatFFT_2D(rows, columns).complexForward(b);
+        for (int i = 0; i < data.length; i++) {
+            Assert.assertEquals(expected[i], b.get(i), 1E-2f);
+        }
+        new FloatFFT_2D(rows, columns).complexInverse(b, true);
+        for (int i = 0; i < data.length; i++) {
+            Assert.assertEquals(data[i], b.get(i), 1E-5f);
+        }
+    }
+
+    @Test
+    public void testDirectFloatBufferComplex3D() {
+        int slices = 6;
+        int rows = 8;
+        int columns = 10;
+        float[] data = new float[2 * slices * rows * columns];
+        Random rnd = new Random(0);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = rnd.nextFloat() - 0.5f;
+        }
+        float[] expected = data.clone();
+        new FloatFFT_3D(slices, rows, columns).complexForward(expected);
+        FloatBuffer b = ByteBuffer.allocateDirect(4 * data.length).order(ByteOrder.nativeOrder()).asFloatBuffer();
+        b.duplicate().put(data);
+        new FloatFFT_3D(slices, rows, columns).complexForward(b);
+        for (int i = 0; i < data.length; i++) {
+            Assert.assertEquals(expected[i], b.get(i), 1E-4f);
+        }
+    }
+
+    private static double[] random(int length) {
+        Random rnd = new Random(length);
+        double[] a = new double[length];
+        for (int i = 0; i < length; i++) {
+            a[i] = rnd.nextDouble() - 0.5;
+        }
+        return a;
+    }
+
+    private static DoubleBuffer direct(int length) {
+        return ByteBuffer.allocateDirect(8 * length).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+    }
+
+    private static void assertBuffer(double[] expected, DoubleBuffer b, int length) {
+        assertBuffer(expected, b, length, 1E-12);
+    }
+
+    private static void assertBuffer(double[] expected, DoubleBuffer b, int length, double delta) {
+        for (int i = 0; i < length; i++) {
+            Assert.assertEquals(expected[i], b.get(b.position() + i), delta);
+        }
+    }
+}
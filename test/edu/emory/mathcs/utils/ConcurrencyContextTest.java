@@ -0,0 +1,236 @@
+/*
+ * ***** BEGIN LICENSE BLOCK ***** Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License for
+ * the specific language governing rights and limitations under the License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is Piotr Wendykier, Emory
+ * University. Portions created by the Initial Developer are Copyright (C)
+ * 2007-2009 the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or the
+ * GNU Lesser General Public License Version 2.1 or later (the "LGPL"), in which
+ * case the provisions of the GPL or the LGPL are applicable instead of those
+ * above. If you wish to allow use of your version of this file only under the
+ * terms of either the GPL or the LGPL, and not to allow others to use your
+ * version of this file under the terms of the MPL, indicate your decision by
+ * deleting the provisions above and replace them with the notice and other
+ * provisions required by the GPL or the LGPL. If you do not delete the
+ * provisions above, a recipient may use your version of this file under the
+ * terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK *****
+ */
+
+package edu.emory.mathcs.utils;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.emory.mathcs.jtransforms.dct.DoubleDCT_1D;
+import edu.emory.mathcs.jtransforms.fft.DoubleFFT_1D;
+import edu.emory.mathcs.jtransforms.fft.DoubleFFT_2D;
+import edu.emory.mathcs.jtransforms.fft.DoubleFFT_3D;
+import edu.emory.mathcs.jtransforms.fft.FloatFFT_1D;
+
+/**
+ * This is a series of JUnit tests for the {@link ConcurrencyContext}.
+ *
+ */
+public class ConcurrencyContextTest {
+
+    private ThreadPoolExecutor executor;
+
+    @Before
+    public void setUp() {
+        ConcurrencyUtils.setNumberOfThreads(1);
+        ConcurrencyUtils.setThreadsBeginN_2D(1);
+        ConcurrencyUtils.setThreadsBeginN_3D(1);
+        executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+        ConcurrencyUtils.resetThreadsBeginN();
+        ConcurrencyUtils.resetThreadsBeginN_FFT();
+        ConcurrencyUtils.setNumberOfThreads(Runtime.getRuntime().availableProcessors());
+    }
+
+    @Test
+    public void testDefaultContextFollowsNumberOfThreads() {
+        Assert.assertEquals(1, ConcurrencyContext.getDefault().getNumberOfThreads());
+        ConcurrencyUtils.setNumberOfThreads(3);
+        Assert.assertEquals(3, ConcurrencyContext.getDefault().getNumberOfThreads());
+        Assert.assertEquals(2, new ConcurrencyContext(2).getNumberOfThreads());
+    }
+
+    @Test
+    public void testTasksRunOnTheExecutorOfTheContext() {
+        final ConcurrencyContext context = new ConcurrencyContext(executor, 4);
+        final Random rnd = new Random(20120515L);
+        final double[] expected = new double[2 * 16 * 32];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = rnd.nextDouble();
+        }
+        final double[] actual = expected.clone();
+        new DoubleFFT_2D(16, 32).complexForward(expected);
+        new DoubleFFT_2D(16, 32, context).complexForward(actual);
+        Assert.assertArrayEquals(expected, actual, 1E-12);
+        Assert.assertTrue(waitForTasks() > 0);
+    }
+
+    @Test
+    public void testContextWithOneThreadSubmitsNoTask() {
+        ConcurrencyUtils.setNumberOfThreads(4);
+        final double[] a = new double[2 * 8 * 8 * 8];
+        new DoubleFFT_3D(8, 8, 8, new ConcurrencyContext(executor, 1)).complexForward(a);
+        Assert.assertEquals(0, waitForTasks());
+    }
+
+    @Test
+    public void testLargeSplitRadixTransformUsesAllThreads() {
+        ConcurrencyUtils.setThreadsBeginN_1D_FFT_2Threads(512);
+        ConcurrencyUtils.setThreadsBeginN_1D_FFT_4Threads(512);
+        final ThreadPoolExecutor executor16 = (ThreadPoolExecutor) Executors.newFixedThreadPool(16);
+        try {
+            final int n = 1 << 16;
+            final Random rnd = new Random(20120516L);
+            final double[] expected = new double[2 * n];
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = rnd.nextDouble();
+            }
+            final double[] actual = expected.clone();
+            final double[] expectedDct = new double[n];
+            System.arraycopy(expected, 0, expectedDct, 0, n);
+            final double[] actualDct = expectedDct.clone();
+            final ConcurrencyContext context = new ConcurrencyContext(executor16, 16);
+            new DoubleFFT_1D(n, new ConcurrencyContext(1)).complexForward(expected);
+            new DoubleFFT_1D(n, context).complexForward(actual);
+            Assert.assertArrayEquals(expected, actual, 0.0);
+            new DoubleDCT_1D(n, new ConcurrencyContext(1)).forward(expectedDct, true);
+            new DoubleDCT_1D(n, context).forward(actualDct, true);
+            Assert.assertArrayEquals(expectedDct, actualDct, 0.0);
+            Assert.assertEquals(16, executor16.getLargestPoolSize());
+        } finally {
+            executor16.shutdown();
+        }
+    }
+
+    @Test
+    public void testLargeMixedRadixTransformUsesAllThreads() {
+        ConcurrencyUtils.setThreadsBeginN_1D_FFT_2Threads(512);
+        ConcurrencyUtils.setThreadsBeginN_1D_FFT_4Threads(512);
+        final ThreadPoolExecutor executor16 = (ThreadPoolExecutor) Executors.newFixedThreadPool(16);
+        try {
+            final int n = 3 * 3 * 5 * 5 * 5 * 7 * 11;
+            final Random rnd = new Random(20120517L);
+            final double[] expected = new double[2 * n];
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = rnd.nextDouble();
+            }
+            final double[] actual = expected.clone();
+            final double[] expectedReal = expected.clone();
+            final double[] actualReal = expected.clone();
+            final ConcurrencyContext context = new ConcurrencyContext(executor16, 16);
+            final DoubleFFT_1D fft1 = new DoubleFFT_1D(n, new ConcurrencyContext(1));
+            final DoubleFFT_1D fft16 = new DoubleFFT_1D(n, context);
+            fft1.complexForward(expected);
+            fft16.complexForward(actual);
+            Assert.assertArrayEquals(expected, actual, 0.0);
+            fft1.realForward(expectedReal);
+            fft16.realForward(actualReal);
+            Assert.assertArrayEquals(expectedReal, actualReal, 0.0);
+            Assert.assertEquals(16, executor16.getLargestPoolSize());
+        } finally {
+            executor16.shutdown();
+        }
+    }
+
+    @Test
+    public void testRealStagesWithFewGroupsAreSplitOverTheirElements() {
+        ConcurrencyUtils.setThreadsBeginN_1D_FFT_2Threads(512);
+        ConcurrencyUtils.setThreadsBeginN_1D_FFT_4Threads(512);
+        final ThreadPoolExecutor executor16 = (ThreadPoolExecutor) Executors.newFixedThreadPool(16);
+        try {
+            // the stages of rfftf and rfftb with l1 < 16 are split over i
+            final int[] sizes = { 4 * 4 * 3 * 5 * 7, 2 * 3 * 5 * 7 * 11 * 13, 4 * 4 * 4 * 4 * 11 * 13, 3 * 3 * 3 * 3 * 3 * 3 * 3 * 5 };
+            final ConcurrencyContext context = new ConcurrencyContext(executor16, 16);
+            for (int s = 0; s < sizes.length; s++) {
+                final int n = sizes[s];
+                final Random rnd = new Random(20120517L);
+                final double[] expected = new double[n];
+                final float[] expectedFloat = new float[n];
+                for (int i = 0; i < n; i++) {
+                    expected[i] = rnd.nextDouble();
+                    expectedFloat[i] = (float) expected[i];
+                }
+                final double[] actual = expected.clone();
+                final float[] actualFloat = expectedFloat.clone();
+                final DoubleFFT_1D fft1 = new DoubleFFT_1D(n, new ConcurrencyContext(1));
+                final DoubleFFT_1D fft16 = new DoubleFFT_1D(n, context);
+                fft1.realForward(expected);
+                fft16.realForward(actual);
+                Assert.assertArrayEquals("n = " + n, expected, actual, 0.0);
+                fft1.realInverse(expected, false);
+                fft16.realInverse(actual, false);
+                Assert.assertArrayEquals("n = " + n, expected, actual, 0.0);
+                final FloatFFT_1D ffft1 = new FloatFFT_1D(n, new ConcurrencyContext(1));
+                final FloatFFT_1D ffft16 = new FloatFFT_1D(n, context);
+                ffft1.realForward(expectedFloat);
+                ffft16.realForward(actualFloat);
+                Assert.assertArrayEquals("n = " + n, expectedFloat, actualFloat, 0f);
+                ffft1.realInverse(expectedFloat, true);
+                ffft16.realInverse(actualFloat, true);
+                Assert.assertArrayEquals("n = " + n, expectedFloat, actualFloat, 0f);
+            }
+            Assert.assertEquals(16, executor16.getLargestPoolSize());
+        } finally {
+            executor16.shutdown();
+        }
+    }
+
+    @Test
+    public void testCachedTablesDoNotKeepTheContextOfTheirCreator() {
+        ConcurrencyUtils.setThreadsBeginN_1D_FFT_2Threads(512);
+        ConcurrencyUtils.setThreadsBeginN_1D_FFT_4Threads(512);
+        final int n = 786433;
+        final Random rnd = new Random(20120518L);
+        final double[] expected = new double[2 * n];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = rnd.nextDouble();
+        }
+        final double[] actual = expected.clone();
+        final ExecutorService executor2 = Executors.newFixedThreadPool(4);
+        try {
+            new DoubleFFT_1D(n, new ConcurrencyContext(executor2, 4)).complexForward(expected);
+        } finally {
+            executor2.shutdown();
+        }
+        new DoubleFFT_1D(n, new ConcurrencyContext(executor, 4)).complexForward(actual);
+        Assert.assertArrayEquals(expected, actual, 0.0);
+        Assert.assertTrue(waitForTasks() > 0);
+    }
+
+    private long waitForTasks() {
+        while (executor.getActiveCount() > 0) {
+            ConcurrencyUtils.sleep(1);
+        }
+        return executor.getCompletedTaskCount();
+    }
+}
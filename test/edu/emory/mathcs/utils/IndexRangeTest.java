@@ -0,0 +1,109 @@
+/*
+ * ***** BEGIN LICENSE BLOCK ***** Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License for
+ * the specific language governing rights and limitations under the License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is Piotr Wendykier, Emory
+ * University. Portions created by the Initial Developer are Copyright (C)
+ * 2007-2009 the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or the
+ * GNU Lesser General Public License Version 2.1 or later (the "LGPL"), in which
+ * case the provisions of the GPL or the LGPL are applicable instead of those
+ * above. If you wish to allow use of your version of this file only under the
+ * terms of either the GPL or the LGPL, and not to allow others to use your
+ * version of this file under the terms of the MPL, indicate your decision by
+ * deleting the provisions above and replace them with the notice and other
+ * provisions required by the GPL or the LGPL. If you do not delete the
+ * provisions above, a recipient may use your version of this file under the
+ * terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK *****
+ */
+
+package edu.emory.mathcs.utils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * This is a series of JUnit tests for the {@link IndexRange}.
+ *
+ */
+public class IndexRangeTest {
+
+    @Test
+    public void testSingleCursorVisitsEveryIndexInOrder() {
+        final IndexRange range = new IndexRange(3, 40, 4);
+        final IndexRange.Cursor cursor = range.cursor();
+        int expected = 3;
+        for (int i = cursor.next(); i >= 0; i = cursor.next()) {
+            Assert.assertEquals(expected++, i);
+        }
+        Assert.assertEquals(40, expected);
+        Assert.assertEquals(-1, range.cursor().next());
+    }
+
+    @Test
+    public void testEmptyRange() {
+        Assert.assertEquals(-1, new IndexRange(5, 5, 2).cursor().next());
+        Assert.assertEquals(-1, new IndexRange(5, 2, 2).cursor().next());
+    }
+
+    @Test
+    public void testConcurrentCursorsVisitEveryIndexOnce() throws Exception {
+        final int n = 10007;
+        final int ntasks = 8;
+        final IndexRange range = new IndexRange(0, n, ntasks);
+        final AtomicIntegerArray visits = new AtomicIntegerArray(n);
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(ntasks);
+        try {
+            Future<?>[] futures = new Future[ntasks];
+            for (int l = 0; l < ntasks; l++) {
+                futures[l] = executor.submit(new Runnable() {
+                    public void run() {
+                        try {
+                            start.await();
+                        } catch (InterruptedException e) {
+                            throw new RuntimeException(e);
+                        }
+                        IndexRange.Cursor cursor = range.cursor();
+                        for (int i = cursor.next(); i >= 0; i = cursor.next()) {
+                            visits.incrementAndGet(i);
+                        }
+                    }
+                });
+            }
+            start.countDown();
+            for (int l = 0; l < ntasks; l++) {
+                futures[l].get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        for (int i = 0; i < n; i++) {
+            Assert.assertEquals("index " + i, 1, visits.get(i));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNumberOfTasksMustBePositive() {
+        new IndexRange(0, 10, 0);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * ***** BEGIN LICENSE BLOCK ***** Version: MPL 1.1/GPL 2.0/LGPL 2.1
+ *
+ * The contents of this file are subject to the Mozilla Public License Version
+ * 1.1 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at http://www.mozilla.org/MPL/
+ *
+ * Software distributed under the License is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTY OF ANY KIND, either express or implied. See the License for
+ * the specific language governing rights and limitations under the License.
+ *
+ * The Original Code is JTransforms.
+ *
+ * The Initial Developer of the Original Code is Piotr Wendykier, Emory
+ * University. Portions created by the Initial Developer are Copyright (C)
+ * 2007-2009 the Initial Developer. All Rights Reserved.
+ *
+ * Alternatively, the contents of this file may be used under the terms of
+ * either the GNU General Public License Version 2 or later (the "GPL"), or the
+ * GNU Lesser General Public License Version 2.1 or later (the "LGPL"), in which
+ * case the provisions of the GPL or the LGPL are applicable instead of those
+ * above. If you wish to allow use of your version of this file only under the
+ * terms of either the GPL or the LGPL, and not to allow others to use your
+ * version of this file under the terms of the MPL, indicate your decision by
+ * deleting the provisions above and replace them with the notice and other
+ * provisions required by the GPL or the LGPL. If you do not delete the
+ * provisions above, a recipient may use your version of this file under the
+ * terms of any one of the MPL, the GPL or the LGPL.
+ *
+ * ***** END LICENSE BLOCK *****
+ */
+
+package edu.emory.mathcs.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.emory.mathcs.jtransforms.dct.DoubleDCT_1D;
+import edu.emory.mathcs.jtransforms.dst.DoubleDST_1D;
+import edu.emory.mathcs.jtransforms.fft.DoubleFFT_1D;
+
+/**
+ * This is a series of JUnit tests for the {@link PlanCache}.
+ *
+ */
+public class PlanCacheTest {
+
+    @Test
+    public void testHitsAndMisses() {
+        final PlanCache cache = new PlanCache(1000);
+        Assert.assertNull(cache.get("a"));
+        final Object a = new Object();
+        Assert.assertSame(a, cache.put("a", a, 100));
+        Assert.assertSame(a, cache.get("a"));
+        Assert.assertSame(a, cache.put("a", new Object(), 100));
+        Assert.assertEquals(1, cache.getHits());
+        Assert.assertEquals(1, cache.getMisses());
+        Assert.assertEquals(100, cache.getBytes());
+        Assert.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+        final PlanCache cache = new PlanCache(300);
+        cache.put("a", "a", 100);
+        cache.put("b", "b", 100);
+        cache.put("c", "c", 100);
+        cache.get("a");
+        cache.put("d", "d", 100);
+        Assert.assertEquals(1, cache.getEvictions());
+        Assert.assertEquals(300, cache.getBytes());
+        Assert.assertNull(cache.get("b"));
+        Assert.assertNotNull(cache.get("a"));
+        cache.setMaxBytes(100);
+        Assert.assertEquals(3, cache.getEvictions());
+        Assert.assertEquals(1, cache.size());
+        Assert.assertNotNull(cache.get("a"));
+    }
+
+    @Test
+    public void testOversizedValueIsNotCached() {
+        final PlanCache cache = new PlanCache(100);
+        final Object a = new Object();
+        Assert.assertSame(a, cache.put("a", a, 101));
+        Assert.assertEquals(0, cache.size());
+        Assert.assertEquals(0, cache.getBytes());
+    }
+
+    @Test
+    public void testSharedTables() {
+        final PlanCache cache = PlanCache.getDefault();
+        final int n = 1000;
+        new DoubleFFT_1D(n);
+        final long hits = cache.getHits();
+        final double[] a = new double[2 * n];
+        final double[] b = new double[2 * n];
+        for (int i = 0; i < 2 * n; i++) {
+            a[i] = i % 7;
+            b[i] = a[i];
+        }
+        new DoubleFFT_1D(n).complexForward(a);
+        Assert.assertEquals(hits + 1, cache.getHits());
+        cache.clear();
+        new DoubleFFT_1D(n).complexForward(b);
+        Assert.assertArrayEquals(b, a, 0.0);
+    }
+
+    @Test
+    public void testSharedDCTTables() {
+        final PlanCache cache = PlanCache.getDefault();
+        final int n = 1024;
+        new DoubleDCT_1D(n);
+        final long hits = cache.getHits();
+        final double[] a = new double[n];
+        final double[] b = new double[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = i % 7;
+            b[i] = a[i];
+        }
+        new DoubleDCT_1D(n).forward(a, false);
+        Assert.assertEquals(hits + 1, cache.getHits());
+        new DoubleDST_1D(n);
+        Assert.assertEquals(hits + 2, cache.getHits());
+        cache.clear();
+        new DoubleDCT_1D(n).forward(b, false);
+        Assert.assertArrayEquals(b, a, 0.0);
+    }
+}